@@ -54,6 +54,8 @@ public class JavaLanguageOutput extends FreemarkerLanguageOutput {
             "generate-properties-for-parser-arguments",
             // Generates additional properties to save values of reserved fields for the case that the value differs from the expected value.
             "generate-properties-for-reserved-fields",
+            // Reads simple, const, reserved, implicit and discriminator fields of primitive types directly from the read buffer.
+            "generate-direct-field-reads",
             // Map containing the type-names for external types.
             "externalTypes"));
     }
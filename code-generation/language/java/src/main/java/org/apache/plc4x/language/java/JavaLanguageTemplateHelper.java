@@ -449,6 +449,61 @@ public class JavaLanguageTemplateHelper extends BaseFreemarkerLanguageTemplateHe
         }
     }
 
+    /**
+     * Fields of primitive types without encoding or byte-order can be read directly from the read buffer, which
+     * saves the data reader, the field reader and the boxing of the value the generic field readers need.
+     *
+     * @param field           field that should be read
+     * @param parserArguments parser arguments of the current type
+     * @return true if the option "generate-direct-field-reads" is set and the field can be read directly
+     */
+    public boolean isDirectReadField(TypedField field, List<Argument> parserArguments) {
+        if (!isGenerateDirectFieldReads() || !field.getType().isSimpleTypeReference()) {
+            return false;
+        }
+        if (!getFieldOptions(field, parserArguments).isEmpty()) {
+            return false;
+        }
+        return getDirectReaderCall(field.getType().asSimpleTypeReference().orElseThrow(), "") != null;
+    }
+
+    public String getDirectReaderCall(TypedField field, String logicalName) {
+        final String directReaderCall = getDirectReaderCall(field.getType().asSimpleTypeReference().orElseThrow(), logicalName);
+        if (directReaderCall == null) {
+            throw new IllegalStateException("Field " + logicalName + " can't be read directly");
+        }
+        return directReaderCall;
+    }
+
+    private String getDirectReaderCall(SimpleTypeReference simpleTypeReference, String logicalName) {
+        final int sizeInBits = simpleTypeReference.getSizeInBits();
+        final String arguments = "\"" + logicalName + "\", " + sizeInBits + ")";
+        switch (simpleTypeReference.getBaseType()) {
+            case BIT:
+                return "readBuffer.readBit(\"" + logicalName + "\")";
+            case BYTE:
+                return "readBuffer.readByte(\"" + logicalName + "\")";
+            case UINT:
+                if (sizeInBits <= 7) return "readBuffer.readUnsignedByte(" + arguments;
+                if (sizeInBits <= 15) return "readBuffer.readUnsignedShort(" + arguments;
+                if (sizeInBits <= 31) return "readBuffer.readUnsignedInt(" + arguments;
+                if (sizeInBits <= 63) return "readBuffer.readUnsignedLong(" + arguments;
+                return null;
+            case INT:
+                if (sizeInBits <= 8) return "readBuffer.readSignedByte(" + arguments;
+                if (sizeInBits <= 16) return "readBuffer.readShort(" + arguments;
+                if (sizeInBits <= 32) return "readBuffer.readInt(" + arguments;
+                if (sizeInBits <= 64) return "readBuffer.readLong(" + arguments;
+                return null;
+            case FLOAT:
+                if (sizeInBits <= 32) return "readBuffer.readFloat(" + arguments;
+                if (sizeInBits <= 64) return "readBuffer.readDouble(" + arguments;
+                return null;
+            default:
+                return null;
+        }
+    }
+
     public String getDataWriterCall(TypeReference typeReference, String fieldName) {
         if (typeReference.isSimpleTypeReference()) {
             SimpleTypeReference simpleTypeReference = typeReference.asSimpleTypeReference().orElseThrow(IllegalStateException::new);
@@ -1275,6 +1330,77 @@ public class JavaLanguageTemplateHelper extends BaseFreemarkerLanguageTemplateHe
         return sb.toString() + sizeInBits;
     }
 
+    /**
+     * @param complexTypeDefinition type for which the length should be calculated
+     * @return the sum of the sizes of all fields of this type (not including parent or sub-types) or -1, if at least
+     * one field has a variable size.
+     */
+    public int getFixedLengthInBits(ComplexTypeDefinition complexTypeDefinition) {
+        int lengthInBits = 0;
+        for (Field field : complexTypeDefinition.getFields()) {
+            if (field.isArrayField() || field.isManualArrayField() || field.isManualField() || field.isOptionalField() || field.isPaddingField()) {
+                return -1;
+            }
+            if (field.isChecksumField() || field.isConstField() || field.isDiscriminatorField() || field.isEnumField()
+                || field.isImplicitField() || field.isReservedField() || field.isSimpleField() || field.isUnknownField()) {
+                final TypeReference typeReference = field.asTypedField().orElseThrow().getType();
+                if (typeReference.isEnumTypeReference()) {
+                    lengthInBits += getEnumBaseTypeReference(typeReference).getSizeInBits();
+                } else if (typeReference.isSimpleTypeReference() && !typeReference.isVstringTypeReference()
+                    && !isVarduintField(field) && !isVardintField(field)) {
+                    lengthInBits += typeReference.asSimpleTypeReference().orElseThrow().getSizeInBits();
+                } else {
+                    return -1;
+                }
+            }
+        }
+        return lengthInBits;
+    }
+
+    /**
+     * The length of a type can only be cached, if it doesn't depend on the position of the item in a list.
+     *
+     * @param complexTypeDefinition type for which the length should be calculated
+     * @return true if the length of this type depends on the variable "_lastItem".
+     */
+    public boolean isLengthDependingOnLastItem(ComplexTypeDefinition complexTypeDefinition) {
+        for (Field field : complexTypeDefinition.getFields()) {
+            if (requiresVariable(field, "_lastItem")) {
+                return true;
+            }
+            if (field.isPaddingField() && field.asPaddingField().orElseThrow().getPaddingCondition().contains("_lastItem")) {
+                return true;
+            }
+            if (field.isManualField() && field.asManualField().orElseThrow().getLengthExpression().contains("_lastItem")) {
+                return true;
+            }
+            if (field.isManualArrayField() && field.asManualArrayField().orElseThrow().getLengthExpression().contains("_lastItem")) {
+                return true;
+            }
+            final Optional<VstringTypeReference> vstringTypeReference = field.asTypedField()
+                .flatMap(typedField -> typedField.getType().asVstringTypeReference());
+            if (vstringTypeReference.isPresent() && (vstringTypeReference.get().getLengthExpression() != null)
+                && vstringTypeReference.get().getLengthExpression().contains("_lastItem")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Only types, whose length needs to be calculated at runtime, are cached: fixed size types without sub-types
+     * simply return a constant.
+     *
+     * @param complexTypeDefinition root type of a type hierarchy
+     * @return true if the length of instances of this type should be cached.
+     */
+    public boolean isLengthInBitsCached(ComplexTypeDefinition complexTypeDefinition) {
+        if (isLengthDependingOnLastItem(complexTypeDefinition)) {
+            return false;
+        }
+        return (getFixedLengthInBits(complexTypeDefinition) < 0) || complexTypeDefinition.getSwitchField().isPresent();
+    }
+
     public boolean requiresCurPos() {
         if (thisType instanceof ComplexTypeDefinition) {
             ComplexTypeDefinition complexTypeDefinition = (ComplexTypeDefinition) this.thisType;
@@ -1392,6 +1518,10 @@ public class JavaLanguageTemplateHelper extends BaseFreemarkerLanguageTemplateHe
         return options.getOrDefault("generate-properties-for-reserved-fields", "false").equals("true");
     }
 
+    public boolean isGenerateDirectFieldReads() {
+        return options.getOrDefault("generate-direct-field-reads", "false").equals("true");
+    }
+
     public String getExternalTypeImports() {
         StringBuilder imports = new StringBuilder();
         if(options.containsKey("externalTypes")) {
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.test.readwrite;
+
+import org.apache.plc4x.java.spi.generation.Message;
+import org.apache.plc4x.java.spi.generation.ParseException;
+import org.apache.plc4x.java.spi.generation.ReadBufferByteBased;
+import org.apache.plc4x.java.spi.generation.SerializationException;
+import org.apache.plc4x.java.spi.generation.WriteBufferByteBased;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The parsers of this project are generated with "generate-direct-field-reads", so they have to read
+ * what the (unchanged) serializers write.
+ */
+public class DirectFieldReadsTest {
+
+    @Test
+    public void readsSimpleFields() throws Exception {
+        // The 3 bit field leaves all following fields unaligned.
+        IntTypeTest intTypeTest = new IntTypeTest((byte) -3, (byte) -42, (short) -1000, -100000, -10000000, -10000000000L);
+        assertEquals(intTypeTest, IntTypeTest.staticParse(new ReadBufferByteBased(serialize(intTypeTest))));
+    }
+
+    @Test
+    public void readsDiscriminatorFields() throws Exception {
+        SimpleDiscriminatedType discriminatedType = new SimpleDiscriminatedTypeB((short) 0xFF);
+        assertEquals(discriminatedType,
+            SimpleDiscriminatedType.staticParse(new ReadBufferByteBased(serialize(discriminatedType))));
+    }
+
+    @Test
+    public void readsImplicitFields() throws Exception {
+        ImplicitTypeTest implicitTypeTest = new ImplicitTypeTest((short) 3);
+        assertEquals(implicitTypeTest, ImplicitTypeTest.staticParse(new ReadBufferByteBased(serialize(implicitTypeTest))));
+    }
+
+    @Test
+    public void readsReservedFields() throws Exception {
+        ReservedTypeTest reservedTypeTest = new ReservedTypeTest();
+        assertEquals(reservedTypeTest, ReservedTypeTest.staticParse(new ReadBufferByteBased(serialize(reservedTypeTest))));
+    }
+
+    @Test
+    public void failsOnWrongConstValues() throws Exception {
+        byte[] bytes = serialize(new ConstTypeTest());
+        // Last bit of the uint field.
+        bytes[2] ^= (byte) 0x80;
+        ParseException e = assertThrows(ParseException.class,
+            () -> ConstTypeTest.staticParse(new ReadBufferByteBased(bytes)));
+        assertTrue(e.getMessage().contains("Actual value 101 doesn't match expected 100."), e.getMessage());
+    }
+
+    @Test
+    public void toleratesWrongReservedValues() throws Exception {
+        // Just like with the generic field readers, unexpected reserved values are only logged.
+        assertEquals(new ReservedTypeTest(), ReservedTypeTest.staticParse(new ReadBufferByteBased(new byte[]{0x42})));
+    }
+
+    private static byte[] serialize(Message message) throws SerializationException {
+        WriteBufferByteBased writeBuffer = new WriteBufferByteBased(message.getLengthInBytes());
+        message.serialize(writeBuffer);
+        // Including the last, partially written byte.
+        return writeBuffer.getBytes(0, message.getLengthInBytes());
+    }
+
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.plc4x.java.api.messages;
 
+import org.apache.plc4x.java.api.exceptions.PlcUnsupportedOperationException;
 import org.apache.plc4x.java.api.model.PlcTag;
 
 import java.util.Optional;
@@ -31,6 +32,18 @@ public interface PlcReadRequest extends PlcTagRequest {
     @Override
     CompletableFuture<? extends PlcReadResponse> execute();
 
+    /**
+     * Prepares this request for being executed over and over again, as it's usually done when polling.
+     * Everything not depending on the individual execution (like splitting it up into multiple requests
+     * or even encoding these) is only done once and re-used with every execution of the prepared request.
+     * The prepared request is bound to the connection this request was built with.
+     *
+     * @return request prepared for being executed repeatedly.
+     */
+    default PreparedPlcReadRequest prepare() {
+        throw new PlcUnsupportedOperationException("The connection does not support preparing requests");
+    }
+
     interface Builder extends PlcRequestBuilder {
 
         @Override
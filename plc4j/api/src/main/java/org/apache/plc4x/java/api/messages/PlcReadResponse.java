@@ -79,6 +79,29 @@ public interface PlcReadResponse extends PlcTagResponse {
 
     Collection<Short> getAllShorts(String name);
 
+    /**
+     * @param name name of the tag.
+     * @return all values of the tag. This might be the array the values are stored in, so it must not be modified.
+     */
+    default short[] getShortArray(String name) {
+        short[] values = new short[getNumberOfValues(name)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getShort(name, i);
+        }
+        return values;
+    }
+
+    /**
+     * @param name        name of the tag.
+     * @param destination array to copy all values of the tag into.
+     * @return number of values copied.
+     */
+    default int copyInto(String name, short[] destination) {
+        short[] values = getShortArray(name);
+        System.arraycopy(values, 0, destination, 0, values.length);
+        return values.length;
+    }
+
     boolean isValidInteger(String name);
 
     boolean isValidInteger(String name, int index);
@@ -89,6 +112,29 @@ public interface PlcReadResponse extends PlcTagResponse {
 
     Collection<Integer> getAllIntegers(String name);
 
+    /**
+     * @param name name of the tag.
+     * @return all values of the tag. This might be the array the values are stored in, so it must not be modified.
+     */
+    default int[] getIntegerArray(String name) {
+        int[] values = new int[getNumberOfValues(name)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getInteger(name, i);
+        }
+        return values;
+    }
+
+    /**
+     * @param name        name of the tag.
+     * @param destination array to copy all values of the tag into.
+     * @return number of values copied.
+     */
+    default int copyInto(String name, int[] destination) {
+        int[] values = getIntegerArray(name);
+        System.arraycopy(values, 0, destination, 0, values.length);
+        return values.length;
+    }
+
     boolean isValidBigInteger(String name);
 
     boolean isValidBigInteger(String name, int index);
@@ -109,6 +155,29 @@ public interface PlcReadResponse extends PlcTagResponse {
 
     Collection<Long> getAllLongs(String name);
 
+    /**
+     * @param name name of the tag.
+     * @return all values of the tag. This might be the array the values are stored in, so it must not be modified.
+     */
+    default long[] getLongArray(String name) {
+        long[] values = new long[getNumberOfValues(name)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getLong(name, i);
+        }
+        return values;
+    }
+
+    /**
+     * @param name        name of the tag.
+     * @param destination array to copy all values of the tag into.
+     * @return number of values copied.
+     */
+    default int copyInto(String name, long[] destination) {
+        long[] values = getLongArray(name);
+        System.arraycopy(values, 0, destination, 0, values.length);
+        return values.length;
+    }
+
     boolean isValidFloat(String name);
 
     boolean isValidFloat(String name, int index);
@@ -119,6 +188,29 @@ public interface PlcReadResponse extends PlcTagResponse {
 
     Collection<Float> getAllFloats(String name);
 
+    /**
+     * @param name name of the tag.
+     * @return all values of the tag. This might be the array the values are stored in, so it must not be modified.
+     */
+    default float[] getFloatArray(String name) {
+        float[] values = new float[getNumberOfValues(name)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getFloat(name, i);
+        }
+        return values;
+    }
+
+    /**
+     * @param name        name of the tag.
+     * @param destination array to copy all values of the tag into.
+     * @return number of values copied.
+     */
+    default int copyInto(String name, float[] destination) {
+        float[] values = getFloatArray(name);
+        System.arraycopy(values, 0, destination, 0, values.length);
+        return values.length;
+    }
+
     boolean isValidDouble(String name);
 
     boolean isValidDouble(String name, int index);
@@ -129,6 +221,29 @@ public interface PlcReadResponse extends PlcTagResponse {
 
     Collection<Double> getAllDoubles(String name);
 
+    /**
+     * @param name name of the tag.
+     * @return all values of the tag. This might be the array the values are stored in, so it must not be modified.
+     */
+    default double[] getDoubleArray(String name) {
+        double[] values = new double[getNumberOfValues(name)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getDouble(name, i);
+        }
+        return values;
+    }
+
+    /**
+     * @param name        name of the tag.
+     * @param destination array to copy all values of the tag into.
+     * @return number of values copied.
+     */
+    default int copyInto(String name, double[] destination) {
+        double[] values = getDoubleArray(name);
+        System.arraycopy(values, 0, destination, 0, values.length);
+        return values.length;
+    }
+
     boolean isValidBigDecimal(String name);
 
     boolean isValidBigDecimal(String name, int index);
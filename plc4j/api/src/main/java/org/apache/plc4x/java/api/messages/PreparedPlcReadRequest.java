@@ -0,0 +1,32 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.api.messages;
+
+/**
+ * Read request prepared for being executed repeatedly (see {@link PlcReadRequest#prepare()}).
+ * Every call of {@link #execute()} reads the same tags as the request it was prepared from.
+ */
+public interface PreparedPlcReadRequest extends PlcReadRequest {
+
+    /**
+     * @return the request this one was prepared from.
+     */
+    PlcReadRequest getRequest();
+
+}
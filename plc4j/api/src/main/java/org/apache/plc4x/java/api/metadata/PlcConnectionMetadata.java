@@ -18,6 +18,9 @@
  */
 package org.apache.plc4x.java.api.metadata;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * Information about connection capabilities.
  * This includes connection and driver specific metadata.
@@ -44,4 +47,14 @@ public interface PlcConnectionMetadata {
      */
     boolean isBrowseSupported();
 
+    /**
+     * Driver specific information about the connection, such as how long establishing it took.
+     * The names and types of the properties are documented with the drivers providing them.
+     *
+     * @return the properties by their names, empty if the driver doesn't provide any.
+     */
+    default Map<String, Object> getProperties() {
+        return Collections.emptyMap();
+    }
+
 }
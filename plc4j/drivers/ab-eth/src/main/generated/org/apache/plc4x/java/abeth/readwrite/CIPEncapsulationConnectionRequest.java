@@ -51,7 +51,7 @@ public class CIPEncapsulationConnectionRequest extends CIPEncapsulationPacket im
   protected void serializeCIPEncapsulationPacketChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CIPEncapsulationConnectionRequest");
 
     writeBuffer.popContext("CIPEncapsulationConnectionRequest");
@@ -63,19 +63,16 @@ public class CIPEncapsulationConnectionRequest extends CIPEncapsulationPacket im
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    CIPEncapsulationConnectionRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static CIPEncapsulationPacketBuilder staticParseCIPEncapsulationPacketBuilder(
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("CIPEncapsulationConnectionRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("CIPEncapsulationConnectionRequest");
     // Create the instance
@@ -51,7 +51,7 @@ public class CIPEncapsulationConnectionResponse extends CIPEncapsulationPacket i
   protected void serializeCIPEncapsulationPacketChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CIPEncapsulationConnectionResponse");
 
     writeBuffer.popContext("CIPEncapsulationConnectionResponse");
@@ -63,19 +63,16 @@ public class CIPEncapsulationConnectionResponse extends CIPEncapsulationPacket i
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    CIPEncapsulationConnectionResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static CIPEncapsulationPacketBuilder staticParseCIPEncapsulationPacketBuilder(
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("CIPEncapsulationConnectionResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("CIPEncapsulationConnectionResponse");
     // Create the instance
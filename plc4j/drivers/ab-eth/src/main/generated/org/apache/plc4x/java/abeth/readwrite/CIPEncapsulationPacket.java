@@ -76,7 +76,7 @@ public abstract class CIPEncapsulationPacket implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CIPEncapsulationPacket");
 
     // Discriminator Field (commandType) (Used as input to a switch field)
@@ -141,11 +141,22 @@ public abstract class CIPEncapsulationPacket implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     CIPEncapsulationPacket _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Discriminator Field (commandType)
     lengthInBits += 16;
@@ -178,7 +189,7 @@ public abstract class CIPEncapsulationPacket implements Message {
   public static CIPEncapsulationPacket staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("CIPEncapsulationPacket");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int commandType =
         readDiscriminatorField(
@@ -63,7 +63,7 @@ public class CIPEncapsulationReadRequest extends CIPEncapsulationPacket implemen
   protected void serializeCIPEncapsulationPacketChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CIPEncapsulationReadRequest");
 
     // Simple Field (request)
@@ -82,10 +82,9 @@ public class CIPEncapsulationReadRequest extends CIPEncapsulationPacket implemen
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CIPEncapsulationReadRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (request)
     lengthInBits += request.getLengthInBits();
@@ -97,7 +96,7 @@ public class CIPEncapsulationReadRequest extends CIPEncapsulationPacket implemen
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("CIPEncapsulationReadRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     DF1RequestMessage request =
         readSimpleField(
@@ -63,7 +63,7 @@ public class CIPEncapsulationReadResponse extends CIPEncapsulationPacket impleme
   protected void serializeCIPEncapsulationPacketChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CIPEncapsulationReadResponse");
 
     // Simple Field (response)
@@ -82,10 +82,9 @@ public class CIPEncapsulationReadResponse extends CIPEncapsulationPacket impleme
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CIPEncapsulationReadResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (response)
     lengthInBits += response.getLengthInBits();
@@ -97,7 +96,7 @@ public class CIPEncapsulationReadResponse extends CIPEncapsulationPacket impleme
       ReadBuffer readBuffer, Integer packetLen) throws ParseException {
     readBuffer.pullContext("CIPEncapsulationReadResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     DF1ResponseMessage response =
         readSimpleField(
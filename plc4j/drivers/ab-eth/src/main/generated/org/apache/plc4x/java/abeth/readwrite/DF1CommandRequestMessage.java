@@ -63,7 +63,7 @@ public class DF1CommandRequestMessage extends DF1RequestMessage implements Messa
   protected void serializeDF1RequestMessageChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DF1CommandRequestMessage");
 
     // Simple Field (command)
@@ -78,10 +78,9 @@ public class DF1CommandRequestMessage extends DF1RequestMessage implements Messa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     DF1CommandRequestMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (command)
     lengthInBits += command.getLengthInBits();
@@ -93,7 +92,7 @@ public class DF1CommandRequestMessage extends DF1RequestMessage implements Messa
       throws ParseException {
     readBuffer.pullContext("DF1CommandRequestMessage");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     DF1RequestCommand command =
         readSimpleField(
@@ -64,7 +64,7 @@ public class DF1CommandResponseMessageProtectedTypedLogicalRead extends DF1Respo
   protected void serializeDF1ResponseMessageChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DF1CommandResponseMessageProtectedTypedLogicalRead");
 
     // Array Field (data)
@@ -79,10 +79,9 @@ public class DF1CommandResponseMessageProtectedTypedLogicalRead extends DF1Respo
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     DF1CommandResponseMessageProtectedTypedLogicalRead _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (data != null) {
@@ -96,7 +95,7 @@ public class DF1CommandResponseMessageProtectedTypedLogicalRead extends DF1Respo
       ReadBuffer readBuffer, Integer payloadLength) throws ParseException {
     readBuffer.pullContext("DF1CommandResponseMessageProtectedTypedLogicalRead");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<Short> data =
         readLengthArrayField("data", readUnsignedShort(readBuffer, 8), (payloadLength) - (8));
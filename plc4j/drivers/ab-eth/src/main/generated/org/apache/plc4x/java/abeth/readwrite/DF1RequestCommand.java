@@ -49,7 +49,7 @@ public abstract class DF1RequestCommand implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DF1RequestCommand");
 
     // Discriminator Field (functionCode) (Used as input to a switch field)
@@ -66,24 +66,28 @@ public abstract class DF1RequestCommand implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    DF1RequestCommand _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Discriminator Field (functionCode)
-    lengthInBits += 8;
-
-    // Length of sub-type elements will be added by sub-type...
-
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
     return lengthInBits;
   }
 
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
+  }
+
   public static DF1RequestCommand staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("DF1RequestCommand");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short functionCode = readDiscriminatorField("functionCode", readUnsignedShort(readBuffer, 8));
 
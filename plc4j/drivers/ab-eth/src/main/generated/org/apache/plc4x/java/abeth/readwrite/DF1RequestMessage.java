@@ -76,7 +76,7 @@ public abstract class DF1RequestMessage implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DF1RequestMessage");
 
     // Simple Field (destinationAddress)
@@ -108,39 +108,28 @@ public abstract class DF1RequestMessage implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    DF1RequestMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (destinationAddress)
-    lengthInBits += 8;
-
-    // Simple field (sourceAddress)
-    lengthInBits += 8;
-
-    // Reserved Field (reserved)
-    lengthInBits += 16;
-
-    // Discriminator Field (commandCode)
-    lengthInBits += 8;
-
-    // Simple field (status)
-    lengthInBits += 8;
-
-    // Simple field (transactionCounter)
-    lengthInBits += 16;
-
-    // Length of sub-type elements will be added by sub-type...
-
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
     return lengthInBits;
   }
 
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 64;
+  }
+
   public static DF1RequestMessage staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("DF1RequestMessage");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short destinationAddress =
         readSimpleField("destinationAddress", readUnsignedShort(readBuffer, 8));
@@ -87,7 +87,7 @@ public class DF1RequestProtectedTypedLogicalRead extends DF1RequestCommand imple
   protected void serializeDF1RequestCommandChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DF1RequestProtectedTypedLogicalRead");
 
     // Simple Field (byteSize)
@@ -114,34 +114,16 @@ public class DF1RequestProtectedTypedLogicalRead extends DF1RequestCommand imple
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    DF1RequestProtectedTypedLogicalRead _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (byteSize)
-    lengthInBits += 8;
-
-    // Simple field (fileNumber)
-    lengthInBits += 8;
-
-    // Simple field (fileType)
-    lengthInBits += 8;
-
-    // Simple field (elementNumber)
-    lengthInBits += 8;
-
-    // Simple field (subElementNumber)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 40;
   }
 
   public static DF1RequestCommandBuilder staticParseDF1RequestCommandBuilder(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("DF1RequestProtectedTypedLogicalRead");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short byteSize = readSimpleField("byteSize", readUnsignedShort(readBuffer, 8));
 
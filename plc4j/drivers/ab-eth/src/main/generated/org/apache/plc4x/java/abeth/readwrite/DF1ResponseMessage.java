@@ -76,7 +76,7 @@ public abstract class DF1ResponseMessage implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DF1ResponseMessage");
 
     // Reserved Field (reserved)
@@ -111,43 +111,29 @@ public abstract class DF1ResponseMessage implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    DF1ResponseMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Reserved Field (reserved)
-    lengthInBits += 8;
-
-    // Simple field (destinationAddress)
-    lengthInBits += 8;
-
-    // Simple field (sourceAddress)
-    lengthInBits += 8;
-
-    // Reserved Field (reserved)
-    lengthInBits += 8;
-
-    // Discriminator Field (commandCode)
-    lengthInBits += 8;
-
-    // Simple field (status)
-    lengthInBits += 8;
-
-    // Simple field (transactionCounter)
-    lengthInBits += 16;
-
-    // Length of sub-type elements will be added by sub-type...
-
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
     return lengthInBits;
   }
 
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 64;
+  }
+
   public static DF1ResponseMessage staticParse(ReadBuffer readBuffer, Integer payloadLength)
       throws ParseException {
     readBuffer.pullContext("DF1ResponseMessage");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Short reservedField0 =
         readReservedField("reserved", readUnsignedShort(readBuffer, 8), (short) 0x00);
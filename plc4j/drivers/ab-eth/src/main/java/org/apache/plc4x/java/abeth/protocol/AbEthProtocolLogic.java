@@ -83,6 +83,7 @@ public class AbEthProtocolLogic extends Plc4xProtocolBase<CIPEncapsulationPacket
 
     @Override
     public void onConnect(ConversationContext<CIPEncapsulationPacket> context) {
+        useDriverRuntimeExecutor(tm);
         logger.debug("Sending Connection Request");
         CIPEncapsulationConnectionRequest connectionRequest =
             new CIPEncapsulationConnectionRequest(0L, 0L, connectionRequestSenderContext, 0L);
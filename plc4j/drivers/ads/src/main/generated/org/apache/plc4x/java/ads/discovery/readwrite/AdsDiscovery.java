@@ -87,7 +87,7 @@ public class AdsDiscovery implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsDiscovery");
 
     // Const Field (header)
@@ -149,11 +149,22 @@ public class AdsDiscovery implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     AdsDiscovery _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (header)
     lengthInBits += 32;
@@ -177,8 +188,7 @@ public class AdsDiscovery implements Message {
     if (blocks != null) {
       int i = 0;
       for (AdsDiscoveryBlock element : blocks) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= blocks.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= blocks.size());
       }
     }
 
@@ -188,7 +198,7 @@ public class AdsDiscovery implements Message {
   public static AdsDiscovery staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("AdsDiscovery");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long header =
         readConstField(
@@ -49,7 +49,7 @@ public abstract class AdsDiscoveryBlock implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsDiscoveryBlock");
 
     // Discriminator Field (blockType) (Used as input to a switch field)
@@ -73,24 +73,28 @@ public abstract class AdsDiscoveryBlock implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    AdsDiscoveryBlock _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Discriminator Field (blockType)
-    lengthInBits += 16;
-
-    // Length of sub-type elements will be added by sub-type...
-
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
     return lengthInBits;
   }
 
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
+  }
+
   public static AdsDiscoveryBlock staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("AdsDiscoveryBlock");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     AdsDiscoveryBlockType blockType =
         readDiscriminatorEnumField(
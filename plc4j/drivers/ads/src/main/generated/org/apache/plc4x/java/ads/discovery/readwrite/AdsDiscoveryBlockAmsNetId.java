@@ -65,7 +65,7 @@ public class AdsDiscoveryBlockAmsNetId extends AdsDiscoveryBlock implements Mess
   protected void serializeAdsDiscoveryBlockChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsDiscoveryBlockAmsNetId");
 
     // Const Field (amsNetIdLength)
@@ -83,10 +83,9 @@ public class AdsDiscoveryBlockAmsNetId extends AdsDiscoveryBlock implements Mess
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AdsDiscoveryBlockAmsNetId _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (amsNetIdLength)
     lengthInBits += 16;
@@ -101,7 +100,7 @@ public class AdsDiscoveryBlockAmsNetId extends AdsDiscoveryBlock implements Mess
       throws ParseException {
     readBuffer.pullContext("AdsDiscoveryBlockAmsNetId");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int amsNetIdLength =
         readConstField(
@@ -58,7 +58,7 @@ public class AdsDiscoveryBlockFingerprint extends AdsDiscoveryBlock implements M
   protected void serializeAdsDiscoveryBlockChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsDiscoveryBlockFingerprint");
 
     // Implicit Field (dataLen) (Used for parsing, but its value is not stored as it's implicitly
@@ -78,10 +78,9 @@ public class AdsDiscoveryBlockFingerprint extends AdsDiscoveryBlock implements M
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AdsDiscoveryBlockFingerprint _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (dataLen)
     lengthInBits += 16;
@@ -98,7 +97,7 @@ public class AdsDiscoveryBlockFingerprint extends AdsDiscoveryBlock implements M
       throws ParseException {
     readBuffer.pullContext("AdsDiscoveryBlockFingerprint");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int dataLen = readImplicitField("dataLen", readUnsignedInt(readBuffer, 16));
 
@@ -58,7 +58,7 @@ public class AdsDiscoveryBlockHostName extends AdsDiscoveryBlock implements Mess
   protected void serializeAdsDiscoveryBlockChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsDiscoveryBlockHostName");
 
     // Simple Field (hostName)
@@ -73,10 +73,9 @@ public class AdsDiscoveryBlockHostName extends AdsDiscoveryBlock implements Mess
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AdsDiscoveryBlockHostName _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (hostName)
     lengthInBits += hostName.getLengthInBits();
@@ -88,7 +87,7 @@ public class AdsDiscoveryBlockHostName extends AdsDiscoveryBlock implements Mess
       throws ParseException {
     readBuffer.pullContext("AdsDiscoveryBlockHostName");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     AmsString hostName =
         readSimpleField(
@@ -58,7 +58,7 @@ public class AdsDiscoveryBlockOsData extends AdsDiscoveryBlock implements Messag
   protected void serializeAdsDiscoveryBlockChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsDiscoveryBlockOsData");
 
     // Implicit Field (osDataLen) (Used for parsing, but its value is not stored as it's implicitly
@@ -78,10 +78,9 @@ public class AdsDiscoveryBlockOsData extends AdsDiscoveryBlock implements Messag
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AdsDiscoveryBlockOsData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (osDataLen)
     lengthInBits += 16;
@@ -98,7 +97,7 @@ public class AdsDiscoveryBlockOsData extends AdsDiscoveryBlock implements Messag
       throws ParseException {
     readBuffer.pullContext("AdsDiscoveryBlockOsData");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int osDataLen = readImplicitField("osDataLen", readUnsignedInt(readBuffer, 16));
 
@@ -58,7 +58,7 @@ public class AdsDiscoveryBlockRouteName extends AdsDiscoveryBlock implements Mes
   protected void serializeAdsDiscoveryBlockChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsDiscoveryBlockRouteName");
 
     // Simple Field (routeName)
@@ -73,10 +73,9 @@ public class AdsDiscoveryBlockRouteName extends AdsDiscoveryBlock implements Mes
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AdsDiscoveryBlockRouteName _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (routeName)
     lengthInBits += routeName.getLengthInBits();
@@ -88,7 +87,7 @@ public class AdsDiscoveryBlockRouteName extends AdsDiscoveryBlock implements Mes
       throws ParseException {
     readBuffer.pullContext("AdsDiscoveryBlockRouteName");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     AmsString routeName =
         readSimpleField(
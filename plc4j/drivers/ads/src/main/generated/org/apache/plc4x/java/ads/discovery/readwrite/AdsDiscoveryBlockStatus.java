@@ -65,7 +65,7 @@ public class AdsDiscoveryBlockStatus extends AdsDiscoveryBlock implements Messag
   protected void serializeAdsDiscoveryBlockChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsDiscoveryBlockStatus");
 
     // Const Field (statusLength)
@@ -87,25 +87,16 @@ public class AdsDiscoveryBlockStatus extends AdsDiscoveryBlock implements Messag
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    AdsDiscoveryBlockStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (statusLength)
-    lengthInBits += 16;
-
-    // Simple field (status)
-    lengthInBits += 32;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 48;
   }
 
   public static AdsDiscoveryBlockBuilder staticParseAdsDiscoveryBlockBuilder(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("AdsDiscoveryBlockStatus");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int statusLength =
         readConstField(
@@ -58,7 +58,7 @@ public class AdsDiscoveryBlockVersion extends AdsDiscoveryBlock implements Messa
   protected void serializeAdsDiscoveryBlockChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsDiscoveryBlockVersion");
 
     // Implicit Field (versionDataLen) (Used for parsing, but its value is not stored as it's
@@ -78,10 +78,9 @@ public class AdsDiscoveryBlockVersion extends AdsDiscoveryBlock implements Messa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AdsDiscoveryBlockVersion _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (versionDataLen)
     lengthInBits += 16;
@@ -98,7 +97,7 @@ public class AdsDiscoveryBlockVersion extends AdsDiscoveryBlock implements Messa
       throws ParseException {
     readBuffer.pullContext("AdsDiscoveryBlockVersion");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int versionDataLen = readImplicitField("versionDataLen", readUnsignedInt(readBuffer, 16));
 
@@ -50,7 +50,7 @@ public class AdsDiscoveryConstants implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsDiscoveryConstants");
 
     // Const Field (adsDiscoveryUdpDefaultPort)
@@ -69,20 +69,18 @@ public class AdsDiscoveryConstants implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    AdsDiscoveryConstants _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (adsDiscoveryUdpDefaultPort)
-    lengthInBits += 16;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static AdsDiscoveryConstants staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("AdsDiscoveryConstants");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int adsDiscoveryUdpDefaultPort =
         readConstField(
@@ -51,7 +51,7 @@ public class AmsString implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AmsString");
 
     // Implicit Field (strLen) (Used for parsing, but its value is not stored as it's implicitly
@@ -77,11 +77,22 @@ public class AmsString implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     AmsString _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (strLen)
     lengthInBits += 16;
@@ -98,7 +109,7 @@ public class AmsString implements Message {
   public static AmsString staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("AmsString");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int strLen = readImplicitField("strLen", readUnsignedInt(readBuffer, 16));
 
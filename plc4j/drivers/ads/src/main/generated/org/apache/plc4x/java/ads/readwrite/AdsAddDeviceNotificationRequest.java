@@ -104,7 +104,7 @@ public class AdsAddDeviceNotificationRequest extends AmsPacket implements Messag
   @Override
   protected void serializeAmsPacketChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsAddDeviceNotificationRequest");
 
     // Simple Field (indexGroup)
@@ -146,43 +146,16 @@ public class AdsAddDeviceNotificationRequest extends AmsPacket implements Messag
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    AdsAddDeviceNotificationRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (indexGroup)
-    lengthInBits += 32;
-
-    // Simple field (indexOffset)
-    lengthInBits += 32;
-
-    // Simple field (length)
-    lengthInBits += 32;
-
-    // Simple field (transmissionMode)
-    lengthInBits += 32;
-
-    // Simple field (maxDelayInMs)
-    lengthInBits += 32;
-
-    // Simple field (cycleTimeInMs)
-    lengthInBits += 32;
-
-    // Reserved Field (reserved)
-    lengthInBits += 64;
-
-    // Reserved Field (reserved)
-    lengthInBits += 64;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 320;
   }
 
   public static AmsPacketBuilder staticParseAmsPacketBuilder(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("AdsAddDeviceNotificationRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long indexGroup = readSimpleField("indexGroup", readUnsignedLong(readBuffer, 32));
 
@@ -75,7 +75,7 @@ public class AdsAddDeviceNotificationResponse extends AmsPacket implements Messa
   @Override
   protected void serializeAmsPacketChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsAddDeviceNotificationResponse");
 
     // Simple Field (result)
@@ -97,25 +97,16 @@ public class AdsAddDeviceNotificationResponse extends AmsPacket implements Messa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    AdsAddDeviceNotificationResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (result)
-    lengthInBits += 32;
-
-    // Simple field (notificationHandle)
-    lengthInBits += 32;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 64;
   }
 
   public static AmsPacketBuilder staticParseAmsPacketBuilder(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("AdsAddDeviceNotificationResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ReturnCode result =
         readEnumField(
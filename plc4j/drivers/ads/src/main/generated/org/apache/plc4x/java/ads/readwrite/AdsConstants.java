@@ -50,7 +50,7 @@ public class AdsConstants implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsConstants");
 
     // Const Field (adsTcpDefaultPort)
@@ -66,20 +66,18 @@ public class AdsConstants implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    AdsConstants _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (adsTcpDefaultPort)
-    lengthInBits += 16;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static AdsConstants staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("AdsConstants");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int adsTcpDefaultPort =
         readConstField(
@@ -61,7 +61,7 @@ public class AdsDataTypeArrayInfo implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsDataTypeArrayInfo");
 
     // Simple Field (lowerBound)
@@ -92,25 +92,18 @@ public class AdsDataTypeArrayInfo implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    AdsDataTypeArrayInfo _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (lowerBound)
-    lengthInBits += 32;
-
-    // Simple field (numElements)
-    lengthInBits += 32;
-
-    // A virtual field doesn't have any in- or output.
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 64;
   }
 
   public static AdsDataTypeArrayInfo staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("AdsDataTypeArrayInfo");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long lowerBound =
         readSimpleField(
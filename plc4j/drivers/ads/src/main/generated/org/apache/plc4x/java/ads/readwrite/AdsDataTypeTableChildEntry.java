@@ -174,7 +174,7 @@ public class AdsDataTypeTableChildEntry implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     int startPos = positionAware.getPos();
     writeBuffer.pushContext("AdsDataTypeTableChildEntry");
 
@@ -340,11 +340,22 @@ public class AdsDataTypeTableChildEntry implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     AdsDataTypeTableChildEntry _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (entryLength)
     lengthInBits += 32;
@@ -407,8 +418,7 @@ public class AdsDataTypeTableChildEntry implements Message {
     if (arrayInfo != null) {
       int i = 0;
       for (AdsDataTypeArrayInfo element : arrayInfo) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= arrayInfo.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= arrayInfo.size());
       }
     }
 
@@ -416,8 +426,7 @@ public class AdsDataTypeTableChildEntry implements Message {
     if (children != null) {
       int i = 0;
       for (AdsDataTypeTableEntry element : children) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= children.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= children.size());
       }
     }
 
@@ -435,7 +444,7 @@ public class AdsDataTypeTableChildEntry implements Message {
     PositionAware positionAware = readBuffer;
     int startPos = positionAware.getPos();
     int curPos;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long entryLength =
         readSimpleField(
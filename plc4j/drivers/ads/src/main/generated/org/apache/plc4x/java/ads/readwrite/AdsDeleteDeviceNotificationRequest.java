@@ -68,7 +68,7 @@ public class AdsDeleteDeviceNotificationRequest extends AmsPacket implements Mes
   @Override
   protected void serializeAmsPacketChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsDeleteDeviceNotificationRequest");
 
     // Simple Field (notificationHandle)
@@ -83,22 +83,16 @@ public class AdsDeleteDeviceNotificationRequest extends AmsPacket implements Mes
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    AdsDeleteDeviceNotificationRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (notificationHandle)
-    lengthInBits += 32;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 32;
   }
 
   public static AmsPacketBuilder staticParseAmsPacketBuilder(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("AdsDeleteDeviceNotificationRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long notificationHandle =
         readSimpleField("notificationHandle", readUnsignedLong(readBuffer, 32));
@@ -82,7 +82,7 @@ public class AdsDeviceNotificationRequest extends AmsPacket implements Message {
   @Override
   protected void serializeAmsPacketChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsDeviceNotificationRequest");
 
     // Simple Field (length)
@@ -103,10 +103,9 @@ public class AdsDeviceNotificationRequest extends AmsPacket implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AdsDeviceNotificationRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (length)
     lengthInBits += 32;
@@ -118,8 +117,7 @@ public class AdsDeviceNotificationRequest extends AmsPacket implements Message {
     if (adsStampHeaders != null) {
       int i = 0;
       for (AdsStampHeader element : adsStampHeaders) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= adsStampHeaders.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= adsStampHeaders.size());
       }
     }
 
@@ -130,7 +128,7 @@ public class AdsDeviceNotificationRequest extends AmsPacket implements Message {
       throws ParseException {
     readBuffer.pullContext("AdsDeviceNotificationRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long length = readSimpleField("length", readUnsignedLong(readBuffer, 32));
 
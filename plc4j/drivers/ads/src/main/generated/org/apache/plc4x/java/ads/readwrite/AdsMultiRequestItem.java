@@ -49,7 +49,7 @@ public abstract class AdsMultiRequestItem implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsMultiRequestItem");
 
     // Switch field (Serialize the sub-type)
@@ -63,22 +63,29 @@ public abstract class AdsMultiRequestItem implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    AdsMultiRequestItem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Length of sub-type elements will be added by sub-type...
-
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
     return lengthInBits;
   }
 
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 0;
+  }
+
   public static AdsMultiRequestItem staticParse(ReadBuffer readBuffer, Long indexGroup)
       throws ParseException {
     readBuffer.pullContext("AdsMultiRequestItem");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     // Switch Field (Depending on the discriminator values, passes the instantiation to a sub-type)
     AdsMultiRequestItemBuilder builder = null;
@@ -70,7 +70,7 @@ public class AdsMultiRequestItemRead extends AdsMultiRequestItem implements Mess
   protected void serializeAdsMultiRequestItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsMultiRequestItemRead");
 
     // Simple Field (itemIndexGroup)
@@ -91,28 +91,16 @@ public class AdsMultiRequestItemRead extends AdsMultiRequestItem implements Mess
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    AdsMultiRequestItemRead _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (itemIndexGroup)
-    lengthInBits += 32;
-
-    // Simple field (itemIndexOffset)
-    lengthInBits += 32;
-
-    // Simple field (itemReadLength)
-    lengthInBits += 32;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 96;
   }
 
   public static AdsMultiRequestItemBuilder staticParseAdsMultiRequestItemBuilder(
       ReadBuffer readBuffer, Long indexGroup) throws ParseException {
     readBuffer.pullContext("AdsMultiRequestItemRead");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long itemIndexGroup = readSimpleField("itemIndexGroup", readUnsignedLong(readBuffer, 32));
 
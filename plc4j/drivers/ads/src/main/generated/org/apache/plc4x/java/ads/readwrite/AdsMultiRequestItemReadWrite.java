@@ -77,7 +77,7 @@ public class AdsMultiRequestItemReadWrite extends AdsMultiRequestItem implements
   protected void serializeAdsMultiRequestItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsMultiRequestItemReadWrite");
 
     // Simple Field (itemIndexGroup)
@@ -101,31 +101,16 @@ public class AdsMultiRequestItemReadWrite extends AdsMultiRequestItem implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    AdsMultiRequestItemReadWrite _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (itemIndexGroup)
-    lengthInBits += 32;
-
-    // Simple field (itemIndexOffset)
-    lengthInBits += 32;
-
-    // Simple field (itemReadLength)
-    lengthInBits += 32;
-
-    // Simple field (itemWriteLength)
-    lengthInBits += 32;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 128;
   }
 
   public static AdsMultiRequestItemBuilder staticParseAdsMultiRequestItemBuilder(
       ReadBuffer readBuffer, Long indexGroup) throws ParseException {
     readBuffer.pullContext("AdsMultiRequestItemReadWrite");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long itemIndexGroup = readSimpleField("itemIndexGroup", readUnsignedLong(readBuffer, 32));
 
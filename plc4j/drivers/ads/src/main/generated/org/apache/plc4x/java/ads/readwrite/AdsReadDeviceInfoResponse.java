@@ -96,7 +96,7 @@ public class AdsReadDeviceInfoResponse extends AmsPacket implements Message {
   @Override
   protected void serializeAmsPacketChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsReadDeviceInfoResponse");
 
     // Simple Field (result)
@@ -127,10 +127,9 @@ public class AdsReadDeviceInfoResponse extends AmsPacket implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AdsReadDeviceInfoResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (result)
     lengthInBits += 32;
@@ -156,7 +155,7 @@ public class AdsReadDeviceInfoResponse extends AmsPacket implements Message {
       throws ParseException {
     readBuffer.pullContext("AdsReadDeviceInfoResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ReturnCode result =
         readEnumField(
@@ -96,7 +96,7 @@ public class AdsReadWriteRequest extends AmsPacket implements Message {
   @Override
   protected void serializeAmsPacketChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsReadWriteRequest");
 
     // Simple Field (indexGroup)
@@ -131,10 +131,9 @@ public class AdsReadWriteRequest extends AmsPacket implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AdsReadWriteRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (indexGroup)
     lengthInBits += 32;
@@ -152,8 +151,7 @@ public class AdsReadWriteRequest extends AmsPacket implements Message {
     if (items != null) {
       int i = 0;
       for (AdsMultiRequestItem element : items) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= items.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= items.size());
       }
     }
 
@@ -169,7 +167,7 @@ public class AdsReadWriteRequest extends AmsPacket implements Message {
       throws ParseException {
     readBuffer.pullContext("AdsReadWriteRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long indexGroup = readSimpleField("indexGroup", readUnsignedLong(readBuffer, 32));
 
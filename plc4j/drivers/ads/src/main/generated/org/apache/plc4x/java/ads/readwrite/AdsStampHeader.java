@@ -65,7 +65,7 @@ public class AdsStampHeader implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsStampHeader");
 
     // Simple Field (timestamp)
@@ -85,11 +85,22 @@ public class AdsStampHeader implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     AdsStampHeader _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timestamp)
     lengthInBits += 64;
@@ -101,8 +112,7 @@ public class AdsStampHeader implements Message {
     if (adsNotificationSamples != null) {
       int i = 0;
       for (AdsNotificationSample element : adsNotificationSamples) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= adsNotificationSamples.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= adsNotificationSamples.size());
       }
     }
 
@@ -112,7 +122,7 @@ public class AdsStampHeader implements Message {
   public static AdsStampHeader staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("AdsStampHeader");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BigInteger timestamp = readSimpleField("timestamp", readUnsignedBigInteger(readBuffer, 64));
 
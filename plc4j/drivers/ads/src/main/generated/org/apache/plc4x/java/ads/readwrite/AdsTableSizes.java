@@ -87,7 +87,7 @@ public class AdsTableSizes implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsTableSizes");
 
     // Simple Field (symbolCount)
@@ -142,35 +142,18 @@ public class AdsTableSizes implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    AdsTableSizes _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (symbolCount)
-    lengthInBits += 32;
-
-    // Simple field (symbolLength)
-    lengthInBits += 32;
-
-    // Simple field (dataTypeCount)
-    lengthInBits += 32;
-
-    // Simple field (dataTypeLength)
-    lengthInBits += 32;
-
-    // Simple field (extraCount)
-    lengthInBits += 32;
-
-    // Simple field (extraLength)
-    lengthInBits += 32;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 192;
   }
 
   public static AdsTableSizes staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("AdsTableSizes");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long symbolCount =
         readSimpleField(
@@ -82,7 +82,7 @@ public class AdsWriteControlRequest extends AmsPacket implements Message {
   @Override
   protected void serializeAmsPacketChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdsWriteControlRequest");
 
     // Simple Field (adsState)
@@ -108,10 +108,9 @@ public class AdsWriteControlRequest extends AmsPacket implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AdsWriteControlRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (adsState)
     lengthInBits += 16;
@@ -134,7 +133,7 @@ public class AdsWriteControlRequest extends AmsPacket implements Message {
       throws ParseException {
     readBuffer.pullContext("AdsWriteControlRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int adsState = readSimpleField("adsState", readUnsignedInt(readBuffer, 16));
 
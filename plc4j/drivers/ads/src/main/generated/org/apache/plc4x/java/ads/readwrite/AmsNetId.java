@@ -82,7 +82,7 @@ public class AmsNetId implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AmsNetId");
 
     // Simple Field (octet1)
@@ -113,35 +113,18 @@ public class AmsNetId implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    AmsNetId _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (octet1)
-    lengthInBits += 8;
-
-    // Simple field (octet2)
-    lengthInBits += 8;
-
-    // Simple field (octet3)
-    lengthInBits += 8;
-
-    // Simple field (octet4)
-    lengthInBits += 8;
-
-    // Simple field (octet5)
-    lengthInBits += 8;
-
-    // Simple field (octet6)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 48;
   }
 
   public static AmsNetId staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("AmsNetId");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short octet1 = readSimpleField("octet1", readUnsignedShort(readBuffer, 8));
 
@@ -87,7 +87,7 @@ public class AmsSerialAcknowledgeFrame implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AmsSerialAcknowledgeFrame");
 
     // Simple Field (magicCookie)
@@ -118,35 +118,18 @@ public class AmsSerialAcknowledgeFrame implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    AmsSerialAcknowledgeFrame _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (magicCookie)
-    lengthInBits += 16;
-
-    // Simple field (transmitterAddress)
-    lengthInBits += 8;
-
-    // Simple field (receiverAddress)
-    lengthInBits += 8;
-
-    // Simple field (fragmentNumber)
-    lengthInBits += 8;
-
-    // Simple field (length)
-    lengthInBits += 8;
-
-    // Simple field (crc)
-    lengthInBits += 16;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 64;
   }
 
   public static AmsSerialAcknowledgeFrame staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("AmsSerialAcknowledgeFrame");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int magicCookie = readSimpleField("magicCookie", readUnsignedInt(readBuffer, 16));
 
@@ -66,6 +66,17 @@ public class AdsConfiguration implements PlcConnectionConfiguration {
     @Description("Configures, if when connecting the data-type- and symbol-table should be read. This is an optimization that can help in cases, where the PLC program is pretty large and downloading the full tables is causing problems. When disabled, symbolic addresses will manually be resolved as soon as an address is used.")
     protected boolean loadSymbolAndDataTypeTables;
 
+    @ConfigurationParameter("symbol-cache-directory")
+    @Description("Directory in which the symbol- and data-type-tables are cached between connections. The cached tables are only used, if the AMS-Net-Id, the symbol-version and the online-change counter of the PLC still match. This way reconnecting to an unchanged PLC program skips uploading the tables. No cache is used, if no directory is set.")
+    @Since("0.13.0")
+    protected String symbolCacheDirectory;
+
+    @ConfigurationParameter("invalidate-symbol-cache-on-online-change")
+    @BooleanDefaultValue(true)
+    @Description("Configures, if the cached tables are deleted as soon as the PLC notifies a change of the symbol-version or the online-change counter.")
+    @Since("0.13.0")
+    protected boolean invalidateSymbolCacheOnOnlineChange;
+
     public AmsNetId getTargetAmsNetId() {
         return targetAmsNetId;
     }
@@ -114,6 +125,22 @@ public class AdsConfiguration implements PlcConnectionConfiguration {
         this.loadSymbolAndDataTypeTables = loadSymbolAndDataTypeTables;
     }
 
+    public String getSymbolCacheDirectory() {
+        return symbolCacheDirectory;
+    }
+
+    public void setSymbolCacheDirectory(String symbolCacheDirectory) {
+        this.symbolCacheDirectory = symbolCacheDirectory;
+    }
+
+    public boolean isInvalidateSymbolCacheOnOnlineChange() {
+        return invalidateSymbolCacheOnOnlineChange;
+    }
+
+    public void setInvalidateSymbolCacheOnOnlineChange(boolean invalidateSymbolCacheOnOnlineChange) {
+        this.invalidateSymbolCacheOnOnlineChange = invalidateSymbolCacheOnOnlineChange;
+    }
+
     public static class AmsNetIdConverter implements ConfigurationParameterConverter<AmsNetId> {
 
         @Override
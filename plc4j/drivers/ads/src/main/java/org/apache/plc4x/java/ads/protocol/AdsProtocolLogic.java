@@ -63,6 +63,7 @@ import org.slf4j.LoggerFactory;
 import java.math.BigInteger;
 import java.net.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
@@ -78,6 +79,11 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AdsProtocolLogic.class);
 
+    // Names of the properties provided by the connection metadata.
+    public static final String PROPERTY_CONNECT_DURATION = "connect-duration";
+    public static final String PROPERTY_SYMBOL_TABLE_LOAD_DURATION = "symbol-table-load-duration";
+    public static final String PROPERTY_SYMBOL_TABLE_LOADED_FROM_CACHE = "symbol-table-loaded-from-cache";
+
     private AdsConfiguration configuration;
 
     private String adsVersion;
@@ -90,17 +96,27 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
 
     private final ConcurrentHashMap<SymbolicAdsTag, CompletableFuture<Void>> pendingResolutionRequests;
 
-    private int symbolVersion;
-    private long onlineVersion;
+    // Updated by the subscription to version changes.
+    private volatile int symbolVersion;
+    private volatile long onlineVersion;
     private final Map<String, AdsSymbolTableEntry> symbolTable;
     private final Map<String, AdsDataTypeTableEntry> dataTypeTable;
+    // Replaced together with the tables, so a resolution never mixes entries of different versions.
+    private volatile AdsSymbolResolver symbolResolver;
     private final ReentrantLock invalidationLock;
+    private AdsSymbolTableCache symbolTableCache;
+
+    private long connectStartTime;
+    private volatile Duration connectDuration;
+    private volatile Duration symbolTableLoadDuration;
+    private volatile boolean symbolTableLoadedFromCache;
 
     public AdsProtocolLogic() {
 //        symbolicTagMapping = new ConcurrentHashMap<>();
         pendingResolutionRequests = new ConcurrentHashMap<>();
         symbolTable = new HashMap<>();
         dataTypeTable = new HashMap<>();
+        symbolResolver = createSymbolResolver(Collections.emptyMap(), Collections.emptyMap());
         invalidationLock = new ReentrantLock();
 
         // Initialize Transaction Manager.
@@ -119,6 +135,9 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
     @Override
     public void setConfiguration(AdsConfiguration configuration) {
         this.configuration = configuration;
+        if ((configuration.getSymbolCacheDirectory() != null) && !configuration.getSymbolCacheDirectory().isBlank()) {
+            this.symbolTableCache = new AdsSymbolTableCache(Paths.get(configuration.getSymbolCacheDirectory()));
+        }
     }
 
     @Override
@@ -128,6 +147,8 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
 
     @Override
     public void onConnect(ConversationContext<AmsTCPPacket> context) {
+        useDriverRuntimeExecutor(tm);
+        connectStartTime = System.nanoTime();
 
         // If we have connection credentials available, try to set up the AMS routes.
         CompletableFuture<Void> setupAmsRouteFuture;
@@ -149,7 +170,7 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
         // otherwise just mark the connection as completed instantly.
         setupAmsRouteFuture.whenComplete((unused, throwable) -> {
             if (!configuration.isLoadSymbolAndDataTypeTables()) {
-                context.fireConnected();
+                fireConnected(context);
                 // Instead of aborting here, we allow connecting, as the user might be using raw-addresses
                 // This is particularly important for using the driver together with ADS over EtherCAT for accessing
                 // direct EtherCAT devices.
@@ -232,13 +253,14 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
                                                 symbolVersion = rb2.readUnsignedInt(8);
 
                                                 LOGGER.debug("Fetching sizes of symbol and datatype table sizes.");
-                                                CompletableFuture<Void> readSymbolTableFuture = readSymbolTableAndDatatypeTable(context);
+                                                CompletableFuture<Void> readSymbolTableFuture = readSymbolTableAndDatatypeTable(context)
+                                                    .thenCompose(unused2 -> subscribeToVersionChanges(context));
                                                 readSymbolTableFuture.whenComplete((unused2, throwable2) -> {
                                                     if (throwable2 != null) {
                                                         context.getChannel().pipeline().fireExceptionCaught(new PlcConnectionException(
                                                             "Error reading symbol and datatype table sizes", throwable2));
                                                     } else {
-                                                        context.fireConnected();
+                                                        fireConnected(context);
                                                     }
                                                 });
                                             } catch (ParseException e) {
@@ -256,6 +278,12 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
         });
     }
 
+    private void fireConnected(ConversationContext<AmsTCPPacket> context) {
+        connectDuration = Duration.ofNanos(System.nanoTime() - connectStartTime);
+        LOGGER.debug("Connected in {} ms", connectDuration.toMillis());
+        context.fireConnected();
+    }
+
     protected CompletableFuture<Void> setupAmsRoute(PlcUsernamePasswordAuthentication authentication) {
         CompletableFuture<Void> future = new CompletableFuture<>();
 
@@ -331,6 +359,11 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
 
     protected CompletableFuture<Void> readSymbolTableAndDatatypeTable(ConversationContext<AmsTCPPacket> context) {
         final CompletableFuture<Void> future = new CompletableFuture<>();
+        final long startTime = System.nanoTime();
+        // The versions may change while the tables are uploaded, so the tables are cached under the versions they
+        // were requested for. A newer version triggers another reload anyway.
+        final int requestedSymbolVersion = symbolVersion;
+        final long requestedOnlineVersion = onlineVersion;
 
         // Read the data-type and symbol table sizes
         AmsPacket readDataAndSymbolTableSizesRequest = new AdsReadRequest(configuration.getTargetAmsNetId(), configuration.getTargetAmsPort(),
@@ -355,6 +388,28 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
                     AdsTableSizes adsTableSizes = AdsTableSizes.staticParse(readBuffer);
                     LOGGER.debug("PLC contains {} symbols and {} data-types", adsTableSizes.getSymbolCount(), adsTableSizes.getDataTypeCount());
 
+                    // If the tables of the current version of the PLC program are cached, we don't need to upload them.
+                    if (symbolTableCache != null) {
+                        Optional<AdsSymbolTableCache.Tables> cachedTables = symbolTableCache.load(
+                            configuration.getTargetAmsNetId(), configuration.getTargetAmsPort(), requestedSymbolVersion, requestedOnlineVersion, adsTableSizes);
+                        if (cachedTables.isPresent()) {
+                            try {
+                                updateSymbolTableAndDatatypeTable(
+                                    new ReadBufferByteBased(cachedTables.get().getDataTypeTable(), ByteOrder.BIG_ENDIAN),
+                                    new ReadBufferByteBased(cachedTables.get().getSymbolTable(), ByteOrder.BIG_ENDIAN),
+                                    adsTableSizes);
+                                symbolTableLoadedFromCache = true;
+                                symbolTableLoadDuration = Duration.ofNanos(System.nanoTime() - startTime);
+                                LOGGER.debug("Loaded symbol and data type tables from the cache in {} ms", symbolTableLoadDuration.toMillis());
+                                future.complete(null);
+                                return;
+                            } catch (ParseException e) {
+                                LOGGER.warn("Error parsing the cached symbol and data type tables, uploading them again.", e);
+                                symbolTableCache.invalidate(configuration.getTargetAmsNetId(), configuration.getTargetAmsPort());
+                            }
+                        }
+                    }
+
                     // Now we load the datatype definitions.
                     AmsPacket readDataTypeTableRequest = new AdsReadRequest(configuration.getTargetAmsNetId(), configuration.getTargetAmsPort(),
                         configuration.getSourceAmsNetId(), configuration.getSourceAmsPort(), 0, getInvokeId(),
@@ -374,16 +429,6 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
                                 future.completeExceptionally(new PlcException("Reading data type table failed: " + readDataTypeTableResponse.getResult()));
                                 return;
                             }
-                            // Parse the result.
-                            ReadBuffer rb = new ReadBufferByteBased(readDataTypeTableResponse.getData());
-                            for (int i = 0; i < adsTableSizes.getDataTypeCount(); i++) {
-                                try {
-                                    AdsDataTypeTableEntry adsDataTypeTableEntry = AdsDataTypeTableEntry.staticParse(rb);
-                                    dataTypeTable.put(adsDataTypeTableEntry.getDataTypeName(), adsDataTypeTableEntry);
-                                } catch (ParseException e) {
-                                    throw new RuntimeException(e);
-                                }
-                            }
 
                             // Now we load the symbol definitions
                             AmsPacket readSymbolTableRequest = new AdsReadRequest(configuration.getTargetAmsNetId(), configuration.getTargetAmsPort(),
@@ -404,76 +449,24 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
                                         future.completeExceptionally(new PlcException("Reading symbol table failed: " + readSymbolTableResponse.getResult()));
                                         return;
                                     }
-                                    ReadBuffer rb2 = new ReadBufferByteBased(readSymbolTableResponse.getData());
-                                    for (int i = 0; i < adsTableSizes.getSymbolCount(); i++) {
-                                        try {
-                                            AdsSymbolTableEntry adsSymbolTableEntry = AdsSymbolTableEntry.staticParse(rb2);
-                                            symbolTable.put(adsSymbolTableEntry.getName(), adsSymbolTableEntry);
-                                        } catch (ParseException e) {
-                                            throw new RuntimeException(e);
-                                        }
+                                    try {
+                                        updateSymbolTableAndDatatypeTable(
+                                            new ReadBufferByteBased(readDataTypeTableResponse.getData()),
+                                            new ReadBufferByteBased(readSymbolTableResponse.getData()),
+                                            adsTableSizes);
+                                    } catch (ParseException e) {
+                                        future.completeExceptionally(new PlcException("Error parsing the symbol and data type tables", e));
+                                        return;
                                     }
-
-                                    LinkedHashMap<String, PlcTagItem<PlcSubscriptionTag>> subscriptionTags = new LinkedHashMap<>();
-                                    // Subscribe to online-version changes (get the address from the collected data for symbol: "TwinCAT_SystemInfoVarList._AppInfo.OnlineChangeCnt")
-                                    subscriptionTags.put("onlineVersion", new DefaultPlcTagItem<>(new DefaultPlcSubscriptionTag(
-                                        PlcSubscriptionType.CHANGE_OF_STATE,
-                                        new SymbolicAdsTag("TwinCAT_SystemInfoVarList._AppInfo.OnlineChangeCnt", org.apache.plc4x.java.api.types.PlcValueType.UDINT, Collections.emptyList()),
-                                        Duration.ofMillis(1000))));
-                                    // Subscribe to symbol-version changes (Address: GroupID: 0xF008, Offset: 0, Read length: 1)
-                                    subscriptionTags.put("symbolVersion", new DefaultPlcTagItem<>(new DefaultPlcSubscriptionTag(
-                                        PlcSubscriptionType.CHANGE_OF_STATE,
-                                        new DirectAdsTag(0xF008, 0x0000, "USINT", 1),
-                                        Duration.ofMillis(1000))));
-                                    Consumer<PlcSubscriptionEvent> consumer = plcSubscriptionEvent -> {
-                                        for (String tagName : plcSubscriptionEvent.getTagNames()) {
-                                            switch (tagName) {
-                                                case "onlineVersion": {
-                                                    long oldVersion = onlineVersion;
-                                                    long newVersion = plcSubscriptionEvent.getPlcValue("onlineVersion").getLong();
-                                                    if (oldVersion != newVersion) {
-                                                        if (invalidationLock.tryLock()) {
-                                                            LOGGER.info("Detected change of the 'online-version', invalidating data type and symbol information.");
-                                                            CompletableFuture<Void> reloadingFuture = readSymbolTableAndDatatypeTable(context);
-                                                            reloadingFuture.whenComplete((unused, throwable) -> {
-                                                                if (throwable != null) {
-                                                                    LOGGER.error("Error reloading data type and symbol data", throwable);
-                                                                }
-                                                                invalidationLock.unlock();
-                                                            });
-                                                        }
-                                                    }
-                                                    break;
-                                                }
-                                                case "symbolVersion": {
-                                                    int oldVersion = symbolVersion;
-                                                    int newVersion = plcSubscriptionEvent.getPlcValue("symbolVersion").getInteger();
-                                                    if (oldVersion != newVersion) {
-                                                        if (invalidationLock.tryLock()) {
-                                                            LOGGER.info("Detected change of the 'symbol-version', invalidating data type and symbol information.");
-                                                            CompletableFuture<Void> reloadingFuture = readSymbolTableAndDatatypeTable(context);
-                                                            reloadingFuture.whenComplete((unused, throwable) -> {
-                                                                if (throwable != null) {
-                                                                    LOGGER.error("Error reloading data type and symbol data", throwable);
-                                                                }
-                                                                invalidationLock.unlock();
-                                                            });
-                                                        }
-                                                    }
-                                                }
-                                            }
-                                        }
-                                    };
-
-                                    PlcSubscriptionRequest subscriptionRequest = new DefaultPlcSubscriptionRequest(this, subscriptionTags, consumer, Collections.emptyMap());
-                                    CompletableFuture<PlcSubscriptionResponse> subscriptionResponseCompletableFuture = subscribe(subscriptionRequest);
-
-                                    // Wait for the subscription to be finished
-                                    subscriptionResponseCompletableFuture.whenComplete((plcSubscriptionResponse, throwable) -> {
-                                        if (throwable == null) {
-                                            future.complete(null);
-                                        }
-                                    });
+                                    if (symbolTableCache != null) {
+                                        symbolTableCache.store(configuration.getTargetAmsNetId(), configuration.getTargetAmsPort(),
+                                            requestedSymbolVersion, requestedOnlineVersion, adsTableSizes,
+                                            readDataTypeTableResponse.getData(), readSymbolTableResponse.getData());
+                                    }
+                                    symbolTableLoadedFromCache = false;
+                                    symbolTableLoadDuration = Duration.ofNanos(System.nanoTime() - startTime);
+                                    LOGGER.debug("Uploaded symbol and data type tables in {} ms", symbolTableLoadDuration.toMillis());
+                                    future.complete(null);
                                 }));
                         }));
                 } catch (ParseException e) {
@@ -483,6 +476,132 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
         return future;
     }
 
+    private void updateSymbolTableAndDatatypeTable(ReadBuffer dataTypeTableBuffer, ReadBuffer symbolTableBuffer, AdsTableSizes adsTableSizes) throws ParseException {
+        Map<String, AdsDataTypeTableEntry> dataTypes = new HashMap<>();
+        for (int i = 0; i < adsTableSizes.getDataTypeCount(); i++) {
+            AdsDataTypeTableEntry adsDataTypeTableEntry = AdsDataTypeTableEntry.staticParse(dataTypeTableBuffer);
+            dataTypes.put(adsDataTypeTableEntry.getDataTypeName(), adsDataTypeTableEntry);
+        }
+        Map<String, AdsSymbolTableEntry> symbols = new HashMap<>();
+        for (int i = 0; i < adsTableSizes.getSymbolCount(); i++) {
+            AdsSymbolTableEntry adsSymbolTableEntry = AdsSymbolTableEntry.staticParse(symbolTableBuffer);
+            symbols.put(adsSymbolTableEntry.getName(), adsSymbolTableEntry);
+        }
+        // Replace the old content, as elements might have been removed from the PLC program.
+        dataTypeTable.clear();
+        dataTypeTable.putAll(dataTypes);
+        symbolTable.clear();
+        symbolTable.putAll(symbols);
+        symbolResolver = createSymbolResolver(symbols, dataTypes);
+    }
+
+    private AdsSymbolResolver createSymbolResolver(Map<String, AdsSymbolTableEntry> symbols,
+                                                   Map<String, AdsDataTypeTableEntry> dataTypes) {
+        return new AdsSymbolResolver(symbols::get, name -> getDataTypeTableEntry(dataTypes, name));
+    }
+
+    protected CompletableFuture<Void> subscribeToVersionChanges(ConversationContext<AmsTCPPacket> context) {
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        LinkedHashMap<String, PlcTagItem<PlcSubscriptionTag>> subscriptionTags = new LinkedHashMap<>();
+        // Subscribe to online-version changes (get the address from the collected data for symbol: "TwinCAT_SystemInfoVarList._AppInfo.OnlineChangeCnt")
+        subscriptionTags.put("onlineVersion", new DefaultPlcTagItem<>(new DefaultPlcSubscriptionTag(
+            PlcSubscriptionType.CHANGE_OF_STATE,
+            new SymbolicAdsTag("TwinCAT_SystemInfoVarList._AppInfo.OnlineChangeCnt", org.apache.plc4x.java.api.types.PlcValueType.UDINT, Collections.emptyList()),
+            Duration.ofMillis(1000))));
+        // Subscribe to symbol-version changes (Address: GroupID: 0xF008, Offset: 0, Read length: 1)
+        subscriptionTags.put("symbolVersion", new DefaultPlcTagItem<>(new DefaultPlcSubscriptionTag(
+            PlcSubscriptionType.CHANGE_OF_STATE,
+            new DirectAdsTag(0xF008, 0x0000, "USINT", 1),
+            Duration.ofMillis(1000))));
+        Consumer<PlcSubscriptionEvent> consumer = plcSubscriptionEvent -> {
+            for (String tagName : plcSubscriptionEvent.getTagNames()) {
+                switch (tagName) {
+                    case "onlineVersion": {
+                        long newVersion = plcSubscriptionEvent.getPlcValue("onlineVersion").getLong();
+                        if (onlineVersion != newVersion) {
+                            onlineVersion = newVersion;
+                            reloadSymbolTableAndDatatypeTable(context, "online-version");
+                        }
+                        break;
+                    }
+                    case "symbolVersion": {
+                        int newVersion = plcSubscriptionEvent.getPlcValue("symbolVersion").getInteger();
+                        if (symbolVersion != newVersion) {
+                            symbolVersion = newVersion;
+                            reloadSymbolTableAndDatatypeTable(context, "symbol-version");
+                        }
+                    }
+                }
+            }
+        };
+
+        PlcSubscriptionRequest subscriptionRequest = new DefaultPlcSubscriptionRequest(this, subscriptionTags, consumer, Collections.emptyMap());
+        CompletableFuture<PlcSubscriptionResponse> subscriptionResponseCompletableFuture = subscribe(subscriptionRequest);
+
+        // Wait for the subscription to be finished
+        subscriptionResponseCompletableFuture.whenComplete((plcSubscriptionResponse, throwable) -> {
+            if (throwable == null) {
+                future.complete(null);
+            } else {
+                future.completeExceptionally(throwable);
+            }
+        });
+        return future;
+    }
+
+    private void reloadSymbolTableAndDatatypeTable(ConversationContext<AmsTCPPacket> context, String changedVersion) {
+        if (invalidationLock.tryLock()) {
+            LOGGER.info("Detected change of the '{}', invalidating data type and symbol information.", changedVersion);
+            if ((symbolTableCache != null) && configuration.isInvalidateSymbolCacheOnOnlineChange()) {
+                symbolTableCache.invalidate(configuration.getTargetAmsNetId(), configuration.getTargetAmsPort());
+            }
+            CompletableFuture<Void> reloadingFuture = readSymbolTableAndDatatypeTable(context);
+            reloadingFuture.whenComplete((unused, throwable) -> {
+                if (throwable != null) {
+                    LOGGER.error("Error reloading data type and symbol data", throwable);
+                }
+                invalidationLock.unlock();
+            });
+        }
+    }
+
+    /**
+     * @return time it took from starting to connect until the connection was established.
+     */
+    public Duration getConnectDuration() {
+        return connectDuration;
+    }
+
+    /**
+     * @return time it took to load the symbol and data type tables the last time.
+     */
+    public Duration getSymbolTableLoadDuration() {
+        return symbolTableLoadDuration;
+    }
+
+    /**
+     * @return true, if the symbol and data type tables were loaded from the symbol cache the last time.
+     */
+    public boolean isSymbolTableLoadedFromCache() {
+        return symbolTableLoadedFromCache;
+    }
+
+    /**
+     * Provides the durations and the origin of the symbol table as properties of the connection metadata.
+     */
+    @Override
+    public Map<String, Object> getConnectionProperties() {
+        Map<String, Object> properties = new HashMap<>();
+        if (connectDuration != null) {
+            properties.put(PROPERTY_CONNECT_DURATION, connectDuration);
+        }
+        if (symbolTableLoadDuration != null) {
+            properties.put(PROPERTY_SYMBOL_TABLE_LOAD_DURATION, symbolTableLoadDuration);
+            properties.put(PROPERTY_SYMBOL_TABLE_LOADED_FROM_CACHE, symbolTableLoadedFromCache);
+        }
+        return properties;
+    }
+
     @Override
     public void onDisconnect(ConversationContext<AmsTCPPacket> context) {
         super.onDisconnect(context);
@@ -962,33 +1081,50 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
     private PlcValue parseArrayLevel(AdsDataTypeTableEntry adsDataTypeTableEntry, List<AdsDataTypeArrayInfo> arrayLayers, ReadBuffer readBuffer) throws ParseException {
         // If this is the last layer of the Array, parse the values themselves.
         if (arrayLayers.isEmpty()) {
-            String dataTypeName = adsDataTypeTableEntry.getDataTypeName();
-            dataTypeName = dataTypeName.substring(dataTypeName.lastIndexOf(" OF ") + 4);
+            String dataTypeName = getArrayElementDataTypeName(adsDataTypeTableEntry);
             int stringLength = 0;
             if (dataTypeName.startsWith("STRING(")) {
                 stringLength = Integer.parseInt(dataTypeName.substring(7, dataTypeName.length() - 1));
             } else if (dataTypeName.startsWith("WSTRING(")) {
                 stringLength = Integer.parseInt(dataTypeName.substring(8, dataTypeName.length() - 1));
             }
-            Optional<AdsDataTypeTableEntry> dataTypeTableEntryOptional = getDataTypeTableEntry(dataTypeName);
-            if(dataTypeTableEntryOptional.isEmpty()) {
-                throw new ParseException(String.format("couldn't find datatype: %s", dataTypeName));
-            }
-            AdsDataTypeTableEntry elementDataTypeTableEntry = dataTypeTableEntryOptional.get();
+            AdsDataTypeTableEntry elementDataTypeTableEntry = getArrayElementDataTypeTableEntry(dataTypeName);
             PlcValueType plcValueType = getPlcValueTypeForAdsDataType(elementDataTypeTableEntry);
             return parsePlcValue(plcValueType, elementDataTypeTableEntry, stringLength, readBuffer);
         }
 
+        AdsDataTypeArrayInfo firstLayer = arrayLayers.get(0);
+        List<AdsDataTypeArrayInfo> remainingLayers = arrayLayers.subList(1, arrayLayers.size());
+        // Arrays of numbers are read into a primitive array instead of one PlcValue per element.
+        if (remainingLayers.isEmpty()) {
+            AdsDataTypeTableEntry elementDataTypeTableEntry =
+                getArrayElementDataTypeTableEntry(getArrayElementDataTypeName(adsDataTypeTableEntry));
+            PlcValue arrayValue = PlcPrimitiveArray.parse(readBuffer,
+                getPlcValueTypeForAdsDataType(elementDataTypeTableEntry), (int) firstLayer.getNumElements());
+            if (arrayValue != null) {
+                return arrayValue;
+            }
+        }
         List<PlcValue> elements = new ArrayList<>();
-        List<AdsDataTypeArrayInfo> arrayInfo = adsDataTypeTableEntry.getArrayInfo();
-        AdsDataTypeArrayInfo firstLayer = arrayInfo.get(0);
         for (int i = 0; i < firstLayer.getNumElements(); i++) {
-            List<AdsDataTypeArrayInfo> remainingLayers = arrayInfo.subList(1, arrayInfo.size());
             elements.add(parseArrayLevel(adsDataTypeTableEntry, remainingLayers, readBuffer));
         }
         return new PlcList(elements);
     }
 
+    private String getArrayElementDataTypeName(AdsDataTypeTableEntry adsDataTypeTableEntry) {
+        String dataTypeName = adsDataTypeTableEntry.getDataTypeName();
+        return dataTypeName.substring(dataTypeName.lastIndexOf(" OF ") + 4);
+    }
+
+    private AdsDataTypeTableEntry getArrayElementDataTypeTableEntry(String dataTypeName) throws ParseException {
+        Optional<AdsDataTypeTableEntry> dataTypeTableEntryOptional = getDataTypeTableEntry(dataTypeName);
+        if(dataTypeTableEntryOptional.isEmpty()) {
+            throw new ParseException(String.format("couldn't find datatype: %s", dataTypeName));
+        }
+        return dataTypeTableEntryOptional.get();
+    }
+
     @Override
     public CompletableFuture<PlcWriteResponse> write(PlcWriteRequest writeRequest) {
         // Get all ADS addresses in their resolved state.
@@ -1822,73 +1958,7 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
         }
 
         SymbolicAdsTag symbolicAdsTag = (SymbolicAdsTag) tag;
-        String symbolicAddress = symbolicAdsTag.getSymbolicAddress();
-        String[] addressParts = symbolicAddress.split("\\.");
-
-        // If the number of parts are less than 2, we can find the entry in the symbol table directly.
-        if (addressParts.length < 2) {
-            // We can't find it, so we need to resolve it.
-            if (!symbolTable.containsKey(symbolicAddress)) {
-                return null;
-            }
-            AdsSymbolTableEntry adsSymbolTableEntry = symbolTable.get(symbolicAddress);
-            Optional<AdsDataTypeTableEntry> dataTypeTableEntryOptional = getDataTypeTableEntry(adsSymbolTableEntry.getDataTypeName());
-            if(dataTypeTableEntryOptional.isEmpty()) {
-                return null;
-            }
-            AdsDataTypeTableEntry dataTypeTableEntry = dataTypeTableEntryOptional.get();
-            return new DirectAdsTag(adsSymbolTableEntry.getGroup(), adsSymbolTableEntry.getOffset(),
-                dataTypeTableEntry.getDataTypeName(), dataTypeTableEntry.getArrayDimensions());
-        }
-        // Otherwise we'll have to crawl through the dataType definitions.
-        else {
-            String symbolName = addressParts[0] + "." + addressParts[1];
-            // We can't find it, so we need to resolve it.
-            if (!symbolTable.containsKey(symbolName)) {
-                return null;
-            }
-            AdsSymbolTableEntry adsSymbolTableEntry = symbolTable.get(symbolName);
-            Optional<AdsDataTypeTableEntry> dataTypeTableEntryOptional = getDataTypeTableEntry(adsSymbolTableEntry.getDataTypeName());
-            if(dataTypeTableEntryOptional.isEmpty()) {
-                return null;
-            }
-            AdsDataTypeTableEntry dataTypeTableEntry = dataTypeTableEntryOptional.get();
-            return resolveDirectAdsTagForSymbolicNameFromDataType(
-                Arrays.asList(addressParts).subList(2, addressParts.length),
-                adsSymbolTableEntry.getGroup(), adsSymbolTableEntry.getOffset(), dataTypeTableEntry);
-        }
-    }
-
-    protected DirectAdsTag resolveDirectAdsTagForSymbolicNameFromDataType(List<String> remainingAddressParts, long currentGroup, long currentOffset, AdsDataTypeTableEntry adsDataTypeTableEntry) {
-        if (remainingAddressParts.isEmpty()) {
-            // TODO: Implement the Array support
-            if (adsDataTypeTableEntry.getDataType() == AdsDataType.CHAR.getValue()) {
-                int stringLength = (int) adsDataTypeTableEntry.getSize() - 1;
-                return new DirectAdsStringTag(currentGroup, currentOffset, adsDataTypeTableEntry.getDataTypeName(), stringLength, 1);
-            } else if (adsDataTypeTableEntry.getDataType() == AdsDataType.WCHAR.getValue()) {
-                int stringLength = (int) (adsDataTypeTableEntry.getSize() - 2) / 2;
-                return new DirectAdsStringTag(currentGroup, currentOffset, adsDataTypeTableEntry.getDataTypeName(), stringLength, 1);
-            } else {
-                return new DirectAdsTag(currentGroup, currentOffset, adsDataTypeTableEntry.getDataTypeName(), 1);
-            }
-        }
-
-        // Go through all children looking for a matching one.
-        for (AdsDataTypeTableChildEntry child : adsDataTypeTableEntry.getChildren()) {
-            if (child.getPropertyName().equals(remainingAddressParts.get(0))) {
-                Optional<AdsDataTypeTableEntry> dataTypeTableEntryOptional = getDataTypeTableEntry(child.getDataTypeName());
-                if(dataTypeTableEntryOptional.isEmpty()) {
-                    throw new PlcRuntimeException("Could not resolve data type " + child.getDataTypeName());
-                }
-                AdsDataTypeTableEntry childAdsDataTypeTableEntry = dataTypeTableEntryOptional.get();
-                return resolveDirectAdsTagForSymbolicNameFromDataType(
-                    remainingAddressParts.subList(1, remainingAddressParts.size()),
-                    currentGroup, currentOffset + child.getOffset(), childAdsDataTypeTableEntry);
-            }
-        }
-
-        throw new PlcRuntimeException(String.format("Couldn't find child with name '%s' for type '%s'",
-            remainingAddressParts.get(0), adsDataTypeTableEntry.getDataTypeName()));
+        return symbolResolver.resolve(symbolicAdsTag.getSymbolicAddress());
     }
 
     protected PlcValueType getPlcValueTypeForAdsDataTypeForBrowse(AdsDataTypeTableEntry dataTypeTableEntry) {
@@ -1944,6 +2014,10 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
     }
 
     protected Optional<AdsDataTypeTableEntry> getDataTypeTableEntry(String name) {
+        return getDataTypeTableEntry(dataTypeTable, name);
+    }
+
+    private static Optional<AdsDataTypeTableEntry> getDataTypeTableEntry(Map<String, AdsDataTypeTableEntry> dataTypeTable, String name) {
         if(dataTypeTable.containsKey(name)) {
             return Optional.of(dataTypeTable.get(name));
         }
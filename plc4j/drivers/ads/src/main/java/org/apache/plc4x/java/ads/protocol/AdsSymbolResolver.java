@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.ads.protocol;
+
+import org.apache.plc4x.java.ads.readwrite.AdsDataType;
+import org.apache.plc4x.java.ads.readwrite.AdsDataTypeArrayInfo;
+import org.apache.plc4x.java.ads.readwrite.AdsDataTypeTableChildEntry;
+import org.apache.plc4x.java.ads.readwrite.AdsDataTypeTableEntry;
+import org.apache.plc4x.java.ads.readwrite.AdsSymbolTableEntry;
+import org.apache.plc4x.java.ads.tag.DirectAdsStringTag;
+import org.apache.plc4x.java.ads.tag.DirectAdsTag;
+import org.apache.plc4x.java.api.exceptions.PlcRuntimeException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Resolves symbolic addresses (e.g. {@code MAIN.station[3].axis.pos}) to direct addresses using the symbol- and
+ * data-type-tables of the PLC.
+ * <p>
+ * Every symbol is the root of a trie, which contains one node per struct member or array element that has
+ * been resolved so far. Each node knows the index-group, offset and data type of its element, so addresses
+ * sharing a prefix only walk the data types of the prefix once. The resulting direct tags are additionally
+ * cached by their full address, so resolving an address a second time is a single lookup without allocations.
+ * As programs with large arrays have a huge number of possible addresses, both caches are limited in size.
+ * Addresses beyond these limits are still resolved, just not cached.
+ * <p>
+ * A resolver is bound to one version of the tables. As soon as they change, a new resolver has to be created.
+ */
+class AdsSymbolResolver {
+
+    static final int DEFAULT_MAX_CACHED_NODES = 100_000;
+    static final int DEFAULT_MAX_CACHED_TAGS = 10_000;
+
+    private final Function<String, AdsSymbolTableEntry> symbolLookup;
+    private final Function<String, Optional<AdsDataTypeTableEntry>> dataTypeLookup;
+    private final int maxCachedNodes;
+    private final int maxCachedTags;
+
+    private final Map<String, Node> symbols;
+    private final Map<String, DirectAdsTag> resolvedTags;
+    private final AtomicInteger cachedNodes;
+
+    AdsSymbolResolver(Function<String, AdsSymbolTableEntry> symbolLookup,
+                      Function<String, Optional<AdsDataTypeTableEntry>> dataTypeLookup) {
+        this(symbolLookup, dataTypeLookup, DEFAULT_MAX_CACHED_NODES, DEFAULT_MAX_CACHED_TAGS);
+    }
+
+    AdsSymbolResolver(Function<String, AdsSymbolTableEntry> symbolLookup,
+                      Function<String, Optional<AdsDataTypeTableEntry>> dataTypeLookup,
+                      int maxCachedNodes, int maxCachedTags) {
+        this.symbolLookup = symbolLookup;
+        this.dataTypeLookup = dataTypeLookup;
+        this.maxCachedNodes = maxCachedNodes;
+        this.maxCachedTags = maxCachedTags;
+        this.symbols = new ConcurrentHashMap<>();
+        this.resolvedTags = new ConcurrentHashMap<>();
+        this.cachedNodes = new AtomicInteger();
+    }
+
+    /**
+     * @param symbolicAddress address consisting of a symbol name, followed by any number of
+     *                        {@code .member} and {@code [index]} parts.
+     * @return the direct address or null, if the symbol is not part of the symbol table.
+     * @throws PlcRuntimeException if the symbol exists, but the rest of the address doesn't match its data type.
+     */
+    DirectAdsTag resolve(String symbolicAddress) {
+        DirectAdsTag directAdsTag = resolvedTags.get(symbolicAddress);
+        if (directAdsTag != null) {
+            return directAdsTag;
+        }
+
+        // The symbol name consists of the first two parts of the address (e.g. "MAIN.station").
+        int firstDot = symbolicAddress.indexOf('.');
+        int symbolEnd = (firstDot < 0) ? getPartEnd(symbolicAddress, 0) : getPartEnd(symbolicAddress, firstDot + 1);
+        Node node = getSymbolNode(symbolicAddress.substring(0, symbolEnd));
+        if (node == null) {
+            return null;
+        }
+
+        // Walk down the trie, adding the nodes that haven't been resolved before.
+        int pos = symbolEnd;
+        while (pos < symbolicAddress.length()) {
+            int partEnd;
+            String key;
+            if (symbolicAddress.charAt(pos) == '[') {
+                partEnd = symbolicAddress.indexOf(']', pos) + 1;
+                if (partEnd == 0) {
+                    throw new PlcRuntimeException("Missing ']' in address " + symbolicAddress);
+                }
+                key = symbolicAddress.substring(pos, partEnd);
+            } else {
+                partEnd = getPartEnd(symbolicAddress, pos + 1);
+                key = symbolicAddress.substring(pos + 1, partEnd);
+            }
+            Node child = node.children.get(key);
+            if (child == null) {
+                child = (key.charAt(0) == '[') ? createElementNode(node, key) : createMemberNode(node, key);
+                // Concurrent resolutions might exceed the limit by a few nodes, which doesn't matter.
+                if (cachedNodes.get() < maxCachedNodes) {
+                    Node existingChild = node.children.putIfAbsent(key, child);
+                    if (existingChild != null) {
+                        child = existingChild;
+                    } else {
+                        cachedNodes.incrementAndGet();
+                    }
+                }
+            }
+            node = child;
+            pos = partEnd;
+        }
+
+        // Addresses without any '.' refer to the symbol as a whole, including all of its array elements.
+        directAdsTag = (firstDot < 0) && (symbolEnd == symbolicAddress.length()) ?
+            new DirectAdsTag(node.group, node.offset, node.dataType.getDataTypeName(), node.dataType.getArrayDimensions()) :
+            createDirectAdsTag(node);
+        if (resolvedTags.size() < maxCachedTags) {
+            resolvedTags.put(symbolicAddress, directAdsTag);
+        }
+        return directAdsTag;
+    }
+
+    int getNumberOfCachedNodes() {
+        return cachedNodes.get();
+    }
+
+    int getNumberOfCachedTags() {
+        return resolvedTags.size();
+    }
+
+    private Node getSymbolNode(String symbolName) {
+        Node node = symbols.get(symbolName);
+        if (node != null) {
+            return node;
+        }
+        AdsSymbolTableEntry adsSymbolTableEntry = symbolLookup.apply(symbolName);
+        if (adsSymbolTableEntry == null) {
+            return null;
+        }
+        Optional<AdsDataTypeTableEntry> dataTypeTableEntryOptional = dataTypeLookup.apply(adsSymbolTableEntry.getDataTypeName());
+        if (dataTypeTableEntryOptional.isEmpty()) {
+            return null;
+        }
+        node = new Node(adsSymbolTableEntry.getGroup(), adsSymbolTableEntry.getOffset(), dataTypeTableEntryOptional.get());
+        Node existingNode = symbols.putIfAbsent(symbolName, node);
+        return (existingNode != null) ? existingNode : node;
+    }
+
+    private Node createMemberNode(Node parent, String propertyName) {
+        for (AdsDataTypeTableChildEntry child : parent.dataType.getChildren()) {
+            if (child.getPropertyName().equals(propertyName)) {
+                AdsDataTypeTableEntry childDataType = getDataType(child.getDataTypeName());
+                return new Node(parent.group, parent.offset + child.getOffset(), childDataType);
+            }
+        }
+        throw new PlcRuntimeException(String.format("Couldn't find child with name '%s' for type '%s'",
+            propertyName, parent.dataType.getDataTypeName()));
+    }
+
+    private Node createElementNode(Node parent, String indexPart) {
+        List<AdsDataTypeArrayInfo> arrayInfo = parent.dataType.getArrayInfo();
+        String[] indexes = indexPart.substring(1, indexPart.length() - 1).split(",");
+        if (arrayInfo.isEmpty() || (indexes.length != arrayInfo.size())) {
+            throw new PlcRuntimeException(String.format("Index '%s' doesn't match the dimensions of type '%s'",
+                indexPart, parent.dataType.getDataTypeName()));
+        }
+        // Multi-dimensional arrays are stored in row-major order.
+        long elementIndex = 0;
+        for (int i = 0; i < arrayInfo.size(); i++) {
+            AdsDataTypeArrayInfo dimension = arrayInfo.get(i);
+            long index;
+            try {
+                index = Long.parseLong(indexes[i].trim());
+            } catch (NumberFormatException e) {
+                throw new PlcRuntimeException(String.format("Invalid index '%s'", indexPart), e);
+            }
+            if ((index < dimension.getLowerBound()) || (index >= dimension.getLowerBound() + dimension.getNumElements())) {
+                throw new PlcRuntimeException(String.format("Index '%s' is out of bounds for type '%s'",
+                    indexPart, parent.dataType.getDataTypeName()));
+            }
+            elementIndex = elementIndex * dimension.getNumElements() + (index - dimension.getLowerBound());
+        }
+        AdsDataTypeTableEntry elementDataType = getArrayElementDataType(parent.dataType);
+        return new Node(parent.group, parent.offset + elementIndex * elementDataType.getSize(), elementDataType);
+    }
+
+    private AdsDataTypeTableEntry getArrayElementDataType(AdsDataTypeTableEntry arrayDataType) {
+        // The simple type name of arrays is the name of their element type.
+        if (!arrayDataType.getSimpleTypeName().isEmpty()) {
+            return getDataType(arrayDataType.getSimpleTypeName());
+        }
+        String dataTypeName = arrayDataType.getDataTypeName();
+        return getDataType(dataTypeName.substring(dataTypeName.indexOf(" OF ") + 4));
+    }
+
+    private AdsDataTypeTableEntry getDataType(String dataTypeName) {
+        Optional<AdsDataTypeTableEntry> dataTypeTableEntryOptional = dataTypeLookup.apply(dataTypeName);
+        if (dataTypeTableEntryOptional.isEmpty()) {
+            throw new PlcRuntimeException("Could not resolve data type " + dataTypeName);
+        }
+        return dataTypeTableEntryOptional.get();
+    }
+
+    private static DirectAdsTag createDirectAdsTag(Node node) {
+        AdsDataTypeTableEntry adsDataTypeTableEntry = node.dataType;
+        if (adsDataTypeTableEntry.getDataType() == AdsDataType.CHAR.getValue()) {
+            int stringLength = (int) adsDataTypeTableEntry.getSize() - 1;
+            return new DirectAdsStringTag(node.group, node.offset, adsDataTypeTableEntry.getDataTypeName(), stringLength, 1);
+        } else if (adsDataTypeTableEntry.getDataType() == AdsDataType.WCHAR.getValue()) {
+            int stringLength = (int) (adsDataTypeTableEntry.getSize() - 2) / 2;
+            return new DirectAdsStringTag(node.group, node.offset, adsDataTypeTableEntry.getDataTypeName(), stringLength, 1);
+        } else {
+            return new DirectAdsTag(node.group, node.offset, adsDataTypeTableEntry.getDataTypeName(), 1);
+        }
+    }
+
+    /**
+     * @return position of the next '.' or '[' starting at the given position, or the end of the address.
+     */
+    private static int getPartEnd(String symbolicAddress, int start) {
+        for (int i = start; i < symbolicAddress.length(); i++) {
+            char c = symbolicAddress.charAt(i);
+            if ((c == '.') || (c == '[')) {
+                return i;
+            }
+        }
+        return symbolicAddress.length();
+    }
+
+    private static final class Node {
+
+        private final long group;
+        private final long offset;
+        private final AdsDataTypeTableEntry dataType;
+        private final Map<String, Node> children;
+
+        private Node(long group, long offset, AdsDataTypeTableEntry dataType) {
+            this.group = group;
+            this.offset = offset;
+            this.dataType = dataType;
+            this.children = new ConcurrentHashMap<>();
+        }
+
+    }
+
+}
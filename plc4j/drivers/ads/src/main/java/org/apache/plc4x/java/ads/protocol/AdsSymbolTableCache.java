@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.ads.protocol;
+
+import org.apache.plc4x.java.ads.readwrite.AdsTableSizes;
+import org.apache.plc4x.java.ads.readwrite.AmsNetId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * On-disk cache of the symbol- and data-type-tables of a PLC.
+ * <p>
+ * There is one file per target AMS-Net-Id and AMS port. Its header contains the symbol-version, the
+ * online-change counter and the table sizes the tables were uploaded with. The tables are only used, if all
+ * of these match the values currently reported by the PLC. They are stored exactly as they were uploaded,
+ * so they can be parsed directly from the bytes read from the file. The file is read into the heap instead of
+ * being memory-mapped, as a mapping keeps the file open (on Windows it then can't be replaced or deleted).
+ */
+class AdsSymbolTableCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdsSymbolTableCache.class);
+
+    // "PCAS" in little endian.
+    private static final int MAGIC = 0x53414350;
+    private static final int FORMAT_VERSION = 1;
+    // magic, format version, symbol version, online version, 4 table sizes
+    private static final int HEADER_LENGTH = 4 + 4 + 4 + 8 + 4 * 4;
+
+    private final Path directory;
+
+    AdsSymbolTableCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the cached tables of the given target, if they were uploaded for the given versions and sizes.
+     */
+    Optional<Tables> load(AmsNetId amsNetId, int amsPort, int symbolVersion, long onlineVersion, AdsTableSizes tableSizes) {
+        Path file = getFile(amsNetId, amsPort);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileLength = channel.size();
+            if (fileLength < HEADER_LENGTH) {
+                LOGGER.debug("Ignoring truncated symbol cache file {}", file);
+                return Optional.empty();
+            }
+            ByteBuffer buffer = read(channel, HEADER_LENGTH);
+            if ((buffer.getInt() != MAGIC) || (buffer.getInt() != FORMAT_VERSION)) {
+                LOGGER.debug("Ignoring symbol cache file {} with unknown format", file);
+                return Optional.empty();
+            }
+            int cachedSymbolVersion = buffer.getInt();
+            long cachedOnlineVersion = buffer.getLong();
+            long dataTypeCount = Integer.toUnsignedLong(buffer.getInt());
+            long dataTypeLength = Integer.toUnsignedLong(buffer.getInt());
+            long symbolCount = Integer.toUnsignedLong(buffer.getInt());
+            long symbolLength = Integer.toUnsignedLong(buffer.getInt());
+            if ((cachedSymbolVersion != symbolVersion) || (cachedOnlineVersion != onlineVersion) ||
+                (dataTypeCount != tableSizes.getDataTypeCount()) || (dataTypeLength != tableSizes.getDataTypeLength()) ||
+                (symbolCount != tableSizes.getSymbolCount()) || (symbolLength != tableSizes.getSymbolLength())) {
+                LOGGER.debug("Symbol cache file {} belongs to a different version of the PLC program", file);
+                return Optional.empty();
+            }
+            if (fileLength != HEADER_LENGTH + dataTypeLength + symbolLength) {
+                LOGGER.debug("Ignoring truncated symbol cache file {}", file);
+                return Optional.empty();
+            }
+            ByteBuffer tables = read(channel, (int) (dataTypeLength + symbolLength));
+            ByteBuffer dataTypeTable = tables.slice();
+            dataTypeTable.limit((int) dataTypeLength);
+            tables.position((int) dataTypeLength);
+            ByteBuffer symbolTable = tables.slice();
+            return Optional.of(new Tables(dataTypeTable, symbolTable));
+        } catch (IOException e) {
+            LOGGER.warn("Error reading symbol cache file {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads the next bytes of the channel into a heap buffer, ready to be read.
+     */
+    private static ByteBuffer read(FileChannel channel, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Unexpected end of symbol cache file");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Replaces the cached tables of the given target. The file is written to a temporary file first, so
+     * concurrent readers never see a partially written file.
+     */
+    void store(AmsNetId amsNetId, int amsPort, int symbolVersion, long onlineVersion, AdsTableSizes tableSizes,
+               byte[] dataTypeTable, byte[] symbolTable) {
+        Path file = getFile(amsNetId, amsPort);
+        Path tempFile = null;
+        try {
+            Files.createDirectories(directory);
+            tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC);
+            header.putInt(FORMAT_VERSION);
+            header.putInt(symbolVersion);
+            header.putLong(onlineVersion);
+            header.putInt((int) tableSizes.getDataTypeCount());
+            header.putInt(dataTypeTable.length);
+            header.putInt((int) tableSizes.getSymbolCount());
+            header.putInt(symbolTable.length);
+            header.flip();
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                ByteBuffer[] content = {header, ByteBuffer.wrap(dataTypeTable), ByteBuffer.wrap(symbolTable)};
+                long remaining = (long) HEADER_LENGTH + dataTypeTable.length + symbolTable.length;
+                while (remaining > 0) {
+                    remaining -= channel.write(content);
+                }
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOGGER.debug("Stored symbol and data type tables in {}", file);
+        } catch (IOException e) {
+            LOGGER.warn("Error writing symbol cache file {}", file, e);
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException ignored) {
+                    // Nothing we could do about it.
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes the cached tables of the given target.
+     */
+    void invalidate(AmsNetId amsNetId, int amsPort) {
+        Path file = getFile(amsNetId, amsPort);
+        try {
+            if (Files.deleteIfExists(file)) {
+                LOGGER.debug("Deleted symbol cache file {}", file);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Error deleting symbol cache file {}", file, e);
+        }
+    }
+
+    Path getFile(AmsNetId amsNetId, int amsPort) {
+        return directory.resolve(String.format("ads-%d.%d.%d.%d.%d.%d-%d.symbols",
+            amsNetId.getOctet1(), amsNetId.getOctet2(), amsNetId.getOctet3(),
+            amsNetId.getOctet4(), amsNetId.getOctet5(), amsNetId.getOctet6(), amsPort));
+    }
+
+    static class Tables {
+
+        private final ByteBuffer dataTypeTable;
+        private final ByteBuffer symbolTable;
+
+        Tables(ByteBuffer dataTypeTable, ByteBuffer symbolTable) {
+            this.dataTypeTable = dataTypeTable;
+            this.symbolTable = symbolTable;
+        }
+
+        ByteBuffer getDataTypeTable() {
+            return dataTypeTable;
+        }
+
+        ByteBuffer getSymbolTable() {
+            return symbolTable;
+        }
+
+    }
+
+}
@@ -33,11 +33,11 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
- * ADS address witch is defined by symbolic name (e.g. {@code Main.items[0]}).
+ * ADS address witch is defined by symbolic name (e.g. {@code Main.items[0]} or {@code Main.matrix[1,2].value}).
  */
 public class SymbolicAdsTag implements AdsTag {
 
-    private static final Pattern SYMBOLIC_ADDRESS_PATTERN = Pattern.compile("^([\\w_]+)(\"[\"\\d*]\")*(\\.(\\w+)(\"[\"\\d*]\")*)*");
+    private static final Pattern SYMBOLIC_ADDRESS_PATTERN = Pattern.compile("^([\\w_]+)(\\[-?\\d+(,-?\\d+)*])*(\\.(\\w+)(\\[-?\\d+(,-?\\d+)*])*)*");
 
     private final String symbolicAddress;
 
@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.ads.protocol;
+
+import org.apache.plc4x.java.ads.configuration.AdsConfiguration;
+import org.apache.plc4x.java.ads.readwrite.*;
+import org.apache.plc4x.java.ads.tag.DirectAdsTag;
+import org.apache.plc4x.java.ads.tag.SymbolicAdsTag;
+import org.apache.plc4x.java.api.messages.PlcSubscriptionEvent;
+import org.apache.plc4x.java.api.messages.PlcSubscriptionRequest;
+import org.apache.plc4x.java.api.messages.PlcSubscriptionResponse;
+import org.apache.plc4x.java.api.types.PlcResponseCode;
+import org.apache.plc4x.java.spi.ConversationContext;
+import org.apache.plc4x.java.spi.generation.Message;
+import org.apache.plc4x.java.spi.generation.SerializationException;
+import org.apache.plc4x.java.spi.generation.WriteBufferByteBased;
+import org.apache.plc4x.java.spi.messages.DefaultPlcSubscriptionEvent;
+import org.apache.plc4x.java.spi.messages.DefaultPlcSubscriptionRequest;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcResponseItem;
+import org.apache.plc4x.java.spi.values.PlcUDINT;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Loads the symbol and data type tables from a simulated PLC with a symbol cache directory configured and checks,
+ * which tables are uploaded.
+ */
+class AdsProtocolLogicTest {
+
+    private static final AmsNetId TARGET_AMS_NET_ID = new AmsNetId((short) 192, (short) 168, (short) 23, (short) 20, (short) 1, (short) 1);
+    private static final AmsNetId SOURCE_AMS_NET_ID = new AmsNetId((short) 192, (short) 168, (short) 23, (short) 200, (short) 1, (short) 1);
+    private static final int TARGET_AMS_PORT = 851;
+
+    @TempDir
+    Path directory;
+
+    private final List<Long> requestedIndexGroups = Collections.synchronizedList(new ArrayList<>());
+    private volatile boolean plcAnswering = true;
+    private byte[] dataTypeTable;
+    private byte[] symbolTable;
+    private AdsTableSizes tableSizes;
+    private AdsConfiguration configuration;
+    private ConversationContext<AmsTCPPacket> context;
+    private final List<SimulatedProtocolLogic> protocolLogics = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws SerializationException {
+        AdsDataTypeTableEntry dataType = withEntryLength(length -> new AdsDataTypeTableEntry(length, 1, 0, 0, 2, 0,
+            AdsDataType.INT.getValue(), 0, 0, 0, "INT", "", "", Collections.emptyList(), Collections.emptyList(), new byte[0]));
+        AdsSymbolTableEntry symbol = withEntryLength(length -> new AdsSymbolTableEntry(length, 0x4040, 1000, 2,
+            AdsDataType.INT.getValue(), false, false, false, false, false, false, false, false, false, false, false, false,
+            false, "MAIN.counter", "INT", "", new byte[0]));
+        dataTypeTable = serialize(dataType);
+        symbolTable = serialize(symbol);
+        tableSizes = new AdsTableSizes(1, symbolTable.length, 1, dataTypeTable.length, 0, 0);
+
+        configuration = new AdsConfiguration();
+        configuration.setTargetAmsNetId(TARGET_AMS_NET_ID);
+        configuration.setTargetAmsPort(TARGET_AMS_PORT);
+        configuration.setSourceAmsNetId(SOURCE_AMS_NET_ID);
+        configuration.setSourceAmsPort(65534);
+        configuration.setTimeoutRequest(1000);
+        configuration.setSymbolCacheDirectory(directory.toString());
+        configuration.setInvalidateSymbolCacheOnOnlineChange(true);
+
+        context = mock(ConversationContext.class);
+        when(context.sendRequest(any())).thenAnswer(invocation -> {
+            AdsReadRequest request = (AdsReadRequest) ((AmsTCPPacket) invocation.getArgument(0)).getUserdata();
+            requestedIndexGroups.add(request.getIndexGroup());
+            return new SimulatedSendRequestContext<>(plcAnswering ? respond(request) : null);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        protocolLogics.forEach(protocolLogic -> protocolLogic.close(context));
+    }
+
+    @Test
+    void reconnectingToAnUnchangedProgramLoadsTheCachedTables() throws Exception {
+        SimulatedProtocolLogic protocolLogic = connect();
+        assertEquals(Arrays.asList(ReservedIndexGroups.ADSIGRP_SYMBOL_AND_DATA_TYPE_SIZES.getValue(),
+            ReservedIndexGroups.ADSIGRP_DATA_TYPE_TABLE_UPLOAD.getValue(),
+            ReservedIndexGroups.ADSIGRP_SYM_UPLOAD.getValue()), requestedIndexGroups);
+        assertFalse(protocolLogic.isSymbolTableLoadedFromCache());
+        assertTrue(Files.exists(getCacheFile()));
+
+        // The symbol- and online-version are still the same, so only the sizes are read.
+        requestedIndexGroups.clear();
+        protocolLogic = connect();
+        assertEquals(Collections.singletonList(ReservedIndexGroups.ADSIGRP_SYMBOL_AND_DATA_TYPE_SIZES.getValue()),
+            requestedIndexGroups);
+        assertTrue(protocolLogic.isSymbolTableLoadedFromCache());
+        assertEquals(Boolean.TRUE,
+            protocolLogic.getConnectionProperties().get(AdsProtocolLogic.PROPERTY_SYMBOL_TABLE_LOADED_FROM_CACHE));
+        assertNotNull(protocolLogic.getConnectionProperties().get(AdsProtocolLogic.PROPERTY_SYMBOL_TABLE_LOAD_DURATION));
+        DirectAdsTag tag = protocolLogic.getDirectAdsTagForSymbolicName(SymbolicAdsTag.of("MAIN.counter"));
+        assertEquals(0x4040, tag.getIndexGroup());
+        assertEquals(1000, tag.getIndexOffset());
+    }
+
+    @Test
+    void onlineChangeDeletesTheCachedTables() throws Exception {
+        SimulatedProtocolLogic protocolLogic = connect();
+        assertTrue(Files.exists(getCacheFile()));
+
+        // Keep the reload from storing the tables of the new version.
+        plcAnswering = false;
+        protocolLogic.notifyOnlineVersion(1);
+        assertFalse(Files.exists(getCacheFile()));
+    }
+
+    @Test
+    void onlineChangeKeepsTheCachedTablesIfConfigured() throws Exception {
+        configuration.setInvalidateSymbolCacheOnOnlineChange(false);
+        SimulatedProtocolLogic protocolLogic = connect();
+
+        plcAnswering = false;
+        protocolLogic.notifyOnlineVersion(1);
+        assertTrue(Files.exists(getCacheFile()));
+    }
+
+    private SimulatedProtocolLogic connect() throws Exception {
+        SimulatedProtocolLogic protocolLogic = new SimulatedProtocolLogic();
+        protocolLogic.setConfiguration(configuration);
+        protocolLogics.add(protocolLogic);
+        protocolLogic.readSymbolTableAndDatatypeTable(context)
+            .thenCompose(unused -> protocolLogic.subscribeToVersionChanges(context))
+            .get(5, TimeUnit.SECONDS);
+        return protocolLogic;
+    }
+
+    private Path getCacheFile() {
+        return new AdsSymbolTableCache(directory).getFile(TARGET_AMS_NET_ID, TARGET_AMS_PORT);
+    }
+
+    private AmsTCPPacket respond(AdsReadRequest request) throws SerializationException {
+        byte[] data;
+        if (request.getIndexGroup() == ReservedIndexGroups.ADSIGRP_SYMBOL_AND_DATA_TYPE_SIZES.getValue()) {
+            data = serialize(tableSizes);
+        } else if (request.getIndexGroup() == ReservedIndexGroups.ADSIGRP_DATA_TYPE_TABLE_UPLOAD.getValue()) {
+            data = dataTypeTable;
+        } else if (request.getIndexGroup() == ReservedIndexGroups.ADSIGRP_SYM_UPLOAD.getValue()) {
+            data = symbolTable;
+        } else {
+            throw new IllegalArgumentException("Unexpected index group " + request.getIndexGroup());
+        }
+        return new AmsTCPPacket(new AdsReadResponse(request.getSourceAmsNetId(), request.getSourceAmsPort(),
+            request.getTargetAmsNetId(), request.getTargetAmsPort(), 0, request.getInvokeId(), ReturnCode.OK, data));
+    }
+
+    // The entries contain their own length, which is only known once they are created.
+    private static <T extends Message> T withEntryLength(Function<Long, T> entryFactory) {
+        return entryFactory.apply((long) entryFactory.apply(0L).getLengthInBytes());
+    }
+
+    private static byte[] serialize(Message message) throws SerializationException {
+        WriteBufferByteBased writeBuffer = new WriteBufferByteBased(message.getLengthInBytes());
+        message.serialize(writeBuffer);
+        return writeBuffer.getBytes();
+    }
+
+    /**
+     * Accepts the subscription to the version changes, so the test can notify changes.
+     */
+    private static class SimulatedProtocolLogic extends AdsProtocolLogic {
+
+        private Consumer<PlcSubscriptionEvent> versionConsumer;
+
+        @Override
+        public CompletableFuture<PlcSubscriptionResponse> subscribe(PlcSubscriptionRequest subscriptionRequest) {
+            versionConsumer = ((DefaultPlcSubscriptionRequest) subscriptionRequest).getConsumer();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        void notifyOnlineVersion(long onlineVersion) {
+            versionConsumer.accept(new DefaultPlcSubscriptionEvent(Instant.now(), Collections.singletonMap(
+                "onlineVersion", new DefaultPlcResponseItem<>(PlcResponseCode.OK, new PlcUDINT(onlineVersion)))));
+        }
+    }
+
+    /**
+     * Passes the response of the simulated PLC through the chain, null if the PLC doesn't answer.
+     */
+    @SuppressWarnings("unchecked")
+    private static class SimulatedSendRequestContext<T> implements ConversationContext.SendRequestContext<T> {
+
+        private final T response;
+
+        SimulatedSendRequestContext(T response) {
+            this.response = response;
+        }
+
+        @Override
+        public ConversationContext.SendRequestContext<T> name(String name) {
+            return this;
+        }
+
+        @Override
+        public ConversationContext.SendRequestContext<T> expectResponse(Class<T> clazz, Duration timeout) {
+            return this;
+        }
+
+        @Override
+        public ConversationContext.SendRequestContext<T> check(Predicate<T> checker) {
+            return ((response != null) && checker.test(response)) ? this : new SimulatedSendRequestContext<>(null);
+        }
+
+        @Override
+        public ConversationContext.ContextHandler handle(Consumer<T> packetConsumer) {
+            if (response != null) {
+                packetConsumer.accept(response);
+            }
+            return mock(ConversationContext.ContextHandler.class);
+        }
+
+        @Override
+        public CompletableFuture<T> toFuture() {
+            return (response != null) ? CompletableFuture.completedFuture(response) : new CompletableFuture<>();
+        }
+
+        @Override
+        public ConversationContext.SendRequestContext<T> onTimeout(Consumer<TimeoutException> packetConsumer) {
+            return this;
+        }
+
+        @Override
+        public <E extends Throwable> ConversationContext.SendRequestContext<T> onError(BiConsumer<T, E> packetConsumer) {
+            return this;
+        }
+
+        @Override
+        public <R> ConversationContext.SendRequestContext<R> unwrap(Function<T, R> unwrapper) {
+            return new SimulatedSendRequestContext<>((response != null) ? unwrapper.apply(response) : null);
+        }
+
+        @Override
+        public <R> ConversationContext.SendRequestContext<R> only(Class<R> clazz) {
+            return new SimulatedSendRequestContext<>(clazz.isInstance(response) ? (R) response : null);
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.ads.protocol;
+
+import org.apache.plc4x.java.ads.readwrite.*;
+import org.apache.plc4x.java.ads.tag.DirectAdsTag;
+import org.apache.plc4x.java.api.exceptions.PlcRuntimeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdsSymbolResolverTest {
+
+    // ADS type id of structs and function blocks.
+    private static final long BIGTYPE = 65;
+
+    private final Map<String, AdsSymbolTableEntry> symbolTable = new HashMap<>();
+    private final Map<String, AdsDataTypeTableEntry> dataTypeTable = new HashMap<>();
+    private AdsSymbolResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        addDataType("LREAL", AdsDataType.LREAL.getValue(), 8, "", Collections.emptyList(), Collections.emptyList());
+        addDataType("DINT", AdsDataType.DINT.getValue(), 4, "", Collections.emptyList(), Collections.emptyList());
+        addDataType("INT", AdsDataType.INT.getValue(), 2, "", Collections.emptyList(), Collections.emptyList());
+        addDataType("STRING(10)", AdsDataType.CHAR.getValue(), 11, "", Collections.emptyList(), Collections.emptyList());
+        addDataType("ST_Axis", BIGTYPE, 16, "", Collections.emptyList(),
+            Arrays.asList(child("pos", "LREAL", 8, 0), child("vel", "LREAL", 8, 8)));
+        addDataType("ST_Station", BIGTYPE, 40, "", Collections.emptyList(),
+            Arrays.asList(child("id", "DINT", 4, 0), child("name", "STRING(10)", 11, 4), child("axis", "ST_Axis", 16, 24)));
+        addDataType("ARRAY [1..5] OF ST_Station", BIGTYPE, 200, "ST_Station",
+            Collections.singletonList(new AdsDataTypeArrayInfo(1, 5)), Collections.emptyList());
+        addDataType("ARRAY [0..1,-1..1] OF INT", AdsDataType.INT.getValue(), 12, "INT",
+            Arrays.asList(new AdsDataTypeArrayInfo(0, 2), new AdsDataTypeArrayInfo(-1, 3)), Collections.emptyList());
+        addSymbol("MAIN.station", "ARRAY [1..5] OF ST_Station", 1000);
+        addSymbol("MAIN.matrix", "ARRAY [0..1,-1..1] OF INT", 2000);
+        resolver = new AdsSymbolResolver(symbolTable::get, name -> Optional.ofNullable(dataTypeTable.get(name)));
+    }
+
+    @Test
+    void resolvesStructMembersAndArrayElements() {
+        DirectAdsTag pos = resolver.resolve("MAIN.station[3].axis.pos");
+        assertEquals(0x4040, pos.getIndexGroup());
+        assertEquals(1000 + 2 * 40 + 24, pos.getIndexOffset());
+        assertEquals("LREAL", pos.getPlcDataType());
+        assertEquals(1, pos.getNumberOfElements());
+
+        assertEquals(1000 + 2 * 40 + 24 + 8, resolver.resolve("MAIN.station[3].axis.vel").getIndexOffset());
+        assertEquals(1000 + 4 * 40 + 4, resolver.resolve("MAIN.station[5].name").getIndexOffset());
+        assertEquals(2000 + (1 * 3 + 2) * 2, resolver.resolve("MAIN.matrix[1,1]").getIndexOffset());
+        assertEquals(2000, resolver.resolve("MAIN.matrix[0,-1]").getIndexOffset());
+
+        // Resolved addresses are cached.
+        assertSame(pos, resolver.resolve("MAIN.station[3].axis.pos"));
+    }
+
+    @Test
+    void limitsTheNumberOfCachedEntries() {
+        resolver = new AdsSymbolResolver(symbolTable::get, name -> Optional.ofNullable(dataTypeTable.get(name)), 4, 2);
+        for (int i = 1; i <= 5; i++) {
+            assertEquals(1000 + (i - 1) * 40 + 24 + 8, resolver.resolve("MAIN.station[" + i + "].axis.vel").getIndexOffset());
+        }
+        assertEquals(4, resolver.getNumberOfCachedNodes());
+        assertEquals(2, resolver.getNumberOfCachedTags());
+
+        // Addresses beyond the limits are resolved again every time.
+        DirectAdsTag vel = resolver.resolve("MAIN.station[5].axis.vel");
+        assertNotSame(vel, resolver.resolve("MAIN.station[5].axis.vel"));
+        assertSame(resolver.resolve("MAIN.station[1].axis.vel"), resolver.resolve("MAIN.station[1].axis.vel"));
+    }
+
+    @Test
+    void failsForAddressesNotMatchingTheDataType() {
+        assertNull(resolver.resolve("MAIN.unknown"));
+        assertThrows(PlcRuntimeException.class, () -> resolver.resolve("MAIN.station[6]"));
+        assertThrows(PlcRuntimeException.class, () -> resolver.resolve("MAIN.station[3].unknown"));
+        assertThrows(PlcRuntimeException.class, () -> resolver.resolve("MAIN.matrix[1]"));
+        assertThrows(PlcRuntimeException.class, () -> resolver.resolve("MAIN.station[3].id[0]"));
+    }
+
+    private void addDataType(String name, long dataType, long size, String simpleTypeName,
+                             List<AdsDataTypeArrayInfo> arrayInfo, List<AdsDataTypeTableChildEntry> children) {
+        dataTypeTable.put(name, new AdsDataTypeTableEntry(128, 1, 0, 0, size, 0, dataType, 0,
+            arrayInfo.size(), children.size(), name, simpleTypeName, "", arrayInfo, children, new byte[0]));
+    }
+
+    private static AdsDataTypeTableChildEntry child(String name, String dataTypeName, long size, long offset) {
+        return new AdsDataTypeTableChildEntry(128, 1, 0, 0, size, offset, 0, 0, 0, 0,
+            name, dataTypeName, "", Collections.emptyList(), Collections.emptyList(), new byte[0]);
+    }
+
+    private void addSymbol(String name, String dataTypeName, long offset) {
+        symbolTable.put(name, new AdsSymbolTableEntry(128, 0x4040, offset, dataTypeTable.get(dataTypeName).getSize(), 0,
+            false, false, false, false, false, false, false, false, false, false, false, false, false,
+            name, dataTypeName, "", new byte[0]));
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.ads.protocol;
+
+import org.apache.plc4x.java.ads.readwrite.AdsTableSizes;
+import org.apache.plc4x.java.ads.readwrite.AmsNetId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdsSymbolTableCacheTest {
+
+    private static final AmsNetId AMS_NET_ID = new AmsNetId((short) 192, (short) 168, (short) 23, (short) 20, (short) 1, (short) 1);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void storedTablesAreOnlyLoadedForTheSameVersion() {
+        AdsSymbolTableCache cache = new AdsSymbolTableCache(directory);
+        byte[] dataTypeTable = {1, 2, 3, 4, 5};
+        byte[] symbolTable = {6, 7, 8};
+        AdsTableSizes tableSizes = new AdsTableSizes(2, symbolTable.length, 1, dataTypeTable.length, 0, 0);
+        cache.store(AMS_NET_ID, 851, 4, 17, tableSizes, dataTypeTable, symbolTable);
+
+        Optional<AdsSymbolTableCache.Tables> tables = cache.load(AMS_NET_ID, 851, 4, 17, tableSizes);
+        assertTrue(tables.isPresent());
+        assertArrayEquals(dataTypeTable, toArray(tables.get().getDataTypeTable()));
+        assertArrayEquals(symbolTable, toArray(tables.get().getSymbolTable()));
+
+        // Any change of the PLC program makes the cached tables unusable.
+        assertFalse(cache.load(AMS_NET_ID, 851, 5, 17, tableSizes).isPresent());
+        assertFalse(cache.load(AMS_NET_ID, 851, 4, 18, tableSizes).isPresent());
+        assertFalse(cache.load(AMS_NET_ID, 851, 4, 17,
+            new AdsTableSizes(3, symbolTable.length, 1, dataTypeTable.length, 0, 0)).isPresent());
+        assertFalse(cache.load(AMS_NET_ID, 852, 4, 17, tableSizes).isPresent());
+
+        // Storing a new version replaces the old one.
+        cache.store(AMS_NET_ID, 851, 4, 18, tableSizes, dataTypeTable, symbolTable);
+        assertFalse(cache.load(AMS_NET_ID, 851, 4, 17, tableSizes).isPresent());
+        assertTrue(cache.load(AMS_NET_ID, 851, 4, 18, tableSizes).isPresent());
+    }
+
+    @Test
+    void invalidateDeletesTheCachedTables() {
+        AdsSymbolTableCache cache = new AdsSymbolTableCache(directory);
+        AdsTableSizes tableSizes = new AdsTableSizes(1, 1, 1, 1, 0, 0);
+        cache.store(AMS_NET_ID, 851, 1, 1, tableSizes, new byte[]{1}, new byte[]{2});
+        assertTrue(Files.exists(cache.getFile(AMS_NET_ID, 851)));
+
+        cache.invalidate(AMS_NET_ID, 851);
+        assertFalse(Files.exists(cache.getFile(AMS_NET_ID, 851)));
+        assertFalse(cache.load(AMS_NET_ID, 851, 1, 1, tableSizes).isPresent());
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+}
@@ -19,6 +19,7 @@
 
 package org.apache.plc4x.java.ads.tag;
 
+import org.apache.plc4x.java.api.exceptions.PlcInvalidTagException;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,8 +28,11 @@ class SymbolicAdsTagTest {
 
     @Test
     void of() {
-
-
+        assertEquals("MAIN.station", SymbolicAdsTag.of("MAIN.station").getSymbolicAddress());
+        assertEquals("MAIN.station[3].axis.pos", SymbolicAdsTag.of("MAIN.station[3].axis.pos").getSymbolicAddress());
+        assertEquals("MAIN.matrix[1,-2][0]", SymbolicAdsTag.of("MAIN.matrix[1,-2][0]").getSymbolicAddress());
+        assertThrows(PlcInvalidTagException.class, () -> SymbolicAdsTag.of("MAIN.station[]"));
+        assertThrows(PlcInvalidTagException.class, () -> SymbolicAdsTag.of("MAIN.station[3"));
     }
 
 }
\ No newline at end of file
@@ -79,7 +79,7 @@ public class APDUAbort extends APDU implements Message {
   @Override
   protected void serializeAPDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("APDUAbort");
 
     // Reserved Field (reserved)
@@ -106,10 +106,9 @@ public class APDUAbort extends APDU implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     APDUAbort _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 3;
@@ -130,7 +129,7 @@ public class APDUAbort extends APDU implements Message {
       throws ParseException {
     readBuffer.pullContext("APDUAbort");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Byte reservedField0 =
         readReservedField("reserved", readUnsignedByte(readBuffer, 3), (byte) 0x00);
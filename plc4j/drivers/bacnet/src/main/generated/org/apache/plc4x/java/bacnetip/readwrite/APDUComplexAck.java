@@ -125,7 +125,7 @@ public class APDUComplexAck extends APDU implements Message {
   @Override
   protected void serializeAPDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("APDUComplexAck");
 
     // Simple Field (segmentedMessage)
@@ -192,10 +192,9 @@ public class APDUComplexAck extends APDU implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     APDUComplexAck _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (segmentedMessage)
     lengthInBits += 1;
@@ -245,7 +244,7 @@ public class APDUComplexAck extends APDU implements Message {
       throws ParseException {
     readBuffer.pullContext("APDUComplexAck");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean segmentedMessage = readSimpleField("segmentedMessage", readBoolean(readBuffer));
 
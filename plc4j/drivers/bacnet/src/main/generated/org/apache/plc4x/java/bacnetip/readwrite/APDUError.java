@@ -79,7 +79,7 @@ public class APDUError extends APDU implements Message {
   @Override
   protected void serializeAPDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("APDUError");
 
     // Reserved Field (reserved)
@@ -113,10 +113,9 @@ public class APDUError extends APDU implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     APDUError _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 4;
@@ -137,7 +136,7 @@ public class APDUError extends APDU implements Message {
       throws ParseException {
     readBuffer.pullContext("APDUError");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Byte reservedField0 =
         readReservedField("reserved", readUnsignedByte(readBuffer, 4), (byte) 0x00);
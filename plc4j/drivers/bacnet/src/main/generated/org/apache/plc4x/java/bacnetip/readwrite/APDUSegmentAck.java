@@ -93,7 +93,7 @@ public class APDUSegmentAck extends APDU implements Message {
   @Override
   protected void serializeAPDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("APDUSegmentAck");
 
     // Reserved Field (reserved)
@@ -126,37 +126,16 @@ public class APDUSegmentAck extends APDU implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    APDUSegmentAck _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Reserved Field (reserved)
-    lengthInBits += 2;
-
-    // Simple field (negativeAck)
-    lengthInBits += 1;
-
-    // Simple field (server)
-    lengthInBits += 1;
-
-    // Simple field (originalInvokeId)
-    lengthInBits += 8;
-
-    // Simple field (sequenceNumber)
-    lengthInBits += 8;
-
-    // Simple field (actualWindowSize)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 28;
   }
 
   public static APDUBuilder staticParseAPDUBuilder(ReadBuffer readBuffer, Integer apduLength)
       throws ParseException {
     readBuffer.pullContext("APDUSegmentAck");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Byte reservedField0 =
         readReservedField("reserved", readUnsignedByte(readBuffer, 2), (byte) 0x00);
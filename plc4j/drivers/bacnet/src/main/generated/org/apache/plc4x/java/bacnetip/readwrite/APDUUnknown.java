@@ -67,7 +67,7 @@ public class APDUUnknown extends APDU implements Message {
   @Override
   protected void serializeAPDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("APDUUnknown");
 
     // Simple Field (unknownTypeRest)
@@ -85,10 +85,9 @@ public class APDUUnknown extends APDU implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     APDUUnknown _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (unknownTypeRest)
     lengthInBits += 4;
@@ -105,7 +104,7 @@ public class APDUUnknown extends APDU implements Message {
       throws ParseException {
     readBuffer.pullContext("APDUUnknown");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte unknownTypeRest = readSimpleField("unknownTypeRest", readUnsignedByte(readBuffer, 4));
 
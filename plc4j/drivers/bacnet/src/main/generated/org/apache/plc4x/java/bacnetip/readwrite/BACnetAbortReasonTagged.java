@@ -66,7 +66,7 @@ public class BACnetAbortReasonTagged implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetAbortReasonTagged");
 
     // Manual Field (value)
@@ -97,11 +97,22 @@ public class BACnetAbortReasonTagged implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     BACnetAbortReasonTagged _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Manual Field (value)
     lengthInBits += ((_value.getIsProprietary()) ? 0 : ((actualLength) * (8)));
@@ -118,7 +129,7 @@ public class BACnetAbortReasonTagged implements Message {
       throws ParseException {
     readBuffer.pullContext("BACnetAbortReasonTagged");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetAbortReason value =
         readManualField(
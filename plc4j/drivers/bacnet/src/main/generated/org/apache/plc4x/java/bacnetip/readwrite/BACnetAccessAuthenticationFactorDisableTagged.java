@@ -79,7 +79,7 @@ public class BACnetAccessAuthenticationFactorDisableTagged implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetAccessAuthenticationFactorDisableTagged");
 
     // Simple Field (header)
@@ -113,11 +113,22 @@ public class BACnetAccessAuthenticationFactorDisableTagged implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     BACnetAccessAuthenticationFactorDisableTagged _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (header)
     lengthInBits += header.getLengthInBits();
@@ -137,7 +148,7 @@ public class BACnetAccessAuthenticationFactorDisableTagged implements Message {
       ReadBuffer readBuffer, Short tagNumber, TagClass tagClass) throws ParseException {
     readBuffer.pullContext("BACnetAccessAuthenticationFactorDisableTagged");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetTagHeader header =
         readSimpleField(
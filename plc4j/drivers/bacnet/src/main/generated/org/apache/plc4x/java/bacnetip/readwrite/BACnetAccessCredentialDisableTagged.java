@@ -78,7 +78,7 @@ public class BACnetAccessCredentialDisableTagged implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetAccessCredentialDisableTagged");
 
     // Simple Field (header)
@@ -112,11 +112,22 @@ public class BACnetAccessCredentialDisableTagged implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     BACnetAccessCredentialDisableTagged _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (header)
     lengthInBits += header.getLengthInBits();
@@ -136,7 +147,7 @@ public class BACnetAccessCredentialDisableTagged implements Message {
       ReadBuffer readBuffer, Short tagNumber, TagClass tagClass) throws ParseException {
     readBuffer.pullContext("BACnetAccessCredentialDisableTagged");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetTagHeader header =
         readSimpleField(
@@ -51,7 +51,7 @@ public class BACnetAccessThreatLevel implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetAccessThreatLevel");
 
     // Simple Field (threatLevel)
@@ -65,11 +65,22 @@ public class BACnetAccessThreatLevel implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     BACnetAccessThreatLevel _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (threatLevel)
     lengthInBits += threatLevel.getLengthInBits();
@@ -80,7 +91,7 @@ public class BACnetAccessThreatLevel implements Message {
   public static BACnetAccessThreatLevel staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetAccessThreatLevel");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger threatLevel =
         readSimpleField(
@@ -108,7 +108,7 @@ public class BACnetActionCommand implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetActionCommand");
 
     // Optional Field (deviceIdentifier) (Can be skipped, if the value is null)
@@ -146,11 +146,22 @@ public class BACnetActionCommand implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     BACnetActionCommand _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Optional Field (deviceIdentifier)
     if (deviceIdentifier != null) {
@@ -195,7 +206,7 @@ public class BACnetActionCommand implements Message {
   public static BACnetActionCommand staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetActionCommand");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagObjectIdentifier deviceIdentifier =
         readOptionalField(
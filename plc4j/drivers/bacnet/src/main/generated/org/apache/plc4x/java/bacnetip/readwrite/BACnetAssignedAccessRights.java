@@ -58,7 +58,7 @@ public class BACnetAssignedAccessRights implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetAssignedAccessRights");
 
     // Simple Field (assignedAccessRights)
@@ -75,11 +75,22 @@ public class BACnetAssignedAccessRights implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     BACnetAssignedAccessRights _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (assignedAccessRights)
     lengthInBits += assignedAccessRights.getLengthInBits();
@@ -94,7 +105,7 @@ public class BACnetAssignedAccessRights implements Message {
       throws ParseException {
     readBuffer.pullContext("BACnetAssignedAccessRights");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDeviceObjectReferenceEnclosed assignedAccessRights =
         readSimpleField(
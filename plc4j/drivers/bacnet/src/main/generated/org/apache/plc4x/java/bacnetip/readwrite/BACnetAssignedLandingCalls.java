@@ -51,7 +51,7 @@ public class BACnetAssignedLandingCalls implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetAssignedLandingCalls");
 
     // Simple Field (landingCalls)
@@ -65,11 +65,22 @@ public class BACnetAssignedLandingCalls implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     BACnetAssignedLandingCalls _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (landingCalls)
     lengthInBits += landingCalls.getLengthInBits();
@@ -81,7 +92,7 @@ public class BACnetAssignedLandingCalls implements Message {
       throws ParseException {
     readBuffer.pullContext("BACnetAssignedLandingCalls");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetAssignedLandingCallsLandingCallsList landingCalls =
         readSimpleField(
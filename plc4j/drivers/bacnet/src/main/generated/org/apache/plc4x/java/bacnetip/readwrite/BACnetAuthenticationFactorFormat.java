@@ -66,7 +66,7 @@ public class BACnetAuthenticationFactorFormat implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetAuthenticationFactorFormat");
 
     // Simple Field (formatType)
@@ -86,11 +86,22 @@ public class BACnetAuthenticationFactorFormat implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     BACnetAuthenticationFactorFormat _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (formatType)
     lengthInBits += formatType.getLengthInBits();
@@ -112,7 +123,7 @@ public class BACnetAuthenticationFactorFormat implements Message {
       throws ParseException {
     readBuffer.pullContext("BACnetAuthenticationFactorFormat");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetAuthenticationFactorTypeTagged formatType =
         readSimpleField(
@@ -59,7 +59,7 @@ public class BACnetAuthenticationPolicyListEntry implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetAuthenticationPolicyListEntry");
 
     // Simple Field (credentialDataInput)
@@ -76,11 +76,22 @@ public class BACnetAuthenticationPolicyListEntry implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     BACnetAuthenticationPolicyListEntry _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (credentialDataInput)
     lengthInBits += credentialDataInput.getLengthInBits();
@@ -95,7 +106,7 @@ public class BACnetAuthenticationPolicyListEntry implements Message {
       throws ParseException {
     readBuffer.pullContext("BACnetAuthenticationPolicyListEntry");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDeviceObjectReferenceEnclosed credentialDataInput =
         readSimpleField(
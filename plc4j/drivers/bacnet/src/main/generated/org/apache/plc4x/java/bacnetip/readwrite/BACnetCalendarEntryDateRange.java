@@ -56,7 +56,7 @@ public class BACnetCalendarEntryDateRange extends BACnetCalendarEntry implements
   protected void serializeBACnetCalendarEntryChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetCalendarEntryDateRange");
 
     // Simple Field (dateRange)
@@ -71,10 +71,9 @@ public class BACnetCalendarEntryDateRange extends BACnetCalendarEntry implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetCalendarEntryDateRange _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dateRange)
     lengthInBits += dateRange.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetCalendarEntryDateRange extends BACnetCalendarEntry implements
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetCalendarEntryDateRange");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDateRangeEnclosed dateRange =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetCalendarEntryWeekNDay extends BACnetCalendarEntry implements
   protected void serializeBACnetCalendarEntryChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetCalendarEntryWeekNDay");
 
     // Simple Field (weekNDay)
@@ -71,10 +71,9 @@ public class BACnetCalendarEntryWeekNDay extends BACnetCalendarEntry implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetCalendarEntryWeekNDay _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (weekNDay)
     lengthInBits += weekNDay.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetCalendarEntryWeekNDay extends BACnetCalendarEntry implements
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetCalendarEntryWeekNDay");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetWeekNDayTagged weekNDay =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetChannelValueBitString extends BACnetChannelValue implements M
   protected void serializeBACnetChannelValueChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetChannelValueBitString");
 
     // Simple Field (bitStringValue)
@@ -71,10 +71,9 @@ public class BACnetChannelValueBitString extends BACnetChannelValue implements M
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetChannelValueBitString _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bitStringValue)
     lengthInBits += bitStringValue.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetChannelValueBitString extends BACnetChannelValue implements M
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetChannelValueBitString");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBitString bitStringValue =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetChannelValueBoolean extends BACnetChannelValue implements Mes
   protected void serializeBACnetChannelValueChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetChannelValueBoolean");
 
     // Simple Field (booleanValue)
@@ -71,10 +71,9 @@ public class BACnetChannelValueBoolean extends BACnetChannelValue implements Mes
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetChannelValueBoolean _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (booleanValue)
     lengthInBits += booleanValue.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetChannelValueBoolean extends BACnetChannelValue implements Mes
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetChannelValueBoolean");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean booleanValue =
         readSimpleField(
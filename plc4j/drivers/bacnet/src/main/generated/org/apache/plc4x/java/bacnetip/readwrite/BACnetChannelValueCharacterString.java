@@ -56,7 +56,7 @@ public class BACnetChannelValueCharacterString extends BACnetChannelValue implem
   protected void serializeBACnetChannelValueChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetChannelValueCharacterString");
 
     // Simple Field (characterStringValue)
@@ -71,10 +71,9 @@ public class BACnetChannelValueCharacterString extends BACnetChannelValue implem
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetChannelValueCharacterString _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (characterStringValue)
     lengthInBits += characterStringValue.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetChannelValueCharacterString extends BACnetChannelValue implem
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetChannelValueCharacterString");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagCharacterString characterStringValue =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetChannelValueDate extends BACnetChannelValue implements Messag
   protected void serializeBACnetChannelValueChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetChannelValueDate");
 
     // Simple Field (dateValue)
@@ -71,10 +71,9 @@ public class BACnetChannelValueDate extends BACnetChannelValue implements Messag
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetChannelValueDate _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dateValue)
     lengthInBits += dateValue.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetChannelValueDate extends BACnetChannelValue implements Messag
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetChannelValueDate");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagDate dateValue =
         readSimpleField(
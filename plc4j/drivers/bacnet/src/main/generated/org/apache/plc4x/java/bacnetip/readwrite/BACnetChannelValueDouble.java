@@ -56,7 +56,7 @@ public class BACnetChannelValueDouble extends BACnetChannelValue implements Mess
   protected void serializeBACnetChannelValueChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetChannelValueDouble");
 
     // Simple Field (doubleValue)
@@ -71,10 +71,9 @@ public class BACnetChannelValueDouble extends BACnetChannelValue implements Mess
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetChannelValueDouble _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (doubleValue)
     lengthInBits += doubleValue.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetChannelValueDouble extends BACnetChannelValue implements Mess
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetChannelValueDouble");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagDouble doubleValue =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetChannelValueEnumerated extends BACnetChannelValue implements
   protected void serializeBACnetChannelValueChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetChannelValueEnumerated");
 
     // Simple Field (enumeratedValue)
@@ -71,10 +71,9 @@ public class BACnetChannelValueEnumerated extends BACnetChannelValue implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetChannelValueEnumerated _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (enumeratedValue)
     lengthInBits += enumeratedValue.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetChannelValueEnumerated extends BACnetChannelValue implements
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetChannelValueEnumerated");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagEnumerated enumeratedValue =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetChannelValueInteger extends BACnetChannelValue implements Mes
   protected void serializeBACnetChannelValueChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetChannelValueInteger");
 
     // Simple Field (integerValue)
@@ -71,10 +71,9 @@ public class BACnetChannelValueInteger extends BACnetChannelValue implements Mes
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetChannelValueInteger _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (integerValue)
     lengthInBits += integerValue.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetChannelValueInteger extends BACnetChannelValue implements Mes
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetChannelValueInteger");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagSignedInteger integerValue =
         readSimpleField(
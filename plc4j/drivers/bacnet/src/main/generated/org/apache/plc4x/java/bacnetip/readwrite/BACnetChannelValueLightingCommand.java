@@ -56,7 +56,7 @@ public class BACnetChannelValueLightingCommand extends BACnetChannelValue implem
   protected void serializeBACnetChannelValueChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetChannelValueLightingCommand");
 
     // Simple Field (ligthingCommandValue)
@@ -71,10 +71,9 @@ public class BACnetChannelValueLightingCommand extends BACnetChannelValue implem
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetChannelValueLightingCommand _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (ligthingCommandValue)
     lengthInBits += ligthingCommandValue.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetChannelValueLightingCommand extends BACnetChannelValue implem
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetChannelValueLightingCommand");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetLightingCommandEnclosed ligthingCommandValue =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetChannelValueObjectidentifier extends BACnetChannelValue imple
   protected void serializeBACnetChannelValueChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetChannelValueObjectidentifier");
 
     // Simple Field (objectidentifierValue)
@@ -71,10 +71,9 @@ public class BACnetChannelValueObjectidentifier extends BACnetChannelValue imple
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetChannelValueObjectidentifier _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectidentifierValue)
     lengthInBits += objectidentifierValue.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetChannelValueObjectidentifier extends BACnetChannelValue imple
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetChannelValueObjectidentifier");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagObjectIdentifier objectidentifierValue =
         readSimpleField(
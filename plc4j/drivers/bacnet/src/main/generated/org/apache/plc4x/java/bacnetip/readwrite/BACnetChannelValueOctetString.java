@@ -56,7 +56,7 @@ public class BACnetChannelValueOctetString extends BACnetChannelValue implements
   protected void serializeBACnetChannelValueChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetChannelValueOctetString");
 
     // Simple Field (octetStringValue)
@@ -71,10 +71,9 @@ public class BACnetChannelValueOctetString extends BACnetChannelValue implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetChannelValueOctetString _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (octetStringValue)
     lengthInBits += octetStringValue.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetChannelValueOctetString extends BACnetChannelValue implements
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetChannelValueOctetString");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagOctetString octetStringValue =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetChannelValueUnsigned extends BACnetChannelValue implements Me
   protected void serializeBACnetChannelValueChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetChannelValueUnsigned");
 
     // Simple Field (unsignedValue)
@@ -71,10 +71,9 @@ public class BACnetChannelValueUnsigned extends BACnetChannelValue implements Me
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetChannelValueUnsigned _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (unsignedValue)
     lengthInBits += unsignedValue.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetChannelValueUnsigned extends BACnetChannelValue implements Me
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetChannelValueUnsigned");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger unsignedValue =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetClientCOVNone extends BACnetClientCOV implements Message {
   protected void serializeBACnetClientCOVChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetClientCOVNone");
 
     // Simple Field (defaultIncrement)
@@ -71,10 +71,9 @@ public class BACnetClientCOVNone extends BACnetClientCOV implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetClientCOVNone _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (defaultIncrement)
     lengthInBits += defaultIncrement.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetClientCOVNone extends BACnetClientCOV implements Message {
       throws ParseException {
     readBuffer.pullContext("BACnetClientCOVNone");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagNull defaultIncrement =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetClientCOVObject extends BACnetClientCOV implements Message {
   protected void serializeBACnetClientCOVChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetClientCOVObject");
 
     // Simple Field (realIncrement)
@@ -71,10 +71,9 @@ public class BACnetClientCOVObject extends BACnetClientCOV implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetClientCOVObject _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (realIncrement)
     lengthInBits += realIncrement.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetClientCOVObject extends BACnetClientCOV implements Message {
       throws ParseException {
     readBuffer.pullContext("BACnetClientCOVObject");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagReal realIncrement =
         readSimpleField(
@@ -100,7 +100,7 @@ public class BACnetConfirmedServiceRequestAcknowledgeAlarm extends BACnetConfirm
   protected void serializeBACnetConfirmedServiceRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConfirmedServiceRequestAcknowledgeAlarm");
 
     // Simple Field (acknowledgingProcessIdentifier)
@@ -133,10 +133,9 @@ public class BACnetConfirmedServiceRequestAcknowledgeAlarm extends BACnetConfirm
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConfirmedServiceRequestAcknowledgeAlarm _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (acknowledgingProcessIdentifier)
     lengthInBits += acknowledgingProcessIdentifier.getLengthInBits();
@@ -164,7 +163,7 @@ public class BACnetConfirmedServiceRequestAcknowledgeAlarm extends BACnetConfirm
           ReadBuffer readBuffer, Long serviceRequestLength) throws ParseException {
     readBuffer.pullContext("BACnetConfirmedServiceRequestAcknowledgeAlarm");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagUnsignedInteger acknowledgingProcessIdentifier =
         readSimpleField(
@@ -86,7 +86,7 @@ public class BACnetConfirmedServiceRequestAddListElement extends BACnetConfirmed
   protected void serializeBACnetConfirmedServiceRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConfirmedServiceRequestAddListElement");
 
     // Simple Field (objectIdentifier)
@@ -110,10 +110,9 @@ public class BACnetConfirmedServiceRequestAddListElement extends BACnetConfirmed
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConfirmedServiceRequestAddListElement _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectIdentifier)
     lengthInBits += objectIdentifier.getLengthInBits();
@@ -139,7 +138,7 @@ public class BACnetConfirmedServiceRequestAddListElement extends BACnetConfirmed
           ReadBuffer readBuffer, Long serviceRequestLength) throws ParseException {
     readBuffer.pullContext("BACnetConfirmedServiceRequestAddListElement");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagObjectIdentifier objectIdentifier =
         readSimpleField(
@@ -72,7 +72,7 @@ public class BACnetConfirmedServiceRequestAtomicReadFile extends BACnetConfirmed
   protected void serializeBACnetConfirmedServiceRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConfirmedServiceRequestAtomicReadFile");
 
     // Simple Field (fileIdentifier)
@@ -90,10 +90,9 @@ public class BACnetConfirmedServiceRequestAtomicReadFile extends BACnetConfirmed
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConfirmedServiceRequestAtomicReadFile _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (fileIdentifier)
     lengthInBits += fileIdentifier.getLengthInBits();
@@ -109,7 +108,7 @@ public class BACnetConfirmedServiceRequestAtomicReadFile extends BACnetConfirmed
           ReadBuffer readBuffer, Long serviceRequestLength) throws ParseException {
     readBuffer.pullContext("BACnetConfirmedServiceRequestAtomicReadFile");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagObjectIdentifier fileIdentifier =
         readSimpleField(
@@ -67,7 +67,7 @@ public class BACnetConfirmedServiceRequestAtomicReadFileRecord
   protected void serializeBACnetConfirmedServiceRequestAtomicReadFileStreamOrRecordChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConfirmedServiceRequestAtomicReadFileRecord");
 
     // Simple Field (fileStartRecord)
@@ -85,10 +85,9 @@ public class BACnetConfirmedServiceRequestAtomicReadFileRecord
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConfirmedServiceRequestAtomicReadFileRecord _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (fileStartRecord)
     lengthInBits += fileStartRecord.getLengthInBits();
@@ -104,7 +103,7 @@ public class BACnetConfirmedServiceRequestAtomicReadFileRecord
           ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetConfirmedServiceRequestAtomicReadFileRecord");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagSignedInteger fileStartRecord =
         readSimpleField(
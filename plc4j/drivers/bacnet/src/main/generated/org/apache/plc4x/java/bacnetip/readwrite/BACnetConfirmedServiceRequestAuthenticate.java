@@ -66,7 +66,7 @@ public class BACnetConfirmedServiceRequestAuthenticate extends BACnetConfirmedSe
   protected void serializeBACnetConfirmedServiceRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConfirmedServiceRequestAuthenticate");
 
     // Array Field (bytesOfRemovedService)
@@ -82,10 +82,9 @@ public class BACnetConfirmedServiceRequestAuthenticate extends BACnetConfirmedSe
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConfirmedServiceRequestAuthenticate _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (bytesOfRemovedService != null) {
@@ -101,7 +100,7 @@ public class BACnetConfirmedServiceRequestAuthenticate extends BACnetConfirmedSe
           throws ParseException {
     readBuffer.pullContext("BACnetConfirmedServiceRequestAuthenticate");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte[] bytesOfRemovedService =
         readBuffer.readByteArray(
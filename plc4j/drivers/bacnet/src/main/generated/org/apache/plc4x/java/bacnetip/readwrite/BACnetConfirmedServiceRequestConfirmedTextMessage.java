@@ -88,7 +88,7 @@ public class BACnetConfirmedServiceRequestConfirmedTextMessage extends BACnetCon
   protected void serializeBACnetConfirmedServiceRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConfirmedServiceRequestConfirmedTextMessage");
 
     // Simple Field (textMessageSourceDevice)
@@ -112,10 +112,9 @@ public class BACnetConfirmedServiceRequestConfirmedTextMessage extends BACnetCon
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConfirmedServiceRequestConfirmedTextMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (textMessageSourceDevice)
     lengthInBits += textMessageSourceDevice.getLengthInBits();
@@ -139,7 +138,7 @@ public class BACnetConfirmedServiceRequestConfirmedTextMessage extends BACnetCon
           ReadBuffer readBuffer, Long serviceRequestLength) throws ParseException {
     readBuffer.pullContext("BACnetConfirmedServiceRequestConfirmedTextMessage");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagObjectIdentifier textMessageSourceDevice =
         readSimpleField(
@@ -65,7 +65,7 @@ public class BACnetConfirmedServiceRequestConfirmedTextMessageMessageClassCharac
   protected void serializeBACnetConfirmedServiceRequestConfirmedTextMessageMessageClassChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext(
         "BACnetConfirmedServiceRequestConfirmedTextMessageMessageClassCharacter");
 
@@ -82,10 +82,9 @@ public class BACnetConfirmedServiceRequestConfirmedTextMessageMessageClassCharac
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConfirmedServiceRequestConfirmedTextMessageMessageClassCharacter _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (characterValue)
     lengthInBits += characterValue.getLengthInBits();
@@ -99,7 +98,7 @@ public class BACnetConfirmedServiceRequestConfirmedTextMessageMessageClassCharac
     readBuffer.pullContext(
         "BACnetConfirmedServiceRequestConfirmedTextMessageMessageClassCharacter");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagCharacterString characterValue =
         readSimpleField(
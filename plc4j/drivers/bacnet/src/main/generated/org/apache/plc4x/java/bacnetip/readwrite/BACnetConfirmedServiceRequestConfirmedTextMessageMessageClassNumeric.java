@@ -65,7 +65,7 @@ public class BACnetConfirmedServiceRequestConfirmedTextMessageMessageClassNumeri
   protected void serializeBACnetConfirmedServiceRequestConfirmedTextMessageMessageClassChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConfirmedServiceRequestConfirmedTextMessageMessageClassNumeric");
 
     // Simple Field (numericValue)
@@ -80,10 +80,9 @@ public class BACnetConfirmedServiceRequestConfirmedTextMessageMessageClassNumeri
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConfirmedServiceRequestConfirmedTextMessageMessageClassNumeric _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (numericValue)
     lengthInBits += numericValue.getLengthInBits();
@@ -96,7 +95,7 @@ public class BACnetConfirmedServiceRequestConfirmedTextMessageMessageClassNumeri
           ReadBuffer readBuffer, Short tagNumber) throws ParseException {
     readBuffer.pullContext("BACnetConfirmedServiceRequestConfirmedTextMessageMessageClassNumeric");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagUnsignedInteger numericValue =
         readSimpleField(
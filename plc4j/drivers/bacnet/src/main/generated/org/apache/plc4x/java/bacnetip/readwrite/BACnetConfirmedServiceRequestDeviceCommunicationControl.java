@@ -81,7 +81,7 @@ public class BACnetConfirmedServiceRequestDeviceCommunicationControl
   protected void serializeBACnetConfirmedServiceRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConfirmedServiceRequestDeviceCommunicationControl");
 
     // Optional Field (timeDuration) (Can be skipped, if the value is null)
@@ -102,10 +102,9 @@ public class BACnetConfirmedServiceRequestDeviceCommunicationControl
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConfirmedServiceRequestDeviceCommunicationControl _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Optional Field (timeDuration)
     if (timeDuration != null) {
@@ -128,7 +127,7 @@ public class BACnetConfirmedServiceRequestDeviceCommunicationControl
           ReadBuffer readBuffer, Long serviceRequestLength) throws ParseException {
     readBuffer.pullContext("BACnetConfirmedServiceRequestDeviceCommunicationControl");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagUnsignedInteger timeDuration =
         readOptionalField(
@@ -105,7 +105,7 @@ public class BACnetConfirmedServiceRequestGetEnrollmentSummary extends BACnetCon
   protected void serializeBACnetConfirmedServiceRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConfirmedServiceRequestGetEnrollmentSummary");
 
     // Simple Field (acknowledgmentFilter)
@@ -136,10 +136,9 @@ public class BACnetConfirmedServiceRequestGetEnrollmentSummary extends BACnetCon
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConfirmedServiceRequestGetEnrollmentSummary _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (acknowledgmentFilter)
     lengthInBits += acknowledgmentFilter.getLengthInBits();
@@ -177,7 +176,7 @@ public class BACnetConfirmedServiceRequestGetEnrollmentSummary extends BACnetCon
           ReadBuffer readBuffer, Long serviceRequestLength) throws ParseException {
     readBuffer.pullContext("BACnetConfirmedServiceRequestGetEnrollmentSummary");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetConfirmedServiceRequestGetEnrollmentSummaryAcknowledgementFilterTagged
         acknowledgmentFilter =
@@ -68,7 +68,7 @@ public class BACnetConfirmedServiceRequestGetEnrollmentSummaryEventStateFilterTa
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext(
         "BACnetConfirmedServiceRequestGetEnrollmentSummaryEventStateFilterTagged");
 
@@ -92,11 +92,22 @@ public class BACnetConfirmedServiceRequestGetEnrollmentSummaryEventStateFilterTa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     BACnetConfirmedServiceRequestGetEnrollmentSummaryEventStateFilterTagged _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (header)
     lengthInBits += header.getLengthInBits();
@@ -112,7 +123,7 @@ public class BACnetConfirmedServiceRequestGetEnrollmentSummaryEventStateFilterTa
     readBuffer.pullContext(
         "BACnetConfirmedServiceRequestGetEnrollmentSummaryEventStateFilterTagged");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetTagHeader header =
         readSimpleField(
@@ -64,7 +64,7 @@ public class BACnetConfirmedServiceRequestGetEventInformation extends BACnetConf
   protected void serializeBACnetConfirmedServiceRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConfirmedServiceRequestGetEventInformation");
 
     // Optional Field (lastReceivedObjectIdentifier) (Can be skipped, if the value is null)
@@ -80,10 +80,9 @@ public class BACnetConfirmedServiceRequestGetEventInformation extends BACnetConf
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConfirmedServiceRequestGetEventInformation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Optional Field (lastReceivedObjectIdentifier)
     if (lastReceivedObjectIdentifier != null) {
@@ -98,7 +97,7 @@ public class BACnetConfirmedServiceRequestGetEventInformation extends BACnetConf
           ReadBuffer readBuffer, Long serviceRequestLength) throws ParseException {
     readBuffer.pullContext("BACnetConfirmedServiceRequestGetEventInformation");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagObjectIdentifier lastReceivedObjectIdentifier =
         readOptionalField(
@@ -86,7 +86,7 @@ public class BACnetConfirmedServiceRequestLifeSafetyOperation extends BACnetConf
   protected void serializeBACnetConfirmedServiceRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConfirmedServiceRequestLifeSafetyOperation");
 
     // Simple Field (requestingProcessIdentifier)
@@ -111,10 +111,9 @@ public class BACnetConfirmedServiceRequestLifeSafetyOperation extends BACnetConf
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConfirmedServiceRequestLifeSafetyOperation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestingProcessIdentifier)
     lengthInBits += requestingProcessIdentifier.getLengthInBits();
@@ -138,7 +137,7 @@ public class BACnetConfirmedServiceRequestLifeSafetyOperation extends BACnetConf
           ReadBuffer readBuffer, Long serviceRequestLength) throws ParseException {
     readBuffer.pullContext("BACnetConfirmedServiceRequestLifeSafetyOperation");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagUnsignedInteger requestingProcessIdentifier =
         readSimpleField(
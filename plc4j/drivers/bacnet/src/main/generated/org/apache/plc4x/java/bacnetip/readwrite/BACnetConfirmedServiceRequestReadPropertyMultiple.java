@@ -68,7 +68,7 @@ public class BACnetConfirmedServiceRequestReadPropertyMultiple extends BACnetCon
   protected void serializeBACnetConfirmedServiceRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConfirmedServiceRequestReadPropertyMultiple");
 
     // Array Field (data)
@@ -83,10 +83,9 @@ public class BACnetConfirmedServiceRequestReadPropertyMultiple extends BACnetCon
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConfirmedServiceRequestReadPropertyMultiple _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (data != null) {
@@ -104,7 +103,7 @@ public class BACnetConfirmedServiceRequestReadPropertyMultiple extends BACnetCon
           throws ParseException {
     readBuffer.pullContext("BACnetConfirmedServiceRequestReadPropertyMultiple");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetReadAccessSpecification> data =
         readLengthArrayField(
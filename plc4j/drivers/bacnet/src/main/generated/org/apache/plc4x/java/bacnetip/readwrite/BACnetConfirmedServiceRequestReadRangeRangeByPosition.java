@@ -67,7 +67,7 @@ public class BACnetConfirmedServiceRequestReadRangeRangeByPosition
   protected void serializeBACnetConfirmedServiceRequestReadRangeRangeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConfirmedServiceRequestReadRangeRangeByPosition");
 
     // Simple Field (referenceIndex)
@@ -85,10 +85,9 @@ public class BACnetConfirmedServiceRequestReadRangeRangeByPosition
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConfirmedServiceRequestReadRangeRangeByPosition _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (referenceIndex)
     lengthInBits += referenceIndex.getLengthInBits();
@@ -104,7 +103,7 @@ public class BACnetConfirmedServiceRequestReadRangeRangeByPosition
           throws ParseException {
     readBuffer.pullContext("BACnetConfirmedServiceRequestReadRangeRangeByPosition");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger referenceIndex =
         readSimpleField(
@@ -67,7 +67,7 @@ public class BACnetConfirmedServiceRequestReadRangeRangeBySequenceNumber
   protected void serializeBACnetConfirmedServiceRequestReadRangeRangeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConfirmedServiceRequestReadRangeRangeBySequenceNumber");
 
     // Simple Field (referenceSequenceNumber)
@@ -85,10 +85,9 @@ public class BACnetConfirmedServiceRequestReadRangeRangeBySequenceNumber
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConfirmedServiceRequestReadRangeRangeBySequenceNumber _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (referenceSequenceNumber)
     lengthInBits += referenceSequenceNumber.getLengthInBits();
@@ -104,7 +103,7 @@ public class BACnetConfirmedServiceRequestReadRangeRangeBySequenceNumber
           throws ParseException {
     readBuffer.pullContext("BACnetConfirmedServiceRequestReadRangeRangeBySequenceNumber");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger referenceSequenceNumber =
         readSimpleField(
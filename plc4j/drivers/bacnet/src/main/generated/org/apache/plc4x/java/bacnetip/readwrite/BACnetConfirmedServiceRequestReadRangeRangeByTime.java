@@ -67,7 +67,7 @@ public class BACnetConfirmedServiceRequestReadRangeRangeByTime
   protected void serializeBACnetConfirmedServiceRequestReadRangeRangeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConfirmedServiceRequestReadRangeRangeByTime");
 
     // Simple Field (referenceTime)
@@ -85,10 +85,9 @@ public class BACnetConfirmedServiceRequestReadRangeRangeByTime
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConfirmedServiceRequestReadRangeRangeByTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (referenceTime)
     lengthInBits += referenceTime.getLengthInBits();
@@ -104,7 +103,7 @@ public class BACnetConfirmedServiceRequestReadRangeRangeByTime
           throws ParseException {
     readBuffer.pullContext("BACnetConfirmedServiceRequestReadRangeRangeByTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDateTime referenceTime =
         readSimpleField(
@@ -75,7 +75,7 @@ public class BACnetConfirmedServiceRequestReinitializeDevice extends BACnetConfi
   protected void serializeBACnetConfirmedServiceRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConfirmedServiceRequestReinitializeDevice");
 
     // Simple Field (reinitializedStateOfDevice)
@@ -94,10 +94,9 @@ public class BACnetConfirmedServiceRequestReinitializeDevice extends BACnetConfi
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConfirmedServiceRequestReinitializeDevice _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (reinitializedStateOfDevice)
     lengthInBits += reinitializedStateOfDevice.getLengthInBits();
@@ -115,7 +114,7 @@ public class BACnetConfirmedServiceRequestReinitializeDevice extends BACnetConfi
           ReadBuffer readBuffer, Long serviceRequestLength) throws ParseException {
     readBuffer.pullContext("BACnetConfirmedServiceRequestReinitializeDevice");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetConfirmedServiceRequestReinitializeDeviceReinitializedStateOfDeviceTagged
         reinitializedStateOfDevice =
@@ -66,7 +66,7 @@ public class BACnetConfirmedServiceRequestRequestKey extends BACnetConfirmedServ
   protected void serializeBACnetConfirmedServiceRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConfirmedServiceRequestRequestKey");
 
     // Array Field (bytesOfRemovedService)
@@ -82,10 +82,9 @@ public class BACnetConfirmedServiceRequestRequestKey extends BACnetConfirmedServ
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConfirmedServiceRequestRequestKey _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (bytesOfRemovedService != null) {
@@ -101,7 +100,7 @@ public class BACnetConfirmedServiceRequestRequestKey extends BACnetConfirmedServ
           throws ParseException {
     readBuffer.pullContext("BACnetConfirmedServiceRequestRequestKey");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte[] bytesOfRemovedService =
         readBuffer.readByteArray(
@@ -66,7 +66,7 @@ public class BACnetConfirmedServiceRequestUnknown extends BACnetConfirmedService
   protected void serializeBACnetConfirmedServiceRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConfirmedServiceRequestUnknown");
 
     // Array Field (unknownBytes)
@@ -81,10 +81,9 @@ public class BACnetConfirmedServiceRequestUnknown extends BACnetConfirmedService
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConfirmedServiceRequestUnknown _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (unknownBytes != null) {
@@ -100,7 +99,7 @@ public class BACnetConfirmedServiceRequestUnknown extends BACnetConfirmedService
           throws ParseException {
     readBuffer.pullContext("BACnetConfirmedServiceRequestUnknown");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte[] unknownBytes =
         readBuffer.readByteArray("unknownBytes", Math.toIntExact(serviceRequestPayloadLength));
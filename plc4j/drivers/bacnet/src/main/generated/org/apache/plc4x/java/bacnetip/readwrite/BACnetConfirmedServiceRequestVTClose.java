@@ -68,7 +68,7 @@ public class BACnetConfirmedServiceRequestVTClose extends BACnetConfirmedService
   protected void serializeBACnetConfirmedServiceRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConfirmedServiceRequestVTClose");
 
     // Array Field (listOfRemoteVtSessionIdentifiers)
@@ -84,10 +84,9 @@ public class BACnetConfirmedServiceRequestVTClose extends BACnetConfirmedService
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConfirmedServiceRequestVTClose _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (listOfRemoteVtSessionIdentifiers != null) {
@@ -105,7 +104,7 @@ public class BACnetConfirmedServiceRequestVTClose extends BACnetConfirmedService
           throws ParseException {
     readBuffer.pullContext("BACnetConfirmedServiceRequestVTClose");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetApplicationTagUnsignedInteger> listOfRemoteVtSessionIdentifiers =
         readLengthArrayField(
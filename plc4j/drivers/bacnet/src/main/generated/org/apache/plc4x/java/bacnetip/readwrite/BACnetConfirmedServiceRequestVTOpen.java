@@ -72,7 +72,7 @@ public class BACnetConfirmedServiceRequestVTOpen extends BACnetConfirmedServiceR
   protected void serializeBACnetConfirmedServiceRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConfirmedServiceRequestVTOpen");
 
     // Simple Field (vtClass)
@@ -91,10 +91,9 @@ public class BACnetConfirmedServiceRequestVTOpen extends BACnetConfirmedServiceR
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConfirmedServiceRequestVTOpen _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (vtClass)
     lengthInBits += vtClass.getLengthInBits();
@@ -110,7 +109,7 @@ public class BACnetConfirmedServiceRequestVTOpen extends BACnetConfirmedServiceR
           ReadBuffer readBuffer, Long serviceRequestLength) throws ParseException {
     readBuffer.pullContext("BACnetConfirmedServiceRequestVTOpen");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetVTClassTagged vtClass =
         readSimpleField(
@@ -68,7 +68,7 @@ public class BACnetConfirmedServiceRequestWritePropertyMultiple
   protected void serializeBACnetConfirmedServiceRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConfirmedServiceRequestWritePropertyMultiple");
 
     // Array Field (data)
@@ -83,10 +83,9 @@ public class BACnetConfirmedServiceRequestWritePropertyMultiple
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConfirmedServiceRequestWritePropertyMultiple _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (data != null) {
@@ -104,7 +103,7 @@ public class BACnetConfirmedServiceRequestWritePropertyMultiple
           throws ParseException {
     readBuffer.pullContext("BACnetConfirmedServiceRequestWritePropertyMultiple");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetWriteAccessSpecification> data =
         readLengthArrayField(
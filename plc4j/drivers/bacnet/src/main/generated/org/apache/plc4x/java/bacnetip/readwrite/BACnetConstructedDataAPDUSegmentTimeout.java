@@ -79,7 +79,7 @@ public class BACnetConstructedDataAPDUSegmentTimeout extends BACnetConstructedDa
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAPDUSegmentTimeout");
 
     // Simple Field (apduSegmentTimeout)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataAPDUSegmentTimeout extends BACnetConstructedDa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAPDUSegmentTimeout _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (apduSegmentTimeout)
     lengthInBits += apduSegmentTimeout.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataAPDUSegmentTimeout extends BACnetConstructedDa
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAPDUSegmentTimeout");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger apduSegmentTimeout =
         readSimpleField(
@@ -78,7 +78,7 @@ public class BACnetConstructedDataAPDUTimeout extends BACnetConstructedData impl
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAPDUTimeout");
 
     // Simple Field (apduTimeout)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataAPDUTimeout extends BACnetConstructedData impl
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAPDUTimeout _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (apduTimeout)
     lengthInBits += apduTimeout.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataAPDUTimeout extends BACnetConstructedData impl
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAPDUTimeout");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger apduTimeout =
         readSimpleField(
@@ -74,7 +74,7 @@ public class BACnetConstructedDataAcceptedModes extends BACnetConstructedData im
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAcceptedModes");
 
     // Array Field (acceptedModes)
@@ -89,10 +89,9 @@ public class BACnetConstructedDataAcceptedModes extends BACnetConstructedData im
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAcceptedModes _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (acceptedModes != null) {
@@ -113,7 +112,7 @@ public class BACnetConstructedDataAcceptedModes extends BACnetConstructedData im
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAcceptedModes");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetLifeSafetyModeTagged> acceptedModes =
         readTerminatedArrayField(
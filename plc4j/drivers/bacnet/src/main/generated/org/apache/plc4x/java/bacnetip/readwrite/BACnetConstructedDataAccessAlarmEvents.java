@@ -75,7 +75,7 @@ public class BACnetConstructedDataAccessAlarmEvents extends BACnetConstructedDat
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAccessAlarmEvents");
 
     // Array Field (accessAlarmEvents)
@@ -90,10 +90,9 @@ public class BACnetConstructedDataAccessAlarmEvents extends BACnetConstructedDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAccessAlarmEvents _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (accessAlarmEvents != null) {
@@ -114,7 +113,7 @@ public class BACnetConstructedDataAccessAlarmEvents extends BACnetConstructedDat
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAccessAlarmEvents");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetAccessEventTagged> accessAlarmEvents =
         readTerminatedArrayField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataAccessDoorPresentValue extends BACnetConstruct
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAccessDoorPresentValue");
 
     // Simple Field (presentValue)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataAccessDoorPresentValue extends BACnetConstruct
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAccessDoorPresentValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (presentValue)
     lengthInBits += presentValue.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataAccessDoorPresentValue extends BACnetConstruct
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAccessDoorPresentValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDoorValueTagged presentValue =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataAccessEventAuthenticationFactor extends BACnet
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAccessEventAuthenticationFactor");
 
     // Simple Field (accessEventAuthenticationFactor)
@@ -101,10 +101,9 @@ public class BACnetConstructedDataAccessEventAuthenticationFactor extends BACnet
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAccessEventAuthenticationFactor _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (accessEventAuthenticationFactor)
     lengthInBits += accessEventAuthenticationFactor.getLengthInBits();
@@ -123,7 +122,7 @@ public class BACnetConstructedDataAccessEventAuthenticationFactor extends BACnet
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAccessEventAuthenticationFactor");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetAuthenticationFactor accessEventAuthenticationFactor =
         readSimpleField(
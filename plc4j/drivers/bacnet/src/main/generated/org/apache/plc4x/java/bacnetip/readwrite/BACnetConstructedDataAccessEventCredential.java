@@ -79,7 +79,7 @@ public class BACnetConstructedDataAccessEventCredential extends BACnetConstructe
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAccessEventCredential");
 
     // Simple Field (accessEventCredential)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataAccessEventCredential extends BACnetConstructe
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAccessEventCredential _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (accessEventCredential)
     lengthInBits += accessEventCredential.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataAccessEventCredential extends BACnetConstructe
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAccessEventCredential");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDeviceObjectReference accessEventCredential =
         readSimpleField(
@@ -78,7 +78,7 @@ public class BACnetConstructedDataAccessEventTime extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAccessEventTime");
 
     // Simple Field (accessEventTime)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataAccessEventTime extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAccessEventTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (accessEventTime)
     lengthInBits += accessEventTime.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataAccessEventTime extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAccessEventTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetTimeStamp accessEventTime =
         readSimpleField(
@@ -65,7 +65,7 @@ public class BACnetConstructedDataAccessPointAll extends BACnetConstructedData i
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAccessPointAll");
 
     writeBuffer.popContext("BACnetConstructedDataAccessPointAll");
@@ -77,12 +77,9 @@ public class BACnetConstructedDataAccessPointAll extends BACnetConstructedData i
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    BACnetConstructedDataAccessPointAll _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static BACnetConstructedDataBuilder staticParseBACnetConstructedDataBuilder(
@@ -94,7 +91,7 @@ public class BACnetConstructedDataAccessPointAll extends BACnetConstructedData i
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAccessPointAll");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
     // Validation
     if (!((1) == (2))) {
       throw new ParseValidationException(
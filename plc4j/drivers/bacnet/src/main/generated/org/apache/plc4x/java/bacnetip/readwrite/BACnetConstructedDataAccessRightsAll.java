@@ -65,7 +65,7 @@ public class BACnetConstructedDataAccessRightsAll extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAccessRightsAll");
 
     writeBuffer.popContext("BACnetConstructedDataAccessRightsAll");
@@ -77,12 +77,9 @@ public class BACnetConstructedDataAccessRightsAll extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    BACnetConstructedDataAccessRightsAll _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static BACnetConstructedDataBuilder staticParseBACnetConstructedDataBuilder(
@@ -94,7 +91,7 @@ public class BACnetConstructedDataAccessRightsAll extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAccessRightsAll");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
     // Validation
     if (!((1) == (2))) {
       throw new ParseValidationException(
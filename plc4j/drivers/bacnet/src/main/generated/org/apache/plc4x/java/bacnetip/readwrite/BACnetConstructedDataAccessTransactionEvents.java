@@ -75,7 +75,7 @@ public class BACnetConstructedDataAccessTransactionEvents extends BACnetConstruc
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAccessTransactionEvents");
 
     // Array Field (accessTransactionEvents)
@@ -90,10 +90,9 @@ public class BACnetConstructedDataAccessTransactionEvents extends BACnetConstruc
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAccessTransactionEvents _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (accessTransactionEvents != null) {
@@ -114,7 +113,7 @@ public class BACnetConstructedDataAccessTransactionEvents extends BACnetConstruc
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAccessTransactionEvents");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetAccessEventTagged> accessTransactionEvents =
         readTerminatedArrayField(
@@ -65,7 +65,7 @@ public class BACnetConstructedDataAccessUserAll extends BACnetConstructedData im
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAccessUserAll");
 
     writeBuffer.popContext("BACnetConstructedDataAccessUserAll");
@@ -77,12 +77,9 @@ public class BACnetConstructedDataAccessUserAll extends BACnetConstructedData im
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    BACnetConstructedDataAccessUserAll _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static BACnetConstructedDataBuilder staticParseBACnetConstructedDataBuilder(
@@ -94,7 +91,7 @@ public class BACnetConstructedDataAccessUserAll extends BACnetConstructedData im
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAccessUserAll");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
     // Validation
     if (!((1) == (2))) {
       throw new ParseValidationException(
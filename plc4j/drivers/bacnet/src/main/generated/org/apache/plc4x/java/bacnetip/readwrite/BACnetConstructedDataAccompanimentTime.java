@@ -79,7 +79,7 @@ public class BACnetConstructedDataAccompanimentTime extends BACnetConstructedDat
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAccompanimentTime");
 
     // Simple Field (accompanimentTime)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataAccompanimentTime extends BACnetConstructedDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAccompanimentTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (accompanimentTime)
     lengthInBits += accompanimentTime.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataAccompanimentTime extends BACnetConstructedDat
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAccompanimentTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger accompanimentTime =
         readSimpleField(
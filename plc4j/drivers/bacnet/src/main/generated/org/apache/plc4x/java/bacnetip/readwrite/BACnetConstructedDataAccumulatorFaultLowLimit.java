@@ -79,7 +79,7 @@ public class BACnetConstructedDataAccumulatorFaultLowLimit extends BACnetConstru
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAccumulatorFaultLowLimit");
 
     // Simple Field (faultLowLimit)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataAccumulatorFaultLowLimit extends BACnetConstru
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAccumulatorFaultLowLimit _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (faultLowLimit)
     lengthInBits += faultLowLimit.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataAccumulatorFaultLowLimit extends BACnetConstru
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAccumulatorFaultLowLimit");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger faultLowLimit =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataAccumulatorHighLimit extends BACnetConstructed
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAccumulatorHighLimit");
 
     // Simple Field (highLimit)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataAccumulatorHighLimit extends BACnetConstructed
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAccumulatorHighLimit _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (highLimit)
     lengthInBits += highLimit.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataAccumulatorHighLimit extends BACnetConstructed
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAccumulatorHighLimit");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger highLimit =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataAccumulatorLowLimit extends BACnetConstructedD
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAccumulatorLowLimit");
 
     // Simple Field (lowLimit)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataAccumulatorLowLimit extends BACnetConstructedD
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAccumulatorLowLimit _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lowLimit)
     lengthInBits += lowLimit.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataAccumulatorLowLimit extends BACnetConstructedD
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAccumulatorLowLimit");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger lowLimit =
         readSimpleField(
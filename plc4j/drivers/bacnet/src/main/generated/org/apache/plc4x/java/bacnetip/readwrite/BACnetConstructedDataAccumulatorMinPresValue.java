@@ -79,7 +79,7 @@ public class BACnetConstructedDataAccumulatorMinPresValue extends BACnetConstruc
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAccumulatorMinPresValue");
 
     // Simple Field (minPresValue)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataAccumulatorMinPresValue extends BACnetConstruc
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAccumulatorMinPresValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (minPresValue)
     lengthInBits += minPresValue.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataAccumulatorMinPresValue extends BACnetConstruc
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAccumulatorMinPresValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger minPresValue =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataAckedTransitions extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAckedTransitions");
 
     // Simple Field (ackedTransitions)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataAckedTransitions extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAckedTransitions _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (ackedTransitions)
     lengthInBits += ackedTransitions.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataAckedTransitions extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAckedTransitions");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetEventTransitionBitsTagged ackedTransitions =
         readSimpleField(
@@ -78,7 +78,7 @@ public class BACnetConstructedDataActivationTime extends BACnetConstructedData i
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataActivationTime");
 
     // Simple Field (activationTime)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataActivationTime extends BACnetConstructedData i
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataActivationTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (activationTime)
     lengthInBits += activationTime.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataActivationTime extends BACnetConstructedData i
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataActivationTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDateTime activationTime =
         readSimpleField(
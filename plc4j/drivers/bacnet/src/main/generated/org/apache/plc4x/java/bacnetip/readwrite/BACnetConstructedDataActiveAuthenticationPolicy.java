@@ -79,7 +79,7 @@ public class BACnetConstructedDataActiveAuthenticationPolicy extends BACnetConst
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataActiveAuthenticationPolicy");
 
     // Simple Field (activeAuthenticationPolicy)
@@ -99,10 +99,9 @@ public class BACnetConstructedDataActiveAuthenticationPolicy extends BACnetConst
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataActiveAuthenticationPolicy _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (activeAuthenticationPolicy)
     lengthInBits += activeAuthenticationPolicy.getLengthInBits();
@@ -121,7 +120,7 @@ public class BACnetConstructedDataActiveAuthenticationPolicy extends BACnetConst
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataActiveAuthenticationPolicy");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger activeAuthenticationPolicy =
         readSimpleField(
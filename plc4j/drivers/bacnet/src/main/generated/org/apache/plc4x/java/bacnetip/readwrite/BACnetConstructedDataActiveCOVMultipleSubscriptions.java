@@ -75,7 +75,7 @@ public class BACnetConstructedDataActiveCOVMultipleSubscriptions extends BACnetC
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataActiveCOVMultipleSubscriptions");
 
     // Array Field (activeCOVMultipleSubscriptions)
@@ -91,10 +91,9 @@ public class BACnetConstructedDataActiveCOVMultipleSubscriptions extends BACnetC
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataActiveCOVMultipleSubscriptions _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (activeCOVMultipleSubscriptions != null) {
@@ -115,7 +114,7 @@ public class BACnetConstructedDataActiveCOVMultipleSubscriptions extends BACnetC
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataActiveCOVMultipleSubscriptions");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetCOVMultipleSubscription> activeCOVMultipleSubscriptions =
         readTerminatedArrayField(
@@ -75,7 +75,7 @@ public class BACnetConstructedDataActiveCOVSubscriptions extends BACnetConstruct
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataActiveCOVSubscriptions");
 
     // Array Field (activeCOVSubscriptions)
@@ -90,10 +90,9 @@ public class BACnetConstructedDataActiveCOVSubscriptions extends BACnetConstruct
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataActiveCOVSubscriptions _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (activeCOVSubscriptions != null) {
@@ -114,7 +113,7 @@ public class BACnetConstructedDataActiveCOVSubscriptions extends BACnetConstruct
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataActiveCOVSubscriptions");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetCOVSubscription> activeCOVSubscriptions =
         readTerminatedArrayField(
@@ -75,7 +75,7 @@ public class BACnetConstructedDataActiveVTSessions extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataActiveVTSessions");
 
     // Array Field (activeVTSession)
@@ -90,10 +90,9 @@ public class BACnetConstructedDataActiveVTSessions extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataActiveVTSessions _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (activeVTSession != null) {
@@ -114,7 +113,7 @@ public class BACnetConstructedDataActiveVTSessions extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataActiveVTSessions");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetVTSession> activeVTSession =
         readTerminatedArrayField(
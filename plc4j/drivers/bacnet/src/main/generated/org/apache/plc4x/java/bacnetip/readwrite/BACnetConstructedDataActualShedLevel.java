@@ -78,7 +78,7 @@ public class BACnetConstructedDataActualShedLevel extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataActualShedLevel");
 
     // Simple Field (actualShedLevel)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataActualShedLevel extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataActualShedLevel _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (actualShedLevel)
     lengthInBits += actualShedLevel.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataActualShedLevel extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataActualShedLevel");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetShedLevel actualShedLevel =
         readSimpleField(
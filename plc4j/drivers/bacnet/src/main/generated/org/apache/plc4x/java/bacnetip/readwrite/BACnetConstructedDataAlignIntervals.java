@@ -78,7 +78,7 @@ public class BACnetConstructedDataAlignIntervals extends BACnetConstructedData i
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAlignIntervals");
 
     // Simple Field (alignIntervals)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataAlignIntervals extends BACnetConstructedData i
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAlignIntervals _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (alignIntervals)
     lengthInBits += alignIntervals.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataAlignIntervals extends BACnetConstructedData i
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAlignIntervals");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean alignIntervals =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataAllWritesSuccessful extends BACnetConstructedD
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAllWritesSuccessful");
 
     // Simple Field (allWritesSuccessful)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataAllWritesSuccessful extends BACnetConstructedD
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAllWritesSuccessful _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (allWritesSuccessful)
     lengthInBits += allWritesSuccessful.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataAllWritesSuccessful extends BACnetConstructedD
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAllWritesSuccessful");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean allWritesSuccessful =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataAllowGroupDelayInhibit extends BACnetConstruct
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAllowGroupDelayInhibit");
 
     // Simple Field (allowGroupDelayInhibit)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataAllowGroupDelayInhibit extends BACnetConstruct
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAllowGroupDelayInhibit _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (allowGroupDelayInhibit)
     lengthInBits += allowGroupDelayInhibit.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataAllowGroupDelayInhibit extends BACnetConstruct
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAllowGroupDelayInhibit");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean allowGroupDelayInhibit =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataAnalogInputFaultHighLimit extends BACnetConstr
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAnalogInputFaultHighLimit");
 
     // Simple Field (faultHighLimit)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataAnalogInputFaultHighLimit extends BACnetConstr
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAnalogInputFaultHighLimit _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (faultHighLimit)
     lengthInBits += faultHighLimit.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataAnalogInputFaultHighLimit extends BACnetConstr
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAnalogInputFaultHighLimit");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagReal faultHighLimit =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataAnalogOutputInterfaceValue extends BACnetConst
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAnalogOutputInterfaceValue");
 
     // Simple Field (interfaceValue)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataAnalogOutputInterfaceValue extends BACnetConst
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAnalogOutputInterfaceValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (interfaceValue)
     lengthInBits += interfaceValue.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataAnalogOutputInterfaceValue extends BACnetConst
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAnalogOutputInterfaceValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetOptionalREAL interfaceValue =
         readSimpleField(
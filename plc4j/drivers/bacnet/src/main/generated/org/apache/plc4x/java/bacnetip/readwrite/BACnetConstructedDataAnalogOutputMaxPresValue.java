@@ -79,7 +79,7 @@ public class BACnetConstructedDataAnalogOutputMaxPresValue extends BACnetConstru
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAnalogOutputMaxPresValue");
 
     // Simple Field (maxPresValue)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataAnalogOutputMaxPresValue extends BACnetConstru
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAnalogOutputMaxPresValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (maxPresValue)
     lengthInBits += maxPresValue.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataAnalogOutputMaxPresValue extends BACnetConstru
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAnalogOutputMaxPresValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagReal maxPresValue =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataAnalogOutputPresentValue extends BACnetConstru
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAnalogOutputPresentValue");
 
     // Simple Field (presentValue)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataAnalogOutputPresentValue extends BACnetConstru
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAnalogOutputPresentValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (presentValue)
     lengthInBits += presentValue.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataAnalogOutputPresentValue extends BACnetConstru
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAnalogOutputPresentValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagReal presentValue =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataAnalogOutputRelinquishDefault extends BACnetCo
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAnalogOutputRelinquishDefault");
 
     // Simple Field (relinquishDefault)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataAnalogOutputRelinquishDefault extends BACnetCo
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAnalogOutputRelinquishDefault _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (relinquishDefault)
     lengthInBits += relinquishDefault.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataAnalogOutputRelinquishDefault extends BACnetCo
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAnalogOutputRelinquishDefault");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagReal relinquishDefault =
         readSimpleField(
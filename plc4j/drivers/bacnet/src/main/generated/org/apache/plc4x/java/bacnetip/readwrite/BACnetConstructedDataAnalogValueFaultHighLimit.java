@@ -79,7 +79,7 @@ public class BACnetConstructedDataAnalogValueFaultHighLimit extends BACnetConstr
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAnalogValueFaultHighLimit");
 
     // Simple Field (faultHighLimit)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataAnalogValueFaultHighLimit extends BACnetConstr
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAnalogValueFaultHighLimit _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (faultHighLimit)
     lengthInBits += faultHighLimit.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataAnalogValueFaultHighLimit extends BACnetConstr
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAnalogValueFaultHighLimit");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagReal faultHighLimit =
         readSimpleField(
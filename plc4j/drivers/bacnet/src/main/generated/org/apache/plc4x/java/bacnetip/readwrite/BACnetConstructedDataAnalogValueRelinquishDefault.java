@@ -79,7 +79,7 @@ public class BACnetConstructedDataAnalogValueRelinquishDefault extends BACnetCon
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAnalogValueRelinquishDefault");
 
     // Simple Field (relinquishDefault)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataAnalogValueRelinquishDefault extends BACnetCon
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAnalogValueRelinquishDefault _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (relinquishDefault)
     lengthInBits += relinquishDefault.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataAnalogValueRelinquishDefault extends BACnetCon
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAnalogValueRelinquishDefault");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagReal relinquishDefault =
         readSimpleField(
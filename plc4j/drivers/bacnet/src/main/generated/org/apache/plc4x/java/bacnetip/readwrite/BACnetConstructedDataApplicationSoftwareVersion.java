@@ -79,7 +79,7 @@ public class BACnetConstructedDataApplicationSoftwareVersion extends BACnetConst
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataApplicationSoftwareVersion");
 
     // Simple Field (applicationSoftwareVersion)
@@ -99,10 +99,9 @@ public class BACnetConstructedDataApplicationSoftwareVersion extends BACnetConst
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataApplicationSoftwareVersion _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (applicationSoftwareVersion)
     lengthInBits += applicationSoftwareVersion.getLengthInBits();
@@ -121,7 +120,7 @@ public class BACnetConstructedDataApplicationSoftwareVersion extends BACnetConst
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataApplicationSoftwareVersion");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagCharacterString applicationSoftwareVersion =
         readSimpleField(
@@ -89,7 +89,7 @@ public class BACnetConstructedDataAssignedAccessRights extends BACnetConstructed
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAssignedAccessRights");
 
     // Virtual field (doesn't actually serialize anything, just makes the value available)
@@ -115,10 +115,9 @@ public class BACnetConstructedDataAssignedAccessRights extends BACnetConstructed
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAssignedAccessRights _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // A virtual field doesn't have any in- or output.
 
@@ -146,7 +145,7 @@ public class BACnetConstructedDataAssignedAccessRights extends BACnetConstructed
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAssignedAccessRights");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
     BigInteger zero = readVirtualField("zero", BigInteger.class, 0L);
 
     BACnetApplicationTagUnsignedInteger numberOfDataElements =
@@ -79,7 +79,7 @@ public class BACnetConstructedDataAttemptedSamples extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAttemptedSamples");
 
     // Simple Field (attemptedSamples)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataAttemptedSamples extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAttemptedSamples _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (attemptedSamples)
     lengthInBits += attemptedSamples.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataAttemptedSamples extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAttemptedSamples");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger attemptedSamples =
         readSimpleField(
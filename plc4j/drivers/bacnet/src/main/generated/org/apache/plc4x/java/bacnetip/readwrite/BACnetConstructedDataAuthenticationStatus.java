@@ -79,7 +79,7 @@ public class BACnetConstructedDataAuthenticationStatus extends BACnetConstructed
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAuthenticationStatus");
 
     // Simple Field (authenticationStatus)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataAuthenticationStatus extends BACnetConstructed
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAuthenticationStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (authenticationStatus)
     lengthInBits += authenticationStatus.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataAuthenticationStatus extends BACnetConstructed
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAuthenticationStatus");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetAuthenticationStatusTagged authenticationStatus =
         readSimpleField(
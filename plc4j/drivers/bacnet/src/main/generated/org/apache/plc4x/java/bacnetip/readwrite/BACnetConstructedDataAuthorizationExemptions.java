@@ -75,7 +75,7 @@ public class BACnetConstructedDataAuthorizationExemptions extends BACnetConstruc
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAuthorizationExemptions");
 
     // Array Field (authorizationExemption)
@@ -90,10 +90,9 @@ public class BACnetConstructedDataAuthorizationExemptions extends BACnetConstruc
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAuthorizationExemptions _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (authorizationExemption != null) {
@@ -114,7 +113,7 @@ public class BACnetConstructedDataAuthorizationExemptions extends BACnetConstruc
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAuthorizationExemptions");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetAuthorizationExemptionTagged> authorizationExemption =
         readTerminatedArrayField(
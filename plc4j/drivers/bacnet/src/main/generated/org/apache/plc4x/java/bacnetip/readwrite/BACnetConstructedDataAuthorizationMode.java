@@ -79,7 +79,7 @@ public class BACnetConstructedDataAuthorizationMode extends BACnetConstructedDat
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAuthorizationMode");
 
     // Simple Field (authorizationMode)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataAuthorizationMode extends BACnetConstructedDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAuthorizationMode _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (authorizationMode)
     lengthInBits += authorizationMode.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataAuthorizationMode extends BACnetConstructedDat
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAuthorizationMode");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetAuthorizationModeTagged authorizationMode =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataAutoSlaveDiscovery extends BACnetConstructedDa
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataAutoSlaveDiscovery");
 
     // Simple Field (autoSlaveDiscovery)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataAutoSlaveDiscovery extends BACnetConstructedDa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataAutoSlaveDiscovery _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (autoSlaveDiscovery)
     lengthInBits += autoSlaveDiscovery.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataAutoSlaveDiscovery extends BACnetConstructedDa
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataAutoSlaveDiscovery");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean autoSlaveDiscovery =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataBACnetIPGlobalAddress extends BACnetConstructe
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataBACnetIPGlobalAddress");
 
     // Simple Field (bacnetIpGlobalAddress)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataBACnetIPGlobalAddress extends BACnetConstructe
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataBACnetIPGlobalAddress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bacnetIpGlobalAddress)
     lengthInBits += bacnetIpGlobalAddress.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataBACnetIPGlobalAddress extends BACnetConstructe
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataBACnetIPGlobalAddress");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetHostNPort bacnetIpGlobalAddress =
         readSimpleField(
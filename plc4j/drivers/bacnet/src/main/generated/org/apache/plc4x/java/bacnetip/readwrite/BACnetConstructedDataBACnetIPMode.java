@@ -78,7 +78,7 @@ public class BACnetConstructedDataBACnetIPMode extends BACnetConstructedData imp
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataBACnetIPMode");
 
     // Simple Field (bacnetIpMode)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataBACnetIPMode extends BACnetConstructedData imp
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataBACnetIPMode _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bacnetIpMode)
     lengthInBits += bacnetIpMode.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataBACnetIPMode extends BACnetConstructedData imp
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataBACnetIPMode");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetIPModeTagged bacnetIpMode =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataBACnetIPMulticastAddress extends BACnetConstru
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataBACnetIPMulticastAddress");
 
     // Simple Field (ipMulticastAddress)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataBACnetIPMulticastAddress extends BACnetConstru
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataBACnetIPMulticastAddress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (ipMulticastAddress)
     lengthInBits += ipMulticastAddress.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataBACnetIPMulticastAddress extends BACnetConstru
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataBACnetIPMulticastAddress");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagOctetString ipMulticastAddress =
         readSimpleField(
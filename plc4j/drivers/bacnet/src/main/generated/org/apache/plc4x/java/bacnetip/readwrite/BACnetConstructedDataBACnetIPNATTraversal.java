@@ -79,7 +79,7 @@ public class BACnetConstructedDataBACnetIPNATTraversal extends BACnetConstructed
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataBACnetIPNATTraversal");
 
     // Simple Field (bacnetIPNATTraversal)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataBACnetIPNATTraversal extends BACnetConstructed
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataBACnetIPNATTraversal _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bacnetIPNATTraversal)
     lengthInBits += bacnetIPNATTraversal.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataBACnetIPNATTraversal extends BACnetConstructed
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataBACnetIPNATTraversal");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean bacnetIPNATTraversal =
         readSimpleField(
@@ -78,7 +78,7 @@ public class BACnetConstructedDataBACnetIPUDPPort extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataBACnetIPUDPPort");
 
     // Simple Field (ipUdpPort)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataBACnetIPUDPPort extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataBACnetIPUDPPort _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (ipUdpPort)
     lengthInBits += ipUdpPort.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataBACnetIPUDPPort extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataBACnetIPUDPPort");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger ipUdpPort =
         readSimpleField(
@@ -78,7 +78,7 @@ public class BACnetConstructedDataBACnetIPv6Mode extends BACnetConstructedData i
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataBACnetIPv6Mode");
 
     // Simple Field (bacnetIpv6Mode)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataBACnetIPv6Mode extends BACnetConstructedData i
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataBACnetIPv6Mode _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bacnetIpv6Mode)
     lengthInBits += bacnetIpv6Mode.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataBACnetIPv6Mode extends BACnetConstructedData i
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataBACnetIPv6Mode");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetIPModeTagged bacnetIpv6Mode =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataBACnetIPv6MulticastAddress extends BACnetConst
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataBACnetIPv6MulticastAddress");
 
     // Simple Field (ipv6MulticastAddress)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataBACnetIPv6MulticastAddress extends BACnetConst
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataBACnetIPv6MulticastAddress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (ipv6MulticastAddress)
     lengthInBits += ipv6MulticastAddress.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataBACnetIPv6MulticastAddress extends BACnetConst
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataBACnetIPv6MulticastAddress");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagOctetString ipv6MulticastAddress =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataBACnetIPv6UDPPort extends BACnetConstructedDat
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataBACnetIPv6UDPPort");
 
     // Simple Field (ipv6UdpPort)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataBACnetIPv6UDPPort extends BACnetConstructedDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataBACnetIPv6UDPPort _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (ipv6UdpPort)
     lengthInBits += ipv6UdpPort.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataBACnetIPv6UDPPort extends BACnetConstructedDat
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataBACnetIPv6UDPPort");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger ipv6UdpPort =
         readSimpleField(
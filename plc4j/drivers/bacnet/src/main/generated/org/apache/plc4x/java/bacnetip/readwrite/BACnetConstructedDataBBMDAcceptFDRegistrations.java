@@ -79,7 +79,7 @@ public class BACnetConstructedDataBBMDAcceptFDRegistrations extends BACnetConstr
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataBBMDAcceptFDRegistrations");
 
     // Simple Field (bbmdAcceptFDRegistrations)
@@ -99,10 +99,9 @@ public class BACnetConstructedDataBBMDAcceptFDRegistrations extends BACnetConstr
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataBBMDAcceptFDRegistrations _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bbmdAcceptFDRegistrations)
     lengthInBits += bbmdAcceptFDRegistrations.getLengthInBits();
@@ -121,7 +120,7 @@ public class BACnetConstructedDataBBMDAcceptFDRegistrations extends BACnetConstr
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataBBMDAcceptFDRegistrations");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean bbmdAcceptFDRegistrations =
         readSimpleField(
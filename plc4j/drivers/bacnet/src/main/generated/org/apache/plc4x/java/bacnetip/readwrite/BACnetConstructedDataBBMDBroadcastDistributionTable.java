@@ -75,7 +75,7 @@ public class BACnetConstructedDataBBMDBroadcastDistributionTable extends BACnetC
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataBBMDBroadcastDistributionTable");
 
     // Array Field (bbmdBroadcastDistributionTable)
@@ -91,10 +91,9 @@ public class BACnetConstructedDataBBMDBroadcastDistributionTable extends BACnetC
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataBBMDBroadcastDistributionTable _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (bbmdBroadcastDistributionTable != null) {
@@ -115,7 +114,7 @@ public class BACnetConstructedDataBBMDBroadcastDistributionTable extends BACnetC
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataBBMDBroadcastDistributionTable");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetBDTEntry> bbmdBroadcastDistributionTable =
         readTerminatedArrayField(
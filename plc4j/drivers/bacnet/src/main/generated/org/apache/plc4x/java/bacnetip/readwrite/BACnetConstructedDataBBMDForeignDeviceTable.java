@@ -75,7 +75,7 @@ public class BACnetConstructedDataBBMDForeignDeviceTable extends BACnetConstruct
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataBBMDForeignDeviceTable");
 
     // Array Field (bbmdForeignDeviceTable)
@@ -90,10 +90,9 @@ public class BACnetConstructedDataBBMDForeignDeviceTable extends BACnetConstruct
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataBBMDForeignDeviceTable _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (bbmdForeignDeviceTable != null) {
@@ -114,7 +113,7 @@ public class BACnetConstructedDataBBMDForeignDeviceTable extends BACnetConstruct
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataBBMDForeignDeviceTable");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetBDTEntry> bbmdForeignDeviceTable =
         readTerminatedArrayField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataBackupAndRestoreState extends BACnetConstructe
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataBackupAndRestoreState");
 
     // Simple Field (backupAndRestoreState)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataBackupAndRestoreState extends BACnetConstructe
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataBackupAndRestoreState _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (backupAndRestoreState)
     lengthInBits += backupAndRestoreState.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataBackupAndRestoreState extends BACnetConstructe
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataBackupAndRestoreState");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetBackupStateTagged backupAndRestoreState =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataBackupFailureTimeout extends BACnetConstructed
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataBackupFailureTimeout");
 
     // Simple Field (backupFailureTimeout)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataBackupFailureTimeout extends BACnetConstructed
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataBackupFailureTimeout _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (backupFailureTimeout)
     lengthInBits += backupFailureTimeout.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataBackupFailureTimeout extends BACnetConstructed
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataBackupFailureTimeout");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger backupFailureTimeout =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataBackupPreparationTime extends BACnetConstructe
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataBackupPreparationTime");
 
     // Simple Field (backupPreparationTime)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataBackupPreparationTime extends BACnetConstructe
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataBackupPreparationTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (backupPreparationTime)
     lengthInBits += backupPreparationTime.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataBackupPreparationTime extends BACnetConstructe
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataBackupPreparationTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger backupPreparationTime =
         readSimpleField(
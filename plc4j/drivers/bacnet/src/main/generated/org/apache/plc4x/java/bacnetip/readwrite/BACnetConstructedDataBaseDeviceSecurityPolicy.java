@@ -79,7 +79,7 @@ public class BACnetConstructedDataBaseDeviceSecurityPolicy extends BACnetConstru
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataBaseDeviceSecurityPolicy");
 
     // Simple Field (baseDeviceSecurityPolicy)
@@ -99,10 +99,9 @@ public class BACnetConstructedDataBaseDeviceSecurityPolicy extends BACnetConstru
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataBaseDeviceSecurityPolicy _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (baseDeviceSecurityPolicy)
     lengthInBits += baseDeviceSecurityPolicy.getLengthInBits();
@@ -121,7 +120,7 @@ public class BACnetConstructedDataBaseDeviceSecurityPolicy extends BACnetConstru
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataBaseDeviceSecurityPolicy");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetSecurityLevelTagged baseDeviceSecurityPolicy =
         readSimpleField(
@@ -78,7 +78,7 @@ public class BACnetConstructedDataBelongsTo extends BACnetConstructedData implem
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataBelongsTo");
 
     // Simple Field (belongsTo)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataBelongsTo extends BACnetConstructedData implem
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataBelongsTo _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (belongsTo)
     lengthInBits += belongsTo.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataBelongsTo extends BACnetConstructedData implem
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataBelongsTo");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDeviceObjectReference belongsTo =
         readSimpleField(
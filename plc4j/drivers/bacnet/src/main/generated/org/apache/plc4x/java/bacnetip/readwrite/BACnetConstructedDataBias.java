@@ -78,7 +78,7 @@ public class BACnetConstructedDataBias extends BACnetConstructedData implements
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataBias");
 
     // Simple Field (bias)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataBias extends BACnetConstructedData implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataBias _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bias)
     lengthInBits += bias.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataBias extends BACnetConstructedData implements
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataBias");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagReal bias =
         readSimpleField(
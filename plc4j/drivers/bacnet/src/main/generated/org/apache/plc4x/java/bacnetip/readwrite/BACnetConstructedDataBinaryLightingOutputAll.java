@@ -66,7 +66,7 @@ public class BACnetConstructedDataBinaryLightingOutputAll extends BACnetConstruc
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataBinaryLightingOutputAll");
 
     writeBuffer.popContext("BACnetConstructedDataBinaryLightingOutputAll");
@@ -78,12 +78,9 @@ public class BACnetConstructedDataBinaryLightingOutputAll extends BACnetConstruc
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    BACnetConstructedDataBinaryLightingOutputAll _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static BACnetConstructedDataBuilder staticParseBACnetConstructedDataBuilder(
@@ -95,7 +92,7 @@ public class BACnetConstructedDataBinaryLightingOutputAll extends BACnetConstruc
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataBinaryLightingOutputAll");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
     // Validation
     if (!((1) == (2))) {
       throw new ParseValidationException(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataBinaryLightingOutputFeedbackValue extends BACn
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataBinaryLightingOutputFeedbackValue");
 
     // Simple Field (feedbackValue)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataBinaryLightingOutputFeedbackValue extends BACn
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataBinaryLightingOutputFeedbackValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (feedbackValue)
     lengthInBits += feedbackValue.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataBinaryLightingOutputFeedbackValue extends BACn
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataBinaryLightingOutputFeedbackValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetBinaryLightingPVTagged feedbackValue =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataBinaryLightingOutputRelinquishDefault
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataBinaryLightingOutputRelinquishDefault");
 
     // Simple Field (relinquishDefault)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataBinaryLightingOutputRelinquishDefault
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataBinaryLightingOutputRelinquishDefault _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (relinquishDefault)
     lengthInBits += relinquishDefault.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataBinaryLightingOutputRelinquishDefault
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataBinaryLightingOutputRelinquishDefault");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetBinaryLightingPVTagged relinquishDefault =
         readSimpleField(
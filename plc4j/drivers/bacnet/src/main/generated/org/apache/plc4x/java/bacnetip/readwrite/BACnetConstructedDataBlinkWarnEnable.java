@@ -78,7 +78,7 @@ public class BACnetConstructedDataBlinkWarnEnable extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataBlinkWarnEnable");
 
     // Simple Field (blinkWarnEnable)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataBlinkWarnEnable extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataBlinkWarnEnable _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (blinkWarnEnable)
     lengthInBits += blinkWarnEnable.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataBlinkWarnEnable extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataBlinkWarnEnable");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean blinkWarnEnable =
         readSimpleField(
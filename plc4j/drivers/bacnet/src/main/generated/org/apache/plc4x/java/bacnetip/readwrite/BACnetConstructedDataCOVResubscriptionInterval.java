@@ -79,7 +79,7 @@ public class BACnetConstructedDataCOVResubscriptionInterval extends BACnetConstr
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataCOVResubscriptionInterval");
 
     // Simple Field (covResubscriptionInterval)
@@ -99,10 +99,9 @@ public class BACnetConstructedDataCOVResubscriptionInterval extends BACnetConstr
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataCOVResubscriptionInterval _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (covResubscriptionInterval)
     lengthInBits += covResubscriptionInterval.getLengthInBits();
@@ -121,7 +120,7 @@ public class BACnetConstructedDataCOVResubscriptionInterval extends BACnetConstr
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataCOVResubscriptionInterval");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger covResubscriptionInterval =
         readSimpleField(
@@ -74,7 +74,7 @@ public class BACnetConstructedDataCOVURecipients extends BACnetConstructedData i
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataCOVURecipients");
 
     // Array Field (covuRecipients)
@@ -89,10 +89,9 @@ public class BACnetConstructedDataCOVURecipients extends BACnetConstructedData i
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataCOVURecipients _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (covuRecipients != null) {
@@ -113,7 +112,7 @@ public class BACnetConstructedDataCOVURecipients extends BACnetConstructedData i
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataCOVURecipients");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetRecipient> covuRecipients =
         readTerminatedArrayField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataCarAssignedDirection extends BACnetConstructed
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataCarAssignedDirection");
 
     // Simple Field (assignedDirection)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataCarAssignedDirection extends BACnetConstructed
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataCarAssignedDirection _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (assignedDirection)
     lengthInBits += assignedDirection.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataCarAssignedDirection extends BACnetConstructed
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataCarAssignedDirection");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetLiftCarDirectionTagged assignedDirection =
         readSimpleField(
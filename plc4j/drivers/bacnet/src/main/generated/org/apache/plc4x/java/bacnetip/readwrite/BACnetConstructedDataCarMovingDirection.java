@@ -79,7 +79,7 @@ public class BACnetConstructedDataCarMovingDirection extends BACnetConstructedDa
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataCarMovingDirection");
 
     // Simple Field (carMovingDirection)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataCarMovingDirection extends BACnetConstructedDa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataCarMovingDirection _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (carMovingDirection)
     lengthInBits += carMovingDirection.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataCarMovingDirection extends BACnetConstructedDa
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataCarMovingDirection");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetLiftCarDirectionTagged carMovingDirection =
         readSimpleField(
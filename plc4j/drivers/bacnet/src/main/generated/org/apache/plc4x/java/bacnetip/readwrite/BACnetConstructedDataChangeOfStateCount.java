@@ -79,7 +79,7 @@ public class BACnetConstructedDataChangeOfStateCount extends BACnetConstructedDa
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataChangeOfStateCount");
 
     // Simple Field (changeIfStateCount)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataChangeOfStateCount extends BACnetConstructedDa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataChangeOfStateCount _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (changeIfStateCount)
     lengthInBits += changeIfStateCount.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataChangeOfStateCount extends BACnetConstructedDa
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataChangeOfStateCount");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger changeIfStateCount =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataChangeOfStateTime extends BACnetConstructedDat
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataChangeOfStateTime");
 
     // Simple Field (changeOfStateTime)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataChangeOfStateTime extends BACnetConstructedDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataChangeOfStateTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (changeOfStateTime)
     lengthInBits += changeOfStateTime.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataChangeOfStateTime extends BACnetConstructedDat
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataChangeOfStateTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDateTime changeOfStateTime =
         readSimpleField(
@@ -78,7 +78,7 @@ public class BACnetConstructedDataChangesPending extends BACnetConstructedData i
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataChangesPending");
 
     // Simple Field (changesPending)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataChangesPending extends BACnetConstructedData i
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataChangesPending _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (changesPending)
     lengthInBits += changesPending.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataChangesPending extends BACnetConstructedData i
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataChangesPending");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean changesPending =
         readSimpleField(
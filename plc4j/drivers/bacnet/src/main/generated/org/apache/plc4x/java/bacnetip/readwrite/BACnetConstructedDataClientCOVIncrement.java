@@ -79,7 +79,7 @@ public class BACnetConstructedDataClientCOVIncrement extends BACnetConstructedDa
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataClientCOVIncrement");
 
     // Simple Field (covIncrement)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataClientCOVIncrement extends BACnetConstructedDa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataClientCOVIncrement _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (covIncrement)
     lengthInBits += covIncrement.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataClientCOVIncrement extends BACnetConstructedDa
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataClientCOVIncrement");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetClientCOV covIncrement =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataControlledVariableReference extends BACnetCons
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataControlledVariableReference");
 
     // Simple Field (controlledVariableReference)
@@ -99,10 +99,9 @@ public class BACnetConstructedDataControlledVariableReference extends BACnetCons
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataControlledVariableReference _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (controlledVariableReference)
     lengthInBits += controlledVariableReference.getLengthInBits();
@@ -121,7 +120,7 @@ public class BACnetConstructedDataControlledVariableReference extends BACnetCons
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataControlledVariableReference");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetObjectPropertyReference controlledVariableReference =
         readSimpleField(
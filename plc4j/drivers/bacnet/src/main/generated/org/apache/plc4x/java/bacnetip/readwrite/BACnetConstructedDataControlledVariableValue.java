@@ -79,7 +79,7 @@ public class BACnetConstructedDataControlledVariableValue extends BACnetConstruc
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataControlledVariableValue");
 
     // Simple Field (controlledVariableValue)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataControlledVariableValue extends BACnetConstruc
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataControlledVariableValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (controlledVariableValue)
     lengthInBits += controlledVariableValue.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataControlledVariableValue extends BACnetConstruc
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataControlledVariableValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagReal controlledVariableValue =
         readSimpleField(
@@ -78,7 +78,7 @@ public class BACnetConstructedDataCount extends BACnetConstructedData implements
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataCount");
 
     // Simple Field (count)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataCount extends BACnetConstructedData implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataCount _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (count)
     lengthInBits += count.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataCount extends BACnetConstructedData implements
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataCount");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger count =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataCountBeforeChange extends BACnetConstructedDat
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataCountBeforeChange");
 
     // Simple Field (countBeforeChange)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataCountBeforeChange extends BACnetConstructedDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataCountBeforeChange _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (countBeforeChange)
     lengthInBits += countBeforeChange.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataCountBeforeChange extends BACnetConstructedDat
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataCountBeforeChange");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger countBeforeChange =
         readSimpleField(
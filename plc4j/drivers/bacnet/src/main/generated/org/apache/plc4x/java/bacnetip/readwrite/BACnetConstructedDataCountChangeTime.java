@@ -78,7 +78,7 @@ public class BACnetConstructedDataCountChangeTime extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataCountChangeTime");
 
     // Simple Field (countChangeTime)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataCountChangeTime extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataCountChangeTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (countChangeTime)
     lengthInBits += countChangeTime.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataCountChangeTime extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataCountChangeTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDateTime countChangeTime =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataCredentialDataInputUpdateTime extends BACnetCo
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataCredentialDataInputUpdateTime");
 
     // Simple Field (updateTime)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataCredentialDataInputUpdateTime extends BACnetCo
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataCredentialDataInputUpdateTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (updateTime)
     lengthInBits += updateTime.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataCredentialDataInputUpdateTime extends BACnetCo
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataCredentialDataInputUpdateTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetTimeStamp updateTime =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataCredentialDisable extends BACnetConstructedDat
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataCredentialDisable");
 
     // Simple Field (credentialDisable)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataCredentialDisable extends BACnetConstructedDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataCredentialDisable _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (credentialDisable)
     lengthInBits += credentialDisable.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataCredentialDisable extends BACnetConstructedDat
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataCredentialDisable");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetAccessCredentialDisableTagged credentialDisable =
         readSimpleField(
@@ -75,7 +75,7 @@ public class BACnetConstructedDataCredentialsInZone extends BACnetConstructedDat
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataCredentialsInZone");
 
     // Array Field (credentialsInZone)
@@ -90,10 +90,9 @@ public class BACnetConstructedDataCredentialsInZone extends BACnetConstructedDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataCredentialsInZone _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (credentialsInZone != null) {
@@ -114,7 +113,7 @@ public class BACnetConstructedDataCredentialsInZone extends BACnetConstructedDat
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataCredentialsInZone");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetDeviceObjectReference> credentialsInZone =
         readTerminatedArrayField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataCurrentCommandPriority extends BACnetConstruct
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataCurrentCommandPriority");
 
     // Simple Field (currentCommandPriority)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataCurrentCommandPriority extends BACnetConstruct
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataCurrentCommandPriority _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (currentCommandPriority)
     lengthInBits += currentCommandPriority.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataCurrentCommandPriority extends BACnetConstruct
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataCurrentCommandPriority");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetOptionalUnsigned currentCommandPriority =
         readSimpleField(
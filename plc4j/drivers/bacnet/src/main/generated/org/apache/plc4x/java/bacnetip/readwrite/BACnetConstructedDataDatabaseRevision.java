@@ -79,7 +79,7 @@ public class BACnetConstructedDataDatabaseRevision extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataDatabaseRevision");
 
     // Simple Field (databaseRevision)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataDatabaseRevision extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataDatabaseRevision _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (databaseRevision)
     lengthInBits += databaseRevision.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataDatabaseRevision extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataDatabaseRevision");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger databaseRevision =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataDaylightSavingsStatus extends BACnetConstructe
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataDaylightSavingsStatus");
 
     // Simple Field (daylightSavingsStatus)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataDaylightSavingsStatus extends BACnetConstructe
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataDaylightSavingsStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (daylightSavingsStatus)
     lengthInBits += daylightSavingsStatus.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataDaylightSavingsStatus extends BACnetConstructe
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataDaylightSavingsStatus");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean daylightSavingsStatus =
         readSimpleField(
@@ -78,7 +78,7 @@ public class BACnetConstructedDataDaysRemaining extends BACnetConstructedData im
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataDaysRemaining");
 
     // Simple Field (daysRemaining)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataDaysRemaining extends BACnetConstructedData im
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataDaysRemaining _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (daysRemaining)
     lengthInBits += daysRemaining.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataDaysRemaining extends BACnetConstructedData im
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataDaysRemaining");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagSignedInteger daysRemaining =
         readSimpleField(
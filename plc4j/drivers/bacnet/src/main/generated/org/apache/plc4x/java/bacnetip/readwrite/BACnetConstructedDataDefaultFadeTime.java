@@ -78,7 +78,7 @@ public class BACnetConstructedDataDefaultFadeTime extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataDefaultFadeTime");
 
     // Simple Field (defaultFadeTime)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataDefaultFadeTime extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataDefaultFadeTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (defaultFadeTime)
     lengthInBits += defaultFadeTime.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataDefaultFadeTime extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataDefaultFadeTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger defaultFadeTime =
         readSimpleField(
@@ -78,7 +78,7 @@ public class BACnetConstructedDataDefaultRampRate extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataDefaultRampRate");
 
     // Simple Field (defaultRampRate)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataDefaultRampRate extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataDefaultRampRate _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (defaultRampRate)
     lengthInBits += defaultRampRate.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataDefaultRampRate extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataDefaultRampRate");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagReal defaultRampRate =
         readSimpleField(
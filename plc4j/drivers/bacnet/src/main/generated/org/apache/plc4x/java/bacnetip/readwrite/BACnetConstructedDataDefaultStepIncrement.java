@@ -79,7 +79,7 @@ public class BACnetConstructedDataDefaultStepIncrement extends BACnetConstructed
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataDefaultStepIncrement");
 
     // Simple Field (defaultStepIncrement)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataDefaultStepIncrement extends BACnetConstructed
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataDefaultStepIncrement _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (defaultStepIncrement)
     lengthInBits += defaultStepIncrement.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataDefaultStepIncrement extends BACnetConstructed
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataDefaultStepIncrement");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagReal defaultStepIncrement =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataDefaultSubordinateRelationship extends BACnetC
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataDefaultSubordinateRelationship");
 
     // Simple Field (defaultSubordinateRelationship)
@@ -101,10 +101,9 @@ public class BACnetConstructedDataDefaultSubordinateRelationship extends BACnetC
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataDefaultSubordinateRelationship _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (defaultSubordinateRelationship)
     lengthInBits += defaultSubordinateRelationship.getLengthInBits();
@@ -123,7 +122,7 @@ public class BACnetConstructedDataDefaultSubordinateRelationship extends BACnetC
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataDefaultSubordinateRelationship");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetRelationshipTagged defaultSubordinateRelationship =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataDeployedProfileLocation extends BACnetConstruc
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataDeployedProfileLocation");
 
     // Simple Field (deployedProfileLocation)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataDeployedProfileLocation extends BACnetConstruc
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataDeployedProfileLocation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (deployedProfileLocation)
     lengthInBits += deployedProfileLocation.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataDeployedProfileLocation extends BACnetConstruc
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataDeployedProfileLocation");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagCharacterString deployedProfileLocation =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataDerivativeConstant extends BACnetConstructedDa
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataDerivativeConstant");
 
     // Simple Field (derivativeConstant)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataDerivativeConstant extends BACnetConstructedDa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataDerivativeConstant _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (derivativeConstant)
     lengthInBits += derivativeConstant.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataDerivativeConstant extends BACnetConstructedDa
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataDerivativeConstant");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagReal derivativeConstant =
         readSimpleField(
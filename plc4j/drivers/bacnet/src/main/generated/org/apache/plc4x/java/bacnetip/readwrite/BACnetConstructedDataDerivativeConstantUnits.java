@@ -79,7 +79,7 @@ public class BACnetConstructedDataDerivativeConstantUnits extends BACnetConstruc
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataDerivativeConstantUnits");
 
     // Simple Field (units)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataDerivativeConstantUnits extends BACnetConstruc
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataDerivativeConstantUnits _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (units)
     lengthInBits += units.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataDerivativeConstantUnits extends BACnetConstruc
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataDerivativeConstantUnits");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetEngineeringUnitsTagged units =
         readSimpleField(
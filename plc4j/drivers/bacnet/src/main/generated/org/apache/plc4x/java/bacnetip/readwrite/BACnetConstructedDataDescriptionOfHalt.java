@@ -79,7 +79,7 @@ public class BACnetConstructedDataDescriptionOfHalt extends BACnetConstructedDat
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataDescriptionOfHalt");
 
     // Simple Field (descriptionForHalt)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataDescriptionOfHalt extends BACnetConstructedDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataDescriptionOfHalt _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (descriptionForHalt)
     lengthInBits += descriptionForHalt.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataDescriptionOfHalt extends BACnetConstructedDat
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataDescriptionOfHalt");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagCharacterString descriptionForHalt =
         readSimpleField(
@@ -75,7 +75,7 @@ public class BACnetConstructedDataDeviceAddressBinding extends BACnetConstructed
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataDeviceAddressBinding");
 
     // Array Field (deviceAddressBinding)
@@ -90,10 +90,9 @@ public class BACnetConstructedDataDeviceAddressBinding extends BACnetConstructed
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataDeviceAddressBinding _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (deviceAddressBinding != null) {
@@ -114,7 +113,7 @@ public class BACnetConstructedDataDeviceAddressBinding extends BACnetConstructed
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataDeviceAddressBinding");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetAddressBinding> deviceAddressBinding =
         readTerminatedArrayField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataDeviceMaxInfoFrames extends BACnetConstructedD
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataDeviceMaxInfoFrames");
 
     // Simple Field (maxInfoFrames)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataDeviceMaxInfoFrames extends BACnetConstructedD
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataDeviceMaxInfoFrames _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (maxInfoFrames)
     lengthInBits += maxInfoFrames.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataDeviceMaxInfoFrames extends BACnetConstructedD
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataDeviceMaxInfoFrames");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger maxInfoFrames =
         readSimpleField(
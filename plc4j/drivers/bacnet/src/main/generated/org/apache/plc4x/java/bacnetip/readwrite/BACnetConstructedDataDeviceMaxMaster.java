@@ -78,7 +78,7 @@ public class BACnetConstructedDataDeviceMaxMaster extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataDeviceMaxMaster");
 
     // Simple Field (maxMaster)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataDeviceMaxMaster extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataDeviceMaxMaster _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (maxMaster)
     lengthInBits += maxMaster.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataDeviceMaxMaster extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataDeviceMaxMaster");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger maxMaster =
         readSimpleField(
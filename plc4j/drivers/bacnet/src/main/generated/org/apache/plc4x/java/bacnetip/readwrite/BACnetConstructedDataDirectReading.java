@@ -78,7 +78,7 @@ public class BACnetConstructedDataDirectReading extends BACnetConstructedData im
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataDirectReading");
 
     // Simple Field (directReading)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataDirectReading extends BACnetConstructedData im
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataDirectReading _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (directReading)
     lengthInBits += directReading.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataDirectReading extends BACnetConstructedData im
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataDirectReading");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagReal directReading =
         readSimpleField(
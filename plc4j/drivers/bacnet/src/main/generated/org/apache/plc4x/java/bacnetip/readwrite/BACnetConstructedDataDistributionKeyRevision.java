@@ -79,7 +79,7 @@ public class BACnetConstructedDataDistributionKeyRevision extends BACnetConstruc
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataDistributionKeyRevision");
 
     // Simple Field (distributionKeyRevision)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataDistributionKeyRevision extends BACnetConstruc
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataDistributionKeyRevision _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (distributionKeyRevision)
     lengthInBits += distributionKeyRevision.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataDistributionKeyRevision extends BACnetConstruc
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataDistributionKeyRevision");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger distributionKeyRevision =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataDoorExtendedPulseTime extends BACnetConstructe
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataDoorExtendedPulseTime");
 
     // Simple Field (doorExtendedPulseTime)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataDoorExtendedPulseTime extends BACnetConstructe
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataDoorExtendedPulseTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (doorExtendedPulseTime)
     lengthInBits += doorExtendedPulseTime.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataDoorExtendedPulseTime extends BACnetConstructe
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataDoorExtendedPulseTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger doorExtendedPulseTime =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataDoorOpenTooLongTime extends BACnetConstructedD
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataDoorOpenTooLongTime");
 
     // Simple Field (doorOpenTooLongTime)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataDoorOpenTooLongTime extends BACnetConstructedD
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataDoorOpenTooLongTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (doorOpenTooLongTime)
     lengthInBits += doorOpenTooLongTime.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataDoorOpenTooLongTime extends BACnetConstructedD
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataDoorOpenTooLongTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger doorOpenTooLongTime =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataDoorUnlockDelayTime extends BACnetConstructedD
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataDoorUnlockDelayTime");
 
     // Simple Field (doorUnlockDelayTime)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataDoorUnlockDelayTime extends BACnetConstructedD
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataDoorUnlockDelayTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (doorUnlockDelayTime)
     lengthInBits += doorUnlockDelayTime.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataDoorUnlockDelayTime extends BACnetConstructedD
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataDoorUnlockDelayTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger doorUnlockDelayTime =
         readSimpleField(
@@ -78,7 +78,7 @@ public class BACnetConstructedDataEffectivePeriod extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataEffectivePeriod");
 
     // Simple Field (dateRange)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataEffectivePeriod extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataEffectivePeriod _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dateRange)
     lengthInBits += dateRange.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataEffectivePeriod extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataEffectivePeriod");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDateRange dateRange =
         readSimpleField(
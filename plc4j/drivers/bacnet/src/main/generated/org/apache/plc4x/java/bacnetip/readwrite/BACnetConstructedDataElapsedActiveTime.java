@@ -79,7 +79,7 @@ public class BACnetConstructedDataElapsedActiveTime extends BACnetConstructedDat
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataElapsedActiveTime");
 
     // Simple Field (elapsedActiveTime)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataElapsedActiveTime extends BACnetConstructedDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataElapsedActiveTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (elapsedActiveTime)
     lengthInBits += elapsedActiveTime.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataElapsedActiveTime extends BACnetConstructedDat
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataElapsedActiveTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger elapsedActiveTime =
         readSimpleField(
@@ -78,7 +78,7 @@ public class BACnetConstructedDataElevatorGroup extends BACnetConstructedData im
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataElevatorGroup");
 
     // Simple Field (elevatorGroup)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataElevatorGroup extends BACnetConstructedData im
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataElevatorGroup _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (elevatorGroup)
     lengthInBits += elevatorGroup.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataElevatorGroup extends BACnetConstructedData im
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataElevatorGroup");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagObjectIdentifier elevatorGroup =
         readSimpleField(
@@ -78,7 +78,7 @@ public class BACnetConstructedDataEnable extends BACnetConstructedData implement
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataEnable");
 
     // Simple Field (enable)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataEnable extends BACnetConstructedData implement
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataEnable _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (enable)
     lengthInBits += enable.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataEnable extends BACnetConstructedData implement
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataEnable");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean enable =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataEventAlgorithmInhibit extends BACnetConstructe
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataEventAlgorithmInhibit");
 
     // Simple Field (eventAlgorithmInhibit)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataEventAlgorithmInhibit extends BACnetConstructe
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataEventAlgorithmInhibit _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (eventAlgorithmInhibit)
     lengthInBits += eventAlgorithmInhibit.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataEventAlgorithmInhibit extends BACnetConstructe
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataEventAlgorithmInhibit");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean eventAlgorithmInhibit =
         readSimpleField(
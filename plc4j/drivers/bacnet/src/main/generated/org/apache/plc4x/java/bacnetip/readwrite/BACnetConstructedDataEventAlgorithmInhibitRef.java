@@ -79,7 +79,7 @@ public class BACnetConstructedDataEventAlgorithmInhibitRef extends BACnetConstru
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataEventAlgorithmInhibitRef");
 
     // Simple Field (eventAlgorithmInhibitRef)
@@ -99,10 +99,9 @@ public class BACnetConstructedDataEventAlgorithmInhibitRef extends BACnetConstru
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataEventAlgorithmInhibitRef _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (eventAlgorithmInhibitRef)
     lengthInBits += eventAlgorithmInhibitRef.getLengthInBits();
@@ -121,7 +120,7 @@ public class BACnetConstructedDataEventAlgorithmInhibitRef extends BACnetConstru
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataEventAlgorithmInhibitRef");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetObjectPropertyReference eventAlgorithmInhibitRef =
         readSimpleField(
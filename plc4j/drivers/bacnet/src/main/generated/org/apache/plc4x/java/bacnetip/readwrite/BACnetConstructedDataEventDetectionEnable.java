@@ -79,7 +79,7 @@ public class BACnetConstructedDataEventDetectionEnable extends BACnetConstructed
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataEventDetectionEnable");
 
     // Simple Field (eventDetectionEnable)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataEventDetectionEnable extends BACnetConstructed
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataEventDetectionEnable _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (eventDetectionEnable)
     lengthInBits += eventDetectionEnable.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataEventDetectionEnable extends BACnetConstructed
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataEventDetectionEnable");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean eventDetectionEnable =
         readSimpleField(
@@ -75,7 +75,7 @@ public class BACnetConstructedDataEventLogLogBuffer extends BACnetConstructedDat
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataEventLogLogBuffer");
 
     // Array Field (floorText)
@@ -90,10 +90,9 @@ public class BACnetConstructedDataEventLogLogBuffer extends BACnetConstructedDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataEventLogLogBuffer _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (floorText != null) {
@@ -114,7 +113,7 @@ public class BACnetConstructedDataEventLogLogBuffer extends BACnetConstructedDat
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataEventLogLogBuffer");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetEventLogRecord> floorText =
         readTerminatedArrayField(
@@ -110,7 +110,7 @@ public class BACnetConstructedDataEventMessageTextsConfig extends BACnetConstruc
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataEventMessageTextsConfig");
 
     // Virtual field (doesn't actually serialize anything, just makes the value available)
@@ -148,10 +148,9 @@ public class BACnetConstructedDataEventMessageTextsConfig extends BACnetConstruc
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataEventMessageTextsConfig _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // A virtual field doesn't have any in- or output.
 
@@ -185,7 +184,7 @@ public class BACnetConstructedDataEventMessageTextsConfig extends BACnetConstruc
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataEventMessageTextsConfig");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
     BigInteger zero = readVirtualField("zero", BigInteger.class, 0L);
 
     BACnetApplicationTagUnsignedInteger numberOfDataElements =
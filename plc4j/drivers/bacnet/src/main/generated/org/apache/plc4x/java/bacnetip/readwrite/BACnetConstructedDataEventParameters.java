@@ -78,7 +78,7 @@ public class BACnetConstructedDataEventParameters extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataEventParameters");
 
     // Simple Field (eventParameter)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataEventParameters extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataEventParameters _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (eventParameter)
     lengthInBits += eventParameter.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataEventParameters extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataEventParameters");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetEventParameter eventParameter =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataExpectedShedLevel extends BACnetConstructedDat
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataExpectedShedLevel");
 
     // Simple Field (expectedShedLevel)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataExpectedShedLevel extends BACnetConstructedDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataExpectedShedLevel _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (expectedShedLevel)
     lengthInBits += expectedShedLevel.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataExpectedShedLevel extends BACnetConstructedDat
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataExpectedShedLevel");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetShedLevel expectedShedLevel =
         readSimpleField(
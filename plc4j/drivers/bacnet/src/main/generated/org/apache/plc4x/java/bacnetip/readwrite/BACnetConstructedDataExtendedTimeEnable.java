@@ -79,7 +79,7 @@ public class BACnetConstructedDataExtendedTimeEnable extends BACnetConstructedDa
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataExtendedTimeEnable");
 
     // Simple Field (extendedTimeEnable)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataExtendedTimeEnable extends BACnetConstructedDa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataExtendedTimeEnable _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (extendedTimeEnable)
     lengthInBits += extendedTimeEnable.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataExtendedTimeEnable extends BACnetConstructedDa
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataExtendedTimeEnable");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean extendedTimeEnable =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataFDSubscriptionLifetime extends BACnetConstruct
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataFDSubscriptionLifetime");
 
     // Simple Field (fdSubscriptionLifetime)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataFDSubscriptionLifetime extends BACnetConstruct
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataFDSubscriptionLifetime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (fdSubscriptionLifetime)
     lengthInBits += fdSubscriptionLifetime.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataFDSubscriptionLifetime extends BACnetConstruct
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataFDSubscriptionLifetime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger fdSubscriptionLifetime =
         readSimpleField(
@@ -75,7 +75,7 @@ public class BACnetConstructedDataFailedAttemptEvents extends BACnetConstructedD
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataFailedAttemptEvents");
 
     // Array Field (failedAttemptEvents)
@@ -90,10 +90,9 @@ public class BACnetConstructedDataFailedAttemptEvents extends BACnetConstructedD
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataFailedAttemptEvents _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (failedAttemptEvents != null) {
@@ -114,7 +113,7 @@ public class BACnetConstructedDataFailedAttemptEvents extends BACnetConstructedD
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataFailedAttemptEvents");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetAccessEventTagged> failedAttemptEvents =
         readTerminatedArrayField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataFailedAttemptsTime extends BACnetConstructedDa
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataFailedAttemptsTime");
 
     // Simple Field (failedAttemptsTime)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataFailedAttemptsTime extends BACnetConstructedDa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataFailedAttemptsTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (failedAttemptsTime)
     lengthInBits += failedAttemptsTime.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataFailedAttemptsTime extends BACnetConstructedDa
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataFailedAttemptsTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger failedAttemptsTime =
         readSimpleField(
@@ -78,7 +78,7 @@ public class BACnetConstructedDataFaultParameters extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataFaultParameters");
 
     // Simple Field (faultParameters)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataFaultParameters extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataFaultParameters _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (faultParameters)
     lengthInBits += faultParameters.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataFaultParameters extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataFaultParameters");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetFaultParameter faultParameters =
         readSimpleField(
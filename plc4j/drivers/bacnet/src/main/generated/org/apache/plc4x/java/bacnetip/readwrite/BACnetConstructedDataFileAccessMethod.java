@@ -79,7 +79,7 @@ public class BACnetConstructedDataFileAccessMethod extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataFileAccessMethod");
 
     // Simple Field (fileAccessMethod)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataFileAccessMethod extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataFileAccessMethod _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (fileAccessMethod)
     lengthInBits += fileAccessMethod.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataFileAccessMethod extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataFileAccessMethod");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetFileAccessMethodTagged fileAccessMethod =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataFirmwareRevision extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataFirmwareRevision");
 
     // Simple Field (firmwareRevision)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataFirmwareRevision extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataFirmwareRevision _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (firmwareRevision)
     lengthInBits += firmwareRevision.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataFirmwareRevision extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataFirmwareRevision");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagCharacterString firmwareRevision =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataFullDutyBaseline extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataFullDutyBaseline");
 
     // Simple Field (fullDutyBaseLine)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataFullDutyBaseline extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataFullDutyBaseline _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (fullDutyBaseLine)
     lengthInBits += fullDutyBaseLine.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataFullDutyBaseline extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataFullDutyBaseline");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagReal fullDutyBaseLine =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataGlobalIdentifier extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataGlobalIdentifier");
 
     // Simple Field (globalIdentifier)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataGlobalIdentifier extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataGlobalIdentifier _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (globalIdentifier)
     lengthInBits += globalIdentifier.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataGlobalIdentifier extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataGlobalIdentifier");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger globalIdentifier =
         readSimpleField(
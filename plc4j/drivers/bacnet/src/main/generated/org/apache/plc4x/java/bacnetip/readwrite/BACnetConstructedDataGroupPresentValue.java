@@ -75,7 +75,7 @@ public class BACnetConstructedDataGroupPresentValue extends BACnetConstructedDat
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataGroupPresentValue");
 
     // Array Field (presentValue)
@@ -90,10 +90,9 @@ public class BACnetConstructedDataGroupPresentValue extends BACnetConstructedDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataGroupPresentValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (presentValue != null) {
@@ -114,7 +113,7 @@ public class BACnetConstructedDataGroupPresentValue extends BACnetConstructedDat
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataGroupPresentValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetReadAccessResult> presentValue =
         readTerminatedArrayField(
@@ -78,7 +78,7 @@ public class BACnetConstructedDataIPDHCPLeaseTime extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataIPDHCPLeaseTime");
 
     // Simple Field (ipDhcpLeaseTime)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataIPDHCPLeaseTime extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataIPDHCPLeaseTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (ipDhcpLeaseTime)
     lengthInBits += ipDhcpLeaseTime.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataIPDHCPLeaseTime extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataIPDHCPLeaseTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger ipDhcpLeaseTime =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataIPDHCPLeaseTimeRemaining extends BACnetConstru
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataIPDHCPLeaseTimeRemaining");
 
     // Simple Field (ipDhcpLeaseTimeRemaining)
@@ -99,10 +99,9 @@ public class BACnetConstructedDataIPDHCPLeaseTimeRemaining extends BACnetConstru
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataIPDHCPLeaseTimeRemaining _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (ipDhcpLeaseTimeRemaining)
     lengthInBits += ipDhcpLeaseTimeRemaining.getLengthInBits();
@@ -121,7 +120,7 @@ public class BACnetConstructedDataIPDHCPLeaseTimeRemaining extends BACnetConstru
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataIPDHCPLeaseTimeRemaining");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger ipDhcpLeaseTimeRemaining =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataIPDefaultGateway extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataIPDefaultGateway");
 
     // Simple Field (ipDefaultGateway)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataIPDefaultGateway extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataIPDefaultGateway _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (ipDefaultGateway)
     lengthInBits += ipDefaultGateway.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataIPDefaultGateway extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataIPDefaultGateway");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagOctetString ipDefaultGateway =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataIPv6AutoAddressingEnable extends BACnetConstru
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataIPv6AutoAddressingEnable");
 
     // Simple Field (autoAddressingEnable)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataIPv6AutoAddressingEnable extends BACnetConstru
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataIPv6AutoAddressingEnable _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (autoAddressingEnable)
     lengthInBits += autoAddressingEnable.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataIPv6AutoAddressingEnable extends BACnetConstru
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataIPv6AutoAddressingEnable");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean autoAddressingEnable =
         readSimpleField(
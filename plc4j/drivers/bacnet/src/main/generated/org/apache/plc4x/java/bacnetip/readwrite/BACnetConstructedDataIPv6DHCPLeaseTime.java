@@ -79,7 +79,7 @@ public class BACnetConstructedDataIPv6DHCPLeaseTime extends BACnetConstructedDat
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataIPv6DHCPLeaseTime");
 
     // Simple Field (ipv6DhcpLeaseTime)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataIPv6DHCPLeaseTime extends BACnetConstructedDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataIPv6DHCPLeaseTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (ipv6DhcpLeaseTime)
     lengthInBits += ipv6DhcpLeaseTime.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataIPv6DHCPLeaseTime extends BACnetConstructedDat
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataIPv6DHCPLeaseTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger ipv6DhcpLeaseTime =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataIPv6DHCPLeaseTimeRemaining extends BACnetConst
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataIPv6DHCPLeaseTimeRemaining");
 
     // Simple Field (ipv6DhcpLeaseTimeRemaining)
@@ -99,10 +99,9 @@ public class BACnetConstructedDataIPv6DHCPLeaseTimeRemaining extends BACnetConst
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataIPv6DHCPLeaseTimeRemaining _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (ipv6DhcpLeaseTimeRemaining)
     lengthInBits += ipv6DhcpLeaseTimeRemaining.getLengthInBits();
@@ -121,7 +120,7 @@ public class BACnetConstructedDataIPv6DHCPLeaseTimeRemaining extends BACnetConst
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataIPv6DHCPLeaseTimeRemaining");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger ipv6DhcpLeaseTimeRemaining =
         readSimpleField(
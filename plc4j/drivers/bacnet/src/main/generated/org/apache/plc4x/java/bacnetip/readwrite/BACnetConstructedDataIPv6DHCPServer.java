@@ -78,7 +78,7 @@ public class BACnetConstructedDataIPv6DHCPServer extends BACnetConstructedData i
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataIPv6DHCPServer");
 
     // Simple Field (dhcpServer)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataIPv6DHCPServer extends BACnetConstructedData i
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataIPv6DHCPServer _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dhcpServer)
     lengthInBits += dhcpServer.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataIPv6DHCPServer extends BACnetConstructedData i
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataIPv6DHCPServer");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagOctetString dhcpServer =
         readSimpleField(
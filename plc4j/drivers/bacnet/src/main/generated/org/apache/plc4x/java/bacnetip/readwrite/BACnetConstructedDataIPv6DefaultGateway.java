@@ -79,7 +79,7 @@ public class BACnetConstructedDataIPv6DefaultGateway extends BACnetConstructedDa
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataIPv6DefaultGateway");
 
     // Simple Field (ipv6DefaultGateway)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataIPv6DefaultGateway extends BACnetConstructedDa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataIPv6DefaultGateway _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (ipv6DefaultGateway)
     lengthInBits += ipv6DefaultGateway.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataIPv6DefaultGateway extends BACnetConstructedDa
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataIPv6DefaultGateway");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagOctetString ipv6DefaultGateway =
         readSimpleField(
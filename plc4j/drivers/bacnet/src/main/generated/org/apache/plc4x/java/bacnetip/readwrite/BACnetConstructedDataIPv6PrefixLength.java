@@ -79,7 +79,7 @@ public class BACnetConstructedDataIPv6PrefixLength extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataIPv6PrefixLength");
 
     // Simple Field (ipv6PrefixLength)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataIPv6PrefixLength extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataIPv6PrefixLength _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (ipv6PrefixLength)
     lengthInBits += ipv6PrefixLength.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataIPv6PrefixLength extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataIPv6PrefixLength");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger ipv6PrefixLength =
         readSimpleField(
@@ -78,7 +78,7 @@ public class BACnetConstructedDataIPv6ZoneIndex extends BACnetConstructedData im
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataIPv6ZoneIndex");
 
     // Simple Field (ipv6ZoneIndex)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataIPv6ZoneIndex extends BACnetConstructedData im
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataIPv6ZoneIndex _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (ipv6ZoneIndex)
     lengthInBits += ipv6ZoneIndex.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataIPv6ZoneIndex extends BACnetConstructedData im
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataIPv6ZoneIndex");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagCharacterString ipv6ZoneIndex =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataInstantaneousPower extends BACnetConstructedDa
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataInstantaneousPower");
 
     // Simple Field (instantaneousPower)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataInstantaneousPower extends BACnetConstructedDa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataInstantaneousPower _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (instantaneousPower)
     lengthInBits += instantaneousPower.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataInstantaneousPower extends BACnetConstructedDa
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataInstantaneousPower");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagReal instantaneousPower =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataIntegerValueCOVIncrement extends BACnetConstru
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataIntegerValueCOVIncrement");
 
     // Simple Field (covIncrement)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataIntegerValueCOVIncrement extends BACnetConstru
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataIntegerValueCOVIncrement _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (covIncrement)
     lengthInBits += covIncrement.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataIntegerValueCOVIncrement extends BACnetConstru
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataIntegerValueCOVIncrement");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger covIncrement =
         readSimpleField(
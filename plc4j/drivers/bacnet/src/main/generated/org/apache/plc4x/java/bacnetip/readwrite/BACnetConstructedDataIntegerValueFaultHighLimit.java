@@ -79,7 +79,7 @@ public class BACnetConstructedDataIntegerValueFaultHighLimit extends BACnetConst
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataIntegerValueFaultHighLimit");
 
     // Simple Field (faultHighLimit)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataIntegerValueFaultHighLimit extends BACnetConst
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataIntegerValueFaultHighLimit _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (faultHighLimit)
     lengthInBits += faultHighLimit.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataIntegerValueFaultHighLimit extends BACnetConst
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataIntegerValueFaultHighLimit");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagSignedInteger faultHighLimit =
         readSimpleField(
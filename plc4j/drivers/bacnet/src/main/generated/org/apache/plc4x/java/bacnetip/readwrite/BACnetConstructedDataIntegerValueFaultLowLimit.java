@@ -79,7 +79,7 @@ public class BACnetConstructedDataIntegerValueFaultLowLimit extends BACnetConstr
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataIntegerValueFaultLowLimit");
 
     // Simple Field (faultLowLimit)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataIntegerValueFaultLowLimit extends BACnetConstr
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataIntegerValueFaultLowLimit _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (faultLowLimit)
     lengthInBits += faultLowLimit.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataIntegerValueFaultLowLimit extends BACnetConstr
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataIntegerValueFaultLowLimit");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagSignedInteger faultLowLimit =
         readSimpleField(
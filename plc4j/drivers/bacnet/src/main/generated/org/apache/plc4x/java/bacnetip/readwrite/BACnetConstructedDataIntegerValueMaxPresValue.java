@@ -79,7 +79,7 @@ public class BACnetConstructedDataIntegerValueMaxPresValue extends BACnetConstru
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataIntegerValueMaxPresValue");
 
     // Simple Field (maxPresValue)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataIntegerValueMaxPresValue extends BACnetConstru
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataIntegerValueMaxPresValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (maxPresValue)
     lengthInBits += maxPresValue.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataIntegerValueMaxPresValue extends BACnetConstru
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataIntegerValueMaxPresValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagSignedInteger maxPresValue =
         readSimpleField(
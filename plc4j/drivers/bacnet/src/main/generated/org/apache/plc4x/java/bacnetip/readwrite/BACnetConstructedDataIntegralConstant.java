@@ -79,7 +79,7 @@ public class BACnetConstructedDataIntegralConstant extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataIntegralConstant");
 
     // Simple Field (integralConstant)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataIntegralConstant extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataIntegralConstant _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (integralConstant)
     lengthInBits += integralConstant.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataIntegralConstant extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataIntegralConstant");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagReal integralConstant =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataIntegralConstantUnits extends BACnetConstructe
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataIntegralConstantUnits");
 
     // Simple Field (units)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataIntegralConstantUnits extends BACnetConstructe
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataIntegralConstantUnits _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (units)
     lengthInBits += units.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataIntegralConstantUnits extends BACnetConstructe
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataIntegralConstantUnits");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetEngineeringUnitsTagged units =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataLandingCallControl extends BACnetConstructedDa
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataLandingCallControl");
 
     // Simple Field (landingCallControl)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataLandingCallControl extends BACnetConstructedDa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataLandingCallControl _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (landingCallControl)
     lengthInBits += landingCallControl.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataLandingCallControl extends BACnetConstructedDa
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataLandingCallControl");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetLandingCallStatus landingCallControl =
         readSimpleField(
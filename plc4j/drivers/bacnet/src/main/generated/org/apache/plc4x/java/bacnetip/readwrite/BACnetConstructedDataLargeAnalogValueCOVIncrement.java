@@ -79,7 +79,7 @@ public class BACnetConstructedDataLargeAnalogValueCOVIncrement extends BACnetCon
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataLargeAnalogValueCOVIncrement");
 
     // Simple Field (covIncrement)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataLargeAnalogValueCOVIncrement extends BACnetCon
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataLargeAnalogValueCOVIncrement _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (covIncrement)
     lengthInBits += covIncrement.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataLargeAnalogValueCOVIncrement extends BACnetCon
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataLargeAnalogValueCOVIncrement");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagDouble covIncrement =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataLargeAnalogValueDeadband extends BACnetConstru
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataLargeAnalogValueDeadband");
 
     // Simple Field (deadband)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataLargeAnalogValueDeadband extends BACnetConstru
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataLargeAnalogValueDeadband _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (deadband)
     lengthInBits += deadband.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataLargeAnalogValueDeadband extends BACnetConstru
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataLargeAnalogValueDeadband");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagDouble deadband =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataLargeAnalogValueFaultHighLimit extends BACnetC
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataLargeAnalogValueFaultHighLimit");
 
     // Simple Field (faultHighLimit)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataLargeAnalogValueFaultHighLimit extends BACnetC
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataLargeAnalogValueFaultHighLimit _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (faultHighLimit)
     lengthInBits += faultHighLimit.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataLargeAnalogValueFaultHighLimit extends BACnetC
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataLargeAnalogValueFaultHighLimit");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagDouble faultHighLimit =
         readSimpleField(
@@ -78,7 +78,7 @@ public class BACnetConstructedDataLastAccessEvent extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataLastAccessEvent");
 
     // Simple Field (lastAccessEvent)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataLastAccessEvent extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataLastAccessEvent _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lastAccessEvent)
     lengthInBits += lastAccessEvent.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataLastAccessEvent extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataLastAccessEvent");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetAccessEventTagged lastAccessEvent =
         readSimpleField(
@@ -78,7 +78,7 @@ public class BACnetConstructedDataLastAccessPoint extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataLastAccessPoint");
 
     // Simple Field (lastAccessPoint)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataLastAccessPoint extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataLastAccessPoint _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lastAccessPoint)
     lengthInBits += lastAccessPoint.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataLastAccessPoint extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataLastAccessPoint");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDeviceObjectReference lastAccessPoint =
         readSimpleField(
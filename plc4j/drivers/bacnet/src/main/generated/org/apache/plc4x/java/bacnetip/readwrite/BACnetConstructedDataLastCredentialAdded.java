@@ -79,7 +79,7 @@ public class BACnetConstructedDataLastCredentialAdded extends BACnetConstructedD
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataLastCredentialAdded");
 
     // Simple Field (lastCredentialAdded)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataLastCredentialAdded extends BACnetConstructedD
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataLastCredentialAdded _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lastCredentialAdded)
     lengthInBits += lastCredentialAdded.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataLastCredentialAdded extends BACnetConstructedD
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataLastCredentialAdded");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDeviceObjectReference lastCredentialAdded =
         readSimpleField(
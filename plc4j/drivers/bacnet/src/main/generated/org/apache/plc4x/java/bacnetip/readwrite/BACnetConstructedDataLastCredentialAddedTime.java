@@ -79,7 +79,7 @@ public class BACnetConstructedDataLastCredentialAddedTime extends BACnetConstruc
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataLastCredentialAddedTime");
 
     // Simple Field (lastCredentialAddedTime)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataLastCredentialAddedTime extends BACnetConstruc
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataLastCredentialAddedTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lastCredentialAddedTime)
     lengthInBits += lastCredentialAddedTime.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataLastCredentialAddedTime extends BACnetConstruc
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataLastCredentialAddedTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDateTime lastCredentialAddedTime =
         readSimpleField(
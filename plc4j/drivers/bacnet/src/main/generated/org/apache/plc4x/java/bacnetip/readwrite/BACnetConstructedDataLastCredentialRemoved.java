@@ -79,7 +79,7 @@ public class BACnetConstructedDataLastCredentialRemoved extends BACnetConstructe
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataLastCredentialRemoved");
 
     // Simple Field (lastCredentialRemoved)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataLastCredentialRemoved extends BACnetConstructe
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataLastCredentialRemoved _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lastCredentialRemoved)
     lengthInBits += lastCredentialRemoved.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataLastCredentialRemoved extends BACnetConstructe
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataLastCredentialRemoved");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDeviceObjectReference lastCredentialRemoved =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataLastCredentialRemovedTime extends BACnetConstr
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataLastCredentialRemovedTime");
 
     // Simple Field (lastCredentialRemovedTime)
@@ -99,10 +99,9 @@ public class BACnetConstructedDataLastCredentialRemovedTime extends BACnetConstr
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataLastCredentialRemovedTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lastCredentialRemovedTime)
     lengthInBits += lastCredentialRemovedTime.getLengthInBits();
@@ -121,7 +120,7 @@ public class BACnetConstructedDataLastCredentialRemovedTime extends BACnetConstr
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataLastCredentialRemovedTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDateTime lastCredentialRemovedTime =
         readSimpleField(
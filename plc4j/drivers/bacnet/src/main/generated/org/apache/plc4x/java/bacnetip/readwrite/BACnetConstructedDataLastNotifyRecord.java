@@ -79,7 +79,7 @@ public class BACnetConstructedDataLastNotifyRecord extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataLastNotifyRecord");
 
     // Simple Field (lastNotifyRecord)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataLastNotifyRecord extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataLastNotifyRecord _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lastNotifyRecord)
     lengthInBits += lastNotifyRecord.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataLastNotifyRecord extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataLastNotifyRecord");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger lastNotifyRecord =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataLastRestartReason extends BACnetConstructedDat
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataLastRestartReason");
 
     // Simple Field (lastRestartReason)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataLastRestartReason extends BACnetConstructedDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataLastRestartReason _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lastRestartReason)
     lengthInBits += lastRestartReason.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataLastRestartReason extends BACnetConstructedDat
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataLastRestartReason");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetRestartReasonTagged lastRestartReason =
         readSimpleField(
@@ -75,7 +75,7 @@ public class BACnetConstructedDataLifeSafetyZoneFaultValues extends BACnetConstr
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataLifeSafetyZoneFaultValues");
 
     // Array Field (faultValues)
@@ -90,10 +90,9 @@ public class BACnetConstructedDataLifeSafetyZoneFaultValues extends BACnetConstr
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataLifeSafetyZoneFaultValues _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (faultValues != null) {
@@ -114,7 +113,7 @@ public class BACnetConstructedDataLifeSafetyZoneFaultValues extends BACnetConstr
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataLifeSafetyZoneFaultValues");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetLifeSafetyStateTagged> faultValues =
         readTerminatedArrayField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataLifeSafetyZoneMaintenanceRequired extends BACn
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataLifeSafetyZoneMaintenanceRequired");
 
     // Simple Field (maintenanceRequired)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataLifeSafetyZoneMaintenanceRequired extends BACn
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataLifeSafetyZoneMaintenanceRequired _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (maintenanceRequired)
     lengthInBits += maintenanceRequired.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataLifeSafetyZoneMaintenanceRequired extends BACn
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataLifeSafetyZoneMaintenanceRequired");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean maintenanceRequired =
         readSimpleField(
@@ -75,7 +75,7 @@ public class BACnetConstructedDataLiftFaultSignals extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataLiftFaultSignals");
 
     // Array Field (faultSignals)
@@ -90,10 +90,9 @@ public class BACnetConstructedDataLiftFaultSignals extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataLiftFaultSignals _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (faultSignals != null) {
@@ -114,7 +113,7 @@ public class BACnetConstructedDataLiftFaultSignals extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataLiftFaultSignals");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetLiftFaultTagged> faultSignals =
         readTerminatedArrayField(
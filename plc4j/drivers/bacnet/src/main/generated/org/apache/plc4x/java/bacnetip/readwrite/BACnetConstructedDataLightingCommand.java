@@ -78,7 +78,7 @@ public class BACnetConstructedDataLightingCommand extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataLightingCommand");
 
     // Simple Field (lightingCommand)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataLightingCommand extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataLightingCommand _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lightingCommand)
     lengthInBits += lightingCommand.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataLightingCommand extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataLightingCommand");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetLightingCommand lightingCommand =
         readSimpleField(
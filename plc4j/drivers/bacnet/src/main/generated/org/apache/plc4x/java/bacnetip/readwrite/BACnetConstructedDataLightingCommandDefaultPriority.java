@@ -79,7 +79,7 @@ public class BACnetConstructedDataLightingCommandDefaultPriority extends BACnetC
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataLightingCommandDefaultPriority");
 
     // Simple Field (lightingCommandDefaultPriority)
@@ -101,10 +101,9 @@ public class BACnetConstructedDataLightingCommandDefaultPriority extends BACnetC
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataLightingCommandDefaultPriority _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lightingCommandDefaultPriority)
     lengthInBits += lightingCommandDefaultPriority.getLengthInBits();
@@ -123,7 +122,7 @@ public class BACnetConstructedDataLightingCommandDefaultPriority extends BACnetC
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataLightingCommandDefaultPriority");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger lightingCommandDefaultPriority =
         readSimpleField(
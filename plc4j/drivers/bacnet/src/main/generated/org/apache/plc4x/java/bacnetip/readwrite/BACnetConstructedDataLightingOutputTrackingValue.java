@@ -79,7 +79,7 @@ public class BACnetConstructedDataLightingOutputTrackingValue extends BACnetCons
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataLightingOutputTrackingValue");
 
     // Simple Field (trackingValue)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataLightingOutputTrackingValue extends BACnetCons
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataLightingOutputTrackingValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (trackingValue)
     lengthInBits += trackingValue.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataLightingOutputTrackingValue extends BACnetCons
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataLightingOutputTrackingValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagReal trackingValue =
         readSimpleField(
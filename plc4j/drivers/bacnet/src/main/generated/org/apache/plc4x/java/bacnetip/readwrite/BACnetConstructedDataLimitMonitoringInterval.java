@@ -79,7 +79,7 @@ public class BACnetConstructedDataLimitMonitoringInterval extends BACnetConstruc
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataLimitMonitoringInterval");
 
     // Simple Field (limitMonitoringInterval)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataLimitMonitoringInterval extends BACnetConstruc
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataLimitMonitoringInterval _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (limitMonitoringInterval)
     lengthInBits += limitMonitoringInterval.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataLimitMonitoringInterval extends BACnetConstruc
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataLimitMonitoringInterval");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger limitMonitoringInterval =
         readSimpleField(
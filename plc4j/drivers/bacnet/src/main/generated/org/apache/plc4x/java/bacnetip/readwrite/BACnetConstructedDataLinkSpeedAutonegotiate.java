@@ -79,7 +79,7 @@ public class BACnetConstructedDataLinkSpeedAutonegotiate extends BACnetConstruct
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataLinkSpeedAutonegotiate");
 
     // Simple Field (linkSpeedAutonegotiate)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataLinkSpeedAutonegotiate extends BACnetConstruct
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataLinkSpeedAutonegotiate _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (linkSpeedAutonegotiate)
     lengthInBits += linkSpeedAutonegotiate.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataLinkSpeedAutonegotiate extends BACnetConstruct
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataLinkSpeedAutonegotiate");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean linkSpeedAutonegotiate =
         readSimpleField(
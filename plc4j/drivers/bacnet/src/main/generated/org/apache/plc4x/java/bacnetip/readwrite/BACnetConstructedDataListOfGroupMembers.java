@@ -75,7 +75,7 @@ public class BACnetConstructedDataListOfGroupMembers extends BACnetConstructedDa
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataListOfGroupMembers");
 
     // Array Field (listOfGroupMembers)
@@ -90,10 +90,9 @@ public class BACnetConstructedDataListOfGroupMembers extends BACnetConstructedDa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataListOfGroupMembers _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (listOfGroupMembers != null) {
@@ -114,7 +113,7 @@ public class BACnetConstructedDataListOfGroupMembers extends BACnetConstructedDa
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataListOfGroupMembers");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetReadAccessSpecification> listOfGroupMembers =
         readTerminatedArrayField(
@@ -75,7 +75,7 @@ public class BACnetConstructedDataListOfObjectPropertyReferences extends BACnetC
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataListOfObjectPropertyReferences");
 
     // Array Field (references)
@@ -90,10 +90,9 @@ public class BACnetConstructedDataListOfObjectPropertyReferences extends BACnetC
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataListOfObjectPropertyReferences _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (references != null) {
@@ -114,7 +113,7 @@ public class BACnetConstructedDataListOfObjectPropertyReferences extends BACnetC
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataListOfObjectPropertyReferences");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetDeviceObjectPropertyReference> references =
         readTerminatedArrayField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataLocalForwardingOnly extends BACnetConstructedD
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataLocalForwardingOnly");
 
     // Simple Field (localForwardingOnly)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataLocalForwardingOnly extends BACnetConstructedD
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataLocalForwardingOnly _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (localForwardingOnly)
     lengthInBits += localForwardingOnly.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataLocalForwardingOnly extends BACnetConstructedD
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataLocalForwardingOnly");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean localForwardingOnly =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataLockoutRelinquishTime extends BACnetConstructe
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataLockoutRelinquishTime");
 
     // Simple Field (lockoutRelinquishTime)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataLockoutRelinquishTime extends BACnetConstructe
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataLockoutRelinquishTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lockoutRelinquishTime)
     lengthInBits += lockoutRelinquishTime.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataLockoutRelinquishTime extends BACnetConstructe
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataLockoutRelinquishTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger lockoutRelinquishTime =
         readSimpleField(
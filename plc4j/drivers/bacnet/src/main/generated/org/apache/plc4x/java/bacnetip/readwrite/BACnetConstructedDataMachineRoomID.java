@@ -78,7 +78,7 @@ public class BACnetConstructedDataMachineRoomID extends BACnetConstructedData im
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataMachineRoomID");
 
     // Simple Field (machineRoomId)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataMachineRoomID extends BACnetConstructedData im
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataMachineRoomID _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (machineRoomId)
     lengthInBits += machineRoomId.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataMachineRoomID extends BACnetConstructedData im
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataMachineRoomID");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagObjectIdentifier machineRoomId =
         readSimpleField(
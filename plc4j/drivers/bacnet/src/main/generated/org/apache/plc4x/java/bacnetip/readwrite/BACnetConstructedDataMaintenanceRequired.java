@@ -79,7 +79,7 @@ public class BACnetConstructedDataMaintenanceRequired extends BACnetConstructedD
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataMaintenanceRequired");
 
     // Simple Field (maintenanceRequired)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataMaintenanceRequired extends BACnetConstructedD
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataMaintenanceRequired _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (maintenanceRequired)
     lengthInBits += maintenanceRequired.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataMaintenanceRequired extends BACnetConstructedD
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataMaintenanceRequired");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetMaintenanceTagged maintenanceRequired =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataManipulatedVariableReference extends BACnetCon
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataManipulatedVariableReference");
 
     // Simple Field (manipulatedVariableReference)
@@ -99,10 +99,9 @@ public class BACnetConstructedDataManipulatedVariableReference extends BACnetCon
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataManipulatedVariableReference _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (manipulatedVariableReference)
     lengthInBits += manipulatedVariableReference.getLengthInBits();
@@ -121,7 +120,7 @@ public class BACnetConstructedDataManipulatedVariableReference extends BACnetCon
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataManipulatedVariableReference");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetObjectPropertyReference manipulatedVariableReference =
         readSimpleField(
@@ -75,7 +75,7 @@ public class BACnetConstructedDataMaskedAlarmValues extends BACnetConstructedDat
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataMaskedAlarmValues");
 
     // Array Field (maskedAlarmValues)
@@ -90,10 +90,9 @@ public class BACnetConstructedDataMaskedAlarmValues extends BACnetConstructedDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataMaskedAlarmValues _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (maskedAlarmValues != null) {
@@ -114,7 +113,7 @@ public class BACnetConstructedDataMaskedAlarmValues extends BACnetConstructedDat
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataMaskedAlarmValues");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetDoorAlarmStateTagged> maskedAlarmValues =
         readTerminatedArrayField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataMaxAPDULengthAccepted extends BACnetConstructe
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataMaxAPDULengthAccepted");
 
     // Simple Field (maxApduLengthAccepted)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataMaxAPDULengthAccepted extends BACnetConstructe
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataMaxAPDULengthAccepted _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (maxApduLengthAccepted)
     lengthInBits += maxApduLengthAccepted.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataMaxAPDULengthAccepted extends BACnetConstructe
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataMaxAPDULengthAccepted");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger maxApduLengthAccepted =
         readSimpleField(
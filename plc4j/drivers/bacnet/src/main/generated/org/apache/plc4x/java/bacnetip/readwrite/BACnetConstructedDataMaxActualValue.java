@@ -78,7 +78,7 @@ public class BACnetConstructedDataMaxActualValue extends BACnetConstructedData i
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataMaxActualValue");
 
     // Simple Field (maxActualValue)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataMaxActualValue extends BACnetConstructedData i
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataMaxActualValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (maxActualValue)
     lengthInBits += maxActualValue.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataMaxActualValue extends BACnetConstructedData i
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataMaxActualValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagReal maxActualValue =
         readSimpleField(
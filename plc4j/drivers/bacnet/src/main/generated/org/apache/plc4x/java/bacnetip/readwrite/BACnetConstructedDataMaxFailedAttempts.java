@@ -79,7 +79,7 @@ public class BACnetConstructedDataMaxFailedAttempts extends BACnetConstructedDat
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataMaxFailedAttempts");
 
     // Simple Field (maxFailedAttempts)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataMaxFailedAttempts extends BACnetConstructedDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataMaxFailedAttempts _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (maxFailedAttempts)
     lengthInBits += maxFailedAttempts.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataMaxFailedAttempts extends BACnetConstructedDat
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataMaxFailedAttempts");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger maxFailedAttempts =
         readSimpleField(
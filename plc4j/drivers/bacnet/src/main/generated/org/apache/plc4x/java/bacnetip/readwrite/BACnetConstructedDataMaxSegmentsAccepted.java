@@ -79,7 +79,7 @@ public class BACnetConstructedDataMaxSegmentsAccepted extends BACnetConstructedD
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataMaxSegmentsAccepted");
 
     // Simple Field (maxSegmentsAccepted)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataMaxSegmentsAccepted extends BACnetConstructedD
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataMaxSegmentsAccepted _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (maxSegmentsAccepted)
     lengthInBits += maxSegmentsAccepted.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataMaxSegmentsAccepted extends BACnetConstructedD
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataMaxSegmentsAccepted");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger maxSegmentsAccepted =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataMaximumValueTimestamp extends BACnetConstructe
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataMaximumValueTimestamp");
 
     // Simple Field (maximumValueTimestamp)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataMaximumValueTimestamp extends BACnetConstructe
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataMaximumValueTimestamp _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (maximumValueTimestamp)
     lengthInBits += maximumValueTimestamp.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataMaximumValueTimestamp extends BACnetConstructe
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataMaximumValueTimestamp");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDateTime maximumValueTimestamp =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataMinimumValueTimestamp extends BACnetConstructe
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataMinimumValueTimestamp");
 
     // Simple Field (minimumValueTimestamp)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataMinimumValueTimestamp extends BACnetConstructe
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataMinimumValueTimestamp _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (minimumValueTimestamp)
     lengthInBits += minimumValueTimestamp.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataMinimumValueTimestamp extends BACnetConstructe
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataMinimumValueTimestamp");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDateTime minimumValueTimestamp =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataModificationDate extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataModificationDate");
 
     // Simple Field (modificationDate)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataModificationDate extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataModificationDate _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (modificationDate)
     lengthInBits += modificationDate.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataModificationDate extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataModificationDate");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDateTime modificationDate =
         readSimpleField(
@@ -75,7 +75,7 @@ public class BACnetConstructedDataMultiStateValueFaultValues extends BACnetConst
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataMultiStateValueFaultValues");
 
     // Array Field (faultValues)
@@ -90,10 +90,9 @@ public class BACnetConstructedDataMultiStateValueFaultValues extends BACnetConst
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataMultiStateValueFaultValues _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (faultValues != null) {
@@ -114,7 +113,7 @@ public class BACnetConstructedDataMultiStateValueFaultValues extends BACnetConst
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataMultiStateValueFaultValues");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetApplicationTagUnsignedInteger> faultValues =
         readTerminatedArrayField(
@@ -89,7 +89,7 @@ public class BACnetConstructedDataNetworkAccessSecurityPolicies extends BACnetCo
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataNetworkAccessSecurityPolicies");
 
     // Virtual field (doesn't actually serialize anything, just makes the value available)
@@ -116,10 +116,9 @@ public class BACnetConstructedDataNetworkAccessSecurityPolicies extends BACnetCo
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataNetworkAccessSecurityPolicies _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // A virtual field doesn't have any in- or output.
 
@@ -147,7 +146,7 @@ public class BACnetConstructedDataNetworkAccessSecurityPolicies extends BACnetCo
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataNetworkAccessSecurityPolicies");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
     BigInteger zero = readVirtualField("zero", BigInteger.class, 0L);
 
     BACnetApplicationTagUnsignedInteger numberOfDataElements =
@@ -79,7 +79,7 @@ public class BACnetConstructedDataNetworkInterfaceName extends BACnetConstructed
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataNetworkInterfaceName");
 
     // Simple Field (networkInterfaceName)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataNetworkInterfaceName extends BACnetConstructed
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataNetworkInterfaceName _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (networkInterfaceName)
     lengthInBits += networkInterfaceName.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataNetworkInterfaceName extends BACnetConstructed
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataNetworkInterfaceName");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagCharacterString networkInterfaceName =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataNetworkNumberQuality extends BACnetConstructed
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataNetworkNumberQuality");
 
     // Simple Field (networkNumberQuality)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataNetworkNumberQuality extends BACnetConstructed
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataNetworkNumberQuality _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (networkNumberQuality)
     lengthInBits += networkNumberQuality.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataNetworkNumberQuality extends BACnetConstructed
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataNetworkNumberQuality");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetNetworkNumberQualityTagged networkNumberQuality =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataNetworkPortMaxMaster extends BACnetConstructed
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataNetworkPortMaxMaster");
 
     // Simple Field (maxMaster)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataNetworkPortMaxMaster extends BACnetConstructed
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataNetworkPortMaxMaster _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (maxMaster)
     lengthInBits += maxMaster.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataNetworkPortMaxMaster extends BACnetConstructed
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataNetworkPortMaxMaster");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger maxMaster =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataNextStoppingFloor extends BACnetConstructedDat
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataNextStoppingFloor");
 
     // Simple Field (nextStoppingFloor)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataNextStoppingFloor extends BACnetConstructedDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataNextStoppingFloor _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nextStoppingFloor)
     lengthInBits += nextStoppingFloor.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataNextStoppingFloor extends BACnetConstructedDat
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataNextStoppingFloor");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger nextStoppingFloor =
         readSimpleField(
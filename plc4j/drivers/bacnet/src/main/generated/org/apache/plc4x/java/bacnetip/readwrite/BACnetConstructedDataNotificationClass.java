@@ -79,7 +79,7 @@ public class BACnetConstructedDataNotificationClass extends BACnetConstructedDat
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataNotificationClass");
 
     // Simple Field (notificationClass)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataNotificationClass extends BACnetConstructedDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataNotificationClass _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (notificationClass)
     lengthInBits += notificationClass.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataNotificationClass extends BACnetConstructedDat
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataNotificationClass");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger notificationClass =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataNotificationThreshold extends BACnetConstructe
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataNotificationThreshold");
 
     // Simple Field (notificationThreshold)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataNotificationThreshold extends BACnetConstructe
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataNotificationThreshold _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (notificationThreshold)
     lengthInBits += notificationThreshold.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataNotificationThreshold extends BACnetConstructe
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataNotificationThreshold");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger notificationThreshold =
         readSimpleField(
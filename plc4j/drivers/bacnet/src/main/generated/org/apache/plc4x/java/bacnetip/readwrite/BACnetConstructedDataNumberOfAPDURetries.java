@@ -79,7 +79,7 @@ public class BACnetConstructedDataNumberOfAPDURetries extends BACnetConstructedD
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataNumberOfAPDURetries");
 
     // Simple Field (numberOfApduRetries)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataNumberOfAPDURetries extends BACnetConstructedD
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataNumberOfAPDURetries _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (numberOfApduRetries)
     lengthInBits += numberOfApduRetries.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataNumberOfAPDURetries extends BACnetConstructedD
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataNumberOfAPDURetries");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger numberOfApduRetries =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataNumberOfAuthenticationPolicies extends BACnetC
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataNumberOfAuthenticationPolicies");
 
     // Simple Field (numberOfAuthenticationPolicies)
@@ -101,10 +101,9 @@ public class BACnetConstructedDataNumberOfAuthenticationPolicies extends BACnetC
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataNumberOfAuthenticationPolicies _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (numberOfAuthenticationPolicies)
     lengthInBits += numberOfAuthenticationPolicies.getLengthInBits();
@@ -123,7 +122,7 @@ public class BACnetConstructedDataNumberOfAuthenticationPolicies extends BACnetC
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataNumberOfAuthenticationPolicies");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger numberOfAuthenticationPolicies =
         readSimpleField(
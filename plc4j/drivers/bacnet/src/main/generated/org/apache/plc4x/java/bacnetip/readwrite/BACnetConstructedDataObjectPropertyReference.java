@@ -79,7 +79,7 @@ public class BACnetConstructedDataObjectPropertyReference extends BACnetConstruc
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataObjectPropertyReference");
 
     // Simple Field (propertyReference)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataObjectPropertyReference extends BACnetConstruc
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataObjectPropertyReference _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (propertyReference)
     lengthInBits += propertyReference.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataObjectPropertyReference extends BACnetConstruc
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataObjectPropertyReference");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDeviceObjectPropertyReference propertyReference =
         readSimpleField(
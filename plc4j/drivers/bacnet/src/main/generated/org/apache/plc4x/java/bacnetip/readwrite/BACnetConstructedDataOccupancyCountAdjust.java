@@ -79,7 +79,7 @@ public class BACnetConstructedDataOccupancyCountAdjust extends BACnetConstructed
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataOccupancyCountAdjust");
 
     // Simple Field (occupancyCountAdjust)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataOccupancyCountAdjust extends BACnetConstructed
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataOccupancyCountAdjust _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (occupancyCountAdjust)
     lengthInBits += occupancyCountAdjust.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataOccupancyCountAdjust extends BACnetConstructed
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataOccupancyCountAdjust");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean occupancyCountAdjust =
         readSimpleField(
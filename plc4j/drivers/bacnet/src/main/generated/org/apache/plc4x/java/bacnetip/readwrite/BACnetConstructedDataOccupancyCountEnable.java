@@ -79,7 +79,7 @@ public class BACnetConstructedDataOccupancyCountEnable extends BACnetConstructed
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataOccupancyCountEnable");
 
     // Simple Field (occupancyCountEnable)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataOccupancyCountEnable extends BACnetConstructed
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataOccupancyCountEnable _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (occupancyCountEnable)
     lengthInBits += occupancyCountEnable.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataOccupancyCountEnable extends BACnetConstructed
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataOccupancyCountEnable");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean occupancyCountEnable =
         readSimpleField(
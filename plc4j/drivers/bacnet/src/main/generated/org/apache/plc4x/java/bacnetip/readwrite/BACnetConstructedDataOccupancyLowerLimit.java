@@ -79,7 +79,7 @@ public class BACnetConstructedDataOccupancyLowerLimit extends BACnetConstructedD
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataOccupancyLowerLimit");
 
     // Simple Field (occupancyLowerLimit)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataOccupancyLowerLimit extends BACnetConstructedD
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataOccupancyLowerLimit _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (occupancyLowerLimit)
     lengthInBits += occupancyLowerLimit.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataOccupancyLowerLimit extends BACnetConstructedD
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataOccupancyLowerLimit");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger occupancyLowerLimit =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataOccupancyLowerLimitEnforced extends BACnetCons
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataOccupancyLowerLimitEnforced");
 
     // Simple Field (occupancyLowerLimitEnforced)
@@ -99,10 +99,9 @@ public class BACnetConstructedDataOccupancyLowerLimitEnforced extends BACnetCons
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataOccupancyLowerLimitEnforced _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (occupancyLowerLimitEnforced)
     lengthInBits += occupancyLowerLimitEnforced.getLengthInBits();
@@ -121,7 +120,7 @@ public class BACnetConstructedDataOccupancyLowerLimitEnforced extends BACnetCons
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataOccupancyLowerLimitEnforced");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean occupancyLowerLimitEnforced =
         readSimpleField(
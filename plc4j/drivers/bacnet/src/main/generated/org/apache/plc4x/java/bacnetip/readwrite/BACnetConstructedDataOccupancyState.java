@@ -78,7 +78,7 @@ public class BACnetConstructedDataOccupancyState extends BACnetConstructedData i
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataOccupancyState");
 
     // Simple Field (occupancyState)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataOccupancyState extends BACnetConstructedData i
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataOccupancyState _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (occupancyState)
     lengthInBits += occupancyState.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataOccupancyState extends BACnetConstructedData i
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataOccupancyState");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetAccessZoneOccupancyStateTagged occupancyState =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataOccupancyUpperLimit extends BACnetConstructedD
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataOccupancyUpperLimit");
 
     // Simple Field (occupancyUpperLimit)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataOccupancyUpperLimit extends BACnetConstructedD
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataOccupancyUpperLimit _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (occupancyUpperLimit)
     lengthInBits += occupancyUpperLimit.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataOccupancyUpperLimit extends BACnetConstructedD
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataOccupancyUpperLimit");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger occupancyUpperLimit =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataOccupancyUpperLimitEnforced extends BACnetCons
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataOccupancyUpperLimitEnforced");
 
     // Simple Field (occupancyUpperLimitEnforced)
@@ -99,10 +99,9 @@ public class BACnetConstructedDataOccupancyUpperLimitEnforced extends BACnetCons
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataOccupancyUpperLimitEnforced _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (occupancyUpperLimitEnforced)
     lengthInBits += occupancyUpperLimitEnforced.getLengthInBits();
@@ -121,7 +120,7 @@ public class BACnetConstructedDataOccupancyUpperLimitEnforced extends BACnetCons
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataOccupancyUpperLimitEnforced");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean occupancyUpperLimitEnforced =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataOperationDirection extends BACnetConstructedDa
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataOperationDirection");
 
     // Simple Field (operationDirection)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataOperationDirection extends BACnetConstructedDa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataOperationDirection _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (operationDirection)
     lengthInBits += operationDirection.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataOperationDirection extends BACnetConstructedDa
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataOperationDirection");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetEscalatorOperationDirectionTagged operationDirection =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataOperationExpected extends BACnetConstructedDat
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataOperationExpected");
 
     // Simple Field (lifeSafetyOperations)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataOperationExpected extends BACnetConstructedDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataOperationExpected _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lifeSafetyOperations)
     lengthInBits += lifeSafetyOperations.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataOperationExpected extends BACnetConstructedDat
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataOperationExpected");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetLifeSafetyOperationTagged lifeSafetyOperations =
         readSimpleField(
@@ -78,7 +78,7 @@ public class BACnetConstructedDataPassbackTimeout extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataPassbackTimeout");
 
     // Simple Field (passbackTimeout)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataPassbackTimeout extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataPassbackTimeout _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (passbackTimeout)
     lengthInBits += passbackTimeout.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataPassbackTimeout extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataPassbackTimeout");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger passbackTimeout =
         readSimpleField(
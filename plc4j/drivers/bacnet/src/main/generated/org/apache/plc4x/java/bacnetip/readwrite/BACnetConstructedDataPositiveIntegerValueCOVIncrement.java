@@ -79,7 +79,7 @@ public class BACnetConstructedDataPositiveIntegerValueCOVIncrement extends BACne
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataPositiveIntegerValueCOVIncrement");
 
     // Simple Field (covIncrement)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataPositiveIntegerValueCOVIncrement extends BACne
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataPositiveIntegerValueCOVIncrement _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (covIncrement)
     lengthInBits += covIncrement.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataPositiveIntegerValueCOVIncrement extends BACne
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataPositiveIntegerValueCOVIncrement");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger covIncrement =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataPositiveIntegerValueDeadband extends BACnetCon
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataPositiveIntegerValueDeadband");
 
     // Simple Field (deadband)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataPositiveIntegerValueDeadband extends BACnetCon
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataPositiveIntegerValueDeadband _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (deadband)
     lengthInBits += deadband.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataPositiveIntegerValueDeadband extends BACnetCon
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataPositiveIntegerValueDeadband");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger deadband =
         readSimpleField(
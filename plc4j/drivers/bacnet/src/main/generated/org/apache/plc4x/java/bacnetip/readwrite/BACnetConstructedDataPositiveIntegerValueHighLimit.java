@@ -79,7 +79,7 @@ public class BACnetConstructedDataPositiveIntegerValueHighLimit extends BACnetCo
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataPositiveIntegerValueHighLimit");
 
     // Simple Field (highLimit)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataPositiveIntegerValueHighLimit extends BACnetCo
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataPositiveIntegerValueHighLimit _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (highLimit)
     lengthInBits += highLimit.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataPositiveIntegerValueHighLimit extends BACnetCo
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataPositiveIntegerValueHighLimit");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger highLimit =
         readSimpleField(
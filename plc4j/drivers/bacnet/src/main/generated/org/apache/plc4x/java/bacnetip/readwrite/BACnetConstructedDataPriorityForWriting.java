@@ -79,7 +79,7 @@ public class BACnetConstructedDataPriorityForWriting extends BACnetConstructedDa
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataPriorityForWriting");
 
     // Simple Field (priorityForWriting)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataPriorityForWriting extends BACnetConstructedDa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataPriorityForWriting _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (priorityForWriting)
     lengthInBits += priorityForWriting.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataPriorityForWriting extends BACnetConstructedDa
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataPriorityForWriting");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger priorityForWriting =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataProcessIdentifierFilter extends BACnetConstruc
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataProcessIdentifierFilter");
 
     // Simple Field (processIdentifierFilter)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataProcessIdentifierFilter extends BACnetConstruc
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataProcessIdentifierFilter _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (processIdentifierFilter)
     lengthInBits += processIdentifierFilter.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataProcessIdentifierFilter extends BACnetConstruc
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataProcessIdentifierFilter");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetProcessIdSelection processIdentifierFilter =
         readSimpleField(
@@ -78,7 +78,7 @@ public class BACnetConstructedDataProfileLocation extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataProfileLocation");
 
     // Simple Field (profileLocation)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataProfileLocation extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataProfileLocation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (profileLocation)
     lengthInBits += profileLocation.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataProfileLocation extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataProfileLocation");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagCharacterString profileLocation =
         readSimpleField(
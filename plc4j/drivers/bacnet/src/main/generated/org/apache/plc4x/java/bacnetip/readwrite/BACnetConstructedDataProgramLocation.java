@@ -78,7 +78,7 @@ public class BACnetConstructedDataProgramLocation extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataProgramLocation");
 
     // Simple Field (programLocation)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataProgramLocation extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataProgramLocation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (programLocation)
     lengthInBits += programLocation.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataProgramLocation extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataProgramLocation");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagCharacterString programLocation =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataProportionalConstant extends BACnetConstructed
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataProportionalConstant");
 
     // Simple Field (proportionalConstant)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataProportionalConstant extends BACnetConstructed
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataProportionalConstant _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (proportionalConstant)
     lengthInBits += proportionalConstant.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataProportionalConstant extends BACnetConstructed
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataProportionalConstant");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagReal proportionalConstant =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataProtocolObjectTypesSupported extends BACnetCon
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataProtocolObjectTypesSupported");
 
     // Simple Field (protocolObjectTypesSupported)
@@ -99,10 +99,9 @@ public class BACnetConstructedDataProtocolObjectTypesSupported extends BACnetCon
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataProtocolObjectTypesSupported _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (protocolObjectTypesSupported)
     lengthInBits += protocolObjectTypesSupported.getLengthInBits();
@@ -121,7 +120,7 @@ public class BACnetConstructedDataProtocolObjectTypesSupported extends BACnetCon
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataProtocolObjectTypesSupported");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetObjectTypesSupportedTagged protocolObjectTypesSupported =
         readSimpleField(
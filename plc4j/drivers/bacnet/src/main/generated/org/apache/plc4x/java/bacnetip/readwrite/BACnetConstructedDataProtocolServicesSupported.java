@@ -79,7 +79,7 @@ public class BACnetConstructedDataProtocolServicesSupported extends BACnetConstr
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataProtocolServicesSupported");
 
     // Simple Field (protocolServicesSupported)
@@ -99,10 +99,9 @@ public class BACnetConstructedDataProtocolServicesSupported extends BACnetConstr
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataProtocolServicesSupported _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (protocolServicesSupported)
     lengthInBits += protocolServicesSupported.getLengthInBits();
@@ -121,7 +120,7 @@ public class BACnetConstructedDataProtocolServicesSupported extends BACnetConstr
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataProtocolServicesSupported");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetServicesSupportedTagged protocolServicesSupported =
         readSimpleField(
@@ -78,7 +78,7 @@ public class BACnetConstructedDataProtocolVersion extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataProtocolVersion");
 
     // Simple Field (protocolVersion)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataProtocolVersion extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataProtocolVersion _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (protocolVersion)
     lengthInBits += protocolVersion.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataProtocolVersion extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataProtocolVersion");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger protocolVersion =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataPulseConverterAdjustValue extends BACnetConstr
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataPulseConverterAdjustValue");
 
     // Simple Field (adjustValue)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataPulseConverterAdjustValue extends BACnetConstr
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataPulseConverterAdjustValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (adjustValue)
     lengthInBits += adjustValue.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataPulseConverterAdjustValue extends BACnetConstr
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataPulseConverterAdjustValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagReal adjustValue =
         readSimpleField(
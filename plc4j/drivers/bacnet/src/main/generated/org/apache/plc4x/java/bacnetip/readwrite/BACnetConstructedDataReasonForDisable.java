@@ -75,7 +75,7 @@ public class BACnetConstructedDataReasonForDisable extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataReasonForDisable");
 
     // Array Field (reasonForDisable)
@@ -90,10 +90,9 @@ public class BACnetConstructedDataReasonForDisable extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataReasonForDisable _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (reasonForDisable != null) {
@@ -114,7 +113,7 @@ public class BACnetConstructedDataReasonForDisable extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataReasonForDisable");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetAccessCredentialDisableReasonTagged> reasonForDisable =
         readTerminatedArrayField(
@@ -74,7 +74,7 @@ public class BACnetConstructedDataRecipientList extends BACnetConstructedData im
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataRecipientList");
 
     // Array Field (recipientList)
@@ -89,10 +89,9 @@ public class BACnetConstructedDataRecipientList extends BACnetConstructedData im
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataRecipientList _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (recipientList != null) {
@@ -113,7 +112,7 @@ public class BACnetConstructedDataRecipientList extends BACnetConstructedData im
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataRecipientList");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetDestination> recipientList =
         readTerminatedArrayField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataRecordsSinceNotification extends BACnetConstru
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataRecordsSinceNotification");
 
     // Simple Field (recordsSinceNotifications)
@@ -99,10 +99,9 @@ public class BACnetConstructedDataRecordsSinceNotification extends BACnetConstru
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataRecordsSinceNotification _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (recordsSinceNotifications)
     lengthInBits += recordsSinceNotifications.getLengthInBits();
@@ -121,7 +120,7 @@ public class BACnetConstructedDataRecordsSinceNotification extends BACnetConstru
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataRecordsSinceNotification");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger recordsSinceNotifications =
         readSimpleField(
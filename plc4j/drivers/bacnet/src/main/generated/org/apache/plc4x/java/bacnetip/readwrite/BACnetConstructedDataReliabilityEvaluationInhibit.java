@@ -79,7 +79,7 @@ public class BACnetConstructedDataReliabilityEvaluationInhibit extends BACnetCon
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataReliabilityEvaluationInhibit");
 
     // Simple Field (reliabilityEvaluationInhibit)
@@ -99,10 +99,9 @@ public class BACnetConstructedDataReliabilityEvaluationInhibit extends BACnetCon
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataReliabilityEvaluationInhibit _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (reliabilityEvaluationInhibit)
     lengthInBits += reliabilityEvaluationInhibit.getLengthInBits();
@@ -121,7 +120,7 @@ public class BACnetConstructedDataReliabilityEvaluationInhibit extends BACnetCon
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataReliabilityEvaluationInhibit");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean reliabilityEvaluationInhibit =
         readSimpleField(
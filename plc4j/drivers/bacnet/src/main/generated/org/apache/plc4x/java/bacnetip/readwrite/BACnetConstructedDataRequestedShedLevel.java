@@ -79,7 +79,7 @@ public class BACnetConstructedDataRequestedShedLevel extends BACnetConstructedDa
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataRequestedShedLevel");
 
     // Simple Field (requestedShedLevel)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataRequestedShedLevel extends BACnetConstructedDa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataRequestedShedLevel _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestedShedLevel)
     lengthInBits += requestedShedLevel.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataRequestedShedLevel extends BACnetConstructedDa
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataRequestedShedLevel");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetShedLevel requestedShedLevel =
         readSimpleField(
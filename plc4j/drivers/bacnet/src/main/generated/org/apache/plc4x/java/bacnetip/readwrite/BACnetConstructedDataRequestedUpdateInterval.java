@@ -79,7 +79,7 @@ public class BACnetConstructedDataRequestedUpdateInterval extends BACnetConstruc
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataRequestedUpdateInterval");
 
     // Simple Field (requestedUpdateInterval)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataRequestedUpdateInterval extends BACnetConstruc
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataRequestedUpdateInterval _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestedUpdateInterval)
     lengthInBits += requestedUpdateInterval.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataRequestedUpdateInterval extends BACnetConstruc
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataRequestedUpdateInterval");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger requestedUpdateInterval =
         readSimpleField(
@@ -75,7 +75,7 @@ public class BACnetConstructedDataRestartNotificationRecipients extends BACnetCo
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataRestartNotificationRecipients");
 
     // Array Field (restartNotificationRecipients)
@@ -91,10 +91,9 @@ public class BACnetConstructedDataRestartNotificationRecipients extends BACnetCo
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataRestartNotificationRecipients _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (restartNotificationRecipients != null) {
@@ -115,7 +114,7 @@ public class BACnetConstructedDataRestartNotificationRecipients extends BACnetCo
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataRestartNotificationRecipients");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetRecipient> restartNotificationRecipients =
         readTerminatedArrayField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataRestoreCompletionTime extends BACnetConstructe
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataRestoreCompletionTime");
 
     // Simple Field (completionTime)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataRestoreCompletionTime extends BACnetConstructe
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataRestoreCompletionTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (completionTime)
     lengthInBits += completionTime.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataRestoreCompletionTime extends BACnetConstructe
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataRestoreCompletionTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger completionTime =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataRestorePreparationTime extends BACnetConstruct
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataRestorePreparationTime");
 
     // Simple Field (restorePreparationTime)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataRestorePreparationTime extends BACnetConstruct
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataRestorePreparationTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (restorePreparationTime)
     lengthInBits += restorePreparationTime.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataRestorePreparationTime extends BACnetConstruct
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataRestorePreparationTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger restorePreparationTime =
         readSimpleField(
@@ -78,7 +78,7 @@ public class BACnetConstructedDataScheduleDefault extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataScheduleDefault");
 
     // Simple Field (scheduleDefault)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataScheduleDefault extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataScheduleDefault _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (scheduleDefault)
     lengthInBits += scheduleDefault.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataScheduleDefault extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataScheduleDefault");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetConstructedDataElement scheduleDefault =
         readSimpleField(
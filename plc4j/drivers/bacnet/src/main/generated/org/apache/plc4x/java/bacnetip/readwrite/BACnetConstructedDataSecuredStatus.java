@@ -78,7 +78,7 @@ public class BACnetConstructedDataSecuredStatus extends BACnetConstructedData im
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataSecuredStatus");
 
     // Simple Field (securedStatus)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataSecuredStatus extends BACnetConstructedData im
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataSecuredStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (securedStatus)
     lengthInBits += securedStatus.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataSecuredStatus extends BACnetConstructedData im
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataSecuredStatus");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDoorSecuredStatusTagged securedStatus =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataSecurityPDUTimeout extends BACnetConstructedDa
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataSecurityPDUTimeout");
 
     // Simple Field (securityPduTimeout)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataSecurityPDUTimeout extends BACnetConstructedDa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataSecurityPDUTimeout _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (securityPduTimeout)
     lengthInBits += securityPduTimeout.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataSecurityPDUTimeout extends BACnetConstructedDa
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataSecurityPDUTimeout");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger securityPduTimeout =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataSecurityTimeWindow extends BACnetConstructedDa
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataSecurityTimeWindow");
 
     // Simple Field (securityTimeWindow)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataSecurityTimeWindow extends BACnetConstructedDa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataSecurityTimeWindow _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (securityTimeWindow)
     lengthInBits += securityTimeWindow.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataSecurityTimeWindow extends BACnetConstructedDa
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataSecurityTimeWindow");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger securityTimeWindow =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataSegmentationSupported extends BACnetConstructe
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataSegmentationSupported");
 
     // Simple Field (segmentationSupported)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataSegmentationSupported extends BACnetConstructe
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataSegmentationSupported _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (segmentationSupported)
     lengthInBits += segmentationSupported.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataSegmentationSupported extends BACnetConstructe
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataSegmentationSupported");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetSegmentationTagged segmentationSupported =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataSetpointReference extends BACnetConstructedDat
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataSetpointReference");
 
     // Simple Field (setpointReference)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataSetpointReference extends BACnetConstructedDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataSetpointReference _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (setpointReference)
     lengthInBits += setpointReference.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataSetpointReference extends BACnetConstructedDat
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataSetpointReference");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetSetpointReference setpointReference =
         readSimpleField(
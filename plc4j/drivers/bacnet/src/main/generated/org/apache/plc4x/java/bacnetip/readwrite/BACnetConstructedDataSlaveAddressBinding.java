@@ -75,7 +75,7 @@ public class BACnetConstructedDataSlaveAddressBinding extends BACnetConstructedD
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataSlaveAddressBinding");
 
     // Array Field (slaveAddressBinding)
@@ -90,10 +90,9 @@ public class BACnetConstructedDataSlaveAddressBinding extends BACnetConstructedD
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataSlaveAddressBinding _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (slaveAddressBinding != null) {
@@ -114,7 +113,7 @@ public class BACnetConstructedDataSlaveAddressBinding extends BACnetConstructedD
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataSlaveAddressBinding");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetAddressBinding> slaveAddressBinding =
         readTerminatedArrayField(
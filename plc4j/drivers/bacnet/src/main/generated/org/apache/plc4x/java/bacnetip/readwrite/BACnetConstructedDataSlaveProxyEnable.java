@@ -79,7 +79,7 @@ public class BACnetConstructedDataSlaveProxyEnable extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataSlaveProxyEnable");
 
     // Simple Field (slaveProxyEnable)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataSlaveProxyEnable extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataSlaveProxyEnable _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (slaveProxyEnable)
     lengthInBits += slaveProxyEnable.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataSlaveProxyEnable extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataSlaveProxyEnable");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean slaveProxyEnable =
         readSimpleField(
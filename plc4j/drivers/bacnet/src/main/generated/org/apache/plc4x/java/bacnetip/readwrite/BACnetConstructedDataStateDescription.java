@@ -79,7 +79,7 @@ public class BACnetConstructedDataStateDescription extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataStateDescription");
 
     // Simple Field (stateDescription)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataStateDescription extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataStateDescription _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (stateDescription)
     lengthInBits += stateDescription.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataStateDescription extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataStateDescription");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagCharacterString stateDescription =
         readSimpleField(
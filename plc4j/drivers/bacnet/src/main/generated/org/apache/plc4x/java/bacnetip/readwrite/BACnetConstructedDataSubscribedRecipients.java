@@ -75,7 +75,7 @@ public class BACnetConstructedDataSubscribedRecipients extends BACnetConstructed
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataSubscribedRecipients");
 
     // Array Field (subscribedRecipients)
@@ -90,10 +90,9 @@ public class BACnetConstructedDataSubscribedRecipients extends BACnetConstructed
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataSubscribedRecipients _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (subscribedRecipients != null) {
@@ -114,7 +113,7 @@ public class BACnetConstructedDataSubscribedRecipients extends BACnetConstructed
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataSubscribedRecipients");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetEventNotificationSubscription> subscribedRecipients =
         readTerminatedArrayField(
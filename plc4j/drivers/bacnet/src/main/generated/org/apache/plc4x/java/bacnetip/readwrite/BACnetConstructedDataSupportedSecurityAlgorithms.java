@@ -75,7 +75,7 @@ public class BACnetConstructedDataSupportedSecurityAlgorithms extends BACnetCons
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataSupportedSecurityAlgorithms");
 
     // Array Field (supportedSecurityAlgorithms)
@@ -91,10 +91,9 @@ public class BACnetConstructedDataSupportedSecurityAlgorithms extends BACnetCons
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataSupportedSecurityAlgorithms _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (supportedSecurityAlgorithms != null) {
@@ -115,7 +114,7 @@ public class BACnetConstructedDataSupportedSecurityAlgorithms extends BACnetCons
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataSupportedSecurityAlgorithms");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetApplicationTagUnsignedInteger> supportedSecurityAlgorithms =
         readTerminatedArrayField(
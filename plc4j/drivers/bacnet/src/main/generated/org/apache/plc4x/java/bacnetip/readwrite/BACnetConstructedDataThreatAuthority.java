@@ -78,7 +78,7 @@ public class BACnetConstructedDataThreatAuthority extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataThreatAuthority");
 
     // Simple Field (threatAuthority)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataThreatAuthority extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataThreatAuthority _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (threatAuthority)
     lengthInBits += threatAuthority.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataThreatAuthority extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataThreatAuthority");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetAccessThreatLevel threatAuthority =
         readSimpleField(
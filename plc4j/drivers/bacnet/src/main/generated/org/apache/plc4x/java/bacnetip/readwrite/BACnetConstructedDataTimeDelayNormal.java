@@ -78,7 +78,7 @@ public class BACnetConstructedDataTimeDelayNormal extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataTimeDelayNormal");
 
     // Simple Field (timeDelayNormal)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataTimeDelayNormal extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataTimeDelayNormal _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timeDelayNormal)
     lengthInBits += timeDelayNormal.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataTimeDelayNormal extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataTimeDelayNormal");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger timeDelayNormal =
         readSimpleField(
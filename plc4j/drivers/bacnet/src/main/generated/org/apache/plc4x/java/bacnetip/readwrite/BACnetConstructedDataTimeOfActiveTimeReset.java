@@ -79,7 +79,7 @@ public class BACnetConstructedDataTimeOfActiveTimeReset extends BACnetConstructe
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataTimeOfActiveTimeReset");
 
     // Simple Field (timeOfActiveTimeReset)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataTimeOfActiveTimeReset extends BACnetConstructe
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataTimeOfActiveTimeReset _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timeOfActiveTimeReset)
     lengthInBits += timeOfActiveTimeReset.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataTimeOfActiveTimeReset extends BACnetConstructe
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataTimeOfActiveTimeReset");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDateTime timeOfActiveTimeReset =
         readSimpleField(
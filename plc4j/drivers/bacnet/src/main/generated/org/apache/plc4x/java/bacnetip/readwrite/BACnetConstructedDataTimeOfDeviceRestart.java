@@ -79,7 +79,7 @@ public class BACnetConstructedDataTimeOfDeviceRestart extends BACnetConstructedD
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataTimeOfDeviceRestart");
 
     // Simple Field (timeOfDeviceRestart)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataTimeOfDeviceRestart extends BACnetConstructedD
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataTimeOfDeviceRestart _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timeOfDeviceRestart)
     lengthInBits += timeOfDeviceRestart.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataTimeOfDeviceRestart extends BACnetConstructedD
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataTimeOfDeviceRestart");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetTimeStamp timeOfDeviceRestart =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataTimeOfStateCountReset extends BACnetConstructe
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataTimeOfStateCountReset");
 
     // Simple Field (timeOfStateCountReset)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataTimeOfStateCountReset extends BACnetConstructe
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataTimeOfStateCountReset _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timeOfStateCountReset)
     lengthInBits += timeOfStateCountReset.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataTimeOfStateCountReset extends BACnetConstructe
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataTimeOfStateCountReset");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDateTime timeOfStateCountReset =
         readSimpleField(
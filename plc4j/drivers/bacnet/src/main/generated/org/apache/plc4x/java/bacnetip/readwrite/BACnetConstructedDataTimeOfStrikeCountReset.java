@@ -79,7 +79,7 @@ public class BACnetConstructedDataTimeOfStrikeCountReset extends BACnetConstruct
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataTimeOfStrikeCountReset");
 
     // Simple Field (timeOfStrikeCountReset)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataTimeOfStrikeCountReset extends BACnetConstruct
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataTimeOfStrikeCountReset _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timeOfStrikeCountReset)
     lengthInBits += timeOfStrikeCountReset.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataTimeOfStrikeCountReset extends BACnetConstruct
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataTimeOfStrikeCountReset");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDateTime timeOfStrikeCountReset =
         readSimpleField(
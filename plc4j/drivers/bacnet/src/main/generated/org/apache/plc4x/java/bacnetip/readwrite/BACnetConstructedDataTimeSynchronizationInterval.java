@@ -79,7 +79,7 @@ public class BACnetConstructedDataTimeSynchronizationInterval extends BACnetCons
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataTimeSynchronizationInterval");
 
     // Simple Field (timeSynchronization)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataTimeSynchronizationInterval extends BACnetCons
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataTimeSynchronizationInterval _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timeSynchronization)
     lengthInBits += timeSynchronization.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataTimeSynchronizationInterval extends BACnetCons
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataTimeSynchronizationInterval");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger timeSynchronization =
         readSimpleField(
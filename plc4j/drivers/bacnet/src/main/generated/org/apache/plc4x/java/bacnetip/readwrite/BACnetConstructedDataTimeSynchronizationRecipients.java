@@ -75,7 +75,7 @@ public class BACnetConstructedDataTimeSynchronizationRecipients extends BACnetCo
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataTimeSynchronizationRecipients");
 
     // Array Field (timeSynchronizationRecipients)
@@ -91,10 +91,9 @@ public class BACnetConstructedDataTimeSynchronizationRecipients extends BACnetCo
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataTimeSynchronizationRecipients _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (timeSynchronizationRecipients != null) {
@@ -115,7 +114,7 @@ public class BACnetConstructedDataTimeSynchronizationRecipients extends BACnetCo
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataTimeSynchronizationRecipients");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetRecipient> timeSynchronizationRecipients =
         readTerminatedArrayField(
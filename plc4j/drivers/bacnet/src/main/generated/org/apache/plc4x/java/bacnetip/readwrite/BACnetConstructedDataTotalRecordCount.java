@@ -79,7 +79,7 @@ public class BACnetConstructedDataTotalRecordCount extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataTotalRecordCount");
 
     // Simple Field (totalRecordCount)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataTotalRecordCount extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataTotalRecordCount _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (totalRecordCount)
     lengthInBits += totalRecordCount.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataTotalRecordCount extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataTotalRecordCount");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger totalRecordCount =
         readSimpleField(
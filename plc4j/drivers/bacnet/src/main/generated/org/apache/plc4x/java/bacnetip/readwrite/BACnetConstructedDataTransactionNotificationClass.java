@@ -79,7 +79,7 @@ public class BACnetConstructedDataTransactionNotificationClass extends BACnetCon
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataTransactionNotificationClass");
 
     // Simple Field (transactionNotificationClass)
@@ -99,10 +99,9 @@ public class BACnetConstructedDataTransactionNotificationClass extends BACnetCon
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataTransactionNotificationClass _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (transactionNotificationClass)
     lengthInBits += transactionNotificationClass.getLengthInBits();
@@ -121,7 +120,7 @@ public class BACnetConstructedDataTransactionNotificationClass extends BACnetCon
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataTransactionNotificationClass");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger transactionNotificationClass =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataTrendLogLogDeviceObjectProperty extends BACnet
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataTrendLogLogDeviceObjectProperty");
 
     // Simple Field (logDeviceObjectProperty)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataTrendLogLogDeviceObjectProperty extends BACnet
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataTrendLogLogDeviceObjectProperty _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (logDeviceObjectProperty)
     lengthInBits += logDeviceObjectProperty.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataTrendLogLogDeviceObjectProperty extends BACnet
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataTrendLogLogDeviceObjectProperty");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDeviceObjectPropertyReference logDeviceObjectProperty =
         readSimpleField(
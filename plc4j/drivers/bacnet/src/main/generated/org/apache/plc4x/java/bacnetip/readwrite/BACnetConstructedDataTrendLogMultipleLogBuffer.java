@@ -75,7 +75,7 @@ public class BACnetConstructedDataTrendLogMultipleLogBuffer extends BACnetConstr
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataTrendLogMultipleLogBuffer");
 
     // Array Field (floorText)
@@ -90,10 +90,9 @@ public class BACnetConstructedDataTrendLogMultipleLogBuffer extends BACnetConstr
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataTrendLogMultipleLogBuffer _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (floorText != null) {
@@ -114,7 +113,7 @@ public class BACnetConstructedDataTrendLogMultipleLogBuffer extends BACnetConstr
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataTrendLogMultipleLogBuffer");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetLogMultipleRecord> floorText =
         readTerminatedArrayField(
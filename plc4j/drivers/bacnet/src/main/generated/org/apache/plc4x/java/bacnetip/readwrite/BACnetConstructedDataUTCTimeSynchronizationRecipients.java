@@ -75,7 +75,7 @@ public class BACnetConstructedDataUTCTimeSynchronizationRecipients extends BACne
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataUTCTimeSynchronizationRecipients");
 
     // Array Field (utcTimeSynchronizationRecipients)
@@ -91,10 +91,9 @@ public class BACnetConstructedDataUTCTimeSynchronizationRecipients extends BACne
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataUTCTimeSynchronizationRecipients _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (utcTimeSynchronizationRecipients != null) {
@@ -115,7 +114,7 @@ public class BACnetConstructedDataUTCTimeSynchronizationRecipients extends BACne
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataUTCTimeSynchronizationRecipients");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetRecipient> utcTimeSynchronizationRecipients =
         readTerminatedArrayField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataUpdateKeySetTimeout extends BACnetConstructedD
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataUpdateKeySetTimeout");
 
     // Simple Field (updateKeySetTimeout)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataUpdateKeySetTimeout extends BACnetConstructedD
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataUpdateKeySetTimeout _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (updateKeySetTimeout)
     lengthInBits += updateKeySetTimeout.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataUpdateKeySetTimeout extends BACnetConstructedD
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataUpdateKeySetTimeout");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger updateKeySetTimeout =
         readSimpleField(
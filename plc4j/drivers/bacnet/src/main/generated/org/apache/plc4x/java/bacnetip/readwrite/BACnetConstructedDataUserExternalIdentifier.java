@@ -79,7 +79,7 @@ public class BACnetConstructedDataUserExternalIdentifier extends BACnetConstruct
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataUserExternalIdentifier");
 
     // Simple Field (userExternalIdentifier)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataUserExternalIdentifier extends BACnetConstruct
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataUserExternalIdentifier _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (userExternalIdentifier)
     lengthInBits += userExternalIdentifier.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataUserExternalIdentifier extends BACnetConstruct
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataUserExternalIdentifier");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagCharacterString userExternalIdentifier =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataUserInformationReference extends BACnetConstru
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataUserInformationReference");
 
     // Simple Field (userInformationReference)
@@ -99,10 +99,9 @@ public class BACnetConstructedDataUserInformationReference extends BACnetConstru
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataUserInformationReference _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (userInformationReference)
     lengthInBits += userInformationReference.getLengthInBits();
@@ -121,7 +120,7 @@ public class BACnetConstructedDataUserInformationReference extends BACnetConstru
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataUserInformationReference");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagCharacterString userInformationReference =
         readSimpleField(
@@ -75,7 +75,7 @@ public class BACnetConstructedDataVTClassesSupported extends BACnetConstructedDa
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataVTClassesSupported");
 
     // Array Field (vtClassesSupported)
@@ -90,10 +90,9 @@ public class BACnetConstructedDataVTClassesSupported extends BACnetConstructedDa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataVTClassesSupported _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (vtClassesSupported != null) {
@@ -114,7 +113,7 @@ public class BACnetConstructedDataVTClassesSupported extends BACnetConstructedDa
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataVTClassesSupported");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetVTClassTagged> vtClassesSupported =
         readTerminatedArrayField(
@@ -79,7 +79,7 @@ public class BACnetConstructedDataValueBeforeChange extends BACnetConstructedDat
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataValueBeforeChange");
 
     // Simple Field (valuesBeforeChange)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataValueBeforeChange extends BACnetConstructedDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataValueBeforeChange _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (valuesBeforeChange)
     lengthInBits += valuesBeforeChange.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataValueBeforeChange extends BACnetConstructedDat
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataValueBeforeChange");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger valuesBeforeChange =
         readSimpleField(
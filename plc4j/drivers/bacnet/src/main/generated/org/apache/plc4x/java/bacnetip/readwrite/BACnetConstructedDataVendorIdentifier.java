@@ -79,7 +79,7 @@ public class BACnetConstructedDataVendorIdentifier extends BACnetConstructedData
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataVendorIdentifier");
 
     // Simple Field (vendorIdentifier)
@@ -98,10 +98,9 @@ public class BACnetConstructedDataVendorIdentifier extends BACnetConstructedData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataVendorIdentifier _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (vendorIdentifier)
     lengthInBits += vendorIdentifier.getLengthInBits();
@@ -120,7 +119,7 @@ public class BACnetConstructedDataVendorIdentifier extends BACnetConstructedData
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataVendorIdentifier");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetVendorIdTagged vendorIdentifier =
         readSimpleField(
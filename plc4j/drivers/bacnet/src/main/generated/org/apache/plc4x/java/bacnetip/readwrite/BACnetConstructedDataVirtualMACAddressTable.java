@@ -75,7 +75,7 @@ public class BACnetConstructedDataVirtualMACAddressTable extends BACnetConstruct
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataVirtualMACAddressTable");
 
     // Array Field (virtualMacAddressTable)
@@ -90,10 +90,9 @@ public class BACnetConstructedDataVirtualMACAddressTable extends BACnetConstruct
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataVirtualMACAddressTable _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (virtualMacAddressTable != null) {
@@ -114,7 +113,7 @@ public class BACnetConstructedDataVirtualMACAddressTable extends BACnetConstruct
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataVirtualMACAddressTable");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetVMACEntry> virtualMacAddressTable =
         readTerminatedArrayField(
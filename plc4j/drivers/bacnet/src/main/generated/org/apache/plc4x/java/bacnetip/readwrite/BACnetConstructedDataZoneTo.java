@@ -78,7 +78,7 @@ public class BACnetConstructedDataZoneTo extends BACnetConstructedData implement
   protected void serializeBACnetConstructedDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetConstructedDataZoneTo");
 
     // Simple Field (zoneTo)
@@ -97,10 +97,9 @@ public class BACnetConstructedDataZoneTo extends BACnetConstructedData implement
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetConstructedDataZoneTo _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (zoneTo)
     lengthInBits += zoneTo.getLengthInBits();
@@ -119,7 +118,7 @@ public class BACnetConstructedDataZoneTo extends BACnetConstructedData implement
       throws ParseException {
     readBuffer.pullContext("BACnetConstructedDataZoneTo");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDeviceObjectReference zoneTo =
         readSimpleField(
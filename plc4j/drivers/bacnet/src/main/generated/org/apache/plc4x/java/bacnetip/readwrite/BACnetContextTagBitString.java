@@ -63,7 +63,7 @@ public class BACnetContextTagBitString extends BACnetContextTag implements Messa
   protected void serializeBACnetContextTagChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetContextTagBitString");
 
     // Simple Field (payload)
@@ -78,10 +78,9 @@ public class BACnetContextTagBitString extends BACnetContextTag implements Messa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetContextTagBitString _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (payload)
     lengthInBits += payload.getLengthInBits();
@@ -97,7 +96,7 @@ public class BACnetContextTagBitString extends BACnetContextTag implements Messa
       throws ParseException {
     readBuffer.pullContext("BACnetContextTagBitString");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetTagPayloadBitString payload =
         readSimpleField(
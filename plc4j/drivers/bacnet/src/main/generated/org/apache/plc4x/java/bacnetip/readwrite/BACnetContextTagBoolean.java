@@ -76,7 +76,7 @@ public class BACnetContextTagBoolean extends BACnetContextTag implements Message
   protected void serializeBACnetContextTagChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetContextTagBoolean");
 
     // Simple Field (value)
@@ -98,10 +98,9 @@ public class BACnetContextTagBoolean extends BACnetContextTag implements Message
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetContextTagBoolean _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (value)
     lengthInBits += 8;
@@ -122,7 +121,7 @@ public class BACnetContextTagBoolean extends BACnetContextTag implements Message
       throws ParseException {
     readBuffer.pullContext("BACnetContextTagBoolean");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
     // Validation
     if (!((header.getActualLength()) == (1))) {
       throw new ParseValidationException("length field should be 1");
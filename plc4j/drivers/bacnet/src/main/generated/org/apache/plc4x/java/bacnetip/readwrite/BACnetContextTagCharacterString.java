@@ -67,7 +67,7 @@ public class BACnetContextTagCharacterString extends BACnetContextTag implements
   protected void serializeBACnetContextTagChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetContextTagCharacterString");
 
     // Simple Field (payload)
@@ -86,10 +86,9 @@ public class BACnetContextTagCharacterString extends BACnetContextTag implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetContextTagCharacterString _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (payload)
     lengthInBits += payload.getLengthInBits();
@@ -107,7 +106,7 @@ public class BACnetContextTagCharacterString extends BACnetContextTag implements
       throws ParseException {
     readBuffer.pullContext("BACnetContextTagCharacterString");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetTagPayloadCharacterString payload =
         readSimpleField(
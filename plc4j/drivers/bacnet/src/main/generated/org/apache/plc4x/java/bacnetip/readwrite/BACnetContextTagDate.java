@@ -63,7 +63,7 @@ public class BACnetContextTagDate extends BACnetContextTag implements Message {
   protected void serializeBACnetContextTagChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetContextTagDate");
 
     // Simple Field (payload)
@@ -78,10 +78,9 @@ public class BACnetContextTagDate extends BACnetContextTag implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetContextTagDate _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (payload)
     lengthInBits += payload.getLengthInBits();
@@ -94,7 +93,7 @@ public class BACnetContextTagDate extends BACnetContextTag implements Message {
       throws ParseException {
     readBuffer.pullContext("BACnetContextTagDate");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetTagPayloadDate payload =
         readSimpleField(
@@ -67,7 +67,7 @@ public class BACnetContextTagDouble extends BACnetContextTag implements Message
   protected void serializeBACnetContextTagChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetContextTagDouble");
 
     // Simple Field (payload)
@@ -86,10 +86,9 @@ public class BACnetContextTagDouble extends BACnetContextTag implements Message
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetContextTagDouble _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (payload)
     lengthInBits += payload.getLengthInBits();
@@ -104,7 +103,7 @@ public class BACnetContextTagDouble extends BACnetContextTag implements Message
       throws ParseException {
     readBuffer.pullContext("BACnetContextTagDouble");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetTagPayloadDouble payload =
         readSimpleField(
@@ -67,7 +67,7 @@ public class BACnetContextTagEnumerated extends BACnetContextTag implements Mess
   protected void serializeBACnetContextTagChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetContextTagEnumerated");
 
     // Simple Field (payload)
@@ -86,10 +86,9 @@ public class BACnetContextTagEnumerated extends BACnetContextTag implements Mess
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetContextTagEnumerated _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (payload)
     lengthInBits += payload.getLengthInBits();
@@ -107,7 +106,7 @@ public class BACnetContextTagEnumerated extends BACnetContextTag implements Mess
       throws ParseException {
     readBuffer.pullContext("BACnetContextTagEnumerated");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetTagPayloadEnumerated payload =
         readSimpleField(
@@ -54,7 +54,7 @@ public class BACnetContextTagNull extends BACnetContextTag implements Message {
   protected void serializeBACnetContextTagChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetContextTagNull");
 
     writeBuffer.popContext("BACnetContextTagNull");
@@ -66,12 +66,9 @@ public class BACnetContextTagNull extends BACnetContextTag implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    BACnetContextTagNull _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static BACnetContextTagBuilder staticParseBACnetContextTagBuilder(
@@ -82,7 +79,7 @@ public class BACnetContextTagNull extends BACnetContextTag implements Message {
       throws ParseException {
     readBuffer.pullContext("BACnetContextTagNull");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
     // Validation
     if (!((header.getActualLength()) == (0))) {
       throw new ParseValidationException("length field should be 0");
@@ -71,7 +71,7 @@ public class BACnetContextTagObjectIdentifier extends BACnetContextTag implement
   protected void serializeBACnetContextTagChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetContextTagObjectIdentifier");
 
     // Simple Field (payload)
@@ -94,10 +94,9 @@ public class BACnetContextTagObjectIdentifier extends BACnetContextTag implement
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetContextTagObjectIdentifier _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (payload)
     lengthInBits += payload.getLengthInBits();
@@ -114,7 +113,7 @@ public class BACnetContextTagObjectIdentifier extends BACnetContextTag implement
       throws ParseException {
     readBuffer.pullContext("BACnetContextTagObjectIdentifier");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetTagPayloadObjectIdentifier payload =
         readSimpleField(
@@ -63,7 +63,7 @@ public class BACnetContextTagOctetString extends BACnetContextTag implements Mes
   protected void serializeBACnetContextTagChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetContextTagOctetString");
 
     // Simple Field (payload)
@@ -78,10 +78,9 @@ public class BACnetContextTagOctetString extends BACnetContextTag implements Mes
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetContextTagOctetString _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (payload)
     lengthInBits += payload.getLengthInBits();
@@ -97,7 +96,7 @@ public class BACnetContextTagOctetString extends BACnetContextTag implements Mes
       throws ParseException {
     readBuffer.pullContext("BACnetContextTagOctetString");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetTagPayloadOctetString payload =
         readSimpleField(
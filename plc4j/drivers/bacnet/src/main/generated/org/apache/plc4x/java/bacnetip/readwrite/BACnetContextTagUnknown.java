@@ -65,7 +65,7 @@ public class BACnetContextTagUnknown extends BACnetContextTag implements Message
   protected void serializeBACnetContextTagChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetContextTagUnknown");
 
     // Array Field (unknownData)
@@ -80,10 +80,9 @@ public class BACnetContextTagUnknown extends BACnetContextTag implements Message
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetContextTagUnknown _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (unknownData != null) {
@@ -98,7 +97,7 @@ public class BACnetContextTagUnknown extends BACnetContextTag implements Message
       throws ParseException {
     readBuffer.pullContext("BACnetContextTagUnknown");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte[] unknownData = readBuffer.readByteArray("unknownData", Math.toIntExact(actualLength));
 
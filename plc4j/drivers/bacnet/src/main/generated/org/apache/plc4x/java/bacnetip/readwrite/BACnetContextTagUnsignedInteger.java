@@ -70,7 +70,7 @@ public class BACnetContextTagUnsignedInteger extends BACnetContextTag implements
   protected void serializeBACnetContextTagChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetContextTagUnsignedInteger");
 
     // Simple Field (payload)
@@ -89,10 +89,9 @@ public class BACnetContextTagUnsignedInteger extends BACnetContextTag implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetContextTagUnsignedInteger _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (payload)
     lengthInBits += payload.getLengthInBits();
@@ -110,7 +109,7 @@ public class BACnetContextTagUnsignedInteger extends BACnetContextTag implements
       throws ParseException {
     readBuffer.pullContext("BACnetContextTagUnsignedInteger");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetTagPayloadUnsignedInteger payload =
         readSimpleField(
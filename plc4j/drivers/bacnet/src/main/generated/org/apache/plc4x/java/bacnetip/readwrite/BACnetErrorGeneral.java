@@ -57,7 +57,7 @@ public class BACnetErrorGeneral extends BACnetError implements Message {
   @Override
   protected void serializeBACnetErrorChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetErrorGeneral");
 
     // Simple Field (error)
@@ -72,10 +72,9 @@ public class BACnetErrorGeneral extends BACnetError implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetErrorGeneral _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (error)
     lengthInBits += error.getLengthInBits();
@@ -87,7 +86,7 @@ public class BACnetErrorGeneral extends BACnetError implements Message {
       ReadBuffer readBuffer, BACnetConfirmedServiceChoice errorChoice) throws ParseException {
     readBuffer.pullContext("BACnetErrorGeneral");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Error error =
         readSimpleField("error", readComplex(() -> Error.staticParse(readBuffer), readBuffer));
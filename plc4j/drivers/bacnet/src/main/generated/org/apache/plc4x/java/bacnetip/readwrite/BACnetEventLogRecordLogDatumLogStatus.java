@@ -65,7 +65,7 @@ public class BACnetEventLogRecordLogDatumLogStatus extends BACnetEventLogRecordL
   protected void serializeBACnetEventLogRecordLogDatumChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetEventLogRecordLogDatumLogStatus");
 
     // Simple Field (logStatus)
@@ -80,10 +80,9 @@ public class BACnetEventLogRecordLogDatumLogStatus extends BACnetEventLogRecordL
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetEventLogRecordLogDatumLogStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (logStatus)
     lengthInBits += logStatus.getLengthInBits();
@@ -95,7 +94,7 @@ public class BACnetEventLogRecordLogDatumLogStatus extends BACnetEventLogRecordL
       ReadBuffer readBuffer, Short tagNumber) throws ParseException {
     readBuffer.pullContext("BACnetEventLogRecordLogDatumLogStatus");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetLogStatusTagged logStatus =
         readSimpleField(
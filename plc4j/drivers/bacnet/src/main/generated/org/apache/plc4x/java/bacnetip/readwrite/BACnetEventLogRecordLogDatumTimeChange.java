@@ -65,7 +65,7 @@ public class BACnetEventLogRecordLogDatumTimeChange extends BACnetEventLogRecord
   protected void serializeBACnetEventLogRecordLogDatumChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetEventLogRecordLogDatumTimeChange");
 
     // Simple Field (timeChange)
@@ -80,10 +80,9 @@ public class BACnetEventLogRecordLogDatumTimeChange extends BACnetEventLogRecord
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetEventLogRecordLogDatumTimeChange _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timeChange)
     lengthInBits += timeChange.getLengthInBits();
@@ -95,7 +94,7 @@ public class BACnetEventLogRecordLogDatumTimeChange extends BACnetEventLogRecord
       ReadBuffer readBuffer, Short tagNumber) throws ParseException {
     readBuffer.pullContext("BACnetEventLogRecordLogDatumTimeChange");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagReal timeChange =
         readSimpleField(
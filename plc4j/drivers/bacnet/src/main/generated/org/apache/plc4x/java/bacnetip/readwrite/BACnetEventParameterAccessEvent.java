@@ -78,7 +78,7 @@ public class BACnetEventParameterAccessEvent extends BACnetEventParameter implem
   protected void serializeBACnetEventParameterChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetEventParameterAccessEvent");
 
     // Simple Field (openingTag)
@@ -103,10 +103,9 @@ public class BACnetEventParameterAccessEvent extends BACnetEventParameter implem
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetEventParameterAccessEvent _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -127,7 +126,7 @@ public class BACnetEventParameterAccessEvent extends BACnetEventParameter implem
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetEventParameterAccessEvent");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetOpeningTag openingTag =
         readSimpleField(
@@ -65,7 +65,7 @@ public class BACnetEventParameterChangeOfValueCivCriteriaBitmask
   protected void serializeBACnetEventParameterChangeOfValueCivCriteriaChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetEventParameterChangeOfValueCivCriteriaBitmask");
 
     // Simple Field (bitmask)
@@ -80,10 +80,9 @@ public class BACnetEventParameterChangeOfValueCivCriteriaBitmask
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetEventParameterChangeOfValueCivCriteriaBitmask _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bitmask)
     lengthInBits += bitmask.getLengthInBits();
@@ -96,7 +95,7 @@ public class BACnetEventParameterChangeOfValueCivCriteriaBitmask
           ReadBuffer readBuffer, Short tagNumber) throws ParseException {
     readBuffer.pullContext("BACnetEventParameterChangeOfValueCivCriteriaBitmask");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagBitString bitmask =
         readSimpleField(
@@ -65,7 +65,7 @@ public class BACnetEventParameterChangeOfValueCivCriteriaReferencedPropertyIncre
   protected void serializeBACnetEventParameterChangeOfValueCivCriteriaChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext(
         "BACnetEventParameterChangeOfValueCivCriteriaReferencedPropertyIncrement");
 
@@ -83,10 +83,9 @@ public class BACnetEventParameterChangeOfValueCivCriteriaReferencedPropertyIncre
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetEventParameterChangeOfValueCivCriteriaReferencedPropertyIncrement _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (referencedPropertyIncrement)
     lengthInBits += referencedPropertyIncrement.getLengthInBits();
@@ -100,7 +99,7 @@ public class BACnetEventParameterChangeOfValueCivCriteriaReferencedPropertyIncre
     readBuffer.pullContext(
         "BACnetEventParameterChangeOfValueCivCriteriaReferencedPropertyIncrement");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagReal referencedPropertyIncrement =
         readSimpleField(
@@ -85,7 +85,7 @@ public class BACnetEventParameterExtended extends BACnetEventParameter implement
   protected void serializeBACnetEventParameterChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetEventParameterExtended");
 
     // Simple Field (openingTag)
@@ -112,10 +112,9 @@ public class BACnetEventParameterExtended extends BACnetEventParameter implement
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetEventParameterExtended _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -139,7 +138,7 @@ public class BACnetEventParameterExtended extends BACnetEventParameter implement
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetEventParameterExtended");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetOpeningTag openingTag =
         readSimpleField(
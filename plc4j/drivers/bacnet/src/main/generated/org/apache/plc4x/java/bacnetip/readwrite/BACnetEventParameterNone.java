@@ -55,7 +55,7 @@ public class BACnetEventParameterNone extends BACnetEventParameter implements Me
   protected void serializeBACnetEventParameterChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetEventParameterNone");
 
     // Simple Field (none)
@@ -70,10 +70,9 @@ public class BACnetEventParameterNone extends BACnetEventParameter implements Me
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetEventParameterNone _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (none)
     lengthInBits += none.getLengthInBits();
@@ -85,7 +84,7 @@ public class BACnetEventParameterNone extends BACnetEventParameter implements Me
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetEventParameterNone");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagNull none =
         readSimpleField(
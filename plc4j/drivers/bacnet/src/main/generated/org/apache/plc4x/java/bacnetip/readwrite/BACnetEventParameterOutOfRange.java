@@ -92,7 +92,7 @@ public class BACnetEventParameterOutOfRange extends BACnetEventParameter impleme
   protected void serializeBACnetEventParameterChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetEventParameterOutOfRange");
 
     // Simple Field (openingTag)
@@ -122,10 +122,9 @@ public class BACnetEventParameterOutOfRange extends BACnetEventParameter impleme
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetEventParameterOutOfRange _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -152,7 +151,7 @@ public class BACnetEventParameterOutOfRange extends BACnetEventParameter impleme
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetEventParameterOutOfRange");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetOpeningTag openingTag =
         readSimpleField(
@@ -92,7 +92,7 @@ public class BACnetEventParameterSignedOutOfRange extends BACnetEventParameter i
   protected void serializeBACnetEventParameterChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetEventParameterSignedOutOfRange");
 
     // Simple Field (openingTag)
@@ -122,10 +122,9 @@ public class BACnetEventParameterSignedOutOfRange extends BACnetEventParameter i
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetEventParameterSignedOutOfRange _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -152,7 +151,7 @@ public class BACnetEventParameterSignedOutOfRange extends BACnetEventParameter i
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetEventParameterSignedOutOfRange");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetOpeningTag openingTag =
         readSimpleField(
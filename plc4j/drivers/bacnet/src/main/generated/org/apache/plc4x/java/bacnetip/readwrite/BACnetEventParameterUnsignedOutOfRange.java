@@ -93,7 +93,7 @@ public class BACnetEventParameterUnsignedOutOfRange extends BACnetEventParameter
   protected void serializeBACnetEventParameterChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetEventParameterUnsignedOutOfRange");
 
     // Simple Field (openingTag)
@@ -123,10 +123,9 @@ public class BACnetEventParameterUnsignedOutOfRange extends BACnetEventParameter
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetEventParameterUnsignedOutOfRange _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -153,7 +152,7 @@ public class BACnetEventParameterUnsignedOutOfRange extends BACnetEventParameter
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetEventParameterUnsignedOutOfRange");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetOpeningTag openingTag =
         readSimpleField(
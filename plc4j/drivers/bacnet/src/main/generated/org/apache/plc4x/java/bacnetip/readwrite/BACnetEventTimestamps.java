@@ -64,7 +64,7 @@ public class BACnetEventTimestamps implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetEventTimestamps");
 
     // Simple Field (toOffnormal)
@@ -84,11 +84,22 @@ public class BACnetEventTimestamps implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     BACnetEventTimestamps _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (toOffnormal)
     lengthInBits += toOffnormal.getLengthInBits();
@@ -105,7 +116,7 @@ public class BACnetEventTimestamps implements Message {
   public static BACnetEventTimestamps staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetEventTimestamps");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetTimeStamp toOffnormal =
         readSimpleField(
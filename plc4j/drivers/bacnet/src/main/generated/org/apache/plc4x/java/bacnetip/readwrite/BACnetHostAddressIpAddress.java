@@ -56,7 +56,7 @@ public class BACnetHostAddressIpAddress extends BACnetHostAddress implements Mes
   protected void serializeBACnetHostAddressChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetHostAddressIpAddress");
 
     // Simple Field (ipAddress)
@@ -71,10 +71,9 @@ public class BACnetHostAddressIpAddress extends BACnetHostAddress implements Mes
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetHostAddressIpAddress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (ipAddress)
     lengthInBits += ipAddress.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetHostAddressIpAddress extends BACnetHostAddress implements Mes
       throws ParseException {
     readBuffer.pullContext("BACnetHostAddressIpAddress");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagOctetString ipAddress =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetHostAddressName extends BACnetHostAddress implements Message
   protected void serializeBACnetHostAddressChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetHostAddressName");
 
     // Simple Field (name)
@@ -71,10 +71,9 @@ public class BACnetHostAddressName extends BACnetHostAddress implements Message
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetHostAddressName _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetHostAddressName extends BACnetHostAddress implements Message
       throws ParseException {
     readBuffer.pullContext("BACnetHostAddressName");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagCharacterString name =
         readSimpleField(
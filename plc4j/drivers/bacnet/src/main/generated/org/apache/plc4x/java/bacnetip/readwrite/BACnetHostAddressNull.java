@@ -55,7 +55,7 @@ public class BACnetHostAddressNull extends BACnetHostAddress implements Message
   protected void serializeBACnetHostAddressChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetHostAddressNull");
 
     // Simple Field (none)
@@ -70,10 +70,9 @@ public class BACnetHostAddressNull extends BACnetHostAddress implements Message
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetHostAddressNull _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (none)
     lengthInBits += none.getLengthInBits();
@@ -85,7 +84,7 @@ public class BACnetHostAddressNull extends BACnetHostAddress implements Message
       throws ParseException {
     readBuffer.pullContext("BACnetHostAddressNull");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagNull none =
         readSimpleField(
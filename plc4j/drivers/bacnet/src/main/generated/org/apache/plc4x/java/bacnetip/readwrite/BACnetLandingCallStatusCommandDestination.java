@@ -57,7 +57,7 @@ public class BACnetLandingCallStatusCommandDestination extends BACnetLandingCall
   protected void serializeBACnetLandingCallStatusCommandChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetLandingCallStatusCommandDestination");
 
     // Simple Field (destination)
@@ -72,10 +72,9 @@ public class BACnetLandingCallStatusCommandDestination extends BACnetLandingCall
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetLandingCallStatusCommandDestination _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (destination)
     lengthInBits += destination.getLengthInBits();
@@ -88,7 +87,7 @@ public class BACnetLandingCallStatusCommandDestination extends BACnetLandingCall
           throws ParseException {
     readBuffer.pullContext("BACnetLandingCallStatusCommandDestination");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagUnsignedInteger destination =
         readSimpleField(
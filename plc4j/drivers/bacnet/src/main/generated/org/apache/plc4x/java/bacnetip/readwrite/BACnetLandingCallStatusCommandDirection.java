@@ -57,7 +57,7 @@ public class BACnetLandingCallStatusCommandDirection extends BACnetLandingCallSt
   protected void serializeBACnetLandingCallStatusCommandChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetLandingCallStatusCommandDirection");
 
     // Simple Field (direction)
@@ -72,10 +72,9 @@ public class BACnetLandingCallStatusCommandDirection extends BACnetLandingCallSt
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetLandingCallStatusCommandDirection _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (direction)
     lengthInBits += direction.getLengthInBits();
@@ -88,7 +87,7 @@ public class BACnetLandingCallStatusCommandDirection extends BACnetLandingCallSt
           throws ParseException {
     readBuffer.pullContext("BACnetLandingCallStatusCommandDirection");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetLiftCarDirectionTagged direction =
         readSimpleField(
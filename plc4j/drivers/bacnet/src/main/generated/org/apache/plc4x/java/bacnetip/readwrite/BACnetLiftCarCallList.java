@@ -51,7 +51,7 @@ public class BACnetLiftCarCallList implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetLiftCarCallList");
 
     // Simple Field (floorNumbers)
@@ -65,11 +65,22 @@ public class BACnetLiftCarCallList implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     BACnetLiftCarCallList _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (floorNumbers)
     lengthInBits += floorNumbers.getLengthInBits();
@@ -80,7 +91,7 @@ public class BACnetLiftCarCallList implements Message {
   public static BACnetLiftCarCallList staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetLiftCarCallList");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetLiftCarCallListFloorList floorNumbers =
         readSimpleField(
@@ -57,7 +57,7 @@ public class BACnetLogDataLogDataEntryAnyValue extends BACnetLogDataLogDataEntry
   protected void serializeBACnetLogDataLogDataEntryChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetLogDataLogDataEntryAnyValue");
 
     // Optional Field (anyValue) (Can be skipped, if the value is null)
@@ -72,10 +72,9 @@ public class BACnetLogDataLogDataEntryAnyValue extends BACnetLogDataLogDataEntry
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetLogDataLogDataEntryAnyValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Optional Field (anyValue)
     if (anyValue != null) {
@@ -89,7 +88,7 @@ public class BACnetLogDataLogDataEntryAnyValue extends BACnetLogDataLogDataEntry
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetLogDataLogDataEntryAnyValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetConstructedData anyValue =
         readOptionalField(
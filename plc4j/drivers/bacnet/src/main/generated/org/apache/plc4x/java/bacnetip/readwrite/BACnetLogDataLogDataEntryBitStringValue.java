@@ -57,7 +57,7 @@ public class BACnetLogDataLogDataEntryBitStringValue extends BACnetLogDataLogDat
   protected void serializeBACnetLogDataLogDataEntryChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetLogDataLogDataEntryBitStringValue");
 
     // Simple Field (bitStringValue)
@@ -72,10 +72,9 @@ public class BACnetLogDataLogDataEntryBitStringValue extends BACnetLogDataLogDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetLogDataLogDataEntryBitStringValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bitStringValue)
     lengthInBits += bitStringValue.getLengthInBits();
@@ -87,7 +86,7 @@ public class BACnetLogDataLogDataEntryBitStringValue extends BACnetLogDataLogDat
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetLogDataLogDataEntryBitStringValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagBitString bitStringValue =
         readSimpleField(
@@ -57,7 +57,7 @@ public class BACnetLogDataLogDataEntryBooleanValue extends BACnetLogDataLogDataE
   protected void serializeBACnetLogDataLogDataEntryChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetLogDataLogDataEntryBooleanValue");
 
     // Simple Field (booleanValue)
@@ -72,10 +72,9 @@ public class BACnetLogDataLogDataEntryBooleanValue extends BACnetLogDataLogDataE
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetLogDataLogDataEntryBooleanValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (booleanValue)
     lengthInBits += booleanValue.getLengthInBits();
@@ -87,7 +86,7 @@ public class BACnetLogDataLogDataEntryBooleanValue extends BACnetLogDataLogDataE
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetLogDataLogDataEntryBooleanValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagBoolean booleanValue =
         readSimpleField(
@@ -55,7 +55,7 @@ public class BACnetLogDataLogDataEntryFailure extends BACnetLogDataLogDataEntry
   protected void serializeBACnetLogDataLogDataEntryChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetLogDataLogDataEntryFailure");
 
     // Simple Field (failure)
@@ -70,10 +70,9 @@ public class BACnetLogDataLogDataEntryFailure extends BACnetLogDataLogDataEntry
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetLogDataLogDataEntryFailure _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (failure)
     lengthInBits += failure.getLengthInBits();
@@ -85,7 +84,7 @@ public class BACnetLogDataLogDataEntryFailure extends BACnetLogDataLogDataEntry
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetLogDataLogDataEntryFailure");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ErrorEnclosed failure =
         readSimpleField(
@@ -65,7 +65,7 @@ public class BACnetLogRecordLogDatumBitStringValue extends BACnetLogRecordLogDat
   protected void serializeBACnetLogRecordLogDatumChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetLogRecordLogDatumBitStringValue");
 
     // Simple Field (bitStringValue)
@@ -80,10 +80,9 @@ public class BACnetLogRecordLogDatumBitStringValue extends BACnetLogRecordLogDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetLogRecordLogDatumBitStringValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bitStringValue)
     lengthInBits += bitStringValue.getLengthInBits();
@@ -95,7 +94,7 @@ public class BACnetLogRecordLogDatumBitStringValue extends BACnetLogRecordLogDat
       ReadBuffer readBuffer, Short tagNumber) throws ParseException {
     readBuffer.pullContext("BACnetLogRecordLogDatumBitStringValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagBitString bitStringValue =
         readSimpleField(
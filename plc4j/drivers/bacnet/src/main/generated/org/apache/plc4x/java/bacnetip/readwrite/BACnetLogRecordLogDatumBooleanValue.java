@@ -65,7 +65,7 @@ public class BACnetLogRecordLogDatumBooleanValue extends BACnetLogRecordLogDatum
   protected void serializeBACnetLogRecordLogDatumChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetLogRecordLogDatumBooleanValue");
 
     // Simple Field (booleanValue)
@@ -80,10 +80,9 @@ public class BACnetLogRecordLogDatumBooleanValue extends BACnetLogRecordLogDatum
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetLogRecordLogDatumBooleanValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (booleanValue)
     lengthInBits += booleanValue.getLengthInBits();
@@ -95,7 +94,7 @@ public class BACnetLogRecordLogDatumBooleanValue extends BACnetLogRecordLogDatum
       ReadBuffer readBuffer, Short tagNumber) throws ParseException {
     readBuffer.pullContext("BACnetLogRecordLogDatumBooleanValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagBoolean booleanValue =
         readSimpleField(
@@ -65,7 +65,7 @@ public class BACnetLogRecordLogDatumEnumeratedValue extends BACnetLogRecordLogDa
   protected void serializeBACnetLogRecordLogDatumChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetLogRecordLogDatumEnumeratedValue");
 
     // Simple Field (enumeratedValue)
@@ -80,10 +80,9 @@ public class BACnetLogRecordLogDatumEnumeratedValue extends BACnetLogRecordLogDa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetLogRecordLogDatumEnumeratedValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (enumeratedValue)
     lengthInBits += enumeratedValue.getLengthInBits();
@@ -95,7 +94,7 @@ public class BACnetLogRecordLogDatumEnumeratedValue extends BACnetLogRecordLogDa
       ReadBuffer readBuffer, Short tagNumber) throws ParseException {
     readBuffer.pullContext("BACnetLogRecordLogDatumEnumeratedValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagEnumerated enumeratedValue =
         readSimpleField(
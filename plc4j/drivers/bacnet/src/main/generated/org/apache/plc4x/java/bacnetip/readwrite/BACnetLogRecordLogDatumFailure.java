@@ -64,7 +64,7 @@ public class BACnetLogRecordLogDatumFailure extends BACnetLogRecordLogDatum impl
   protected void serializeBACnetLogRecordLogDatumChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetLogRecordLogDatumFailure");
 
     // Simple Field (failure)
@@ -79,10 +79,9 @@ public class BACnetLogRecordLogDatumFailure extends BACnetLogRecordLogDatum impl
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetLogRecordLogDatumFailure _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (failure)
     lengthInBits += failure.getLengthInBits();
@@ -94,7 +93,7 @@ public class BACnetLogRecordLogDatumFailure extends BACnetLogRecordLogDatum impl
       ReadBuffer readBuffer, Short tagNumber) throws ParseException {
     readBuffer.pullContext("BACnetLogRecordLogDatumFailure");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ErrorEnclosed failure =
         readSimpleField(
@@ -117,7 +117,7 @@ public class BACnetNotificationParametersAccessEvent extends BACnetNotificationP
   protected void serializeBACnetNotificationParametersChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetNotificationParametersAccessEvent");
 
     // Simple Field (innerOpeningTag)
@@ -153,10 +153,9 @@ public class BACnetNotificationParametersAccessEvent extends BACnetNotificationP
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetNotificationParametersAccessEvent _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (innerOpeningTag)
     lengthInBits += innerOpeningTag.getLengthInBits();
@@ -195,7 +194,7 @@ public class BACnetNotificationParametersAccessEvent extends BACnetNotificationP
       throws ParseException {
     readBuffer.pullContext("BACnetNotificationParametersAccessEvent");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetOpeningTag innerOpeningTag =
         readSimpleField(
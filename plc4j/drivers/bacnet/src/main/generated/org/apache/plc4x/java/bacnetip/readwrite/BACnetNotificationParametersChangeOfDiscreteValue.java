@@ -89,7 +89,7 @@ public class BACnetNotificationParametersChangeOfDiscreteValue extends BACnetNot
   protected void serializeBACnetNotificationParametersChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetNotificationParametersChangeOfDiscreteValue");
 
     // Simple Field (innerOpeningTag)
@@ -113,10 +113,9 @@ public class BACnetNotificationParametersChangeOfDiscreteValue extends BACnetNot
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetNotificationParametersChangeOfDiscreteValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (innerOpeningTag)
     lengthInBits += innerOpeningTag.getLengthInBits();
@@ -141,7 +140,7 @@ public class BACnetNotificationParametersChangeOfDiscreteValue extends BACnetNot
       throws ParseException {
     readBuffer.pullContext("BACnetNotificationParametersChangeOfDiscreteValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetOpeningTag innerOpeningTag =
         readSimpleField(
@@ -65,7 +65,7 @@ public class BACnetNotificationParametersChangeOfDiscreteValueNewValueCharacterS
   protected void serializeBACnetNotificationParametersChangeOfDiscreteValueNewValueChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext(
         "BACnetNotificationParametersChangeOfDiscreteValueNewValueCharacterString");
 
@@ -82,10 +82,9 @@ public class BACnetNotificationParametersChangeOfDiscreteValueNewValueCharacterS
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetNotificationParametersChangeOfDiscreteValueNewValueCharacterString _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (characterStringValue)
     lengthInBits += characterStringValue.getLengthInBits();
@@ -99,7 +98,7 @@ public class BACnetNotificationParametersChangeOfDiscreteValueNewValueCharacterS
     readBuffer.pullContext(
         "BACnetNotificationParametersChangeOfDiscreteValueNewValueCharacterString");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagCharacterString characterStringValue =
         readSimpleField(
@@ -96,7 +96,7 @@ public class BACnetNotificationParametersChangeOfReliability extends BACnetNotif
   protected void serializeBACnetNotificationParametersChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetNotificationParametersChangeOfReliability");
 
     // Simple Field (innerOpeningTag)
@@ -123,10 +123,9 @@ public class BACnetNotificationParametersChangeOfReliability extends BACnetNotif
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetNotificationParametersChangeOfReliability _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (innerOpeningTag)
     lengthInBits += innerOpeningTag.getLengthInBits();
@@ -154,7 +153,7 @@ public class BACnetNotificationParametersChangeOfReliability extends BACnetNotif
       throws ParseException {
     readBuffer.pullContext("BACnetNotificationParametersChangeOfReliability");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetOpeningTag innerOpeningTag =
         readSimpleField(
@@ -117,7 +117,7 @@ public class BACnetNotificationParametersChangeOfTimer extends BACnetNotificatio
   protected void serializeBACnetNotificationParametersChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetNotificationParametersChangeOfTimer");
 
     // Simple Field (innerOpeningTag)
@@ -153,10 +153,9 @@ public class BACnetNotificationParametersChangeOfTimer extends BACnetNotificatio
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetNotificationParametersChangeOfTimer _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (innerOpeningTag)
     lengthInBits += innerOpeningTag.getLengthInBits();
@@ -199,7 +198,7 @@ public class BACnetNotificationParametersChangeOfTimer extends BACnetNotificatio
       throws ParseException {
     readBuffer.pullContext("BACnetNotificationParametersChangeOfTimer");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetOpeningTag innerOpeningTag =
         readSimpleField(
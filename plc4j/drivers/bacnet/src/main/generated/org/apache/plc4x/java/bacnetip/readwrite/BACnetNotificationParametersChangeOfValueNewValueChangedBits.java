@@ -65,7 +65,7 @@ public class BACnetNotificationParametersChangeOfValueNewValueChangedBits
   protected void serializeBACnetNotificationParametersChangeOfValueNewValueChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetNotificationParametersChangeOfValueNewValueChangedBits");
 
     // Simple Field (changedBits)
@@ -80,10 +80,9 @@ public class BACnetNotificationParametersChangeOfValueNewValueChangedBits
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetNotificationParametersChangeOfValueNewValueChangedBits _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (changedBits)
     lengthInBits += changedBits.getLengthInBits();
@@ -96,7 +95,7 @@ public class BACnetNotificationParametersChangeOfValueNewValueChangedBits
           ReadBuffer readBuffer, Short peekedTagNumber, Short tagNumber) throws ParseException {
     readBuffer.pullContext("BACnetNotificationParametersChangeOfValueNewValueChangedBits");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagBitString changedBits =
         readSimpleField(
@@ -68,7 +68,7 @@ public class BACnetNotificationParametersComplexEventType extends BACnetNotifica
   protected void serializeBACnetNotificationParametersChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetNotificationParametersComplexEventType");
 
     // Simple Field (listOfValues)
@@ -83,10 +83,9 @@ public class BACnetNotificationParametersComplexEventType extends BACnetNotifica
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetNotificationParametersComplexEventType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (listOfValues)
     lengthInBits += listOfValues.getLengthInBits();
@@ -102,7 +101,7 @@ public class BACnetNotificationParametersComplexEventType extends BACnetNotifica
       throws ParseException {
     readBuffer.pullContext("BACnetNotificationParametersComplexEventType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetPropertyValues listOfValues =
         readSimpleField(
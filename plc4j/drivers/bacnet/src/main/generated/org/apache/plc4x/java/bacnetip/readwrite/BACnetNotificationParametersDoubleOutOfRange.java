@@ -103,7 +103,7 @@ public class BACnetNotificationParametersDoubleOutOfRange extends BACnetNotifica
   protected void serializeBACnetNotificationParametersChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetNotificationParametersDoubleOutOfRange");
 
     // Simple Field (innerOpeningTag)
@@ -133,10 +133,9 @@ public class BACnetNotificationParametersDoubleOutOfRange extends BACnetNotifica
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetNotificationParametersDoubleOutOfRange _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (innerOpeningTag)
     lengthInBits += innerOpeningTag.getLengthInBits();
@@ -167,7 +166,7 @@ public class BACnetNotificationParametersDoubleOutOfRange extends BACnetNotifica
       throws ParseException {
     readBuffer.pullContext("BACnetNotificationParametersDoubleOutOfRange");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetOpeningTag innerOpeningTag =
         readSimpleField(
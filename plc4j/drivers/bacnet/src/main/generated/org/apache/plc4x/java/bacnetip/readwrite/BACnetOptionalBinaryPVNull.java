@@ -56,7 +56,7 @@ public class BACnetOptionalBinaryPVNull extends BACnetOptionalBinaryPV implement
   protected void serializeBACnetOptionalBinaryPVChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetOptionalBinaryPVNull");
 
     // Simple Field (nullValue)
@@ -71,10 +71,9 @@ public class BACnetOptionalBinaryPVNull extends BACnetOptionalBinaryPV implement
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetOptionalBinaryPVNull _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nullValue)
     lengthInBits += nullValue.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetOptionalBinaryPVNull extends BACnetOptionalBinaryPV implement
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetOptionalBinaryPVNull");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagNull nullValue =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetOptionalBinaryPVValue extends BACnetOptionalBinaryPV implemen
   protected void serializeBACnetOptionalBinaryPVChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetOptionalBinaryPVValue");
 
     // Simple Field (binaryPv)
@@ -71,10 +71,9 @@ public class BACnetOptionalBinaryPVValue extends BACnetOptionalBinaryPV implemen
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetOptionalBinaryPVValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (binaryPv)
     lengthInBits += binaryPv.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetOptionalBinaryPVValue extends BACnetOptionalBinaryPV implemen
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetOptionalBinaryPVValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetBinaryPVTagged binaryPv =
         readSimpleField(
@@ -57,7 +57,7 @@ public class BACnetOptionalCharacterStringNull extends BACnetOptionalCharacterSt
   protected void serializeBACnetOptionalCharacterStringChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetOptionalCharacterStringNull");
 
     // Simple Field (nullValue)
@@ -72,10 +72,9 @@ public class BACnetOptionalCharacterStringNull extends BACnetOptionalCharacterSt
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetOptionalCharacterStringNull _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nullValue)
     lengthInBits += nullValue.getLengthInBits();
@@ -87,7 +86,7 @@ public class BACnetOptionalCharacterStringNull extends BACnetOptionalCharacterSt
       staticParseBACnetOptionalCharacterStringBuilder(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetOptionalCharacterStringNull");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagNull nullValue =
         readSimpleField(
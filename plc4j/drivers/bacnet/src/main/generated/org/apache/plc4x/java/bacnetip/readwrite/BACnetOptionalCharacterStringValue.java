@@ -57,7 +57,7 @@ public class BACnetOptionalCharacterStringValue extends BACnetOptionalCharacterS
   protected void serializeBACnetOptionalCharacterStringChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetOptionalCharacterStringValue");
 
     // Simple Field (characterstring)
@@ -72,10 +72,9 @@ public class BACnetOptionalCharacterStringValue extends BACnetOptionalCharacterS
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetOptionalCharacterStringValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (characterstring)
     lengthInBits += characterstring.getLengthInBits();
@@ -87,7 +86,7 @@ public class BACnetOptionalCharacterStringValue extends BACnetOptionalCharacterS
       staticParseBACnetOptionalCharacterStringBuilder(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetOptionalCharacterStringValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagCharacterString characterstring =
         readSimpleField(
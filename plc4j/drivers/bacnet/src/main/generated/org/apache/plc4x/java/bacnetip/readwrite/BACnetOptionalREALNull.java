@@ -56,7 +56,7 @@ public class BACnetOptionalREALNull extends BACnetOptionalREAL implements Messag
   protected void serializeBACnetOptionalREALChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetOptionalREALNull");
 
     // Simple Field (nullValue)
@@ -71,10 +71,9 @@ public class BACnetOptionalREALNull extends BACnetOptionalREAL implements Messag
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetOptionalREALNull _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nullValue)
     lengthInBits += nullValue.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetOptionalREALNull extends BACnetOptionalREAL implements Messag
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetOptionalREALNull");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagNull nullValue =
         readSimpleField(
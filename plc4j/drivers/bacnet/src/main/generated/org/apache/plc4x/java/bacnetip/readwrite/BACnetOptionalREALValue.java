@@ -56,7 +56,7 @@ public class BACnetOptionalREALValue extends BACnetOptionalREAL implements Messa
   protected void serializeBACnetOptionalREALChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetOptionalREALValue");
 
     // Simple Field (realValue)
@@ -71,10 +71,9 @@ public class BACnetOptionalREALValue extends BACnetOptionalREAL implements Messa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetOptionalREALValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (realValue)
     lengthInBits += realValue.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetOptionalREALValue extends BACnetOptionalREAL implements Messa
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetOptionalREALValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagReal realValue =
         readSimpleField(
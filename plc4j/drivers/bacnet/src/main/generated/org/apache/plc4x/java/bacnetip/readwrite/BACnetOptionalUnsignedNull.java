@@ -56,7 +56,7 @@ public class BACnetOptionalUnsignedNull extends BACnetOptionalUnsigned implement
   protected void serializeBACnetOptionalUnsignedChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetOptionalUnsignedNull");
 
     // Simple Field (nullValue)
@@ -71,10 +71,9 @@ public class BACnetOptionalUnsignedNull extends BACnetOptionalUnsigned implement
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetOptionalUnsignedNull _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nullValue)
     lengthInBits += nullValue.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetOptionalUnsignedNull extends BACnetOptionalUnsigned implement
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetOptionalUnsignedNull");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagNull nullValue =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetProcessIdSelectionValue extends BACnetProcessIdSelection impl
   protected void serializeBACnetProcessIdSelectionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetProcessIdSelectionValue");
 
     // Simple Field (processIdentifier)
@@ -71,10 +71,9 @@ public class BACnetProcessIdSelectionValue extends BACnetProcessIdSelection impl
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetProcessIdSelectionValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (processIdentifier)
     lengthInBits += processIdentifier.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetProcessIdSelectionValue extends BACnetProcessIdSelection impl
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetProcessIdSelectionValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger processIdentifier =
         readSimpleField(
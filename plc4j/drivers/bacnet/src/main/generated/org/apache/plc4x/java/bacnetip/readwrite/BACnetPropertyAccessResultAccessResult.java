@@ -72,7 +72,7 @@ public abstract class BACnetPropertyAccessResultAccessResult implements Message
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetPropertyAccessResultAccessResult");
 
     // Virtual field (doesn't actually serialize anything, just makes the value available)
@@ -90,19 +90,24 @@ public abstract class BACnetPropertyAccessResultAccessResult implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    BACnetPropertyAccessResultAccessResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // A virtual field doesn't have any in- or output.
-
-    // Length of sub-type elements will be added by sub-type...
-
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
     return lengthInBits;
   }
 
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 0;
+  }
+
   public static BACnetPropertyAccessResultAccessResult staticParse(
       ReadBuffer readBuffer,
       BACnetObjectType objectTypeArgument,
@@ -111,7 +116,7 @@ public abstract class BACnetPropertyAccessResultAccessResult implements Message
       throws ParseException {
     readBuffer.pullContext("BACnetPropertyAccessResultAccessResult");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetTagHeader peekedTagHeader =
         readPeekField(
@@ -73,7 +73,7 @@ public class BACnetPropertyAccessResultAccessResultPropertyAccessError
   protected void serializeBACnetPropertyAccessResultAccessResultChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetPropertyAccessResultAccessResultPropertyAccessError");
 
     // Simple Field (propertyAccessError)
@@ -88,10 +88,9 @@ public class BACnetPropertyAccessResultAccessResultPropertyAccessError
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetPropertyAccessResultAccessResultPropertyAccessError _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (propertyAccessError)
     lengthInBits += propertyAccessError.getLengthInBits();
@@ -108,7 +107,7 @@ public class BACnetPropertyAccessResultAccessResultPropertyAccessError
           throws ParseException {
     readBuffer.pullContext("BACnetPropertyAccessResultAccessResultPropertyAccessError");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ErrorEnclosed propertyAccessError =
         readSimpleField(
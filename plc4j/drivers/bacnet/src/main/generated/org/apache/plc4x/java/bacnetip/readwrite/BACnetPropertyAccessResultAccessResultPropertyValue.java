@@ -73,7 +73,7 @@ public class BACnetPropertyAccessResultAccessResultPropertyValue
   protected void serializeBACnetPropertyAccessResultAccessResultChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetPropertyAccessResultAccessResultPropertyValue");
 
     // Simple Field (propertyValue)
@@ -88,10 +88,9 @@ public class BACnetPropertyAccessResultAccessResultPropertyValue
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetPropertyAccessResultAccessResultPropertyValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (propertyValue)
     lengthInBits += propertyValue.getLengthInBits();
@@ -108,7 +107,7 @@ public class BACnetPropertyAccessResultAccessResultPropertyValue
           throws ParseException {
     readBuffer.pullContext("BACnetPropertyAccessResultAccessResultPropertyValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetConstructedData propertyValue =
         readSimpleField(
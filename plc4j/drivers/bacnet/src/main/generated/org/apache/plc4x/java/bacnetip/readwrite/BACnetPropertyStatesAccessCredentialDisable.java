@@ -58,7 +58,7 @@ public class BACnetPropertyStatesAccessCredentialDisable extends BACnetPropertyS
   protected void serializeBACnetPropertyStatesChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetPropertyStatesAccessCredentialDisable");
 
     // Simple Field (accessCredentialDisable)
@@ -73,10 +73,9 @@ public class BACnetPropertyStatesAccessCredentialDisable extends BACnetPropertyS
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetPropertyStatesAccessCredentialDisable _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (accessCredentialDisable)
     lengthInBits += accessCredentialDisable.getLengthInBits();
@@ -88,7 +87,7 @@ public class BACnetPropertyStatesAccessCredentialDisable extends BACnetPropertyS
       ReadBuffer readBuffer, Short peekedTagNumber) throws ParseException {
     readBuffer.pullContext("BACnetPropertyStatesAccessCredentialDisable");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetAccessCredentialDisableTagged accessCredentialDisable =
         readSimpleField(
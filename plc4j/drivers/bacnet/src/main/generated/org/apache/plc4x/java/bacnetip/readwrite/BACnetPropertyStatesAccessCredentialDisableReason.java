@@ -58,7 +58,7 @@ public class BACnetPropertyStatesAccessCredentialDisableReason extends BACnetPro
   protected void serializeBACnetPropertyStatesChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetPropertyStatesAccessCredentialDisableReason");
 
     // Simple Field (accessCredentialDisableReason)
@@ -74,10 +74,9 @@ public class BACnetPropertyStatesAccessCredentialDisableReason extends BACnetPro
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetPropertyStatesAccessCredentialDisableReason _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (accessCredentialDisableReason)
     lengthInBits += accessCredentialDisableReason.getLengthInBits();
@@ -89,7 +88,7 @@ public class BACnetPropertyStatesAccessCredentialDisableReason extends BACnetPro
       ReadBuffer readBuffer, Short peekedTagNumber) throws ParseException {
     readBuffer.pullContext("BACnetPropertyStatesAccessCredentialDisableReason");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetAccessCredentialDisableReasonTagged accessCredentialDisableReason =
         readSimpleField(
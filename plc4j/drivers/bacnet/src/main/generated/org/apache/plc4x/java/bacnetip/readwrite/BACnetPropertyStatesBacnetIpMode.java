@@ -56,7 +56,7 @@ public class BACnetPropertyStatesBacnetIpMode extends BACnetPropertyStates imple
   protected void serializeBACnetPropertyStatesChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetPropertyStatesBacnetIpMode");
 
     // Simple Field (bacnetIpMode)
@@ -71,10 +71,9 @@ public class BACnetPropertyStatesBacnetIpMode extends BACnetPropertyStates imple
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetPropertyStatesBacnetIpMode _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bacnetIpMode)
     lengthInBits += bacnetIpMode.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetPropertyStatesBacnetIpMode extends BACnetPropertyStates imple
       ReadBuffer readBuffer, Short peekedTagNumber) throws ParseException {
     readBuffer.pullContext("BACnetPropertyStatesBacnetIpMode");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetIPModeTagged bacnetIpMode =
         readSimpleField(
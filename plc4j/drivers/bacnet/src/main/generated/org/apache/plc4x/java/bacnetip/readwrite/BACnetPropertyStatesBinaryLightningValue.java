@@ -57,7 +57,7 @@ public class BACnetPropertyStatesBinaryLightningValue extends BACnetPropertyStat
   protected void serializeBACnetPropertyStatesChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetPropertyStatesBinaryLightningValue");
 
     // Simple Field (binaryLightningValue)
@@ -72,10 +72,9 @@ public class BACnetPropertyStatesBinaryLightningValue extends BACnetPropertyStat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetPropertyStatesBinaryLightningValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (binaryLightningValue)
     lengthInBits += binaryLightningValue.getLengthInBits();
@@ -87,7 +86,7 @@ public class BACnetPropertyStatesBinaryLightningValue extends BACnetPropertyStat
       ReadBuffer readBuffer, Short peekedTagNumber) throws ParseException {
     readBuffer.pullContext("BACnetPropertyStatesBinaryLightningValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetBinaryLightingPVTagged binaryLightningValue =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetPropertyStatesDoorSecuredStatus extends BACnetPropertyStates
   protected void serializeBACnetPropertyStatesChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetPropertyStatesDoorSecuredStatus");
 
     // Simple Field (doorSecuredStatus)
@@ -71,10 +71,9 @@ public class BACnetPropertyStatesDoorSecuredStatus extends BACnetPropertyStates
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetPropertyStatesDoorSecuredStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (doorSecuredStatus)
     lengthInBits += doorSecuredStatus.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetPropertyStatesDoorSecuredStatus extends BACnetPropertyStates
       ReadBuffer readBuffer, Short peekedTagNumber) throws ParseException {
     readBuffer.pullContext("BACnetPropertyStatesDoorSecuredStatus");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDoorSecuredStatusTagged doorSecuredStatus =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetPropertyStatesEscalatorFault extends BACnetPropertyStates imp
   protected void serializeBACnetPropertyStatesChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetPropertyStatesEscalatorFault");
 
     // Simple Field (escalatorFault)
@@ -71,10 +71,9 @@ public class BACnetPropertyStatesEscalatorFault extends BACnetPropertyStates imp
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetPropertyStatesEscalatorFault _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (escalatorFault)
     lengthInBits += escalatorFault.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetPropertyStatesEscalatorFault extends BACnetPropertyStates imp
       ReadBuffer readBuffer, Short peekedTagNumber) throws ParseException {
     readBuffer.pullContext("BACnetPropertyStatesEscalatorFault");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetEscalatorFaultTagged escalatorFault =
         readSimpleField(
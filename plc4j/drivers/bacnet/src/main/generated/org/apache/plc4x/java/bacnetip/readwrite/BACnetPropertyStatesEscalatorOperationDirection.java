@@ -58,7 +58,7 @@ public class BACnetPropertyStatesEscalatorOperationDirection extends BACnetPrope
   protected void serializeBACnetPropertyStatesChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetPropertyStatesEscalatorOperationDirection");
 
     // Simple Field (escalatorOperationDirection)
@@ -74,10 +74,9 @@ public class BACnetPropertyStatesEscalatorOperationDirection extends BACnetPrope
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetPropertyStatesEscalatorOperationDirection _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (escalatorOperationDirection)
     lengthInBits += escalatorOperationDirection.getLengthInBits();
@@ -89,7 +88,7 @@ public class BACnetPropertyStatesEscalatorOperationDirection extends BACnetPrope
       ReadBuffer readBuffer, Short peekedTagNumber) throws ParseException {
     readBuffer.pullContext("BACnetPropertyStatesEscalatorOperationDirection");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetEscalatorOperationDirectionTagged escalatorOperationDirection =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetPropertyStatesFileAccessMethod extends BACnetPropertyStates i
   protected void serializeBACnetPropertyStatesChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetPropertyStatesFileAccessMethod");
 
     // Simple Field (fileAccessMethod)
@@ -71,10 +71,9 @@ public class BACnetPropertyStatesFileAccessMethod extends BACnetPropertyStates i
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetPropertyStatesFileAccessMethod _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (fileAccessMethod)
     lengthInBits += fileAccessMethod.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetPropertyStatesFileAccessMethod extends BACnetPropertyStates i
       ReadBuffer readBuffer, Short peekedTagNumber) throws ParseException {
     readBuffer.pullContext("BACnetPropertyStatesFileAccessMethod");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetFileAccessMethodTagged fileAccessMethod =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetPropertyStatesLifeSafetyMode extends BACnetPropertyStates imp
   protected void serializeBACnetPropertyStatesChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetPropertyStatesLifeSafetyMode");
 
     // Simple Field (lifeSafetyMode)
@@ -71,10 +71,9 @@ public class BACnetPropertyStatesLifeSafetyMode extends BACnetPropertyStates imp
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetPropertyStatesLifeSafetyMode _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lifeSafetyMode)
     lengthInBits += lifeSafetyMode.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetPropertyStatesLifeSafetyMode extends BACnetPropertyStates imp
       ReadBuffer readBuffer, Short peekedTagNumber) throws ParseException {
     readBuffer.pullContext("BACnetPropertyStatesLifeSafetyMode");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetLifeSafetyModeTagged lifeSafetyMode =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetPropertyStatesLifeSafetyState extends BACnetPropertyStates im
   protected void serializeBACnetPropertyStatesChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetPropertyStatesLifeSafetyState");
 
     // Simple Field (lifeSafetyState)
@@ -71,10 +71,9 @@ public class BACnetPropertyStatesLifeSafetyState extends BACnetPropertyStates im
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetPropertyStatesLifeSafetyState _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lifeSafetyState)
     lengthInBits += lifeSafetyState.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetPropertyStatesLifeSafetyState extends BACnetPropertyStates im
       ReadBuffer readBuffer, Short peekedTagNumber) throws ParseException {
     readBuffer.pullContext("BACnetPropertyStatesLifeSafetyState");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetLifeSafetyStateTagged lifeSafetyState =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetPropertyStatesLiftCarDirection extends BACnetPropertyStates i
   protected void serializeBACnetPropertyStatesChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetPropertyStatesLiftCarDirection");
 
     // Simple Field (liftCarDirection)
@@ -71,10 +71,9 @@ public class BACnetPropertyStatesLiftCarDirection extends BACnetPropertyStates i
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetPropertyStatesLiftCarDirection _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (liftCarDirection)
     lengthInBits += liftCarDirection.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetPropertyStatesLiftCarDirection extends BACnetPropertyStates i
       ReadBuffer readBuffer, Short peekedTagNumber) throws ParseException {
     readBuffer.pullContext("BACnetPropertyStatesLiftCarDirection");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetLiftCarDirectionTagged liftCarDirection =
         readSimpleField(
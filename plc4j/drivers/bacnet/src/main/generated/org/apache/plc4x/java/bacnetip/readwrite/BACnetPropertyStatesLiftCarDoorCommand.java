@@ -57,7 +57,7 @@ public class BACnetPropertyStatesLiftCarDoorCommand extends BACnetPropertyStates
   protected void serializeBACnetPropertyStatesChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetPropertyStatesLiftCarDoorCommand");
 
     // Simple Field (liftCarDoorCommand)
@@ -72,10 +72,9 @@ public class BACnetPropertyStatesLiftCarDoorCommand extends BACnetPropertyStates
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetPropertyStatesLiftCarDoorCommand _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (liftCarDoorCommand)
     lengthInBits += liftCarDoorCommand.getLengthInBits();
@@ -87,7 +86,7 @@ public class BACnetPropertyStatesLiftCarDoorCommand extends BACnetPropertyStates
       ReadBuffer readBuffer, Short peekedTagNumber) throws ParseException {
     readBuffer.pullContext("BACnetPropertyStatesLiftCarDoorCommand");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetLiftCarDoorCommandTagged liftCarDoorCommand =
         readSimpleField(
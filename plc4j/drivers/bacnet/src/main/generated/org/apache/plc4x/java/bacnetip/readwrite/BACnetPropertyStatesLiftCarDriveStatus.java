@@ -57,7 +57,7 @@ public class BACnetPropertyStatesLiftCarDriveStatus extends BACnetPropertyStates
   protected void serializeBACnetPropertyStatesChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetPropertyStatesLiftCarDriveStatus");
 
     // Simple Field (liftCarDriveStatus)
@@ -72,10 +72,9 @@ public class BACnetPropertyStatesLiftCarDriveStatus extends BACnetPropertyStates
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetPropertyStatesLiftCarDriveStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (liftCarDriveStatus)
     lengthInBits += liftCarDriveStatus.getLengthInBits();
@@ -87,7 +86,7 @@ public class BACnetPropertyStatesLiftCarDriveStatus extends BACnetPropertyStates
       ReadBuffer readBuffer, Short peekedTagNumber) throws ParseException {
     readBuffer.pullContext("BACnetPropertyStatesLiftCarDriveStatus");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetLiftCarDriveStatusTagged liftCarDriveStatus =
         readSimpleField(
@@ -57,7 +57,7 @@ public class BACnetPropertyStatesLightningInProgress extends BACnetPropertyState
   protected void serializeBACnetPropertyStatesChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetPropertyStatesLightningInProgress");
 
     // Simple Field (lightningInProgress)
@@ -72,10 +72,9 @@ public class BACnetPropertyStatesLightningInProgress extends BACnetPropertyState
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetPropertyStatesLightningInProgress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lightningInProgress)
     lengthInBits += lightningInProgress.getLengthInBits();
@@ -87,7 +86,7 @@ public class BACnetPropertyStatesLightningInProgress extends BACnetPropertyState
       ReadBuffer readBuffer, Short peekedTagNumber) throws ParseException {
     readBuffer.pullContext("BACnetPropertyStatesLightningInProgress");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetLightingInProgressTagged lightningInProgress =
         readSimpleField(
@@ -57,7 +57,7 @@ public class BACnetPropertyStatesLightningTransition extends BACnetPropertyState
   protected void serializeBACnetPropertyStatesChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetPropertyStatesLightningTransition");
 
     // Simple Field (lightningTransition)
@@ -72,10 +72,9 @@ public class BACnetPropertyStatesLightningTransition extends BACnetPropertyState
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetPropertyStatesLightningTransition _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lightningTransition)
     lengthInBits += lightningTransition.getLengthInBits();
@@ -87,7 +86,7 @@ public class BACnetPropertyStatesLightningTransition extends BACnetPropertyState
       ReadBuffer readBuffer, Short peekedTagNumber) throws ParseException {
     readBuffer.pullContext("BACnetPropertyStatesLightningTransition");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetLightingTransitionTagged lightningTransition =
         readSimpleField(
@@ -57,7 +57,7 @@ public class BACnetPropertyStatesNetworkPortCommand extends BACnetPropertyStates
   protected void serializeBACnetPropertyStatesChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetPropertyStatesNetworkPortCommand");
 
     // Simple Field (networkPortCommand)
@@ -72,10 +72,9 @@ public class BACnetPropertyStatesNetworkPortCommand extends BACnetPropertyStates
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetPropertyStatesNetworkPortCommand _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (networkPortCommand)
     lengthInBits += networkPortCommand.getLengthInBits();
@@ -87,7 +86,7 @@ public class BACnetPropertyStatesNetworkPortCommand extends BACnetPropertyStates
       ReadBuffer readBuffer, Short peekedTagNumber) throws ParseException {
     readBuffer.pullContext("BACnetPropertyStatesNetworkPortCommand");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetNetworkPortCommandTagged networkPortCommand =
         readSimpleField(
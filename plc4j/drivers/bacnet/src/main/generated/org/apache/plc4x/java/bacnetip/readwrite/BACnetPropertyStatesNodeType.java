@@ -56,7 +56,7 @@ public class BACnetPropertyStatesNodeType extends BACnetPropertyStates implement
   protected void serializeBACnetPropertyStatesChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetPropertyStatesNodeType");
 
     // Simple Field (nodeType)
@@ -71,10 +71,9 @@ public class BACnetPropertyStatesNodeType extends BACnetPropertyStates implement
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetPropertyStatesNodeType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nodeType)
     lengthInBits += nodeType.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetPropertyStatesNodeType extends BACnetPropertyStates implement
       ReadBuffer readBuffer, Short peekedTagNumber) throws ParseException {
     readBuffer.pullContext("BACnetPropertyStatesNodeType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetNodeTypeTagged nodeType =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetPropertyStatesTimerTransition extends BACnetPropertyStates im
   protected void serializeBACnetPropertyStatesChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetPropertyStatesTimerTransition");
 
     // Simple Field (timerTransition)
@@ -71,10 +71,9 @@ public class BACnetPropertyStatesTimerTransition extends BACnetPropertyStates im
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetPropertyStatesTimerTransition _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timerTransition)
     lengthInBits += timerTransition.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetPropertyStatesTimerTransition extends BACnetPropertyStates im
       ReadBuffer readBuffer, Short peekedTagNumber) throws ParseException {
     readBuffer.pullContext("BACnetPropertyStatesTimerTransition");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetTimerTransitionTagged timerTransition =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetPropertyStatesZoneOccupanyState extends BACnetPropertyStates
   protected void serializeBACnetPropertyStatesChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetPropertyStatesZoneOccupanyState");
 
     // Simple Field (zoneOccupanyState)
@@ -71,10 +71,9 @@ public class BACnetPropertyStatesZoneOccupanyState extends BACnetPropertyStates
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetPropertyStatesZoneOccupanyState _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (zoneOccupanyState)
     lengthInBits += zoneOccupanyState.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetPropertyStatesZoneOccupanyState extends BACnetPropertyStates
       ReadBuffer readBuffer, Short peekedTagNumber) throws ParseException {
     readBuffer.pullContext("BACnetPropertyStatesZoneOccupanyState");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetAccessZoneOccupancyStateTagged zoneOccupanyState =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetRecipientAddress extends BACnetRecipient implements Message {
   protected void serializeBACnetRecipientChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetRecipientAddress");
 
     // Simple Field (addressValue)
@@ -71,10 +71,9 @@ public class BACnetRecipientAddress extends BACnetRecipient implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetRecipientAddress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (addressValue)
     lengthInBits += addressValue.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetRecipientAddress extends BACnetRecipient implements Message {
       throws ParseException {
     readBuffer.pullContext("BACnetRecipientAddress");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetAddressEnclosed addressValue =
         readSimpleField(
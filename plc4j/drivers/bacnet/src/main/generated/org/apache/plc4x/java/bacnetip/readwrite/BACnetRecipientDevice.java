@@ -56,7 +56,7 @@ public class BACnetRecipientDevice extends BACnetRecipient implements Message {
   protected void serializeBACnetRecipientChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetRecipientDevice");
 
     // Simple Field (deviceValue)
@@ -71,10 +71,9 @@ public class BACnetRecipientDevice extends BACnetRecipient implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetRecipientDevice _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (deviceValue)
     lengthInBits += deviceValue.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetRecipientDevice extends BACnetRecipient implements Message {
       throws ParseException {
     readBuffer.pullContext("BACnetRecipientDevice");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagObjectIdentifier deviceValue =
         readSimpleField(
@@ -54,7 +54,7 @@ public class BACnetScaleFloatScale extends BACnetScale implements Message {
   @Override
   protected void serializeBACnetScaleChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetScaleFloatScale");
 
     // Simple Field (floatScale)
@@ -69,10 +69,9 @@ public class BACnetScaleFloatScale extends BACnetScale implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetScaleFloatScale _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (floatScale)
     lengthInBits += floatScale.getLengthInBits();
@@ -84,7 +83,7 @@ public class BACnetScaleFloatScale extends BACnetScale implements Message {
       throws ParseException {
     readBuffer.pullContext("BACnetScaleFloatScale");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagReal floatScale =
         readSimpleField(
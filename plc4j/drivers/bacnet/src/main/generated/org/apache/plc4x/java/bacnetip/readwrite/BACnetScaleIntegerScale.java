@@ -55,7 +55,7 @@ public class BACnetScaleIntegerScale extends BACnetScale implements Message {
   @Override
   protected void serializeBACnetScaleChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetScaleIntegerScale");
 
     // Simple Field (integerScale)
@@ -70,10 +70,9 @@ public class BACnetScaleIntegerScale extends BACnetScale implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetScaleIntegerScale _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (integerScale)
     lengthInBits += integerScale.getLengthInBits();
@@ -85,7 +84,7 @@ public class BACnetScaleIntegerScale extends BACnetScale implements Message {
       throws ParseException {
     readBuffer.pullContext("BACnetScaleIntegerScale");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagSignedInteger integerScale =
         readSimpleField(
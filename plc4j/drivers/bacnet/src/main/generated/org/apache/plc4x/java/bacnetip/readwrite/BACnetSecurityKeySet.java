@@ -73,7 +73,7 @@ public class BACnetSecurityKeySet implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetSecurityKeySet");
 
     // Simple Field (keyRevision)
@@ -96,11 +96,22 @@ public class BACnetSecurityKeySet implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     BACnetSecurityKeySet _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (keyRevision)
     lengthInBits += keyRevision.getLengthInBits();
@@ -120,7 +131,7 @@ public class BACnetSecurityKeySet implements Message {
   public static BACnetSecurityKeySet staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetSecurityKeySet");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagUnsignedInteger keyRevision =
         readSimpleField(
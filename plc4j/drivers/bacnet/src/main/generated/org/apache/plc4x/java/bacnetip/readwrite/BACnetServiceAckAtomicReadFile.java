@@ -71,7 +71,7 @@ public class BACnetServiceAckAtomicReadFile extends BACnetServiceAck implements
   protected void serializeBACnetServiceAckChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetServiceAckAtomicReadFile");
 
     // Simple Field (endOfFile)
@@ -89,10 +89,9 @@ public class BACnetServiceAckAtomicReadFile extends BACnetServiceAck implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetServiceAckAtomicReadFile _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (endOfFile)
     lengthInBits += endOfFile.getLengthInBits();
@@ -107,7 +106,7 @@ public class BACnetServiceAckAtomicReadFile extends BACnetServiceAck implements
       ReadBuffer readBuffer, Long serviceAckLength) throws ParseException {
     readBuffer.pullContext("BACnetServiceAckAtomicReadFile");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagBoolean endOfFile =
         readSimpleField(
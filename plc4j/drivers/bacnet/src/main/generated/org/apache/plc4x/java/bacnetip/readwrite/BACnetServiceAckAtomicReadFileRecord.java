@@ -74,7 +74,7 @@ public class BACnetServiceAckAtomicReadFileRecord
   protected void serializeBACnetServiceAckAtomicReadFileStreamOrRecordChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetServiceAckAtomicReadFileRecord");
 
     // Simple Field (fileStartRecord)
@@ -95,10 +95,9 @@ public class BACnetServiceAckAtomicReadFileRecord
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetServiceAckAtomicReadFileRecord _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (fileStartRecord)
     lengthInBits += fileStartRecord.getLengthInBits();
@@ -110,8 +109,7 @@ public class BACnetServiceAckAtomicReadFileRecord
     if (fileRecordData != null) {
       int i = 0;
       for (BACnetApplicationTagOctetString element : fileRecordData) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= fileRecordData.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= fileRecordData.size());
       }
     }
 
@@ -123,7 +121,7 @@ public class BACnetServiceAckAtomicReadFileRecord
           throws ParseException {
     readBuffer.pullContext("BACnetServiceAckAtomicReadFileRecord");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagSignedInteger fileStartRecord =
         readSimpleField(
@@ -67,7 +67,7 @@ public class BACnetServiceAckAtomicReadFileStream
   protected void serializeBACnetServiceAckAtomicReadFileStreamOrRecordChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetServiceAckAtomicReadFileStream");
 
     // Simple Field (fileStartPosition)
@@ -85,10 +85,9 @@ public class BACnetServiceAckAtomicReadFileStream
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetServiceAckAtomicReadFileStream _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (fileStartPosition)
     lengthInBits += fileStartPosition.getLengthInBits();
@@ -104,7 +103,7 @@ public class BACnetServiceAckAtomicReadFileStream
           throws ParseException {
     readBuffer.pullContext("BACnetServiceAckAtomicReadFileStream");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagSignedInteger fileStartPosition =
         readSimpleField(
@@ -63,7 +63,7 @@ public class BACnetServiceAckAtomicWriteFile extends BACnetServiceAck implements
   protected void serializeBACnetServiceAckChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetServiceAckAtomicWriteFile");
 
     // Simple Field (fileStartPosition)
@@ -78,10 +78,9 @@ public class BACnetServiceAckAtomicWriteFile extends BACnetServiceAck implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetServiceAckAtomicWriteFile _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (fileStartPosition)
     lengthInBits += fileStartPosition.getLengthInBits();
@@ -93,7 +92,7 @@ public class BACnetServiceAckAtomicWriteFile extends BACnetServiceAck implements
       ReadBuffer readBuffer, Long serviceAckLength) throws ParseException {
     readBuffer.pullContext("BACnetServiceAckAtomicWriteFile");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagSignedInteger fileStartPosition =
         readSimpleField(
@@ -78,7 +78,7 @@ public class BACnetServiceAckConfirmedPrivateTransfer extends BACnetServiceAck i
   protected void serializeBACnetServiceAckChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetServiceAckConfirmedPrivateTransfer");
 
     // Simple Field (vendorId)
@@ -99,10 +99,9 @@ public class BACnetServiceAckConfirmedPrivateTransfer extends BACnetServiceAck i
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetServiceAckConfirmedPrivateTransfer _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (vendorId)
     lengthInBits += vendorId.getLengthInBits();
@@ -122,7 +121,7 @@ public class BACnetServiceAckConfirmedPrivateTransfer extends BACnetServiceAck i
       ReadBuffer readBuffer, Long serviceAckLength) throws ParseException {
     readBuffer.pullContext("BACnetServiceAckConfirmedPrivateTransfer");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetVendorIdTagged vendorId =
         readSimpleField(
@@ -71,7 +71,7 @@ public class BACnetServiceAckGetEventInformation extends BACnetServiceAck implem
   protected void serializeBACnetServiceAckChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetServiceAckGetEventInformation");
 
     // Simple Field (listOfEventSummaries)
@@ -89,10 +89,9 @@ public class BACnetServiceAckGetEventInformation extends BACnetServiceAck implem
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetServiceAckGetEventInformation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (listOfEventSummaries)
     lengthInBits += listOfEventSummaries.getLengthInBits();
@@ -107,7 +106,7 @@ public class BACnetServiceAckGetEventInformation extends BACnetServiceAck implem
       ReadBuffer readBuffer, Long serviceAckLength) throws ParseException {
     readBuffer.pullContext("BACnetServiceAckGetEventInformation");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetEventSummariesList listOfEventSummaries =
         readSimpleField(
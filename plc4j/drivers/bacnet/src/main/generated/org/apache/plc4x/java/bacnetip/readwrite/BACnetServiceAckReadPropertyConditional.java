@@ -65,7 +65,7 @@ public class BACnetServiceAckReadPropertyConditional extends BACnetServiceAck im
   protected void serializeBACnetServiceAckChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetServiceAckReadPropertyConditional");
 
     // Array Field (bytesOfRemovedService)
@@ -81,10 +81,9 @@ public class BACnetServiceAckReadPropertyConditional extends BACnetServiceAck im
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetServiceAckReadPropertyConditional _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (bytesOfRemovedService != null) {
@@ -99,7 +98,7 @@ public class BACnetServiceAckReadPropertyConditional extends BACnetServiceAck im
       throws ParseException {
     readBuffer.pullContext("BACnetServiceAckReadPropertyConditional");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte[] bytesOfRemovedService =
         readBuffer.readByteArray("bytesOfRemovedService", Math.toIntExact(serviceAckPayloadLength));
@@ -65,7 +65,7 @@ public class BACnetServiceAckReadPropertyMultiple extends BACnetServiceAck imple
   protected void serializeBACnetServiceAckChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetServiceAckReadPropertyMultiple");
 
     // Array Field (data)
@@ -80,10 +80,9 @@ public class BACnetServiceAckReadPropertyMultiple extends BACnetServiceAck imple
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetServiceAckReadPropertyMultiple _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (data != null) {
@@ -100,7 +99,7 @@ public class BACnetServiceAckReadPropertyMultiple extends BACnetServiceAck imple
       throws ParseException {
     readBuffer.pullContext("BACnetServiceAckReadPropertyMultiple");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BACnetReadAccessResult> data =
         readLengthArrayField(
@@ -63,7 +63,7 @@ public class BACnetServiceAckVTOpen extends BACnetServiceAck implements Message
   protected void serializeBACnetServiceAckChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetServiceAckVTOpen");
 
     // Simple Field (remoteVtSessionIdentifier)
@@ -79,10 +79,9 @@ public class BACnetServiceAckVTOpen extends BACnetServiceAck implements Message
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetServiceAckVTOpen _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (remoteVtSessionIdentifier)
     lengthInBits += remoteVtSessionIdentifier.getLengthInBits();
@@ -94,7 +93,7 @@ public class BACnetServiceAckVTOpen extends BACnetServiceAck implements Message
       ReadBuffer readBuffer, Long serviceAckLength) throws ParseException {
     readBuffer.pullContext("BACnetServiceAckVTOpen");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagUnsignedInteger remoteVtSessionIdentifier =
         readSimpleField(
@@ -51,7 +51,7 @@ public class BACnetSetpointReference implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetSetpointReference");
 
     // Optional Field (setPointReference) (Can be skipped, if the value is null)
@@ -65,11 +65,22 @@ public class BACnetSetpointReference implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     BACnetSetpointReference _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Optional Field (setPointReference)
     if (setPointReference != null) {
@@ -82,7 +93,7 @@ public class BACnetSetpointReference implements Message {
   public static BACnetSetpointReference staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetSetpointReference");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetObjectPropertyReferenceEnclosed setPointReference =
         readOptionalField(
@@ -55,7 +55,7 @@ public class BACnetShedLevelAmount extends BACnetShedLevel implements Message {
   protected void serializeBACnetShedLevelChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetShedLevelAmount");
 
     // Simple Field (amount)
@@ -70,10 +70,9 @@ public class BACnetShedLevelAmount extends BACnetShedLevel implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetShedLevelAmount _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (amount)
     lengthInBits += amount.getLengthInBits();
@@ -85,7 +84,7 @@ public class BACnetShedLevelAmount extends BACnetShedLevel implements Message {
       throws ParseException {
     readBuffer.pullContext("BACnetShedLevelAmount");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagReal amount =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetShedLevelLevel extends BACnetShedLevel implements Message {
   protected void serializeBACnetShedLevelChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetShedLevelLevel");
 
     // Simple Field (level)
@@ -71,10 +71,9 @@ public class BACnetShedLevelLevel extends BACnetShedLevel implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetShedLevelLevel _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (level)
     lengthInBits += level.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetShedLevelLevel extends BACnetShedLevel implements Message {
       throws ParseException {
     readBuffer.pullContext("BACnetShedLevelLevel");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagUnsignedInteger level =
         readSimpleField(
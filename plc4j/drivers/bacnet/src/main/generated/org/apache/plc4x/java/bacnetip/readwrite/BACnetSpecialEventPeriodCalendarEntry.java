@@ -57,7 +57,7 @@ public class BACnetSpecialEventPeriodCalendarEntry extends BACnetSpecialEventPer
   protected void serializeBACnetSpecialEventPeriodChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetSpecialEventPeriodCalendarEntry");
 
     // Simple Field (calendarEntry)
@@ -72,10 +72,9 @@ public class BACnetSpecialEventPeriodCalendarEntry extends BACnetSpecialEventPer
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetSpecialEventPeriodCalendarEntry _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (calendarEntry)
     lengthInBits += calendarEntry.getLengthInBits();
@@ -87,7 +86,7 @@ public class BACnetSpecialEventPeriodCalendarEntry extends BACnetSpecialEventPer
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetSpecialEventPeriodCalendarEntry");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetCalendarEntryEnclosed calendarEntry =
         readSimpleField(
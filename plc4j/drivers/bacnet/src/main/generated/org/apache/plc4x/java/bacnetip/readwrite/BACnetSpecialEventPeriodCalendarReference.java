@@ -57,7 +57,7 @@ public class BACnetSpecialEventPeriodCalendarReference extends BACnetSpecialEven
   protected void serializeBACnetSpecialEventPeriodChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetSpecialEventPeriodCalendarReference");
 
     // Simple Field (calendarReference)
@@ -72,10 +72,9 @@ public class BACnetSpecialEventPeriodCalendarReference extends BACnetSpecialEven
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetSpecialEventPeriodCalendarReference _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (calendarReference)
     lengthInBits += calendarReference.getLengthInBits();
@@ -87,7 +86,7 @@ public class BACnetSpecialEventPeriodCalendarReference extends BACnetSpecialEven
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetSpecialEventPeriodCalendarReference");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagObjectIdentifier calendarReference =
         readSimpleField(
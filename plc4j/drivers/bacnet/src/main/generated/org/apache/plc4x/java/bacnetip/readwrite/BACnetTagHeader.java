@@ -121,7 +121,7 @@ public class BACnetTagHeader implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetTagHeader");
 
     // Simple Field (tagNumber)
@@ -192,11 +192,22 @@ public class BACnetTagHeader implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     BACnetTagHeader _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (tagNumber)
     lengthInBits += 4;
@@ -243,7 +254,7 @@ public class BACnetTagHeader implements Message {
   public static BACnetTagHeader staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetTagHeader");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte tagNumber = readSimpleField("tagNumber", readUnsignedByte(readBuffer, 4));
 
@@ -59,7 +59,7 @@ public class BACnetTagPayloadBoolean implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetTagPayloadBoolean");
 
     // Virtual field (doesn't actually serialize anything, just makes the value available)
@@ -84,24 +84,19 @@ public class BACnetTagPayloadBoolean implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    BACnetTagPayloadBoolean _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 0;
   }
 
   public static BACnetTagPayloadBoolean staticParse(ReadBuffer readBuffer, Long actualLength)
       throws ParseException {
     readBuffer.pullContext("BACnetTagPayloadBoolean");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
     boolean value = readVirtualField("value", boolean.class, (actualLength) == (1));
     boolean isTrue = readVirtualField("isTrue", boolean.class, value);
     boolean isFalse = readVirtualField("isFalse", boolean.class, !(value));
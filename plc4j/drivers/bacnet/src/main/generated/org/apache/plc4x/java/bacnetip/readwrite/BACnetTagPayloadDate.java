@@ -113,7 +113,7 @@ public class BACnetTagPayloadDate implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetTagPayloadDate");
 
     // Virtual field (doesn't actually serialize anything, just makes the value available)
@@ -182,51 +182,18 @@ public class BACnetTagPayloadDate implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    BACnetTagPayloadDate _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // A virtual field doesn't have any in- or output.
-
-    // Simple field (yearMinus1900)
-    lengthInBits += 8;
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // Simple field (month)
-    lengthInBits += 8;
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // Simple field (dayOfMonth)
-    lengthInBits += 8;
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // Simple field (dayOfWeek)
-    lengthInBits += 8;
-
-    // A virtual field doesn't have any in- or output.
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 32;
   }
 
   public static BACnetTagPayloadDate staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetTagPayloadDate");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
     short wildcard = readVirtualField("wildcard", short.class, 0xFF);
 
     short yearMinus1900 = readSimpleField("yearMinus1900", readUnsignedShort(readBuffer, 8));
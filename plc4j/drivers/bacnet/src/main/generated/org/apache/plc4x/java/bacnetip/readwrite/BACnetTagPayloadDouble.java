@@ -51,7 +51,7 @@ public class BACnetTagPayloadDouble implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetTagPayloadDouble");
 
     // Simple Field (value)
@@ -67,20 +67,18 @@ public class BACnetTagPayloadDouble implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    BACnetTagPayloadDouble _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (value)
-    lengthInBits += 64;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 64;
   }
 
   public static BACnetTagPayloadDouble staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetTagPayloadDouble");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     double value = readSimpleField("value", readDouble(readBuffer, 64));
 
@@ -51,7 +51,7 @@ public class BACnetTagPayloadReal implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetTagPayloadReal");
 
     // Simple Field (value)
@@ -67,20 +67,18 @@ public class BACnetTagPayloadReal implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    BACnetTagPayloadReal _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (value)
-    lengthInBits += 32;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 32;
   }
 
   public static BACnetTagPayloadReal staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetTagPayloadReal");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     float value = readSimpleField("value", readFloat(readBuffer, 32));
 
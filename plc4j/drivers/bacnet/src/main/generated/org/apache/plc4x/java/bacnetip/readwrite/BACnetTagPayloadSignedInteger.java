@@ -158,7 +158,7 @@ public class BACnetTagPayloadSignedInteger implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetTagPayloadSignedInteger");
 
     // Virtual field (doesn't actually serialize anything, just makes the value available)
@@ -229,11 +229,22 @@ public class BACnetTagPayloadSignedInteger implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     BACnetTagPayloadSignedInteger _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // A virtual field doesn't have any in- or output.
 
@@ -300,7 +311,7 @@ public class BACnetTagPayloadSignedInteger implements Message {
       throws ParseException {
     readBuffer.pullContext("BACnetTagPayloadSignedInteger");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
     boolean isInt8 = readVirtualField("isInt8", boolean.class, (actualLength) == (1));
 
     Byte valueInt8 = readOptionalField("valueInt8", readSignedByte(readBuffer, 8), isInt8);
@@ -89,7 +89,7 @@ public class BACnetTagPayloadTime implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetTagPayloadTime");
 
     // Virtual field (doesn't actually serialize anything, just makes the value available)
@@ -134,39 +134,18 @@ public class BACnetTagPayloadTime implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    BACnetTagPayloadTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // A virtual field doesn't have any in- or output.
-
-    // Simple field (hour)
-    lengthInBits += 8;
-
-    // A virtual field doesn't have any in- or output.
-
-    // Simple field (minute)
-    lengthInBits += 8;
-
-    // A virtual field doesn't have any in- or output.
-
-    // Simple field (second)
-    lengthInBits += 8;
-
-    // A virtual field doesn't have any in- or output.
-
-    // Simple field (fractional)
-    lengthInBits += 8;
-
-    // A virtual field doesn't have any in- or output.
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 32;
   }
 
   public static BACnetTagPayloadTime staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetTagPayloadTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
     short wildcard = readVirtualField("wildcard", short.class, 0xFF);
 
     short hour = readSimpleField("hour", readUnsignedShort(readBuffer, 8));
@@ -160,7 +160,7 @@ public class BACnetTagPayloadUnsignedInteger implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetTagPayloadUnsignedInteger");
 
     // Virtual field (doesn't actually serialize anything, just makes the value available)
@@ -238,11 +238,22 @@ public class BACnetTagPayloadUnsignedInteger implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     BACnetTagPayloadUnsignedInteger _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // A virtual field doesn't have any in- or output.
 
@@ -309,7 +320,7 @@ public class BACnetTagPayloadUnsignedInteger implements Message {
       ReadBuffer readBuffer, Long actualLength) throws ParseException {
     readBuffer.pullContext("BACnetTagPayloadUnsignedInteger");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
     boolean isUint8 = readVirtualField("isUint8", boolean.class, (actualLength) == (1));
 
     Short valueUint8 = readOptionalField("valueUint8", readUnsignedShort(readBuffer, 8), isUint8);
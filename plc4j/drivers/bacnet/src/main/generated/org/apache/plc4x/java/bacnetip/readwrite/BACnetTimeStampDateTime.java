@@ -56,7 +56,7 @@ public class BACnetTimeStampDateTime extends BACnetTimeStamp implements Message
   protected void serializeBACnetTimeStampChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetTimeStampDateTime");
 
     // Simple Field (dateTimeValue)
@@ -71,10 +71,9 @@ public class BACnetTimeStampDateTime extends BACnetTimeStamp implements Message
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetTimeStampDateTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dateTimeValue)
     lengthInBits += dateTimeValue.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetTimeStampDateTime extends BACnetTimeStamp implements Message
       throws ParseException {
     readBuffer.pullContext("BACnetTimeStampDateTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDateTimeEnclosed dateTimeValue =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetTimeStampSequence extends BACnetTimeStamp implements Message
   protected void serializeBACnetTimeStampChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetTimeStampSequence");
 
     // Simple Field (sequenceNumber)
@@ -71,10 +71,9 @@ public class BACnetTimeStampSequence extends BACnetTimeStamp implements Message
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetTimeStampSequence _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sequenceNumber)
     lengthInBits += sequenceNumber.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetTimeStampSequence extends BACnetTimeStamp implements Message
       throws ParseException {
     readBuffer.pullContext("BACnetTimeStampSequence");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagUnsignedInteger sequenceNumber =
         readSimpleField(
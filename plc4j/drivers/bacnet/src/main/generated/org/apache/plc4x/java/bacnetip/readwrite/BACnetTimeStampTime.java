@@ -55,7 +55,7 @@ public class BACnetTimeStampTime extends BACnetTimeStamp implements Message {
   protected void serializeBACnetTimeStampChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetTimeStampTime");
 
     // Simple Field (timeValue)
@@ -70,10 +70,9 @@ public class BACnetTimeStampTime extends BACnetTimeStamp implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetTimeStampTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timeValue)
     lengthInBits += timeValue.getLengthInBits();
@@ -85,7 +84,7 @@ public class BACnetTimeStampTime extends BACnetTimeStamp implements Message {
       throws ParseException {
     readBuffer.pullContext("BACnetTimeStampTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagTime timeValue =
         readSimpleField(
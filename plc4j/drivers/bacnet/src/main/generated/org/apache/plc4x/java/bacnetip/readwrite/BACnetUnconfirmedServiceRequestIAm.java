@@ -86,7 +86,7 @@ public class BACnetUnconfirmedServiceRequestIAm extends BACnetUnconfirmedService
   protected void serializeBACnetUnconfirmedServiceRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetUnconfirmedServiceRequestIAm");
 
     // Simple Field (deviceIdentifier)
@@ -113,10 +113,9 @@ public class BACnetUnconfirmedServiceRequestIAm extends BACnetUnconfirmedService
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetUnconfirmedServiceRequestIAm _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (deviceIdentifier)
     lengthInBits += deviceIdentifier.getLengthInBits();
@@ -138,7 +137,7 @@ public class BACnetUnconfirmedServiceRequestIAm extends BACnetUnconfirmedService
           ReadBuffer readBuffer, Integer serviceRequestLength) throws ParseException {
     readBuffer.pullContext("BACnetUnconfirmedServiceRequestIAm");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagObjectIdentifier deviceIdentifier =
         readSimpleField(
@@ -79,7 +79,7 @@ public class BACnetUnconfirmedServiceRequestIHave extends BACnetUnconfirmedServi
   protected void serializeBACnetUnconfirmedServiceRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetUnconfirmedServiceRequestIHave");
 
     // Simple Field (deviceIdentifier)
@@ -100,10 +100,9 @@ public class BACnetUnconfirmedServiceRequestIHave extends BACnetUnconfirmedServi
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetUnconfirmedServiceRequestIHave _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (deviceIdentifier)
     lengthInBits += deviceIdentifier.getLengthInBits();
@@ -122,7 +121,7 @@ public class BACnetUnconfirmedServiceRequestIHave extends BACnetUnconfirmedServi
           ReadBuffer readBuffer, Integer serviceRequestLength) throws ParseException {
     readBuffer.pullContext("BACnetUnconfirmedServiceRequestIHave");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagObjectIdentifier deviceIdentifier =
         readSimpleField(
@@ -72,7 +72,7 @@ public class BACnetUnconfirmedServiceRequestTimeSynchronization
   protected void serializeBACnetUnconfirmedServiceRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetUnconfirmedServiceRequestTimeSynchronization");
 
     // Simple Field (synchronizedDate)
@@ -90,10 +90,9 @@ public class BACnetUnconfirmedServiceRequestTimeSynchronization
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetUnconfirmedServiceRequestTimeSynchronization _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (synchronizedDate)
     lengthInBits += synchronizedDate.getLengthInBits();
@@ -109,7 +108,7 @@ public class BACnetUnconfirmedServiceRequestTimeSynchronization
           ReadBuffer readBuffer, Integer serviceRequestLength) throws ParseException {
     readBuffer.pullContext("BACnetUnconfirmedServiceRequestTimeSynchronization");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagDate synchronizedDate =
         readSimpleField(
@@ -72,7 +72,7 @@ public class BACnetUnconfirmedServiceRequestUTCTimeSynchronization
   protected void serializeBACnetUnconfirmedServiceRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetUnconfirmedServiceRequestUTCTimeSynchronization");
 
     // Simple Field (synchronizedDate)
@@ -90,10 +90,9 @@ public class BACnetUnconfirmedServiceRequestUTCTimeSynchronization
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetUnconfirmedServiceRequestUTCTimeSynchronization _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (synchronizedDate)
     lengthInBits += synchronizedDate.getLengthInBits();
@@ -109,7 +108,7 @@ public class BACnetUnconfirmedServiceRequestUTCTimeSynchronization
           ReadBuffer readBuffer, Integer serviceRequestLength) throws ParseException {
     readBuffer.pullContext("BACnetUnconfirmedServiceRequestUTCTimeSynchronization");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetApplicationTagDate synchronizedDate =
         readSimpleField(
@@ -57,7 +57,7 @@ public class BACnetUnconfirmedServiceRequestWhoHasObjectIdentifier
   protected void serializeBACnetUnconfirmedServiceRequestWhoHasObjectChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetUnconfirmedServiceRequestWhoHasObjectIdentifier");
 
     // Simple Field (objectIdentifier)
@@ -72,10 +72,9 @@ public class BACnetUnconfirmedServiceRequestWhoHasObjectIdentifier
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetUnconfirmedServiceRequestWhoHasObjectIdentifier _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectIdentifier)
     lengthInBits += objectIdentifier.getLengthInBits();
@@ -88,7 +87,7 @@ public class BACnetUnconfirmedServiceRequestWhoHasObjectIdentifier
           throws ParseException {
     readBuffer.pullContext("BACnetUnconfirmedServiceRequestWhoHasObjectIdentifier");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagObjectIdentifier objectIdentifier =
         readSimpleField(
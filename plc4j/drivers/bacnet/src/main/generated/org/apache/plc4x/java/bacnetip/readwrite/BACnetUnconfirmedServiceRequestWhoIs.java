@@ -72,7 +72,7 @@ public class BACnetUnconfirmedServiceRequestWhoIs extends BACnetUnconfirmedServi
   protected void serializeBACnetUnconfirmedServiceRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetUnconfirmedServiceRequestWhoIs");
 
     // Optional Field (deviceInstanceRangeLowLimit) (Can be skipped, if the value is null)
@@ -95,10 +95,9 @@ public class BACnetUnconfirmedServiceRequestWhoIs extends BACnetUnconfirmedServi
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetUnconfirmedServiceRequestWhoIs _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Optional Field (deviceInstanceRangeLowLimit)
     if (deviceInstanceRangeLowLimit != null) {
@@ -118,7 +117,7 @@ public class BACnetUnconfirmedServiceRequestWhoIs extends BACnetUnconfirmedServi
           ReadBuffer readBuffer, Integer serviceRequestLength) throws ParseException {
     readBuffer.pullContext("BACnetUnconfirmedServiceRequestWhoIs");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagUnsignedInteger deviceInstanceRangeLowLimit =
         readOptionalField(
@@ -55,7 +55,7 @@ public class BACnetValueSourceAddress extends BACnetValueSource implements Messa
   protected void serializeBACnetValueSourceChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetValueSourceAddress");
 
     // Simple Field (address)
@@ -70,10 +70,9 @@ public class BACnetValueSourceAddress extends BACnetValueSource implements Messa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetValueSourceAddress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (address)
     lengthInBits += address.getLengthInBits();
@@ -85,7 +84,7 @@ public class BACnetValueSourceAddress extends BACnetValueSource implements Messa
       throws ParseException {
     readBuffer.pullContext("BACnetValueSourceAddress");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetAddressEnclosed address =
         readSimpleField(
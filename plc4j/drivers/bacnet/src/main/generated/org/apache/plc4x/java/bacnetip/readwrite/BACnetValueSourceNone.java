@@ -55,7 +55,7 @@ public class BACnetValueSourceNone extends BACnetValueSource implements Message
   protected void serializeBACnetValueSourceChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetValueSourceNone");
 
     // Simple Field (none)
@@ -70,10 +70,9 @@ public class BACnetValueSourceNone extends BACnetValueSource implements Message
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetValueSourceNone _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (none)
     lengthInBits += none.getLengthInBits();
@@ -85,7 +84,7 @@ public class BACnetValueSourceNone extends BACnetValueSource implements Message
       throws ParseException {
     readBuffer.pullContext("BACnetValueSourceNone");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetContextTagNull none =
         readSimpleField(
@@ -56,7 +56,7 @@ public class BACnetValueSourceObject extends BACnetValueSource implements Messag
   protected void serializeBACnetValueSourceChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetValueSourceObject");
 
     // Simple Field (object)
@@ -71,10 +71,9 @@ public class BACnetValueSourceObject extends BACnetValueSource implements Messag
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BACnetValueSourceObject _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (object)
     lengthInBits += object.getLengthInBits();
@@ -86,7 +85,7 @@ public class BACnetValueSourceObject extends BACnetValueSource implements Messag
       throws ParseException {
     readBuffer.pullContext("BACnetValueSourceObject");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetDeviceObjectReferenceEnclosed object =
         readSimpleField(
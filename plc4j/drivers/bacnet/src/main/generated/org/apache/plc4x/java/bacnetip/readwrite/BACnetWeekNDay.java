@@ -43,7 +43,7 @@ public class BACnetWeekNDay implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BACnetWeekNDay");
 
     writeBuffer.popContext("BACnetWeekNDay");
@@ -56,17 +56,18 @@ public class BACnetWeekNDay implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    BACnetWeekNDay _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 0;
   }
 
   public static BACnetWeekNDay staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BACnetWeekNDay");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
     // Validation
     if (!((1) == (2))) {
       throw new ParseValidationException(
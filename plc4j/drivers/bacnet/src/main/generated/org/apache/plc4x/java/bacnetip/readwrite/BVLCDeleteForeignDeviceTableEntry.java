@@ -63,7 +63,7 @@ public class BVLCDeleteForeignDeviceTableEntry extends BVLC implements Message {
   @Override
   protected void serializeBVLCChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BVLCDeleteForeignDeviceTableEntry");
 
     // Array Field (ip)
@@ -89,10 +89,9 @@ public class BVLCDeleteForeignDeviceTableEntry extends BVLC implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BVLCDeleteForeignDeviceTableEntry _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (ip != null) {
@@ -108,7 +107,7 @@ public class BVLCDeleteForeignDeviceTableEntry extends BVLC implements Message {
   public static BVLCBuilder staticParseBVLCBuilder(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BVLCDeleteForeignDeviceTableEntry");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<Short> ip =
         readCountArrayField(
@@ -73,7 +73,7 @@ public class BVLCForwardedNPDU extends BVLC implements Message {
   @Override
   protected void serializeBVLCChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BVLCForwardedNPDU");
 
     // Array Field (ip)
@@ -103,10 +103,9 @@ public class BVLCForwardedNPDU extends BVLC implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BVLCForwardedNPDU _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (ip != null) {
@@ -126,7 +125,7 @@ public class BVLCForwardedNPDU extends BVLC implements Message {
       throws ParseException {
     readBuffer.pullContext("BVLCForwardedNPDU");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<Short> ip =
         readCountArrayField(
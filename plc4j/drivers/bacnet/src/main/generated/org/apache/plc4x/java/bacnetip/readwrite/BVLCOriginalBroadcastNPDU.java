@@ -61,7 +61,7 @@ public class BVLCOriginalBroadcastNPDU extends BVLC implements Message {
   @Override
   protected void serializeBVLCChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BVLCOriginalBroadcastNPDU");
 
     // Simple Field (npdu)
@@ -77,10 +77,9 @@ public class BVLCOriginalBroadcastNPDU extends BVLC implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BVLCOriginalBroadcastNPDU _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (npdu)
     lengthInBits += npdu.getLengthInBits();
@@ -92,7 +91,7 @@ public class BVLCOriginalBroadcastNPDU extends BVLC implements Message {
       throws ParseException {
     readBuffer.pullContext("BVLCOriginalBroadcastNPDU");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NPDU npdu =
         readSimpleField(
@@ -62,7 +62,7 @@ public class BVLCReadBroadcastDistributionTableAck extends BVLC implements Messa
   @Override
   protected void serializeBVLCChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BVLCReadBroadcastDistributionTableAck");
 
     // Array Field (table)
@@ -78,10 +78,9 @@ public class BVLCReadBroadcastDistributionTableAck extends BVLC implements Messa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BVLCReadBroadcastDistributionTableAck _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (table != null) {
@@ -97,7 +96,7 @@ public class BVLCReadBroadcastDistributionTableAck extends BVLC implements Messa
       throws ParseException {
     readBuffer.pullContext("BVLCReadBroadcastDistributionTableAck");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<BVLCBroadcastDistributionTableEntry> table =
         readLengthArrayField(
@@ -61,7 +61,7 @@ public class BVLCSecureBVLL extends BVLC implements Message {
   @Override
   protected void serializeBVLCChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BVLCSecureBVLL");
 
     // Array Field (securityWrapper)
@@ -80,10 +80,9 @@ public class BVLCSecureBVLL extends BVLC implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BVLCSecureBVLL _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (securityWrapper != null) {
@@ -97,7 +96,7 @@ public class BVLCSecureBVLL extends BVLC implements Message {
       throws ParseException {
     readBuffer.pullContext("BVLCSecureBVLL");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte[] securityWrapper =
         readBuffer.readByteArray(
@@ -50,7 +50,7 @@ public class BacnetConstants implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BacnetConstants");
 
     // Const Field (bacnetUdpDefaultPort)
@@ -67,20 +67,18 @@ public class BacnetConstants implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    BacnetConstants _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (bacnetUdpDefaultPort)
-    lengthInBits += 16;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static BacnetConstants staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BacnetConstants");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int bacnetUdpDefaultPort =
         readConstField(
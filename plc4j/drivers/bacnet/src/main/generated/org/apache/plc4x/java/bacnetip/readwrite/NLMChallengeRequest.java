@@ -74,7 +74,7 @@ public class NLMChallengeRequest extends NLM implements Message {
   @Override
   protected void serializeNLMChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NLMChallengeRequest");
 
     // Simple Field (messageChallenge)
@@ -95,28 +95,16 @@ public class NLMChallengeRequest extends NLM implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    NLMChallengeRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (messageChallenge)
-    lengthInBits += 8;
-
-    // Simple field (originalMessageId)
-    lengthInBits += 32;
-
-    // Simple field (originalTimestamp)
-    lengthInBits += 32;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 72;
   }
 
   public static NLMBuilder staticParseNLMBuilder(ReadBuffer readBuffer, Integer apduLength)
       throws ParseException {
     readBuffer.pullContext("NLMChallengeRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte messageChallenge = readSimpleField("messageChallenge", readByte(readBuffer, 8));
 
@@ -61,7 +61,7 @@ public class NLMDisconnectConnectionToNetwork extends NLM implements Message {
   @Override
   protected void serializeNLMChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NLMDisconnectConnectionToNetwork");
 
     // Simple Field (destinationNetworkAddress)
@@ -77,22 +77,16 @@ public class NLMDisconnectConnectionToNetwork extends NLM implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    NLMDisconnectConnectionToNetwork _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (destinationNetworkAddress)
-    lengthInBits += 16;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 16;
   }
 
   public static NLMBuilder staticParseNLMBuilder(ReadBuffer readBuffer, Integer apduLength)
       throws ParseException {
     readBuffer.pullContext("NLMDisconnectConnectionToNetwork");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int destinationNetworkAddress =
         readSimpleField("destinationNetworkAddress", readUnsignedInt(readBuffer, 16));
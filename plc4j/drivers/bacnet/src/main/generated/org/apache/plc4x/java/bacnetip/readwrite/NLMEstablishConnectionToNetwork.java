@@ -68,7 +68,7 @@ public class NLMEstablishConnectionToNetwork extends NLM implements Message {
   @Override
   protected void serializeNLMChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NLMEstablishConnectionToNetwork");
 
     // Simple Field (destinationNetworkAddress)
@@ -87,25 +87,16 @@ public class NLMEstablishConnectionToNetwork extends NLM implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    NLMEstablishConnectionToNetwork _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (destinationNetworkAddress)
-    lengthInBits += 16;
-
-    // Simple field (terminationTime)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 24;
   }
 
   public static NLMBuilder staticParseNLMBuilder(ReadBuffer readBuffer, Integer apduLength)
       throws ParseException {
     readBuffer.pullContext("NLMEstablishConnectionToNetwork");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int destinationNetworkAddress =
         readSimpleField("destinationNetworkAddress", readUnsignedInt(readBuffer, 16));
@@ -61,7 +61,7 @@ public class NLMIAmRouterToNetwork extends NLM implements Message {
   @Override
   protected void serializeNLMChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NLMIAmRouterToNetwork");
 
     // Array Field (destinationNetworkAddresses)
@@ -79,10 +79,9 @@ public class NLMIAmRouterToNetwork extends NLM implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     NLMIAmRouterToNetwork _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (destinationNetworkAddresses != null) {
@@ -96,7 +95,7 @@ public class NLMIAmRouterToNetwork extends NLM implements Message {
       throws ParseException {
     readBuffer.pullContext("NLMIAmRouterToNetwork");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<Integer> destinationNetworkAddresses =
         readLengthArrayField(
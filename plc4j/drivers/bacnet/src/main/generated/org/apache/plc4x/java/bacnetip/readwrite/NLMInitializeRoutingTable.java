@@ -70,7 +70,7 @@ public class NLMInitializeRoutingTable extends NLM implements Message {
   @Override
   protected void serializeNLMChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NLMInitializeRoutingTable");
 
     // Simple Field (numberOfPorts)
@@ -88,10 +88,9 @@ public class NLMInitializeRoutingTable extends NLM implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     NLMInitializeRoutingTable _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (numberOfPorts)
     lengthInBits += 8;
@@ -100,8 +99,7 @@ public class NLMInitializeRoutingTable extends NLM implements Message {
     if (portMappings != null) {
       int i = 0;
       for (NLMInitializeRoutingTablePortMapping element : portMappings) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= portMappings.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= portMappings.size());
       }
     }
 
@@ -112,7 +110,7 @@ public class NLMInitializeRoutingTable extends NLM implements Message {
       throws ParseException {
     readBuffer.pullContext("NLMInitializeRoutingTable");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short numberOfPorts = readSimpleField("numberOfPorts", readUnsignedShort(readBuffer, 8));
 
@@ -70,7 +70,7 @@ public class NLMNetworkNumberIs extends NLM implements Message {
   @Override
   protected void serializeNLMChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NLMNetworkNumberIs");
 
     // Simple Field (networkNumber)
@@ -94,28 +94,16 @@ public class NLMNetworkNumberIs extends NLM implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    NLMNetworkNumberIs _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (networkNumber)
-    lengthInBits += 16;
-
-    // Reserved Field (reserved)
-    lengthInBits += 7;
-
-    // Simple field (networkNumberConfigured)
-    lengthInBits += 1;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 24;
   }
 
   public static NLMBuilder staticParseNLMBuilder(ReadBuffer readBuffer, Integer apduLength)
       throws ParseException {
     readBuffer.pullContext("NLMNetworkNumberIs");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int networkNumber = readSimpleField("networkNumber", readUnsignedInt(readBuffer, 16));
 
@@ -105,7 +105,7 @@ public class NLMRequestKeyUpdate extends NLM implements Message {
   @Override
   protected void serializeNLMChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NLMRequestKeyUpdate");
 
     // Simple Field (set1KeyRevision)
@@ -138,40 +138,16 @@ public class NLMRequestKeyUpdate extends NLM implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    NLMRequestKeyUpdate _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (set1KeyRevision)
-    lengthInBits += 8;
-
-    // Simple field (set1ActivationTime)
-    lengthInBits += 32;
-
-    // Simple field (set1ExpirationTime)
-    lengthInBits += 32;
-
-    // Simple field (set2KeyRevision)
-    lengthInBits += 8;
-
-    // Simple field (set2ActivationTime)
-    lengthInBits += 32;
-
-    // Simple field (set2ExpirationTime)
-    lengthInBits += 32;
-
-    // Simple field (distributionKeyRevision)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 152;
   }
 
   public static NLMBuilder staticParseNLMBuilder(ReadBuffer readBuffer, Integer apduLength)
       throws ParseException {
     readBuffer.pullContext("NLMRequestKeyUpdate");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte set1KeyRevision = readSimpleField("set1KeyRevision", readByte(readBuffer, 8));
 
@@ -70,7 +70,7 @@ public class NLMRequestMasterKey extends NLM implements Message {
   @Override
   protected void serializeNLMChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NLMRequestMasterKey");
 
     // Simple Field (numberOfSupportedKeyAlgorithms)
@@ -94,10 +94,9 @@ public class NLMRequestMasterKey extends NLM implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     NLMRequestMasterKey _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (numberOfSupportedKeyAlgorithms)
     lengthInBits += 8;
@@ -114,7 +113,7 @@ public class NLMRequestMasterKey extends NLM implements Message {
       throws ParseException {
     readBuffer.pullContext("NLMRequestMasterKey");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short numberOfSupportedKeyAlgorithms =
         readSimpleField("numberOfSupportedKeyAlgorithms", readUnsignedShort(readBuffer, 8));
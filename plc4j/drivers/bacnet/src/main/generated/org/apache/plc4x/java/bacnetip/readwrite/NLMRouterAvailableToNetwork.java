@@ -62,7 +62,7 @@ public class NLMRouterAvailableToNetwork extends NLM implements Message {
   @Override
   protected void serializeNLMChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NLMRouterAvailableToNetwork");
 
     // Array Field (destinationNetworkAddresses)
@@ -80,10 +80,9 @@ public class NLMRouterAvailableToNetwork extends NLM implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     NLMRouterAvailableToNetwork _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (destinationNetworkAddresses != null) {
@@ -97,7 +96,7 @@ public class NLMRouterAvailableToNetwork extends NLM implements Message {
       throws ParseException {
     readBuffer.pullContext("NLMRouterAvailableToNetwork");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<Integer> destinationNetworkAddresses =
         readLengthArrayField(
@@ -67,7 +67,7 @@ public class NLMSecurityPayload extends NLM implements Message {
   @Override
   protected void serializeNLMChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NLMSecurityPayload");
 
     // Simple Field (payloadLength)
@@ -85,10 +85,9 @@ public class NLMSecurityPayload extends NLM implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     NLMSecurityPayload _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (payloadLength)
     lengthInBits += 16;
@@ -105,7 +104,7 @@ public class NLMSecurityPayload extends NLM implements Message {
       throws ParseException {
     readBuffer.pullContext("NLMSecurityPayload");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int payloadLength = readSimpleField("payloadLength", readUnsignedInt(readBuffer, 16));
 
@@ -84,7 +84,7 @@ public class NLMSecurityResponse extends NLM implements Message {
   @Override
   protected void serializeNLMChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NLMSecurityResponse");
 
     // Simple Field (responseCode)
@@ -115,10 +115,9 @@ public class NLMSecurityResponse extends NLM implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     NLMSecurityResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseCode)
     lengthInBits += 8;
@@ -141,7 +140,7 @@ public class NLMSecurityResponse extends NLM implements Message {
       throws ParseException {
     readBuffer.pullContext("NLMSecurityResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     SecurityResponseCode responseCode =
         readEnumField(
@@ -61,7 +61,7 @@ public class NLMSetMasterKey extends NLM implements Message {
   @Override
   protected void serializeNLMChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NLMSetMasterKey");
 
     // Simple Field (key)
@@ -76,10 +76,9 @@ public class NLMSetMasterKey extends NLM implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     NLMSetMasterKey _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (key)
     lengthInBits += key.getLengthInBits();
@@ -91,7 +90,7 @@ public class NLMSetMasterKey extends NLM implements Message {
       throws ParseException {
     readBuffer.pullContext("NLMSetMasterKey");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NLMUpdateKeyUpdateKeyEntry key =
         readSimpleField(
@@ -68,7 +68,7 @@ public class NLMUpdateKeyDistributionKey extends NLM implements Message {
   @Override
   protected void serializeNLMChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NLMUpdateKeyDistributionKey");
 
     // Simple Field (keyRevision)
@@ -86,10 +86,9 @@ public class NLMUpdateKeyDistributionKey extends NLM implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     NLMUpdateKeyDistributionKey _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (keyRevision)
     lengthInBits += 8;
@@ -104,7 +103,7 @@ public class NLMUpdateKeyDistributionKey extends NLM implements Message {
       throws ParseException {
     readBuffer.pullContext("NLMUpdateKeyDistributionKey");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte keyRevision = readSimpleField("keyRevision", readByte(readBuffer, 8));
 
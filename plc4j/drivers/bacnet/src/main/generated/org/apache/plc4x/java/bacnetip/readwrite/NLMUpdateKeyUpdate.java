@@ -133,7 +133,7 @@ public class NLMUpdateKeyUpdate extends NLM implements Message {
   @Override
   protected void serializeNLMChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NLMUpdateKeyUpdate");
 
     // Simple Field (controlFlags)
@@ -210,10 +210,9 @@ public class NLMUpdateKeyUpdate extends NLM implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     NLMUpdateKeyUpdate _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (controlFlags)
     lengthInBits += controlFlags.getLengthInBits();
@@ -242,8 +241,7 @@ public class NLMUpdateKeyUpdate extends NLM implements Message {
     if (set1Keys != null) {
       int i = 0;
       for (NLMUpdateKeyUpdateKeyEntry element : set1Keys) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= set1Keys.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= set1Keys.size());
       }
     }
 
@@ -271,8 +269,7 @@ public class NLMUpdateKeyUpdate extends NLM implements Message {
     if (set2Keys != null) {
       int i = 0;
       for (NLMUpdateKeyUpdateKeyEntry element : set2Keys) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= set2Keys.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= set2Keys.size());
       }
     }
 
@@ -283,7 +280,7 @@ public class NLMUpdateKeyUpdate extends NLM implements Message {
       throws ParseException {
     readBuffer.pullContext("NLMUpdateKeyUpdate");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NLMUpdateKeyUpdateControlFlags controlFlags =
         readSimpleField(
@@ -103,7 +103,7 @@ public class NLMUpdateKeyUpdateControlFlags implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NLMUpdateKeyUpdateControlFlags");
 
     // Simple Field (set1KeyRevisionActivationTimeExpirationTimePresent)
@@ -153,42 +153,19 @@ public class NLMUpdateKeyUpdateControlFlags implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    NLMUpdateKeyUpdateControlFlags _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (set1KeyRevisionActivationTimeExpirationTimePresent)
-    lengthInBits += 1;
-
-    // Simple field (set1KeyCountKeyParametersPresent)
-    lengthInBits += 1;
-
-    // Simple field (set1ShouldBeCleared)
-    lengthInBits += 1;
-
-    // Simple field (set2KeyRevisionActivationTimeExpirationTimePresent)
-    lengthInBits += 1;
-
-    // Simple field (set2KeyCountKeyParametersPresent)
-    lengthInBits += 1;
-
-    // Simple field (set2ShouldBeCleared)
-    lengthInBits += 1;
-
-    // Simple field (moreMessagesToBeExpected)
-    lengthInBits += 1;
-
-    // Simple field (removeAllKeys)
-    lengthInBits += 1;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static NLMUpdateKeyUpdateControlFlags staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("NLMUpdateKeyUpdateControlFlags");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean set1KeyRevisionActivationTimeExpirationTimePresent =
         readSimpleField(
@@ -63,7 +63,7 @@ public class NLMUpdateKeyUpdateKeyEntry implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NLMUpdateKeyUpdateKeyEntry");
 
     // Simple Field (keyIdentifier)
@@ -83,11 +83,22 @@ public class NLMUpdateKeyUpdateKeyEntry implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     NLMUpdateKeyUpdateKeyEntry _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (keyIdentifier)
     lengthInBits += 16;
@@ -107,7 +118,7 @@ public class NLMUpdateKeyUpdateKeyEntry implements Message {
       throws ParseException {
     readBuffer.pullContext("NLMUpdateKeyUpdateKeyEntry");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int keyIdentifier = readSimpleField("keyIdentifier", readUnsignedInt(readBuffer, 16));
 
@@ -68,7 +68,7 @@ public class NLMVendorProprietaryMessage extends NLM implements Message {
   @Override
   protected void serializeNLMChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NLMVendorProprietaryMessage");
 
     // Simple Field (vendorId)
@@ -91,10 +91,9 @@ public class NLMVendorProprietaryMessage extends NLM implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     NLMVendorProprietaryMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (vendorId)
     lengthInBits += 16;
@@ -111,7 +110,7 @@ public class NLMVendorProprietaryMessage extends NLM implements Message {
       throws ParseException {
     readBuffer.pullContext("NLMVendorProprietaryMessage");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetVendorId vendorId =
         readEnumField(
@@ -61,7 +61,7 @@ public class NLMWhoIsRouterToNetwork extends NLM implements Message {
   @Override
   protected void serializeNLMChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NLMWhoIsRouterToNetwork");
 
     // Optional Field (destinationNetworkAddress) (Can be skipped, if the value is null)
@@ -77,10 +77,9 @@ public class NLMWhoIsRouterToNetwork extends NLM implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     NLMWhoIsRouterToNetwork _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Optional Field (destinationNetworkAddress)
     if (destinationNetworkAddress != null) {
@@ -94,7 +93,7 @@ public class NLMWhoIsRouterToNetwork extends NLM implements Message {
       throws ParseException {
     readBuffer.pullContext("NLMWhoIsRouterToNetwork");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Integer destinationNetworkAddress =
         readOptionalField("destinationNetworkAddress", readUnsignedInt(readBuffer, 16));
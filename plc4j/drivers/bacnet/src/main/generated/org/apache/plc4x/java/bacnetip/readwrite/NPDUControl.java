@@ -84,7 +84,7 @@ public class NPDUControl implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NPDUControl");
 
     // Simple Field (messageTypeFieldPresent)
@@ -131,38 +131,18 @@ public class NPDUControl implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    NPDUControl _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (messageTypeFieldPresent)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Simple field (destinationSpecified)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Simple field (sourceSpecified)
-    lengthInBits += 1;
-
-    // Simple field (expectingReply)
-    lengthInBits += 1;
-
-    // Simple field (networkPriority)
-    lengthInBits += 2;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static NPDUControl staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("NPDUControl");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean messageTypeFieldPresent =
         readSimpleField("messageTypeFieldPresent", readBoolean(readBuffer));
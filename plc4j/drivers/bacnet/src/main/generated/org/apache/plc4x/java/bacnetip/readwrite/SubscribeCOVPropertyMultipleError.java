@@ -65,7 +65,7 @@ public class SubscribeCOVPropertyMultipleError extends BACnetError implements Me
   @Override
   protected void serializeBACnetErrorChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SubscribeCOVPropertyMultipleError");
 
     // Simple Field (errorType)
@@ -83,10 +83,9 @@ public class SubscribeCOVPropertyMultipleError extends BACnetError implements Me
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     SubscribeCOVPropertyMultipleError _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (errorType)
     lengthInBits += errorType.getLengthInBits();
@@ -101,7 +100,7 @@ public class SubscribeCOVPropertyMultipleError extends BACnetError implements Me
       ReadBuffer readBuffer, BACnetConfirmedServiceChoice errorChoice) throws ParseException {
     readBuffer.pullContext("SubscribeCOVPropertyMultipleError");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ErrorEnclosed errorType =
         readSimpleField(
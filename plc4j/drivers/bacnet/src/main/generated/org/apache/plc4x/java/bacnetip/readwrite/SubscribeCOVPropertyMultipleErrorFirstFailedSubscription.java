@@ -85,7 +85,7 @@ public class SubscribeCOVPropertyMultipleErrorFirstFailedSubscription implements
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SubscribeCOVPropertyMultipleErrorFirstFailedSubscription");
 
     // Simple Field (openingTag)
@@ -113,11 +113,22 @@ public class SubscribeCOVPropertyMultipleErrorFirstFailedSubscription implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     SubscribeCOVPropertyMultipleErrorFirstFailedSubscription _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -141,7 +152,7 @@ public class SubscribeCOVPropertyMultipleErrorFirstFailedSubscription implements
       ReadBuffer readBuffer, Short tagNumber) throws ParseException {
     readBuffer.pullContext("SubscribeCOVPropertyMultipleErrorFirstFailedSubscription");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BACnetOpeningTag openingTag =
         readSimpleField(
@@ -73,7 +73,7 @@ public abstract class AccessControlData implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AccessControlData");
 
     // Simple Field (commandTypeContainer)
@@ -107,32 +107,28 @@ public abstract class AccessControlData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    AccessControlData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (commandTypeContainer)
-    lengthInBits += 8;
-
-    // A virtual field doesn't have any in- or output.
-
-    // Simple field (networkId)
-    lengthInBits += 8;
-
-    // Simple field (accessPointId)
-    lengthInBits += 8;
-
-    // Length of sub-type elements will be added by sub-type...
-
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
     return lengthInBits;
   }
 
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 24;
+  }
+
   public static AccessControlData staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("AccessControlData");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
     // Validation
     if (!(org.apache.plc4x.java.cbus.readwrite.utils.StaticHelper
         .knowsAccessControlCommandTypeContainer(readBuffer))) {
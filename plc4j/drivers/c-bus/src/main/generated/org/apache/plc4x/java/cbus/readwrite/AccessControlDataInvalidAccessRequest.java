@@ -66,7 +66,7 @@ public class AccessControlDataInvalidAccessRequest extends AccessControlData imp
   protected void serializeAccessControlDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AccessControlDataInvalidAccessRequest");
 
     // Simple Field (accessControlDirection)
@@ -91,10 +91,9 @@ public class AccessControlDataInvalidAccessRequest extends AccessControlData imp
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AccessControlDataInvalidAccessRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (accessControlDirection)
     lengthInBits += 8;
@@ -112,7 +111,7 @@ public class AccessControlDataInvalidAccessRequest extends AccessControlData imp
       throws ParseException {
     readBuffer.pullContext("AccessControlDataInvalidAccessRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     AccessControlDirection accessControlDirection =
         readEnumField(
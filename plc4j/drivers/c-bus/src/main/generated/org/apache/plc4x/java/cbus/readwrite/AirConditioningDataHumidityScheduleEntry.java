@@ -107,7 +107,7 @@ public class AirConditioningDataHumidityScheduleEntry extends AirConditioningDat
   protected void serializeAirConditioningDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AirConditioningDataHumidityScheduleEntry");
 
     // Simple Field (zoneGroup)
@@ -145,10 +145,9 @@ public class AirConditioningDataHumidityScheduleEntry extends AirConditioningDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AirConditioningDataHumidityScheduleEntry _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (zoneGroup)
     lengthInBits += 8;
@@ -185,7 +184,7 @@ public class AirConditioningDataHumidityScheduleEntry extends AirConditioningDat
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("AirConditioningDataHumidityScheduleEntry");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte zoneGroup = readSimpleField("zoneGroup", readByte(readBuffer, 8));
 
@@ -106,7 +106,7 @@ public class AirConditioningDataHvacScheduleEntry extends AirConditioningData im
   protected void serializeAirConditioningDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AirConditioningDataHvacScheduleEntry");
 
     // Simple Field (zoneGroup)
@@ -144,10 +144,9 @@ public class AirConditioningDataHvacScheduleEntry extends AirConditioningData im
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AirConditioningDataHvacScheduleEntry _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (zoneGroup)
     lengthInBits += 8;
@@ -184,7 +183,7 @@ public class AirConditioningDataHvacScheduleEntry extends AirConditioningData im
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("AirConditioningDataHvacScheduleEntry");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte zoneGroup = readSimpleField("zoneGroup", readByte(readBuffer, 8));
 
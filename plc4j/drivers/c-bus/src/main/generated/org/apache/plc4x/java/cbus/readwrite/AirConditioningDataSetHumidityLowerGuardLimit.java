@@ -79,7 +79,7 @@ public class AirConditioningDataSetHumidityLowerGuardLimit extends AirConditioni
   protected void serializeAirConditioningDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AirConditioningDataSetHumidityLowerGuardLimit");
 
     // Simple Field (zoneGroup)
@@ -103,10 +103,9 @@ public class AirConditioningDataSetHumidityLowerGuardLimit extends AirConditioni
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AirConditioningDataSetHumidityLowerGuardLimit _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (zoneGroup)
     lengthInBits += 8;
@@ -127,7 +126,7 @@ public class AirConditioningDataSetHumidityLowerGuardLimit extends AirConditioni
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("AirConditioningDataSetHumidityLowerGuardLimit");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte zoneGroup = readSimpleField("zoneGroup", readByte(readBuffer, 8));
 
@@ -79,7 +79,7 @@ public class AirConditioningDataSetHumiditySetbackLimit extends AirConditioningD
   protected void serializeAirConditioningDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AirConditioningDataSetHumiditySetbackLimit");
 
     // Simple Field (zoneGroup)
@@ -103,10 +103,9 @@ public class AirConditioningDataSetHumiditySetbackLimit extends AirConditioningD
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AirConditioningDataSetHumiditySetbackLimit _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (zoneGroup)
     lengthInBits += 8;
@@ -127,7 +126,7 @@ public class AirConditioningDataSetHumiditySetbackLimit extends AirConditioningD
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("AirConditioningDataSetHumiditySetbackLimit");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte zoneGroup = readSimpleField("zoneGroup", readByte(readBuffer, 8));
 
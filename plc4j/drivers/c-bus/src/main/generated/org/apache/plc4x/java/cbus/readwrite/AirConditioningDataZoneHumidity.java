@@ -78,7 +78,7 @@ public class AirConditioningDataZoneHumidity extends AirConditioningData impleme
   protected void serializeAirConditioningDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AirConditioningDataZoneHumidity");
 
     // Simple Field (zoneGroup)
@@ -109,10 +109,9 @@ public class AirConditioningDataZoneHumidity extends AirConditioningData impleme
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AirConditioningDataZoneHumidity _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (zoneGroup)
     lengthInBits += 8;
@@ -133,7 +132,7 @@ public class AirConditioningDataZoneHumidity extends AirConditioningData impleme
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("AirConditioningDataZoneHumidity");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte zoneGroup = readSimpleField("zoneGroup", readByte(readBuffer, 8));
 
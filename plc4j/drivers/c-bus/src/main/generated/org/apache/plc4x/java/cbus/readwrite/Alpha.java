@@ -51,7 +51,7 @@ public class Alpha implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("Alpha");
 
     // Simple Field (character)
@@ -67,20 +67,18 @@ public class Alpha implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    Alpha _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (character)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static Alpha staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("Alpha");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte character = readSimpleField("character", readByte(readBuffer, 8));
     // Validation
@@ -55,7 +55,7 @@ public class ApplicationAddress2 implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ApplicationAddress2");
 
     // Simple Field (address)
@@ -75,22 +75,18 @@ public class ApplicationAddress2 implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    ApplicationAddress2 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (address)
-    lengthInBits += 8;
-
-    // A virtual field doesn't have any in- or output.
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static ApplicationAddress2 staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("ApplicationAddress2");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte address = readSimpleField("address", readByte(readBuffer, 8));
     boolean isWildcard = readVirtualField("isWildcard", boolean.class, (address) == (0xFF));
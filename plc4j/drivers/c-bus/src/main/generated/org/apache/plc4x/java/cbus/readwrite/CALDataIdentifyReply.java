@@ -69,7 +69,7 @@ public class CALDataIdentifyReply extends CALData implements Message {
   @Override
   protected void serializeCALDataChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CALDataIdentifyReply");
 
     // Simple Field (attribute)
@@ -91,10 +91,9 @@ public class CALDataIdentifyReply extends CALData implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CALDataIdentifyReply _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (attribute)
     lengthInBits += 8;
@@ -112,7 +111,7 @@ public class CALDataIdentifyReply extends CALData implements Message {
       throws ParseException {
     readBuffer.pullContext("CALDataIdentifyReply");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Attribute attribute =
         readEnumField(
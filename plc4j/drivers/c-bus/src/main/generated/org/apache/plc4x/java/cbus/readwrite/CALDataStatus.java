@@ -76,7 +76,7 @@ public class CALDataStatus extends CALData implements Message {
   @Override
   protected void serializeCALDataChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CALDataStatus");
 
     // Simple Field (application)
@@ -104,10 +104,9 @@ public class CALDataStatus extends CALData implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CALDataStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (application)
     lengthInBits += 8;
@@ -119,8 +118,7 @@ public class CALDataStatus extends CALData implements Message {
     if (statusBytes != null) {
       int i = 0;
       for (StatusByte element : statusBytes) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= statusBytes.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= statusBytes.size());
       }
     }
 
@@ -134,7 +132,7 @@ public class CALDataStatus extends CALData implements Message {
       throws ParseException {
     readBuffer.pullContext("CALDataStatus");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ApplicationIdContainer application =
         readEnumField(
@@ -106,7 +106,7 @@ public class CALDataStatusExtended extends CALData implements Message {
   @Override
   protected void serializeCALDataChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CALDataStatusExtended");
 
     // Simple Field (coding)
@@ -152,10 +152,9 @@ public class CALDataStatusExtended extends CALData implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CALDataStatusExtended _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (coding)
     lengthInBits += 8;
@@ -174,8 +173,7 @@ public class CALDataStatusExtended extends CALData implements Message {
     if (statusBytes != null) {
       int i = 0;
       for (StatusByte element : statusBytes) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= statusBytes.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= statusBytes.size());
       }
     }
 
@@ -183,8 +181,7 @@ public class CALDataStatusExtended extends CALData implements Message {
     if (levelInformation != null) {
       int i = 0;
       for (LevelInformation element : levelInformation) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= levelInformation.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= levelInformation.size());
       }
     }
 
@@ -198,7 +195,7 @@ public class CALDataStatusExtended extends CALData implements Message {
       throws ParseException {
     readBuffer.pullContext("CALDataStatusExtended");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     StatusCoding coding =
         readEnumField(
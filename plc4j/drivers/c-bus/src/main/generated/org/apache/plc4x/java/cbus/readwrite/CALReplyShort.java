@@ -53,7 +53,7 @@ public class CALReplyShort extends CALReply implements Message {
   @Override
   protected void serializeCALReplyChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CALReplyShort");
 
     writeBuffer.popContext("CALReplyShort");
@@ -65,12 +65,9 @@ public class CALReplyShort extends CALReply implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    CALReplyShort _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static CALReplyBuilder staticParseCALReplyBuilder(
@@ -78,7 +75,7 @@ public class CALReplyShort extends CALReply implements Message {
       throws ParseException {
     readBuffer.pullContext("CALReplyShort");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("CALReplyShort");
     // Create the instance
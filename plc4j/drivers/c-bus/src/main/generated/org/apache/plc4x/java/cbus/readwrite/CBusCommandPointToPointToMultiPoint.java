@@ -59,7 +59,7 @@ public class CBusCommandPointToPointToMultiPoint extends CBusCommand implements
   @Override
   protected void serializeCBusCommandChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CBusCommandPointToPointToMultiPoint");
 
     // Simple Field (command)
@@ -74,10 +74,9 @@ public class CBusCommandPointToPointToMultiPoint extends CBusCommand implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CBusCommandPointToPointToMultiPoint _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (command)
     lengthInBits += command.getLengthInBits();
@@ -89,7 +88,7 @@ public class CBusCommandPointToPointToMultiPoint extends CBusCommand implements
       ReadBuffer readBuffer, CBusOptions cBusOptions) throws ParseException {
     readBuffer.pullContext("CBusCommandPointToPointToMultiPoint");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     CBusPointToPointToMultiPointCommand command =
         readSimpleField(
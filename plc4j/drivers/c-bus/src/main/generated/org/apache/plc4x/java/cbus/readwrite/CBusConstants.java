@@ -50,7 +50,7 @@ public class CBusConstants implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CBusConstants");
 
     // Const Field (cbusTcpDefaultPort)
@@ -66,20 +66,18 @@ public class CBusConstants implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    CBusConstants _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (cbusTcpDefaultPort)
-    lengthInBits += 16;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static CBusConstants staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("CBusConstants");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int cbusTcpDefaultPort =
         readConstField(
@@ -73,7 +73,7 @@ public class CBusHeader implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CBusHeader");
 
     // Simple Field (priorityClass)
@@ -109,29 +109,18 @@ public class CBusHeader implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    CBusHeader _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (priorityClass)
-    lengthInBits += 2;
-
-    // Simple field (dp)
-    lengthInBits += 1;
-
-    // Simple field (rc)
-    lengthInBits += 2;
-
-    // Simple field (destinationAddressType)
-    lengthInBits += 3;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static CBusHeader staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("CBusHeader");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PriorityClass priorityClass =
         readEnumField(
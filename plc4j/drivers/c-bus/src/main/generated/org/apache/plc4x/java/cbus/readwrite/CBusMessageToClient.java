@@ -64,7 +64,7 @@ public class CBusMessageToClient extends CBusMessage implements Message {
   @Override
   protected void serializeCBusMessageChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CBusMessageToClient");
 
     // Simple Field (reply)
@@ -79,10 +79,9 @@ public class CBusMessageToClient extends CBusMessage implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CBusMessageToClient _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (reply)
     lengthInBits += reply.getLengthInBits();
@@ -98,7 +97,7 @@ public class CBusMessageToClient extends CBusMessage implements Message {
       throws ParseException {
     readBuffer.pullContext("CBusMessageToClient");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ReplyOrConfirmation reply =
         readSimpleField(
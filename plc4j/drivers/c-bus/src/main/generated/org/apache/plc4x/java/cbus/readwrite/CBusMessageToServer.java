@@ -64,7 +64,7 @@ public class CBusMessageToServer extends CBusMessage implements Message {
   @Override
   protected void serializeCBusMessageChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CBusMessageToServer");
 
     // Simple Field (request)
@@ -79,10 +79,9 @@ public class CBusMessageToServer extends CBusMessage implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CBusMessageToServer _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (request)
     lengthInBits += request.getLengthInBits();
@@ -98,7 +97,7 @@ public class CBusMessageToServer extends CBusMessage implements Message {
       throws ParseException {
     readBuffer.pullContext("CBusMessageToServer");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Request request =
         readSimpleField(
@@ -108,7 +108,7 @@ public class CBusOptions implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CBusOptions");
 
     // Simple Field (connect)
@@ -148,44 +148,18 @@ public class CBusOptions implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    CBusOptions _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (connect)
-    lengthInBits += 1;
-
-    // Simple field (smart)
-    lengthInBits += 1;
-
-    // Simple field (idmon)
-    lengthInBits += 1;
-
-    // Simple field (exstat)
-    lengthInBits += 1;
-
-    // Simple field (monitor)
-    lengthInBits += 1;
-
-    // Simple field (monall)
-    lengthInBits += 1;
-
-    // Simple field (pun)
-    lengthInBits += 1;
-
-    // Simple field (pcn)
-    lengthInBits += 1;
-
-    // Simple field (srchk)
-    lengthInBits += 1;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 9;
   }
 
   public static CBusOptions staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("CBusOptions");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean connect = readSimpleField("connect", readBoolean(readBuffer));
 
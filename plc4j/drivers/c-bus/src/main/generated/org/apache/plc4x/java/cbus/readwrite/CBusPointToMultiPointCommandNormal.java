@@ -72,7 +72,7 @@ public class CBusPointToMultiPointCommandNormal extends CBusPointToMultiPointCom
   protected void serializeCBusPointToMultiPointCommandChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CBusPointToMultiPointCommandNormal");
 
     // Simple Field (application)
@@ -103,10 +103,9 @@ public class CBusPointToMultiPointCommandNormal extends CBusPointToMultiPointCom
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CBusPointToMultiPointCommandNormal _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (application)
     lengthInBits += 8;
@@ -124,7 +123,7 @@ public class CBusPointToMultiPointCommandNormal extends CBusPointToMultiPointCom
       ReadBuffer readBuffer, CBusOptions cBusOptions) throws ParseException {
     readBuffer.pullContext("CBusPointToMultiPointCommandNormal");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ApplicationIdContainer application =
         readEnumField(
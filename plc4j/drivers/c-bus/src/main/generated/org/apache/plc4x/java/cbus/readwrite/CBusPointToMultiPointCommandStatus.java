@@ -64,7 +64,7 @@ public class CBusPointToMultiPointCommandStatus extends CBusPointToMultiPointCom
   protected void serializeCBusPointToMultiPointCommandChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CBusPointToMultiPointCommandStatus");
 
     // Reserved Field (reserved)
@@ -91,10 +91,9 @@ public class CBusPointToMultiPointCommandStatus extends CBusPointToMultiPointCom
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CBusPointToMultiPointCommandStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 8;
@@ -112,7 +111,7 @@ public class CBusPointToMultiPointCommandStatus extends CBusPointToMultiPointCom
       ReadBuffer readBuffer, CBusOptions cBusOptions) throws ParseException {
     readBuffer.pullContext("CBusPointToMultiPointCommandStatus");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Byte reservedField0 = readReservedField("reserved", readByte(readBuffer, 8), (byte) 0xFF);
 
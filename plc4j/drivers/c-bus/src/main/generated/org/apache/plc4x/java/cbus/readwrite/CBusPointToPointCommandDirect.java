@@ -65,7 +65,7 @@ public class CBusPointToPointCommandDirect extends CBusPointToPointCommand imple
   protected void serializeCBusPointToPointCommandChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CBusPointToPointCommandDirect");
 
     // Simple Field (unitAddress)
@@ -86,10 +86,9 @@ public class CBusPointToPointCommandDirect extends CBusPointToPointCommand imple
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CBusPointToPointCommandDirect _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (unitAddress)
     lengthInBits += unitAddress.getLengthInBits();
@@ -104,7 +103,7 @@ public class CBusPointToPointCommandDirect extends CBusPointToPointCommand imple
       ReadBuffer readBuffer, CBusOptions cBusOptions) throws ParseException {
     readBuffer.pullContext("CBusPointToPointCommandDirect");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     UnitAddress unitAddress =
         readSimpleField(
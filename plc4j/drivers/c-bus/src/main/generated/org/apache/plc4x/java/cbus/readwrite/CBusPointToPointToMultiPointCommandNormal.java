@@ -72,7 +72,7 @@ public class CBusPointToPointToMultiPointCommandNormal extends CBusPointToPointT
   protected void serializeCBusPointToPointToMultiPointCommandChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CBusPointToPointToMultiPointCommandNormal");
 
     // Simple Field (application)
@@ -97,10 +97,9 @@ public class CBusPointToPointToMultiPointCommandNormal extends CBusPointToPointT
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CBusPointToPointToMultiPointCommandNormal _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (application)
     lengthInBits += 8;
@@ -116,7 +115,7 @@ public class CBusPointToPointToMultiPointCommandNormal extends CBusPointToPointT
           ReadBuffer readBuffer, CBusOptions cBusOptions) throws ParseException {
     readBuffer.pullContext("CBusPointToPointToMultiPointCommandNormal");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ApplicationIdContainer application =
         readEnumField(
@@ -51,7 +51,7 @@ public class Checksum implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("Checksum");
 
     // Simple Field (value)
@@ -67,20 +67,18 @@ public class Checksum implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    Checksum _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (value)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static Checksum staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("Checksum");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte value = readSimpleField("value", readByte(readBuffer, 8));
 
@@ -67,7 +67,7 @@ public abstract class ClockAndTimekeepingData implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ClockAndTimekeepingData");
 
     // Simple Field (commandTypeContainer)
@@ -98,29 +98,28 @@ public abstract class ClockAndTimekeepingData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    ClockAndTimekeepingData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (commandTypeContainer)
-    lengthInBits += 8;
-
-    // A virtual field doesn't have any in- or output.
-
-    // Simple field (argument)
-    lengthInBits += 8;
-
-    // Length of sub-type elements will be added by sub-type...
-
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
     return lengthInBits;
   }
 
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
+  }
+
   public static ClockAndTimekeepingData staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("ClockAndTimekeepingData");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
     // Validation
     if (!(org.apache.plc4x.java.cbus.readwrite.utils.StaticHelper
         .knowsClockAndTimekeepingCommandTypeContainer(readBuffer))) {
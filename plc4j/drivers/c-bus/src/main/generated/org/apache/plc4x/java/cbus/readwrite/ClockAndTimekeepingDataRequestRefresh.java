@@ -49,7 +49,7 @@ public class ClockAndTimekeepingDataRequestRefresh extends ClockAndTimekeepingDa
   protected void serializeClockAndTimekeepingDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ClockAndTimekeepingDataRequestRefresh");
 
     writeBuffer.popContext("ClockAndTimekeepingDataRequestRefresh");
@@ -61,19 +61,16 @@ public class ClockAndTimekeepingDataRequestRefresh extends ClockAndTimekeepingDa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ClockAndTimekeepingDataRequestRefresh _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static ClockAndTimekeepingDataBuilder staticParseClockAndTimekeepingDataBuilder(
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("ClockAndTimekeepingDataRequestRefresh");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("ClockAndTimekeepingDataRequestRefresh");
     // Create the instance
@@ -86,7 +86,7 @@ public class ClockAndTimekeepingDataUpdateDate extends ClockAndTimekeepingData i
   protected void serializeClockAndTimekeepingDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ClockAndTimekeepingDataUpdateDate");
 
     // Simple Field (yearHigh)
@@ -113,34 +113,16 @@ public class ClockAndTimekeepingDataUpdateDate extends ClockAndTimekeepingData i
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ClockAndTimekeepingDataUpdateDate _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (yearHigh)
-    lengthInBits += 8;
-
-    // Simple field (yearLow)
-    lengthInBits += 8;
-
-    // Simple field (month)
-    lengthInBits += 8;
-
-    // Simple field (day)
-    lengthInBits += 8;
-
-    // Simple field (dayOfWeek)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 40;
   }
 
   public static ClockAndTimekeepingDataBuilder staticParseClockAndTimekeepingDataBuilder(
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("ClockAndTimekeepingDataUpdateDate");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte yearHigh = readSimpleField("yearHigh", readByte(readBuffer, 8));
 
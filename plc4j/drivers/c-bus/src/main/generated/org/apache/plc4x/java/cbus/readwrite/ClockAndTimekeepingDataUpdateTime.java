@@ -95,7 +95,7 @@ public class ClockAndTimekeepingDataUpdateTime extends ClockAndTimekeepingData i
   protected void serializeClockAndTimekeepingDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ClockAndTimekeepingDataUpdateTime");
 
     // Simple Field (hours)
@@ -135,39 +135,16 @@ public class ClockAndTimekeepingDataUpdateTime extends ClockAndTimekeepingData i
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ClockAndTimekeepingDataUpdateTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (hours)
-    lengthInBits += 8;
-
-    // Simple field (minute)
-    lengthInBits += 8;
-
-    // Simple field (second)
-    lengthInBits += 8;
-
-    // Simple field (daylightSaving)
-    lengthInBits += 8;
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 32;
   }
 
   public static ClockAndTimekeepingDataBuilder staticParseClockAndTimekeepingDataBuilder(
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("ClockAndTimekeepingDataUpdateTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short hours = readSimpleField("hours", readUnsignedShort(readBuffer, 8));
 
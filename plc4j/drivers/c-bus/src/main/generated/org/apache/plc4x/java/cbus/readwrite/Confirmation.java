@@ -67,7 +67,7 @@ public class Confirmation implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("Confirmation");
 
     // Simple Field (alpha)
@@ -95,11 +95,22 @@ public class Confirmation implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     Confirmation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (alpha)
     lengthInBits += alpha.getLengthInBits();
@@ -120,7 +131,7 @@ public class Confirmation implements Message {
   public static Confirmation staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("Confirmation");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Alpha alpha =
         readSimpleField("alpha", readComplex(() -> Alpha.staticParse(readBuffer), readBuffer));
@@ -70,7 +70,7 @@ public class EnableControlData implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("EnableControlData");
 
     // Simple Field (commandTypeContainer)
@@ -103,28 +103,18 @@ public class EnableControlData implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    EnableControlData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (commandTypeContainer)
-    lengthInBits += 8;
-
-    // A virtual field doesn't have any in- or output.
-
-    // Simple field (enableNetworkVariable)
-    lengthInBits += 8;
-
-    // Simple field (value)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 24;
   }
 
   public static EnableControlData staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("EnableControlData");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
     // Validation
     if (!(org.apache.plc4x.java.cbus.readwrite.utils.StaticHelper
         .knowsEnableControlCommandTypeContainer(readBuffer))) {
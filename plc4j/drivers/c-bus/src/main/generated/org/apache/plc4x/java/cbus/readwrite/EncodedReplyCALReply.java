@@ -61,7 +61,7 @@ public class EncodedReplyCALReply extends EncodedReply implements Message {
   @Override
   protected void serializeEncodedReplyChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("EncodedReplyCALReply");
 
     // Simple Field (calReply)
@@ -76,10 +76,9 @@ public class EncodedReplyCALReply extends EncodedReply implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     EncodedReplyCALReply _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (calReply)
     lengthInBits += calReply.getLengthInBits();
@@ -92,7 +91,7 @@ public class EncodedReplyCALReply extends EncodedReply implements Message {
       throws ParseException {
     readBuffer.pullContext("EncodedReplyCALReply");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     CALReply calReply =
         readSimpleField(
@@ -118,7 +118,7 @@ public class ErrorReportingDataGeneric extends ErrorReportingData implements Mes
   protected void serializeErrorReportingDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ErrorReportingDataGeneric");
 
     // Simple Field (systemCategory)
@@ -173,10 +173,9 @@ public class ErrorReportingDataGeneric extends ErrorReportingData implements Mes
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ErrorReportingDataGeneric _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (systemCategory)
     lengthInBits += systemCategory.getLengthInBits();
@@ -215,7 +214,7 @@ public class ErrorReportingDataGeneric extends ErrorReportingData implements Mes
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("ErrorReportingDataGeneric");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ErrorReportingSystemCategory systemCategory =
         readSimpleField(
@@ -66,7 +66,7 @@ public class ErrorReportingSystemCategory implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ErrorReportingSystemCategory");
 
     // Simple Field (systemCategoryClass)
@@ -100,11 +100,22 @@ public class ErrorReportingSystemCategory implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     ErrorReportingSystemCategory _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (systemCategoryClass)
     lengthInBits += 4;
@@ -122,7 +133,7 @@ public class ErrorReportingSystemCategory implements Message {
       throws ParseException {
     readBuffer.pullContext("ErrorReportingSystemCategory");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ErrorReportingSystemCategoryClass systemCategoryClass =
         readEnumField(
@@ -60,7 +60,7 @@ public class ErrorReportingSystemCategoryTypeBuildingManagementSystems
   protected void serializeErrorReportingSystemCategoryTypeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ErrorReportingSystemCategoryTypeBuildingManagementSystems");
 
     // Simple Field (categoryForType)
@@ -82,15 +82,9 @@ public class ErrorReportingSystemCategoryTypeBuildingManagementSystems
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ErrorReportingSystemCategoryTypeBuildingManagementSystems _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (categoryForType)
-    lengthInBits += 4;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 4;
   }
 
   public static ErrorReportingSystemCategoryTypeBuilder
@@ -100,7 +94,7 @@ public class ErrorReportingSystemCategoryTypeBuildingManagementSystems
           throws ParseException {
     readBuffer.pullContext("ErrorReportingSystemCategoryTypeBuildingManagementSystems");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ErrorReportingSystemCategoryTypeForBuildingManagementSystems categoryForType =
         readEnumField(
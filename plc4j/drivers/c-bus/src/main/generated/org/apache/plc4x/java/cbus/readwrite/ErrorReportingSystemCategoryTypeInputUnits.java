@@ -60,7 +60,7 @@ public class ErrorReportingSystemCategoryTypeInputUnits extends ErrorReportingSy
   protected void serializeErrorReportingSystemCategoryTypeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ErrorReportingSystemCategoryTypeInputUnits");
 
     // Simple Field (categoryForType)
@@ -82,15 +82,9 @@ public class ErrorReportingSystemCategoryTypeInputUnits extends ErrorReportingSy
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ErrorReportingSystemCategoryTypeInputUnits _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (categoryForType)
-    lengthInBits += 4;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 4;
   }
 
   public static ErrorReportingSystemCategoryTypeBuilder
@@ -100,7 +94,7 @@ public class ErrorReportingSystemCategoryTypeInputUnits extends ErrorReportingSy
           throws ParseException {
     readBuffer.pullContext("ErrorReportingSystemCategoryTypeInputUnits");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ErrorReportingSystemCategoryTypeForInputUnits categoryForType =
         readEnumField(
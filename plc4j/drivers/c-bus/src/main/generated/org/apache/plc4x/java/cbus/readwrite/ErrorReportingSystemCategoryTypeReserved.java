@@ -59,7 +59,7 @@ public class ErrorReportingSystemCategoryTypeReserved extends ErrorReportingSyst
   protected void serializeErrorReportingSystemCategoryTypeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ErrorReportingSystemCategoryTypeReserved");
 
     // Simple Field (reservedValue)
@@ -74,15 +74,9 @@ public class ErrorReportingSystemCategoryTypeReserved extends ErrorReportingSyst
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ErrorReportingSystemCategoryTypeReserved _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (reservedValue)
-    lengthInBits += 4;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 4;
   }
 
   public static ErrorReportingSystemCategoryTypeBuilder
@@ -92,7 +86,7 @@ public class ErrorReportingSystemCategoryTypeReserved extends ErrorReportingSyst
           throws ParseException {
     readBuffer.pullContext("ErrorReportingSystemCategoryTypeReserved");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte reservedValue = readSimpleField("reservedValue", readUnsignedByte(readBuffer, 4));
 
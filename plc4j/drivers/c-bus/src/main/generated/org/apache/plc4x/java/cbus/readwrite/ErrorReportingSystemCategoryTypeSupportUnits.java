@@ -60,7 +60,7 @@ public class ErrorReportingSystemCategoryTypeSupportUnits extends ErrorReporting
   protected void serializeErrorReportingSystemCategoryTypeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ErrorReportingSystemCategoryTypeSupportUnits");
 
     // Simple Field (categoryForType)
@@ -82,15 +82,9 @@ public class ErrorReportingSystemCategoryTypeSupportUnits extends ErrorReporting
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ErrorReportingSystemCategoryTypeSupportUnits _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (categoryForType)
-    lengthInBits += 4;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 4;
   }
 
   public static ErrorReportingSystemCategoryTypeBuilder
@@ -100,7 +94,7 @@ public class ErrorReportingSystemCategoryTypeSupportUnits extends ErrorReporting
           throws ParseException {
     readBuffer.pullContext("ErrorReportingSystemCategoryTypeSupportUnits");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ErrorReportingSystemCategoryTypeForSupportUnits categoryForType =
         readEnumField(
@@ -76,7 +76,7 @@ public class HVACAuxiliaryLevel implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("HVACAuxiliaryLevel");
 
     // Reserved Field (reserved)
@@ -117,34 +117,18 @@ public class HVACAuxiliaryLevel implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    HVACAuxiliaryLevel _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Simple field (fanMode)
-    lengthInBits += 1;
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // Simple field (mode)
-    lengthInBits += 6;
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static HVACAuxiliaryLevel staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("HVACAuxiliaryLevel");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Boolean reservedField0 =
         readReservedField("reserved", readBoolean(readBuffer), (boolean) false);
@@ -55,7 +55,7 @@ public class HVACHumidity implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("HVACHumidity");
 
     // Simple Field (humidityValue)
@@ -75,22 +75,18 @@ public class HVACHumidity implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    HVACHumidity _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (humidityValue)
-    lengthInBits += 16;
-
-    // A virtual field doesn't have any in- or output.
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static HVACHumidity staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("HVACHumidity");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int humidityValue = readSimpleField("humidityValue", readUnsignedInt(readBuffer, 16));
     float humidityInPercent =
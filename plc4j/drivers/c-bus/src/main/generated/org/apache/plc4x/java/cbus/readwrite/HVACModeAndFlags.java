@@ -115,7 +115,7 @@ public class HVACModeAndFlags implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("HVACModeAndFlags");
 
     // Reserved Field (reserved)
@@ -188,51 +188,18 @@ public class HVACModeAndFlags implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    HVACModeAndFlags _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Simple field (auxiliaryLevel)
-    lengthInBits += 1;
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // Simple field (guard)
-    lengthInBits += 1;
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // Simple field (setback)
-    lengthInBits += 1;
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // Simple field (level)
-    lengthInBits += 1;
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // Simple field (mode)
-    lengthInBits += 3;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static HVACModeAndFlags staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("HVACModeAndFlags");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Boolean reservedField0 =
         readReservedField("reserved", readBoolean(readBuffer), (boolean) false);
@@ -55,7 +55,7 @@ public class HVACRawLevels implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("HVACRawLevels");
 
     // Simple Field (rawValue)
@@ -75,22 +75,18 @@ public class HVACRawLevels implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    HVACRawLevels _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (rawValue)
-    lengthInBits += 16;
-
-    // A virtual field doesn't have any in- or output.
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static HVACRawLevels staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("HVACRawLevels");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short rawValue = readSimpleField("rawValue", readSignedShort(readBuffer, 16));
     float valueInPercent = readVirtualField("valueInPercent", float.class, (rawValue) / (32767F));
@@ -105,7 +105,7 @@ public class HVACStatusFlags implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("HVACStatusFlags");
 
     // Simple Field (expansion)
@@ -153,45 +153,18 @@ public class HVACStatusFlags implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    HVACStatusFlags _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (expansion)
-    lengthInBits += 1;
-
-    // Simple field (error)
-    lengthInBits += 1;
-
-    // Simple field (busy)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Simple field (damperState)
-    lengthInBits += 1;
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // Simple field (fanActive)
-    lengthInBits += 1;
-
-    // Simple field (heatingPlant)
-    lengthInBits += 1;
-
-    // Simple field (coolingPlant)
-    lengthInBits += 1;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static HVACStatusFlags staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("HVACStatusFlags");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean expansion = readSimpleField("expansion", readBoolean(readBuffer));
 
@@ -55,7 +55,7 @@ public class HVACTemperature implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("HVACTemperature");
 
     // Simple Field (temperatureValue)
@@ -75,22 +75,18 @@ public class HVACTemperature implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    HVACTemperature _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (temperatureValue)
-    lengthInBits += 16;
-
-    // A virtual field doesn't have any in- or output.
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static HVACTemperature staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("HVACTemperature");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short temperatureValue = readSimpleField("temperatureValue", readSignedShort(readBuffer, 16));
     float temperatureInCelcius =
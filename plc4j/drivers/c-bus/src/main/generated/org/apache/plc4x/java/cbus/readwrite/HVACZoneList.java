@@ -105,7 +105,7 @@ public class HVACZoneList implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("HVACZoneList");
 
     // Simple Field (expansion)
@@ -146,43 +146,18 @@ public class HVACZoneList implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    HVACZoneList _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (expansion)
-    lengthInBits += 1;
-
-    // Simple field (zone6)
-    lengthInBits += 1;
-
-    // Simple field (zone5)
-    lengthInBits += 1;
-
-    // Simple field (zone4)
-    lengthInBits += 1;
-
-    // Simple field (zone3)
-    lengthInBits += 1;
-
-    // Simple field (zone2)
-    lengthInBits += 1;
-
-    // Simple field (zone1)
-    lengthInBits += 1;
-
-    // Simple field (zone0)
-    lengthInBits += 1;
-
-    // A virtual field doesn't have any in- or output.
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static HVACZoneList staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("HVACZoneList");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean expansion = readSimpleField("expansion", readBoolean(readBuffer));
 
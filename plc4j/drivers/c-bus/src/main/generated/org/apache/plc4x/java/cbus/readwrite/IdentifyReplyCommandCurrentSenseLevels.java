@@ -63,7 +63,7 @@ public class IdentifyReplyCommandCurrentSenseLevels extends IdentifyReplyCommand
   protected void serializeIdentifyReplyCommandChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("IdentifyReplyCommandCurrentSenseLevels");
 
     // Array Field (currentSenseLevels)
@@ -78,10 +78,9 @@ public class IdentifyReplyCommandCurrentSenseLevels extends IdentifyReplyCommand
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     IdentifyReplyCommandCurrentSenseLevels _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (currentSenseLevels != null) {
@@ -95,7 +94,7 @@ public class IdentifyReplyCommandCurrentSenseLevels extends IdentifyReplyCommand
       ReadBuffer readBuffer, Attribute attribute, Byte numBytes) throws ParseException {
     readBuffer.pullContext("IdentifyReplyCommandCurrentSenseLevels");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte[] currentSenseLevels =
         readBuffer.readByteArray("currentSenseLevels", Math.toIntExact(numBytes));
@@ -127,7 +127,7 @@ public class IdentifyReplyCommandDSIStatus extends IdentifyReplyCommand implemen
   protected void serializeIdentifyReplyCommandChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("IdentifyReplyCommandDSIStatus");
 
     // Simple Field (channelStatus1)
@@ -213,49 +213,16 @@ public class IdentifyReplyCommandDSIStatus extends IdentifyReplyCommand implemen
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    IdentifyReplyCommandDSIStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (channelStatus1)
-    lengthInBits += 8;
-
-    // Simple field (channelStatus2)
-    lengthInBits += 8;
-
-    // Simple field (channelStatus3)
-    lengthInBits += 8;
-
-    // Simple field (channelStatus4)
-    lengthInBits += 8;
-
-    // Simple field (channelStatus5)
-    lengthInBits += 8;
-
-    // Simple field (channelStatus6)
-    lengthInBits += 8;
-
-    // Simple field (channelStatus7)
-    lengthInBits += 8;
-
-    // Simple field (channelStatus8)
-    lengthInBits += 8;
-
-    // Simple field (unitStatus)
-    lengthInBits += 8;
-
-    // Simple field (dimmingUCRevisionNumber)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 80;
   }
 
   public static IdentifyReplyCommandBuilder staticParseIdentifyReplyCommandBuilder(
       ReadBuffer readBuffer, Attribute attribute, Byte numBytes) throws ParseException {
     readBuffer.pullContext("IdentifyReplyCommandDSIStatus");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ChannelStatus channelStatus1 =
         readEnumField(
@@ -68,7 +68,7 @@ public class IdentifyReplyCommandDelays extends IdentifyReplyCommand implements
   protected void serializeIdentifyReplyCommandChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("IdentifyReplyCommandDelays");
 
     // Array Field (terminalLevels)
@@ -86,10 +86,9 @@ public class IdentifyReplyCommandDelays extends IdentifyReplyCommand implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     IdentifyReplyCommandDelays _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (terminalLevels != null) {
@@ -106,7 +105,7 @@ public class IdentifyReplyCommandDelays extends IdentifyReplyCommand implements
       ReadBuffer readBuffer, Attribute attribute, Byte numBytes) throws ParseException {
     readBuffer.pullContext("IdentifyReplyCommandDelays");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte[] terminalLevels =
         readBuffer.readByteArray("terminalLevels", Math.toIntExact((numBytes) - (1)));
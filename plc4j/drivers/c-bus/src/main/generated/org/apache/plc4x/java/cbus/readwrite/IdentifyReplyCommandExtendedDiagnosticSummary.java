@@ -199,7 +199,7 @@ public class IdentifyReplyCommandExtendedDiagnosticSummary extends IdentifyReply
   protected void serializeIdentifyReplyCommandChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("IdentifyReplyCommandExtendedDiagnosticSummary");
 
     // Simple Field (lowApplication)
@@ -304,87 +304,16 @@ public class IdentifyReplyCommandExtendedDiagnosticSummary extends IdentifyReply
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    IdentifyReplyCommandExtendedDiagnosticSummary _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (lowApplication)
-    lengthInBits += 8;
-
-    // Simple field (highApplication)
-    lengthInBits += 8;
-
-    // Simple field (area)
-    lengthInBits += 8;
-
-    // Simple field (crc)
-    lengthInBits += 16;
-
-    // Simple field (serialNumber)
-    lengthInBits += 32;
-
-    // Simple field (networkVoltage)
-    lengthInBits += 8;
-
-    // A virtual field doesn't have any in- or output.
-
-    // Simple field (unitInLearnMode)
-    lengthInBits += 1;
-
-    // Simple field (networkVoltageLow)
-    lengthInBits += 1;
-
-    // Simple field (networkVoltageMarginal)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Simple field (enableChecksumAlarm)
-    lengthInBits += 1;
-
-    // Simple field (outputUnit)
-    lengthInBits += 1;
-
-    // Simple field (installationMMIError)
-    lengthInBits += 1;
-
-    // Simple field (EEWriteError)
-    lengthInBits += 1;
-
-    // Simple field (EEChecksumError)
-    lengthInBits += 1;
-
-    // Simple field (EEDataError)
-    lengthInBits += 1;
-
-    // Simple field (microReset)
-    lengthInBits += 1;
-
-    // Simple field (commsTxError)
-    lengthInBits += 1;
-
-    // Simple field (internalStackOverflow)
-    lengthInBits += 1;
-
-    // Simple field (microPowerReset)
-    lengthInBits += 1;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 96;
   }
 
   public static IdentifyReplyCommandBuilder staticParseIdentifyReplyCommandBuilder(
       ReadBuffer readBuffer, Attribute attribute, Byte numBytes) throws ParseException {
     readBuffer.pullContext("IdentifyReplyCommandExtendedDiagnosticSummary");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ApplicationIdContainer lowApplication =
         readEnumField(
@@ -63,7 +63,7 @@ public class IdentifyReplyCommandGAVPhysicalAddresses extends IdentifyReplyComma
   protected void serializeIdentifyReplyCommandChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("IdentifyReplyCommandGAVPhysicalAddresses");
 
     // Array Field (values)
@@ -78,10 +78,9 @@ public class IdentifyReplyCommandGAVPhysicalAddresses extends IdentifyReplyComma
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     IdentifyReplyCommandGAVPhysicalAddresses _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (values != null) {
@@ -95,7 +94,7 @@ public class IdentifyReplyCommandGAVPhysicalAddresses extends IdentifyReplyComma
       ReadBuffer readBuffer, Attribute attribute, Byte numBytes) throws ParseException {
     readBuffer.pullContext("IdentifyReplyCommandGAVPhysicalAddresses");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte[] values = readBuffer.readByteArray("values", Math.toIntExact(numBytes));
 
@@ -62,7 +62,7 @@ public class IdentifyReplyCommandGAVValuesStored extends IdentifyReplyCommand im
   protected void serializeIdentifyReplyCommandChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("IdentifyReplyCommandGAVValuesStored");
 
     // Array Field (values)
@@ -77,10 +77,9 @@ public class IdentifyReplyCommandGAVValuesStored extends IdentifyReplyCommand im
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     IdentifyReplyCommandGAVValuesStored _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (values != null) {
@@ -94,7 +93,7 @@ public class IdentifyReplyCommandGAVValuesStored extends IdentifyReplyCommand im
       ReadBuffer readBuffer, Attribute attribute, Byte numBytes) throws ParseException {
     readBuffer.pullContext("IdentifyReplyCommandGAVValuesStored");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte[] values = readBuffer.readByteArray("values", Math.toIntExact(numBytes));
 
@@ -63,7 +63,7 @@ public class IdentifyReplyCommandLogicalAssignment extends IdentifyReplyCommand
   protected void serializeIdentifyReplyCommandChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("IdentifyReplyCommandLogicalAssignment");
 
     // Array Field (logicAssigment)
@@ -78,17 +78,15 @@ public class IdentifyReplyCommandLogicalAssignment extends IdentifyReplyCommand
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     IdentifyReplyCommandLogicalAssignment _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (logicAssigment != null) {
       int i = 0;
       for (LogicAssignment element : logicAssigment) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= logicAssigment.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= logicAssigment.size());
       }
     }
 
@@ -99,7 +97,7 @@ public class IdentifyReplyCommandLogicalAssignment extends IdentifyReplyCommand
       ReadBuffer readBuffer, Attribute attribute, Byte numBytes) throws ParseException {
     readBuffer.pullContext("IdentifyReplyCommandLogicalAssignment");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<LogicAssignment> logicAssigment =
         readCountArrayField(
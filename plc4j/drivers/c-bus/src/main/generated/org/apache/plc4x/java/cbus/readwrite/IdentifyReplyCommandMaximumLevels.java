@@ -62,7 +62,7 @@ public class IdentifyReplyCommandMaximumLevels extends IdentifyReplyCommand impl
   protected void serializeIdentifyReplyCommandChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("IdentifyReplyCommandMaximumLevels");
 
     // Array Field (maximumLevels)
@@ -77,10 +77,9 @@ public class IdentifyReplyCommandMaximumLevels extends IdentifyReplyCommand impl
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     IdentifyReplyCommandMaximumLevels _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (maximumLevels != null) {
@@ -94,7 +93,7 @@ public class IdentifyReplyCommandMaximumLevels extends IdentifyReplyCommand impl
       ReadBuffer readBuffer, Attribute attribute, Byte numBytes) throws ParseException {
     readBuffer.pullContext("IdentifyReplyCommandMaximumLevels");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte[] maximumLevels = readBuffer.readByteArray("maximumLevels", Math.toIntExact(numBytes));
 
@@ -62,7 +62,7 @@ public class IdentifyReplyCommandMinimumLevels extends IdentifyReplyCommand impl
   protected void serializeIdentifyReplyCommandChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("IdentifyReplyCommandMinimumLevels");
 
     // Array Field (minimumLevels)
@@ -77,10 +77,9 @@ public class IdentifyReplyCommandMinimumLevels extends IdentifyReplyCommand impl
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     IdentifyReplyCommandMinimumLevels _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (minimumLevels != null) {
@@ -94,7 +93,7 @@ public class IdentifyReplyCommandMinimumLevels extends IdentifyReplyCommand impl
       ReadBuffer readBuffer, Attribute attribute, Byte numBytes) throws ParseException {
     readBuffer.pullContext("IdentifyReplyCommandMinimumLevels");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte[] minimumLevels = readBuffer.readByteArray("minimumLevels", Math.toIntExact(numBytes));
 
@@ -63,7 +63,7 @@ public class IdentifyReplyCommandNetworkTerminalLevels extends IdentifyReplyComm
   protected void serializeIdentifyReplyCommandChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("IdentifyReplyCommandNetworkTerminalLevels");
 
     // Array Field (networkTerminalLevels)
@@ -79,10 +79,9 @@ public class IdentifyReplyCommandNetworkTerminalLevels extends IdentifyReplyComm
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     IdentifyReplyCommandNetworkTerminalLevels _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (networkTerminalLevels != null) {
@@ -96,7 +95,7 @@ public class IdentifyReplyCommandNetworkTerminalLevels extends IdentifyReplyComm
       ReadBuffer readBuffer, Attribute attribute, Byte numBytes) throws ParseException {
     readBuffer.pullContext("IdentifyReplyCommandNetworkTerminalLevels");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte[] networkTerminalLevels =
         readBuffer.readByteArray("networkTerminalLevels", Math.toIntExact(numBytes));
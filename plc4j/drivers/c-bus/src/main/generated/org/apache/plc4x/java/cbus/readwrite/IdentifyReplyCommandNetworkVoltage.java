@@ -80,7 +80,7 @@ public class IdentifyReplyCommandNetworkVoltage extends IdentifyReplyCommand imp
   protected void serializeIdentifyReplyCommandChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("IdentifyReplyCommandNetworkVoltage");
 
     // Simple Field (volts)
@@ -104,31 +104,16 @@ public class IdentifyReplyCommandNetworkVoltage extends IdentifyReplyCommand imp
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    IdentifyReplyCommandNetworkVoltage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (volts)
-    lengthInBits += 16;
-
-    // Const Field (dot)
-    lengthInBits += 8;
-
-    // Simple field (voltsDecimalPlace)
-    lengthInBits += 16;
-
-    // Const Field (v)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 48;
   }
 
   public static IdentifyReplyCommandBuilder staticParseIdentifyReplyCommandBuilder(
       ReadBuffer readBuffer, Attribute attribute, Byte numBytes) throws ParseException {
     readBuffer.pullContext("IdentifyReplyCommandNetworkVoltage");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     String volts = readSimpleField("volts", readString(readBuffer, 16));
 
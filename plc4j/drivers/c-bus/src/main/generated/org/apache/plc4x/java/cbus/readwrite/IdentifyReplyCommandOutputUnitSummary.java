@@ -85,7 +85,7 @@ public class IdentifyReplyCommandOutputUnitSummary extends IdentifyReplyCommand
   protected void serializeIdentifyReplyCommandChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("IdentifyReplyCommandOutputUnitSummary");
 
     // Simple Field (unitFlags)
@@ -114,10 +114,9 @@ public class IdentifyReplyCommandOutputUnitSummary extends IdentifyReplyCommand
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     IdentifyReplyCommandOutputUnitSummary _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (unitFlags)
     lengthInBits += unitFlags.getLengthInBits();
@@ -142,7 +141,7 @@ public class IdentifyReplyCommandOutputUnitSummary extends IdentifyReplyCommand
       ReadBuffer readBuffer, Attribute attribute, Byte numBytes) throws ParseException {
     readBuffer.pullContext("IdentifyReplyCommandOutputUnitSummary");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     IdentifyReplyCommandUnitSummary unitFlags =
         readSimpleField(
@@ -62,7 +62,7 @@ public class IdentifyReplyCommandTerminalLevels extends IdentifyReplyCommand imp
   protected void serializeIdentifyReplyCommandChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("IdentifyReplyCommandTerminalLevels");
 
     // Array Field (terminalLevels)
@@ -77,10 +77,9 @@ public class IdentifyReplyCommandTerminalLevels extends IdentifyReplyCommand imp
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     IdentifyReplyCommandTerminalLevels _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (terminalLevels != null) {
@@ -94,7 +93,7 @@ public class IdentifyReplyCommandTerminalLevels extends IdentifyReplyCommand imp
       ReadBuffer readBuffer, Attribute attribute, Byte numBytes) throws ParseException {
     readBuffer.pullContext("IdentifyReplyCommandTerminalLevels");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte[] terminalLevels = readBuffer.readByteArray("terminalLevels", Math.toIntExact(numBytes));
 
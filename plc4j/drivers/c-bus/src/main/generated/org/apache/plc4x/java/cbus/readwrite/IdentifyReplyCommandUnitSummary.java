@@ -101,7 +101,7 @@ public class IdentifyReplyCommandUnitSummary implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("IdentifyReplyCommandUnitSummary");
 
     // Simple Field (assertingNetworkBurden)
@@ -138,42 +138,19 @@ public class IdentifyReplyCommandUnitSummary implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    IdentifyReplyCommandUnitSummary _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (assertingNetworkBurden)
-    lengthInBits += 1;
-
-    // Simple field (restrikeTimingActive)
-    lengthInBits += 1;
-
-    // Simple field (remoteOFFInputAsserted)
-    lengthInBits += 1;
-
-    // Simple field (remoteONInputAsserted)
-    lengthInBits += 1;
-
-    // Simple field (localToggleEnabled)
-    lengthInBits += 1;
-
-    // Simple field (localToggleActiveState)
-    lengthInBits += 1;
-
-    // Simple field (clockGenerationEnabled)
-    lengthInBits += 1;
-
-    // Simple field (unitGeneratingClock)
-    lengthInBits += 1;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static IdentifyReplyCommandUnitSummary staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("IdentifyReplyCommandUnitSummary");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean assertingNetworkBurden =
         readSimpleField("assertingNetworkBurden", readBoolean(readBuffer));
@@ -91,7 +91,7 @@ public class InterfaceOptions1 implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InterfaceOptions1");
 
     // Reserved Field (reserved)
@@ -134,41 +134,18 @@ public class InterfaceOptions1 implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    InterfaceOptions1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Simple field (idmon)
-    lengthInBits += 1;
-
-    // Simple field (monitor)
-    lengthInBits += 1;
-
-    // Simple field (smart)
-    lengthInBits += 1;
-
-    // Simple field (srchk)
-    lengthInBits += 1;
-
-    // Simple field (xonXoff)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Simple field (connect)
-    lengthInBits += 1;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static InterfaceOptions1 staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("InterfaceOptions1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Boolean reservedField0 =
         readReservedField("reserved", readBoolean(readBuffer), (boolean) false);
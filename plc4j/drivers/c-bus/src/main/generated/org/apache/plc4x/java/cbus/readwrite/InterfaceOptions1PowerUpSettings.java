@@ -51,7 +51,7 @@ public class InterfaceOptions1PowerUpSettings implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InterfaceOptions1PowerUpSettings");
 
     // Simple Field (interfaceOptions1)
@@ -65,11 +65,22 @@ public class InterfaceOptions1PowerUpSettings implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     InterfaceOptions1PowerUpSettings _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (interfaceOptions1)
     lengthInBits += interfaceOptions1.getLengthInBits();
@@ -81,7 +92,7 @@ public class InterfaceOptions1PowerUpSettings implements Message {
       throws ParseException {
     readBuffer.pullContext("InterfaceOptions1PowerUpSettings");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     InterfaceOptions1 interfaceOptions1 =
         readSimpleField(
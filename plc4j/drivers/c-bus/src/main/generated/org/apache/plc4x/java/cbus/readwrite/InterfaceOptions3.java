@@ -75,7 +75,7 @@ public class InterfaceOptions3 implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InterfaceOptions3");
 
     // Reserved Field (reserved)
@@ -124,41 +124,18 @@ public class InterfaceOptions3 implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    InterfaceOptions3 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Simple field (exstat)
-    lengthInBits += 1;
-
-    // Simple field (pun)
-    lengthInBits += 1;
-
-    // Simple field (localSal)
-    lengthInBits += 1;
-
-    // Simple field (pcn)
-    lengthInBits += 1;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static InterfaceOptions3 staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("InterfaceOptions3");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Boolean reservedField0 =
         readReservedField("reserved", readBoolean(readBuffer), (boolean) false);
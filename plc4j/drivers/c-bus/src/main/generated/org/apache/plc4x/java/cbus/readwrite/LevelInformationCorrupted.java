@@ -78,7 +78,7 @@ public class LevelInformationCorrupted extends LevelInformation implements Messa
   protected void serializeLevelInformationChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("LevelInformationCorrupted");
 
     // Simple Field (corruptedNibble1)
@@ -102,31 +102,16 @@ public class LevelInformationCorrupted extends LevelInformation implements Messa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    LevelInformationCorrupted _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (corruptedNibble1)
-    lengthInBits += 4;
-
-    // Simple field (corruptedNibble2)
-    lengthInBits += 4;
-
-    // Simple field (corruptedNibble3)
-    lengthInBits += 4;
-
-    // Simple field (corruptedNibble4)
-    lengthInBits += 4;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 16;
   }
 
   public static LevelInformationBuilder staticParseLevelInformationBuilder(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("LevelInformationCorrupted");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte corruptedNibble1 = readSimpleField("corruptedNibble1", readUnsignedByte(readBuffer, 4));
 
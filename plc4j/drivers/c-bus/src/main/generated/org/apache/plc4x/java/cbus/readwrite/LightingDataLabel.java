@@ -77,7 +77,7 @@ public class LightingDataLabel extends LightingData implements Message {
   @Override
   protected void serializeLightingDataChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("LightingDataLabel");
 
     // Simple Field (group)
@@ -106,10 +106,9 @@ public class LightingDataLabel extends LightingData implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     LightingDataLabel _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (group)
     lengthInBits += 8;
@@ -135,7 +134,7 @@ public class LightingDataLabel extends LightingData implements Message {
       throws ParseException {
     readBuffer.pullContext("LightingDataLabel");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte group = readSimpleField("group", readByte(readBuffer, 8));
 
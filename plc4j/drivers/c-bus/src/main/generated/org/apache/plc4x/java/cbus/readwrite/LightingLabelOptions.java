@@ -63,7 +63,7 @@ public class LightingLabelOptions implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("LightingLabelOptions");
 
     // Reserved Field (reserved)
@@ -120,35 +120,18 @@ public class LightingLabelOptions implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    LightingLabelOptions _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Simple field (labelFlavour)
-    lengthInBits += 2;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Simple field (labelType)
-    lengthInBits += 2;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static LightingLabelOptions staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("LightingLabelOptions");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Boolean reservedField0 =
         readReservedField("reserved", readBoolean(readBuffer), (boolean) false);
@@ -91,7 +91,7 @@ public class LogicAssignment implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("LogicAssignment");
 
     // Simple Field (greaterOfOrLogic)
@@ -134,41 +134,18 @@ public class LogicAssignment implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    LogicAssignment _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (greaterOfOrLogic)
-    lengthInBits += 1;
-
-    // Simple field (reStrikeDelay)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Simple field (assignedToGav16)
-    lengthInBits += 1;
-
-    // Simple field (assignedToGav15)
-    lengthInBits += 1;
-
-    // Simple field (assignedToGav14)
-    lengthInBits += 1;
-
-    // Simple field (assignedToGav13)
-    lengthInBits += 1;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static LogicAssignment staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("LogicAssignment");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean greaterOfOrLogic = readSimpleField("greaterOfOrLogic", readBoolean(readBuffer));
 
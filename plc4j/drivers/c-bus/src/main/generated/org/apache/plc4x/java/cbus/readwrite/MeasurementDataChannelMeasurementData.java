@@ -100,7 +100,7 @@ public class MeasurementDataChannelMeasurementData extends MeasurementData imple
   protected void serializeMeasurementDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("MeasurementDataChannelMeasurementData");
 
     // Simple Field (deviceId)
@@ -145,41 +145,16 @@ public class MeasurementDataChannelMeasurementData extends MeasurementData imple
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    MeasurementDataChannelMeasurementData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (deviceId)
-    lengthInBits += 8;
-
-    // Simple field (channel)
-    lengthInBits += 8;
-
-    // Simple field (units)
-    lengthInBits += 8;
-
-    // Simple field (multiplier)
-    lengthInBits += 8;
-
-    // Simple field (msb)
-    lengthInBits += 8;
-
-    // Simple field (lsb)
-    lengthInBits += 8;
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 48;
   }
 
   public static MeasurementDataBuilder staticParseMeasurementDataBuilder(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("MeasurementDataChannelMeasurementData");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short deviceId = readSimpleField("deviceId", readUnsignedShort(readBuffer, 8));
 
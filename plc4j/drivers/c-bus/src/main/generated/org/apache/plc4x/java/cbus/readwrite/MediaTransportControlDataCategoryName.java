@@ -59,7 +59,7 @@ public class MediaTransportControlDataCategoryName extends MediaTransportControl
   protected void serializeMediaTransportControlDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("MediaTransportControlDataCategoryName");
 
     // Simple Field (categoryName)
@@ -77,10 +77,9 @@ public class MediaTransportControlDataCategoryName extends MediaTransportControl
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     MediaTransportControlDataCategoryName _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (categoryName)
     lengthInBits += (((commandTypeContainer.getNumBytes()) - (1))) * (8);
@@ -93,7 +92,7 @@ public class MediaTransportControlDataCategoryName extends MediaTransportControl
       throws ParseException {
     readBuffer.pullContext("MediaTransportControlDataCategoryName");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     String categoryName =
         readSimpleField(
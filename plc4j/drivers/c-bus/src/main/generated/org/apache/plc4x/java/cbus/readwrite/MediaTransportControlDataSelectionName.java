@@ -59,7 +59,7 @@ public class MediaTransportControlDataSelectionName extends MediaTransportContro
   protected void serializeMediaTransportControlDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("MediaTransportControlDataSelectionName");
 
     // Simple Field (selectionName)
@@ -77,10 +77,9 @@ public class MediaTransportControlDataSelectionName extends MediaTransportContro
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     MediaTransportControlDataSelectionName _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (selectionName)
     lengthInBits += (((commandTypeContainer.getNumBytes()) - (1))) * (8);
@@ -93,7 +92,7 @@ public class MediaTransportControlDataSelectionName extends MediaTransportContro
       throws ParseException {
     readBuffer.pullContext("MediaTransportControlDataSelectionName");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     String selectionName =
         readSimpleField(
@@ -80,7 +80,7 @@ public class MediaTransportControlDataSetTrack extends MediaTransportControlData
   protected void serializeMediaTransportControlDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("MediaTransportControlDataSetTrack");
 
     // Simple Field (trackMSB)
@@ -104,31 +104,16 @@ public class MediaTransportControlDataSetTrack extends MediaTransportControlData
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    MediaTransportControlDataSetTrack _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (trackMSB)
-    lengthInBits += 8;
-
-    // Simple field (trackMMSB)
-    lengthInBits += 8;
-
-    // Simple field (trackMLSB)
-    lengthInBits += 8;
-
-    // Simple field (trackLSB)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 32;
   }
 
   public static MediaTransportControlDataBuilder staticParseMediaTransportControlDataBuilder(
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("MediaTransportControlDataSetTrack");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte trackMSB = readSimpleField("trackMSB", readByte(readBuffer, 8));
 
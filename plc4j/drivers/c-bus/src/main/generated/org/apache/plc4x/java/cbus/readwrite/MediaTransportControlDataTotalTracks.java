@@ -80,7 +80,7 @@ public class MediaTransportControlDataTotalTracks extends MediaTransportControlD
   protected void serializeMediaTransportControlDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("MediaTransportControlDataTotalTracks");
 
     // Simple Field (totalTracksMSB)
@@ -104,31 +104,16 @@ public class MediaTransportControlDataTotalTracks extends MediaTransportControlD
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    MediaTransportControlDataTotalTracks _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (totalTracksMSB)
-    lengthInBits += 8;
-
-    // Simple field (totalTracksMMSB)
-    lengthInBits += 8;
-
-    // Simple field (totalTracksMLSB)
-    lengthInBits += 8;
-
-    // Simple field (totalTracksLSB)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 32;
   }
 
   public static MediaTransportControlDataBuilder staticParseMediaTransportControlDataBuilder(
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("MediaTransportControlDataTotalTracks");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte totalTracksMSB = readSimpleField("totalTracksMSB", readByte(readBuffer, 8));
 
@@ -59,7 +59,7 @@ public class MediaTransportControlDataTrackName extends MediaTransportControlDat
   protected void serializeMediaTransportControlDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("MediaTransportControlDataTrackName");
 
     // Simple Field (trackName)
@@ -77,10 +77,9 @@ public class MediaTransportControlDataTrackName extends MediaTransportControlDat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     MediaTransportControlDataTrackName _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (trackName)
     lengthInBits += (((commandTypeContainer.getNumBytes()) - (1))) * (8);
@@ -93,7 +92,7 @@ public class MediaTransportControlDataTrackName extends MediaTransportControlDat
       throws ParseException {
     readBuffer.pullContext("MediaTransportControlDataTrackName");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     String trackName =
         readSimpleField(
@@ -64,7 +64,7 @@ public class MonitoredSALReply extends EncodedReply implements Message {
   @Override
   protected void serializeEncodedReplyChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("MonitoredSALReply");
 
     // Simple Field (monitoredSAL)
@@ -79,10 +79,9 @@ public class MonitoredSALReply extends EncodedReply implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     MonitoredSALReply _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (monitoredSAL)
     lengthInBits += monitoredSAL.getLengthInBits();
@@ -95,7 +94,7 @@ public class MonitoredSALReply extends EncodedReply implements Message {
       throws ParseException {
     readBuffer.pullContext("MonitoredSALReply");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     MonitoredSAL monitoredSAL =
         readSimpleField(
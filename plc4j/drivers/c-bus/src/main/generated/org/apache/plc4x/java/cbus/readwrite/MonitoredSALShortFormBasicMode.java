@@ -96,7 +96,7 @@ public class MonitoredSALShortFormBasicMode extends MonitoredSAL implements Mess
   @Override
   protected void serializeMonitoredSALChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("MonitoredSALShortFormBasicMode");
 
     // Optional Field (bridgeCount) (Can be skipped, if the value is null)
@@ -135,10 +135,9 @@ public class MonitoredSALShortFormBasicMode extends MonitoredSAL implements Mess
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     MonitoredSALShortFormBasicMode _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Optional Field (bridgeCount)
     if (bridgeCount != null) {
@@ -170,7 +169,7 @@ public class MonitoredSALShortFormBasicMode extends MonitoredSAL implements Mess
       ReadBuffer readBuffer, CBusOptions cBusOptions) throws ParseException {
     readBuffer.pullContext("MonitoredSALShortFormBasicMode");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte counts = readPeekField("counts", readByte(readBuffer, 8));
 
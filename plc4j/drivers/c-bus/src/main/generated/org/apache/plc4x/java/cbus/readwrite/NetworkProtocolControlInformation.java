@@ -60,7 +60,7 @@ public class NetworkProtocolControlInformation implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NetworkProtocolControlInformation");
 
     // Reserved Field (reserved)
@@ -85,27 +85,19 @@ public class NetworkProtocolControlInformation implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    NetworkProtocolControlInformation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Reserved Field (reserved)
-    lengthInBits += 2;
-
-    // Simple field (stackCounter)
-    lengthInBits += 3;
-
-    // Simple field (stackDepth)
-    lengthInBits += 3;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static NetworkProtocolControlInformation staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("NetworkProtocolControlInformation");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Byte reservedField0 =
         readReservedField("reserved", readUnsignedByte(readBuffer, 2), (byte) 0x0);
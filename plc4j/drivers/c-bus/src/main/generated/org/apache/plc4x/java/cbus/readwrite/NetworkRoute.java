@@ -58,7 +58,7 @@ public class NetworkRoute implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NetworkRoute");
 
     // Simple Field (networkPCI)
@@ -75,11 +75,22 @@ public class NetworkRoute implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     NetworkRoute _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (networkPCI)
     lengthInBits += networkPCI.getLengthInBits();
@@ -88,8 +99,7 @@ public class NetworkRoute implements Message {
     if (additionalBridgeAddresses != null) {
       int i = 0;
       for (BridgeAddress element : additionalBridgeAddresses) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= additionalBridgeAddresses.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= additionalBridgeAddresses.size());
       }
     }
 
@@ -99,7 +109,7 @@ public class NetworkRoute implements Message {
   public static NetworkRoute staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("NetworkRoute");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NetworkProtocolControlInformation networkPCI =
         readSimpleField(
@@ -55,7 +55,7 @@ public class ParameterChange implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ParameterChange");
 
     // Const Field (specialChar1)
@@ -74,23 +74,18 @@ public class ParameterChange implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    ParameterChange _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (specialChar1)
-    lengthInBits += 8;
-
-    // Const Field (specialChar2)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static ParameterChange staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("ParameterChange");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte specialChar1 =
         readConstField("specialChar1", readByte(readBuffer, 8), ParameterChange.SPECIALCHAR1);
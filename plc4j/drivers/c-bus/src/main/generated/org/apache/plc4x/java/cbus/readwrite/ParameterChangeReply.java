@@ -64,7 +64,7 @@ public class ParameterChangeReply extends Reply implements Message {
   @Override
   protected void serializeReplyChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ParameterChangeReply");
 
     // Simple Field (parameterChange)
@@ -79,10 +79,9 @@ public class ParameterChangeReply extends Reply implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ParameterChangeReply _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (parameterChange)
     lengthInBits += parameterChange.getLengthInBits();
@@ -95,7 +94,7 @@ public class ParameterChangeReply extends Reply implements Message {
       throws ParseException {
     readBuffer.pullContext("ParameterChangeReply");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ParameterChange parameterChange =
         readSimpleField(
@@ -68,7 +68,7 @@ public class ParameterValueApplicationAddress1 extends ParameterValue implements
   protected void serializeParameterValueChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ParameterValueApplicationAddress1");
 
     // Simple Field (value)
@@ -86,10 +86,9 @@ public class ParameterValueApplicationAddress1 extends ParameterValue implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ParameterValueApplicationAddress1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (value)
     lengthInBits += value.getLengthInBits();
@@ -106,7 +105,7 @@ public class ParameterValueApplicationAddress1 extends ParameterValue implements
       ReadBuffer readBuffer, ParameterType parameterType, Short numBytes) throws ParseException {
     readBuffer.pullContext("ParameterValueApplicationAddress1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
     // Validation
     if (!((numBytes) >= (1))) {
       throw new ParseValidationException("ApplicationAddress1 has exactly one byte");
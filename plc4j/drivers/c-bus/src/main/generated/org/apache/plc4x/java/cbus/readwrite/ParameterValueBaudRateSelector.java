@@ -68,7 +68,7 @@ public class ParameterValueBaudRateSelector extends ParameterValue implements Me
   protected void serializeParameterValueChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ParameterValueBaudRateSelector");
 
     // Simple Field (value)
@@ -93,10 +93,9 @@ public class ParameterValueBaudRateSelector extends ParameterValue implements Me
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ParameterValueBaudRateSelector _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (value)
     lengthInBits += 8;
@@ -113,7 +112,7 @@ public class ParameterValueBaudRateSelector extends ParameterValue implements Me
       ReadBuffer readBuffer, ParameterType parameterType, Short numBytes) throws ParseException {
     readBuffer.pullContext("ParameterValueBaudRateSelector");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
     // Validation
     if (!((numBytes) >= (1))) {
       throw new ParseValidationException("BaudRateSelector has exactly one byte");
@@ -55,7 +55,7 @@ public class PowerUp implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PowerUp");
 
     // Const Field (powerUpIndicator1)
@@ -74,23 +74,18 @@ public class PowerUp implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    PowerUp _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (powerUpIndicator1)
-    lengthInBits += 8;
-
-    // Const Field (powerUpIndicator2)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static PowerUp staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("PowerUp");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte powerUpIndicator1 =
         readConstField("powerUpIndicator1", readByte(readBuffer, 8), PowerUp.POWERUPINDICATOR1);
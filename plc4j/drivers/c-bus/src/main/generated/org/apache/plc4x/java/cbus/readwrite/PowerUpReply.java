@@ -64,7 +64,7 @@ public class PowerUpReply extends Reply implements Message {
   @Override
   protected void serializeReplyChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PowerUpReply");
 
     // Simple Field (powerUpIndicator)
@@ -79,10 +79,9 @@ public class PowerUpReply extends Reply implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PowerUpReply _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (powerUpIndicator)
     lengthInBits += powerUpIndicator.getLengthInBits();
@@ -95,7 +94,7 @@ public class PowerUpReply extends Reply implements Message {
       throws ParseException {
     readBuffer.pullContext("PowerUpReply");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PowerUp powerUpIndicator =
         readSimpleField(
@@ -79,7 +79,7 @@ public class ReplyEncodedReply extends Reply implements Message {
   @Override
   protected void serializeReplyChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ReplyEncodedReply");
 
     // Manual Field (encodedReply)
@@ -115,10 +115,9 @@ public class ReplyEncodedReply extends Reply implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ReplyEncodedReply _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Manual Field (encodedReply)
     lengthInBits += (((encodedReply.getLengthInBytes()) * (2))) * (8);
@@ -138,7 +137,7 @@ public class ReplyEncodedReply extends Reply implements Message {
       throws ParseException {
     readBuffer.pullContext("ReplyEncodedReply");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     EncodedReply encodedReply =
         readManualField(
@@ -72,7 +72,7 @@ public class ReplyOrConfirmationConfirmation extends ReplyOrConfirmation impleme
   protected void serializeReplyOrConfirmationChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ReplyOrConfirmationConfirmation");
 
     // Simple Field (confirmation)
@@ -90,10 +90,9 @@ public class ReplyOrConfirmationConfirmation extends ReplyOrConfirmation impleme
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ReplyOrConfirmationConfirmation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (confirmation)
     lengthInBits += confirmation.getLengthInBits();
@@ -111,7 +110,7 @@ public class ReplyOrConfirmationConfirmation extends ReplyOrConfirmation impleme
       throws ParseException {
     readBuffer.pullContext("ReplyOrConfirmationConfirmation");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Confirmation confirmation =
         readSimpleField(
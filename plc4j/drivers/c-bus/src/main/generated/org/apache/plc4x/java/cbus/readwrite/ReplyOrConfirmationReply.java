@@ -72,7 +72,7 @@ public class ReplyOrConfirmationReply extends ReplyOrConfirmation implements Mes
   protected void serializeReplyOrConfirmationChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ReplyOrConfirmationReply");
 
     // Simple Field (reply)
@@ -90,10 +90,9 @@ public class ReplyOrConfirmationReply extends ReplyOrConfirmation implements Mes
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ReplyOrConfirmationReply _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (reply)
     lengthInBits += reply.getLengthInBits();
@@ -109,7 +108,7 @@ public class ReplyOrConfirmationReply extends ReplyOrConfirmation implements Mes
       throws ParseException {
     readBuffer.pullContext("ReplyOrConfirmationReply");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Reply reply =
         readSimpleField(
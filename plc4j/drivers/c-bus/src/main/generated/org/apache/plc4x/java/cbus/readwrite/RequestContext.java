@@ -51,7 +51,7 @@ public class RequestContext implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("RequestContext");
 
     // Simple Field (sendIdentifyRequestBefore)
@@ -68,20 +68,18 @@ public class RequestContext implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    RequestContext _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (sendIdentifyRequestBefore)
-    lengthInBits += 1;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 1;
   }
 
   public static RequestContext staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("RequestContext");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean sendIdentifyRequestBefore =
         readSimpleField("sendIdentifyRequestBefore", readBoolean(readBuffer));
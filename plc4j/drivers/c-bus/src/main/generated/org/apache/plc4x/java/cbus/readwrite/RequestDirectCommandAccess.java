@@ -83,7 +83,7 @@ public class RequestDirectCommandAccess extends Request implements Message {
   @Override
   protected void serializeRequestChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("RequestDirectCommandAccess");
 
     // Const Field (at)
@@ -113,10 +113,9 @@ public class RequestDirectCommandAccess extends Request implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     RequestDirectCommandAccess _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (at)
     lengthInBits += 8;
@@ -138,7 +137,7 @@ public class RequestDirectCommandAccess extends Request implements Message {
       ReadBuffer readBuffer, CBusOptions cBusOptions) throws ParseException {
     readBuffer.pullContext("RequestDirectCommandAccess");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte at = readConstField("at", readByte(readBuffer, 8), RequestDirectCommandAccess.AT);
 
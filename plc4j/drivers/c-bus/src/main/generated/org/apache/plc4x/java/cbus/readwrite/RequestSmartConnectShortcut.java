@@ -79,7 +79,7 @@ public class RequestSmartConnectShortcut extends Request implements Message {
   @Override
   protected void serializeRequestChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("RequestSmartConnectShortcut");
 
     // Const Field (pipe)
@@ -101,10 +101,9 @@ public class RequestSmartConnectShortcut extends Request implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     RequestSmartConnectShortcut _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (pipe)
     lengthInBits += 8;
@@ -121,7 +120,7 @@ public class RequestSmartConnectShortcut extends Request implements Message {
       ReadBuffer readBuffer, CBusOptions cBusOptions) throws ParseException {
     readBuffer.pullContext("RequestSmartConnectShortcut");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte pipe = readConstField("pipe", readByte(readBuffer, 8), RequestSmartConnectShortcut.PIPE);
 
@@ -50,7 +50,7 @@ public class RequestTermination implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("RequestTermination");
 
     // Const Field (cr)
@@ -66,20 +66,18 @@ public class RequestTermination implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    RequestTermination _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (cr)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static RequestTermination staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("RequestTermination");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte cr = readConstField("cr", readByte(readBuffer, 8), RequestTermination.CR);
 
@@ -55,7 +55,7 @@ public class ResponseTermination implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ResponseTermination");
 
     // Const Field (cr)
@@ -74,23 +74,18 @@ public class ResponseTermination implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    ResponseTermination _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (cr)
-    lengthInBits += 8;
-
-    // Const Field (lf)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static ResponseTermination staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("ResponseTermination");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte cr = readConstField("cr", readByte(readBuffer, 8), ResponseTermination.CR);
 
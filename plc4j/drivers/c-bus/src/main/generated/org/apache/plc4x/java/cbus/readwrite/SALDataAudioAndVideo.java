@@ -57,7 +57,7 @@ public class SALDataAudioAndVideo extends SALData implements Message {
   @Override
   protected void serializeSALDataChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SALDataAudioAndVideo");
 
     // Simple Field (audioVideoData)
@@ -72,10 +72,9 @@ public class SALDataAudioAndVideo extends SALData implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     SALDataAudioAndVideo _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (audioVideoData)
     lengthInBits += audioVideoData.getLengthInBits();
@@ -87,7 +86,7 @@ public class SALDataAudioAndVideo extends SALData implements Message {
       ReadBuffer readBuffer, ApplicationId applicationId) throws ParseException {
     readBuffer.pullContext("SALDataAudioAndVideo");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     LightingData audioVideoData =
         readSimpleField(
@@ -58,7 +58,7 @@ public class SALDataClockAndTimekeeping extends SALData implements Message {
   @Override
   protected void serializeSALDataChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SALDataClockAndTimekeeping");
 
     // Simple Field (clockAndTimekeepingData)
@@ -73,10 +73,9 @@ public class SALDataClockAndTimekeeping extends SALData implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     SALDataClockAndTimekeeping _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (clockAndTimekeepingData)
     lengthInBits += clockAndTimekeepingData.getLengthInBits();
@@ -88,7 +87,7 @@ public class SALDataClockAndTimekeeping extends SALData implements Message {
       ReadBuffer readBuffer, ApplicationId applicationId) throws ParseException {
     readBuffer.pullContext("SALDataClockAndTimekeeping");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ClockAndTimekeepingData clockAndTimekeepingData =
         readSimpleField(
@@ -58,7 +58,7 @@ public class SALDataPoolsSpasPondsFountainsControl extends SALData implements Me
   @Override
   protected void serializeSALDataChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SALDataPoolsSpasPondsFountainsControl");
 
     // Simple Field (poolsSpaPondsFountainsData)
@@ -74,10 +74,9 @@ public class SALDataPoolsSpasPondsFountainsControl extends SALData implements Me
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     SALDataPoolsSpasPondsFountainsControl _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (poolsSpaPondsFountainsData)
     lengthInBits += poolsSpaPondsFountainsData.getLengthInBits();
@@ -89,7 +88,7 @@ public class SALDataPoolsSpasPondsFountainsControl extends SALData implements Me
       ReadBuffer readBuffer, ApplicationId applicationId) throws ParseException {
     readBuffer.pullContext("SALDataPoolsSpasPondsFountainsControl");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     LightingData poolsSpaPondsFountainsData =
         readSimpleField(
@@ -57,7 +57,7 @@ public class SALDataTelephonyStatusAndControl extends SALData implements Message
   @Override
   protected void serializeSALDataChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SALDataTelephonyStatusAndControl");
 
     // Simple Field (telephonyData)
@@ -72,10 +72,9 @@ public class SALDataTelephonyStatusAndControl extends SALData implements Message
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     SALDataTelephonyStatusAndControl _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (telephonyData)
     lengthInBits += telephonyData.getLengthInBits();
@@ -87,7 +86,7 @@ public class SALDataTelephonyStatusAndControl extends SALData implements Message
       ReadBuffer readBuffer, ApplicationId applicationId) throws ParseException {
     readBuffer.pullContext("SALDataTelephonyStatusAndControl");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     TelephonyData telephonyData =
         readSimpleField(
@@ -58,7 +58,7 @@ public class SALDataTemperatureBroadcast extends SALData implements Message {
   @Override
   protected void serializeSALDataChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SALDataTemperatureBroadcast");
 
     // Simple Field (temperatureBroadcastData)
@@ -74,10 +74,9 @@ public class SALDataTemperatureBroadcast extends SALData implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     SALDataTemperatureBroadcast _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (temperatureBroadcastData)
     lengthInBits += temperatureBroadcastData.getLengthInBits();
@@ -89,7 +88,7 @@ public class SALDataTemperatureBroadcast extends SALData implements Message {
       ReadBuffer readBuffer, ApplicationId applicationId) throws ParseException {
     readBuffer.pullContext("SALDataTemperatureBroadcast");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     TemperatureBroadcastData temperatureBroadcastData =
         readSimpleField(
@@ -71,7 +71,7 @@ public class SecurityArmCode implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SecurityArmCode");
 
     // Simple Field (code)
@@ -107,30 +107,18 @@ public class SecurityArmCode implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    SecurityArmCode _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (code)
-    lengthInBits += 8;
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static SecurityArmCode staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("SecurityArmCode");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short code = readSimpleField("code", readUnsignedShort(readBuffer, 8));
     boolean isDisarmed = readVirtualField("isDisarmed", boolean.class, (code) == (0x00));
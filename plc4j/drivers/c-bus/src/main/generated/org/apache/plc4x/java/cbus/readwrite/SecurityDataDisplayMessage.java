@@ -55,7 +55,7 @@ public class SecurityDataDisplayMessage extends SecurityData implements Message
   @Override
   protected void serializeSecurityDataChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SecurityDataDisplayMessage");
 
     // Simple Field (message)
@@ -73,10 +73,9 @@ public class SecurityDataDisplayMessage extends SecurityData implements Message
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     SecurityDataDisplayMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (message)
     lengthInBits += (((commandTypeContainer.getNumBytes()) - (1))) * (8);
@@ -89,7 +88,7 @@ public class SecurityDataDisplayMessage extends SecurityData implements Message
       throws ParseException {
     readBuffer.pullContext("SecurityDataDisplayMessage");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     String message =
         readSimpleField(
@@ -78,7 +78,7 @@ public class SecurityDataStatusReport1 extends SecurityData implements Message {
   @Override
   protected void serializeSecurityDataChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SecurityDataStatusReport1");
 
     // Simple Field (armCodeType)
@@ -102,10 +102,9 @@ public class SecurityDataStatusReport1 extends SecurityData implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     SecurityDataStatusReport1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (armCodeType)
     lengthInBits += armCodeType.getLengthInBits();
@@ -120,8 +119,7 @@ public class SecurityDataStatusReport1 extends SecurityData implements Message {
     if (zoneStatus != null) {
       int i = 0;
       for (ZoneStatus element : zoneStatus) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= zoneStatus.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= zoneStatus.size());
       }
     }
 
@@ -132,7 +130,7 @@ public class SecurityDataStatusReport1 extends SecurityData implements Message {
       throws ParseException {
     readBuffer.pullContext("SecurityDataStatusReport1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     SecurityArmCode armCodeType =
         readSimpleField(
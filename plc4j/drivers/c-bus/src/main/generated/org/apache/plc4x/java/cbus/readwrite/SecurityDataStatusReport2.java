@@ -57,7 +57,7 @@ public class SecurityDataStatusReport2 extends SecurityData implements Message {
   @Override
   protected void serializeSecurityDataChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SecurityDataStatusReport2");
 
     // Array Field (zoneStatus)
@@ -72,17 +72,15 @@ public class SecurityDataStatusReport2 extends SecurityData implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     SecurityDataStatusReport2 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (zoneStatus != null) {
       int i = 0;
       for (ZoneStatus element : zoneStatus) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= zoneStatus.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= zoneStatus.size());
       }
     }
 
@@ -93,7 +91,7 @@ public class SecurityDataStatusReport2 extends SecurityData implements Message {
       throws ParseException {
     readBuffer.pullContext("SecurityDataStatusReport2");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     List<ZoneStatus> zoneStatus =
         readCountArrayField(
@@ -57,7 +57,7 @@ public class SecurityDataSystemArmedDisarmed extends SecurityData implements Mes
   @Override
   protected void serializeSecurityDataChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SecurityDataSystemArmedDisarmed");
 
     // Simple Field (armCodeType)
@@ -72,10 +72,9 @@ public class SecurityDataSystemArmedDisarmed extends SecurityData implements Mes
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     SecurityDataSystemArmedDisarmed _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (armCodeType)
     lengthInBits += armCodeType.getLengthInBits();
@@ -87,7 +86,7 @@ public class SecurityDataSystemArmedDisarmed extends SecurityData implements Mes
       throws ParseException {
     readBuffer.pullContext("SecurityDataSystemArmedDisarmed");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     SecurityArmCode armCodeType =
         readSimpleField(
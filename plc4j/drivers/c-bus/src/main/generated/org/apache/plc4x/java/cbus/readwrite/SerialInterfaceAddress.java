@@ -51,7 +51,7 @@ public class SerialInterfaceAddress implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SerialInterfaceAddress");
 
     // Simple Field (address)
@@ -67,20 +67,18 @@ public class SerialInterfaceAddress implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    SerialInterfaceAddress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (address)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static SerialInterfaceAddress staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("SerialInterfaceAddress");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte address = readSimpleField("address", readByte(readBuffer, 8));
 
@@ -69,7 +69,7 @@ public class SerialNumber implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SerialNumber");
 
     // Simple Field (octet1)
@@ -94,29 +94,18 @@ public class SerialNumber implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    SerialNumber _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (octet1)
-    lengthInBits += 8;
-
-    // Simple field (octet2)
-    lengthInBits += 8;
-
-    // Simple field (octet3)
-    lengthInBits += 8;
-
-    // Simple field (octet4)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 32;
   }
 
   public static SerialNumber staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("SerialNumber");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte octet1 = readSimpleField("octet1", readByte(readBuffer, 8));
 
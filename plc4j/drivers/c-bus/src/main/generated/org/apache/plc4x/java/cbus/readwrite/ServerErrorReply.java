@@ -60,7 +60,7 @@ public class ServerErrorReply extends ReplyOrConfirmation implements Message {
   protected void serializeReplyOrConfirmationChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ServerErrorReply");
 
     // Const Field (errorMarker)
@@ -75,15 +75,9 @@ public class ServerErrorReply extends ReplyOrConfirmation implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ServerErrorReply _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (errorMarker)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 8;
   }
 
   public static ReplyOrConfirmationBuilder staticParseReplyOrConfirmationBuilder(
@@ -91,7 +85,7 @@ public class ServerErrorReply extends ReplyOrConfirmation implements Message {
       throws ParseException {
     readBuffer.pullContext("ServerErrorReply");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte errorMarker =
         readConstField("errorMarker", readByte(readBuffer, 8), ServerErrorReply.ERRORMARKER);
@@ -69,7 +69,7 @@ public class StatusByte implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("StatusByte");
 
     // Simple Field (gav3)
@@ -110,29 +110,18 @@ public class StatusByte implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    StatusByte _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (gav3)
-    lengthInBits += 2;
-
-    // Simple field (gav2)
-    lengthInBits += 2;
-
-    // Simple field (gav1)
-    lengthInBits += 2;
-
-    // Simple field (gav0)
-    lengthInBits += 2;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static StatusByte staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("StatusByte");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     GAVState gav3 =
         readEnumField(
@@ -59,7 +59,7 @@ public class StatusRequestBinaryState extends StatusRequest implements Message {
   protected void serializeStatusRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("StatusRequestBinaryState");
 
     // Reserved Field (reserved)
@@ -93,28 +93,16 @@ public class StatusRequestBinaryState extends StatusRequest implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    StatusRequestBinaryState _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Reserved Field (reserved)
-    lengthInBits += 8;
-
-    // Simple field (application)
-    lengthInBits += 8;
-
-    // Reserved Field (reserved)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 24;
   }
 
   public static StatusRequestBuilder staticParseStatusRequestBuilder(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("StatusRequestBinaryState");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Byte reservedField0 = readReservedField("reserved", readByte(readBuffer, 8), (byte) 0x7A);
 
@@ -63,7 +63,7 @@ public class TamperStatus implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TamperStatus");
 
     // Simple Field (status)
@@ -91,26 +91,18 @@ public class TamperStatus implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    TamperStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (status)
-    lengthInBits += 8;
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static TamperStatus staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("TamperStatus");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short status = readSimpleField("status", readUnsignedShort(readBuffer, 8));
     boolean isNoTamper = readVirtualField("isNoTamper", boolean.class, (status) == (0x00));
@@ -56,7 +56,7 @@ public class TelephonyDataDivert extends TelephonyData implements Message {
   protected void serializeTelephonyDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TelephonyDataDivert");
 
     // Simple Field (number)
@@ -74,10 +74,9 @@ public class TelephonyDataDivert extends TelephonyData implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     TelephonyDataDivert _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (number)
     lengthInBits += (((commandTypeContainer.getNumBytes()) - (1))) * (8);
@@ -90,7 +89,7 @@ public class TelephonyDataDivert extends TelephonyData implements Message {
       throws ParseException {
     readBuffer.pullContext("TelephonyDataDivert");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     String number =
         readSimpleField(
@@ -65,7 +65,7 @@ public class TelephonyDataLineOffHook extends TelephonyData implements Message {
   protected void serializeTelephonyDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TelephonyDataLineOffHook");
 
     // Simple Field (reason)
@@ -93,10 +93,9 @@ public class TelephonyDataLineOffHook extends TelephonyData implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     TelephonyDataLineOffHook _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (reason)
     lengthInBits += 8;
@@ -112,7 +111,7 @@ public class TelephonyDataLineOffHook extends TelephonyData implements Message {
       throws ParseException {
     readBuffer.pullContext("TelephonyDataLineOffHook");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     LineOffHookReason reason =
         readEnumField(
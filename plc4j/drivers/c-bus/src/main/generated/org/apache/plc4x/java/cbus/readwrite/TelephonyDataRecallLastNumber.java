@@ -73,7 +73,7 @@ public class TelephonyDataRecallLastNumber extends TelephonyData implements Mess
   protected void serializeTelephonyDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TelephonyDataRecallLastNumber");
 
     // Simple Field (recallLastNumberType)
@@ -102,10 +102,9 @@ public class TelephonyDataRecallLastNumber extends TelephonyData implements Mess
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     TelephonyDataRecallLastNumber _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (recallLastNumberType)
     lengthInBits += 8;
@@ -125,7 +124,7 @@ public class TelephonyDataRecallLastNumber extends TelephonyData implements Mess
       throws ParseException {
     readBuffer.pullContext("TelephonyDataRecallLastNumber");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte recallLastNumberType = readSimpleField("recallLastNumberType", readByte(readBuffer, 8));
     boolean isNumberOfLastOutgoingCall =
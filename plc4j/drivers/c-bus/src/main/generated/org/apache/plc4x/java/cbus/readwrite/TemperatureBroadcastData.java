@@ -74,7 +74,7 @@ public class TemperatureBroadcastData implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TemperatureBroadcastData");
 
     // Simple Field (commandTypeContainer)
@@ -111,30 +111,18 @@ public class TemperatureBroadcastData implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    TemperatureBroadcastData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (commandTypeContainer)
-    lengthInBits += 8;
-
-    // A virtual field doesn't have any in- or output.
-
-    // Simple field (temperatureGroup)
-    lengthInBits += 8;
-
-    // Simple field (temperatureByte)
-    lengthInBits += 8;
-
-    // A virtual field doesn't have any in- or output.
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 24;
   }
 
   public static TemperatureBroadcastData staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("TemperatureBroadcastData");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
     // Validation
     if (!(org.apache.plc4x.java.cbus.readwrite.utils.StaticHelper
         .knowsTemperatureBroadcastCommandTypeContainer(readBuffer))) {
@@ -48,7 +48,7 @@ public class TriggerControlDataIndicatorKill extends TriggerControlData implemen
   protected void serializeTriggerControlDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TriggerControlDataIndicatorKill");
 
     writeBuffer.popContext("TriggerControlDataIndicatorKill");
@@ -60,19 +60,16 @@ public class TriggerControlDataIndicatorKill extends TriggerControlData implemen
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    TriggerControlDataIndicatorKill _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static TriggerControlDataBuilder staticParseTriggerControlDataBuilder(
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("TriggerControlDataIndicatorKill");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("TriggerControlDataIndicatorKill");
     // Create the instance
@@ -79,7 +79,7 @@ public class TriggerControlDataLabel extends TriggerControlData implements Messa
   protected void serializeTriggerControlDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TriggerControlDataLabel");
 
     // Simple Field (triggerControlOptions)
@@ -108,10 +108,9 @@ public class TriggerControlDataLabel extends TriggerControlData implements Messa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     TriggerControlDataLabel _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (triggerControlOptions)
     lengthInBits += triggerControlOptions.getLengthInBits();
@@ -137,7 +136,7 @@ public class TriggerControlDataLabel extends TriggerControlData implements Messa
       throws ParseException {
     readBuffer.pullContext("TriggerControlDataLabel");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     TriggerControlLabelOptions triggerControlOptions =
         readSimpleField(
@@ -64,7 +64,7 @@ public class TriggerControlLabelOptions implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TriggerControlLabelOptions");
 
     // Reserved Field (reserved)
@@ -121,36 +121,19 @@ public class TriggerControlLabelOptions implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    TriggerControlLabelOptions _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Simple field (labelFlavour)
-    lengthInBits += 2;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Simple field (labelType)
-    lengthInBits += 2;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static TriggerControlLabelOptions staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("TriggerControlLabelOptions");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Boolean reservedField0 =
         readReservedField("reserved", readBoolean(readBuffer), (boolean) false);
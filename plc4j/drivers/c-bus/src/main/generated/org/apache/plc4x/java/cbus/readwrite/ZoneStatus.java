@@ -51,7 +51,7 @@ public class ZoneStatus implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ZoneStatus");
 
     // Simple Field (value)
@@ -72,20 +72,18 @@ public class ZoneStatus implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    ZoneStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (value)
-    lengthInBits += 2;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 2;
   }
 
   public static ZoneStatus staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("ZoneStatus");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ZoneStatusTemp value =
         readEnumField(
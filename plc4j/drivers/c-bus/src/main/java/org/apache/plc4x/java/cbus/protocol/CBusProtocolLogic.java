@@ -61,6 +61,7 @@ public class CBusProtocolLogic extends Plc4xProtocolBase<CBusCommand> {
 
     @Override
     public void onConnect(ConversationContext<CBusCommand> context) {
+        useDriverRuntimeExecutor(tm);
 
     }
 
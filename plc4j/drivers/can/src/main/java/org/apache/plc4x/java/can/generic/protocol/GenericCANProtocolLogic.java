@@ -81,6 +81,7 @@ public class GenericCANProtocolLogic extends Plc4xCANProtocolBase<GenericFrame>
 
     @Override
     public void onConnect(ConversationContext<GenericFrame> context) {
+        useDriverRuntimeExecutor(tm);
         context.fireConnected();
     }
 
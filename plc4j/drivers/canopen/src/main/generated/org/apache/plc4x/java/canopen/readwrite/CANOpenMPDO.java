@@ -63,7 +63,7 @@ public class CANOpenMPDO implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CANOpenMPDO");
 
     // Simple Field (node)
@@ -83,11 +83,22 @@ public class CANOpenMPDO implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     CANOpenMPDO _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (node)
     lengthInBits += 8;
@@ -106,7 +117,7 @@ public class CANOpenMPDO implements Message {
   public static CANOpenMPDO staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("CANOpenMPDO");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short node = readSimpleField("node", readUnsignedShort(readBuffer, 8));
 
@@ -58,7 +58,7 @@ public class CANOpenPDOPayload extends CANOpenPayload implements Message {
   protected void serializeCANOpenPayloadChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CANOpenPDOPayload");
 
     // Simple Field (pdo)
@@ -73,10 +73,9 @@ public class CANOpenPDOPayload extends CANOpenPayload implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CANOpenPDOPayload _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (pdo)
     lengthInBits += pdo.getLengthInBits();
@@ -88,7 +87,7 @@ public class CANOpenPDOPayload extends CANOpenPayload implements Message {
       ReadBuffer readBuffer, CANOpenService service) throws ParseException {
     readBuffer.pullContext("CANOpenPDOPayload");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     CANOpenPDO pdo =
         readSimpleField("pdo", readComplex(() -> CANOpenPDO.staticParse(readBuffer), readBuffer));
@@ -61,7 +61,7 @@ public class CANOpenTime implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CANOpenTime");
 
     // Simple Field (millis)
@@ -84,25 +84,18 @@ public class CANOpenTime implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    CANOpenTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (millis)
-    lengthInBits += 32;
-
-    // A virtual field doesn't have any in- or output.
-
-    // Simple field (days)
-    lengthInBits += 16;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 48;
   }
 
   public static CANOpenTime staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("CANOpenTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long millis = readSimpleField("millis", readUnsignedLong(readBuffer, 32));
     int cleanMillis = readVirtualField("cleanMillis", int.class, (millis) & (0x0FFFFFFF));
@@ -58,7 +58,7 @@ public class CANOpenTimeSynchronization extends CANOpenPayload implements Messag
   protected void serializeCANOpenPayloadChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CANOpenTimeSynchronization");
 
     // Simple Field (timeOfDay)
@@ -73,10 +73,9 @@ public class CANOpenTimeSynchronization extends CANOpenPayload implements Messag
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CANOpenTimeSynchronization _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timeOfDay)
     lengthInBits += timeOfDay.getLengthInBits();
@@ -88,7 +87,7 @@ public class CANOpenTimeSynchronization extends CANOpenPayload implements Messag
       ReadBuffer readBuffer, CANOpenService service) throws ParseException {
     readBuffer.pullContext("CANOpenTimeSynchronization");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     CANOpenTime timeOfDay =
         readSimpleField(
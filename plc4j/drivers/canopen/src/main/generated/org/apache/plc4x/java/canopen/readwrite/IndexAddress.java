@@ -57,7 +57,7 @@ public class IndexAddress implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("IndexAddress");
 
     // Simple Field (index)
@@ -76,23 +76,18 @@ public class IndexAddress implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    IndexAddress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (index)
-    lengthInBits += 16;
-
-    // Simple field (subindex)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 24;
   }
 
   public static IndexAddress staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("IndexAddress");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int index = readSimpleField("index", readUnsignedInt(readBuffer, 16));
 
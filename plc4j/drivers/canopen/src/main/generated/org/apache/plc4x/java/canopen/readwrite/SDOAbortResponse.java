@@ -57,7 +57,7 @@ public class SDOAbortResponse extends SDOResponse implements Message {
   @Override
   protected void serializeSDOResponseChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SDOAbortResponse");
 
     // Simple Field (abort)
@@ -72,10 +72,9 @@ public class SDOAbortResponse extends SDOResponse implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     SDOAbortResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (abort)
     lengthInBits += abort.getLengthInBits();
@@ -87,7 +86,7 @@ public class SDOAbortResponse extends SDOResponse implements Message {
       ReadBuffer readBuffer, SDOResponseCommand command) throws ParseException {
     readBuffer.pullContext("SDOAbortResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     SDOAbort abort =
         readSimpleField("abort", readComplex(() -> SDOAbort.staticParse(readBuffer), readBuffer));
@@ -63,7 +63,7 @@ public class SDOInitiateExpeditedUploadResponse extends SDOInitiateUploadRespons
   protected void serializeSDOInitiateUploadResponsePayloadChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SDOInitiateExpeditedUploadResponse");
 
     // Array Field (data)
@@ -82,10 +82,9 @@ public class SDOInitiateExpeditedUploadResponse extends SDOInitiateUploadRespons
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     SDOInitiateExpeditedUploadResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (data != null) {
@@ -107,7 +106,7 @@ public class SDOInitiateExpeditedUploadResponse extends SDOInitiateUploadRespons
           throws ParseException {
     readBuffer.pullContext("SDOInitiateExpeditedUploadResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte[] data = readBuffer.readByteArray("data", Math.toIntExact((4) - (size)));
 
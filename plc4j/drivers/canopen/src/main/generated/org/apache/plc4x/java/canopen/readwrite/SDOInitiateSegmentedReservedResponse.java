@@ -55,7 +55,7 @@ public class SDOInitiateSegmentedReservedResponse extends SDOInitiateUploadRespo
   protected void serializeSDOInitiateUploadResponsePayloadChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SDOInitiateSegmentedReservedResponse");
 
     // Reserved Field (reserved)
@@ -70,15 +70,9 @@ public class SDOInitiateSegmentedReservedResponse extends SDOInitiateUploadRespo
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    SDOInitiateSegmentedReservedResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Reserved Field (reserved)
-    lengthInBits += 32;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 32;
   }
 
   public static SDOInitiateUploadResponsePayloadBuilder
@@ -87,7 +81,7 @@ public class SDOInitiateSegmentedReservedResponse extends SDOInitiateUploadRespo
           throws ParseException {
     readBuffer.pullContext("SDOInitiateSegmentedReservedResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Integer reservedField0 =
         readReservedField("reserved", readSignedInt(readBuffer, 32), (int) 0x00);
@@ -63,7 +63,7 @@ public class SDOInitiateSegmentedUploadResponse extends SDOInitiateUploadRespons
   protected void serializeSDOInitiateUploadResponsePayloadChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SDOInitiateSegmentedUploadResponse");
 
     // Simple Field (bytes)
@@ -78,15 +78,9 @@ public class SDOInitiateSegmentedUploadResponse extends SDOInitiateUploadRespons
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    SDOInitiateSegmentedUploadResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (bytes)
-    lengthInBits += 32;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 32;
   }
 
   public static SDOInitiateUploadResponsePayloadBuilder
@@ -95,7 +89,7 @@ public class SDOInitiateSegmentedUploadResponse extends SDOInitiateUploadRespons
           throws ParseException {
     readBuffer.pullContext("SDOInitiateSegmentedUploadResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long bytes = readSimpleField("bytes", readUnsignedLong(readBuffer, 32));
 
@@ -57,7 +57,7 @@ public class SDOSegmentDownloadResponse extends SDOResponse implements Message {
   @Override
   protected void serializeSDOResponseChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SDOSegmentDownloadResponse");
 
     // Simple Field (toggle)
@@ -78,28 +78,16 @@ public class SDOSegmentDownloadResponse extends SDOResponse implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    SDOSegmentDownloadResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (toggle)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 4;
-
-    // Reserved Field (reserved)
-    lengthInBits += 56;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 61;
   }
 
   public static SDOResponseBuilder staticParseSDOResponseBuilder(
       ReadBuffer readBuffer, SDOResponseCommand command) throws ParseException {
     readBuffer.pullContext("SDOSegmentDownloadResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean toggle = readSimpleField("toggle", readBoolean(readBuffer));
 
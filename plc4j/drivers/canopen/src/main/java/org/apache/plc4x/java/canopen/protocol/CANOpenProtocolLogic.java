@@ -138,6 +138,7 @@ public class CANOpenProtocolLogic extends Plc4xCANProtocolBase<CANOpenFrame>
 
     @Override
     public void onConnect(ConversationContext<CANOpenFrame> context) {
+        useDriverRuntimeExecutor(tm);
         try {
             if (configuration.isHeartbeat()) {
                 context.sendToWire(createFrame(new CANOpenHeartbeatPayload(NMTState.BOOTED_UP)));
@@ -64,7 +64,7 @@ public class AnsiExtendedSymbolSegment extends DataSegmentType implements Messag
   protected void serializeDataSegmentTypeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AnsiExtendedSymbolSegment");
 
     // Implicit Field (dataSize) (Used for parsing, but its value is not stored as it's implicitly
@@ -87,10 +87,9 @@ public class AnsiExtendedSymbolSegment extends DataSegmentType implements Messag
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AnsiExtendedSymbolSegment _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (dataSize)
     lengthInBits += 8;
@@ -110,7 +109,7 @@ public class AnsiExtendedSymbolSegment extends DataSegmentType implements Messag
       throws ParseException {
     readBuffer.pullContext("AnsiExtendedSymbolSegment");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short dataSize = readImplicitField("dataSize", readUnsignedShort(readBuffer, 8));
 
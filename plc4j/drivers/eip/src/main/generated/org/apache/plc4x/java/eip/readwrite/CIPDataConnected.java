@@ -57,7 +57,7 @@ public class CIPDataConnected implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CIPDataConnected");
 
     // Simple Field (value)
@@ -76,23 +76,18 @@ public class CIPDataConnected implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    CIPDataConnected _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (value)
-    lengthInBits += 32;
-
-    // Simple field (tagStatus)
-    lengthInBits += 16;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 48;
   }
 
   public static CIPDataConnected staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("CIPDataConnected");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long value = readSimpleField("value", readUnsignedLong(readBuffer, 32));
 
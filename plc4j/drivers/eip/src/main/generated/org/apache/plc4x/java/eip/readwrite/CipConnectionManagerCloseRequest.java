@@ -136,7 +136,7 @@ public class CipConnectionManagerCloseRequest extends CipService implements Mess
   @Override
   protected void serializeCipServiceChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CipConnectionManagerCloseRequest");
 
     // Simple Field (requestPathSize)
@@ -186,10 +186,9 @@ public class CipConnectionManagerCloseRequest extends CipService implements Mess
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CipConnectionManagerCloseRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestPathSize)
     lengthInBits += 8;
@@ -238,7 +237,7 @@ public class CipConnectionManagerCloseRequest extends CipService implements Mess
       ReadBuffer readBuffer, Boolean connected, Integer serviceLen) throws ParseException {
     readBuffer.pullContext("CipConnectionManagerCloseRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short requestPathSize = readSimpleField("requestPathSize", readUnsignedShort(readBuffer, 8));
 
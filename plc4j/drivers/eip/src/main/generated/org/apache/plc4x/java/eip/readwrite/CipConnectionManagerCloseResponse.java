@@ -101,7 +101,7 @@ public class CipConnectionManagerCloseResponse extends CipService implements Mes
   @Override
   protected void serializeCipServiceChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CipConnectionManagerCloseResponse");
 
     // Reserved Field (reserved)
@@ -141,43 +141,16 @@ public class CipConnectionManagerCloseResponse extends CipService implements Mes
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    CipConnectionManagerCloseResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Reserved Field (reserved)
-    lengthInBits += 8;
-
-    // Simple field (status)
-    lengthInBits += 8;
-
-    // Simple field (additionalStatusWords)
-    lengthInBits += 8;
-
-    // Simple field (connectionSerialNumber)
-    lengthInBits += 16;
-
-    // Simple field (originatorVendorId)
-    lengthInBits += 16;
-
-    // Simple field (originatorSerialNumber)
-    lengthInBits += 32;
-
-    // Simple field (applicationReplySize)
-    lengthInBits += 8;
-
-    // Reserved Field (reserved)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 104;
   }
 
   public static CipServiceBuilder staticParseCipServiceBuilder(
       ReadBuffer readBuffer, Boolean connected, Integer serviceLen) throws ParseException {
     readBuffer.pullContext("CipConnectionManagerCloseResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Short reservedField0 =
         readReservedField("reserved", readUnsignedShort(readBuffer, 8), (short) 0x00);
@@ -108,7 +108,7 @@ public class CipConnectionManagerResponse extends CipService implements Message
   @Override
   protected void serializeCipServiceChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CipConnectionManagerResponse");
 
     // Reserved Field (reserved)
@@ -154,49 +154,16 @@ public class CipConnectionManagerResponse extends CipService implements Message
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    CipConnectionManagerResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Reserved Field (reserved)
-    lengthInBits += 24;
-
-    // Simple field (otConnectionId)
-    lengthInBits += 32;
-
-    // Simple field (toConnectionId)
-    lengthInBits += 32;
-
-    // Simple field (connectionSerialNumber)
-    lengthInBits += 16;
-
-    // Simple field (originatorVendorId)
-    lengthInBits += 16;
-
-    // Simple field (originatorSerialNumber)
-    lengthInBits += 32;
-
-    // Simple field (otApi)
-    lengthInBits += 32;
-
-    // Simple field (toApi)
-    lengthInBits += 32;
-
-    // Implicit Field (replySize)
-    lengthInBits += 8;
-
-    // Reserved Field (reserved)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 232;
   }
 
   public static CipServiceBuilder staticParseCipServiceBuilder(
       ReadBuffer readBuffer, Boolean connected, Integer serviceLen) throws ParseException {
     readBuffer.pullContext("CipConnectionManagerResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Integer reservedField0 =
         readReservedField("reserved", readUnsignedInt(readBuffer, 24), (int) 0x000000);
@@ -155,7 +155,7 @@ public class CipIdentity extends CommandSpecificDataItem implements Message {
   protected void serializeCommandSpecificDataItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CipIdentity");
 
     // Implicit Field (itemLength) (Used for parsing, but its value is not stored as it's implicitly
@@ -236,10 +236,9 @@ public class CipIdentity extends CommandSpecificDataItem implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CipIdentity _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (itemLength)
     lengthInBits += 16;
@@ -301,7 +300,7 @@ public class CipIdentity extends CommandSpecificDataItem implements Message {
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("CipIdentity");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int itemLength = readImplicitField("itemLength", readUnsignedInt(readBuffer, 16));
 
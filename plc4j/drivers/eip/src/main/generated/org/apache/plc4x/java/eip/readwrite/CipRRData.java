@@ -84,7 +84,7 @@ public class CipRRData extends EipPacket implements Message {
   @Override
   protected void serializeEipPacketChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CipRRData");
 
     // Simple Field (interfaceHandle)
@@ -110,10 +110,9 @@ public class CipRRData extends EipPacket implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CipRRData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (interfaceHandle)
     lengthInBits += 32;
@@ -128,8 +127,7 @@ public class CipRRData extends EipPacket implements Message {
     if (typeIds != null) {
       int i = 0;
       for (TypeId element : typeIds) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= typeIds.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= typeIds.size());
       }
     }
 
@@ -140,7 +138,7 @@ public class CipRRData extends EipPacket implements Message {
       ReadBuffer readBuffer, Boolean response) throws ParseException {
     readBuffer.pullContext("CipRRData");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long interfaceHandle = readSimpleField("interfaceHandle", readUnsignedLong(readBuffer, 32));
 
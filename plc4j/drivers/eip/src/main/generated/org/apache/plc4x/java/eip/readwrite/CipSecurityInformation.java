@@ -58,7 +58,7 @@ public class CipSecurityInformation extends CommandSpecificDataItem implements M
   protected void serializeCommandSpecificDataItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CipSecurityInformation");
 
     // Implicit Field (itemLength) (Used for parsing, but its value is not stored as it's implicitly
@@ -78,10 +78,9 @@ public class CipSecurityInformation extends CommandSpecificDataItem implements M
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CipSecurityInformation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (itemLength)
     lengthInBits += 16;
@@ -98,7 +97,7 @@ public class CipSecurityInformation extends CommandSpecificDataItem implements M
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("CipSecurityInformation");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int itemLength = readImplicitField("itemLength", readUnsignedInt(readBuffer, 16));
 
@@ -64,7 +64,7 @@ public class ClassID extends LogicalSegmentType implements Message {
   protected void serializeLogicalSegmentTypeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ClassID");
 
     // Simple Field (format)
@@ -82,25 +82,16 @@ public class ClassID extends LogicalSegmentType implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ClassID _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (format)
-    lengthInBits += 2;
-
-    // Simple field (segmentClass)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 10;
   }
 
   public static LogicalSegmentTypeBuilder staticParseLogicalSegmentTypeBuilder(
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("ClassID");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte format = readSimpleField("format", readUnsignedByte(readBuffer, 2));
 
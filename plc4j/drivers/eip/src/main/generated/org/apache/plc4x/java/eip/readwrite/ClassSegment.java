@@ -73,7 +73,7 @@ public class ClassSegment implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ClassSegment");
 
     // Simple Field (pathSegmentType)
@@ -99,29 +99,18 @@ public class ClassSegment implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    ClassSegment _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (pathSegmentType)
-    lengthInBits += 3;
-
-    // Simple field (logicalSegmentType)
-    lengthInBits += 3;
-
-    // Simple field (logicalSegmentFormat)
-    lengthInBits += 2;
-
-    // Simple field (classSegment)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static ClassSegment staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("ClassSegment");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte pathSegmentType = readSimpleField("pathSegmentType", readUnsignedByte(readBuffer, 3));
 
@@ -63,7 +63,7 @@ public class ConnectedDataItem extends TypeId implements Message {
   @Override
   protected void serializeTypeIdChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ConnectedDataItem");
 
     // Implicit Field (packetSize) (Used for parsing, but its value is not stored as it's implicitly
@@ -86,10 +86,9 @@ public class ConnectedDataItem extends TypeId implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ConnectedDataItem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (packetSize)
     lengthInBits += 16;
@@ -107,7 +106,7 @@ public class ConnectedDataItem extends TypeId implements Message {
       throws ParseException {
     readBuffer.pullContext("ConnectedDataItem");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int packetSize = readImplicitField("packetSize", readUnsignedInt(readBuffer, 16));
 
@@ -55,7 +55,7 @@ public class EipConstants implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("EipConstants");
 
     // Const Field (eipUdpDiscoveryDefaultPort)
@@ -77,23 +77,18 @@ public class EipConstants implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    EipConstants _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (eipUdpDiscoveryDefaultPort)
-    lengthInBits += 16;
-
-    // Const Field (eipTcpDefaultPort)
-    lengthInBits += 16;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 32;
   }
 
   public static EipConstants staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("EipConstants");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int eipUdpDiscoveryDefaultPort =
         readConstField(
@@ -70,7 +70,7 @@ public class EipListIdentityResponse extends EipPacket implements Message {
   @Override
   protected void serializeEipPacketChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("EipListIdentityResponse");
 
     // Implicit Field (itemCount) (Used for parsing, but its value is not stored as it's implicitly
@@ -90,10 +90,9 @@ public class EipListIdentityResponse extends EipPacket implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     EipListIdentityResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (itemCount)
     lengthInBits += 16;
@@ -102,8 +101,7 @@ public class EipListIdentityResponse extends EipPacket implements Message {
     if (items != null) {
       int i = 0;
       for (CommandSpecificDataItem element : items) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= items.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= items.size());
       }
     }
 
@@ -114,7 +112,7 @@ public class EipListIdentityResponse extends EipPacket implements Message {
       ReadBuffer readBuffer, Boolean response) throws ParseException {
     readBuffer.pullContext("EipListIdentityResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int itemCount = readImplicitField("itemCount", readUnsignedInt(readBuffer, 16));
 
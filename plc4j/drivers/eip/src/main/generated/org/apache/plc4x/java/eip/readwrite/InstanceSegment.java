@@ -70,7 +70,7 @@ public class InstanceSegment implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InstanceSegment");
 
     // Simple Field (pathSegmentType)
@@ -96,29 +96,18 @@ public class InstanceSegment implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    InstanceSegment _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (pathSegmentType)
-    lengthInBits += 3;
-
-    // Simple field (logicalSegmentType)
-    lengthInBits += 3;
-
-    // Simple field (logicalSegmentFormat)
-    lengthInBits += 2;
-
-    // Simple field (instance)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static InstanceSegment staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("InstanceSegment");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte pathSegmentType = readSimpleField("pathSegmentType", readUnsignedByte(readBuffer, 3));
 
@@ -66,7 +66,7 @@ public class ListServicesResponse extends EipPacket implements Message {
   @Override
   protected void serializeEipPacketChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ListServicesResponse");
 
     // Implicit Field (typeIdCount) (Used for parsing, but its value is not stored as it's
@@ -86,10 +86,9 @@ public class ListServicesResponse extends EipPacket implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ListServicesResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (typeIdCount)
     lengthInBits += 16;
@@ -98,8 +97,7 @@ public class ListServicesResponse extends EipPacket implements Message {
     if (typeIds != null) {
       int i = 0;
       for (TypeId element : typeIds) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= typeIds.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= typeIds.size());
       }
     }
 
@@ -110,7 +108,7 @@ public class ListServicesResponse extends EipPacket implements Message {
       ReadBuffer readBuffer, Boolean response) throws ParseException {
     readBuffer.pullContext("ListServicesResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int typeIdCount = readImplicitField("typeIdCount", readUnsignedInt(readBuffer, 16));
 
@@ -57,7 +57,7 @@ public class LogicalSegment extends PathSegment implements Message {
   @Override
   protected void serializePathSegmentChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("LogicalSegment");
 
     // Simple Field (segmentType)
@@ -72,10 +72,9 @@ public class LogicalSegment extends PathSegment implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     LogicalSegment _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (segmentType)
     lengthInBits += segmentType.getLengthInBits();
@@ -87,7 +86,7 @@ public class LogicalSegment extends PathSegment implements Message {
       throws ParseException {
     readBuffer.pullContext("LogicalSegment");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     LogicalSegmentType segmentType =
         readSimpleField(
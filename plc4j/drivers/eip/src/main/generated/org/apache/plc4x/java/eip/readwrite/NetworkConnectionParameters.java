@@ -80,7 +80,7 @@ public class NetworkConnectionParameters implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NetworkConnectionParameters");
 
     // Simple Field (connectionSize)
@@ -117,42 +117,19 @@ public class NetworkConnectionParameters implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    NetworkConnectionParameters _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (connectionSize)
-    lengthInBits += 16;
-
-    // Reserved Field (reserved)
-    lengthInBits += 8;
-
-    // Simple field (owner)
-    lengthInBits += 1;
-
-    // Simple field (connectionType)
-    lengthInBits += 2;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Simple field (priority)
-    lengthInBits += 2;
-
-    // Simple field (connectionSizeType)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 32;
   }
 
   public static NetworkConnectionParameters staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("NetworkConnectionParameters");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int connectionSize = readSimpleField("connectionSize", readUnsignedInt(readBuffer, 16));
 
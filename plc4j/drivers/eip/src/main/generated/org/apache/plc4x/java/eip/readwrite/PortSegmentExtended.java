@@ -74,7 +74,7 @@ public class PortSegmentExtended extends PortSegmentType implements Message {
   protected void serializePortSegmentTypeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PortSegmentExtended");
 
     // Simple Field (port)
@@ -102,10 +102,9 @@ public class PortSegmentExtended extends PortSegmentType implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PortSegmentExtended _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (port)
     lengthInBits += 4;
@@ -125,7 +124,7 @@ public class PortSegmentExtended extends PortSegmentType implements Message {
       throws ParseException {
     readBuffer.pullContext("PortSegmentExtended");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte port = readSimpleField("port", readUnsignedByte(readBuffer, 4));
 
@@ -64,7 +64,7 @@ public class PortSegmentNormal extends PortSegmentType implements Message {
   protected void serializePortSegmentTypeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PortSegmentNormal");
 
     // Simple Field (port)
@@ -82,25 +82,16 @@ public class PortSegmentNormal extends PortSegmentType implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    PortSegmentNormal _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (port)
-    lengthInBits += 4;
-
-    // Simple field (linkAddress)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 12;
   }
 
   public static PortSegmentTypeBuilder staticParsePortSegmentTypeBuilder(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("PortSegmentNormal");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte port = readSimpleField("port", readUnsignedByte(readBuffer, 4));
 
@@ -57,7 +57,7 @@ public class Services implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("Services");
 
     // Implicit Field (serviceNb) (Used for parsing, but its value is not stored as it's implicitly
@@ -79,11 +79,22 @@ public class Services implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     Services _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (serviceNb)
     lengthInBits += 16;
@@ -97,8 +108,7 @@ public class Services implements Message {
     if (services != null) {
       int i = 0;
       for (CipService element : services) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= services.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= services.size());
       }
     }
 
@@ -109,7 +119,7 @@ public class Services implements Message {
       throws ParseException {
     readBuffer.pullContext("Services");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int serviceNb = readImplicitField("serviceNb", readUnsignedInt(readBuffer, 16));
 
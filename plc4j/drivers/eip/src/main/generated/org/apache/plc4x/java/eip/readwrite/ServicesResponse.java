@@ -79,7 +79,7 @@ public class ServicesResponse extends TypeId implements Message {
   @Override
   protected void serializeTypeIdChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ServicesResponse");
 
     // Implicit Field (serviceLen) (Used for parsing, but its value is not stored as it's implicitly
@@ -116,10 +116,9 @@ public class ServicesResponse extends TypeId implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ServicesResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (serviceLen)
     lengthInBits += 16;
@@ -151,7 +150,7 @@ public class ServicesResponse extends TypeId implements Message {
       throws ParseException {
     readBuffer.pullContext("ServicesResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int serviceLen = readImplicitField("serviceLen", readUnsignedInt(readBuffer, 16));
 
@@ -63,7 +63,7 @@ public class TransportType implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TransportType");
 
     // Simple Field (direction)
@@ -85,26 +85,18 @@ public class TransportType implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    TransportType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (direction)
-    lengthInBits += 1;
-
-    // Simple field (trigger)
-    lengthInBits += 3;
-
-    // Simple field (classTransport)
-    lengthInBits += 4;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static TransportType staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("TransportType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean direction = readSimpleField("direction", readBoolean(readBuffer));
 
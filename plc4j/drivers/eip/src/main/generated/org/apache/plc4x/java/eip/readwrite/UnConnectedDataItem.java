@@ -57,7 +57,7 @@ public class UnConnectedDataItem extends TypeId implements Message {
   @Override
   protected void serializeTypeIdChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("UnConnectedDataItem");
 
     // Implicit Field (packetSize) (Used for parsing, but its value is not stored as it's implicitly
@@ -77,10 +77,9 @@ public class UnConnectedDataItem extends TypeId implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     UnConnectedDataItem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (packetSize)
     lengthInBits += 16;
@@ -95,7 +94,7 @@ public class UnConnectedDataItem extends TypeId implements Message {
       throws ParseException {
     readBuffer.pullContext("UnConnectedDataItem");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int packetSize = readImplicitField("packetSize", readUnsignedInt(readBuffer, 16));
 
@@ -280,6 +280,7 @@ public class EipProtocolLogic extends Plc4xProtocolBase<EipPacket> implements Ha
 
     @Override
     public void onConnect(ConversationContext<EipPacket> context) {
+        useDriverRuntimeExecutor(tm);
         listServices(context);
     }
 
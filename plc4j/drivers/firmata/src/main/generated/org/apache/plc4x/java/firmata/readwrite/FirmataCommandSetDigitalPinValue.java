@@ -64,7 +64,7 @@ public class FirmataCommandSetDigitalPinValue extends FirmataCommand implements
   protected void serializeFirmataCommandChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("FirmataCommandSetDigitalPinValue");
 
     // Simple Field (pin)
@@ -85,28 +85,16 @@ public class FirmataCommandSetDigitalPinValue extends FirmataCommand implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    FirmataCommandSetDigitalPinValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (pin)
-    lengthInBits += 8;
-
-    // Reserved Field (reserved)
-    lengthInBits += 7;
-
-    // Simple field (on)
-    lengthInBits += 1;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 16;
   }
 
   public static FirmataCommandBuilder staticParseFirmataCommandBuilder(
       ReadBuffer readBuffer, Boolean response) throws ParseException {
     readBuffer.pullContext("FirmataCommandSetDigitalPinValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short pin = readSimpleField("pin", readUnsignedShort(readBuffer, 8));
 
@@ -64,7 +64,7 @@ public class FirmataMessageDigitalIO extends FirmataMessage implements Message {
   protected void serializeFirmataMessageChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("FirmataMessageDigitalIO");
 
     // Simple Field (pinBlock)
@@ -90,10 +90,9 @@ public class FirmataMessageDigitalIO extends FirmataMessage implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     FirmataMessageDigitalIO _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (pinBlock)
     lengthInBits += 4;
@@ -110,7 +109,7 @@ public class FirmataMessageDigitalIO extends FirmataMessage implements Message {
       ReadBuffer readBuffer, Boolean response) throws ParseException {
     readBuffer.pullContext("FirmataMessageDigitalIO");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte pinBlock =
         readSimpleField(
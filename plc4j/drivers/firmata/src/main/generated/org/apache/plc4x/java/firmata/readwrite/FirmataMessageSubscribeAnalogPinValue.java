@@ -64,7 +64,7 @@ public class FirmataMessageSubscribeAnalogPinValue extends FirmataMessage implem
   protected void serializeFirmataMessageChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("FirmataMessageSubscribeAnalogPinValue");
 
     // Simple Field (pin)
@@ -97,28 +97,16 @@ public class FirmataMessageSubscribeAnalogPinValue extends FirmataMessage implem
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    FirmataMessageSubscribeAnalogPinValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (pin)
-    lengthInBits += 4;
-
-    // Reserved Field (reserved)
-    lengthInBits += 7;
-
-    // Simple field (enable)
-    lengthInBits += 1;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 12;
   }
 
   public static FirmataMessageBuilder staticParseFirmataMessageBuilder(
       ReadBuffer readBuffer, Boolean response) throws ParseException {
     readBuffer.pullContext("FirmataMessageSubscribeAnalogPinValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte pin =
         readSimpleField(
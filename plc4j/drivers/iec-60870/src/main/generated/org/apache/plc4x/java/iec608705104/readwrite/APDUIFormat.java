@@ -60,7 +60,7 @@ public class APDUIFormat extends APDU implements Message {
   @Override
   protected void serializeAPDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("APDUIFormat");
 
     // Simple Field (receiveSequenceNo)
@@ -83,10 +83,9 @@ public class APDUIFormat extends APDU implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     APDUIFormat _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (receiveSequenceNo)
     lengthInBits += 16;
@@ -100,7 +99,7 @@ public class APDUIFormat extends APDU implements Message {
   public static APDUBuilder staticParseAPDUBuilder(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("APDUIFormat");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int receiveSequenceNo =
         readSimpleField(
@@ -46,7 +46,7 @@ public class APDUUFormatStartDataTransferActivation extends APDU implements Mess
   @Override
   protected void serializeAPDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("APDUUFormatStartDataTransferActivation");
 
     // Padding Field (padding)
@@ -66,10 +66,9 @@ public class APDUUFormatStartDataTransferActivation extends APDU implements Mess
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     APDUUFormatStartDataTransferActivation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Padding Field (padding)
     int _timesPadding = (int) (2);
@@ -83,7 +82,7 @@ public class APDUUFormatStartDataTransferActivation extends APDU implements Mess
   public static APDUBuilder staticParseAPDUBuilder(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("APDUUFormatStartDataTransferActivation");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readPaddingField(
         readUnsignedShort(readBuffer, 8),
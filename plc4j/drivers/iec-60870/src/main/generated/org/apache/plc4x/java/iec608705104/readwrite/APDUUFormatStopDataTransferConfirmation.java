@@ -46,7 +46,7 @@ public class APDUUFormatStopDataTransferConfirmation extends APDU implements Mes
   @Override
   protected void serializeAPDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("APDUUFormatStopDataTransferConfirmation");
 
     // Padding Field (padding)
@@ -66,10 +66,9 @@ public class APDUUFormatStopDataTransferConfirmation extends APDU implements Mes
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     APDUUFormatStopDataTransferConfirmation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Padding Field (padding)
     int _timesPadding = (int) (2);
@@ -83,7 +82,7 @@ public class APDUUFormatStopDataTransferConfirmation extends APDU implements Mes
   public static APDUBuilder staticParseAPDUBuilder(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("APDUUFormatStopDataTransferConfirmation");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readPaddingField(
         readUnsignedShort(readBuffer, 8),
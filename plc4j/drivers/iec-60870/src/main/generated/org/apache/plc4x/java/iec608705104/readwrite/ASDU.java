@@ -101,7 +101,7 @@ public class ASDU implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ASDU");
 
     // Simple Field (typeIdentification)
@@ -182,11 +182,22 @@ public class ASDU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     ASDU _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (typeIdentification)
     lengthInBits += 8;
@@ -216,8 +227,7 @@ public class ASDU implements Message {
     if (informationObjects != null) {
       int i = 0;
       for (InformationObject element : informationObjects) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= informationObjects.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= informationObjects.size());
       }
     }
 
@@ -227,7 +237,7 @@ public class ASDU implements Message {
   public static ASDU staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("ASDU");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     TypeIdentification typeIdentification =
         readEnumField(
@@ -43,7 +43,7 @@ public class AcknowledgeFileOrSectionQualifier implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AcknowledgeFileOrSectionQualifier");
 
     writeBuffer.popContext("AcknowledgeFileOrSectionQualifier");
@@ -56,18 +56,19 @@ public class AcknowledgeFileOrSectionQualifier implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    AcknowledgeFileOrSectionQualifier _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 0;
   }
 
   public static AcknowledgeFileOrSectionQualifier staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("AcknowledgeFileOrSectionQualifier");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("AcknowledgeFileOrSectionQualifier");
     // Create the instance
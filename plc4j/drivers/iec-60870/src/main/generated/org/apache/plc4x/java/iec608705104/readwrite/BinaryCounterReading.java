@@ -80,7 +80,7 @@ public class BinaryCounterReading implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BinaryCounterReading");
 
     // Simple Field (counterValue)
@@ -128,32 +128,18 @@ public class BinaryCounterReading implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    BinaryCounterReading _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (counterValue)
-    lengthInBits += 32;
-
-    // Simple field (counterValid)
-    lengthInBits += 1;
-
-    // Simple field (counterAdjusted)
-    lengthInBits += 1;
-
-    // Simple field (carry)
-    lengthInBits += 1;
-
-    // Simple field (sequenceNumber)
-    lengthInBits += 5;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 40;
   }
 
   public static BinaryCounterReading staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BinaryCounterReading");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long counterValue =
         readSimpleField(
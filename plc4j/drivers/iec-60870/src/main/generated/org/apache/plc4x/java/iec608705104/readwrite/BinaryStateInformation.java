@@ -51,7 +51,7 @@ public class BinaryStateInformation implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BinaryStateInformation");
 
     // Simple Field (bits)
@@ -71,20 +71,18 @@ public class BinaryStateInformation implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    BinaryStateInformation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (bits)
-    lengthInBits += 32;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 32;
   }
 
   public static BinaryStateInformation staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BinaryStateInformation");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long bits =
         readSimpleField(
@@ -57,7 +57,7 @@ public class CauseOfInitialization implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CauseOfInitialization");
 
     // Simple Field (select)
@@ -84,23 +84,18 @@ public class CauseOfInitialization implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    CauseOfInitialization _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (select)
-    lengthInBits += 1;
-
-    // Simple field (qualifier)
-    lengthInBits += 7;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static CauseOfInitialization staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("CauseOfInitialization");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean select =
         readSimpleField(
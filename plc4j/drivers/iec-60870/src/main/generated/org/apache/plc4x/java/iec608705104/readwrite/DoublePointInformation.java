@@ -76,7 +76,7 @@ public class DoublePointInformation implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DoublePointInformation");
 
     // Simple Field (invalid)
@@ -131,35 +131,18 @@ public class DoublePointInformation implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    DoublePointInformation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (invalid)
-    lengthInBits += 1;
-
-    // Simple field (notTopical)
-    lengthInBits += 1;
-
-    // Simple field (substituted)
-    lengthInBits += 1;
-
-    // Simple field (blocked)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 2;
-
-    // Simple field (dpiCode)
-    lengthInBits += 2;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static DoublePointInformation staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("DoublePointInformation");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean invalid =
         readSimpleField(
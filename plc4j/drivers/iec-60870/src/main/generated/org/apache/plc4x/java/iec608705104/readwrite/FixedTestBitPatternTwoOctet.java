@@ -51,7 +51,7 @@ public class FixedTestBitPatternTwoOctet implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("FixedTestBitPatternTwoOctet");
 
     // Simple Field (pattern)
@@ -71,21 +71,19 @@ public class FixedTestBitPatternTwoOctet implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    FixedTestBitPatternTwoOctet _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (pattern)
-    lengthInBits += 16;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static FixedTestBitPatternTwoOctet staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("FixedTestBitPatternTwoOctet");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int pattern =
         readSimpleField(
@@ -50,7 +50,7 @@ public class IEC608705104Constants implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("IEC608705104Constants");
 
     // Const Field (defaultPort)
@@ -66,20 +66,18 @@ public class IEC608705104Constants implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    IEC608705104Constants _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (defaultPort)
-    lengthInBits += 16;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static IEC608705104Constants staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("IEC608705104Constants");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int defaultPort =
         readConstField(
@@ -66,7 +66,7 @@ public class InformationObjectWithSevenByteTime_DOUBLE_POINT_INFORMATION
   protected void serializeInformationObjectWithSevenByteTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithSevenByteTime_DOUBLE_POINT_INFORMATION");
 
     // Simple Field (diq)
@@ -89,10 +89,9 @@ public class InformationObjectWithSevenByteTime_DOUBLE_POINT_INFORMATION
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithSevenByteTime_DOUBLE_POINT_INFORMATION _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (diq)
     lengthInBits += diq.getLengthInBits();
@@ -109,7 +108,7 @@ public class InformationObjectWithSevenByteTime_DOUBLE_POINT_INFORMATION
           throws ParseException {
     readBuffer.pullContext("InformationObjectWithSevenByteTime_DOUBLE_POINT_INFORMATION");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     DoublePointInformation diq =
         readSimpleField(
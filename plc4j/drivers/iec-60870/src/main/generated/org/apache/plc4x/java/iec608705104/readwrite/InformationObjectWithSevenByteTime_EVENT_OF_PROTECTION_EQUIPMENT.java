@@ -66,7 +66,7 @@ public class InformationObjectWithSevenByteTime_EVENT_OF_PROTECTION_EQUIPMENT
   protected void serializeInformationObjectWithSevenByteTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithSevenByteTime_EVENT_OF_PROTECTION_EQUIPMENT");
 
     // Simple Field (cp16Time2a)
@@ -92,10 +92,9 @@ public class InformationObjectWithSevenByteTime_EVENT_OF_PROTECTION_EQUIPMENT
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithSevenByteTime_EVENT_OF_PROTECTION_EQUIPMENT _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (cp16Time2a)
     lengthInBits += cp16Time2a.getLengthInBits();
@@ -112,7 +111,7 @@ public class InformationObjectWithSevenByteTime_EVENT_OF_PROTECTION_EQUIPMENT
           throws ParseException {
     readBuffer.pullContext("InformationObjectWithSevenByteTime_EVENT_OF_PROTECTION_EQUIPMENT");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     TwoOctetBinaryTime cp16Time2a =
         readSimpleField(
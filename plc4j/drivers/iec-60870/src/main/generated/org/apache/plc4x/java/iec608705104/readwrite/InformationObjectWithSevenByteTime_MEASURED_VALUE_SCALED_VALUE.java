@@ -72,7 +72,7 @@ public class InformationObjectWithSevenByteTime_MEASURED_VALUE_SCALED_VALUE
   protected void serializeInformationObjectWithSevenByteTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithSevenByteTime_MEASURED_VALUE_SCALED_VALUE");
 
     // Simple Field (sva)
@@ -99,10 +99,9 @@ public class InformationObjectWithSevenByteTime_MEASURED_VALUE_SCALED_VALUE
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithSevenByteTime_MEASURED_VALUE_SCALED_VALUE _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sva)
     lengthInBits += sva.getLengthInBits();
@@ -122,7 +121,7 @@ public class InformationObjectWithSevenByteTime_MEASURED_VALUE_SCALED_VALUE
           throws ParseException {
     readBuffer.pullContext("InformationObjectWithSevenByteTime_MEASURED_VALUE_SCALED_VALUE");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ScaledValue sva =
         readSimpleField(
@@ -82,7 +82,7 @@ public class InformationObjectWithSevenByteTime_PACKED_START_EVENTS_OF_PROTECTIO
   protected void serializeInformationObjectWithSevenByteTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext(
         "InformationObjectWithSevenByteTime_PACKED_START_EVENTS_OF_PROTECTION_EQUIPMENT");
 
@@ -118,10 +118,9 @@ public class InformationObjectWithSevenByteTime_PACKED_START_EVENTS_OF_PROTECTIO
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithSevenByteTime_PACKED_START_EVENTS_OF_PROTECTION_EQUIPMENT _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sep)
     lengthInBits += sep.getLengthInBits();
@@ -145,7 +144,7 @@ public class InformationObjectWithSevenByteTime_PACKED_START_EVENTS_OF_PROTECTIO
     readBuffer.pullContext(
         "InformationObjectWithSevenByteTime_PACKED_START_EVENTS_OF_PROTECTION_EQUIPMENT");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     SingleEventOfProtectionEquipment sep =
         readSimpleField(
@@ -75,7 +75,7 @@ public class InformationObjectWithSevenByteTime_STEP_POSITION_INFORMATION
   protected void serializeInformationObjectWithSevenByteTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithSevenByteTime_STEP_POSITION_INFORMATION");
 
     // Simple Field (vti)
@@ -102,10 +102,9 @@ public class InformationObjectWithSevenByteTime_STEP_POSITION_INFORMATION
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithSevenByteTime_STEP_POSITION_INFORMATION _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (vti)
     lengthInBits += vti.getLengthInBits();
@@ -125,7 +124,7 @@ public class InformationObjectWithSevenByteTime_STEP_POSITION_INFORMATION
           throws ParseException {
     readBuffer.pullContext("InformationObjectWithSevenByteTime_STEP_POSITION_INFORMATION");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ValueWithTransientStateIndication vti =
         readSimpleField(
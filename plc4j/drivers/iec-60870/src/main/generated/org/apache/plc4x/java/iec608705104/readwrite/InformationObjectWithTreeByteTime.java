@@ -59,7 +59,7 @@ public abstract class InformationObjectWithTreeByteTime extends InformationObjec
   protected void serializeInformationObjectChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithTreeByteTime");
 
     // Switch field (Serialize the sub-type)
@@ -74,14 +74,9 @@ public abstract class InformationObjectWithTreeByteTime extends InformationObjec
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    InformationObjectWithTreeByteTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Length of sub-type elements will be added by sub-type...
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static InformationObjectBuilder staticParseInformationObjectBuilder(
@@ -89,7 +84,7 @@ public abstract class InformationObjectWithTreeByteTime extends InformationObjec
       throws ParseException {
     readBuffer.pullContext("InformationObjectWithTreeByteTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     // Switch Field (Depending on the discriminator values, passes the instantiation to a sub-type)
     InformationObjectWithTreeByteTimeBuilder builder = null;
@@ -75,7 +75,7 @@ public class InformationObjectWithTreeByteTime_BITSTRING_OF_32_BIT
   protected void serializeInformationObjectWithTreeByteTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithTreeByteTime_BITSTRING_OF_32_BIT");
 
     // Simple Field (bsi)
@@ -102,10 +102,9 @@ public class InformationObjectWithTreeByteTime_BITSTRING_OF_32_BIT
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithTreeByteTime_BITSTRING_OF_32_BIT _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bsi)
     lengthInBits += bsi.getLengthInBits();
@@ -125,7 +124,7 @@ public class InformationObjectWithTreeByteTime_BITSTRING_OF_32_BIT
           throws ParseException {
     readBuffer.pullContext("InformationObjectWithTreeByteTime_BITSTRING_OF_32_BIT");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BinaryStateInformation bsi =
         readSimpleField(
@@ -66,7 +66,7 @@ public class InformationObjectWithTreeByteTime_INTEGRATED_TOTALS
   protected void serializeInformationObjectWithTreeByteTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithTreeByteTime_INTEGRATED_TOTALS");
 
     // Simple Field (bcr)
@@ -89,10 +89,9 @@ public class InformationObjectWithTreeByteTime_INTEGRATED_TOTALS
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithTreeByteTime_INTEGRATED_TOTALS _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bcr)
     lengthInBits += bcr.getLengthInBits();
@@ -109,7 +108,7 @@ public class InformationObjectWithTreeByteTime_INTEGRATED_TOTALS
           throws ParseException {
     readBuffer.pullContext("InformationObjectWithTreeByteTime_INTEGRATED_TOTALS");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BinaryCounterReading bcr =
         readSimpleField(
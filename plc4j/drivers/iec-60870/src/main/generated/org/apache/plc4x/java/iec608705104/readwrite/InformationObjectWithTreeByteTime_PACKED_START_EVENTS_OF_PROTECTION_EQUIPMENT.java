@@ -82,7 +82,7 @@ public class InformationObjectWithTreeByteTime_PACKED_START_EVENTS_OF_PROTECTION
   protected void serializeInformationObjectWithTreeByteTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext(
         "InformationObjectWithTreeByteTime_PACKED_START_EVENTS_OF_PROTECTION_EQUIPMENT");
 
@@ -118,10 +118,9 @@ public class InformationObjectWithTreeByteTime_PACKED_START_EVENTS_OF_PROTECTION
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithTreeByteTime_PACKED_START_EVENTS_OF_PROTECTION_EQUIPMENT _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sep)
     lengthInBits += sep.getLengthInBits();
@@ -145,7 +144,7 @@ public class InformationObjectWithTreeByteTime_PACKED_START_EVENTS_OF_PROTECTION
     readBuffer.pullContext(
         "InformationObjectWithTreeByteTime_PACKED_START_EVENTS_OF_PROTECTION_EQUIPMENT");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     SingleEventOfProtectionEquipment sep =
         readSimpleField(
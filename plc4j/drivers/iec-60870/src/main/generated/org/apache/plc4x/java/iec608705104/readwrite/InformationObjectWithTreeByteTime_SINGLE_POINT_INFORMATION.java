@@ -66,7 +66,7 @@ public class InformationObjectWithTreeByteTime_SINGLE_POINT_INFORMATION
   protected void serializeInformationObjectWithTreeByteTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithTreeByteTime_SINGLE_POINT_INFORMATION");
 
     // Simple Field (siq)
@@ -89,10 +89,9 @@ public class InformationObjectWithTreeByteTime_SINGLE_POINT_INFORMATION
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithTreeByteTime_SINGLE_POINT_INFORMATION _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (siq)
     lengthInBits += siq.getLengthInBits();
@@ -109,7 +108,7 @@ public class InformationObjectWithTreeByteTime_SINGLE_POINT_INFORMATION
           throws ParseException {
     readBuffer.pullContext("InformationObjectWithTreeByteTime_SINGLE_POINT_INFORMATION");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     SinglePointInformation siq =
         readSimpleField(
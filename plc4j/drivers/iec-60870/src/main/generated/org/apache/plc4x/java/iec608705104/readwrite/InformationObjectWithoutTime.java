@@ -56,7 +56,7 @@ public abstract class InformationObjectWithoutTime extends InformationObject imp
   protected void serializeInformationObjectChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithoutTime");
 
     // Switch field (Serialize the sub-type)
@@ -71,14 +71,9 @@ public abstract class InformationObjectWithoutTime extends InformationObject imp
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    InformationObjectWithoutTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Length of sub-type elements will be added by sub-type...
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static InformationObjectBuilder staticParseInformationObjectBuilder(
@@ -86,7 +81,7 @@ public abstract class InformationObjectWithoutTime extends InformationObject imp
       throws ParseException {
     readBuffer.pullContext("InformationObjectWithoutTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     // Switch Field (Depending on the discriminator values, passes the instantiation to a sub-type)
     InformationObjectWithoutTimeBuilder builder = null;
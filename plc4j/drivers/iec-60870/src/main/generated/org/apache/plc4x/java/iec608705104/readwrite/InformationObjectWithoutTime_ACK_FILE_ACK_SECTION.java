@@ -72,7 +72,7 @@ public class InformationObjectWithoutTime_ACK_FILE_ACK_SECTION extends Informati
   protected void serializeInformationObjectWithoutTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithoutTime_ACK_FILE_ACK_SECTION");
 
     // Simple Field (nof)
@@ -96,10 +96,9 @@ public class InformationObjectWithoutTime_ACK_FILE_ACK_SECTION extends Informati
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithoutTime_ACK_FILE_ACK_SECTION _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nof)
     lengthInBits += nof.getLengthInBits();
@@ -118,7 +117,7 @@ public class InformationObjectWithoutTime_ACK_FILE_ACK_SECTION extends Informati
       throws ParseException {
     readBuffer.pullContext("InformationObjectWithoutTime_ACK_FILE_ACK_SECTION");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NameOfFile nof =
         readSimpleField(
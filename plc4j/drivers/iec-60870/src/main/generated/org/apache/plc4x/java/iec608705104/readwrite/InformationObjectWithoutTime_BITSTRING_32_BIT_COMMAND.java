@@ -60,7 +60,7 @@ public class InformationObjectWithoutTime_BITSTRING_32_BIT_COMMAND
   protected void serializeInformationObjectWithoutTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithoutTime_BITSTRING_32_BIT_COMMAND");
 
     // Simple Field (bsi)
@@ -76,10 +76,9 @@ public class InformationObjectWithoutTime_BITSTRING_32_BIT_COMMAND
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithoutTime_BITSTRING_32_BIT_COMMAND _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bsi)
     lengthInBits += bsi.getLengthInBits();
@@ -92,7 +91,7 @@ public class InformationObjectWithoutTime_BITSTRING_32_BIT_COMMAND
       throws ParseException {
     readBuffer.pullContext("InformationObjectWithoutTime_BITSTRING_32_BIT_COMMAND");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BinaryStateInformation bsi =
         readSimpleField(
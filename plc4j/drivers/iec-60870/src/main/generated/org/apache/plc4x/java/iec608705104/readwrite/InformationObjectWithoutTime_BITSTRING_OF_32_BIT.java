@@ -66,7 +66,7 @@ public class InformationObjectWithoutTime_BITSTRING_OF_32_BIT extends Informatio
   protected void serializeInformationObjectWithoutTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithoutTime_BITSTRING_OF_32_BIT");
 
     // Simple Field (bsi)
@@ -86,10 +86,9 @@ public class InformationObjectWithoutTime_BITSTRING_OF_32_BIT extends Informatio
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithoutTime_BITSTRING_OF_32_BIT _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bsi)
     lengthInBits += bsi.getLengthInBits();
@@ -105,7 +104,7 @@ public class InformationObjectWithoutTime_BITSTRING_OF_32_BIT extends Informatio
       throws ParseException {
     readBuffer.pullContext("InformationObjectWithoutTime_BITSTRING_OF_32_BIT");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BinaryStateInformation bsi =
         readSimpleField(
@@ -60,7 +60,7 @@ public class InformationObjectWithoutTime_CLOCK_SYNCHRONISATION_COMMAND
   protected void serializeInformationObjectWithoutTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithoutTime_CLOCK_SYNCHRONISATION_COMMAND");
 
     // Simple Field (cp56Time2a)
@@ -79,10 +79,9 @@ public class InformationObjectWithoutTime_CLOCK_SYNCHRONISATION_COMMAND
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithoutTime_CLOCK_SYNCHRONISATION_COMMAND _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (cp56Time2a)
     lengthInBits += cp56Time2a.getLengthInBits();
@@ -95,7 +94,7 @@ public class InformationObjectWithoutTime_CLOCK_SYNCHRONISATION_COMMAND
       throws ParseException {
     readBuffer.pullContext("InformationObjectWithoutTime_CLOCK_SYNCHRONISATION_COMMAND");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     SevenOctetBinaryTime cp56Time2a =
         readSimpleField(
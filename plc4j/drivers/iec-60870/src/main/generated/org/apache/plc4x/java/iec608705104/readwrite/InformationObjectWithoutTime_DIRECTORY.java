@@ -82,7 +82,7 @@ public class InformationObjectWithoutTime_DIRECTORY extends InformationObjectWit
   protected void serializeInformationObjectWithoutTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithoutTime_DIRECTORY");
 
     // Simple Field (nof)
@@ -113,10 +113,9 @@ public class InformationObjectWithoutTime_DIRECTORY extends InformationObjectWit
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithoutTime_DIRECTORY _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nof)
     lengthInBits += nof.getLengthInBits();
@@ -138,7 +137,7 @@ public class InformationObjectWithoutTime_DIRECTORY extends InformationObjectWit
       throws ParseException {
     readBuffer.pullContext("InformationObjectWithoutTime_DIRECTORY");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NameOfFile nof =
         readSimpleField(
@@ -59,7 +59,7 @@ public class InformationObjectWithoutTime_DOUBLE_COMMAND extends InformationObje
   protected void serializeInformationObjectWithoutTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithoutTime_DOUBLE_COMMAND");
 
     // Simple Field (dco)
@@ -75,10 +75,9 @@ public class InformationObjectWithoutTime_DOUBLE_COMMAND extends InformationObje
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithoutTime_DOUBLE_COMMAND _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dco)
     lengthInBits += dco.getLengthInBits();
@@ -91,7 +90,7 @@ public class InformationObjectWithoutTime_DOUBLE_COMMAND extends InformationObje
       throws ParseException {
     readBuffer.pullContext("InformationObjectWithoutTime_DOUBLE_COMMAND");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     DoubleCommand dco =
         readSimpleField(
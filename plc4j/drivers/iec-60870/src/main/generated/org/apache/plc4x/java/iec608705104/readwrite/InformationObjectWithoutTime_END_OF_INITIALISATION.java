@@ -60,7 +60,7 @@ public class InformationObjectWithoutTime_END_OF_INITIALISATION extends Informat
   protected void serializeInformationObjectWithoutTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithoutTime_END_OF_INITIALISATION");
 
     // Simple Field (coi)
@@ -76,10 +76,9 @@ public class InformationObjectWithoutTime_END_OF_INITIALISATION extends Informat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithoutTime_END_OF_INITIALISATION _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (coi)
     lengthInBits += coi.getLengthInBits();
@@ -92,7 +91,7 @@ public class InformationObjectWithoutTime_END_OF_INITIALISATION extends Informat
       throws ParseException {
     readBuffer.pullContext("InformationObjectWithoutTime_END_OF_INITIALISATION");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     CauseOfInitialization coi =
         readSimpleField(
@@ -72,7 +72,7 @@ public class InformationObjectWithoutTime_FILE_READY extends InformationObjectWi
   protected void serializeInformationObjectWithoutTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithoutTime_FILE_READY");
 
     // Simple Field (nof)
@@ -96,10 +96,9 @@ public class InformationObjectWithoutTime_FILE_READY extends InformationObjectWi
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithoutTime_FILE_READY _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nof)
     lengthInBits += nof.getLengthInBits();
@@ -118,7 +117,7 @@ public class InformationObjectWithoutTime_FILE_READY extends InformationObjectWi
       throws ParseException {
     readBuffer.pullContext("InformationObjectWithoutTime_FILE_READY");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NameOfFile nof =
         readSimpleField(
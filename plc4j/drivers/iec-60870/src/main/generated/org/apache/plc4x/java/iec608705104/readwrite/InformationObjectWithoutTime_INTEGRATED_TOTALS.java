@@ -59,7 +59,7 @@ public class InformationObjectWithoutTime_INTEGRATED_TOTALS extends InformationO
   protected void serializeInformationObjectWithoutTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithoutTime_INTEGRATED_TOTALS");
 
     // Simple Field (bcr)
@@ -75,10 +75,9 @@ public class InformationObjectWithoutTime_INTEGRATED_TOTALS extends InformationO
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithoutTime_INTEGRATED_TOTALS _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bcr)
     lengthInBits += bcr.getLengthInBits();
@@ -91,7 +90,7 @@ public class InformationObjectWithoutTime_INTEGRATED_TOTALS extends InformationO
       throws ParseException {
     readBuffer.pullContext("InformationObjectWithoutTime_INTEGRATED_TOTALS");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     BinaryCounterReading bcr =
         readSimpleField(
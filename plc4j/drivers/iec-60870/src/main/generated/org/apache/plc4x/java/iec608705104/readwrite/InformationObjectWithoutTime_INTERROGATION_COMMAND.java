@@ -60,7 +60,7 @@ public class InformationObjectWithoutTime_INTERROGATION_COMMAND extends Informat
   protected void serializeInformationObjectWithoutTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithoutTime_INTERROGATION_COMMAND");
 
     // Simple Field (qoi)
@@ -76,10 +76,9 @@ public class InformationObjectWithoutTime_INTERROGATION_COMMAND extends Informat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithoutTime_INTERROGATION_COMMAND _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (qoi)
     lengthInBits += qoi.getLengthInBits();
@@ -92,7 +91,7 @@ public class InformationObjectWithoutTime_INTERROGATION_COMMAND extends Informat
       throws ParseException {
     readBuffer.pullContext("InformationObjectWithoutTime_INTERROGATION_COMMAND");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     QualifierOfInterrogation qoi =
         readSimpleField(
@@ -82,7 +82,7 @@ public class InformationObjectWithoutTime_LAST_SECTION_LAST_SEGMENT
   protected void serializeInformationObjectWithoutTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithoutTime_LAST_SECTION_LAST_SEGMENT");
 
     // Simple Field (nof)
@@ -110,10 +110,9 @@ public class InformationObjectWithoutTime_LAST_SECTION_LAST_SEGMENT
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithoutTime_LAST_SECTION_LAST_SEGMENT _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nof)
     lengthInBits += nof.getLengthInBits();
@@ -135,7 +134,7 @@ public class InformationObjectWithoutTime_LAST_SECTION_LAST_SEGMENT
       throws ParseException {
     readBuffer.pullContext("InformationObjectWithoutTime_LAST_SECTION_LAST_SEGMENT");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NameOfFile nof =
         readSimpleField(
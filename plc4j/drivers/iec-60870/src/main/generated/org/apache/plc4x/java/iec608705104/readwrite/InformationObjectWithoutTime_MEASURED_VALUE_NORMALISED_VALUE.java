@@ -66,7 +66,7 @@ public class InformationObjectWithoutTime_MEASURED_VALUE_NORMALISED_VALUE
   protected void serializeInformationObjectWithoutTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithoutTime_MEASURED_VALUE_NORMALISED_VALUE");
 
     // Simple Field (nva)
@@ -86,10 +86,9 @@ public class InformationObjectWithoutTime_MEASURED_VALUE_NORMALISED_VALUE
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithoutTime_MEASURED_VALUE_NORMALISED_VALUE _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nva)
     lengthInBits += nva.getLengthInBits();
@@ -105,7 +104,7 @@ public class InformationObjectWithoutTime_MEASURED_VALUE_NORMALISED_VALUE
       throws ParseException {
     readBuffer.pullContext("InformationObjectWithoutTime_MEASURED_VALUE_NORMALISED_VALUE");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NormalizedValue nva =
         readSimpleField(
@@ -66,7 +66,7 @@ public class InformationObjectWithoutTime_MEASURED_VALUE_SHORT_FLOATING_POINT_NU
   protected void serializeInformationObjectWithoutTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext(
         "InformationObjectWithoutTime_MEASURED_VALUE_SHORT_FLOATING_POINT_NUMBER");
 
@@ -91,10 +91,9 @@ public class InformationObjectWithoutTime_MEASURED_VALUE_SHORT_FLOATING_POINT_NU
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithoutTime_MEASURED_VALUE_SHORT_FLOATING_POINT_NUMBER _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (value)
     lengthInBits += 32;
@@ -111,7 +110,7 @@ public class InformationObjectWithoutTime_MEASURED_VALUE_SHORT_FLOATING_POINT_NU
     readBuffer.pullContext(
         "InformationObjectWithoutTime_MEASURED_VALUE_SHORT_FLOATING_POINT_NUMBER");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     float value =
         readSimpleField(
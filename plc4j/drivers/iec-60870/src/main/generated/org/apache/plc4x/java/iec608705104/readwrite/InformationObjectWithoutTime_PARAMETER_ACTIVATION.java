@@ -60,7 +60,7 @@ public class InformationObjectWithoutTime_PARAMETER_ACTIVATION extends Informati
   protected void serializeInformationObjectWithoutTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithoutTime_PARAMETER_ACTIVATION");
 
     // Simple Field (qpa)
@@ -76,10 +76,9 @@ public class InformationObjectWithoutTime_PARAMETER_ACTIVATION extends Informati
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithoutTime_PARAMETER_ACTIVATION _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (qpa)
     lengthInBits += qpa.getLengthInBits();
@@ -92,7 +91,7 @@ public class InformationObjectWithoutTime_PARAMETER_ACTIVATION extends Informati
       throws ParseException {
     readBuffer.pullContext("InformationObjectWithoutTime_PARAMETER_ACTIVATION");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     QualifierOfParameterActivation qpa =
         readSimpleField(
@@ -66,7 +66,7 @@ public class InformationObjectWithoutTime_PARAMETER_OF_MEASURED_VALUES_SCALED_VA
   protected void serializeInformationObjectWithoutTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext(
         "InformationObjectWithoutTime_PARAMETER_OF_MEASURED_VALUES_SCALED_VALUE");
 
@@ -88,10 +88,9 @@ public class InformationObjectWithoutTime_PARAMETER_OF_MEASURED_VALUES_SCALED_VA
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithoutTime_PARAMETER_OF_MEASURED_VALUES_SCALED_VALUE _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sva)
     lengthInBits += sva.getLengthInBits();
@@ -108,7 +107,7 @@ public class InformationObjectWithoutTime_PARAMETER_OF_MEASURED_VALUES_SCALED_VA
     readBuffer.pullContext(
         "InformationObjectWithoutTime_PARAMETER_OF_MEASURED_VALUES_SCALED_VALUE");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ScaledValue sva =
         readSimpleField(
@@ -51,7 +51,7 @@ public class InformationObjectWithoutTime_READ_COMMAND extends InformationObject
   protected void serializeInformationObjectWithoutTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithoutTime_READ_COMMAND");
 
     writeBuffer.popContext("InformationObjectWithoutTime_READ_COMMAND");
@@ -63,12 +63,9 @@ public class InformationObjectWithoutTime_READ_COMMAND extends InformationObject
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    InformationObjectWithoutTime_READ_COMMAND _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static InformationObjectWithoutTimeBuilder staticParseInformationObjectWithoutTimeBuilder(
@@ -76,7 +73,7 @@ public class InformationObjectWithoutTime_READ_COMMAND extends InformationObject
       throws ParseException {
     readBuffer.pullContext("InformationObjectWithoutTime_READ_COMMAND");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("InformationObjectWithoutTime_READ_COMMAND");
     // Create the instance
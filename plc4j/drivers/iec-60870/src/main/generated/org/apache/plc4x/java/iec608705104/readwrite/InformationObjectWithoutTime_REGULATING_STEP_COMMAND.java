@@ -60,7 +60,7 @@ public class InformationObjectWithoutTime_REGULATING_STEP_COMMAND
   protected void serializeInformationObjectWithoutTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithoutTime_REGULATING_STEP_COMMAND");
 
     // Simple Field (rco)
@@ -76,10 +76,9 @@ public class InformationObjectWithoutTime_REGULATING_STEP_COMMAND
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithoutTime_REGULATING_STEP_COMMAND _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (rco)
     lengthInBits += rco.getLengthInBits();
@@ -92,7 +91,7 @@ public class InformationObjectWithoutTime_REGULATING_STEP_COMMAND
       throws ParseException {
     readBuffer.pullContext("InformationObjectWithoutTime_REGULATING_STEP_COMMAND");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     RegulatingStepCommand rco =
         readSimpleField(
@@ -60,7 +60,7 @@ public class InformationObjectWithoutTime_RESET_PROCESS_COMMAND extends Informat
   protected void serializeInformationObjectWithoutTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithoutTime_RESET_PROCESS_COMMAND");
 
     // Simple Field (qrp)
@@ -76,10 +76,9 @@ public class InformationObjectWithoutTime_RESET_PROCESS_COMMAND extends Informat
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithoutTime_RESET_PROCESS_COMMAND _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (qrp)
     lengthInBits += qrp.getLengthInBits();
@@ -92,7 +91,7 @@ public class InformationObjectWithoutTime_RESET_PROCESS_COMMAND extends Informat
       throws ParseException {
     readBuffer.pullContext("InformationObjectWithoutTime_RESET_PROCESS_COMMAND");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     QualifierOfResetProcessCommand qrp =
         readSimpleField(
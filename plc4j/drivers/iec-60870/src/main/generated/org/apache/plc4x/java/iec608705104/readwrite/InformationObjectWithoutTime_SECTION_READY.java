@@ -78,7 +78,7 @@ public class InformationObjectWithoutTime_SECTION_READY extends InformationObjec
   protected void serializeInformationObjectWithoutTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithoutTime_SECTION_READY");
 
     // Simple Field (nof)
@@ -106,10 +106,9 @@ public class InformationObjectWithoutTime_SECTION_READY extends InformationObjec
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithoutTime_SECTION_READY _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nof)
     lengthInBits += nof.getLengthInBits();
@@ -131,7 +130,7 @@ public class InformationObjectWithoutTime_SECTION_READY extends InformationObjec
       throws ParseException {
     readBuffer.pullContext("InformationObjectWithoutTime_SECTION_READY");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NameOfFile nof =
         readSimpleField(
@@ -60,7 +60,7 @@ public class InformationObjectWithoutTime_SINGLE_POINT_INFORMATION
   protected void serializeInformationObjectWithoutTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithoutTime_SINGLE_POINT_INFORMATION");
 
     // Simple Field (siq)
@@ -76,10 +76,9 @@ public class InformationObjectWithoutTime_SINGLE_POINT_INFORMATION
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithoutTime_SINGLE_POINT_INFORMATION _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (siq)
     lengthInBits += siq.getLengthInBits();
@@ -92,7 +91,7 @@ public class InformationObjectWithoutTime_SINGLE_POINT_INFORMATION
       throws ParseException {
     readBuffer.pullContext("InformationObjectWithoutTime_SINGLE_POINT_INFORMATION");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     SinglePointInformation siq =
         readSimpleField(
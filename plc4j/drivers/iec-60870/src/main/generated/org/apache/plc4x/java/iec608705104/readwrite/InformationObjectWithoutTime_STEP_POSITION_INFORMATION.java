@@ -66,7 +66,7 @@ public class InformationObjectWithoutTime_STEP_POSITION_INFORMATION
   protected void serializeInformationObjectWithoutTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithoutTime_STEP_POSITION_INFORMATION");
 
     // Simple Field (vti)
@@ -86,10 +86,9 @@ public class InformationObjectWithoutTime_STEP_POSITION_INFORMATION
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithoutTime_STEP_POSITION_INFORMATION _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (vti)
     lengthInBits += vti.getLengthInBits();
@@ -105,7 +104,7 @@ public class InformationObjectWithoutTime_STEP_POSITION_INFORMATION
       throws ParseException {
     readBuffer.pullContext("InformationObjectWithoutTime_STEP_POSITION_INFORMATION");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ValueWithTransientStateIndication vti =
         readSimpleField(
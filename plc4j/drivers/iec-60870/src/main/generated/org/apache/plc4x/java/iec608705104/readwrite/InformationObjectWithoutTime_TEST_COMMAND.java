@@ -59,7 +59,7 @@ public class InformationObjectWithoutTime_TEST_COMMAND extends InformationObject
   protected void serializeInformationObjectWithoutTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("InformationObjectWithoutTime_TEST_COMMAND");
 
     // Simple Field (fbp)
@@ -75,10 +75,9 @@ public class InformationObjectWithoutTime_TEST_COMMAND extends InformationObject
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     InformationObjectWithoutTime_TEST_COMMAND _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (fbp)
     lengthInBits += fbp.getLengthInBits();
@@ -91,7 +90,7 @@ public class InformationObjectWithoutTime_TEST_COMMAND extends InformationObject
       throws ParseException {
     readBuffer.pullContext("InformationObjectWithoutTime_TEST_COMMAND");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     FixedTestBitPatternTwoOctet fbp =
         readSimpleField(
@@ -43,7 +43,7 @@ public class LengthOfSegment implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("LengthOfSegment");
 
     writeBuffer.popContext("LengthOfSegment");
@@ -56,17 +56,18 @@ public class LengthOfSegment implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    LengthOfSegment _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 0;
   }
 
   public static LengthOfSegment staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("LengthOfSegment");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("LengthOfSegment");
     // Create the instance
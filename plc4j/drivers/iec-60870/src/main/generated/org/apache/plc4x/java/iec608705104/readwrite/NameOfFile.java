@@ -43,7 +43,7 @@ public class NameOfFile implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NameOfFile");
 
     writeBuffer.popContext("NameOfFile");
@@ -56,17 +56,18 @@ public class NameOfFile implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    NameOfFile _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 0;
   }
 
   public static NameOfFile staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("NameOfFile");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("NameOfFile");
     // Create the instance
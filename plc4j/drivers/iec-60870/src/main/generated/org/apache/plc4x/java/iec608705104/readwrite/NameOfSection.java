@@ -43,7 +43,7 @@ public class NameOfSection implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NameOfSection");
 
     writeBuffer.popContext("NameOfSection");
@@ -56,17 +56,18 @@ public class NameOfSection implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    NameOfSection _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 0;
   }
 
   public static NameOfSection staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("NameOfSection");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("NameOfSection");
     // Create the instance
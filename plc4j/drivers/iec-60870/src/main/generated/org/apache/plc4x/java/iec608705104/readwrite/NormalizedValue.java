@@ -51,7 +51,7 @@ public class NormalizedValue implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NormalizedValue");
 
     // Simple Field (value)
@@ -71,20 +71,18 @@ public class NormalizedValue implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    NormalizedValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (value)
-    lengthInBits += 16;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static NormalizedValue staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("NormalizedValue");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int value =
         readSimpleField(
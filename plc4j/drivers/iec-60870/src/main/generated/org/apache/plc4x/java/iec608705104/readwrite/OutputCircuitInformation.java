@@ -73,7 +73,7 @@ public class OutputCircuitInformation implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OutputCircuitInformation");
 
     // Reserved Field (reserved)
@@ -121,32 +121,18 @@ public class OutputCircuitInformation implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    OutputCircuitInformation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Reserved Field (reserved)
-    lengthInBits += 4;
-
-    // Simple field (stateOfOperationPhaseL3)
-    lengthInBits += 1;
-
-    // Simple field (stateOfOperationPhaseL2)
-    lengthInBits += 1;
-
-    // Simple field (stateOfOperationPhaseL1)
-    lengthInBits += 1;
-
-    // Simple field (generalStartOfOperation)
-    lengthInBits += 1;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static OutputCircuitInformation staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("OutputCircuitInformation");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Byte reservedField0 =
         readReservedField(
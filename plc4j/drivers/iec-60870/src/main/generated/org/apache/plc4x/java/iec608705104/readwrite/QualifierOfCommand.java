@@ -57,7 +57,7 @@ public class QualifierOfCommand implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("QualifierOfCommand");
 
     // Simple Field (select)
@@ -84,23 +84,18 @@ public class QualifierOfCommand implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    QualifierOfCommand _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (select)
-    lengthInBits += 1;
-
-    // Simple field (qualifier)
-    lengthInBits += 5;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 6;
   }
 
   public static QualifierOfCommand staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("QualifierOfCommand");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean select =
         readSimpleField(
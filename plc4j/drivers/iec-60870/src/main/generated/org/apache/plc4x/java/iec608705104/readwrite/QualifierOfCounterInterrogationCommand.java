@@ -57,7 +57,7 @@ public class QualifierOfCounterInterrogationCommand implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("QualifierOfCounterInterrogationCommand");
 
     // Simple Field (freeze)
@@ -84,24 +84,19 @@ public class QualifierOfCounterInterrogationCommand implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    QualifierOfCounterInterrogationCommand _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (freeze)
-    lengthInBits += 2;
-
-    // Simple field (request)
-    lengthInBits += 6;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static QualifierOfCounterInterrogationCommand staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("QualifierOfCounterInterrogationCommand");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte freeze =
         readSimpleField(
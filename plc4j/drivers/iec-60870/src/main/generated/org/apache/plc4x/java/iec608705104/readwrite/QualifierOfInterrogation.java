@@ -51,7 +51,7 @@ public class QualifierOfInterrogation implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("QualifierOfInterrogation");
 
     // Simple Field (qualifierOfCommand)
@@ -71,20 +71,18 @@ public class QualifierOfInterrogation implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    QualifierOfInterrogation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (qualifierOfCommand)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static QualifierOfInterrogation staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("QualifierOfInterrogation");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short qualifierOfCommand =
         readSimpleField(
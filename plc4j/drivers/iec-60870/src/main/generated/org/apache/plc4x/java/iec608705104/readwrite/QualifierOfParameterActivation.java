@@ -51,7 +51,7 @@ public class QualifierOfParameterActivation implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("QualifierOfParameterActivation");
 
     // Simple Field (qualifier)
@@ -71,21 +71,19 @@ public class QualifierOfParameterActivation implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    QualifierOfParameterActivation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (qualifier)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static QualifierOfParameterActivation staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("QualifierOfParameterActivation");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short qualifier =
         readSimpleField(
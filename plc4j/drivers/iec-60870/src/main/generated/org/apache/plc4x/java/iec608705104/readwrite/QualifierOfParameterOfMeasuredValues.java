@@ -64,7 +64,7 @@ public class QualifierOfParameterOfMeasuredValues implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("QualifierOfParameterOfMeasuredValues");
 
     // Simple Field (parameterInOperation)
@@ -98,27 +98,19 @@ public class QualifierOfParameterOfMeasuredValues implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    QualifierOfParameterOfMeasuredValues _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (parameterInOperation)
-    lengthInBits += 1;
-
-    // Simple field (localParameterChange)
-    lengthInBits += 1;
-
-    // Simple field (kindOfParameter)
-    lengthInBits += 6;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static QualifierOfParameterOfMeasuredValues staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("QualifierOfParameterOfMeasuredValues");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean parameterInOperation =
         readSimpleField(
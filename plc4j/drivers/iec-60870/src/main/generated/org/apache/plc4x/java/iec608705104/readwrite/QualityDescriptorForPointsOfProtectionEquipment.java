@@ -80,7 +80,7 @@ public class QualityDescriptorForPointsOfProtectionEquipment implements Message
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("QualityDescriptorForPointsOfProtectionEquipment");
 
     // Simple Field (invalid)
@@ -135,36 +135,19 @@ public class QualityDescriptorForPointsOfProtectionEquipment implements Message
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    QualityDescriptorForPointsOfProtectionEquipment _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (invalid)
-    lengthInBits += 1;
-
-    // Simple field (notTopical)
-    lengthInBits += 1;
-
-    // Simple field (substituted)
-    lengthInBits += 1;
-
-    // Simple field (blocked)
-    lengthInBits += 1;
-
-    // Simple field (elapsedTimeInvalid)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 3;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static QualityDescriptorForPointsOfProtectionEquipment staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("QualityDescriptorForPointsOfProtectionEquipment");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean invalid =
         readSimpleField(
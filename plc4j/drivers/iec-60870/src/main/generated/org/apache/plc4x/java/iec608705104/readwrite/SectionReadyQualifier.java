@@ -43,7 +43,7 @@ public class SectionReadyQualifier implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SectionReadyQualifier");
 
     writeBuffer.popContext("SectionReadyQualifier");
@@ -56,17 +56,18 @@ public class SectionReadyQualifier implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    SectionReadyQualifier _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 0;
   }
 
   public static SectionReadyQualifier staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("SectionReadyQualifier");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("SectionReadyQualifier");
     // Create the instance
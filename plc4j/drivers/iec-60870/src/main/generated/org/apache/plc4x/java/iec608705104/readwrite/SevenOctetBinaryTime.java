@@ -115,7 +115,7 @@ public class SevenOctetBinaryTime implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SevenOctetBinaryTime");
 
     // Simple Field (milliseconds)
@@ -219,56 +219,18 @@ public class SevenOctetBinaryTime implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    SevenOctetBinaryTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (milliseconds)
-    lengthInBits += 16;
-
-    // Simple field (invalid)
-    lengthInBits += 1;
-
-    // Simple field (substituted)
-    lengthInBits += 1;
-
-    // Simple field (minutes)
-    lengthInBits += 6;
-
-    // Simple field (daylightSaving)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 2;
-
-    // Simple field (hour)
-    lengthInBits += 5;
-
-    // Simple field (dayOfWeek)
-    lengthInBits += 3;
-
-    // Simple field (day)
-    lengthInBits += 5;
-
-    // Reserved Field (reserved)
-    lengthInBits += 4;
-
-    // Simple field (month)
-    lengthInBits += 4;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Simple field (year)
-    lengthInBits += 7;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 56;
   }
 
   public static SevenOctetBinaryTime staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("SevenOctetBinaryTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int milliseconds =
         readSimpleField(
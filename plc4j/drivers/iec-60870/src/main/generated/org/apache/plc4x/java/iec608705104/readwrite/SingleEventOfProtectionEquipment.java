@@ -87,7 +87,7 @@ public class SingleEventOfProtectionEquipment implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SingleEventOfProtectionEquipment");
 
     // Simple Field (invalid)
@@ -149,39 +149,19 @@ public class SingleEventOfProtectionEquipment implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    SingleEventOfProtectionEquipment _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (invalid)
-    lengthInBits += 1;
-
-    // Simple field (notTopical)
-    lengthInBits += 1;
-
-    // Simple field (substituted)
-    lengthInBits += 1;
-
-    // Simple field (blocked)
-    lengthInBits += 1;
-
-    // Simple field (elapsedTimeInvalid)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Simple field (eventState)
-    lengthInBits += 2;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static SingleEventOfProtectionEquipment staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("SingleEventOfProtectionEquipment");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean invalid =
         readSimpleField(
@@ -87,7 +87,7 @@ public class StartEventsOfProtectionEquipment implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("StartEventsOfProtectionEquipment");
 
     // Reserved Field (reserved)
@@ -149,39 +149,19 @@ public class StartEventsOfProtectionEquipment implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    StartEventsOfProtectionEquipment _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Reserved Field (reserved)
-    lengthInBits += 2;
-
-    // Simple field (startOfOperationInReverseDirection)
-    lengthInBits += 1;
-
-    // Simple field (startOfOperationIE)
-    lengthInBits += 1;
-
-    // Simple field (stateOfOperationPhaseL3)
-    lengthInBits += 1;
-
-    // Simple field (stateOfOperationPhaseL2)
-    lengthInBits += 1;
-
-    // Simple field (stateOfOperationPhaseL1)
-    lengthInBits += 1;
-
-    // Simple field (generalStartOfOperation)
-    lengthInBits += 1;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static StartEventsOfProtectionEquipment staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("StartEventsOfProtectionEquipment");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Byte reservedField0 =
         readReservedField(
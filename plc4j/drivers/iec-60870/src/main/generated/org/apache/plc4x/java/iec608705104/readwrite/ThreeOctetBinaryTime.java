@@ -63,7 +63,7 @@ public class ThreeOctetBinaryTime implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ThreeOctetBinaryTime");
 
     // Simple Field (milliseconds)
@@ -104,29 +104,18 @@ public class ThreeOctetBinaryTime implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    ThreeOctetBinaryTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (milliseconds)
-    lengthInBits += 16;
-
-    // Simple field (invalid)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Simple field (minutes)
-    lengthInBits += 6;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 24;
   }
 
   public static ThreeOctetBinaryTime staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("ThreeOctetBinaryTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int milliseconds =
         readSimpleField(
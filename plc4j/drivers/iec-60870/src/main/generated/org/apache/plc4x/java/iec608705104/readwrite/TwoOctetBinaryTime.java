@@ -51,7 +51,7 @@ public class TwoOctetBinaryTime implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TwoOctetBinaryTime");
 
     // Simple Field (milliseconds)
@@ -71,20 +71,18 @@ public class TwoOctetBinaryTime implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    TwoOctetBinaryTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (milliseconds)
-    lengthInBits += 16;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static TwoOctetBinaryTime staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("TwoOctetBinaryTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int milliseconds =
         readSimpleField(
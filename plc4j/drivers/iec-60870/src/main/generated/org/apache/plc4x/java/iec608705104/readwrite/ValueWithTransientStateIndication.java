@@ -57,7 +57,7 @@ public class ValueWithTransientStateIndication implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ValueWithTransientStateIndication");
 
     // Simple Field (transientState)
@@ -84,24 +84,19 @@ public class ValueWithTransientStateIndication implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    ValueWithTransientStateIndication _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (transientState)
-    lengthInBits += 1;
-
-    // Simple field (value)
-    lengthInBits += 7;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static ValueWithTransientStateIndication staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("ValueWithTransientStateIndication");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean transientState =
         readSimpleField(
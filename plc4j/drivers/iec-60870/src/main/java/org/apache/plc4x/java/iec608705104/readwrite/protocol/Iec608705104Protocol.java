@@ -85,6 +85,7 @@ public class Iec608705104Protocol extends Plc4xProtocolBase<APDU> implements Has
 
     @Override
     public void onConnect(ConversationContext<APDU> context) {
+        useDriverRuntimeExecutor(tm);
         // First we exchange a test-frame
         APDUUFormatTestFrameActivation testFrameActivation = new APDUUFormatTestFrameActivation(0x43);
         RequestTransactionManager.RequestTransaction testFrameTx = tm.startRequest();
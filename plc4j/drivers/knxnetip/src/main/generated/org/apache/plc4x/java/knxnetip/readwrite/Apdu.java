@@ -62,7 +62,7 @@ public abstract class Apdu implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("Apdu");
 
     // Discriminator Field (control) (Used as input to a switch field)
@@ -85,30 +85,28 @@ public abstract class Apdu implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    Apdu _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Discriminator Field (control)
-    lengthInBits += 1;
-
-    // Simple field (numbered)
-    lengthInBits += 1;
-
-    // Simple field (counter)
-    lengthInBits += 4;
-
-    // Length of sub-type elements will be added by sub-type...
-
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
     return lengthInBits;
   }
 
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 6;
+  }
+
   public static Apdu staticParse(ReadBuffer readBuffer, Short dataLength) throws ParseException {
     readBuffer.pullContext("Apdu");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte control = readDiscriminatorField("control", readUnsignedByte(readBuffer, 1));
 
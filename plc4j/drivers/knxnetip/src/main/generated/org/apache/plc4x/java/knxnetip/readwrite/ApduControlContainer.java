@@ -57,7 +57,7 @@ public class ApduControlContainer extends Apdu implements Message {
   @Override
   protected void serializeApduChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ApduControlContainer");
 
     // Simple Field (controlApdu)
@@ -72,10 +72,9 @@ public class ApduControlContainer extends Apdu implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ApduControlContainer _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (controlApdu)
     lengthInBits += controlApdu.getLengthInBits();
@@ -87,7 +86,7 @@ public class ApduControlContainer extends Apdu implements Message {
       throws ParseException {
     readBuffer.pullContext("ApduControlContainer");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ApduControl controlApdu =
         readSimpleField(
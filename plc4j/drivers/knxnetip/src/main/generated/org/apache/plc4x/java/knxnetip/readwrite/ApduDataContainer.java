@@ -57,7 +57,7 @@ public class ApduDataContainer extends Apdu implements Message {
   @Override
   protected void serializeApduChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ApduDataContainer");
 
     // Simple Field (dataApdu)
@@ -72,10 +72,9 @@ public class ApduDataContainer extends Apdu implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ApduDataContainer _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dataApdu)
     lengthInBits += dataApdu.getLengthInBits();
@@ -87,7 +86,7 @@ public class ApduDataContainer extends Apdu implements Message {
       throws ParseException {
     readBuffer.pullContext("ApduDataContainer");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ApduData dataApdu =
         readSimpleField(
@@ -63,7 +63,7 @@ public class ApduDataDeviceDescriptorResponse extends ApduData implements Messag
   @Override
   protected void serializeApduDataChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ApduDataDeviceDescriptorResponse");
 
     // Simple Field (descriptorType)
@@ -81,10 +81,9 @@ public class ApduDataDeviceDescriptorResponse extends ApduData implements Messag
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ApduDataDeviceDescriptorResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (descriptorType)
     lengthInBits += 6;
@@ -101,7 +100,7 @@ public class ApduDataDeviceDescriptorResponse extends ApduData implements Messag
       throws ParseException {
     readBuffer.pullContext("ApduDataDeviceDescriptorResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte descriptorType = readSimpleField("descriptorType", readUnsignedByte(readBuffer, 6));
 
@@ -63,7 +63,7 @@ public class ApduDataExtAuthorizeRequest extends ApduDataExt implements Message
   @Override
   protected void serializeApduDataExtChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ApduDataExtAuthorizeRequest");
 
     // Simple Field (level)
@@ -81,10 +81,9 @@ public class ApduDataExtAuthorizeRequest extends ApduDataExt implements Message
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ApduDataExtAuthorizeRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (level)
     lengthInBits += 8;
@@ -101,7 +100,7 @@ public class ApduDataExtAuthorizeRequest extends ApduDataExt implements Message
       ReadBuffer readBuffer, Short length) throws ParseException {
     readBuffer.pullContext("ApduDataExtAuthorizeRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short level = readSimpleField("level", readUnsignedShort(readBuffer, 8));
 
@@ -69,7 +69,7 @@ public class ApduDataExtPropertyDescriptionRead extends ApduDataExt implements M
   @Override
   protected void serializeApduDataExtChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ApduDataExtPropertyDescriptionRead");
 
     // Simple Field (objectIndex)
@@ -90,28 +90,16 @@ public class ApduDataExtPropertyDescriptionRead extends ApduDataExt implements M
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ApduDataExtPropertyDescriptionRead _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (objectIndex)
-    lengthInBits += 8;
-
-    // Simple field (propertyId)
-    lengthInBits += 8;
-
-    // Simple field (index)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 24;
   }
 
   public static ApduDataExtBuilder staticParseApduDataExtBuilder(
       ReadBuffer readBuffer, Short length) throws ParseException {
     readBuffer.pullContext("ApduDataExtPropertyDescriptionRead");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short objectIndex = readSimpleField("objectIndex", readUnsignedShort(readBuffer, 8));
 
@@ -107,7 +107,7 @@ public class ApduDataExtPropertyDescriptionResponse extends ApduDataExt implemen
   @Override
   protected void serializeApduDataExtChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ApduDataExtPropertyDescriptionResponse");
 
     // Simple Field (objectIndex)
@@ -164,49 +164,16 @@ public class ApduDataExtPropertyDescriptionResponse extends ApduDataExt implemen
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ApduDataExtPropertyDescriptionResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (objectIndex)
-    lengthInBits += 8;
-
-    // Simple field (propertyId)
-    lengthInBits += 8;
-
-    // Simple field (index)
-    lengthInBits += 8;
-
-    // Simple field (writeEnabled)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Simple field (propertyDataType)
-    lengthInBits += 8;
-
-    // Reserved Field (reserved)
-    lengthInBits += 4;
-
-    // Simple field (maxNrOfElements)
-    lengthInBits += 12;
-
-    // Simple field (readLevel)
-    lengthInBits += 4;
-
-    // Simple field (writeLevel)
-    lengthInBits += 4;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 58;
   }
 
   public static ApduDataExtBuilder staticParseApduDataExtBuilder(
       ReadBuffer readBuffer, Short length) throws ParseException {
     readBuffer.pullContext("ApduDataExtPropertyDescriptionResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short objectIndex = readSimpleField("objectIndex", readUnsignedShort(readBuffer, 8));
 
@@ -63,7 +63,7 @@ public class ApduDataGroupValueResponse extends ApduData implements Message {
   @Override
   protected void serializeApduDataChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ApduDataGroupValueResponse");
 
     // Simple Field (dataFirstByte)
@@ -81,10 +81,9 @@ public class ApduDataGroupValueResponse extends ApduData implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ApduDataGroupValueResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dataFirstByte)
     lengthInBits += 6;
@@ -101,7 +100,7 @@ public class ApduDataGroupValueResponse extends ApduData implements Message {
       throws ParseException {
     readBuffer.pullContext("ApduDataGroupValueResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte dataFirstByte = readSimpleField("dataFirstByte", readSignedByte(readBuffer, 6));
 
@@ -63,7 +63,7 @@ public class ApduDataMemoryResponse extends ApduData implements Message {
   @Override
   protected void serializeApduDataChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ApduDataMemoryResponse");
 
     // Implicit Field (numBytes) (Used for parsing, but its value is not stored as it's implicitly
@@ -86,10 +86,9 @@ public class ApduDataMemoryResponse extends ApduData implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ApduDataMemoryResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (numBytes)
     lengthInBits += 6;
@@ -109,7 +108,7 @@ public class ApduDataMemoryResponse extends ApduData implements Message {
       throws ParseException {
     readBuffer.pullContext("ApduDataMemoryResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte numBytes = readImplicitField("numBytes", readUnsignedByte(readBuffer, 6));
 
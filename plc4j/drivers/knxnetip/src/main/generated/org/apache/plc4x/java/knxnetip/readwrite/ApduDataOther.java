@@ -57,7 +57,7 @@ public class ApduDataOther extends ApduData implements Message {
   @Override
   protected void serializeApduDataChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ApduDataOther");
 
     // Simple Field (extendedApdu)
@@ -72,10 +72,9 @@ public class ApduDataOther extends ApduData implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ApduDataOther _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (extendedApdu)
     lengthInBits += extendedApdu.getLengthInBits();
@@ -87,7 +86,7 @@ public class ApduDataOther extends ApduData implements Message {
       throws ParseException {
     readBuffer.pullContext("ApduDataOther");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ApduDataExt extendedApdu =
         readSimpleField(
@@ -102,7 +102,7 @@ public class CEMIAdditionalInformationBusmonitorInfo extends CEMIAdditionalInfor
   protected void serializeCEMIAdditionalInformationChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CEMIAdditionalInformationBusmonitorInfo");
 
     // Const Field (len)
@@ -135,40 +135,16 @@ public class CEMIAdditionalInformationBusmonitorInfo extends CEMIAdditionalInfor
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    CEMIAdditionalInformationBusmonitorInfo _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (len)
-    lengthInBits += 8;
-
-    // Simple field (frameErrorFlag)
-    lengthInBits += 1;
-
-    // Simple field (bitErrorFlag)
-    lengthInBits += 1;
-
-    // Simple field (parityErrorFlag)
-    lengthInBits += 1;
-
-    // Simple field (unknownFlag)
-    lengthInBits += 1;
-
-    // Simple field (lostFlag)
-    lengthInBits += 1;
-
-    // Simple field (sequenceNumber)
-    lengthInBits += 3;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 16;
   }
 
   public static CEMIAdditionalInformationBuilder staticParseCEMIAdditionalInformationBuilder(
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("CEMIAdditionalInformationBusmonitorInfo");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short len =
         readConstField(
@@ -66,7 +66,7 @@ public class CEMIAdditionalInformationRelativeTimestamp extends CEMIAdditionalIn
   protected void serializeCEMIAdditionalInformationChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CEMIAdditionalInformationRelativeTimestamp");
 
     // Const Field (len)
@@ -84,10 +84,9 @@ public class CEMIAdditionalInformationRelativeTimestamp extends CEMIAdditionalIn
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CEMIAdditionalInformationRelativeTimestamp _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (len)
     lengthInBits += 8;
@@ -102,7 +101,7 @@ public class CEMIAdditionalInformationRelativeTimestamp extends CEMIAdditionalIn
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("CEMIAdditionalInformationRelativeTimestamp");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short len =
         readConstField(
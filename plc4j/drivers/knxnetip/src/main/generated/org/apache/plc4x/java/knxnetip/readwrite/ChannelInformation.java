@@ -57,7 +57,7 @@ public class ChannelInformation implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ChannelInformation");
 
     // Simple Field (numChannels)
@@ -76,23 +76,18 @@ public class ChannelInformation implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    ChannelInformation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (numChannels)
-    lengthInBits += 3;
-
-    // Simple field (channelCode)
-    lengthInBits += 13;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static ChannelInformation staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("ChannelInformation");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte numChannels = readSimpleField("numChannels", readUnsignedByte(readBuffer, 3));
 
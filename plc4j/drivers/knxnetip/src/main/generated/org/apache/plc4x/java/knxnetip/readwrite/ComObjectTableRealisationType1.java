@@ -73,7 +73,7 @@ public class ComObjectTableRealisationType1 extends ComObjectTable implements Me
   protected void serializeComObjectTableChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ComObjectTableRealisationType1");
 
     // Simple Field (numEntries)
@@ -95,10 +95,9 @@ public class ComObjectTableRealisationType1 extends ComObjectTable implements Me
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ComObjectTableRealisationType1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (numEntries)
     lengthInBits += 8;
@@ -110,8 +109,7 @@ public class ComObjectTableRealisationType1 extends ComObjectTable implements Me
     if (comObjectDescriptors != null) {
       int i = 0;
       for (GroupObjectDescriptorRealisationType1 element : comObjectDescriptors) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= comObjectDescriptors.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= comObjectDescriptors.size());
       }
     }
 
@@ -122,7 +120,7 @@ public class ComObjectTableRealisationType1 extends ComObjectTable implements Me
       ReadBuffer readBuffer, FirmwareType firmwareType) throws ParseException {
     readBuffer.pullContext("ComObjectTableRealisationType1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short numEntries = readSimpleField("numEntries", readUnsignedShort(readBuffer, 8));
 
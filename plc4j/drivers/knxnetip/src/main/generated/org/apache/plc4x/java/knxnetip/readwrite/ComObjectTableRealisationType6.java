@@ -59,7 +59,7 @@ public class ComObjectTableRealisationType6 extends ComObjectTable implements Me
   protected void serializeComObjectTableChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ComObjectTableRealisationType6");
 
     // Simple Field (comObjectDescriptors)
@@ -74,10 +74,9 @@ public class ComObjectTableRealisationType6 extends ComObjectTable implements Me
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ComObjectTableRealisationType6 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (comObjectDescriptors)
     lengthInBits += comObjectDescriptors.getLengthInBits();
@@ -89,7 +88,7 @@ public class ComObjectTableRealisationType6 extends ComObjectTable implements Me
       ReadBuffer readBuffer, FirmwareType firmwareType) throws ParseException {
     readBuffer.pullContext("ComObjectTableRealisationType6");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     GroupObjectDescriptorRealisationType6 comObjectDescriptors =
         readSimpleField(
@@ -73,7 +73,7 @@ public class ConnectionRequest extends KnxNetIpMessage implements Message {
   protected void serializeKnxNetIpMessageChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ConnectionRequest");
 
     // Simple Field (hpaiDiscoveryEndpoint)
@@ -106,10 +106,9 @@ public class ConnectionRequest extends KnxNetIpMessage implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ConnectionRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (hpaiDiscoveryEndpoint)
     lengthInBits += hpaiDiscoveryEndpoint.getLengthInBits();
@@ -127,7 +126,7 @@ public class ConnectionRequest extends KnxNetIpMessage implements Message {
       throws ParseException {
     readBuffer.pullContext("ConnectionRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     HPAIDiscoveryEndpoint hpaiDiscoveryEndpoint =
         readSimpleField(
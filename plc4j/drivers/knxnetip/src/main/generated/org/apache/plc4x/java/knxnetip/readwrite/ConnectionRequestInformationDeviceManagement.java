@@ -51,7 +51,7 @@ public class ConnectionRequestInformationDeviceManagement extends ConnectionRequ
   protected void serializeConnectionRequestInformationChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ConnectionRequestInformationDeviceManagement");
 
     writeBuffer.popContext("ConnectionRequestInformationDeviceManagement");
@@ -63,19 +63,16 @@ public class ConnectionRequestInformationDeviceManagement extends ConnectionRequ
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ConnectionRequestInformationDeviceManagement _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static ConnectionRequestInformationBuilder staticParseConnectionRequestInformationBuilder(
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("ConnectionRequestInformationDeviceManagement");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("ConnectionRequestInformationDeviceManagement");
     // Create the instance
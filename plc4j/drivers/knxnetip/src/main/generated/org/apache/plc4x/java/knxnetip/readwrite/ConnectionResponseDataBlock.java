@@ -49,7 +49,7 @@ public abstract class ConnectionResponseDataBlock implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ConnectionResponseDataBlock");
 
     // Implicit Field (structureLength) (Used for parsing, but its value is not stored as it's
@@ -72,28 +72,29 @@ public abstract class ConnectionResponseDataBlock implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    ConnectionResponseDataBlock _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Implicit Field (structureLength)
-    lengthInBits += 8;
-
-    // Discriminator Field (connectionType)
-    lengthInBits += 8;
-
-    // Length of sub-type elements will be added by sub-type...
-
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
     return lengthInBits;
   }
 
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
+  }
+
   public static ConnectionResponseDataBlock staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("ConnectionResponseDataBlock");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short structureLength = readImplicitField("structureLength", readUnsignedShort(readBuffer, 8));
 
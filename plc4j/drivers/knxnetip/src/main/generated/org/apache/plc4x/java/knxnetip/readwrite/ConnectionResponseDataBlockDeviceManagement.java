@@ -51,7 +51,7 @@ public class ConnectionResponseDataBlockDeviceManagement extends ConnectionRespo
   protected void serializeConnectionResponseDataBlockChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ConnectionResponseDataBlockDeviceManagement");
 
     writeBuffer.popContext("ConnectionResponseDataBlockDeviceManagement");
@@ -63,19 +63,16 @@ public class ConnectionResponseDataBlockDeviceManagement extends ConnectionRespo
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ConnectionResponseDataBlockDeviceManagement _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static ConnectionResponseDataBlockBuilder staticParseConnectionResponseDataBlockBuilder(
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("ConnectionResponseDataBlockDeviceManagement");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("ConnectionResponseDataBlockDeviceManagement");
     // Create the instance
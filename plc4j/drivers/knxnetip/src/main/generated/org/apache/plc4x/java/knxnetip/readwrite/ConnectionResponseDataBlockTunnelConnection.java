@@ -59,7 +59,7 @@ public class ConnectionResponseDataBlockTunnelConnection extends ConnectionRespo
   protected void serializeConnectionResponseDataBlockChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ConnectionResponseDataBlockTunnelConnection");
 
     // Simple Field (knxAddress)
@@ -74,10 +74,9 @@ public class ConnectionResponseDataBlockTunnelConnection extends ConnectionRespo
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ConnectionResponseDataBlockTunnelConnection _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (knxAddress)
     lengthInBits += knxAddress.getLengthInBits();
@@ -89,7 +88,7 @@ public class ConnectionResponseDataBlockTunnelConnection extends ConnectionRespo
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("ConnectionResponseDataBlockTunnelConnection");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     KnxAddress knxAddress =
         readSimpleField(
@@ -108,7 +108,7 @@ public class DIBDeviceInfo implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DIBDeviceInfo");
 
     // Implicit Field (structureLength) (Used for parsing, but its value is not stored as it's
@@ -161,11 +161,22 @@ public class DIBDeviceInfo implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     DIBDeviceInfo _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (structureLength)
     lengthInBits += 8;
@@ -207,7 +218,7 @@ public class DIBDeviceInfo implements Message {
   public static DIBDeviceInfo staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("DIBDeviceInfo");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short structureLength = readImplicitField("structureLength", readUnsignedShort(readBuffer, 8));
 
@@ -57,7 +57,7 @@ public class DIBSuppSvcFamilies implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DIBSuppSvcFamilies");
 
     // Implicit Field (structureLength) (Used for parsing, but its value is not stored as it's
@@ -79,11 +79,22 @@ public class DIBSuppSvcFamilies implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     DIBSuppSvcFamilies _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (structureLength)
     lengthInBits += 8;
@@ -104,7 +115,7 @@ public class DIBSuppSvcFamilies implements Message {
   public static DIBSuppSvcFamilies staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("DIBSuppSvcFamilies");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short structureLength = readImplicitField("structureLength", readUnsignedShort(readBuffer, 8));
 
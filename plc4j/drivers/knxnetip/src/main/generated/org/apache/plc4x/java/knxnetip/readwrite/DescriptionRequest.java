@@ -58,7 +58,7 @@ public class DescriptionRequest extends KnxNetIpMessage implements Message {
   protected void serializeKnxNetIpMessageChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DescriptionRequest");
 
     // Simple Field (hpaiControlEndpoint)
@@ -77,10 +77,9 @@ public class DescriptionRequest extends KnxNetIpMessage implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     DescriptionRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (hpaiControlEndpoint)
     lengthInBits += hpaiControlEndpoint.getLengthInBits();
@@ -92,7 +91,7 @@ public class DescriptionRequest extends KnxNetIpMessage implements Message {
       throws ParseException {
     readBuffer.pullContext("DescriptionRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     HPAIControlEndpoint hpaiControlEndpoint =
         readSimpleField(
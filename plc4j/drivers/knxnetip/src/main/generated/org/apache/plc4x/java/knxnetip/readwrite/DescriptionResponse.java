@@ -64,7 +64,7 @@ public class DescriptionResponse extends KnxNetIpMessage implements Message {
   protected void serializeKnxNetIpMessageChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DescriptionResponse");
 
     // Simple Field (dibDeviceInfo)
@@ -90,10 +90,9 @@ public class DescriptionResponse extends KnxNetIpMessage implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     DescriptionResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dibDeviceInfo)
     lengthInBits += dibDeviceInfo.getLengthInBits();
@@ -108,7 +107,7 @@ public class DescriptionResponse extends KnxNetIpMessage implements Message {
       throws ParseException {
     readBuffer.pullContext("DescriptionResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     DIBDeviceInfo dibDeviceInfo =
         readSimpleField(
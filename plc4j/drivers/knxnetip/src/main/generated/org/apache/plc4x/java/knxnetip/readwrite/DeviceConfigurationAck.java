@@ -58,7 +58,7 @@ public class DeviceConfigurationAck extends KnxNetIpMessage implements Message {
   protected void serializeKnxNetIpMessageChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DeviceConfigurationAck");
 
     // Simple Field (deviceConfigurationAckDataBlock)
@@ -77,10 +77,9 @@ public class DeviceConfigurationAck extends KnxNetIpMessage implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     DeviceConfigurationAck _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (deviceConfigurationAckDataBlock)
     lengthInBits += deviceConfigurationAckDataBlock.getLengthInBits();
@@ -92,7 +91,7 @@ public class DeviceConfigurationAck extends KnxNetIpMessage implements Message {
       throws ParseException {
     readBuffer.pullContext("DeviceConfigurationAck");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     DeviceConfigurationAckDataBlock deviceConfigurationAckDataBlock =
         readSimpleField(
@@ -65,7 +65,7 @@ public class DeviceConfigurationRequest extends KnxNetIpMessage implements Messa
   protected void serializeKnxNetIpMessageChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DeviceConfigurationRequest");
 
     // Simple Field (deviceConfigurationRequestDataBlock)
@@ -88,10 +88,9 @@ public class DeviceConfigurationRequest extends KnxNetIpMessage implements Messa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     DeviceConfigurationRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (deviceConfigurationRequestDataBlock)
     lengthInBits += deviceConfigurationRequestDataBlock.getLengthInBits();
@@ -106,7 +105,7 @@ public class DeviceConfigurationRequest extends KnxNetIpMessage implements Messa
       ReadBuffer readBuffer, Integer totalLength) throws ParseException {
     readBuffer.pullContext("DeviceConfigurationRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     DeviceConfigurationRequestDataBlock deviceConfigurationRequestDataBlock =
         readSimpleField(
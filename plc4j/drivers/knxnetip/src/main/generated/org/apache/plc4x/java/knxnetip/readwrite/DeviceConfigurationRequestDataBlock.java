@@ -57,7 +57,7 @@ public class DeviceConfigurationRequestDataBlock implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DeviceConfigurationRequestDataBlock");
 
     // Implicit Field (structureLength) (Used for parsing, but its value is not stored as it's
@@ -85,30 +85,19 @@ public class DeviceConfigurationRequestDataBlock implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    DeviceConfigurationRequestDataBlock _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Implicit Field (structureLength)
-    lengthInBits += 8;
-
-    // Simple field (communicationChannelId)
-    lengthInBits += 8;
-
-    // Simple field (sequenceCounter)
-    lengthInBits += 8;
-
-    // Reserved Field (reserved)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 32;
   }
 
   public static DeviceConfigurationRequestDataBlock staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("DeviceConfigurationRequestDataBlock");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short structureLength = readImplicitField("structureLength", readUnsignedShort(readBuffer, 8));
 
@@ -115,7 +115,7 @@ public class DeviceDescriptorType2 implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DeviceDescriptorType2");
 
     // Simple Field (manufacturerId)
@@ -156,11 +156,22 @@ public class DeviceDescriptorType2 implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     DeviceDescriptorType2 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (manufacturerId)
     lengthInBits += 16;
@@ -198,7 +209,7 @@ public class DeviceDescriptorType2 implements Message {
   public static DeviceDescriptorType2 staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("DeviceDescriptorType2");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int manufacturerId = readSimpleField("manufacturerId", readUnsignedInt(readBuffer, 16));
 
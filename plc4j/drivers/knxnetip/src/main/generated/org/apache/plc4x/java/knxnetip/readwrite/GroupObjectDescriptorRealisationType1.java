@@ -101,7 +101,7 @@ public class GroupObjectDescriptorRealisationType1 implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("GroupObjectDescriptorRealisationType1");
 
     // Simple Field (dataPointer)
@@ -152,45 +152,19 @@ public class GroupObjectDescriptorRealisationType1 implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    GroupObjectDescriptorRealisationType1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (dataPointer)
-    lengthInBits += 8;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Simple field (transmitEnable)
-    lengthInBits += 1;
-
-    // Simple field (segmentSelectorEnable)
-    lengthInBits += 1;
-
-    // Simple field (writeEnable)
-    lengthInBits += 1;
-
-    // Simple field (readEnable)
-    lengthInBits += 1;
-
-    // Simple field (communicationEnable)
-    lengthInBits += 1;
-
-    // Simple field (priority)
-    lengthInBits += 2;
-
-    // Simple field (valueType)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 24;
   }
 
   public static GroupObjectDescriptorRealisationType1 staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("GroupObjectDescriptorRealisationType1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short dataPointer = readSimpleField("dataPointer", readUnsignedShort(readBuffer, 8));
 
@@ -43,7 +43,7 @@ public class GroupObjectDescriptorRealisationType6 implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("GroupObjectDescriptorRealisationType6");
 
     writeBuffer.popContext("GroupObjectDescriptorRealisationType6");
@@ -56,18 +56,19 @@ public class GroupObjectDescriptorRealisationType6 implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    GroupObjectDescriptorRealisationType6 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 0;
   }
 
   public static GroupObjectDescriptorRealisationType6 staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("GroupObjectDescriptorRealisationType6");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("GroupObjectDescriptorRealisationType6");
     // Create the instance
@@ -108,7 +108,7 @@ public class GroupObjectDescriptorRealisationType7 implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("GroupObjectDescriptorRealisationType7");
 
     // Simple Field (dataAddress)
@@ -159,45 +159,19 @@ public class GroupObjectDescriptorRealisationType7 implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    GroupObjectDescriptorRealisationType7 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (dataAddress)
-    lengthInBits += 16;
-
-    // Simple field (updateEnable)
-    lengthInBits += 1;
-
-    // Simple field (transmitEnable)
-    lengthInBits += 1;
-
-    // Simple field (segmentSelectorEnable)
-    lengthInBits += 1;
-
-    // Simple field (writeEnable)
-    lengthInBits += 1;
-
-    // Simple field (readEnable)
-    lengthInBits += 1;
-
-    // Simple field (communicationEnable)
-    lengthInBits += 1;
-
-    // Simple field (priority)
-    lengthInBits += 2;
-
-    // Simple field (valueType)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 32;
   }
 
   public static GroupObjectDescriptorRealisationType7 staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("GroupObjectDescriptorRealisationType7");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int dataAddress = readSimpleField("dataAddress", readUnsignedInt(readBuffer, 16));
 
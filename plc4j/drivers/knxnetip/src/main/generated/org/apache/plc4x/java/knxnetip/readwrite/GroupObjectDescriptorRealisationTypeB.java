@@ -101,7 +101,7 @@ public class GroupObjectDescriptorRealisationTypeB implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("GroupObjectDescriptorRealisationTypeB");
 
     // Simple Field (updateEnable)
@@ -149,42 +149,19 @@ public class GroupObjectDescriptorRealisationTypeB implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    GroupObjectDescriptorRealisationTypeB _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (updateEnable)
-    lengthInBits += 1;
-
-    // Simple field (transmitEnable)
-    lengthInBits += 1;
-
-    // Simple field (segmentSelectorEnable)
-    lengthInBits += 1;
-
-    // Simple field (writeEnable)
-    lengthInBits += 1;
-
-    // Simple field (readEnable)
-    lengthInBits += 1;
-
-    // Simple field (communicationEnable)
-    lengthInBits += 1;
-
-    // Simple field (priority)
-    lengthInBits += 2;
-
-    // Simple field (valueType)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static GroupObjectDescriptorRealisationTypeB staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("GroupObjectDescriptorRealisationTypeB");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean updateEnable = readSimpleField("updateEnable", readBoolean(readBuffer));
 
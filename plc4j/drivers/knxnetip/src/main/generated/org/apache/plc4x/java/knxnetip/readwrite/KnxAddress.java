@@ -63,7 +63,7 @@ public class KnxAddress implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("KnxAddress");
 
     // Simple Field (mainGroup)
@@ -85,26 +85,18 @@ public class KnxAddress implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    KnxAddress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (mainGroup)
-    lengthInBits += 4;
-
-    // Simple field (middleGroup)
-    lengthInBits += 4;
-
-    // Simple field (subGroup)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static KnxAddress staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("KnxAddress");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte mainGroup = readSimpleField("mainGroup", readUnsignedByte(readBuffer, 4));
 
@@ -64,7 +64,7 @@ public class KnxGroupAddress2Level extends KnxGroupAddress implements Message {
   protected void serializeKnxGroupAddressChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("KnxGroupAddress2Level");
 
     // Simple Field (mainGroup)
@@ -82,25 +82,16 @@ public class KnxGroupAddress2Level extends KnxGroupAddress implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    KnxGroupAddress2Level _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (mainGroup)
-    lengthInBits += 5;
-
-    // Simple field (subGroup)
-    lengthInBits += 11;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 16;
   }
 
   public static KnxGroupAddressBuilder staticParseKnxGroupAddressBuilder(
       ReadBuffer readBuffer, Byte numLevels) throws ParseException {
     readBuffer.pullContext("KnxGroupAddress2Level");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte mainGroup = readSimpleField("mainGroup", readUnsignedByte(readBuffer, 5));
 
@@ -70,7 +70,7 @@ public class KnxGroupAddress3Level extends KnxGroupAddress implements Message {
   protected void serializeKnxGroupAddressChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("KnxGroupAddress3Level");
 
     // Simple Field (mainGroup)
@@ -91,28 +91,16 @@ public class KnxGroupAddress3Level extends KnxGroupAddress implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    KnxGroupAddress3Level _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (mainGroup)
-    lengthInBits += 5;
-
-    // Simple field (middleGroup)
-    lengthInBits += 3;
-
-    // Simple field (subGroup)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 16;
   }
 
   public static KnxGroupAddressBuilder staticParseKnxGroupAddressBuilder(
       ReadBuffer readBuffer, Byte numLevels) throws ParseException {
     readBuffer.pullContext("KnxGroupAddress3Level");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte mainGroup = readSimpleField("mainGroup", readUnsignedByte(readBuffer, 5));
 
@@ -56,7 +56,7 @@ public abstract class KnxNetIpMessage implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("KnxNetIpMessage");
 
     // Implicit Field (headerLength) (Used for parsing, but its value is not stored as it's
@@ -102,33 +102,28 @@ public abstract class KnxNetIpMessage implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    KnxNetIpMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Implicit Field (headerLength)
-    lengthInBits += 8;
-
-    // Const Field (protocolVersion)
-    lengthInBits += 8;
-
-    // Discriminator Field (msgType)
-    lengthInBits += 16;
-
-    // Implicit Field (totalLength)
-    lengthInBits += 16;
-
-    // Length of sub-type elements will be added by sub-type...
-
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
     return lengthInBits;
   }
 
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 48;
+  }
+
   public static KnxNetIpMessage staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("KnxNetIpMessage");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short headerLength =
         readImplicitField(
@@ -79,7 +79,7 @@ public class LBusmonInd extends CEMI implements Message {
   @Override
   protected void serializeCEMIChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("LBusmonInd");
 
     // Simple Field (additionalInformationLength)
@@ -106,10 +106,9 @@ public class LBusmonInd extends CEMI implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     LBusmonInd _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (additionalInformationLength)
     lengthInBits += 8;
@@ -136,7 +135,7 @@ public class LBusmonInd extends CEMI implements Message {
       throws ParseException {
     readBuffer.pullContext("LBusmonInd");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short additionalInformationLength =
         readSimpleField("additionalInformationLength", readUnsignedShort(readBuffer, 8));
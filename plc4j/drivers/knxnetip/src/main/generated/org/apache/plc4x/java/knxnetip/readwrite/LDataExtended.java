@@ -102,7 +102,7 @@ public class LDataExtended extends LDataFrame implements Message {
   @Override
   protected void serializeLDataFrameChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("LDataExtended");
 
     // Simple Field (groupAddress)
@@ -137,10 +137,9 @@ public class LDataExtended extends LDataFrame implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     LDataExtended _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (groupAddress)
     lengthInBits += 1;
@@ -172,7 +171,7 @@ public class LDataExtended extends LDataFrame implements Message {
       throws ParseException {
     readBuffer.pullContext("LDataExtended");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean groupAddress = readSimpleField("groupAddress", readBoolean(readBuffer));
 
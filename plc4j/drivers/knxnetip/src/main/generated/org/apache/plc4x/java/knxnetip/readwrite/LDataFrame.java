@@ -88,7 +88,7 @@ public abstract class LDataFrame implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("LDataFrame");
 
     // Simple Field (frameType)
@@ -127,42 +127,28 @@ public abstract class LDataFrame implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    LDataFrame _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (frameType)
-    lengthInBits += 1;
-
-    // Discriminator Field (polling)
-    lengthInBits += 1;
-
-    // Simple field (notRepeated)
-    lengthInBits += 1;
-
-    // Discriminator Field (notAckFrame)
-    lengthInBits += 1;
-
-    // Simple field (priority)
-    lengthInBits += 2;
-
-    // Simple field (acknowledgeRequested)
-    lengthInBits += 1;
-
-    // Simple field (errorFlag)
-    lengthInBits += 1;
-
-    // Length of sub-type elements will be added by sub-type...
-
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
     return lengthInBits;
   }
 
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
+  }
+
   public static LDataFrame staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("LDataFrame");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean frameType = readSimpleField("frameType", readBoolean(readBuffer));
 
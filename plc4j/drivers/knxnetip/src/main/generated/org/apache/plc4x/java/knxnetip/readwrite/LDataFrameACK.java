@@ -58,7 +58,7 @@ public class LDataFrameACK extends LDataFrame implements Message {
   @Override
   protected void serializeLDataFrameChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("LDataFrameACK");
 
     writeBuffer.popContext("LDataFrameACK");
@@ -70,19 +70,16 @@ public class LDataFrameACK extends LDataFrame implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    LDataFrameACK _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static LDataFrameBuilder staticParseLDataFrameBuilder(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("LDataFrameACK");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("LDataFrameACK");
     // Create the instance
@@ -72,7 +72,7 @@ public class LDataInd extends CEMI implements Message {
   @Override
   protected void serializeCEMIChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("LDataInd");
 
     // Simple Field (additionalInformationLength)
@@ -96,10 +96,9 @@ public class LDataInd extends CEMI implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     LDataInd _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (additionalInformationLength)
     lengthInBits += 8;
@@ -121,7 +120,7 @@ public class LDataInd extends CEMI implements Message {
       throws ParseException {
     readBuffer.pullContext("LDataInd");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short additionalInformationLength =
         readSimpleField("additionalInformationLength", readUnsignedShort(readBuffer, 8));
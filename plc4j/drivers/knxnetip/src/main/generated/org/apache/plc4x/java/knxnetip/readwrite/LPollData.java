@@ -81,7 +81,7 @@ public class LPollData extends LDataFrame implements Message {
   @Override
   protected void serializeLDataFrameChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("LPollData");
 
     // Simple Field (sourceAddress)
@@ -106,10 +106,9 @@ public class LPollData extends LDataFrame implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     LPollData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sourceAddress)
     lengthInBits += sourceAddress.getLengthInBits();
@@ -132,7 +131,7 @@ public class LPollData extends LDataFrame implements Message {
       throws ParseException {
     readBuffer.pullContext("LPollData");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     KnxAddress sourceAddress =
         readSimpleField(
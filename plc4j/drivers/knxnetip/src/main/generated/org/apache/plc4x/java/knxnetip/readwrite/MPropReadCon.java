@@ -93,7 +93,7 @@ public class MPropReadCon extends CEMI implements Message {
   @Override
   protected void serializeCEMIChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("MPropReadCon");
 
     // Simple Field (interfaceObjectType)
@@ -123,37 +123,16 @@ public class MPropReadCon extends CEMI implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    MPropReadCon _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (interfaceObjectType)
-    lengthInBits += 16;
-
-    // Simple field (objectInstance)
-    lengthInBits += 8;
-
-    // Simple field (propertyId)
-    lengthInBits += 8;
-
-    // Simple field (numberOfElements)
-    lengthInBits += 4;
-
-    // Simple field (startIndex)
-    lengthInBits += 12;
-
-    // Simple field (data)
-    lengthInBits += 16;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 64;
   }
 
   public static CEMIBuilder staticParseCEMIBuilder(ReadBuffer readBuffer, Integer size)
       throws ParseException {
     readBuffer.pullContext("MPropReadCon");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int interfaceObjectType =
         readSimpleField("interfaceObjectType", readUnsignedInt(readBuffer, 16));
@@ -57,7 +57,7 @@ public class ProjectInstallationIdentifier implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ProjectInstallationIdentifier");
 
     // Simple Field (projectNumber)
@@ -76,24 +76,19 @@ public class ProjectInstallationIdentifier implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    ProjectInstallationIdentifier _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (projectNumber)
-    lengthInBits += 8;
-
-    // Simple field (installationNumber)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static ProjectInstallationIdentifier staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("ProjectInstallationIdentifier");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short projectNumber = readSimpleField("projectNumber", readUnsignedShort(readBuffer, 8));
 
@@ -51,7 +51,7 @@ public class RelativeTimestamp implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("RelativeTimestamp");
 
     // Simple Field (timestamp)
@@ -67,20 +67,18 @@ public class RelativeTimestamp implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    RelativeTimestamp _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (timestamp)
-    lengthInBits += 16;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static RelativeTimestamp staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("RelativeTimestamp");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int timestamp = readSimpleField("timestamp", readUnsignedInt(readBuffer, 16));
 
@@ -58,7 +58,7 @@ public class SearchRequest extends KnxNetIpMessage implements Message {
   protected void serializeKnxNetIpMessageChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SearchRequest");
 
     // Simple Field (hpaiIDiscoveryEndpoint)
@@ -77,10 +77,9 @@ public class SearchRequest extends KnxNetIpMessage implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     SearchRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (hpaiIDiscoveryEndpoint)
     lengthInBits += hpaiIDiscoveryEndpoint.getLengthInBits();
@@ -92,7 +91,7 @@ public class SearchRequest extends KnxNetIpMessage implements Message {
       throws ParseException {
     readBuffer.pullContext("SearchRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     HPAIDiscoveryEndpoint hpaiIDiscoveryEndpoint =
         readSimpleField(
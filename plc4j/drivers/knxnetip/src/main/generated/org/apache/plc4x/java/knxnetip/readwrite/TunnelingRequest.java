@@ -64,7 +64,7 @@ public class TunnelingRequest extends KnxNetIpMessage implements Message {
   protected void serializeKnxNetIpMessageChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TunnelingRequest");
 
     // Simple Field (tunnelingRequestDataBlock)
@@ -87,10 +87,9 @@ public class TunnelingRequest extends KnxNetIpMessage implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     TunnelingRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (tunnelingRequestDataBlock)
     lengthInBits += tunnelingRequestDataBlock.getLengthInBits();
@@ -105,7 +104,7 @@ public class TunnelingRequest extends KnxNetIpMessage implements Message {
       ReadBuffer readBuffer, Integer totalLength) throws ParseException {
     readBuffer.pullContext("TunnelingRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     TunnelingRequestDataBlock tunnelingRequestDataBlock =
         readSimpleField(
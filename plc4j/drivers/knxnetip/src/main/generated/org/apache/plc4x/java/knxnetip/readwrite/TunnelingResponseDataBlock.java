@@ -64,7 +64,7 @@ public class TunnelingResponseDataBlock implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TunnelingResponseDataBlock");
 
     // Implicit Field (structureLength) (Used for parsing, but its value is not stored as it's
@@ -96,30 +96,19 @@ public class TunnelingResponseDataBlock implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    TunnelingResponseDataBlock _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Implicit Field (structureLength)
-    lengthInBits += 8;
-
-    // Simple field (communicationChannelId)
-    lengthInBits += 8;
-
-    // Simple field (sequenceCounter)
-    lengthInBits += 8;
-
-    // Simple field (status)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 32;
   }
 
   public static TunnelingResponseDataBlock staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("TunnelingResponseDataBlock");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short structureLength = readImplicitField("structureLength", readUnsignedShort(readBuffer, 8));
 
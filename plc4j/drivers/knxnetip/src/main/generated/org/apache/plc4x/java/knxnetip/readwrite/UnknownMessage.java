@@ -58,7 +58,7 @@ public class UnknownMessage extends KnxNetIpMessage implements Message {
   protected void serializeKnxNetIpMessageChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("UnknownMessage");
 
     // Array Field (unknownData)
@@ -77,10 +77,9 @@ public class UnknownMessage extends KnxNetIpMessage implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     UnknownMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (unknownData != null) {
@@ -94,7 +93,7 @@ public class UnknownMessage extends KnxNetIpMessage implements Message {
       ReadBuffer readBuffer, Integer totalLength) throws ParseException {
     readBuffer.pullContext("UnknownMessage");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte[] unknownData =
         readBuffer.readByteArray(
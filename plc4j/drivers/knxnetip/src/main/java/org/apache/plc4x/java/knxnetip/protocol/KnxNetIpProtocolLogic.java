@@ -95,6 +95,7 @@ public class KnxNetIpProtocolLogic extends Plc4xProtocolBase<KnxNetIpMessage> im
 
     @Override
     public void onConnect(ConversationContext<KnxNetIpMessage> context) {
+        useDriverRuntimeExecutor(tm);
         // Only the UDP transport supports login.
         if (!context.isPassive()) {
             LOGGER.info("KNX Driver running in ACTIVE mode.");
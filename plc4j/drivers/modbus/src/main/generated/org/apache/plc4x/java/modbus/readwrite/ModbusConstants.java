@@ -50,7 +50,7 @@ public class ModbusConstants implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ModbusConstants");
 
     // Const Field (modbusTcpDefaultPort)
@@ -67,26 +67,25 @@ public class ModbusConstants implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    ModbusConstants _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (modbusTcpDefaultPort)
-    lengthInBits += 16;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static ModbusConstants staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("ModbusConstants");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int modbusTcpDefaultPort =
-        readConstField(
+        checkConstField(
             "modbusTcpDefaultPort",
-            readUnsignedInt(readBuffer, 16),
-            ModbusConstants.MODBUSTCPDEFAULTPORT);
+            readBuffer.readUnsignedInt("modbusTcpDefaultPort", 16),
+            ModbusConstants.MODBUSTCPDEFAULTPORT,
+            readBuffer);
 
     readBuffer.closeContext("ModbusConstants");
     // Create the instance
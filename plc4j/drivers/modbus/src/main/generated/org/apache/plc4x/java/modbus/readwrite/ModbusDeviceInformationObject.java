@@ -57,7 +57,7 @@ public class ModbusDeviceInformationObject implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ModbusDeviceInformationObject");
 
     // Simple Field (objectId)
@@ -79,11 +79,22 @@ public class ModbusDeviceInformationObject implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     ModbusDeviceInformationObject _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectId)
     lengthInBits += 8;
@@ -103,11 +114,11 @@ public class ModbusDeviceInformationObject implements Message {
       throws ParseException {
     readBuffer.pullContext("ModbusDeviceInformationObject");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
-    short objectId = readSimpleField("objectId", readUnsignedShort(readBuffer, 8));
+    short objectId = readBuffer.readUnsignedShort("objectId", 8);
 
-    short objectLength = readImplicitField("objectLength", readUnsignedShort(readBuffer, 8));
+    short objectLength = readBuffer.readUnsignedShort("objectLength", 8);
 
     byte[] data = readBuffer.readByteArray("data", Math.toIntExact(objectLength));
 
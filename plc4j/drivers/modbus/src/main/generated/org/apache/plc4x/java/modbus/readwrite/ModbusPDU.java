@@ -53,7 +53,7 @@ public abstract class ModbusPDU implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ModbusPDU");
 
     // Discriminator Field (errorFlag) (Used as input to a switch field)
@@ -73,32 +73,33 @@ public abstract class ModbusPDU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    ModbusPDU _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Discriminator Field (errorFlag)
-    lengthInBits += 1;
-
-    // Discriminator Field (functionFlag)
-    lengthInBits += 7;
-
-    // Length of sub-type elements will be added by sub-type...
-
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
     return lengthInBits;
   }
 
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
+  }
+
   public static ModbusPDU staticParse(ReadBuffer readBuffer, Boolean response)
       throws ParseException {
     readBuffer.pullContext("ModbusPDU");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
-    boolean errorFlag = readDiscriminatorField("errorFlag", readBoolean(readBuffer));
+    boolean errorFlag = readBuffer.readBit("errorFlag");
 
-    byte functionFlag = readDiscriminatorField("functionFlag", readUnsignedByte(readBuffer, 7));
+    byte functionFlag = readBuffer.readUnsignedByte("functionFlag", 7);
 
     // Switch Field (Depending on the discriminator values, passes the instantiation to a sub-type)
     ModbusPDUBuilder builder = null;
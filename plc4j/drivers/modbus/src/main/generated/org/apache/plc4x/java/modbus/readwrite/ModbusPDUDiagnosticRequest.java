@@ -71,7 +71,7 @@ public class ModbusPDUDiagnosticRequest extends ModbusPDU implements Message {
   @Override
   protected void serializeModbusPDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ModbusPDUDiagnosticRequest");
 
     // Simple Field (subFunction)
@@ -89,29 +89,20 @@ public class ModbusPDUDiagnosticRequest extends ModbusPDU implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ModbusPDUDiagnosticRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (subFunction)
-    lengthInBits += 16;
-
-    // Simple field (data)
-    lengthInBits += 16;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 32;
   }
 
   public static ModbusPDUBuilder staticParseModbusPDUBuilder(
       ReadBuffer readBuffer, Boolean response) throws ParseException {
     readBuffer.pullContext("ModbusPDUDiagnosticRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
-    int subFunction = readSimpleField("subFunction", readUnsignedInt(readBuffer, 16));
+    int subFunction = readBuffer.readUnsignedInt("subFunction", 16);
 
-    int data = readSimpleField("data", readUnsignedInt(readBuffer, 16));
+    int data = readBuffer.readUnsignedInt("data", 16);
 
     readBuffer.closeContext("ModbusPDUDiagnosticRequest");
     // Create the instance
@@ -71,7 +71,7 @@ public class ModbusPDUGetComEventCounterResponse extends ModbusPDU implements Me
   @Override
   protected void serializeModbusPDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ModbusPDUGetComEventCounterResponse");
 
     // Simple Field (status)
@@ -89,29 +89,20 @@ public class ModbusPDUGetComEventCounterResponse extends ModbusPDU implements Me
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ModbusPDUGetComEventCounterResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (status)
-    lengthInBits += 16;
-
-    // Simple field (eventCount)
-    lengthInBits += 16;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 32;
   }
 
   public static ModbusPDUBuilder staticParseModbusPDUBuilder(
       ReadBuffer readBuffer, Boolean response) throws ParseException {
     readBuffer.pullContext("ModbusPDUGetComEventCounterResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
-    int status = readSimpleField("status", readUnsignedInt(readBuffer, 16));
+    int status = readBuffer.readUnsignedInt("status", 16);
 
-    int eventCount = readSimpleField("eventCount", readUnsignedInt(readBuffer, 16));
+    int eventCount = readBuffer.readUnsignedInt("eventCount", 16);
 
     readBuffer.closeContext("ModbusPDUGetComEventCounterResponse");
     // Create the instance
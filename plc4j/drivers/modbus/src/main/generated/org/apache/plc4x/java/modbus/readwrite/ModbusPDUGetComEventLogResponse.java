@@ -84,7 +84,7 @@ public class ModbusPDUGetComEventLogResponse extends ModbusPDU implements Messag
   @Override
   protected void serializeModbusPDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ModbusPDUGetComEventLogResponse");
 
     // Implicit Field (byteCount) (Used for parsing, but its value is not stored as it's implicitly
@@ -113,10 +113,9 @@ public class ModbusPDUGetComEventLogResponse extends ModbusPDU implements Messag
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ModbusPDUGetComEventLogResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (byteCount)
     lengthInBits += 8;
@@ -142,15 +141,15 @@ public class ModbusPDUGetComEventLogResponse extends ModbusPDU implements Messag
       ReadBuffer readBuffer, Boolean response) throws ParseException {
     readBuffer.pullContext("ModbusPDUGetComEventLogResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
-    short byteCount = readImplicitField("byteCount", readUnsignedShort(readBuffer, 8));
+    short byteCount = readBuffer.readUnsignedShort("byteCount", 8);
 
-    int status = readSimpleField("status", readUnsignedInt(readBuffer, 16));
+    int status = readBuffer.readUnsignedInt("status", 16);
 
-    int eventCount = readSimpleField("eventCount", readUnsignedInt(readBuffer, 16));
+    int eventCount = readBuffer.readUnsignedInt("eventCount", 16);
 
-    int messageCount = readSimpleField("messageCount", readUnsignedInt(readBuffer, 16));
+    int messageCount = readBuffer.readUnsignedInt("messageCount", 16);
 
     byte[] events = readBuffer.readByteArray("events", Math.toIntExact((byteCount) - (6)));
 
@@ -77,7 +77,7 @@ public class ModbusPDUMaskWriteHoldingRegisterRequest extends ModbusPDU implemen
   @Override
   protected void serializeModbusPDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ModbusPDUMaskWriteHoldingRegisterRequest");
 
     // Simple Field (referenceAddress)
@@ -98,34 +98,22 @@ public class ModbusPDUMaskWriteHoldingRegisterRequest extends ModbusPDU implemen
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ModbusPDUMaskWriteHoldingRegisterRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (referenceAddress)
-    lengthInBits += 16;
-
-    // Simple field (andMask)
-    lengthInBits += 16;
-
-    // Simple field (orMask)
-    lengthInBits += 16;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 48;
   }
 
   public static ModbusPDUBuilder staticParseModbusPDUBuilder(
       ReadBuffer readBuffer, Boolean response) throws ParseException {
     readBuffer.pullContext("ModbusPDUMaskWriteHoldingRegisterRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
-    int referenceAddress = readSimpleField("referenceAddress", readUnsignedInt(readBuffer, 16));
+    int referenceAddress = readBuffer.readUnsignedInt("referenceAddress", 16);
 
-    int andMask = readSimpleField("andMask", readUnsignedInt(readBuffer, 16));
+    int andMask = readBuffer.readUnsignedInt("andMask", 16);
 
-    int orMask = readSimpleField("orMask", readUnsignedInt(readBuffer, 16));
+    int orMask = readBuffer.readUnsignedInt("orMask", 16);
 
     readBuffer.closeContext("ModbusPDUMaskWriteHoldingRegisterRequest");
     // Create the instance
@@ -79,7 +79,7 @@ public class ModbusPDUReadDeviceIdentificationRequest extends ModbusPDU implemen
   @Override
   protected void serializeModbusPDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ModbusPDUReadDeviceIdentificationRequest");
 
     // Const Field (meiType)
@@ -107,34 +107,23 @@ public class ModbusPDUReadDeviceIdentificationRequest extends ModbusPDU implemen
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ModbusPDUReadDeviceIdentificationRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (meiType)
-    lengthInBits += 8;
-
-    // Simple field (level)
-    lengthInBits += 8;
-
-    // Simple field (objectId)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 24;
   }
 
   public static ModbusPDUBuilder staticParseModbusPDUBuilder(
       ReadBuffer readBuffer, Boolean response) throws ParseException {
     readBuffer.pullContext("ModbusPDUReadDeviceIdentificationRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short meiType =
-        readConstField(
+        checkConstField(
             "meiType",
-            readUnsignedShort(readBuffer, 8),
-            ModbusPDUReadDeviceIdentificationRequest.MEITYPE);
+            readBuffer.readUnsignedShort("meiType", 8),
+            ModbusPDUReadDeviceIdentificationRequest.MEITYPE,
+            readBuffer);
 
     ModbusDeviceInformationLevel level =
         readEnumField(
@@ -142,7 +131,7 @@ public class ModbusPDUReadDeviceIdentificationRequest extends ModbusPDU implemen
             "ModbusDeviceInformationLevel",
             readEnum(ModbusDeviceInformationLevel::enumForValue, readUnsignedShort(readBuffer, 8)));
 
-    short objectId = readSimpleField("objectId", readUnsignedShort(readBuffer, 8));
+    short objectId = readBuffer.readUnsignedShort("objectId", 8);
 
     readBuffer.closeContext("ModbusPDUReadDeviceIdentificationRequest");
     // Create the instance
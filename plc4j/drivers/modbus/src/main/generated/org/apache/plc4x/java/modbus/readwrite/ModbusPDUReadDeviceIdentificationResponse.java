@@ -108,7 +108,7 @@ public class ModbusPDUReadDeviceIdentificationResponse extends ModbusPDU impleme
   @Override
   protected void serializeModbusPDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ModbusPDUReadDeviceIdentificationResponse");
 
     // Const Field (meiType)
@@ -167,10 +167,9 @@ public class ModbusPDUReadDeviceIdentificationResponse extends ModbusPDU impleme
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ModbusPDUReadDeviceIdentificationResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (meiType)
     lengthInBits += 8;
@@ -197,8 +196,7 @@ public class ModbusPDUReadDeviceIdentificationResponse extends ModbusPDU impleme
     if (objects != null) {
       int i = 0;
       for (ModbusDeviceInformationObject element : objects) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= objects.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= objects.size());
       }
     }
 
@@ -209,13 +207,14 @@ public class ModbusPDUReadDeviceIdentificationResponse extends ModbusPDU impleme
       ReadBuffer readBuffer, Boolean response) throws ParseException {
     readBuffer.pullContext("ModbusPDUReadDeviceIdentificationResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short meiType =
-        readConstField(
+        checkConstField(
             "meiType",
-            readUnsignedShort(readBuffer, 8),
-            ModbusPDUReadDeviceIdentificationResponse.MEITYPE);
+            readBuffer.readUnsignedShort("meiType", 8),
+            ModbusPDUReadDeviceIdentificationResponse.MEITYPE,
+            readBuffer);
 
     ModbusDeviceInformationLevel level =
         readEnumField(
@@ -223,7 +222,7 @@ public class ModbusPDUReadDeviceIdentificationResponse extends ModbusPDU impleme
             "ModbusDeviceInformationLevel",
             readEnum(ModbusDeviceInformationLevel::enumForValue, readUnsignedShort(readBuffer, 8)));
 
-    boolean individualAccess = readSimpleField("individualAccess", readBoolean(readBuffer));
+    boolean individualAccess = readBuffer.readBit("individualAccess");
 
     ModbusDeviceInformationConformityLevel conformityLevel =
         readEnumField(
@@ -241,9 +240,9 @@ public class ModbusPDUReadDeviceIdentificationResponse extends ModbusPDU impleme
                 ModbusDeviceInformationMoreFollows::enumForValue,
                 readUnsignedShort(readBuffer, 8)));
 
-    short nextObjectId = readSimpleField("nextObjectId", readUnsignedShort(readBuffer, 8));
+    short nextObjectId = readBuffer.readUnsignedShort("nextObjectId", 8);
 
-    short numberOfObjects = readImplicitField("numberOfObjects", readUnsignedShort(readBuffer, 8));
+    short numberOfObjects = readBuffer.readUnsignedShort("numberOfObjects", 8);
 
     List<ModbusDeviceInformationObject> objects =
         readCountArrayField(
@@ -65,7 +65,7 @@ public class ModbusPDUReadDiscreteInputsResponse extends ModbusPDU implements Me
   @Override
   protected void serializeModbusPDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ModbusPDUReadDiscreteInputsResponse");
 
     // Implicit Field (byteCount) (Used for parsing, but its value is not stored as it's implicitly
@@ -85,10 +85,9 @@ public class ModbusPDUReadDiscreteInputsResponse extends ModbusPDU implements Me
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ModbusPDUReadDiscreteInputsResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (byteCount)
     lengthInBits += 8;
@@ -105,9 +104,9 @@ public class ModbusPDUReadDiscreteInputsResponse extends ModbusPDU implements Me
       ReadBuffer readBuffer, Boolean response) throws ParseException {
     readBuffer.pullContext("ModbusPDUReadDiscreteInputsResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
-    short byteCount = readImplicitField("byteCount", readUnsignedShort(readBuffer, 8));
+    short byteCount = readBuffer.readUnsignedShort("byteCount", 8);
 
     byte[] value = readBuffer.readByteArray("value", Math.toIntExact(byteCount));
 
@@ -65,7 +65,7 @@ public class ModbusPDUReadExceptionStatusResponse extends ModbusPDU implements M
   @Override
   protected void serializeModbusPDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ModbusPDUReadExceptionStatusResponse");
 
     // Simple Field (value)
@@ -80,24 +80,18 @@ public class ModbusPDUReadExceptionStatusResponse extends ModbusPDU implements M
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ModbusPDUReadExceptionStatusResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (value)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 8;
   }
 
   public static ModbusPDUBuilder staticParseModbusPDUBuilder(
       ReadBuffer readBuffer, Boolean response) throws ParseException {
     readBuffer.pullContext("ModbusPDUReadExceptionStatusResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
-    short value = readSimpleField("value", readUnsignedShort(readBuffer, 8));
+    short value = readBuffer.readUnsignedShort("value", 8);
 
     readBuffer.closeContext("ModbusPDUReadExceptionStatusResponse");
     // Create the instance
@@ -65,7 +65,7 @@ public class ModbusPDUReadFifoQueueRequest extends ModbusPDU implements Message
   @Override
   protected void serializeModbusPDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ModbusPDUReadFifoQueueRequest");
 
     // Simple Field (fifoPointerAddress)
@@ -80,24 +80,18 @@ public class ModbusPDUReadFifoQueueRequest extends ModbusPDU implements Message
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ModbusPDUReadFifoQueueRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (fifoPointerAddress)
-    lengthInBits += 16;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 16;
   }
 
   public static ModbusPDUBuilder staticParseModbusPDUBuilder(
       ReadBuffer readBuffer, Boolean response) throws ParseException {
     readBuffer.pullContext("ModbusPDUReadFifoQueueRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
-    int fifoPointerAddress = readSimpleField("fifoPointerAddress", readUnsignedInt(readBuffer, 16));
+    int fifoPointerAddress = readBuffer.readUnsignedInt("fifoPointerAddress", 16);
 
     readBuffer.closeContext("ModbusPDUReadFifoQueueRequest");
     // Create the instance
@@ -65,7 +65,7 @@ public class ModbusPDUReadFifoQueueResponse extends ModbusPDU implements Message
   @Override
   protected void serializeModbusPDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ModbusPDUReadFifoQueueResponse");
 
     // Implicit Field (byteCount) (Used for parsing, but its value is not stored as it's implicitly
@@ -90,10 +90,9 @@ public class ModbusPDUReadFifoQueueResponse extends ModbusPDU implements Message
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ModbusPDUReadFifoQueueResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (byteCount)
     lengthInBits += 16;
@@ -113,11 +112,11 @@ public class ModbusPDUReadFifoQueueResponse extends ModbusPDU implements Message
       ReadBuffer readBuffer, Boolean response) throws ParseException {
     readBuffer.pullContext("ModbusPDUReadFifoQueueResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
-    int byteCount = readImplicitField("byteCount", readUnsignedInt(readBuffer, 16));
+    int byteCount = readBuffer.readUnsignedInt("byteCount", 16);
 
-    int fifoCount = readImplicitField("fifoCount", readUnsignedInt(readBuffer, 16));
+    int fifoCount = readBuffer.readUnsignedInt("fifoCount", 16);
 
     List<Integer> fifoValue =
         readCountArrayField("fifoValue", readUnsignedInt(readBuffer, 16), fifoCount);
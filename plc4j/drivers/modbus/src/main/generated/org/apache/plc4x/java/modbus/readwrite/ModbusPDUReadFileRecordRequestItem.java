@@ -70,7 +70,7 @@ public class ModbusPDUReadFileRecordRequestItem implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ModbusPDUReadFileRecordRequestItem");
 
     // Simple Field (referenceType)
@@ -95,38 +95,27 @@ public class ModbusPDUReadFileRecordRequestItem implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    ModbusPDUReadFileRecordRequestItem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (referenceType)
-    lengthInBits += 8;
-
-    // Simple field (fileNumber)
-    lengthInBits += 16;
-
-    // Simple field (recordNumber)
-    lengthInBits += 16;
-
-    // Simple field (recordLength)
-    lengthInBits += 16;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 56;
   }
 
   public static ModbusPDUReadFileRecordRequestItem staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("ModbusPDUReadFileRecordRequestItem");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
-    short referenceType = readSimpleField("referenceType", readUnsignedShort(readBuffer, 8));
+    short referenceType = readBuffer.readUnsignedShort("referenceType", 8);
 
-    int fileNumber = readSimpleField("fileNumber", readUnsignedInt(readBuffer, 16));
+    int fileNumber = readBuffer.readUnsignedInt("fileNumber", 16);
 
-    int recordNumber = readSimpleField("recordNumber", readUnsignedInt(readBuffer, 16));
+    int recordNumber = readBuffer.readUnsignedInt("recordNumber", 16);
 
-    int recordLength = readSimpleField("recordLength", readUnsignedInt(readBuffer, 16));
+    int recordLength = readBuffer.readUnsignedInt("recordLength", 16);
 
     readBuffer.closeContext("ModbusPDUReadFileRecordRequestItem");
     // Create the instance
@@ -57,7 +57,7 @@ public class ModbusPDUReadFileRecordResponseItem implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ModbusPDUReadFileRecordResponseItem");
 
     // Implicit Field (dataLength) (Used for parsing, but its value is not stored as it's implicitly
@@ -79,11 +79,22 @@ public class ModbusPDUReadFileRecordResponseItem implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     ModbusPDUReadFileRecordResponseItem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (dataLength)
     lengthInBits += 8;
@@ -103,11 +114,11 @@ public class ModbusPDUReadFileRecordResponseItem implements Message {
       throws ParseException {
     readBuffer.pullContext("ModbusPDUReadFileRecordResponseItem");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
-    short dataLength = readImplicitField("dataLength", readUnsignedShort(readBuffer, 8));
+    short dataLength = readBuffer.readUnsignedShort("dataLength", 8);
 
-    short referenceType = readSimpleField("referenceType", readUnsignedShort(readBuffer, 8));
+    short referenceType = readBuffer.readUnsignedShort("referenceType", 8);
 
     byte[] data = readBuffer.readByteArray("data", Math.toIntExact((dataLength) - (1)));
 
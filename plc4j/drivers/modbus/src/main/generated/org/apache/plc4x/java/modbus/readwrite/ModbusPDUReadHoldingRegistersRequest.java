@@ -71,7 +71,7 @@ public class ModbusPDUReadHoldingRegistersRequest extends ModbusPDU implements M
   @Override
   protected void serializeModbusPDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ModbusPDUReadHoldingRegistersRequest");
 
     // Simple Field (startingAddress)
@@ -89,29 +89,20 @@ public class ModbusPDUReadHoldingRegistersRequest extends ModbusPDU implements M
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ModbusPDUReadHoldingRegistersRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (startingAddress)
-    lengthInBits += 16;
-
-    // Simple field (quantity)
-    lengthInBits += 16;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 32;
   }
 
   public static ModbusPDUBuilder staticParseModbusPDUBuilder(
       ReadBuffer readBuffer, Boolean response) throws ParseException {
     readBuffer.pullContext("ModbusPDUReadHoldingRegistersRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
-    int startingAddress = readSimpleField("startingAddress", readUnsignedInt(readBuffer, 16));
+    int startingAddress = readBuffer.readUnsignedInt("startingAddress", 16);
 
-    int quantity = readSimpleField("quantity", readUnsignedInt(readBuffer, 16));
+    int quantity = readBuffer.readUnsignedInt("quantity", 16);
 
     readBuffer.closeContext("ModbusPDUReadHoldingRegistersRequest");
     // Create the instance
@@ -95,7 +95,7 @@ public class ModbusPDUReadWriteMultipleHoldingRegistersRequest extends ModbusPDU
   @Override
   protected void serializeModbusPDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ModbusPDUReadWriteMultipleHoldingRegistersRequest");
 
     // Simple Field (readStartingAddress)
@@ -128,10 +128,9 @@ public class ModbusPDUReadWriteMultipleHoldingRegistersRequest extends ModbusPDU
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ModbusPDUReadWriteMultipleHoldingRegistersRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (readStartingAddress)
     lengthInBits += 16;
@@ -160,19 +159,17 @@ public class ModbusPDUReadWriteMultipleHoldingRegistersRequest extends ModbusPDU
       ReadBuffer readBuffer, Boolean response) throws ParseException {
     readBuffer.pullContext("ModbusPDUReadWriteMultipleHoldingRegistersRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
-    int readStartingAddress =
-        readSimpleField("readStartingAddress", readUnsignedInt(readBuffer, 16));
+    int readStartingAddress = readBuffer.readUnsignedInt("readStartingAddress", 16);
 
-    int readQuantity = readSimpleField("readQuantity", readUnsignedInt(readBuffer, 16));
+    int readQuantity = readBuffer.readUnsignedInt("readQuantity", 16);
 
-    int writeStartingAddress =
-        readSimpleField("writeStartingAddress", readUnsignedInt(readBuffer, 16));
+    int writeStartingAddress = readBuffer.readUnsignedInt("writeStartingAddress", 16);
 
-    int writeQuantity = readSimpleField("writeQuantity", readUnsignedInt(readBuffer, 16));
+    int writeQuantity = readBuffer.readUnsignedInt("writeQuantity", 16);
 
-    short byteCount = readImplicitField("byteCount", readUnsignedShort(readBuffer, 8));
+    short byteCount = readBuffer.readUnsignedShort("byteCount", 8);
 
     byte[] value = readBuffer.readByteArray("value", Math.toIntExact(byteCount));
 
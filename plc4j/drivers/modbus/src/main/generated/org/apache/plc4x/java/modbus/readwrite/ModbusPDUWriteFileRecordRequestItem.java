@@ -70,7 +70,7 @@ public class ModbusPDUWriteFileRecordRequestItem implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ModbusPDUWriteFileRecordRequestItem");
 
     // Simple Field (referenceType)
@@ -98,11 +98,22 @@ public class ModbusPDUWriteFileRecordRequestItem implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     ModbusPDUWriteFileRecordRequestItem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (referenceType)
     lengthInBits += 8;
@@ -128,15 +139,15 @@ public class ModbusPDUWriteFileRecordRequestItem implements Message {
       throws ParseException {
     readBuffer.pullContext("ModbusPDUWriteFileRecordRequestItem");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
-    short referenceType = readSimpleField("referenceType", readUnsignedShort(readBuffer, 8));
+    short referenceType = readBuffer.readUnsignedShort("referenceType", 8);
 
-    int fileNumber = readSimpleField("fileNumber", readUnsignedInt(readBuffer, 16));
+    int fileNumber = readBuffer.readUnsignedInt("fileNumber", 16);
 
-    int recordNumber = readSimpleField("recordNumber", readUnsignedInt(readBuffer, 16));
+    int recordNumber = readBuffer.readUnsignedInt("recordNumber", 16);
 
-    int recordLength = readImplicitField("recordLength", readUnsignedInt(readBuffer, 16));
+    int recordLength = readBuffer.readUnsignedInt("recordLength", 16);
 
     byte[] recordData =
         readBuffer.readByteArray("recordData", Math.toIntExact((recordLength) * (2)));
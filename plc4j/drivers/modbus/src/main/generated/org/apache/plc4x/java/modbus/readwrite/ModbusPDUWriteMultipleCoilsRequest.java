@@ -77,7 +77,7 @@ public class ModbusPDUWriteMultipleCoilsRequest extends ModbusPDU implements Mes
   @Override
   protected void serializeModbusPDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ModbusPDUWriteMultipleCoilsRequest");
 
     // Simple Field (startingAddress)
@@ -103,10 +103,9 @@ public class ModbusPDUWriteMultipleCoilsRequest extends ModbusPDU implements Mes
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ModbusPDUWriteMultipleCoilsRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (startingAddress)
     lengthInBits += 16;
@@ -129,13 +128,13 @@ public class ModbusPDUWriteMultipleCoilsRequest extends ModbusPDU implements Mes
       ReadBuffer readBuffer, Boolean response) throws ParseException {
     readBuffer.pullContext("ModbusPDUWriteMultipleCoilsRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
-    int startingAddress = readSimpleField("startingAddress", readUnsignedInt(readBuffer, 16));
+    int startingAddress = readBuffer.readUnsignedInt("startingAddress", 16);
 
-    int quantity = readSimpleField("quantity", readUnsignedInt(readBuffer, 16));
+    int quantity = readBuffer.readUnsignedInt("quantity", 16);
 
-    short byteCount = readImplicitField("byteCount", readUnsignedShort(readBuffer, 8));
+    short byteCount = readBuffer.readUnsignedShort("byteCount", 8);
 
     byte[] value = readBuffer.readByteArray("value", Math.toIntExact(byteCount));
 
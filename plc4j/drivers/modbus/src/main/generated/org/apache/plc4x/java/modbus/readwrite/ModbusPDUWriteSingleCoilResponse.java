@@ -71,7 +71,7 @@ public class ModbusPDUWriteSingleCoilResponse extends ModbusPDU implements Messa
   @Override
   protected void serializeModbusPDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ModbusPDUWriteSingleCoilResponse");
 
     // Simple Field (address)
@@ -89,29 +89,20 @@ public class ModbusPDUWriteSingleCoilResponse extends ModbusPDU implements Messa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ModbusPDUWriteSingleCoilResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (address)
-    lengthInBits += 16;
-
-    // Simple field (value)
-    lengthInBits += 16;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 32;
   }
 
   public static ModbusPDUBuilder staticParseModbusPDUBuilder(
       ReadBuffer readBuffer, Boolean response) throws ParseException {
     readBuffer.pullContext("ModbusPDUWriteSingleCoilResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
-    int address = readSimpleField("address", readUnsignedInt(readBuffer, 16));
+    int address = readBuffer.readUnsignedInt("address", 16);
 
-    int value = readSimpleField("value", readUnsignedInt(readBuffer, 16));
+    int value = readBuffer.readUnsignedInt("value", 16);
 
     readBuffer.closeContext("ModbusPDUWriteSingleCoilResponse");
     // Create the instance
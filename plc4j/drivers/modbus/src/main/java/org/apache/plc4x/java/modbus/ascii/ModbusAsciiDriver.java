@@ -26,10 +26,15 @@ import org.apache.plc4x.java.spi.configuration.PlcConnectionConfiguration;
 import org.apache.plc4x.java.spi.configuration.PlcTransportConfiguration;
 import org.apache.plc4x.java.modbus.ascii.config.ModbusAsciiConfiguration;
 import org.apache.plc4x.java.modbus.ascii.protocol.ModbusAsciiProtocolLogic;
+import org.apache.plc4x.java.modbus.base.serial.ModbusSerialBusChannelFactory;
+import org.apache.plc4x.java.modbus.base.serial.ModbusSerialFraming;
 import org.apache.plc4x.java.modbus.base.tag.ModbusTag;
 import org.apache.plc4x.java.modbus.readwrite.DriverType;
 import org.apache.plc4x.java.modbus.readwrite.ModbusAsciiADU;
+import org.apache.plc4x.java.modbus.readwrite.ModbusErrorCode;
+import org.apache.plc4x.java.modbus.readwrite.ModbusPDUError;
 import org.apache.plc4x.java.modbus.tcp.config.ModbusTcpTransportConfiguration;
+import org.apache.plc4x.java.spi.connection.ChannelFactory;
 import org.apache.plc4x.java.spi.connection.GeneratedDriverBase;
 import org.apache.plc4x.java.spi.connection.ProtocolStackConfigurer;
 import org.apache.plc4x.java.spi.connection.SingleProtocolStackConfigurer;
@@ -118,6 +123,18 @@ public class ModbusAsciiDriver extends GeneratedDriverBase<ModbusAsciiADU> {
         return new SingleTagOptimizer();
     }
 
+    /**
+     * With "shared-bus" all connections to the same serial port share it.
+     */
+    @Override
+    protected ChannelFactory wrapChannelFactory(ChannelFactory channelFactory, String transportConfig,
+                                                PlcConnectionConfiguration configuration) {
+        if (((ModbusAsciiConfiguration) configuration).isSharedBus()) {
+            return new ModbusSerialBusChannelFactory(channelFactory, transportConfig, new SerialFraming());
+        }
+        return channelFactory;
+    }
+
     @Override
     protected ProtocolStackConfigurer<ModbusAsciiADU> getStackConfigurer() {
         return SingleProtocolStackConfigurer.builder(ModbusAsciiADU.class, new ModbusAsciiInput(), new ModbusAsciiOutput())
@@ -176,6 +193,28 @@ public class ModbusAsciiDriver extends GeneratedDriverBase<ModbusAsciiADU> {
         }
     }
 
+    /** Frames of Modbus ASCII on a shared serial line */
+    public static class SerialFraming implements ModbusSerialFraming {
+        private final ByteLengthEstimator byteLengthEstimator = new ByteLengthEstimator();
+
+        @Override
+        public int getFrameLength(ByteBuf buffer) {
+            return byteLengthEstimator.applyAsInt(buffer);
+        }
+
+        @Override
+        public short getUnitIdentifier(ByteBuf request) {
+            // The address is the two hex-digits following the starting ":" character.
+            return Short.parseShort(request.toString(request.readerIndex() + 1, 2, StandardCharsets.US_ASCII), 16);
+        }
+
+        @Override
+        public byte[] createErrorResponse(short unitIdentifier, ModbusErrorCode errorCode) throws SerializationException {
+            ModbusAsciiADU modbusAsciiADU = new ModbusAsciiADU(unitIdentifier, new ModbusPDUError(errorCode));
+            return new ModbusAsciiOutput().serialize(modbusAsciiADU).getBytes();
+        }
+    }
+
     @Override
     public ModbusTag prepareTag(String tagAddress){
         return ModbusTag.of(tagAddress);
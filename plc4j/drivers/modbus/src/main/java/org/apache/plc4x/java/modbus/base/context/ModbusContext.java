@@ -27,6 +27,7 @@ public abstract class ModbusContext implements DriverContext {
     private ModbusByteOrder byteOrder;
     private int maxCoilsPerRequest;
     private int maxRegistersPerRequest;
+    private int maxInFlight = 1;
 
     public ModbusByteOrder getByteOrder() {
         return byteOrder;
@@ -52,4 +53,12 @@ public abstract class ModbusContext implements DriverContext {
         this.maxRegistersPerRequest = maxRegistersPerRequest;
     }
 
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
 }
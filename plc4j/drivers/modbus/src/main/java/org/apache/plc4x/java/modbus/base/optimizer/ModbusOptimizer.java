@@ -21,6 +21,7 @@ package org.apache.plc4x.java.modbus.base.optimizer;
 
 import org.apache.plc4x.java.api.messages.PlcReadRequest;
 import org.apache.plc4x.java.api.messages.PlcReadResponse;
+import org.apache.plc4x.java.api.messages.PlcWriteRequest;
 import org.apache.plc4x.java.api.model.PlcTag;
 import org.apache.plc4x.java.api.types.PlcResponseCode;
 import org.apache.plc4x.java.api.value.PlcValue;
@@ -44,13 +45,18 @@ import org.apache.plc4x.java.spi.generation.SerializationException;
 import org.apache.plc4x.java.spi.generation.WriteBufferXmlBased;
 import org.apache.plc4x.java.spi.messages.DefaultPlcReadRequest;
 import org.apache.plc4x.java.spi.messages.DefaultPlcReadResponse;
+import org.apache.plc4x.java.spi.messages.DefaultPlcWriteRequest;
 import org.apache.plc4x.java.spi.messages.PlcReader;
+import org.apache.plc4x.java.spi.messages.PlcWriter;
 import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagItem;
 import org.apache.plc4x.java.spi.messages.utils.DefaultPlcResponseItem;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagValueItem;
 import org.apache.plc4x.java.spi.messages.utils.PlcResponseItem;
 import org.apache.plc4x.java.spi.messages.utils.PlcTagItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcTagValueItem;
 import org.apache.plc4x.java.spi.optimizer.SingleTagOptimizer;
 import org.apache.plc4x.java.spi.values.PlcBOOL;
+import org.apache.plc4x.java.spi.values.PlcPrimitiveArray;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,7 +67,9 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.TreeSet;
+import java.util.function.ToIntFunction;
 
 /**
  * In order to read more data more efficiently, this optimizer for modbus joins together individual items
@@ -70,6 +78,18 @@ import java.util.TreeSet;
 public class ModbusOptimizer extends SingleTagOptimizer {
     private final Logger logger = LoggerFactory.getLogger(ModbusOptimizer.class);
 
+    // Limits of the write-multiple-coils (FC15) and write-multiple-registers (FC16) requests.
+    public static final int MAX_COILS_PER_WRITE = 1968;
+    public static final int MAX_REGISTERS_PER_WRITE = 123;
+
+    /**
+     * Sub-requests are sent back-to-back, as long as no more than "max-in-flight" of them are waiting for a response.
+     */
+    @Override
+    protected int getMaxConcurrentRequests(DriverContext driverContext) {
+        return Math.max(1, ((ModbusContext) driverContext).getMaxInFlight());
+    }
+
     /**
      * Per default the number of registers that can be read are 125 registers.
      * The number of coils that can be read in one request are 2000 coils.
@@ -233,9 +253,14 @@ public class ModbusOptimizer extends SingleTagOptimizer {
                         byte[] responseData = response.getResponseDataForTag(modbusTag);
                         ReadBuffer readBuffer = getReadBuffer(responseData, byteOrder);
                         try {
-                            PlcValue plcValue = DataItem.staticParse(readBuffer, modbusTag.getDataType(),
-                                modbusTag.getNumberOfElements(),
-                                byteOrder == ModbusByteOrder.BIG_ENDIAN);
+                            // Arrays of numbers are read into a primitive array instead of one PlcValue per element.
+                            PlcValue plcValue = (modbusTag.getNumberOfElements() > 1) ? PlcPrimitiveArray.parse(
+                                readBuffer, modbusTag.getPlcValueType(), modbusTag.getNumberOfElements()) : null;
+                            if (plcValue == null) {
+                                plcValue = DataItem.staticParse(readBuffer, modbusTag.getDataType(),
+                                    modbusTag.getNumberOfElements(),
+                                    byteOrder == ModbusByteOrder.BIG_ENDIAN);
+                            }
                             values.put(tagName, new DefaultPlcResponseItem<>(PlcResponseCode.OK, plcValue));
                         } catch (ParseException e) {
                             values.put(tagName, new DefaultPlcResponseItem<>(PlcResponseCode.INTERNAL_ERROR, null));
@@ -280,6 +305,51 @@ public class ModbusOptimizer extends SingleTagOptimizer {
         }
     }
 
+    /**
+     * Adjacent coils and holding registers are written with one write-multiple-coils or write-multiple-registers
+     * request, as long as they belong to the same unit and the block doesn't exceed the limit of 1968 coils or 123
+     * registers. Unlike when reading, gaps are not filled, as this would overwrite the values in between.
+     * All other tags are written one by one.
+     * <p>
+     * Every sub-request keeps the names of the original tags, so the response codes of the sub-responses simply
+     * apply to all tags in the block.
+     *
+     * @param writeRequest  the original write request
+     * @param driverContext the driver context
+     * @return a list of rewritten sub-requests
+     */
+    @Override
+    protected List<PlcWriteRequest> processWriteRequest(PlcWriteRequest writeRequest, DriverContext driverContext) {
+        if (writeRequest.getNumberOfTags() == 1) {
+            return Collections.singletonList(writeRequest);
+        }
+        ModbusContext modbusContext = (ModbusContext) driverContext;
+        PlcWriter writer = ((DefaultPlcWriteRequest) writeRequest).getWriter();
+
+        List<String> coils = new ArrayList<>();
+        List<String> holdingRegisters = new ArrayList<>();
+        List<PlcWriteRequest> subRequests = new ArrayList<>();
+        for (String tagName : writeRequest.getTagNames()) {
+            PlcTag tag = writeRequest.getTag(tagName);
+            if ((tag instanceof ModbusTagCoil) && (((ModbusTag) tag).getDataType() == ModbusDataType.BOOL)) {
+                coils.add(tagName);
+            } else if ((tag instanceof ModbusTagHoldingRegister) && (((ModbusTag) tag).getDataType() != ModbusDataType.BOOL)
+                && (((ModbusTag) tag).getLengthBytes() % 2 == 0)) {
+                holdingRegisters.add(tagName);
+            } else {
+                LinkedHashMap<String, PlcTagValueItem<PlcTag>> subTags = new LinkedHashMap<>();
+                subTags.put(tagName, new DefaultPlcTagValueItem<>(tag, writeRequest.getPlcValue(tagName)));
+                subRequests.add(new DefaultPlcWriteRequest(writer, subTags));
+            }
+        }
+
+        subRequests.addAll(processWriteBlocks(writeRequest, coils, writer, ModbusTag::getNumberOfElements,
+            getWriteLimit(modbusContext.getMaxCoilsPerRequest(), MAX_COILS_PER_WRITE)));
+        subRequests.addAll(processWriteBlocks(writeRequest, holdingRegisters, writer, tag -> tag.getLengthBytes() / 2,
+            getWriteLimit(modbusContext.getMaxRegistersPerRequest(), MAX_REGISTERS_PER_WRITE)));
+        return subRequests;
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Internal
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -369,6 +439,42 @@ public class ModbusOptimizer extends SingleTagOptimizer {
         return subRequests;
     }
 
+    protected List<PlcWriteRequest> processWriteBlocks(PlcWriteRequest writeRequest, List<String> tagNames, PlcWriter writer,
+                                                       ToIntFunction<ModbusTag> sizeFunction, int maxSize) {
+        List<PlcWriteRequest> subRequests = new ArrayList<>();
+        tagNames.sort(Comparator.comparing((String tagName) -> ((ModbusTag) writeRequest.getTag(tagName)).getUnitId(),
+                Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparingInt(tagName -> ((ModbusTag) writeRequest.getTag(tagName)).getAddress()));
+        LinkedHashMap<String, PlcTagValueItem<PlcTag>> subTags = null;
+        Short unitId = null;
+        int firstAddress = -1;
+        int lastAddress = -1;
+        for (String tagName : tagNames) {
+            ModbusTag tag = (ModbusTag) writeRequest.getTag(tagName);
+            int size = sizeFunction.applyAsInt(tag);
+            // Start a new block, if the tag doesn't directly follow the current one or the block would get too large.
+            if ((subTags == null) || !Objects.equals(unitId, tag.getUnitId()) || (tag.getAddress() != lastAddress) ||
+                (lastAddress + size - firstAddress > maxSize)) {
+                if (subTags != null) {
+                    subRequests.add(new DefaultPlcWriteRequest(writer, subTags));
+                }
+                subTags = new LinkedHashMap<>();
+                unitId = tag.getUnitId();
+                firstAddress = tag.getAddress();
+            }
+            subTags.put(tagName, new DefaultPlcTagValueItem<>(tag, writeRequest.getPlcValue(tagName)));
+            lastAddress = tag.getAddress() + size;
+        }
+        if (subTags != null) {
+            subRequests.add(new DefaultPlcWriteRequest(writer, subTags));
+        }
+        return subRequests;
+    }
+
+    private int getWriteLimit(int configuredLimit, int protocolLimit) {
+        return (configuredLimit > 0) ? Math.min(configuredLimit, protocolLimit) : protocolLimit;
+    }
+
     protected static class Response {
         private final PlcResponseCode responseCode;
         private final int startingAddress;
@@ -19,6 +19,7 @@
 package org.apache.plc4x.java.modbus.base.protocol;
 
 import org.apache.plc4x.java.api.exceptions.PlcRuntimeException;
+import org.apache.plc4x.java.api.messages.PlcWriteRequest;
 import org.apache.plc4x.java.api.model.PlcTag;
 import org.apache.plc4x.java.api.value.*;
 import org.apache.plc4x.java.api.types.PlcResponseCode;
@@ -34,7 +35,9 @@ import org.apache.plc4x.java.spi.values.PlcBOOL;
 import org.apache.plc4x.java.spi.values.PlcList;
 import org.apache.plc4x.java.spi.values.PlcRawByteArray;
 
+import java.io.ByteArrayOutputStream;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collections;
@@ -58,6 +61,11 @@ public abstract class ModbusProtocolLogic<T extends ModbusADU> extends Plc4xProt
         this.driverType = driverType;
     }
 
+    @Override
+    public void onConnect(ConversationContext<T> context) {
+        useDriverRuntimeExecutor(tm);
+    }
+
     @Override
     public void close(ConversationContext<T> context) {
         // Nothing to do here ...
@@ -150,6 +158,64 @@ public abstract class ModbusProtocolLogic<T extends ModbusADU> extends Plc4xProt
         throw new PlcRuntimeException("Unsupported read tag type " + tag.getClass().getName());
     }
 
+    /**
+     * Requests with more than one tag are only created by the ModbusOptimizer, joining adjacent coils or holding
+     * registers, which are then written with one write-multiple-coils or write-multiple-registers request.
+     */
+    protected ModbusPDU getWriteRequestPdu(PlcWriteRequest writeRequest) {
+        List<String> tagNames = new ArrayList<>(writeRequest.getTagNames());
+        PlcTag firstTag = writeRequest.getTag(tagNames.get(0));
+        if (tagNames.size() == 1) {
+            return getWriteRequestPdu(firstTag, writeRequest.getPlcValue(tagNames.get(0)));
+        }
+        int startingAddress = ((ModbusTag) firstTag).getAddress();
+        if (firstTag instanceof ModbusTagCoil) {
+            BitSet coils = new BitSet();
+            int quantity = 0;
+            for (String tagName : tagNames) {
+                ModbusTagCoil coil = getAdjacentTag(writeRequest.getTag(tagName), ModbusTagCoil.class, startingAddress + quantity);
+                byte[] bytes = fromPlcValue(coil, writeRequest.getPlcValue(tagName), getByteOrder(coil));
+                if (bytes.length < ((coil.getNumberOfElements() + 7) / 8)) {
+                    throw new PlcRuntimeException("Number of values doesn't match number of requested addresses (" +
+                        coil.getNumberOfElements() + ")");
+                }
+                // The first coil is the least significant bit of the first byte.
+                for (int i = 0; i < coil.getNumberOfElements(); i++) {
+                    coils.set(quantity + i, (bytes[i / 8] & (1 << (i % 8))) != 0);
+                }
+                quantity += coil.getNumberOfElements();
+            }
+            return new ModbusPDUWriteMultipleCoilsRequest(startingAddress, quantity,
+                Arrays.copyOf(coils.toByteArray(), (quantity + 7) / 8));
+        } else if (firstTag instanceof ModbusTagHoldingRegister) {
+            ByteArrayOutputStream registers = new ByteArrayOutputStream();
+            for (String tagName : tagNames) {
+                ModbusTagHoldingRegister holdingRegister = getAdjacentTag(writeRequest.getTag(tagName),
+                    ModbusTagHoldingRegister.class, startingAddress + (registers.size() / 2));
+                byte[] bytes = fromPlcValue(holdingRegister, writeRequest.getPlcValue(tagName), getByteOrder(holdingRegister));
+                if (bytes.length != holdingRegister.getLengthWords() * 2) {
+                    throw new PlcRuntimeException("Number of requested values (" + bytes.length / 2 +
+                        ") doesn't match number of requested addresses (" + holdingRegister.getLengthWords() + ")");
+                }
+                registers.writeBytes(bytes);
+            }
+            return new ModbusPDUWriteMultipleHoldingRegistersRequest(startingAddress, registers.size() / 2,
+                registers.toByteArray());
+        }
+        throw new PlcRuntimeException("Only coils and holding registers can be written with one request");
+    }
+
+    private <T extends ModbusTag> T getAdjacentTag(PlcTag tag, Class<T> tagType, int address) {
+        if (!tagType.isInstance(tag) || (((ModbusTag) tag).getAddress() != address)) {
+            throw new PlcRuntimeException("Tags written with one request must be adjacent and of the same type");
+        }
+        return tagType.cast(tag);
+    }
+
+    private ModbusByteOrder getByteOrder(ModbusTag tag) {
+        return (tag.getByteOrder() != null) ? tag.getByteOrder() : defaultPayloadByteOrder;
+    }
+
     protected ModbusPDU getWriteRequestPdu(PlcTag tag, PlcValue plcValue) {
         if (tag instanceof ModbusTagCoil) {
             ModbusTagCoil coil = (ModbusTagCoil) tag;
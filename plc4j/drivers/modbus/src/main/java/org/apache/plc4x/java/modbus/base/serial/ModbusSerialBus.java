@@ -0,0 +1,302 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.modbus.base.serial;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import org.apache.plc4x.java.modbus.base.shared.ModbusSharedChannel;
+import org.apache.plc4x.java.modbus.readwrite.ModbusErrorCode;
+import org.apache.plc4x.java.spi.connection.ChannelFactory;
+import org.apache.plc4x.java.spi.generation.SerializationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One serial line (RS-485) shared by the connections to all slaves on it.
+ * <p>
+ * The requests of every connection are queued. Only one request is on the line at a time and after every frame
+ * the line is kept silent for 3.5 characters (T3.5). The next request is taken from the connection with the
+ * highest "bus-priority", connections with the same priority take turns. A connection with a "poll-period" has
+ * to wait that long between two of its requests.
+ * <p>
+ * A slave, which didn't respond to two requests in a row, is considered dead and is skipped for
+ * "dead-slave-backoff" milliseconds: requests to it are answered with a "gateway target device failed to respond"
+ * error right away, instead of blocking the line till they time out. After that, the next request is sent again.
+ */
+class ModbusSerialBus extends ModbusSharedChannel<ModbusSerialBusConfiguration, ModbusSerialBus.Session> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ModbusSerialBus.class);
+
+    // Number of requests in a row a slave didn't respond to, before it is skipped.
+    private static final int DEAD_AFTER_MISSED_RESPONSES = 2;
+
+    private final ModbusSerialFraming framing;
+    private final long interFrameDelayNanos;
+
+    private final Map<Short, Slave> slaves = new HashMap<>();
+    private ResponseDecoder responseDecoder;
+    private Request current;
+    private long silentUntil = System.nanoTime();
+    private ScheduledFuture<?> scheduledDispatch;
+
+    ModbusSerialBus(String key, ChannelFactory channelFactory, ModbusSerialFraming framing, int baudRate) {
+        super(key, channelFactory);
+        this.framing = framing;
+        this.interFrameDelayNanos = getInterFrameDelayNanos(baudRate);
+    }
+
+    /**
+     * The silent interval between two frames is 3.5 characters of 11 bits each. Above 19200 baud a fixed
+     * 1.75 ms is used, as recommended by the specification.
+     *
+     * @param baudRate baud-rate of the serial line or 0, if unknown.
+     * @return silent interval in nanoseconds.
+     */
+    static long getInterFrameDelayNanos(int baudRate) {
+        if ((baudRate <= 0) || (baudRate > 19200)) {
+            return 1_750_000L;
+        }
+        return 38_500_000_000L / baudRate;
+    }
+
+    @Override
+    protected ChannelHandler createResponseDecoder() {
+        responseDecoder = new ResponseDecoder();
+        return responseDecoder;
+    }
+
+    @Override
+    protected Session createSession(Channel channel, ModbusSerialBusConfiguration configuration) {
+        return new Session(channel, configuration);
+    }
+
+    @Override
+    protected void onRequest(Session session, ByteBuf frame) {
+        session.pending.add(new Request(session, frame, framing.getUnitIdentifier(frame), System.nanoTime()));
+        dispatch();
+    }
+
+    /**
+     * Sends the next request, if the line is free.
+     */
+    private void dispatch() {
+        if (current != null) {
+            return;
+        }
+        long now = System.nanoTime();
+        boolean silent = silentUntil - now <= 0;
+        boolean[] waiting = {false};
+        long[] wakeUpDelay = {Long.MAX_VALUE};
+        Session next = nextSession(session -> {
+            discardUnsendable(session, now);
+            if (session.pending.isEmpty()) {
+                return false;
+            }
+            if (session.nextPollAt - now > 0) {
+                wakeUpDelay[0] = Math.min(wakeUpDelay[0], session.nextPollAt - now);
+                return false;
+            }
+            // Connections keep their turn, till the line was silent long enough.
+            waiting[0] = true;
+            return silent;
+        }, session -> session.getConfiguration().getBusPriority());
+        if (next != null) {
+            send(next.pending.poll(), now);
+        } else if (waiting[0]) {
+            scheduleDispatch(silentUntil - now);
+        } else if (wakeUpDelay[0] != Long.MAX_VALUE) {
+            scheduleDispatch(wakeUpDelay[0]);
+        }
+    }
+
+    /**
+     * Drops requests, the connection already gave up on, and answers requests to dead slaves.
+     */
+    private void discardUnsendable(Session session, long now) {
+        while (!session.pending.isEmpty()) {
+            Request request = session.pending.peek();
+            if (now - request.queuedAt >= TimeUnit.MILLISECONDS.toNanos(session.getConfiguration().getRequestTimeout())) {
+                session.pending.poll();
+                request.frame.release();
+                continue;
+            }
+            Slave slave = slaves.get(request.unitIdentifier);
+            if ((slave != null) && slave.isSkipped(now)) {
+                session.pending.poll();
+                request.frame.release();
+                respondWithError(session, request.unitIdentifier);
+                continue;
+            }
+            return;
+        }
+    }
+
+    private void respondWithError(Session session, short unitIdentifier) {
+        try {
+            byte[] response = framing.createErrorResponse(unitIdentifier, ModbusErrorCode.GATEWAY_TARGET_DEVICE_FAILED_TO_RESPOND);
+            session.respond(Unpooled.wrappedBuffer(response));
+        } catch (SerializationException e) {
+            logger.warn("Error creating the error response for slave {} on {}", unitIdentifier, getKey(), e);
+        }
+    }
+
+    private void scheduleDispatch(long delayNanos) {
+        if (scheduledDispatch != null) {
+            scheduledDispatch.cancel(false);
+        }
+        scheduledDispatch = getEventLoop().schedule(this::dispatch, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void send(Request request, long now) {
+        Session session = request.session;
+        current = request;
+        session.nextPollAt = now + TimeUnit.MILLISECONDS.toNanos(session.getConfiguration().getPollPeriod());
+        // Give up on the request, when the connection does.
+        long remaining = TimeUnit.MILLISECONDS.toNanos(session.getConfiguration().getRequestTimeout()) - (now - request.queuedAt);
+        request.timeout = getEventLoop().schedule(() -> onTimeout(request), remaining, TimeUnit.NANOSECONDS);
+        getChannel().writeAndFlush(request.frame, getChannel().voidPromise());
+    }
+
+    @Override
+    protected void onResponse(ByteBuf response) {
+        Request request = current;
+        current = null;
+        request.timeout.cancel(false);
+        Slave slave = slaves.get(request.unitIdentifier);
+        if (slave != null) {
+            slave.missedResponses = 0;
+        }
+        silentUntil = System.nanoTime() + interFrameDelayNanos;
+        request.session.respond(response);
+        dispatch();
+    }
+
+    private void onTimeout(Request request) {
+        if (current != request) {
+            return;
+        }
+        current = null;
+        responseDecoder.discard();
+        long now = System.nanoTime();
+        Slave slave = slaves.computeIfAbsent(request.unitIdentifier, unitIdentifier -> new Slave());
+        if (++slave.missedResponses >= DEAD_AFTER_MISSED_RESPONSES) {
+            int backoff = request.session.getConfiguration().getDeadSlaveBackoff();
+            slave.skippedUntil = now + TimeUnit.MILLISECONDS.toNanos(backoff);
+            logger.info("Slave {} on {} didn't respond {} times in a row, skipping it for {} ms",
+                request.unitIdentifier, getKey(), slave.missedResponses, backoff);
+        }
+        silentUntil = now + interFrameDelayNanos;
+        dispatch();
+    }
+
+    @Override
+    protected void onSessionClosed(Session session) {
+        session.pending.forEach(request -> request.frame.release());
+        session.pending.clear();
+        // The response of a request still on the line is dropped, when it arrives.
+    }
+
+    @Override
+    protected void onClosed() {
+        if (current != null) {
+            current.timeout.cancel(false);
+            current = null;
+        }
+        if (scheduledDispatch != null) {
+            scheduledDispatch.cancel(false);
+        }
+    }
+
+    static final class Session extends ModbusSharedChannel.Session<ModbusSerialBusConfiguration> {
+        private final Queue<Request> pending = new ArrayDeque<>();
+        private long nextPollAt = System.nanoTime();
+
+        private Session(Channel channel, ModbusSerialBusConfiguration configuration) {
+            super(channel, configuration);
+        }
+    }
+
+    private static final class Request {
+        private final Session session;
+        private final ByteBuf frame;
+        private final short unitIdentifier;
+        private final long queuedAt;
+        private ScheduledFuture<?> timeout;
+
+        private Request(Session session, ByteBuf frame, short unitIdentifier, long queuedAt) {
+            this.session = session;
+            this.frame = frame;
+            this.unitIdentifier = unitIdentifier;
+            this.queuedAt = queuedAt;
+        }
+    }
+
+    private static final class Slave {
+        private int missedResponses;
+        private long skippedUntil;
+
+        private boolean isSkipped(long now) {
+            return (missedResponses >= DEAD_AFTER_MISSED_RESPONSES) && (skippedUntil - now > 0);
+        }
+    }
+
+    /**
+     * Delimits the response to the request on the line with the {@link ModbusSerialFraming}. As only one slave
+     * talks at a time, anything received without a request or after the response is dropped.
+     */
+    private class ResponseDecoder extends ByteToMessageDecoder {
+
+        @Override
+        protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+            if (current == null) {
+                // Most probably the response to a request, which already timed out.
+                logger.debug("Dropping {} bytes received without a request on {}", in.readableBytes(), getKey());
+                in.skipBytes(in.readableBytes());
+                return;
+            }
+            int frameLength = framing.getFrameLength(in);
+            if ((frameLength <= 0) || (in.readableBytes() < frameLength)) {
+                return;
+            }
+            out.add(in.readRetainedSlice(frameLength));
+            in.skipBytes(in.readableBytes());
+        }
+
+        /**
+         * Drops the part of a response received so far.
+         */
+        private void discard() {
+            ByteBuf received = internalBuffer();
+            received.skipBytes(received.readableBytes());
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.modbus.base.serial;
+
+import org.apache.plc4x.java.modbus.base.shared.ModbusSharedChannelFactory;
+import org.apache.plc4x.java.spi.configuration.HasConfiguration;
+import org.apache.plc4x.java.spi.connection.ChannelFactory;
+import org.apache.plc4x.java.transport.serial.SerialChannelFactory;
+
+/**
+ * Channel factory of connections with "shared-bus": instead of opening the serial port for every
+ * {@link org.apache.plc4x.java.api.PlcConnection}, all connections to the same port get a local channel to one
+ * shared {@link ModbusSerialBus}, which schedules the requests to all slaves.
+ */
+public class ModbusSerialBusChannelFactory extends ModbusSharedChannelFactory<ModbusSerialBusConfiguration, ModbusSerialBus>
+    implements HasConfiguration<ModbusSerialBusConfiguration> {
+
+    private final ModbusSerialFraming framing;
+
+    /**
+     * @param channelFactory  channel factory of the transport, used to open the serial port.
+     * @param transportConfig name of the serial port.
+     * @param framing         framing of the Modbus variant used on the line.
+     */
+    public ModbusSerialBusChannelFactory(ChannelFactory channelFactory, String transportConfig, ModbusSerialFraming framing) {
+        super(channelFactory, transportConfig);
+        this.framing = framing;
+    }
+
+    @Override
+    protected ModbusSerialBus createSharedChannel(String key, ChannelFactory channelFactory) {
+        return new ModbusSerialBus(key, channelFactory, framing, getBaudRate(channelFactory));
+    }
+
+    private static int getBaudRate(ChannelFactory channelFactory) {
+        if ((channelFactory instanceof SerialChannelFactory) && (((SerialChannelFactory) channelFactory).getConfiguration() != null)) {
+            return ((SerialChannelFactory) channelFactory).getConfiguration().getBaudRate();
+        }
+        // Not a serial port (e.g. RTU over TCP), so the timing doesn't matter much.
+        return 0;
+    }
+
+}
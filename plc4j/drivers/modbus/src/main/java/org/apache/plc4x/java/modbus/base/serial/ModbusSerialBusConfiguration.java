@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.modbus.base.serial;
+
+import org.apache.plc4x.java.spi.configuration.PlcConnectionConfiguration;
+
+/**
+ * Options of the serial drivers (RTU and ASCII) used by the {@link ModbusSerialBus}.
+ */
+public interface ModbusSerialBusConfiguration extends PlcConnectionConfiguration {
+
+    int getRequestTimeout();
+
+    boolean isSharedBus();
+
+    int getBusPriority();
+
+    int getPollPeriod();
+
+    int getDeadSlaveBackoff();
+
+}
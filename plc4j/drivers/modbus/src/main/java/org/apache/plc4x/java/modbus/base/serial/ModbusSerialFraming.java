@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.modbus.base.serial;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.plc4x.java.modbus.readwrite.ModbusErrorCode;
+import org.apache.plc4x.java.spi.generation.SerializationException;
+
+/**
+ * Knows where the frames of a serial Modbus variant (RTU or ASCII) start and end, as the serial line itself
+ * doesn't tell.
+ */
+public interface ModbusSerialFraming {
+
+    /**
+     * @param buffer bytes received so far.
+     * @return number of bytes of the frame at the start of the buffer or -1, if the frame isn't complete yet.
+     */
+    int getFrameLength(ByteBuf buffer);
+
+    /**
+     * @param request frame of a request.
+     * @return unit-identifier (slave-id) of the slave the request is sent to.
+     */
+    short getUnitIdentifier(ByteBuf request);
+
+    /**
+     * @param unitIdentifier unit-identifier (slave-id) of the slave, which should have responded.
+     * @param errorCode      the error to report.
+     * @return frame of an error response as the slave would have sent it.
+     */
+    byte[] createErrorResponse(short unitIdentifier, ModbusErrorCode errorCode) throws SerializationException;
+
+}
@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.modbus.base.shared;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoop;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalServerChannel;
+import org.apache.plc4x.java.api.exceptions.PlcConnectionException;
+import org.apache.plc4x.java.spi.configuration.PlcConnectionConfiguration;
+import org.apache.plc4x.java.spi.connection.ChannelFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * One channel of the transport (e.g. a TCP connection or a serial port), shared by many connections.
+ * <p>
+ * Every connection gets a local channel to this shared channel. Its requests are passed to
+ * {@link #onRequest(Session, ByteBuf)} and the frames received from the transport to {@link #onResponse(ByteBuf)}.
+ * It's up to the implementation to decide when to send which request and which connection a response belongs to.
+ * <p>
+ * All state, except for the reference counting and the configurations of connecting connections, is only accessed
+ * from the event loop of the transport channel.
+ *
+ * @param <C> configuration of the connections.
+ * @param <S> state kept per connection.
+ */
+public abstract class ModbusSharedChannel<C extends PlcConnectionConfiguration, S extends ModbusSharedChannel.Session<C>> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ModbusSharedChannel.class);
+
+    private final String key;
+    private final ChannelFactory channelFactory;
+    private final LocalAddress localAddress;
+    // Configurations of the connections, which are connecting, by the address of their local channel.
+    private final Map<SocketAddress, C> connecting = new ConcurrentHashMap<>();
+
+    /** Number of connections using this channel, guarded by the registry */
+    int references;
+    private volatile boolean lost;
+
+    private Channel channel;
+    private Channel serverChannel;
+
+    private final List<S> sessions = new ArrayList<>();
+    private int nextSession;
+
+    protected ModbusSharedChannel(String key, ChannelFactory channelFactory) {
+        this.key = key;
+        this.channelFactory = channelFactory;
+        this.localAddress = new LocalAddress(getClass());
+    }
+
+    /**
+     * @return splits the bytes received from the transport into frames.
+     */
+    protected abstract ChannelHandler createResponseDecoder();
+
+    /**
+     * @return splits the bytes written by a connection into requests or null, if every buffer written is one request.
+     */
+    protected ChannelHandler createRequestDecoder() {
+        return null;
+    }
+
+    protected abstract S createSession(Channel channel, C configuration);
+
+    protected abstract void onRequest(S session, ByteBuf request);
+
+    protected abstract void onResponse(ByteBuf response);
+
+    /**
+     * Called after the connection was closed. Its requests still queued have to be dropped.
+     */
+    protected abstract void onSessionClosed(S session);
+
+    /**
+     * Called when the transport channel was closed, before all connections are closed.
+     */
+    protected abstract void onClosed();
+
+    /**
+     * Opens the transport channel, if this didn't happen yet.
+     */
+    synchronized void connect() throws PlcConnectionException {
+        if (channel != null) {
+            if (!channel.isActive()) {
+                throw new PlcConnectionException("The connection to " + key + " was lost");
+            }
+            return;
+        }
+        channel = channelFactory.createChannel(new ChannelInitializer<Channel>() {
+            @Override
+            protected void initChannel(Channel ch) {
+                channelFactory.initializePipeline(ch.pipeline());
+                ch.pipeline().addLast(createResponseDecoder());
+                ch.pipeline().addLast(new FrameHandler(ModbusSharedChannel.this::onResponse, () -> {
+                    lost = true;
+                    logger.debug("Lost the connection to {}", key);
+                    onClosed();
+                    // Let all connections know.
+                    new ArrayList<>(sessions).forEach(session -> session.channel.close());
+                    if (serverChannel != null) {
+                        serverChannel.close();
+                    }
+                }));
+            }
+        });
+        serverChannel = new ServerBootstrap()
+            .group(channel.eventLoop())
+            .channel(LocalServerChannel.class)
+            .childHandler(new ChannelInitializer<Channel>() {
+                @Override
+                protected void initChannel(Channel ch) {
+                    C configuration = connecting.remove(ch.remoteAddress());
+                    if (configuration == null) {
+                        ch.close();
+                        return;
+                    }
+                    S session = createSession(ch, configuration);
+                    sessions.add(session);
+                    ChannelHandler requestDecoder = createRequestDecoder();
+                    if (requestDecoder != null) {
+                        ch.pipeline().addLast(requestDecoder);
+                    }
+                    ch.pipeline().addLast(new FrameHandler(request -> onRequest(session, request),
+                        () -> closeSession(session)));
+                }
+            })
+            .bind(localAddress)
+            .syncUninterruptibly()
+            .channel();
+        logger.debug("Connected to {}", key);
+    }
+
+    /**
+     * Announces a connection, which is about to connect from the given local address.
+     */
+    void register(LocalAddress sessionAddress, C configuration) {
+        connecting.put(sessionAddress, configuration);
+    }
+
+    void unregister(LocalAddress sessionAddress) {
+        connecting.remove(sessionAddress);
+    }
+
+    LocalAddress getLocalAddress() {
+        return localAddress;
+    }
+
+    /**
+     * @return true, if the transport channel was closed, so the next connection has to open a new one.
+     */
+    boolean isLost() {
+        return lost;
+    }
+
+    void close() {
+        logger.debug("Closing the connection to {}", key);
+        if (serverChannel != null) {
+            serverChannel.close();
+        }
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    protected String getKey() {
+        return key;
+    }
+
+    protected Channel getChannel() {
+        return channel;
+    }
+
+    protected EventLoop getEventLoop() {
+        return channel.eventLoop();
+    }
+
+    protected List<S> getSessions() {
+        return sessions;
+    }
+
+    /**
+     * Picks the connection to serve next: the one with the highest priority, of all connections being ready.
+     * Connections with the same priority take turns, starting with the one after the connection served last.
+     *
+     * @param ready    tells if a connection has a request, that can be sent now.
+     * @param priority priority of a connection.
+     * @return the connection to send a request of or null, if none is ready.
+     */
+    protected S nextSession(Predicate<S> ready, ToIntFunction<S> priority) {
+        S next = null;
+        int nextIndex = 0;
+        for (int i = 0; i < sessions.size(); i++) {
+            int index = (nextSession + i) % sessions.size();
+            S session = sessions.get(index);
+            if (!ready.test(session)) {
+                continue;
+            }
+            if ((next == null) || (priority.applyAsInt(session) > priority.applyAsInt(next))) {
+                next = session;
+                nextIndex = index;
+            }
+        }
+        if (next != null) {
+            nextSession = nextIndex + 1;
+        }
+        return next;
+    }
+
+    private void closeSession(S session) {
+        int index = sessions.indexOf(session);
+        if (index < 0) {
+            return;
+        }
+        sessions.remove(index);
+        if (index < nextSession) {
+            nextSession--;
+        }
+        onSessionClosed(session);
+    }
+
+    /**
+     * State of one connection using the shared channel.
+     */
+    public static class Session<C> {
+
+        final Channel channel;
+        private final C configuration;
+
+        protected Session(Channel channel, C configuration) {
+            this.channel = channel;
+            this.configuration = configuration;
+        }
+
+        public C getConfiguration() {
+            return configuration;
+        }
+
+        /**
+         * Passes a response on to the connection.
+         */
+        public void respond(ByteBuf response) {
+            if (channel.isActive()) {
+                channel.writeAndFlush(response, channel.voidPromise());
+            } else {
+                response.release();
+            }
+        }
+    }
+
+    /**
+     * Passes the frames on and reports the channel being closed.
+     */
+    private static class FrameHandler extends ChannelInboundHandlerAdapter {
+
+        private final Consumer<ByteBuf> frameConsumer;
+        private final Runnable closeHandler;
+
+        private FrameHandler(Consumer<ByteBuf> frameConsumer, Runnable closeHandler) {
+            this.frameConsumer = frameConsumer;
+            this.closeHandler = closeHandler;
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            if (msg instanceof ByteBuf) {
+                frameConsumer.accept((ByteBuf) msg);
+            } else {
+                ctx.fireChannelRead(msg);
+            }
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+            closeHandler.run();
+            super.channelInactive(ctx);
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.modbus.base.shared;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import org.apache.plc4x.java.api.exceptions.PlcConnectionException;
+import org.apache.plc4x.java.spi.configuration.ConfigurationFactory;
+import org.apache.plc4x.java.spi.configuration.HasConfiguration;
+import org.apache.plc4x.java.spi.configuration.PlcConnectionConfiguration;
+import org.apache.plc4x.java.spi.connection.ChannelFactory;
+import org.apache.plc4x.java.spi.runtime.DriverRuntime;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Channel factory, which doesn't open a transport channel per {@link org.apache.plc4x.java.api.PlcConnection}, but
+ * connects all connections with the same transport configuration to one {@link ModbusSharedChannel}.
+ * The shared channel is opened by the first connection and closed with the last one.
+ * <p>
+ * As the {@link ConfigurationFactory} only passes configurations to classes directly implementing
+ * {@link HasConfiguration}, implementations have to declare it again with their configuration type.
+ *
+ * @param <C> configuration of the connections.
+ * @param <T> type of the shared channel.
+ */
+public abstract class ModbusSharedChannelFactory<C extends PlcConnectionConfiguration, T extends ModbusSharedChannel<C, ?>>
+    implements ChannelFactory, HasConfiguration<C> {
+
+    /** Shared channels in use, by type and key */
+    private static final Map<String, ModbusSharedChannel<?, ?>> SHARED_CHANNELS = new HashMap<>();
+
+    private final ChannelFactory channelFactory;
+    private final String key;
+    private C configuration;
+
+    /**
+     * @param channelFactory channel factory of the transport, used to open the shared channel.
+     * @param key            identifies the shared channel, all connections with the same key use the same one.
+     */
+    protected ModbusSharedChannelFactory(ChannelFactory channelFactory, String key) {
+        this.channelFactory = channelFactory;
+        this.key = key;
+    }
+
+    protected abstract T createSharedChannel(String key, ChannelFactory channelFactory);
+
+    @Override
+    public void setConfiguration(C configuration) {
+        this.configuration = configuration;
+        ConfigurationFactory.configure(configuration, channelFactory);
+    }
+
+    @Override
+    public Channel createChannel(ChannelHandler channelHandler) throws PlcConnectionException {
+        T sharedChannel = acquire();
+        LocalAddress sessionAddress = new LocalAddress(getClass());
+        try {
+            sharedChannel.connect();
+            sharedChannel.register(sessionAddress, configuration);
+            ChannelFuture connectFuture = new Bootstrap()
+                .group(sharedChannel.getEventLoop())
+                .channel(LocalChannel.class)
+                .handler(channelHandler)
+                .connect(sharedChannel.getLocalAddress(), sessionAddress)
+                .awaitUninterruptibly();
+            if (!connectFuture.isSuccess()) {
+                throw new PlcConnectionException("Error connecting to " + key, connectFuture.cause());
+            }
+            Channel channel = connectFuture.channel();
+            channel.closeFuture().addListener(future -> release(sharedChannel));
+            return channel;
+        } catch (PlcConnectionException | RuntimeException e) {
+            sharedChannel.unregister(sessionAddress);
+            release(sharedChannel);
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T acquire() {
+        String registryKey = getClass().getName() + ":" + key;
+        synchronized (SHARED_CHANNELS) {
+            T sharedChannel = (T) SHARED_CHANNELS.get(registryKey);
+            // Replace a shared channel, which lost its connection. It's closed with its last connection.
+            if ((sharedChannel == null) || sharedChannel.isLost()) {
+                sharedChannel = createSharedChannel(key, channelFactory);
+                SHARED_CHANNELS.put(registryKey, sharedChannel);
+            }
+            sharedChannel.references++;
+            return sharedChannel;
+        }
+    }
+
+    private void release(T sharedChannel) {
+        synchronized (SHARED_CHANNELS) {
+            if (--sharedChannel.references > 0) {
+                return;
+            }
+            SHARED_CHANNELS.remove(getClass().getName() + ":" + key, sharedChannel);
+        }
+        sharedChannel.close();
+    }
+
+    @Override
+    public boolean isPassive() {
+        return channelFactory.isPassive();
+    }
+
+    @Override
+    public void setDriverRuntime(DriverRuntime driverRuntime) {
+        channelFactory.setDriverRuntime(driverRuntime);
+    }
+
+    @Override
+    public DriverRuntime getDriverRuntime() {
+        return channelFactory.getDriverRuntime();
+    }
+
+}
@@ -19,7 +19,11 @@
 package org.apache.plc4x.java.modbus.rtu;
 
 import io.netty.buffer.ByteBuf;
+import org.apache.plc4x.java.modbus.base.serial.ModbusSerialBusChannelFactory;
+import org.apache.plc4x.java.modbus.base.serial.ModbusSerialFraming;
 import org.apache.plc4x.java.modbus.readwrite.ModbusADU;
+import org.apache.plc4x.java.modbus.readwrite.ModbusErrorCode;
+import org.apache.plc4x.java.modbus.readwrite.ModbusPDUError;
 import org.apache.plc4x.java.modbus.rtu.context.ModbusRtuContext;
 import org.apache.plc4x.java.spi.configuration.PlcConnectionConfiguration;
 import org.apache.plc4x.java.spi.configuration.PlcTransportConfiguration;
@@ -29,11 +33,14 @@ import org.apache.plc4x.java.modbus.readwrite.ModbusRtuADU;
 import org.apache.plc4x.java.modbus.rtu.config.ModbusRtuConfiguration;
 import org.apache.plc4x.java.modbus.rtu.protocol.ModbusRtuProtocolLogic;
 import org.apache.plc4x.java.modbus.tcp.config.ModbusTcpTransportConfiguration;
+import org.apache.plc4x.java.spi.connection.ChannelFactory;
 import org.apache.plc4x.java.spi.connection.GeneratedDriverBase;
 import org.apache.plc4x.java.spi.connection.ProtocolStackConfigurer;
 import org.apache.plc4x.java.spi.connection.SingleProtocolStackConfigurer;
 import org.apache.plc4x.java.spi.generation.ParseException;
 import org.apache.plc4x.java.spi.generation.ReadBufferByteBased;
+import org.apache.plc4x.java.spi.generation.SerializationException;
+import org.apache.plc4x.java.spi.generation.WriteBufferByteBased;
 import org.apache.plc4x.java.spi.optimizer.BaseOptimizer;
 import org.apache.plc4x.java.spi.optimizer.SingleTagOptimizer;
 
@@ -116,6 +123,18 @@ public class ModbusRtuDriver extends GeneratedDriverBase<ModbusRtuADU> {
         return new SingleTagOptimizer();
     }
 
+    /**
+     * With "shared-bus" all connections to the same serial port share it.
+     */
+    @Override
+    protected ChannelFactory wrapChannelFactory(ChannelFactory channelFactory, String transportConfig,
+                                                PlcConnectionConfiguration configuration) {
+        if (((ModbusRtuConfiguration) configuration).isSharedBus()) {
+            return new ModbusSerialBusChannelFactory(channelFactory, transportConfig, new SerialFraming());
+        }
+        return channelFactory;
+    }
+
     @Override
     protected ProtocolStackConfigurer<ModbusRtuADU> getStackConfigurer() {
         return SingleProtocolStackConfigurer.builder(ModbusRtuADU.class, io -> (ModbusRtuADU) ModbusRtuADU.staticParse(io, DriverType.MODBUS_RTU, true))
@@ -156,6 +175,29 @@ public class ModbusRtuDriver extends GeneratedDriverBase<ModbusRtuADU> {
         }
     }
 
+    /** Frames of Modbus RTU on a shared serial line */
+    public static class SerialFraming implements ModbusSerialFraming {
+        private final ByteLengthEstimator byteLengthEstimator = new ByteLengthEstimator();
+
+        @Override
+        public int getFrameLength(ByteBuf buffer) {
+            return byteLengthEstimator.applyAsInt(buffer);
+        }
+
+        @Override
+        public short getUnitIdentifier(ByteBuf request) {
+            return request.getUnsignedByte(request.readerIndex());
+        }
+
+        @Override
+        public byte[] createErrorResponse(short unitIdentifier, ModbusErrorCode errorCode) throws SerializationException {
+            ModbusRtuADU modbusRtuADU = new ModbusRtuADU(unitIdentifier, new ModbusPDUError(errorCode));
+            WriteBufferByteBased writeBuffer = new WriteBufferByteBased(modbusRtuADU.getLengthInBytes());
+            modbusRtuADU.serialize(writeBuffer);
+            return writeBuffer.getBytes();
+        }
+    }
+
     @Override
     public ModbusTag prepareTag(String tagAddress){
         return ModbusTag.of(tagAddress);
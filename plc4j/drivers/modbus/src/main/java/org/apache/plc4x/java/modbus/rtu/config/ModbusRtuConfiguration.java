@@ -18,15 +18,17 @@
  */
 package org.apache.plc4x.java.modbus.rtu.config;
 
+import org.apache.plc4x.java.modbus.base.serial.ModbusSerialBusConfiguration;
 import org.apache.plc4x.java.modbus.types.ModbusByteOrder;
 import org.apache.plc4x.java.spi.configuration.PlcConnectionConfiguration;
 import org.apache.plc4x.java.spi.configuration.annotations.ConfigurationParameter;
 import org.apache.plc4x.java.spi.configuration.annotations.Description;
 import org.apache.plc4x.java.spi.configuration.annotations.Since;
+import org.apache.plc4x.java.spi.configuration.annotations.defaults.BooleanDefaultValue;
 import org.apache.plc4x.java.spi.configuration.annotations.defaults.IntDefaultValue;
 import org.apache.plc4x.java.spi.configuration.annotations.defaults.StringDefaultValue;
 
-public class ModbusRtuConfiguration implements PlcConnectionConfiguration {
+public class ModbusRtuConfiguration implements PlcConnectionConfiguration, ModbusSerialBusConfiguration {
 
     @ConfigurationParameter("request-timeout")
     @IntDefaultValue(5_000)
@@ -62,6 +64,31 @@ public class ModbusRtuConfiguration implements PlcConnectionConfiguration {
     @Since("0.13.0")
     private int maxRegistersPerRequest;
 
+    @ConfigurationParameter("shared-bus")
+    @BooleanDefaultValue(false)
+    @Description("If enabled, all connections to the same serial port share it, with one connection per slave. The requests of all connections are sent one after another, with the silent interval required between two frames, which is derived from the baud-rate (Defaults to false)")
+    @Since("0.13.0")
+    private boolean sharedBus;
+
+    @ConfigurationParameter("bus-priority")
+    @IntDefaultValue(0)
+    @Description("Only used with \"shared-bus\": Requests of connections with a higher priority are sent first, connections with the same priority take turns (Defaults to 0)")
+    @Since("0.13.0")
+    private int busPriority;
+
+    @ConfigurationParameter("poll-period")
+    @IntDefaultValue(0)
+    @Description("Only used with \"shared-bus\": Minimum time in milliseconds between two requests of this connection, so frequently polled slaves don't hog the bus (Defaults to 0)")
+    @Since("0.13.0")
+    private int pollPeriod;
+
+    @ConfigurationParameter("dead-slave-backoff")
+    @IntDefaultValue(10_000)
+    @Description("Only used with \"shared-bus\": Time in milliseconds a slave, which didn't respond to two requests in a row, is skipped. Requests to it fail right away instead of blocking the bus till they time out (Defaults to 10000)")
+    @Since("0.13.0")
+    private int deadSlaveBackoff;
+
+    @Override
     public int getRequestTimeout() {
         return requestTimeout;
     }
@@ -102,6 +129,42 @@ public class ModbusRtuConfiguration implements PlcConnectionConfiguration {
         this.maxRegistersPerRequest = maxRegistersPerRequest;
     }
 
+    @Override
+    public boolean isSharedBus() {
+        return sharedBus;
+    }
+
+    public void setSharedBus(boolean sharedBus) {
+        this.sharedBus = sharedBus;
+    }
+
+    @Override
+    public int getBusPriority() {
+        return busPriority;
+    }
+
+    public void setBusPriority(int busPriority) {
+        this.busPriority = busPriority;
+    }
+
+    @Override
+    public int getPollPeriod() {
+        return pollPeriod;
+    }
+
+    public void setPollPeriod(int pollPeriod) {
+        this.pollPeriod = pollPeriod;
+    }
+
+    @Override
+    public int getDeadSlaveBackoff() {
+        return deadSlaveBackoff;
+    }
+
+    public void setDeadSlaveBackoff(int deadSlaveBackoff) {
+        this.deadSlaveBackoff = deadSlaveBackoff;
+    }
+
     @Override
     public String toString() {
         return "ModbusRtuConfiguration{" +
@@ -110,6 +173,10 @@ public class ModbusRtuConfiguration implements PlcConnectionConfiguration {
             ", defaultPayloadByteOrder=" + defaultPayloadByteOrder +
             ", maxCoilsPerRequest=" + maxCoilsPerRequest +
             ", maxRegistersPerRequest=" + maxRegistersPerRequest +
+            ", sharedBus=" + sharedBus +
+            ", busPriority=" + busPriority +
+            ", pollPeriod=" + pollPeriod +
+            ", deadSlaveBackoff=" + deadSlaveBackoff +
             '}';
     }
 
@@ -39,6 +39,8 @@ import org.apache.plc4x.java.spi.transaction.RequestTransactionManager;
 
 import java.time.Duration;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 public class ModbusRtuProtocolLogic extends ModbusProtocolLogic<ModbusRtuADU> implements HasConfiguration<ModbusRtuConfiguration> {
@@ -79,8 +81,14 @@ public class ModbusRtuProtocolLogic extends ModbusProtocolLogic<ModbusRtuADU> im
         RequestTransactionManager.RequestTransaction transaction = tm.startRequest();
         transaction.submit(() -> conversationContext.sendRequest(modbusRtuADU)
             .expectResponse(ModbusRtuADU.class, requestTimeout)
-            .onTimeout(future::completeExceptionally)
-            .onError((p, e) -> future.completeExceptionally(e))
+            .onTimeout(e -> {
+                transaction.failRequest(e);
+                future.completeExceptionally(e);
+            })
+            .onError((p, e) -> {
+                transaction.failRequest(e);
+                future.completeExceptionally(e);
+            })
             .unwrap(ModbusRtuADU::getPdu)
             .handle(responsePdu -> {
                 transaction.endRequest();
@@ -115,8 +123,14 @@ public class ModbusRtuProtocolLogic extends ModbusProtocolLogic<ModbusRtuADU> im
             RequestTransactionManager.RequestTransaction transaction = tm.startRequest();
             transaction.submit(() -> conversationContext.sendRequest(modbusRtuADU)
                 .expectResponse(ModbusRtuADU.class, requestTimeout)
-                .onTimeout(future::completeExceptionally)
-                .onError((p, e) -> future.completeExceptionally(e))
+                .onTimeout(e -> {
+                    transaction.failRequest(e);
+                    future.completeExceptionally(e);
+                })
+                .onError((p, e) -> {
+                    transaction.failRequest(e);
+                    future.completeExceptionally(e);
+                })
                 .unwrap(ModbusRtuADU::getPdu)
                 .handle(responsePdu -> {
                     // Try to decode the response data based on the corresponding request.
@@ -169,17 +183,23 @@ public class ModbusRtuProtocolLogic extends ModbusProtocolLogic<ModbusRtuADU> im
         //      - FifoQueue         (read-only)     --> Error
         //      - FileRecord        (read-write)    --> ModbusPduWriteFileRecordRequest
         // 2. Split up into multiple sub-requests
-        if (request.getTagNames().size() == 1) {
-            String tagName = request.getTagNames().iterator().next();
-            PlcTag tag = request.getTag(tagName);
-            final ModbusPDU requestPdu = getWriteRequestPdu(tag, writeRequest.getPlcValue(tagName));
+        //    (Adjacent coils and registers are joined by the optimizer and written with one request)
+        if (!request.getTagNames().isEmpty()) {
+            PlcTag tag = request.getTags().get(0);
+            final ModbusPDU requestPdu = getWriteRequestPdu(request);
             final short unitId = getUnitId(tag);
             ModbusRtuADU modbusRtuADU = new ModbusRtuADU(unitId, requestPdu);
             RequestTransactionManager.RequestTransaction transaction = tm.startRequest();
             transaction.submit(() -> conversationContext.sendRequest(modbusRtuADU)
                 .expectResponse(ModbusRtuADU.class, requestTimeout)
-                .onTimeout(future::completeExceptionally)
-                .onError((p, e) -> future.completeExceptionally(e))
+                .onTimeout(e -> {
+                    transaction.failRequest(e);
+                    future.completeExceptionally(e);
+                })
+                .onError((p, e) -> {
+                    transaction.failRequest(e);
+                    future.completeExceptionally(e);
+                })
                 .unwrap(ModbusRtuADU::getPdu)
                 .handle(responsePdu -> {
                     // Try to decode the response data based on the corresponding request.
@@ -202,8 +222,11 @@ public class ModbusRtuProtocolLogic extends ModbusProtocolLogic<ModbusRtuADU> im
                     }
 
                     // Prepare the response.
-                    PlcWriteResponse response = new DefaultPlcWriteResponse(request,
-                        Collections.singletonMap(tagName, responseCode));
+                    Map<String, PlcResponseCode> responseCodes = new LinkedHashMap<>();
+                    for (String tagName : request.getTagNames()) {
+                        responseCodes.put(tagName, responseCode);
+                    }
+                    PlcWriteResponse response = new DefaultPlcWriteResponse(request, responseCodes);
 
                     // Pass the response back to the application.
                     future.complete(response);
@@ -213,7 +236,7 @@ public class ModbusRtuProtocolLogic extends ModbusProtocolLogic<ModbusRtuADU> im
                 }));
 
         } else {
-            future.completeExceptionally(new PlcRuntimeException("Modbus only supports single filed requests"));
+            future.completeExceptionally(new PlcRuntimeException("No tags to write"));
         }
         return future;
     }
@@ -29,9 +29,11 @@ import org.apache.plc4x.java.modbus.readwrite.DriverType;
 import org.apache.plc4x.java.modbus.tcp.config.ModbusTcpConfiguration;
 import org.apache.plc4x.java.modbus.tcp.config.ModbusTcpTransportConfiguration;
 import org.apache.plc4x.java.modbus.tcp.discovery.ModbusPlcDiscoverer;
+import org.apache.plc4x.java.modbus.tcp.gateway.ModbusTcpGatewayChannelFactory;
 import org.apache.plc4x.java.modbus.readwrite.ModbusTcpADU;
 import org.apache.plc4x.java.modbus.tcp.protocol.ModbusTcpProtocolLogic;
 import org.apache.plc4x.java.spi.messages.DefaultPlcDiscoveryRequest;
+import org.apache.plc4x.java.spi.connection.ChannelFactory;
 import org.apache.plc4x.java.spi.connection.GeneratedDriverBase;
 import org.apache.plc4x.java.spi.connection.ProtocolStackConfigurer;
 import org.apache.plc4x.java.spi.connection.SingleProtocolStackConfigurer;
@@ -126,6 +128,18 @@ public class ModbusTcpDriver extends GeneratedDriverBase<ModbusTcpADU> {
         return new /*SingleTagOptimizer();/*/ModbusOptimizer();
     }
 
+    /**
+     * In "gateway-mode" all connections to the same gateway share one TCP connection.
+     */
+    @Override
+    protected ChannelFactory wrapChannelFactory(ChannelFactory channelFactory, String transportConfig,
+                                                PlcConnectionConfiguration configuration) {
+        if (((ModbusTcpConfiguration) configuration).isGatewayMode()) {
+            return new ModbusTcpGatewayChannelFactory(channelFactory, transportConfig);
+        }
+        return channelFactory;
+    }
+
     @Override
     protected ProtocolStackConfigurer<ModbusTcpADU> getStackConfigurer() {
         return SingleProtocolStackConfigurer.builder(ModbusTcpADU.class, (io) -> (ModbusTcpADU) ModbusTcpADU.staticParse(io, DriverType.MODBUS_TCP, true))
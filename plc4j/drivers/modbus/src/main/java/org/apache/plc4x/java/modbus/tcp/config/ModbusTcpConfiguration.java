@@ -23,8 +23,10 @@ import org.apache.plc4x.java.spi.configuration.PlcConnectionConfiguration;
 import org.apache.plc4x.java.spi.configuration.annotations.ConfigurationParameter;
 import org.apache.plc4x.java.spi.configuration.annotations.Description;
 import org.apache.plc4x.java.spi.configuration.annotations.Since;
+import org.apache.plc4x.java.spi.configuration.annotations.defaults.BooleanDefaultValue;
 import org.apache.plc4x.java.spi.configuration.annotations.defaults.IntDefaultValue;
 import org.apache.plc4x.java.spi.configuration.annotations.defaults.StringDefaultValue;
+import org.apache.plc4x.java.spi.transaction.RequestTransactionManager;
 
 public class ModbusTcpConfiguration implements PlcConnectionConfiguration {
 
@@ -66,6 +68,33 @@ public class ModbusTcpConfiguration implements PlcConnectionConfiguration {
     @Since("0.13.0")
     private int maxRegistersPerRequest;
 
+    @ConfigurationParameter("max-in-flight")
+    @IntDefaultValue(1)
+    @Description("Maximum number of requests sent to the device without waiting for their responses. Responses are matched by their transaction identifier, so only increase this for devices and gateways supporting pipelining (Defaults to 1)")
+    @Since("0.13.0")
+    private int maxInFlight;
+
+    @ConfigurationParameter("gateway-mode")
+    @BooleanDefaultValue(false)
+    @Description("If enabled, all connections to the same host and port share one TCP connection, which is useful for gateways with many devices behind them, which only accept a few TCP connections. The requests of the individual connections are sent in turns, \"max-in-flight\" then limits the number of requests the gateway is sent at the same time and it is lowered automatically, if the gateway doesn't keep up (Defaults to false)")
+    @Since("0.13.0")
+    private boolean gatewayMode;
+
+    @ConfigurationParameter("max-queued-requests")
+    @IntDefaultValue(0)
+    @Description("Maximum number of requests waiting to be sent, while \"max-in-flight\" requests are already waiting for their responses. Requests beyond that fail right away instead of piling up, if the device stops responding (Defaults to 0, which means unlimited)")
+    @Since("0.13.0")
+    private int maxQueuedRequests;
+
+    @ConfigurationParameter("queue-overflow-policy")
+    @StringDefaultValue("REJECT")
+    @Description("What to do with a new request, if \"max-queued-requests\" are already waiting (Defaults to REJECT).\n" +
+        "Allowed values are: \n" +
+        " - REJECT: The new request fails\n" +
+        " - SHED_OLDEST: The request waiting the longest fails\n")
+    @Since("0.13.0")
+    private RequestTransactionManager.OverflowPolicy queueOverflowPolicy;
+
     public int getRequestTimeout() {
         return requestTimeout;
     }
@@ -114,6 +143,38 @@ public class ModbusTcpConfiguration implements PlcConnectionConfiguration {
         this.maxRegistersPerRequest = maxRegistersPerRequest;
     }
 
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    public boolean isGatewayMode() {
+        return gatewayMode;
+    }
+
+    public void setGatewayMode(boolean gatewayMode) {
+        this.gatewayMode = gatewayMode;
+    }
+
+    public int getMaxQueuedRequests() {
+        return maxQueuedRequests;
+    }
+
+    public void setMaxQueuedRequests(int maxQueuedRequests) {
+        this.maxQueuedRequests = maxQueuedRequests;
+    }
+
+    public RequestTransactionManager.OverflowPolicy getQueueOverflowPolicy() {
+        return queueOverflowPolicy;
+    }
+
+    public void setQueueOverflowPolicy(RequestTransactionManager.OverflowPolicy queueOverflowPolicy) {
+        this.queueOverflowPolicy = queueOverflowPolicy;
+    }
+
     @Override
     public String toString() {
         return "ModbusTcpConfiguration{" +
@@ -123,6 +184,10 @@ public class ModbusTcpConfiguration implements PlcConnectionConfiguration {
             ", defaultPayloadByteOrder=" + defaultPayloadByteOrder +
             ", maxCoilsPerRequest=" + maxCoilsPerRequest +
             ", maxRegistersPerRequest=" + maxRegistersPerRequest +
+            ", maxInFlight=" + maxInFlight +
+            ", gatewayMode=" + gatewayMode +
+            ", maxQueuedRequests=" + maxQueuedRequests +
+            ", queueOverflowPolicy=" + queueOverflowPolicy +
             '}';
     }
 
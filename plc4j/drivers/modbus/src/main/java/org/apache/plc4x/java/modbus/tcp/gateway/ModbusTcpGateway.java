@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.modbus.tcp.gateway;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import org.apache.plc4x.java.modbus.base.shared.ModbusSharedChannel;
+import org.apache.plc4x.java.modbus.tcp.config.ModbusTcpConfiguration;
+import org.apache.plc4x.java.spi.connection.ChannelFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One TCP connection to a Modbus gateway, shared by all connections to the devices behind it.
+ * <p>
+ * The requests of every connection are queued and sent in turns, so a busy connection doesn't starve the others.
+ * The transaction identifiers are replaced by ones unique on the shared TCP connection and restored in the responses.
+ * <p>
+ * The number of requests sent without waiting for their responses starts at 1 and grows up to "max-in-flight"
+ * as long as the gateway answers. If a request times out or the gateway reports being busy, it is halved again.
+ */
+class ModbusTcpGateway extends ModbusSharedChannel<ModbusTcpConfiguration, ModbusTcpGateway.Session> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ModbusTcpGateway.class);
+
+    // Offsets in the Modbus TCP ADU
+    private static final int TRANSACTION_IDENTIFIER = 0;
+    private static final int LENGTH = 4;
+    private static final int FUNCTION_CODE = 7;
+    private static final int EXCEPTION_CODE = 8;
+    private static final int HEADER_LENGTH = 6;
+
+    private static final int EXCEPTION_FLAG = 0x80;
+    private static final int SERVER_DEVICE_BUSY = 0x06;
+
+    private final Map<Integer, InFlight> inFlight = new HashMap<>();
+    private int nextTransactionIdentifier = 1;
+
+    private int maxWindow = 1;
+    private int window = 1;
+    private int successfulResponses;
+
+    ModbusTcpGateway(String key, ChannelFactory channelFactory) {
+        super(key, channelFactory);
+    }
+
+    @Override
+    protected ChannelHandler createResponseDecoder() {
+        return createFrameDecoder();
+    }
+
+    @Override
+    protected ChannelHandler createRequestDecoder() {
+        return createFrameDecoder();
+    }
+
+    /**
+     * Splits the stream of bytes into Modbus TCP ADUs, the length field counts the bytes following it.
+     */
+    private static ChannelHandler createFrameDecoder() {
+        return new LengthFieldBasedFrameDecoder(HEADER_LENGTH + 0xFFFF, LENGTH, 2);
+    }
+
+    @Override
+    protected Session createSession(Channel channel, ModbusTcpConfiguration configuration) {
+        // The connection allowing the most requests in flight decides.
+        maxWindow = Math.max(maxWindow, configuration.getMaxInFlight());
+        return new Session(channel, configuration);
+    }
+
+    @Override
+    protected void onRequest(Session session, ByteBuf request) {
+        session.pending.add(request);
+        dispatch();
+    }
+
+    /**
+     * Sends queued requests, taking them from the connections in turns, as long as the window isn't full.
+     */
+    private void dispatch() {
+        boolean sent = false;
+        while (inFlight.size() < window) {
+            Session session = nextSession(next -> !next.pending.isEmpty(), next -> 0);
+            if (session == null) {
+                break;
+            }
+            send(session, session.pending.poll());
+            sent = true;
+        }
+        if (sent) {
+            getChannel().flush();
+        }
+    }
+
+    private void send(Session session, ByteBuf request) {
+        int transactionIdentifier = nextTransactionIdentifier();
+        InFlight entry = new InFlight(session, request.getUnsignedShort(request.readerIndex() + TRANSACTION_IDENTIFIER));
+        request.setShort(request.readerIndex() + TRANSACTION_IDENTIFIER, transactionIdentifier);
+        inFlight.put(transactionIdentifier, entry);
+        entry.timeout = getEventLoop().schedule(() -> onTimeout(transactionIdentifier, entry),
+            session.getConfiguration().getRequestTimeout(), TimeUnit.MILLISECONDS);
+        getChannel().write(request, getChannel().voidPromise());
+    }
+
+    private int nextTransactionIdentifier() {
+        // Skip identifiers still in flight after wrapping around.
+        do {
+            nextTransactionIdentifier = (nextTransactionIdentifier >= 0xFFFF) ? 1 : nextTransactionIdentifier + 1;
+        } while (inFlight.containsKey(nextTransactionIdentifier));
+        return nextTransactionIdentifier;
+    }
+
+    @Override
+    protected void onResponse(ByteBuf response) {
+        int transactionIdentifier = response.getUnsignedShort(response.readerIndex() + TRANSACTION_IDENTIFIER);
+        InFlight entry = inFlight.remove(transactionIdentifier);
+        if (entry == null) {
+            // Most probably the response to a request, which already timed out.
+            logger.debug("Dropping response with unknown transaction identifier {} from gateway {}", transactionIdentifier, getKey());
+            response.release();
+            return;
+        }
+        entry.timeout.cancel(false);
+        if ((response.readableBytes() > EXCEPTION_CODE) &&
+            ((response.getUnsignedByte(response.readerIndex() + FUNCTION_CODE) & EXCEPTION_FLAG) != 0) &&
+            (response.getUnsignedByte(response.readerIndex() + EXCEPTION_CODE) == SERVER_DEVICE_BUSY)) {
+            shrinkWindow();
+        } else {
+            growWindow();
+        }
+        response.setShort(response.readerIndex() + TRANSACTION_IDENTIFIER, entry.transactionIdentifier);
+        entry.session.respond(response);
+        dispatch();
+    }
+
+    private void onTimeout(int transactionIdentifier, InFlight entry) {
+        if (inFlight.remove(transactionIdentifier, entry)) {
+            logger.debug("Request {} to gateway {} timed out", transactionIdentifier, getKey());
+            shrinkWindow();
+            dispatch();
+        }
+    }
+
+    /**
+     * Grows the window by one, after a window full of requests was answered.
+     */
+    private void growWindow() {
+        successfulResponses++;
+        if ((successfulResponses >= window) && (window < maxWindow)) {
+            window++;
+            successfulResponses = 0;
+        }
+    }
+
+    private void shrinkWindow() {
+        window = Math.max(1, window / 2);
+        successfulResponses = 0;
+    }
+
+    @Override
+    protected void onSessionClosed(Session session) {
+        session.pending.forEach(ByteBuf::release);
+        session.pending.clear();
+        // Responses of requests still in flight are dropped, when they arrive.
+        // The connection allowing the most requests in flight, of the ones left, decides.
+        maxWindow = Math.max(1, getSessions().stream()
+            .mapToInt(remaining -> remaining.getConfiguration().getMaxInFlight())
+            .max().orElse(1));
+        window = Math.min(window, maxWindow);
+    }
+
+    @Override
+    protected void onClosed() {
+        inFlight.values().forEach(entry -> entry.timeout.cancel(false));
+        inFlight.clear();
+    }
+
+    static final class Session extends ModbusSharedChannel.Session<ModbusTcpConfiguration> {
+        private final Queue<ByteBuf> pending = new ArrayDeque<>();
+
+        private Session(Channel channel, ModbusTcpConfiguration configuration) {
+            super(channel, configuration);
+        }
+    }
+
+    private static final class InFlight {
+        private final Session session;
+        /** Transaction identifier the connection used */
+        private final int transactionIdentifier;
+        private ScheduledFuture<?> timeout;
+
+        private InFlight(Session session, int transactionIdentifier) {
+            this.session = session;
+            this.transactionIdentifier = transactionIdentifier;
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.modbus.tcp.gateway;
+
+import org.apache.plc4x.java.modbus.base.shared.ModbusSharedChannelFactory;
+import org.apache.plc4x.java.modbus.readwrite.ModbusConstants;
+import org.apache.plc4x.java.modbus.tcp.config.ModbusTcpConfiguration;
+import org.apache.plc4x.java.spi.configuration.HasConfiguration;
+import org.apache.plc4x.java.spi.connection.ChannelFactory;
+
+/**
+ * Channel factory of connections in "gateway-mode": instead of a TCP connection per {@link org.apache.plc4x.java.api.PlcConnection},
+ * all connections to the same host and port get a local channel to one shared {@link ModbusTcpGateway}.
+ */
+public class ModbusTcpGatewayChannelFactory extends ModbusSharedChannelFactory<ModbusTcpConfiguration, ModbusTcpGateway>
+    implements HasConfiguration<ModbusTcpConfiguration> {
+
+    /**
+     * @param channelFactory  channel factory of the transport, used for the TCP connection to the gateway.
+     * @param transportConfig host and (optionally) port of the gateway.
+     */
+    public ModbusTcpGatewayChannelFactory(ChannelFactory channelFactory, String transportConfig) {
+        super(channelFactory, transportConfig.contains(":") ? transportConfig : transportConfig + ":" + ModbusConstants.MODBUSTCPDEFAULTPORT);
+    }
+
+    @Override
+    protected ModbusTcpGateway createSharedChannel(String key, ChannelFactory channelFactory) {
+        return new ModbusTcpGateway(key, channelFactory);
+    }
+
+}
@@ -39,10 +39,16 @@ import org.apache.plc4x.java.spi.transaction.RequestTransactionManager;
 
 import java.time.Duration;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.ToLongFunction;
 
 public class ModbusTcpProtocolLogic extends ModbusProtocolLogic<ModbusTcpADU> implements HasConfiguration<ModbusTcpConfiguration> {
 
+    // Responses carry the transaction identifier of their request, so they can be looked up directly.
+    private static final ToLongFunction<ModbusTcpADU> TRANSACTION_IDENTIFIER = ModbusTcpADU::getTransactionIdentifier;
+
     public ModbusTcpProtocolLogic() {
         super(DriverType.MODBUS_TCP);
     }
@@ -53,7 +59,30 @@ public class ModbusTcpProtocolLogic extends ModbusProtocolLogic<ModbusTcpADU> im
         this.unitIdentifier = (short) configuration.getDefaultUnitIdentifier();
         this.pingAddress = new ModbusTagHandler().parseTag(configuration.getPingAddress());
         this.defaultPayloadByteOrder = configuration.getDefaultPayloadByteOrder();
-        this.tm = new RequestTransactionManager(1);
+        // Modbus TCP matches responses by their transaction identifier, so devices supporting it can be sent
+        // several requests without waiting for the responses.
+        this.tm = new RequestTransactionManager(Math.max(1, configuration.getMaxInFlight()));
+        // All requests are submitted with a handler failing them, if they are rejected.
+        if (configuration.getMaxQueuedRequests() > 0) {
+            tm.setMaxQueueSize(configuration.getMaxQueuedRequests(), configuration.getQueueOverflowPolicy());
+        }
+    }
+
+    @Override
+    public void onConnect(ConversationContext<ModbusTcpADU> context) {
+        super.onConnect(context);
+        // Sending a request doesn't block, so transactions can be started directly on the event loop.
+        tm.setExecutor(context.getChannel().eventLoop());
+    }
+
+    /**
+     * Transaction identifiers are 16 bit values, after 0xFFFE they wrap around back to 1. Even with pipelining,
+     * the identifier of a request in flight isn't used again before about 65k other requests were sent.
+     *
+     * @return the identifier for the next request.
+     */
+    int nextTransactionIdentifier() {
+        return transactionIdentifierGenerator.getAndUpdate(id -> (id >= 0xFFFE) ? 1 : id + 1);
     }
 
     @Override
@@ -75,18 +104,21 @@ public class ModbusTcpProtocolLogic extends ModbusProtocolLogic<ModbusTcpADU> im
         // have any holding-register:1, it should still gracefully respond.
         ModbusPDU readRequestPdu = getReadRequestPdu(pingAddress);
         final short unitId = getUnitId(pingAddress);
-        int transactionIdentifier = transactionIdentifierGenerator.getAndIncrement();
-        // If we've reached the max value for a 16 bit transaction identifier, reset back to 1
-        if (transactionIdentifierGenerator.get() == 0xFFFF) {
-            transactionIdentifierGenerator.set(1);
-        }
+        int transactionIdentifier = nextTransactionIdentifier();
         ModbusTcpADU modbusTcpADU = new ModbusTcpADU(transactionIdentifier, unitId, readRequestPdu);
 
         RequestTransactionManager.RequestTransaction transaction = tm.startRequest();
         transaction.submit(() -> conversationContext.sendRequest(modbusTcpADU)
             .expectResponse(ModbusTcpADU.class, requestTimeout)
-            .onTimeout(future::completeExceptionally)
-            .onError((p, e) -> future.completeExceptionally(e))
+            .onTimeout(e -> {
+                transaction.failRequest(e);
+                future.completeExceptionally(e);
+            })
+            .onError((p, e) -> {
+                transaction.failRequest(e);
+                future.completeExceptionally(e);
+            })
+            .correlateBy(TRANSACTION_IDENTIFIER)
             .check(p -> ((p.getTransactionIdentifier() == transactionIdentifier) &&
                 (p.getUnitIdentifier() == unitId)))
             .unwrap(ModbusTcpADU::getPdu)
@@ -94,7 +126,7 @@ public class ModbusTcpProtocolLogic extends ModbusProtocolLogic<ModbusTcpADU> im
                 transaction.endRequest();
                 // We really don't care about what we got back. As long as it's a Modbus PDU, we're ok.
                 future.complete(new DefaultPlcPingResponse(pingRequest, PlcResponseCode.OK));
-            }));
+            }), future::completeExceptionally);
         return future;
     }
 
@@ -119,17 +151,20 @@ public class ModbusTcpProtocolLogic extends ModbusProtocolLogic<ModbusTcpADU> im
             final ModbusPDU requestPdu = getReadRequestPdu(tag);
             final short unitId = getUnitId(tag);
 
-            int transactionIdentifier = transactionIdentifierGenerator.getAndIncrement();
-            // If we've reached the max value for a 16 bit transaction identifier, reset back to 1
-            if (transactionIdentifierGenerator.get() == 0xFFFF) {
-                transactionIdentifierGenerator.set(1);
-            }
+            int transactionIdentifier = nextTransactionIdentifier();
             ModbusTcpADU modbusTcpADU = new ModbusTcpADU(transactionIdentifier, unitId, requestPdu);
             RequestTransactionManager.RequestTransaction transaction = tm.startRequest();
             transaction.submit(() -> conversationContext.sendRequest(modbusTcpADU)
                 .expectResponse(ModbusTcpADU.class, requestTimeout)
-                .onTimeout(future::completeExceptionally)
-                .onError((p, e) -> future.completeExceptionally(e))
+                .onTimeout(e -> {
+                    transaction.failRequest(e);
+                    future.completeExceptionally(e);
+                })
+                .onError((p, e) -> {
+                    transaction.failRequest(e);
+                    future.completeExceptionally(e);
+                })
+                .correlateBy(TRANSACTION_IDENTIFIER)
                 .check(p -> ((p.getTransactionIdentifier() == transactionIdentifier) &&
                     (p.getUnitIdentifier() == unitId)))
                 .unwrap(ModbusTcpADU::getPdu)
@@ -164,7 +199,7 @@ public class ModbusTcpProtocolLogic extends ModbusProtocolLogic<ModbusTcpADU> im
 
                     // Finish the request-transaction.
                     transaction.endRequest();
-                }));
+                }), future::completeExceptionally);
         } else {
             future.completeExceptionally(new PlcRuntimeException("Modbus only supports single filed requests"));
         }
@@ -184,22 +219,25 @@ public class ModbusTcpProtocolLogic extends ModbusProtocolLogic<ModbusTcpADU> im
         //      - FifoQueue         (read-only)     --> Error
         //      - FileRecord        (read-write)    --> ModbusPduWriteFileRecordRequest
         // 2. Split up into multiple sub-requests
-        if (request.getTagNames().size() == 1) {
-            String tagName = request.getTagNames().iterator().next();
-            PlcTag tag = request.getTag(tagName);
-            final ModbusPDU requestPdu = getWriteRequestPdu(tag, writeRequest.getPlcValue(tagName));
+        //    (Adjacent coils and registers are joined by the optimizer and written with one request)
+        if (!request.getTagNames().isEmpty()) {
+            PlcTag tag = request.getTags().get(0);
+            final ModbusPDU requestPdu = getWriteRequestPdu(request);
             final short unitId = getUnitId(tag);
-            int transactionIdentifier = transactionIdentifierGenerator.getAndIncrement();
-            // If we've reached the max value for a 16 bit transaction identifier, reset back to 1
-            if (transactionIdentifierGenerator.get() == 0xFFFF) {
-                transactionIdentifierGenerator.set(1);
-            }
+            int transactionIdentifier = nextTransactionIdentifier();
             ModbusTcpADU modbusTcpADU = new ModbusTcpADU(transactionIdentifier, unitId, requestPdu);
             RequestTransactionManager.RequestTransaction transaction = tm.startRequest();
             transaction.submit(() -> conversationContext.sendRequest(modbusTcpADU)
                 .expectResponse(ModbusTcpADU.class, requestTimeout)
-                .onTimeout(future::completeExceptionally)
-                .onError((p, e) -> future.completeExceptionally(e))
+                .onTimeout(e -> {
+                    transaction.failRequest(e);
+                    future.completeExceptionally(e);
+                })
+                .onError((p, e) -> {
+                    transaction.failRequest(e);
+                    future.completeExceptionally(e);
+                })
+                .correlateBy(TRANSACTION_IDENTIFIER)
                 .check(p -> p.getTransactionIdentifier() == transactionIdentifier)
                 .unwrap(ModbusTcpADU::getPdu)
                 .handle(responsePdu -> {
@@ -223,18 +261,21 @@ public class ModbusTcpProtocolLogic extends ModbusProtocolLogic<ModbusTcpADU> im
                     }
 
                     // Prepare the response.
-                    PlcWriteResponse response = new DefaultPlcWriteResponse(request,
-                        Collections.singletonMap(tagName, responseCode));
+                    Map<String, PlcResponseCode> responseCodes = new LinkedHashMap<>();
+                    for (String tagName : request.getTagNames()) {
+                        responseCodes.put(tagName, responseCode);
+                    }
+                    PlcWriteResponse response = new DefaultPlcWriteResponse(request, responseCodes);
 
                     // Pass the response back to the application.
                     future.complete(response);
 
                     // Finish the request-transaction.
                     transaction.endRequest();
-                }));
+                }), future::completeExceptionally);
 
         } else {
-            future.completeExceptionally(new PlcRuntimeException("Modbus only supports single filed requests"));
+            future.completeExceptionally(new PlcRuntimeException("No tags to write"));
         }
         return future;
     }
@@ -20,16 +20,25 @@
 package org.apache.plc4x.java.modbus.base.optimizer;
 
 import org.apache.plc4x.java.api.messages.PlcReadRequest;
+import org.apache.plc4x.java.api.messages.PlcWriteRequest;
 import org.apache.plc4x.java.api.model.PlcTag;
 import org.apache.plc4x.java.modbus.base.context.ModbusContext;
+import org.apache.plc4x.java.modbus.base.tag.ModbusTag;
 import org.apache.plc4x.java.modbus.base.tag.ModbusTagCoil;
 import org.apache.plc4x.java.modbus.base.tag.ModbusTagHoldingRegister;
 import org.apache.plc4x.java.modbus.readwrite.ModbusDataType;
 import org.apache.plc4x.java.modbus.types.ModbusByteOrder;
 import org.apache.plc4x.java.spi.messages.DefaultPlcReadRequest;
+import org.apache.plc4x.java.spi.messages.DefaultPlcWriteRequest;
 import org.apache.plc4x.java.spi.messages.PlcReader;
+import org.apache.plc4x.java.spi.messages.PlcWriter;
 import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagItem;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagValueItem;
 import org.apache.plc4x.java.spi.messages.utils.PlcTagItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcTagValueItem;
+import org.apache.plc4x.java.spi.values.PlcBOOL;
+import org.apache.plc4x.java.spi.values.PlcINT;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -37,8 +46,10 @@ import org.mockito.Mockito;
 import org.opentest4j.AssertionFailedError;
 
 import java.util.Collections;
+import java.util.Map;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -217,9 +228,66 @@ class ModbusOptimizerTest {
         processReadRequest(tags, check);
     }
 
+    @Test
+    void adjacentHoldingRegistersAreWrittenInBlocks() {
+        LinkedHashMap<String, PlcTagValueItem<PlcTag>> tags = new LinkedHashMap<>();
+        // 200 adjacent registers need two requests, as only 123 registers can be written with one.
+        for (int i = 0; i < 200; i++) {
+            tags.put("register" + i, new DefaultPlcTagValueItem<>(
+                new ModbusTagHoldingRegister(i, 1, ModbusDataType.INT, Collections.emptyMap()), new PlcINT(i)));
+        }
+        // Registers with a gap in between are not joined.
+        tags.put("gap", new DefaultPlcTagValueItem<>(
+            new ModbusTagHoldingRegister(201, 2, ModbusDataType.INT, Collections.emptyMap()), new PlcINT(0)));
+        // Registers of another unit are not joined.
+        tags.put("otherUnit", new DefaultPlcTagValueItem<>(
+            new ModbusTagHoldingRegister(200, 1, ModbusDataType.INT, Map.of("unit-id", "2")), new PlcINT(0)));
+
+        List<PlcWriteRequest> writeRequests = processWriteRequest(tags);
+
+        assertEquals(4, writeRequests.size());
+        assertBlock(writeRequests.get(0), 0, 123);
+        assertBlock(writeRequests.get(1), 123, 77);
+        assertBlock(writeRequests.get(2), 201, 1);
+        assertBlock(writeRequests.get(3), 200, 1);
+        assertEquals(tags.keySet(), writeRequests.stream().flatMap(writeRequest -> writeRequest.getTagNames().stream())
+            .collect(Collectors.toSet()));
+    }
 
+    @Test
+    void adjacentCoilsAreWrittenInBlocks() {
+        LinkedHashMap<String, PlcTagValueItem<PlcTag>> tags = new LinkedHashMap<>();
+        // Coils given in any order are sorted by their address.
+        for (int i = 1999; i >= 0; i--) {
+            tags.put("coil" + i, new DefaultPlcTagValueItem<>(
+                new ModbusTagCoil(i, 1, ModbusDataType.BOOL, Collections.emptyMap()), new PlcBOOL(i % 2 == 0)));
+        }
+
+        List<PlcWriteRequest> writeRequests = processWriteRequest(tags);
+
+        assertEquals(2, writeRequests.size());
+        assertBlock(writeRequests.get(0), 0, 1968);
+        assertBlock(writeRequests.get(1), 1968, 32);
+    }
 
+    private void assertBlock(PlcWriteRequest writeRequest, int address, int numberOfTags) {
+        assertEquals(numberOfTags, writeRequest.getNumberOfTags());
+        int expectedAddress = address;
+        for (PlcTag tag : writeRequest.getTags()) {
+            assertEquals(expectedAddress, ((ModbusTag) tag).getAddress());
+            expectedAddress += ((ModbusTag) tag).getNumberOfElements();
+        }
+    }
 
+    List<PlcWriteRequest> processWriteRequest(LinkedHashMap<String, PlcTagValueItem<PlcTag>> tags) {
+        PlcWriter writer = Mockito.mock(PlcWriter.class);
+        ModbusContext driverContext = Mockito.mock(ModbusContext.class);
+        Mockito.when(driverContext.getByteOrder()).thenReturn(ModbusByteOrder.BIG_ENDIAN);
+        Mockito.when(driverContext.getMaxCoilsPerRequest()).thenReturn(2000);
+        Mockito.when(driverContext.getMaxRegistersPerRequest()).thenReturn(125);
+        ModbusOptimizer sut = new ModbusOptimizer();
+        return sut.processWriteRequest(new DefaultPlcWriteRequest(writer, tags), driverContext);
+    }
 
     void processReadRequest(PlcTag[] tags, CheckResult check) {
         PlcReader reader = Mockito.mock(PlcReader.class);
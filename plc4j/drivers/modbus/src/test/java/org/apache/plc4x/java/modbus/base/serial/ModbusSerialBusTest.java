@@ -0,0 +1,427 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.modbus.base.serial;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.local.LocalServerChannel;
+import org.apache.plc4x.java.DefaultPlcDriverManager;
+import org.apache.plc4x.java.api.PlcConnection;
+import org.apache.plc4x.java.api.messages.PlcReadResponse;
+import org.apache.plc4x.java.api.types.PlcResponseCode;
+import org.apache.plc4x.java.modbus.rtu.ModbusRtuDriver;
+import org.apache.plc4x.java.modbus.rtu.config.ModbusRtuConfiguration;
+import org.apache.plc4x.java.spi.connection.ChannelFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Uses Modbus RTU over TCP to simulate a serial line with several slaves on it.
+ */
+public class ModbusSerialBusTest {
+
+    private static final int DEAD_SLAVE = 3;
+
+    private ServerSocket serverSocket;
+    private final AtomicInteger acceptedConnections = new AtomicInteger();
+    private final AtomicBoolean overlappingRequests = new AtomicBoolean();
+    private final Map<Integer, AtomicInteger> requestsPerSlave = new ConcurrentHashMap<>();
+
+    // Serial line simulated with local channels, so the tests decide when the slaves answer.
+    private final EventLoopGroup eventLoopGroup = new DefaultEventLoopGroup(1);
+    private final LocalAddress lineAddress = new LocalAddress(ModbusSerialBusTest.class);
+    private final BlockingQueue<LineRequest> lineRequests = new LinkedBlockingQueue<>();
+    private Channel lineServerChannel;
+    private Channel lineChannel;
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        if (lineServerChannel != null) {
+            lineServerChannel.close().syncUninterruptibly();
+        }
+        eventLoopGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+    }
+
+    @Test
+    public void interFrameDelayDependsOnTheBaudRate() {
+        // 3.5 characters of 11 bits.
+        assertEquals(4_010_416L, ModbusSerialBus.getInterFrameDelayNanos(9600));
+        assertEquals(2_005_208L, ModbusSerialBus.getInterFrameDelayNanos(19200));
+        // Fixed above 19200 baud.
+        assertEquals(1_750_000L, ModbusSerialBus.getInterFrameDelayNanos(115200));
+    }
+
+    @Test
+    public void deadSlaveIsSkipped() throws Exception {
+        startServer();
+
+        List<PlcConnection> connections = new ArrayList<>();
+        try {
+            for (int unit = 1; unit <= 3; unit++) {
+                connections.add(new DefaultPlcDriverManager().getConnection(
+                    "modbus-rtu:tcp://127.0.0.1:" + serverSocket.getLocalPort() +
+                        "?shared-bus=true&request-timeout=500&dead-slave-backoff=60000&default-unit-identifier=" + unit));
+            }
+            for (int round = 0; round < 5; round++) {
+                List<CompletableFuture<? extends PlcReadResponse>> responses = new ArrayList<>();
+                for (PlcConnection connection : connections) {
+                    responses.add(connection.readRequestBuilder()
+                        .addTagAddress("register", "holding-register:" + (round + 1) + ":UINT").build().execute());
+                }
+                for (int unit = 1; unit <= 2; unit++) {
+                    PlcReadResponse response = responses.get(unit - 1).get(5, TimeUnit.SECONDS);
+                    assertEquals(PlcResponseCode.OK, response.getResponseCode("register"));
+                    // Without the ModbusOptimizer the driver returns the raw register values.
+                    byte[] value = response.getPlcValue("register").getRaw();
+                    assertEquals((unit * 1000) + round, ((value[0] & 0xFF) << 8) | (value[1] & 0xFF));
+                }
+                CompletableFuture<? extends PlcReadResponse> deadSlaveResponse = responses.get(DEAD_SLAVE - 1);
+                if (round < 2) {
+                    // The first two requests time out.
+                    assertThrows(ExecutionException.class, () -> deadSlaveResponse.get(5, TimeUnit.SECONDS));
+                } else {
+                    // Then the slave is skipped and requests fail right away.
+                    long start = System.nanoTime();
+                    PlcReadResponse response = deadSlaveResponse.get(5, TimeUnit.SECONDS);
+                    assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(250));
+                    assertEquals(PlcResponseCode.REMOTE_ERROR, response.getResponseCode("register"));
+                }
+            }
+        } finally {
+            for (PlcConnection connection : connections) {
+                connection.close();
+            }
+        }
+
+        assertEquals(1, acceptedConnections.get());
+        assertFalse(overlappingRequests.get(), "A request was sent, before the previous one was answered");
+        assertEquals(5, requestsPerSlave.get(1).get());
+        assertEquals(5, requestsPerSlave.get(2).get());
+        assertEquals(2, requestsPerSlave.get(DEAD_SLAVE).get());
+    }
+
+    @Test
+    public void pollPeriodIsKept() throws Exception {
+        startServer();
+
+        try (PlcConnection connection = new DefaultPlcDriverManager().getConnection(
+            "modbus-rtu:tcp://127.0.0.1:" + serverSocket.getLocalPort() + "?shared-bus=true&poll-period=200")) {
+            long start = System.nanoTime();
+            for (int i = 0; i < 3; i++) {
+                PlcReadResponse response = connection.readRequestBuilder()
+                    .addTagAddress("register", "holding-register:1:UINT").build().execute().get(5, TimeUnit.SECONDS);
+                assertEquals(PlcResponseCode.OK, response.getResponseCode("register"));
+            }
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(400));
+        }
+    }
+
+    @Test
+    public void higherBusPriorityIsServedFirst() throws Exception {
+        startSimulatedLine();
+        Channel lowPriority = connect(0, 0);
+        Channel highPriority = connect(0, 5);
+        try {
+            // The line is busy with the first request, while the others are queued.
+            lowPriority.writeAndFlush(request(1, 1)).syncUninterruptibly();
+            LineRequest first = nextLineRequest();
+            for (int i = 2; i <= 3; i++) {
+                lowPriority.writeAndFlush(request(1, i)).syncUninterruptibly();
+            }
+            for (int i = 1; i <= 2; i++) {
+                highPriority.writeAndFlush(request(2, i)).syncUninterruptibly();
+            }
+            eventLoopGroup.submit(() -> { }).syncUninterruptibly();
+
+            assertEquals(List.of(1, 2, 2, 1, 1), answerInSequence(first, 5));
+        } finally {
+            lowPriority.close().syncUninterruptibly();
+            highPriority.close().syncUninterruptibly();
+        }
+    }
+
+    @Test
+    public void equalBusPrioritiesTakeTurns() throws Exception {
+        startSimulatedLine();
+        Channel busyConnection = connect(0, 0);
+        Channel otherConnection = connect(0, 0);
+        try {
+            busyConnection.writeAndFlush(request(1, 1)).syncUninterruptibly();
+            LineRequest first = nextLineRequest();
+            for (int i = 2; i <= 4; i++) {
+                busyConnection.writeAndFlush(request(1, i)).syncUninterruptibly();
+            }
+            for (int i = 1; i <= 2; i++) {
+                otherConnection.writeAndFlush(request(2, i)).syncUninterruptibly();
+            }
+            eventLoopGroup.submit(() -> { }).syncUninterruptibly();
+
+            assertEquals(List.of(1, 2, 1, 2, 1, 1), answerInSequence(first, 6));
+        } finally {
+            busyConnection.close().syncUninterruptibly();
+            otherConnection.close().syncUninterruptibly();
+        }
+    }
+
+    @Test
+    public void lineIsSilentForThreeAndAHalfCharactersBetweenFrames() throws Exception {
+        // 3.5 characters of 11 bits take about 32 ms at 1200 baud.
+        startSimulatedLine();
+        long interFrameDelay = ModbusSerialBus.getInterFrameDelayNanos(1200);
+        Channel connection = connect(1200, 0);
+        try {
+            // Like the driver, every request is written on its own.
+            for (int i = 1; i <= 4; i++) {
+                connection.writeAndFlush(request(1, i)).syncUninterruptibly();
+            }
+
+            LineRequest request = nextLineRequest();
+            for (int i = 0; i < 3; i++) {
+                long answeredAt = System.nanoTime();
+                lineChannel.writeAndFlush(Unpooled.wrappedBuffer(response(request.frame)));
+                request = nextLineRequest();
+                long gap = request.receivedAt - answeredAt;
+                assertTrue(gap >= interFrameDelay, "Gap between frames was only " + gap + " ns");
+            }
+            lineChannel.writeAndFlush(Unpooled.wrappedBuffer(response(request.frame)));
+        } finally {
+            connection.close().syncUninterruptibly();
+        }
+    }
+
+    /**
+     * Starts a serial line, which queues the requests it receives for the test to answer.
+     */
+    private void startSimulatedLine() {
+        lineServerChannel = new ServerBootstrap()
+            .group(eventLoopGroup)
+            .channel(LocalServerChannel.class)
+            .childHandler(new ChannelInitializer<Channel>() {
+                @Override
+                protected void initChannel(Channel ch) {
+                    lineChannel = ch;
+                    ch.pipeline().addLast(new SimpleChannelInboundHandler<ByteBuf>() {
+                        @Override
+                        protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) {
+                            byte[] frame = new byte[msg.readableBytes()];
+                            msg.readBytes(frame);
+                            lineRequests.add(new LineRequest(frame, System.nanoTime()));
+                        }
+                    });
+                }
+            })
+            .bind(lineAddress)
+            .syncUninterruptibly()
+            .channel();
+    }
+
+    /**
+     * @return channel of a connection with "shared-bus" to the simulated line.
+     */
+    private Channel connect(int baudRate, int busPriority) throws Exception {
+        ModbusRtuConfiguration configuration = new ModbusRtuConfiguration();
+        configuration.setSharedBus(true);
+        configuration.setBusPriority(busPriority);
+        configuration.setRequestTimeout(5000);
+        configuration.setDeadSlaveBackoff(10000);
+        ModbusSerialBusChannelFactory channelFactory = new ModbusSerialBusChannelFactory(new ChannelFactory() {
+            @Override
+            public Channel createChannel(ChannelHandler channelHandler) {
+                return new Bootstrap()
+                    .group(eventLoopGroup)
+                    .channel(LocalChannel.class)
+                    .handler(channelHandler)
+                    .connect(lineAddress)
+                    .syncUninterruptibly()
+                    .channel();
+            }
+
+            @Override
+            public boolean isPassive() {
+                return false;
+            }
+        }, lineAddress.id(), new ModbusRtuDriver.SerialFraming()) {
+            @Override
+            protected ModbusSerialBus createSharedChannel(String key, ChannelFactory channelFactory) {
+                return new ModbusSerialBus(key, channelFactory, new ModbusRtuDriver.SerialFraming(), baudRate);
+            }
+        };
+        channelFactory.setConfiguration(configuration);
+        return channelFactory.createChannel(new SimpleChannelInboundHandler<ByteBuf>() {
+            @Override
+            protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) {
+                // The tests only look at the line.
+            }
+        });
+    }
+
+    /**
+     * Answers the requests on the line one after the other.
+     *
+     * @return the unit identifiers of the requests in the order they were sent.
+     */
+    private List<Integer> answerInSequence(LineRequest first, int number) throws InterruptedException {
+        List<Integer> units = new ArrayList<>();
+        LineRequest request = first;
+        for (int i = 0; i < number; i++) {
+            if (i > 0) {
+                request = nextLineRequest();
+            }
+            units.add(request.frame[0] & 0xFF);
+            lineChannel.writeAndFlush(Unpooled.wrappedBuffer(response(request.frame)));
+        }
+        return units;
+    }
+
+    private LineRequest nextLineRequest() throws InterruptedException {
+        LineRequest request = lineRequests.poll(5, TimeUnit.SECONDS);
+        assertNotNull(request, "The line didn't get a request");
+        return request;
+    }
+
+    /**
+     * @return RTU read-holding-registers request of one register.
+     */
+    private static ByteBuf request(int unit, int address) {
+        byte[] request = {(byte) unit, 0x03, (byte) (address >> 8), (byte) address, 0, 1, 0, 0};
+        int crc = crc(request, request.length - 2);
+        request[request.length - 2] = (byte) crc;
+        request[request.length - 1] = (byte) (crc >> 8);
+        return Unpooled.wrappedBuffer(request);
+    }
+
+    private static final class LineRequest {
+        private final byte[] frame;
+        private final long receivedAt;
+
+        private LineRequest(byte[] frame, long receivedAt) {
+            this.frame = frame;
+            this.receivedAt = receivedAt;
+        }
+    }
+
+    private void startServer() throws IOException {
+        serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        Thread server = new Thread(this::serve, "modbus-serial-bus-test-server");
+        server.setDaemon(true);
+        server.start();
+    }
+
+    /**
+     * Answers read-holding-registers requests with the unit identifier times 1000 plus the address of the
+     * register as value, except for the dead slave, which never answers.
+     */
+    private void serve() {
+        try (Socket socket = serverSocket.accept()) {
+            acceptedConnections.incrementAndGet();
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+            while (true) {
+                byte[] request = new byte[8];
+                in.readFully(request);
+                int unit = request[0] & 0xFF;
+                requestsPerSlave.computeIfAbsent(unit, u -> new AtomicInteger()).incrementAndGet();
+                Thread.sleep(5);
+                if (in.available() > 0) {
+                    overlappingRequests.set(true);
+                }
+                if (unit == DEAD_SLAVE) {
+                    continue;
+                }
+                out.write(response(request));
+                out.flush();
+            }
+        } catch (IOException | InterruptedException e) {
+            // The connection was closed.
+        }
+    }
+
+    /**
+     * @return response to an RTU read-holding-registers request with the unit identifier times 1000 plus the
+     * address of the register as value.
+     */
+    private static byte[] response(byte[] request) {
+        int unit = request[0] & 0xFF;
+        int address = ((request[2] & 0xFF) << 8) | (request[3] & 0xFF);
+        int quantity = ((request[4] & 0xFF) << 8) | (request[5] & 0xFF);
+        byte[] response = new byte[5 + (quantity * 2)];
+        response[0] = (byte) unit;
+        response[1] = request[1];
+        response[2] = (byte) (quantity * 2);
+        for (int i = 0; i < quantity; i++) {
+            int value = (unit * 1000) + address + i;
+            response[3 + (i * 2)] = (byte) (value >> 8);
+            response[4 + (i * 2)] = (byte) value;
+        }
+        int crc = crc(response, response.length - 2);
+        response[response.length - 2] = (byte) crc;
+        response[response.length - 1] = (byte) (crc >> 8);
+        return response;
+    }
+
+    private static int crc(byte[] data, int length) {
+        int crc = 0xFFFF;
+        for (int i = 0; i < length; i++) {
+            crc ^= data[i] & 0xFF;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = ((crc & 1) != 0) ? ((crc >> 1) ^ 0xA001) : (crc >> 1);
+            }
+        }
+        return crc;
+    }
+
+}
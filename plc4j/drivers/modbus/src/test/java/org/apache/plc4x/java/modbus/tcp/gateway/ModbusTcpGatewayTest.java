@@ -0,0 +1,456 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.modbus.tcp.gateway;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.local.LocalServerChannel;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import org.apache.plc4x.java.DefaultPlcDriverManager;
+import org.apache.plc4x.java.api.PlcConnection;
+import org.apache.plc4x.java.api.messages.PlcReadRequest;
+import org.apache.plc4x.java.api.messages.PlcReadResponse;
+import org.apache.plc4x.java.api.types.PlcResponseCode;
+import org.apache.plc4x.java.modbus.tcp.config.ModbusTcpConfiguration;
+import org.apache.plc4x.java.spi.connection.ChannelFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ModbusTcpGatewayTest {
+
+    private ServerSocket serverSocket;
+    private final ScheduledExecutorService responder = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicInteger acceptedConnections = new AtomicInteger();
+    private final CountDownLatch closedConnections = new CountDownLatch(1);
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger peakOutstanding = new AtomicInteger();
+
+    // Gateway simulated with local channels, so the tests decide when it answers.
+    private final EventLoopGroup eventLoopGroup = new DefaultEventLoopGroup(1);
+    private final LocalAddress gatewayAddress = new LocalAddress(ModbusTcpGatewayTest.class);
+    private final BlockingQueue<ByteBuf> gatewayRequests = new LinkedBlockingQueue<>();
+    private Channel gatewayServerChannel;
+    private Channel gatewayChannel;
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        if (gatewayServerChannel != null) {
+            gatewayServerChannel.close().syncUninterruptibly();
+        }
+        eventLoopGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+        responder.shutdownNow();
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+    }
+
+    @Test
+    public void connectionsShareOneTcpConnection() throws Exception {
+        serverSocket = new ServerSocket(0, 10, InetAddress.getLoopbackAddress());
+        Thread server = new Thread(this::accept, "modbus-gateway-test-server");
+        server.setDaemon(true);
+        server.start();
+
+        List<PlcConnection> connections = new ArrayList<>();
+        try {
+            for (int unit = 1; unit <= 5; unit++) {
+                connections.add(new DefaultPlcDriverManager().getConnection(
+                    "modbus-tcp://127.0.0.1:" + serverSocket.getLocalPort() +
+                        "?gateway-mode=true&max-in-flight=4&default-unit-identifier=" + unit));
+            }
+
+            // Every connection reads registers too far apart to be read with one request.
+            List<CompletableFuture<? extends PlcReadResponse>> responses = new ArrayList<>();
+            for (PlcConnection connection : connections) {
+                PlcReadRequest.Builder builder = connection.readRequestBuilder();
+                for (int i = 0; i < 4; i++) {
+                    builder.addTagAddress("register" + i, "holding-register:" + (i * 200 + 1) + ":UINT");
+                }
+                responses.add(builder.build().execute());
+            }
+            for (int unit = 1; unit <= 5; unit++) {
+                PlcReadResponse response = responses.get(unit - 1).get(10, TimeUnit.SECONDS);
+                for (int i = 0; i < 4; i++) {
+                    assertEquals(PlcResponseCode.OK, response.getResponseCode("register" + i));
+                    assertEquals((unit * 1000) + (i * 200), response.getInteger("register" + i));
+                }
+            }
+        } finally {
+            for (PlcConnection connection : connections) {
+                connection.close();
+            }
+        }
+
+        assertEquals(1, acceptedConnections.get());
+        // The gateway got more requests at once, once it answered the first ones.
+        assertTrue(peakOutstanding.get() > 1, "Peak of outstanding requests " + peakOutstanding.get());
+        assertTrue(peakOutstanding.get() <= 4, "Peak of outstanding requests " + peakOutstanding.get());
+        // Closing the last connection closes the TCP connection.
+        assertTrue(closedConnections.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void transactionIdentifiersAreRewrittenAndRestored() throws Exception {
+        ModbusTcpGatewayChannelFactory channelFactory = startSimulatedGateway(4);
+        BlockingQueue<ByteBuf> responses1 = new LinkedBlockingQueue<>();
+        BlockingQueue<ByteBuf> responses2 = new LinkedBlockingQueue<>();
+        Channel connection1 = channelFactory.createChannel(collectResponses(responses1));
+        Channel connection2 = channelFactory.createChannel(collectResponses(responses2));
+        try {
+            // One answered request lets the gateway send two at once.
+            connection1.writeAndFlush(request(1, 1)).syncUninterruptibly();
+            ByteBuf request = nextGatewayRequest();
+            gatewayChannel.writeAndFlush(response(request));
+            request.release();
+            ByteBuf response = responses1.poll(5, TimeUnit.SECONDS);
+            assertNotNull(response);
+            response.release();
+
+            // Both connections use the same transaction identifier.
+            connection1.writeAndFlush(request(7, 1)).syncUninterruptibly();
+            ByteBuf request1 = nextGatewayRequest();
+            connection2.writeAndFlush(request(7, 2)).syncUninterruptibly();
+            ByteBuf request2 = nextGatewayRequest();
+            assertNotEquals(request1.getUnsignedShort(0), request2.getUnsignedShort(0));
+            assertEquals(1, request1.getUnsignedByte(6));
+            assertEquals(2, request2.getUnsignedByte(6));
+
+            // Answer in the opposite order.
+            gatewayChannel.writeAndFlush(response(request2));
+            gatewayChannel.writeAndFlush(response(request1));
+            ByteBuf response1 = responses1.poll(5, TimeUnit.SECONDS);
+            ByteBuf response2 = responses2.poll(5, TimeUnit.SECONDS);
+            assertNotNull(response1);
+            assertNotNull(response2);
+            assertEquals(7, response1.getUnsignedShort(0));
+            assertEquals(1, response1.getUnsignedByte(6));
+            assertEquals(7, response2.getUnsignedShort(0));
+            assertEquals(2, response2.getUnsignedByte(6));
+            request1.release();
+            request2.release();
+            response1.release();
+            response2.release();
+        } finally {
+            connection1.close().syncUninterruptibly();
+            connection2.close().syncUninterruptibly();
+        }
+    }
+
+    @Test
+    public void windowGrowsWhileAnsweredAndIsHalvedWhenBusy() throws Exception {
+        ModbusTcpGatewayChannelFactory channelFactory = startSimulatedGateway(4);
+        Channel connection = channelFactory.createChannel(collectResponses(new LinkedBlockingQueue<>()));
+        try {
+            for (int i = 1; i <= 30; i++) {
+                connection.write(request(i, 1));
+            }
+            connection.flush();
+
+            // Grows by one, after a window full of requests was answered, up to "max-in-flight".
+            for (int window : new int[]{1, 2, 3, 4, 4}) {
+                List<ByteBuf> requests = nextGatewayRequests(window);
+                requests.forEach(request -> gatewayChannel.write(response(request)));
+                gatewayChannel.flush();
+                requests.forEach(ByteBuf::release);
+            }
+            // Every "server device busy" halves it.
+            List<ByteBuf> requests = nextGatewayRequests(4);
+            requests.forEach(request -> gatewayChannel.write(busyResponse(request)));
+            gatewayChannel.flush();
+            requests.forEach(ByteBuf::release);
+            for (int window : new int[]{1, 2}) {
+                requests = nextGatewayRequests(window);
+                requests.forEach(request -> gatewayChannel.write(response(request)));
+                gatewayChannel.flush();
+                requests.forEach(ByteBuf::release);
+            }
+        } finally {
+            connection.close().syncUninterruptibly();
+        }
+    }
+
+    @Test
+    public void connectionsTakeTurns() throws Exception {
+        ModbusTcpGatewayChannelFactory channelFactory = startSimulatedGateway(1);
+        Channel busyConnection = channelFactory.createChannel(collectResponses(new LinkedBlockingQueue<>()));
+        Channel otherConnection = channelFactory.createChannel(collectResponses(new LinkedBlockingQueue<>()));
+        try {
+            for (int i = 1; i <= 4; i++) {
+                busyConnection.writeAndFlush(request(i, 1)).syncUninterruptibly();
+            }
+            for (int i = 1; i <= 2; i++) {
+                otherConnection.writeAndFlush(request(i, 2)).syncUninterruptibly();
+            }
+            // Let the gateway queue all requests, before answering the first one.
+            eventLoopGroup.submit(() -> { }).syncUninterruptibly();
+
+            List<Integer> units = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                ByteBuf request = nextGatewayRequest();
+                units.add((int) request.getUnsignedByte(6));
+                gatewayChannel.writeAndFlush(response(request));
+                request.release();
+            }
+            assertEquals(List.of(1, 2, 1, 2, 1, 1), units);
+        } finally {
+            busyConnection.close().syncUninterruptibly();
+            otherConnection.close().syncUninterruptibly();
+        }
+    }
+
+    @Test
+    public void windowShrinksWhenTheConnectionAllowingItCloses() throws Exception {
+        ModbusTcpGatewayChannelFactory channelFactory = startSimulatedGateway(4);
+        BlockingQueue<ByteBuf> responses = new LinkedBlockingQueue<>();
+        Channel pipeliningConnection = channelFactory.createChannel(collectResponses(responses));
+        Channel otherConnection = createChannelFactory(1).createChannel(collectResponses(new LinkedBlockingQueue<>()));
+        try {
+            // Grow the window to 4.
+            for (int i = 1; i <= 6; i++) {
+                pipeliningConnection.write(request(i, 1));
+            }
+            pipeliningConnection.flush();
+            for (int window : new int[]{1, 2, 3}) {
+                List<ByteBuf> requests = nextGatewayRequests(window);
+                requests.forEach(request -> gatewayChannel.write(response(request)));
+                gatewayChannel.flush();
+                requests.forEach(ByteBuf::release);
+            }
+            for (int i = 0; i < 6; i++) {
+                ByteBuf response = responses.poll(5, TimeUnit.SECONDS);
+                assertNotNull(response);
+                response.release();
+            }
+            pipeliningConnection.close().syncUninterruptibly();
+            // The gateway gets to know about it a few tasks later.
+            for (int i = 0; i < 3; i++) {
+                eventLoopGroup.submit(() -> { }).syncUninterruptibly();
+            }
+
+            // Only the connection allowing one request in flight is left.
+            for (int i = 1; i <= 3; i++) {
+                otherConnection.write(request(i, 2));
+            }
+            otherConnection.flush();
+            for (int i = 0; i < 3; i++) {
+                List<ByteBuf> requests = nextGatewayRequests(1);
+                gatewayChannel.writeAndFlush(response(requests.get(0)));
+                requests.get(0).release();
+            }
+        } finally {
+            pipeliningConnection.close().syncUninterruptibly();
+            otherConnection.close().syncUninterruptibly();
+        }
+    }
+
+    /**
+     * Starts a gateway, which queues the requests it receives for the test to answer.
+     *
+     * @return channel factory of a connection in gateway-mode to it.
+     */
+    private ModbusTcpGatewayChannelFactory startSimulatedGateway(int maxInFlight) {
+        gatewayServerChannel = new ServerBootstrap()
+            .group(eventLoopGroup)
+            .channel(LocalServerChannel.class)
+            .childHandler(new ChannelInitializer<Channel>() {
+                @Override
+                protected void initChannel(Channel ch) {
+                    gatewayChannel = ch;
+                    ch.pipeline().addLast(new LengthFieldBasedFrameDecoder(6 + 0xFFFF, 4, 2));
+                    ch.pipeline().addLast(new SimpleChannelInboundHandler<ByteBuf>(false) {
+                        @Override
+                        protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) {
+                            gatewayRequests.add(msg);
+                        }
+                    });
+                }
+            })
+            .bind(gatewayAddress)
+            .syncUninterruptibly()
+            .channel();
+        return createChannelFactory(maxInFlight);
+    }
+
+    /**
+     * @return channel factory of another connection in gateway-mode to the simulated gateway.
+     */
+    private ModbusTcpGatewayChannelFactory createChannelFactory(int maxInFlight) {
+        ModbusTcpConfiguration configuration = new ModbusTcpConfiguration();
+        configuration.setMaxInFlight(maxInFlight);
+        configuration.setRequestTimeout(5000);
+        ModbusTcpGatewayChannelFactory channelFactory = new ModbusTcpGatewayChannelFactory(new ChannelFactory() {
+            @Override
+            public Channel createChannel(ChannelHandler channelHandler) {
+                return new Bootstrap()
+                    .group(eventLoopGroup)
+                    .channel(LocalChannel.class)
+                    .handler(channelHandler)
+                    .connect(gatewayAddress)
+                    .syncUninterruptibly()
+                    .channel();
+            }
+
+            @Override
+            public boolean isPassive() {
+                return false;
+            }
+        }, gatewayAddress.id());
+        channelFactory.setConfiguration(configuration);
+        return channelFactory;
+    }
+
+    private static ChannelHandler collectResponses(BlockingQueue<ByteBuf> responses) {
+        return new SimpleChannelInboundHandler<ByteBuf>(false) {
+            @Override
+            protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) {
+                responses.add(msg);
+            }
+        };
+    }
+
+    private ByteBuf nextGatewayRequest() throws InterruptedException {
+        ByteBuf request = gatewayRequests.poll(5, TimeUnit.SECONDS);
+        assertNotNull(request, "The gateway didn't get a request");
+        return request;
+    }
+
+    /**
+     * @return the requests the gateway got, which have to be exactly the given number.
+     */
+    private List<ByteBuf> nextGatewayRequests(int number) throws InterruptedException {
+        List<ByteBuf> requests = new ArrayList<>();
+        for (int i = 0; i < number; i++) {
+            requests.add(nextGatewayRequest());
+        }
+        assertNull(gatewayRequests.poll(100, TimeUnit.MILLISECONDS), "The gateway got more than " + number + " requests");
+        return requests;
+    }
+
+    /**
+     * @return read-holding-registers request of one register.
+     */
+    private static ByteBuf request(int transactionIdentifier, int unitIdentifier) {
+        return Unpooled.buffer()
+            .writeShort(transactionIdentifier).writeShort(0).writeShort(6)
+            .writeByte(unitIdentifier).writeByte(0x03).writeShort(0).writeShort(1);
+    }
+
+    private static ByteBuf response(ByteBuf request) {
+        return Unpooled.buffer()
+            .writeShort(request.getUnsignedShort(0)).writeShort(0).writeShort(5)
+            .writeByte(request.getUnsignedByte(6)).writeByte(0x03).writeByte(2).writeShort(42);
+    }
+
+    private static ByteBuf busyResponse(ByteBuf request) {
+        return Unpooled.buffer()
+            .writeShort(request.getUnsignedShort(0)).writeShort(0).writeShort(3)
+            .writeByte(request.getUnsignedByte(6)).writeByte(0x83).writeByte(0x06);
+    }
+
+    private void accept() {
+        try {
+            while (true) {
+                Socket socket = serverSocket.accept();
+                acceptedConnections.incrementAndGet();
+                Thread handler = new Thread(() -> serve(socket), "modbus-gateway-test-connection");
+                handler.setDaemon(true);
+                handler.start();
+            }
+        } catch (IOException e) {
+            // The server socket was closed.
+        }
+    }
+
+    /**
+     * Answers read-holding-registers requests with the unit identifier times 1000 plus the address of the
+     * register as value, a while after receiving them, so pipelined requests pile up.
+     */
+    private void serve(Socket socket) {
+        try (socket) {
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            while (true) {
+                int transactionIdentifier = in.readUnsignedShort();
+                in.readUnsignedShort();
+                byte[] body = new byte[in.readUnsignedShort()];
+                in.readFully(body);
+                int unitIdentifier = body[0] & 0xFF;
+                int address = ((body[2] & 0xFF) << 8) | (body[3] & 0xFF);
+                int quantity = ((body[4] & 0xFF) << 8) | (body[5] & 0xFF);
+                peakOutstanding.accumulateAndGet(outstanding.incrementAndGet(), Math::max);
+                responder.schedule(() -> {
+                    outstanding.decrementAndGet();
+                    try {
+                        synchronized (out) {
+                            out.writeShort(transactionIdentifier);
+                            out.writeShort(0);
+                            out.writeShort(3 + (quantity * 2));
+                            out.writeByte(body[0]);
+                            out.writeByte(body[1]);
+                            out.writeByte(quantity * 2);
+                            for (int i = 0; i < quantity; i++) {
+                                out.writeShort((unitIdentifier * 1000) + address + i);
+                            }
+                            out.flush();
+                        }
+                    } catch (IOException e) {
+                        // The connection was closed.
+                    }
+                }, 20, TimeUnit.MILLISECONDS);
+            }
+        } catch (IOException e) {
+            closedConnections.countDown();
+        }
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.modbus.tcp.protocol;
+
+import org.apache.plc4x.java.DefaultPlcDriverManager;
+import org.apache.plc4x.java.api.PlcConnection;
+import org.apache.plc4x.java.api.messages.PlcReadRequest;
+import org.apache.plc4x.java.api.messages.PlcReadResponse;
+import org.apache.plc4x.java.api.messages.PlcWriteRequest;
+import org.apache.plc4x.java.api.messages.PlcWriteResponse;
+import org.apache.plc4x.java.api.types.PlcResponseCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ModbusTcpProtocolLogicTest {
+
+    private ServerSocket serverSocket;
+    private final ScheduledExecutorService responder = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger peakOutstanding = new AtomicInteger();
+    private final List<byte[]> writeRequests = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        responder.shutdownNow();
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+    }
+
+    @Test
+    public void transactionIdentifiersWrapAround() {
+        ModbusTcpProtocolLogic protocolLogic = new ModbusTcpProtocolLogic();
+        for (int i = 1; i <= 0xFFFE; i++) {
+            assertEquals(i, protocolLogic.nextTransactionIdentifier());
+        }
+        assertEquals(1, protocolLogic.nextTransactionIdentifier());
+        assertEquals(2, protocolLogic.nextTransactionIdentifier());
+    }
+
+    @Test
+    public void pipelinesSubRequests() throws Exception {
+        serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        Thread server = new Thread(this::serve, "modbus-test-server");
+        server.setDaemon(true);
+        server.start();
+
+        try (PlcConnection connection = new DefaultPlcDriverManager().getConnection(
+            "modbus-tcp://127.0.0.1:" + serverSocket.getLocalPort() + "?max-in-flight=8")) {
+            // The registers are too far apart to be read with one request.
+            PlcReadRequest.Builder builder = connection.readRequestBuilder();
+            for (int i = 0; i < 30; i++) {
+                builder.addTagAddress("register" + i, "holding-register:" + (i * 200 + 1) + ":UINT");
+            }
+            PlcReadResponse response = builder.build().execute().get(10, TimeUnit.SECONDS);
+            for (int i = 0; i < 30; i++) {
+                assertEquals(PlcResponseCode.OK, response.getResponseCode("register" + i));
+                assertEquals(i * 200, response.getInteger("register" + i));
+            }
+        }
+        assertTrue(peakOutstanding.get() > 1, "Peak of outstanding requests " + peakOutstanding.get());
+        assertTrue(peakOutstanding.get() <= 8, "Peak of outstanding requests " + peakOutstanding.get());
+    }
+
+    @Test
+    public void writesAdjacentRegistersWithOneRequest() throws Exception {
+        serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        Thread server = new Thread(this::serve, "modbus-test-server");
+        server.setDaemon(true);
+        server.start();
+
+        try (PlcConnection connection = new DefaultPlcDriverManager().getConnection(
+            "modbus-tcp://127.0.0.1:" + serverSocket.getLocalPort())) {
+            PlcWriteRequest.Builder builder = connection.writeRequestBuilder();
+            for (int i = 0; i < 50; i++) {
+                builder.addTagAddress("register" + i, "holding-register:" + (i + 1) + ":UINT", i);
+            }
+            PlcWriteResponse response = builder.build().execute().get(10, TimeUnit.SECONDS);
+            for (int i = 0; i < 50; i++) {
+                assertEquals(PlcResponseCode.OK, response.getResponseCode("register" + i));
+            }
+        }
+        assertEquals(1, writeRequests.size());
+        byte[] body = writeRequests.get(0);
+        // Write-multiple-registers of 50 registers starting at 0.
+        assertEquals(0x10, body[1]);
+        assertEquals(0, ((body[2] & 0xFF) << 8) | (body[3] & 0xFF));
+        assertEquals(50, ((body[4] & 0xFF) << 8) | (body[5] & 0xFF));
+        assertEquals(100, body[6] & 0xFF);
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, ((body[7 + (i * 2)] & 0xFF) << 8) | (body[8 + (i * 2)] & 0xFF));
+        }
+    }
+
+    /**
+     * Answers read-holding-registers requests with the address of the register as value, a while after
+     * receiving them, so pipelined requests pile up. Write-multiple-registers requests are recorded and
+     * confirmed right away.
+     */
+    private void serve() {
+        try (Socket socket = serverSocket.accept()) {
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            while (true) {
+                int transactionIdentifier = in.readUnsignedShort();
+                in.readUnsignedShort();
+                byte[] body = new byte[in.readUnsignedShort()];
+                in.readFully(body);
+                if (body[1] == 0x10) {
+                    writeRequests.add(body);
+                    responder.execute(() -> {
+                        try {
+                            out.writeShort(transactionIdentifier);
+                            out.writeShort(0);
+                            out.writeShort(6);
+                            out.write(body, 0, 6);
+                            out.flush();
+                        } catch (IOException e) {
+                            // The connection was closed.
+                        }
+                    });
+                    continue;
+                }
+                int address = ((body[2] & 0xFF) << 8) | (body[3] & 0xFF);
+                int quantity = ((body[4] & 0xFF) << 8) | (body[5] & 0xFF);
+                peakOutstanding.accumulateAndGet(outstanding.incrementAndGet(), Math::max);
+                responder.schedule(() -> {
+                    outstanding.decrementAndGet();
+                    try {
+                        out.writeShort(transactionIdentifier);
+                        out.writeShort(0);
+                        out.writeShort(3 + (quantity * 2));
+                        out.writeByte(body[0]);
+                        out.writeByte(body[1]);
+                        out.writeByte(quantity * 2);
+                        for (int i = 0; i < quantity; i++) {
+                            out.writeShort(address + i);
+                        }
+                        out.flush();
+                    } catch (IOException e) {
+                        // The connection was closed.
+                    }
+                }, 20, TimeUnit.MILLISECONDS);
+            }
+        } catch (IOException e) {
+            // The connection was closed.
+        }
+    }
+
+}
@@ -64,7 +64,7 @@ public class ActionMethodDataType extends ExtensionObjectDefinition implements M
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ActionMethodDataType");
 
     // Simple Field (objectId)
@@ -82,10 +82,9 @@ public class ActionMethodDataType extends ExtensionObjectDefinition implements M
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ActionMethodDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectId)
     lengthInBits += objectId.getLengthInBits();
@@ -100,7 +99,7 @@ public class ActionMethodDataType extends ExtensionObjectDefinition implements M
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ActionMethodDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NodeId objectId =
         readSimpleField("objectId", readComplex(() -> NodeId.staticParse(readBuffer), readBuffer));
@@ -70,7 +70,7 @@ public class ActionTargetDataType extends ExtensionObjectDefinition implements M
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ActionTargetDataType");
 
     // Simple Field (actionTargetId)
@@ -91,10 +91,9 @@ public class ActionTargetDataType extends ExtensionObjectDefinition implements M
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ActionTargetDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (actionTargetId)
     lengthInBits += 16;
@@ -112,7 +111,7 @@ public class ActionTargetDataType extends ExtensionObjectDefinition implements M
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ActionTargetDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int actionTargetId = readSimpleField("actionTargetId", readUnsignedInt(readBuffer, 16));
 
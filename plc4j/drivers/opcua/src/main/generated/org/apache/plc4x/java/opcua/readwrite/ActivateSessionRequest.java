@@ -94,7 +94,7 @@ public class ActivateSessionRequest extends ExtensionObjectDefinition implements
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ActivateSessionRequest");
 
     // Simple Field (requestHeader)
@@ -142,10 +142,9 @@ public class ActivateSessionRequest extends ExtensionObjectDefinition implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ActivateSessionRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -160,8 +159,7 @@ public class ActivateSessionRequest extends ExtensionObjectDefinition implements
     if (clientSoftwareCertificates != null) {
       int i = 0;
       for (SignedSoftwareCertificate element : clientSoftwareCertificates) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= clientSoftwareCertificates.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= clientSoftwareCertificates.size());
       }
     }
 
@@ -172,8 +170,7 @@ public class ActivateSessionRequest extends ExtensionObjectDefinition implements
     if (localeIds != null) {
       int i = 0;
       for (PascalString element : localeIds) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= localeIds.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= localeIds.size());
       }
     }
 
@@ -190,7 +187,7 @@ public class ActivateSessionRequest extends ExtensionObjectDefinition implements
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ActivateSessionRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     RequestHeader requestHeader =
         readSimpleField(
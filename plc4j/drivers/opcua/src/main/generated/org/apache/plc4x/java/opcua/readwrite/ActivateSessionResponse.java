@@ -80,7 +80,7 @@ public class ActivateSessionResponse extends ExtensionObjectDefinition implement
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ActivateSessionResponse");
 
     // Simple Field (responseHeader)
@@ -115,10 +115,9 @@ public class ActivateSessionResponse extends ExtensionObjectDefinition implement
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ActivateSessionResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -133,8 +132,7 @@ public class ActivateSessionResponse extends ExtensionObjectDefinition implement
     if (results != null) {
       int i = 0;
       for (StatusCode element : results) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= results.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= results.size());
       }
     }
 
@@ -145,8 +143,7 @@ public class ActivateSessionResponse extends ExtensionObjectDefinition implement
     if (diagnosticInfos != null) {
       int i = 0;
       for (DiagnosticInfo element : diagnosticInfos) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= diagnosticInfos.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= diagnosticInfos.size());
       }
     }
 
@@ -157,7 +154,7 @@ public class ActivateSessionResponse extends ExtensionObjectDefinition implement
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ActivateSessionResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ResponseHeader responseHeader =
         readSimpleField(
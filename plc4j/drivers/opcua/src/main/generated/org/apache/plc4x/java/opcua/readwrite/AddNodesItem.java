@@ -101,7 +101,7 @@ public class AddNodesItem extends ExtensionObjectDefinition implements Message {
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AddNodesItem");
 
     // Simple Field (parentNodeId)
@@ -138,10 +138,9 @@ public class AddNodesItem extends ExtensionObjectDefinition implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AddNodesItem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (parentNodeId)
     lengthInBits += parentNodeId.getLengthInBits();
@@ -171,7 +170,7 @@ public class AddNodesItem extends ExtensionObjectDefinition implements Message {
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("AddNodesItem");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ExpandedNodeId parentNodeId =
         readSimpleField(
@@ -64,7 +64,7 @@ public class AddNodesRequest extends ExtensionObjectDefinition implements Messag
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AddNodesRequest");
 
     // Simple Field (requestHeader)
@@ -87,10 +87,9 @@ public class AddNodesRequest extends ExtensionObjectDefinition implements Messag
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AddNodesRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -102,8 +101,7 @@ public class AddNodesRequest extends ExtensionObjectDefinition implements Messag
     if (nodesToAdd != null) {
       int i = 0;
       for (AddNodesItem element : nodesToAdd) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= nodesToAdd.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= nodesToAdd.size());
       }
     }
 
@@ -114,7 +112,7 @@ public class AddNodesRequest extends ExtensionObjectDefinition implements Messag
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("AddNodesRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     RequestHeader requestHeader =
         readSimpleField(
@@ -73,7 +73,7 @@ public class AddNodesResponse extends ExtensionObjectDefinition implements Messa
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AddNodesResponse");
 
     // Simple Field (responseHeader)
@@ -105,10 +105,9 @@ public class AddNodesResponse extends ExtensionObjectDefinition implements Messa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AddNodesResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -120,8 +119,7 @@ public class AddNodesResponse extends ExtensionObjectDefinition implements Messa
     if (results != null) {
       int i = 0;
       for (AddNodesResult element : results) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= results.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= results.size());
       }
     }
 
@@ -132,8 +130,7 @@ public class AddNodesResponse extends ExtensionObjectDefinition implements Messa
     if (diagnosticInfos != null) {
       int i = 0;
       for (DiagnosticInfo element : diagnosticInfos) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= diagnosticInfos.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= diagnosticInfos.size());
       }
     }
 
@@ -144,7 +141,7 @@ public class AddNodesResponse extends ExtensionObjectDefinition implements Messa
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("AddNodesResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ResponseHeader responseHeader =
         readSimpleField(
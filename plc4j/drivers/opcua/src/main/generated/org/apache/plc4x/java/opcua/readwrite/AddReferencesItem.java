@@ -94,7 +94,7 @@ public class AddReferencesItem extends ExtensionObjectDefinition implements Mess
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AddReferencesItem");
 
     // Simple Field (sourceNodeId)
@@ -131,10 +131,9 @@ public class AddReferencesItem extends ExtensionObjectDefinition implements Mess
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AddReferencesItem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sourceNodeId)
     lengthInBits += sourceNodeId.getLengthInBits();
@@ -164,7 +163,7 @@ public class AddReferencesItem extends ExtensionObjectDefinition implements Mess
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("AddReferencesItem");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NodeId sourceNodeId =
         readSimpleField(
@@ -65,7 +65,7 @@ public class AddReferencesRequest extends ExtensionObjectDefinition implements M
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AddReferencesRequest");
 
     // Simple Field (requestHeader)
@@ -89,10 +89,9 @@ public class AddReferencesRequest extends ExtensionObjectDefinition implements M
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AddReferencesRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -104,8 +103,7 @@ public class AddReferencesRequest extends ExtensionObjectDefinition implements M
     if (referencesToAdd != null) {
       int i = 0;
       for (AddReferencesItem element : referencesToAdd) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= referencesToAdd.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= referencesToAdd.size());
       }
     }
 
@@ -116,7 +114,7 @@ public class AddReferencesRequest extends ExtensionObjectDefinition implements M
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("AddReferencesRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     RequestHeader requestHeader =
         readSimpleField(
@@ -58,7 +58,7 @@ public class AdditionalParametersType extends ExtensionObjectDefinition implemen
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AdditionalParametersType");
 
     // Implicit Field (noOfParameters) (Used for parsing, but its value is not stored as it's
@@ -78,10 +78,9 @@ public class AdditionalParametersType extends ExtensionObjectDefinition implemen
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AdditionalParametersType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (noOfParameters)
     lengthInBits += 32;
@@ -90,8 +89,7 @@ public class AdditionalParametersType extends ExtensionObjectDefinition implemen
     if (parameters != null) {
       int i = 0;
       for (KeyValuePair element : parameters) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= parameters.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= parameters.size());
       }
     }
 
@@ -102,7 +100,7 @@ public class AdditionalParametersType extends ExtensionObjectDefinition implemen
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("AdditionalParametersType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int noOfParameters = readImplicitField("noOfParameters", readSignedInt(readBuffer, 32));
 
@@ -87,7 +87,7 @@ public class AggregateConfiguration extends ExtensionObjectDefinition implements
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AggregateConfiguration");
 
     // Reserved Field (reserved)
@@ -121,40 +121,16 @@ public class AggregateConfiguration extends ExtensionObjectDefinition implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    AggregateConfiguration _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Reserved Field (reserved)
-    lengthInBits += 6;
-
-    // Simple field (treatUncertainAsBad)
-    lengthInBits += 1;
-
-    // Simple field (useServerCapabilitiesDefaults)
-    lengthInBits += 1;
-
-    // Simple field (percentDataBad)
-    lengthInBits += 8;
-
-    // Simple field (percentDataGood)
-    lengthInBits += 8;
-
-    // Reserved Field (reserved)
-    lengthInBits += 7;
-
-    // Simple field (useSlopedExtrapolation)
-    lengthInBits += 1;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 32;
   }
 
   public static ExtensionObjectDefinitionBuilder staticParseExtensionObjectDefinitionBuilder(
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("AggregateConfiguration");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Byte reservedField0 =
         readReservedField("reserved", readUnsignedByte(readBuffer, 6), (byte) 0x00);
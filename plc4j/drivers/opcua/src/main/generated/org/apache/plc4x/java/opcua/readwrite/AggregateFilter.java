@@ -80,7 +80,7 @@ public class AggregateFilter extends ExtensionObjectDefinition implements Messag
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AggregateFilter");
 
     // Simple Field (startTime)
@@ -104,10 +104,9 @@ public class AggregateFilter extends ExtensionObjectDefinition implements Messag
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AggregateFilter _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (startTime)
     lengthInBits += 64;
@@ -128,7 +127,7 @@ public class AggregateFilter extends ExtensionObjectDefinition implements Messag
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("AggregateFilter");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long startTime = readSimpleField("startTime", readSignedLong(readBuffer, 64));
 
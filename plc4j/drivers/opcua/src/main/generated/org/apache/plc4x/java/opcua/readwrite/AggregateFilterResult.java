@@ -73,7 +73,7 @@ public class AggregateFilterResult extends ExtensionObjectDefinition implements
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AggregateFilterResult");
 
     // Simple Field (revisedStartTime)
@@ -96,10 +96,9 @@ public class AggregateFilterResult extends ExtensionObjectDefinition implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AggregateFilterResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (revisedStartTime)
     lengthInBits += 64;
@@ -117,7 +116,7 @@ public class AggregateFilterResult extends ExtensionObjectDefinition implements
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("AggregateFilterResult");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long revisedStartTime = readSimpleField("revisedStartTime", readSignedLong(readBuffer, 64));
 
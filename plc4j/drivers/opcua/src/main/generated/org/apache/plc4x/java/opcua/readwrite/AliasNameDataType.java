@@ -64,7 +64,7 @@ public class AliasNameDataType extends ExtensionObjectDefinition implements Mess
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AliasNameDataType");
 
     // Simple Field (aliasName)
@@ -88,10 +88,9 @@ public class AliasNameDataType extends ExtensionObjectDefinition implements Mess
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AliasNameDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (aliasName)
     lengthInBits += aliasName.getLengthInBits();
@@ -103,8 +102,7 @@ public class AliasNameDataType extends ExtensionObjectDefinition implements Mess
     if (referencedNodes != null) {
       int i = 0;
       for (ExpandedNodeId element : referencedNodes) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= referencedNodes.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= referencedNodes.size());
       }
     }
 
@@ -115,7 +113,7 @@ public class AliasNameDataType extends ExtensionObjectDefinition implements Mess
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("AliasNameDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     QualifiedName aliasName =
         readSimpleField(
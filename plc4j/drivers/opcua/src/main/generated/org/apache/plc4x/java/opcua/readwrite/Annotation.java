@@ -70,7 +70,7 @@ public class Annotation extends ExtensionObjectDefinition implements Message {
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("Annotation");
 
     // Simple Field (message)
@@ -91,10 +91,9 @@ public class Annotation extends ExtensionObjectDefinition implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     Annotation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (message)
     lengthInBits += message.getLengthInBits();
@@ -112,7 +111,7 @@ public class Annotation extends ExtensionObjectDefinition implements Message {
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("Annotation");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString message =
         readSimpleField(
@@ -70,7 +70,7 @@ public class AnnotationDataType extends ExtensionObjectDefinition implements Mes
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AnnotationDataType");
 
     // Simple Field (annotation)
@@ -91,10 +91,9 @@ public class AnnotationDataType extends ExtensionObjectDefinition implements Mes
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AnnotationDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (annotation)
     lengthInBits += annotation.getLengthInBits();
@@ -112,7 +111,7 @@ public class AnnotationDataType extends ExtensionObjectDefinition implements Mes
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("AnnotationDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString annotation =
         readSimpleField(
@@ -58,7 +58,7 @@ public class AnonymousIdentityToken extends ExtensionObjectDefinition implements
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AnonymousIdentityToken");
 
     // Simple Field (policyId)
@@ -73,10 +73,9 @@ public class AnonymousIdentityToken extends ExtensionObjectDefinition implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AnonymousIdentityToken _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (policyId)
     lengthInBits += policyId.getLengthInBits();
@@ -88,7 +87,7 @@ public class AnonymousIdentityToken extends ExtensionObjectDefinition implements
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("AnonymousIdentityToken");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString policyId =
         readSimpleField(
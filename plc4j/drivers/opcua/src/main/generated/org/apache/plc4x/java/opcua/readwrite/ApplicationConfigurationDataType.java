@@ -115,7 +115,7 @@ public class ApplicationConfigurationDataType extends ExtensionObjectDefinition
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ApplicationConfigurationDataType");
 
     // Simple Field (configurationVersion)
@@ -208,10 +208,9 @@ public class ApplicationConfigurationDataType extends ExtensionObjectDefinition
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ApplicationConfigurationDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (configurationVersion)
     lengthInBits += 32;
@@ -223,8 +222,7 @@ public class ApplicationConfigurationDataType extends ExtensionObjectDefinition
     if (configurationProperties != null) {
       int i = 0;
       for (KeyValuePair element : configurationProperties) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= configurationProperties.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= configurationProperties.size());
       }
     }
 
@@ -238,8 +236,7 @@ public class ApplicationConfigurationDataType extends ExtensionObjectDefinition
     if (certificateGroups != null) {
       int i = 0;
       for (CertificateGroupDataType element : certificateGroups) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= certificateGroups.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= certificateGroups.size());
       }
     }
 
@@ -250,8 +247,7 @@ public class ApplicationConfigurationDataType extends ExtensionObjectDefinition
     if (serverEndpoints != null) {
       int i = 0;
       for (ServerEndpointDataType element : serverEndpoints) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= serverEndpoints.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= serverEndpoints.size());
       }
     }
 
@@ -262,8 +258,7 @@ public class ApplicationConfigurationDataType extends ExtensionObjectDefinition
     if (clientEndpoints != null) {
       int i = 0;
       for (EndpointDataType element : clientEndpoints) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= clientEndpoints.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= clientEndpoints.size());
       }
     }
 
@@ -274,8 +269,7 @@ public class ApplicationConfigurationDataType extends ExtensionObjectDefinition
     if (securitySettings != null) {
       int i = 0;
       for (SecuritySettingsDataType element : securitySettings) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= securitySettings.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= securitySettings.size());
       }
     }
 
@@ -286,8 +280,7 @@ public class ApplicationConfigurationDataType extends ExtensionObjectDefinition
     if (userTokenSettings != null) {
       int i = 0;
       for (UserTokenSettingsDataType element : userTokenSettings) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= userTokenSettings.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= userTokenSettings.size());
       }
     }
 
@@ -298,8 +291,7 @@ public class ApplicationConfigurationDataType extends ExtensionObjectDefinition
     if (authorizationServices != null) {
       int i = 0;
       for (AuthorizationServiceConfigurationDataType element : authorizationServices) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= authorizationServices.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= authorizationServices.size());
       }
     }
 
@@ -310,7 +302,7 @@ public class ApplicationConfigurationDataType extends ExtensionObjectDefinition
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ApplicationConfigurationDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long configurationVersion =
         readSimpleField("configurationVersion", readUnsignedLong(readBuffer, 32));
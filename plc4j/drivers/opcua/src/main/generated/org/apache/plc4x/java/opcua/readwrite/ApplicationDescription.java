@@ -101,7 +101,7 @@ public class ApplicationDescription extends ExtensionObjectDefinition implements
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ApplicationDescription");
 
     // Simple Field (applicationUri)
@@ -145,10 +145,9 @@ public class ApplicationDescription extends ExtensionObjectDefinition implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ApplicationDescription _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (applicationUri)
     lengthInBits += applicationUri.getLengthInBits();
@@ -175,8 +174,7 @@ public class ApplicationDescription extends ExtensionObjectDefinition implements
     if (discoveryUrls != null) {
       int i = 0;
       for (PascalString element : discoveryUrls) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= discoveryUrls.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= discoveryUrls.size());
       }
     }
 
@@ -187,7 +185,7 @@ public class ApplicationDescription extends ExtensionObjectDefinition implements
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ApplicationDescription");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString applicationUri =
         readSimpleField(
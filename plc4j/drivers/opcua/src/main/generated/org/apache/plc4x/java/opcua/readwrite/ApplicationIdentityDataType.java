@@ -87,7 +87,7 @@ public class ApplicationIdentityDataType extends ExtensionObjectDefinition imple
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ApplicationIdentityDataType");
 
     // Simple Field (name)
@@ -135,10 +135,9 @@ public class ApplicationIdentityDataType extends ExtensionObjectDefinition imple
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ApplicationIdentityDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -150,8 +149,7 @@ public class ApplicationIdentityDataType extends ExtensionObjectDefinition imple
     if (recordProperties != null) {
       int i = 0;
       for (KeyValuePair element : recordProperties) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= recordProperties.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= recordProperties.size());
       }
     }
 
@@ -165,8 +163,7 @@ public class ApplicationIdentityDataType extends ExtensionObjectDefinition imple
     if (applicationNames != null) {
       int i = 0;
       for (LocalizedText element : applicationNames) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= applicationNames.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= applicationNames.size());
       }
     }
 
@@ -177,8 +174,7 @@ public class ApplicationIdentityDataType extends ExtensionObjectDefinition imple
     if (additionalServers != null) {
       int i = 0;
       for (ApplicationDescription element : additionalServers) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= additionalServers.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= additionalServers.size());
       }
     }
 
@@ -189,7 +185,7 @@ public class ApplicationIdentityDataType extends ExtensionObjectDefinition imple
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ApplicationIdentityDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString name =
         readSimpleField(
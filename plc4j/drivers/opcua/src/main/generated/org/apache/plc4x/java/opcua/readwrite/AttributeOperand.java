@@ -87,7 +87,7 @@ public class AttributeOperand extends ExtensionObjectDefinition implements Messa
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AttributeOperand");
 
     // Simple Field (nodeId)
@@ -114,10 +114,9 @@ public class AttributeOperand extends ExtensionObjectDefinition implements Messa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AttributeOperand _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nodeId)
     lengthInBits += nodeId.getLengthInBits();
@@ -141,7 +140,7 @@ public class AttributeOperand extends ExtensionObjectDefinition implements Messa
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("AttributeOperand");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NodeId nodeId =
         readSimpleField("nodeId", readComplex(() -> NodeId.staticParse(readBuffer), readBuffer));
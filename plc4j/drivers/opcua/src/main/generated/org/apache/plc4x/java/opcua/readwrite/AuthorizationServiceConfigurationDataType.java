@@ -88,7 +88,7 @@ public class AuthorizationServiceConfigurationDataType extends ExtensionObjectDe
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AuthorizationServiceConfigurationDataType");
 
     // Simple Field (name)
@@ -129,10 +129,9 @@ public class AuthorizationServiceConfigurationDataType extends ExtensionObjectDe
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AuthorizationServiceConfigurationDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -144,8 +143,7 @@ public class AuthorizationServiceConfigurationDataType extends ExtensionObjectDe
     if (recordProperties != null) {
       int i = 0;
       for (KeyValuePair element : recordProperties) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= recordProperties.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= recordProperties.size());
       }
     }
 
@@ -159,8 +157,7 @@ public class AuthorizationServiceConfigurationDataType extends ExtensionObjectDe
     if (serviceCertificate != null) {
       int i = 0;
       for (PascalByteString element : serviceCertificate) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= serviceCertificate.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= serviceCertificate.size());
       }
     }
 
@@ -174,7 +171,7 @@ public class AuthorizationServiceConfigurationDataType extends ExtensionObjectDe
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("AuthorizationServiceConfigurationDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString name =
         readSimpleField(
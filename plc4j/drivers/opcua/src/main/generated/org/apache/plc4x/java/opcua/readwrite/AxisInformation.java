@@ -87,7 +87,7 @@ public class AxisInformation extends ExtensionObjectDefinition implements Messag
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AxisInformation");
 
     // Simple Field (engineeringUnits)
@@ -126,10 +126,9 @@ public class AxisInformation extends ExtensionObjectDefinition implements Messag
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     AxisInformation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (engineeringUnits)
     lengthInBits += engineeringUnits.getLengthInBits();
@@ -158,7 +157,7 @@ public class AxisInformation extends ExtensionObjectDefinition implements Messag
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("AxisInformation");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     EUInformation engineeringUnits =
         readSimpleField(
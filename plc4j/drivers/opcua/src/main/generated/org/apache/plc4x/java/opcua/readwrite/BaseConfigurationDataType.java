@@ -65,7 +65,7 @@ public class BaseConfigurationDataType extends ExtensionObjectDefinition impleme
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BaseConfigurationDataType");
 
     // Simple Field (configurationVersion)
@@ -96,10 +96,9 @@ public class BaseConfigurationDataType extends ExtensionObjectDefinition impleme
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BaseConfigurationDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (configurationVersion)
     lengthInBits += 32;
@@ -111,8 +110,7 @@ public class BaseConfigurationDataType extends ExtensionObjectDefinition impleme
     if (configurationProperties != null) {
       int i = 0;
       for (KeyValuePair element : configurationProperties) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= configurationProperties.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= configurationProperties.size());
       }
     }
 
@@ -123,7 +121,7 @@ public class BaseConfigurationDataType extends ExtensionObjectDefinition impleme
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("BaseConfigurationDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long configurationVersion =
         readSimpleField("configurationVersion", readUnsignedLong(readBuffer, 32));
@@ -64,7 +64,7 @@ public class BaseConfigurationRecordDataType extends ExtensionObjectDefinition i
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BaseConfigurationRecordDataType");
 
     // Simple Field (name)
@@ -89,10 +89,9 @@ public class BaseConfigurationRecordDataType extends ExtensionObjectDefinition i
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BaseConfigurationRecordDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -104,8 +103,7 @@ public class BaseConfigurationRecordDataType extends ExtensionObjectDefinition i
     if (recordProperties != null) {
       int i = 0;
       for (KeyValuePair element : recordProperties) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= recordProperties.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= recordProperties.size());
       }
     }
 
@@ -116,7 +114,7 @@ public class BaseConfigurationRecordDataType extends ExtensionObjectDefinition i
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("BaseConfigurationRecordDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString name =
         readSimpleField(
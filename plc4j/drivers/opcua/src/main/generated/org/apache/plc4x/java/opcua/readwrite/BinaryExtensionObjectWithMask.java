@@ -65,7 +65,7 @@ public class BinaryExtensionObjectWithMask extends ExtensionObjectWithMask imple
   protected void serializeExtensionObjectWithMaskChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BinaryExtensionObjectWithMask");
 
     // Implicit Field (bodyLength) (Used for parsing, but its value is not stored as it's implicitly
@@ -85,10 +85,9 @@ public class BinaryExtensionObjectWithMask extends ExtensionObjectWithMask imple
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BinaryExtensionObjectWithMask _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (bodyLength)
     lengthInBits += 32;
@@ -104,7 +103,7 @@ public class BinaryExtensionObjectWithMask extends ExtensionObjectWithMask imple
       throws ParseException {
     readBuffer.pullContext("BinaryExtensionObjectWithMask");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int bodyLength = readImplicitField("bodyLength", readSignedInt(readBuffer, 32));
 
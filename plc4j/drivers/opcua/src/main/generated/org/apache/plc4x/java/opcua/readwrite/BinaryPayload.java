@@ -57,7 +57,7 @@ public class BinaryPayload extends Payload implements Message {
   @Override
   protected void serializePayloadChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BinaryPayload");
 
     // Array Field (payload)
@@ -72,10 +72,9 @@ public class BinaryPayload extends Payload implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BinaryPayload _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (payload != null) {
@@ -89,7 +88,7 @@ public class BinaryPayload extends Payload implements Message {
       ReadBuffer readBuffer, Boolean binary, Long byteCount) throws ParseException {
     readBuffer.pullContext("BinaryPayload");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte[] payload = readBuffer.readByteArray("payload", Math.toIntExact(byteCount));
 
@@ -80,7 +80,7 @@ public class BitFieldDefinition extends ExtensionObjectDefinition implements Mes
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BitFieldDefinition");
 
     // Simple Field (name)
@@ -111,10 +111,9 @@ public class BitFieldDefinition extends ExtensionObjectDefinition implements Mes
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BitFieldDefinition _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -141,7 +140,7 @@ public class BitFieldDefinition extends ExtensionObjectDefinition implements Mes
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("BitFieldDefinition");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString name =
         readSimpleField(
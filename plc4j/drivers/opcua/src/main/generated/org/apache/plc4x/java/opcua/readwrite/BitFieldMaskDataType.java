@@ -43,7 +43,7 @@ public class BitFieldMaskDataType implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BitFieldMaskDataType");
 
     writeBuffer.popContext("BitFieldMaskDataType");
@@ -56,17 +56,18 @@ public class BitFieldMaskDataType implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    BitFieldMaskDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 0;
   }
 
   public static BitFieldMaskDataType staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("BitFieldMaskDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("BitFieldMaskDataType");
     // Create the instance
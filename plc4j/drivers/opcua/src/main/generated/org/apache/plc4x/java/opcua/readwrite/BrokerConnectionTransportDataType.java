@@ -66,7 +66,7 @@ public class BrokerConnectionTransportDataType extends ExtensionObjectDefinition
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BrokerConnectionTransportDataType");
 
     // Simple Field (resourceUri)
@@ -85,10 +85,9 @@ public class BrokerConnectionTransportDataType extends ExtensionObjectDefinition
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BrokerConnectionTransportDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (resourceUri)
     lengthInBits += resourceUri.getLengthInBits();
@@ -103,7 +102,7 @@ public class BrokerConnectionTransportDataType extends ExtensionObjectDefinition
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("BrokerConnectionTransportDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString resourceUri =
         readSimpleField(
@@ -88,7 +88,7 @@ public class BrokerDataSetReaderTransportDataType extends ExtensionObjectDefinit
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BrokerDataSetReaderTransportDataType");
 
     // Simple Field (queueName)
@@ -123,10 +123,9 @@ public class BrokerDataSetReaderTransportDataType extends ExtensionObjectDefinit
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BrokerDataSetReaderTransportDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (queueName)
     lengthInBits += queueName.getLengthInBits();
@@ -150,7 +149,7 @@ public class BrokerDataSetReaderTransportDataType extends ExtensionObjectDefinit
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("BrokerDataSetReaderTransportDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString queueName =
         readSimpleField(
@@ -95,7 +95,7 @@ public class BrokerDataSetWriterTransportDataType extends ExtensionObjectDefinit
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BrokerDataSetWriterTransportDataType");
 
     // Simple Field (queueName)
@@ -133,10 +133,9 @@ public class BrokerDataSetWriterTransportDataType extends ExtensionObjectDefinit
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BrokerDataSetWriterTransportDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (queueName)
     lengthInBits += queueName.getLengthInBits();
@@ -163,7 +162,7 @@ public class BrokerDataSetWriterTransportDataType extends ExtensionObjectDefinit
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("BrokerDataSetWriterTransportDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString queueName =
         readSimpleField(
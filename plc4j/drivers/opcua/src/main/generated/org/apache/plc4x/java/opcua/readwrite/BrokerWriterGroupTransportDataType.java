@@ -81,7 +81,7 @@ public class BrokerWriterGroupTransportDataType extends ExtensionObjectDefinitio
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BrokerWriterGroupTransportDataType");
 
     // Simple Field (queueName)
@@ -113,10 +113,9 @@ public class BrokerWriterGroupTransportDataType extends ExtensionObjectDefinitio
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BrokerWriterGroupTransportDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (queueName)
     lengthInBits += queueName.getLengthInBits();
@@ -137,7 +136,7 @@ public class BrokerWriterGroupTransportDataType extends ExtensionObjectDefinitio
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("BrokerWriterGroupTransportDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString queueName =
         readSimpleField(
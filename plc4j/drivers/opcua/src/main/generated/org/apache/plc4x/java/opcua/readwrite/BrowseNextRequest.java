@@ -73,7 +73,7 @@ public class BrowseNextRequest extends ExtensionObjectDefinition implements Mess
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BrowseNextRequest");
 
     // Simple Field (requestHeader)
@@ -105,10 +105,9 @@ public class BrowseNextRequest extends ExtensionObjectDefinition implements Mess
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BrowseNextRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -126,8 +125,7 @@ public class BrowseNextRequest extends ExtensionObjectDefinition implements Mess
     if (continuationPoints != null) {
       int i = 0;
       for (PascalByteString element : continuationPoints) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= continuationPoints.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= continuationPoints.size());
       }
     }
 
@@ -138,7 +136,7 @@ public class BrowseNextRequest extends ExtensionObjectDefinition implements Mess
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("BrowseNextRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     RequestHeader requestHeader =
         readSimpleField(
@@ -73,7 +73,7 @@ public class BrowseNextResponse extends ExtensionObjectDefinition implements Mes
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BrowseNextResponse");
 
     // Simple Field (responseHeader)
@@ -105,10 +105,9 @@ public class BrowseNextResponse extends ExtensionObjectDefinition implements Mes
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BrowseNextResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -120,8 +119,7 @@ public class BrowseNextResponse extends ExtensionObjectDefinition implements Mes
     if (results != null) {
       int i = 0;
       for (BrowseResult element : results) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= results.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= results.size());
       }
     }
 
@@ -132,8 +130,7 @@ public class BrowseNextResponse extends ExtensionObjectDefinition implements Mes
     if (diagnosticInfos != null) {
       int i = 0;
       for (DiagnosticInfo element : diagnosticInfos) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= diagnosticInfos.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= diagnosticInfos.size());
       }
     }
 
@@ -144,7 +141,7 @@ public class BrowseNextResponse extends ExtensionObjectDefinition implements Mes
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("BrowseNextResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ResponseHeader responseHeader =
         readSimpleField(
@@ -64,7 +64,7 @@ public class BrowsePathResult extends ExtensionObjectDefinition implements Messa
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BrowsePathResult");
 
     // Simple Field (statusCode)
@@ -87,10 +87,9 @@ public class BrowsePathResult extends ExtensionObjectDefinition implements Messa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BrowsePathResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (statusCode)
     lengthInBits += statusCode.getLengthInBits();
@@ -102,8 +101,7 @@ public class BrowsePathResult extends ExtensionObjectDefinition implements Messa
     if (targets != null) {
       int i = 0;
       for (BrowsePathTarget element : targets) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= targets.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= targets.size());
       }
     }
 
@@ -114,7 +112,7 @@ public class BrowsePathResult extends ExtensionObjectDefinition implements Messa
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("BrowsePathResult");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     StatusCode statusCode =
         readSimpleField(
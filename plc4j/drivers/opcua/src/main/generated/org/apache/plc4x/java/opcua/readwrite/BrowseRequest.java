@@ -80,7 +80,7 @@ public class BrowseRequest extends ExtensionObjectDefinition implements Message
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BrowseRequest");
 
     // Simple Field (requestHeader)
@@ -113,10 +113,9 @@ public class BrowseRequest extends ExtensionObjectDefinition implements Message
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BrowseRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -134,8 +133,7 @@ public class BrowseRequest extends ExtensionObjectDefinition implements Message
     if (nodesToBrowse != null) {
       int i = 0;
       for (BrowseDescription element : nodesToBrowse) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= nodesToBrowse.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= nodesToBrowse.size());
       }
     }
 
@@ -146,7 +144,7 @@ public class BrowseRequest extends ExtensionObjectDefinition implements Message
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("BrowseRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     RequestHeader requestHeader =
         readSimpleField(
@@ -73,7 +73,7 @@ public class BrowseResult extends ExtensionObjectDefinition implements Message {
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("BrowseResult");
 
     // Simple Field (statusCode)
@@ -99,10 +99,9 @@ public class BrowseResult extends ExtensionObjectDefinition implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     BrowseResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (statusCode)
     lengthInBits += statusCode.getLengthInBits();
@@ -117,8 +116,7 @@ public class BrowseResult extends ExtensionObjectDefinition implements Message {
     if (references != null) {
       int i = 0;
       for (ReferenceDescription element : references) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= references.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= references.size());
       }
     }
 
@@ -129,7 +127,7 @@ public class BrowseResult extends ExtensionObjectDefinition implements Message {
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("BrowseResult");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     StatusCode statusCode =
         readSimpleField(
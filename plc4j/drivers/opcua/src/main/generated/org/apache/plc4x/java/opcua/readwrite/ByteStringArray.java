@@ -57,7 +57,7 @@ public class ByteStringArray implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ByteStringArray");
 
     // Simple Field (arrayLength)
@@ -74,11 +74,22 @@ public class ByteStringArray implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     ByteStringArray _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (arrayLength)
     lengthInBits += 32;
@@ -94,7 +105,7 @@ public class ByteStringArray implements Message {
   public static ByteStringArray staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("ByteStringArray");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int arrayLength = readSimpleField("arrayLength", readSignedInt(readBuffer, 32));
 
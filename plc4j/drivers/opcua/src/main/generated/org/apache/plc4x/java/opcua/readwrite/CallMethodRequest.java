@@ -70,7 +70,7 @@ public class CallMethodRequest extends ExtensionObjectDefinition implements Mess
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CallMethodRequest");
 
     // Simple Field (objectId)
@@ -97,10 +97,9 @@ public class CallMethodRequest extends ExtensionObjectDefinition implements Mess
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CallMethodRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectId)
     lengthInBits += objectId.getLengthInBits();
@@ -115,8 +114,7 @@ public class CallMethodRequest extends ExtensionObjectDefinition implements Mess
     if (inputArguments != null) {
       int i = 0;
       for (Variant element : inputArguments) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= inputArguments.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= inputArguments.size());
       }
     }
 
@@ -127,7 +125,7 @@ public class CallMethodRequest extends ExtensionObjectDefinition implements Mess
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("CallMethodRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NodeId objectId =
         readSimpleField("objectId", readComplex(() -> NodeId.staticParse(readBuffer), readBuffer));
@@ -80,7 +80,7 @@ public class CallMethodResult extends ExtensionObjectDefinition implements Messa
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CallMethodResult");
 
     // Simple Field (statusCode)
@@ -130,10 +130,9 @@ public class CallMethodResult extends ExtensionObjectDefinition implements Messa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CallMethodResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (statusCode)
     lengthInBits += statusCode.getLengthInBits();
@@ -145,8 +144,7 @@ public class CallMethodResult extends ExtensionObjectDefinition implements Messa
     if (inputArgumentResults != null) {
       int i = 0;
       for (StatusCode element : inputArgumentResults) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= inputArgumentResults.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= inputArgumentResults.size());
       }
     }
 
@@ -157,8 +155,7 @@ public class CallMethodResult extends ExtensionObjectDefinition implements Messa
     if (inputArgumentDiagnosticInfos != null) {
       int i = 0;
       for (DiagnosticInfo element : inputArgumentDiagnosticInfos) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= inputArgumentDiagnosticInfos.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= inputArgumentDiagnosticInfos.size());
       }
     }
 
@@ -169,8 +166,7 @@ public class CallMethodResult extends ExtensionObjectDefinition implements Messa
     if (outputArguments != null) {
       int i = 0;
       for (Variant element : outputArguments) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= outputArguments.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= outputArguments.size());
       }
     }
 
@@ -181,7 +177,7 @@ public class CallMethodResult extends ExtensionObjectDefinition implements Messa
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("CallMethodResult");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     StatusCode statusCode =
         readSimpleField(
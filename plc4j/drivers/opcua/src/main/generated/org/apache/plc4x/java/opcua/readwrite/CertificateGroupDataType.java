@@ -94,7 +94,7 @@ public class CertificateGroupDataType extends ExtensionObjectDefinition implemen
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CertificateGroupDataType");
 
     // Simple Field (name)
@@ -157,10 +157,9 @@ public class CertificateGroupDataType extends ExtensionObjectDefinition implemen
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CertificateGroupDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -172,8 +171,7 @@ public class CertificateGroupDataType extends ExtensionObjectDefinition implemen
     if (recordProperties != null) {
       int i = 0;
       for (KeyValuePair element : recordProperties) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= recordProperties.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= recordProperties.size());
       }
     }
 
@@ -187,8 +185,7 @@ public class CertificateGroupDataType extends ExtensionObjectDefinition implemen
     if (certificateTypes != null) {
       int i = 0;
       for (NodeId element : certificateTypes) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= certificateTypes.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= certificateTypes.size());
       }
     }
 
@@ -213,7 +210,7 @@ public class CertificateGroupDataType extends ExtensionObjectDefinition implemen
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("CertificateGroupDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString name =
         readSimpleField(
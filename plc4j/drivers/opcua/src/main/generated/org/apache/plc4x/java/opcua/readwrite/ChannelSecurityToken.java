@@ -76,7 +76,7 @@ public class ChannelSecurityToken extends ExtensionObjectDefinition implements M
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ChannelSecurityToken");
 
     // Simple Field (channelId)
@@ -100,31 +100,16 @@ public class ChannelSecurityToken extends ExtensionObjectDefinition implements M
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ChannelSecurityToken _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (channelId)
-    lengthInBits += 32;
-
-    // Simple field (tokenId)
-    lengthInBits += 32;
-
-    // Simple field (createdAt)
-    lengthInBits += 64;
-
-    // Simple field (revisedLifetime)
-    lengthInBits += 32;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 160;
   }
 
   public static ExtensionObjectDefinitionBuilder staticParseExtensionObjectDefinitionBuilder(
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ChannelSecurityToken");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long channelId = readSimpleField("channelId", readUnsignedLong(readBuffer, 32));
 
@@ -64,7 +64,7 @@ public class ConfigurationUpdateTargetType extends ExtensionObjectDefinition imp
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ConfigurationUpdateTargetType");
 
     // Simple Field (path)
@@ -89,10 +89,9 @@ public class ConfigurationUpdateTargetType extends ExtensionObjectDefinition imp
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ConfigurationUpdateTargetType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (path)
     lengthInBits += path.getLengthInBits();
@@ -107,7 +106,7 @@ public class ConfigurationUpdateTargetType extends ExtensionObjectDefinition imp
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ConfigurationUpdateTargetType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString path =
         readSimpleField(
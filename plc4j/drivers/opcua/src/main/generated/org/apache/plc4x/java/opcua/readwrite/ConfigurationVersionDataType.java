@@ -64,7 +64,7 @@ public class ConfigurationVersionDataType extends ExtensionObjectDefinition impl
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ConfigurationVersionDataType");
 
     // Simple Field (majorVersion)
@@ -82,25 +82,16 @@ public class ConfigurationVersionDataType extends ExtensionObjectDefinition impl
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ConfigurationVersionDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (majorVersion)
-    lengthInBits += 32;
-
-    // Simple field (minorVersion)
-    lengthInBits += 32;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 64;
   }
 
   public static ExtensionObjectDefinitionBuilder staticParseExtensionObjectDefinitionBuilder(
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ConfigurationVersionDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long majorVersion = readSimpleField("majorVersion", readUnsignedLong(readBuffer, 32));
 
@@ -58,7 +58,7 @@ public class ContentFilter extends ExtensionObjectDefinition implements Message
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ContentFilter");
 
     // Implicit Field (noOfElements) (Used for parsing, but its value is not stored as it's
@@ -78,10 +78,9 @@ public class ContentFilter extends ExtensionObjectDefinition implements Message
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ContentFilter _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (noOfElements)
     lengthInBits += 32;
@@ -90,8 +89,7 @@ public class ContentFilter extends ExtensionObjectDefinition implements Message
     if (elements != null) {
       int i = 0;
       for (ContentFilterElement element : elements) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= elements.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= elements.size());
       }
     }
 
@@ -102,7 +100,7 @@ public class ContentFilter extends ExtensionObjectDefinition implements Message
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ContentFilter");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int noOfElements = readImplicitField("noOfElements", readSignedInt(readBuffer, 32));
 
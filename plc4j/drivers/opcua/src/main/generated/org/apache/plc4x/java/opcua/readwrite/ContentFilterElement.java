@@ -64,7 +64,7 @@ public class ContentFilterElement extends ExtensionObjectDefinition implements M
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ContentFilterElement");
 
     // Simple Field (filterOperator)
@@ -93,10 +93,9 @@ public class ContentFilterElement extends ExtensionObjectDefinition implements M
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ContentFilterElement _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (filterOperator)
     lengthInBits += 32;
@@ -108,8 +107,7 @@ public class ContentFilterElement extends ExtensionObjectDefinition implements M
     if (filterOperands != null) {
       int i = 0;
       for (ExtensionObject element : filterOperands) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= filterOperands.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= filterOperands.size());
       }
     }
 
@@ -120,7 +118,7 @@ public class ContentFilterElement extends ExtensionObjectDefinition implements M
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ContentFilterElement");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     FilterOperator filterOperator =
         readEnumField(
@@ -73,7 +73,7 @@ public class ContentFilterElementResult extends ExtensionObjectDefinition implem
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ContentFilterElementResult");
 
     // Simple Field (statusCode)
@@ -111,10 +111,9 @@ public class ContentFilterElementResult extends ExtensionObjectDefinition implem
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ContentFilterElementResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (statusCode)
     lengthInBits += statusCode.getLengthInBits();
@@ -126,8 +125,7 @@ public class ContentFilterElementResult extends ExtensionObjectDefinition implem
     if (operandStatusCodes != null) {
       int i = 0;
       for (StatusCode element : operandStatusCodes) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= operandStatusCodes.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= operandStatusCodes.size());
       }
     }
 
@@ -138,8 +136,7 @@ public class ContentFilterElementResult extends ExtensionObjectDefinition implem
     if (operandDiagnosticInfos != null) {
       int i = 0;
       for (DiagnosticInfo element : operandDiagnosticInfos) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= operandDiagnosticInfos.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= operandDiagnosticInfos.size());
       }
     }
 
@@ -150,7 +147,7 @@ public class ContentFilterElementResult extends ExtensionObjectDefinition implem
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ContentFilterElementResult");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     StatusCode statusCode =
         readSimpleField(
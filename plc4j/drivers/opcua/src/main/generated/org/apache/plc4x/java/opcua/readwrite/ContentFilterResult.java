@@ -66,7 +66,7 @@ public class ContentFilterResult extends ExtensionObjectDefinition implements Me
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ContentFilterResult");
 
     // Implicit Field (noOfElementResults) (Used for parsing, but its value is not stored as it's
@@ -100,10 +100,9 @@ public class ContentFilterResult extends ExtensionObjectDefinition implements Me
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ContentFilterResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (noOfElementResults)
     lengthInBits += 32;
@@ -112,8 +111,7 @@ public class ContentFilterResult extends ExtensionObjectDefinition implements Me
     if (elementResults != null) {
       int i = 0;
       for (ContentFilterElementResult element : elementResults) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= elementResults.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= elementResults.size());
       }
     }
 
@@ -124,8 +122,7 @@ public class ContentFilterResult extends ExtensionObjectDefinition implements Me
     if (elementDiagnosticInfos != null) {
       int i = 0;
       for (DiagnosticInfo element : elementDiagnosticInfos) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= elementDiagnosticInfos.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= elementDiagnosticInfos.size());
       }
     }
 
@@ -136,7 +133,7 @@ public class ContentFilterResult extends ExtensionObjectDefinition implements Me
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ContentFilterResult");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int noOfElementResults = readImplicitField("noOfElementResults", readSignedInt(readBuffer, 32));
 
@@ -80,7 +80,7 @@ public class CreateMonitoredItemsRequest extends ExtensionObjectDefinition imple
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CreateMonitoredItemsRequest");
 
     // Simple Field (requestHeader)
@@ -117,10 +117,9 @@ public class CreateMonitoredItemsRequest extends ExtensionObjectDefinition imple
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CreateMonitoredItemsRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -138,8 +137,7 @@ public class CreateMonitoredItemsRequest extends ExtensionObjectDefinition imple
     if (itemsToCreate != null) {
       int i = 0;
       for (MonitoredItemCreateRequest element : itemsToCreate) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= itemsToCreate.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= itemsToCreate.size());
       }
     }
 
@@ -150,7 +148,7 @@ public class CreateMonitoredItemsRequest extends ExtensionObjectDefinition imple
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("CreateMonitoredItemsRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     RequestHeader requestHeader =
         readSimpleField(
@@ -122,7 +122,7 @@ public class CreateSessionResponse extends ExtensionObjectDefinition implements
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CreateSessionResponse");
 
     // Simple Field (responseHeader)
@@ -184,10 +184,9 @@ public class CreateSessionResponse extends ExtensionObjectDefinition implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CreateSessionResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -214,8 +213,7 @@ public class CreateSessionResponse extends ExtensionObjectDefinition implements
     if (serverEndpoints != null) {
       int i = 0;
       for (EndpointDescription element : serverEndpoints) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= serverEndpoints.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= serverEndpoints.size());
       }
     }
 
@@ -226,8 +224,7 @@ public class CreateSessionResponse extends ExtensionObjectDefinition implements
     if (serverSoftwareCertificates != null) {
       int i = 0;
       for (SignedSoftwareCertificate element : serverSoftwareCertificates) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= serverSoftwareCertificates.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= serverSoftwareCertificates.size());
       }
     }
 
@@ -244,7 +241,7 @@ public class CreateSessionResponse extends ExtensionObjectDefinition implements
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("CreateSessionResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ResponseHeader responseHeader =
         readSimpleField(
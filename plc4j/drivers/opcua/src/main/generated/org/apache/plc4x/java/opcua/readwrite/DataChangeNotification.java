@@ -65,7 +65,7 @@ public class DataChangeNotification extends ExtensionObjectDefinition implements
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DataChangeNotification");
 
     // Implicit Field (noOfMonitoredItems) (Used for parsing, but its value is not stored as it's
@@ -95,10 +95,9 @@ public class DataChangeNotification extends ExtensionObjectDefinition implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     DataChangeNotification _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (noOfMonitoredItems)
     lengthInBits += 32;
@@ -107,8 +106,7 @@ public class DataChangeNotification extends ExtensionObjectDefinition implements
     if (monitoredItems != null) {
       int i = 0;
       for (MonitoredItemNotification element : monitoredItems) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= monitoredItems.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= monitoredItems.size());
       }
     }
 
@@ -119,8 +117,7 @@ public class DataChangeNotification extends ExtensionObjectDefinition implements
     if (diagnosticInfos != null) {
       int i = 0;
       for (DiagnosticInfo element : diagnosticInfos) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= diagnosticInfos.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= diagnosticInfos.size());
       }
     }
 
@@ -131,7 +128,7 @@ public class DataChangeNotification extends ExtensionObjectDefinition implements
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("DataChangeNotification");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int noOfMonitoredItems = readImplicitField("noOfMonitoredItems", readSignedInt(readBuffer, 32));
 
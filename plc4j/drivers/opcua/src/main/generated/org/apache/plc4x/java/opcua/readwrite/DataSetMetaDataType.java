@@ -115,7 +115,7 @@ public class DataSetMetaDataType extends ExtensionObjectDefinition implements Me
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DataSetMetaDataType");
 
     // Implicit Field (noOfNamespaces) (Used for parsing, but its value is not stored as it's
@@ -183,10 +183,9 @@ public class DataSetMetaDataType extends ExtensionObjectDefinition implements Me
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     DataSetMetaDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (noOfNamespaces)
     lengthInBits += 32;
@@ -195,8 +194,7 @@ public class DataSetMetaDataType extends ExtensionObjectDefinition implements Me
     if (namespaces != null) {
       int i = 0;
       for (PascalString element : namespaces) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= namespaces.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= namespaces.size());
       }
     }
 
@@ -207,8 +205,7 @@ public class DataSetMetaDataType extends ExtensionObjectDefinition implements Me
     if (structureDataTypes != null) {
       int i = 0;
       for (StructureDescription element : structureDataTypes) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= structureDataTypes.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= structureDataTypes.size());
       }
     }
 
@@ -219,8 +216,7 @@ public class DataSetMetaDataType extends ExtensionObjectDefinition implements Me
     if (enumDataTypes != null) {
       int i = 0;
       for (EnumDescription element : enumDataTypes) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= enumDataTypes.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= enumDataTypes.size());
       }
     }
 
@@ -231,8 +227,7 @@ public class DataSetMetaDataType extends ExtensionObjectDefinition implements Me
     if (simpleDataTypes != null) {
       int i = 0;
       for (SimpleTypeDescription element : simpleDataTypes) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= simpleDataTypes.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= simpleDataTypes.size());
       }
     }
 
@@ -249,8 +244,7 @@ public class DataSetMetaDataType extends ExtensionObjectDefinition implements Me
     if (fields != null) {
       int i = 0;
       for (FieldMetaData element : fields) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= fields.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= fields.size());
       }
     }
 
@@ -267,7 +261,7 @@ public class DataSetMetaDataType extends ExtensionObjectDefinition implements Me
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("DataSetMetaDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int noOfNamespaces = readImplicitField("noOfNamespaces", readSignedInt(readBuffer, 32));
 
@@ -171,7 +171,7 @@ public class DataSetReaderDataType extends ExtensionObjectDefinition implements
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DataSetReaderDataType");
 
     // Simple Field (name)
@@ -270,10 +270,9 @@ public class DataSetReaderDataType extends ExtensionObjectDefinition implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     DataSetReaderDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -321,8 +320,7 @@ public class DataSetReaderDataType extends ExtensionObjectDefinition implements
     if (securityKeyServices != null) {
       int i = 0;
       for (EndpointDescription element : securityKeyServices) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= securityKeyServices.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= securityKeyServices.size());
       }
     }
 
@@ -333,8 +331,7 @@ public class DataSetReaderDataType extends ExtensionObjectDefinition implements
     if (dataSetReaderProperties != null) {
       int i = 0;
       for (KeyValuePair element : dataSetReaderProperties) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= dataSetReaderProperties.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= dataSetReaderProperties.size());
       }
     }
 
@@ -354,7 +351,7 @@ public class DataSetReaderDataType extends ExtensionObjectDefinition implements
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("DataSetReaderDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString name =
         readSimpleField(
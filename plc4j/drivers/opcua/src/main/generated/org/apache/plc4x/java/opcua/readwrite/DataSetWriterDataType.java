@@ -115,7 +115,7 @@ public class DataSetWriterDataType extends ExtensionObjectDefinition implements
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DataSetWriterDataType");
 
     // Simple Field (name)
@@ -176,10 +176,9 @@ public class DataSetWriterDataType extends ExtensionObjectDefinition implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     DataSetWriterDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -209,8 +208,7 @@ public class DataSetWriterDataType extends ExtensionObjectDefinition implements
     if (dataSetWriterProperties != null) {
       int i = 0;
       for (KeyValuePair element : dataSetWriterProperties) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= dataSetWriterProperties.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= dataSetWriterProperties.size());
       }
     }
 
@@ -227,7 +225,7 @@ public class DataSetWriterDataType extends ExtensionObjectDefinition implements
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("DataSetWriterDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString name =
         readSimpleField(
@@ -94,7 +94,7 @@ public class DataTypeAttributes extends ExtensionObjectDefinition implements Mes
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DataTypeAttributes");
 
     // Simple Field (specifiedAttributes)
@@ -128,10 +128,9 @@ public class DataTypeAttributes extends ExtensionObjectDefinition implements Mes
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     DataTypeAttributes _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (specifiedAttributes)
     lengthInBits += 32;
@@ -161,7 +160,7 @@ public class DataTypeAttributes extends ExtensionObjectDefinition implements Mes
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("DataTypeAttributes");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long specifiedAttributes =
         readSimpleField("specifiedAttributes", readUnsignedLong(readBuffer, 32));
@@ -80,7 +80,7 @@ public class DataTypeSchemaHeader extends ExtensionObjectDefinition implements M
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DataTypeSchemaHeader");
 
     // Implicit Field (noOfNamespaces) (Used for parsing, but its value is not stored as it's
@@ -128,10 +128,9 @@ public class DataTypeSchemaHeader extends ExtensionObjectDefinition implements M
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     DataTypeSchemaHeader _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (noOfNamespaces)
     lengthInBits += 32;
@@ -140,8 +139,7 @@ public class DataTypeSchemaHeader extends ExtensionObjectDefinition implements M
     if (namespaces != null) {
       int i = 0;
       for (PascalString element : namespaces) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= namespaces.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= namespaces.size());
       }
     }
 
@@ -152,8 +150,7 @@ public class DataTypeSchemaHeader extends ExtensionObjectDefinition implements M
     if (structureDataTypes != null) {
       int i = 0;
       for (StructureDescription element : structureDataTypes) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= structureDataTypes.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= structureDataTypes.size());
       }
     }
 
@@ -164,8 +161,7 @@ public class DataTypeSchemaHeader extends ExtensionObjectDefinition implements M
     if (enumDataTypes != null) {
       int i = 0;
       for (EnumDescription element : enumDataTypes) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= enumDataTypes.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= enumDataTypes.size());
       }
     }
 
@@ -176,8 +172,7 @@ public class DataTypeSchemaHeader extends ExtensionObjectDefinition implements M
     if (simpleDataTypes != null) {
       int i = 0;
       for (SimpleTypeDescription element : simpleDataTypes) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= simpleDataTypes.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= simpleDataTypes.size());
       }
     }
 
@@ -188,7 +183,7 @@ public class DataTypeSchemaHeader extends ExtensionObjectDefinition implements M
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("DataTypeSchemaHeader");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int noOfNamespaces = readImplicitField("noOfNamespaces", readSignedInt(readBuffer, 32));
 
@@ -88,7 +88,7 @@ public class DatagramConnectionTransport2DataType extends ExtensionObjectDefinit
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DatagramConnectionTransport2DataType");
 
     // Simple Field (discoveryAddress)
@@ -122,10 +122,9 @@ public class DatagramConnectionTransport2DataType extends ExtensionObjectDefinit
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     DatagramConnectionTransport2DataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (discoveryAddress)
     lengthInBits += discoveryAddress.getLengthInBits();
@@ -146,8 +145,7 @@ public class DatagramConnectionTransport2DataType extends ExtensionObjectDefinit
     if (datagramQos != null) {
       int i = 0;
       for (ExtensionObject element : datagramQos) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= datagramQos.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= datagramQos.size());
       }
     }
 
@@ -158,7 +156,7 @@ public class DatagramConnectionTransport2DataType extends ExtensionObjectDefinit
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("DatagramConnectionTransport2DataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ExtensionObject discoveryAddress =
         readSimpleField(
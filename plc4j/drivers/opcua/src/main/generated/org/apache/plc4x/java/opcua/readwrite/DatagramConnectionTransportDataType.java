@@ -59,7 +59,7 @@ public class DatagramConnectionTransportDataType extends ExtensionObjectDefiniti
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DatagramConnectionTransportDataType");
 
     // Simple Field (discoveryAddress)
@@ -74,10 +74,9 @@ public class DatagramConnectionTransportDataType extends ExtensionObjectDefiniti
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     DatagramConnectionTransportDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (discoveryAddress)
     lengthInBits += discoveryAddress.getLengthInBits();
@@ -89,7 +88,7 @@ public class DatagramConnectionTransportDataType extends ExtensionObjectDefiniti
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("DatagramConnectionTransportDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ExtensionObject discoveryAddress =
         readSimpleField(
@@ -81,7 +81,7 @@ public class DatagramDataSetReaderTransportDataType extends ExtensionObjectDefin
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DatagramDataSetReaderTransportDataType");
 
     // Simple Field (address)
@@ -110,10 +110,9 @@ public class DatagramDataSetReaderTransportDataType extends ExtensionObjectDefin
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     DatagramDataSetReaderTransportDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (address)
     lengthInBits += address.getLengthInBits();
@@ -128,8 +127,7 @@ public class DatagramDataSetReaderTransportDataType extends ExtensionObjectDefin
     if (datagramQos != null) {
       int i = 0;
       for (ExtensionObject element : datagramQos) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= datagramQos.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= datagramQos.size());
       }
     }
 
@@ -143,7 +141,7 @@ public class DatagramDataSetReaderTransportDataType extends ExtensionObjectDefin
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("DatagramDataSetReaderTransportDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ExtensionObject address =
         readSimpleField(
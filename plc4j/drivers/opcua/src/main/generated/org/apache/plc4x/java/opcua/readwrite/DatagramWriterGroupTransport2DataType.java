@@ -102,7 +102,7 @@ public class DatagramWriterGroupTransport2DataType extends ExtensionObjectDefini
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DatagramWriterGroupTransport2DataType");
 
     // Simple Field (messageRepeatCount)
@@ -141,10 +141,9 @@ public class DatagramWriterGroupTransport2DataType extends ExtensionObjectDefini
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     DatagramWriterGroupTransport2DataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (messageRepeatCount)
     lengthInBits += 8;
@@ -165,8 +164,7 @@ public class DatagramWriterGroupTransport2DataType extends ExtensionObjectDefini
     if (datagramQos != null) {
       int i = 0;
       for (ExtensionObject element : datagramQos) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= datagramQos.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= datagramQos.size());
       }
     }
 
@@ -183,7 +181,7 @@ public class DatagramWriterGroupTransport2DataType extends ExtensionObjectDefini
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("DatagramWriterGroupTransport2DataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short messageRepeatCount =
         readSimpleField("messageRepeatCount", readUnsignedShort(readBuffer, 8));
@@ -43,7 +43,7 @@ public class DecimalString implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DecimalString");
 
     writeBuffer.popContext("DecimalString");
@@ -56,17 +56,18 @@ public class DecimalString implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    DecimalString _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 0;
   }
 
   public static DecimalString staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("DecimalString");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("DecimalString");
     // Create the instance
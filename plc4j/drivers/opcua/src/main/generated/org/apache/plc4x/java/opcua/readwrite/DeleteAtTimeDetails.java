@@ -64,7 +64,7 @@ public class DeleteAtTimeDetails extends ExtensionObjectDefinition implements Me
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DeleteAtTimeDetails");
 
     // Simple Field (nodeId)
@@ -87,10 +87,9 @@ public class DeleteAtTimeDetails extends ExtensionObjectDefinition implements Me
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     DeleteAtTimeDetails _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nodeId)
     lengthInBits += nodeId.getLengthInBits();
@@ -110,7 +109,7 @@ public class DeleteAtTimeDetails extends ExtensionObjectDefinition implements Me
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("DeleteAtTimeDetails");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NodeId nodeId =
         readSimpleField("nodeId", readComplex(() -> NodeId.staticParse(readBuffer), readBuffer));
@@ -64,7 +64,7 @@ public class DeleteEventDetails extends ExtensionObjectDefinition implements Mes
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DeleteEventDetails");
 
     // Simple Field (nodeId)
@@ -87,10 +87,9 @@ public class DeleteEventDetails extends ExtensionObjectDefinition implements Mes
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     DeleteEventDetails _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nodeId)
     lengthInBits += nodeId.getLengthInBits();
@@ -102,8 +101,7 @@ public class DeleteEventDetails extends ExtensionObjectDefinition implements Mes
     if (eventIds != null) {
       int i = 0;
       for (PascalByteString element : eventIds) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= eventIds.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= eventIds.size());
       }
     }
 
@@ -114,7 +112,7 @@ public class DeleteEventDetails extends ExtensionObjectDefinition implements Mes
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("DeleteEventDetails");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NodeId nodeId =
         readSimpleField("nodeId", readComplex(() -> NodeId.staticParse(readBuffer), readBuffer));
@@ -64,7 +64,7 @@ public class DeleteNodesRequest extends ExtensionObjectDefinition implements Mes
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DeleteNodesRequest");
 
     // Simple Field (requestHeader)
@@ -88,10 +88,9 @@ public class DeleteNodesRequest extends ExtensionObjectDefinition implements Mes
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     DeleteNodesRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -103,8 +102,7 @@ public class DeleteNodesRequest extends ExtensionObjectDefinition implements Mes
     if (nodesToDelete != null) {
       int i = 0;
       for (DeleteNodesItem element : nodesToDelete) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= nodesToDelete.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= nodesToDelete.size());
       }
     }
 
@@ -115,7 +113,7 @@ public class DeleteNodesRequest extends ExtensionObjectDefinition implements Mes
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("DeleteNodesRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     RequestHeader requestHeader =
         readSimpleField(
@@ -65,7 +65,7 @@ public class DeleteReferencesRequest extends ExtensionObjectDefinition implement
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DeleteReferencesRequest");
 
     // Simple Field (requestHeader)
@@ -90,10 +90,9 @@ public class DeleteReferencesRequest extends ExtensionObjectDefinition implement
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     DeleteReferencesRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -105,8 +104,7 @@ public class DeleteReferencesRequest extends ExtensionObjectDefinition implement
     if (referencesToDelete != null) {
       int i = 0;
       for (DeleteReferencesItem element : referencesToDelete) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= referencesToDelete.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= referencesToDelete.size());
       }
     }
 
@@ -117,7 +115,7 @@ public class DeleteReferencesRequest extends ExtensionObjectDefinition implement
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("DeleteReferencesRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     RequestHeader requestHeader =
         readSimpleField(
@@ -87,7 +87,7 @@ public class DtlsPubSubConnectionDataType extends ExtensionObjectDefinition impl
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DtlsPubSubConnectionDataType");
 
     // Simple Field (clientCipherSuite)
@@ -127,10 +127,9 @@ public class DtlsPubSubConnectionDataType extends ExtensionObjectDefinition impl
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     DtlsPubSubConnectionDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (clientCipherSuite)
     lengthInBits += clientCipherSuite.getLengthInBits();
@@ -142,8 +141,7 @@ public class DtlsPubSubConnectionDataType extends ExtensionObjectDefinition impl
     if (serverCipherSuites != null) {
       int i = 0;
       for (PascalString element : serverCipherSuites) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= serverCipherSuites.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= serverCipherSuites.size());
       }
     }
 
@@ -169,7 +167,7 @@ public class DtlsPubSubConnectionDataType extends ExtensionObjectDefinition impl
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("DtlsPubSubConnectionDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString clientCipherSuite =
         readSimpleField(
@@ -43,7 +43,7 @@ public class EccEncryptedSecret implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("EccEncryptedSecret");
 
     writeBuffer.popContext("EccEncryptedSecret");
@@ -56,17 +56,18 @@ public class EccEncryptedSecret implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    EccEncryptedSecret _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 0;
   }
 
   public static EccEncryptedSecret staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("EccEncryptedSecret");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("EccEncryptedSecret");
     // Create the instance
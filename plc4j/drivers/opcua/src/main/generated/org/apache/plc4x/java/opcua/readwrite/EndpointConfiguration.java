@@ -115,7 +115,7 @@ public class EndpointConfiguration extends ExtensionObjectDefinition implements
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("EndpointConfiguration");
 
     // Simple Field (operationTimeout)
@@ -158,49 +158,16 @@ public class EndpointConfiguration extends ExtensionObjectDefinition implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    EndpointConfiguration _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (operationTimeout)
-    lengthInBits += 32;
-
-    // Reserved Field (reserved)
-    lengthInBits += 7;
-
-    // Simple field (useBinaryEncoding)
-    lengthInBits += 1;
-
-    // Simple field (maxStringLength)
-    lengthInBits += 32;
-
-    // Simple field (maxByteStringLength)
-    lengthInBits += 32;
-
-    // Simple field (maxArrayLength)
-    lengthInBits += 32;
-
-    // Simple field (maxMessageSize)
-    lengthInBits += 32;
-
-    // Simple field (maxBufferSize)
-    lengthInBits += 32;
-
-    // Simple field (channelLifetime)
-    lengthInBits += 32;
-
-    // Simple field (securityTokenLifetime)
-    lengthInBits += 32;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 264;
   }
 
   public static ExtensionObjectDefinitionBuilder staticParseExtensionObjectDefinitionBuilder(
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("EndpointConfiguration");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int operationTimeout = readSimpleField("operationTimeout", readSignedInt(readBuffer, 32));
 
@@ -87,7 +87,7 @@ public class EndpointDataType extends ExtensionObjectDefinition implements Messa
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("EndpointDataType");
 
     // Simple Field (name)
@@ -127,10 +127,9 @@ public class EndpointDataType extends ExtensionObjectDefinition implements Messa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     EndpointDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -142,8 +141,7 @@ public class EndpointDataType extends ExtensionObjectDefinition implements Messa
     if (recordProperties != null) {
       int i = 0;
       for (KeyValuePair element : recordProperties) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= recordProperties.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= recordProperties.size());
       }
     }
 
@@ -154,8 +152,7 @@ public class EndpointDataType extends ExtensionObjectDefinition implements Messa
     if (discoveryUrls != null) {
       int i = 0;
       for (PascalString element : discoveryUrls) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= discoveryUrls.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= discoveryUrls.size());
       }
     }
 
@@ -172,7 +169,7 @@ public class EndpointDataType extends ExtensionObjectDefinition implements Messa
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("EndpointDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString name =
         readSimpleField(
@@ -108,7 +108,7 @@ public class EndpointDescription extends ExtensionObjectDefinition implements Me
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("EndpointDescription");
 
     // Simple Field (endpointUrl)
@@ -158,10 +158,9 @@ public class EndpointDescription extends ExtensionObjectDefinition implements Me
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     EndpointDescription _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (endpointUrl)
     lengthInBits += endpointUrl.getLengthInBits();
@@ -185,8 +184,7 @@ public class EndpointDescription extends ExtensionObjectDefinition implements Me
     if (userIdentityTokens != null) {
       int i = 0;
       for (UserTokenPolicy element : userIdentityTokens) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= userIdentityTokens.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= userIdentityTokens.size());
       }
     }
 
@@ -203,7 +201,7 @@ public class EndpointDescription extends ExtensionObjectDefinition implements Me
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("EndpointDescription");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString endpointUrl =
         readSimpleField(
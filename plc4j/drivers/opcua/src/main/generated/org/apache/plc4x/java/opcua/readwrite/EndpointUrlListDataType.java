@@ -58,7 +58,7 @@ public class EndpointUrlListDataType extends ExtensionObjectDefinition implement
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("EndpointUrlListDataType");
 
     // Implicit Field (noOfEndpointUrlList) (Used for parsing, but its value is not stored as it's
@@ -79,10 +79,9 @@ public class EndpointUrlListDataType extends ExtensionObjectDefinition implement
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     EndpointUrlListDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (noOfEndpointUrlList)
     lengthInBits += 32;
@@ -91,8 +90,7 @@ public class EndpointUrlListDataType extends ExtensionObjectDefinition implement
     if (endpointUrlList != null) {
       int i = 0;
       for (PascalString element : endpointUrlList) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= endpointUrlList.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= endpointUrlList.size());
       }
     }
 
@@ -103,7 +101,7 @@ public class EndpointUrlListDataType extends ExtensionObjectDefinition implement
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("EndpointUrlListDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int noOfEndpointUrlList =
         readImplicitField("noOfEndpointUrlList", readSignedInt(readBuffer, 32));
@@ -58,7 +58,7 @@ public class EnumDefinition extends ExtensionObjectDefinition implements Message
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("EnumDefinition");
 
     // Implicit Field (noOfFields) (Used for parsing, but its value is not stored as it's implicitly
@@ -78,10 +78,9 @@ public class EnumDefinition extends ExtensionObjectDefinition implements Message
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     EnumDefinition _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (noOfFields)
     lengthInBits += 32;
@@ -90,8 +89,7 @@ public class EnumDefinition extends ExtensionObjectDefinition implements Message
     if (fields != null) {
       int i = 0;
       for (EnumField element : fields) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= fields.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= fields.size());
       }
     }
 
@@ -102,7 +100,7 @@ public class EnumDefinition extends ExtensionObjectDefinition implements Message
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("EnumDefinition");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int noOfFields = readImplicitField("noOfFields", readSignedInt(readBuffer, 32));
 
@@ -77,7 +77,7 @@ public class EnumDescription extends ExtensionObjectDefinition implements Messag
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("EnumDescription");
 
     // Simple Field (dataTypeId)
@@ -101,10 +101,9 @@ public class EnumDescription extends ExtensionObjectDefinition implements Messag
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     EnumDescription _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dataTypeId)
     lengthInBits += dataTypeId.getLengthInBits();
@@ -125,7 +124,7 @@ public class EnumDescription extends ExtensionObjectDefinition implements Messag
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("EnumDescription");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NodeId dataTypeId =
         readSimpleField(
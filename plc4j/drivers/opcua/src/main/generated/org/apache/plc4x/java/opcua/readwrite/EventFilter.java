@@ -64,7 +64,7 @@ public class EventFilter extends ExtensionObjectDefinition implements Message {
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("EventFilter");
 
     // Implicit Field (noOfSelectClauses) (Used for parsing, but its value is not stored as it's
@@ -88,10 +88,9 @@ public class EventFilter extends ExtensionObjectDefinition implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     EventFilter _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (noOfSelectClauses)
     lengthInBits += 32;
@@ -100,8 +99,7 @@ public class EventFilter extends ExtensionObjectDefinition implements Message {
     if (selectClauses != null) {
       int i = 0;
       for (SimpleAttributeOperand element : selectClauses) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= selectClauses.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= selectClauses.size());
       }
     }
 
@@ -115,7 +113,7 @@ public class EventFilter extends ExtensionObjectDefinition implements Message {
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("EventFilter");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int noOfSelectClauses = readImplicitField("noOfSelectClauses", readSignedInt(readBuffer, 32));
 
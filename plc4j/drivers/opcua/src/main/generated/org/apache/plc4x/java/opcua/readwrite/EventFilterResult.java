@@ -73,7 +73,7 @@ public class EventFilterResult extends ExtensionObjectDefinition implements Mess
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("EventFilterResult");
 
     // Implicit Field (noOfSelectClauseResults) (Used for parsing, but its value is not stored as
@@ -114,10 +114,9 @@ public class EventFilterResult extends ExtensionObjectDefinition implements Mess
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     EventFilterResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (noOfSelectClauseResults)
     lengthInBits += 32;
@@ -126,8 +125,7 @@ public class EventFilterResult extends ExtensionObjectDefinition implements Mess
     if (selectClauseResults != null) {
       int i = 0;
       for (StatusCode element : selectClauseResults) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= selectClauseResults.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= selectClauseResults.size());
       }
     }
 
@@ -138,8 +136,7 @@ public class EventFilterResult extends ExtensionObjectDefinition implements Mess
     if (selectClauseDiagnosticInfos != null) {
       int i = 0;
       for (DiagnosticInfo element : selectClauseDiagnosticInfos) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= selectClauseDiagnosticInfos.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= selectClauseDiagnosticInfos.size());
       }
     }
 
@@ -153,7 +150,7 @@ public class EventFilterResult extends ExtensionObjectDefinition implements Mess
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("EventFilterResult");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int noOfSelectClauseResults =
         readImplicitField("noOfSelectClauseResults", readSignedInt(readBuffer, 32));
@@ -80,7 +80,7 @@ public class ExpandedNodeId implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ExpandedNodeId");
 
     // Simple Field (namespaceURISpecified)
@@ -106,11 +106,22 @@ public class ExpandedNodeId implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     ExpandedNodeId _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (namespaceURISpecified)
     lengthInBits += 1;
@@ -137,7 +148,7 @@ public class ExpandedNodeId implements Message {
   public static ExpandedNodeId staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("ExpandedNodeId");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean namespaceURISpecified =
         readSimpleField("namespaceURISpecified", readBoolean(readBuffer));
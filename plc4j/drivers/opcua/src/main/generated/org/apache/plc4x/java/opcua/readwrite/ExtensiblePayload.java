@@ -57,7 +57,7 @@ public class ExtensiblePayload extends Payload implements Message {
   @Override
   protected void serializePayloadChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ExtensiblePayload");
 
     // Simple Field (payload)
@@ -72,10 +72,9 @@ public class ExtensiblePayload extends Payload implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ExtensiblePayload _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (payload)
     lengthInBits += payload.getLengthInBits();
@@ -87,7 +86,7 @@ public class ExtensiblePayload extends Payload implements Message {
       ReadBuffer readBuffer, Boolean binary, Long byteCount) throws ParseException {
     readBuffer.pullContext("ExtensiblePayload");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     RootExtensionObject payload =
         readSimpleField(
@@ -63,7 +63,7 @@ public class ExtensionObjectEncodingMask implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ExtensionObjectEncodingMask");
 
     // Reserved Field (reserved)
@@ -88,30 +88,19 @@ public class ExtensionObjectEncodingMask implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    ExtensionObjectEncodingMask _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Reserved Field (reserved)
-    lengthInBits += 5;
-
-    // Simple field (typeIdSpecified)
-    lengthInBits += 1;
-
-    // Simple field (xmlBody)
-    lengthInBits += 1;
-
-    // Simple field (binaryBody)
-    lengthInBits += 1;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static ExtensionObjectEncodingMask staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("ExtensionObjectEncodingMask");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Byte reservedField0 = readReservedField("reserved", readSignedByte(readBuffer, 5), (byte) 0x00);
 
@@ -66,7 +66,7 @@ public abstract class ExtensionObjectWithMask extends ExtensionObject implements
   protected void serializeExtensionObjectChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ExtensionObjectWithMask");
 
     // Simple Field (encodingMask)
@@ -84,10 +84,9 @@ public abstract class ExtensionObjectWithMask extends ExtensionObject implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ExtensionObjectWithMask _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (encodingMask)
     lengthInBits += encodingMask.getLengthInBits();
@@ -102,7 +101,7 @@ public abstract class ExtensionObjectWithMask extends ExtensionObject implements
       throws ParseException {
     readBuffer.pullContext("ExtensionObjectWithMask");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ExtensionObjectEncodingMask encodingMask =
         readSimpleField(
@@ -80,7 +80,7 @@ public class FindServersOnNetworkRequest extends ExtensionObjectDefinition imple
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("FindServersOnNetworkRequest");
 
     // Simple Field (requestHeader)
@@ -114,10 +114,9 @@ public class FindServersOnNetworkRequest extends ExtensionObjectDefinition imple
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     FindServersOnNetworkRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -135,8 +134,7 @@ public class FindServersOnNetworkRequest extends ExtensionObjectDefinition imple
     if (serverCapabilityFilter != null) {
       int i = 0;
       for (PascalString element : serverCapabilityFilter) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= serverCapabilityFilter.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= serverCapabilityFilter.size());
       }
     }
 
@@ -147,7 +145,7 @@ public class FindServersOnNetworkRequest extends ExtensionObjectDefinition imple
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("FindServersOnNetworkRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     RequestHeader requestHeader =
         readSimpleField(
@@ -71,7 +71,7 @@ public class FindServersOnNetworkResponse extends ExtensionObjectDefinition impl
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("FindServersOnNetworkResponse");
 
     // Simple Field (responseHeader)
@@ -98,10 +98,9 @@ public class FindServersOnNetworkResponse extends ExtensionObjectDefinition impl
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     FindServersOnNetworkResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -116,8 +115,7 @@ public class FindServersOnNetworkResponse extends ExtensionObjectDefinition impl
     if (servers != null) {
       int i = 0;
       for (ServerOnNetwork element : servers) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= servers.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= servers.size());
       }
     }
 
@@ -128,7 +126,7 @@ public class FindServersOnNetworkResponse extends ExtensionObjectDefinition impl
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("FindServersOnNetworkResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ResponseHeader responseHeader =
         readSimpleField(
@@ -57,7 +57,7 @@ public class FourByteNodeId implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("FourByteNodeId");
 
     // Simple Field (namespaceIndex)
@@ -76,23 +76,18 @@ public class FourByteNodeId implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    FourByteNodeId _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (namespaceIndex)
-    lengthInBits += 8;
-
-    // Simple field (identifier)
-    lengthInBits += 16;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 24;
   }
 
   public static FourByteNodeId staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("FourByteNodeId");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short namespaceIndex = readSimpleField("namespaceIndex", readUnsignedShort(readBuffer, 8));
 
@@ -94,7 +94,7 @@ public class GenericAttributes extends ExtensionObjectDefinition implements Mess
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("GenericAttributes");
 
     // Simple Field (specifiedAttributes)
@@ -131,10 +131,9 @@ public class GenericAttributes extends ExtensionObjectDefinition implements Mess
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     GenericAttributes _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (specifiedAttributes)
     lengthInBits += 32;
@@ -158,8 +157,7 @@ public class GenericAttributes extends ExtensionObjectDefinition implements Mess
     if (attributeValues != null) {
       int i = 0;
       for (GenericAttributeValue element : attributeValues) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= attributeValues.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= attributeValues.size());
       }
     }
 
@@ -170,7 +168,7 @@ public class GenericAttributes extends ExtensionObjectDefinition implements Mess
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("GenericAttributes");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long specifiedAttributes =
         readSimpleField("specifiedAttributes", readUnsignedLong(readBuffer, 32));
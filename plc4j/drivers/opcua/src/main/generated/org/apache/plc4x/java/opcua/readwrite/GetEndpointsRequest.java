@@ -80,7 +80,7 @@ public class GetEndpointsRequest extends ExtensionObjectDefinition implements Me
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("GetEndpointsRequest");
 
     // Simple Field (requestHeader)
@@ -114,10 +114,9 @@ public class GetEndpointsRequest extends ExtensionObjectDefinition implements Me
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     GetEndpointsRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -132,8 +131,7 @@ public class GetEndpointsRequest extends ExtensionObjectDefinition implements Me
     if (localeIds != null) {
       int i = 0;
       for (PascalString element : localeIds) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= localeIds.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= localeIds.size());
       }
     }
 
@@ -144,8 +142,7 @@ public class GetEndpointsRequest extends ExtensionObjectDefinition implements Me
     if (profileUris != null) {
       int i = 0;
       for (PascalString element : profileUris) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= profileUris.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= profileUris.size());
       }
     }
 
@@ -156,7 +153,7 @@ public class GetEndpointsRequest extends ExtensionObjectDefinition implements Me
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("GetEndpointsRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     RequestHeader requestHeader =
         readSimpleField(
@@ -64,7 +64,7 @@ public class GetEndpointsResponse extends ExtensionObjectDefinition implements M
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("GetEndpointsResponse");
 
     // Simple Field (responseHeader)
@@ -87,10 +87,9 @@ public class GetEndpointsResponse extends ExtensionObjectDefinition implements M
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     GetEndpointsResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -102,8 +101,7 @@ public class GetEndpointsResponse extends ExtensionObjectDefinition implements M
     if (endpoints != null) {
       int i = 0;
       for (EndpointDescription element : endpoints) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= endpoints.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= endpoints.size());
       }
     }
 
@@ -114,7 +112,7 @@ public class GetEndpointsResponse extends ExtensionObjectDefinition implements M
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("GetEndpointsResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ResponseHeader responseHeader =
         readSimpleField(
@@ -58,7 +58,7 @@ public class HistoryData extends ExtensionObjectDefinition implements Message {
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("HistoryData");
 
     // Implicit Field (noOfDataValues) (Used for parsing, but its value is not stored as it's
@@ -78,10 +78,9 @@ public class HistoryData extends ExtensionObjectDefinition implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     HistoryData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (noOfDataValues)
     lengthInBits += 32;
@@ -90,8 +89,7 @@ public class HistoryData extends ExtensionObjectDefinition implements Message {
     if (dataValues != null) {
       int i = 0;
       for (DataValue element : dataValues) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= dataValues.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= dataValues.size());
       }
     }
 
@@ -102,7 +100,7 @@ public class HistoryData extends ExtensionObjectDefinition implements Message {
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("HistoryData");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int noOfDataValues = readImplicitField("noOfDataValues", readSignedInt(readBuffer, 32));
 
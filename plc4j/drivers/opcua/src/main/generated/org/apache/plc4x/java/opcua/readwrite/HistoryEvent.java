@@ -58,7 +58,7 @@ public class HistoryEvent extends ExtensionObjectDefinition implements Message {
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("HistoryEvent");
 
     // Implicit Field (noOfEvents) (Used for parsing, but its value is not stored as it's implicitly
@@ -78,10 +78,9 @@ public class HistoryEvent extends ExtensionObjectDefinition implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     HistoryEvent _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (noOfEvents)
     lengthInBits += 32;
@@ -90,8 +89,7 @@ public class HistoryEvent extends ExtensionObjectDefinition implements Message {
     if (events != null) {
       int i = 0;
       for (HistoryEventFieldList element : events) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= events.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= events.size());
       }
     }
 
@@ -102,7 +100,7 @@ public class HistoryEvent extends ExtensionObjectDefinition implements Message {
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("HistoryEvent");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int noOfEvents = readImplicitField("noOfEvents", readSignedInt(readBuffer, 32));
 
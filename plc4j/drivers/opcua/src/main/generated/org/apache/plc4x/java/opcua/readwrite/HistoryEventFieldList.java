@@ -58,7 +58,7 @@ public class HistoryEventFieldList extends ExtensionObjectDefinition implements
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("HistoryEventFieldList");
 
     // Implicit Field (noOfEventFields) (Used for parsing, but its value is not stored as it's
@@ -78,10 +78,9 @@ public class HistoryEventFieldList extends ExtensionObjectDefinition implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     HistoryEventFieldList _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (noOfEventFields)
     lengthInBits += 32;
@@ -90,8 +89,7 @@ public class HistoryEventFieldList extends ExtensionObjectDefinition implements
     if (eventFields != null) {
       int i = 0;
       for (Variant element : eventFields) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= eventFields.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= eventFields.size());
       }
     }
 
@@ -102,7 +100,7 @@ public class HistoryEventFieldList extends ExtensionObjectDefinition implements
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("HistoryEventFieldList");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int noOfEventFields = readImplicitField("noOfEventFields", readSignedInt(readBuffer, 32));
 
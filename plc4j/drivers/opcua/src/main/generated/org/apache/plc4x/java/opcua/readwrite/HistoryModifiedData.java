@@ -64,7 +64,7 @@ public class HistoryModifiedData extends ExtensionObjectDefinition implements Me
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("HistoryModifiedData");
 
     // Implicit Field (noOfDataValues) (Used for parsing, but its value is not stored as it's
@@ -94,10 +94,9 @@ public class HistoryModifiedData extends ExtensionObjectDefinition implements Me
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     HistoryModifiedData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (noOfDataValues)
     lengthInBits += 32;
@@ -106,8 +105,7 @@ public class HistoryModifiedData extends ExtensionObjectDefinition implements Me
     if (dataValues != null) {
       int i = 0;
       for (DataValue element : dataValues) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= dataValues.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= dataValues.size());
       }
     }
 
@@ -118,8 +116,7 @@ public class HistoryModifiedData extends ExtensionObjectDefinition implements Me
     if (modificationInfos != null) {
       int i = 0;
       for (ModificationInfo element : modificationInfos) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= modificationInfos.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= modificationInfos.size());
       }
     }
 
@@ -130,7 +127,7 @@ public class HistoryModifiedData extends ExtensionObjectDefinition implements Me
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("HistoryModifiedData");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int noOfDataValues = readImplicitField("noOfDataValues", readSignedInt(readBuffer, 32));
 
@@ -65,7 +65,7 @@ public class HistoryModifiedEvent extends ExtensionObjectDefinition implements M
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("HistoryModifiedEvent");
 
     // Implicit Field (noOfEvents) (Used for parsing, but its value is not stored as it's implicitly
@@ -95,10 +95,9 @@ public class HistoryModifiedEvent extends ExtensionObjectDefinition implements M
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     HistoryModifiedEvent _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (noOfEvents)
     lengthInBits += 32;
@@ -107,8 +106,7 @@ public class HistoryModifiedEvent extends ExtensionObjectDefinition implements M
     if (events != null) {
       int i = 0;
       for (HistoryEventFieldList element : events) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= events.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= events.size());
       }
     }
 
@@ -119,8 +117,7 @@ public class HistoryModifiedEvent extends ExtensionObjectDefinition implements M
     if (modificationInfos != null) {
       int i = 0;
       for (ModificationInfo element : modificationInfos) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= modificationInfos.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= modificationInfos.size());
       }
     }
 
@@ -131,7 +128,7 @@ public class HistoryModifiedEvent extends ExtensionObjectDefinition implements M
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("HistoryModifiedEvent");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int noOfEvents = readImplicitField("noOfEvents", readSignedInt(readBuffer, 32));
 
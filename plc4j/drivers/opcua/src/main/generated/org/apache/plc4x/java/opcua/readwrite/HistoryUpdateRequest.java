@@ -65,7 +65,7 @@ public class HistoryUpdateRequest extends ExtensionObjectDefinition implements M
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("HistoryUpdateRequest");
 
     // Simple Field (requestHeader)
@@ -90,10 +90,9 @@ public class HistoryUpdateRequest extends ExtensionObjectDefinition implements M
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     HistoryUpdateRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -105,8 +104,7 @@ public class HistoryUpdateRequest extends ExtensionObjectDefinition implements M
     if (historyUpdateDetails != null) {
       int i = 0;
       for (ExtensionObject element : historyUpdateDetails) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= historyUpdateDetails.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= historyUpdateDetails.size());
       }
     }
 
@@ -117,7 +115,7 @@ public class HistoryUpdateRequest extends ExtensionObjectDefinition implements M
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("HistoryUpdateRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     RequestHeader requestHeader =
         readSimpleField(
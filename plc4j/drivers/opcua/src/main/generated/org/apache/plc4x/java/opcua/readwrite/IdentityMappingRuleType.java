@@ -64,7 +64,7 @@ public class IdentityMappingRuleType extends ExtensionObjectDefinition implement
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("IdentityMappingRuleType");
 
     // Simple Field (criteriaType)
@@ -89,10 +89,9 @@ public class IdentityMappingRuleType extends ExtensionObjectDefinition implement
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     IdentityMappingRuleType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (criteriaType)
     lengthInBits += 32;
@@ -107,7 +106,7 @@ public class IdentityMappingRuleType extends ExtensionObjectDefinition implement
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("IdentityMappingRuleType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     IdentityCriteriaType criteriaType =
         readEnumField(
@@ -43,7 +43,7 @@ public class IntegerId implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("IntegerId");
 
     writeBuffer.popContext("IntegerId");
@@ -56,17 +56,18 @@ public class IntegerId implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    IntegerId _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 0;
   }
 
   public static IntegerId staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("IntegerId");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("IntegerId");
     // Create the instance
@@ -122,7 +122,7 @@ public class JsonActionMetaDataMessage extends ExtensionObjectDefinition impleme
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("JsonActionMetaDataMessage");
 
     // Simple Field (messageId)
@@ -176,10 +176,9 @@ public class JsonActionMetaDataMessage extends ExtensionObjectDefinition impleme
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     JsonActionMetaDataMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (messageId)
     lengthInBits += messageId.getLengthInBits();
@@ -206,8 +205,7 @@ public class JsonActionMetaDataMessage extends ExtensionObjectDefinition impleme
     if (actionTargets != null) {
       int i = 0;
       for (ActionTargetDataType element : actionTargets) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= actionTargets.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= actionTargets.size());
       }
     }
 
@@ -224,8 +222,7 @@ public class JsonActionMetaDataMessage extends ExtensionObjectDefinition impleme
     if (actionMethods != null) {
       int i = 0;
       for (ActionMethodDataType element : actionMethods) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= actionMethods.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= actionMethods.size());
       }
     }
 
@@ -236,7 +233,7 @@ public class JsonActionMetaDataMessage extends ExtensionObjectDefinition impleme
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("JsonActionMetaDataMessage");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString messageId =
         readSimpleField(
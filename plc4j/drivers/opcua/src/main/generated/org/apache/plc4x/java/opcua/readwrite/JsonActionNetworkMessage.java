@@ -115,7 +115,7 @@ public class JsonActionNetworkMessage extends ExtensionObjectDefinition implemen
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("JsonActionNetworkMessage");
 
     // Simple Field (messageId)
@@ -159,10 +159,9 @@ public class JsonActionNetworkMessage extends ExtensionObjectDefinition implemen
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     JsonActionNetworkMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (messageId)
     lengthInBits += messageId.getLengthInBits();
@@ -195,8 +194,7 @@ public class JsonActionNetworkMessage extends ExtensionObjectDefinition implemen
     if (messages != null) {
       int i = 0;
       for (ExtensionObject element : messages) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= messages.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= messages.size());
       }
     }
 
@@ -207,7 +205,7 @@ public class JsonActionNetworkMessage extends ExtensionObjectDefinition implemen
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("JsonActionNetworkMessage");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString messageId =
         readSimpleField(
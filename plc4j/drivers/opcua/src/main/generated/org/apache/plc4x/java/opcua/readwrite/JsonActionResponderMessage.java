@@ -87,7 +87,7 @@ public class JsonActionResponderMessage extends ExtensionObjectDefinition implem
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("JsonActionResponderMessage");
 
     // Simple Field (messageId)
@@ -114,10 +114,9 @@ public class JsonActionResponderMessage extends ExtensionObjectDefinition implem
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     JsonActionResponderMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (messageId)
     lengthInBits += messageId.getLengthInBits();
@@ -141,7 +140,7 @@ public class JsonActionResponderMessage extends ExtensionObjectDefinition implem
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("JsonActionResponderMessage");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString messageId =
         readSimpleField(
@@ -136,7 +136,7 @@ public class JsonActionResponseMessage extends ExtensionObjectDefinition impleme
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("JsonActionResponseMessage");
 
     // Simple Field (dataSetWriterId)
@@ -188,10 +188,9 @@ public class JsonActionResponseMessage extends ExtensionObjectDefinition impleme
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     JsonActionResponseMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dataSetWriterId)
     lengthInBits += 16;
@@ -236,7 +235,7 @@ public class JsonActionResponseMessage extends ExtensionObjectDefinition impleme
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("JsonActionResponseMessage");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int dataSetWriterId = readSimpleField("dataSetWriterId", readUnsignedInt(readBuffer, 16));
 
@@ -95,7 +95,7 @@ public class JsonApplicationDescriptionMessage extends ExtensionObjectDefinition
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("JsonApplicationDescriptionMessage");
 
     // Simple Field (messageId)
@@ -132,10 +132,9 @@ public class JsonApplicationDescriptionMessage extends ExtensionObjectDefinition
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     JsonApplicationDescriptionMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (messageId)
     lengthInBits += messageId.getLengthInBits();
@@ -159,8 +158,7 @@ public class JsonApplicationDescriptionMessage extends ExtensionObjectDefinition
     if (serverCapabilities != null) {
       int i = 0;
       for (PascalString element : serverCapabilities) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= serverCapabilities.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= serverCapabilities.size());
       }
     }
 
@@ -171,7 +169,7 @@ public class JsonApplicationDescriptionMessage extends ExtensionObjectDefinition
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("JsonApplicationDescriptionMessage");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString messageId =
         readSimpleField(
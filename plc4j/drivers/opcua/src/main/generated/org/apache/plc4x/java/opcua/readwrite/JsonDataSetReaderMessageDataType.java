@@ -66,7 +66,7 @@ public class JsonDataSetReaderMessageDataType extends ExtensionObjectDefinition
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("JsonDataSetReaderMessageDataType");
 
     // Simple Field (networkMessageContentMask)
@@ -98,25 +98,16 @@ public class JsonDataSetReaderMessageDataType extends ExtensionObjectDefinition
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    JsonDataSetReaderMessageDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (networkMessageContentMask)
-    lengthInBits += 32;
-
-    // Simple field (dataSetMessageContentMask)
-    lengthInBits += 32;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 64;
   }
 
   public static ExtensionObjectDefinitionBuilder staticParseExtensionObjectDefinitionBuilder(
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("JsonDataSetReaderMessageDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     JsonNetworkMessageContentMask networkMessageContentMask =
         readEnumField(
@@ -94,7 +94,7 @@ public class JsonServerEndpointsMessage extends ExtensionObjectDefinition implem
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("JsonServerEndpointsMessage");
 
     // Simple Field (messageId)
@@ -129,10 +129,9 @@ public class JsonServerEndpointsMessage extends ExtensionObjectDefinition implem
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     JsonServerEndpointsMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (messageId)
     lengthInBits += messageId.getLengthInBits();
@@ -156,8 +155,7 @@ public class JsonServerEndpointsMessage extends ExtensionObjectDefinition implem
     if (endpoints != null) {
       int i = 0;
       for (EndpointDescription element : endpoints) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= endpoints.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= endpoints.size());
       }
     }
 
@@ -168,7 +166,7 @@ public class JsonServerEndpointsMessage extends ExtensionObjectDefinition implem
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("JsonServerEndpointsMessage");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString messageId =
         readSimpleField(
@@ -94,7 +94,7 @@ public class LldpManagementAddressTxPortType extends ExtensionObjectDefinition i
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("LldpManagementAddressTxPortType");
 
     // Simple Field (addressSubtype)
@@ -134,10 +134,9 @@ public class LldpManagementAddressTxPortType extends ExtensionObjectDefinition i
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     LldpManagementAddressTxPortType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (addressSubtype)
     lengthInBits += 32;
@@ -167,7 +166,7 @@ public class LldpManagementAddressTxPortType extends ExtensionObjectDefinition i
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("LldpManagementAddressTxPortType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long addressSubtype = readSimpleField("addressSubtype", readUnsignedLong(readBuffer, 32));
 
@@ -108,7 +108,7 @@ public class LogRecord extends ExtensionObjectDefinition implements Message {
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("LogRecord");
 
     // Simple Field (eventTime)
@@ -150,10 +150,9 @@ public class LogRecord extends ExtensionObjectDefinition implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     LogRecord _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (eventTime)
     lengthInBits += 64;
@@ -183,8 +182,7 @@ public class LogRecord extends ExtensionObjectDefinition implements Message {
     if (additionalData != null) {
       int i = 0;
       for (NameValuePair element : additionalData) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= additionalData.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= additionalData.size());
       }
     }
 
@@ -195,7 +193,7 @@ public class LogRecord extends ExtensionObjectDefinition implements Message {
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("LogRecord");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long eventTime = readSimpleField("eventTime", readSignedLong(readBuffer, 64));
 
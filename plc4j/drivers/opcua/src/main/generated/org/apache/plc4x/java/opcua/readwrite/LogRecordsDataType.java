@@ -58,7 +58,7 @@ public class LogRecordsDataType extends ExtensionObjectDefinition implements Mes
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("LogRecordsDataType");
 
     // Implicit Field (noOfLogRecordArray) (Used for parsing, but its value is not stored as it's
@@ -79,10 +79,9 @@ public class LogRecordsDataType extends ExtensionObjectDefinition implements Mes
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     LogRecordsDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (noOfLogRecordArray)
     lengthInBits += 32;
@@ -91,8 +90,7 @@ public class LogRecordsDataType extends ExtensionObjectDefinition implements Mes
     if (logRecordArray != null) {
       int i = 0;
       for (LogRecord element : logRecordArray) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= logRecordArray.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= logRecordArray.size());
       }
     }
 
@@ -103,7 +101,7 @@ public class LogRecordsDataType extends ExtensionObjectDefinition implements Mes
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("LogRecordsDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int noOfLogRecordArray = readImplicitField("noOfLogRecordArray", readSignedInt(readBuffer, 32));
 
@@ -65,7 +65,7 @@ public class MdnsDiscoveryConfiguration extends ExtensionObjectDefinition implem
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("MdnsDiscoveryConfiguration");
 
     // Simple Field (mdnsServerName)
@@ -90,10 +90,9 @@ public class MdnsDiscoveryConfiguration extends ExtensionObjectDefinition implem
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     MdnsDiscoveryConfiguration _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (mdnsServerName)
     lengthInBits += mdnsServerName.getLengthInBits();
@@ -105,8 +104,7 @@ public class MdnsDiscoveryConfiguration extends ExtensionObjectDefinition implem
     if (serverCapabilities != null) {
       int i = 0;
       for (PascalString element : serverCapabilities) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= serverCapabilities.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= serverCapabilities.size());
       }
     }
 
@@ -117,7 +115,7 @@ public class MdnsDiscoveryConfiguration extends ExtensionObjectDefinition implem
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("MdnsDiscoveryConfiguration");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString mdnsServerName =
         readSimpleField(
@@ -59,7 +59,7 @@ public abstract class MessagePDU implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("MessagePDU");
 
     // Discriminator Field (messageType) (Used as input to a switch field)
@@ -88,31 +88,29 @@ public abstract class MessagePDU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    MessagePDU _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Discriminator Field (messageType)
-    lengthInBits += 24;
-
-    // Simple field (chunk)
-    lengthInBits += 8;
-
-    // Implicit Field (totalLength)
-    lengthInBits += 32;
-
-    // Length of sub-type elements will be added by sub-type...
-
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
     return lengthInBits;
   }
 
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 64;
+  }
+
   public static MessagePDU staticParse(ReadBuffer readBuffer, Boolean response, Boolean binary)
       throws ParseException {
     readBuffer.pullContext("MessagePDU");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     String messageType = readDiscriminatorField("messageType", readString(readBuffer, 24));
 
@@ -70,7 +70,7 @@ public class ModelChangeStructureDataType extends ExtensionObjectDefinition impl
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ModelChangeStructureDataType");
 
     // Simple Field (affected)
@@ -91,10 +91,9 @@ public class ModelChangeStructureDataType extends ExtensionObjectDefinition impl
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ModelChangeStructureDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (affected)
     lengthInBits += affected.getLengthInBits();
@@ -112,7 +111,7 @@ public class ModelChangeStructureDataType extends ExtensionObjectDefinition impl
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ModelChangeStructureDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NodeId affected =
         readSimpleField("affected", readComplex(() -> NodeId.staticParse(readBuffer), readBuffer));
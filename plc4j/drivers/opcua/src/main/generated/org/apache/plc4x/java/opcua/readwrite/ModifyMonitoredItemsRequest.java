@@ -80,7 +80,7 @@ public class ModifyMonitoredItemsRequest extends ExtensionObjectDefinition imple
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ModifyMonitoredItemsRequest");
 
     // Simple Field (requestHeader)
@@ -117,10 +117,9 @@ public class ModifyMonitoredItemsRequest extends ExtensionObjectDefinition imple
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ModifyMonitoredItemsRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -138,8 +137,7 @@ public class ModifyMonitoredItemsRequest extends ExtensionObjectDefinition imple
     if (itemsToModify != null) {
       int i = 0;
       for (MonitoredItemModifyRequest element : itemsToModify) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= itemsToModify.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= itemsToModify.size());
       }
     }
 
@@ -150,7 +148,7 @@ public class ModifyMonitoredItemsRequest extends ExtensionObjectDefinition imple
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ModifyMonitoredItemsRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     RequestHeader requestHeader =
         readSimpleField(
@@ -64,7 +64,7 @@ public class NetworkGroupDataType extends ExtensionObjectDefinition implements M
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NetworkGroupDataType");
 
     // Simple Field (serverUri)
@@ -88,10 +88,9 @@ public class NetworkGroupDataType extends ExtensionObjectDefinition implements M
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     NetworkGroupDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (serverUri)
     lengthInBits += serverUri.getLengthInBits();
@@ -103,8 +102,7 @@ public class NetworkGroupDataType extends ExtensionObjectDefinition implements M
     if (networkPaths != null) {
       int i = 0;
       for (EndpointUrlListDataType element : networkPaths) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= networkPaths.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= networkPaths.size());
       }
     }
 
@@ -115,7 +113,7 @@ public class NetworkGroupDataType extends ExtensionObjectDefinition implements M
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("NetworkGroupDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString serverUri =
         readSimpleField(
@@ -72,7 +72,7 @@ public class NodeIdByteString extends NodeIdTypeDefinition implements Message {
   protected void serializeNodeIdTypeDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NodeIdByteString");
 
     // Simple Field (namespaceIndex)
@@ -98,10 +98,9 @@ public class NodeIdByteString extends NodeIdTypeDefinition implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     NodeIdByteString _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (namespaceIndex)
     lengthInBits += 16;
@@ -120,7 +119,7 @@ public class NodeIdByteString extends NodeIdTypeDefinition implements Message {
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("NodeIdByteString");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int namespaceIndex = readSimpleField("namespaceIndex", readUnsignedInt(readBuffer, 16));
 
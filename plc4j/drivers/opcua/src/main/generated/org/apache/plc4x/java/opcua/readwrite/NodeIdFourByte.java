@@ -72,7 +72,7 @@ public class NodeIdFourByte extends NodeIdTypeDefinition implements Message {
   protected void serializeNodeIdTypeDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NodeIdFourByte");
 
     // Simple Field (namespaceIndex)
@@ -98,29 +98,16 @@ public class NodeIdFourByte extends NodeIdTypeDefinition implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    NodeIdFourByte _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (namespaceIndex)
-    lengthInBits += 8;
-
-    // Simple field (id)
-    lengthInBits += 16;
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 24;
   }
 
   public static NodeIdTypeDefinitionBuilder staticParseNodeIdTypeDefinitionBuilder(
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("NodeIdFourByte");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short namespaceIndex = readSimpleField("namespaceIndex", readUnsignedShort(readBuffer, 8));
 
@@ -72,7 +72,7 @@ public class NodeIdNumeric extends NodeIdTypeDefinition implements Message {
   protected void serializeNodeIdTypeDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NodeIdNumeric");
 
     // Simple Field (namespaceIndex)
@@ -98,29 +98,16 @@ public class NodeIdNumeric extends NodeIdTypeDefinition implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    NodeIdNumeric _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (namespaceIndex)
-    lengthInBits += 16;
-
-    // Simple field (id)
-    lengthInBits += 32;
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 48;
   }
 
   public static NodeIdTypeDefinitionBuilder staticParseNodeIdTypeDefinitionBuilder(
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("NodeIdNumeric");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int namespaceIndex = readSimpleField("namespaceIndex", readUnsignedInt(readBuffer, 16));
 
@@ -66,7 +66,7 @@ public class NodeIdTwoByte extends NodeIdTypeDefinition implements Message {
   protected void serializeNodeIdTypeDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NodeIdTwoByte");
 
     // Simple Field (id)
@@ -89,26 +89,16 @@ public class NodeIdTwoByte extends NodeIdTypeDefinition implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    NodeIdTwoByte _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (id)
-    lengthInBits += 8;
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 8;
   }
 
   public static NodeIdTypeDefinitionBuilder staticParseNodeIdTypeDefinitionBuilder(
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("NodeIdTwoByte");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short id = readSimpleField("id", readUnsignedShort(readBuffer, 8));
     String identifier = readVirtualField("identifier", String.class, id);
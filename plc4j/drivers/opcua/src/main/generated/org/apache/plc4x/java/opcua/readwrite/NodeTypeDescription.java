@@ -73,7 +73,7 @@ public class NodeTypeDescription extends ExtensionObjectDefinition implements Me
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NodeTypeDescription");
 
     // Simple Field (typeDefinitionNode)
@@ -103,10 +103,9 @@ public class NodeTypeDescription extends ExtensionObjectDefinition implements Me
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     NodeTypeDescription _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (typeDefinitionNode)
     lengthInBits += typeDefinitionNode.getLengthInBits();
@@ -124,8 +123,7 @@ public class NodeTypeDescription extends ExtensionObjectDefinition implements Me
     if (dataToReturn != null) {
       int i = 0;
       for (QueryDataDescription element : dataToReturn) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= dataToReturn.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= dataToReturn.size());
       }
     }
 
@@ -136,7 +134,7 @@ public class NodeTypeDescription extends ExtensionObjectDefinition implements Me
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("NodeTypeDescription");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ExpandedNodeId typeDefinitionNode =
         readSimpleField(
@@ -71,7 +71,7 @@ public class NotificationMessage extends ExtensionObjectDefinition implements Me
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NotificationMessage");
 
     // Simple Field (sequenceNumber)
@@ -99,10 +99,9 @@ public class NotificationMessage extends ExtensionObjectDefinition implements Me
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     NotificationMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sequenceNumber)
     lengthInBits += 32;
@@ -117,8 +116,7 @@ public class NotificationMessage extends ExtensionObjectDefinition implements Me
     if (notificationData != null) {
       int i = 0;
       for (ExtensionObject element : notificationData) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= notificationData.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= notificationData.size());
       }
     }
 
@@ -129,7 +127,7 @@ public class NotificationMessage extends ExtensionObjectDefinition implements Me
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("NotificationMessage");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long sequenceNumber = readSimpleField("sequenceNumber", readUnsignedLong(readBuffer, 32));
 
@@ -59,7 +59,7 @@ public class NullExtensionObjectWithMask extends ExtensionObjectWithMask impleme
   protected void serializeExtensionObjectWithMaskChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NullExtensionObjectWithMask");
 
     // Virtual field (doesn't actually serialize anything, just makes the value available)
@@ -75,14 +75,9 @@ public class NullExtensionObjectWithMask extends ExtensionObjectWithMask impleme
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    NullExtensionObjectWithMask _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // A virtual field doesn't have any in- or output.
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static ExtensionObjectWithMaskBuilder staticParseExtensionObjectWithMaskBuilder(
@@ -90,7 +85,7 @@ public class NullExtensionObjectWithMask extends ExtensionObjectWithMask impleme
       throws ParseException {
     readBuffer.pullContext("NullExtensionObjectWithMask");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
     ExtensionObjectDefinition body =
         readVirtualField("body", ExtensionObjectDefinition.class, null);
 
@@ -57,7 +57,7 @@ public class NumericNodeId implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("NumericNodeId");
 
     // Simple Field (namespaceIndex)
@@ -76,23 +76,18 @@ public class NumericNodeId implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    NumericNodeId _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (namespaceIndex)
-    lengthInBits += 16;
-
-    // Simple field (identifier)
-    lengthInBits += 32;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 48;
   }
 
   public static NumericNodeId staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("NumericNodeId");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int namespaceIndex = readSimpleField("namespaceIndex", readUnsignedInt(readBuffer, 16));
 
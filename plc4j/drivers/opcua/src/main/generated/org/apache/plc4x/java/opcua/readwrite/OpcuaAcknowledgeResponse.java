@@ -67,7 +67,7 @@ public class OpcuaAcknowledgeResponse extends MessagePDU implements Message {
   @Override
   protected void serializeMessagePDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpcuaAcknowledgeResponse");
 
     // Simple Field (version)
@@ -85,10 +85,9 @@ public class OpcuaAcknowledgeResponse extends MessagePDU implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     OpcuaAcknowledgeResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (version)
     lengthInBits += 32;
@@ -103,7 +102,7 @@ public class OpcuaAcknowledgeResponse extends MessagePDU implements Message {
       ReadBuffer readBuffer, Boolean response, Boolean binary) throws ParseException {
     readBuffer.pullContext("OpcuaAcknowledgeResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long version = readSimpleField("version", readUnsignedLong(readBuffer, 32));
 
@@ -67,7 +67,7 @@ public class OpcuaMessageRequest extends MessagePDU implements Message {
   @Override
   protected void serializeMessagePDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpcuaMessageRequest");
 
     // Simple Field (securityHeader)
@@ -85,10 +85,9 @@ public class OpcuaMessageRequest extends MessagePDU implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     OpcuaMessageRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (securityHeader)
     lengthInBits += securityHeader.getLengthInBits();
@@ -104,7 +103,7 @@ public class OpcuaMessageRequest extends MessagePDU implements Message {
       throws ParseException {
     readBuffer.pullContext("OpcuaMessageRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     SecurityHeader securityHeader =
         readSimpleField(
@@ -67,7 +67,7 @@ public class OpcuaOpenRequest extends MessagePDU implements Message {
   @Override
   protected void serializeMessagePDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpcuaOpenRequest");
 
     // Simple Field (openRequest)
@@ -85,10 +85,9 @@ public class OpcuaOpenRequest extends MessagePDU implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     OpcuaOpenRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openRequest)
     lengthInBits += openRequest.getLengthInBits();
@@ -104,7 +103,7 @@ public class OpcuaOpenRequest extends MessagePDU implements Message {
       throws ParseException {
     readBuffer.pullContext("OpcuaOpenRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     OpenChannelMessage openRequest =
         readSimpleField(
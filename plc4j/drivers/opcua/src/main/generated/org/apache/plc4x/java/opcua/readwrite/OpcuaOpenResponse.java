@@ -67,7 +67,7 @@ public class OpcuaOpenResponse extends MessagePDU implements Message {
   @Override
   protected void serializeMessagePDUChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpcuaOpenResponse");
 
     // Simple Field (openResponse)
@@ -85,10 +85,9 @@ public class OpcuaOpenResponse extends MessagePDU implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     OpcuaOpenResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openResponse)
     lengthInBits += openResponse.getLengthInBits();
@@ -104,7 +103,7 @@ public class OpcuaOpenResponse extends MessagePDU implements Message {
       throws ParseException {
     readBuffer.pullContext("OpcuaOpenResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     OpenChannelMessage openResponse =
         readSimpleField(
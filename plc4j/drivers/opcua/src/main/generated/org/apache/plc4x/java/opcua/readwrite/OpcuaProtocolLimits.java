@@ -70,7 +70,7 @@ public class OpcuaProtocolLimits implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpcuaProtocolLimits");
 
     // Simple Field (receiveBufferSize)
@@ -95,29 +95,18 @@ public class OpcuaProtocolLimits implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    OpcuaProtocolLimits _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (receiveBufferSize)
-    lengthInBits += 32;
-
-    // Simple field (sendBufferSize)
-    lengthInBits += 32;
-
-    // Simple field (maxMessageSize)
-    lengthInBits += 32;
-
-    // Simple field (maxChunkCount)
-    lengthInBits += 32;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 128;
   }
 
   public static OpcuaProtocolLimits staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("OpcuaProtocolLimits");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long receiveBufferSize = readSimpleField("receiveBufferSize", readUnsignedLong(readBuffer, 32));
 
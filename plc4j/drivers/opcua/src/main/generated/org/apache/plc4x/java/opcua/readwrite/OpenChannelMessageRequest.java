@@ -80,7 +80,7 @@ public class OpenChannelMessageRequest extends OpenChannelMessage implements Mes
   protected void serializeOpenChannelMessageChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenChannelMessageRequest");
 
     // Simple Field (secureChannelId)
@@ -105,10 +105,9 @@ public class OpenChannelMessageRequest extends OpenChannelMessage implements Mes
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     OpenChannelMessageRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (secureChannelId)
     lengthInBits += 32;
@@ -129,7 +128,7 @@ public class OpenChannelMessageRequest extends OpenChannelMessage implements Mes
       ReadBuffer readBuffer, Boolean response) throws ParseException {
     readBuffer.pullContext("OpenChannelMessageRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int secureChannelId = readSimpleField("secureChannelId", readSignedInt(readBuffer, 32));
 
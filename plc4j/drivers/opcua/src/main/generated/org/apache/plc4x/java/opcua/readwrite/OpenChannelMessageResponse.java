@@ -80,7 +80,7 @@ public class OpenChannelMessageResponse extends OpenChannelMessage implements Me
   protected void serializeOpenChannelMessageChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenChannelMessageResponse");
 
     // Simple Field (secureChannelId)
@@ -105,10 +105,9 @@ public class OpenChannelMessageResponse extends OpenChannelMessage implements Me
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     OpenChannelMessageResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (secureChannelId)
     lengthInBits += 32;
@@ -129,7 +128,7 @@ public class OpenChannelMessageResponse extends OpenChannelMessage implements Me
       ReadBuffer readBuffer, Boolean response) throws ParseException {
     readBuffer.pullContext("OpenChannelMessageResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int secureChannelId = readSimpleField("secureChannelId", readSignedInt(readBuffer, 32));
 
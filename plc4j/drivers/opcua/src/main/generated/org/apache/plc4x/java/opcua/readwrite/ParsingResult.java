@@ -73,7 +73,7 @@ public class ParsingResult extends ExtensionObjectDefinition implements Message
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ParsingResult");
 
     // Simple Field (statusCode)
@@ -107,10 +107,9 @@ public class ParsingResult extends ExtensionObjectDefinition implements Message
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ParsingResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (statusCode)
     lengthInBits += statusCode.getLengthInBits();
@@ -122,8 +121,7 @@ public class ParsingResult extends ExtensionObjectDefinition implements Message
     if (dataStatusCodes != null) {
       int i = 0;
       for (StatusCode element : dataStatusCodes) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= dataStatusCodes.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= dataStatusCodes.size());
       }
     }
 
@@ -134,8 +132,7 @@ public class ParsingResult extends ExtensionObjectDefinition implements Message
     if (dataDiagnosticInfos != null) {
       int i = 0;
       for (DiagnosticInfo element : dataDiagnosticInfos) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= dataDiagnosticInfos.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= dataDiagnosticInfos.size());
       }
     }
 
@@ -146,7 +143,7 @@ public class ParsingResult extends ExtensionObjectDefinition implements Message
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ParsingResult");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     StatusCode statusCode =
         readSimpleField(
@@ -136,7 +136,7 @@ public class ProgramDiagnostic2DataType extends ExtensionObjectDefinition implem
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ProgramDiagnostic2DataType");
 
     // Simple Field (createSessionId)
@@ -227,10 +227,9 @@ public class ProgramDiagnostic2DataType extends ExtensionObjectDefinition implem
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ProgramDiagnostic2DataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (createSessionId)
     lengthInBits += createSessionId.getLengthInBits();
@@ -257,8 +256,7 @@ public class ProgramDiagnostic2DataType extends ExtensionObjectDefinition implem
     if (lastMethodInputArguments != null) {
       int i = 0;
       for (Argument element : lastMethodInputArguments) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= lastMethodInputArguments.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= lastMethodInputArguments.size());
       }
     }
 
@@ -269,8 +267,7 @@ public class ProgramDiagnostic2DataType extends ExtensionObjectDefinition implem
     if (lastMethodOutputArguments != null) {
       int i = 0;
       for (Argument element : lastMethodOutputArguments) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= lastMethodOutputArguments.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= lastMethodOutputArguments.size());
       }
     }
 
@@ -281,8 +278,7 @@ public class ProgramDiagnostic2DataType extends ExtensionObjectDefinition implem
     if (lastMethodInputValues != null) {
       int i = 0;
       for (Variant element : lastMethodInputValues) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= lastMethodInputValues.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= lastMethodInputValues.size());
       }
     }
 
@@ -293,8 +289,7 @@ public class ProgramDiagnostic2DataType extends ExtensionObjectDefinition implem
     if (lastMethodOutputValues != null) {
       int i = 0;
       for (Variant element : lastMethodOutputValues) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= lastMethodOutputValues.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= lastMethodOutputValues.size());
       }
     }
 
@@ -311,7 +306,7 @@ public class ProgramDiagnostic2DataType extends ExtensionObjectDefinition implem
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ProgramDiagnostic2DataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NodeId createSessionId =
         readSimpleField(
@@ -122,7 +122,7 @@ public class ProgramDiagnosticDataType extends ExtensionObjectDefinition impleme
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ProgramDiagnosticDataType");
 
     // Simple Field (createSessionId)
@@ -189,10 +189,9 @@ public class ProgramDiagnosticDataType extends ExtensionObjectDefinition impleme
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ProgramDiagnosticDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (createSessionId)
     lengthInBits += createSessionId.getLengthInBits();
@@ -219,8 +218,7 @@ public class ProgramDiagnosticDataType extends ExtensionObjectDefinition impleme
     if (lastMethodInputArguments != null) {
       int i = 0;
       for (Argument element : lastMethodInputArguments) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= lastMethodInputArguments.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= lastMethodInputArguments.size());
       }
     }
 
@@ -231,8 +229,7 @@ public class ProgramDiagnosticDataType extends ExtensionObjectDefinition impleme
     if (lastMethodOutputArguments != null) {
       int i = 0;
       for (Argument element : lastMethodOutputArguments) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= lastMethodOutputArguments.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= lastMethodOutputArguments.size());
       }
     }
 
@@ -249,7 +246,7 @@ public class ProgramDiagnosticDataType extends ExtensionObjectDefinition impleme
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ProgramDiagnosticDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NodeId createSessionId =
         readSimpleField(
@@ -122,7 +122,7 @@ public class PubSubConfiguration2DataType extends ExtensionObjectDefinition impl
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PubSubConfiguration2DataType");
 
     // Implicit Field (noOfPublishedDataSets) (Used for parsing, but its value is not stored as it's
@@ -231,10 +231,9 @@ public class PubSubConfiguration2DataType extends ExtensionObjectDefinition impl
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PubSubConfiguration2DataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (noOfPublishedDataSets)
     lengthInBits += 32;
@@ -243,8 +242,7 @@ public class PubSubConfiguration2DataType extends ExtensionObjectDefinition impl
     if (publishedDataSets != null) {
       int i = 0;
       for (PublishedDataSetDataType element : publishedDataSets) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= publishedDataSets.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= publishedDataSets.size());
       }
     }
 
@@ -255,8 +253,7 @@ public class PubSubConfiguration2DataType extends ExtensionObjectDefinition impl
     if (connections != null) {
       int i = 0;
       for (PubSubConnectionDataType element : connections) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= connections.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= connections.size());
       }
     }
 
@@ -273,8 +270,7 @@ public class PubSubConfiguration2DataType extends ExtensionObjectDefinition impl
     if (subscribedDataSets != null) {
       int i = 0;
       for (StandaloneSubscribedDataSetDataType element : subscribedDataSets) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= subscribedDataSets.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= subscribedDataSets.size());
       }
     }
 
@@ -285,8 +281,7 @@ public class PubSubConfiguration2DataType extends ExtensionObjectDefinition impl
     if (dataSetClasses != null) {
       int i = 0;
       for (DataSetMetaDataType element : dataSetClasses) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= dataSetClasses.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= dataSetClasses.size());
       }
     }
 
@@ -297,8 +292,7 @@ public class PubSubConfiguration2DataType extends ExtensionObjectDefinition impl
     if (defaultSecurityKeyServices != null) {
       int i = 0;
       for (EndpointDescription element : defaultSecurityKeyServices) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= defaultSecurityKeyServices.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= defaultSecurityKeyServices.size());
       }
     }
 
@@ -309,8 +303,7 @@ public class PubSubConfiguration2DataType extends ExtensionObjectDefinition impl
     if (securityGroups != null) {
       int i = 0;
       for (SecurityGroupDataType element : securityGroups) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= securityGroups.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= securityGroups.size());
       }
     }
 
@@ -321,8 +314,7 @@ public class PubSubConfiguration2DataType extends ExtensionObjectDefinition impl
     if (pubSubKeyPushTargets != null) {
       int i = 0;
       for (PubSubKeyPushTargetDataType element : pubSubKeyPushTargets) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= pubSubKeyPushTargets.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= pubSubKeyPushTargets.size());
       }
     }
 
@@ -336,8 +328,7 @@ public class PubSubConfiguration2DataType extends ExtensionObjectDefinition impl
     if (configurationProperties != null) {
       int i = 0;
       for (KeyValuePair element : configurationProperties) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= configurationProperties.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= configurationProperties.size());
       }
     }
 
@@ -348,7 +339,7 @@ public class PubSubConfiguration2DataType extends ExtensionObjectDefinition impl
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("PubSubConfiguration2DataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int noOfPublishedDataSets =
         readImplicitField("noOfPublishedDataSets", readSignedInt(readBuffer, 32));
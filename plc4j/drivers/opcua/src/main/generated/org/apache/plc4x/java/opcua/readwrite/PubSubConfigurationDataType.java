@@ -73,7 +73,7 @@ public class PubSubConfigurationDataType extends ExtensionObjectDefinition imple
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PubSubConfigurationDataType");
 
     // Implicit Field (noOfPublishedDataSets) (Used for parsing, but its value is not stored as it's
@@ -109,10 +109,9 @@ public class PubSubConfigurationDataType extends ExtensionObjectDefinition imple
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PubSubConfigurationDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (noOfPublishedDataSets)
     lengthInBits += 32;
@@ -121,8 +120,7 @@ public class PubSubConfigurationDataType extends ExtensionObjectDefinition imple
     if (publishedDataSets != null) {
       int i = 0;
       for (PublishedDataSetDataType element : publishedDataSets) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= publishedDataSets.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= publishedDataSets.size());
       }
     }
 
@@ -133,8 +131,7 @@ public class PubSubConfigurationDataType extends ExtensionObjectDefinition imple
     if (connections != null) {
       int i = 0;
       for (PubSubConnectionDataType element : connections) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= connections.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= connections.size());
       }
     }
 
@@ -151,7 +148,7 @@ public class PubSubConfigurationDataType extends ExtensionObjectDefinition imple
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("PubSubConfigurationDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int noOfPublishedDataSets =
         readImplicitField("noOfPublishedDataSets", readSignedInt(readBuffer, 32));
@@ -80,7 +80,7 @@ public class PubSubConfigurationRefDataType extends ExtensionObjectDefinition im
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PubSubConfigurationRefDataType");
 
     // Simple Field (configurationMask)
@@ -111,31 +111,16 @@ public class PubSubConfigurationRefDataType extends ExtensionObjectDefinition im
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    PubSubConfigurationRefDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (configurationMask)
-    lengthInBits += 32;
-
-    // Simple field (elementIndex)
-    lengthInBits += 16;
-
-    // Simple field (connectionIndex)
-    lengthInBits += 16;
-
-    // Simple field (groupIndex)
-    lengthInBits += 16;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 80;
   }
 
   public static ExtensionObjectDefinitionBuilder staticParseExtensionObjectDefinitionBuilder(
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("PubSubConfigurationRefDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PubSubConfigurationRefMask configurationMask =
         readEnumField(
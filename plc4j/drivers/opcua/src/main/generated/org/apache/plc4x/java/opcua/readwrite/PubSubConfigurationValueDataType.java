@@ -71,7 +71,7 @@ public class PubSubConfigurationValueDataType extends ExtensionObjectDefinition
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PubSubConfigurationValueDataType");
 
     // Simple Field (configurationElement)
@@ -92,10 +92,9 @@ public class PubSubConfigurationValueDataType extends ExtensionObjectDefinition
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PubSubConfigurationValueDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (configurationElement)
     lengthInBits += configurationElement.getLengthInBits();
@@ -113,7 +112,7 @@ public class PubSubConfigurationValueDataType extends ExtensionObjectDefinition
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("PubSubConfigurationValueDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PubSubConfigurationRefDataType configurationElement =
         readSimpleField(
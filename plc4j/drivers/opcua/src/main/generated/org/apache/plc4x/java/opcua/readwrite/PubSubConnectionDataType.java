@@ -115,7 +115,7 @@ public class PubSubConnectionDataType extends ExtensionObjectDefinition implemen
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PubSubConnectionDataType");
 
     // Simple Field (name)
@@ -176,10 +176,9 @@ public class PubSubConnectionDataType extends ExtensionObjectDefinition implemen
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PubSubConnectionDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -206,8 +205,7 @@ public class PubSubConnectionDataType extends ExtensionObjectDefinition implemen
     if (connectionProperties != null) {
       int i = 0;
       for (KeyValuePair element : connectionProperties) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= connectionProperties.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= connectionProperties.size());
       }
     }
 
@@ -221,8 +219,7 @@ public class PubSubConnectionDataType extends ExtensionObjectDefinition implemen
     if (writerGroups != null) {
       int i = 0;
       for (WriterGroupDataType element : writerGroups) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= writerGroups.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= writerGroups.size());
       }
     }
 
@@ -233,8 +230,7 @@ public class PubSubConnectionDataType extends ExtensionObjectDefinition implemen
     if (readerGroups != null) {
       int i = 0;
       for (ReaderGroupDataType element : readerGroups) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= readerGroups.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= readerGroups.size());
       }
     }
 
@@ -245,7 +241,7 @@ public class PubSubConnectionDataType extends ExtensionObjectDefinition implemen
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("PubSubConnectionDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString name =
         readSimpleField(
@@ -101,7 +101,7 @@ public class PubSubGroupDataType extends ExtensionObjectDefinition implements Me
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PubSubGroupDataType");
 
     // Simple Field (name)
@@ -158,10 +158,9 @@ public class PubSubGroupDataType extends ExtensionObjectDefinition implements Me
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PubSubGroupDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -185,8 +184,7 @@ public class PubSubGroupDataType extends ExtensionObjectDefinition implements Me
     if (securityKeyServices != null) {
       int i = 0;
       for (EndpointDescription element : securityKeyServices) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= securityKeyServices.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= securityKeyServices.size());
       }
     }
 
@@ -200,8 +198,7 @@ public class PubSubGroupDataType extends ExtensionObjectDefinition implements Me
     if (groupProperties != null) {
       int i = 0;
       for (KeyValuePair element : groupProperties) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= groupProperties.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= groupProperties.size());
       }
     }
 
@@ -212,7 +209,7 @@ public class PubSubGroupDataType extends ExtensionObjectDefinition implements Me
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("PubSubGroupDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString name =
         readSimpleField(
@@ -115,7 +115,7 @@ public class PubSubKeyPushTargetDataType extends ExtensionObjectDefinition imple
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PubSubKeyPushTargetDataType");
 
     // Simple Field (applicationUri)
@@ -174,10 +174,9 @@ public class PubSubKeyPushTargetDataType extends ExtensionObjectDefinition imple
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PubSubKeyPushTargetDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (applicationUri)
     lengthInBits += applicationUri.getLengthInBits();
@@ -189,8 +188,7 @@ public class PubSubKeyPushTargetDataType extends ExtensionObjectDefinition imple
     if (pushTargetFolder != null) {
       int i = 0;
       for (PascalString element : pushTargetFolder) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= pushTargetFolder.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= pushTargetFolder.size());
       }
     }
 
@@ -216,8 +214,7 @@ public class PubSubKeyPushTargetDataType extends ExtensionObjectDefinition imple
     if (pushTargetProperties != null) {
       int i = 0;
       for (KeyValuePair element : pushTargetProperties) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= pushTargetProperties.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= pushTargetProperties.size());
       }
     }
 
@@ -228,8 +225,7 @@ public class PubSubKeyPushTargetDataType extends ExtensionObjectDefinition imple
     if (securityGroups != null) {
       int i = 0;
       for (PascalString element : securityGroups) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= securityGroups.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= securityGroups.size());
       }
     }
 
@@ -240,7 +236,7 @@ public class PubSubKeyPushTargetDataType extends ExtensionObjectDefinition imple
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("PubSubKeyPushTargetDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString applicationUri =
         readSimpleField(
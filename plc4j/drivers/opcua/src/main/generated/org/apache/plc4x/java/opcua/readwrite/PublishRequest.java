@@ -65,7 +65,7 @@ public class PublishRequest extends ExtensionObjectDefinition implements Message
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PublishRequest");
 
     // Simple Field (requestHeader)
@@ -96,10 +96,9 @@ public class PublishRequest extends ExtensionObjectDefinition implements Message
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PublishRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -111,8 +110,7 @@ public class PublishRequest extends ExtensionObjectDefinition implements Message
     if (subscriptionAcknowledgements != null) {
       int i = 0;
       for (SubscriptionAcknowledgement element : subscriptionAcknowledgements) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= subscriptionAcknowledgements.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= subscriptionAcknowledgements.size());
       }
     }
 
@@ -123,7 +121,7 @@ public class PublishRequest extends ExtensionObjectDefinition implements Message
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("PublishRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     RequestHeader requestHeader =
         readSimpleField(
@@ -65,7 +65,7 @@ public class PublishedActionDataType extends ExtensionObjectDefinition implement
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PublishedActionDataType");
 
     // Simple Field (requestDataSetMetaData)
@@ -89,10 +89,9 @@ public class PublishedActionDataType extends ExtensionObjectDefinition implement
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PublishedActionDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestDataSetMetaData)
     lengthInBits += requestDataSetMetaData.getLengthInBits();
@@ -104,8 +103,7 @@ public class PublishedActionDataType extends ExtensionObjectDefinition implement
     if (actionTargets != null) {
       int i = 0;
       for (ActionTargetDataType element : actionTargets) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= actionTargets.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= actionTargets.size());
       }
     }
 
@@ -116,7 +114,7 @@ public class PublishedActionDataType extends ExtensionObjectDefinition implement
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("PublishedActionDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     DataSetMetaDataType requestDataSetMetaData =
         readSimpleField(
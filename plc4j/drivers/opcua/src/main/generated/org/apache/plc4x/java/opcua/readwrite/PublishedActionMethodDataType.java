@@ -73,7 +73,7 @@ public class PublishedActionMethodDataType extends ExtensionObjectDefinition imp
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PublishedActionMethodDataType");
 
     // Simple Field (requestDataSetMetaData)
@@ -106,10 +106,9 @@ public class PublishedActionMethodDataType extends ExtensionObjectDefinition imp
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PublishedActionMethodDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestDataSetMetaData)
     lengthInBits += requestDataSetMetaData.getLengthInBits();
@@ -121,8 +120,7 @@ public class PublishedActionMethodDataType extends ExtensionObjectDefinition imp
     if (actionTargets != null) {
       int i = 0;
       for (ActionTargetDataType element : actionTargets) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= actionTargets.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= actionTargets.size());
       }
     }
 
@@ -133,8 +131,7 @@ public class PublishedActionMethodDataType extends ExtensionObjectDefinition imp
     if (actionMethods != null) {
       int i = 0;
       for (ActionMethodDataType element : actionMethods) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= actionMethods.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= actionMethods.size());
       }
     }
 
@@ -145,7 +142,7 @@ public class PublishedActionMethodDataType extends ExtensionObjectDefinition imp
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("PublishedActionMethodDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     DataSetMetaDataType requestDataSetMetaData =
         readSimpleField(
@@ -58,7 +58,7 @@ public class PublishedDataItemsDataType extends ExtensionObjectDefinition implem
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PublishedDataItemsDataType");
 
     // Implicit Field (noOfPublishedData) (Used for parsing, but its value is not stored as it's
@@ -79,10 +79,9 @@ public class PublishedDataItemsDataType extends ExtensionObjectDefinition implem
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PublishedDataItemsDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (noOfPublishedData)
     lengthInBits += 32;
@@ -91,8 +90,7 @@ public class PublishedDataItemsDataType extends ExtensionObjectDefinition implem
     if (publishedData != null) {
       int i = 0;
       for (PublishedVariableDataType element : publishedData) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= publishedData.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= publishedData.size());
       }
     }
 
@@ -103,7 +101,7 @@ public class PublishedDataItemsDataType extends ExtensionObjectDefinition implem
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("PublishedDataItemsDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int noOfPublishedData = readImplicitField("noOfPublishedData", readSignedInt(readBuffer, 32));
 
@@ -87,7 +87,7 @@ public class PublishedDataSetDataType extends ExtensionObjectDefinition implemen
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PublishedDataSetDataType");
 
     // Simple Field (name)
@@ -126,10 +126,9 @@ public class PublishedDataSetDataType extends ExtensionObjectDefinition implemen
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PublishedDataSetDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -141,8 +140,7 @@ public class PublishedDataSetDataType extends ExtensionObjectDefinition implemen
     if (dataSetFolder != null) {
       int i = 0;
       for (PascalString element : dataSetFolder) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= dataSetFolder.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= dataSetFolder.size());
       }
     }
 
@@ -156,8 +154,7 @@ public class PublishedDataSetDataType extends ExtensionObjectDefinition implemen
     if (extensionFields != null) {
       int i = 0;
       for (KeyValuePair element : extensionFields) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= extensionFields.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= extensionFields.size());
       }
     }
 
@@ -171,7 +168,7 @@ public class PublishedDataSetDataType extends ExtensionObjectDefinition implemen
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("PublishedDataSetDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString name =
         readSimpleField(
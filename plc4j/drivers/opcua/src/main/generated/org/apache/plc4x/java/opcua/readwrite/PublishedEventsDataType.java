@@ -71,7 +71,7 @@ public class PublishedEventsDataType extends ExtensionObjectDefinition implement
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PublishedEventsDataType");
 
     // Simple Field (eventNotifier)
@@ -98,10 +98,9 @@ public class PublishedEventsDataType extends ExtensionObjectDefinition implement
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PublishedEventsDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (eventNotifier)
     lengthInBits += eventNotifier.getLengthInBits();
@@ -113,8 +112,7 @@ public class PublishedEventsDataType extends ExtensionObjectDefinition implement
     if (selectedFields != null) {
       int i = 0;
       for (SimpleAttributeOperand element : selectedFields) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= selectedFields.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= selectedFields.size());
       }
     }
 
@@ -128,7 +126,7 @@ public class PublishedEventsDataType extends ExtensionObjectDefinition implement
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("PublishedEventsDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NodeId eventNotifier =
         readSimpleField(
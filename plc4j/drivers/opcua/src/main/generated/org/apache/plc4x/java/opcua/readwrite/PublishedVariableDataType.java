@@ -108,7 +108,7 @@ public class PublishedVariableDataType extends ExtensionObjectDefinition impleme
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PublishedVariableDataType");
 
     // Simple Field (publishedVariable)
@@ -151,10 +151,9 @@ public class PublishedVariableDataType extends ExtensionObjectDefinition impleme
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PublishedVariableDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (publishedVariable)
     lengthInBits += publishedVariable.getLengthInBits();
@@ -184,8 +183,7 @@ public class PublishedVariableDataType extends ExtensionObjectDefinition impleme
     if (metaDataProperties != null) {
       int i = 0;
       for (QualifiedName element : metaDataProperties) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= metaDataProperties.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= metaDataProperties.size());
       }
     }
 
@@ -196,7 +194,7 @@ public class PublishedVariableDataType extends ExtensionObjectDefinition impleme
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("PublishedVariableDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NodeId publishedVariable =
         readSimpleField(
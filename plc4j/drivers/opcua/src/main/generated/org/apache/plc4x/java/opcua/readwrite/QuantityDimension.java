@@ -108,7 +108,7 @@ public class QuantityDimension extends ExtensionObjectDefinition implements Mess
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("QuantityDimension");
 
     // Simple Field (massExponent)
@@ -151,43 +151,16 @@ public class QuantityDimension extends ExtensionObjectDefinition implements Mess
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    QuantityDimension _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (massExponent)
-    lengthInBits += 8;
-
-    // Simple field (lengthExponent)
-    lengthInBits += 8;
-
-    // Simple field (timeExponent)
-    lengthInBits += 8;
-
-    // Simple field (electricCurrentExponent)
-    lengthInBits += 8;
-
-    // Simple field (amountOfSubstanceExponent)
-    lengthInBits += 8;
-
-    // Simple field (luminousIntensityExponent)
-    lengthInBits += 8;
-
-    // Simple field (absoluteTemperatureExponent)
-    lengthInBits += 8;
-
-    // Simple field (dimensionlessExponent)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 64;
   }
 
   public static ExtensionObjectDefinitionBuilder staticParseExtensionObjectDefinitionBuilder(
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("QuantityDimension");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte massExponent = readSimpleField("massExponent", readSignedByte(readBuffer, 8));
 
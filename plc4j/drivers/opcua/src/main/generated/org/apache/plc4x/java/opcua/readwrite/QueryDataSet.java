@@ -71,7 +71,7 @@ public class QueryDataSet extends ExtensionObjectDefinition implements Message {
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("QueryDataSet");
 
     // Simple Field (nodeId)
@@ -97,10 +97,9 @@ public class QueryDataSet extends ExtensionObjectDefinition implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     QueryDataSet _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nodeId)
     lengthInBits += nodeId.getLengthInBits();
@@ -115,8 +114,7 @@ public class QueryDataSet extends ExtensionObjectDefinition implements Message {
     if (values != null) {
       int i = 0;
       for (Variant element : values) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= values.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= values.size());
       }
     }
 
@@ -127,7 +125,7 @@ public class QueryDataSet extends ExtensionObjectDefinition implements Message {
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("QueryDataSet");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ExpandedNodeId nodeId =
         readSimpleField(
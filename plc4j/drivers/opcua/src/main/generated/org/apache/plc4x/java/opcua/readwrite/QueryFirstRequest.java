@@ -94,7 +94,7 @@ public class QueryFirstRequest extends ExtensionObjectDefinition implements Mess
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("QueryFirstRequest");
 
     // Simple Field (requestHeader)
@@ -131,10 +131,9 @@ public class QueryFirstRequest extends ExtensionObjectDefinition implements Mess
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     QueryFirstRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -149,8 +148,7 @@ public class QueryFirstRequest extends ExtensionObjectDefinition implements Mess
     if (nodeTypes != null) {
       int i = 0;
       for (NodeTypeDescription element : nodeTypes) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= nodeTypes.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= nodeTypes.size());
       }
     }
 
@@ -170,7 +168,7 @@ public class QueryFirstRequest extends ExtensionObjectDefinition implements Mess
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("QueryFirstRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     RequestHeader requestHeader =
         readSimpleField(
@@ -94,7 +94,7 @@ public class QueryFirstResponse extends ExtensionObjectDefinition implements Mes
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("QueryFirstResponse");
 
     // Simple Field (responseHeader)
@@ -142,10 +142,9 @@ public class QueryFirstResponse extends ExtensionObjectDefinition implements Mes
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     QueryFirstResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -157,8 +156,7 @@ public class QueryFirstResponse extends ExtensionObjectDefinition implements Mes
     if (queryDataSets != null) {
       int i = 0;
       for (QueryDataSet element : queryDataSets) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= queryDataSets.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= queryDataSets.size());
       }
     }
 
@@ -172,8 +170,7 @@ public class QueryFirstResponse extends ExtensionObjectDefinition implements Mes
     if (parsingResults != null) {
       int i = 0;
       for (ParsingResult element : parsingResults) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= parsingResults.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= parsingResults.size());
       }
     }
 
@@ -184,8 +181,7 @@ public class QueryFirstResponse extends ExtensionObjectDefinition implements Mes
     if (diagnosticInfos != null) {
       int i = 0;
       for (DiagnosticInfo element : diagnosticInfos) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= diagnosticInfos.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= diagnosticInfos.size());
       }
     }
 
@@ -199,7 +195,7 @@ public class QueryFirstResponse extends ExtensionObjectDefinition implements Mes
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("QueryFirstResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ResponseHeader responseHeader =
         readSimpleField(
@@ -58,7 +58,7 @@ public class ReadAnnotationDataDetails extends ExtensionObjectDefinition impleme
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ReadAnnotationDataDetails");
 
     // Implicit Field (noOfReqTimes) (Used for parsing, but its value is not stored as it's
@@ -78,10 +78,9 @@ public class ReadAnnotationDataDetails extends ExtensionObjectDefinition impleme
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ReadAnnotationDataDetails _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (noOfReqTimes)
     lengthInBits += 32;
@@ -98,7 +97,7 @@ public class ReadAnnotationDataDetails extends ExtensionObjectDefinition impleme
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ReadAnnotationDataDetails");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int noOfReqTimes = readImplicitField("noOfReqTimes", readSignedInt(readBuffer, 32));
 
@@ -87,7 +87,7 @@ public class ReadEventDetailsSorted extends ExtensionObjectDefinition implements
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ReadEventDetailsSorted");
 
     // Simple Field (numValuesPerNode)
@@ -119,10 +119,9 @@ public class ReadEventDetailsSorted extends ExtensionObjectDefinition implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ReadEventDetailsSorted _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (numValuesPerNode)
     lengthInBits += 32;
@@ -143,8 +142,7 @@ public class ReadEventDetailsSorted extends ExtensionObjectDefinition implements
     if (sortClause != null) {
       int i = 0;
       for (SortRuleElement element : sortClause) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= sortClause.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= sortClause.size());
       }
     }
 
@@ -155,7 +153,7 @@ public class ReadEventDetailsSorted extends ExtensionObjectDefinition implements
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ReadEventDetailsSorted");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long numValuesPerNode = readSimpleField("numValuesPerNode", readUnsignedLong(readBuffer, 32));
 
@@ -87,7 +87,7 @@ public class ReadProcessedDetails extends ExtensionObjectDefinition implements M
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ReadProcessedDetails");
 
     // Simple Field (startTime)
@@ -120,10 +120,9 @@ public class ReadProcessedDetails extends ExtensionObjectDefinition implements M
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ReadProcessedDetails _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (startTime)
     lengthInBits += 64;
@@ -141,8 +140,7 @@ public class ReadProcessedDetails extends ExtensionObjectDefinition implements M
     if (aggregateType != null) {
       int i = 0;
       for (NodeId element : aggregateType) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= aggregateType.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= aggregateType.size());
       }
     }
 
@@ -156,7 +154,7 @@ public class ReadProcessedDetails extends ExtensionObjectDefinition implements M
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ReadProcessedDetails");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long startTime = readSimpleField("startTime", readSignedLong(readBuffer, 64));
 
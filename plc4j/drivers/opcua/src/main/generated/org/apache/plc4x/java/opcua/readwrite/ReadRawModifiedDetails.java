@@ -87,7 +87,7 @@ public class ReadRawModifiedDetails extends ExtensionObjectDefinition implements
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ReadRawModifiedDetails");
 
     // Reserved Field (reserved)
@@ -120,40 +120,16 @@ public class ReadRawModifiedDetails extends ExtensionObjectDefinition implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ReadRawModifiedDetails _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Reserved Field (reserved)
-    lengthInBits += 7;
-
-    // Simple field (isReadModified)
-    lengthInBits += 1;
-
-    // Simple field (startTime)
-    lengthInBits += 64;
-
-    // Simple field (endTime)
-    lengthInBits += 64;
-
-    // Simple field (numValuesPerNode)
-    lengthInBits += 32;
-
-    // Reserved Field (reserved)
-    lengthInBits += 7;
-
-    // Simple field (returnBounds)
-    lengthInBits += 1;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 176;
   }
 
   public static ExtensionObjectDefinitionBuilder staticParseExtensionObjectDefinitionBuilder(
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ReadRawModifiedDetails");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Byte reservedField0 =
         readReservedField("reserved", readUnsignedByte(readBuffer, 7), (byte) 0x00);
@@ -122,7 +122,7 @@ public class ReaderGroupDataType extends ExtensionObjectDefinition implements Me
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ReaderGroupDataType");
 
     // Simple Field (name)
@@ -194,10 +194,9 @@ public class ReaderGroupDataType extends ExtensionObjectDefinition implements Me
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ReaderGroupDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -221,8 +220,7 @@ public class ReaderGroupDataType extends ExtensionObjectDefinition implements Me
     if (securityKeyServices != null) {
       int i = 0;
       for (EndpointDescription element : securityKeyServices) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= securityKeyServices.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= securityKeyServices.size());
       }
     }
 
@@ -236,8 +234,7 @@ public class ReaderGroupDataType extends ExtensionObjectDefinition implements Me
     if (groupProperties != null) {
       int i = 0;
       for (KeyValuePair element : groupProperties) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= groupProperties.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= groupProperties.size());
       }
     }
 
@@ -254,8 +251,7 @@ public class ReaderGroupDataType extends ExtensionObjectDefinition implements Me
     if (dataSetReaders != null) {
       int i = 0;
       for (DataSetReaderDataType element : dataSetReaders) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= dataSetReaders.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= dataSetReaders.size());
       }
     }
 
@@ -266,7 +262,7 @@ public class ReaderGroupDataType extends ExtensionObjectDefinition implements Me
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ReaderGroupDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString name =
         readSimpleField(
@@ -64,7 +64,7 @@ public class RegisterNodesResponse extends ExtensionObjectDefinition implements
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("RegisterNodesResponse");
 
     // Simple Field (responseHeader)
@@ -89,10 +89,9 @@ public class RegisterNodesResponse extends ExtensionObjectDefinition implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     RegisterNodesResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -104,8 +103,7 @@ public class RegisterNodesResponse extends ExtensionObjectDefinition implements
     if (registeredNodeIds != null) {
       int i = 0;
       for (NodeId element : registeredNodeIds) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= registeredNodeIds.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= registeredNodeIds.size());
       }
     }
 
@@ -116,7 +114,7 @@ public class RegisterNodesResponse extends ExtensionObjectDefinition implements
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("RegisterNodesResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ResponseHeader responseHeader =
         readSimpleField(
@@ -73,7 +73,7 @@ public class RegisterServer2Request extends ExtensionObjectDefinition implements
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("RegisterServer2Request");
 
     // Simple Field (requestHeader)
@@ -104,10 +104,9 @@ public class RegisterServer2Request extends ExtensionObjectDefinition implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     RegisterServer2Request _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -122,8 +121,7 @@ public class RegisterServer2Request extends ExtensionObjectDefinition implements
     if (discoveryConfiguration != null) {
       int i = 0;
       for (ExtensionObject element : discoveryConfiguration) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= discoveryConfiguration.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= discoveryConfiguration.size());
       }
     }
 
@@ -134,7 +132,7 @@ public class RegisterServer2Request extends ExtensionObjectDefinition implements
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("RegisterServer2Request");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     RequestHeader requestHeader =
         readSimpleField(
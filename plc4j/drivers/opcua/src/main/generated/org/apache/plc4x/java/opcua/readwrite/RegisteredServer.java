@@ -108,7 +108,7 @@ public class RegisteredServer extends ExtensionObjectDefinition implements Messa
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("RegisteredServer");
 
     // Simple Field (serverUri)
@@ -163,10 +163,9 @@ public class RegisteredServer extends ExtensionObjectDefinition implements Messa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     RegisteredServer _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (serverUri)
     lengthInBits += serverUri.getLengthInBits();
@@ -181,8 +180,7 @@ public class RegisteredServer extends ExtensionObjectDefinition implements Messa
     if (serverNames != null) {
       int i = 0;
       for (LocalizedText element : serverNames) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= serverNames.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= serverNames.size());
       }
     }
 
@@ -199,8 +197,7 @@ public class RegisteredServer extends ExtensionObjectDefinition implements Messa
     if (discoveryUrls != null) {
       int i = 0;
       for (PascalString element : discoveryUrls) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= discoveryUrls.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= discoveryUrls.size());
       }
     }
 
@@ -220,7 +217,7 @@ public class RegisteredServer extends ExtensionObjectDefinition implements Messa
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("RegisteredServer");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString serverUri =
         readSimpleField(
@@ -94,7 +94,7 @@ public class ResponseHeader extends ExtensionObjectDefinition implements Message
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ResponseHeader");
 
     // Simple Field (timestamp)
@@ -129,10 +129,9 @@ public class ResponseHeader extends ExtensionObjectDefinition implements Message
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ResponseHeader _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timestamp)
     lengthInBits += 64;
@@ -153,8 +152,7 @@ public class ResponseHeader extends ExtensionObjectDefinition implements Message
     if (stringTable != null) {
       int i = 0;
       for (PascalString element : stringTable) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= stringTable.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= stringTable.size());
       }
     }
 
@@ -168,7 +166,7 @@ public class ResponseHeader extends ExtensionObjectDefinition implements Message
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ResponseHeader");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long timestamp = readSimpleField("timestamp", readSignedLong(readBuffer, 64));
 
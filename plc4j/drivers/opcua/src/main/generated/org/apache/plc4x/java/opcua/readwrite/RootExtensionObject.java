@@ -58,7 +58,7 @@ public class RootExtensionObject extends ExtensionObject implements Message {
   protected void serializeExtensionObjectChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("RootExtensionObject");
 
     // Simple Field (body)
@@ -73,10 +73,9 @@ public class RootExtensionObject extends ExtensionObject implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     RootExtensionObject _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (body)
     lengthInBits += body.getLengthInBits();
@@ -89,7 +88,7 @@ public class RootExtensionObject extends ExtensionObject implements Message {
       throws ParseException {
     readBuffer.pullContext("RootExtensionObject");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ExtensionObjectDefinition body =
         readSimpleField(
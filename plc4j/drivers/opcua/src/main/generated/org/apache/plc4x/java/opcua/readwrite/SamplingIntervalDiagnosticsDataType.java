@@ -81,7 +81,7 @@ public class SamplingIntervalDiagnosticsDataType extends ExtensionObjectDefiniti
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SamplingIntervalDiagnosticsDataType");
 
     // Simple Field (samplingInterval)
@@ -109,31 +109,16 @@ public class SamplingIntervalDiagnosticsDataType extends ExtensionObjectDefiniti
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    SamplingIntervalDiagnosticsDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (samplingInterval)
-    lengthInBits += 64;
-
-    // Simple field (monitoredItemCount)
-    lengthInBits += 32;
-
-    // Simple field (maxMonitoredItemCount)
-    lengthInBits += 32;
-
-    // Simple field (disabledMonitoredItemCount)
-    lengthInBits += 32;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 160;
   }
 
   public static ExtensionObjectDefinitionBuilder staticParseExtensionObjectDefinitionBuilder(
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("SamplingIntervalDiagnosticsDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     double samplingInterval = readSimpleField("samplingInterval", readDouble(readBuffer, 64));
 
@@ -115,7 +115,7 @@ public class SecurityGroupDataType extends ExtensionObjectDefinition implements
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SecurityGroupDataType");
 
     // Simple Field (name)
@@ -173,10 +173,9 @@ public class SecurityGroupDataType extends ExtensionObjectDefinition implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     SecurityGroupDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -188,8 +187,7 @@ public class SecurityGroupDataType extends ExtensionObjectDefinition implements
     if (securityGroupFolder != null) {
       int i = 0;
       for (PascalString element : securityGroupFolder) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= securityGroupFolder.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= securityGroupFolder.size());
       }
     }
 
@@ -215,8 +213,7 @@ public class SecurityGroupDataType extends ExtensionObjectDefinition implements
     if (rolePermissions != null) {
       int i = 0;
       for (RolePermissionType element : rolePermissions) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= rolePermissions.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= rolePermissions.size());
       }
     }
 
@@ -227,8 +224,7 @@ public class SecurityGroupDataType extends ExtensionObjectDefinition implements
     if (groupProperties != null) {
       int i = 0;
       for (KeyValuePair element : groupProperties) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= groupProperties.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= groupProperties.size());
       }
     }
 
@@ -239,7 +235,7 @@ public class SecurityGroupDataType extends ExtensionObjectDefinition implements
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("SecurityGroupDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString name =
         readSimpleField(
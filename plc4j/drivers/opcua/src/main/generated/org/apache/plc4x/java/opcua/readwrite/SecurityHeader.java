@@ -57,7 +57,7 @@ public class SecurityHeader implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SecurityHeader");
 
     // Simple Field (secureChannelId)
@@ -76,23 +76,18 @@ public class SecurityHeader implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    SecurityHeader _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (secureChannelId)
-    lengthInBits += 32;
-
-    // Simple field (secureTokenId)
-    lengthInBits += 32;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 64;
   }
 
   public static SecurityHeader staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("SecurityHeader");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long secureChannelId = readSimpleField("secureChannelId", readUnsignedLong(readBuffer, 32));
 
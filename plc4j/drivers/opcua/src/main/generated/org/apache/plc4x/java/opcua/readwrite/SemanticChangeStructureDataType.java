@@ -64,7 +64,7 @@ public class SemanticChangeStructureDataType extends ExtensionObjectDefinition i
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SemanticChangeStructureDataType");
 
     // Simple Field (affected)
@@ -82,10 +82,9 @@ public class SemanticChangeStructureDataType extends ExtensionObjectDefinition i
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     SemanticChangeStructureDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (affected)
     lengthInBits += affected.getLengthInBits();
@@ -100,7 +99,7 @@ public class SemanticChangeStructureDataType extends ExtensionObjectDefinition i
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("SemanticChangeStructureDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NodeId affected =
         readSimpleField("affected", readComplex(() -> NodeId.staticParse(readBuffer), readBuffer));
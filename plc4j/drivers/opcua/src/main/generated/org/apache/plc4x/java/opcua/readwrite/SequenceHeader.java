@@ -57,7 +57,7 @@ public class SequenceHeader implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SequenceHeader");
 
     // Simple Field (sequenceNumber)
@@ -76,23 +76,18 @@ public class SequenceHeader implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    SequenceHeader _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (sequenceNumber)
-    lengthInBits += 32;
-
-    // Simple field (requestId)
-    lengthInBits += 32;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 64;
   }
 
   public static SequenceHeader staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("SequenceHeader");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int sequenceNumber = readSimpleField("sequenceNumber", readSignedInt(readBuffer, 32));
 
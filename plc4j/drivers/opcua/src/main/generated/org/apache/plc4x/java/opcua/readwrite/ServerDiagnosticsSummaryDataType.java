@@ -136,7 +136,7 @@ public class ServerDiagnosticsSummaryDataType extends ExtensionObjectDefinition
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ServerDiagnosticsSummaryDataType");
 
     // Simple Field (serverViewCount)
@@ -200,55 +200,16 @@ public class ServerDiagnosticsSummaryDataType extends ExtensionObjectDefinition
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    ServerDiagnosticsSummaryDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (serverViewCount)
-    lengthInBits += 32;
-
-    // Simple field (currentSessionCount)
-    lengthInBits += 32;
-
-    // Simple field (cumulatedSessionCount)
-    lengthInBits += 32;
-
-    // Simple field (securityRejectedSessionCount)
-    lengthInBits += 32;
-
-    // Simple field (rejectedSessionCount)
-    lengthInBits += 32;
-
-    // Simple field (sessionTimeoutCount)
-    lengthInBits += 32;
-
-    // Simple field (sessionAbortCount)
-    lengthInBits += 32;
-
-    // Simple field (currentSubscriptionCount)
-    lengthInBits += 32;
-
-    // Simple field (cumulatedSubscriptionCount)
-    lengthInBits += 32;
-
-    // Simple field (publishingIntervalCount)
-    lengthInBits += 32;
-
-    // Simple field (securityRejectedRequestsCount)
-    lengthInBits += 32;
-
-    // Simple field (rejectedRequestsCount)
-    lengthInBits += 32;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 384;
   }
 
   public static ExtensionObjectDefinitionBuilder staticParseExtensionObjectDefinitionBuilder(
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ServerDiagnosticsSummaryDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long serverViewCount = readSimpleField("serverViewCount", readUnsignedLong(readBuffer, 32));
 
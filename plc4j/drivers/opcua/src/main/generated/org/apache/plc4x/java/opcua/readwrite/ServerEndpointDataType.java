@@ -122,7 +122,7 @@ public class ServerEndpointDataType extends ExtensionObjectDefinition implements
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ServerEndpointDataType");
 
     // Simple Field (name)
@@ -205,10 +205,9 @@ public class ServerEndpointDataType extends ExtensionObjectDefinition implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ServerEndpointDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -220,8 +219,7 @@ public class ServerEndpointDataType extends ExtensionObjectDefinition implements
     if (recordProperties != null) {
       int i = 0;
       for (KeyValuePair element : recordProperties) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= recordProperties.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= recordProperties.size());
       }
     }
 
@@ -232,8 +230,7 @@ public class ServerEndpointDataType extends ExtensionObjectDefinition implements
     if (discoveryUrls != null) {
       int i = 0;
       for (PascalString element : discoveryUrls) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= discoveryUrls.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= discoveryUrls.size());
       }
     }
 
@@ -250,8 +247,7 @@ public class ServerEndpointDataType extends ExtensionObjectDefinition implements
     if (endpointUrls != null) {
       int i = 0;
       for (PascalString element : endpointUrls) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= endpointUrls.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= endpointUrls.size());
       }
     }
 
@@ -262,8 +258,7 @@ public class ServerEndpointDataType extends ExtensionObjectDefinition implements
     if (securitySettingNames != null) {
       int i = 0;
       for (PascalString element : securitySettingNames) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= securitySettingNames.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= securitySettingNames.size());
       }
     }
 
@@ -277,8 +272,7 @@ public class ServerEndpointDataType extends ExtensionObjectDefinition implements
     if (userTokenSettingNames != null) {
       int i = 0;
       for (PascalString element : userTokenSettingNames) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= userTokenSettingNames.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= userTokenSettingNames.size());
       }
     }
 
@@ -289,8 +283,7 @@ public class ServerEndpointDataType extends ExtensionObjectDefinition implements
     if (reverseConnectUrls != null) {
       int i = 0;
       for (PascalString element : reverseConnectUrls) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= reverseConnectUrls.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= reverseConnectUrls.size());
       }
     }
 
@@ -301,7 +294,7 @@ public class ServerEndpointDataType extends ExtensionObjectDefinition implements
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ServerEndpointDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString name =
         readSimpleField(
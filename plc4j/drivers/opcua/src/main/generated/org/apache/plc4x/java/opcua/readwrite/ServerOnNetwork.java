@@ -80,7 +80,7 @@ public class ServerOnNetwork extends ExtensionObjectDefinition implements Messag
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("ServerOnNetwork");
 
     // Simple Field (recordId)
@@ -111,10 +111,9 @@ public class ServerOnNetwork extends ExtensionObjectDefinition implements Messag
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     ServerOnNetwork _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (recordId)
     lengthInBits += 32;
@@ -132,8 +131,7 @@ public class ServerOnNetwork extends ExtensionObjectDefinition implements Messag
     if (serverCapabilities != null) {
       int i = 0;
       for (PascalString element : serverCapabilities) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= serverCapabilities.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= serverCapabilities.size());
       }
     }
 
@@ -144,7 +142,7 @@ public class ServerOnNetwork extends ExtensionObjectDefinition implements Messag
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("ServerOnNetwork");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long recordId = readSimpleField("recordId", readUnsignedLong(readBuffer, 32));
 
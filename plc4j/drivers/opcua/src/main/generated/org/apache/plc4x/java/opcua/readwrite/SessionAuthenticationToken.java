@@ -43,7 +43,7 @@ public class SessionAuthenticationToken implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SessionAuthenticationToken");
 
     writeBuffer.popContext("SessionAuthenticationToken");
@@ -56,18 +56,19 @@ public class SessionAuthenticationToken implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    SessionAuthenticationToken _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 0;
   }
 
   public static SessionAuthenticationToken staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("SessionAuthenticationToken");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("SessionAuthenticationToken");
     // Create the instance
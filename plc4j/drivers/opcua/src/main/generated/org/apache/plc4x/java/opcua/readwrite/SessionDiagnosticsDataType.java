@@ -353,7 +353,7 @@ public class SessionDiagnosticsDataType extends ExtensionObjectDefinition implem
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SessionDiagnosticsDataType");
 
     // Simple Field (sessionId)
@@ -518,10 +518,9 @@ public class SessionDiagnosticsDataType extends ExtensionObjectDefinition implem
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     SessionDiagnosticsDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sessionId)
     lengthInBits += sessionId.getLengthInBits();
@@ -545,8 +544,7 @@ public class SessionDiagnosticsDataType extends ExtensionObjectDefinition implem
     if (localeIds != null) {
       int i = 0;
       for (PascalString element : localeIds) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= localeIds.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= localeIds.size());
       }
     }
 
@@ -668,7 +666,7 @@ public class SessionDiagnosticsDataType extends ExtensionObjectDefinition implem
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("SessionDiagnosticsDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NodeId sessionId =
         readSimpleField("sessionId", readComplex(() -> NodeId.staticParse(readBuffer), readBuffer));
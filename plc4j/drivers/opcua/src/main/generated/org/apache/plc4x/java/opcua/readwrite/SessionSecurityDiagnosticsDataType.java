@@ -116,7 +116,7 @@ public class SessionSecurityDiagnosticsDataType extends ExtensionObjectDefinitio
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SessionSecurityDiagnosticsDataType");
 
     // Simple Field (sessionId)
@@ -169,10 +169,9 @@ public class SessionSecurityDiagnosticsDataType extends ExtensionObjectDefinitio
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     SessionSecurityDiagnosticsDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sessionId)
     lengthInBits += sessionId.getLengthInBits();
@@ -187,8 +186,7 @@ public class SessionSecurityDiagnosticsDataType extends ExtensionObjectDefinitio
     if (clientUserIdHistory != null) {
       int i = 0;
       for (PascalString element : clientUserIdHistory) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= clientUserIdHistory.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= clientUserIdHistory.size());
       }
     }
 
@@ -217,7 +215,7 @@ public class SessionSecurityDiagnosticsDataType extends ExtensionObjectDefinitio
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("SessionSecurityDiagnosticsDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NodeId sessionId =
         readSimpleField("sessionId", readComplex(() -> NodeId.staticParse(readBuffer), readBuffer));
@@ -87,7 +87,7 @@ public class SessionlessInvokeRequestType extends ExtensionObjectDefinition impl
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SessionlessInvokeRequestType");
 
     // Simple Field (urisVersion)
@@ -130,10 +130,9 @@ public class SessionlessInvokeRequestType extends ExtensionObjectDefinition impl
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     SessionlessInvokeRequestType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (urisVersion)
     lengthInBits += 32;
@@ -145,8 +144,7 @@ public class SessionlessInvokeRequestType extends ExtensionObjectDefinition impl
     if (namespaceUris != null) {
       int i = 0;
       for (PascalString element : namespaceUris) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= namespaceUris.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= namespaceUris.size());
       }
     }
 
@@ -157,8 +155,7 @@ public class SessionlessInvokeRequestType extends ExtensionObjectDefinition impl
     if (serverUris != null) {
       int i = 0;
       for (PascalString element : serverUris) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= serverUris.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= serverUris.size());
       }
     }
 
@@ -169,8 +166,7 @@ public class SessionlessInvokeRequestType extends ExtensionObjectDefinition impl
     if (localeIds != null) {
       int i = 0;
       for (PascalString element : localeIds) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= localeIds.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= localeIds.size());
       }
     }
 
@@ -184,7 +180,7 @@ public class SessionlessInvokeRequestType extends ExtensionObjectDefinition impl
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("SessionlessInvokeRequestType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long urisVersion = readSimpleField("urisVersion", readUnsignedLong(readBuffer, 32));
 
@@ -71,7 +71,7 @@ public class SessionlessInvokeResponseType extends ExtensionObjectDefinition imp
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SessionlessInvokeResponseType");
 
     // Implicit Field (noOfNamespaceUris) (Used for parsing, but its value is not stored as it's
@@ -103,10 +103,9 @@ public class SessionlessInvokeResponseType extends ExtensionObjectDefinition imp
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     SessionlessInvokeResponseType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (noOfNamespaceUris)
     lengthInBits += 32;
@@ -115,8 +114,7 @@ public class SessionlessInvokeResponseType extends ExtensionObjectDefinition imp
     if (namespaceUris != null) {
       int i = 0;
       for (PascalString element : namespaceUris) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= namespaceUris.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= namespaceUris.size());
       }
     }
 
@@ -127,8 +125,7 @@ public class SessionlessInvokeResponseType extends ExtensionObjectDefinition imp
     if (serverUris != null) {
       int i = 0;
       for (PascalString element : serverUris) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= serverUris.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= serverUris.size());
       }
     }
 
@@ -142,7 +139,7 @@ public class SessionlessInvokeResponseType extends ExtensionObjectDefinition imp
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("SessionlessInvokeResponseType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int noOfNamespaceUris = readImplicitField("noOfNamespaceUris", readSignedInt(readBuffer, 32));
 
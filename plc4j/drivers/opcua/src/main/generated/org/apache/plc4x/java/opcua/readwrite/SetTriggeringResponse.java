@@ -87,7 +87,7 @@ public class SetTriggeringResponse extends ExtensionObjectDefinition implements
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SetTriggeringResponse");
 
     // Simple Field (responseHeader)
@@ -140,10 +140,9 @@ public class SetTriggeringResponse extends ExtensionObjectDefinition implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     SetTriggeringResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -155,8 +154,7 @@ public class SetTriggeringResponse extends ExtensionObjectDefinition implements
     if (addResults != null) {
       int i = 0;
       for (StatusCode element : addResults) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= addResults.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= addResults.size());
       }
     }
 
@@ -167,8 +165,7 @@ public class SetTriggeringResponse extends ExtensionObjectDefinition implements
     if (addDiagnosticInfos != null) {
       int i = 0;
       for (DiagnosticInfo element : addDiagnosticInfos) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= addDiagnosticInfos.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= addDiagnosticInfos.size());
       }
     }
 
@@ -179,8 +176,7 @@ public class SetTriggeringResponse extends ExtensionObjectDefinition implements
     if (removeResults != null) {
       int i = 0;
       for (StatusCode element : removeResults) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= removeResults.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= removeResults.size());
       }
     }
 
@@ -191,8 +187,7 @@ public class SetTriggeringResponse extends ExtensionObjectDefinition implements
     if (removeDiagnosticInfos != null) {
       int i = 0;
       for (DiagnosticInfo element : removeDiagnosticInfos) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= removeDiagnosticInfos.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= removeDiagnosticInfos.size());
       }
     }
 
@@ -203,7 +198,7 @@ public class SetTriggeringResponse extends ExtensionObjectDefinition implements
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("SetTriggeringResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ResponseHeader responseHeader =
         readSimpleField(
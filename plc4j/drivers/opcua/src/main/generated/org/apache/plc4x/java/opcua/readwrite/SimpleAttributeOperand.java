@@ -80,7 +80,7 @@ public class SimpleAttributeOperand extends ExtensionObjectDefinition implements
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SimpleAttributeOperand");
 
     // Simple Field (typeDefinitionId)
@@ -109,10 +109,9 @@ public class SimpleAttributeOperand extends ExtensionObjectDefinition implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     SimpleAttributeOperand _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (typeDefinitionId)
     lengthInBits += typeDefinitionId.getLengthInBits();
@@ -124,8 +123,7 @@ public class SimpleAttributeOperand extends ExtensionObjectDefinition implements
     if (browsePath != null) {
       int i = 0;
       for (QualifiedName element : browsePath) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= browsePath.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= browsePath.size());
       }
     }
 
@@ -142,7 +140,7 @@ public class SimpleAttributeOperand extends ExtensionObjectDefinition implements
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("SimpleAttributeOperand");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NodeId typeDefinitionId =
         readSimpleField(
@@ -81,7 +81,7 @@ public class StandaloneSubscribedDataSetDataType extends ExtensionObjectDefiniti
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("StandaloneSubscribedDataSetDataType");
 
     // Simple Field (name)
@@ -111,10 +111,9 @@ public class StandaloneSubscribedDataSetDataType extends ExtensionObjectDefiniti
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     StandaloneSubscribedDataSetDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -126,8 +125,7 @@ public class StandaloneSubscribedDataSetDataType extends ExtensionObjectDefiniti
     if (dataSetFolder != null) {
       int i = 0;
       for (PascalString element : dataSetFolder) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= dataSetFolder.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= dataSetFolder.size());
       }
     }
 
@@ -144,7 +142,7 @@ public class StandaloneSubscribedDataSetDataType extends ExtensionObjectDefiniti
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("StandaloneSubscribedDataSetDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString name =
         readSimpleField(
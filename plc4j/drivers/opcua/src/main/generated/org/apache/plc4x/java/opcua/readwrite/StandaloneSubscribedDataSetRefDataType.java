@@ -59,7 +59,7 @@ public class StandaloneSubscribedDataSetRefDataType extends ExtensionObjectDefin
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("StandaloneSubscribedDataSetRefDataType");
 
     // Simple Field (dataSetName)
@@ -74,10 +74,9 @@ public class StandaloneSubscribedDataSetRefDataType extends ExtensionObjectDefin
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     StandaloneSubscribedDataSetRefDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dataSetName)
     lengthInBits += dataSetName.getLengthInBits();
@@ -89,7 +88,7 @@ public class StandaloneSubscribedDataSetRefDataType extends ExtensionObjectDefin
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("StandaloneSubscribedDataSetRefDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString dataSetName =
         readSimpleField(
@@ -51,7 +51,7 @@ public class StatusCode implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("StatusCode");
 
     // Simple Field (statusCode)
@@ -67,20 +67,18 @@ public class StatusCode implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    StatusCode _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (statusCode)
-    lengthInBits += 32;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 32;
   }
 
   public static StatusCode staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("StatusCode");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long statusCode = readSimpleField("statusCode", readUnsignedLong(readBuffer, 32));
 
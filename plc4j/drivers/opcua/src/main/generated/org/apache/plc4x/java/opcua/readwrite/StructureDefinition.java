@@ -80,7 +80,7 @@ public class StructureDefinition extends ExtensionObjectDefinition implements Me
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("StructureDefinition");
 
     // Simple Field (defaultEncodingId)
@@ -114,10 +114,9 @@ public class StructureDefinition extends ExtensionObjectDefinition implements Me
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     StructureDefinition _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (defaultEncodingId)
     lengthInBits += defaultEncodingId.getLengthInBits();
@@ -135,8 +134,7 @@ public class StructureDefinition extends ExtensionObjectDefinition implements Me
     if (fields != null) {
       int i = 0;
       for (StructureField element : fields) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= fields.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= fields.size());
       }
     }
 
@@ -147,7 +145,7 @@ public class StructureDefinition extends ExtensionObjectDefinition implements Me
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("StructureDefinition");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NodeId defaultEncodingId =
         readSimpleField(
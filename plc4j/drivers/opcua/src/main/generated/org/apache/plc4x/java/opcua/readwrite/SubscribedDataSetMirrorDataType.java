@@ -65,7 +65,7 @@ public class SubscribedDataSetMirrorDataType extends ExtensionObjectDefinition i
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SubscribedDataSetMirrorDataType");
 
     // Simple Field (parentNodeName)
@@ -89,10 +89,9 @@ public class SubscribedDataSetMirrorDataType extends ExtensionObjectDefinition i
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     SubscribedDataSetMirrorDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (parentNodeName)
     lengthInBits += parentNodeName.getLengthInBits();
@@ -104,8 +103,7 @@ public class SubscribedDataSetMirrorDataType extends ExtensionObjectDefinition i
     if (rolePermissions != null) {
       int i = 0;
       for (RolePermissionType element : rolePermissions) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= rolePermissions.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= rolePermissions.size());
       }
     }
 
@@ -116,7 +114,7 @@ public class SubscribedDataSetMirrorDataType extends ExtensionObjectDefinition i
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("SubscribedDataSetMirrorDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString parentNodeName =
         readSimpleField(
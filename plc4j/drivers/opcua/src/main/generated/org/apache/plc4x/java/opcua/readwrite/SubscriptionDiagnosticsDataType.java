@@ -269,7 +269,7 @@ public class SubscriptionDiagnosticsDataType extends ExtensionObjectDefinition i
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SubscriptionDiagnosticsDataType");
 
     // Simple Field (sessionId)
@@ -411,10 +411,9 @@ public class SubscriptionDiagnosticsDataType extends ExtensionObjectDefinition i
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     SubscriptionDiagnosticsDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sessionId)
     lengthInBits += sessionId.getLengthInBits();
@@ -519,7 +518,7 @@ public class SubscriptionDiagnosticsDataType extends ExtensionObjectDefinition i
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("SubscriptionDiagnosticsDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NodeId sessionId =
         readSimpleField("sessionId", readComplex(() -> NodeId.staticParse(readBuffer), readBuffer));
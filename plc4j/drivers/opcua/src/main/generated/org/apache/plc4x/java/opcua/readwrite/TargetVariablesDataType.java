@@ -58,7 +58,7 @@ public class TargetVariablesDataType extends ExtensionObjectDefinition implement
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TargetVariablesDataType");
 
     // Implicit Field (noOfTargetVariables) (Used for parsing, but its value is not stored as it's
@@ -79,10 +79,9 @@ public class TargetVariablesDataType extends ExtensionObjectDefinition implement
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     TargetVariablesDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (noOfTargetVariables)
     lengthInBits += 32;
@@ -91,8 +90,7 @@ public class TargetVariablesDataType extends ExtensionObjectDefinition implement
     if (targetVariables != null) {
       int i = 0;
       for (FieldTargetDataType element : targetVariables) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= targetVariables.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= targetVariables.size());
       }
     }
 
@@ -103,7 +101,7 @@ public class TargetVariablesDataType extends ExtensionObjectDefinition implement
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("TargetVariablesDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int noOfTargetVariables =
         readImplicitField("noOfTargetVariables", readSignedInt(readBuffer, 32));
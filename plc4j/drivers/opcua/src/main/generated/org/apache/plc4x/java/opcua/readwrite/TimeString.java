@@ -43,7 +43,7 @@ public class TimeString implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TimeString");
 
     writeBuffer.popContext("TimeString");
@@ -56,17 +56,18 @@ public class TimeString implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    TimeString _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 0;
   }
 
   public static TimeString staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("TimeString");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("TimeString");
     // Create the instance
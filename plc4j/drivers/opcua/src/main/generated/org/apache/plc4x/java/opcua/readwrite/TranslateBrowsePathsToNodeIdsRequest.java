@@ -66,7 +66,7 @@ public class TranslateBrowsePathsToNodeIdsRequest extends ExtensionObjectDefinit
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TranslateBrowsePathsToNodeIdsRequest");
 
     // Simple Field (requestHeader)
@@ -89,10 +89,9 @@ public class TranslateBrowsePathsToNodeIdsRequest extends ExtensionObjectDefinit
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     TranslateBrowsePathsToNodeIdsRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -104,8 +103,7 @@ public class TranslateBrowsePathsToNodeIdsRequest extends ExtensionObjectDefinit
     if (browsePaths != null) {
       int i = 0;
       for (BrowsePath element : browsePaths) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= browsePaths.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= browsePaths.size());
       }
     }
 
@@ -116,7 +114,7 @@ public class TranslateBrowsePathsToNodeIdsRequest extends ExtensionObjectDefinit
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("TranslateBrowsePathsToNodeIdsRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     RequestHeader requestHeader =
         readSimpleField(
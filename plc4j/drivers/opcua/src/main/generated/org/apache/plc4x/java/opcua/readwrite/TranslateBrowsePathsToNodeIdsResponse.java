@@ -74,7 +74,7 @@ public class TranslateBrowsePathsToNodeIdsResponse extends ExtensionObjectDefini
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TranslateBrowsePathsToNodeIdsResponse");
 
     // Simple Field (responseHeader)
@@ -106,10 +106,9 @@ public class TranslateBrowsePathsToNodeIdsResponse extends ExtensionObjectDefini
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     TranslateBrowsePathsToNodeIdsResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -121,8 +120,7 @@ public class TranslateBrowsePathsToNodeIdsResponse extends ExtensionObjectDefini
     if (results != null) {
       int i = 0;
       for (BrowsePathResult element : results) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= results.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= results.size());
       }
     }
 
@@ -133,8 +131,7 @@ public class TranslateBrowsePathsToNodeIdsResponse extends ExtensionObjectDefini
     if (diagnosticInfos != null) {
       int i = 0;
       for (DiagnosticInfo element : diagnosticInfos) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= diagnosticInfos.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= diagnosticInfos.size());
       }
     }
 
@@ -145,7 +142,7 @@ public class TranslateBrowsePathsToNodeIdsResponse extends ExtensionObjectDefini
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("TranslateBrowsePathsToNodeIdsResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     ResponseHeader responseHeader =
         readSimpleField(
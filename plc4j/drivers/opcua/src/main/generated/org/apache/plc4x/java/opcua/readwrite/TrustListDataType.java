@@ -87,7 +87,7 @@ public class TrustListDataType extends ExtensionObjectDefinition implements Mess
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TrustListDataType");
 
     // Simple Field (specifiedLists)
@@ -138,10 +138,9 @@ public class TrustListDataType extends ExtensionObjectDefinition implements Mess
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     TrustListDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (specifiedLists)
     lengthInBits += 32;
@@ -153,8 +152,7 @@ public class TrustListDataType extends ExtensionObjectDefinition implements Mess
     if (trustedCertificates != null) {
       int i = 0;
       for (PascalByteString element : trustedCertificates) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= trustedCertificates.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= trustedCertificates.size());
       }
     }
 
@@ -165,8 +163,7 @@ public class TrustListDataType extends ExtensionObjectDefinition implements Mess
     if (trustedCrls != null) {
       int i = 0;
       for (PascalByteString element : trustedCrls) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= trustedCrls.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= trustedCrls.size());
       }
     }
 
@@ -177,8 +174,7 @@ public class TrustListDataType extends ExtensionObjectDefinition implements Mess
     if (issuerCertificates != null) {
       int i = 0;
       for (PascalByteString element : issuerCertificates) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= issuerCertificates.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= issuerCertificates.size());
       }
     }
 
@@ -189,8 +185,7 @@ public class TrustListDataType extends ExtensionObjectDefinition implements Mess
     if (issuerCrls != null) {
       int i = 0;
       for (PascalByteString element : issuerCrls) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= issuerCrls.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= issuerCrls.size());
       }
     }
 
@@ -201,7 +196,7 @@ public class TrustListDataType extends ExtensionObjectDefinition implements Mess
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("TrustListDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long specifiedLists = readSimpleField("specifiedLists", readUnsignedLong(readBuffer, 32));
 
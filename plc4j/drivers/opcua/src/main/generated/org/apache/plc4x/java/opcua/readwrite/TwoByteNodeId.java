@@ -51,7 +51,7 @@ public class TwoByteNodeId implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TwoByteNodeId");
 
     // Simple Field (identifier)
@@ -67,20 +67,18 @@ public class TwoByteNodeId implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    TwoByteNodeId _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (identifier)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static TwoByteNodeId staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("TwoByteNodeId");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short identifier = readSimpleField("identifier", readUnsignedShort(readBuffer, 8));
 
@@ -101,7 +101,7 @@ public class UABinaryFileDataType extends ExtensionObjectDefinition implements M
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("UABinaryFileDataType");
 
     // Implicit Field (noOfNamespaces) (Used for parsing, but its value is not stored as it's
@@ -163,10 +163,9 @@ public class UABinaryFileDataType extends ExtensionObjectDefinition implements M
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     UABinaryFileDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (noOfNamespaces)
     lengthInBits += 32;
@@ -175,8 +174,7 @@ public class UABinaryFileDataType extends ExtensionObjectDefinition implements M
     if (namespaces != null) {
       int i = 0;
       for (PascalString element : namespaces) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= namespaces.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= namespaces.size());
       }
     }
 
@@ -187,8 +185,7 @@ public class UABinaryFileDataType extends ExtensionObjectDefinition implements M
     if (structureDataTypes != null) {
       int i = 0;
       for (StructureDescription element : structureDataTypes) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= structureDataTypes.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= structureDataTypes.size());
       }
     }
 
@@ -199,8 +196,7 @@ public class UABinaryFileDataType extends ExtensionObjectDefinition implements M
     if (enumDataTypes != null) {
       int i = 0;
       for (EnumDescription element : enumDataTypes) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= enumDataTypes.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= enumDataTypes.size());
       }
     }
 
@@ -211,8 +207,7 @@ public class UABinaryFileDataType extends ExtensionObjectDefinition implements M
     if (simpleDataTypes != null) {
       int i = 0;
       for (SimpleTypeDescription element : simpleDataTypes) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= simpleDataTypes.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= simpleDataTypes.size());
       }
     }
 
@@ -226,8 +221,7 @@ public class UABinaryFileDataType extends ExtensionObjectDefinition implements M
     if (fileHeader != null) {
       int i = 0;
       for (KeyValuePair element : fileHeader) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= fileHeader.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= fileHeader.size());
       }
     }
 
@@ -241,7 +235,7 @@ public class UABinaryFileDataType extends ExtensionObjectDefinition implements M
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("UABinaryFileDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int noOfNamespaces = readImplicitField("noOfNamespaces", readSignedInt(readBuffer, 32));
 
@@ -115,7 +115,7 @@ public class UadpDataSetReaderMessageDataType extends ExtensionObjectDefinition
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("UadpDataSetReaderMessageDataType");
 
     // Simple Field (groupVersion)
@@ -169,10 +169,9 @@ public class UadpDataSetReaderMessageDataType extends ExtensionObjectDefinition
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     UadpDataSetReaderMessageDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (groupVersion)
     lengthInBits += 32;
@@ -208,7 +207,7 @@ public class UadpDataSetReaderMessageDataType extends ExtensionObjectDefinition
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("UadpDataSetReaderMessageDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long groupVersion = readSimpleField("groupVersion", readUnsignedLong(readBuffer, 32));
 
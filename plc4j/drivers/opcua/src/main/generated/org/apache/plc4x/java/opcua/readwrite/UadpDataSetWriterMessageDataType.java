@@ -80,7 +80,7 @@ public class UadpDataSetWriterMessageDataType extends ExtensionObjectDefinition
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("UadpDataSetWriterMessageDataType");
 
     // Simple Field (dataSetMessageContentMask)
@@ -112,31 +112,16 @@ public class UadpDataSetWriterMessageDataType extends ExtensionObjectDefinition
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    UadpDataSetWriterMessageDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (dataSetMessageContentMask)
-    lengthInBits += 32;
-
-    // Simple field (configuredSize)
-    lengthInBits += 16;
-
-    // Simple field (networkMessageNumber)
-    lengthInBits += 16;
-
-    // Simple field (dataSetOffset)
-    lengthInBits += 16;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 80;
   }
 
   public static ExtensionObjectDefinitionBuilder staticParseExtensionObjectDefinitionBuilder(
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("UadpDataSetWriterMessageDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     UadpDataSetMessageContentMask dataSetMessageContentMask =
         readEnumField(
@@ -87,7 +87,7 @@ public class UadpWriterGroupMessageDataType extends ExtensionObjectDefinition im
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("UadpWriterGroupMessageDataType");
 
     // Simple Field (groupVersion)
@@ -135,10 +135,9 @@ public class UadpWriterGroupMessageDataType extends ExtensionObjectDefinition im
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     UadpWriterGroupMessageDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (groupVersion)
     lengthInBits += 32;
@@ -167,7 +166,7 @@ public class UadpWriterGroupMessageDataType extends ExtensionObjectDefinition im
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("UadpWriterGroupMessageDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long groupVersion = readSimpleField("groupVersion", readUnsignedLong(readBuffer, 32));
 
@@ -64,7 +64,7 @@ public class UnregisterNodesRequest extends ExtensionObjectDefinition implements
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("UnregisterNodesRequest");
 
     // Simple Field (requestHeader)
@@ -89,10 +89,9 @@ public class UnregisterNodesRequest extends ExtensionObjectDefinition implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     UnregisterNodesRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -104,8 +103,7 @@ public class UnregisterNodesRequest extends ExtensionObjectDefinition implements
     if (nodesToUnregister != null) {
       int i = 0;
       for (NodeId element : nodesToUnregister) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= nodesToUnregister.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= nodesToUnregister.size());
       }
     }
 
@@ -116,7 +114,7 @@ public class UnregisterNodesRequest extends ExtensionObjectDefinition implements
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("UnregisterNodesRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     RequestHeader requestHeader =
         readSimpleField(
@@ -71,7 +71,7 @@ public class UpdateStructureDataDetails extends ExtensionObjectDefinition implem
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("UpdateStructureDataDetails");
 
     // Simple Field (nodeId)
@@ -105,10 +105,9 @@ public class UpdateStructureDataDetails extends ExtensionObjectDefinition implem
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     UpdateStructureDataDetails _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nodeId)
     lengthInBits += nodeId.getLengthInBits();
@@ -123,8 +122,7 @@ public class UpdateStructureDataDetails extends ExtensionObjectDefinition implem
     if (updateValues != null) {
       int i = 0;
       for (DataValue element : updateValues) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= updateValues.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= updateValues.size());
       }
     }
 
@@ -135,7 +133,7 @@ public class UpdateStructureDataDetails extends ExtensionObjectDefinition implem
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("UpdateStructureDataDetails");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     NodeId nodeId =
         readSimpleField("nodeId", readComplex(() -> NodeId.staticParse(readBuffer), readBuffer));
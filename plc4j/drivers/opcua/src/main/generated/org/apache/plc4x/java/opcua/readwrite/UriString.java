@@ -43,7 +43,7 @@ public class UriString implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("UriString");
 
     writeBuffer.popContext("UriString");
@@ -56,17 +56,18 @@ public class UriString implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    UriString _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 0;
   }
 
   public static UriString staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("UriString");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("UriString");
     // Create the instance
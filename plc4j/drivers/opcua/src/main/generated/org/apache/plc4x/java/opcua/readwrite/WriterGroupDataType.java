@@ -164,7 +164,7 @@ public class WriterGroupDataType extends ExtensionObjectDefinition implements Me
   protected void serializeExtensionObjectDefinitionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("WriterGroupDataType");
 
     // Simple Field (name)
@@ -259,10 +259,9 @@ public class WriterGroupDataType extends ExtensionObjectDefinition implements Me
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     WriterGroupDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -286,8 +285,7 @@ public class WriterGroupDataType extends ExtensionObjectDefinition implements Me
     if (securityKeyServices != null) {
       int i = 0;
       for (EndpointDescription element : securityKeyServices) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= securityKeyServices.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= securityKeyServices.size());
       }
     }
 
@@ -301,8 +299,7 @@ public class WriterGroupDataType extends ExtensionObjectDefinition implements Me
     if (groupProperties != null) {
       int i = 0;
       for (KeyValuePair element : groupProperties) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= groupProperties.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= groupProperties.size());
       }
     }
 
@@ -325,8 +322,7 @@ public class WriterGroupDataType extends ExtensionObjectDefinition implements Me
     if (localeIds != null) {
       int i = 0;
       for (PascalString element : localeIds) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= localeIds.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= localeIds.size());
       }
     }
 
@@ -346,8 +342,7 @@ public class WriterGroupDataType extends ExtensionObjectDefinition implements Me
     if (dataSetWriters != null) {
       int i = 0;
       for (DataSetWriterDataType element : dataSetWriters) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= dataSetWriters.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= dataSetWriters.size());
       }
     }
 
@@ -358,7 +353,7 @@ public class WriterGroupDataType extends ExtensionObjectDefinition implements Me
       ReadBuffer readBuffer, Integer extensionId) throws ParseException {
     readBuffer.pullContext("WriterGroupDataType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PascalString name =
         readSimpleField(
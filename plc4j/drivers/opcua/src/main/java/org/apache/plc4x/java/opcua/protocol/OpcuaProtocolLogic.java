@@ -140,6 +140,7 @@ public class OpcuaProtocolLogic extends Plc4xProtocolBase<OpcuaAPU> implements H
 
     @Override
     public void onConnect(ConversationContext<OpcuaAPU> context) {
+        useDriverRuntimeExecutor(tm);
         LOGGER.debug("Opcua Driver running in ACTIVE mode.");
 
         if (this.channel == null) {
@@ -50,7 +50,7 @@ public class Constants implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("Constants");
 
     // Const Field (tcpDefaultPort)
@@ -66,20 +66,18 @@ public class Constants implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    Constants _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (tcpDefaultPort)
-    lengthInBits += 16;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static Constants staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("Constants");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int tcpDefaultPort =
         readConstField("tcpDefaultPort", readUnsignedInt(readBuffer, 16), Constants.TCPDEFAULTPORT);
@@ -65,7 +65,7 @@ public class OpenProtocolMessageAlarmAcknowledgeRev1 extends OpenProtocolMessage
   protected void serializeOpenProtocolMessageAlarmAcknowledgeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageAlarmAcknowledgeRev1");
 
     writeBuffer.popContext("OpenProtocolMessageAlarmAcknowledgeRev1");
@@ -77,12 +77,9 @@ public class OpenProtocolMessageAlarmAcknowledgeRev1 extends OpenProtocolMessage
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageAlarmAcknowledgeRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static OpenProtocolMessageAlarmAcknowledgeBuilder
@@ -90,7 +87,7 @@ public class OpenProtocolMessageAlarmAcknowledgeRev1 extends OpenProtocolMessage
           throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageAlarmAcknowledgeRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("OpenProtocolMessageAlarmAcknowledgeRev1");
     // Create the instance
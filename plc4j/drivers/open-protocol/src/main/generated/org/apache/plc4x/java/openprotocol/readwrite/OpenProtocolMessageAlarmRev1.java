@@ -116,7 +116,7 @@ public class OpenProtocolMessageAlarmRev1 extends OpenProtocolMessageAlarm imple
   protected void serializeOpenProtocolMessageAlarmChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageAlarmRev1");
 
     // Const Field (blockIdErrorCode)
@@ -180,43 +180,16 @@ public class OpenProtocolMessageAlarmRev1 extends OpenProtocolMessageAlarm imple
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageAlarmRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (blockIdErrorCode)
-    lengthInBits += 16;
-
-    // Simple field (errorCode)
-    lengthInBits += 32;
-
-    // Const Field (blockIdControllerReadyStatus)
-    lengthInBits += 16;
-
-    // Simple field (controllerReadyStatus)
-    lengthInBits += 8;
-
-    // Const Field (blockIdToolReadyStatus)
-    lengthInBits += 16;
-
-    // Simple field (toolReadyStatus)
-    lengthInBits += 8;
-
-    // Const Field (blockIdTime)
-    lengthInBits += 16;
-
-    // Simple field (alarmTime)
-    lengthInBits += 152;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 264;
   }
 
   public static OpenProtocolMessageAlarmBuilder staticParseOpenProtocolMessageAlarmBuilder(
       ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageAlarmRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int blockIdErrorCode =
         readConstField(
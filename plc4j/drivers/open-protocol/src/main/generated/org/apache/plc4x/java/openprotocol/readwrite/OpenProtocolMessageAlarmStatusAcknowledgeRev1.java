@@ -65,7 +65,7 @@ public class OpenProtocolMessageAlarmStatusAcknowledgeRev1
   protected void serializeOpenProtocolMessageAlarmStatusAcknowledgeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageAlarmStatusAcknowledgeRev1");
 
     writeBuffer.popContext("OpenProtocolMessageAlarmStatusAcknowledgeRev1");
@@ -77,12 +77,9 @@ public class OpenProtocolMessageAlarmStatusAcknowledgeRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageAlarmStatusAcknowledgeRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static OpenProtocolMessageAlarmStatusAcknowledgeBuilder
@@ -90,7 +87,7 @@ public class OpenProtocolMessageAlarmStatusAcknowledgeRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageAlarmStatusAcknowledgeRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("OpenProtocolMessageAlarmStatusAcknowledgeRev1");
     // Create the instance
@@ -129,7 +129,7 @@ public class OpenProtocolMessageAlarmStatusRev1 extends OpenProtocolMessageAlarm
   protected void serializeOpenProtocolMessageAlarmStatusChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageAlarmStatusRev1");
 
     // Const Field (blockIdAlarmStatus)
@@ -211,42 +211,9 @@ public class OpenProtocolMessageAlarmStatusRev1 extends OpenProtocolMessageAlarm
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageAlarmStatusRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (blockIdAlarmStatus)
-    lengthInBits += 16;
-
-    // Simple field (controllerAlarmStatus)
-    lengthInBits += 8;
-
-    // Const Field (blockIdErrorCode)
-    lengthInBits += 16;
-
-    // Simple field (errorCode)
-    lengthInBits += 32;
-
-    // Const Field (blockIdControllerReadyStatus)
-    lengthInBits += 16;
-
-    // Simple field (controllerReadyStatus)
-    lengthInBits += 8;
-
-    // Const Field (blockIdToolReadyStatus)
-    lengthInBits += 16;
-
-    // Simple field (toolReadyStatus)
-    lengthInBits += 8;
-
-    // Const Field (blockIdTime)
-    lengthInBits += 16;
-
-    // Simple field (alarmTime)
-    lengthInBits += 152;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 288;
   }
 
   public static OpenProtocolMessageAlarmStatusBuilder
@@ -254,7 +221,7 @@ public class OpenProtocolMessageAlarmStatusRev1 extends OpenProtocolMessageAlarm
           throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageAlarmStatusRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int blockIdAlarmStatus =
         readConstField(
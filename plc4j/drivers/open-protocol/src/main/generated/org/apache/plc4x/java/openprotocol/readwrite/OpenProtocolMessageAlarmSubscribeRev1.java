@@ -65,7 +65,7 @@ public class OpenProtocolMessageAlarmSubscribeRev1 extends OpenProtocolMessageAl
   protected void serializeOpenProtocolMessageAlarmSubscribeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageAlarmSubscribeRev1");
 
     writeBuffer.popContext("OpenProtocolMessageAlarmSubscribeRev1");
@@ -77,12 +77,9 @@ public class OpenProtocolMessageAlarmSubscribeRev1 extends OpenProtocolMessageAl
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageAlarmSubscribeRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static OpenProtocolMessageAlarmSubscribeBuilder
@@ -90,7 +87,7 @@ public class OpenProtocolMessageAlarmSubscribeRev1 extends OpenProtocolMessageAl
           throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageAlarmSubscribeRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("OpenProtocolMessageAlarmSubscribeRev1");
     // Create the instance
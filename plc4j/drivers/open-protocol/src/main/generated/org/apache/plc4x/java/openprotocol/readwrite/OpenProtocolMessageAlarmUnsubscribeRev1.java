@@ -65,7 +65,7 @@ public class OpenProtocolMessageAlarmUnsubscribeRev1 extends OpenProtocolMessage
   protected void serializeOpenProtocolMessageAlarmUnsubscribeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageAlarmUnsubscribeRev1");
 
     writeBuffer.popContext("OpenProtocolMessageAlarmUnsubscribeRev1");
@@ -77,12 +77,9 @@ public class OpenProtocolMessageAlarmUnsubscribeRev1 extends OpenProtocolMessage
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageAlarmUnsubscribeRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static OpenProtocolMessageAlarmUnsubscribeBuilder
@@ -90,7 +87,7 @@ public class OpenProtocolMessageAlarmUnsubscribeRev1 extends OpenProtocolMessage
           throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageAlarmUnsubscribeRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("OpenProtocolMessageAlarmUnsubscribeRev1");
     // Create the instance
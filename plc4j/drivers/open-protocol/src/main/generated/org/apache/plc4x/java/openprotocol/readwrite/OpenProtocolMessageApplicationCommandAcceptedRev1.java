@@ -74,7 +74,7 @@ public class OpenProtocolMessageApplicationCommandAcceptedRev1
   protected void serializeOpenProtocolMessageApplicationCommandAcceptedChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageApplicationCommandAcceptedRev1");
 
     // Simple Field (midNumberAccepted)
@@ -94,15 +94,9 @@ public class OpenProtocolMessageApplicationCommandAcceptedRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageApplicationCommandAcceptedRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (midNumberAccepted)
-    lengthInBits += 32;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 32;
   }
 
   public static OpenProtocolMessageApplicationCommandAcceptedBuilder
@@ -110,7 +104,7 @@ public class OpenProtocolMessageApplicationCommandAcceptedRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageApplicationCommandAcceptedRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Mid midNumberAccepted =
         readEnumField(
@@ -81,7 +81,7 @@ public class OpenProtocolMessageApplicationCommandErrorRev1
   protected void serializeOpenProtocolMessageApplicationCommandErrorChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageApplicationCommandErrorRev1");
 
     // Simple Field (requestMid)
@@ -112,18 +112,9 @@ public class OpenProtocolMessageApplicationCommandErrorRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageApplicationCommandErrorRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (requestMid)
-    lengthInBits += 32;
-
-    // Simple field (error)
-    lengthInBits += 16;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 48;
   }
 
   public static OpenProtocolMessageApplicationCommandErrorBuilder
@@ -131,7 +122,7 @@ public class OpenProtocolMessageApplicationCommandErrorRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageApplicationCommandErrorRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Mid requestMid =
         readEnumField(
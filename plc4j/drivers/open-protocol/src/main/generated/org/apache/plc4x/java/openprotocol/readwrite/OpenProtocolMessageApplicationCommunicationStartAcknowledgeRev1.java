@@ -105,7 +105,7 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev1
   protected void serializeOpenProtocolMessageApplicationCommunicationStartAcknowledgeChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev1");
 
     // Const Field (blockIdCellId)
@@ -156,30 +156,9 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (blockIdCellId)
-    lengthInBits += 16;
-
-    // Simple field (cellId)
-    lengthInBits += 32;
-
-    // Const Field (blockIdChannelId)
-    lengthInBits += 16;
-
-    // Simple field (channelId)
-    lengthInBits += 16;
-
-    // Const Field (blockIdControllerName)
-    lengthInBits += 16;
-
-    // Simple field (controllerName)
-    lengthInBits += 200;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 296;
   }
 
   public static OpenProtocolMessageApplicationCommunicationStartAcknowledgeBuilder
@@ -187,7 +166,7 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int blockIdCellId =
         readConstField(
@@ -117,7 +117,7 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev2
   protected void serializeOpenProtocolMessageApplicationCommunicationStartAcknowledgeChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev2");
 
     // Const Field (blockIdCellId)
@@ -182,36 +182,9 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev2
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev2 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (blockIdCellId)
-    lengthInBits += 16;
-
-    // Simple field (cellId)
-    lengthInBits += 32;
-
-    // Const Field (blockIdChannelId)
-    lengthInBits += 16;
-
-    // Simple field (channelId)
-    lengthInBits += 16;
-
-    // Const Field (blockIdControllerName)
-    lengthInBits += 16;
-
-    // Simple field (controllerName)
-    lengthInBits += 200;
-
-    // Const Field (blockIdSupplierCode)
-    lengthInBits += 16;
-
-    // Simple field (supplierCode)
-    lengthInBits += 24;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 336;
   }
 
   public static OpenProtocolMessageApplicationCommunicationStartAcknowledgeBuilder
@@ -219,7 +192,7 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev2
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev2");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int blockIdCellId =
         readConstField(
@@ -153,7 +153,7 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev3
   protected void serializeOpenProtocolMessageApplicationCommunicationStartAcknowledgeChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev3");
 
     // Const Field (blockIdCellId)
@@ -260,54 +260,9 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev3
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev3 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (blockIdCellId)
-    lengthInBits += 16;
-
-    // Simple field (cellId)
-    lengthInBits += 32;
-
-    // Const Field (blockIdChannelId)
-    lengthInBits += 16;
-
-    // Simple field (channelId)
-    lengthInBits += 16;
-
-    // Const Field (blockIdControllerName)
-    lengthInBits += 16;
-
-    // Simple field (controllerName)
-    lengthInBits += 200;
-
-    // Const Field (blockIdSupplierCode)
-    lengthInBits += 16;
-
-    // Simple field (supplierCode)
-    lengthInBits += 24;
-
-    // Const Field (blockIdOpenProtocolVersion)
-    lengthInBits += 16;
-
-    // Simple field (openProtocolVersion)
-    lengthInBits += 152;
-
-    // Const Field (blockIdControllerSoftwareVersion)
-    lengthInBits += 16;
-
-    // Simple field (controllerSoftwareVersion)
-    lengthInBits += 152;
-
-    // Const Field (blockIdToolSoftwareVersion)
-    lengthInBits += 16;
-
-    // Simple field (toolSoftwareVersion)
-    lengthInBits += 152;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 840;
   }
 
   public static OpenProtocolMessageApplicationCommunicationStartAcknowledgeBuilder
@@ -315,7 +270,7 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev3
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev3");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int blockIdCellId =
         readConstField(
@@ -201,7 +201,7 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev5
   protected void serializeOpenProtocolMessageApplicationCommunicationStartAcknowledgeChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev5");
 
     // Const Field (blockIdCellId)
@@ -358,78 +358,9 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev5
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev5 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (blockIdCellId)
-    lengthInBits += 16;
-
-    // Simple field (cellId)
-    lengthInBits += 32;
-
-    // Const Field (blockIdChannelId)
-    lengthInBits += 16;
-
-    // Simple field (channelId)
-    lengthInBits += 16;
-
-    // Const Field (blockIdControllerName)
-    lengthInBits += 16;
-
-    // Simple field (controllerName)
-    lengthInBits += 200;
-
-    // Const Field (blockIdSupplierCode)
-    lengthInBits += 16;
-
-    // Simple field (supplierCode)
-    lengthInBits += 24;
-
-    // Const Field (blockIdOpenProtocolVersion)
-    lengthInBits += 16;
-
-    // Simple field (openProtocolVersion)
-    lengthInBits += 152;
-
-    // Const Field (blockIdControllerSoftwareVersion)
-    lengthInBits += 16;
-
-    // Simple field (controllerSoftwareVersion)
-    lengthInBits += 152;
-
-    // Const Field (blockIdToolSoftwareVersion)
-    lengthInBits += 16;
-
-    // Simple field (toolSoftwareVersion)
-    lengthInBits += 152;
-
-    // Const Field (blockIdRbuType)
-    lengthInBits += 16;
-
-    // Simple field (rbuType)
-    lengthInBits += 192;
-
-    // Const Field (blockIdControllerSerialNumber)
-    lengthInBits += 16;
-
-    // Simple field (controllerSerialNumber)
-    lengthInBits += 80;
-
-    // Const Field (blockIdSystemType)
-    lengthInBits += 16;
-
-    // Simple field (systemType)
-    lengthInBits += 24;
-
-    // Const Field (blockIdSystemSubtype)
-    lengthInBits += 16;
-
-    // Simple field (systemSubtype)
-    lengthInBits += 24;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 1224;
   }
 
   public static OpenProtocolMessageApplicationCommunicationStartAcknowledgeBuilder
@@ -437,7 +368,7 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev5
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev5");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int blockIdCellId =
         readConstField(
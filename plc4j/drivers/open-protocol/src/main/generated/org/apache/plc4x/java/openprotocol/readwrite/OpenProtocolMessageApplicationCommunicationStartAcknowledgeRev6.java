@@ -261,7 +261,7 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev6
   protected void serializeOpenProtocolMessageApplicationCommunicationStartAcknowledgeChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev6");
 
     // Const Field (blockIdCellId)
@@ -480,114 +480,9 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev6
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev6 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (blockIdCellId)
-    lengthInBits += 16;
-
-    // Simple field (cellId)
-    lengthInBits += 32;
-
-    // Const Field (blockIdChannelId)
-    lengthInBits += 16;
-
-    // Simple field (channelId)
-    lengthInBits += 16;
-
-    // Const Field (blockIdControllerName)
-    lengthInBits += 16;
-
-    // Simple field (controllerName)
-    lengthInBits += 200;
-
-    // Const Field (blockIdSupplierCode)
-    lengthInBits += 16;
-
-    // Simple field (supplierCode)
-    lengthInBits += 24;
-
-    // Const Field (blockIdOpenProtocolVersion)
-    lengthInBits += 16;
-
-    // Simple field (openProtocolVersion)
-    lengthInBits += 152;
-
-    // Const Field (blockIdControllerSoftwareVersion)
-    lengthInBits += 16;
-
-    // Simple field (controllerSoftwareVersion)
-    lengthInBits += 152;
-
-    // Const Field (blockIdToolSoftwareVersion)
-    lengthInBits += 16;
-
-    // Simple field (toolSoftwareVersion)
-    lengthInBits += 152;
-
-    // Const Field (blockIdRbuType)
-    lengthInBits += 16;
-
-    // Simple field (rbuType)
-    lengthInBits += 192;
-
-    // Const Field (blockIdControllerSerialNumber)
-    lengthInBits += 16;
-
-    // Simple field (controllerSerialNumber)
-    lengthInBits += 80;
-
-    // Const Field (blockIdSystemType)
-    lengthInBits += 16;
-
-    // Simple field (systemType)
-    lengthInBits += 24;
-
-    // Const Field (blockIdSystemSubtype)
-    lengthInBits += 16;
-
-    // Simple field (systemSubtype)
-    lengthInBits += 24;
-
-    // Const Field (blockIdSequenceNumberSupport)
-    lengthInBits += 16;
-
-    // Reserved Field (reserved)
-    lengthInBits += 7;
-
-    // Simple field (sequenceNumberSupport)
-    lengthInBits += 1;
-
-    // Const Field (blockIdLinkingHandlingSupport)
-    lengthInBits += 16;
-
-    // Reserved Field (reserved)
-    lengthInBits += 7;
-
-    // Simple field (linkingHandlingSupport)
-    lengthInBits += 1;
-
-    // Const Field (blockIdStationId)
-    lengthInBits += 16;
-
-    // Simple field (stationId)
-    lengthInBits += 80;
-
-    // Const Field (blockIdStationName)
-    lengthInBits += 16;
-
-    // Simple field (stationName)
-    lengthInBits += 200;
-
-    // Const Field (blockIdClientId)
-    lengthInBits += 16;
-
-    // Simple field (clientId)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 1608;
   }
 
   public static OpenProtocolMessageApplicationCommunicationStartAcknowledgeBuilder
@@ -595,7 +490,7 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev6
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev6");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int blockIdCellId =
         readConstField(
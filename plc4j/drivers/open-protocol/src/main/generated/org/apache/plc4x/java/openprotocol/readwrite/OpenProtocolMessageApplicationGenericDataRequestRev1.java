@@ -88,7 +88,7 @@ public class OpenProtocolMessageApplicationGenericDataRequestRev1
   protected void serializeOpenProtocolMessageApplicationGenericDataRequestChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageApplicationGenericDataRequestRev1");
 
     // Simple Field (requestMid)
@@ -127,10 +127,9 @@ public class OpenProtocolMessageApplicationGenericDataRequestRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     OpenProtocolMessageApplicationGenericDataRequestRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestMid)
     lengthInBits += 32;
@@ -154,7 +153,7 @@ public class OpenProtocolMessageApplicationGenericDataRequestRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageApplicationGenericDataRequestRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Mid requestMid =
         readEnumField(
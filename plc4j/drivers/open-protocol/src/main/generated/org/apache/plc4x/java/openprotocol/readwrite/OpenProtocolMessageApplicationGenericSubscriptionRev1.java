@@ -88,7 +88,7 @@ public class OpenProtocolMessageApplicationGenericSubscriptionRev1
   protected void serializeOpenProtocolMessageApplicationGenericSubscriptionChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageApplicationGenericSubscriptionRev1");
 
     // Simple Field (subscriptionMid)
@@ -127,10 +127,9 @@ public class OpenProtocolMessageApplicationGenericSubscriptionRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     OpenProtocolMessageApplicationGenericSubscriptionRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (subscriptionMid)
     lengthInBits += 32;
@@ -154,7 +153,7 @@ public class OpenProtocolMessageApplicationGenericSubscriptionRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageApplicationGenericSubscriptionRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Mid subscriptionMid =
         readEnumField(
@@ -65,7 +65,7 @@ public class OpenProtocolMessageDisableToolRev1 extends OpenProtocolMessageDisab
   protected void serializeOpenProtocolMessageDisableToolChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageDisableToolRev1");
 
     writeBuffer.popContext("OpenProtocolMessageDisableToolRev1");
@@ -77,12 +77,9 @@ public class OpenProtocolMessageDisableToolRev1 extends OpenProtocolMessageDisab
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageDisableToolRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static OpenProtocolMessageDisableToolBuilder
@@ -90,7 +87,7 @@ public class OpenProtocolMessageDisableToolRev1 extends OpenProtocolMessageDisab
           throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageDisableToolRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("OpenProtocolMessageDisableToolRev1");
     // Create the instance
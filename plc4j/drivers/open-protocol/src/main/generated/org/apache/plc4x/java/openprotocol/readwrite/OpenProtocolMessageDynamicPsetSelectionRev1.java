@@ -81,7 +81,7 @@ public class OpenProtocolMessageDynamicPsetSelectionRev1
   protected void serializeOpenProtocolMessageDynamicPsetSelectionChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageDynamicPsetSelectionRev1");
 
     // Simple Field (parameterSetId)
@@ -113,10 +113,9 @@ public class OpenProtocolMessageDynamicPsetSelectionRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     OpenProtocolMessageDynamicPsetSelectionRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (parameterSetId)
     lengthInBits += 24;
@@ -128,8 +127,7 @@ public class OpenProtocolMessageDynamicPsetSelectionRev1
     if (dataFields != null) {
       int i = 0;
       for (VariableDataField element : dataFields) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= dataFields.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= dataFields.size());
       }
     }
 
@@ -141,7 +139,7 @@ public class OpenProtocolMessageDynamicPsetSelectionRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageDynamicPsetSelectionRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int parameterSetId =
         readSimpleField(
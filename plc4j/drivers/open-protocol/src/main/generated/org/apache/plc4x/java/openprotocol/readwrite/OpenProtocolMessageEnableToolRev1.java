@@ -65,7 +65,7 @@ public class OpenProtocolMessageEnableToolRev1 extends OpenProtocolMessageEnable
   protected void serializeOpenProtocolMessageEnableToolChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageEnableToolRev1");
 
     writeBuffer.popContext("OpenProtocolMessageEnableToolRev1");
@@ -77,12 +77,9 @@ public class OpenProtocolMessageEnableToolRev1 extends OpenProtocolMessageEnable
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageEnableToolRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static OpenProtocolMessageEnableToolBuilder
@@ -90,7 +87,7 @@ public class OpenProtocolMessageEnableToolRev1 extends OpenProtocolMessageEnable
           throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageEnableToolRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("OpenProtocolMessageEnableToolRev1");
     // Create the instance
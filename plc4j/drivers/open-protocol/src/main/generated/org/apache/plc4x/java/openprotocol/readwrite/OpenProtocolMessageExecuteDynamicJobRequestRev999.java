@@ -283,7 +283,7 @@ public class OpenProtocolMessageExecuteDynamicJobRequestRev999
   protected void serializeOpenProtocolMessageExecuteDynamicJobRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageExecuteDynamicJobRequestRev999");
 
     // Const Field (blockIdJobId)
@@ -553,120 +553,9 @@ public class OpenProtocolMessageExecuteDynamicJobRequestRev999
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageExecuteDynamicJobRequestRev999 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (blockIdJobId)
-    lengthInBits += 16;
-
-    // Simple field (jobId)
-    lengthInBits += 32;
-
-    // Const Field (blockIdJobName)
-    lengthInBits += 16;
-
-    // Simple field (jobName)
-    lengthInBits += 200;
-
-    // Const Field (blockIdNumberOfParameterSets)
-    lengthInBits += 16;
-
-    // Const Field (blockIdJobList)
-    lengthInBits += 16;
-
-    // Const Field (blockIdForcedOrder)
-    lengthInBits += 16;
-
-    // Simple field (forcedOrder)
-    lengthInBits += 8;
-
-    // Const Field (blockIdLockAtJobDone)
-    lengthInBits += 16;
-
-    // Simple field (lockAtJobDone)
-    lengthInBits += 8;
-
-    // Const Field (blockIdToolLoosening)
-    lengthInBits += 16;
-
-    // Simple field (toolLoosening)
-    lengthInBits += 8;
-
-    // Const Field (blockIdRepeatJob)
-    lengthInBits += 16;
-
-    // Simple field (repeatJob)
-    lengthInBits += 8;
-
-    // Const Field (blockIdJobBatchModeAndCountType)
-    lengthInBits += 16;
-
-    // Simple field (jobBatchModeAndCountType)
-    lengthInBits += 8;
-
-    // Const Field (blockIdBatchStatusAtIncrementBypass)
-    lengthInBits += 16;
-
-    // Simple field (batchStatusAtIncrementBypass)
-    lengthInBits += 8;
-
-    // Const Field (blockIdDecrementBatchAtOkLoosening)
-    lengthInBits += 16;
-
-    // Simple field (decrementBatchAtOkLoosening)
-    lengthInBits += 8;
-
-    // Const Field (blockIdMaxTimeForFirstTightening)
-    lengthInBits += 16;
-
-    // Simple field (maxTimeForFirstTightening)
-    lengthInBits += 32;
-
-    // Const Field (blockIdMaxTimeToCompleteJob)
-    lengthInBits += 16;
-
-    // Simple field (maxTimeToCompleteJob)
-    lengthInBits += 40;
-
-    // Const Field (blockIdDisplayResultAtAutoSelect)
-    lengthInBits += 16;
-
-    // Simple field (displayResultAtAutoSelect)
-    lengthInBits += 32;
-
-    // Const Field (blockIdUseLineControl)
-    lengthInBits += 16;
-
-    // Simple field (useLineControl)
-    lengthInBits += 8;
-
-    // Const Field (blockIdIdentifierResultPart)
-    lengthInBits += 16;
-
-    // Simple field (identifierResultPart)
-    lengthInBits += 8;
-
-    // Const Field (blockIdResultOfNonTightenings)
-    lengthInBits += 16;
-
-    // Simple field (resultOfNonTightenings)
-    lengthInBits += 8;
-
-    // Const Field (blockIdResetAllIdentifiersAtJobDone)
-    lengthInBits += 16;
-
-    // Simple field (resetAllIdentifiersAtJobDone)
-    lengthInBits += 8;
-
-    // Const Field (blockIdReserved)
-    lengthInBits += 16;
-
-    // Simple field (jobRepair)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 736;
   }
 
   public static OpenProtocolMessageExecuteDynamicJobRequestBuilder
@@ -674,7 +563,7 @@ public class OpenProtocolMessageExecuteDynamicJobRequestRev999
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageExecuteDynamicJobRequestRev999");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int blockIdJobId =
         readConstField(
@@ -74,7 +74,7 @@ public class OpenProtocolMessageIdentifierDownloadRequestRev1
   protected void serializeOpenProtocolMessageIdentifierDownloadRequestChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageIdentifierDownloadRequestRev1");
 
     // Simple Field (identifierData)
@@ -93,15 +93,9 @@ public class OpenProtocolMessageIdentifierDownloadRequestRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageIdentifierDownloadRequestRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (identifierData)
-    lengthInBits += 800;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 800;
   }
 
   public static OpenProtocolMessageIdentifierDownloadRequestBuilder
@@ -109,7 +103,7 @@ public class OpenProtocolMessageIdentifierDownloadRequestRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageIdentifierDownloadRequestRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     String identifierData =
         readSimpleField(
@@ -65,7 +65,7 @@ public class OpenProtocolMessageKeepAliveOpenProtocolCommunicationRev1
   protected void serializeOpenProtocolMessageKeepAliveOpenProtocolCommunicationChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageKeepAliveOpenProtocolCommunicationRev1");
 
     writeBuffer.popContext("OpenProtocolMessageKeepAliveOpenProtocolCommunicationRev1");
@@ -77,12 +77,9 @@ public class OpenProtocolMessageKeepAliveOpenProtocolCommunicationRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageKeepAliveOpenProtocolCommunicationRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static OpenProtocolMessageKeepAliveOpenProtocolCommunicationBuilder
@@ -90,7 +87,7 @@ public class OpenProtocolMessageKeepAliveOpenProtocolCommunicationRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageKeepAliveOpenProtocolCommunicationRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("OpenProtocolMessageKeepAliveOpenProtocolCommunicationRev1");
     // Create the instance
@@ -345,7 +345,7 @@ public class OpenProtocolMessageLastTighteningResultDataRev1
   protected void serializeOpenProtocolMessageLastTighteningResultDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageLastTighteningResultDataRev1");
 
     // Const Field (blockIdCellId)
@@ -659,150 +659,9 @@ public class OpenProtocolMessageLastTighteningResultDataRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageLastTighteningResultDataRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (blockIdCellId)
-    lengthInBits += 16;
-
-    // Simple field (cellId)
-    lengthInBits += 32;
-
-    // Const Field (blockIdChannelId)
-    lengthInBits += 16;
-
-    // Simple field (channelId)
-    lengthInBits += 16;
-
-    // Const Field (blockIdTorqueControllerName)
-    lengthInBits += 16;
-
-    // Simple field (torqueControllerName)
-    lengthInBits += 200;
-
-    // Const Field (blockIdVinNumber)
-    lengthInBits += 16;
-
-    // Simple field (vinNumber)
-    lengthInBits += 200;
-
-    // Const Field (blockIdJobId)
-    lengthInBits += 16;
-
-    // Simple field (jobId)
-    lengthInBits += 16;
-
-    // Const Field (blockIdParameterSetId)
-    lengthInBits += 16;
-
-    // Simple field (parameterSetId)
-    lengthInBits += 24;
-
-    // Const Field (blockIdBatchSize)
-    lengthInBits += 16;
-
-    // Simple field (batchSize)
-    lengthInBits += 32;
-
-    // Const Field (blockIdBatchCounter)
-    lengthInBits += 16;
-
-    // Simple field (batchCounter)
-    lengthInBits += 32;
-
-    // Const Field (blockIdTighteningStatus)
-    lengthInBits += 16;
-
-    // Simple field (tighteningStatus)
-    lengthInBits += 8;
-
-    // Const Field (blockIdTorqueStatus)
-    lengthInBits += 16;
-
-    // Simple field (torqueStatus)
-    lengthInBits += 8;
-
-    // Const Field (blockIdAngleStatus)
-    lengthInBits += 16;
-
-    // Simple field (angleStatus)
-    lengthInBits += 8;
-
-    // Const Field (blockIdTorqueMinLimit)
-    lengthInBits += 16;
-
-    // Simple field (torqueMinLimit)
-    lengthInBits += 48;
-
-    // Const Field (blockIdTorqueMaxLimit)
-    lengthInBits += 16;
-
-    // Simple field (torqueMaxLimit)
-    lengthInBits += 48;
-
-    // Const Field (blockIdTorqueFinalTarget)
-    lengthInBits += 16;
-
-    // Simple field (torqueFinalTarget)
-    lengthInBits += 48;
-
-    // Const Field (blockIdTorque)
-    lengthInBits += 16;
-
-    // Simple field (torque)
-    lengthInBits += 48;
-
-    // Const Field (blockIdAngleMin)
-    lengthInBits += 16;
-
-    // Simple field (angleMin)
-    lengthInBits += 40;
-
-    // Const Field (blockIdAngleMax)
-    lengthInBits += 16;
-
-    // Simple field (angleMax)
-    lengthInBits += 40;
-
-    // Const Field (blockIdFinalAngleTarget)
-    lengthInBits += 16;
-
-    // Simple field (finalAngleTarget)
-    lengthInBits += 40;
-
-    // Const Field (blockIdAngle)
-    lengthInBits += 16;
-
-    // Simple field (angle)
-    lengthInBits += 40;
-
-    // Const Field (blockIdTimeStamp)
-    lengthInBits += 16;
-
-    // Simple field (timeStamp)
-    lengthInBits += 152;
-
-    // Const Field (blockIdDateTimeOfLastChangeIndParameterSetSettings)
-    lengthInBits += 16;
-
-    // Simple field (dateTimeOfLastChangeIndParameterSetSettings)
-    lengthInBits += 152;
-
-    // Const Field (blockIdBatchStatus)
-    lengthInBits += 16;
-
-    // Simple field (batchStatus)
-    lengthInBits += 8;
-
-    // Const Field (blockIdTighteningId)
-    lengthInBits += 16;
-
-    // Simple field (tighteningId)
-    lengthInBits += 80;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 1688;
   }
 
   public static OpenProtocolMessageLastTighteningResultDataBuilder
@@ -810,7 +669,7 @@ public class OpenProtocolMessageLastTighteningResultDataRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageLastTighteningResultDataRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int blockIdCellId =
         readConstField(
@@ -857,7 +857,7 @@ public class OpenProtocolMessageLastTighteningResultDataRev2
   protected void serializeOpenProtocolMessageLastTighteningResultDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageLastTighteningResultDataRev2");
 
     // Const Field (blockIdCellId)
@@ -1729,377 +1729,9 @@ public class OpenProtocolMessageLastTighteningResultDataRev2
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageLastTighteningResultDataRev2 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (blockIdCellId)
-    lengthInBits += 16;
-
-    // Simple field (cellId)
-    lengthInBits += 32;
-
-    // Const Field (blockIdChannelId)
-    lengthInBits += 16;
-
-    // Simple field (channelId)
-    lengthInBits += 16;
-
-    // Const Field (blockIdTorqueControllerName)
-    lengthInBits += 16;
-
-    // Simple field (torqueControllerName)
-    lengthInBits += 200;
-
-    // Const Field (blockIdVinNumber)
-    lengthInBits += 16;
-
-    // Simple field (vinNumber)
-    lengthInBits += 200;
-
-    // Const Field (blockIdJobId)
-    lengthInBits += 16;
-
-    // Simple field (jobId)
-    lengthInBits += 32;
-
-    // Const Field (blockIdParameterSetNumber)
-    lengthInBits += 16;
-
-    // Simple field (parameterSetNumber)
-    lengthInBits += 24;
-
-    // Const Field (blockIdStrategy)
-    lengthInBits += 16;
-
-    // Simple field (strategy)
-    lengthInBits += 16;
-
-    // Const Field (blockIdStrategyOptions)
-    lengthInBits += 16;
-
-    // Reserved Field (reserved)
-    lengthInBits += 8;
-
-    // Simple field (strategyOptions)
-    lengthInBits += 32;
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // Const Field (blockIdBatchSize)
-    lengthInBits += 16;
-
-    // Simple field (batchSize)
-    lengthInBits += 32;
-
-    // Const Field (blockIdBatchCounter)
-    lengthInBits += 16;
-
-    // Simple field (batchCounter)
-    lengthInBits += 32;
-
-    // Const Field (blockIdTighteningStatus)
-    lengthInBits += 16;
-
-    // Simple field (tighteningStatus)
-    lengthInBits += 8;
-
-    // Const Field (blockIdBatchStatus)
-    lengthInBits += 16;
-
-    // Simple field (batchStatus)
-    lengthInBits += 8;
-
-    // Const Field (blockIdTorqueStatus)
-    lengthInBits += 16;
-
-    // Simple field (torqueStatus)
-    lengthInBits += 8;
-
-    // Const Field (blockIdAngleStatus)
-    lengthInBits += 16;
-
-    // Simple field (angleStatus)
-    lengthInBits += 8;
-
-    // Const Field (blockIdRundownAngleStatus)
-    lengthInBits += 16;
-
-    // Simple field (rundownAngleStatus)
-    lengthInBits += 8;
-
-    // Const Field (blockIdCurrentMonitoringStatus)
-    lengthInBits += 16;
-
-    // Simple field (currentMonitoringStatus)
-    lengthInBits += 8;
-
-    // Const Field (blockIdSelfTapStatus)
-    lengthInBits += 16;
-
-    // Simple field (selfTapStatus)
-    lengthInBits += 8;
-
-    // Const Field (blockIdPrevailTorqueMonitoringStatus)
-    lengthInBits += 16;
-
-    // Simple field (prevailTorqueMonitoringStatus)
-    lengthInBits += 8;
-
-    // Const Field (blockIdPrevailTorqueCompensateStatus)
-    lengthInBits += 16;
-
-    // Simple field (prevailTorqueCompensateStatus)
-    lengthInBits += 8;
-
-    // Const Field (blockIdTighteningErrorStatus)
-    lengthInBits += 16;
-
-    // Simple field (tighteningErrorStatus)
-    lengthInBits += 80;
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // A virtual field doesn't have any in- or output.
-
-    // Const Field (blockIdTorqueMinLimit)
-    lengthInBits += 16;
-
-    // Simple field (torqueMinLimit)
-    lengthInBits += 48;
-
-    // Const Field (blockIdTorqueMaxLimit)
-    lengthInBits += 16;
-
-    // Simple field (torqueMaxLimit)
-    lengthInBits += 48;
-
-    // Const Field (blockIdTorqueFinalTarget)
-    lengthInBits += 16;
-
-    // Simple field (torqueFinalTarget)
-    lengthInBits += 48;
-
-    // Const Field (blockIdTorque)
-    lengthInBits += 16;
-
-    // Simple field (torque)
-    lengthInBits += 48;
-
-    // Const Field (blockIdAngleMin)
-    lengthInBits += 16;
-
-    // Simple field (angleMin)
-    lengthInBits += 40;
-
-    // Const Field (blockIdAngleMax)
-    lengthInBits += 16;
-
-    // Simple field (angleMax)
-    lengthInBits += 40;
-
-    // Const Field (blockIdFinalAngleTarget)
-    lengthInBits += 16;
-
-    // Simple field (finalAngleTarget)
-    lengthInBits += 40;
-
-    // Const Field (blockIdAngle)
-    lengthInBits += 16;
-
-    // Simple field (angle)
-    lengthInBits += 40;
-
-    // Const Field (blockIdRundownAngleMin)
-    lengthInBits += 16;
-
-    // Simple field (rundownAngleMin)
-    lengthInBits += 40;
-
-    // Const Field (blockIdRundownAngleMax)
-    lengthInBits += 16;
-
-    // Simple field (rundownAngleMax)
-    lengthInBits += 40;
-
-    // Const Field (blockIdRundownAngle)
-    lengthInBits += 16;
-
-    // Simple field (rundownAngle)
-    lengthInBits += 40;
-
-    // Const Field (blockIdCurrentMonitoringMin)
-    lengthInBits += 16;
-
-    // Simple field (currentMonitoringMin)
-    lengthInBits += 24;
-
-    // Const Field (blockIdCurrentMonitoringMax)
-    lengthInBits += 16;
-
-    // Simple field (currentMonitoringMax)
-    lengthInBits += 24;
-
-    // Const Field (blockIdCurrentMonitoringValue)
-    lengthInBits += 16;
-
-    // Simple field (currentMonitoringValue)
-    lengthInBits += 24;
-
-    // Const Field (blockIdSelfTapMin)
-    lengthInBits += 16;
-
-    // Simple field (selfTapMin)
-    lengthInBits += 48;
-
-    // Const Field (blockIdSelfTapMax)
-    lengthInBits += 16;
-
-    // Simple field (selfTapMax)
-    lengthInBits += 48;
-
-    // Const Field (blockIdSelfTapTorque)
-    lengthInBits += 16;
-
-    // Simple field (selfTapTorque)
-    lengthInBits += 48;
-
-    // Const Field (blockIdPrevailTorqueMonitoringMin)
-    lengthInBits += 16;
-
-    // Simple field (prevailTorqueMonitoringMin)
-    lengthInBits += 48;
-
-    // Const Field (blockIdPrevailTorqueMonitoringMax)
-    lengthInBits += 16;
-
-    // Simple field (prevailTorqueMonitoringMax)
-    lengthInBits += 48;
-
-    // Const Field (blockIdPrevailTorque)
-    lengthInBits += 16;
-
-    // Simple field (prevailTorque)
-    lengthInBits += 48;
-
-    // Const Field (blockIdTighteningId)
-    lengthInBits += 16;
-
-    // Simple field (tighteningId)
-    lengthInBits += 80;
-
-    // Const Field (blockIdJobSequenceNumber)
-    lengthInBits += 16;
-
-    // Simple field (jobSequenceNumber)
-    lengthInBits += 40;
-
-    // Const Field (blockIdSyncTighteningId)
-    lengthInBits += 16;
-
-    // Simple field (syncTighteningId)
-    lengthInBits += 40;
-
-    // Const Field (blockIdToolSerialNumber)
-    lengthInBits += 16;
-
-    // Simple field (toolSerialNumber)
-    lengthInBits += 112;
-
-    // Const Field (blockIdTimeStamp)
-    lengthInBits += 16;
-
-    // Simple field (timeStamp)
-    lengthInBits += 152;
-
-    // Const Field (blockIdDateTimeOfLastChangeInParameterSetSettings)
-    lengthInBits += 16;
-
-    // Simple field (dateTimeOfLastChangeIndParameterSetSettings)
-    lengthInBits += 152;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 2920;
   }
 
   public static OpenProtocolMessageLastTighteningResultDataBuilder
@@ -2107,7 +1739,7 @@ public class OpenProtocolMessageLastTighteningResultDataRev2
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageLastTighteningResultDataRev2");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int blockIdCellId =
         readConstField(
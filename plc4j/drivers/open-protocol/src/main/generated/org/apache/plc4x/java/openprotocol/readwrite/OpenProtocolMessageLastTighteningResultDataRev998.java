@@ -737,7 +737,7 @@ public class OpenProtocolMessageLastTighteningResultDataRev998
   protected void serializeOpenProtocolMessageLastTighteningResultDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageLastTighteningResultDataRev998");
 
     // Const Field (blockIdCellId)
@@ -1527,10 +1527,9 @@ public class OpenProtocolMessageLastTighteningResultDataRev998
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     OpenProtocolMessageLastTighteningResultDataRev998 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (blockIdCellId)
     lengthInBits += 16;
@@ -1872,8 +1871,7 @@ public class OpenProtocolMessageLastTighteningResultDataRev998
     if (stageResults != null) {
       int i = 0;
       for (StageResult element : stageResults) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= stageResults.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= stageResults.size());
       }
     }
 
@@ -1885,7 +1883,7 @@ public class OpenProtocolMessageLastTighteningResultDataRev998
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageLastTighteningResultDataRev998");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int blockIdCellId =
         readConstField(
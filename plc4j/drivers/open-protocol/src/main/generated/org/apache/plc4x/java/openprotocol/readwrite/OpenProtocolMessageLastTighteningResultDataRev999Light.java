@@ -165,7 +165,7 @@ public class OpenProtocolMessageLastTighteningResultDataRev999Light
   protected void serializeOpenProtocolMessageLastTighteningResultDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageLastTighteningResultDataRev999Light");
 
     // Simple Field (vinNumber)
@@ -264,54 +264,9 @@ public class OpenProtocolMessageLastTighteningResultDataRev999Light
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageLastTighteningResultDataRev999Light _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (vinNumber)
-    lengthInBits += 200;
-
-    // Simple field (jobId)
-    lengthInBits += 16;
-
-    // Simple field (parameterSetId)
-    lengthInBits += 24;
-
-    // Simple field (batchSize)
-    lengthInBits += 32;
-
-    // Simple field (batchCounter)
-    lengthInBits += 32;
-
-    // Simple field (batchStatus)
-    lengthInBits += 8;
-
-    // Simple field (tighteningStatus)
-    lengthInBits += 8;
-
-    // Simple field (torqueStatus)
-    lengthInBits += 8;
-
-    // Simple field (angleStatus)
-    lengthInBits += 8;
-
-    // Simple field (torque)
-    lengthInBits += 48;
-
-    // Simple field (angle)
-    lengthInBits += 40;
-
-    // Simple field (timeStamp)
-    lengthInBits += 152;
-
-    // Simple field (dateTimeOfLastChangeIndParameterSetSettings)
-    lengthInBits += 152;
-
-    // Simple field (tighteningId)
-    lengthInBits += 80;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 808;
   }
 
   public static OpenProtocolMessageLastTighteningResultDataBuilder
@@ -319,7 +274,7 @@ public class OpenProtocolMessageLastTighteningResultDataRev999Light
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageLastTighteningResultDataRev999Light");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     String vinNumber =
         readSimpleField("vinNumber", readString(readBuffer, 200), WithOption.WithEncoding("ASCII"));
@@ -65,7 +65,7 @@ public class OpenProtocolMessageLastTighteningResultDataSubscribeRev1
   protected void serializeOpenProtocolMessageLastTighteningResultDataSubscribeChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageLastTighteningResultDataSubscribeRev1");
 
     writeBuffer.popContext("OpenProtocolMessageLastTighteningResultDataSubscribeRev1");
@@ -77,12 +77,9 @@ public class OpenProtocolMessageLastTighteningResultDataSubscribeRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageLastTighteningResultDataSubscribeRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static OpenProtocolMessageLastTighteningResultDataSubscribeBuilder
@@ -90,7 +87,7 @@ public class OpenProtocolMessageLastTighteningResultDataSubscribeRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageLastTighteningResultDataSubscribeRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("OpenProtocolMessageLastTighteningResultDataSubscribeRev1");
     // Create the instance
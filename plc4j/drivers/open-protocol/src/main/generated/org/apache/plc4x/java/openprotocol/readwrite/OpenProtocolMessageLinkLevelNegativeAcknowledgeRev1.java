@@ -81,7 +81,7 @@ public class OpenProtocolMessageLinkLevelNegativeAcknowledgeRev1
   protected void serializeOpenProtocolMessageLinkLevelNegativeAcknowledgeChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageLinkLevelNegativeAcknowledgeRev1");
 
     // Simple Field (midNumber)
@@ -112,18 +112,9 @@ public class OpenProtocolMessageLinkLevelNegativeAcknowledgeRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageLinkLevelNegativeAcknowledgeRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (midNumber)
-    lengthInBits += 32;
-
-    // Simple field (error)
-    lengthInBits += 32;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 64;
   }
 
   public static OpenProtocolMessageLinkLevelNegativeAcknowledgeBuilder
@@ -131,7 +122,7 @@ public class OpenProtocolMessageLinkLevelNegativeAcknowledgeRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageLinkLevelNegativeAcknowledgeRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Mid midNumber =
         readEnumField(
@@ -74,7 +74,7 @@ public class OpenProtocolMessageLinkLevelPositiveAcknowledgeRev1
   protected void serializeOpenProtocolMessageLinkLevelPositiveAcknowledgeChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageLinkLevelPositiveAcknowledgeRev1");
 
     // Simple Field (midNumber)
@@ -94,15 +94,9 @@ public class OpenProtocolMessageLinkLevelPositiveAcknowledgeRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageLinkLevelPositiveAcknowledgeRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (midNumber)
-    lengthInBits += 32;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 32;
   }
 
   public static OpenProtocolMessageLinkLevelPositiveAcknowledgeBuilder
@@ -110,7 +104,7 @@ public class OpenProtocolMessageLinkLevelPositiveAcknowledgeRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageLinkLevelPositiveAcknowledgeRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Mid midNumber =
         readEnumField(
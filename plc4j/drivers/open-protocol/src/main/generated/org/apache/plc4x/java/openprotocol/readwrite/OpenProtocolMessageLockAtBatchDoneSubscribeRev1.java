@@ -65,7 +65,7 @@ public class OpenProtocolMessageLockAtBatchDoneSubscribeRev1
   protected void serializeOpenProtocolMessageLockAtBatchDoneSubscribeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageLockAtBatchDoneSubscribeRev1");
 
     writeBuffer.popContext("OpenProtocolMessageLockAtBatchDoneSubscribeRev1");
@@ -77,12 +77,9 @@ public class OpenProtocolMessageLockAtBatchDoneSubscribeRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageLockAtBatchDoneSubscribeRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static OpenProtocolMessageLockAtBatchDoneSubscribeBuilder
@@ -90,7 +87,7 @@ public class OpenProtocolMessageLockAtBatchDoneSubscribeRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageLockAtBatchDoneSubscribeRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("OpenProtocolMessageLockAtBatchDoneSubscribeRev1");
     // Create the instance
@@ -65,7 +65,7 @@ public class OpenProtocolMessageLockAtBatchDoneUnsubscribeRev1
   protected void serializeOpenProtocolMessageLockAtBatchDoneUnsubscribeChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageLockAtBatchDoneUnsubscribeRev1");
 
     writeBuffer.popContext("OpenProtocolMessageLockAtBatchDoneUnsubscribeRev1");
@@ -77,12 +77,9 @@ public class OpenProtocolMessageLockAtBatchDoneUnsubscribeRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageLockAtBatchDoneUnsubscribeRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static OpenProtocolMessageLockAtBatchDoneUnsubscribeBuilder
@@ -90,7 +87,7 @@ public class OpenProtocolMessageLockAtBatchDoneUnsubscribeRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageLockAtBatchDoneUnsubscribeRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("OpenProtocolMessageLockAtBatchDoneUnsubscribeRev1");
     // Create the instance
@@ -65,7 +65,7 @@ public class OpenProtocolMessageLockAtBatchDoneUploadAcknowledgeRev1
   protected void serializeOpenProtocolMessageLockAtBatchDoneUploadAcknowledgeChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageLockAtBatchDoneUploadAcknowledgeRev1");
 
     writeBuffer.popContext("OpenProtocolMessageLockAtBatchDoneUploadAcknowledgeRev1");
@@ -77,12 +77,9 @@ public class OpenProtocolMessageLockAtBatchDoneUploadAcknowledgeRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageLockAtBatchDoneUploadAcknowledgeRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static OpenProtocolMessageLockAtBatchDoneUploadAcknowledgeBuilder
@@ -90,7 +87,7 @@ public class OpenProtocolMessageLockAtBatchDoneUploadAcknowledgeRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageLockAtBatchDoneUploadAcknowledgeRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("OpenProtocolMessageLockAtBatchDoneUploadAcknowledgeRev1");
     // Create the instance
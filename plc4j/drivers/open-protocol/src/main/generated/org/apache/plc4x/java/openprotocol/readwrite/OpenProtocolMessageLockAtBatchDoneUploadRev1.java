@@ -74,7 +74,7 @@ public class OpenProtocolMessageLockAtBatchDoneUploadRev1
   protected void serializeOpenProtocolMessageLockAtBatchDoneUploadChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageLockAtBatchDoneUploadRev1");
 
     // Simple Field (relayStatus)
@@ -93,15 +93,9 @@ public class OpenProtocolMessageLockAtBatchDoneUploadRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageLockAtBatchDoneUploadRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (relayStatus)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 8;
   }
 
   public static OpenProtocolMessageLockAtBatchDoneUploadBuilder
@@ -109,7 +103,7 @@ public class OpenProtocolMessageLockAtBatchDoneUploadRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageLockAtBatchDoneUploadRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short relayStatus =
         readSimpleField(
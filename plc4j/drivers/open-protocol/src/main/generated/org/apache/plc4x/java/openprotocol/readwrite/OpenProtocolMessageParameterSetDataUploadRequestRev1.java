@@ -74,7 +74,7 @@ public class OpenProtocolMessageParameterSetDataUploadRequestRev1
   protected void serializeOpenProtocolMessageParameterSetDataUploadRequestChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageParameterSetDataUploadRequestRev1");
 
     // Simple Field (parameterSetId)
@@ -93,15 +93,9 @@ public class OpenProtocolMessageParameterSetDataUploadRequestRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageParameterSetDataUploadRequestRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (parameterSetId)
-    lengthInBits += 24;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 24;
   }
 
   public static OpenProtocolMessageParameterSetDataUploadRequestBuilder
@@ -109,7 +103,7 @@ public class OpenProtocolMessageParameterSetDataUploadRequestRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageParameterSetDataUploadRequestRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int parameterSetId =
         readSimpleField(
@@ -81,7 +81,7 @@ public class OpenProtocolMessageParameterSetIdUploadReplyRev2
   protected void serializeOpenProtocolMessageParameterSetIdUploadReplyChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageParameterSetIdUploadReplyRev2");
 
     // Implicit Field (numParameters) (Used for parsing, but its value is not stored as it's
@@ -116,10 +116,9 @@ public class OpenProtocolMessageParameterSetIdUploadReplyRev2
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     OpenProtocolMessageParameterSetIdUploadReplyRev2 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (numParameters)
     lengthInBits += 24;
@@ -142,7 +141,7 @@ public class OpenProtocolMessageParameterSetIdUploadReplyRev2
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageParameterSetIdUploadReplyRev2");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int numParameters =
         readImplicitField(
@@ -65,7 +65,7 @@ public class OpenProtocolMessageParameterSetIdUploadRequestRev1
   protected void serializeOpenProtocolMessageParameterSetIdUploadRequestChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageParameterSetIdUploadRequestRev1");
 
     writeBuffer.popContext("OpenProtocolMessageParameterSetIdUploadRequestRev1");
@@ -77,12 +77,9 @@ public class OpenProtocolMessageParameterSetIdUploadRequestRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageParameterSetIdUploadRequestRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static OpenProtocolMessageParameterSetIdUploadRequestBuilder
@@ -90,7 +87,7 @@ public class OpenProtocolMessageParameterSetIdUploadRequestRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageParameterSetIdUploadRequestRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("OpenProtocolMessageParameterSetIdUploadRequestRev1");
     // Create the instance
@@ -65,7 +65,7 @@ public class OpenProtocolMessageParameterSetSelectedAcknowledgeRev1
   protected void serializeOpenProtocolMessageParameterSetSelectedAcknowledgeChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageParameterSetSelectedAcknowledgeRev1");
 
     writeBuffer.popContext("OpenProtocolMessageParameterSetSelectedAcknowledgeRev1");
@@ -77,12 +77,9 @@ public class OpenProtocolMessageParameterSetSelectedAcknowledgeRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageParameterSetSelectedAcknowledgeRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static OpenProtocolMessageParameterSetSelectedAcknowledgeBuilder
@@ -90,7 +87,7 @@ public class OpenProtocolMessageParameterSetSelectedAcknowledgeRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageParameterSetSelectedAcknowledgeRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("OpenProtocolMessageParameterSetSelectedAcknowledgeRev1");
     // Create the instance
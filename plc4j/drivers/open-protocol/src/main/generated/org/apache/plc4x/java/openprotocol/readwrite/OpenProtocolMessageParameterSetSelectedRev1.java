@@ -81,7 +81,7 @@ public class OpenProtocolMessageParameterSetSelectedRev1
   protected void serializeOpenProtocolMessageParameterSetSelectedChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageParameterSetSelectedRev1");
 
     // Simple Field (parameterSetId)
@@ -107,18 +107,9 @@ public class OpenProtocolMessageParameterSetSelectedRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageParameterSetSelectedRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (parameterSetId)
-    lengthInBits += 24;
-
-    // Simple field (dateOfLastChangeInParameterSetSetting)
-    lengthInBits += 152;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 176;
   }
 
   public static OpenProtocolMessageParameterSetSelectedBuilder
@@ -126,7 +117,7 @@ public class OpenProtocolMessageParameterSetSelectedRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageParameterSetSelectedRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int parameterSetId =
         readSimpleField(
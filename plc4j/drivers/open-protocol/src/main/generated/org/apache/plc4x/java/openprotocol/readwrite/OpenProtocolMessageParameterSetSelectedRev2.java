@@ -225,7 +225,7 @@ public class OpenProtocolMessageParameterSetSelectedRev2
   protected void serializeOpenProtocolMessageParameterSetSelectedChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageParameterSetSelectedRev2");
 
     // Const Field (blockIdParameterSetId)
@@ -417,90 +417,9 @@ public class OpenProtocolMessageParameterSetSelectedRev2
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageParameterSetSelectedRev2 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (blockIdParameterSetId)
-    lengthInBits += 16;
-
-    // Simple field (parameterSetId)
-    lengthInBits += 24;
-
-    // Const Field (blockIdParameterSetName)
-    lengthInBits += 16;
-
-    // Simple field (parameterSetName)
-    lengthInBits += 200;
-
-    // Const Field (blockIdDateOfLastChangeInParameterSetSetting)
-    lengthInBits += 16;
-
-    // Simple field (dateOfLastChangeInParameterSetSetting)
-    lengthInBits += 152;
-
-    // Const Field (blockIdRotationDirection)
-    lengthInBits += 16;
-
-    // Simple field (rotationDirection)
-    lengthInBits += 8;
-
-    // Const Field (blockIdBatchSize)
-    lengthInBits += 16;
-
-    // Simple field (batchSize)
-    lengthInBits += 16;
-
-    // Const Field (blockIdTorqueMin)
-    lengthInBits += 16;
-
-    // Simple field (torqueMin)
-    lengthInBits += 48;
-
-    // Const Field (blockIdTorqueMax)
-    lengthInBits += 16;
-
-    // Simple field (torqueMax)
-    lengthInBits += 48;
-
-    // Const Field (blockIdTorqueFinalTarget)
-    lengthInBits += 16;
-
-    // Simple field (torqueFinalTarget)
-    lengthInBits += 48;
-
-    // Const Field (blockIdAngleMin)
-    lengthInBits += 16;
-
-    // Simple field (angleMin)
-    lengthInBits += 40;
-
-    // Const Field (blockIdAngleMax)
-    lengthInBits += 16;
-
-    // Simple field (angleMax)
-    lengthInBits += 40;
-
-    // Const Field (blockIdFinalAngleTarget)
-    lengthInBits += 16;
-
-    // Simple field (finalAngleTarget)
-    lengthInBits += 40;
-
-    // Const Field (blockIdFirstTarget)
-    lengthInBits += 16;
-
-    // Simple field (firstTarget)
-    lengthInBits += 48;
-
-    // Const Field (blockIdStartFinalAngle)
-    lengthInBits += 16;
-
-    // Simple field (startFinalAngle)
-    lengthInBits += 48;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 968;
   }
 
   public static OpenProtocolMessageParameterSetSelectedBuilder
@@ -508,7 +427,7 @@ public class OpenProtocolMessageParameterSetSelectedRev2
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageParameterSetSelectedRev2");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int blockIdParameterSetId =
         readConstField(
@@ -65,7 +65,7 @@ public class OpenProtocolMessageParameterSetSelectedSubscribeRev1
   protected void serializeOpenProtocolMessageParameterSetSelectedSubscribeChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageParameterSetSelectedSubscribeRev1");
 
     writeBuffer.popContext("OpenProtocolMessageParameterSetSelectedSubscribeRev1");
@@ -77,12 +77,9 @@ public class OpenProtocolMessageParameterSetSelectedSubscribeRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageParameterSetSelectedSubscribeRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static OpenProtocolMessageParameterSetSelectedSubscribeBuilder
@@ -90,7 +87,7 @@ public class OpenProtocolMessageParameterSetSelectedSubscribeRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageParameterSetSelectedSubscribeRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("OpenProtocolMessageParameterSetSelectedSubscribeRev1");
     // Create the instance
@@ -65,7 +65,7 @@ public class OpenProtocolMessageParameterSetSelectedUnsubscribeRev1
   protected void serializeOpenProtocolMessageParameterSetSelectedUnsubscribeChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageParameterSetSelectedUnsubscribeRev1");
 
     writeBuffer.popContext("OpenProtocolMessageParameterSetSelectedUnsubscribeRev1");
@@ -77,12 +77,9 @@ public class OpenProtocolMessageParameterSetSelectedUnsubscribeRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageParameterSetSelectedUnsubscribeRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static OpenProtocolMessageParameterSetSelectedUnsubscribeBuilder
@@ -90,7 +87,7 @@ public class OpenProtocolMessageParameterSetSelectedUnsubscribeRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageParameterSetSelectedUnsubscribeRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("OpenProtocolMessageParameterSetSelectedUnsubscribeRev1");
     // Create the instance
@@ -74,7 +74,7 @@ public class OpenProtocolMessageProgramPsetSelectionInDynamicJobRev1
   protected void serializeOpenProtocolMessageProgramPsetSelectionInDynamicJobChild(
       WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageProgramPsetSelectionInDynamicJobRev1");
 
     // Simple Field (parameterSetId)
@@ -93,15 +93,9 @@ public class OpenProtocolMessageProgramPsetSelectionInDynamicJobRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageProgramPsetSelectionInDynamicJobRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (parameterSetId)
-    lengthInBits += 24;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 24;
   }
 
   public static OpenProtocolMessageProgramPsetSelectionInDynamicJobBuilder
@@ -109,7 +103,7 @@ public class OpenProtocolMessageProgramPsetSelectionInDynamicJobRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageProgramPsetSelectionInDynamicJobRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int parameterSetId =
         readSimpleField(
@@ -88,7 +88,7 @@ public class OpenProtocolMessageResultTracesCurvePlotDataRev1
   protected void serializeOpenProtocolMessageResultTracesCurvePlotDataChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageResultTracesCurvePlotDataRev1");
 
     // Simple Field (resultDataIdentifier)
@@ -124,10 +124,9 @@ public class OpenProtocolMessageResultTracesCurvePlotDataRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     OpenProtocolMessageResultTracesCurvePlotDataRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (resultDataIdentifier)
     lengthInBits += 80;
@@ -142,8 +141,7 @@ public class OpenProtocolMessageResultTracesCurvePlotDataRev1
     if (dataFields != null) {
       int i = 0;
       for (VariableDataField element : dataFields) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= dataFields.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= dataFields.size());
       }
     }
 
@@ -155,7 +153,7 @@ public class OpenProtocolMessageResultTracesCurvePlotDataRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageResultTracesCurvePlotDataRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     String resultDataIdentifier =
         readSimpleField(
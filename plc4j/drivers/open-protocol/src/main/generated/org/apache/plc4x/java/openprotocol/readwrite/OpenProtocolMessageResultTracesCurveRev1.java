@@ -65,7 +65,7 @@ public class OpenProtocolMessageResultTracesCurveRev1 extends OpenProtocolMessag
   protected void serializeOpenProtocolMessageResultTracesCurveChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageResultTracesCurveRev1");
 
     writeBuffer.popContext("OpenProtocolMessageResultTracesCurveRev1");
@@ -77,12 +77,9 @@ public class OpenProtocolMessageResultTracesCurveRev1 extends OpenProtocolMessag
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageResultTracesCurveRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static OpenProtocolMessageResultTracesCurveBuilder
@@ -90,7 +87,7 @@ public class OpenProtocolMessageResultTracesCurveRev1 extends OpenProtocolMessag
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageResultTracesCurveRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("OpenProtocolMessageResultTracesCurveRev1");
     // Create the instance
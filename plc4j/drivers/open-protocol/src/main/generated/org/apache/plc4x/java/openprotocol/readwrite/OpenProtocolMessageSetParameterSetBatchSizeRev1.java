@@ -81,7 +81,7 @@ public class OpenProtocolMessageSetParameterSetBatchSizeRev1
   protected void serializeOpenProtocolMessageSetParameterSetBatchSizeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageSetParameterSetBatchSizeRev1");
 
     // Simple Field (parameterSetId)
@@ -107,18 +107,9 @@ public class OpenProtocolMessageSetParameterSetBatchSizeRev1
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageSetParameterSetBatchSizeRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (parameterSetId)
-    lengthInBits += 24;
-
-    // Simple field (batchSize)
-    lengthInBits += 16;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 40;
   }
 
   public static OpenProtocolMessageSetParameterSetBatchSizeBuilder
@@ -126,7 +117,7 @@ public class OpenProtocolMessageSetParameterSetBatchSizeRev1
           ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageSetParameterSetBatchSizeRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int parameterSetId =
         readSimpleField(
@@ -73,7 +73,7 @@ public class OpenProtocolMessageSetTimeRev1 extends OpenProtocolMessageSetTime i
   protected void serializeOpenProtocolMessageSetTimeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("OpenProtocolMessageSetTimeRev1");
 
     // Simple Field (timeToSet)
@@ -89,22 +89,16 @@ public class OpenProtocolMessageSetTimeRev1 extends OpenProtocolMessageSetTime i
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    OpenProtocolMessageSetTimeRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (timeToSet)
-    lengthInBits += 152;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 152;
   }
 
   public static OpenProtocolMessageSetTimeBuilder staticParseOpenProtocolMessageSetTimeBuilder(
       ReadBuffer readBuffer, Integer revision) throws ParseException {
     readBuffer.pullContext("OpenProtocolMessageSetTimeRev1");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     String timeToSet =
         readSimpleField("timeToSet", readString(readBuffer, 152), WithOption.WithEncoding("ASCII"));
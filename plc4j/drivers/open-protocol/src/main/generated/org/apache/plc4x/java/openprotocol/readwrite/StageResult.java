@@ -57,7 +57,7 @@ public class StageResult implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("StageResult");
 
     // Simple Field (stageTorqueValue)
@@ -84,23 +84,18 @@ public class StageResult implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    StageResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (stageTorqueValue)
-    lengthInBits += 48;
-
-    // Simple field (stageTurningAngleValue)
-    lengthInBits += 40;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 88;
   }
 
   public static StageResult staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("StageResult");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long stageTorqueValue =
         readSimpleField(
@@ -57,7 +57,7 @@ public class Plc4xConnectRequest extends Plc4xMessage implements Message {
   @Override
   protected void serializePlc4xMessageChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("Plc4xConnectRequest");
 
     // Implicit Field (connectionStringLen) (Used for parsing, but its value is not stored as it's
@@ -85,10 +85,9 @@ public class Plc4xConnectRequest extends Plc4xMessage implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     Plc4xConnectRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (connectionStringLen)
     lengthInBits += 8;
@@ -103,7 +102,7 @@ public class Plc4xConnectRequest extends Plc4xMessage implements Message {
       throws ParseException {
     readBuffer.pullContext("Plc4xConnectRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short connectionStringLen =
         readImplicitField(
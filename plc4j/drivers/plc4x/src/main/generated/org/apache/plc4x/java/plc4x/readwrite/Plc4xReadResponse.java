@@ -73,7 +73,7 @@ public class Plc4xReadResponse extends Plc4xMessage implements Message {
   @Override
   protected void serializePlc4xMessageChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("Plc4xReadResponse");
 
     // Simple Field (connectionId)
@@ -116,10 +116,9 @@ public class Plc4xReadResponse extends Plc4xMessage implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     Plc4xReadResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (connectionId)
     lengthInBits += 16;
@@ -134,8 +133,7 @@ public class Plc4xReadResponse extends Plc4xMessage implements Message {
     if (tags != null) {
       int i = 0;
       for (Plc4xTagValueResponse element : tags) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= tags.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= tags.size());
       }
     }
 
@@ -146,7 +144,7 @@ public class Plc4xReadResponse extends Plc4xMessage implements Message {
       throws ParseException {
     readBuffer.pullContext("Plc4xReadResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int connectionId =
         readSimpleField(
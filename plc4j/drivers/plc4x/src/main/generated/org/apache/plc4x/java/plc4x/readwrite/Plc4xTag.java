@@ -57,7 +57,7 @@ public class Plc4xTag implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("Plc4xTag");
 
     // Implicit Field (nameLen) (Used for parsing, but its value is not stored as it's implicitly
@@ -84,11 +84,22 @@ public class Plc4xTag implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     Plc4xTag _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (nameLen)
     lengthInBits += 8;
@@ -108,7 +119,7 @@ public class Plc4xTag implements Message {
   public static Plc4xTag staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("Plc4xTag");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short nameLen = readImplicitField("nameLen", readUnsignedShort(readBuffer, 8));
 
@@ -63,7 +63,7 @@ public class Plc4xWriteRequest extends Plc4xMessage implements Message {
   @Override
   protected void serializePlc4xMessageChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("Plc4xWriteRequest");
 
     // Simple Field (connectionId)
@@ -95,10 +95,9 @@ public class Plc4xWriteRequest extends Plc4xMessage implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     Plc4xWriteRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (connectionId)
     lengthInBits += 16;
@@ -110,8 +109,7 @@ public class Plc4xWriteRequest extends Plc4xMessage implements Message {
     if (tags != null) {
       int i = 0;
       for (Plc4xTagValueRequest element : tags) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= tags.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= tags.size());
       }
     }
 
@@ -122,7 +120,7 @@ public class Plc4xWriteRequest extends Plc4xMessage implements Message {
       throws ParseException {
     readBuffer.pullContext("Plc4xWriteRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int connectionId =
         readSimpleField(
@@ -75,6 +75,7 @@ public class Plc4xProtocolLogic extends Plc4xProtocolBase<Plc4xMessage> implemen
 
     @Override
     public void onConnect(ConversationContext<Plc4xMessage> context) {
+        useDriverRuntimeExecutor(tm);
         final int requestId = txIdGenerator.getAndIncrement();
 
         Plc4xConnectRequest connectRequest = new Plc4xConnectRequest(requestId, remoteConnectionString);
@@ -69,7 +69,7 @@ public class DceRpc_ActivityUuid implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DceRpc_ActivityUuid");
 
     // Simple Field (data1)
@@ -92,11 +92,22 @@ public class DceRpc_ActivityUuid implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     DceRpc_ActivityUuid _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (data1)
     lengthInBits += 32;
@@ -118,7 +129,7 @@ public class DceRpc_ActivityUuid implements Message {
   public static DceRpc_ActivityUuid staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("DceRpc_ActivityUuid");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long data1 = readSimpleField("data1", readUnsignedLong(readBuffer, 32));
 
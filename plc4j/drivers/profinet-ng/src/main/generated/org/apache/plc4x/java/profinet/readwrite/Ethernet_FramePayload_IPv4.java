@@ -150,7 +150,7 @@ public class Ethernet_FramePayload_IPv4 extends Ethernet_FramePayload implements
   protected void serializeEthernet_FramePayloadChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("Ethernet_FramePayload_IPv4");
 
     // Const Field (version)
@@ -254,10 +254,9 @@ public class Ethernet_FramePayload_IPv4 extends Ethernet_FramePayload implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     Ethernet_FramePayload_IPv4 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (version)
     lengthInBits += 4;
@@ -326,7 +325,7 @@ public class Ethernet_FramePayload_IPv4 extends Ethernet_FramePayload implements
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("Ethernet_FramePayload_IPv4");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte version =
         readConstField(
@@ -58,7 +58,7 @@ public class Ethernet_FramePayload_LLDP extends Ethernet_FramePayload implements
   protected void serializeEthernet_FramePayloadChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("Ethernet_FramePayload_LLDP");
 
     // Simple Field (pdu)
@@ -73,10 +73,9 @@ public class Ethernet_FramePayload_LLDP extends Ethernet_FramePayload implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     Ethernet_FramePayload_LLDP _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (pdu)
     lengthInBits += pdu.getLengthInBits();
@@ -88,7 +87,7 @@ public class Ethernet_FramePayload_LLDP extends Ethernet_FramePayload implements
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("Ethernet_FramePayload_LLDP");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Lldp_Pdu pdu =
         readSimpleField("pdu", readComplex(() -> Lldp_Pdu.staticParse(readBuffer), readBuffer));
@@ -58,7 +58,7 @@ public class Ethernet_FramePayload_PnDcp extends Ethernet_FramePayload implement
   protected void serializeEthernet_FramePayloadChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("Ethernet_FramePayload_PnDcp");
 
     // Simple Field (pdu)
@@ -73,10 +73,9 @@ public class Ethernet_FramePayload_PnDcp extends Ethernet_FramePayload implement
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     Ethernet_FramePayload_PnDcp _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (pdu)
     lengthInBits += pdu.getLengthInBits();
@@ -88,7 +87,7 @@ public class Ethernet_FramePayload_PnDcp extends Ethernet_FramePayload implement
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("Ethernet_FramePayload_PnDcp");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PnDcp_Pdu pdu =
         readSimpleField("pdu", readComplex(() -> PnDcp_Pdu.staticParse(readBuffer), readBuffer));
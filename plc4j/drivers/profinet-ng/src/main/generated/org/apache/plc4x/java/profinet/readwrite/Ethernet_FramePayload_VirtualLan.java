@@ -77,7 +77,7 @@ public class Ethernet_FramePayload_VirtualLan extends Ethernet_FramePayload impl
   protected void serializeEthernet_FramePayloadChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("Ethernet_FramePayload_VirtualLan");
 
     // Simple Field (priority)
@@ -108,10 +108,9 @@ public class Ethernet_FramePayload_VirtualLan extends Ethernet_FramePayload impl
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     Ethernet_FramePayload_VirtualLan _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (priority)
     lengthInBits += 3;
@@ -132,7 +131,7 @@ public class Ethernet_FramePayload_VirtualLan extends Ethernet_FramePayload impl
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("Ethernet_FramePayload_VirtualLan");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     VirtualLanPriority priority =
         readEnumField(
@@ -128,7 +128,7 @@ public class IODWriteRequestHeader extends PnIoCm_Block implements Message {
   @Override
   protected void serializePnIoCm_BlockChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("IODWriteRequestHeader");
 
     // Implicit Field (blockLength) (Used for parsing, but its value is not stored as it's
@@ -239,10 +239,9 @@ public class IODWriteRequestHeader extends PnIoCm_Block implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     IODWriteRequestHeader _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -296,7 +295,7 @@ public class IODWriteRequestHeader extends PnIoCm_Block implements Message {
       throws ParseException {
     readBuffer.pullContext("IODWriteRequestHeader");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int blockLength =
         readImplicitField(
@@ -121,7 +121,7 @@ public class IODWriteResponseHeader extends PnIoCm_Block implements Message {
   @Override
   protected void serializePnIoCm_BlockChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("IODWriteResponseHeader");
 
     // Implicit Field (blockLength) (Used for parsing, but its value is not stored as it's
@@ -220,10 +220,9 @@ public class IODWriteResponseHeader extends PnIoCm_Block implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     IODWriteResponseHeader _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -272,7 +271,7 @@ public class IODWriteResponseHeader extends PnIoCm_Block implements Message {
       throws ParseException {
     readBuffer.pullContext("IODWriteResponseHeader");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int blockLength =
         readImplicitField(
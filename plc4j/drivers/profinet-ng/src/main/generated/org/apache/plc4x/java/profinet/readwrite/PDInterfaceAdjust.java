@@ -89,7 +89,7 @@ public class PDInterfaceAdjust extends PnIoCm_Block implements Message {
   @Override
   protected void serializePnIoCm_BlockChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PDInterfaceAdjust");
 
     // Implicit Field (blockLength) (Used for parsing, but its value is not stored as it's
@@ -156,40 +156,16 @@ public class PDInterfaceAdjust extends PnIoCm_Block implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    PDInterfaceAdjust _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Implicit Field (blockLength)
-    lengthInBits += 16;
-
-    // Simple field (blockVersionHigh)
-    lengthInBits += 8;
-
-    // Simple field (blockVersionLow)
-    lengthInBits += 8;
-
-    // Const Field (padField)
-    lengthInBits += 16;
-
-    // Const Field (multipleInterfaceModeReserved2)
-    lengthInBits += 16;
-
-    // Const Field (multipleInterfaceModeReserved1)
-    lengthInBits += 15;
-
-    // Simple field (multipleInterfaceModeNameOfDevice)
-    lengthInBits += 1;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 80;
   }
 
   public static PnIoCm_BlockBuilder staticParsePnIoCm_BlockBuilder(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("PDInterfaceAdjust");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int blockLength =
         readImplicitField(
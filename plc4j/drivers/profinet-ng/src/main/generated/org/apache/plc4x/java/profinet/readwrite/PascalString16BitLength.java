@@ -55,7 +55,7 @@ public class PascalString16BitLength implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PascalString16BitLength");
 
     // Implicit Field (sLength) (Used for parsing, but its value is not stored as it's implicitly
@@ -82,11 +82,22 @@ public class PascalString16BitLength implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     PascalString16BitLength _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (sLength)
     lengthInBits += 16;
@@ -105,7 +116,7 @@ public class PascalString16BitLength implements Message {
   public static PascalString16BitLength staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("PascalString16BitLength");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short sLength = readImplicitField("sLength", readSignedShort(readBuffer, 16));
 
@@ -89,7 +89,7 @@ public class PcDcp_GetSet_Pdu extends PnDcp_Pdu implements Message {
   @Override
   protected void serializePnDcp_PduChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PcDcp_GetSet_Pdu");
 
     // Const Field (serviceId)
@@ -163,10 +163,9 @@ public class PcDcp_GetSet_Pdu extends PnDcp_Pdu implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PcDcp_GetSet_Pdu _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (serviceId)
     lengthInBits += 8;
@@ -206,7 +205,7 @@ public class PcDcp_GetSet_Pdu extends PnDcp_Pdu implements Message {
       throws ParseException {
     readBuffer.pullContext("PcDcp_GetSet_Pdu");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short serviceId =
         readConstField(
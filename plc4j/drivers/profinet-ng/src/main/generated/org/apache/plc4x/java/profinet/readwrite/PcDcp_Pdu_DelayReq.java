@@ -95,7 +95,7 @@ public class PcDcp_Pdu_DelayReq extends PnDcp_Pdu implements Message {
   @Override
   protected void serializePnDcp_PduChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PcDcp_Pdu_DelayReq");
 
     // Reserved Field (reserved)
@@ -184,10 +184,9 @@ public class PcDcp_Pdu_DelayReq extends PnDcp_Pdu implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PcDcp_Pdu_DelayReq _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 32;
@@ -229,7 +228,7 @@ public class PcDcp_Pdu_DelayReq extends PnDcp_Pdu implements Message {
       throws ParseException {
     readBuffer.pullContext("PcDcp_Pdu_DelayReq");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Long reservedField0 =
         readReservedField(
@@ -84,7 +84,7 @@ public class PnDcp_Block_DevicePropertiesDeviceRole extends PnDcp_Block implemen
   @Override
   protected void serializePnDcp_BlockChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnDcp_Block_DevicePropertiesDeviceRole");
 
     // Reserved Field (reserved)
@@ -138,37 +138,16 @@ public class PnDcp_Block_DevicePropertiesDeviceRole extends PnDcp_Block implemen
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    PnDcp_Block_DevicePropertiesDeviceRole _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Reserved Field (reserved)
-    lengthInBits += 20;
-
-    // Simple field (pnioSupervisor)
-    lengthInBits += 1;
-
-    // Simple field (pnioMultidevive)
-    lengthInBits += 1;
-
-    // Simple field (pnioController)
-    lengthInBits += 1;
-
-    // Simple field (pnioDevice)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 32;
   }
 
   public static PnDcp_BlockBuilder staticParsePnDcp_BlockBuilder(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("PnDcp_Block_DevicePropertiesDeviceRole");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Integer reservedField0 =
         readReservedField(
@@ -67,7 +67,7 @@ public class PnDcp_Block_DevicePropertiesDeviceVendor extends PnDcp_Block implem
   @Override
   protected void serializePnDcp_BlockChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnDcp_Block_DevicePropertiesDeviceVendor");
 
     // Reserved Field (reserved)
@@ -104,10 +104,9 @@ public class PnDcp_Block_DevicePropertiesDeviceVendor extends PnDcp_Block implem
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PnDcp_Block_DevicePropertiesDeviceVendor _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 16;
@@ -134,7 +133,7 @@ public class PnDcp_Block_DevicePropertiesDeviceVendor extends PnDcp_Block implem
       ReadBuffer readBuffer, Integer blockLength) throws ParseException {
     readBuffer.pullContext("PnDcp_Block_DevicePropertiesDeviceVendor");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Integer reservedField0 =
         readReservedField(
@@ -53,7 +53,7 @@ public class PnDcp_Block_DhcpOptionFullyQualifiedDomainName extends PnDcp_Block
   @Override
   protected void serializePnDcp_BlockChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnDcp_Block_DhcpOptionFullyQualifiedDomainName");
 
     writeBuffer.popContext("PnDcp_Block_DhcpOptionFullyQualifiedDomainName");
@@ -65,19 +65,16 @@ public class PnDcp_Block_DhcpOptionFullyQualifiedDomainName extends PnDcp_Block
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    PnDcp_Block_DhcpOptionFullyQualifiedDomainName _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static PnDcp_BlockBuilder staticParsePnDcp_BlockBuilder(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("PnDcp_Block_DhcpOptionFullyQualifiedDomainName");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("PnDcp_Block_DhcpOptionFullyQualifiedDomainName");
     // Create the instance
@@ -64,7 +64,7 @@ public class PnDcp_Block_IpMacAddress extends PnDcp_Block implements Message {
   @Override
   protected void serializePnDcp_BlockChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnDcp_Block_IpMacAddress");
 
     // Reserved Field (reserved)
@@ -90,10 +90,9 @@ public class PnDcp_Block_IpMacAddress extends PnDcp_Block implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PnDcp_Block_IpMacAddress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 16;
@@ -108,7 +107,7 @@ public class PnDcp_Block_IpMacAddress extends PnDcp_Block implements Message {
       throws ParseException {
     readBuffer.pullContext("PnDcp_Block_IpMacAddress");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Integer reservedField0 =
         readReservedField(
@@ -101,7 +101,7 @@ public class PnDcp_Block_IpParameter extends PnDcp_Block implements Message {
   @Override
   protected void serializePnDcp_BlockChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnDcp_Block_IpParameter");
 
     // Reserved Field (reserved)
@@ -169,10 +169,9 @@ public class PnDcp_Block_IpParameter extends PnDcp_Block implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PnDcp_Block_IpParameter _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 8;
@@ -211,7 +210,7 @@ public class PnDcp_Block_IpParameter extends PnDcp_Block implements Message {
       throws ParseException {
     readBuffer.pullContext("PnDcp_Block_IpParameter");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Short reservedField0 =
         readReservedField(
@@ -88,7 +88,7 @@ public class PnDcp_Pdu_IdentifyReq extends PnDcp_Pdu implements Message {
   @Override
   protected void serializePnDcp_PduChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnDcp_Pdu_IdentifyReq");
 
     // Const Field (serviceId)
@@ -162,10 +162,9 @@ public class PnDcp_Pdu_IdentifyReq extends PnDcp_Pdu implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PnDcp_Pdu_IdentifyReq _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (serviceId)
     lengthInBits += 8;
@@ -205,7 +204,7 @@ public class PnDcp_Pdu_IdentifyReq extends PnDcp_Pdu implements Message {
       throws ParseException {
     readBuffer.pullContext("PnDcp_Pdu_IdentifyReq");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short serviceId =
         readConstField(
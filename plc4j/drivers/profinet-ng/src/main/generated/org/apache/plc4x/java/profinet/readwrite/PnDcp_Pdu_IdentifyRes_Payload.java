@@ -72,7 +72,7 @@ public abstract class PnDcp_Pdu_IdentifyRes_Payload implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnDcp_Pdu_IdentifyRes_Payload");
 
     // Discriminator Field (serviceId) (Used as input to a switch field)
@@ -125,11 +125,22 @@ public abstract class PnDcp_Pdu_IdentifyRes_Payload implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     PnDcp_Pdu_IdentifyRes_Payload _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Discriminator Field (serviceId)
     lengthInBits += 8;
@@ -155,7 +166,7 @@ public abstract class PnDcp_Pdu_IdentifyRes_Payload implements Message {
       throws ParseException {
     readBuffer.pullContext("PnDcp_Pdu_IdentifyRes_Payload");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PnDcp_ServiceId serviceId =
         readDiscriminatorEnumField(
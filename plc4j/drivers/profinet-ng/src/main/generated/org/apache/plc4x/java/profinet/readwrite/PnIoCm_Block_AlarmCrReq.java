@@ -138,7 +138,7 @@ public class PnIoCm_Block_AlarmCrReq extends PnIoCm_Block implements Message {
   @Override
   protected void serializePnIoCm_BlockChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_Block_AlarmCrReq");
 
     // Implicit Field (blockLength) (Used for parsing, but its value is not stored as it's
@@ -254,61 +254,16 @@ public class PnIoCm_Block_AlarmCrReq extends PnIoCm_Block implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    PnIoCm_Block_AlarmCrReq _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Implicit Field (blockLength)
-    lengthInBits += 16;
-
-    // Simple field (blockVersionHigh)
-    lengthInBits += 8;
-
-    // Simple field (blockVersionLow)
-    lengthInBits += 8;
-
-    // Simple field (alarmType)
-    lengthInBits += 16;
-
-    // Simple field (lt)
-    lengthInBits += 16;
-
-    // Reserved Field (reserved)
-    lengthInBits += 30;
-
-    // Simple field (transport)
-    lengthInBits += 1;
-
-    // Simple field (priority)
-    lengthInBits += 1;
-
-    // Simple field (rtaTimeoutFactor)
-    lengthInBits += 16;
-
-    // Simple field (rtaRetries)
-    lengthInBits += 16;
-
-    // Simple field (localAlarmReference)
-    lengthInBits += 16;
-
-    // Simple field (maxAlarmDataLength)
-    lengthInBits += 16;
-
-    // Simple field (alarmCtrTagHeaderHigh)
-    lengthInBits += 16;
-
-    // Simple field (alarmCtrTagHeaderLow)
-    lengthInBits += 16;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 192;
   }
 
   public static PnIoCm_BlockBuilder staticParsePnIoCm_BlockBuilder(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("PnIoCm_Block_AlarmCrReq");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int blockLength =
         readImplicitField(
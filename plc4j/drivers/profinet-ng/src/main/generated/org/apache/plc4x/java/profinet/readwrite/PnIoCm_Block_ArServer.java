@@ -70,7 +70,7 @@ public class PnIoCm_Block_ArServer extends PnIoCm_Block implements Message {
   @Override
   protected void serializePnIoCm_BlockChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_Block_ArServer");
 
     // Implicit Field (blockLength) (Used for parsing, but its value is not stored as it's
@@ -120,10 +120,9 @@ public class PnIoCm_Block_ArServer extends PnIoCm_Block implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PnIoCm_Block_ArServer _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -150,7 +149,7 @@ public class PnIoCm_Block_ArServer extends PnIoCm_Block implements Message {
       throws ParseException {
     readBuffer.pullContext("PnIoCm_Block_ArServer");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int blockLength =
         readImplicitField(
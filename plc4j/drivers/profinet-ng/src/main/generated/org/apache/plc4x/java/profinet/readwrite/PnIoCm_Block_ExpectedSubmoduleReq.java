@@ -72,7 +72,7 @@ public class PnIoCm_Block_ExpectedSubmoduleReq extends PnIoCm_Block implements M
   @Override
   protected void serializePnIoCm_BlockChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_Block_ExpectedSubmoduleReq");
 
     // Implicit Field (blockLength) (Used for parsing, but its value is not stored as it's
@@ -120,10 +120,9 @@ public class PnIoCm_Block_ExpectedSubmoduleReq extends PnIoCm_Block implements M
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PnIoCm_Block_ExpectedSubmoduleReq _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -141,8 +140,7 @@ public class PnIoCm_Block_ExpectedSubmoduleReq extends PnIoCm_Block implements M
     if (apis != null) {
       int i = 0;
       for (PnIoCm_ExpectedSubmoduleBlockReqApi element : apis) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= apis.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= apis.size());
       }
     }
 
@@ -153,7 +151,7 @@ public class PnIoCm_Block_ExpectedSubmoduleReq extends PnIoCm_Block implements M
       throws ParseException {
     readBuffer.pullContext("PnIoCm_Block_ExpectedSubmoduleReq");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int blockLength =
         readImplicitField(
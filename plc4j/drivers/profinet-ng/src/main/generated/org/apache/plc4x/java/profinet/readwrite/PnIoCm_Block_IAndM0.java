@@ -142,7 +142,7 @@ public class PnIoCm_Block_IAndM0 extends PnIoCm_Block implements Message {
   @Override
   protected void serializePnIoCm_BlockChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_Block_IAndM0");
 
     // Implicit Field (blockLength) (Used for parsing, but its value is not stored as it's
@@ -254,61 +254,16 @@ public class PnIoCm_Block_IAndM0 extends PnIoCm_Block implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    PnIoCm_Block_IAndM0 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Implicit Field (blockLength)
-    lengthInBits += 16;
-
-    // Simple field (blockVersionHigh)
-    lengthInBits += 8;
-
-    // Simple field (blockVersionLow)
-    lengthInBits += 8;
-
-    // Simple field (vendorId)
-    lengthInBits += 16;
-
-    // Simple field (orderId)
-    lengthInBits += 160;
-
-    // Simple field (serialNumber)
-    lengthInBits += 128;
-
-    // Simple field (hardwareRevision)
-    lengthInBits += 16;
-
-    // Simple field (softwareRevision)
-    lengthInBits += 32;
-
-    // Simple field (revisionCounter)
-    lengthInBits += 16;
-
-    // Simple field (profileId)
-    lengthInBits += 16;
-
-    // Simple field (profileSpecificType)
-    lengthInBits += 16;
-
-    // Simple field (versionMajor)
-    lengthInBits += 8;
-
-    // Simple field (versionMinor)
-    lengthInBits += 8;
-
-    // Simple field (supported)
-    lengthInBits += 16;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 464;
   }
 
   public static PnIoCm_BlockBuilder staticParsePnIoCm_BlockBuilder(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("PnIoCm_Block_IAndM0");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int blockLength =
         readImplicitField(
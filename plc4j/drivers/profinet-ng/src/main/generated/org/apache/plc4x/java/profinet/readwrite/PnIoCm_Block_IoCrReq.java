@@ -209,7 +209,7 @@ public class PnIoCm_Block_IoCrReq extends PnIoCm_Block implements Message {
   @Override
   protected void serializePnIoCm_BlockChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_Block_IoCrReq");
 
     // Implicit Field (blockLength) (Used for parsing, but its value is not stored as it's
@@ -408,10 +408,9 @@ public class PnIoCm_Block_IoCrReq extends PnIoCm_Block implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PnIoCm_Block_IoCrReq _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -492,8 +491,7 @@ public class PnIoCm_Block_IoCrReq extends PnIoCm_Block implements Message {
     if (apis != null) {
       int i = 0;
       for (PnIoCm_IoCrBlockReqApi element : apis) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= apis.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= apis.size());
       }
     }
 
@@ -504,7 +502,7 @@ public class PnIoCm_Block_IoCrReq extends PnIoCm_Block implements Message {
       throws ParseException {
     readBuffer.pullContext("PnIoCm_Block_IoCrReq");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int blockLength =
         readImplicitField(
@@ -49,7 +49,7 @@ public class PnIoCm_Block_ReqPlugAlarmApplicationReady extends PnIoCm_Block impl
   @Override
   protected void serializePnIoCm_BlockChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_Block_ReqPlugAlarmApplicationReady");
 
     writeBuffer.popContext("PnIoCm_Block_ReqPlugAlarmApplicationReady");
@@ -61,19 +61,16 @@ public class PnIoCm_Block_ReqPlugAlarmApplicationReady extends PnIoCm_Block impl
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    PnIoCm_Block_ReqPlugAlarmApplicationReady _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static PnIoCm_BlockBuilder staticParsePnIoCm_BlockBuilder(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("PnIoCm_Block_ReqPlugAlarmApplicationReady");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("PnIoCm_Block_ReqPlugAlarmApplicationReady");
     // Create the instance
@@ -91,7 +91,7 @@ public class PnIoCm_Control_Response_ParameterEnd extends PnIoCm_Block implement
   @Override
   protected void serializePnIoCm_BlockChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_Control_Response_ParameterEnd");
 
     // Implicit Field (blockLength) (Used for parsing, but its value is not stored as it's
@@ -168,10 +168,9 @@ public class PnIoCm_Control_Response_ParameterEnd extends PnIoCm_Block implement
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PnIoCm_Control_Response_ParameterEnd _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -207,7 +206,7 @@ public class PnIoCm_Control_Response_ParameterEnd extends PnIoCm_Block implement
       throws ParseException {
     readBuffer.pullContext("PnIoCm_Control_Response_ParameterEnd");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int blockLength =
         readImplicitField(
@@ -66,7 +66,7 @@ public class PnIoCm_DataUnitIoCs implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_DataUnitIoCs");
 
     // Simple Field (dataState)
@@ -107,29 +107,18 @@ public class PnIoCm_DataUnitIoCs implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    PnIoCm_DataUnitIoCs _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (dataState)
-    lengthInBits += 1;
-
-    // Simple field (instance)
-    lengthInBits += 2;
-
-    // Reserved Field (reserved)
-    lengthInBits += 4;
-
-    // Simple field (extension)
-    lengthInBits += 1;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static PnIoCm_DataUnitIoCs staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("PnIoCm_DataUnitIoCs");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean dataState =
         readSimpleField(
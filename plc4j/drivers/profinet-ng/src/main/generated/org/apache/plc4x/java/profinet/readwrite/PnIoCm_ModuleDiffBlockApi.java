@@ -58,7 +58,7 @@ public class PnIoCm_ModuleDiffBlockApi implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_ModuleDiffBlockApi");
 
     // Const Field (api)
@@ -89,11 +89,22 @@ public class PnIoCm_ModuleDiffBlockApi implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     PnIoCm_ModuleDiffBlockApi _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (api)
     lengthInBits += 32;
@@ -105,8 +116,7 @@ public class PnIoCm_ModuleDiffBlockApi implements Message {
     if (modules != null) {
       int i = 0;
       for (PnIoCm_ModuleDiffBlockApi_Module element : modules) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= modules.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= modules.size());
       }
     }
 
@@ -116,7 +126,7 @@ public class PnIoCm_ModuleDiffBlockApi implements Message {
   public static PnIoCm_ModuleDiffBlockApi staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("PnIoCm_ModuleDiffBlockApi");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long api =
         readConstField(
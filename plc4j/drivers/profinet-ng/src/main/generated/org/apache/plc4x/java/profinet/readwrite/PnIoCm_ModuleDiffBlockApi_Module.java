@@ -73,7 +73,7 @@ public class PnIoCm_ModuleDiffBlockApi_Module implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_ModuleDiffBlockApi_Module");
 
     // Simple Field (slotNumber)
@@ -122,11 +122,22 @@ public class PnIoCm_ModuleDiffBlockApi_Module implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     PnIoCm_ModuleDiffBlockApi_Module _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (slotNumber)
     lengthInBits += 16;
@@ -144,8 +155,7 @@ public class PnIoCm_ModuleDiffBlockApi_Module implements Message {
     if (submodules != null) {
       int i = 0;
       for (PnIoCm_ModuleDiffBlockApi_Submodule element : submodules) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= submodules.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= submodules.size());
       }
     }
 
@@ -156,7 +166,7 @@ public class PnIoCm_ModuleDiffBlockApi_Module implements Message {
       throws ParseException {
     readBuffer.pullContext("PnIoCm_ModuleDiffBlockApi_Module");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int slotNumber =
         readSimpleField(
@@ -115,7 +115,7 @@ public class PnIoCm_ModuleDiffBlockApi_Submodule implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_ModuleDiffBlockApi_Submodule");
 
     // Simple Field (subslotNumber)
@@ -203,48 +203,19 @@ public class PnIoCm_ModuleDiffBlockApi_Submodule implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    PnIoCm_ModuleDiffBlockApi_Submodule _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (subslotNumber)
-    lengthInBits += 16;
-
-    // Simple field (submoduleIdentNumber)
-    lengthInBits += 32;
-
-    // Simple field (codingUsesIdentInfo)
-    lengthInBits += 1;
-
-    // Simple field (identInfo)
-    lengthInBits += 4;
-
-    // Simple field (arInfo)
-    lengthInBits += 4;
-
-    // Simple field (diagInfoAvailable)
-    lengthInBits += 1;
-
-    // Simple field (maintenanceDemanded)
-    lengthInBits += 1;
-
-    // Simple field (maintenanceRequired)
-    lengthInBits += 1;
-
-    // Simple field (qualifiedInfo)
-    lengthInBits += 1;
-
-    // Simple field (addInfo)
-    lengthInBits += 3;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 64;
   }
 
   public static PnIoCm_ModuleDiffBlockApi_Submodule staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("PnIoCm_ModuleDiffBlockApi_Submodule");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int subslotNumber =
         readSimpleField(
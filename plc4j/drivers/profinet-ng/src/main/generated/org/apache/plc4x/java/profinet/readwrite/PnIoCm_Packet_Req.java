@@ -77,7 +77,7 @@ public class PnIoCm_Packet_Req extends PnIoCm_Packet implements Message {
   protected void serializePnIoCm_PacketChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_Packet_Req");
 
     // Simple Field (argsMaximum)
@@ -111,10 +111,9 @@ public class PnIoCm_Packet_Req extends PnIoCm_Packet implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PnIoCm_Packet_Req _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (argsMaximum)
     lengthInBits += 32;
@@ -145,7 +144,7 @@ public class PnIoCm_Packet_Req extends PnIoCm_Packet implements Message {
       ReadBuffer readBuffer, DceRpc_PacketType packetType) throws ParseException {
     readBuffer.pullContext("PnIoCm_Packet_Req");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long argsMaximum = readSimpleField("argsMaximum", readUnsignedLong(readBuffer, 32));
 
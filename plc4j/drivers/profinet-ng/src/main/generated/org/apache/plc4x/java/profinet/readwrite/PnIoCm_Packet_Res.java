@@ -101,7 +101,7 @@ public class PnIoCm_Packet_Res extends PnIoCm_Packet implements Message {
   protected void serializePnIoCm_PacketChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_Packet_Res");
 
     // Simple Field (errorCode2)
@@ -150,10 +150,9 @@ public class PnIoCm_Packet_Res extends PnIoCm_Packet implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PnIoCm_Packet_Res _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (errorCode2)
     lengthInBits += 8;
@@ -193,7 +192,7 @@ public class PnIoCm_Packet_Res extends PnIoCm_Packet implements Message {
       ReadBuffer readBuffer, DceRpc_PacketType packetType) throws ParseException {
     readBuffer.pullContext("PnIoCm_Packet_Res");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short errorCode2 = readSimpleField("errorCode2", readUnsignedShort(readBuffer, 8));
 
@@ -64,7 +64,7 @@ public class PnIoCm_RealIdentificationApi_Slot implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_RealIdentificationApi_Slot");
 
     // Simple Field (slotNumber)
@@ -102,11 +102,22 @@ public class PnIoCm_RealIdentificationApi_Slot implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     PnIoCm_RealIdentificationApi_Slot _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (slotNumber)
     lengthInBits += 16;
@@ -121,8 +132,7 @@ public class PnIoCm_RealIdentificationApi_Slot implements Message {
     if (subslots != null) {
       int i = 0;
       for (PnIoCm_RealIdentificationApi_Subslot element : subslots) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= subslots.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= subslots.size());
       }
     }
 
@@ -133,7 +143,7 @@ public class PnIoCm_RealIdentificationApi_Slot implements Message {
       throws ParseException {
     readBuffer.pullContext("PnIoCm_RealIdentificationApi_Slot");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int slotNumber =
         readSimpleField(
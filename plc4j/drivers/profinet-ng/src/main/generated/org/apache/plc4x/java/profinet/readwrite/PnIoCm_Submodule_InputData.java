@@ -88,7 +88,7 @@ public class PnIoCm_Submodule_InputData extends PnIoCm_Submodule implements Mess
   protected void serializePnIoCm_SubmoduleChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_Submodule_InputData");
 
     // Const Field (inputDataDescription)
@@ -128,31 +128,16 @@ public class PnIoCm_Submodule_InputData extends PnIoCm_Submodule implements Mess
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    PnIoCm_Submodule_InputData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (inputDataDescription)
-    lengthInBits += 16;
-
-    // Simple field (inputSubmoduleDataLength)
-    lengthInBits += 16;
-
-    // Const Field (inputLengthIoCs)
-    lengthInBits += 8;
-
-    // Const Field (inputLengthIoPs)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 48;
   }
 
   public static PnIoCm_SubmoduleBuilder staticParsePnIoCm_SubmoduleBuilder(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("PnIoCm_Submodule_InputData");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int inputDataDescription =
         readConstField(
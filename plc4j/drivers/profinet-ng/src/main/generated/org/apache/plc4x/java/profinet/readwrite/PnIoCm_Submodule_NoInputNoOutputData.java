@@ -84,7 +84,7 @@ public class PnIoCm_Submodule_NoInputNoOutputData extends PnIoCm_Submodule imple
   protected void serializePnIoCm_SubmoduleChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_Submodule_NoInputNoOutputData");
 
     // Const Field (dataDescription)
@@ -124,31 +124,16 @@ public class PnIoCm_Submodule_NoInputNoOutputData extends PnIoCm_Submodule imple
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    PnIoCm_Submodule_NoInputNoOutputData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (dataDescription)
-    lengthInBits += 16;
-
-    // Const Field (submoduleDataLength)
-    lengthInBits += 16;
-
-    // Const Field (lengthIoCs)
-    lengthInBits += 8;
-
-    // Const Field (lengthIoPs)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 48;
   }
 
   public static PnIoCm_SubmoduleBuilder staticParsePnIoCm_SubmoduleBuilder(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("PnIoCm_Submodule_NoInputNoOutputData");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int dataDescription =
         readConstField(
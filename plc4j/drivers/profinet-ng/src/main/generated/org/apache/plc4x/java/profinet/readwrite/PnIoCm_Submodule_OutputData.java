@@ -88,7 +88,7 @@ public class PnIoCm_Submodule_OutputData extends PnIoCm_Submodule implements Mes
   protected void serializePnIoCm_SubmoduleChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_Submodule_OutputData");
 
     // Const Field (inputDataDescription)
@@ -128,31 +128,16 @@ public class PnIoCm_Submodule_OutputData extends PnIoCm_Submodule implements Mes
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    PnIoCm_Submodule_OutputData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (inputDataDescription)
-    lengthInBits += 16;
-
-    // Simple field (outputSubmoduleDataLength)
-    lengthInBits += 16;
-
-    // Const Field (outputLengthIoCs)
-    lengthInBits += 8;
-
-    // Const Field (outputLengthIoPs)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 48;
   }
 
   public static PnIoCm_SubmoduleBuilder staticParsePnIoCm_SubmoduleBuilder(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("PnIoCm_Submodule_OutputData");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int inputDataDescription =
         readConstField(
@@ -58,7 +58,7 @@ public class TlvOrgSpecificIeee8023 extends TlvOrganizationSpecificUnit implemen
   protected void serializeTlvOrganizationSpecificUnitChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TlvOrgSpecificIeee8023");
 
     // Simple Field (specificUnit)
@@ -73,10 +73,9 @@ public class TlvOrgSpecificIeee8023 extends TlvOrganizationSpecificUnit implemen
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     TlvOrgSpecificIeee8023 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (specificUnit)
     lengthInBits += specificUnit.getLengthInBits();
@@ -88,7 +87,7 @@ public class TlvOrgSpecificIeee8023 extends TlvOrganizationSpecificUnit implemen
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("TlvOrgSpecificIeee8023");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     TlvOrgSpecificIeee8023Unit specificUnit =
         readSimpleField(
@@ -87,7 +87,7 @@ public class TlvProfibusSubTypeMeasuredDelay extends TlvOrgSpecificProfibusUnit
   protected void serializeTlvOrgSpecificProfibusUnitChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TlvProfibusSubTypeMeasuredDelay");
 
     // Simple Field (localPortRxDelay)
@@ -114,34 +114,16 @@ public class TlvProfibusSubTypeMeasuredDelay extends TlvOrgSpecificProfibusUnit
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    TlvProfibusSubTypeMeasuredDelay _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (localPortRxDelay)
-    lengthInBits += 32;
-
-    // Simple field (remotePortRxDelay)
-    lengthInBits += 32;
-
-    // Simple field (localPortTxDelay)
-    lengthInBits += 32;
-
-    // Simple field (remotePortTxDelay)
-    lengthInBits += 32;
-
-    // Simple field (portCableDelay)
-    lengthInBits += 32;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 160;
   }
 
   public static TlvOrgSpecificProfibusUnitBuilder staticParseTlvOrgSpecificProfibusUnitBuilder(
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("TlvProfibusSubTypeMeasuredDelay");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long localPortRxDelay = readSimpleField("localPortRxDelay", readUnsignedLong(readBuffer, 32));
 
@@ -168,7 +168,7 @@ public class TlvSystemCapabilities extends LldpUnit implements Message {
   @Override
   protected void serializeLldpUnitChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TlvSystemCapabilities");
 
     // Reserved Field (reserved)
@@ -242,73 +242,16 @@ public class TlvSystemCapabilities extends LldpUnit implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    TlvSystemCapabilities _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Reserved Field (reserved)
-    lengthInBits += 8;
-
-    // Simple field (stationOnlyCapable)
-    lengthInBits += 1;
-
-    // Simple field (docsisCableDeviceCapable)
-    lengthInBits += 1;
-
-    // Simple field (telephoneCapable)
-    lengthInBits += 1;
-
-    // Simple field (routerCapable)
-    lengthInBits += 1;
-
-    // Simple field (wlanAccessPointCapable)
-    lengthInBits += 1;
-
-    // Simple field (bridgeCapable)
-    lengthInBits += 1;
-
-    // Simple field (repeaterCapable)
-    lengthInBits += 1;
-
-    // Simple field (otherCapable)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 8;
-
-    // Simple field (stationOnlyEnabled)
-    lengthInBits += 1;
-
-    // Simple field (docsisCableDeviceEnabled)
-    lengthInBits += 1;
-
-    // Simple field (telephoneEnabled)
-    lengthInBits += 1;
-
-    // Simple field (routerEnabled)
-    lengthInBits += 1;
-
-    // Simple field (wlanAccessPointEnabled)
-    lengthInBits += 1;
-
-    // Simple field (bridgeEnabled)
-    lengthInBits += 1;
-
-    // Simple field (repeaterEnabled)
-    lengthInBits += 1;
-
-    // Simple field (otherEnabled)
-    lengthInBits += 1;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 32;
   }
 
   public static LldpUnitBuilder staticParseLldpUnitBuilder(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("TlvSystemCapabilities");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Short reservedField0 =
         readReservedField("reserved", readUnsignedShort(readBuffer, 8), (short) 0x00);
@@ -57,7 +57,7 @@ public class TlvSystemName extends LldpUnit implements Message {
   @Override
   protected void serializeLldpUnitChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TlvSystemName");
 
     // Simple Field (chassisId)
@@ -72,10 +72,9 @@ public class TlvSystemName extends LldpUnit implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     TlvSystemName _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (chassisId)
     lengthInBits += ((tlvIdLength)) * (8);
@@ -87,7 +86,7 @@ public class TlvSystemName extends LldpUnit implements Message {
       throws ParseException {
     readBuffer.pullContext("TlvSystemName");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     String chassisId = readSimpleField("chassisId", readString(readBuffer, ((tlvIdLength)) * (8)));
 
@@ -81,7 +81,7 @@ public abstract class DceRpc_InterfaceUuid implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DceRpc_InterfaceUuid");
 
     // Discriminator Field (interfaceType) (Used as input to a switch field)
@@ -133,42 +133,28 @@ public abstract class DceRpc_InterfaceUuid implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    DceRpc_InterfaceUuid _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Discriminator Field (interfaceType)
-    lengthInBits += 32;
-
-    // Const Field (data1)
-    lengthInBits += 16;
-
-    // Const Field (data2)
-    lengthInBits += 16;
-
-    // Const Field (data3)
-    lengthInBits += 16;
-
-    // Const Field (data4)
-    lengthInBits += 16;
-
-    // Const Field (data5)
-    lengthInBits += 16;
-
-    // Const Field (data6)
-    lengthInBits += 16;
-
-    // Length of sub-type elements will be added by sub-type...
-
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
     return lengthInBits;
   }
 
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 128;
+  }
+
   public static DceRpc_InterfaceUuid staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("DceRpc_InterfaceUuid");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long interfaceType = readDiscriminatorField("interfaceType", readUnsignedLong(readBuffer, 32));
 
@@ -51,7 +51,7 @@ public class DceRpc_InterfaceUuid_SupervisorInterface extends DceRpc_InterfaceUu
   protected void serializeDceRpc_InterfaceUuidChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DceRpc_InterfaceUuid_SupervisorInterface");
 
     writeBuffer.popContext("DceRpc_InterfaceUuid_SupervisorInterface");
@@ -63,19 +63,16 @@ public class DceRpc_InterfaceUuid_SupervisorInterface extends DceRpc_InterfaceUu
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    DceRpc_InterfaceUuid_SupervisorInterface _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static DceRpc_InterfaceUuidBuilder staticParseDceRpc_InterfaceUuidBuilder(
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("DceRpc_InterfaceUuid_SupervisorInterface");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("DceRpc_InterfaceUuid_SupervisorInterface");
     // Create the instance
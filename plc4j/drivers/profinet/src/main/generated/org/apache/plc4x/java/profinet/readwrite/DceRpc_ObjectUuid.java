@@ -91,7 +91,7 @@ public class DceRpc_ObjectUuid implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DceRpc_ObjectUuid");
 
     // Const Field (data1)
@@ -148,41 +148,18 @@ public class DceRpc_ObjectUuid implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    DceRpc_ObjectUuid _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (data1)
-    lengthInBits += 32;
-
-    // Const Field (data2)
-    lengthInBits += 16;
-
-    // Const Field (data3)
-    lengthInBits += 16;
-
-    // Const Field (data4)
-    lengthInBits += 16;
-
-    // Simple field (interfaceNumber)
-    lengthInBits += 4;
-
-    // Simple field (nodeNumber)
-    lengthInBits += 12;
-
-    // Simple field (deviceId)
-    lengthInBits += 16;
-
-    // Simple field (vendorId)
-    lengthInBits += 16;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 128;
   }
 
   public static DceRpc_ObjectUuid staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("DceRpc_ObjectUuid");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long data1 = readConstField("data1", readUnsignedLong(readBuffer, 32), DceRpc_ObjectUuid.DATA1);
 
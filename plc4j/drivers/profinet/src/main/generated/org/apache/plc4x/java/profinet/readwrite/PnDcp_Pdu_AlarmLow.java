@@ -112,7 +112,7 @@ public class PnDcp_Pdu_AlarmLow extends PnDcp_Pdu implements Message {
   @Override
   protected void serializePnDcp_PduChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnDcp_Pdu_AlarmLow");
 
     // Simple Field (alarmDstEndpoint)
@@ -196,10 +196,9 @@ public class PnDcp_Pdu_AlarmLow extends PnDcp_Pdu implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PnDcp_Pdu_AlarmLow _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (alarmDstEndpoint)
     lengthInBits += 16;
@@ -240,7 +239,7 @@ public class PnDcp_Pdu_AlarmLow extends PnDcp_Pdu implements Message {
       throws ParseException {
     readBuffer.pullContext("PnDcp_Pdu_AlarmLow");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int alarmDstEndpoint =
         readSimpleField(
@@ -84,7 +84,7 @@ public class PnDcp_Pdu_IdentifyRes extends PnDcp_Pdu implements Message {
   @Override
   protected void serializePnDcp_PduChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnDcp_Pdu_IdentifyRes");
 
     // Const Field (serviceId)
@@ -158,10 +158,9 @@ public class PnDcp_Pdu_IdentifyRes extends PnDcp_Pdu implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PnDcp_Pdu_IdentifyRes _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (serviceId)
     lengthInBits += 8;
@@ -201,7 +200,7 @@ public class PnDcp_Pdu_IdentifyRes extends PnDcp_Pdu implements Message {
       throws ParseException {
     readBuffer.pullContext("PnDcp_Pdu_IdentifyRes");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short serviceId =
         readConstField(
@@ -61,7 +61,7 @@ public class PnDcp_ServiceType implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnDcp_ServiceType");
 
     // Reserved Field (reserved)
@@ -102,29 +102,18 @@ public class PnDcp_ServiceType implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    PnDcp_ServiceType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Reserved Field (reserved)
-    lengthInBits += 5;
-
-    // Simple field (notSupported)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 1;
-
-    // Simple field (response)
-    lengthInBits += 1;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static PnDcp_ServiceType staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("PnDcp_ServiceType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Byte reservedField0 =
         readReservedField(
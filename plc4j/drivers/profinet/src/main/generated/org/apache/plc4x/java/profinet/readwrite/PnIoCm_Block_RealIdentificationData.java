@@ -70,7 +70,7 @@ public class PnIoCm_Block_RealIdentificationData extends PnIoCm_Block implements
   @Override
   protected void serializePnIoCm_BlockChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_Block_RealIdentificationData");
 
     // Implicit Field (blockLength) (Used for parsing, but its value is not stored as it's
@@ -118,10 +118,9 @@ public class PnIoCm_Block_RealIdentificationData extends PnIoCm_Block implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PnIoCm_Block_RealIdentificationData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -139,8 +138,7 @@ public class PnIoCm_Block_RealIdentificationData extends PnIoCm_Block implements
     if (apis != null) {
       int i = 0;
       for (PnIoCm_RealIdentificationApi element : apis) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= apis.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= apis.size());
       }
     }
 
@@ -151,7 +149,7 @@ public class PnIoCm_Block_RealIdentificationData extends PnIoCm_Block implements
       throws ParseException {
     readBuffer.pullContext("PnIoCm_Block_RealIdentificationData");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int blockLength =
         readImplicitField(
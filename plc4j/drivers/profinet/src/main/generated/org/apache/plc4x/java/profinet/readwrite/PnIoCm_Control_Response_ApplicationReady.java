@@ -97,7 +97,7 @@ public class PnIoCm_Control_Response_ApplicationReady extends PnIoCm_Block imple
   @Override
   protected void serializePnIoCm_BlockChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_Control_Response_ApplicationReady");
 
     // Implicit Field (blockLength) (Used for parsing, but its value is not stored as it's
@@ -174,10 +174,9 @@ public class PnIoCm_Control_Response_ApplicationReady extends PnIoCm_Block imple
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     PnIoCm_Control_Response_ApplicationReady _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -213,7 +212,7 @@ public class PnIoCm_Control_Response_ApplicationReady extends PnIoCm_Block imple
       throws ParseException {
     readBuffer.pullContext("PnIoCm_Control_Response_ApplicationReady");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int blockLength =
         readImplicitField(
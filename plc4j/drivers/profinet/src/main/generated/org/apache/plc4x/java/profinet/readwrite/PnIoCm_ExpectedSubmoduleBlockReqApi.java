@@ -80,7 +80,7 @@ public class PnIoCm_ExpectedSubmoduleBlockReqApi implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_ExpectedSubmoduleBlockReqApi");
 
     // Const Field (api)
@@ -132,11 +132,22 @@ public class PnIoCm_ExpectedSubmoduleBlockReqApi implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     PnIoCm_ExpectedSubmoduleBlockReqApi _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (api)
     lengthInBits += 32;
@@ -157,8 +168,7 @@ public class PnIoCm_ExpectedSubmoduleBlockReqApi implements Message {
     if (submodules != null) {
       int i = 0;
       for (PnIoCm_Submodule element : submodules) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= submodules.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= submodules.size());
       }
     }
 
@@ -169,7 +179,7 @@ public class PnIoCm_ExpectedSubmoduleBlockReqApi implements Message {
       throws ParseException {
     readBuffer.pullContext("PnIoCm_ExpectedSubmoduleBlockReqApi");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long api =
         readConstField(
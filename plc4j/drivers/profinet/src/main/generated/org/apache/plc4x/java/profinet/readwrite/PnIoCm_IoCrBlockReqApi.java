@@ -64,7 +64,7 @@ public class PnIoCm_IoCrBlockReqApi implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_IoCrBlockReqApi");
 
     // Const Field (api)
@@ -111,11 +111,22 @@ public class PnIoCm_IoCrBlockReqApi implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     PnIoCm_IoCrBlockReqApi _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (api)
     lengthInBits += 32;
@@ -127,8 +138,7 @@ public class PnIoCm_IoCrBlockReqApi implements Message {
     if (ioDataObjects != null) {
       int i = 0;
       for (PnIoCm_IoDataObject element : ioDataObjects) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= ioDataObjects.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= ioDataObjects.size());
       }
     }
 
@@ -139,8 +149,7 @@ public class PnIoCm_IoCrBlockReqApi implements Message {
     if (ioCss != null) {
       int i = 0;
       for (PnIoCm_IoCs element : ioCss) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= ioCss.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= ioCss.size());
       }
     }
 
@@ -150,7 +159,7 @@ public class PnIoCm_IoCrBlockReqApi implements Message {
   public static PnIoCm_IoCrBlockReqApi staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("PnIoCm_IoCrBlockReqApi");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long api =
         readConstField(
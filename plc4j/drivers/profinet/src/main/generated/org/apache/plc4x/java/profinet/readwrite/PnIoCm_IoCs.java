@@ -63,7 +63,7 @@ public class PnIoCm_IoCs implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_IoCs");
 
     // Simple Field (slotNumber)
@@ -97,26 +97,18 @@ public class PnIoCm_IoCs implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    PnIoCm_IoCs _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (slotNumber)
-    lengthInBits += 16;
-
-    // Simple field (subSlotNumber)
-    lengthInBits += 16;
-
-    // Simple field (ioFrameOffset)
-    lengthInBits += 16;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 48;
   }
 
   public static PnIoCm_IoCs staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("PnIoCm_IoCs");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int slotNumber =
         readSimpleField(
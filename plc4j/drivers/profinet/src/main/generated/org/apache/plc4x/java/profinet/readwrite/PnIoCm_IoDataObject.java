@@ -63,7 +63,7 @@ public class PnIoCm_IoDataObject implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_IoDataObject");
 
     // Simple Field (slotNumber)
@@ -97,26 +97,18 @@ public class PnIoCm_IoDataObject implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    PnIoCm_IoDataObject _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (slotNumber)
-    lengthInBits += 16;
-
-    // Simple field (subSlotNumber)
-    lengthInBits += 16;
-
-    // Simple field (ioDataObjectFrameOffset)
-    lengthInBits += 16;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 48;
   }
 
   public static PnIoCm_IoDataObject staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("PnIoCm_IoDataObject");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int slotNumber =
         readSimpleField(
@@ -58,7 +58,7 @@ public class PnIoCm_RealIdentificationApi implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_RealIdentificationApi");
 
     // Const Field (api)
@@ -89,11 +89,22 @@ public class PnIoCm_RealIdentificationApi implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     PnIoCm_RealIdentificationApi _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (api)
     lengthInBits += 32;
@@ -105,8 +116,7 @@ public class PnIoCm_RealIdentificationApi implements Message {
     if (slots != null) {
       int i = 0;
       for (PnIoCm_RealIdentificationApi_Slot element : slots) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= slots.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= slots.size());
       }
     }
 
@@ -117,7 +127,7 @@ public class PnIoCm_RealIdentificationApi implements Message {
       throws ParseException {
     readBuffer.pullContext("PnIoCm_RealIdentificationApi");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     long api =
         readConstField(
@@ -57,7 +57,7 @@ public class PnIoCm_RealIdentificationApi_Subslot implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_RealIdentificationApi_Subslot");
 
     // Simple Field (subslotNumber)
@@ -84,24 +84,19 @@ public class PnIoCm_RealIdentificationApi_Subslot implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    PnIoCm_RealIdentificationApi_Subslot _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (subslotNumber)
-    lengthInBits += 16;
-
-    // Simple field (submoduleIdentNumber)
-    lengthInBits += 32;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 48;
   }
 
   public static PnIoCm_RealIdentificationApi_Subslot staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("PnIoCm_RealIdentificationApi_Subslot");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int subslotNumber =
         readSimpleField(
@@ -96,7 +96,7 @@ public abstract class PnIoCm_Submodule implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_Submodule");
 
     // Simple Field (slotNumber)
@@ -170,45 +170,28 @@ public abstract class PnIoCm_Submodule implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    PnIoCm_Submodule _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (slotNumber)
-    lengthInBits += 16;
-
-    // Simple field (submoduleIdentNumber)
-    lengthInBits += 32;
-
-    // Reserved Field (reserved)
-    lengthInBits += 10;
-
-    // Simple field (discardIoxs)
-    lengthInBits += 1;
-
-    // Simple field (reduceOutputModuleDataLength)
-    lengthInBits += 1;
-
-    // Simple field (reduceInputModuleDataLength)
-    lengthInBits += 1;
-
-    // Simple field (sharedInput)
-    lengthInBits += 1;
-
-    // Discriminator Field (submoduleType)
-    lengthInBits += 2;
-
-    // Length of sub-type elements will be added by sub-type...
-
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
     return lengthInBits;
   }
 
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 64;
+  }
+
   public static PnIoCm_Submodule staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("PnIoCm_Submodule");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int slotNumber =
         readSimpleField(
@@ -110,7 +110,7 @@ public class PnIoCm_Submodule_InputAndOutputData extends PnIoCm_Submodule implem
   protected void serializePnIoCm_SubmoduleChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnIoCm_Submodule_InputAndOutputData");
 
     // Const Field (inputDataDescription)
@@ -178,43 +178,16 @@ public class PnIoCm_Submodule_InputAndOutputData extends PnIoCm_Submodule implem
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    PnIoCm_Submodule_InputAndOutputData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (inputDataDescription)
-    lengthInBits += 16;
-
-    // Simple field (inputSubmoduleDataLength)
-    lengthInBits += 16;
-
-    // Const Field (ioInputLengthIoCs)
-    lengthInBits += 8;
-
-    // Const Field (ioInputLengthIoPs)
-    lengthInBits += 8;
-
-    // Const Field (outputDataDescription)
-    lengthInBits += 16;
-
-    // Simple field (outputSubmoduleDataLength)
-    lengthInBits += 16;
-
-    // Const Field (ioOutputLengthIoCs)
-    lengthInBits += 8;
-
-    // Const Field (ioOutputLengthIoPs)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 96;
   }
 
   public static PnIoCm_SubmoduleBuilder staticParsePnIoCm_SubmoduleBuilder(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("PnIoCm_Submodule_InputAndOutputData");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int inputDataDescription =
         readConstField(
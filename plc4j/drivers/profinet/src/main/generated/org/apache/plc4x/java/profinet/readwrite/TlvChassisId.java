@@ -63,7 +63,7 @@ public class TlvChassisId extends LldpUnit implements Message {
   @Override
   protected void serializeLldpUnitChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TlvChassisId");
 
     // Simple Field (chassisIdSubType)
@@ -82,10 +82,9 @@ public class TlvChassisId extends LldpUnit implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     TlvChassisId _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (chassisIdSubType)
     lengthInBits += 8;
@@ -100,7 +99,7 @@ public class TlvChassisId extends LldpUnit implements Message {
       throws ParseException {
     readBuffer.pullContext("TlvChassisId");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short chassisIdSubType = readSimpleField("chassisIdSubType", readUnsignedShort(readBuffer, 8));
 
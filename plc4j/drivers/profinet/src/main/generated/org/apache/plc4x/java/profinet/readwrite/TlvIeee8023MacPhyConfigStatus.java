@@ -71,7 +71,7 @@ public class TlvIeee8023MacPhyConfigStatus extends TlvOrgSpecificIeee8023Unit im
   protected void serializeTlvOrgSpecificIeee8023UnitChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TlvIeee8023MacPhyConfigStatus");
 
     // Simple Field (negotiationSupport)
@@ -93,28 +93,16 @@ public class TlvIeee8023MacPhyConfigStatus extends TlvOrgSpecificIeee8023Unit im
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    TlvIeee8023MacPhyConfigStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (negotiationSupport)
-    lengthInBits += 8;
-
-    // Simple field (negotiationCapability)
-    lengthInBits += 16;
-
-    // Simple field (operationalMauType)
-    lengthInBits += 16;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 40;
   }
 
   public static TlvOrgSpecificIeee8023UnitBuilder staticParseTlvOrgSpecificIeee8023UnitBuilder(
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("TlvIeee8023MacPhyConfigStatus");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short negotiationSupport =
         readSimpleField("negotiationSupport", readUnsignedShort(readBuffer, 8));
@@ -58,7 +58,7 @@ public class TlvIeee8023MaxFrameSize extends TlvOrgSpecificIeee8023Unit implemen
   protected void serializeTlvOrgSpecificIeee8023UnitChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TlvIeee8023MaxFrameSize");
 
     // Simple Field (maxSize)
@@ -73,22 +73,16 @@ public class TlvIeee8023MaxFrameSize extends TlvOrgSpecificIeee8023Unit implemen
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    TlvIeee8023MaxFrameSize _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (maxSize)
-    lengthInBits += 16;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 16;
   }
 
   public static TlvOrgSpecificIeee8023UnitBuilder staticParseTlvOrgSpecificIeee8023UnitBuilder(
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("TlvIeee8023MaxFrameSize");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int maxSize = readSimpleField("maxSize", readUnsignedInt(readBuffer, 16));
 
@@ -87,7 +87,7 @@ public class TlvManagementAddress extends LldpUnit implements Message {
   @Override
   protected void serializeLldpUnitChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TlvManagementAddress");
 
     // Implicit Field (addressStringLength) (Used for parsing, but its value is not stored as it's
@@ -127,10 +127,9 @@ public class TlvManagementAddress extends LldpUnit implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     TlvManagementAddress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (addressStringLength)
     lengthInBits += 8;
@@ -157,7 +156,7 @@ public class TlvManagementAddress extends LldpUnit implements Message {
       throws ParseException {
     readBuffer.pullContext("TlvManagementAddress");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short addressStringLength =
         readImplicitField("addressStringLength", readUnsignedShort(readBuffer, 8));
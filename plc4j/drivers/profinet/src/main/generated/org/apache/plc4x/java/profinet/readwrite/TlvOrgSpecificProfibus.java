@@ -58,7 +58,7 @@ public class TlvOrgSpecificProfibus extends TlvOrganizationSpecificUnit implemen
   protected void serializeTlvOrganizationSpecificUnitChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TlvOrgSpecificProfibus");
 
     // Simple Field (specificUnit)
@@ -73,10 +73,9 @@ public class TlvOrgSpecificProfibus extends TlvOrganizationSpecificUnit implemen
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     TlvOrgSpecificProfibus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (specificUnit)
     lengthInBits += specificUnit.getLengthInBits();
@@ -88,7 +87,7 @@ public class TlvOrgSpecificProfibus extends TlvOrganizationSpecificUnit implemen
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("TlvOrgSpecificProfibus");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     TlvOrgSpecificProfibusUnit specificUnit =
         readSimpleField(
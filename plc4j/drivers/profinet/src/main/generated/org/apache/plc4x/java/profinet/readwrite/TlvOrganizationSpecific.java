@@ -58,7 +58,7 @@ public class TlvOrganizationSpecific extends LldpUnit implements Message {
   @Override
   protected void serializeLldpUnitChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TlvOrganizationSpecific");
 
     // Simple Field (organizationSpecificUnit)
@@ -74,10 +74,9 @@ public class TlvOrganizationSpecific extends LldpUnit implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     TlvOrganizationSpecific _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (organizationSpecificUnit)
     lengthInBits += organizationSpecificUnit.getLengthInBits();
@@ -89,7 +88,7 @@ public class TlvOrganizationSpecific extends LldpUnit implements Message {
       throws ParseException {
     readBuffer.pullContext("TlvOrganizationSpecific");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     TlvOrganizationSpecificUnit organizationSpecificUnit =
         readSimpleField(
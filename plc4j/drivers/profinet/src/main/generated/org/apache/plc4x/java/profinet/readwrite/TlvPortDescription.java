@@ -57,7 +57,7 @@ public class TlvPortDescription extends LldpUnit implements Message {
   @Override
   protected void serializeLldpUnitChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TlvPortDescription");
 
     // Simple Field (chassisId)
@@ -72,10 +72,9 @@ public class TlvPortDescription extends LldpUnit implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     TlvPortDescription _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (chassisId)
     lengthInBits += ((tlvIdLength)) * (8);
@@ -87,7 +86,7 @@ public class TlvPortDescription extends LldpUnit implements Message {
       throws ParseException {
     readBuffer.pullContext("TlvPortDescription");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     String chassisId = readSimpleField("chassisId", readString(readBuffer, ((tlvIdLength)) * (8)));
 
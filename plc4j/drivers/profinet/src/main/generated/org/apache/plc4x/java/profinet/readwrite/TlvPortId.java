@@ -63,7 +63,7 @@ public class TlvPortId extends LldpUnit implements Message {
   @Override
   protected void serializeLldpUnitChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TlvPortId");
 
     // Simple Field (portIdSubType)
@@ -81,10 +81,9 @@ public class TlvPortId extends LldpUnit implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     TlvPortId _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (portIdSubType)
     lengthInBits += 8;
@@ -99,7 +98,7 @@ public class TlvPortId extends LldpUnit implements Message {
       throws ParseException {
     readBuffer.pullContext("TlvPortId");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short portIdSubType = readSimpleField("portIdSubType", readUnsignedShort(readBuffer, 8));
 
@@ -81,7 +81,7 @@ public class TlvProfibusSubTypePortStatus extends TlvOrgSpecificProfibusUnit imp
   protected void serializeTlvOrgSpecificProfibusUnitChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TlvProfibusSubTypePortStatus");
 
     // Simple Field (rtClass2PortStatus)
@@ -117,37 +117,16 @@ public class TlvProfibusSubTypePortStatus extends TlvOrgSpecificProfibusUnit imp
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    TlvProfibusSubTypePortStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (rtClass2PortStatus)
-    lengthInBits += 16;
-
-    // Reserved Field (reserved)
-    lengthInBits += 2;
-
-    // Simple field (preample)
-    lengthInBits += 1;
-
-    // Simple field (fragmentation)
-    lengthInBits += 1;
-
-    // Reserved Field (reserved)
-    lengthInBits += 9;
-
-    // Simple field (rtClass3PortStatus)
-    lengthInBits += 3;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 32;
   }
 
   public static TlvOrgSpecificProfibusUnitBuilder staticParseTlvOrgSpecificProfibusUnitBuilder(
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("TlvProfibusSubTypePortStatus");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int rtClass2PortStatus = readSimpleField("rtClass2PortStatus", readUnsignedInt(readBuffer, 16));
 
@@ -57,7 +57,7 @@ public class TlvSystemDescription extends LldpUnit implements Message {
   @Override
   protected void serializeLldpUnitChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("TlvSystemDescription");
 
     // Simple Field (chassisId)
@@ -72,10 +72,9 @@ public class TlvSystemDescription extends LldpUnit implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     TlvSystemDescription _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (chassisId)
     lengthInBits += ((tlvIdLength)) * (8);
@@ -87,7 +86,7 @@ public class TlvSystemDescription extends LldpUnit implements Message {
       throws ParseException {
     readBuffer.pullContext("TlvSystemDescription");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     String chassisId = readSimpleField("chassisId", readString(readBuffer, ((tlvIdLength)) * (8)));
 
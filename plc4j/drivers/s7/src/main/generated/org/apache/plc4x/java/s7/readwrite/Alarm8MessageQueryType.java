@@ -87,7 +87,7 @@ public class Alarm8MessageQueryType implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("Alarm8MessageQueryType");
 
     // Simple Field (functionId)
@@ -130,11 +130,22 @@ public class Alarm8MessageQueryType implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     Alarm8MessageQueryType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (functionId)
     lengthInBits += 8;
@@ -155,8 +166,7 @@ public class Alarm8MessageQueryType implements Message {
     if (messageObjects != null) {
       int i = 0;
       for (AlarmMessageObjectQueryType element : messageObjects) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= messageObjects.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= messageObjects.size());
       }
     }
 
@@ -166,7 +176,7 @@ public class Alarm8MessageQueryType implements Message {
   public static Alarm8MessageQueryType staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("Alarm8MessageQueryType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short functionId = readSimpleField("functionId", readUnsignedShort(readBuffer, 8));
 
@@ -73,7 +73,7 @@ public class AlarmMessageAckPushType implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AlarmMessageAckPushType");
 
     // Simple Field (timeStamp)
@@ -96,11 +96,22 @@ public class AlarmMessageAckPushType implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     AlarmMessageAckPushType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timeStamp)
     lengthInBits += timeStamp.getLengthInBits();
@@ -115,8 +126,7 @@ public class AlarmMessageAckPushType implements Message {
     if (messageObjects != null) {
       int i = 0;
       for (AlarmMessageAckObjectPushType element : messageObjects) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= messageObjects.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= messageObjects.size());
       }
     }
 
@@ -126,7 +136,7 @@ public class AlarmMessageAckPushType implements Message {
   public static AlarmMessageAckPushType staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("AlarmMessageAckPushType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     DateAndTime timeStamp =
         readSimpleField(
@@ -64,7 +64,7 @@ public class AlarmMessageAckType implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AlarmMessageAckType");
 
     // Simple Field (functionId)
@@ -84,11 +84,22 @@ public class AlarmMessageAckType implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     AlarmMessageAckType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (functionId)
     lengthInBits += 8;
@@ -100,8 +111,7 @@ public class AlarmMessageAckType implements Message {
     if (messageObjects != null) {
       int i = 0;
       for (AlarmMessageObjectAckType element : messageObjects) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= messageObjects.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= messageObjects.size());
       }
     }
 
@@ -111,7 +121,7 @@ public class AlarmMessageAckType implements Message {
   public static AlarmMessageAckType staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("AlarmMessageAckType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short functionId = readSimpleField("functionId", readUnsignedShort(readBuffer, 8));
 
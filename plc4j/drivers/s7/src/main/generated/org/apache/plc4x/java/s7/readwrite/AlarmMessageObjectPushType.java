@@ -115,7 +115,7 @@ public class AlarmMessageObjectPushType implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("AlarmMessageObjectPushType");
 
     // Const Field (variableSpec)
@@ -160,11 +160,22 @@ public class AlarmMessageObjectPushType implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     AlarmMessageObjectPushType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (variableSpec)
     lengthInBits += 8;
@@ -197,8 +208,7 @@ public class AlarmMessageObjectPushType implements Message {
     if (AssociatedValues != null) {
       int i = 0;
       for (AssociatedValueType element : AssociatedValues) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= AssociatedValues.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= AssociatedValues.size());
       }
     }
 
@@ -209,7 +219,7 @@ public class AlarmMessageObjectPushType implements Message {
       throws ParseException {
     readBuffer.pullContext("AlarmMessageObjectPushType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short variableSpec =
         readConstField(
@@ -74,7 +74,7 @@ public class COTPPacketDisconnectRequest extends COTPPacket implements Message {
   @Override
   protected void serializeCOTPPacketChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("COTPPacketDisconnectRequest");
 
     // Simple Field (destinationReference)
@@ -103,28 +103,16 @@ public class COTPPacketDisconnectRequest extends COTPPacket implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    COTPPacketDisconnectRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (destinationReference)
-    lengthInBits += 16;
-
-    // Simple field (sourceReference)
-    lengthInBits += 16;
-
-    // Simple field (protocolClass)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 40;
   }
 
   public static COTPPacketBuilder staticParseCOTPPacketBuilder(
       ReadBuffer readBuffer, Integer cotpLen) throws ParseException {
     readBuffer.pullContext("COTPPacketDisconnectRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int destinationReference =
         readSimpleField("destinationReference", readUnsignedInt(readBuffer, 16));
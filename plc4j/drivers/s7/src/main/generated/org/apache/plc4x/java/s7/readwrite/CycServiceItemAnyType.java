@@ -86,7 +86,7 @@ public class CycServiceItemAnyType extends CycServiceItemType implements Message
   protected void serializeCycServiceItemTypeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CycServiceItemAnyType");
 
     // Enum field (transportSize)
@@ -121,34 +121,16 @@ public class CycServiceItemAnyType extends CycServiceItemType implements Message
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    CycServiceItemAnyType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Enum Field (transportSize)
-    lengthInBits += 8;
-
-    // Simple field (length)
-    lengthInBits += 16;
-
-    // Simple field (dbNumber)
-    lengthInBits += 16;
-
-    // Simple field (memoryArea)
-    lengthInBits += 8;
-
-    // Simple field (address)
-    lengthInBits += 24;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 72;
   }
 
   public static CycServiceItemTypeBuilder staticParseCycServiceItemTypeBuilder(
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("CycServiceItemAnyType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     TransportSize transportSize =
         readEnumField(
@@ -62,7 +62,7 @@ public class CycServiceItemDbReadType extends CycServiceItemType implements Mess
   protected void serializeCycServiceItemTypeChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("CycServiceItemDbReadType");
 
     // Simple Field (numberOfAreas)
@@ -80,10 +80,9 @@ public class CycServiceItemDbReadType extends CycServiceItemType implements Mess
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     CycServiceItemDbReadType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (numberOfAreas)
     lengthInBits += 8;
@@ -92,8 +91,7 @@ public class CycServiceItemDbReadType extends CycServiceItemType implements Mess
     if (items != null) {
       int i = 0;
       for (SubItem element : items) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= items.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= items.size());
       }
     }
 
@@ -104,7 +102,7 @@ public class CycServiceItemDbReadType extends CycServiceItemType implements Mess
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("CycServiceItemDbReadType");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short numberOfAreas = readSimpleField("numberOfAreas", readUnsignedShort(readBuffer, 8));
 
@@ -101,7 +101,7 @@ public class DateAndTime implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("DateAndTime");
 
     // Simple Field (year)
@@ -145,41 +145,18 @@ public class DateAndTime implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    DateAndTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (year)
-    lengthInBits += 8;
-
-    // Simple field (month)
-    lengthInBits += 8;
-
-    // Simple field (day)
-    lengthInBits += 8;
-
-    // Simple field (hour)
-    lengthInBits += 8;
-
-    // Simple field (minutes)
-    lengthInBits += 8;
-
-    // Simple field (seconds)
-    lengthInBits += 8;
-
-    // Simple field (msec)
-    lengthInBits += 12;
-
-    // Simple field (dow)
-    lengthInBits += 4;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 64;
   }
 
   public static DateAndTime staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("DateAndTime");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short year =
         readSimpleField("year", readUnsignedShort(readBuffer, 8), WithOption.WithEncoding("BCD"));
@@ -93,7 +93,7 @@ public class S7AddressAny extends S7Address implements Message {
   @Override
   protected void serializeS7AddressChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7AddressAny");
 
     // Enum field (transportSize)
@@ -134,40 +134,16 @@ public class S7AddressAny extends S7Address implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    S7AddressAny _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Enum Field (transportSize)
-    lengthInBits += 8;
-
-    // Simple field (numberOfElements)
-    lengthInBits += 16;
-
-    // Simple field (dbNumber)
-    lengthInBits += 16;
-
-    // Simple field (area)
-    lengthInBits += 8;
-
-    // Reserved Field (reserved)
-    lengthInBits += 5;
-
-    // Simple field (byteAddress)
-    lengthInBits += 16;
-
-    // Simple field (bitAddress)
-    lengthInBits += 3;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 72;
   }
 
   public static S7AddressBuilder staticParseS7AddressBuilder(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("S7AddressAny");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     TransportSize transportSize =
         readEnumField(
@@ -82,7 +82,7 @@ public class S7MessageObjectRequest extends S7DataAlarmMessage implements Messag
   protected void serializeS7DataAlarmMessageChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7MessageObjectRequest");
 
     // Const Field (variableSpec)
@@ -127,40 +127,16 @@ public class S7MessageObjectRequest extends S7DataAlarmMessage implements Messag
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    S7MessageObjectRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (variableSpec)
-    lengthInBits += 8;
-
-    // Const Field (length)
-    lengthInBits += 8;
-
-    // Simple field (syntaxId)
-    lengthInBits += 8;
-
-    // Reserved Field (reserved)
-    lengthInBits += 8;
-
-    // Simple field (queryType)
-    lengthInBits += 8;
-
-    // Reserved Field (reserved)
-    lengthInBits += 8;
-
-    // Simple field (alarmType)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 56;
   }
 
   public static S7DataAlarmMessageBuilder staticParseS7DataAlarmMessageBuilder(
       ReadBuffer readBuffer, Byte cpuFunctionType) throws ParseException {
     readBuffer.pullContext("S7MessageObjectRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short variableSpec =
         readConstField(
@@ -65,7 +65,7 @@ public class S7MessageObjectResponse extends S7DataAlarmMessage implements Messa
   protected void serializeS7DataAlarmMessageChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7MessageObjectResponse");
 
     // Simple Field (returnCode)
@@ -100,28 +100,16 @@ public class S7MessageObjectResponse extends S7DataAlarmMessage implements Messa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    S7MessageObjectResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (returnCode)
-    lengthInBits += 8;
-
-    // Simple field (transportSize)
-    lengthInBits += 8;
-
-    // Reserved Field (reserved)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 24;
   }
 
   public static S7DataAlarmMessageBuilder staticParseS7DataAlarmMessageBuilder(
       ReadBuffer readBuffer, Byte cpuFunctionType) throws ParseException {
     readBuffer.pullContext("S7MessageObjectResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     DataTransportErrorCode returnCode =
         readEnumField(
@@ -90,7 +90,7 @@ public class S7ParameterModeTransition extends S7Parameter implements Message {
   @Override
   protected void serializeS7ParameterChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7ParameterModeTransition");
 
     // Reserved Field (reserved)
@@ -125,40 +125,16 @@ public class S7ParameterModeTransition extends S7Parameter implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    S7ParameterModeTransition _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Reserved Field (reserved)
-    lengthInBits += 16;
-
-    // Implicit Field (itemLength)
-    lengthInBits += 8;
-
-    // Simple field (method)
-    lengthInBits += 8;
-
-    // Simple field (cpuFunctionType)
-    lengthInBits += 4;
-
-    // Simple field (cpuFunctionGroup)
-    lengthInBits += 4;
-
-    // Simple field (currentMode)
-    lengthInBits += 8;
-
-    // Simple field (sequenceNumber)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 56;
   }
 
   public static S7ParameterBuilder staticParseS7ParameterBuilder(
       ReadBuffer readBuffer, Short messageType) throws ParseException {
     readBuffer.pullContext("S7ParameterModeTransition");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Integer reservedField0 =
         readReservedField("reserved", readUnsignedInt(readBuffer, 16), (int) 0x0010);
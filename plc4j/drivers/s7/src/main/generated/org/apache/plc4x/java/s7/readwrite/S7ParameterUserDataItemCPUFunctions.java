@@ -109,7 +109,7 @@ public class S7ParameterUserDataItemCPUFunctions extends S7ParameterUserDataItem
   protected void serializeS7ParameterUserDataItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7ParameterUserDataItemCPUFunctions");
 
     // Implicit Field (itemLength) (Used for parsing, but its value is not stored as it's implicitly
@@ -151,10 +151,9 @@ public class S7ParameterUserDataItemCPUFunctions extends S7ParameterUserDataItem
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     S7ParameterUserDataItemCPUFunctions _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (itemLength)
     lengthInBits += 8;
@@ -196,7 +195,7 @@ public class S7ParameterUserDataItemCPUFunctions extends S7ParameterUserDataItem
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("S7ParameterUserDataItemCPUFunctions");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short itemLength = readImplicitField("itemLength", readUnsignedShort(readBuffer, 8));
 
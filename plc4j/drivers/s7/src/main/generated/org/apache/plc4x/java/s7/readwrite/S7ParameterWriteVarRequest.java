@@ -61,7 +61,7 @@ public class S7ParameterWriteVarRequest extends S7Parameter implements Message {
   @Override
   protected void serializeS7ParameterChild(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7ParameterWriteVarRequest");
 
     // Implicit Field (numItems) (Used for parsing, but its value is not stored as it's implicitly
@@ -81,10 +81,9 @@ public class S7ParameterWriteVarRequest extends S7Parameter implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     S7ParameterWriteVarRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (numItems)
     lengthInBits += 8;
@@ -93,8 +92,7 @@ public class S7ParameterWriteVarRequest extends S7Parameter implements Message {
     if (items != null) {
       int i = 0;
       for (S7VarRequestParameterItem element : items) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= items.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= items.size());
       }
     }
 
@@ -105,7 +103,7 @@ public class S7ParameterWriteVarRequest extends S7Parameter implements Message {
       ReadBuffer readBuffer, Short messageType) throws ParseException {
     readBuffer.pullContext("S7ParameterWriteVarRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short numItems = readImplicitField("numItems", readUnsignedShort(readBuffer, 8));
 
@@ -70,7 +70,7 @@ public class S7PayloadAlarmS extends S7PayloadUserDataItem implements Message {
   protected void serializeS7PayloadUserDataItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7PayloadAlarmS");
 
     // Simple Field (alarmMessage)
@@ -85,10 +85,9 @@ public class S7PayloadAlarmS extends S7PayloadUserDataItem implements Message {
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     S7PayloadAlarmS _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (alarmMessage)
     lengthInBits += alarmMessage.getLengthInBits();
@@ -101,7 +100,7 @@ public class S7PayloadAlarmS extends S7PayloadUserDataItem implements Message {
       throws ParseException {
     readBuffer.pullContext("S7PayloadAlarmS");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     AlarmMessagePushType alarmMessage =
         readSimpleField(
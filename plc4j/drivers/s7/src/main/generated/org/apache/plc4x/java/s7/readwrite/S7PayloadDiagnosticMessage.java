@@ -112,7 +112,7 @@ public class S7PayloadDiagnosticMessage extends S7PayloadUserDataItem implements
   protected void serializeS7PayloadUserDataItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7PayloadDiagnosticMessage");
 
     // Simple Field (eventId)
@@ -145,10 +145,9 @@ public class S7PayloadDiagnosticMessage extends S7PayloadUserDataItem implements
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     S7PayloadDiagnosticMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (eventId)
     lengthInBits += 16;
@@ -179,7 +178,7 @@ public class S7PayloadDiagnosticMessage extends S7PayloadUserDataItem implements
       throws ParseException {
     readBuffer.pullContext("S7PayloadDiagnosticMessage");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int eventId = readSimpleField("eventId", readUnsignedInt(readBuffer, 16));
 
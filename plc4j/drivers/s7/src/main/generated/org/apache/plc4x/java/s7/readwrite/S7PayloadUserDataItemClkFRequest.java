@@ -59,7 +59,7 @@ public class S7PayloadUserDataItemClkFRequest extends S7PayloadUserDataItem impl
   protected void serializeS7PayloadUserDataItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7PayloadUserDataItemClkFRequest");
 
     writeBuffer.popContext("S7PayloadUserDataItemClkFRequest");
@@ -71,12 +71,9 @@ public class S7PayloadUserDataItemClkFRequest extends S7PayloadUserDataItem impl
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    S7PayloadUserDataItemClkFRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static S7PayloadUserDataItemBuilder staticParseS7PayloadUserDataItemBuilder(
@@ -84,7 +81,7 @@ public class S7PayloadUserDataItemClkFRequest extends S7PayloadUserDataItem impl
       throws ParseException {
     readBuffer.pullContext("S7PayloadUserDataItemClkFRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("S7PayloadUserDataItemClkFRequest");
     // Create the instance
@@ -84,7 +84,7 @@ public class S7PayloadUserDataItemClkFResponse extends S7PayloadUserDataItem imp
   protected void serializeS7PayloadUserDataItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7PayloadUserDataItemClkFResponse");
 
     // Simple Field (res)
@@ -105,10 +105,9 @@ public class S7PayloadUserDataItemClkFResponse extends S7PayloadUserDataItem imp
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     S7PayloadUserDataItemClkFResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (res)
     lengthInBits += 8;
@@ -131,7 +130,7 @@ public class S7PayloadUserDataItemClkFResponse extends S7PayloadUserDataItem imp
       throws ParseException {
     readBuffer.pullContext("S7PayloadUserDataItemClkFResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short res = readSimpleField("res", readUnsignedShort(readBuffer, 8));
 
@@ -59,7 +59,7 @@ public class S7PayloadUserDataItemClkRequest extends S7PayloadUserDataItem imple
   protected void serializeS7PayloadUserDataItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7PayloadUserDataItemClkRequest");
 
     writeBuffer.popContext("S7PayloadUserDataItemClkRequest");
@@ -71,12 +71,9 @@ public class S7PayloadUserDataItemClkRequest extends S7PayloadUserDataItem imple
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    S7PayloadUserDataItemClkRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static S7PayloadUserDataItemBuilder staticParseS7PayloadUserDataItemBuilder(
@@ -84,7 +81,7 @@ public class S7PayloadUserDataItemClkRequest extends S7PayloadUserDataItem imple
       throws ParseException {
     readBuffer.pullContext("S7PayloadUserDataItemClkRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("S7PayloadUserDataItemClkRequest");
     // Create the instance
@@ -70,7 +70,7 @@ public class S7PayloadUserDataItemClkSetRequest extends S7PayloadUserDataItem im
   protected void serializeS7PayloadUserDataItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7PayloadUserDataItemClkSetRequest");
 
     // Reserved Field (reserved)
@@ -91,10 +91,9 @@ public class S7PayloadUserDataItemClkSetRequest extends S7PayloadUserDataItem im
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     S7PayloadUserDataItemClkSetRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 8;
@@ -113,7 +112,7 @@ public class S7PayloadUserDataItemClkSetRequest extends S7PayloadUserDataItem im
       throws ParseException {
     readBuffer.pullContext("S7PayloadUserDataItemClkSetRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     Short reservedField0 =
         readReservedField("reserved", readUnsignedShort(readBuffer, 8), (short) 0x00);
@@ -59,7 +59,7 @@ public class S7PayloadUserDataItemClkSetResponse extends S7PayloadUserDataItem i
   protected void serializeS7PayloadUserDataItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7PayloadUserDataItemClkSetResponse");
 
     writeBuffer.popContext("S7PayloadUserDataItemClkSetResponse");
@@ -71,12 +71,9 @@ public class S7PayloadUserDataItemClkSetResponse extends S7PayloadUserDataItem i
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    S7PayloadUserDataItemClkSetResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static S7PayloadUserDataItemBuilder staticParseS7PayloadUserDataItemBuilder(
@@ -84,7 +81,7 @@ public class S7PayloadUserDataItemClkSetResponse extends S7PayloadUserDataItem i
       throws ParseException {
     readBuffer.pullContext("S7PayloadUserDataItemClkSetResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("S7PayloadUserDataItemClkSetResponse");
     // Create the instance
@@ -60,7 +60,7 @@ public class S7PayloadUserDataItemCpuFunctionAlarmAckErrorResponse extends S7Pay
   protected void serializeS7PayloadUserDataItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7PayloadUserDataItemCpuFunctionAlarmAckErrorResponse");
 
     writeBuffer.popContext("S7PayloadUserDataItemCpuFunctionAlarmAckErrorResponse");
@@ -72,12 +72,9 @@ public class S7PayloadUserDataItemCpuFunctionAlarmAckErrorResponse extends S7Pay
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    S7PayloadUserDataItemCpuFunctionAlarmAckErrorResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static S7PayloadUserDataItemBuilder staticParseS7PayloadUserDataItemBuilder(
@@ -85,7 +82,7 @@ public class S7PayloadUserDataItemCpuFunctionAlarmAckErrorResponse extends S7Pay
       throws ParseException {
     readBuffer.pullContext("S7PayloadUserDataItemCpuFunctionAlarmAckErrorResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("S7PayloadUserDataItemCpuFunctionAlarmAckErrorResponse");
     // Create the instance
@@ -78,7 +78,7 @@ public class S7PayloadUserDataItemCpuFunctionAlarmAckResponse extends S7PayloadU
   protected void serializeS7PayloadUserDataItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7PayloadUserDataItemCpuFunctionAlarmAckResponse");
 
     // Simple Field (functionId)
@@ -101,10 +101,9 @@ public class S7PayloadUserDataItemCpuFunctionAlarmAckResponse extends S7PayloadU
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     S7PayloadUserDataItemCpuFunctionAlarmAckResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (functionId)
     lengthInBits += 8;
@@ -125,7 +124,7 @@ public class S7PayloadUserDataItemCpuFunctionAlarmAckResponse extends S7PayloadU
       throws ParseException {
     readBuffer.pullContext("S7PayloadUserDataItemCpuFunctionAlarmAckResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short functionId = readSimpleField("functionId", readUnsignedShort(readBuffer, 8));
 
@@ -107,7 +107,7 @@ public class S7PayloadUserDataItemCpuFunctionAlarmQueryRequest extends S7Payload
   protected void serializeS7PayloadUserDataItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7PayloadUserDataItemCpuFunctionAlarmQueryRequest");
 
     // Const Field (functionId)
@@ -158,39 +158,9 @@ public class S7PayloadUserDataItemCpuFunctionAlarmQueryRequest extends S7Payload
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    S7PayloadUserDataItemCpuFunctionAlarmQueryRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Const Field (functionId)
-    lengthInBits += 8;
-
-    // Const Field (numberMessageObj)
-    lengthInBits += 8;
-
-    // Const Field (variableSpec)
-    lengthInBits += 8;
-
-    // Const Field (length)
-    lengthInBits += 8;
-
-    // Simple field (syntaxId)
-    lengthInBits += 8;
-
-    // Reserved Field (reserved)
-    lengthInBits += 8;
-
-    // Simple field (queryType)
-    lengthInBits += 8;
-
-    // Reserved Field (reserved)
-    lengthInBits += 8;
-
-    // Simple field (alarmType)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 72;
   }
 
   public static S7PayloadUserDataItemBuilder staticParseS7PayloadUserDataItemBuilder(
@@ -198,7 +168,7 @@ public class S7PayloadUserDataItemCpuFunctionAlarmQueryRequest extends S7Payload
       throws ParseException {
     readBuffer.pullContext("S7PayloadUserDataItemCpuFunctionAlarmQueryRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short functionId =
         readConstField(
@@ -99,7 +99,7 @@ public class S7PayloadUserDataItemCpuFunctionMsgSubscriptionAlarmResponse
   protected void serializeS7PayloadUserDataItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7PayloadUserDataItemCpuFunctionMsgSubscriptionAlarmResponse");
 
     // Simple Field (result)
@@ -130,27 +130,9 @@ public class S7PayloadUserDataItemCpuFunctionMsgSubscriptionAlarmResponse
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    S7PayloadUserDataItemCpuFunctionMsgSubscriptionAlarmResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (result)
-    lengthInBits += 8;
-
-    // Simple field (reserved01)
-    lengthInBits += 8;
-
-    // Simple field (alarmType)
-    lengthInBits += 8;
-
-    // Simple field (reserved02)
-    lengthInBits += 8;
-
-    // Simple field (reserved03)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 40;
   }
 
   public static S7PayloadUserDataItemBuilder staticParseS7PayloadUserDataItemBuilder(
@@ -158,7 +140,7 @@ public class S7PayloadUserDataItemCpuFunctionMsgSubscriptionAlarmResponse
       throws ParseException {
     readBuffer.pullContext("S7PayloadUserDataItemCpuFunctionMsgSubscriptionAlarmResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short result = readSimpleField("result", readUnsignedShort(readBuffer, 8));
 
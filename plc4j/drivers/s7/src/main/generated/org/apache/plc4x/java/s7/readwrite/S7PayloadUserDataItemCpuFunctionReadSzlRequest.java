@@ -78,7 +78,7 @@ public class S7PayloadUserDataItemCpuFunctionReadSzlRequest extends S7PayloadUse
   protected void serializeS7PayloadUserDataItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7PayloadUserDataItemCpuFunctionReadSzlRequest");
 
     // Simple Field (szlId)
@@ -96,10 +96,9 @@ public class S7PayloadUserDataItemCpuFunctionReadSzlRequest extends S7PayloadUse
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     S7PayloadUserDataItemCpuFunctionReadSzlRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (szlId)
     lengthInBits += szlId.getLengthInBits();
@@ -115,7 +114,7 @@ public class S7PayloadUserDataItemCpuFunctionReadSzlRequest extends S7PayloadUse
       throws ParseException {
     readBuffer.pullContext("S7PayloadUserDataItemCpuFunctionReadSzlRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     SzlId szlId =
         readSimpleField("szlId", readComplex(() -> SzlId.staticParse(readBuffer), readBuffer));
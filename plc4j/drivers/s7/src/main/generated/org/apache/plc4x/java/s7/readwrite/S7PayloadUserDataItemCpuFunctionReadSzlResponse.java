@@ -71,7 +71,7 @@ public class S7PayloadUserDataItemCpuFunctionReadSzlResponse extends S7PayloadUs
   protected void serializeS7PayloadUserDataItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7PayloadUserDataItemCpuFunctionReadSzlResponse");
 
     // Array Field (items)
@@ -86,10 +86,9 @@ public class S7PayloadUserDataItemCpuFunctionReadSzlResponse extends S7PayloadUs
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     S7PayloadUserDataItemCpuFunctionReadSzlResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (items != null) {
@@ -108,7 +107,7 @@ public class S7PayloadUserDataItemCpuFunctionReadSzlResponse extends S7PayloadUs
       throws ParseException {
     readBuffer.pullContext("S7PayloadUserDataItemCpuFunctionReadSzlResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     byte[] items = readBuffer.readByteArray("items", Math.toIntExact(dataLength));
 
@@ -60,7 +60,7 @@ public class S7PayloadUserDataItemCyclicServicesErrorResponse extends S7PayloadU
   protected void serializeS7PayloadUserDataItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7PayloadUserDataItemCyclicServicesErrorResponse");
 
     writeBuffer.popContext("S7PayloadUserDataItemCyclicServicesErrorResponse");
@@ -72,12 +72,9 @@ public class S7PayloadUserDataItemCyclicServicesErrorResponse extends S7PayloadU
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    S7PayloadUserDataItemCyclicServicesErrorResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static S7PayloadUserDataItemBuilder staticParseS7PayloadUserDataItemBuilder(
@@ -85,7 +82,7 @@ public class S7PayloadUserDataItemCyclicServicesErrorResponse extends S7PayloadU
       throws ParseException {
     readBuffer.pullContext("S7PayloadUserDataItemCyclicServicesErrorResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("S7PayloadUserDataItemCyclicServicesErrorResponse");
     // Create the instance
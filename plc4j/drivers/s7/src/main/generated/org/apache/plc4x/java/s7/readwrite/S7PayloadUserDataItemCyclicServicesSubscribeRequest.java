@@ -92,7 +92,7 @@ public class S7PayloadUserDataItemCyclicServicesSubscribeRequest extends S7Paylo
   protected void serializeS7PayloadUserDataItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7PayloadUserDataItemCyclicServicesSubscribeRequest");
 
     // Simple Field (itemsCount)
@@ -120,10 +120,9 @@ public class S7PayloadUserDataItemCyclicServicesSubscribeRequest extends S7Paylo
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     S7PayloadUserDataItemCyclicServicesSubscribeRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (itemsCount)
     lengthInBits += 16;
@@ -138,8 +137,7 @@ public class S7PayloadUserDataItemCyclicServicesSubscribeRequest extends S7Paylo
     if (item != null) {
       int i = 0;
       for (CycServiceItemType element : item) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= item.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= item.size());
       }
     }
 
@@ -151,7 +149,7 @@ public class S7PayloadUserDataItemCyclicServicesSubscribeRequest extends S7Paylo
       throws ParseException {
     readBuffer.pullContext("S7PayloadUserDataItemCyclicServicesSubscribeRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int itemsCount = readSimpleField("itemsCount", readUnsignedInt(readBuffer, 16));
 
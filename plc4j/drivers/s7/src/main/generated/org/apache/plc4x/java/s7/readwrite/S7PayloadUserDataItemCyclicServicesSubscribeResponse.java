@@ -78,7 +78,7 @@ public class S7PayloadUserDataItemCyclicServicesSubscribeResponse extends S7Payl
   protected void serializeS7PayloadUserDataItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7PayloadUserDataItemCyclicServicesSubscribeResponse");
 
     // Simple Field (itemsCount)
@@ -96,10 +96,9 @@ public class S7PayloadUserDataItemCyclicServicesSubscribeResponse extends S7Payl
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     S7PayloadUserDataItemCyclicServicesSubscribeResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (itemsCount)
     lengthInBits += 16;
@@ -108,8 +107,7 @@ public class S7PayloadUserDataItemCyclicServicesSubscribeResponse extends S7Payl
     if (items != null) {
       int i = 0;
       for (AssociatedValueType element : items) {
-        ThreadLocalHelper.lastItemThreadLocal.set(++i >= items.size());
-        lengthInBits += element.getLengthInBits();
+        lengthInBits += element.getLengthInBits(++i >= items.size());
       }
     }
 
@@ -121,7 +119,7 @@ public class S7PayloadUserDataItemCyclicServicesSubscribeResponse extends S7Payl
       throws ParseException {
     readBuffer.pullContext("S7PayloadUserDataItemCyclicServicesSubscribeResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int itemsCount = readSimpleField("itemsCount", readUnsignedInt(readBuffer, 16));
 
@@ -78,7 +78,7 @@ public class S7PayloadUserDataItemCyclicServicesUnsubscribeRequest extends S7Pay
   protected void serializeS7PayloadUserDataItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7PayloadUserDataItemCyclicServicesUnsubscribeRequest");
 
     // Simple Field (function)
@@ -96,18 +96,9 @@ public class S7PayloadUserDataItemCyclicServicesUnsubscribeRequest extends S7Pay
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    S7PayloadUserDataItemCyclicServicesUnsubscribeRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (function)
-    lengthInBits += 8;
-
-    // Simple field (jobId)
-    lengthInBits += 8;
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 16;
   }
 
   public static S7PayloadUserDataItemBuilder staticParseS7PayloadUserDataItemBuilder(
@@ -115,7 +106,7 @@ public class S7PayloadUserDataItemCyclicServicesUnsubscribeRequest extends S7Pay
       throws ParseException {
     readBuffer.pullContext("S7PayloadUserDataItemCyclicServicesUnsubscribeRequest");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short function = readSimpleField("function", readUnsignedShort(readBuffer, 8));
 
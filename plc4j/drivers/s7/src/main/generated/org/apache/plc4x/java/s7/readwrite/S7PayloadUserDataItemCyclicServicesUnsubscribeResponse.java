@@ -60,7 +60,7 @@ public class S7PayloadUserDataItemCyclicServicesUnsubscribeResponse extends S7Pa
   protected void serializeS7PayloadUserDataItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7PayloadUserDataItemCyclicServicesUnsubscribeResponse");
 
     writeBuffer.popContext("S7PayloadUserDataItemCyclicServicesUnsubscribeResponse");
@@ -72,12 +72,9 @@ public class S7PayloadUserDataItemCyclicServicesUnsubscribeResponse extends S7Pa
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
-    S7PayloadUserDataItemCyclicServicesUnsubscribeResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return super.calculateLengthInBits(_lastItem) + 0;
   }
 
   public static S7PayloadUserDataItemBuilder staticParseS7PayloadUserDataItemBuilder(
@@ -85,7 +82,7 @@ public class S7PayloadUserDataItemCyclicServicesUnsubscribeResponse extends S7Pa
       throws ParseException {
     readBuffer.pullContext("S7PayloadUserDataItemCyclicServicesUnsubscribeResponse");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     readBuffer.closeContext("S7PayloadUserDataItemCyclicServicesUnsubscribeResponse");
     // Create the instance
@@ -64,7 +64,7 @@ public class S7VarPayloadDataItem implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7VarPayloadDataItem");
 
     // Simple Field (returnCode)
@@ -117,9 +117,17 @@ public class S7VarPayloadDataItem implements Message {
 
   @Override
   public int getLengthInBits() {
+    return calculateLengthInBits(false);
+  }
+
+  @Override
+  public int getLengthInBits(boolean lastItem) {
+    return calculateLengthInBits(lastItem);
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     S7VarPayloadDataItem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (returnCode)
     lengthInBits += 8;
@@ -147,7 +155,7 @@ public class S7VarPayloadDataItem implements Message {
   public static S7VarPayloadDataItem staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("S7VarPayloadDataItem");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     DataTransportErrorCode returnCode =
         readEnumField(
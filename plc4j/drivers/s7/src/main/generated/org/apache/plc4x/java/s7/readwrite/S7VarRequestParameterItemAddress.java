@@ -58,7 +58,7 @@ public class S7VarRequestParameterItemAddress extends S7VarRequestParameterItem
   protected void serializeS7VarRequestParameterItemChild(WriteBuffer writeBuffer)
       throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("S7VarRequestParameterItemAddress");
 
     // Implicit Field (itemLength) (Used for parsing, but its value is not stored as it's implicitly
@@ -78,10 +78,9 @@ public class S7VarRequestParameterItemAddress extends S7VarRequestParameterItem
   }
 
   @Override
-  public int getLengthInBits() {
-    int lengthInBits = super.getLengthInBits();
+  protected int calculateLengthInBits(boolean _lastItem) {
+    int lengthInBits = super.calculateLengthInBits(_lastItem);
     S7VarRequestParameterItemAddress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (itemLength)
     lengthInBits += 8;
@@ -96,7 +95,7 @@ public class S7VarRequestParameterItemAddress extends S7VarRequestParameterItem
       ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("S7VarRequestParameterItemAddress");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short itemLength = readImplicitField("itemLength", readUnsignedShort(readBuffer, 8));
 
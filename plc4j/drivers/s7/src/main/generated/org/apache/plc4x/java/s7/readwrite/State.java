@@ -101,7 +101,7 @@ public class State implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("State");
 
     // Simple Field (SIG_8)
@@ -138,41 +138,18 @@ public class State implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    State _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (SIG_8)
-    lengthInBits += 1;
-
-    // Simple field (SIG_7)
-    lengthInBits += 1;
-
-    // Simple field (SIG_6)
-    lengthInBits += 1;
-
-    // Simple field (SIG_5)
-    lengthInBits += 1;
-
-    // Simple field (SIG_4)
-    lengthInBits += 1;
-
-    // Simple field (SIG_3)
-    lengthInBits += 1;
-
-    // Simple field (SIG_2)
-    lengthInBits += 1;
-
-    // Simple field (SIG_1)
-    lengthInBits += 1;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 8;
   }
 
   public static State staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("State");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     boolean SIG_8 = readSimpleField("SIG_8", readBoolean(readBuffer));
 
@@ -63,7 +63,7 @@ public class SubItem implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SubItem");
 
     // Simple Field (bytesToRead)
@@ -85,26 +85,18 @@ public class SubItem implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    SubItem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (bytesToRead)
-    lengthInBits += 8;
-
-    // Simple field (dbNumber)
-    lengthInBits += 16;
-
-    // Simple field (startAddress)
-    lengthInBits += 16;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 40;
   }
 
   public static SubItem staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("SubItem");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     short bytesToRead = readSimpleField("bytesToRead", readUnsignedShort(readBuffer, 8));
 
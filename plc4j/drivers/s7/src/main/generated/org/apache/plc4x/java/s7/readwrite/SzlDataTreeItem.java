@@ -75,7 +75,7 @@ public class SzlDataTreeItem implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SzlDataTreeItem");
 
     // Simple Field (itemIndex)
@@ -101,11 +101,22 @@ public class SzlDataTreeItem implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so their length only needs to be calculated once.
+  private int cachedLengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    int lengthInBits = cachedLengthInBits;
+    if (lengthInBits < 0) {
+      lengthInBits = calculateLengthInBits(false);
+      cachedLengthInBits = lengthInBits;
+    }
+    return lengthInBits;
+  }
+
+  protected int calculateLengthInBits(boolean _lastItem) {
     int lengthInBits = 0;
     SzlDataTreeItem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (itemIndex)
     lengthInBits += 16;
@@ -130,7 +141,7 @@ public class SzlDataTreeItem implements Message {
   public static SzlDataTreeItem staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("SzlDataTreeItem");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int itemIndex = readSimpleField("itemIndex", readUnsignedInt(readBuffer, 16));
 
@@ -63,7 +63,7 @@ public class SzlId implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("SzlId");
 
     // Simple Field (typeClass)
@@ -96,26 +96,18 @@ public class SzlId implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    SzlId _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (typeClass)
-    lengthInBits += 4;
-
-    // Simple field (sublistExtract)
-    lengthInBits += 4;
-
-    // Simple field (sublistList)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static SzlId staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("SzlId");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     SzlModuleTypeClass typeClass =
         readEnumField(
@@ -57,7 +57,7 @@ public class PnDcp_SupportedDeviceOption implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("PnDcp_SupportedDeviceOption");
 
     // Simple Field (option)
@@ -88,24 +88,19 @@ public class PnDcp_SupportedDeviceOption implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    PnDcp_SupportedDeviceOption _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (option)
-    lengthInBits += 8;
-
-    // Simple field (suboption)
-    lengthInBits += 8;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static PnDcp_SupportedDeviceOption staticParse(ReadBuffer readBuffer)
       throws ParseException {
     readBuffer.pullContext("PnDcp_SupportedDeviceOption");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     PnDcp_BlockOptions option =
         readEnumField(
@@ -28,6 +28,8 @@ import org.apache.plc4x.java.api.metadata.time.TimeSource;
 import org.apache.plc4x.java.api.model.PlcTag;
 import org.apache.plc4x.java.api.types.PlcResponseCode;
 import org.apache.plc4x.java.api.value.PlcValue;
+import org.apache.plc4x.java.s7.readwrite.DataTransportErrorCode;
+import org.apache.plc4x.java.s7.readwrite.DataTransportSize;
 import org.apache.plc4x.java.s7.readwrite.S7PayloadUserDataItemCyclicServicesChangeDrivenPush;
 import org.apache.plc4x.java.s7.readwrite.S7PayloadUserDataItemCyclicServicesChangeDrivenSubscribeResponse;
 import org.apache.plc4x.java.s7.readwrite.S7PayloadUserDataItemCyclicServicesPush;
@@ -144,6 +146,32 @@ public class S7CyclicEvent extends S7EventBase implements S7Event {
             n[0]++;
         });
     }
+    /*
+    * Creates the event from the values a cyclic job has already decoded. The
+    * arrays contain one entry per tag of the request (in the same order).
+    */
+    public S7CyclicEvent(PlcSubscriptionRequest request, short jobid, DataTransportErrorCode[] returnCodes,
+                         DataTransportSize[] transportSizes, PlcValue[] values) {
+        super(Instant.now(), new DefaultMetadata.Builder()
+            .put(PlcMetadataKeys.TIMESTAMP_SOURCE, TimeSource.ASSUMPTION)
+            .build()
+        );
+        this.map = new HashMap<>();
+        this.request = request;
+        map.put(Fields.TYPE.name(), "CYCEVENT");
+        map.put(Fields.TIMESTAMP.name(), getTimestamp());
+        map.put(Fields.JOBID.name(), jobid);
+        map.put(Fields.ITEMSCOUNT.name(), values.length);
+        int i = 0;
+        for (String tagname : request.getTagNames()) {
+            if (returnCodes[i] != null) {
+                map.put(Fields.RETURNCODE_.name() + i, returnCodes[i].getValue());
+                map.put(Fields.TRANSPORTSIZE_.name() + i, transportSizes[i].getValue());
+            }
+            map.put(tagname, values[i]);
+            i++;
+        }
+    }
     @Override
     public Map<String, Object> getMap() {
         return this.map;
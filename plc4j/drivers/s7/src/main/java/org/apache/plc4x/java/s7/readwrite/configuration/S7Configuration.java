@@ -19,6 +19,7 @@
 package org.apache.plc4x.java.s7.readwrite.configuration;
 
 import org.apache.plc4x.java.s7.readwrite.DeviceGroup;
+import org.apache.plc4x.java.s7.readwrite.types.S7EventWaitStrategy;
 import org.apache.plc4x.java.spi.configuration.PlcConnectionConfiguration;
 import org.apache.plc4x.java.spi.configuration.annotations.ConfigurationParameter;
 import org.apache.plc4x.java.spi.configuration.annotations.Description;
@@ -126,6 +127,54 @@ public class S7Configuration implements PlcConnectionConfiguration {
     @Description("Time for supervision of TCP channels. If the channel is not active, a safe stop of the EventLoop must be performed, to ensure that no additional tasks are created.")
     public int retryTime = 0;
 
+    @ConfigurationParameter("event-wait-strategy")
+    @StringDefaultValue("BLOCKING")
+    @Description("How the thread dispatching MODE, SYS, USR, ALM and CYC events to the consumers waits for new events. Allowed values:\n - BLOCKING (parks the thread, lowest CPU usage)\n - SLEEPING (spins shortly, then sleeps in short intervals)\n - YIELDING (spins shortly, then yields the CPU)\n - BUSY_SPIN (lowest latency, occupies a whole core)")
+    @Since("0.13.0")
+    public S7EventWaitStrategy eventWaitStrategy = S7EventWaitStrategy.BLOCKING;
+
+    @ConfigurationParameter("event-buffer-size")
+    @IntDefaultValue(1024)
+    @Description("Number of events the ring-buffer in between the connection and the event consumers can hold (rounded up to the next power of 2). Events arriving while it is full are kept in an overflow queue of 16 times this size, only if that is full too, events are dropped.")
+    @Since("0.13.0")
+    public int eventBufferSize = 1024;
+
+    @ConfigurationParameter("cache-string-sizes")
+    @BooleanDefaultValue(false)
+    @Description("Remember the maximum length of every variable-length STRING and WSTRING tag (it is fixed by the layout of the data block), so header and characters can be read with a single request instead of reading the header first. The cache is invalidated when a header doesn't match the remembered length anymore or the PLC changes its operating mode.")
+    @Since("0.13.0")
+    public boolean cacheStringSizes = false;
+
+    @ConfigurationParameter("request-rate")
+    @IntDefaultValue(2000)
+    @Description("Maximum number of requests per second sent out, when a large request has to be split up into multiple ones (0 disables the limit). The requests are paced without blocking the calling thread and never more than the negotiated max-amq-callee requests are outstanding at the same time.")
+    @Since("0.13.0")
+    public int requestRate = 2000;
+
+    @ConfigurationParameter("cyclic-max-items-per-job")
+    @IntDefaultValue(20)
+    @Description("Maximum number of tags subscribed with a single cyclic job. Cyclic subscriptions with more tags, tags with different cycles or more data than fits into a PDU are split up into multiple jobs (0 only splits them up by cycle and PDU size).")
+    @Since("0.13.0")
+    public int cyclicMaxItemsPerJob = 20;
+
+    @ConfigurationParameter("enable-packing-optimizer")
+    @BooleanDefaultValue(false)
+    @Description("Plan read requests for the whole set of tags instead of packing them in the order they were added: Tags close to each other are read as one block, large arrays are split up and all items are packed into as few requests as the PDU size allows. The plan is cached for the set of tags, so polling the same tags again doesn't plan the requests again.")
+    @Since("0.13.0")
+    public boolean enablePackingOptimizer = false;
+
+    @ConfigurationParameter("hot-standby")
+    @BooleanDefaultValue(false)
+    @Description("Keep the session on the secondary TCP channel of a S7H connection negotiated and supervised, mirror all subscriptions to it and replay the requests in flight on it, when the active channel fails. So the switch over doesn't need to connect again and the user application doesn't need to restore its requests or subscriptions.")
+    @Since("0.13.0")
+    public boolean hotStandby = false;
+
+    @ConfigurationParameter("heartbeat-time")
+    @IntDefaultValue(500)
+    @Description("Time in milliseconds between the heartbeats sent on both channels of a \"hot-standby\" connection. A channel not responding to three heartbeats in a row is closed (0 disables the heartbeats).")
+    @Since("0.13.0")
+    public int heartbeatTime = 500;
+
     public int getLocalRack() {
         return localRack;
     }
@@ -278,6 +327,70 @@ public class S7Configuration implements PlcConnectionConfiguration {
         this.retryTime = retryTime;
     }
 
+    public S7EventWaitStrategy getEventWaitStrategy() {
+        return eventWaitStrategy;
+    }
+
+    public void setEventWaitStrategy(S7EventWaitStrategy eventWaitStrategy) {
+        this.eventWaitStrategy = eventWaitStrategy;
+    }
+
+    public int getEventBufferSize() {
+        return eventBufferSize;
+    }
+
+    public void setEventBufferSize(int eventBufferSize) {
+        this.eventBufferSize = eventBufferSize;
+    }
+
+    public boolean getCacheStringSizes() {
+        return cacheStringSizes;
+    }
+
+    public void setCacheStringSizes(boolean cacheStringSizes) {
+        this.cacheStringSizes = cacheStringSizes;
+    }
+
+    public int getRequestRate() {
+        return requestRate;
+    }
+
+    public void setRequestRate(int requestRate) {
+        this.requestRate = requestRate;
+    }
+
+    public int getCyclicMaxItemsPerJob() {
+        return cyclicMaxItemsPerJob;
+    }
+
+    public void setCyclicMaxItemsPerJob(int cyclicMaxItemsPerJob) {
+        this.cyclicMaxItemsPerJob = cyclicMaxItemsPerJob;
+    }
+
+    public boolean getEnablePackingOptimizer() {
+        return enablePackingOptimizer;
+    }
+
+    public void setEnablePackingOptimizer(boolean enablePackingOptimizer) {
+        this.enablePackingOptimizer = enablePackingOptimizer;
+    }
+
+    public boolean getHotStandby() {
+        return hotStandby;
+    }
+
+    public void setHotStandby(boolean hotStandby) {
+        this.hotStandby = hotStandby;
+    }
+
+    public int getHeartbeatTime() {
+        return heartbeatTime;
+    }
+
+    public void setHeartbeatTime(int heartbeatTime) {
+        this.heartbeatTime = heartbeatTime;
+    }
+
     @Override
     public String toString() {
         return "Configuration{" +
@@ -297,6 +410,14 @@ public class S7Configuration implements PlcConnectionConfiguration {
             ", ping='" + ping +
             ", pingTime='" + pingTime +
             ", retryTime='" + retryTime +
+            ", eventWaitStrategy='" + eventWaitStrategy +
+            ", eventBufferSize='" + eventBufferSize +
+            ", cacheStringSizes='" + cacheStringSizes +
+            ", requestRate='" + requestRate +
+            ", cyclicMaxItemsPerJob='" + cyclicMaxItemsPerJob +
+            ", enablePackingOptimizer='" + enablePackingOptimizer +
+            ", hotStandby='" + hotStandby +
+            ", heartbeatTime='" + heartbeatTime +
             '\'' +
             '}';
     }
@@ -21,6 +21,7 @@ package org.apache.plc4x.java.s7.readwrite.context;
 import org.apache.plc4x.java.s7.readwrite.COTPTpduSize;
 import org.apache.plc4x.java.s7.readwrite.ControllerType;
 import org.apache.plc4x.java.s7.readwrite.configuration.S7Configuration;
+import org.apache.plc4x.java.s7.readwrite.types.S7EventWaitStrategy;
 import org.apache.plc4x.java.s7.readwrite.utils.S7TsapIdEncoder;
 import org.apache.plc4x.java.spi.configuration.HasConfiguration;
 import org.apache.plc4x.java.spi.context.DriverContext;
@@ -43,6 +44,12 @@ public class S7DriverContext implements DriverContext, HasConfiguration<S7Config
     private boolean ping;
     private int pingTime;
     private int retryTime;
+    private S7EventWaitStrategy eventWaitStrategy = S7EventWaitStrategy.BLOCKING;
+    private int eventBufferSize = 1024;
+    private boolean cacheStringSizes;
+    private int requestRate = 2000;
+    private int cyclicMaxItemsPerJob = 20;
+    private boolean enablePackingOptimizer;
 
     @Override
     public void setConfiguration(S7Configuration configuration) {
@@ -85,6 +92,14 @@ public class S7DriverContext implements DriverContext, HasConfiguration<S7Config
         this.ping = configuration.ping;
         this.pingTime = (configuration.pingTime == 0) ? 10 : configuration.pingTime;
         this.retryTime = configuration.retryTime;
+        if (configuration.eventWaitStrategy != null) {
+            this.eventWaitStrategy = configuration.eventWaitStrategy;
+        }
+        this.eventBufferSize = configuration.eventBufferSize;
+        this.cacheStringSizes = configuration.cacheStringSizes;
+        this.requestRate = configuration.requestRate;
+        this.cyclicMaxItemsPerJob = configuration.cyclicMaxItemsPerJob;
+        this.enablePackingOptimizer = configuration.enablePackingOptimizer;
     }
 
     public boolean isPassiveMode() {
@@ -195,6 +210,54 @@ public class S7DriverContext implements DriverContext, HasConfiguration<S7Config
         this.retryTime = retryTime;
     }
 
+    public S7EventWaitStrategy getEventWaitStrategy() {
+        return eventWaitStrategy;
+    }
+
+    public void setEventWaitStrategy(S7EventWaitStrategy eventWaitStrategy) {
+        this.eventWaitStrategy = eventWaitStrategy;
+    }
+
+    public int getEventBufferSize() {
+        return eventBufferSize;
+    }
+
+    public void setEventBufferSize(int eventBufferSize) {
+        this.eventBufferSize = eventBufferSize;
+    }
+
+    public boolean getCacheStringSizes() {
+        return cacheStringSizes;
+    }
+
+    public void setCacheStringSizes(boolean cacheStringSizes) {
+        this.cacheStringSizes = cacheStringSizes;
+    }
+
+    public int getRequestRate() {
+        return requestRate;
+    }
+
+    public void setRequestRate(int requestRate) {
+        this.requestRate = requestRate;
+    }
+
+    public int getCyclicMaxItemsPerJob() {
+        return cyclicMaxItemsPerJob;
+    }
+
+    public void setCyclicMaxItemsPerJob(int cyclicMaxItemsPerJob) {
+        this.cyclicMaxItemsPerJob = cyclicMaxItemsPerJob;
+    }
+
+    public boolean isEnablePackingOptimizer() {
+        return enablePackingOptimizer;
+    }
+
+    public void setEnablePackingOptimizer(boolean enablePackingOptimizer) {
+        this.enablePackingOptimizer = enablePackingOptimizer;
+    }
+
     /**
      * Iterate over all values until one is found that the given tpdu size will fit.
      *
@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.s7.readwrite.optimizer;
+
+import org.apache.plc4x.java.api.messages.PlcReadResponse;
+import org.apache.plc4x.java.api.model.PlcTag;
+import org.apache.plc4x.java.api.value.PlcValue;
+import org.apache.plc4x.java.s7.readwrite.ControllerType;
+import org.apache.plc4x.java.s7.readwrite.DataItem;
+import org.apache.plc4x.java.s7.readwrite.MemoryArea;
+import org.apache.plc4x.java.s7.readwrite.TransportSize;
+import org.apache.plc4x.java.s7.readwrite.context.S7DriverContext;
+import org.apache.plc4x.java.s7.readwrite.tag.S7Tag;
+import org.apache.plc4x.java.spi.context.DriverContext;
+import org.apache.plc4x.java.spi.generation.ParseException;
+import org.apache.plc4x.java.spi.generation.ReadBuffer;
+import org.apache.plc4x.java.spi.generation.ReadBufferByteBased;
+import org.apache.plc4x.java.spi.optimizer.CoalescingSupport;
+import org.apache.plc4x.java.spi.values.DefaultPlcValueHandler;
+import org.apache.plc4x.java.spi.values.PlcBOOL;
+import org.apache.plc4x.java.spi.values.PlcPrimitiveArray;
+import org.apache.plc4x.java.spi.values.PlcRawByteArray;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.apache.plc4x.java.s7.readwrite.optimizer.S7Optimizer.EMPTY_READ_REQUEST_SIZE;
+import static org.apache.plc4x.java.s7.readwrite.optimizer.S7Optimizer.EMPTY_READ_RESPONSE_SIZE;
+import static org.apache.plc4x.java.s7.readwrite.optimizer.S7Optimizer.S7_ADDRESS_ANY_SIZE;
+
+/**
+ * Memory model of S7 devices: the address spaces are the memory areas (and the data blocks), addressed in bytes.
+ * <p>
+ * Only plain tags of areas addressed in bytes can be read as part of a raw block. Strings, counters and timers are
+ * encoded differently in responses and arrays of BOOL are transferred as one byte per element.
+ */
+public class S7CoalescingSupport implements CoalescingSupport {
+
+    // Reading a tag as separate item costs the address in the request and the header of the item in the response.
+    public static final int READ_ITEM_OVERHEAD = S7_ADDRESS_ANY_SIZE + 4;
+
+    // Areas which are addressed in bytes and can be read as one block of raw bytes.
+    private static final Set<MemoryArea> BLOCK_READ_AREAS = EnumSet.of(MemoryArea.INPUTS, MemoryArea.OUTPUTS,
+        MemoryArea.FLAGS_MARKERS, MemoryArea.DATA_BLOCKS, MemoryArea.INSTANCE_DATA_BLOCKS);
+
+    private final ControllerType controllerType;
+
+    /**
+     * @param controllerType type of the connected controller, used for parsing the values of the tags.
+     */
+    public S7CoalescingSupport(ControllerType controllerType) {
+        this.controllerType = controllerType;
+    }
+
+    @Override
+    public Object getAddressSpace(PlcTag tag) {
+        if ((tag.getClass() != S7Tag.class) || !BLOCK_READ_AREAS.contains(((S7Tag) tag).getMemoryArea())) {
+            return null;
+        }
+        S7Tag s7Tag = (S7Tag) tag;
+        switch (s7Tag.getDataType()) {
+            case COUNTER:
+            case STRING:
+            case WSTRING:
+                return null;
+            case BOOL:
+                if (s7Tag.getNumberOfElements() != 1) {
+                    return null;
+                }
+                break;
+            default:
+                if (s7Tag.getDataType().getSizeInBytes() <= 0) {
+                    return null;
+                }
+        }
+        return new AddressSpace(s7Tag.getMemoryArea(), s7Tag.getBlockNumber());
+    }
+
+    @Override
+    public long getStartAddress(PlcTag tag) {
+        return ((S7Tag) tag).getByteOffset();
+    }
+
+    @Override
+    public long getNumberOfElements(PlcTag tag) {
+        return getDataSize((S7Tag) tag);
+    }
+
+    @Override
+    public int getElementSizeInBits(Object addressSpace) {
+        return 8;
+    }
+
+    @Override
+    public int getMaxPayloadSize(DriverContext driverContext) {
+        return ((S7DriverContext) driverContext).getPduSize() - EMPTY_READ_RESPONSE_SIZE;
+    }
+
+    @Override
+    public int getMaxItemsPerRequest(DriverContext driverContext) {
+        return (((S7DriverContext) driverContext).getPduSize() - EMPTY_READ_REQUEST_SIZE) / S7_ADDRESS_ANY_SIZE;
+    }
+
+    @Override
+    public int getRequestOverhead(DriverContext driverContext) {
+        return EMPTY_READ_REQUEST_SIZE + EMPTY_READ_RESPONSE_SIZE;
+    }
+
+    @Override
+    public int getItemOverhead(DriverContext driverContext) {
+        return READ_ITEM_OVERHEAD;
+    }
+
+    @Override
+    public long getMaxGap(Object addressSpace) {
+        // Reading unrequested bytes of an area is fine, so only the costs limit the gaps.
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public PlcTag createBlockTag(Object addressSpace, long startAddress, long numberOfElements) {
+        AddressSpace s7AddressSpace = (AddressSpace) addressSpace;
+        return new S7Tag(TransportSize.BYTE, s7AddressSpace.memoryArea, s7AddressSpace.blockNumber,
+            (int) startAddress, (byte) 0, (int) numberOfElements);
+    }
+
+    @Override
+    public byte[] getBlockData(PlcTag blockTag, PlcReadResponse response, String tagName) {
+        PlcValue blockValue = response.getPlcValue(tagName);
+        // A block of only one byte (multiple BOOLs of the same byte) is returned as single value.
+        return (blockValue instanceof PlcRawByteArray) ? blockValue.getRaw() : new byte[]{(byte) blockValue.getShort()};
+    }
+
+    @Override
+    public PlcValue parseTagValue(PlcTag tag, byte[] blockData, long offsetInBits) throws ParseException {
+        S7Tag s7Tag = (S7Tag) tag;
+        int offset = (int) (offsetInBits / 8);
+        // A single BOOL is read as part of the byte containing it.
+        if (s7Tag.getDataType() == TransportSize.BOOL) {
+            return PlcBOOL.of(((blockData[offset] >> s7Tag.getBitOffset()) & 0x01) != 0);
+        }
+        byte[] data = new byte[getDataSize(s7Tag)];
+        System.arraycopy(blockData, offset, data, 0, data.length);
+        // In case of reading an array of bytes, make use of our simpler PlcRawByteArray as the user is
+        // probably expecting to process the read raw data.
+        if ((s7Tag.getNumberOfElements() > 1) && (s7Tag.getDataType() == TransportSize.BYTE)) {
+            return new PlcRawByteArray(data);
+        }
+        ReadBuffer readBuffer = new ReadBufferByteBased(data);
+        if (s7Tag.getNumberOfElements() == 1) {
+            return DataItem.staticParse(readBuffer, s7Tag.getDataType().getDataProtocolId(), controllerType, 254);
+        }
+        PlcValue arrayValue = PlcPrimitiveArray.parse(readBuffer, s7Tag.getPlcValueType(), s7Tag.getNumberOfElements());
+        if (arrayValue != null) {
+            return arrayValue;
+        }
+        PlcValue[] resultItems = new PlcValue[s7Tag.getNumberOfElements()];
+        for (int i = 0; i < resultItems.length; i++) {
+            resultItems[i] = DataItem.staticParse(readBuffer, s7Tag.getDataType().getDataProtocolId(), controllerType, 254);
+        }
+        return DefaultPlcValueHandler.of(s7Tag, resultItems);
+    }
+
+    static int getDataSize(S7Tag tag) {
+        if (tag.getDataType() == TransportSize.BOOL) {
+            return (tag.getNumberOfElements() + 7) / 8;
+        }
+        return tag.getNumberOfElements() * tag.getDataType().getSizeInBytes();
+    }
+
+    /**
+     * Memory area and, for data blocks, the number of the block.
+     */
+    static final class AddressSpace {
+        private final MemoryArea memoryArea;
+        private final int blockNumber;
+
+        AddressSpace(MemoryArea memoryArea, int blockNumber) {
+            this.memoryArea = memoryArea;
+            this.blockNumber = blockNumber;
+        }
+
+        MemoryArea getMemoryArea() {
+            return memoryArea;
+        }
+
+        int getBlockNumber() {
+            return blockNumber;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof AddressSpace)) {
+                return false;
+            }
+            AddressSpace that = (AddressSpace) o;
+            return (memoryArea == that.memoryArea) && (blockNumber == that.blockNumber);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(memoryArea, blockNumber);
+        }
+
+        @Override
+        public String toString() {
+            return memoryArea.name() + ":" + blockNumber;
+        }
+    }
+
+}
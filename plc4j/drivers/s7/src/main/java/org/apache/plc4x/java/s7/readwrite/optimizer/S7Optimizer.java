@@ -28,7 +28,9 @@ import org.apache.plc4x.java.api.types.PlcValueType;
 import org.apache.plc4x.java.api.value.PlcValue;
 import org.apache.plc4x.java.s7.readwrite.*;
 import org.apache.plc4x.java.s7.readwrite.context.S7DriverContext;
+import org.apache.plc4x.java.s7.readwrite.protocol.S7PreparedReadRequest;
 import org.apache.plc4x.java.s7.readwrite.tag.*;
+import org.apache.plc4x.java.spi.Plc4xProtocolBase;
 import org.apache.plc4x.java.spi.context.DriverContext;
 import org.apache.plc4x.java.spi.generation.SerializationException;
 import org.apache.plc4x.java.spi.generation.WriteBuffer;
@@ -55,6 +57,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 public class S7Optimizer extends BaseOptimizer {
@@ -71,8 +74,46 @@ public class S7Optimizer extends BaseOptimizer {
         new S7AddressAny(TransportSize.INT, 1, 1, MemoryArea.DATA_BLOCKS, 1, (byte) 0).getLengthInBytes();
 
     @Override
-    protected int getNanosDelay() {
-        return 500000;
+    protected double getRequestsPerSecond(DriverContext driverContext) {
+        return ((S7DriverContext) driverContext).getRequestRate();
+    }
+
+    /**
+     * A whole window of "max-amq-callee" requests is sent out at once, the responses are matched by their
+     * tpdu reference, so a request split up into n parts takes about n / max-amq-callee round-trips.
+     */
+    @Override
+    protected int getBurstSize(DriverContext driverContext) {
+        return ((S7DriverContext) driverContext).getMaxAmqCallee();
+    }
+
+    @Override
+    protected int getMaxConcurrentRequests(DriverContext driverContext) {
+        return ((S7DriverContext) driverContext).getMaxAmqCallee();
+    }
+
+    /**
+     * The sub-requests of a prepared request were planned for the PDU size negotiated at the time of preparing it.
+     * If the connection has negotiated a different one since then (e.g. after reconnecting), the request is
+     * planned again. The same goes for plans without any encoded sub-requests, as they don't know their PDU size.
+     */
+    @Override
+    public CompletableFuture<PlcReadResponse> optimizedRead(PlcReadRequest readRequest, List<PlcReadRequest> subRequests,
+                                                            Plc4xProtocolBase<?> reader) {
+        int pduSize = ((S7DriverContext) reader.getDriverContext()).getPduSize();
+        boolean planned = false;
+        for (PlcReadRequest subRequest : subRequests) {
+            if (subRequest instanceof S7PreparedReadRequest) {
+                if (((S7PreparedReadRequest) subRequest).getPduSize() != pduSize) {
+                    return optimizedRead(readRequest, reader);
+                }
+                planned = true;
+            }
+        }
+        if (!planned) {
+            return optimizedRead(readRequest, reader);
+        }
+        return super.optimizedRead(readRequest, subRequests, reader);
     }
 
     @Override
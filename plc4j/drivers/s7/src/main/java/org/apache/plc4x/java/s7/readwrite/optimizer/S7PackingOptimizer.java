@@ -0,0 +1,387 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.s7.readwrite.optimizer;
+
+import org.apache.plc4x.java.api.exceptions.PlcRuntimeException;
+import org.apache.plc4x.java.api.messages.PlcReadRequest;
+import org.apache.plc4x.java.api.messages.PlcReadResponse;
+import org.apache.plc4x.java.api.model.PlcTag;
+import org.apache.plc4x.java.api.types.PlcResponseCode;
+import org.apache.plc4x.java.api.value.PlcValue;
+import org.apache.plc4x.java.s7.readwrite.MemoryArea;
+import org.apache.plc4x.java.s7.readwrite.TransportSize;
+import org.apache.plc4x.java.s7.readwrite.context.S7DriverContext;
+import org.apache.plc4x.java.s7.readwrite.tag.S7StringFixedLengthTag;
+import org.apache.plc4x.java.s7.readwrite.tag.S7StringVarLengthTag;
+import org.apache.plc4x.java.s7.readwrite.tag.S7Tag;
+import org.apache.plc4x.java.spi.context.DriverContext;
+import org.apache.plc4x.java.spi.generation.ParseException;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadRequest;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadResponse;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcResponseItem;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcResponseItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcTagItem;
+import org.apache.plc4x.java.spi.optimizer.CoalescingOptimizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In contrast to the S7Optimizer, which packs the tags into requests in the order they were added, the
+ * S7PackingOptimizer plans the requests for the whole set of tags:
+ * <ol>
+ *     <li>Tags located close to each other in the same memory area (or data block) are merged into one block read
+ *     following the rules of the {@link CoalescingOptimizer} and the memory model of the {@link S7CoalescingSupport}.</li>
+ *     <li>Tags too large for a single response are split up into fragments filling a response each.</li>
+ *     <li>The resulting items and fragments are packed into as few requests as possible (First Fit Decreasing),
+ *     respecting the PDU size for both the request and the response.</li>
+ * </ol>
+ * As planning is only done by looking at the tags, the plan is cached for the set of tags of a request. So
+ * polling the same tags over and over again, only plans the requests once. As the PDU size is part of the key,
+ * a different PDU size negotiated after reconnecting doesn't re-use the old plans.
+ */
+public class S7PackingOptimizer extends S7Optimizer {
+
+    private static final Logger logger = LoggerFactory.getLogger(S7PackingOptimizer.class);
+
+    private static final int MAX_CACHED_PLANS = 64;
+
+    private final Map<List<Object>, List<LinkedHashMap<String, PlcTagItem<PlcTag>>>> planCache =
+        new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, List<LinkedHashMap<String, PlcTagItem<PlcTag>>>> eldest) {
+                return size() > MAX_CACHED_PLANS;
+            }
+        };
+
+    @Override
+    protected List<PlcReadRequest> processReadRequest(PlcReadRequest readRequest, DriverContext driverContext) {
+        S7DriverContext s7DriverContext = (S7DriverContext) driverContext;
+        if (!s7DriverContext.isEnablePackingOptimizer()) {
+            return super.processReadRequest(readRequest, driverContext);
+        }
+
+        List<Object> planKey = getPlanKey(readRequest, s7DriverContext.getPduSize());
+        List<LinkedHashMap<String, PlcTagItem<PlcTag>>> plan = null;
+        if (planKey != null) {
+            synchronized (planCache) {
+                plan = planCache.get(planKey);
+            }
+        }
+        if (plan == null) {
+            plan = planReadRequest(readRequest, s7DriverContext);
+            if (planKey != null) {
+                synchronized (planCache) {
+                    planCache.put(planKey, plan);
+                }
+            }
+        }
+
+        List<PlcReadRequest> processedRequests = new ArrayList<>(plan.size());
+        for (LinkedHashMap<String, PlcTagItem<PlcTag>> requestTags : plan) {
+            processedRequests.add(new DefaultPlcReadRequest(((DefaultPlcReadRequest) readRequest).getReader(), requestTags));
+        }
+        return processedRequests;
+    }
+
+    @Override
+    protected PlcReadResponse processReadResponses(PlcReadRequest readRequest, Map<PlcReadRequest, SubResponse<PlcReadResponse>> readResponses, DriverContext driverContext) {
+        S7DriverContext s7DriverContext = (S7DriverContext) driverContext;
+        if (!s7DriverContext.isEnablePackingOptimizer()) {
+            return super.processReadResponses(readRequest, readResponses, driverContext);
+        }
+
+        // The values of the block reads are decoded here, the S7Optimizer takes care of all other items.
+        S7CoalescingSupport coalescingSupport = new S7CoalescingSupport(s7DriverContext.getControllerType());
+        Map<String, PlcResponseItem<PlcValue>> blockValues = new HashMap<>();
+        Map<PlcReadRequest, SubResponse<PlcReadResponse>> itemResponses = new HashMap<>();
+        for (Map.Entry<PlcReadRequest, SubResponse<PlcReadResponse>> requestsEntries : readResponses.entrySet()) {
+            PlcReadRequest curRequest = requestsEntries.getKey();
+            SubResponse<PlcReadResponse> readResponse = requestsEntries.getValue();
+            LinkedHashMap<String, PlcTagItem<PlcTag>> itemTags = new LinkedHashMap<>();
+            for (String tagName : curRequest.getTagNames()) {
+                PlcTag tag = curRequest.getTag(tagName);
+                if (!(tag instanceof S7BlockTag)) {
+                    itemTags.put(tagName, new DefaultPlcTagItem<>(tag));
+                    continue;
+                }
+                S7BlockTag blockTag = (S7BlockTag) tag;
+                if (!readResponse.isSuccess()) {
+                    blockTag.getBlockTags().keySet().forEach(blockTagName ->
+                        blockValues.put(blockTagName, new DefaultPlcResponseItem<>(PlcResponseCode.INTERNAL_ERROR, null)));
+                    continue;
+                }
+                PlcResponseCode responseCode = readResponse.getResponse().getResponseCode(tagName);
+                if (responseCode != PlcResponseCode.OK) {
+                    blockTag.getBlockTags().keySet().forEach(blockTagName ->
+                        blockValues.put(blockTagName, new DefaultPlcResponseItem<>(responseCode, null)));
+                    continue;
+                }
+                decodeBlock(blockTag, readResponse.getResponse(), tagName, coalescingSupport, blockValues);
+            }
+            if (!itemTags.isEmpty()) {
+                itemResponses.put(new DefaultPlcReadRequest(((DefaultPlcReadRequest) curRequest).getReader(), itemTags), readResponse);
+            }
+        }
+
+        Map<String, PlcResponseItem<PlcValue>> tagValues = new HashMap<>(
+            ((DefaultPlcReadResponse) super.processReadResponses(readRequest, itemResponses, driverContext)).getValues());
+        tagValues.putAll(blockValues);
+        return new DefaultPlcReadResponse(readRequest, tagValues);
+    }
+
+    /**
+     * @return number of plans currently cached.
+     */
+    protected int getNumberOfCachedPlans() {
+        synchronized (planCache) {
+            return planCache.size();
+        }
+    }
+
+    /*
+     * Plans are only cached for requests consisting of S7Tags, as only these implement equals and hashCode.
+     */
+    private List<Object> getPlanKey(PlcReadRequest readRequest, int pduSize) {
+        List<Object> planKey = new ArrayList<>(1 + (2 * readRequest.getNumberOfTags()));
+        planKey.add(pduSize);
+        for (String tagName : readRequest.getTagNames()) {
+            PlcTag tag = readRequest.getTag(tagName);
+            if (!(tag instanceof S7Tag)) {
+                return null;
+            }
+            planKey.add(tagName);
+            planKey.add(tag);
+        }
+        return planKey;
+    }
+
+    private List<LinkedHashMap<String, PlcTagItem<PlcTag>>> planReadRequest(PlcReadRequest readRequest,
+                                                                          S7DriverContext s7DriverContext) {
+        int pduSize = s7DriverContext.getPduSize();
+        int maxItemSize = pduSize - EMPTY_READ_RESPONSE_SIZE;
+        int maxPayloadSize = maxItemSize - 4;
+        S7CoalescingSupport coalescingSupport = new S7CoalescingSupport(s7DriverContext.getControllerType());
+
+        // Collect the tags, which can be read as part of a block.
+        List<PlanItem> items = new ArrayList<>();
+        Map<String, PlcTag> blockCandidates = new LinkedHashMap<>();
+        for (String tagName : readRequest.getTagNames()) {
+            PlcTag tag = readRequest.getTag(tagName);
+            if (!(tag instanceof S7Tag)) {
+                // SZL, CLK and alarm-ack tags are processed by dedicated requests of their own.
+                items.add(new PlanItem(tagName, tag, 0, 0, PlanItem.SEPARATE));
+            } else if (coalescingSupport.getAddressSpace(tag) != null) {
+                blockCandidates.put(tagName, tag);
+            } else {
+                addItems(items, tagName, (S7Tag) tag, maxItemSize, maxPayloadSize);
+            }
+        }
+
+        // Merge neighbouring tags into blocks, the tags too large for a block are read as items of their own.
+        List<String> individualTagNames = new ArrayList<>();
+        List<CoalescingOptimizer.Block> blocks =
+            CoalescingOptimizer.planBlocks(coalescingSupport, s7DriverContext, blockCandidates, individualTagNames);
+        for (String tagName : individualTagNames) {
+            addItems(items, tagName, (S7Tag) blockCandidates.get(tagName), maxItemSize, maxPayloadSize);
+        }
+        int blockNumber = 0;
+        for (CoalescingOptimizer.Block block : blocks) {
+            addBlock(items, "__block__" + blockNumber++, block, blockCandidates);
+        }
+
+        // First Fit Decreasing: Put the largest items first into the first request they fit into.
+        items.sort(Comparator.comparingInt((PlanItem item) -> item.responseSize).reversed());
+        List<PlannedRequest> requests = new ArrayList<>();
+        for (PlanItem item : items) {
+            PlannedRequest targetRequest = null;
+            if (item.group != PlanItem.SEPARATE) {
+                for (PlannedRequest request : requests) {
+                    if (request.fits(item, pduSize)) {
+                        targetRequest = request;
+                        break;
+                    }
+                }
+            }
+            if (targetRequest == null) {
+                targetRequest = new PlannedRequest(item.group);
+                requests.add(targetRequest);
+            }
+            targetRequest.add(item);
+        }
+
+        List<LinkedHashMap<String, PlcTagItem<PlcTag>>> plan = new ArrayList<>(requests.size());
+        for (PlannedRequest request : requests) {
+            plan.add(request.tags);
+        }
+        return Collections.unmodifiableList(plan);
+    }
+
+    private void addItems(List<PlanItem> items, String tagName, S7Tag tag, int maxItemSize, int maxPayloadSize) {
+        int group = (tag instanceof S7StringVarLengthTag) ? PlanItem.VAR_LENGTH_STRINGS : PlanItem.DEFAULT;
+        int responseSize = getResponseItemSize(tag);
+        if (responseSize <= maxItemSize) {
+            items.add(new PlanItem(tagName, tag, S7_ADDRESS_ANY_SIZE, responseSize, group));
+            return;
+        }
+        // Only arrays of types with a fixed size can be split up.
+        int elementSize = tag.getDataType().getSizeInBytes();
+        if ((group != PlanItem.DEFAULT) || (tag instanceof S7StringFixedLengthTag) || (elementSize <= 0) ||
+            (tag.getDataType() == TransportSize.BOOL) || (tag.getNumberOfElements() <= 1)) {
+            throw new PlcRuntimeException("Tag size exceeds maximum payload for one item.");
+        }
+        int elementsPerFragment = maxPayloadSize / elementSize;
+        int curByteOffset = tag.getByteOffset();
+        int elementsLeft = tag.getNumberOfElements();
+        while (elementsLeft > 0) {
+            int fragmentElements = Math.min(elementsPerFragment, elementsLeft);
+            S7Tag fragment = new S7Tag(tag.getDataType(), tag.getMemoryArea(), tag.getBlockNumber(), curByteOffset,
+                (byte) 0, fragmentElements);
+            items.add(new PlanItem(tagName, fragment, S7_ADDRESS_ANY_SIZE, getResponseItemSize(fragment), group));
+            curByteOffset += fragmentElements * elementSize;
+            elementsLeft -= fragmentElements;
+        }
+    }
+
+    private void addBlock(List<PlanItem> items, String blockName, CoalescingOptimizer.Block block,
+                          Map<String, PlcTag> blockCandidates) {
+        // A single tag is read as it is.
+        if (block.getTagNames().size() == 1) {
+            String tagName = block.getTagNames().get(0);
+            S7Tag tag = (S7Tag) blockCandidates.get(tagName);
+            items.add(new PlanItem(tagName, tag, S7_ADDRESS_ANY_SIZE, getResponseItemSize(tag), PlanItem.DEFAULT));
+            return;
+        }
+        LinkedHashMap<String, S7Tag> tagsInBlock = new LinkedHashMap<>();
+        for (String tagName : block.getTagNames()) {
+            tagsInBlock.put(tagName, (S7Tag) blockCandidates.get(tagName));
+        }
+        S7CoalescingSupport.AddressSpace addressSpace = (S7CoalescingSupport.AddressSpace) block.getAddressSpace();
+        S7BlockTag blockTag = new S7BlockTag(addressSpace.getMemoryArea(), addressSpace.getBlockNumber(),
+            (int) block.getStartAddress(), (int) block.getNumberOfElements(), tagsInBlock);
+        items.add(new PlanItem(blockName, blockTag, S7_ADDRESS_ANY_SIZE, getResponseItemSize(blockTag), PlanItem.DEFAULT));
+    }
+
+    private void decodeBlock(S7BlockTag blockTag, PlcReadResponse response, String blockName,
+                             S7CoalescingSupport coalescingSupport, Map<String, PlcResponseItem<PlcValue>> blockValues) {
+        byte[] blockData = coalescingSupport.getBlockData(blockTag, response, blockName);
+        for (Map.Entry<String, S7Tag> blockTagEntry : blockTag.getBlockTags().entrySet()) {
+            S7Tag tag = blockTagEntry.getValue();
+            long offsetInBits = (tag.getByteOffset() - blockTag.getByteOffset()) * 8L;
+            try {
+                blockValues.put(blockTagEntry.getKey(), new DefaultPlcResponseItem<>(PlcResponseCode.OK,
+                    coalescingSupport.parseTagValue(tag, blockData, offsetInBits)));
+            } catch (ParseException e) {
+                logger.warn("Error parsing tag item of type: '{}'", tag.getDataType().name(), e);
+                blockValues.put(blockTagEntry.getKey(), new DefaultPlcResponseItem<>(PlcResponseCode.INTERNAL_ERROR, null));
+            }
+        }
+    }
+
+    private static int getResponseItemSize(S7Tag tag) {
+        int dataSize;
+        // If we're reading var-length strings, then we'll read the sizes of the strings instead
+        // and the S7ProtocolLogic will handle reading the actual strings in an additional request.
+        if (tag instanceof S7StringVarLengthTag) {
+            dataSize = tag.getNumberOfElements() * ((tag.getDataType() == TransportSize.WSTRING) ? 4 : 2);
+        } else if (tag instanceof S7StringFixedLengthTag) {
+            int bytesPerChar = (tag.getDataType() == TransportSize.WSTRING) ? 2 : 1;
+            dataSize = tag.getNumberOfElements() * (((S7StringFixedLengthTag) tag).getStringLength() + 2) * bytesPerChar;
+        } else {
+            dataSize = tag.getNumberOfElements() * tag.getDataType().getSizeInBytes();
+        }
+        int responseItemSize = 4 + dataSize;
+        // If it's an odd number of bytes, add one to make it even
+        return responseItemSize + (responseItemSize % 2);
+    }
+
+    /**
+     * Raw block of bytes read instead of the tags located in it.
+     */
+    public static class S7BlockTag extends S7Tag {
+
+        private final Map<String, S7Tag> blockTags;
+
+        public S7BlockTag(MemoryArea memoryArea, int blockNumber, int byteOffset, int numElements, Map<String, S7Tag> blockTags) {
+            super(TransportSize.BYTE, memoryArea, blockNumber, byteOffset, (byte) 0, numElements);
+            this.blockTags = blockTags;
+        }
+
+        /**
+         * @return the tags located in this block by their names.
+         */
+        public Map<String, S7Tag> getBlockTags() {
+            return blockTags;
+        }
+
+    }
+
+    private static class PlanItem {
+        private static final int DEFAULT = 0;
+        // Var-length strings are read in multiple steps, the other items shouldn't wait for that.
+        private static final int VAR_LENGTH_STRINGS = 1;
+        private static final int SEPARATE = 2;
+
+        private final String tagName;
+        private final PlcTag tag;
+        private final int requestSize;
+        private final int responseSize;
+        private final int group;
+
+        private PlanItem(String tagName, PlcTag tag, int requestSize, int responseSize, int group) {
+            this.tagName = tagName;
+            this.tag = tag;
+            this.requestSize = requestSize;
+            this.responseSize = responseSize;
+            this.group = group;
+        }
+    }
+
+    private static class PlannedRequest {
+        private final int group;
+        private final LinkedHashMap<String, PlcTagItem<PlcTag>> tags = new LinkedHashMap<>();
+        private int requestSize = EMPTY_READ_REQUEST_SIZE;
+        private int responseSize = EMPTY_READ_RESPONSE_SIZE;
+
+        private PlannedRequest(int group) {
+            this.group = group;
+        }
+
+        private boolean fits(PlanItem item, int pduSize) {
+            // Fragments of the same tag are read by different requests.
+            return (group == item.group) && !tags.containsKey(item.tagName) &&
+                ((requestSize + item.requestSize) <= pduSize) && ((responseSize + item.responseSize) <= pduSize);
+        }
+
+        private void add(PlanItem item) {
+            tags.put(item.tagName, new DefaultPlcTagItem<>(item.tag));
+            requestSize += item.requestSize;
+            responseSize += item.responseSize;
+        }
+    }
+
+}
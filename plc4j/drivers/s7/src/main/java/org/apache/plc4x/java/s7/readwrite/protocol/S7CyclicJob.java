@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.s7.readwrite.protocol;
+
+import org.apache.plc4x.java.api.messages.PlcSubscriptionEvent;
+import org.apache.plc4x.java.api.messages.PlcSubscriptionRequest;
+import org.apache.plc4x.java.api.model.PlcSubscriptionTag;
+import org.apache.plc4x.java.api.types.PlcSubscriptionType;
+import org.apache.plc4x.java.api.value.PlcValue;
+import org.apache.plc4x.java.s7.events.S7CyclicEvent;
+import org.apache.plc4x.java.s7.readwrite.*;
+import org.apache.plc4x.java.s7.readwrite.tag.S7SubscriptionTag;
+import org.apache.plc4x.java.s7.readwrite.tag.S7Tag;
+import org.apache.plc4x.java.spi.messages.DefaultPlcSubscriptionRequest;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcTagItem;
+import org.apache.plc4x.java.spi.model.DefaultPlcSubscriptionTag;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * State of one cyclic subscription (CYC) job on the PLC.
+ * <p>
+ * The PLC pushes the values of all items of a job with every cycle. The job keeps the raw data and the decoded
+ * value of every item, so only the items whose data changed are copied and decoded again. For change-of-state
+ * subscriptions no event is created at all, if none of the items changed. Every event gets its own copy of the
+ * current values, as it is passed to the consumers on another thread.
+ * <p>
+ * The PLC assigns a job id when subscribing, which changes if the job has to be subscribed again after a
+ * reconnect. The subscription handles and events refer to a job id assigned by the driver instead, which
+ * never changes.
+ */
+public class S7CyclicJob {
+
+    // Push message without any items (header, parameter and the header of the payload item).
+    static final int EMPTY_PUSH_SIZE = new S7MessageUserData(0,
+        new S7ParameterUserData(Collections.singletonList(new S7ParameterUserDataItemCPUFunctions(
+            (short) 0x12, (byte) 0x00, (byte) 0x02, (short) 0x01, (short) 0x00, (short) 0x00, (short) 0x00, 0))),
+        new S7PayloadUserData(Collections.singletonList(new S7PayloadUserDataItemCyclicServicesPush(
+            DataTransportErrorCode.OK, DataTransportSize.OCTET_STRING, 0, 0, Collections.emptyList()))))
+        .getLengthInBytes();
+    // Subscription request without any items.
+    static final int EMPTY_SUBSCRIBE_REQUEST_SIZE = new S7MessageUserData(0,
+        new S7ParameterUserData(Collections.singletonList(new S7ParameterUserDataItemCPUFunctions(
+            (short) 0x11, (byte) 0x04, (byte) 0x02, (short) 0x01, (short) 0x00, null, null, null))),
+        new S7PayloadUserData(Collections.singletonList(new S7PayloadUserDataItemCyclicServicesSubscribeRequest(
+            DataTransportErrorCode.OK, DataTransportSize.OCTET_STRING, 0, 0, TimeBase.B01SEC, (short) 1,
+            Collections.emptyList()))))
+        .getLengthInBytes();
+    static final int SUBSCRIBE_REQUEST_ITEM_SIZE = new CycServiceItemAnyType((short) 0x0a, (short) 0x10,
+        TransportSize.INT, 1, 1, MemoryArea.DATA_BLOCKS, 0).getLengthInBytes();
+
+    private final short handleJobId;
+    private volatile short plcJobId;
+    private final PlcSubscriptionRequest request;
+    private final boolean changeOnly;
+    private final BiFunction<S7Tag, byte[], PlcValue> decoder;
+
+    private final S7Tag[] tags;
+    private final byte[][] data;
+    private final PlcValue[] values;
+    private final DataTransportErrorCode[] returnCodes;
+    private final DataTransportSize[] transportSizes;
+    private boolean initialized;
+
+    /**
+     * @param handleJobId id the subscription handles and events of the job refer to.
+     * @param request     subscription request with the tags of this job (one item per tag).
+     * @param decoder     decodes the raw data of an item.
+     */
+    public S7CyclicJob(short handleJobId, PlcSubscriptionRequest request, BiFunction<S7Tag, byte[], PlcValue> decoder) {
+        this.handleJobId = handleJobId;
+        this.plcJobId = handleJobId;
+        this.request = request;
+        this.changeOnly = !request.getTags().isEmpty() &&
+            (request.getTags().get(0).getPlcSubscriptionType() == PlcSubscriptionType.CHANGE_OF_STATE);
+        this.decoder = decoder;
+        int numberOfItems = request.getNumberOfTags();
+        this.tags = new S7Tag[numberOfItems];
+        int i = 0;
+        for (String tagName : request.getTagNames()) {
+            tags[i++] = getS7Tag(request.getTag(tagName));
+        }
+        this.data = new byte[numberOfItems][];
+        this.values = new PlcValue[numberOfItems];
+        this.returnCodes = new DataTransportErrorCode[numberOfItems];
+        this.transportSizes = new DataTransportSize[numberOfItems];
+    }
+
+    /**
+     * @return job id the subscription handles and events of this job refer to.
+     */
+    public short getHandleJobId() {
+        return handleJobId;
+    }
+
+    /**
+     * @return job id currently assigned by the PLC.
+     */
+    public short getPlcJobId() {
+        return plcJobId;
+    }
+
+    public void setPlcJobId(short plcJobId) {
+        this.plcJobId = plcJobId;
+    }
+
+    public PlcSubscriptionRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * Takes over the values of a push (or of the response to the subscription).
+     *
+     * @param items values of all items of the job.
+     * @return event with the current values or null, if this is a change-of-state job and no value changed.
+     */
+    public synchronized S7CyclicEvent update(List<AssociatedValueType> items) {
+        boolean changed = !initialized;
+        for (int i = 0; (i < items.size()) && (i < tags.length); i++) {
+            AssociatedValueType item = items.get(i);
+            changed |= updateItem(i, item.getReturnCode(), item.getTransportSize(), item.getData());
+        }
+        return toEvent(changed);
+    }
+
+    /**
+     * Same as {@link #update(List)} for change-driven pushes.
+     *
+     * @param items values of all items of the job.
+     * @return event with the current values or null, if this is a change-of-state job and no value changed.
+     */
+    public synchronized S7CyclicEvent updateChangeDriven(List<AssociatedQueryValueType> items) {
+        boolean changed = !initialized;
+        for (int i = 0; (i < items.size()) && (i < tags.length); i++) {
+            AssociatedQueryValueType item = items.get(i);
+            changed |= updateItem(i, item.getReturnCode(), item.getTransportSize(), item.getData());
+        }
+        return toEvent(changed);
+    }
+
+    private boolean updateItem(int index, DataTransportErrorCode returnCode, DataTransportSize transportSize,
+                               List<Short> itemData) {
+        boolean changed = (returnCodes[index] != returnCode);
+        returnCodes[index] = returnCode;
+        transportSizes[index] = transportSize;
+        if (!changed && equals(data[index], itemData)) {
+            return false;
+        }
+        // The decoded value might keep a reference to the data, so it gets its own array.
+        byte[] newData = new byte[itemData.size()];
+        for (int i = 0; i < newData.length; i++) {
+            newData[i] = itemData.get(i).byteValue();
+        }
+        data[index] = newData;
+        values[index] = (returnCode == DataTransportErrorCode.OK) ? decoder.apply(tags[index], newData) : null;
+        return true;
+    }
+
+    private S7CyclicEvent toEvent(boolean changed) {
+        initialized = true;
+        if (changeOnly && !changed) {
+            return null;
+        }
+        return new S7CyclicEvent(request, handleJobId, returnCodes.clone(), transportSizes.clone(), values.clone());
+    }
+
+    private static boolean equals(byte[] data, List<Short> itemData) {
+        if ((data == null) || (data.length != itemData.size())) {
+            return false;
+        }
+        for (int i = 0; i < data.length; i++) {
+            if (data[i] != itemData.get(i).byteValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits the tags of a cyclic subscription into requests which can each be subscribed as one job: The tags of
+     * a job share time base, multiplier and subscription type, it has no more than the given number of items and
+     * neither the subscription request nor the pushed values exceed the PDU size. A tag too large for a PDU on its
+     * own still gets a job of its own (which the PLC will reject).
+     *
+     * @param request        cyclic subscription request.
+     * @param pduSize        negotiated PDU size.
+     * @param maxItemsPerJob maximum number of items of a job (0 for no limit).
+     * @return requests with the tags of one job each.
+     */
+    public static List<PlcSubscriptionRequest> partition(DefaultPlcSubscriptionRequest request, int pduSize,
+                                                         int maxItemsPerJob) {
+        Map<String, List<String>> tagNamesByCycle = new LinkedHashMap<>();
+        for (String tagName : request.getTagNames()) {
+            PlcSubscriptionTag subscriptionTag = request.getTag(tagName);
+            S7SubscriptionTag s7SubscriptionTag = (S7SubscriptionTag) ((DefaultPlcSubscriptionTag) subscriptionTag).getTag();
+            String cycle = s7SubscriptionTag.getTimeBase() + ":" + s7SubscriptionTag.getMultiplier() + ":" +
+                subscriptionTag.getPlcSubscriptionType();
+            tagNamesByCycle.computeIfAbsent(cycle, key -> new ArrayList<>()).add(tagName);
+        }
+
+        List<PlcSubscriptionRequest> jobRequests = new ArrayList<>();
+        for (List<String> tagNames : tagNamesByCycle.values()) {
+            List<String> jobTagNames = new ArrayList<>();
+            int requestSize = EMPTY_SUBSCRIBE_REQUEST_SIZE;
+            int pushSize = EMPTY_PUSH_SIZE;
+            for (String tagName : tagNames) {
+                S7Tag tag = getS7Tag(request.getTag(tagName));
+                int pushItemSize = 4 + (tag.getNumberOfElements() * tag.getDataType().getSizeInBytes());
+                // Items are padded to an even number of bytes.
+                pushItemSize += pushItemSize % 2;
+                boolean full = ((maxItemsPerJob > 0) && (jobTagNames.size() >= maxItemsPerJob)) ||
+                    (requestSize + SUBSCRIBE_REQUEST_ITEM_SIZE > pduSize) || (pushSize + pushItemSize > pduSize);
+                if (full && !jobTagNames.isEmpty()) {
+                    jobRequests.add(createJobRequest(request, jobTagNames));
+                    jobTagNames = new ArrayList<>();
+                    requestSize = EMPTY_SUBSCRIBE_REQUEST_SIZE;
+                    pushSize = EMPTY_PUSH_SIZE;
+                }
+                jobTagNames.add(tagName);
+                requestSize += SUBSCRIBE_REQUEST_ITEM_SIZE;
+                pushSize += pushItemSize;
+            }
+            jobRequests.add(createJobRequest(request, jobTagNames));
+        }
+        return jobRequests;
+    }
+
+    private static PlcSubscriptionRequest createJobRequest(DefaultPlcSubscriptionRequest request, List<String> tagNames) {
+        LinkedHashMap<String, PlcTagItem<PlcSubscriptionTag>> tags = new LinkedHashMap<>();
+        Map<String, Consumer<PlcSubscriptionEvent>> tagConsumers = new LinkedHashMap<>();
+        for (String tagName : tagNames) {
+            tags.put(tagName, new DefaultPlcTagItem<>(request.getTag(tagName)));
+            if (request.getTagConsumer(tagName) != null) {
+                tagConsumers.put(tagName, request.getTagConsumer(tagName));
+            }
+        }
+        return new DefaultPlcSubscriptionRequest(request.getSubscriber(), tags, request.getConsumer(), tagConsumers);
+    }
+
+    private static S7Tag getS7Tag(PlcSubscriptionTag subscriptionTag) {
+        return ((S7SubscriptionTag) ((DefaultPlcSubscriptionTag) subscriptionTag).getTag()).getS7Tags()[0];
+    }
+
+}
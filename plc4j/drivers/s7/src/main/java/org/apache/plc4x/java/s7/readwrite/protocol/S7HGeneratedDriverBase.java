@@ -30,6 +30,7 @@ import org.apache.plc4x.java.spi.configuration.ConfigurationFactory;
 import org.apache.plc4x.java.spi.connection.ChannelFactory;
 import org.apache.plc4x.java.spi.connection.GeneratedDriverBase;
 import org.apache.plc4x.java.spi.connection.ProtocolStackConfigurer;
+import org.apache.plc4x.java.spi.runtime.DriverRuntimeConfiguration;
 import org.apache.plc4x.java.spi.transport.Transport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -132,6 +133,16 @@ public class S7HGeneratedDriverBase extends GeneratedDriverBase<TPKTPacket> {
             configure(configuration, secondaryChannelFactory);
         }
 
+        // Unless the connection explicitly opts out, use the threads shared by all connections.
+        DriverRuntimeConfiguration runtimeConfiguration = configurationFactory
+            .createConfiguration(DriverRuntimeConfiguration.class, protocolCode, transportCode, transportConfig, paramString);
+        if (runtimeConfiguration.isSharedRuntime()) {
+            channelFactory.setDriverRuntime(getDriverRuntime());
+            if (secondaryChannelFactory != null) {
+                secondaryChannelFactory.setDriverRuntime(getDriverRuntime());
+            }
+        }
+
         // Give drivers the option to customize the channel.
         initializePipeline(channelFactory);
 
@@ -0,0 +1,939 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.s7.readwrite.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import org.apache.plc4x.java.s7.readwrite.COTPPacket;
+import org.apache.plc4x.java.s7.readwrite.COTPPacketConnectionRequest;
+import org.apache.plc4x.java.s7.readwrite.COTPPacketConnectionResponse;
+import org.apache.plc4x.java.s7.readwrite.COTPPacketData;
+import org.apache.plc4x.java.s7.readwrite.COTPParameter;
+import org.apache.plc4x.java.s7.readwrite.COTPParameterCalledTsap;
+import org.apache.plc4x.java.s7.readwrite.DataTransportErrorCode;
+import org.apache.plc4x.java.s7.readwrite.DataTransportSize;
+import org.apache.plc4x.java.s7.readwrite.S7Message;
+import org.apache.plc4x.java.s7.readwrite.S7MessageRequest;
+import org.apache.plc4x.java.s7.readwrite.S7MessageResponse;
+import org.apache.plc4x.java.s7.readwrite.S7MessageResponseData;
+import org.apache.plc4x.java.s7.readwrite.S7MessageUserData;
+import org.apache.plc4x.java.s7.readwrite.S7Parameter;
+import org.apache.plc4x.java.s7.readwrite.S7ParameterSetupCommunication;
+import org.apache.plc4x.java.s7.readwrite.S7ParameterUserData;
+import org.apache.plc4x.java.s7.readwrite.S7ParameterUserDataItem;
+import org.apache.plc4x.java.s7.readwrite.S7ParameterUserDataItemCPUFunctions;
+import org.apache.plc4x.java.s7.readwrite.S7Payload;
+import org.apache.plc4x.java.s7.readwrite.S7PayloadUserData;
+import org.apache.plc4x.java.s7.readwrite.S7PayloadUserDataItem;
+import org.apache.plc4x.java.s7.readwrite.S7PayloadUserDataItemCpuFunctionReadSzlRequest;
+import org.apache.plc4x.java.s7.readwrite.S7PayloadUserDataItemCyclicServicesUnsubscribeRequest;
+import org.apache.plc4x.java.s7.readwrite.SzlId;
+import org.apache.plc4x.java.s7.readwrite.SzlModuleTypeClass;
+import org.apache.plc4x.java.s7.readwrite.SzlSublist;
+import org.apache.plc4x.java.s7.readwrite.TPKTPacket;
+import org.apache.plc4x.java.spi.generation.ParseException;
+import org.apache.plc4x.java.spi.generation.ReadBufferByteBased;
+import org.apache.plc4x.java.spi.generation.SerializationException;
+import org.apache.plc4x.java.spi.generation.WriteBuffer;
+import org.apache.plc4x.java.spi.generation.WriteBufferByteBased;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a second, fully negotiated S7 session on the standby TCP channel of
+ * the {@link S7HMuxImpl}, so a failover doesn't need to connect again.
+ * <p>
+ * The COTP connection request and the setup communication the S7ProtocolLogic
+ * sends on the active channel are replayed on the standby channel, both
+ * channels are supervised with heartbeats (reading the module identification)
+ * and subscriptions (CYC, MODE, SYS, USR and ALM) are mirrored to the standby
+ * channel. TPDU references are assigned per channel, so requests still in
+ * flight can be replayed on the standby channel and their responses are
+ * returned with the TPDU reference used by the protocol. Job ids the PLCs
+ * assign to cyclic subscriptions are mapped per channel too, so pushes of
+ * the standby session arrive with the job ids the protocol knows.
+ * <p>
+ * Requests are only replayed as long as the protocol is still waiting for
+ * them. They are forgotten as soon as they time out or the protocol gives
+ * up on them (see {@link #abandon(int)}), so a write is never executed
+ * after its caller was told it failed.
+ */
+final class S7HHotStandby {
+
+    private static final Logger logger = LoggerFactory.getLogger(S7HHotStandby.class);
+
+    static final AttributeKey<ChannelState> CHANNEL_STATE = AttributeKey.valueOf("HOT_STANDBY_CHANNEL_STATE");
+
+    // Unanswered heartbeats, after which a channel is considered dead and closed.
+    private static final int MAX_MISSED_HEARTBEATS = 3;
+
+    // Offset of the length in the TPKT header.
+    private static final int TPKT_LENGTH = 2;
+
+    // Function types, groups and subfunctions of user data.
+    private static final int TYPE_PUSH = 0x0;
+    private static final int TYPE_REQUEST = 0x4;
+    private static final int TYPE_RESPONSE = 0x8;
+    private static final int GROUP_CYCLIC = 0x2;
+    private static final int GROUP_CPU = 0x4;
+    private static final int CYCLIC_SUBSCRIBE = 0x01;
+    private static final int CYCLIC_UNSUBSCRIBE = 0x04;
+    private static final int CYCLIC_CHANGE_DRIVEN = 0x05;
+    private static final int CPU_MESSAGE_SERVICE = 0x02;
+
+    enum Phase {
+        // The session is negotiated by the S7ProtocolLogic.
+        PROTOCOL,
+        // Waiting for the session of the active channel being negotiated.
+        WAITING,
+        CONNECTING,
+        SETTING_UP,
+        READY
+    }
+
+    private enum Kind {
+        // Responses are forwarded to the S7ProtocolLogic.
+        FORWARD,
+        // Mirrored request, the response is only forwarded after a failover.
+        MIRROR,
+        // Subscription restored on a new standby channel.
+        RESTORE,
+        SETUP,
+        HEARTBEAT
+    }
+
+    private final int heartbeatTime;
+    private final long requestTimeoutNanos;
+    private final int primaryCalledTsapId;
+    private final int secondaryCalledTsapId;
+    private final Frame heartbeat;
+
+    private Frame connectionRequest;
+    private Frame setupCommunication;
+    private int setupCommunicationTpdu = -1;
+
+    // Requests sent by the protocol which are still waiting for a response, by TPDU reference of the protocol.
+    private final Map<Integer, Request> inFlight = new LinkedHashMap<>();
+    private final List<Subscription> subscriptions = new ArrayList<>();
+
+    private ChannelState active;
+    private ChannelState standby;
+
+    private volatile Duration failoverTime;
+
+    /**
+     * @param heartbeatTime         interval of the heartbeats in milliseconds, 0 disables them.
+     * @param requestTimeout        time after which the protocol doesn't wait for the response of a request anymore.
+     * @param primaryCalledTsapId   called TSAP of the primary channel, or -1 to use the one of the protocol.
+     * @param secondaryCalledTsapId called TSAP of the secondary channel, or -1 to use the one of the protocol.
+     */
+    S7HHotStandby(int heartbeatTime, Duration requestTimeout, int primaryCalledTsapId, int secondaryCalledTsapId) {
+        this.heartbeatTime = heartbeatTime;
+        this.requestTimeoutNanos = requestTimeout.toNanos();
+        this.primaryCalledTsapId = primaryCalledTsapId;
+        this.secondaryCalledTsapId = secondaryCalledTsapId;
+        this.heartbeat = new Frame(createHeartbeat());
+    }
+
+    /**
+     * Registers a TCP channel, the standby channel is connected as soon as
+     * the protocol has negotiated the session on the active one.
+     */
+    synchronized void attach(Channel channel, boolean primary, boolean isActive) {
+        if (channel.attr(CHANNEL_STATE).get() != null) {
+            return;
+        }
+        ChannelState state = new ChannelState(channel, primary ? primaryCalledTsapId : secondaryCalledTsapId);
+        channel.attr(CHANNEL_STATE).set(state);
+        if (isActive) {
+            activate(state);
+        } else {
+            if ((standby != null) && (standby != state)) {
+                detach(standby.channel);
+            }
+            standby = state;
+            connectStandby();
+        }
+    }
+
+    /**
+     * Forgets a TCP channel, which is not active anymore.
+     */
+    synchronized void detach(Channel channel) {
+        ChannelState state = channel.attr(CHANNEL_STATE).getAndSet(null);
+        if (state == null) {
+            return;
+        }
+        state.close();
+        if (state == standby) {
+            standby = null;
+        }
+        if (state == active) {
+            active = null;
+        }
+    }
+
+    /**
+     * Sends a frame of the S7ProtocolLogic over the active channel and mirrors
+     * subscriptions to the standby channel.
+     */
+    synchronized void outbound(byte[] bytes, Channel activeChannel) {
+        if ((active == null) || (active.channel != activeChannel)) {
+            // The multiplexer switched over without a negotiated standby session.
+            ChannelState state = activeChannel.attr(CHANNEL_STATE).get();
+            if (state == null) {
+                state = new ChannelState(activeChannel, -1);
+                activeChannel.attr(CHANNEL_STATE).set(state);
+            }
+            if (state == standby) {
+                standby = null;
+            }
+            activate(state);
+        }
+
+        Frame frame = new Frame(bytes);
+        if (frame.isConnectionRequest()) {
+            // The protocol negotiates a new session, everything known about the old one is obsolete.
+            connectionRequest = frame;
+            setupCommunication = null;
+            inFlight.clear();
+            subscriptions.clear();
+            active.reset();
+            if ((standby != null) && (standby.phase != Phase.WAITING)) {
+                // The supervision of the S7HPlcConnection connects it again.
+                standby.channel.close();
+            }
+            write(active, bytes);
+            return;
+        }
+        if (!frame.isS7() || !frame.isRequest()) {
+            write(active, bytes);
+            return;
+        }
+
+        long now = System.nanoTime();
+        evictExpired(now);
+        int tpdu = frame.getTpdu();
+        if (frame.isSetupCommunication()) {
+            setupCommunication = frame;
+            setupCommunicationTpdu = tpdu;
+        }
+        // Re-inserted, so the requests stay ordered by their deadlines.
+        inFlight.remove(tpdu);
+        inFlight.put(tpdu, new Request(frame, now + requestTimeoutNanos));
+
+        Subscription subscription = null;
+        if (frame.isUserData(GROUP_CYCLIC, CYCLIC_SUBSCRIBE) || frame.isUserData(GROUP_CYCLIC, CYCLIC_CHANGE_DRIVEN)) {
+            subscription = new Subscription(frame, tpdu, true);
+        } else if (frame.isUserData(GROUP_CPU, CPU_MESSAGE_SERVICE)) {
+            subscription = new Subscription(frame, tpdu, false);
+        } else if (frame.isUserData(GROUP_CYCLIC, CYCLIC_UNSUBSCRIBE)) {
+            Set<Short> jobIds = unsubscribe(frame);
+            if ((standby != null) && (standby.phase == Phase.READY)) {
+                send(standby, frame.withJobIds(standby.channelJobIds), new Target(Kind.MIRROR, tpdu, null));
+            }
+            frame = frame.withJobIds(active.channelJobIds);
+            active.forgetJobIds(jobIds);
+            if (standby != null) {
+                standby.forgetJobIds(jobIds);
+            }
+        }
+        if (subscription != null) {
+            subscriptions.add(subscription);
+            if ((standby != null) && (standby.phase == Phase.READY)) {
+                send(standby, frame, new Target(Kind.MIRROR, tpdu, subscription));
+            }
+        }
+        send(active, frame, new Target(Kind.FORWARD, tpdu, subscription));
+    }
+
+    /**
+     * Processes the bytes received on one of the TCP channels.
+     *
+     * @return the frames to be forwarded to the S7ProtocolLogic.
+     */
+    synchronized List<byte[]> inbound(Channel channel, ByteBuf in) {
+        ChannelState state = channel.attr(CHANNEL_STATE).get();
+        if (state == null) {
+            // Nothing is known about this channel, so it isn't the active one.
+            return Collections.emptyList();
+        }
+        state.cumulation.writeBytes(in);
+        List<byte[]> forward = new ArrayList<>();
+        byte[] frame;
+        while ((frame = nextFrame(state.cumulation)) != null) {
+            receive(state, frame, forward);
+        }
+        state.cumulation.discardSomeReadBytes();
+        return (state == active) ? forward : Collections.emptyList();
+    }
+
+    /**
+     * Forgets a request of the protocol, which doesn't wait for its response
+     * anymore, so it isn't sent again after a failover.
+     *
+     * @param tpdu TPDU reference of the request used by the protocol.
+     */
+    synchronized void abandon(int tpdu) {
+        inFlight.remove(tpdu);
+    }
+
+    /**
+     * Switches over to the standby channel, if its session is set up.
+     * Requests in flight on the failed channel are replayed.
+     *
+     * @param detected point in time ({@link System#nanoTime()}) the failure of the active channel was detected.
+     * @return the frames to be forwarded to the S7ProtocolLogic or null if it's not possible to switch over.
+     */
+    synchronized List<byte[]> failover(long detected) {
+        if ((standby == null) || (standby.phase != Phase.READY) || !standby.channel.isActive()) {
+            return null;
+        }
+        if (active != null) {
+            active.channel.attr(CHANNEL_STATE).set(null);
+            active.close();
+        }
+        active = standby;
+        standby = null;
+
+        evictExpired(System.nanoTime());
+        List<byte[]> forward = new ArrayList<>();
+        int replayed = 0;
+        for (Map.Entry<Integer, Request> entry : new ArrayList<>(inFlight.entrySet())) {
+            int tpdu = entry.getKey();
+            Target mirror = active.findMirror(tpdu);
+            Subscription subscription = findSubscription(tpdu);
+            if (mirror != null) {
+                // The response of the mirrored request is the one the protocol is waiting for.
+                mirror.kind = Kind.FORWARD;
+            } else if ((subscription != null) && (subscription.mirrorResponse != null)
+                && (subscription.mirrorChannel == active)) {
+                Frame response = subscription.mirrorResponse;
+                subscription.mirrorResponse = null;
+                respond(active, new Target(Kind.FORWARD, tpdu, subscription), response, forward);
+            } else {
+                send(active, entry.getValue().frame, new Target(Kind.FORWARD, tpdu, subscription));
+                replayed++;
+            }
+        }
+        failoverTime = Duration.ofNanos(System.nanoTime() - detected);
+        logger.info("Switched over to the standby channel in {} ms, {} requests replayed",
+            failoverTime.toNanos() / 1_000_000.0, replayed);
+        return forward;
+    }
+
+    synchronized Channel getActiveChannel() {
+        return (active != null) ? active.channel : null;
+    }
+
+    synchronized boolean isStandbyReady() {
+        return (standby != null) && (standby.phase == Phase.READY);
+    }
+
+    /**
+     * @return the time the last failover took, from detecting the failure
+     * until the requests in flight were sent again, or null if there was none.
+     */
+    Duration getFailoverTime() {
+        return failoverTime;
+    }
+
+    private void activate(ChannelState state) {
+        active = state;
+        if (state.phase != Phase.READY) {
+            state.phase = Phase.PROTOCOL;
+        }
+    }
+
+    private void connectStandby() {
+        if ((standby == null) || (standby.phase != Phase.WAITING) || (connectionRequest == null) ||
+            (setupCommunication == null) || (active == null) || (active.phase != Phase.READY)) {
+            return;
+        }
+        logger.debug("Connecting the standby channel");
+        standby.phase = Phase.CONNECTING;
+        write(standby, connectionRequest.withCalledTsap(standby.calledTsapId));
+    }
+
+    private void receive(ChannelState state, byte[] bytes, List<byte[]> forward) {
+        Frame frame = new Frame(bytes);
+        if (frame.isConnectionConfirm() && (state.phase == Phase.CONNECTING)) {
+            state.phase = Phase.SETTING_UP;
+            send(state, setupCommunication, new Target(Kind.SETUP, -1, null));
+            return;
+        }
+        if (!frame.isS7()) {
+            forward.add(bytes);
+            return;
+        }
+        if (frame.isResponse()) {
+            Target target = state.targets.remove(frame.getTpdu());
+            if (target == null) {
+                forward.add(bytes);
+                return;
+            }
+            switch (target.kind) {
+                case SETUP:
+                    logger.info("Standby channel set up, restoring {} subscriptions", subscriptions.size());
+                    state.phase = Phase.READY;
+                    startHeartbeat(state);
+                    for (Subscription subscription : subscriptions) {
+                        send(state, subscription.frame, new Target(Kind.RESTORE, subscription.tpdu, subscription));
+                    }
+                    return;
+                case HEARTBEAT:
+                    state.missedHeartbeats = 0;
+                    return;
+                case MIRROR:
+                case RESTORE:
+                    mirrored(state, target, frame);
+                    return;
+                default:
+                    respond(state, target, frame, forward);
+                    return;
+            }
+        }
+        if (frame.isPush(GROUP_CYCLIC)) {
+            Short jobId = state.protocolJobIds.get(frame.getJobId());
+            if (jobId == null) {
+                // Job of an obsolete session.
+                return;
+            }
+            forward.add((jobId == frame.getJobId()) ? bytes : frame.rebuild(frame.getTpdu(), jobId));
+            return;
+        }
+        forward.add(bytes);
+    }
+
+    private void respond(ChannelState state, Target target, Frame frame, List<byte[]> forward) {
+        inFlight.remove(target.tpdu);
+        if ((target.tpdu == setupCommunicationTpdu) && (state.phase == Phase.PROTOCOL)) {
+            state.phase = Phase.READY;
+            setupCommunicationTpdu = -1;
+            startHeartbeat(state);
+            connectStandby();
+        }
+        Short jobId = null;
+        Subscription subscription = target.subscription;
+        if ((subscription != null) && subscription.cyclic && frame.isUserData(GROUP_CYCLIC, -1)) {
+            if (frame.getErrorCode() != 0) {
+                subscriptions.remove(subscription);
+            } else {
+                short channelJobId = frame.getJobId();
+                subscription.jobId = nextJobId(channelJobId);
+                state.mapJobId(channelJobId, subscription.jobId);
+                jobId = subscription.jobId;
+                if ((subscription.mirrorResponse != null) && (subscription.mirrorChannel == standby)) {
+                    standby.mapJobId(subscription.mirrorResponse.getJobId(), subscription.jobId);
+                }
+                subscription.mirrorResponse = null;
+                subscription.mirrorChannel = null;
+            }
+        }
+        forward.add(frame.rebuild(target.tpdu, jobId));
+    }
+
+    private void mirrored(ChannelState state, Target target, Frame frame) {
+        Subscription subscription = target.subscription;
+        if ((subscription == null) || !subscription.cyclic || (frame.getErrorCode() != 0)) {
+            return;
+        }
+        if (subscription.jobId >= 0) {
+            state.mapJobId(frame.getJobId(), subscription.jobId);
+        } else {
+            // The active channel didn't respond yet, so the job id isn't known.
+            subscription.mirrorResponse = frame;
+            subscription.mirrorChannel = state;
+        }
+    }
+
+    private Set<Short> unsubscribe(Frame frame) {
+        Set<Short> jobIds = new HashSet<>(frame.getUnsubscribedJobIds());
+        subscriptions.removeIf(subscription -> subscription.cyclic && jobIds.contains(subscription.jobId));
+        return jobIds;
+    }
+
+    private short nextJobId(short channelJobId) {
+        Set<Short> used = new HashSet<>();
+        for (Subscription subscription : subscriptions) {
+            used.add(subscription.jobId);
+        }
+        if (!used.contains(channelJobId)) {
+            return channelJobId;
+        }
+        for (short jobId = 1; jobId < 0xFF; jobId++) {
+            if (!used.contains(jobId)) {
+                return jobId;
+            }
+        }
+        return channelJobId;
+    }
+
+    private Subscription findSubscription(int tpdu) {
+        for (Subscription subscription : subscriptions) {
+            if (subscription.tpdu == tpdu) {
+                return subscription;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The protocol has given up on requests, which weren't answered within the request timeout.
+     */
+    private void evictExpired(long now) {
+        // All requests have the same timeout, so the ones sent first expire first.
+        Iterator<Request> requests = inFlight.values().iterator();
+        while (requests.hasNext() && (requests.next().deadline - now <= 0)) {
+            requests.remove();
+        }
+    }
+
+    private void startHeartbeat(ChannelState state) {
+        if ((heartbeatTime <= 0) || (state.heartbeatFuture != null)) {
+            return;
+        }
+        state.heartbeatFuture = state.channel.eventLoop().scheduleAtFixedRate(
+            () -> heartbeat(state), heartbeatTime, heartbeatTime, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void heartbeat(ChannelState state) {
+        if (!state.channel.isActive() || (state.channel.attr(CHANNEL_STATE).get() != state)) {
+            return;
+        }
+        if (state.missedHeartbeats >= MAX_MISSED_HEARTBEATS) {
+            logger.warn("No response to {} heartbeats, closing the {} channel", state.missedHeartbeats,
+                (state == active) ? "active" : "standby");
+            state.channel.close();
+            return;
+        }
+        state.missedHeartbeats++;
+        send(state, heartbeat, new Target(Kind.HEARTBEAT, -1, null));
+    }
+
+    private static void send(ChannelState state, Frame frame, Target target) {
+        write(state, frame.withTpdu(state.register(target)));
+    }
+
+    private static void write(ChannelState state, byte[] frame) {
+        state.channel.writeAndFlush(Unpooled.wrappedBuffer(frame));
+    }
+
+    private static byte[] nextFrame(ByteBuf cumulation) {
+        // Skip anything not looking like a TPKT header.
+        while (cumulation.isReadable() && (cumulation.getUnsignedByte(cumulation.readerIndex()) != 0x03)) {
+            cumulation.skipBytes(1);
+        }
+        if (cumulation.readableBytes() < 4) {
+            return null;
+        }
+        int length = cumulation.getUnsignedShort(cumulation.readerIndex() + TPKT_LENGTH);
+        if (length < 4) {
+            cumulation.skipBytes(1);
+            return null;
+        }
+        if (cumulation.readableBytes() < length) {
+            return null;
+        }
+        byte[] frame = new byte[length];
+        cumulation.readBytes(frame);
+        return frame;
+    }
+
+    static int getTpdu(byte[] frame) {
+        return new Frame(frame).getTpdu();
+    }
+
+    private static byte[] serialize(TPKTPacket packet) {
+        try {
+            WriteBufferByteBased writeBuffer = new WriteBufferByteBased(packet.getLengthInBytes());
+            packet.serialize(writeBuffer);
+            return writeBuffer.getBytes();
+        } catch (SerializationException e) {
+            throw new IllegalStateException("Error serializing a frame", e);
+        }
+    }
+
+    private static byte[] createHeartbeat() {
+        S7MessageUserData identifyMessage = new S7MessageUserData(0, new S7ParameterUserData(Collections.singletonList(
+            new S7ParameterUserDataItemCPUFunctions((short) 0x11, (byte) 0x4, (byte) 0x4, (short) 0x01, (short) 0x00, null, null, null)
+        )), new S7PayloadUserData(Collections.singletonList(
+            new S7PayloadUserDataItemCpuFunctionReadSzlRequest(DataTransportErrorCode.OK,
+                DataTransportSize.OCTET_STRING,
+                0x0C,
+                new SzlId(SzlModuleTypeClass.CPU,
+                    (byte) 0x00,
+                    SzlSublist.MODULE_IDENTIFICATION),
+                0x0000)
+        )));
+        return serialize(new TPKTPacket(new COTPPacketData(null, identifyMessage, true, (byte) 2)));
+    }
+
+    /**
+     * Frame of the protocol or one of the PLCs, decoded with the generated model.
+     * Frames are changed by building them again with other TPDU references, job
+     * ids or TSAPs. Their payload is always passed on exactly as received though,
+     * as the model can't serialize all payloads the PLCs send (e.g. the values
+     * of cyclic subscriptions).
+     */
+    static final class Frame {
+
+        private final byte[] bytes;
+        // Null, if the frame couldn't be decoded.
+        private final COTPPacket cotpPacket;
+        // Null, if the frame doesn't contain an S7 message.
+        private final S7Message message;
+        // Null, if the message isn't user data.
+        private final S7ParameterUserDataItemCPUFunctions userData;
+
+        Frame(byte[] bytes) {
+            this.bytes = bytes;
+            COTPPacket cotpPacket = null;
+            try {
+                cotpPacket = TPKTPacket.staticParse(new ReadBufferByteBased(bytes)).getPayload();
+            } catch (ParseException | RuntimeException e) {
+                logger.debug("Passing on a frame which couldn't be decoded", e);
+            }
+            this.cotpPacket = cotpPacket;
+            this.message = (cotpPacket instanceof COTPPacketData) ? cotpPacket.getPayload() : null;
+            S7ParameterUserDataItem userDataItem = null;
+            if ((message instanceof S7MessageUserData) && (message.getParameter() instanceof S7ParameterUserData)) {
+                List<S7ParameterUserDataItem> items = ((S7ParameterUserData) message.getParameter()).getItems();
+                userDataItem = items.isEmpty() ? null : items.get(0);
+            }
+            this.userData = (userDataItem instanceof S7ParameterUserDataItemCPUFunctions) ?
+                (S7ParameterUserDataItemCPUFunctions) userDataItem : null;
+        }
+
+        boolean isConnectionRequest() {
+            return cotpPacket instanceof COTPPacketConnectionRequest;
+        }
+
+        boolean isConnectionConfirm() {
+            return cotpPacket instanceof COTPPacketConnectionResponse;
+        }
+
+        boolean isS7() {
+            return message != null;
+        }
+
+        boolean isRequest() {
+            return (message instanceof S7MessageRequest) ||
+                ((userData != null) && (userData.getCpuFunctionType() == TYPE_REQUEST));
+        }
+
+        boolean isResponse() {
+            return (message instanceof S7MessageResponse) || (message instanceof S7MessageResponseData) ||
+                ((userData != null) && (userData.getCpuFunctionType() == TYPE_RESPONSE));
+        }
+
+        boolean isPush(int group) {
+            return (userData != null) && (userData.getCpuFunctionType() == TYPE_PUSH) &&
+                (userData.getCpuFunctionGroup() == group);
+        }
+
+        boolean isSetupCommunication() {
+            return (message instanceof S7MessageRequest) && (message.getParameter() instanceof S7ParameterSetupCommunication);
+        }
+
+        /**
+         * @param subfunction the subfunction or -1 for any.
+         */
+        boolean isUserData(int group, int subfunction) {
+            return (userData != null) && (userData.getCpuFunctionGroup() == group) &&
+                ((subfunction < 0) || (userData.getCpuSubfunction() == subfunction));
+        }
+
+        int getTpdu() {
+            return message.getTpduReference();
+        }
+
+        short getJobId() {
+            return userData.getSequenceNumber();
+        }
+
+        int getErrorCode() {
+            return ((userData == null) || (userData.getErrorCode() == null)) ? 0 : userData.getErrorCode();
+        }
+
+        List<Short> getUnsubscribedJobIds() {
+            List<Short> jobIds = new ArrayList<>();
+            if (message.getPayload() instanceof S7PayloadUserData) {
+                for (S7PayloadUserDataItem item : ((S7PayloadUserData) message.getPayload()).getItems()) {
+                    if (item instanceof S7PayloadUserDataItemCyclicServicesUnsubscribeRequest) {
+                        jobIds.add(((S7PayloadUserDataItemCyclicServicesUnsubscribeRequest) item).getJobId());
+                    }
+                }
+            }
+            return jobIds;
+        }
+
+        byte[] withTpdu(int tpdu) {
+            return rebuild(tpdu, null);
+        }
+
+        /**
+         * @param jobId job id replacing the one of the user data or null to keep it.
+         */
+        byte[] rebuild(int tpdu, Short jobId) {
+            S7Parameter parameter = message.getParameter();
+            if (jobId != null) {
+                parameter = new S7ParameterUserData(Collections.singletonList(new S7ParameterUserDataItemCPUFunctions(
+                    userData.getMethod(), userData.getCpuFunctionType(), userData.getCpuFunctionGroup(),
+                    userData.getCpuSubfunction(), jobId, userData.getDataUnitReferenceNumber(),
+                    userData.getLastDataUnit(), userData.getErrorCode())));
+            }
+            S7Payload payload = null;
+            if (message.getPayload() != null) {
+                int headerLength = toPacket(copyMessage(message.getTpduReference(), message.getParameter(), null))
+                    .getLengthInBytes();
+                payload = new ReceivedPayload(message.getPayload(), Arrays.copyOfRange(bytes, headerLength, bytes.length));
+            }
+            return serialize(toPacket(copyMessage(tpdu, parameter, payload)));
+        }
+
+        /**
+         * @return the unsubscribe request with the job ids of the protocol replaced by the ones of a channel.
+         */
+        Frame withJobIds(Map<Short, Short> channelJobIds) {
+            List<S7PayloadUserDataItem> items = new ArrayList<>();
+            for (S7PayloadUserDataItem item : ((S7PayloadUserData) message.getPayload()).getItems()) {
+                if (item instanceof S7PayloadUserDataItemCyclicServicesUnsubscribeRequest) {
+                    S7PayloadUserDataItemCyclicServicesUnsubscribeRequest unsubscribe =
+                        (S7PayloadUserDataItemCyclicServicesUnsubscribeRequest) item;
+                    Short channelJobId = channelJobIds.get(unsubscribe.getJobId());
+                    if (channelJobId != null) {
+                        item = new S7PayloadUserDataItemCyclicServicesUnsubscribeRequest(unsubscribe.getReturnCode(),
+                            unsubscribe.getTransportSize(), unsubscribe.getDataLength(), unsubscribe.getFunction(),
+                            channelJobId);
+                    }
+                }
+                items.add(item);
+            }
+            return new Frame(serialize(toPacket(copyMessage(message.getTpduReference(), message.getParameter(),
+                new S7PayloadUserData(items)))));
+        }
+
+        /**
+         * @return the connection request with the given called TSAP or unchanged, if it's -1.
+         */
+        byte[] withCalledTsap(int calledTsapId) {
+            if (calledTsapId < 0) {
+                return bytes.clone();
+            }
+            COTPPacketConnectionRequest connectionRequest = (COTPPacketConnectionRequest) cotpPacket;
+            List<COTPParameter> parameters = new ArrayList<>();
+            for (COTPParameter parameter : connectionRequest.getParameters()) {
+                parameters.add((parameter instanceof COTPParameterCalledTsap) ?
+                    new COTPParameterCalledTsap(calledTsapId) : parameter);
+            }
+            return serialize(new TPKTPacket(new COTPPacketConnectionRequest(parameters,
+                connectionRequest.getPayload(), connectionRequest.getDestinationReference(),
+                connectionRequest.getSourceReference(), connectionRequest.getProtocolClass())));
+        }
+
+        private TPKTPacket toPacket(S7Message s7Message) {
+            COTPPacketData data = (COTPPacketData) cotpPacket;
+            return new TPKTPacket(new COTPPacketData(data.getParameters(), s7Message, data.getEot(), data.getTpduRef()));
+        }
+
+        private S7Message copyMessage(int tpdu, S7Parameter parameter, S7Payload payload) {
+            if (message instanceof S7MessageRequest) {
+                return new S7MessageRequest(tpdu, parameter, payload);
+            }
+            if (message instanceof S7MessageResponse) {
+                S7MessageResponse response = (S7MessageResponse) message;
+                return new S7MessageResponse(tpdu, parameter, payload, response.getErrorClass(), response.getErrorCode());
+            }
+            if (message instanceof S7MessageResponseData) {
+                S7MessageResponseData response = (S7MessageResponseData) message;
+                return new S7MessageResponseData(tpdu, parameter, payload, response.getErrorClass(), response.getErrorCode());
+            }
+            return new S7MessageUserData(tpdu, parameter, payload);
+        }
+    }
+
+    /**
+     * Payload written exactly as it was received.
+     */
+    private static final class ReceivedPayload extends S7Payload {
+
+        private final S7Payload payload;
+        private final byte[] bytes;
+
+        private ReceivedPayload(S7Payload payload, byte[] bytes) {
+            this.payload = payload;
+            this.bytes = bytes;
+        }
+
+        @Override
+        public Short getMessageType() {
+            return payload.getMessageType();
+        }
+
+        @Override
+        public Short getParameterParameterType() {
+            return payload.getParameterParameterType();
+        }
+
+        @Override
+        protected void serializeS7PayloadChild(WriteBuffer writeBuffer) throws SerializationException {
+            writeBuffer.writeByteArray("payload", bytes);
+        }
+
+        @Override
+        protected int calculateLengthInBits(boolean _lastItem) {
+            return bytes.length * 8;
+        }
+    }
+
+    static final class ChannelState {
+
+        private final Channel channel;
+        private final int calledTsapId;
+        private final ByteBuf cumulation = Unpooled.buffer();
+        private final Map<Integer, Target> targets = new HashMap<>();
+        // Job ids of cyclic subscriptions: channel to protocol and protocol to channel.
+        private final Map<Short, Short> protocolJobIds = new HashMap<>();
+        private final Map<Short, Short> channelJobIds = new HashMap<>();
+        private Phase phase = Phase.WAITING;
+        private int nextTpdu = 1;
+        private int missedHeartbeats;
+        private ScheduledFuture<?> heartbeatFuture;
+
+        private ChannelState(Channel channel, int calledTsapId) {
+            this.channel = channel;
+            this.calledTsapId = calledTsapId;
+        }
+
+        Phase getPhase() {
+            return phase;
+        }
+
+        private int register(Target target) {
+            int tpdu = nextTpdu;
+            while ((tpdu == 0) || targets.containsKey(tpdu)) {
+                tpdu = (tpdu + 1) & 0xFFFF;
+            }
+            nextTpdu = (tpdu + 1) & 0xFFFF;
+            targets.put(tpdu, target);
+            return tpdu;
+        }
+
+        private Target findMirror(int tpdu) {
+            for (Target target : targets.values()) {
+                if ((target.kind == Kind.MIRROR) && (target.tpdu == tpdu)) {
+                    return target;
+                }
+            }
+            return null;
+        }
+
+        private void mapJobId(short channelJobId, short protocolJobId) {
+            protocolJobIds.put(channelJobId, protocolJobId);
+            channelJobIds.put(protocolJobId, channelJobId);
+        }
+
+        private void forgetJobIds(Set<Short> jobIds) {
+            for (Short jobId : jobIds) {
+                Short channelJobId = channelJobIds.remove(jobId);
+                if (channelJobId != null) {
+                    protocolJobIds.remove(channelJobId);
+                }
+            }
+        }
+
+        private void reset() {
+            targets.clear();
+            protocolJobIds.clear();
+            channelJobIds.clear();
+            phase = Phase.PROTOCOL;
+        }
+
+        private void close() {
+            if (heartbeatFuture != null) {
+                heartbeatFuture.cancel(false);
+                heartbeatFuture = null;
+            }
+            targets.clear();
+            cumulation.release();
+        }
+    }
+
+    private static final class Target {
+
+        private Kind kind;
+        // TPDU reference used by the protocol.
+        private final int tpdu;
+        private final Subscription subscription;
+
+        private Target(Kind kind, int tpdu, Subscription subscription) {
+            this.kind = kind;
+            this.tpdu = tpdu;
+            this.subscription = subscription;
+        }
+    }
+
+    private static final class Request {
+
+        private final Frame frame;
+        // Point in time (System.nanoTime()) the protocol stops waiting for the response.
+        private final long deadline;
+
+        private Request(Frame frame, long deadline) {
+            this.frame = frame;
+            this.deadline = deadline;
+        }
+    }
+
+    private static final class Subscription {
+
+        private final Frame frame;
+        private final int tpdu;
+        private final boolean cyclic;
+        // Job id known to the protocol.
+        private short jobId = -1;
+        // Response of the standby channel, while the active one didn't respond.
+        private Frame mirrorResponse;
+        private ChannelState mirrorChannel;
+
+        private Subscription(Frame frame, int tpdu, boolean cyclic) {
+            this.frame = frame;
+            this.tpdu = tpdu;
+            this.cyclic = cyclic;
+        }
+    }
+
+}
@@ -21,6 +21,8 @@ package org.apache.plc4x.java.s7.readwrite.protocol;
 import io.netty.channel.Channel;
 import org.apache.plc4x.java.spi.configuration.PlcConnectionConfiguration;
 
+import java.time.Duration;
+
 public interface S7HMux {
 
     void setEmbededhannel(Channel embeded_channel, PlcConnectionConfiguration configuration);
@@ -31,4 +33,15 @@ public interface S7HMux {
 
     Channel getTCPChannel();
 
+    /**
+     * @return the time the last switch over to the hot standby channel took,
+     * or null if there was none.
+     */
+    Duration getFailoverTime();
+
+    /**
+     * @return true, if the session on the hot standby channel is set up.
+     */
+    boolean isStandbyReady();
+
 }
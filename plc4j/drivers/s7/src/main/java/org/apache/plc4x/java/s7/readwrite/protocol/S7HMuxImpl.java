@@ -19,6 +19,8 @@
 package org.apache.plc4x.java.s7.readwrite.protocol;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandler.Sharable;
@@ -28,7 +30,9 @@ import io.netty.handler.codec.MessageToMessageCodec;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.util.AttributeKey;
 import org.apache.plc4x.java.spi.configuration.PlcConnectionConfiguration;
+import org.apache.plc4x.java.s7.readwrite.DeviceGroup;
 import org.apache.plc4x.java.s7.readwrite.configuration.S7Configuration;
+import org.apache.plc4x.java.s7.readwrite.utils.S7TsapIdEncoder;
 import org.apache.plc4x.java.spi.events.ConnectEvent;
 import org.apache.plc4x.java.spi.events.ConnectedEvent;
 import org.apache.plc4x.java.spi.events.DisconnectEvent;
@@ -36,6 +40,7 @@ import org.apache.plc4x.java.spi.events.DisconnectedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.logging.Level;
@@ -48,6 +53,10 @@ import java.util.logging.Level;
  * (S7-400H or S7-1500H).
  * The user App must be in charge of restoring the requests or
  * subscriptions that it is requesting.
+ * With "hot-standby" enabled, the session on the standby channel is kept
+ * negotiated instead (see {@link S7HHotStandby}), the requests in flight and
+ * the subscriptions are moved over at a failover and the user App doesn't
+ * need to restore anything.
  */
 @Sharable
 public class S7HMuxImpl extends MessageToMessageCodec<ByteBuf, ByteBuf> implements S7HMux {
@@ -121,6 +130,7 @@ public class S7HMuxImpl extends MessageToMessageCodec<ByteBuf, ByteBuf> implemen
     protected Channel tcpChannel = null;
     protected Channel primaryChannel = null;
     protected Channel secondaryChannel = null;
+    protected S7HHotStandby hotStandby = null;
 
     /*
      * From S7ProtocolLogic
@@ -130,7 +140,9 @@ public class S7HMuxImpl extends MessageToMessageCodec<ByteBuf, ByteBuf> implemen
     @Override
     protected void encode(ChannelHandlerContext ctx, ByteBuf outBB, List<Object> list) {
         if ((embedCtx == null) && (ctx.channel() instanceof EmbeddedChannel)) embedCtx = ctx;
-        if ((tcpChannel != null) && (embedCtx == ctx)) {
+        if ((hotStandby != null) && (tcpChannel != null) && (embedCtx == ctx)) {
+            hotStandby.outbound(ByteBufUtil.getBytes(outBB), tcpChannel);
+        } else if ((tcpChannel != null) && (embedCtx == ctx)) {
             tcpChannel.writeAndFlush(outBB.copy());
         }
         list.add(outBB.copy());
@@ -143,6 +155,13 @@ public class S7HMuxImpl extends MessageToMessageCodec<ByteBuf, ByteBuf> implemen
      */
     @Override
     protected void decode(ChannelHandlerContext ctx, ByteBuf inBB, List<Object> list) throws Exception {
+        if (hotStandby != null) {
+            // Only complete frames of the active channel are passed on.
+            for (byte[] frame : hotStandby.inbound(ctx.channel(), inBB)) {
+                embedCtx.fireChannelRead(Unpooled.wrappedBuffer(frame));
+            }
+            return;
+        }
         embedCtx.fireChannelRead(inBB.copy());
     }
 
@@ -174,6 +193,12 @@ public class S7HMuxImpl extends MessageToMessageCodec<ByteBuf, ByteBuf> implemen
      */
     @Override
     public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof AbandonedRequestEvent) {
+            if (hotStandby != null) {
+                hotStandby.abandon(((AbandonedRequestEvent) evt).tpdu);
+            }
+            return;
+        }
         logger.info(LocalTime.now() + " userEventTriggered: " + ctx.name() + " Event: " + evt);
 
         if (evt instanceof ConnectedEvent) {
@@ -215,10 +240,29 @@ public class S7HMuxImpl extends MessageToMessageCodec<ByteBuf, ByteBuf> implemen
         logger.debug(LocalTime.now() + " channelReadComplete: " + ctx.name());
     }
 
+    /*
+     * With hot standby, the switch to the standby channel is done as soon as
+     * the active channel is lost. If the session of the standby channel isn't
+     * set up yet, the switch is done in "channelUnregistered" as usual.
+     */
     @Override
     public void channelInactive(ChannelHandlerContext ctx) throws Exception {
         super.channelInactive(ctx);
         logger.debug("channelInactive: " + ctx.name());
+        if ((hotStandby == null) || (ctx == embedCtx)) return;
+
+        long detected = System.nanoTime();
+        List<byte[]> frames = (tcpChannel == ctx.channel()) ? hotStandby.failover(detected) : null;
+        if (frames == null) {
+            hotStandby.detach(ctx.channel());
+            return;
+        }
+        tcpChannel = hotStandby.getActiveChannel();
+        embededChannel.attr(IS_PRIMARY).set(tcpChannel == primaryChannel);
+        logger.info("Using {} TCP channel (hot standby).", (tcpChannel == primaryChannel) ? "primary" : "secondary");
+        for (byte[] frame : frames) {
+            embedCtx.fireChannelRead(Unpooled.wrappedBuffer(frame));
+        }
     }
 
     @Override
@@ -286,6 +330,18 @@ public class S7HMuxImpl extends MessageToMessageCodec<ByteBuf, ByteBuf> implemen
         this.embededChannel.attr(IS_PING_ACTIVE).set(conf.getPing());
         this.embededChannel.attr(PING_TIME).set(conf.getPingTime());
         this.embededChannel.attr(RETRY_TIME).set(conf.getRetryTime());
+
+        if (conf.getHotStandby()) {
+            // An H system is addressed with the rack and slot of the second CPU on the secondary channel.
+            int secondaryCalledTsapId = -1;
+            if ((conf.getRemoteRack2() != 0) || (conf.getRemoteSlot2() != 0)) {
+                DeviceGroup deviceGroup = (conf.getRemoteDeviceGroup2() != null) ?
+                    conf.getRemoteDeviceGroup2() : DeviceGroup.PG_OR_PC;
+                secondaryCalledTsapId = S7TsapIdEncoder.encodeS7TsapId(deviceGroup,
+                    conf.getRemoteRack2(), conf.getRemoteSlot2()) & 0xFFFF;
+            }
+            this.hotStandby = new S7HHotStandby(conf.getHeartbeatTime(), S7ProtocolLogic.REQUEST_TIMEOUT, -1, secondaryCalledTsapId);
+        }
     }
 
     @Override
@@ -328,6 +384,7 @@ public class S7HMuxImpl extends MessageToMessageCodec<ByteBuf, ByteBuf> implemen
                 }
             }            
         }
+        attachHotStandby(primary_channel, true);
     }
 
     @Override
@@ -358,6 +415,7 @@ public class S7HMuxImpl extends MessageToMessageCodec<ByteBuf, ByteBuf> implemen
                 embedCtx.fireUserEventTriggered(new ConnectEvent());
             }
         }
+        attachHotStandby(secondary_channel, false);
     }
 
     @Override
@@ -365,4 +423,39 @@ public class S7HMuxImpl extends MessageToMessageCodec<ByteBuf, ByteBuf> implemen
         return tcpChannel;
     }
 
+    @Override
+    public Duration getFailoverTime() {
+        return (hotStandby != null) ? hotStandby.getFailoverTime() : null;
+    }
+
+    @Override
+    public boolean isStandbyReady() {
+        return (hotStandby != null) && hotStandby.isStandbyReady();
+    }
+
+    private void attachHotStandby(Channel channel, boolean primary) {
+        if ((hotStandby == null) || (channel == null) || !channel.isActive()) return;
+        if (channel != (primary ? primaryChannel : secondaryChannel)) return;
+        hotStandby.attach(channel, primary, channel == tcpChannel);
+    }
+
+    /*
+     * Fired by the S7ProtocolLogic, as soon as it doesn't wait for the
+     * response of a request anymore (e.g. timeout or cancelled), so the
+     * hot standby doesn't send the request again after a failover.
+     */
+    static final class AbandonedRequestEvent {
+
+        private final int tpdu;
+
+        AbandonedRequestEvent(int tpdu) {
+            this.tpdu = tpdu;
+        }
+
+        @Override
+        public String toString() {
+            return "AbandonedRequestEvent{tpdu=" + tpdu + "}";
+        }
+    }
+
 }
@@ -54,6 +54,7 @@ import org.apache.plc4x.java.spi.values.PlcValueHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.concurrent.*;
 import java.util.stream.Stream;
 import org.apache.plc4x.java.api.exceptions.PlcUnsupportedOperationException;
@@ -83,11 +84,7 @@ public class S7HPlcConnection extends DefaultNettyPlcConnection implements Runna
     private Boolean closed = false;
 
     private ScheduledFuture<?> scf = null;
-    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(new BasicThreadFactory.Builder()
-        .namingPattern("plc4x-s7ha-thread-%d")
-        .daemon(true)
-        .priority(Thread.MAX_PRIORITY)
-        .build());
+    private final ScheduledExecutorService executor;
 
     protected final ChannelFactory secondaryChannelFactory;
     protected Channel primaryChannel = null;
@@ -133,6 +130,16 @@ public class S7HPlcConnection extends DefaultNettyPlcConnection implements Runna
             authentication);
         this.secondaryChannelFactory = secondaryChannelFactory;
         this.s7hmux = new S7HMuxImpl();
+        // The supervision only runs once a second, so it can share the workers of the runtime.
+        if (channelFactory.getDriverRuntime() != null) {
+            this.executor = channelFactory.getDriverRuntime().getWorkerExecutor();
+        } else {
+            this.executor = Executors.newSingleThreadScheduledExecutor(new BasicThreadFactory.Builder()
+                .namingPattern("plc4x-s7ha-thread-%d")
+                .daemon(true)
+                .priority(Thread.MAX_PRIORITY)
+                .build());
+        }
     }
 
     @Override
@@ -243,7 +250,7 @@ public class S7HPlcConnection extends DefaultNettyPlcConnection implements Runna
                 try {
                     primaryChannel.pipeline().remove(MULTIPLEXER);
                     primaryChannel.pipeline().fireUserEventTriggered(new CloseConnectionEvent());
-                    primaryChannel.eventLoop().shutdownGracefully();
+                    closeEventLoop(channelFactory, primaryChannel);
                     logger.info("Close primary channel.");                    
                 } catch (Exception ex) {
                     logger.info(ex.toString());
@@ -255,7 +262,7 @@ public class S7HPlcConnection extends DefaultNettyPlcConnection implements Runna
             if (secondaryChannel.isActive()) {
                 secondaryChannel.pipeline().remove(MULTIPLEXER);
                 secondaryChannel.pipeline().fireUserEventTriggered(new CloseConnectionEvent());
-                secondaryChannel.eventLoop().shutdownGracefully();
+                closeEventLoop(secondaryChannelFactory, secondaryChannel);
                 logger.info("Close secondary channel.");                 
             }
         }
@@ -263,7 +270,9 @@ public class S7HPlcConnection extends DefaultNettyPlcConnection implements Runna
         
         channel.pipeline().fireUserEventTriggered(new DisconnectEvent());
         scf.cancel(true);
-        executor.shutdown();
+        if (channelFactory.getDriverRuntime() == null) {
+            executor.shutdown();
+        }
         closed = true;
     }
     
@@ -272,6 +281,46 @@ public class S7HPlcConnection extends DefaultNettyPlcConnection implements Runna
         return !closed && channel.attr(S7HMuxImpl.IS_CONNECTED).get();
     }
 
+    /**
+     * With "hot-standby" enabled, this is the time it took to switch over to
+     * the standby channel the last time, from detecting the loss of the active
+     * channel until the requests in flight were sent again.
+     *
+     * @return the time of the last failover or null if there was none.
+     */
+    public Duration getFailoverTime() {
+        return ((S7HMux) s7hmux).getFailoverTime();
+    }
+
+    /**
+     * @return true, if "hot-standby" is enabled and the session on the standby channel is set up.
+     */
+    public boolean isStandbyReady() {
+        return ((S7HMux) s7hmux).isStandbyReady();
+    }
+
+    /**
+     * @return number of requests the PLC accepts in flight at the same time, as negotiated on connecting.
+     */
+    public int getMaxOutstandingRequests() {
+        return ((S7ProtocolLogic) getProtocol()).getTransactionManager().getNumberOfConcurrentRequests();
+    }
+
+    /**
+     * @return highest number of requests that were in flight at the same time.
+     */
+    public int getPeakOutstandingRequests() {
+        return ((S7ProtocolLogic) getProtocol()).getTransactionManager().getPeakNumberOfActiveRequests();
+    }
+
+    /**
+     * @return average number of requests in flight when a request was sent, a value close to
+     * {@link #getMaxOutstandingRequests()} means the window is fully used.
+     */
+    public double getAverageOutstandingRequests() {
+        return ((S7ProtocolLogic) getProtocol()).getTransactionManager().getAverageNumberOfActiveRequests();
+    }
+
     /**
      * Subscriptions are only supported in a small subset of the S7 devices.
      *
@@ -372,7 +421,7 @@ public class S7HPlcConnection extends DefaultNettyPlcConnection implements Runna
             if (primaryChannel != null) {
                 if (!primaryChannel.isActive()) {
                     logger.info("Creating primary connection.");
-                    primaryChannel.eventLoop().shutdownGracefully();
+                    closeEventLoop(channelFactory, primaryChannel);
                     doPrimaryTcpConnections();
                 } else if (null == secondaryChannel) {
                     if (channel.attr(S7HMuxImpl.WAS_CONNECTED).get() &&
@@ -391,7 +440,7 @@ public class S7HPlcConnection extends DefaultNettyPlcConnection implements Runna
             if (secondaryChannel != null) {
                 if (!secondaryChannel.isActive()) {
                     logger.info("Creating secondary connection.");
-                    secondaryChannel.eventLoop().shutdownGracefully();
+                    closeEventLoop(secondaryChannelFactory, secondaryChannel);
                     doSecondaryTcpConnections();
                 } else if (null == primaryChannel) {
                     if ((channel.attr(S7HMuxImpl.WAS_CONNECTED).get()) &&
@@ -456,6 +505,16 @@ public class S7HPlcConnection extends DefaultNettyPlcConnection implements Runna
         return null;
     }
 
+    /*
+     * A dedicated event loop dies with its channel, the one of a shared runtime
+     * is still used by other connections and must be left running.
+     */
+    private void closeEventLoop(ChannelFactory factory, Channel tcpChannel) {
+        if (factory.getDriverRuntime() == null) {
+            tcpChannel.eventLoop().shutdownGracefully();
+        }
+    }
+
     @Override
     public PlcSubscriptionRequest.Builder subscriptionRequestBuilder() {
         if (!isSubscribeSupported()) {
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.s7.readwrite.protocol;
+
+import org.apache.plc4x.java.api.model.PlcTag;
+import org.apache.plc4x.java.s7.readwrite.TPKTPacket;
+import org.apache.plc4x.java.spi.generation.SerializationException;
+import org.apache.plc4x.java.spi.generation.WriteBuffer;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadRequest;
+import org.apache.plc4x.java.spi.messages.utils.PlcTagItem;
+
+import java.util.LinkedHashMap;
+
+/**
+ * Ordinary read request, which has been encoded once in advance. When reading it, only the tpdu reference
+ * is patched into a copy of the encoded bytes.
+ * <p>
+ * The request is one part of a plan, which was made for the PDU size negotiated at the time of preparing it.
+ * As connecting again might negotiate a different one, the PDU size is kept with the request.
+ */
+public class S7PreparedReadRequest extends DefaultPlcReadRequest {
+
+    private final TPKTPacket template;
+    private final byte[] bytes;
+    private final int tpduReferenceOffset;
+    private final int pduSize;
+
+    S7PreparedReadRequest(DefaultPlcReadRequest request, TPKTPacket template, byte[] bytes, int tpduReferenceOffset,
+                          int pduSize) {
+        super(request.getReader(), getTagItems(request));
+        this.template = template;
+        this.bytes = bytes;
+        this.tpduReferenceOffset = tpduReferenceOffset;
+        this.pduSize = pduSize;
+    }
+
+    /**
+     * @return PDU size the request was split up for.
+     */
+    public int getPduSize() {
+        return pduSize;
+    }
+
+    /**
+     * @param tpduId tpdu reference of the transaction the request is sent with.
+     * @return packet serializing to the encoded request with the given tpdu reference.
+     */
+    TPKTPacket toTpktPacket(int tpduId) {
+        byte[] packetBytes = bytes.clone();
+        packetBytes[tpduReferenceOffset] = (byte) (tpduId >> 8);
+        packetBytes[tpduReferenceOffset + 1] = (byte) tpduId;
+        return new PreEncodedTPKTPacket(template, packetBytes);
+    }
+
+    private static LinkedHashMap<String, PlcTagItem<PlcTag>> getTagItems(DefaultPlcReadRequest request) {
+        LinkedHashMap<String, PlcTagItem<PlcTag>> tags = new LinkedHashMap<>();
+        for (String tagName : request.getTagNames()) {
+            tags.put(tagName, request.getTagItem(tagName));
+        }
+        return tags;
+    }
+
+    /**
+     * Writes the already encoded bytes instead of serializing the packet again.
+     */
+    private static class PreEncodedTPKTPacket extends TPKTPacket {
+
+        private final byte[] bytes;
+
+        PreEncodedTPKTPacket(TPKTPacket template, byte[] bytes) {
+            super(template.getPayload());
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void serialize(WriteBuffer writeBuffer) throws SerializationException {
+            writeBuffer.writeByteArray("TPKTPacket", bytes);
+        }
+
+        @Override
+        public int getLengthInBits() {
+            return bytes.length * 8;
+        }
+
+    }
+
+}
@@ -24,61 +24,152 @@ import org.apache.plc4x.java.api.model.PlcConsumerRegistration;
 import org.apache.plc4x.java.api.model.PlcSubscriptionHandle;
 import org.apache.plc4x.java.s7.events.*;
 import org.apache.plc4x.java.s7.readwrite.EventType;
-import org.apache.plc4x.java.s7.readwrite.S7ParameterModeTransition;
-import org.apache.plc4x.java.s7.readwrite.S7PayloadDiagnosticMessage;
+import org.apache.plc4x.java.s7.readwrite.types.S7EventWaitStrategy;
 import org.apache.plc4x.java.s7.readwrite.utils.S7PlcSubscriptionHandle;
 import org.apache.plc4x.java.spi.messages.PlcSubscriber;
 import org.apache.plc4x.java.spi.model.DefaultPlcConsumerRegistration;
+import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
+/**
+ * Dispatches the MODE, SYS, USR, ALM and CYC events of a connection to the registered consumers.
+ * <p>
+ * The connection publishes the events into a ring-buffer, which is drained by a single dispatcher thread. If the
+ * consumers can't keep up and the ring-buffer is full, events are queued in an overflow queue (keeping their order),
+ * only if that is full too, events are dropped. Both cases are counted.
+ * <p>
+ * The consumers are indexed by event type and, for cyclic events, by the JOBID of their subscription, whenever a
+ * consumer is registered or unregistered, so dispatching an event doesn't have to look at any other consumers.
+ * Cyclic events arriving before a consumer for their JOBID was registered (the first one is part of the
+ * subscription response), are kept until a consumer is registered, only the latest one per JOBID is kept.
+ */
 public class S7ProtocolEventLogic implements PlcSubscriber {
-    private final org.slf4j.Logger logger = LoggerFactory.getLogger(S7ProtocolEventLogic.class);
-    private static final int DEFAULT_DELAY = 100;
 
-    private final Map<EventType, Map<PlcConsumerRegistration, Consumer<PlcSubscriptionEvent>>> mapIndex = new HashMap<>();
+    private static final Logger logger = LoggerFactory.getLogger(S7ProtocolEventLogic.class);
+
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+    private static final int OVERFLOW_FACTOR = 16;
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long SLEEP_NANOS = 100_000L;
+
+    private final S7EventWaitStrategy waitStrategy;
+
+    private final S7Event[] ringBuffer;
+    private final int mask;
+    // Sequence of the last published event, only written by the publisher.
+    private final AtomicLong published = new AtomicLong(-1);
+    // Sequence of the last dispatched event, only written by the dispatcher.
+    private final AtomicLong dispatched = new AtomicLong(-1);
+    // The ring-buffer only supports a single writer, the connection publishes from its event-loop, the initial
+    // event of a cyclic subscription is published from the thread processing the subscription response.
+    private final Object publishLock = new Object();
 
-    private final ObjectProcessor runProcessor;
-    private final EventDispatcher runDispatcher;
+    private final Queue<S7Event> overflowQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger overflowSize = new AtomicInteger();
+    private final int overflowLimit;
+    private final AtomicLong overflowCount = new AtomicLong();
+    private final AtomicLong dropCount = new AtomicLong();
 
+    private final Map<PlcConsumerRegistration, Consumer<PlcSubscriptionEvent>> registrations = new LinkedHashMap<>();
+    private volatile ConsumerIndex consumerIndex = new ConsumerIndex(Collections.emptyMap());
+    private final AtomicBoolean consumersChanged = new AtomicBoolean();
+    // Only accessed by the dispatcher thread.
+    private final Map<Short, S7CyclicEvent> pendingCyclicEvents = new HashMap<>();
 
-    private final Thread processor;
     private final Thread dispatcher;
+    private volatile boolean running = false;
+    private volatile boolean waiting = false;
 
-    public S7ProtocolEventLogic(BlockingQueue<S7Event> eventQueue) {
-        BlockingQueue<S7Event> dispatchQueue = new ArrayBlockingQueue<>(1024);
-        runProcessor = new ObjectProcessor(eventQueue, dispatchQueue);
-        runDispatcher = new EventDispatcher(dispatchQueue);
-        processor = new BasicThreadFactory.Builder()
-            .namingPattern("plc4x-evt-processor-thread-%d")
-            .daemon(true)
-            .priority(Thread.MAX_PRIORITY)
-            .build().newThread(runProcessor);
-        dispatcher = new BasicThreadFactory.Builder()
+    public S7ProtocolEventLogic() {
+        this(S7EventWaitStrategy.BLOCKING, DEFAULT_BUFFER_SIZE);
+    }
+
+    public S7ProtocolEventLogic(S7EventWaitStrategy waitStrategy, int bufferSize) {
+        this.waitStrategy = waitStrategy;
+        int size = Integer.highestOneBit(Math.max(bufferSize, 2) - 1) << 1;
+        this.ringBuffer = new S7Event[size];
+        this.mask = size - 1;
+        this.overflowLimit = size * OVERFLOW_FACTOR;
+        this.dispatcher = new BasicThreadFactory.Builder()
             .namingPattern("plc4x-evt-dispatcher-thread-%d")
             .daemon(true)
             .priority(Thread.MAX_PRIORITY)
-            .build().newThread(runDispatcher);
+            .build().newThread(this::dispatch);
     }
 
     public void start() {
-        processor.start();
+        running = true;
         dispatcher.start();
     }
 
     public void stop() {
-        runProcessor.doShutdown();
-        runDispatcher.doShutdown();
+        running = false;
+        LockSupport.unpark(dispatcher);
+    }
+
+    /**
+     * Hands an event over to the dispatcher thread.
+     *
+     * @param event event to dispatch.
+     * @return false, if the event had to be dropped as the consumers are too far behind.
+     */
+    public boolean publish(S7Event event) {
+        synchronized (publishLock) {
+            // As long as there are events in the overflow queue, newer events have to queue up behind them.
+            if (!overflowQueue.isEmpty() || !tryPublish(event)) {
+                if (overflowSize.get() >= overflowLimit) {
+                    long dropped = dropCount.incrementAndGet();
+                    // Only log every now and then, as this usually happens to a whole storm of events.
+                    if (Long.bitCount(dropped) == 1) {
+                        logger.warn("Event consumers can't keep up, {} events dropped so far", dropped);
+                    }
+                    return false;
+                }
+                overflowSize.incrementAndGet();
+                overflowQueue.add(event);
+                overflowCount.incrementAndGet();
+            }
+        }
+        if (waiting) {
+            LockSupport.unpark(dispatcher);
+        }
+        return true;
+    }
+
+    private boolean tryPublish(S7Event event) {
+        long sequence = published.get() + 1;
+        if (sequence - dispatched.get() > ringBuffer.length) {
+            return false;
+        }
+        ringBuffer[(int) sequence & mask] = event;
+        // Has to be a volatile write, so it can't be reordered with reading "waiting" in publish(). Otherwise the
+        // dispatcher might check "published" before it is updated, while we don't see it waiting yet.
+        published.set(sequence);
+        return true;
+    }
+
+    /**
+     * @return number of events, which didn't fit into the ring-buffer and had to go to the overflow queue.
+     */
+    public long getOverflowCount() {
+        return overflowCount.get();
+    }
+
+    /**
+     * @return number of events, which were dropped as the overflow queue was full too.
+     */
+    public long getDropCount() {
+        return dropCount.get();
     }
 
     @Override
@@ -93,152 +184,176 @@ public class S7ProtocolEventLogic implements PlcSubscriber {
 
     @Override
     public PlcConsumerRegistration register(Consumer<PlcSubscriptionEvent> consumer, Collection<PlcSubscriptionHandle> handles) {
-        Map<PlcConsumerRegistration, Consumer<PlcSubscriptionEvent>> mapConsumers;
-        S7PlcSubscriptionHandle handle = (S7PlcSubscriptionHandle) handles.toArray()[0];
-        if (!mapIndex.containsKey(handle.getEventType())) {
-            mapConsumers = new HashMap<>();
-            mapIndex.put(handle.getEventType(), mapConsumers);
-        }
-        mapConsumers = mapIndex.get(handle.getEventType());
         //TODO: Check the implementation of "DefaultPlcConsumerRegistration". List<> vs Collection<>
         DefaultPlcConsumerRegistration registration = new DefaultPlcConsumerRegistration(this,
             consumer, handles.toArray(new PlcSubscriptionHandle[0]));
-        mapConsumers.put(registration, consumer);
+        synchronized (registrations) {
+            registrations.put(registration, consumer);
+            consumerIndex = new ConsumerIndex(registrations);
+        }
+        // Cyclic events might be waiting for this consumer.
+        consumersChanged.set(true);
+        LockSupport.unpark(dispatcher);
         return registration;
     }
 
     @Override
     public void unregister(PlcConsumerRegistration registration) {
-        S7PlcSubscriptionHandle handle = (S7PlcSubscriptionHandle) registration.getSubscriptionHandles().get(0);
-        Map<PlcConsumerRegistration, Consumer<PlcSubscriptionEvent>> mapConsumers = mapIndex.get(handle.getEventType());
-        mapConsumers.remove(registration);
-    }
-
-    
-    //TODO: Replace with disruptor
-    private class ObjectProcessor implements Runnable {
-
-        private final BlockingQueue<S7Event> eventQueue;
-        private final BlockingQueue<S7Event> dispatchQueue;
-        private boolean shutdown = false;
-        public ObjectProcessor(BlockingQueue<S7Event> eventQueue, BlockingQueue<S7Event> dispatchQueue) {
-            this.eventQueue = eventQueue;
-            this.dispatchQueue = dispatchQueue;
+        synchronized (registrations) {
+            registrations.remove(registration);
+            consumerIndex = new ConsumerIndex(registrations);
         }
+    }
 
-        @Override
-        public void run() {
-            while (!shutdown) {
-                try {
-                    S7Event s7Event = eventQueue.poll(DEFAULT_DELAY, TimeUnit.MILLISECONDS);
-                    if ((s7Event != null) && (dispatchQueue.remainingCapacity() > 1)) {
-                        if (s7Event instanceof S7ModeEvent) {
-                            dispatchQueue.add(s7Event);
-                        } else if (s7Event instanceof S7UserEvent) {
-                            dispatchQueue.add(s7Event);                            
-                        } else if (s7Event instanceof S7SysEvent) {                            
-                            dispatchQueue.add(s7Event);                            
-                        } else if (s7Event instanceof S7CyclicEvent) {
-                            dispatchQueue.add(s7Event);
-                        } else {
-                            dispatchQueue.add(s7Event);
-                        }
-                    }
-                } catch (InterruptedException ex) {
-                    Logger.getLogger(S7ProtocolEventLogic.class.getName()).log(Level.SEVERE, null, ex);
+    private void dispatch() {
+        int idleCount = 0;
+        long sequence = dispatched.get();
+        while (running) {
+            long available = published.get();
+            if (available > sequence) {
+                while (sequence < available) {
+                    sequence++;
+                    int index = (int) sequence & mask;
+                    S7Event s7Event = ringBuffer[index];
+                    ringBuffer[index] = null;
+                    dispatched.lazySet(sequence);
+                    dispatch(s7Event);
                 }
+                idleCount = 0;
+                continue;
+            }
+            // The ring-buffer only gets new events, once the overflow queue is empty.
+            S7Event s7Event = overflowQueue.poll();
+            if (s7Event != null) {
+                overflowSize.decrementAndGet();
+                dispatch(s7Event);
+                idleCount = 0;
+                continue;
             }
-            logger.info("ObjectProcessor Bye!");
+            if (consumersChanged.getAndSet(false)) {
+                dispatchPendingCyclicEvents();
+                continue;
+            }
+            idleCount = waitForEvents(idleCount, sequence);
         }
+        logger.debug("EventDispatcher Bye!");
+    }
 
-        public void doShutdown() {
-            shutdown = true;
+    private int waitForEvents(int idleCount, long sequence) {
+        switch (waitStrategy) {
+            case BUSY_SPIN:
+                Thread.onSpinWait();
+                break;
+            case YIELDING:
+                if (idleCount < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+                break;
+            case SLEEPING:
+                if (idleCount < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else if (idleCount < SPIN_TRIES + YIELD_TRIES) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(this, SLEEP_NANOS);
+                }
+                break;
+            case BLOCKING:
+            default:
+                waiting = true;
+                // Check again, as the publisher only wakes us up, if it sees us waiting.
+                if (running && (published.get() == sequence) && overflowQueue.isEmpty() && !consumersChanged.get()) {
+                    LockSupport.park(this);
+                }
+                waiting = false;
+                break;
         }
+        return (idleCount < Integer.MAX_VALUE) ? idleCount + 1 : idleCount;
     }
 
-    //TODO: Replace with disruptor    
-    private class EventDispatcher implements Runnable {
-        private final BlockingQueue<S7Event> dispatchQueue;
-        private boolean shutdown = false;
-        private S7Event cycDelayedObject = null;
+    private void dispatch(S7Event s7Event) {
+        ConsumerIndex index = consumerIndex;
+        if (s7Event instanceof S7CyclicEvent) {
+            Short jobId = (Short) s7Event.getMap().get(S7CyclicEvent.Fields.JOBID.name());
+            List<Consumer<PlcSubscriptionEvent>> consumers = index.getCyclicConsumers(jobId);
+            if (consumers.isEmpty()) {
+                pendingCyclicEvents.put(jobId, (S7CyclicEvent) s7Event);
+                return;
+            }
+            deliver(consumers, s7Event);
+        } else if (s7Event instanceof S7ModeEvent) {
+            deliver(index.getConsumers(EventType.MODE), s7Event);
+        } else if (s7Event instanceof S7UserEvent) {
+            deliver(index.getConsumers(EventType.USR), s7Event);
+        } else if (s7Event instanceof S7SysEvent) {
+            deliver(index.getConsumers(EventType.SYS), s7Event);
+        } else if (s7Event instanceof S7AlarmEvent) {
+            deliver(index.getConsumers(EventType.ALM), s7Event);
+        }
+    }
 
-        public EventDispatcher(BlockingQueue<S7Event> dispatchQueue) {
-            this.dispatchQueue = dispatchQueue;
+    private void dispatchPendingCyclicEvents() {
+        ConsumerIndex index = consumerIndex;
+        Iterator<Map.Entry<Short, S7CyclicEvent>> iterator = pendingCyclicEvents.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Short, S7CyclicEvent> pendingCyclicEvent = iterator.next();
+            List<Consumer<PlcSubscriptionEvent>> consumers = index.getCyclicConsumers(pendingCyclicEvent.getKey());
+            if (!consumers.isEmpty()) {
+                iterator.remove();
+                deliver(consumers, pendingCyclicEvent.getValue());
+            }
         }
+    }
 
-        @Override
-        public void run() {
+    private void deliver(List<Consumer<PlcSubscriptionEvent>> consumers, S7Event s7Event) {
+        for (Consumer<PlcSubscriptionEvent> consumer : consumers) {
             try {
-                Thread.sleep(500);
-            } catch (InterruptedException ex) {
-                logger.warn(ex.toString());
+                consumer.accept(s7Event);
+            } catch (Exception ex) {
+                logger.warn("Event consumer failed", ex);
             }
-            while (!shutdown) {
-                try {
-                    S7Event s7Event = dispatchQueue.poll(DEFAULT_DELAY, TimeUnit.MILLISECONDS);
-                    if ((s7Event == null) && (cycDelayedObject != null)) {
-                        s7Event = cycDelayedObject;
-                        cycDelayedObject = null;
-                    }
-                    if (s7Event != null) {
-                        if (s7Event instanceof S7ModeEvent) {
-                            S7ModeEvent modeEvent = (S7ModeEvent) s7Event;
-                            if (mapIndex.containsKey(EventType.MODE)) {
-                                Map<PlcConsumerRegistration, Consumer<PlcSubscriptionEvent>> mapConsumers = mapIndex.get(EventType.MODE);
-                                mapConsumers.forEach((x, y) -> y.accept(modeEvent));
-                            }
-                        } else if (s7Event instanceof S7UserEvent) {
-                            S7UserEvent userEvent = (S7UserEvent) s7Event;
-                            if (mapIndex.containsKey(EventType.USR)) {
-                                Map<PlcConsumerRegistration, Consumer<PlcSubscriptionEvent>> mapConsumers = mapIndex.get(EventType.USR);
-                                mapConsumers.forEach((x, y) -> y.accept(userEvent));
-                            }
-                        } else if (s7Event instanceof S7SysEvent) {
-                            S7SysEvent sysEvent = (S7SysEvent) s7Event;
-                            if (mapIndex.containsKey(EventType.SYS)) {
-                                Map<PlcConsumerRegistration, Consumer<PlcSubscriptionEvent>> mapConsumers = mapIndex.get(EventType.SYS);
-                                mapConsumers.forEach((x, y) -> y.accept(sysEvent));
-                            }
-                        } else if (s7Event instanceof S7AlarmEvent) {
-                            S7AlarmEvent alarmEvent = (S7AlarmEvent) s7Event;
-                            if (mapIndex.containsKey(EventType.ALM)) {
-                                Map<PlcConsumerRegistration, Consumer<PlcSubscriptionEvent>> mapConsumers = mapIndex.get(EventType.ALM);
-                                mapConsumers.forEach((x, y) -> y.accept(alarmEvent));
-                            }
-                        } else if (s7Event instanceof S7CyclicEvent) {
-                            S7CyclicEvent cyclicEvent = (S7CyclicEvent) s7Event;
-                            if (mapIndex.containsKey(EventType.CYC)) {
-                                Map<PlcConsumerRegistration, Consumer<PlcSubscriptionEvent>> mapConsumers = mapIndex.get(EventType.CYC);
-
-                                if (cycDelayedObject != null) {
-                                    mapConsumers.forEach((x, y) -> y.accept(cycDelayedObject));
-                                    cycDelayedObject = null;
-                                }
-                                if (mapConsumers.isEmpty()) cycDelayedObject = s7Event;
-                                
-                                mapConsumers.forEach((x, y) -> {
-                                    S7PlcSubscriptionHandle sh = (S7PlcSubscriptionHandle) x.getSubscriptionHandles().get(0);
-                                    Short id = Short.parseShort(sh.getEventId());
-                                    if (cyclicEvent.getMap().get("JOBID") == id) {
-                                        y.accept(cyclicEvent);
-                                    }
-                                });
-                            } else {
-                                cycDelayedObject = s7Event;
-                            }
+        }
+    }
+
+    /**
+     * Immutable snapshot of the registered consumers, rebuilt whenever a consumer is registered or unregistered.
+     */
+    private static class ConsumerIndex {
+
+        private final Map<EventType, List<Consumer<PlcSubscriptionEvent>>> consumersByEventType = new EnumMap<>(EventType.class);
+        private final Map<Short, List<Consumer<PlcSubscriptionEvent>>> cyclicConsumersByJobId = new HashMap<>();
+
+        ConsumerIndex(Map<PlcConsumerRegistration, Consumer<PlcSubscriptionEvent>> registrations) {
+            registrations.forEach((registration, consumer) -> {
+                // A registration may contain several handles of the same kind, its consumer is still only called once.
+                Set<EventType> eventTypes = EnumSet.noneOf(EventType.class);
+                Set<Short> jobIds = new HashSet<>();
+                for (PlcSubscriptionHandle subscriptionHandle : registration.getSubscriptionHandles()) {
+                    S7PlcSubscriptionHandle handle = (S7PlcSubscriptionHandle) subscriptionHandle;
+                    if (handle.getEventType() == EventType.CYC) {
+                        try {
+                            jobIds.add(Short.valueOf(handle.getEventId()));
+                        } catch (NumberFormatException e) {
+                            logger.warn("Cyclic subscription handle with invalid JOBID {}", handle.getEventId());
                         }
+                    } else {
+                        eventTypes.add(handle.getEventType());
                     }
-                } catch (Exception ex) {
-                    Logger.getLogger(S7ProtocolEventLogic.class.getName()).log(Level.SEVERE, null, ex);
                 }
-            }
-            logger.info("EventDispatcher Bye!");
+                jobIds.forEach(jobId -> cyclicConsumersByJobId.computeIfAbsent(jobId, id -> new ArrayList<>()).add(consumer));
+                eventTypes.forEach(eventType -> consumersByEventType.computeIfAbsent(eventType, type -> new ArrayList<>()).add(consumer));
+            });
         }
 
-        public void doShutdown() {
-            shutdown = true;
+        List<Consumer<PlcSubscriptionEvent>> getConsumers(EventType eventType) {
+            return consumersByEventType.getOrDefault(eventType, Collections.emptyList());
         }
 
+        List<Consumer<PlcSubscriptionEvent>> getCyclicConsumers(Short jobId) {
+            return cyclicConsumersByJobId.getOrDefault(jobId, Collections.emptyList());
+        }
     }
 
 }
@@ -63,9 +63,11 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -86,50 +88,69 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
 
     private static final Logger logger = LoggerFactory.getLogger(S7ProtocolLogic.class);
 
+    /**
+     * Responses are matched with their request by the tpdu reference, so up to "max-amq-callee" requests can be
+     * pipelined without scanning all pending handlers for every incoming message.
+     */
+    private static final ToLongFunction<TPKTPacket> TPDU_REFERENCE = packet ->
+        ((packet.getPayload() instanceof COTPPacketData) && (packet.getPayload().getPayload() != null)) ?
+            packet.getPayload().getPayload().getTpduReference() : -1;
+
     public static final Duration REQUEST_TIMEOUT = Duration.ofMillis(10000);
     private final AtomicInteger tpduGenerator = new AtomicInteger(10);
 
     /*
      * Task group for managing connection redundancy.
+     * Unless the connection opted out of the shared driver runtime, this is the shared worker executor.
      */
-    private final ExecutorService clientExecutorService = Executors.newFixedThreadPool(4, new BasicThreadFactory.Builder()
-        .namingPattern("plc4x-app-thread-%d")
-        .daemon(true)
-        .priority(Thread.MAX_PRIORITY)
-        .build());
+    private ExecutorService clientExecutorService;
 
     /*
-     * Take into account that the size of this buffer depends on the final device.
-     * S7-300 goes from 20 to 300 and for S7-400 it goes from 300 to 10000.
+     * Take into account that the size of the event buffer ("event-buffer-size")
+     * depends on the final device. S7-300 goes from 20 to 300 and for S7-400 it goes from 300 to 10000.
      * Depending on the configuration of the alarm system, a large number of
      * them should be expected when starting the connection.
      * (Examples of this are PCS7 and Braumat).
      * Alarm filtering, ack, etc. must be performed by the client application.
      */
-    private final BlockingQueue<S7Event> eventQueue = new ArrayBlockingQueue<>(1024);
-    private final S7ProtocolEventLogic eventLogic = new S7ProtocolEventLogic(eventQueue);
-    private final S7PlcSubscriptionHandle modeHandle = new S7PlcSubscriptionHandle(EventType.MODE, eventLogic);
-    private final S7PlcSubscriptionHandle sysHandle = new S7PlcSubscriptionHandle(EventType.SYS, eventLogic);
-    private final S7PlcSubscriptionHandle usrHandle = new S7PlcSubscriptionHandle(EventType.USR, eventLogic);
-    private final S7PlcSubscriptionHandle almHandle = new S7PlcSubscriptionHandle(EventType.ALM, eventLogic);
+    private S7ProtocolEventLogic eventLogic;
+    private S7PlcSubscriptionHandle modeHandle;
+    private S7PlcSubscriptionHandle sysHandle;
+    private S7PlcSubscriptionHandle usrHandle;
+    private S7PlcSubscriptionHandle almHandle;
     //private final S7PlcSubscriptionHandle cycHandle = new S7PlcSubscriptionHandle(EventType.CYC, EventLogic);    
 
     /*
-     * This array stores the cyclic subscription requests between the driver
-     * and the PLC. The purpose is to document the tags associated with the
-     * request. Each subscription uses a 'JobID' that is managed by the PLC and
-     * obtained from the response to the request. In the following,
-     * the values sent PUSH from the PLC to the driver refer to this JobID.
+     * The cyclic subscription jobs between the driver and the PLC. Each job
+     * uses a 'JobID' that is managed by the PLC and obtained from the response
+     * to the subscription request, the values sent PUSH from the PLC to the
+     * driver refer to this JobID. The jobs keep the last values of their tags,
+     * so change-of-state subscriptions only publish events if one changed.
+     * After a reconnect the jobs are subscribed again and get new JobIDs from
+     * the PLC, so they are kept by the JobID currently assigned by the PLC and
+     * by the one their subscription handles refer to. The latter is assigned by
+     * the driver, as the PLC reuses its JobIDs after a reconnect.
+     * Both maps are accessed by the Netty thread decoding the pushes as well as
+     * the threads subscribing and unsubscribing.
      */
-    private final Map<Short, PlcSubscriptionRequest> cycRequests = new HashMap<>();
-    
+    private final Map<Short, S7CyclicJob> cycJobs = new ConcurrentHashMap<>();
+    private final Map<Short, S7CyclicJob> cycJobsByHandle = new ConcurrentHashMap<>();
+    private final AtomicInteger cycHandleJobIdGenerator = new AtomicInteger();
+
     /*
-    * This data structure stores the last value associated with a cyclic 
-    * subscription request. In each event received, the values of the internal 
-    * PlcValue are compared and if any of them are different, the new value is 
-    * transferred to the event stack and the value is updated in this HashMap.
-    */
-    private final Map<Short, S7CyclicEvent> cycChangeValueEvents = new HashMap<>();
+     * Maximum lengths of the var-length STRING/WSTRING tags (only used with "cache-string-sizes").
+     * The maximum length is fixed by the layout of the DB, so it doesn't have to be read in a
+     * separate request before every read. The entries of a DB are dropped as soon as a header
+     * doesn't match anymore, all of them when the PLC changes its operating mode (a download
+     * of a changed program usually involves a STOP) and when connecting again.
+     * The PLC only reports mode changes to connections subscribed to them, so the connection
+     * subscribes to them itself as soon as it caches the first length, whether the user
+     * subscribed to MODE events or not.
+     */
+    private final Map<S7StringVarLengthTag, Integer> stringMaxLengths = new ConcurrentHashMap<>();
+    private final AtomicBoolean modeTransitionsSubscribed = new AtomicBoolean();
+    // Events the user subscribed to, the PLC only keeps the last subscription.
+    private volatile byte subscribedEvents;
     private S7DriverContext s7DriverContext;
     private RequestTransactionManager tm;
 
@@ -143,7 +164,22 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
         // maximum of only one request being able to be sent at a time. During the login process
         // No concurrent requests can be sent anyway. It will be updated when receiving the
         // S7ParameterSetupCommunication response.
-        this.tm = new RequestTransactionManager(1);
+        if (driverRuntime != null) {
+            clientExecutorService = driverRuntime.getWorkerExecutor();
+        } else {
+            clientExecutorService = Executors.newFixedThreadPool(4, new BasicThreadFactory.Builder()
+                .namingPattern("plc4x-app-thread-%d")
+                .daemon(true)
+                .priority(Thread.MAX_PRIORITY)
+                .build());
+        }
+        this.tm = new RequestTransactionManager(1, clientExecutorService);
+
+        eventLogic = new S7ProtocolEventLogic(s7DriverContext.getEventWaitStrategy(), s7DriverContext.getEventBufferSize());
+        modeHandle = new S7PlcSubscriptionHandle(EventType.MODE, eventLogic);
+        sysHandle = new S7PlcSubscriptionHandle(EventType.SYS, eventLogic);
+        usrHandle = new S7PlcSubscriptionHandle(EventType.USR, eventLogic);
+        almHandle = new S7PlcSubscriptionHandle(EventType.ALM, eventLogic);
         eventLogic.start();
     }
 
@@ -152,6 +188,14 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
         return new S7PlcTagHandler();
     }
 
+    /**
+     * @return the transaction manager limiting the requests in flight to the negotiated "max-amq-callee",
+     * its statistics tell how much of that window is actually used.
+     */
+    public RequestTransactionManager getTransactionManager() {
+        return tm;
+    }
+
     @Override
     public void close(ConversationContext<TPKTPacket> context) {
         // TODO: Find out how to close this prior to Java 19
@@ -164,6 +208,10 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
     @Override
     public void onConnect(ConversationContext<TPKTPacket> context) {
         logger.info("onConnect");
+        // The program might have been changed while we weren't connected.
+        stringMaxLengths.clear();
+        modeTransitionsSubscribed.set(false);
+        subscribedEvents = 0;
         if (context.isPassive()) {
             logger.info("S7 Driver running in PASSIVE mode.");
             s7DriverContext.setPassiveMode(true);
@@ -226,6 +274,7 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
                         if (s7DriverContext.getControllerType() != ControllerType.ANY) {
                             // Send an event that connection setup is complete.
                             context.fireConnected();
+                            resubscribeCyclicJobs();
                             return;
                         }
 
@@ -259,8 +308,12 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
     @Override
     public void onDisconnect(ConversationContext<TPKTPacket> context) {
         logger.info("onDisconnect");        
-        // 1. Here we shut down the local task executor.
-        clientExecutorService.shutdownNow();
+        stringMaxLengths.clear();
+        modeTransitionsSubscribed.set(false);
+        // 1. Here we shut down the local task executor (the shared one is owned by the runtime).
+        if (driverRuntime == null) {
+            clientExecutorService.shutdownNow();
+        }
         // 2. Performs the shutdown of the transaction executor.
         tm.shutdown();
         // 3. Finish the execution of the tasks for the handling of Events.
@@ -279,6 +332,13 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
             return future;
         }
 
+        // Prepared requests have already been encoded, only the tpdu reference is missing.
+        if (readRequest instanceof S7PreparedReadRequest) {
+            int tpduId = getTpduId();
+            return toPlcReadResponse(readRequest,
+                sendInternal(((S7PreparedReadRequest) readRequest).toTpktPacket(tpduId), tpduId));
+        }
+
         DefaultPlcReadRequest request = (DefaultPlcReadRequest) readRequest;
         CompletableFuture<S7Message> responseFuture;
         if (request.getTagNames().stream().anyMatch(t -> request.getTag(t) instanceof S7SzlTag)) {
@@ -308,7 +368,8 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
 
         // If the request contains at least one var-length string field, we need to get the real length first.
         else if (request.getTagNames().stream().anyMatch(t -> request.getTag(t) instanceof S7StringVarLengthTag)) {
-            responseFuture = performVarLengthStringReadRequest(request);
+            responseFuture = s7DriverContext.getCacheStringSizes() ?
+                performCachedVarLengthStringReadRequest(request) : performVarLengthStringReadRequest(request);
         }
 
         // This is a "normal" read request.
@@ -320,6 +381,36 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
         return toPlcReadResponse(readRequest, responseFuture);
     }
 
+    /**
+     * Ordinary read requests are encoded once, so executing them again only patches in the tpdu reference.
+     * Requests needing any other handling are read as usual.
+     */
+    @Override
+    public PlcReadRequest prepareRead(PlcReadRequest readRequest) {
+        DefaultPlcReadRequest request = (DefaultPlcReadRequest) readRequest;
+        if ((request.getNumberOfTags() == 0) || request.getTagNames().stream()
+            .map(request::getTag).anyMatch(tag -> !(tag instanceof S7Tag) || (tag instanceof S7StringVarLengthTag))) {
+            return readRequest;
+        }
+        List<S7VarRequestParameterItem> requestItems = new ArrayList<>(request.getNumberOfTags());
+        for (String tagName : request.getTagNames()) {
+            requestItems.add(new S7VarRequestParameterItemAddress(encodeS7Address(request.getTag(tagName))));
+        }
+        S7Message requestMessage = new S7MessageRequest(0, new S7ParameterReadVarRequest(requestItems), null);
+        TPKTPacket template = new TPKTPacket(new COTPPacketData(null, requestMessage, true, (byte) 0));
+        try {
+            WriteBufferByteBased writeBuffer = new WriteBufferByteBased(template.getLengthInBytes());
+            template.serialize(writeBuffer);
+            // The tpdu reference follows the protocol id, message type and reserved field of the S7 message.
+            int tpduReferenceOffset = template.getLengthInBytes() - requestMessage.getLengthInBytes() + 4;
+            return new S7PreparedReadRequest(request, template, writeBuffer.getBytes(), tpduReferenceOffset,
+                s7DriverContext.getPduSize());
+        } catch (SerializationException e) {
+            logger.warn("Error preparing read request, it will be encoded with every read", e);
+            return readRequest;
+        }
+    }
+
     /**
      * Maps the S7ReadResponse of a PlcReadRequest to a PlcReadResponse
      */
@@ -428,6 +519,12 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
 
         final DefaultPlcSubscriptionRequest defaultRequest = (DefaultPlcSubscriptionRequest) subscriptionRequest;
 //        final S7PlcSubscriptionRequest request = (S7PlcSubscriptionRequest) defaultRequest;
+
+        // Cyclic subscriptions are split up into as many jobs as required.
+        final S7SubscriptionTag firstTag = (S7SubscriptionTag) ((DefaultPlcSubscriptionTag) subscriptionRequest.getTags().get(0)).getTag();
+        if (firstTag.getTagType() == S7SubscriptionType.CYCLIC_SUBSCRIPTION) {
+            return subscribeCyclic(defaultRequest);
+        }
         
         int tpduId = getTpduId();
 
@@ -450,9 +547,6 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
                 case ALARM_QUERY:
                     s7Message = encodeAlarmQueryRequest(defaultRequest, tpduId);
                     break;
-                case CYCLIC_SUBSCRIPTION:
-                    s7Message = encodeCycledS7ANYSubscriptionRequest(defaultRequest, tpduId);
-                    break;
                 case CYCLIC_DB_SUBSCRIPTION:
                     s7Message = encodeCycledDBREADSubscriptionRequest(defaultRequest, tpduId);
                     break;
@@ -470,9 +564,10 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
             // Start a new request-transaction (Is ended in the response-handler)
             RequestTransactionManager.RequestTransaction transaction = tm.startRequest();
             transaction.submit(() -> conversationContext.sendRequest(tpktPacket)
-                .onTimeout(new TransactionErrorCallback<>(future, transaction))
-                .onError(new TransactionErrorCallback<>(future, transaction))
+                .onTimeout(new TransactionErrorCallback<>(future, transaction, () -> abandon(tpduId)))
+                .onError(new TransactionErrorCallback<>(future, transaction, () -> abandon(tpduId)))
                 .expectResponse(TPKTPacket.class, REQUEST_TIMEOUT)
+                .correlateBy(TPDU_REFERENCE)
                 .unwrap(TPKTPacket::getPayload)
                 .only(COTPPacketData.class)
                 .unwrap(COTPPacket::getPayload)
@@ -516,6 +611,103 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
     }
 
 
+    /*
+     * Subscribes the tags of a cyclic subscription. They are partitioned into
+     * as many jobs as the PDU size and the maximum number of items per job
+     * require, each of them is subscribed with its own request.
+     */
+    private CompletableFuture<PlcSubscriptionResponse> subscribeCyclic(DefaultPlcSubscriptionRequest subscriptionRequest) {
+        List<PlcSubscriptionRequest> jobRequests = S7CyclicJob.partition(subscriptionRequest,
+            s7DriverContext.getPduSize(), s7DriverContext.getCyclicMaxItemsPerJob());
+        Map<String, PlcResponseItem<PlcSubscriptionHandle>> values = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] jobFutures = new CompletableFuture[jobRequests.size()];
+        for (int i = 0; i < jobRequests.size(); i++) {
+            PlcSubscriptionRequest jobRequest = jobRequests.get(i);
+            jobFutures[i] = sendCyclicSubscriptionRequest(jobRequest, null).handle((job, throwable) -> {
+                PlcResponseItem<PlcSubscriptionHandle> response;
+                if (throwable == null) {
+                    S7PlcSubscriptionHandle cycHandle = new S7PlcSubscriptionHandle(
+                        Short.toString(job.getHandleJobId()), EventType.CYC, eventLogic);
+                    response = new DefaultPlcResponseItem<>(PlcResponseCode.OK, cycHandle);
+                } else {
+                    logger.warn("Error subscribing the cyclic job for tags {}: {}", jobRequest.getTagNames(), throwable.getMessage());
+                    response = new DefaultPlcResponseItem<>(PlcResponseCode.INTERNAL_ERROR, null);
+                }
+                jobRequest.getTagNames().forEach(tagName -> values.put(tagName, response));
+                return null;
+            });
+        }
+        return CompletableFuture.allOf(jobFutures)
+            .thenApply(v -> new DefaultPlcSubscriptionResponse(subscriptionRequest, new HashMap<>(values)));
+    }
+
+    /*
+     * Subscribes one cyclic job. If the job is given, it is subscribed again
+     * (after a reconnect) and keeps the JobID its handles refer to.
+     */
+    private CompletableFuture<S7CyclicJob> sendCyclicSubscriptionRequest(PlcSubscriptionRequest jobRequest, S7CyclicJob job) {
+        DefaultPlcSubscriptionRequest request = (DefaultPlcSubscriptionRequest) jobRequest;
+        S7SubscriptionTag tag = (S7SubscriptionTag) ((DefaultPlcSubscriptionTag) request.getTags().get(0)).getTag();
+        S7Message s7Message = (tag.getTagType() == S7SubscriptionType.CYCLIC_DB_SUBSCRIPTION) ?
+            encodeCycledDBREADSubscriptionRequest(request, getTpduId()) :
+            encodeCycledS7ANYSubscriptionRequest(request, getTpduId());
+        return sendInternal(s7Message).thenApply(responseMessage -> {
+            S7ParameterUserDataItemCPUFunctions parameter = (S7ParameterUserDataItemCPUFunctions)
+                ((S7ParameterUserData) responseMessage.getParameter()).getItems().get(0);
+            S7PayloadUserDataItem payloadItem = ((S7PayloadUserData) responseMessage.getPayload()).getItems().get(0);
+            if (!(payloadItem instanceof S7PayloadUserDataItemCyclicServicesSubscribeResponse)) {
+                int errorCode = (parameter.getErrorCode() != null) ? parameter.getErrorCode() : 0;
+                throw new PlcRuntimeException(String.format("PLC rejected the cyclic subscription (error code 0x%04x)", errorCode));
+            }
+            S7CyclicJob cyclicJob = (job != null) ? job : createCyclicJob(jobRequest);
+            registerCyclicJob(cyclicJob, parameter.getSequenceNumber());
+            S7CyclicEvent cycEvent = cyclicJob.update(((S7PayloadUserDataItemCyclicServicesSubscribeResponse) payloadItem).getItems());
+            if (cycEvent != null) {
+                eventLogic.publish(cycEvent);
+            }
+            return cyclicJob;
+        });
+    }
+
+    /*
+     * Creates a job with a handle JobID, which isn't used by any other job.
+     */
+    private S7CyclicJob createCyclicJob(PlcSubscriptionRequest jobRequest) {
+        for (int i = 0; i < Short.MAX_VALUE; i++) {
+            short handleJobId = (short) (1 + Math.floorMod(cycHandleJobIdGenerator.getAndIncrement(), Short.MAX_VALUE));
+            S7CyclicJob job = new S7CyclicJob(handleJobId, jobRequest, this::parsePlcValue);
+            if (cycJobsByHandle.putIfAbsent(handleJobId, job) == null) {
+                return job;
+            }
+        }
+        throw new PlcRuntimeException("Too many cyclic jobs");
+    }
+
+    private void registerCyclicJob(S7CyclicJob job, short plcJobId) {
+        job.setPlcJobId(plcJobId);
+        cycJobs.put(plcJobId, job);
+    }
+
+    /*
+     * After a reconnect the PLC doesn't know the cyclic jobs of the previous
+     * connection anymore. They are subscribed again, the consumers keep
+     * receiving their events with the JobIDs they subscribed with.
+     */
+    private void resubscribeCyclicJobs() {
+        if (cycJobsByHandle.isEmpty()) {
+            return;
+        }
+        logger.info("Subscribing {} cyclic jobs again", cycJobsByHandle.size());
+        cycJobs.clear();
+        for (S7CyclicJob job : cycJobsByHandle.values()) {
+            sendCyclicSubscriptionRequest(job.getRequest(), job).whenComplete((cyclicJob, throwable) -> {
+                if (throwable != null) {
+                    logger.warn("Error subscribing the cyclic job {} again: {}", job.getHandleJobId(), throwable.getMessage());
+                }
+            });
+        }
+    }
+
     @Override
     public CompletableFuture<PlcUnsubscriptionResponse> unsubscribe(PlcUnsubscriptionRequest unsubscriptionRequest) {
         if (!isConnected()) {
@@ -550,9 +742,10 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
         // Start a new request-transaction (Is ended in the response-handler)
         RequestTransactionManager.RequestTransaction transaction = tm.startRequest();
         transaction.submit(() -> conversationContext.sendRequest(tpktPacket)
-            .onTimeout(new TransactionErrorCallback<>(future, transaction))
-            .onError(new TransactionErrorCallback<>(future, transaction))
+            .onTimeout(new TransactionErrorCallback<>(future, transaction, () -> abandon(tpduId)))
+            .onError(new TransactionErrorCallback<>(future, transaction, () -> abandon(tpduId)))
             .expectResponse(TPKTPacket.class, REQUEST_TIMEOUT)
+            .correlateBy(TPDU_REFERENCE)
             .unwrap(TPKTPacket::getPayload)
             .only(COTPPacketData.class)
             .unwrap(COTPPacket::getPayload)
@@ -600,6 +793,11 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
 
         S7PayloadUserDataItemCpuFunctionMsgSubscriptionRequest payload;
         if (subsEvent > 0) {
+            // The string sizes cached rely on being told about mode changes.
+            subscribedEvents = subsEvent;
+            if (modeTransitionsSubscribed.get()) {
+                subsEvent = (byte) (subsEvent | EventType.MODE.getValue());
+            }
             payload = new S7PayloadUserDataItemCpuFunctionMsgSubscriptionRequest(
                 DataTransportErrorCode.OK,
                 DataTransportSize.OCTET_STRING,
@@ -826,8 +1024,8 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
                         (byte) 0x00,
                         cpuSubFunction);
 
-                // TODO: The eventQueue is only drained in the S7ProtocolEventLogic.ObjectProcessor and here only messages of type S7Event are processed, so S7PayloadUserDataItem elements will just be ignored.
-                //eventQueue.add(payloadItem);
+                // TODO: The event logic only dispatches messages of type S7Event, so S7PayloadUserDataItem elements will just be ignored.
+                //eventLogic.publish(payloadItem);
             } catch (Exception ex) {
                 logger.info(ex.toString());
             }
@@ -842,19 +1040,17 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
             S7ParameterUserDataItemCPUFunctions msgParameter = (S7ParameterUserDataItemCPUFunctions)
                 parameter.getItems().get(0);
 
-            cycRequests.put(msgParameter.getSequenceNumber(), plcSubscriptionRequest);
+            S7CyclicJob cycJob = createCyclicJob(plcSubscriptionRequest);
+            registerCyclicJob(cycJob, msgParameter.getSequenceNumber());
 
-            S7CyclicEvent cycEvent = new S7CyclicEvent(plcSubscriptionRequest,
-                msgParameter.getSequenceNumber(),
-                (S7PayloadUserDataItemCyclicServicesSubscribeResponse) payloadItems.get(0));
-            
-            if (plcSubscriptionRequest.getTags().get(0).getPlcSubscriptionType() == PlcSubscriptionType.CHANGE_OF_STATE) {
-                cycChangeValueEvents.put(msgParameter.getSequenceNumber(), cycEvent);
+            S7CyclicEvent cycEvent = cycJob.update(
+                ((S7PayloadUserDataItemCyclicServicesSubscribeResponse) payloadItems.get(0)).getItems());
+            if (cycEvent != null) {
+                eventLogic.publish(cycEvent);
             }
 
-            eventQueue.add(cycEvent);
-
-            S7PlcSubscriptionHandle cycHandle = new S7PlcSubscriptionHandle(strTagName, EventType.CYC, eventLogic);
+            S7PlcSubscriptionHandle cycHandle = new S7PlcSubscriptionHandle(
+                Short.toString(cycJob.getHandleJobId()), EventType.CYC, eventLogic);
 
             PlcResponseItem<PlcSubscriptionHandle> response = new DefaultPlcResponseItem<>(PlcResponseCode.OK, cycHandle);
             plcSubscriptionRequest.getTagNames().forEach(s -> values.put(s, response));
@@ -866,15 +1062,17 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
             S7ParameterUserDataItemCPUFunctions msgParameter = (S7ParameterUserDataItemCPUFunctions)
                 parameter.getItems().get(0);
 
-            cycRequests.put(msgParameter.getSequenceNumber(), plcSubscriptionRequest);
+            S7CyclicJob cycJob = createCyclicJob(plcSubscriptionRequest);
+            registerCyclicJob(cycJob, msgParameter.getSequenceNumber());
 
-            S7CyclicEvent cycEvent = new S7CyclicEvent(plcSubscriptionRequest,
-                msgParameter.getSequenceNumber(),
-                (S7PayloadUserDataItemCyclicServicesChangeDrivenSubscribeResponse) payloadItems.get(0));
-
-            eventQueue.add(cycEvent);
+            S7CyclicEvent cycEvent = cycJob.updateChangeDriven(
+                ((S7PayloadUserDataItemCyclicServicesChangeDrivenSubscribeResponse) payloadItems.get(0)).getItems());
+            if (cycEvent != null) {
+                eventLogic.publish(cycEvent);
+            }
 
-            S7PlcSubscriptionHandle cycHandle = new S7PlcSubscriptionHandle(strTagName, EventType.CYC, eventLogic);
+            S7PlcSubscriptionHandle cycHandle = new S7PlcSubscriptionHandle(
+                Short.toString(cycJob.getHandleJobId()), EventType.CYC, eventLogic);
             values.put(strTagName, new DefaultPlcResponseItem<>(PlcResponseCode.OK, cycHandle));
             return new DefaultPlcSubscriptionResponse(plcSubscriptionRequest, values);
 
@@ -1184,14 +1382,25 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
 
         payloadItems.clear();
         //TODO:Check CPU type
-        handles.forEach(h -> {
+        // All tags of a job share the same handle, the job is only cancelled once.
+        Set<Short> handleJobIds = new LinkedHashSet<>();
+        handles.forEach(h -> handleJobIds.add(Short.parseShort(((S7PlcSubscriptionHandle) h).getEventId())));
+        handleJobIds.forEach(handleJobId -> {
+            // The handles refer to the JobID assigned by the driver, the PLC knows the job by its own.
+            S7CyclicJob job = cycJobsByHandle.remove(handleJobId);
+            if (job == null) {
+                logger.debug("Ignoring unknown cyclic job {}", handleJobId);
+                return;
+            }
+            short plcJobId = job.getPlcJobId();
+            cycJobs.remove(plcJobId, job);
             S7PayloadUserDataItemCyclicServicesUnsubscribeRequest payload =
                 new S7PayloadUserDataItemCyclicServicesUnsubscribeRequest(
                     DataTransportErrorCode.OK,
                     DataTransportSize.OCTET_STRING,
                     0x02,
                     (short) 0x01,
-                    Short.parseShort(((S7PlcSubscriptionHandle) h).getEventId()));
+                    plcJobId);
 
             payloadItems.add(payload);
         });
@@ -1353,12 +1562,12 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
                         ReadBuffer rb = new ReadBufferByteBased(s7VarPayloadDataItem.getData());
                         try {
                             if (s7tag.getDataType() == TransportSize.STRING) {
-                                rb.readShort(8);
-                                int stringLength = rb.readShort(8);
+                                rememberStringMaxLength((S7StringVarLengthTag) s7tag, rb.readUnsignedInt(8));
+                                int stringLength = rb.readUnsignedInt(8);
                                 varLengthStringTags.put(tagName, new DefaultPlcTagItem<>(new S7StringFixedLengthTag(TransportSize.STRING, s7tag.getMemoryArea(), s7tag.getBlockNumber(), s7tag.getByteOffset(), s7tag.getBitOffset(), 1, stringLength)));
                             } else if (s7tag.getDataType() == TransportSize.WSTRING) {
-                                rb.readInt(16);
-                                int stringLength = rb.readInt(16);
+                                rememberStringMaxLength((S7StringVarLengthTag) s7tag, rb.readUnsignedInt(16));
+                                int stringLength = rb.readUnsignedInt(16);
                                 varLengthStringTags.put(tagName, new DefaultPlcTagItem<>(new S7StringFixedLengthTag(TransportSize.WSTRING, s7tag.getMemoryArea(), s7tag.getBlockNumber(), s7tag.getByteOffset(), s7tag.getBitOffset(), 1, stringLength)));
                             }
                         } catch (Exception e) {
@@ -1394,6 +1603,124 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
         return future;
     }
 
+    /*
+     * With "cache-string-sizes" enabled, var-length strings with a known maximum length are read
+     * as fixed-length strings of that length, so header and characters arrive with one request and
+     * parsing trims the value to the current length. As long as one of the lengths is unknown, the
+     * request is done the usual way, which remembers the lengths.
+     * The header read along is compared to the cached maximum length. If it doesn't match, the
+     * layout of the DB has changed: its cached lengths are dropped and the request is repeated
+     * reading the headers first.
+     */
+    private CompletableFuture<S7Message> performCachedVarLengthStringReadRequest(DefaultPlcReadRequest request) {
+        Map<String, Integer> maxLengths = new HashMap<>();
+        LinkedHashMap<String, PlcTagItem<PlcTag>> updatedRequestItems = new LinkedHashMap<>(request.getNumberOfTags());
+        for (String tagName : request.getTagNames()) {
+            PlcTagItem<PlcTag> plcTagItem = request.getTagItem(tagName);
+            if (plcTagItem.getTag() instanceof S7StringVarLengthTag) {
+                S7Tag s7Tag = (S7Tag) plcTagItem.getTag();
+                Integer maxLength = stringMaxLengths.get(s7Tag);
+                if (maxLength == null) {
+                    return performVarLengthStringReadRequest(request);
+                }
+                maxLengths.put(tagName, maxLength);
+                updatedRequestItems.put(tagName, new DefaultPlcTagItem<>(new S7StringFixedLengthTag(s7Tag.getDataType(),
+                    s7Tag.getMemoryArea(), s7Tag.getBlockNumber(), s7Tag.getByteOffset(), s7Tag.getBitOffset(), 1, maxLength)));
+            } else {
+                updatedRequestItems.put(tagName, plcTagItem);
+            }
+        }
+
+        CompletableFuture<S7Message> future = new CompletableFuture<>();
+        performOrdinaryReadRequest(new DefaultPlcReadRequest(request.getReader(), updatedRequestItems)).whenComplete((s7Message, throwable) -> {
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+                return;
+            }
+            List<S7VarPayloadDataItem> items = ((S7PayloadReadVarResponse) s7Message.getPayload()).getItems();
+            Set<Integer> changedBlocks = new HashSet<>();
+            int curItem = 0;
+            for (String tagName : request.getTagNames()) {
+                S7Tag s7tag = (S7Tag) request.getTag(tagName);
+                if (s7tag instanceof S7StringVarLengthTag) {
+                    S7VarPayloadDataItem item = items.get(curItem);
+                    if ((item.getReturnCode() != DataTransportErrorCode.OK) ||
+                        (getStringMaxLength(s7tag.getDataType(), item.getData()) != maxLengths.get(tagName))) {
+                        changedBlocks.add(s7tag.getBlockNumber());
+                    }
+                }
+                curItem++;
+            }
+            if (changedBlocks.isEmpty()) {
+                future.complete(s7Message);
+                return;
+            }
+            logger.debug("Layout of DBs {} changed, resolving string sizes again", changedBlocks);
+            stringMaxLengths.keySet().removeIf(tag -> changedBlocks.contains(tag.getBlockNumber()));
+            performVarLengthStringReadRequest(request).whenComplete((retriedS7Message, retryThrowable) -> {
+                if (retryThrowable != null) {
+                    future.completeExceptionally(retryThrowable);
+                } else {
+                    future.complete(retriedS7Message);
+                }
+            });
+        });
+        return future;
+    }
+
+    private void rememberStringMaxLength(S7StringVarLengthTag tag, int maxLength) {
+        // Longer strings might not fit into the PDU the optimizer planned with.
+        if (s7DriverContext.getCacheStringSizes() && (tag.getNumberOfElements() == 1) && (maxLength <= 254)) {
+            stringMaxLengths.put(tag, maxLength);
+            if (modeTransitionsSubscribed.compareAndSet(false, true)) {
+                subscribeModeTransitions();
+            }
+        }
+    }
+
+    /*
+     * Subscribes to the mode changes of the PLC, which are handled in decode, whether the user
+     * subscribed to them or not. The events the user subscribed to are kept.
+     */
+    private void subscribeModeTransitions() {
+        S7ParameterUserDataItemCPUFunctions parameter = new S7ParameterUserDataItemCPUFunctions(
+            (short) 0x11,   //Method
+            (byte) 0x04,    //FunctionType
+            (byte) 0x04,    //FunctionGroup
+            (short) 0x02,   //SubFunction
+            (short) 0x00,   //SequenceNumber
+            null,   //DataUnitReferenceNumber
+            null,   //LastDataUnit
+            null         //errorCode
+        );
+        S7PayloadUserDataItemCpuFunctionMsgSubscriptionRequest payload = new S7PayloadUserDataItemCpuFunctionMsgSubscriptionRequest(
+            DataTransportErrorCode.OK,
+            DataTransportSize.OCTET_STRING,
+            0x0a,
+            (short) ((subscribedEvents | EventType.MODE.getValue()) & 0xFF),
+            "HmiRtm  ",
+            null,
+            null);
+        sendInternal(new S7MessageUserData(getTpduId(),
+            new S7ParameterUserData(Collections.singletonList(parameter)),
+            new S7PayloadUserData(Collections.singletonList(payload))))
+            .whenComplete((response, throwable) -> {
+                if (throwable != null) {
+                    // Without them, the sizes are only checked against the headers read along.
+                    logger.warn("Error subscribing to the mode changes of the PLC: {}", throwable.getMessage());
+                }
+            });
+    }
+
+    private static int getStringMaxLength(TransportSize dataType, byte[] data) {
+        if ((dataType == TransportSize.STRING) && (data.length >= 1)) {
+            return data[0] & 0xFF;
+        } else if ((dataType == TransportSize.WSTRING) && (data.length >= 2)) {
+            return ((data[0] & 0xFF) << 8) | (data[1] & 0xFF);
+        }
+        return -1;
+    }
+
     private CompletableFuture<S7Message> performOrdinaryReadRequest(DefaultPlcReadRequest request) {
         // Convert each tag in the request into a corresponding item used in the S7 protocol.
         List<S7VarRequestParameterItem> requestItems = new ArrayList<>(request.getNumberOfTags());
@@ -1512,21 +1839,32 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
      * Assumes that the {@link S7MessageRequest} and its expected {@link S7MessageResponseData}
      * and does not further check that!
      */
-    private CompletableFuture<S7Message> sendInternal(S7Message request) {
-        CompletableFuture<S7Message> future = new CompletableFuture<>();
-
-        // Get the tpduId from the S7 message.
-        int tpduId = request.getTpduReference();
+    CompletableFuture<S7Message> sendInternal(S7Message request) {
         //The "COTP - TPDU nnumber" field must always be zero.
         TPKTPacket tpktPacket = new TPKTPacket(new COTPPacketData(null, request, true, (byte) 0));
+        // Get the tpduId from the S7 message.
+        return sendInternal(tpktPacket, request.getTpduReference());
+    }
+
+    /**
+     * Sends an already wrapped request, which is expected to be answered with the given tpdu reference.
+     */
+    private CompletableFuture<S7Message> sendInternal(TPKTPacket tpktPacket, int tpduId) {
+        CompletableFuture<S7Message> future = new CompletableFuture<>();
+        future.whenComplete((response, e) -> {
+            if (future.isCancelled()) {
+                abandon(tpduId);
+            }
+        });
 
         // Start a new request-transaction (Is ended in the response-handler)
         RequestTransactionManager.RequestTransaction transaction = tm.startRequest();
         // Send the request.
         transaction.submit(() -> conversationContext.sendRequest(tpktPacket)
-            .onTimeout(new TransactionErrorCallback<>(future, transaction))
-            .onError(new TransactionErrorCallback<>(future, transaction))
+            .onTimeout(new TransactionErrorCallback<>(future, transaction, () -> abandon(tpduId)))
+            .onError(new TransactionErrorCallback<>(future, transaction, () -> abandon(tpduId)))
             .expectResponse(TPKTPacket.class, REQUEST_TIMEOUT)
+            .correlateBy(TPDU_REFERENCE)
             .unwrap(TPKTPacket::getPayload)
             .only(COTPPacketData.class)
             .check(p -> p.getPayload() != null)
@@ -1545,6 +1883,14 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
         return future;
     }
 
+    /**
+     * Tells the multiplexer of S7H connections, that nobody waits for the response of a request anymore,
+     * so its hot standby doesn't send it again after a failover.
+     */
+    private void abandon(int tpduId) {
+        conversationContext.getChannel().pipeline().fireUserEventTriggered(new S7HMuxImpl.AbandonedRequestEvent(tpduId));
+    }
+
     /**
      * DECODE:
      * This method is called when there is no handler for the message. 
@@ -1571,7 +1917,9 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
         if (parameter instanceof S7ParameterModeTransition) {  //(01)  
             
             S7ModeEvent modeEvent = new S7ModeEvent((S7ParameterModeTransition) parameter);
-            eventQueue.add(modeEvent);
+            eventLogic.publish(modeEvent);
+            // The program (and with it the layout of the DBs) might have been changed.
+            stringMaxLengths.clear();
             
         } else if (parameter instanceof S7ParameterUserData) {
             
@@ -1591,10 +1939,10 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
                                 final S7PayloadDiagnosticMessage pload = (S7PayloadDiagnosticMessage) item; 
                                 if ((pload.getEventId() >= 0x0A000) & (pload.getEventId() <= 0x0BFFF)) {
                                     S7UserEvent userEvent = S7UserEvent.of(pload);
-                                    eventQueue.add(userEvent);                                
+                                    eventLogic.publish(userEvent);                                
                                 } else {
                                     S7SysEvent sysEvent = S7SysEvent.of(pload);
-                                    eventQueue.add(sysEvent);                                        
+                                    eventLogic.publish(sysEvent);                                        
                                 }
                             } 
                         });
@@ -1610,7 +1958,7 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
                         
                         payload.getItems().forEach(item ->{
                             S7AlarmEvent alrmEvent = S7AlarmEvent.of(item);
-                            eventQueue.add(alrmEvent);                                
+                            eventLogic.publish(alrmEvent);                                
                         });
                         
                                                 
@@ -1626,19 +1974,15 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
                             (S7PayloadUserDataItemCyclicServicesPush)
                                 payload.getItems().get(0);
 
-                        S7CyclicEvent cycEvent = new S7CyclicEvent(cycRequests.get(parameterItem.getSequenceNumber()),
-                            parameterItem.getSequenceNumber(),
-                            payloadItem);
-                        
-                        if (cycChangeValueEvents.containsKey(parameterItem.getSequenceNumber())){
-                            S7CyclicEvent lastCycEvent = cycChangeValueEvents.get(parameterItem.getSequenceNumber());
-                            if (!cycEvent.equals(lastCycEvent)) {
-                                cycChangeValueEvents.replace(parameterItem.getSequenceNumber(), cycEvent);
-                                eventQueue.add(cycEvent);                                
-                            }
-                            
+                        S7CyclicJob cycJob = cycJobs.get(parameterItem.getSequenceNumber());
+                        if (cycJob == null) {
+                            logger.debug("Ignoring values of unknown cyclic job {}", parameterItem.getSequenceNumber());
                         } else {
-                            eventQueue.add(cycEvent);
+                            // Only the changed values are decoded, change-of-state jobs return null if none changed.
+                            S7CyclicEvent cycEvent = cycJob.update(payloadItem.getItems());
+                            if (cycEvent != null) {
+                                eventLogic.publish(cycEvent);
+                            }
                         }
 
                     } else if ((myParameter.getCpuFunctionGroup() == 0x02) && (myParameter.getCpuFunctionType() == 0x00) && (myParameter.getCpuSubfunction() == 0x05)) { //(06)
@@ -1651,10 +1995,15 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
                             (S7PayloadUserDataItemCyclicServicesChangeDrivenPush)
                                 payload.getItems().get(0);
 
-                        S7CyclicEvent cycEvent = new S7CyclicEvent(null,
-                            parameterItem.getSequenceNumber(),
-                            payloadItem);
-                        eventQueue.add(cycEvent);
+                        S7CyclicJob cycJob = cycJobs.get(parameterItem.getSequenceNumber());
+                        if (cycJob == null) {
+                            logger.debug("Ignoring values of unknown cyclic job {}", parameterItem.getSequenceNumber());
+                        } else {
+                            S7CyclicEvent cycEvent = cycJob.updateChangeDriven(payloadItem.getItems());
+                            if (cycEvent != null) {
+                                eventLogic.publish(cycEvent);
+                            }
+                        }
 
                     } else if ((myParameter.getCpuFunctionType() == 0x08) && (myParameter.getCpuSubfunction() == 0x01)) {
                         //TODO: Requires reverse engineering.
@@ -1688,6 +2037,7 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
             String articleNumber = szlItem.toString(2, 20, Charset.defaultCharset());
             s7DriverContext.setControllerType(decodeControllerType(articleNumber));
             context.fireConnected();
+            resubscribeCyclicJobs();
         }
     }
 
@@ -2133,6 +2483,11 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
                     }).toArray(PlcValue[]::new);
                     return DefaultPlcValueHandler.of(tag, resultItems);
                 } else {
+                    // Arrays of numbers are read into a primitive array instead of one PlcValue per element.
+                    PlcValue arrayValue = PlcPrimitiveArray.parse(readBuffer, tag.getPlcValueType(), tag.getNumberOfElements());
+                    if (arrayValue != null) {
+                        return arrayValue;
+                    }
                     // Fetch all
                     final PlcValue[] resultItems = IntStream.range(0, tag.getNumberOfElements()).mapToObj(i -> {
                         try {
@@ -2364,10 +2719,18 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
 
         private final CompletableFuture<T> future;
         private final RequestTransactionManager.RequestTransaction transaction;
+        // Runs before the future is completed.
+        private final Runnable onFailure;
 
         TransactionErrorCallback(CompletableFuture<T> future, RequestTransactionManager.RequestTransaction transaction) {
+            this(future, transaction, () -> {});
+        }
+
+        TransactionErrorCallback(CompletableFuture<T> future, RequestTransactionManager.RequestTransaction transaction,
+                                 Runnable onFailure) {
             this.future = future;
             this.transaction = transaction;
+            this.onFailure = onFailure;
         }
 
         @Override
@@ -2377,6 +2740,7 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
             } catch (Exception ex) {
                 logger.info(ex.getMessage());
             }
+            onFailure.run();
             future.completeExceptionally(e);
         }
 
@@ -2387,6 +2751,7 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
             } catch (Exception ex) {
                 logger.info(ex.getMessage());
             }
+            onFailure.run();
             future.completeExceptionally(e);
         }
     }
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.s7.readwrite.types;
+
+/**
+ * How the event dispatcher waits for new events, trading latency against CPU usage.
+ */
+public enum S7EventWaitStrategy {
+    /**
+     * Parks the dispatcher thread until the connection publishes the next event.
+     */
+    BLOCKING,
+    /**
+     * Spins and yields for a short while, then sleeps in intervals of 100µs.
+     */
+    SLEEPING,
+    /**
+     * Spins for a short while, then yields the CPU to other threads.
+     */
+    YIELDING,
+    /**
+     * Never gives up the CPU, only makes sense with a core reserved for the dispatcher.
+     */
+    BUSY_SPIN
+}
@@ -63,6 +63,20 @@ public class S7Optimizer extends BaseOptimizer {
         return 500000;
     }
 
+    /**
+     * A whole window of "max-amq-callee" requests is sent out at once, the responses are matched by their
+     * tpdu reference.
+     */
+    @Override
+    protected int getBurstSize(DriverContext driverContext) {
+        return ((S7DriverContext) driverContext).getMaxAmqCallee();
+    }
+
+    @Override
+    protected int getMaxConcurrentRequests(DriverContext driverContext) {
+        return ((S7DriverContext) driverContext).getMaxAmqCallee();
+    }
+
     @Override
     protected List<PlcReadRequest> processReadRequest(PlcReadRequest readRequest, DriverContext driverContext) {
         S7DriverContext s7DriverContext = (S7DriverContext) driverContext;
@@ -50,6 +50,7 @@ import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -62,6 +63,14 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
 
     private static final Logger logger = LoggerFactory.getLogger(S7ProtocolLogic.class);
 
+    /**
+     * Responses are matched with their request by the tpdu reference, so up to "max-amq-callee" requests can be
+     * pipelined without scanning all pending handlers for every incoming message.
+     */
+    private static final ToLongFunction<TPKTPacket> TPDU_REFERENCE = packet ->
+        ((packet.getPayload() instanceof COTPPacketData) && (packet.getPayload().getPayload() != null)) ?
+            packet.getPayload().getPayload().getTpduReference() : -1;
+
     private final AtomicInteger tpduGenerator = new AtomicInteger(10);
     private S7DriverContext s7DriverContext;
     private RequestTransactionManager tm;
@@ -90,6 +99,7 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
 
     @Override
     public void onConnect(ConversationContext<TPKTPacket> context) {
+        useDriverRuntimeExecutor(tm);
         // Only the TCP transport supports login.
         logger.info("S7 Driver running in ACTIVE mode.");
         logger.debug("Sending COTP Connection Request");
@@ -505,6 +515,7 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
             .onTimeout(new TransactionErrorCallback<>(future, transaction))
             .onError(new TransactionErrorCallback<>(future, transaction))
             .expectResponse(TPKTPacket.class, s7DriverContext.getReadTimeoutDuration())
+            .correlateBy(TPDU_REFERENCE)
             .unwrap(TPKTPacket::getPayload)
             .only(COTPPacketData.class)
             .check(p -> p.getPayload() != null)
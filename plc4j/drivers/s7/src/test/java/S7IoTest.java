@@ -28,6 +28,7 @@ import java.io.ByteArrayInputStream;
 import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.recursive.comparison.ComparingProperties.COMPARING_PROPERTIES;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class S7IoTest {
@@ -371,7 +372,9 @@ public class S7IoTest {
             assertEquals(wantXml, gotXml);
             ReadBufferXmlBased readBufferXmlBased = new ReadBufferXmlBased(new ByteArrayInputStream(gotXml.getBytes()));
             TPKTPacket reReadTpktPacket = TPKTPacket.staticParse(readBufferXmlBased);
-            assertThat(reReadTpktPacket).usingRecursiveComparison().isEqualTo(tpktPacket);
+            // Messages are compared by their properties, internal state like the cached length isn't part of them.
+            assertThat(reReadTpktPacket).usingRecursiveComparison()
+                .withIntrospectionStrategy(COMPARING_PROPERTIES).isEqualTo(tpktPacket);
         }
         // json
         {
@@ -381,7 +384,9 @@ public class S7IoTest {
             JSONAssert.assertEquals(wantJson, gotJson, JSONCompareMode.LENIENT);
             ReadBufferJsonBased readBufferXmlBased = new ReadBufferJsonBased(new ByteArrayInputStream(gotJson.getBytes()));
             TPKTPacket reReadTpktPacket = TPKTPacket.staticParse(readBufferXmlBased);
-            assertThat(reReadTpktPacket).usingRecursiveComparison().isEqualTo(tpktPacket);
+            // Messages are compared by their properties, internal state like the cached length isn't part of them.
+            assertThat(reReadTpktPacket).usingRecursiveComparison()
+                .withIntrospectionStrategy(COMPARING_PROPERTIES).isEqualTo(tpktPacket);
         }
     }
 }
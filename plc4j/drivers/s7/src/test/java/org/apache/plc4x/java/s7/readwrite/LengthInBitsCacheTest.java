@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.s7.readwrite;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LengthInBitsCacheTest {
+
+    /**
+     * The length of types, that don't depend on being the last item of an array, is only calculated once.
+     */
+    @Test
+    public void lengthIsCalculatedOnce() {
+        AtomicInteger calculations = new AtomicInteger();
+        TPKTPacket packet = new TPKTPacket(new COTPPacketData(Collections.emptyList(), null, true, (byte) 1)) {
+            @Override
+            protected int calculateLengthInBits(boolean _lastItem) {
+                calculations.incrementAndGet();
+                return super.calculateLengthInBits(_lastItem);
+            }
+        };
+
+        // TPKT header (4 bytes) + COTP data header (3 bytes)
+        assertEquals(56, packet.getLengthInBits());
+        assertEquals(56, packet.getLengthInBits());
+        assertEquals(7, packet.getLengthInBytes());
+        assertEquals(1, calculations.get());
+    }
+
+    /**
+     * Types with padding depending on being the last item must not cache their length.
+     */
+    @Test
+    public void lengthDependingOnLastItemIsNotCached() {
+        AtomicInteger calculations = new AtomicInteger();
+        S7VarPayloadDataItem item = new S7VarPayloadDataItem(
+            DataTransportErrorCode.OK, DataTransportSize.BYTE_WORD_DWORD, new byte[]{1, 2, 3}) {
+            @Override
+            protected int calculateLengthInBits(boolean _lastItem) {
+                calculations.incrementAndGet();
+                return super.calculateLengthInBits(_lastItem);
+            }
+        };
+
+        assertEquals(64, item.getLengthInBits());
+        assertEquals(56, item.getLengthInBits(true));
+        assertEquals(64, item.getLengthInBits());
+        assertEquals(3, calculations.get());
+    }
+
+}
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.s7.readwrite.optimizer;
+
+import org.apache.plc4x.java.api.messages.PlcReadRequest;
+import org.apache.plc4x.java.api.messages.PlcReadResponse;
+import org.apache.plc4x.java.api.model.PlcTag;
+import org.apache.plc4x.java.api.types.PlcResponseCode;
+import org.apache.plc4x.java.api.value.PlcValue;
+import org.apache.plc4x.java.s7.readwrite.ControllerType;
+import org.apache.plc4x.java.s7.readwrite.MemoryArea;
+import org.apache.plc4x.java.s7.readwrite.context.S7DriverContext;
+import org.apache.plc4x.java.s7.readwrite.tag.S7Tag;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadRequest;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadResponse;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcResponseItem;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcResponseItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcTagItem;
+import org.apache.plc4x.java.spi.optimizer.BaseOptimizer.SubResponse;
+import org.apache.plc4x.java.spi.values.PlcRawByteArray;
+import org.apache.plc4x.java.spi.values.PlcUSINT;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class S7PackingOptimizerTest {
+
+    private S7PackingOptimizer optimizer;
+    private S7DriverContext driverContext;
+
+    @BeforeEach
+    public void setUp() {
+        optimizer = new S7PackingOptimizer();
+        driverContext = new S7DriverContext();
+        driverContext.setPduSize(240);
+        driverContext.setControllerType(ControllerType.S7_1200);
+        driverContext.setEnablePackingOptimizer(true);
+    }
+
+    @Test
+    public void mergesNeighbouringTagsIntoBlocks() {
+        PlcReadRequest readRequest = readRequest(
+            "int", "%DB1:0:INT",
+            "real", "%DB1:2:REAL",
+            "bool", "%DB1:7.3:BOOL",
+            "far", "%DB1:100:INT",
+            "other", "%DB2:4:INT");
+
+        List<PlcReadRequest> requests = optimizer.processReadRequest(readRequest, driverContext);
+
+        assertEquals(1, requests.size());
+        PlcReadRequest request = requests.get(0);
+        assertEquals(3, request.getNumberOfTags());
+        S7PackingOptimizer.S7BlockTag blockTag = null;
+        for (String tagName : request.getTagNames()) {
+            if (request.getTag(tagName) instanceof S7PackingOptimizer.S7BlockTag) {
+                blockTag = (S7PackingOptimizer.S7BlockTag) request.getTag(tagName);
+            }
+        }
+        assertEquals(0, blockTag.getByteOffset());
+        assertEquals(8, blockTag.getNumberOfElements());
+        assertEquals(3, blockTag.getBlockTags().size());
+        assertTrue(request.getTagNames().contains("far"));
+        assertTrue(request.getTagNames().contains("other"));
+    }
+
+    @Test
+    public void packsItemsIntoFewerRequestsThanInOrder() {
+        PlcReadRequest readRequest = readRequest(
+            "a", "%DB1:0:BYTE[100]",
+            "b", "%DB2:0:BYTE[150]",
+            "c", "%DB3:0:BYTE[100]",
+            "d", "%DB4:0:BYTE[50]");
+
+        driverContext.setEnablePackingOptimizer(false);
+        assertEquals(3, optimizer.processReadRequest(readRequest, driverContext).size());
+        driverContext.setEnablePackingOptimizer(true);
+        assertEquals(2, optimizer.processReadRequest(readRequest, driverContext).size());
+    }
+
+    @Test
+    public void packsFragmentsOfLargeArraysWithOtherItems() {
+        PlcReadRequest readRequest = readRequest(
+            "large", "%DB1:0:INT[150]",
+            "small", "%DB2:0:INT");
+
+        List<PlcReadRequest> requests = optimizer.processReadRequest(readRequest, driverContext);
+
+        assertEquals(2, requests.size());
+        int elements = 0;
+        for (PlcReadRequest request : requests) {
+            elements += ((S7Tag) request.getTag("large")).getNumberOfElements();
+        }
+        assertEquals(150, elements);
+        assertTrue(requests.get(1).getTagNames().contains("small"));
+    }
+
+    @Test
+    public void cachesThePlan() {
+        optimizer.processReadRequest(readRequest("a", "%DB1:0:INT", "b", "%DB1:2:INT"), driverContext);
+        optimizer.processReadRequest(readRequest("a", "%DB1:0:INT", "b", "%DB1:2:INT"), driverContext);
+        assertEquals(1, optimizer.getNumberOfCachedPlans());
+
+        // A different PDU size requires a different plan.
+        driverContext.setPduSize(480);
+        optimizer.processReadRequest(readRequest("a", "%DB1:0:INT", "b", "%DB1:2:INT"), driverContext);
+        assertEquals(2, optimizer.getNumberOfCachedPlans());
+    }
+
+    @Test
+    public void decodesTheTagsOfBlocks() {
+        PlcReadRequest readRequest = readRequest(
+            "int", "%DB1:0:INT",
+            "bool", "%DB1:3.1:BOOL",
+            "bytes", "%DB1:4:BYTE[2]",
+            "far", "%DB1:100:INT");
+        List<PlcReadRequest> requests = optimizer.processReadRequest(readRequest, driverContext);
+        PlcReadRequest request = requests.get(0);
+
+        Map<String, PlcResponseItem<PlcValue>> values = new HashMap<>();
+        for (String tagName : request.getTagNames()) {
+            PlcTag tag = request.getTag(tagName);
+            if (tag instanceof S7PackingOptimizer.S7BlockTag) {
+                values.put(tagName, new DefaultPlcResponseItem<>(PlcResponseCode.OK,
+                    new PlcRawByteArray(new byte[]{0x01, 0x02, 0x00, 0x02, 0x0A, 0x0B})));
+            } else {
+                values.put(tagName, new DefaultPlcResponseItem<>(PlcResponseCode.INVALID_ADDRESS, null));
+            }
+        }
+        Map<PlcReadRequest, SubResponse<PlcReadResponse>> readResponses = new HashMap<>();
+        readResponses.put(request, new SubResponse<>(new DefaultPlcReadResponse(request, values)));
+
+        PlcReadResponse readResponse = optimizer.processReadResponses(readRequest, readResponses, driverContext);
+
+        assertEquals(PlcResponseCode.OK, readResponse.getResponseCode("int"));
+        assertEquals(0x0102, readResponse.getInteger("int"));
+        assertTrue(readResponse.getBoolean("bool"));
+        assertInstanceOf(PlcRawByteArray.class, readResponse.getPlcValue("bytes"));
+        assertEquals(0x0B, readResponse.getPlcValue("bytes").getRaw()[1]);
+        assertEquals(PlcResponseCode.INVALID_ADDRESS, readResponse.getResponseCode("far"));
+        assertFalse(readResponse.getTagNames().stream().anyMatch(tagName -> tagName.startsWith("__block__")));
+    }
+
+    @Test
+    public void coalescingSupportDescribesTheS7Memory() {
+        S7CoalescingSupport coalescingSupport = new S7CoalescingSupport(ControllerType.S7_1200);
+        // Strings, counters and arrays of BOOL can't be sliced out of raw blocks.
+        assertNull(coalescingSupport.getAddressSpace(S7Tag.of("%DB1:0:STRING")));
+        assertNull(coalescingSupport.getAddressSpace(S7Tag.of("%DB1:0.0:BOOL[8]")));
+        assertEquals(coalescingSupport.getAddressSpace(S7Tag.of("%DB1:0:INT")),
+            coalescingSupport.getAddressSpace(S7Tag.of("%DB1:8.1:BOOL")));
+        assertNotEquals(coalescingSupport.getAddressSpace(S7Tag.of("%DB1:0:INT")),
+            coalescingSupport.getAddressSpace(S7Tag.of("%DB2:0:INT")));
+        assertEquals(8, coalescingSupport.getNumberOfElements(S7Tag.of("%DB1:0:REAL[2]")));
+
+        // A block of one byte is returned as single value.
+        S7PackingOptimizer.S7BlockTag blockTag = new S7PackingOptimizer.S7BlockTag(MemoryArea.DATA_BLOCKS, 1, 3, 1,
+            new LinkedHashMap<>());
+        LinkedHashMap<String, PlcTagItem<PlcTag>> tags = new LinkedHashMap<>();
+        tags.put("block", new DefaultPlcTagItem<>(blockTag));
+        PlcReadRequest request = new DefaultPlcReadRequest(null, tags);
+        Map<String, PlcResponseItem<PlcValue>> values = new HashMap<>();
+        values.put("block", new DefaultPlcResponseItem<>(PlcResponseCode.OK, PlcUSINT.of(0x02)));
+        byte[] blockData = coalescingSupport.getBlockData(blockTag, new DefaultPlcReadResponse(request, values), "block");
+        assertArrayEquals(new byte[]{0x02}, blockData);
+    }
+
+    private static PlcReadRequest readRequest(String... tagNamesAndAddresses) {
+        LinkedHashMap<String, PlcTagItem<PlcTag>> tags = new LinkedHashMap<>();
+        for (int i = 0; i < tagNamesAndAddresses.length; i += 2) {
+            tags.put(tagNamesAndAddresses[i], new DefaultPlcTagItem<>(S7Tag.of(tagNamesAndAddresses[i + 1])));
+        }
+        return new DefaultPlcReadRequest(null, tags);
+    }
+
+}
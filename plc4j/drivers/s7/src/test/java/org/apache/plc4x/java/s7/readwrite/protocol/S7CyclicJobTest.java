@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.s7.readwrite.protocol;
+
+import org.apache.plc4x.java.api.messages.PlcSubscriptionRequest;
+import org.apache.plc4x.java.api.model.PlcSubscriptionTag;
+import org.apache.plc4x.java.api.types.PlcSubscriptionType;
+import org.apache.plc4x.java.api.value.PlcValue;
+import org.apache.plc4x.java.s7.events.S7CyclicEvent;
+import org.apache.plc4x.java.s7.readwrite.AssociatedValueType;
+import org.apache.plc4x.java.s7.readwrite.DataTransportErrorCode;
+import org.apache.plc4x.java.s7.readwrite.DataTransportSize;
+import org.apache.plc4x.java.s7.readwrite.TimeBase;
+import org.apache.plc4x.java.s7.readwrite.tag.S7SubscriptionTag;
+import org.apache.plc4x.java.s7.readwrite.tag.S7Tag;
+import org.apache.plc4x.java.s7.readwrite.types.S7SubscriptionType;
+import org.apache.plc4x.java.spi.messages.DefaultPlcSubscriptionRequest;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcTagItem;
+import org.apache.plc4x.java.spi.model.DefaultPlcSubscriptionTag;
+import org.apache.plc4x.java.spi.values.PlcINT;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class S7CyclicJobTest {
+
+    @Test
+    public void partitionsByCycleItemsAndPduSize() {
+        LinkedHashMap<String, PlcTagItem<PlcSubscriptionTag>> tags = new LinkedHashMap<>();
+        for (int i = 0; i < 5; i++) {
+            tags.put("fast" + i, tag("%DB1:" + (i * 2) + ":INT", TimeBase.B01SEC, PlcSubscriptionType.CYCLIC));
+        }
+        tags.put("slow", tag("%DB1:100:INT", TimeBase.B1SEC, PlcSubscriptionType.CYCLIC));
+        tags.put("large0", tag("%DB2:0:BYTE[150]", TimeBase.B1SEC, PlcSubscriptionType.CHANGE_OF_STATE));
+        tags.put("large1", tag("%DB2:150:BYTE[150]", TimeBase.B1SEC, PlcSubscriptionType.CHANGE_OF_STATE));
+        DefaultPlcSubscriptionRequest request = new DefaultPlcSubscriptionRequest(null, tags, null, Collections.emptyMap());
+
+        List<PlcSubscriptionRequest> jobRequests = S7CyclicJob.partition(request, 240, 2);
+
+        assertEquals(6, jobRequests.size());
+        assertEquals(Arrays.asList("fast0", "fast1"), new ArrayList<>(jobRequests.get(0).getTagNames()));
+        assertEquals(Arrays.asList("fast2", "fast3"), new ArrayList<>(jobRequests.get(1).getTagNames()));
+        assertEquals(Collections.singletonList("fast4"), new ArrayList<>(jobRequests.get(2).getTagNames()));
+        assertEquals(Collections.singletonList("slow"), new ArrayList<>(jobRequests.get(3).getTagNames()));
+        // The pushed values of both would exceed the PDU.
+        assertEquals(Collections.singletonList("large0"), new ArrayList<>(jobRequests.get(4).getTagNames()));
+        assertEquals(Collections.singletonList("large1"), new ArrayList<>(jobRequests.get(5).getTagNames()));
+    }
+
+    @Test
+    public void decodesOnlyChangedItems() {
+        AtomicInteger decoded = new AtomicInteger();
+        S7CyclicJob job = new S7CyclicJob((short) 3, request(PlcSubscriptionType.CYCLIC), decoder(decoded));
+
+        S7CyclicEvent first = job.update(Arrays.asList(item(0, 1), item(0, 2)));
+        S7CyclicEvent second = job.update(Arrays.asList(item(0, 1), item(0, 5)));
+
+        assertEquals(3, decoded.get());
+        assertEquals((short) 3, first.getMap().get(S7CyclicEvent.Fields.JOBID.name()));
+        assertEquals(1, second.getPlcValue("a").getInt());
+        assertEquals(5, second.getPlcValue("b").getInt());
+        // Unchanged items keep the value decoded before.
+        assertSame(first.getPlcValue("a"), second.getPlcValue("a"));
+    }
+
+    @Test
+    public void publishesChangeOfStateOnlyOnChanges() {
+        AtomicInteger decoded = new AtomicInteger();
+        S7CyclicJob job = new S7CyclicJob((short) 4, request(PlcSubscriptionType.CHANGE_OF_STATE), decoder(decoded));
+
+        assertNotNull(job.update(Arrays.asList(item(0, 1), item(0, 2))));
+        assertNull(job.update(Arrays.asList(item(0, 1), item(0, 2))));
+        assertNotNull(job.update(Arrays.asList(item(0, 1), item(0, 3))));
+        assertEquals(3, decoded.get());
+    }
+
+    @Test
+    public void keepsTheHandleJobIdAfterResubscribing() {
+        S7CyclicJob job = new S7CyclicJob((short) 1, request(PlcSubscriptionType.CYCLIC), decoder(new AtomicInteger()));
+        job.setPlcJobId((short) 7);
+
+        S7CyclicEvent event = job.update(Arrays.asList(item(0, 1), item(0, 2)));
+
+        assertEquals((short) 7, job.getPlcJobId());
+        assertEquals((short) 1, event.getMap().get(S7CyclicEvent.Fields.JOBID.name()));
+    }
+
+    private static PlcSubscriptionRequest request(PlcSubscriptionType subscriptionType) {
+        LinkedHashMap<String, PlcTagItem<PlcSubscriptionTag>> tags = new LinkedHashMap<>();
+        tags.put("a", tag("%DB1:0:INT", TimeBase.B01SEC, subscriptionType));
+        tags.put("b", tag("%DB1:2:INT", TimeBase.B01SEC, subscriptionType));
+        return new DefaultPlcSubscriptionRequest(null, tags, null, Collections.emptyMap());
+    }
+
+    private static PlcTagItem<PlcSubscriptionTag> tag(String address, TimeBase timeBase, PlcSubscriptionType subscriptionType) {
+        S7SubscriptionTag s7SubscriptionTag = new S7SubscriptionTag(S7SubscriptionType.CYCLIC_SUBSCRIPTION,
+            new S7Tag[]{S7Tag.of(address)}, timeBase, (short) 1);
+        return new DefaultPlcTagItem<>(new DefaultPlcSubscriptionTag(subscriptionType, s7SubscriptionTag, null));
+    }
+
+    private static AssociatedValueType item(int high, int low) {
+        return new AssociatedValueType(DataTransportErrorCode.OK, DataTransportSize.BYTE_WORD_DWORD, 16,
+            Arrays.asList((short) high, (short) low));
+    }
+
+    private static BiFunction<S7Tag, byte[], PlcValue> decoder(AtomicInteger decoded) {
+        return (tag, data) -> {
+            decoded.incrementAndGet();
+            return new PlcINT(((data[0] & 0xFF) << 8) | (data[1] & 0xFF));
+        };
+    }
+
+}
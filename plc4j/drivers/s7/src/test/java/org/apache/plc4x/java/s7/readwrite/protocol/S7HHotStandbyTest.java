@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.s7.readwrite.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.plc4x.java.s7.readwrite.DeviceGroup;
+import org.apache.plc4x.java.s7.readwrite.configuration.S7Configuration;
+import org.apache.plc4x.java.s7.readwrite.utils.S7TsapIdEncoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class S7HHotStandbyTest {
+
+    private static final String CONNECTION_REQUEST = "030000161 1e0000000010 0c0010a c1020100 c2020102";
+    private static final String CONNECTION_CONFIRM = "030000161 1d0000100010 0c0010a c1020100 c2020102";
+    private static final String SETUP_COMMUNICATION = "03000019 02f080 32010000 TTTT 0008 0000 f0000001000101e0";
+    private static final String SETUP_COMMUNICATION_RESPONSE = "0300001b 02f080 32030000 TTTT 0008 0000 0000 f0000001000100f0";
+    private static final String READ = "0300001f 02f080 32010000 TTTT 000e 0000 04011 20a10020001000184000000";
+    private static final String READ_RESPONSE = "0300001b 02f080 32030000 TTTT 0002 0006 0000 0401 ff040010002a";
+    private static final String SUBSCRIBE = "0300002d 02f080 32070000 TTTT 0008 0014 0001120411420100 ff090010 0001 01 01 120a10020001000184000000";
+    private static final String SUBSCRIBE_RESPONSE = "03000028 02f080 32070000 TTTT 000c 000b 000112081282 01JJ00000000 ff090007 0001 ff0400082a";
+    private static final String UNSUBSCRIBE = "0300001f 02f080 32070000 TTTT 0008 0006 0001120411420400 ff09000205JJ";
+    private static final String PUSH = "03000028 02f080 32070000 0000 000c 000b 000112081202 01JJ00000000 ff090007 0001 ff0400082a";
+
+    private S7HMuxImpl mux;
+    private EmbeddedChannel embedded;
+    private EmbeddedChannel primary;
+    private EmbeddedChannel secondary;
+
+    @BeforeEach
+    public void setUp() {
+        S7Configuration configuration = new S7Configuration();
+        configuration.setHotStandby(true);
+        configuration.setHeartbeatTime(0);
+        configuration.setRemoteSlot2(3);
+        mux = new S7HMuxImpl();
+        embedded = new EmbeddedChannel(mux);
+        mux.setEmbededhannel(embedded, configuration);
+    }
+
+    @Test
+    public void negotiatesTheStandbySessionAndSwitchesOver() {
+        connect();
+
+        // Subscriptions are mirrored, the PLCs assign different job ids.
+        send(frame(SUBSCRIBE, 5, 0));
+        int activeTpdu = S7HHotStandby.getTpdu(read(primary));
+        int standbyTpdu = S7HHotStandby.getTpdu(read(secondary));
+        primary.writeInbound(buffer(frame(SUBSCRIBE_RESPONSE, activeTpdu, 3)));
+        secondary.writeInbound(buffer(frame(SUBSCRIBE_RESPONSE, standbyTpdu, 9)));
+        assertArrayEquals(frame(SUBSCRIBE_RESPONSE, 5, 3), received());
+        assertNull(embedded.readInbound());
+
+        // Pushes of the standby session are dropped as long as it isn't active.
+        secondary.writeInbound(buffer(frame(PUSH, 0, 9)));
+        assertNull(embedded.readInbound());
+
+        // A request in flight, while the active channel is lost.
+        send(frame(READ, 7, 0));
+        read(primary);
+        primary.close();
+
+        assertSame(secondary, mux.getTCPChannel());
+        assertNotNull(mux.getFailoverTime());
+        byte[] replayed = read(secondary);
+        assertArrayEquals(frame(READ, S7HHotStandby.getTpdu(replayed), 0), replayed);
+        secondary.writeInbound(buffer(frame(READ_RESPONSE, S7HHotStandby.getTpdu(replayed), 0)));
+        assertArrayEquals(frame(READ_RESPONSE, 7, 0), received());
+
+        // The job id of the standby session is mapped to the one known by the protocol.
+        secondary.writeInbound(buffer(frame(PUSH, 0, 9)));
+        assertArrayEquals(frame(PUSH, 0, 3), received());
+        send(frame(UNSUBSCRIBE, 8, 3));
+        byte[] unsubscribe = read(secondary);
+        assertArrayEquals(frame(UNSUBSCRIBE, S7HHotStandby.getTpdu(unsubscribe), 9), unsubscribe);
+    }
+
+    @Test
+    public void doesntReplayAbandonedRequests() {
+        connect();
+
+        send(frame(READ, 7, 0));
+        read(primary);
+        // The protocol gave up on the request, e.g. the user cancelled it.
+        embedded.pipeline().fireUserEventTriggered(new S7HMuxImpl.AbandonedRequestEvent(7));
+        primary.close();
+
+        assertSame(secondary, mux.getTCPChannel());
+        assertNull(secondary.readOutbound());
+    }
+
+    @Test
+    public void doesntReplayTimedOutRequests() {
+        mux.hotStandby = new S7HHotStandby(0, Duration.ZERO, -1,
+            S7TsapIdEncoder.encodeS7TsapId(DeviceGroup.PG_OR_PC, 0, 3) & 0xFFFF);
+        connect();
+
+        send(frame(READ, 7, 0));
+        read(primary);
+        primary.close();
+
+        assertSame(secondary, mux.getTCPChannel());
+        assertNull(secondary.readOutbound());
+    }
+
+    @Test
+    public void forwardsTheMirroredResponseOfRequestsInFlight() {
+        connect();
+
+        send(frame(SUBSCRIBE, 5, 0));
+        read(primary);
+        int standbyTpdu = S7HHotStandby.getTpdu(read(secondary));
+        primary.close();
+
+        // The response to the mirrored request is the one the protocol is waiting for, so nothing is replayed.
+        assertNull(secondary.readOutbound());
+        secondary.writeInbound(buffer(frame(SUBSCRIBE_RESPONSE, standbyTpdu, 9)));
+        assertArrayEquals(frame(SUBSCRIBE_RESPONSE, 5, 9), received());
+        secondary.writeInbound(buffer(frame(PUSH, 0, 9)));
+        assertArrayEquals(frame(PUSH, 0, 9), received());
+    }
+
+    private void connect() {
+        primary = new EmbeddedChannel(mux);
+        secondary = new EmbeddedChannel(mux);
+        mux.setPrimaryChannel(primary);
+        mux.setSecondaryChannel(secondary);
+
+        send(frame(CONNECTION_REQUEST, 0, 0));
+        assertArrayEquals(frame(CONNECTION_REQUEST, 0, 0), read(primary));
+        assertNull(secondary.readOutbound());
+        primary.writeInbound(buffer(frame(CONNECTION_CONFIRM, 0, 0)));
+        assertArrayEquals(frame(CONNECTION_CONFIRM, 0, 0), received());
+
+        send(frame(SETUP_COMMUNICATION, 0, 0));
+        int tpdu = S7HHotStandby.getTpdu(read(primary));
+        primary.writeInbound(buffer(frame(SETUP_COMMUNICATION_RESPONSE, tpdu, 0)));
+        assertArrayEquals(frame(SETUP_COMMUNICATION_RESPONSE, 0, 0), received());
+
+        // The standby channel replays the session setup with the TSAP of the second CPU.
+        byte[] connectionRequest = read(secondary);
+        assertEquals(0x03, connectionRequest[connectionRequest.length - 1]);
+        secondary.writeInbound(buffer(frame(CONNECTION_CONFIRM, 0, 0)));
+        int standbyTpdu = S7HHotStandby.getTpdu(read(secondary));
+        secondary.writeInbound(buffer(frame(SETUP_COMMUNICATION_RESPONSE, standbyTpdu, 0)));
+        assertNull(embedded.readInbound());
+        assertEquals(S7HHotStandby.Phase.READY, secondary.attr(S7HHotStandby.CHANNEL_STATE).get().getPhase());
+    }
+
+    private void send(byte[] frame) {
+        embedded.writeOutbound(buffer(frame));
+    }
+
+    private static byte[] read(EmbeddedChannel channel) {
+        ByteBuf buf = channel.readOutbound();
+        assertNotNull(buf);
+        byte[] frame = ByteBufUtil.getBytes(buf);
+        buf.release();
+        return frame;
+    }
+
+    private byte[] received() {
+        ByteBuf buf = embedded.readInbound();
+        assertNotNull(buf);
+        byte[] frame = ByteBufUtil.getBytes(buf);
+        buf.release();
+        return frame;
+    }
+
+    private static ByteBuf buffer(byte[] frame) {
+        return Unpooled.wrappedBuffer(frame);
+    }
+
+    private static byte[] frame(String hex, int tpdu, int jobId) {
+        return ByteBufUtil.decodeHexDump(hex.replace(" ", "")
+            .replace("TTTT", String.format("%04x", tpdu))
+            .replace("JJ", String.format("%02x", jobId)));
+    }
+
+}
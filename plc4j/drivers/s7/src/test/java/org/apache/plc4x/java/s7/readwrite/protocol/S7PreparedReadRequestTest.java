@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.s7.readwrite.protocol;
+
+import org.apache.plc4x.java.api.messages.PlcReadRequest;
+import org.apache.plc4x.java.api.messages.PlcReadResponse;
+import org.apache.plc4x.java.api.model.PlcTag;
+import org.apache.plc4x.java.api.types.PlcResponseCode;
+import org.apache.plc4x.java.api.value.PlcValue;
+import org.apache.plc4x.java.s7.readwrite.COTPPacketData;
+import org.apache.plc4x.java.s7.readwrite.S7MessageRequest;
+import org.apache.plc4x.java.s7.readwrite.S7ParameterReadVarRequest;
+import org.apache.plc4x.java.s7.readwrite.S7VarRequestParameterItem;
+import org.apache.plc4x.java.s7.readwrite.S7VarRequestParameterItemAddress;
+import org.apache.plc4x.java.s7.readwrite.TPKTPacket;
+import org.apache.plc4x.java.s7.readwrite.context.S7DriverContext;
+import org.apache.plc4x.java.s7.readwrite.optimizer.S7Optimizer;
+import org.apache.plc4x.java.s7.readwrite.tag.S7StringFixedLengthTag;
+import org.apache.plc4x.java.s7.readwrite.tag.S7StringVarLengthTag;
+import org.apache.plc4x.java.s7.readwrite.tag.S7Tag;
+import org.apache.plc4x.java.spi.generation.WriteBufferByteBased;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadRequest;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadResponse;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcResponseItem;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcResponseItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcTagItem;
+import org.apache.plc4x.java.spi.values.PlcINT;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class S7PreparedReadRequestTest {
+
+    @Test
+    public void patchesTheTpduReferenceIntoTheEncodedRequest() throws Exception {
+        S7ProtocolLogic protocolLogic = protocolLogic(new S7ProtocolLogic(), 240);
+        PlcReadRequest readRequest = readRequest("a", "%DB1:0:INT", "b", "%M10.2:BOOL", "c", "%DB2:4:STRING(10)");
+
+        PlcReadRequest preparedReadRequest = protocolLogic.prepareRead(readRequest);
+
+        assertInstanceOf(S7PreparedReadRequest.class, preparedReadRequest);
+        TPKTPacket tpktPacket = ((S7PreparedReadRequest) preparedReadRequest).toTpktPacket(0x1234);
+        WriteBufferByteBased writeBuffer = new WriteBufferByteBased(tpktPacket.getLengthInBytes());
+        tpktPacket.serialize(writeBuffer);
+        assertArrayEquals(encode(protocolLogic, preparedReadRequest, 0x1234), writeBuffer.getBytes());
+    }
+
+    @Test
+    public void doesNotPrepareVarLengthStrings() {
+        PlcReadRequest readRequest = readRequest("a", "%DB1:0:INT", "b", "%DB1:2:STRING");
+
+        assertSame(readRequest, protocolLogic(new S7ProtocolLogic(), 240).prepareRead(readRequest));
+    }
+
+    @Test
+    public void readsThePlanAsPreparedForTheSamePduSize() {
+        RecordingProtocolLogic protocolLogic = protocolLogic(new RecordingProtocolLogic(), 240);
+        PlcReadRequest readRequest = readRequest("a", "%DB1:0:INT", "b", "%DB1:2:INT");
+        S7Optimizer optimizer = new S7Optimizer();
+        List<PlcReadRequest> subRequests = prepare(optimizer, protocolLogic, readRequest);
+
+        PlcReadResponse readResponse = optimizer.optimizedRead(readRequest, subRequests, protocolLogic).join();
+
+        assertEquals(PlcResponseCode.OK, readResponse.getResponseCode("b"));
+        assertEquals(subRequests, protocolLogic.readRequests);
+        assertEquals(240, ((S7PreparedReadRequest) subRequests.get(0)).getPduSize());
+    }
+
+    @Test
+    public void plansAgainForAnotherPduSize() {
+        RecordingProtocolLogic protocolLogic = protocolLogic(new RecordingProtocolLogic(), 240);
+        PlcReadRequest readRequest = readRequest("a", "%DB1:0:INT", "b", "%DB1:2:INT");
+        S7Optimizer optimizer = new S7Optimizer();
+        List<PlcReadRequest> subRequests = prepare(optimizer, protocolLogic, readRequest);
+
+        // Connecting again negotiated a smaller PDU, only the address of one item fits into a request.
+        ((S7DriverContext) protocolLogic.getDriverContext()).setPduSize(
+            S7Optimizer.EMPTY_READ_RESPONSE_SIZE + S7Optimizer.S7_ADDRESS_ANY_SIZE);
+        PlcReadResponse readResponse = optimizer.optimizedRead(readRequest, subRequests, protocolLogic).join();
+
+        assertEquals(PlcResponseCode.OK, readResponse.getResponseCode("a"));
+        assertEquals(PlcResponseCode.OK, readResponse.getResponseCode("b"));
+        assertEquals(2, protocolLogic.readRequests.size());
+        assertFalse(protocolLogic.readRequests.stream().anyMatch(S7PreparedReadRequest.class::isInstance));
+    }
+
+    private static List<PlcReadRequest> prepare(S7Optimizer optimizer, S7ProtocolLogic protocolLogic, PlcReadRequest readRequest) {
+        List<PlcReadRequest> subRequests = new ArrayList<>();
+        for (PlcReadRequest subRequest : optimizer.prepareRead(readRequest, protocolLogic)) {
+            subRequests.add(protocolLogic.prepareRead(subRequest));
+        }
+        return subRequests;
+    }
+
+    private static <T extends S7ProtocolLogic> T protocolLogic(T protocolLogic, int pduSize) {
+        S7DriverContext driverContext = new S7DriverContext();
+        driverContext.setPduSize(pduSize);
+        protocolLogic.setDriverContext(driverContext);
+        return protocolLogic;
+    }
+
+    private static byte[] encode(S7ProtocolLogic protocolLogic, PlcReadRequest readRequest, int tpduId) throws Exception {
+        List<S7VarRequestParameterItem> requestItems = new ArrayList<>();
+        for (String tagName : readRequest.getTagNames()) {
+            requestItems.add(new S7VarRequestParameterItemAddress(protocolLogic.encodeS7Address(readRequest.getTag(tagName))));
+        }
+        TPKTPacket tpktPacket = new TPKTPacket(new COTPPacketData(null,
+            new S7MessageRequest(tpduId, new S7ParameterReadVarRequest(requestItems), null), true, (byte) 0));
+        WriteBufferByteBased writeBuffer = new WriteBufferByteBased(tpktPacket.getLengthInBytes());
+        tpktPacket.serialize(writeBuffer);
+        return writeBuffer.getBytes();
+    }
+
+    private static PlcReadRequest readRequest(String... tagNamesAndAddresses) {
+        LinkedHashMap<String, PlcTagItem<PlcTag>> tags = new LinkedHashMap<>();
+        for (int i = 0; i < tagNamesAndAddresses.length; i += 2) {
+            tags.put(tagNamesAndAddresses[i], new DefaultPlcTagItem<>(tag(tagNamesAndAddresses[i + 1])));
+        }
+        return new DefaultPlcReadRequest(null, tags);
+    }
+
+    private static S7Tag tag(String address) {
+        if (S7StringFixedLengthTag.matches(address)) {
+            return S7StringFixedLengthTag.of(address);
+        }
+        if (S7StringVarLengthTag.matches(address)) {
+            return S7StringVarLengthTag.of(address);
+        }
+        return S7Tag.of(address);
+    }
+
+    /**
+     * Reads the value 1 for every tag.
+     */
+    private static class RecordingProtocolLogic extends S7ProtocolLogic {
+
+        private final List<PlcReadRequest> readRequests = new ArrayList<>();
+
+        @Override
+        public CompletableFuture<PlcReadResponse> read(PlcReadRequest readRequest) {
+            readRequests.add(readRequest);
+            LinkedHashMap<String, PlcResponseItem<PlcValue>> values = new LinkedHashMap<>();
+            for (String tagName : readRequest.getTagNames()) {
+                values.put(tagName, new DefaultPlcResponseItem<>(PlcResponseCode.OK, new PlcINT(1)));
+            }
+            return CompletableFuture.completedFuture(new DefaultPlcReadResponse(readRequest, values));
+        }
+
+    }
+
+}
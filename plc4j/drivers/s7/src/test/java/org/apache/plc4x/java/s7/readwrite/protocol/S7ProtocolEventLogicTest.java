@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.s7.readwrite.protocol;
+
+import org.apache.plc4x.java.api.messages.PlcSubscriptionEvent;
+import org.apache.plc4x.java.s7.events.S7CyclicEvent;
+import org.apache.plc4x.java.s7.events.S7ModeEvent;
+import org.apache.plc4x.java.s7.readwrite.DataTransportErrorCode;
+import org.apache.plc4x.java.s7.readwrite.DataTransportSize;
+import org.apache.plc4x.java.s7.readwrite.EventType;
+import org.apache.plc4x.java.s7.readwrite.S7ParameterModeTransition;
+import org.apache.plc4x.java.s7.readwrite.S7PayloadUserDataItemCyclicServicesPush;
+import org.apache.plc4x.java.s7.readwrite.types.S7EventWaitStrategy;
+import org.apache.plc4x.java.s7.readwrite.utils.S7PlcSubscriptionHandle;
+import org.apache.plc4x.java.spi.messages.DefaultPlcSubscriptionRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class S7ProtocolEventLogicTest {
+
+    private S7ProtocolEventLogic eventLogic;
+
+    @AfterEach
+    public void tearDown() {
+        eventLogic.stop();
+    }
+
+    @ParameterizedTest
+    @EnumSource(S7EventWaitStrategy.class)
+    public void deliversAllEventsInOrder(S7EventWaitStrategy waitStrategy) throws InterruptedException {
+        eventLogic = new S7ProtocolEventLogic(waitStrategy, 16);
+        eventLogic.start();
+        CountDownLatch consumerBlocked = new CountDownLatch(1);
+        CountDownLatch allReceived = new CountDownLatch(200);
+        List<Short> received = new CopyOnWriteArrayList<>();
+        register(EventType.MODE, event -> {
+            awaitQuietly(consumerBlocked);
+            received.add((Short) ((S7ModeEvent) event).getMap().get(S7ModeEvent.Fields.CURRENT_MODE.name()));
+            allReceived.countDown();
+        });
+
+        // The consumer doesn't take any events while the connection publishes a storm of them.
+        for (int i = 0; i < 200; i++) {
+            assertTrue(eventLogic.publish(modeEvent((short) i)));
+        }
+        consumerBlocked.countDown();
+
+        assertTrue(allReceived.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 200; i++) {
+            assertEquals((short) i, received.get(i));
+        }
+        assertTrue(eventLogic.getOverflowCount() > 0);
+        assertEquals(0, eventLogic.getDropCount());
+    }
+
+    @Test
+    public void wakesUpTheDispatcherForEveryEvent() throws InterruptedException {
+        eventLogic = new S7ProtocolEventLogic(S7EventWaitStrategy.BLOCKING, 16);
+        eventLogic.start();
+        Semaphore received = new Semaphore(0);
+        register(EventType.MODE, event -> received.release());
+
+        // Publishing one event at a time makes the dispatcher park after every event, so a lost wake-up
+        // leaves an event undelivered.
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(eventLogic.publish(modeEvent((short) i)));
+            assertTrue(received.tryAcquire(1, TimeUnit.SECONDS), "Event " + i + " wasn't delivered");
+        }
+        assertEquals(0, eventLogic.getOverflowCount());
+    }
+
+    @Test
+    public void dropsEventsOnlyWhenTheOverflowQueueIsFull() throws InterruptedException {
+        // Ring-buffer of 2 and an overflow queue of 32 events.
+        eventLogic = new S7ProtocolEventLogic(S7EventWaitStrategy.BLOCKING, 2);
+        eventLogic.start();
+        CountDownLatch consumerBlocked = new CountDownLatch(1);
+        List<PlcSubscriptionEvent> received = new CopyOnWriteArrayList<>();
+        register(EventType.MODE, event -> {
+            awaitQuietly(consumerBlocked);
+            received.add(event);
+        });
+
+        int published = 0;
+        for (int i = 0; i < 100; i++) {
+            if (eventLogic.publish(modeEvent((short) i))) {
+                published++;
+            }
+        }
+        consumerBlocked.countDown();
+
+        assertEquals(100, published + eventLogic.getDropCount());
+        assertTrue(eventLogic.getDropCount() > 0);
+        long deadline = System.currentTimeMillis() + 5000;
+        while ((received.size() < published) && (System.currentTimeMillis() < deadline)) {
+            Thread.sleep(10);
+        }
+        assertEquals(published, received.size());
+    }
+
+    @Test
+    public void routesCyclicEventsByJobId() throws InterruptedException {
+        eventLogic = new S7ProtocolEventLogic();
+        eventLogic.start();
+        // The first event of a subscription is published before the consumer is registered.
+        eventLogic.publish(cyclicEvent((short) 200));
+
+        CountDownLatch received200 = new CountDownLatch(2);
+        CountDownLatch received1 = new CountDownLatch(1);
+        register("200", event -> {
+            assertEquals((short) 200, ((S7CyclicEvent) event).getMap().get(S7CyclicEvent.Fields.JOBID.name()));
+            received200.countDown();
+        });
+        register("1", event -> {
+            assertEquals((short) 1, ((S7CyclicEvent) event).getMap().get(S7CyclicEvent.Fields.JOBID.name()));
+            received1.countDown();
+        });
+        eventLogic.publish(cyclicEvent((short) 200));
+        eventLogic.publish(cyclicEvent((short) 1));
+
+        assertTrue(received200.await(5, TimeUnit.SECONDS));
+        assertTrue(received1.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void routesEventsToAllHandlesOfARegistration() throws InterruptedException {
+        eventLogic = new S7ProtocolEventLogic();
+        eventLogic.start();
+
+        List<PlcSubscriptionEvent> received = new CopyOnWriteArrayList<>();
+        eventLogic.register(received::add, List.of(
+            new S7PlcSubscriptionHandle("3", EventType.CYC, eventLogic),
+            new S7PlcSubscriptionHandle("4", EventType.CYC, eventLogic),
+            new S7PlcSubscriptionHandle("3", EventType.CYC, eventLogic),
+            new S7PlcSubscriptionHandle(EventType.MODE, eventLogic),
+            new S7PlcSubscriptionHandle(EventType.MODE, eventLogic)));
+        // Events are dispatched in order, so once this one arrived all others have been delivered.
+        CountDownLatch done = new CountDownLatch(1);
+        register("99", event -> done.countDown());
+
+        eventLogic.publish(cyclicEvent((short) 3));
+        eventLogic.publish(cyclicEvent((short) 4));
+        eventLogic.publish(modeEvent((short) 1));
+        eventLogic.publish(cyclicEvent((short) 99));
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(3, received.size());
+    }
+
+    private void register(EventType eventType, Consumer<PlcSubscriptionEvent> consumer) {
+        eventLogic.register(consumer, Collections.singletonList(new S7PlcSubscriptionHandle(eventType, eventLogic)));
+    }
+
+    private void register(String jobId, Consumer<PlcSubscriptionEvent> consumer) {
+        eventLogic.register(consumer, Collections.singletonList(new S7PlcSubscriptionHandle(jobId, EventType.CYC, eventLogic)));
+    }
+
+    private static S7ModeEvent modeEvent(short currentMode) {
+        return new S7ModeEvent(new S7ParameterModeTransition((short) 0, (byte) 0, (byte) 0, currentMode, (short) 0));
+    }
+
+    private static S7CyclicEvent cyclicEvent(short jobId) {
+        return new S7CyclicEvent(new DefaultPlcSubscriptionRequest(null, new LinkedHashMap<>(), null, Collections.emptyMap()),
+            jobId, new S7PayloadUserDataItemCyclicServicesPush(DataTransportErrorCode.OK,
+            DataTransportSize.BYTE_WORD_DWORD, 0, 0, Collections.emptyList()));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.s7.readwrite.protocol;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.plc4x.java.api.messages.PlcReadResponse;
+import org.apache.plc4x.java.api.model.PlcTag;
+import org.apache.plc4x.java.s7.readwrite.COTPPacketData;
+import org.apache.plc4x.java.s7.readwrite.DataTransportErrorCode;
+import org.apache.plc4x.java.s7.readwrite.DataTransportSize;
+import org.apache.plc4x.java.s7.readwrite.EventType;
+import org.apache.plc4x.java.s7.readwrite.S7AddressAny;
+import org.apache.plc4x.java.s7.readwrite.S7Message;
+import org.apache.plc4x.java.s7.readwrite.S7MessageResponseData;
+import org.apache.plc4x.java.s7.readwrite.S7MessageUserData;
+import org.apache.plc4x.java.s7.readwrite.S7ParameterModeTransition;
+import org.apache.plc4x.java.s7.readwrite.S7ParameterReadVarRequest;
+import org.apache.plc4x.java.s7.readwrite.S7ParameterReadVarResponse;
+import org.apache.plc4x.java.s7.readwrite.S7PayloadReadVarResponse;
+import org.apache.plc4x.java.s7.readwrite.S7PayloadUserData;
+import org.apache.plc4x.java.s7.readwrite.S7PayloadUserDataItemCpuFunctionMsgSubscriptionRequest;
+import org.apache.plc4x.java.s7.readwrite.S7VarPayloadDataItem;
+import org.apache.plc4x.java.s7.readwrite.S7VarRequestParameterItem;
+import org.apache.plc4x.java.s7.readwrite.S7VarRequestParameterItemAddress;
+import org.apache.plc4x.java.s7.readwrite.TPKTPacket;
+import org.apache.plc4x.java.s7.readwrite.context.S7DriverContext;
+import org.apache.plc4x.java.s7.readwrite.tag.S7StringVarLengthTag;
+import org.apache.plc4x.java.spi.ConversationContext;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadRequest;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcTagItem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Reads a var-length string with "cache-string-sizes" enabled from a simulated DB and checks
+ * how many requests it takes.
+ */
+public class S7StringSizeCacheTest {
+
+    private final byte[] db = new byte[64];
+    private SimulatedProtocolLogic protocolLogic;
+    private ConversationContext<TPKTPacket> context;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        S7DriverContext driverContext = new S7DriverContext();
+        driverContext.setCacheStringSizes(true);
+        protocolLogic = new SimulatedProtocolLogic();
+        protocolLogic.setDriverContext(driverContext);
+        EmbeddedChannel channel = new EmbeddedChannel();
+        channel.attr(S7HMuxImpl.IS_CONNECTED).set(true);
+        context = mock(ConversationContext.class);
+        when(context.getChannel()).thenReturn(channel);
+        when(context.isPassive()).thenReturn(true);
+        protocolLogic.setConversationContext(context);
+        setString(10, "abc");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        protocolLogic.close(context);
+    }
+
+    @Test
+    public void readsKnownStringSizesWithOneRequest() throws Exception {
+        assertEquals("abc", read());
+        assertEquals(2, protocolLogic.requests);
+
+        setString(10, "defgh");
+        assertEquals("defgh", read());
+        assertEquals(3, protocolLogic.requests);
+    }
+
+    @Test
+    public void readsTheSizesAgainIfTheHeaderDoesntMatch() throws Exception {
+        assertEquals("abc", read());
+
+        // The DB was changed, the string has another maximum length.
+        setString(20, "longer string");
+        assertEquals("longer string", read());
+        assertEquals(2 + 1 + 2, protocolLogic.requests);
+
+        assertEquals("longer string", read());
+        assertEquals(2 + 1 + 2 + 1, protocolLogic.requests);
+    }
+
+    @Test
+    public void forgetsTheSizesWhenTheModeChanges() throws Exception {
+        assertEquals("abc", read());
+
+        protocolLogic.decode(context, new TPKTPacket(new COTPPacketData(null, new S7MessageUserData(0,
+            new S7ParameterModeTransition((short) 0, (byte) 0, (byte) 0, (short) 0x08, (short) 0), null), true, (byte) 0)));
+        assertEquals("abc", read());
+        assertEquals(2 + 2, protocolLogic.requests);
+    }
+
+    @Test
+    public void subscribesToModeChangesItself() throws Exception {
+        assertEquals("abc", read());
+        assertEquals(List.of(EventType.MODE.getValue()), protocolLogic.subscribedEvents);
+
+        // Once is enough.
+        setString(10, "defgh");
+        assertEquals("defgh", read());
+        assertEquals(1, protocolLogic.subscribedEvents.size());
+
+        // The subscription is gone, after connecting again.
+        protocolLogic.onConnect(context);
+        assertEquals("defgh", read());
+        assertEquals(2, protocolLogic.subscribedEvents.size());
+    }
+
+    @Test
+    public void forgetsTheSizesWhenConnectingAgain() throws Exception {
+        assertEquals("abc", read());
+
+        protocolLogic.onConnect(context);
+        assertEquals("abc", read());
+        assertEquals(2 + 2, protocolLogic.requests);
+    }
+
+    private String read() throws Exception {
+        LinkedHashMap<String, PlcTagItem<PlcTag>> tags = new LinkedHashMap<>();
+        tags.put("a", new DefaultPlcTagItem<>(S7StringVarLengthTag.of("%DB1:4:STRING")));
+        PlcReadResponse response = protocolLogic.read(new DefaultPlcReadRequest(null, tags)).get(5, TimeUnit.SECONDS);
+        return response.getString("a");
+    }
+
+    private void setString(int maxLength, String value) {
+        Arrays.fill(db, (byte) 0);
+        db[4] = (byte) maxLength;
+        db[5] = (byte) value.length();
+        byte[] chars = value.getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(chars, 0, db, 6, chars.length);
+    }
+
+    /**
+     * Answers read requests with the content of the simulated DB.
+     */
+    private class SimulatedProtocolLogic extends S7ProtocolLogic {
+
+        private int requests;
+        private final List<Short> subscribedEvents = new ArrayList<>();
+
+        @Override
+        CompletableFuture<S7Message> sendInternal(S7Message request) {
+            if (request instanceof S7MessageUserData) {
+                S7PayloadUserDataItemCpuFunctionMsgSubscriptionRequest subscription =
+                    (S7PayloadUserDataItemCpuFunctionMsgSubscriptionRequest) ((S7PayloadUserData) request.getPayload()).getItems().get(0);
+                subscribedEvents.add(subscription.getSubscription());
+                return CompletableFuture.completedFuture(request);
+            }
+            requests++;
+            List<S7VarPayloadDataItem> items = new ArrayList<>();
+            for (S7VarRequestParameterItem item : ((S7ParameterReadVarRequest) request.getParameter()).getItems()) {
+                S7AddressAny address = (S7AddressAny) ((S7VarRequestParameterItemAddress) item).getAddress();
+                int length = address.getNumberOfElements() * address.getTransportSize().getSizeInBytes();
+                byte[] data = Arrays.copyOfRange(db, address.getByteAddress(), address.getByteAddress() + length);
+                items.add(new S7VarPayloadDataItem(DataTransportErrorCode.OK, DataTransportSize.BYTE_WORD_DWORD, data));
+            }
+            return CompletableFuture.completedFuture(new S7MessageResponseData(request.getTpduReference(),
+                new S7ParameterReadVarResponse((short) items.size()), new S7PayloadReadVarResponse(items), (short) 0, (short) 0));
+        }
+    }
+
+}
@@ -51,7 +51,7 @@ public class Dummy implements Message {
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
     PositionAware positionAware = writeBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = writeBuffer.isLastItem();
     writeBuffer.pushContext("Dummy");
 
     // Simple Field (dummy)
@@ -71,20 +71,18 @@ public class Dummy implements Message {
 
   @Override
   public int getLengthInBits() {
-    int lengthInBits = 0;
-    Dummy _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    // Simple field (dummy)
-    lengthInBits += 16;
+    return calculateLengthInBits(false);
+  }
 
-    return lengthInBits;
+  protected int calculateLengthInBits(boolean _lastItem) {
+    // All fields have a fixed size.
+    return 16;
   }
 
   public static Dummy staticParse(ReadBuffer readBuffer) throws ParseException {
     readBuffer.pullContext("Dummy");
     PositionAware positionAware = readBuffer;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    boolean _lastItem = readBuffer.isLastItem();
 
     int dummy =
         readSimpleField(
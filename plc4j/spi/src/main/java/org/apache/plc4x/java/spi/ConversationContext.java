@@ -31,6 +31,7 @@ import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 
 public interface ConversationContext<T> {
 
@@ -77,6 +78,26 @@ public interface ConversationContext<T> {
          */
         SendRequestContext<T> check(Predicate<T> checker);
 
+        /**
+         * correlates the response with this request by a key (e.g. an invoke-id, transaction-id or tpdu-reference).
+         * The {@code correlationKeyExtractor} is applied to the request and to every incoming message, a message
+         * with the same key as the request is looked up directly instead of checking all pending handlers.
+         * Must be called before the first {@link #unwrap}. Implementations not supporting this fall back to
+         * checking the message with the predicates only.
+         * <p>
+         * Pending requests are grouped by the identity of their extractor and every incoming message is checked
+         * against each group, so the extractor has to be a constant shared by all requests of the driver, e.g.
+         * {@code private static final ToLongFunction<ModbusTcpADU> TRANSACTION_IDENTIFIER =
+         * ModbusTcpADU::getTransactionIdentifier}. A lambda created per request works, but creates a group per
+         * pending request.
+         *
+         * @param correlationKeyExtractor constant function returning the correlation key of a message.
+         * @return this
+         */
+        default SendRequestContext<T> correlateBy(ToLongFunction<T> correlationKeyExtractor) {
+            return this;
+        }
+
         /**
          * final message handle
          *
@@ -19,6 +19,7 @@
 package org.apache.plc4x.java.spi;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageCodec;
 import org.apache.commons.codec.binary.Hex;
@@ -50,11 +51,22 @@ public abstract class GeneratedDriverByteToMessageCodec<T extends Message> exten
             WriteBufferByteBased buffer;
             if(messageOutput != null) {
                 buffer = messageOutput.serialize(packet);
+                byteBuf.writeBytes(buffer.getBytes());
             } else {
-                buffer = new WriteBufferByteBased(packet.getLengthInBytes(), byteOrder);
-                packet.serialize(buffer);
+                int lengthInBytes = packet.getLengthInBytes();
+                byteBuf.ensureWritable(lengthInBytes);
+                if (byteBuf.nioBufferCount() == 1) {
+                    // Serialize directly into the memory of the (usually pooled and direct) output buffer.
+                    buffer = new WriteBufferByteBased(byteBuf.nioBuffer(byteBuf.writerIndex(), lengthInBytes), byteOrder);
+                    packet.serialize(buffer);
+                    byteBuf.writerIndex(byteBuf.writerIndex() + buffer.getPos());
+                } else {
+                    // Composite buffers can't be exposed as one NIO buffer without copying.
+                    buffer = new WriteBufferByteBased(lengthInBytes, byteOrder);
+                    packet.serialize(buffer);
+                    byteBuf.writeBytes(buffer.getBytes());
+                }
             }
-            byteBuf.writeBytes(buffer.getBytes());
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Sending bytes to PLC for message {} as data {}", packet, Hex.encodeHexString(buffer.getBytes()));
             }
@@ -68,18 +80,20 @@ public abstract class GeneratedDriverByteToMessageCodec<T extends Message> exten
         LOGGER.trace("Receiving bytes, trying to decode Message...");
         // As long as there is data available, continue checking the content.
         while (byteBuf.readableBytes() > 0) {
-            byte[] bytes = null;
+            int packetStart = -1;
+            int packetSize = -1;
             try {
                 // Check if enough data is present to process the entire package.
-                int packetSize = getPacketSize(byteBuf);
+                packetSize = getPacketSize(byteBuf);
                 if (packetSize == -1 || packetSize > byteBuf.readableBytes()) {
                     return;
                 }
 
-                // Read the packet data into a new ReadBuffer
-                bytes = new byte[packetSize];
-                byteBuf.readBytes(bytes);
-                ReadBuffer readBuffer = new ReadBufferByteBased(bytes, byteOrder);
+                // Parse straight from the memory of the input buffer. The view stays valid after consuming
+                // the packet, as the buffer is only discarded after decode() returns.
+                packetStart = byteBuf.readerIndex();
+                ReadBuffer readBuffer = new ReadBufferByteBased(byteBuf.nioBuffer(packetStart, packetSize), byteOrder);
+                byteBuf.skipBytes(packetSize);
 
                 // Parse the packet.
                 T packet = messageInput.parse(readBuffer);
@@ -93,9 +107,9 @@ public abstract class GeneratedDriverByteToMessageCodec<T extends Message> exten
                     return;
                 }
             } catch (Exception e) {
-                if (bytes != null) {
+                if (packetStart != -1) {
                     LOGGER.warn("Error decoding package with content [{}]: {}",
-                        Hex.encodeHexString(bytes), e.getMessage(), e);
+                        ByteBufUtil.hexDump(byteBuf, packetStart, packetSize), e.getMessage(), e);
                 }
                 // Just remove any trailing junk ... if there is any.
                 removeRestOfCorruptPackage(byteBuf);
@@ -23,6 +23,8 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.MessageToMessageCodec;
+import io.netty.util.collection.LongObjectHashMap;
+import io.netty.util.collection.LongObjectMap;
 import io.vavr.control.Either;
 
 import java.util.concurrent.TimeoutException;
@@ -41,6 +43,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
@@ -49,6 +52,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 
 public class Plc4xNettyWrapper<T> extends MessageToMessageCodec<T, Object> {
 
@@ -59,6 +63,12 @@ public class Plc4xNettyWrapper<T> extends MessageToMessageCodec<T, Object> {
     private final PlcAuthentication authentication;
 
     private final Queue<HandlerRegistration> registeredHandlers;
+    /**
+     * Registrations with a correlation key, one table per key extractor. The tables are found by the identity of the
+     * extractor, so drivers pass constants to {@code correlateBy}, which keeps this at a handful of tables. Empty
+     * tables are dropped.
+     */
+    private final List<CorrelationTable> correlationTables = new ArrayList<>();
     private final boolean passive;
     private final TimeoutManager timeoutManager;
 
@@ -149,9 +159,15 @@ public class Plc4xNettyWrapper<T> extends MessageToMessageCodec<T, Object> {
     @Override
     protected void decode(ChannelHandlerContext channelHandlerContext, T payload, List<Object> list) throws Exception {
         logger.trace("Decoding {}", payload);
-        // Just iterate the list to find a suitable  Handler
+        // First try to find the handler by its correlation key
+        HandlerRegistration correlatedRegistration = findCorrelatedHandler(payload);
+        if ((correlatedRegistration != null) && handle(correlatedRegistration, payload)) {
+            // Answered, so don't keep it in its table until the key comes around again.
+            removeHandler(correlatedRegistration);
+            return;
+        }
 
-        registrations:
+        // Just iterate the list to find a suitable  Handler
         for (Iterator<HandlerRegistration> iter = this.registeredHandlers.iterator(); iter.hasNext(); ) {
             HandlerRegistration registration = iter.next();
             // Check if the handler can still be used or should be removed
@@ -167,48 +183,62 @@ public class Plc4xNettyWrapper<T> extends MessageToMessageCodec<T, Object> {
                 iter.remove();
                 continue;
             }
-            logger.trace("Checking handler {} for Object of type {}", registration, payload.getClass().getSimpleName());
-            if (registration.getExpectClazz().isInstance(payload)) {
-                logger.trace("Handler {} has right expected type {}, checking condition", registration, registration.getExpectClazz().getSimpleName());
-                Object message = payload;
-                try {
-                    // Check all Commands / Functions
-                    Deque<Either<Function<?, ?>, Predicate<?>>> commands = registration.getCommands();
-                    for (Either<Function<?, ?>, Predicate<?>> either : commands) {
-                        if (either.isLeft()) {
-                            Function unwrap = either.getLeft();
-                            message = unwrap.apply(message);
-                        } else {
-                            Predicate predicate = either.get();
-                            if (!predicate.test(message)) {
-                                // We do not match -> cannot handle
-                                logger.trace("Registration {} with predicate {} does not match object {} (currently wrapped to {})", registration, predicate,
-                                    payload.getClass().getSimpleName(), message.getClass().getSimpleName());
-                                continue registrations;
-                            }
-                        }
-                    }
-                    logger.trace("Handler {} accepts element {}, calling handle method", registration, payload);
-                    this.registeredHandlers.remove(registration);
-                    Consumer handler = registration.getPacketConsumer();
-                    handler.accept(message);
-                    // Confirm that it was handled!
-                    registration.confirmHandled();
-                } catch (Exception e) {
-                    logger.trace("Failure while processing payload {} with handler {}", message, registration, e);
-                    BiConsumer biConsumer = registration.getErrorConsumer();
-                    if(biConsumer != null) {
-                        biConsumer.accept(message, e);
-                    }
-                    registration.confirmError();
-                }
+            if (handle(registration, payload)) {
                 return;
             }
         }
-        logger.trace("None of {} registered handlers could handle message {}, using default decode method", this.registeredHandlers.size(), payload);
+        if (logger.isTraceEnabled()) {
+            logger.trace("None of {} registered handlers could handle message {}, using default decode method", this.registeredHandlers.size(), payload);
+        }
         protocolBase.decode(new DefaultConversationContext<>(this::registerHandler, channelHandlerContext, authentication, passive), payload);
     }
 
+    /**
+     * Runs the commands of the registration against the payload and passes the result to its consumer.
+     *
+     * @return true if the registration accepted the payload (even if handling it failed), false if it doesn't match.
+     */
+    private boolean handle(HandlerRegistration registration, T payload) {
+        logger.trace("Checking handler {} for Object of type {}", registration, payload.getClass().getSimpleName());
+        if (!registration.getExpectClazz().isInstance(payload)) {
+            return false;
+        }
+        logger.trace("Handler {} has right expected type {}, checking condition", registration, registration.getExpectClazz().getSimpleName());
+        Object message = payload;
+        try {
+            // Check all Commands / Functions
+            Deque<Either<Function<?, ?>, Predicate<?>>> commands = registration.getCommands();
+            for (Either<Function<?, ?>, Predicate<?>> either : commands) {
+                if (either.isLeft()) {
+                    Function unwrap = either.getLeft();
+                    message = unwrap.apply(message);
+                } else {
+                    Predicate predicate = either.get();
+                    if (!predicate.test(message)) {
+                        // We do not match -> cannot handle
+                        logger.trace("Registration {} with predicate {} does not match object {} (currently wrapped to {})", registration, predicate,
+                            payload.getClass().getSimpleName(), message.getClass().getSimpleName());
+                        return false;
+                    }
+                }
+            }
+            logger.trace("Handler {} accepts element {}, calling handle method", registration, payload);
+            removeHandler(registration);
+            Consumer handler = registration.getPacketConsumer();
+            handler.accept(message);
+            // Confirm that it was handled!
+            registration.confirmHandled();
+        } catch (Exception e) {
+            logger.trace("Failure while processing payload {} with handler {}", message, registration, e);
+            BiConsumer biConsumer = registration.getErrorConsumer();
+            if(biConsumer != null) {
+                biConsumer.accept(message, e);
+            }
+            registration.confirmError();
+        }
+        return true;
+    }
+
     @Override
     public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
         // If the connection has just been established, start setting up the connection
@@ -258,16 +288,146 @@ public class Plc4xNettyWrapper<T> extends MessageToMessageCodec<T, Object> {
             handler::confirmHandled,
             handler::confirmError,
             handler::cancel,
-            handler.getTimeout()
+            handler.getTimeout(),
+            handler.getCorrelationKeyExtractor(),
+            handler.getCorrelationKey()
         );
         deferred.set(registration);
-        registeredHandlers.add(registration);
+        if (!registration.isCorrelated() || !addCorrelatedHandler(registration)) {
+            registeredHandlers.add(registration);
+        }
+        // Callers cancel the registration they got, which will never be answered, so drop our copy right away
+        // instead of keeping it (and its timeout) until it times out.
+        handler.whenCancelled(() -> {
+            completionCallback.complete();
+            removeHandler(registration);
+        });
+    }
+
+    /**
+     * @return number of registrations waiting for a response.
+     */
+    int getNumberOfPendingHandlers() {
+        int pending = registeredHandlers.size();
+        synchronized (correlationTables) {
+            for (int i = 0; i < correlationTables.size(); i++) {
+                pending += correlationTables.get(i).registrations.size();
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * @return number of correlation-key extractors with pending registrations.
+     */
+    int getNumberOfCorrelationTables() {
+        synchronized (correlationTables) {
+            return correlationTables.size();
+        }
+    }
+
+    /**
+     * Adds the registration to the table of its correlation-key extractor.
+     *
+     * @return false if another pending registration already uses the same key, in this case the registration has
+     * to be added to the list of handlers checked by predicate.
+     */
+    private boolean addCorrelatedHandler(HandlerRegistration registration) {
+        synchronized (correlationTables) {
+            CorrelationTable table = null;
+            for (int i = 0; i < correlationTables.size(); i++) {
+                if (correlationTables.get(i).keyExtractor == registration.getCorrelationKeyExtractor()) {
+                    table = correlationTables.get(i);
+                    break;
+                }
+            }
+            if (table == null) {
+                table = new CorrelationTable(registration.getCorrelationKeyExtractor());
+                correlationTables.add(table);
+            }
+            HandlerRegistration existing = table.registrations.get(registration.getCorrelationKey());
+            if ((existing != null) && !existing.isCancelled() && !existing.isDone()) {
+                logger.debug("Correlation key {} of {} is already used by {}", registration.getCorrelationKey(), registration, existing);
+                return false;
+            }
+            table.registrations.put(registration.getCorrelationKey(), registration);
+            return true;
+        }
+    }
+
+    /**
+     * Looks up the pending registration waiting for a packet with the correlation key of the payload.
+     * Registrations which were cancelled or are done already are dropped on the way.
+     */
+    private HandlerRegistration findCorrelatedHandler(T payload) {
+        synchronized (correlationTables) {
+            for (int i = 0; i < correlationTables.size(); i++) {
+                CorrelationTable table = correlationTables.get(i);
+                if (table.registrations.isEmpty()) {
+                    continue;
+                }
+                long key;
+                try {
+                    key = ((ToLongFunction<Object>) table.keyExtractor).applyAsLong(payload);
+                } catch (RuntimeException e) {
+                    // The extractor doesn't apply to this type of message.
+                    logger.trace("Unable to extract correlation key from {}", payload, e);
+                    continue;
+                }
+                HandlerRegistration registration = table.registrations.get(key);
+                if (registration == null) {
+                    continue;
+                }
+                if (registration.isCancelled() || registration.isDone()) {
+                    logger.debug("Removing {} as it was cancelled or is already done", registration);
+                    if (removeFromTable(i, key)) {
+                        i--;
+                    }
+                    continue;
+                }
+                return registration;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Removes the registration with the given key from the table at the given index and drops the table once it is
+     * empty, so extractors which are no longer used don't stay in the list forever. Must hold the lock of
+     * {@link #correlationTables}.
+     *
+     * @return true if the table was dropped.
+     */
+    private boolean removeFromTable(int index, long key) {
+        CorrelationTable table = correlationTables.get(index);
+        table.registrations.remove(key);
+        if (!table.registrations.isEmpty()) {
+            return false;
+        }
+        correlationTables.remove(index);
+        return true;
+    }
+
+    private void removeHandler(HandlerRegistration registration) {
+        if (registration.isCorrelated()) {
+            synchronized (correlationTables) {
+                for (int i = 0; i < correlationTables.size(); i++) {
+                    CorrelationTable table = correlationTables.get(i);
+                    if ((table.keyExtractor == registration.getCorrelationKeyExtractor()) &&
+                        (table.registrations.get(registration.getCorrelationKey()) == registration)) {
+                        removeFromTable(i, registration.getCorrelationKey());
+                        return;
+                    }
+                }
+            }
+        }
+        registeredHandlers.remove(registration);
     }
 
     private Consumer<TimeoutException> onTimeout(AtomicReference<HandlerRegistration> reference, Consumer<TimeoutException> onTimeoutConsumer) {
         return timeoutException -> {
             final HandlerRegistration registration = reference.get();
-            registeredHandlers.remove(registration);
+            removeHandler(registration);
             // Only call the timeout handler, if there is one.
             if(onTimeoutConsumer != null) {
                 onTimeoutConsumer.accept(timeoutException);
@@ -276,4 +436,17 @@ public class Plc4xNettyWrapper<T> extends MessageToMessageCodec<T, Object> {
         };
     }
 
+    /**
+     * Pending registrations of one correlation-key extractor, indexed by their key.
+     */
+    private static final class CorrelationTable {
+
+        private final ToLongFunction<?> keyExtractor;
+        private final LongObjectMap<HandlerRegistration> registrations = new LongObjectHashMap<>();
+
+        private CorrelationTable(ToLongFunction<?> keyExtractor) {
+            this.keyExtractor = keyExtractor;
+        }
+    }
+
 }
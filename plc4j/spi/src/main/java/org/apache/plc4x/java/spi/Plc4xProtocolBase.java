@@ -22,7 +22,11 @@ import org.apache.commons.lang3.NotImplementedException;
 import org.apache.plc4x.java.api.messages.*;
 import org.apache.plc4x.java.spi.connection.PlcTagHandler;
 import org.apache.plc4x.java.spi.context.DriverContext;
+import org.apache.plc4x.java.spi.runtime.DriverRuntime;
+import org.apache.plc4x.java.spi.transaction.RequestTransactionManager;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 public abstract class Plc4xProtocolBase<T> {
@@ -31,6 +35,8 @@ public abstract class Plc4xProtocolBase<T> {
 
     protected DriverContext driverContext;
 
+    protected DriverRuntime driverRuntime;
+
     public void setDriverContext(DriverContext driverContext) {
         this.driverContext = driverContext;
     }
@@ -39,6 +45,30 @@ public abstract class Plc4xProtocolBase<T> {
         return driverContext;
     }
 
+    /**
+     * Runtime providing shared threads the protocol should use instead of creating its own.
+     * Is null, if the connection was configured to use dedicated resources.
+     */
+    public void setDriverRuntime(DriverRuntime driverRuntime) {
+        this.driverRuntime = driverRuntime;
+    }
+
+    public DriverRuntime getDriverRuntime() {
+        return driverRuntime;
+    }
+
+    /**
+     * Lets the given transaction manager start its transactions on the worker threads of the driver runtime.
+     * If the connection was configured to use dedicated resources, the manager keeps using a thread of its own.
+     *
+     * @param tm transaction manager of this protocol.
+     */
+    protected void useDriverRuntimeExecutor(RequestTransactionManager tm) {
+        if (driverRuntime != null) {
+            tm.setExecutor(driverRuntime.getWorkerExecutor());
+        }
+    }
+
     public void setConversationContext(ConversationContext<T> conversationContext) {
         this.conversationContext = conversationContext;
     }
@@ -61,6 +91,15 @@ public abstract class Plc4xProtocolBase<T> {
 
     public abstract PlcTagHandler getTagHandler();
 
+    /**
+     * Driver specific information about the connection, provided by the connection metadata.
+     *
+     * @return the properties by their names, empty by default.
+     */
+    public Map<String, Object> getConnectionProperties() {
+        return Collections.emptyMap();
+    }
+
     /**
      * Default callback, called if an incoming message can't be correlated with an expected response.
      *
@@ -79,6 +118,18 @@ public abstract class Plc4xProtocolBase<T> {
         throw new NotImplementedException("");
     }
 
+    /**
+     * Called once for every request sent when executing a prepared read request. Drivers able to re-use the
+     * encoded form of a request return a request carrying it, which is then passed to {@link #read(PlcReadRequest)}
+     * with every execution. It has to provide the same tags as the given request.
+     *
+     * @param readRequest request which will be read repeatedly.
+     * @return request passed to {@link #read(PlcReadRequest)} instead (per default the given one).
+     */
+    public PlcReadRequest prepareRead(PlcReadRequest readRequest) {
+        return readRequest;
+    }
+
     public CompletableFuture<PlcWriteResponse> write(PlcWriteRequest writeRequest) {
         throw new NotImplementedException("");
     }
@@ -35,9 +35,13 @@ public class FieldReaderConst<T> implements FieldCommons {
         LOGGER.debug("reading field {}", logicalName);
         T constValue = switchParseByteOrderIfNecessary(() -> dataReader.read(logicalName, readerArgs), dataReader, extractByteOrder(readerArgs).orElse(null));
         if (!Objects.equals(constValue, expectedValue)) {
-            throw new ParseException("Actual value " + constValue + " doesn't match expected " + expectedValue + ". Byte position: " + dataReader.getPos());
+            throw mismatch(constValue, expectedValue, dataReader.getPos());
         }
         return constValue;
     }
 
+    static ParseException mismatch(Object constValue, Object expectedValue, int pos) {
+        return new ParseException("Actual value " + constValue + " doesn't match expected " + expectedValue + ". Byte position: " + pos);
+    }
+
 }
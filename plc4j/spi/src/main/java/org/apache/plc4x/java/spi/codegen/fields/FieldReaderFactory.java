@@ -85,6 +85,117 @@ public class FieldReaderFactory {
         return new FieldReaderConst<T>().readConstField(logicalName, dataReader, expectedValue, readerArgs);
     }
 
+    /*
+     * Primitive variants of the const and reserved fields for code generated with the option "generate-direct-field-reads".
+     * The value is read directly from the read buffer, so there is no data reader, no field reader and, as long as the
+     * value matches, no boxing involved.
+     */
+
+    public static boolean checkConstField(String logicalName, boolean value, boolean expectedValue, ReadBuffer readBuffer) throws ParseException {
+        if (value != expectedValue) {
+            throw FieldReaderConst.mismatch(value, expectedValue, readBuffer.getPos());
+        }
+        return value;
+    }
+
+    public static byte checkConstField(String logicalName, byte value, byte expectedValue, ReadBuffer readBuffer) throws ParseException {
+        if (value != expectedValue) {
+            throw FieldReaderConst.mismatch(value, expectedValue, readBuffer.getPos());
+        }
+        return value;
+    }
+
+    public static short checkConstField(String logicalName, short value, short expectedValue, ReadBuffer readBuffer) throws ParseException {
+        if (value != expectedValue) {
+            throw FieldReaderConst.mismatch(value, expectedValue, readBuffer.getPos());
+        }
+        return value;
+    }
+
+    public static int checkConstField(String logicalName, int value, int expectedValue, ReadBuffer readBuffer) throws ParseException {
+        if (value != expectedValue) {
+            throw FieldReaderConst.mismatch(value, expectedValue, readBuffer.getPos());
+        }
+        return value;
+    }
+
+    public static long checkConstField(String logicalName, long value, long expectedValue, ReadBuffer readBuffer) throws ParseException {
+        if (value != expectedValue) {
+            throw FieldReaderConst.mismatch(value, expectedValue, readBuffer.getPos());
+        }
+        return value;
+    }
+
+    public static float checkConstField(String logicalName, float value, float expectedValue, ReadBuffer readBuffer) throws ParseException {
+        if (Float.compare(value, expectedValue) != 0) {
+            throw FieldReaderConst.mismatch(value, expectedValue, readBuffer.getPos());
+        }
+        return value;
+    }
+
+    public static double checkConstField(String logicalName, double value, double expectedValue, ReadBuffer readBuffer) throws ParseException {
+        if (Double.compare(value, expectedValue) != 0) {
+            throw FieldReaderConst.mismatch(value, expectedValue, readBuffer.getPos());
+        }
+        return value;
+    }
+
+    public static Boolean checkReservedField(String logicalName, boolean value, boolean referenceValue) {
+        if (value != referenceValue) {
+            FieldReaderReserved.logMismatch(logicalName, value, referenceValue);
+            return value;
+        }
+        return null;
+    }
+
+    public static Byte checkReservedField(String logicalName, byte value, byte referenceValue) {
+        if (value != referenceValue) {
+            FieldReaderReserved.logMismatch(logicalName, value, referenceValue);
+            return value;
+        }
+        return null;
+    }
+
+    public static Short checkReservedField(String logicalName, short value, short referenceValue) {
+        if (value != referenceValue) {
+            FieldReaderReserved.logMismatch(logicalName, value, referenceValue);
+            return value;
+        }
+        return null;
+    }
+
+    public static Integer checkReservedField(String logicalName, int value, int referenceValue) {
+        if (value != referenceValue) {
+            FieldReaderReserved.logMismatch(logicalName, value, referenceValue);
+            return value;
+        }
+        return null;
+    }
+
+    public static Long checkReservedField(String logicalName, long value, long referenceValue) {
+        if (value != referenceValue) {
+            FieldReaderReserved.logMismatch(logicalName, value, referenceValue);
+            return value;
+        }
+        return null;
+    }
+
+    public static Float checkReservedField(String logicalName, float value, float referenceValue) {
+        if (Float.compare(value, referenceValue) != 0) {
+            FieldReaderReserved.logMismatch(logicalName, value, referenceValue);
+            return value;
+        }
+        return null;
+    }
+
+    public static Double checkReservedField(String logicalName, double value, double referenceValue) {
+        if (Double.compare(value, referenceValue) != 0) {
+            FieldReaderReserved.logMismatch(logicalName, value, referenceValue);
+            return value;
+        }
+        return null;
+    }
+
     public static <T> T readDiscriminatorField(String logicalName, DataReader<T> dataReader, WithReaderArgs... readerArgs) throws ParseException {
         return new FieldReaderDiscriminator<T>().readDiscriminatorField(logicalName, dataReader, readerArgs);
     }
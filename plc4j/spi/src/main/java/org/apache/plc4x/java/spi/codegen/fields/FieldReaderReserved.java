@@ -35,10 +35,14 @@ public class FieldReaderReserved<T> implements FieldCommons {
         LOGGER.debug("reading field {}", logicalName);
         T reserved = dataReader.read(logicalName, readerArgs);
         if (!Objects.equals(reserved, referenceValue)) {
-            LOGGER.info("Expected constant value {} but got {} for reserved field {}.", referenceValue, reserved, logicalName);
+            logMismatch(logicalName, reserved, referenceValue);
             return reserved;
         }
         return null;
     }
 
+    static void logMismatch(String logicalName, Object reserved, Object referenceValue) {
+        LOGGER.info("Expected constant value {} but got {} for reserved field {}.", referenceValue, reserved, logicalName);
+    }
+
 }
@@ -19,7 +19,6 @@
 package org.apache.plc4x.java.spi.codegen.fields;
 
 import org.apache.plc4x.java.spi.codegen.FieldCommons;
-import org.apache.plc4x.java.spi.codegen.ThreadLocalHelper;
 import org.apache.plc4x.java.spi.codegen.io.DataWriter;
 import org.apache.plc4x.java.spi.generation.*;
 import org.slf4j.Logger;
@@ -45,7 +44,7 @@ public class FieldWriterArray<T> implements FieldCommons {
                 dataWriter.pushContext(logicalName, WithReaderWriterArgs.WithRenderAsList(true));
                 for (int curItem = 0; curItem < values.size(); curItem++) {
                     T value = values.get(curItem);
-                    ThreadLocalHelper.lastItemThreadLocal.set(curItem == values.size() - 1);
+                    dataWriter.getWriteBuffer().setLastItem(curItem == values.size() - 1);
                     dataWriter.write("value", value, writerArgs);
                 }
                 dataWriter.popContext(logicalName, WithReaderWriterArgs.WithRenderAsList(true));
@@ -60,7 +59,7 @@ public class FieldWriterArray<T> implements FieldCommons {
                 writeBuffer.pushContext(logicalName, WithReaderWriterArgs.WithRenderAsList(true));
                 for (int curItem = 0; curItem < values.size(); curItem++) {
                     Message value = values.get(curItem);
-                    ThreadLocalHelper.lastItemThreadLocal.set(curItem == values.size() - 1);
+                    writeBuffer.setLastItem(curItem == values.size() - 1);
                     value.serialize(writeBuffer);
                 }
                 writeBuffer.popContext(logicalName, WithReaderWriterArgs.WithRenderAsList(true));
@@ -16,11 +16,16 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-package org.apache.plc4x.java.spi.codegen;
+package org.apache.plc4x.java.spi.codegen.io;
 
-public class ThreadLocalHelper {
+/**
+ * Tells an element of an array, if it is the last one, as some formats handle the last element differently (e.g. no
+ * padding). Array fields set this on the buffer before reading or writing each element.
+ */
+public interface LastItemAware {
+
+    boolean isLastItem();
 
-    public static final ThreadLocal<Boolean> lastItemThreadLocal = ThreadLocal.withInitial(() -> false);
-    public static final ThreadLocal<Integer> curItemThreadLocal = ThreadLocal.withInitial(() -> 0);
+    void setLastItem(boolean lastItem);
 
 }
@@ -44,9 +44,12 @@ import org.apache.plc4x.java.spi.values.PlcValueHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -145,6 +148,11 @@ public abstract class AbstractPlcConnection implements PlcConnection, PlcConnect
         return canBrowse;
     }
 
+    @Override
+    public Map<String, Object> getProperties() {
+        return (protocol != null) ? protocol.getConnectionProperties() : Collections.emptyMap();
+    }
+
     public PlcTagHandler getPlcTagHandler() {
         return this.tagHandler;
     }
@@ -206,9 +214,41 @@ public abstract class AbstractPlcConnection implements PlcConnection, PlcConnect
     }
 
     @Override
-    public CompletableFuture<PlcReadResponse> read(PlcReadRequest readRequest) {
+    public PreparedPlcReadRequest prepare(PlcReadRequest readRequest) {
+        if (protocol == null) {
+            return PlcReader.super.prepare(readRequest);
+        }
         PlcReadRequest filteredReadRequest = getFilteredReadRequest((DefaultPlcReadRequest) readRequest);
-        return internalRead(filteredReadRequest)
+        List<PlcReadRequest> subRequests = (optimizer != null) ?
+            optimizer.prepareRead(filteredReadRequest, protocol) : Collections.singletonList(filteredReadRequest);
+        List<PlcReadRequest> preparedSubRequests = new ArrayList<>(subRequests.size());
+        for (PlcReadRequest subRequest : subRequests) {
+            PlcReadRequest preparedSubRequest = protocol.prepareRead(subRequest);
+            // If the request wasn't split up, the prepared request takes its place.
+            if (subRequest == filteredReadRequest) {
+                filteredReadRequest = preparedSubRequest;
+            }
+            preparedSubRequests.add(preparedSubRequest);
+        }
+        return new DefaultPreparedPlcReadRequest(this, (DefaultPlcReadRequest) readRequest,
+            filteredReadRequest, preparedSubRequests);
+    }
+
+    @Override
+    public CompletableFuture<PlcReadResponse> read(PlcReadRequest readRequest) {
+        final PlcReadRequest filteredReadRequest;
+        final CompletableFuture<PlcReadResponse> future;
+        // Prepared requests have already been filtered and split up.
+        if ((readRequest instanceof DefaultPreparedPlcReadRequest) &&
+            (((DefaultPreparedPlcReadRequest) readRequest).getSubRequests() != null)) {
+            DefaultPreparedPlcReadRequest preparedReadRequest = (DefaultPreparedPlcReadRequest) readRequest;
+            filteredReadRequest = preparedReadRequest.getFilteredRequest();
+            future = internalRead(filteredReadRequest, preparedReadRequest.getSubRequests());
+        } else {
+            filteredReadRequest = getFilteredReadRequest((DefaultPlcReadRequest) readRequest);
+            future = internalRead(filteredReadRequest);
+        }
+        return future
             .thenApply(filteredReadResponse -> {
                 // Shortcut for the case that all tags were valid.
                 if(readRequest.getNumberOfTags() == filteredReadRequest.getNumberOfTags()) {
@@ -218,7 +258,7 @@ public abstract class AbstractPlcConnection implements PlcConnection, PlcConnect
                 Map<String, PlcResponseItem<PlcValue>> values = new HashMap<>();
                 for (String tagName : readRequest.getTagNames()) {
                     // If the tag was correct, then we expect a response in the response.
-                    if(filteredReadRequest.getTagResponseCode(tagName) != null) {
+                    if(readRequest.getTagResponseCode(tagName) == PlcResponseCode.OK) {
                         values.put(tagName, ((DefaultPlcReadResponse) filteredReadResponse).getPlcResponseItem(tagName));
                     }
                     // In all other cases forward the initial error to the final output.
@@ -237,6 +277,13 @@ public abstract class AbstractPlcConnection implements PlcConnection, PlcConnect
         return protocol.read(readRequest);
     }
 
+    protected CompletableFuture<PlcReadResponse> internalRead(PlcReadRequest readRequest, List<PlcReadRequest> subRequests) {
+        if(optimizer != null) {
+            return optimizer.optimizedRead(readRequest, subRequests, protocol);
+        }
+        return protocol.read(subRequests.get(0));
+    }
+
     @Override
     public CompletableFuture<PlcWriteResponse> write(PlcWriteRequest writeRequest) {
         PlcWriteRequest filteredWriteRequest = getFilteredWriteRequest((DefaultPlcWriteRequest) writeRequest);
@@ -22,6 +22,7 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelPipeline;
 import org.apache.plc4x.java.api.exceptions.PlcConnectionException;
+import org.apache.plc4x.java.spi.runtime.DriverRuntime;
 
 public interface ChannelFactory {
 
@@ -39,4 +40,16 @@ public interface ChannelFactory {
         // Extending classes should implement their logic here
     }
 
+    /**
+     * Runtime whose shared resources the channels (and the protocol stack on top of them) should use.
+     * If null, every connection creates its own resources.
+     */
+    default void setDriverRuntime(DriverRuntime driverRuntime) {
+        // By default do nothing for compatibility
+    }
+
+    default DriverRuntime getDriverRuntime() {
+        return null;
+    }
+
 }
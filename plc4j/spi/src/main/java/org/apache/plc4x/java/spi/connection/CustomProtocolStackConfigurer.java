@@ -31,11 +31,13 @@ import org.apache.plc4x.java.api.listener.EventListener;
 import org.apache.plc4x.java.spi.EventListenerMessageCodec;
 import org.apache.plc4x.java.spi.Plc4xNettyWrapper;
 import org.apache.plc4x.java.spi.Plc4xProtocolBase;
+import org.apache.plc4x.java.spi.TimeoutManager;
 import org.apache.plc4x.java.spi.context.DriverContext;
 import org.apache.plc4x.java.spi.generation.ByteOrder;
 import org.apache.plc4x.java.spi.generation.Message;
 import org.apache.plc4x.java.spi.generation.MessageInput;
 import org.apache.plc4x.java.spi.netty.NettyHashTimerTimeoutManager;
+import org.apache.plc4x.java.spi.runtime.DriverRuntime;
 
 import java.util.List;
 import java.util.function.Consumer;
@@ -94,17 +96,27 @@ public class CustomProtocolStackConfigurer<BASE_PACKET_CLASS extends Message> im
     public Plc4xProtocolBase<BASE_PACKET_CLASS> configurePipeline(PlcConnectionConfiguration configuration, ChannelPipeline pipeline,
                                                                   PlcAuthentication authentication, boolean passive,
                                                                   List<EventListener> listeners) {
+        return configurePipeline(configuration, pipeline, authentication, passive, listeners, null);
+    }
+
+    /** Applies the given Stack to the Pipeline, using the shared resources of the runtime if one is given */
+    @Override
+    public Plc4xProtocolBase<BASE_PACKET_CLASS> configurePipeline(PlcConnectionConfiguration configuration, ChannelPipeline pipeline,
+                                                                  PlcAuthentication authentication, boolean passive,
+                                                                  List<EventListener> listeners, DriverRuntime driverRuntime) {
         if (this.encryptionHandler != null) {
             pipeline.addLast(this.encryptionHandler);
         }
         pipeline.addLast(getMessageCodec(configuration));
         Plc4xProtocolBase<BASE_PACKET_CLASS> protocol = configure(configuration, this.protocol.apply(configuration));
+        protocol.setDriverRuntime(driverRuntime);
         DriverContext driverContext = this.driverContext.apply(configuration);
         if (driverContext != null) {
             protocol.setDriverContext(driverContext);
         }
         pipeline.addLast(new EventListenerMessageCodec(listeners));
-        Plc4xNettyWrapper<BASE_PACKET_CLASS> context = new Plc4xNettyWrapper<>(new NettyHashTimerTimeoutManager(), pipeline, passive, protocol, authentication, basePacketClass);
+        TimeoutManager timeoutManager = (driverRuntime != null) ? driverRuntime.createTimeoutManager() : new NettyHashTimerTimeoutManager();
+        Plc4xNettyWrapper<BASE_PACKET_CLASS> context = new Plc4xNettyWrapper<>(timeoutManager, pipeline, passive, protocol, authentication, basePacketClass);
         pipeline.addLast(context);
         return protocol;
     }
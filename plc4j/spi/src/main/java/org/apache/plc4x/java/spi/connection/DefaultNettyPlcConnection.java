@@ -282,7 +282,7 @@ public class DefaultNettyPlcConnection extends AbstractPlcConnection implements
 
     private void setupProtocol(ChannelPipeline pipeline) {
         setProtocol(stackConfigurer.configurePipeline(configuration, pipeline, getAuthentication(),
-            channelFactory.isPassive(), listeners));
+            channelFactory.isPassive(), listeners, channelFactory.getDriverRuntime()));
     }
 
     protected void sendChannelCreatedEvent() {
@@ -36,6 +36,8 @@ import org.apache.plc4x.java.spi.generation.Message;
 import org.apache.plc4x.java.spi.metadata.DefaultOption;
 import org.apache.plc4x.java.spi.metadata.DefaultOptionMetadata;
 import org.apache.plc4x.java.spi.optimizer.BaseOptimizer;
+import org.apache.plc4x.java.spi.runtime.DriverRuntime;
+import org.apache.plc4x.java.spi.runtime.DriverRuntimeConfiguration;
 import org.apache.plc4x.java.spi.transport.Transport;
 import org.apache.plc4x.java.spi.values.DefaultPlcValueHandler;
 import org.apache.plc4x.java.spi.values.PlcValueHandler;
@@ -285,6 +287,15 @@ public abstract class GeneratedDriverBase<BASE_PACKET extends Message> implement
         return null;
     }
 
+    /**
+     * Runtime shared by all connections of this driver, unless they opt out with {@code shared-runtime=false}.
+     *
+     * @return the runtime to use or null, if each connection should create its own resources.
+     */
+    protected DriverRuntime getDriverRuntime() {
+        return DriverRuntime.getShared();
+    }
+
     protected PlcValueHandler getValueHandler() {
         return new DefaultPlcValueHandler();
     }
@@ -299,6 +310,20 @@ public abstract class GeneratedDriverBase<BASE_PACKET extends Message> implement
         // Override in derived drivers.
     }
 
+    /**
+     * Gives drivers the option to wrap the channel factory created by the transport, e.g. to share one
+     * physical connection between several {@link PlcConnection}s.
+     *
+     * @param channelFactory  channel factory created by the transport.
+     * @param transportConfig transport part of the connection string (e.g. "host:port").
+     * @param configuration   configuration of the connection.
+     * @return the channel factory the connection uses.
+     */
+    protected ChannelFactory wrapChannelFactory(ChannelFactory channelFactory, String transportConfig,
+                                                PlcConnectionConfiguration configuration) {
+        return channelFactory;
+    }
+
     @Override
     public PlcConnection getConnection(String connectionString) throws PlcConnectionException {
         return getConnection(connectionString, null);
@@ -367,8 +392,21 @@ public abstract class GeneratedDriverBase<BASE_PACKET extends Message> implement
         if (channelFactory == null) {
             throw new PlcConnectionException("Unable to get channel factory from url " + transportConfig);
         }
+        channelFactory = wrapChannelFactory(channelFactory, transportConfig, configuration);
         configure(configuration, channelFactory);
 
+        // Unless the connection explicitly opts out, use the threads shared by all connections.
+        DriverRuntimeConfiguration runtimeConfiguration = configurationFactory
+            .createConfiguration(DriverRuntimeConfiguration.class, protocolCode, transportCode, transportConfig, paramString);
+        if (runtimeConfiguration.isSharedRuntime()) {
+            DriverRuntime driverRuntime = getDriverRuntime();
+            if (driverRuntime != null) {
+                driverRuntime = driverRuntime.withTimeoutTimer(
+                    runtimeConfiguration.getTimeoutTimer(), runtimeConfiguration.getTimeoutTimerTick());
+            }
+            channelFactory.setDriverRuntime(driverRuntime);
+        }
+
         // Give drivers the option to customize the channel.
         initializePipeline(channelFactory);
 
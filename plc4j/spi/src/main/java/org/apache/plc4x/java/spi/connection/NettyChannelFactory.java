@@ -25,6 +25,7 @@ import io.netty.channel.ChannelHandler;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import org.apache.plc4x.java.api.exceptions.PlcConnectionException;
+import org.apache.plc4x.java.spi.runtime.DriverRuntime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,6 +37,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * Adapter with sensible defaults for a Netty Based Channel Factory.
  * <p>
  * By Default Nettys {@link NioEventLoopGroup} is used.
+ * If a {@link DriverRuntime} is set, its shared event-loop group is used instead of creating one per channel.
  * Transports which have to use a different EventLoopGroup have to override {@link #getEventLoopGroup()}.
  */
 public abstract class NettyChannelFactory implements ChannelFactory {
@@ -47,6 +49,8 @@ public abstract class NettyChannelFactory implements ChannelFactory {
     private final SocketAddress localAddress;
     private final SocketAddress remoteAddress;
 
+    private DriverRuntime driverRuntime;
+
     protected NettyChannelFactory(SocketAddress remoteAddress) {
         this(null, remoteAddress);
     }
@@ -90,6 +94,9 @@ public abstract class NettyChannelFactory implements ChannelFactory {
      * Transports which have to use a different EventLoopGroup have to override {#getEventLoopGroup()}.
      */
     public EventLoopGroup getEventLoopGroup() {
+        if (driverRuntime != null) {
+            return driverRuntime.getEventLoopGroup();
+        }
         // NOTE: Per default netty creates two threads per cpu core. However, we are not running a server but usually
         // are expecting only a request for a response, Netty also cleans up idle threads in the group, so we're
         // setting this to a low number as a test, if this proves to not cause issues, we'll leave it. If there are
@@ -102,10 +109,12 @@ public abstract class NettyChannelFactory implements ChannelFactory {
         try {
             Bootstrap bootstrap = createBootstrap();
 
-            EventLoopGroup workerGroup = getEventLoopGroup();
-            if (workerGroup != null) {
-                bootstrap.group(workerGroup);
+            EventLoopGroup group = getEventLoopGroup();
+            if (group != null) {
+                bootstrap.group(group);
             }
+            // The shared group outlives the channel, so we must never shut it down here.
+            final EventLoopGroup workerGroup = isSharedEventLoopGroup(group) ? null : group;
 
             bootstrap.channel(getChannel());
             // Callback to allow subclasses to modify the Bootstrap
@@ -153,6 +162,20 @@ public abstract class NettyChannelFactory implements ChannelFactory {
         }
     }
 
+    @Override
+    public void setDriverRuntime(DriverRuntime driverRuntime) {
+        this.driverRuntime = driverRuntime;
+    }
+
+    @Override
+    public DriverRuntime getDriverRuntime() {
+        return driverRuntime;
+    }
+
+    private boolean isSharedEventLoopGroup(EventLoopGroup group) {
+        return (group != null) && (driverRuntime != null) && (group == driverRuntime.getEventLoopGroup());
+    }
+
     @Override
     public void closeEventLoopForChannel(Channel channel) {
         if (eventLoops.containsKey(channel)) {
@@ -161,6 +184,8 @@ public abstract class NettyChannelFactory implements ChannelFactory {
             eventLoops.remove(channel);
             eventExecutors.shutdownGracefully().awaitUninterruptibly(2000);
             logger.info("Worker Group was closed successfully!");
+        } else if (driverRuntime != null) {
+            logger.debug("Channel {} uses the shared event loop group, nothing to close", channel);
         } else {
             logger.warn("Trying to remove EventLoop for Channel {} but have none stored", channel);
         }
@@ -24,6 +24,7 @@ import org.apache.plc4x.java.spi.configuration.PlcConnectionConfiguration;
 import org.apache.plc4x.java.api.listener.EventListener;
 import org.apache.plc4x.java.spi.Plc4xProtocolBase;
 import org.apache.plc4x.java.spi.generation.Message;
+import org.apache.plc4x.java.spi.runtime.DriverRuntime;
 
 import java.util.List;
 
@@ -31,4 +32,12 @@ public interface ProtocolStackConfigurer<T extends Message> {
 
     Plc4xProtocolBase<T> configurePipeline(PlcConnectionConfiguration configuration, ChannelPipeline pipeline, PlcAuthentication authentication, boolean passive, List<EventListener> listeners);
 
+    /**
+     * Same as {@link #configurePipeline(PlcConnectionConfiguration, ChannelPipeline, PlcAuthentication, boolean, List)},
+     * but allows the stack to use the shared resources of the given runtime (which may be null).
+     */
+    default Plc4xProtocolBase<T> configurePipeline(PlcConnectionConfiguration configuration, ChannelPipeline pipeline, PlcAuthentication authentication, boolean passive, List<EventListener> listeners, DriverRuntime driverRuntime) {
+        return configurePipeline(configuration, pipeline, authentication, passive, listeners);
+    }
+
 }
@@ -31,12 +31,14 @@ import org.apache.plc4x.java.api.listener.EventListener;
 import org.apache.plc4x.java.spi.EventListenerMessageCodec;
 import org.apache.plc4x.java.spi.Plc4xNettyWrapper;
 import org.apache.plc4x.java.spi.Plc4xProtocolBase;
+import org.apache.plc4x.java.spi.TimeoutManager;
 import org.apache.plc4x.java.spi.context.DriverContext;
 import org.apache.plc4x.java.spi.generation.ByteOrder;
 import org.apache.plc4x.java.spi.generation.Message;
 import org.apache.plc4x.java.spi.generation.MessageInput;
 import org.apache.plc4x.java.spi.generation.MessageOutput;
 import org.apache.plc4x.java.spi.netty.NettyHashTimerTimeoutManager;
+import org.apache.plc4x.java.spi.runtime.DriverRuntime;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
@@ -102,16 +104,28 @@ public class SingleProtocolStackConfigurer<BASE_PACKET_CLASS extends Message> im
     public Plc4xProtocolBase<BASE_PACKET_CLASS> configurePipeline(PlcConnectionConfiguration configuration, ChannelPipeline pipeline,
                                                                   PlcAuthentication authentication, boolean passive,
                                                                   List<EventListener> listeners) {
+        return configurePipeline(configuration, pipeline, authentication, passive, listeners, null);
+    }
+
+    /**
+     * Applies the given Stack to the Pipeline, using the shared resources of the runtime if one is given.
+     */
+    @Override
+    public Plc4xProtocolBase<BASE_PACKET_CLASS> configurePipeline(PlcConnectionConfiguration configuration, ChannelPipeline pipeline,
+                                                                  PlcAuthentication authentication, boolean passive,
+                                                                  List<EventListener> listeners, DriverRuntime driverRuntime) {
         if (this.encryptionHandler != null) {
             pipeline.addLast(this.encryptionHandler);
         }
         pipeline.addLast(getMessageCodec(configuration));
         Plc4xProtocolBase<BASE_PACKET_CLASS> protocol = configure(configuration, createInstance(protocolClass));
+        protocol.setDriverRuntime(driverRuntime);
         if (driverContextClass != null) {
             protocol.setDriverContext(configure(configuration, createInstance(driverContextClass)));
         }
         pipeline.addLast(new EventListenerMessageCodec(listeners));
-        Plc4xNettyWrapper<BASE_PACKET_CLASS> context = new Plc4xNettyWrapper<>(new NettyHashTimerTimeoutManager(), pipeline, passive, protocol,
+        TimeoutManager timeoutManager = (driverRuntime != null) ? driverRuntime.createTimeoutManager() : new NettyHashTimerTimeoutManager();
+        Plc4xNettyWrapper<BASE_PACKET_CLASS> context = new Plc4xNettyWrapper<>(timeoutManager, pipeline, passive, protocol,
             authentication, basePacketClass);
         pipeline.addLast(context);
         return protocol;
@@ -77,6 +77,30 @@ public interface BufferCommons {
         return Optional.empty();
     }
 
+    /**
+     * Cheaper than {@link #extractEncoding(WithReaderArgs...)}, if only the absence of an encoding is of interest.
+     */
+    default boolean hasEncoding(WithReaderArgs... readerArgs) {
+        for (WithReaderArgs arg : readerArgs) {
+            if (arg instanceof withEncoding) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Cheaper than {@link #extractEncoding(WithWriterArgs...)}, if only the absence of an encoding is of interest.
+     */
+    default boolean hasEncoding(WithWriterArgs... writerArgs) {
+        for (WithWriterArgs arg : writerArgs) {
+            if (arg instanceof withEncoding) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     default Optional<String> extractEncoding(WithReaderArgs... readerArgs) {
         return extractEncoding(Stream.of(readerArgs).map(WithReaderWriterArgs.class::cast).toArray(WithReaderWriterArgs[]::new));
     }
@@ -26,4 +26,15 @@ public interface Message extends Serializable {
 
     int getLengthInBits();
 
+    /**
+     * Length of this message as element of an array, as some formats handle the last element differently (e.g. no
+     * padding).
+     *
+     * @param lastItem true if this message is the last element of the array
+     * @return length in bits
+     */
+    default int getLengthInBits(boolean lastItem) {
+        return getLengthInBits();
+    }
+
 }
@@ -19,11 +19,12 @@
 package org.apache.plc4x.java.spi.generation;
 
 import org.apache.plc4x.java.spi.codegen.io.ByteOrderAware;
+import org.apache.plc4x.java.spi.codegen.io.LastItemAware;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
-public interface ReadBuffer extends ByteOrderAware, PositionAware {
+public interface ReadBuffer extends ByteOrderAware, LastItemAware, PositionAware {
     int getPos();
 
     void reset(int pos);
@@ -18,13 +18,14 @@
  */
 package org.apache.plc4x.java.spi.generation;
 
-import com.github.jinahya.bit.io.ArrayByteInput;
 import org.apache.plc4x.java.api.exceptions.PlcRuntimeException;
+import org.apache.plc4x.java.spi.generation.io.ByteBufferByteInput;
 import org.apache.plc4x.java.spi.generation.io.MyDefaultBitInput;
 
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
@@ -39,18 +40,30 @@ public class ReadBufferByteBased implements ReadBuffer, BufferCommons {
     private ByteOrder byteOrder;
     private final int totalBytes;
     private int bitPos; // This is useful when debugging so you can see the actual bit position
+    private boolean lastItem;
 
     public ReadBufferByteBased(byte[] input) {
         this(input, ByteOrder.BIG_ENDIAN);
     }
 
     public ReadBufferByteBased(byte[] input, ByteOrder byteOrder) {
+        this(ByteBuffer.wrap(Objects.requireNonNull(input)), byteOrder);
+    }
+
+    /**
+     * Reads the remaining bytes of the given buffer without copying them. This way a view on the memory
+     * of a Netty buffer (e.g. a pooled direct one) can be parsed directly.
+     * Position 0 of this read buffer is the current position of the given buffer.
+     *
+     * @param input     buffer to read from.
+     * @param byteOrder byte order used for parsing.
+     */
+    public ReadBufferByteBased(ByteBuffer input, ByteOrder byteOrder) {
         Objects.requireNonNull(input);
         Objects.requireNonNull(byteOrder);
-        ArrayByteInput abi = new ArrayByteInput(input);
-        this.bi = new MyDefaultBitInput(abi);
+        this.bi = new MyDefaultBitInput(new ByteBufferByteInput(input));
         this.byteOrder = byteOrder;
-        this.totalBytes = input.length;
+        this.totalBytes = input.remaining();
     }
 
     @Override
@@ -65,10 +78,7 @@ public class ReadBufferByteBased implements ReadBuffer, BufferCommons {
     }
 
     public byte[] getBytes(int startPos, int endPos) {
-        int numBytes = endPos - startPos;
-        byte[] data = new byte[numBytes];
-        System.arraycopy(bi.getDelegate().getSource(), startPos, data, 0, numBytes);
-        return data;
+        return bi.getDelegate().getBytes(startPos, endPos);
     }
 
     public int getTotalBytes() {
@@ -90,19 +100,29 @@ public class ReadBufferByteBased implements ReadBuffer, BufferCommons {
         this.byteOrder = byteOrder;
     }
 
+    @Override
+    public boolean isLastItem() {
+        return lastItem;
+    }
+
+    @Override
+    public void setLastItem(boolean lastItem) {
+        this.lastItem = lastItem;
+    }
+
     public byte peekByte(int offset) throws ParseException {
         // Remember the old index.
         int oldIndex = bi.getDelegate().getIndex();
         try {
             // Set the delegate to the desired position.
-            bi.getDelegate().index(oldIndex + offset);
+            bi.getDelegate().setIndex(oldIndex + offset);
             // Read the byte.
             return bi.readByte(false, 8);
         } catch (IOException e) {
             throw new ParseException("Error peeking byte", e);
         } finally {
             // Reset the delegate to the old index.
-            bi.getDelegate().index(oldIndex);
+            bi.getDelegate().setIndex(oldIndex);
         }
     }
 
@@ -131,6 +151,10 @@ public class ReadBufferByteBased implements ReadBuffer, BufferCommons {
     public byte[] readByteArray(String logicalName, int numberOfBytes, WithReaderArgs... readerArgs) throws ParseException {
         bitPos+=numberOfBytes*8;
         byte[] bytes = new byte[numberOfBytes];
+        if (bi.isByteAligned() && (bi.getDelegate().getRemaining() >= numberOfBytes)) {
+            bi.getDelegate().readBytes(bytes);
+            return bytes;
+        }
         for (int i = 0; i < numberOfBytes; i++) {
             bytes[i] = readByte();
         }
@@ -179,6 +203,9 @@ public class ReadBufferByteBased implements ReadBuffer, BufferCommons {
         if (bitLength > 15) {
             throw new ParseException("unsigned short can only contain max 8 bits");
         }
+        if ((bitLength == 8) && canReadAligned(1, readerArgs)) {
+            return (short) (bi.getDelegate().readByte() & 0xFF);
+        }
         try {
             String encoding = extractEncoding(readerArgs).orElse("default");
             switch (encoding) {
@@ -230,6 +257,9 @@ public class ReadBufferByteBased implements ReadBuffer, BufferCommons {
         if (bitLength > 31) {
             throw new ParseException("unsigned int can only contain max 16 bits");
         }
+        if (((bitLength == 8) || (bitLength == 16)) && canReadAligned(bitLength / 8, readerArgs)) {
+            return (int) (readAligned(bitLength) & ((1L << bitLength) - 1));
+        }
         try {
             String encoding = extractEncoding(readerArgs).orElse("default");
             switch (encoding) {
@@ -284,6 +314,9 @@ public class ReadBufferByteBased implements ReadBuffer, BufferCommons {
         if (bitLength > 63) {
             throw new ParseException("unsigned long can only contain max 32 bits");
         }
+        if (isAlignedSize(bitLength, 32) && canReadAligned(bitLength / 8, readerArgs)) {
+            return readAligned(bitLength) & ((1L << bitLength) - 1);
+        }
         try {
             String encoding = extractEncoding(readerArgs).orElse("default");
             switch (encoding) {
@@ -410,7 +443,8 @@ public class ReadBufferByteBased implements ReadBuffer, BufferCommons {
                 }
                 case "default":
                     // Read as signed value
-                    long val = bi.readLong(false, bitLength);
+                    long val = ((bitLength == 64) && bi.isByteAligned() && (bi.getDelegate().getRemaining() >= 8)) ?
+                        bi.getDelegate().readLong(false) : bi.readLong(false, bitLength);
                     if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
                         val = Long.reverseBytes(val);
                     }
@@ -437,6 +471,9 @@ public class ReadBufferByteBased implements ReadBuffer, BufferCommons {
         if (bitLength > 8) {
             throw new ParseException("byte can only contain max 8 bits");
         }
+        if ((bitLength == 8) && bi.isByteAligned() && (bi.getDelegate().getRemaining() >= 1)) {
+            return bi.getDelegate().readByte();
+        }
         try {
             return bi.readByte(false, bitLength);
         } catch (IOException e) {
@@ -453,6 +490,9 @@ public class ReadBufferByteBased implements ReadBuffer, BufferCommons {
         if (bitLength > 16) {
             throw new ParseException("short can only contain max 16 bits");
         }
+        if (isAlignedSize(bitLength, 16) && canReadAligned(bitLength / 8, readerArgs)) {
+            return (short) readAligned(bitLength);
+        }
         try {
             if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
                 return Short.reverseBytes(bi.readShort(false, bitLength));
@@ -472,6 +512,9 @@ public class ReadBufferByteBased implements ReadBuffer, BufferCommons {
         if (bitLength > 32) {
             throw new ParseException("int can only contain max 32 bits");
         }
+        if (isAlignedSize(bitLength, 32) && canReadAligned(bitLength / 8, readerArgs)) {
+            return (int) readAligned(bitLength);
+        }
         try {
             String encoding = extractEncoding(readerArgs).orElse("default");
             switch (encoding) {
@@ -519,6 +562,9 @@ public class ReadBufferByteBased implements ReadBuffer, BufferCommons {
         if (bitLength > 64) {
             throw new ParseException("long can only contain max 64 bits");
         }
+        if (isAlignedSize(bitLength, 64) && canReadAligned(bitLength / 8, readerArgs)) {
+            return readAligned(bitLength);
+        }
         try {
             String encoding = extractEncoding(readerArgs).orElse("default");
             switch (encoding) {
@@ -712,6 +758,40 @@ public class ReadBufferByteBased implements ReadBuffer, BufferCommons {
         // byte buffer need no context handling
     }
 
+    /*
+     * Values consisting of whole bytes are read straight from the buffer, as long as no special encoding is requested
+     * and no bits of the current byte have been consumed yet. Everything else goes through the bit reader.
+     */
+    private boolean canReadAligned(int numBytes, WithReaderArgs... readerArgs) {
+        return bi.isByteAligned() && (bi.getDelegate().getRemaining() >= numBytes) && !hasEncoding(readerArgs);
+    }
+
+    /*
+     * Little endian values narrower than the target type are left to the bit reader, as they are handled in their
+     * own special way there.
+     */
+    private boolean isAlignedSize(int bitLength, int typeBitLength) {
+        if (bitLength == typeBitLength) {
+            return (bitLength % 8) == 0;
+        }
+        return (byteOrder == ByteOrder.BIG_ENDIAN) && ((bitLength == 8) || (bitLength == 16) || (bitLength == 32));
+    }
+
+    private long readAligned(int bitLength) {
+        ByteBufferByteInput input = bi.getDelegate();
+        boolean littleEndian = byteOrder == ByteOrder.LITTLE_ENDIAN;
+        switch (bitLength) {
+            case 8:
+                return input.readByte();
+            case 16:
+                return input.readShort(littleEndian);
+            case 32:
+                return input.readInt(littleEndian);
+            default:
+                return input.readLong(littleEndian);
+        }
+    }
+
     private boolean disable0Termination() {
         return Boolean.parseBoolean(System.getProperty("disable-string-0-termination", "false"));
     }
@@ -39,6 +39,7 @@ public class ReadBufferJsonBased implements ReadBuffer, BufferCommons {
     private final boolean doValidateAttr;
 
     private int pos;
+    private boolean lastItem;
 
     public ReadBufferJsonBased(InputStream is) {
         this(is, true);
@@ -83,6 +84,16 @@ public class ReadBufferJsonBased implements ReadBuffer, BufferCommons {
         // NO OP
     }
 
+    @Override
+    public boolean isLastItem() {
+        return lastItem;
+    }
+
+    @Override
+    public void setLastItem(boolean lastItem) {
+        this.lastItem = lastItem;
+    }
+
     @Override
     public void pullContext(String logicalName, WithReaderArgs... readerArgs) {
         logicalName = sanitizeLogicalName(logicalName);
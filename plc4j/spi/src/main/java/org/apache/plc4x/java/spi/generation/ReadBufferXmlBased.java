@@ -36,6 +36,8 @@ public class ReadBufferXmlBased implements ReadBuffer, BufferCommons {
 
     int pos = 1;
 
+    boolean lastItem;
+
     public ReadBufferXmlBased(InputStream is) {
         XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
         xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
@@ -72,6 +74,16 @@ public class ReadBufferXmlBased implements ReadBuffer, BufferCommons {
         // NO OP
     }
 
+    @Override
+    public boolean isLastItem() {
+        return lastItem;
+    }
+
+    @Override
+    public void setLastItem(boolean lastItem) {
+        this.lastItem = lastItem;
+    }
+
     @Override
     public void pullContext(String logicalName, WithReaderArgs... readerArgs) {
         StartElement startElement = travelToNextStartElement();
@@ -19,12 +19,13 @@
 package org.apache.plc4x.java.spi.generation;
 
 import org.apache.plc4x.java.spi.codegen.io.ByteOrderAware;
+import org.apache.plc4x.java.spi.codegen.io.LastItemAware;
 import org.apache.plc4x.java.spi.utils.Serializable;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
-public interface WriteBuffer extends ByteOrderAware, PositionAware {
+public interface WriteBuffer extends ByteOrderAware, LastItemAware, PositionAware {
 
     int getPos();
 
@@ -43,6 +43,7 @@ public class WriteBufferBoxBased implements WriteBuffer, BufferCommons {
     private int currentWidth = desiredWidth - 2;
 
     private int pos = 1;
+    private boolean lastItem;
 
     public WriteBufferBoxBased() {
         this(false, false);
@@ -71,6 +72,16 @@ public class WriteBufferBoxBased implements WriteBuffer, BufferCommons {
         // NO OP
     }
 
+    @Override
+    public boolean isLastItem() {
+        return lastItem;
+    }
+
+    @Override
+    public void setLastItem(boolean lastItem) {
+        this.lastItem = lastItem;
+    }
+
     @Override
     public int getPos() {
         return pos / 8;
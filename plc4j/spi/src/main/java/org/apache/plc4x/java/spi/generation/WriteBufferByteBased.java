@@ -22,6 +22,8 @@ import com.github.jinahya.bit.io.BufferByteOutput;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.plc4x.java.spi.generation.io.MyDefaultBitOutput;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
@@ -30,16 +32,36 @@ import java.nio.charset.StandardCharsets;
 
 public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
 
+    private static final VarHandle SHORT_BE = MethodHandles.byteBufferViewVarHandle(short[].class, java.nio.ByteOrder.BIG_ENDIAN);
+    private static final VarHandle SHORT_LE = MethodHandles.byteBufferViewVarHandle(short[].class, java.nio.ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_BE = MethodHandles.byteBufferViewVarHandle(int[].class, java.nio.ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_LE = MethodHandles.byteBufferViewVarHandle(int[].class, java.nio.ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_BE = MethodHandles.byteBufferViewVarHandle(long[].class, java.nio.ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_LE = MethodHandles.byteBufferViewVarHandle(long[].class, java.nio.ByteOrder.LITTLE_ENDIAN);
+
     private final ByteBuffer bb;
     private final MyDefaultBitOutput bo;
     private ByteOrder byteOrder;
+    private boolean lastItem;
 
     public WriteBufferByteBased(int size) {
         this(size, ByteOrder.BIG_ENDIAN);
     }
 
     public WriteBufferByteBased(int size, ByteOrder byteOrder) {
-        bb = ByteBuffer.allocate(size);
+        this(ByteBuffer.allocate(size), byteOrder);
+    }
+
+    /**
+     * Writes directly into the given buffer without an intermediate array. This way a view on the memory
+     * of a Netty buffer (e.g. a pooled direct one) can be serialized into directly.
+     * Position 0 of this write buffer is the current position of the given buffer.
+     *
+     * @param target    buffer to write to, it has to have enough remaining space for the message.
+     * @param byteOrder byte order used for serializing.
+     */
+    public WriteBufferByteBased(ByteBuffer target, ByteOrder byteOrder) {
+        bb = target.slice();
         BufferByteOutput<ByteBuffer> bbo = new BufferByteOutput<>(bb);
         bo = new MyDefaultBitOutput(bbo);
         this.byteOrder = byteOrder;
@@ -53,16 +75,32 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
         this.byteOrder = byteOrder;
     }
 
+    public boolean isLastItem() {
+        return lastItem;
+    }
+
+    public void setLastItem(boolean lastItem) {
+        this.lastItem = lastItem;
+    }
+
     public void setPos(int position) {
         bb.position(position);
     }
 
     public byte[] getBytes() {
-        return ArrayUtils.subarray(bb.array(), 0, getPos());
+        return getBytes(0, getPos());
     }
 
     public byte[] getBytes(int start, int end) {
-        return ArrayUtils.subarray(bb.array(), start, end);
+        if (bb.hasArray()) {
+            return ArrayUtils.subarray(bb.array(), bb.arrayOffset() + start, bb.arrayOffset() + end);
+        }
+        // Direct buffers have no accessible array.
+        byte[] data = new byte[Math.max(0, end - start)];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = bb.get(start + i);
+        }
+        return data;
     }
 
     @Override
@@ -91,6 +129,10 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
 
     @Override
     public void writeByteArray(String logicalName, byte[] bytes, WithWriterArgs... writerArgs) throws SerializationException {
+        if (bo.isByteAligned() && (bb.remaining() >= bytes.length)) {
+            bb.put(bytes);
+            return;
+        }
         for (byte aByte : bytes) {
             writeSignedByte(logicalName, 8, aByte, writerArgs);
         }
@@ -135,6 +177,10 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
         if (bitLength > 16) {
             throw new SerializationException("unsigned short can only contain max 16 bits");
         }
+        if ((bitLength == 8) && canWriteAligned(1, writerArgs)) {
+            bb.put((byte) value);
+            return;
+        }
         try {
             String encoding = extractEncoding(writerArgs).orElse("default");
             switch (encoding) {
@@ -190,6 +236,10 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
         if (bitLength > 32) {
             throw new SerializationException("unsigned int can only contain max 32 bits");
         }
+        if (((bitLength == 8) || (bitLength == 16)) && canWriteAligned(bitLength / 8, writerArgs)) {
+            writeAligned(bitLength, value);
+            return;
+        }
         try {
             String encoding = extractEncoding(writerArgs).orElse("default");
             switch (encoding) {
@@ -248,6 +298,10 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
         if (bitLength > 63) {
             throw new SerializationException("unsigned long can only contain max 63 bits");
         }
+        if (isAlignedSize(bitLength, 32) && canWriteAligned(bitLength / 8, writerArgs)) {
+            writeAligned(bitLength, value);
+            return;
+        }
         try {
             String encoding = extractEncoding(writerArgs).orElse("default");
             switch (encoding) {
@@ -422,6 +476,10 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
         if (bitLength > 8) {
             throw new SerializationException("byte can only contain max 8 bits");
         }
+        if ((bitLength == 8) && bo.isByteAligned() && bb.hasRemaining()) {
+            bb.put(value);
+            return;
+        }
         try {
             bo.writeByte(false, bitLength, value);
         } catch (Exception e) {
@@ -437,6 +495,10 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
         if (bitLength > 16) {
             throw new SerializationException("short can only contain max 16 bits");
         }
+        if (isAlignedSize(bitLength, 16) && canWriteAligned(bitLength / 8, writerArgs)) {
+            writeAligned(bitLength, value);
+            return;
+        }
         try {
             if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
                 value = Short.reverseBytes(value);
@@ -455,6 +517,10 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
         if (bitLength > 32) {
             throw new SerializationException("int can only contain max 32 bits");
         }
+        if (isAlignedSize(bitLength, 32) && canWriteAligned(bitLength / 8, writerArgs)) {
+            writeAligned(bitLength, value);
+            return;
+        }
         try {
             String encoding = extractEncoding(writerArgs).orElse("default");
             switch (encoding) {
@@ -508,6 +574,10 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
         if (bitLength > 64) {
             throw new SerializationException("long can only contain max 64 bits");
         }
+        if (isAlignedSize(bitLength, 64) && canWriteAligned(bitLength / 8, writerArgs)) {
+            writeAligned(bitLength, value);
+            return;
+        }
         try {
             String encoding = extractEncoding(writerArgs).orElse("default");
             switch (encoding) {
@@ -626,4 +696,42 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
         // byte buffer need no context handling
     }
 
+    /*
+     * Values consisting of whole bytes are written straight into the buffer, as long as no special encoding is
+     * requested and no bits of the current byte are pending. Everything else goes through the bit writer.
+     */
+    private boolean canWriteAligned(int numBytes, WithWriterArgs... writerArgs) {
+        return bo.isByteAligned() && (bb.remaining() >= numBytes) && !hasEncoding(writerArgs);
+    }
+
+    /*
+     * Little endian values narrower than the target type are left to the bit writer, as they are handled in their
+     * own special way there.
+     */
+    private boolean isAlignedSize(int bitLength, int typeBitLength) {
+        if (bitLength == typeBitLength) {
+            return (bitLength % 8) == 0;
+        }
+        return (byteOrder == ByteOrder.BIG_ENDIAN) && ((bitLength == 8) || (bitLength == 16) || (bitLength == 32));
+    }
+
+    private void writeAligned(int bitLength, long value) {
+        boolean littleEndian = byteOrder == ByteOrder.LITTLE_ENDIAN;
+        int index = bb.position();
+        switch (bitLength) {
+            case 8:
+                bb.put(index, (byte) value);
+                break;
+            case 16:
+                (littleEndian ? SHORT_LE : SHORT_BE).set(bb, index, (short) value);
+                break;
+            case 32:
+                (littleEndian ? INT_LE : INT_BE).set(bb, index, (int) value);
+                break;
+            default:
+                (littleEndian ? LONG_LE : LONG_BE).set(bb, index, value);
+        }
+        bb.position(index + (bitLength / 8));
+    }
+
 }
@@ -40,6 +40,7 @@ public class WriteBufferJsonBased implements WriteBuffer, BufferCommons, AutoClo
 
     private int pos = 1;
     private int depth = 0;
+    private boolean lastItem;
 
     private final boolean doRenderAttr;
 
@@ -72,6 +73,16 @@ public class WriteBufferJsonBased implements WriteBuffer, BufferCommons, AutoClo
         // NO OP
     }
 
+    @Override
+    public boolean isLastItem() {
+        return lastItem;
+    }
+
+    @Override
+    public void setLastItem(boolean lastItem) {
+        this.lastItem = lastItem;
+    }
+
     @Override
     public int getPos() {
         return pos / 8;
@@ -51,6 +51,7 @@ public class WriteBufferXmlBased implements WriteBuffer, BufferCommons {
     private int pos = 1;
 
     private int depth = 0;
+    private boolean lastItem;
 
     public WriteBufferXmlBased() {
         byteArrayOutputStream = new ByteArrayOutputStream();
@@ -75,6 +76,16 @@ public class WriteBufferXmlBased implements WriteBuffer, BufferCommons {
         // NO OP
     }
 
+    @Override
+    public boolean isLastItem() {
+        return lastItem;
+    }
+
+    @Override
+    public void setLastItem(boolean lastItem) {
+        this.lastItem = lastItem;
+    }
+
     @Override
     public int getPos() {
         return pos / 8;
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.generation.io;
+
+import com.github.jinahya.bit.io.ByteInput;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Reads bytes from a {@link ByteBuffer}, which can either wrap a byte array or be a view on the memory of a
+ * (pooled, direct) Netty buffer, so no data has to be copied before parsing.
+ * <p>
+ * Reading past the end throws an {@link ArrayIndexOutOfBoundsException}, just like reading past the end of an
+ * array did, as the field readers rely on this to detect missing optional fields.
+ */
+public class ByteBufferByteInput implements ByteInput {
+
+    private static final VarHandle SHORT_BE = MethodHandles.byteBufferViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle SHORT_LE = MethodHandles.byteBufferViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_BE = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_LE = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_BE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_LE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final ByteBuffer source;
+
+    /**
+     * @param source buffer to read from, index 0 is the current position of the buffer.
+     */
+    public ByteBufferByteInput(ByteBuffer source) {
+        this.source = source.slice();
+    }
+
+    @Override
+    public int read() {
+        int index = source.position();
+        if (index >= source.limit()) {
+            throw new ArrayIndexOutOfBoundsException("Index " + index + " out of bounds for length " + source.limit());
+        }
+        return source.get() & 0xFF;
+    }
+
+    /*
+     * The following methods read whole bytes at the current index. They are only valid if the bit input using this
+     * input is byte aligned and the caller made sure enough bytes are remaining.
+     */
+
+    public int getRemaining() {
+        return source.remaining();
+    }
+
+    public byte readByte() {
+        return source.get();
+    }
+
+    public short readShort(boolean littleEndian) {
+        int index = source.position();
+        short value = littleEndian ? (short) SHORT_LE.get(source, index) : (short) SHORT_BE.get(source, index);
+        source.position(index + 2);
+        return value;
+    }
+
+    public int readInt(boolean littleEndian) {
+        int index = source.position();
+        int value = littleEndian ? (int) INT_LE.get(source, index) : (int) INT_BE.get(source, index);
+        source.position(index + 4);
+        return value;
+    }
+
+    public long readLong(boolean littleEndian) {
+        int index = source.position();
+        long value = littleEndian ? (long) LONG_LE.get(source, index) : (long) LONG_BE.get(source, index);
+        source.position(index + 8);
+        return value;
+    }
+
+    public void readBytes(byte[] target) {
+        source.get(target);
+    }
+
+    public ByteBuffer getSource() {
+        return source;
+    }
+
+    public int getIndex() {
+        return source.position();
+    }
+
+    public void setIndex(int index) {
+        source.position(index);
+    }
+
+    public int getLength() {
+        return source.limit();
+    }
+
+    /**
+     * Reads a byte without changing the current index.
+     */
+    public byte getByte(int index) {
+        return source.get(index);
+    }
+
+    /**
+     * Copies a range of bytes without changing the current index.
+     */
+    public byte[] getBytes(int startIndex, int endIndex) {
+        byte[] data = new byte[endIndex - startIndex];
+        if (source.hasArray()) {
+            System.arraycopy(source.array(), source.arrayOffset() + startIndex, data, 0, data.length);
+        } else {
+            for (int i = 0; i < data.length; i++) {
+                data[i] = source.get(startIndex + i);
+            }
+        }
+        return data;
+    }
+
+}
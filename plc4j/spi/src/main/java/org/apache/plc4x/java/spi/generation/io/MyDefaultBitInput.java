@@ -18,7 +18,6 @@
  */
 package org.apache.plc4x.java.spi.generation.io;
 
-import com.github.jinahya.bit.io.ArrayByteInput;
 import com.github.jinahya.bit.io.DefaultBitInput;
 import org.apache.plc4x.java.spi.utils.hex.Hex;
 import org.slf4j.Logger;
@@ -29,14 +28,44 @@ import java.io.IOException;
 /**
  * Modified version that exposes the position.
  */
-public class MyDefaultBitInput extends DefaultBitInput<ArrayByteInput> {
+public class MyDefaultBitInput extends DefaultBitInput<ByteBufferByteInput> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MyDefaultBitInput.class);
 
-    public MyDefaultBitInput(ArrayByteInput delegate) {
+    // Number of bits already consumed from the current octet, 0 means the next read starts at a byte boundary.
+    private int bitOffset;
+    private int nestingLevel;
+
+    public MyDefaultBitInput(ByteBufferByteInput delegate) {
         super(delegate);
     }
 
+    /*
+     * Every read ends up here, larger reads call this method recursively, which is why only the outermost
+     * call is counted.
+     */
+    @Override
+    protected int unsigned8(int size) throws IOException {
+        int value;
+        nestingLevel++;
+        try {
+            value = super.unsigned8(size);
+        } finally {
+            nestingLevel--;
+        }
+        if (nestingLevel == 0) {
+            bitOffset = (bitOffset + size) & 7;
+        }
+        return value;
+    }
+
+    /**
+     * @return true, if no bits of the current octet have been read, so whole bytes can be read from the delegate directly.
+     */
+    public boolean isByteAligned() {
+        return bitOffset == 0;
+    }
+
     public long getPos() {
         // TODO: we should report bits as we would loose this information on a reset
         return delegate.getIndex();
@@ -44,7 +73,7 @@ public class MyDefaultBitInput extends DefaultBitInput<ArrayByteInput> {
 
     public void reset(int pos) {
         if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("Before\n{}", Hex.dump(delegate.getSource(), Hex.DefaultWidth, delegate.getIndex()));
+            LOGGER.debug("Before\n{}", Hex.dump(delegate.getBytes(0, delegate.getLength()), Hex.DefaultWidth, delegate.getIndex()));
         }
         try {
             long align = align(1);
@@ -55,7 +84,7 @@ public class MyDefaultBitInput extends DefaultBitInput<ArrayByteInput> {
         delegate.setIndex(pos);
         LOGGER.debug("set to index {}", pos);
         if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("After\n{}", Hex.dump(delegate.getSource(), Hex.DefaultWidth, pos));
+            LOGGER.debug("After\n{}", Hex.dump(delegate.getBytes(0, delegate.getLength()), Hex.DefaultWidth, pos));
         }
     }
 }
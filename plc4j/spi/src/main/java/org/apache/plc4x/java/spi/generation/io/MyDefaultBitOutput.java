@@ -21,14 +21,43 @@ package org.apache.plc4x.java.spi.generation.io;
 import com.github.jinahya.bit.io.BufferByteOutput;
 import com.github.jinahya.bit.io.DefaultBitOutput;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 
 public class MyDefaultBitOutput extends DefaultBitOutput<BufferByteOutput<ByteBuffer>> {
 
+    // Number of bits already written to the current octet, 0 means the next write starts at a byte boundary.
+    private int bitOffset;
+    private int nestingLevel;
+
     public MyDefaultBitOutput(BufferByteOutput<ByteBuffer> delegate) {
         super(delegate);
     }
 
+    /*
+     * Every write ends up here, larger writes call this method recursively, which is why only the outermost
+     * call is counted.
+     */
+    @Override
+    protected void unsigned8(int size, int value) throws IOException {
+        nestingLevel++;
+        try {
+            super.unsigned8(size, value);
+        } finally {
+            nestingLevel--;
+        }
+        if (nestingLevel == 0) {
+            bitOffset = (bitOffset + size) & 7;
+        }
+    }
+
+    /**
+     * @return true, if no bits of the current octet are pending, so whole bytes can be written to the target directly.
+     */
+    public boolean isByteAligned() {
+        return bitOffset == 0;
+    }
+
     public long getPos() {
         return getDelegate().getTarget().position();
     }
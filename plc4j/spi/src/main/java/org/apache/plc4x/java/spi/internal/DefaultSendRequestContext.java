@@ -30,6 +30,7 @@ import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 
 public class DefaultSendRequestContext<T> implements ConversationContext.SendRequestContext<T> {
 
@@ -53,6 +54,8 @@ public class DefaultSendRequestContext<T> implements ConversationContext.SendReq
 
     protected Duration timeout = Duration.ofMillis(1000);
 
+    protected ToLongFunction<?> correlationKeyExtractor;
+
     public DefaultSendRequestContext(String name, Consumer<HandlerRegistration> finisher, T request, ConversationContext<T> context) {
         this.name = name;
         this.finisher = finisher;
@@ -60,7 +63,7 @@ public class DefaultSendRequestContext<T> implements ConversationContext.SendReq
         this.context = context;
     }
 
-    protected DefaultSendRequestContext(String name, Deque<Either<Function<?, ?>, Predicate<?>>> commands, Duration timeout, Consumer<HandlerRegistration> finisher, T request, ConversationContext<T> context, Class<?> expectClazz, Consumer<?> packetConsumer, Consumer<TimeoutException> onTimeoutConsumer, BiConsumer<?, ? extends Throwable> errorConsumer) {
+    protected DefaultSendRequestContext(String name, Deque<Either<Function<?, ?>, Predicate<?>>> commands, Duration timeout, Consumer<HandlerRegistration> finisher, T request, ConversationContext<T> context, Class<?> expectClazz, Consumer<?> packetConsumer, Consumer<TimeoutException> onTimeoutConsumer, BiConsumer<?, ? extends Throwable> errorConsumer, ToLongFunction<?> correlationKeyExtractor) {
         this.name = name;
         this.commands = commands;
         this.timeout = timeout;
@@ -71,6 +74,7 @@ public class DefaultSendRequestContext<T> implements ConversationContext.SendReq
         this.packetConsumer = packetConsumer;
         this.onTimeoutConsumer = onTimeoutConsumer;
         this.errorConsumer = errorConsumer;
+        this.correlationKeyExtractor = correlationKeyExtractor;
     }
 
     @Override
@@ -96,14 +100,34 @@ public class DefaultSendRequestContext<T> implements ConversationContext.SendReq
         return this;
     }
 
+    @Override
+    public ConversationContext.SendRequestContext<T> correlateBy(ToLongFunction<T> correlationKeyExtractor) {
+        if (this.correlationKeyExtractor != null) {
+            throw new ConversationContext.PlcWiringException("can't correlate by multiple keys");
+        }
+        if (commands.stream().anyMatch(Either::isLeft)) {
+            throw new ConversationContext.PlcWiringException("correlateBy must be called before first unwrap");
+        }
+        this.correlationKeyExtractor = correlationKeyExtractor;
+        return this;
+    }
+
     @Override
     public DefaultContextHandler handle(Consumer<T> packetConsumer) {
         if (this.packetConsumer != null) {
             throw new ConversationContext.PlcWiringException("can't handle multiple consumers");
         }
         this.packetConsumer = packetConsumer;
-        final HandlerRegistration registration = new HandlerRegistration(name, commands, expectClazz, packetConsumer,
-            onTimeoutConsumer, errorConsumer, timeout);
+        final HandlerRegistration registration;
+        if (correlationKeyExtractor != null) {
+            // The extractor was defined before the first unwrap, so it works on the type of the original request.
+            long correlationKey = ((ToLongFunction<Object>) correlationKeyExtractor).applyAsLong(request);
+            registration = new HandlerRegistration(name, commands, expectClazz, packetConsumer,
+                onTimeoutConsumer, errorConsumer, () -> {}, () -> {}, () -> {}, timeout, correlationKeyExtractor, correlationKey);
+        } else {
+            registration = new HandlerRegistration(name, commands, expectClazz, packetConsumer,
+                onTimeoutConsumer, errorConsumer, timeout);
+        }
         finisher.accept(registration);
         context.sendToWire(request);
         return new DefaultContextHandler(registration, registration::cancel);
@@ -143,7 +167,7 @@ public class DefaultSendRequestContext<T> implements ConversationContext.SendReq
             onTimeoutConsumer = new NoopTimeoutConsumer();
         }
         commands.addLast(Either.left(unwrapper));
-        return new DefaultSendRequestContext<>(name, commands, timeout, finisher, (R) request, (ConversationContext<R>) context, expectClazz, packetConsumer, onTimeoutConsumer, errorConsumer);
+        return new DefaultSendRequestContext<>(name, commands, timeout, finisher, (R) request, (ConversationContext<R>) context, expectClazz, packetConsumer, onTimeoutConsumer, errorConsumer, correlationKeyExtractor);
     }
 
     @Override
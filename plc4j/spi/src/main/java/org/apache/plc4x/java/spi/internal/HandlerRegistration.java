@@ -31,6 +31,7 @@ import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 
 public class HandlerRegistration implements Future<Void> {
 
@@ -54,6 +55,9 @@ public class HandlerRegistration implements Future<Void> {
     private final Runnable onCancelled;
     private final Duration timeout;
 
+    private final ToLongFunction<?> correlationKeyExtractor;
+    private final long correlationKey;
+
     private final CompletableFuture<Void> handled = new CompletableFuture<>();
 
     public HandlerRegistration(String name, Deque<Either<Function<?, ?>, Predicate<?>>> commands, Class<?> expectClazz, Consumer<?> packetConsumer, Consumer<TimeoutException> onTimeoutConsumer, BiConsumer<?, ? extends Throwable> errorConsumer, Duration timeout) {
@@ -72,6 +76,14 @@ public class HandlerRegistration implements Future<Void> {
     }
 
     public HandlerRegistration(String name, Deque<Either<Function<?, ?>, Predicate<?>>> commands, Class<?> expectClazz, Consumer<?> packetConsumer, Consumer<TimeoutException> onTimeoutConsumer, BiConsumer<?, ? extends Throwable> errorConsumer, Runnable onHandled, Runnable onError, Runnable onCancelled, Duration timeout) {
+        this(name, commands, expectClazz, packetConsumer, onTimeoutConsumer, errorConsumer, onHandled, onError, onCancelled, timeout, null, 0L);
+    }
+
+    /**
+     * @param correlationKeyExtractor if not null, function computing the correlation key of an incoming packet.
+     * @param correlationKey          key an incoming packet has to have to be handled by this registration.
+     */
+    public HandlerRegistration(String name, Deque<Either<Function<?, ?>, Predicate<?>>> commands, Class<?> expectClazz, Consumer<?> packetConsumer, Consumer<TimeoutException> onTimeoutConsumer, BiConsumer<?, ? extends Throwable> errorConsumer, Runnable onHandled, Runnable onError, Runnable onCancelled, Duration timeout, ToLongFunction<?> correlationKeyExtractor, long correlationKey) {
         this.name = name;
         this.commands = commands;
         this.expectClazz = expectClazz;
@@ -82,6 +94,8 @@ public class HandlerRegistration implements Future<Void> {
         this.onError = onError;
         this.onCancelled = onCancelled;
         this.timeout = timeout;
+        this.correlationKeyExtractor = correlationKeyExtractor;
+        this.correlationKey = correlationKey;
     }
 
     public String getName() {
@@ -112,6 +126,18 @@ public class HandlerRegistration implements Future<Void> {
         return timeout;
     }
 
+    public ToLongFunction<?> getCorrelationKeyExtractor() {
+        return correlationKeyExtractor;
+    }
+
+    public long getCorrelationKey() {
+        return correlationKey;
+    }
+
+    public boolean isCorrelated() {
+        return correlationKeyExtractor != null;
+    }
+
     public void cancel() {
         handled.cancel(true);
         onCancelled.run();
@@ -131,6 +157,17 @@ public class HandlerRegistration implements Future<Void> {
         return handled.isCancelled();
     }
 
+    /**
+     * @param action run as soon as this registration is cancelled (immediately, if it already is).
+     */
+    public void whenCancelled(Runnable action) {
+        handled.whenComplete((ignored, throwable) -> {
+            if (handled.isCancelled()) {
+                action.run();
+            }
+        });
+    }
+
     @Override
     public boolean isDone() {
         return hasHandled();
@@ -23,6 +23,7 @@ import org.apache.plc4x.java.api.exceptions.PlcTagNotFoundException;
 import org.apache.plc4x.java.api.messages.PlcReadRequest;
 import org.apache.plc4x.java.api.messages.PlcReadResponse;
 import org.apache.plc4x.java.api.messages.PlcTagRequest;
+import org.apache.plc4x.java.api.messages.PreparedPlcReadRequest;
 import org.apache.plc4x.java.api.model.PlcTag;
 import org.apache.plc4x.java.api.types.PlcResponseCode;
 import org.apache.plc4x.java.spi.connection.PlcTagHandler;
@@ -61,6 +62,11 @@ public class DefaultPlcReadRequest implements PlcReadRequest, PlcTagRequest, Ser
         return reader.read(this);
     }
 
+    @Override
+    public PreparedPlcReadRequest prepare() {
+        return reader.prepare(this);
+    }
+
     @Override
     public int getNumberOfTags() {
         return tags.size();
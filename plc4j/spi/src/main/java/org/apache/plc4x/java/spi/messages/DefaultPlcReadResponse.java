@@ -32,7 +32,12 @@ import org.apache.plc4x.java.spi.generation.WriteBuffer;
 import org.apache.plc4x.java.spi.messages.utils.DefaultPlcResponseItem;
 import org.apache.plc4x.java.spi.messages.utils.PlcResponseItem;
 import org.apache.plc4x.java.spi.utils.Serializable;
+import org.apache.plc4x.java.spi.values.PlcDintArray;
+import org.apache.plc4x.java.spi.values.PlcIntArray;
+import org.apache.plc4x.java.spi.values.PlcLintArray;
 import org.apache.plc4x.java.spi.values.PlcList;
+import org.apache.plc4x.java.spi.values.PlcLrealArray;
+import org.apache.plc4x.java.spi.values.PlcRealArray;
 import org.apache.plc4x.java.api.value.PlcValue;
 import org.apache.plc4x.java.spi.values.PlcStruct;
 
@@ -265,6 +270,16 @@ public class DefaultPlcReadResponse implements PlcReadResponse, Serializable {
         return Collections.singletonList(tagInternal.getShort());
     }
 
+    @Override
+    public short[] getShortArray(String name) {
+        PlcValue tagInternal = getTagInternal(name);
+        // Array-backed lists can expose their values without converting them.
+        if(tagInternal instanceof PlcIntArray) {
+            return ((PlcIntArray) tagInternal).getValues();
+        }
+        return PlcReadResponse.super.getShortArray(name);
+    }
+
     @Override
     public boolean isValidInteger(String name) {
         return isValidInteger(name, 0);
@@ -301,6 +316,16 @@ public class DefaultPlcReadResponse implements PlcReadResponse, Serializable {
         return Collections.singletonList(tagInternal.getInteger());
     }
 
+    @Override
+    public int[] getIntegerArray(String name) {
+        PlcValue tagInternal = getTagInternal(name);
+        // Array-backed lists can expose their values without converting them.
+        if(tagInternal instanceof PlcDintArray) {
+            return ((PlcDintArray) tagInternal).getValues();
+        }
+        return PlcReadResponse.super.getIntegerArray(name);
+    }
+
     @Override
     public boolean isValidBigInteger(String name) {
         return isValidBigInteger(name, 0);
@@ -373,6 +398,16 @@ public class DefaultPlcReadResponse implements PlcReadResponse, Serializable {
         return Collections.singletonList(tagInternal.getLong());
     }
 
+    @Override
+    public long[] getLongArray(String name) {
+        PlcValue tagInternal = getTagInternal(name);
+        // Array-backed lists can expose their values without converting them.
+        if(tagInternal instanceof PlcLintArray) {
+            return ((PlcLintArray) tagInternal).getValues();
+        }
+        return PlcReadResponse.super.getLongArray(name);
+    }
+
     @Override
     public boolean isValidFloat(String name) {
         return isValidFloat(name, 0);
@@ -409,6 +444,16 @@ public class DefaultPlcReadResponse implements PlcReadResponse, Serializable {
         return Collections.singletonList(tagInternal.getFloat());
     }
 
+    @Override
+    public float[] getFloatArray(String name) {
+        PlcValue tagInternal = getTagInternal(name);
+        // Array-backed lists can expose their values without converting them.
+        if(tagInternal instanceof PlcRealArray) {
+            return ((PlcRealArray) tagInternal).getValues();
+        }
+        return PlcReadResponse.super.getFloatArray(name);
+    }
+
     @Override
     public boolean isValidDouble(String name) {
         return isValidDouble(name, 0);
@@ -445,6 +490,16 @@ public class DefaultPlcReadResponse implements PlcReadResponse, Serializable {
         return Collections.singletonList(tagInternal.getDouble());
     }
 
+    @Override
+    public double[] getDoubleArray(String name) {
+        PlcValue tagInternal = getTagInternal(name);
+        // Array-backed lists can expose their values without converting them.
+        if(tagInternal instanceof PlcLrealArray) {
+            return ((PlcLrealArray) tagInternal).getValues();
+        }
+        return PlcReadResponse.super.getDoubleArray(name);
+    }
+
     @Override
     public boolean isValidBigDecimal(String name) {
         return isValidBigDecimal(name, 0);
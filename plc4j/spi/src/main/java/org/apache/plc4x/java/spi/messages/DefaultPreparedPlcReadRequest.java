@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.messages;
+
+import org.apache.plc4x.java.api.messages.PlcReadRequest;
+import org.apache.plc4x.java.api.messages.PreparedPlcReadRequest;
+import org.apache.plc4x.java.api.model.PlcTag;
+import org.apache.plc4x.java.spi.messages.utils.PlcTagItem;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Read request, which has been prepared for being read repeatedly. Besides the parsed tags, it optionally keeps
+ * the request with all valid tags and the sub-requests the optimizer split it up into (as prepared by the protocol),
+ * so only the per-transaction parts have to be filled in when executing it.
+ */
+public class DefaultPreparedPlcReadRequest extends DefaultPlcReadRequest implements PreparedPlcReadRequest {
+
+    private final DefaultPlcReadRequest request;
+    private final PlcReadRequest filteredRequest;
+    private final List<PlcReadRequest> subRequests;
+
+    public DefaultPreparedPlcReadRequest(PlcReader reader, DefaultPlcReadRequest request) {
+        this(reader, request, null, null);
+    }
+
+    public DefaultPreparedPlcReadRequest(PlcReader reader, DefaultPlcReadRequest request,
+                                         PlcReadRequest filteredRequest, List<PlcReadRequest> subRequests) {
+        super(reader, getTagItems(request));
+        this.request = request;
+        this.filteredRequest = filteredRequest;
+        this.subRequests = (subRequests != null) ? Collections.unmodifiableList(subRequests) : null;
+    }
+
+    @Override
+    public PlcReadRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * @return request containing only the valid tags or null, if the request was not prepared by the connection.
+     */
+    public PlcReadRequest getFilteredRequest() {
+        return filteredRequest;
+    }
+
+    /**
+     * @return requests actually sent when executing this request or null, if the request was not prepared by the
+     * connection.
+     */
+    public List<PlcReadRequest> getSubRequests() {
+        return subRequests;
+    }
+
+    @Override
+    public PreparedPlcReadRequest prepare() {
+        return this;
+    }
+
+    private static LinkedHashMap<String, PlcTagItem<PlcTag>> getTagItems(DefaultPlcReadRequest request) {
+        LinkedHashMap<String, PlcTagItem<PlcTag>> tags = new LinkedHashMap<>();
+        for (String tagName : request.getTagNames()) {
+            tags.put(tagName, request.getTagItem(tagName));
+        }
+        return tags;
+    }
+
+}
@@ -20,6 +20,7 @@ package org.apache.plc4x.java.spi.messages;
 
 import org.apache.plc4x.java.api.messages.PlcReadRequest;
 import org.apache.plc4x.java.api.messages.PlcReadResponse;
+import org.apache.plc4x.java.api.messages.PreparedPlcReadRequest;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -36,4 +37,14 @@ public interface PlcReader {
      */
     CompletableFuture<PlcReadResponse> read(PlcReadRequest readRequest);
 
+    /**
+     * Prepares a request for being read repeatedly. Per default only the parsed tags are re-used.
+     *
+     * @param readRequest request built by this reader.
+     * @return prepared request, which is executed by passing it to {@link #read(PlcReadRequest)}.
+     */
+    default PreparedPlcReadRequest prepare(PlcReadRequest readRequest) {
+        return new DefaultPreparedPlcReadRequest(this, (DefaultPlcReadRequest) readRequest);
+    }
+
 }
@@ -0,0 +1,426 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.netty;
+
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link Timer} based on a hierarchical timing wheel.
+ * <p>
+ * Timeouts due within the next 64 ticks go to the innermost wheel, later ones to one of the three outer wheels,
+ * which cover 64 times the range of the next inner one each. Whenever an inner wheel completes a rotation, the
+ * due bucket of the next outer wheel is distributed to the inner wheels. So unlike the {@link
+ * io.netty.util.HashedWheelTimer} a tick only touches the timeouts that are actually due, which allows ticks of
+ * a few milliseconds without burning CPU on long timeouts.
+ * <p>
+ * Scheduling and cancelling only enqueue the timeout for the worker thread, so both are O(1) and lock-free, the
+ * worker unlinks cancelled timeouts from their bucket in O(1) as well. As with the {@link
+ * io.netty.util.HashedWheelTimer} the {@link TimerTask}s are executed by the worker thread, so they must not block.
+ */
+public class HierarchicalWheelTimer implements Timer {
+
+    private static final Logger logger = LoggerFactory.getLogger(HierarchicalWheelTimer.class);
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int NUMBER_OF_WHEELS = 4;
+    // Number of ticks covered by all wheels together, timeouts further in the future are re-sorted when reached.
+    private static final long MAX_TICKS = 1L << (WHEEL_BITS * NUMBER_OF_WHEELS);
+
+    private static final int STATE_INIT = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_STOPPED = 2;
+
+    private static final AtomicIntegerFieldUpdater<HierarchicalWheelTimer> STATE_UPDATER =
+        AtomicIntegerFieldUpdater.newUpdater(HierarchicalWheelTimer.class, "state");
+
+    private final long tickInNanoseconds;
+    private final LongSupplier clock;
+    private final Thread workerThread;
+    private final Bucket[][] wheels;
+    private final Queue<WheelTimeout> scheduledTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingTimeouts = new AtomicLong();
+    private final CountDownLatch startTimeInitialized = new CountDownLatch(1);
+
+    private volatile int state = STATE_INIT;
+    private volatile long startTime;
+    // Last tick processed by the worker thread, only accessed by it.
+    private long currentTick;
+
+    /**
+     * Creates a new timer, the worker thread is started with the first timeout or by calling {@link #start()}.
+     *
+     * @param threadFactory      factory for the worker thread.
+     * @param tickInMilliseconds granularity of the timer, timeouts fire at the first tick after their deadline.
+     */
+    public HierarchicalWheelTimer(ThreadFactory threadFactory, long tickInMilliseconds) {
+        this(threadFactory, tickInMilliseconds, System::nanoTime);
+    }
+
+    /**
+     * Creates a new timer running on the given clock, which allows tests to advance the time themselves.
+     *
+     * @param threadFactory      factory for the worker thread.
+     * @param tickInMilliseconds granularity of the timer, timeouts fire at the first tick after their deadline.
+     * @param clock              source of the current time in nanoseconds, like {@link System#nanoTime()}.
+     */
+    HierarchicalWheelTimer(ThreadFactory threadFactory, long tickInMilliseconds, LongSupplier clock) {
+        if (tickInMilliseconds <= 0) {
+            throw new IllegalArgumentException("tickInMilliseconds must be greater than 0: " + tickInMilliseconds);
+        }
+        this.tickInNanoseconds = TimeUnit.MILLISECONDS.toNanos(tickInMilliseconds);
+        this.clock = clock;
+        this.workerThread = threadFactory.newThread(this::run);
+        this.wheels = new Bucket[NUMBER_OF_WHEELS][WHEEL_SIZE];
+        for (Bucket[] wheel : wheels) {
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                wheel[i] = new Bucket();
+            }
+        }
+    }
+
+    /**
+     * Starts the worker thread, if it is not running yet.
+     */
+    public void start() {
+        switch (state) {
+            case STATE_INIT:
+                if (STATE_UPDATER.compareAndSet(this, STATE_INIT, STATE_STARTED)) {
+                    startTime = clock.getAsLong();
+                    startTimeInitialized.countDown();
+                    workerThread.start();
+                }
+                break;
+            case STATE_STARTED:
+                break;
+            default:
+                throw new IllegalStateException("cannot be started once stopped");
+        }
+        // Another thread might just be starting the timer.
+        boolean interrupted = false;
+        while (startTimeInitialized.getCount() != 0) {
+            try {
+                startTimeInitialized.await();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public Timeout newTimeout(TimerTask task, long delay, TimeUnit unit) {
+        if (task == null) {
+            throw new NullPointerException("task");
+        }
+        start();
+        long deadline = clock.getAsLong() - startTime + Math.max(unit.toNanos(delay), 0);
+        if (deadline < 0) {
+            // Overflow of a practically infinite delay.
+            deadline = Long.MAX_VALUE / 2;
+        }
+        WheelTimeout timeout = new WheelTimeout(this, task, deadline);
+        pendingTimeouts.incrementAndGet();
+        scheduledTimeouts.add(timeout);
+        return timeout;
+    }
+
+    @Override
+    public Set<Timeout> stop() {
+        if (Thread.currentThread() == workerThread) {
+            throw new IllegalStateException(
+                HierarchicalWheelTimer.class.getSimpleName() + ".stop() cannot be called from a TimerTask");
+        }
+        if (STATE_UPDATER.getAndSet(this, STATE_STOPPED) != STATE_STARTED) {
+            return new HashSet<>();
+        }
+        LockSupport.unpark(workerThread);
+        boolean interrupted = false;
+        while (workerThread.isAlive()) {
+            try {
+                workerThread.join(100);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        Set<Timeout> unprocessedTimeouts = new HashSet<>();
+        for (Bucket[] wheel : wheels) {
+            for (Bucket bucket : wheel) {
+                bucket.drainTo(unprocessedTimeouts);
+            }
+        }
+        WheelTimeout timeout;
+        while ((timeout = scheduledTimeouts.poll()) != null) {
+            if (!timeout.isCancelled()) {
+                unprocessedTimeouts.add(timeout);
+            }
+        }
+        return unprocessedTimeouts;
+    }
+
+    /**
+     * @return number of timeouts which have neither expired nor been cancelled yet.
+     */
+    public long pendingTimeouts() {
+        return pendingTimeouts.get();
+    }
+
+    private void run() {
+        while (state == STATE_STARTED) {
+            long sleepTime = startTime + (currentTick + 1) * tickInNanoseconds - clock.getAsLong();
+            if (sleepTime > 0) {
+                LockSupport.parkNanos(this, sleepTime);
+                continue;
+            }
+            processCancelledTimeouts();
+            transferScheduledTimeouts();
+            // Catch up with all ticks, which passed since the last run.
+            long lastDueTick = (clock.getAsLong() - startTime) / tickInNanoseconds;
+            while (currentTick < lastDueTick) {
+                currentTick++;
+                cascade();
+                expire(wheels[0][(int) (currentTick & WHEEL_MASK)]);
+            }
+        }
+    }
+
+    private void processCancelledTimeouts() {
+        WheelTimeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferScheduledTimeouts() {
+        WheelTimeout timeout;
+        while ((timeout = scheduledTimeouts.poll()) != null) {
+            if (!timeout.isCancelled()) {
+                schedule(timeout);
+            }
+        }
+    }
+
+    private void schedule(WheelTimeout timeout) {
+        // Round up, so a timeout never fires before its deadline.
+        long deadlineTick = (timeout.deadline + tickInNanoseconds - 1) / tickInNanoseconds;
+        long remainingTicks = deadlineTick - currentTick;
+        if (remainingTicks <= 0) {
+            timeout.expire();
+            return;
+        }
+        if (remainingTicks >= MAX_TICKS) {
+            // Park it in the outermost wheel, it gets re-sorted once that bucket is due.
+            remainingTicks = MAX_TICKS - 1;
+            deadlineTick = currentTick + remainingTicks;
+        }
+        int level = 0;
+        while (remainingTicks >= (1L << (WHEEL_BITS * (level + 1)))) {
+            level++;
+        }
+        wheels[level][(int) ((deadlineTick >>> (WHEEL_BITS * level)) & WHEEL_MASK)].add(timeout);
+    }
+
+    /**
+     * Whenever a wheel completes a rotation, re-distributes the now due bucket of the next outer wheel.
+     */
+    private void cascade() {
+        for (int level = 1; level < NUMBER_OF_WHEELS; level++) {
+            if ((currentTick & ((1L << (WHEEL_BITS * level)) - 1)) != 0) {
+                return;
+            }
+            Bucket bucket = wheels[level][(int) ((currentTick >>> (WHEEL_BITS * level)) & WHEEL_MASK)];
+            WheelTimeout timeout = bucket.removeAll();
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                timeout.next = null;
+                if (!timeout.isCancelled()) {
+                    schedule(timeout);
+                }
+                timeout = next;
+            }
+        }
+    }
+
+    private void expire(Bucket bucket) {
+        WheelTimeout timeout = bucket.removeAll();
+        while (timeout != null) {
+            WheelTimeout next = timeout.next;
+            timeout.next = null;
+            timeout.expire();
+            timeout = next;
+        }
+    }
+
+    /**
+     * Doubly linked list of the timeouts of one wheel slot, only accessed by the worker thread.
+     */
+    private static final class Bucket {
+
+        private WheelTimeout head;
+        private WheelTimeout tail;
+
+        void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void remove(WheelTimeout timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        /**
+         * Detaches all timeouts, they stay chained via {@link WheelTimeout#next}.
+         */
+        WheelTimeout removeAll() {
+            WheelTimeout first = head;
+            for (WheelTimeout timeout = first; timeout != null; timeout = timeout.next) {
+                timeout.prev = null;
+                timeout.bucket = null;
+            }
+            head = tail = null;
+            return first;
+        }
+
+        void drainTo(Set<Timeout> timeouts) {
+            WheelTimeout timeout = removeAll();
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                timeout.next = null;
+                if (!timeout.isCancelled()) {
+                    timeouts.add(timeout);
+                }
+                timeout = next;
+            }
+        }
+    }
+
+    private static final class WheelTimeout implements Timeout {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<WheelTimeout> STATE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(WheelTimeout.class, "state");
+
+        private final HierarchicalWheelTimer timer;
+        private final TimerTask task;
+        // Deadline in nanoseconds relative to the start of the timer.
+        private final long deadline;
+        private volatile int state = ST_INIT;
+
+        // Only accessed by the worker thread.
+        private Bucket bucket;
+        private WheelTimeout prev;
+        private WheelTimeout next;
+
+        WheelTimeout(HierarchicalWheelTimer timer, TimerTask task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public Timer timer() {
+            return timer;
+        }
+
+        @Override
+        public TimerTask task() {
+            return task;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state == ST_EXPIRED;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            timer.pendingTimeouts.decrementAndGet();
+            // Let the worker thread unlink it, so the bucket doesn't keep it alive until its deadline.
+            timer.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        void expire() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            timer.pendingTimeouts.decrementAndGet();
+            try {
+                task.run(this);
+            } catch (Throwable t) {
+                logger.warn("An exception was thrown by {}.", TimerTask.class.getSimpleName(), t);
+            }
+        }
+    }
+
+}
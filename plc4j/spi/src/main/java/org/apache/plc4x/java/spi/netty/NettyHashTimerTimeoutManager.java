@@ -22,6 +22,7 @@ import io.netty.util.HashedWheelTimer;
 import io.netty.util.Timeout;
 import io.netty.util.Timer;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import org.apache.plc4x.java.spi.TimedOperation;
@@ -30,6 +31,9 @@ import org.apache.plc4x.java.spi.TimeoutManager;
 public class NettyHashTimerTimeoutManager implements TimeoutManager {
 
     private final Timer timer;
+    private final boolean ownsTimer;
+    /** Pending timeouts, only tracked if the timer is shared, so stop() can cancel just our own */
+    private final Set<Timeout> pendingTimeouts = ConcurrentHashMap.newKeySet();
 
     public NettyHashTimerTimeoutManager() {
         this(100L);
@@ -42,39 +46,63 @@ public class NettyHashTimerTimeoutManager implements TimeoutManager {
     public NettyHashTimerTimeoutManager(long tickInMilliseconds) {
         HashedWheelTimer wheelTimer = new HashedWheelTimer(tickInMilliseconds, TimeUnit.MILLISECONDS);
         timer = wheelTimer;
+        ownsTimer = true;
         wheelTimer.start();
     }
 
+    /**
+     * Creates a new NettyHashTimerTimeoutManager using an existing timer.
+     * @param timer timer to schedule the timeouts on.
+     * @param ownsTimer if true, the timer is stopped when this manager is stopped, if false only the
+     *                  timeouts registered with this manager are cancelled.
+     */
+    public NettyHashTimerTimeoutManager(Timer timer, boolean ownsTimer) {
+        this.timer = timer;
+        this.ownsTimer = ownsTimer;
+    }
+
     @Override
     public CompletionCallback<?> register(TimedOperation operation) {
         Timeout newTimeout = timer.newTimeout(timeout -> {
+            pendingTimeouts.remove(timeout);
             if (timeout.isCancelled()) {
                 return;
             }
             TimeoutException exception = new TimeoutException();
             operation.getOnTimeoutConsumer().accept(exception);
         }, operation.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        if (!ownsTimer) {
+            pendingTimeouts.add(newTimeout);
+        }
 
-        return new TimeoutCompletionCallback<>(newTimeout);
+        return new TimeoutCompletionCallback<>(newTimeout, pendingTimeouts);
     }
 
     @Override
     public void stop() {
-        Set<Timeout> timeouts = timer.stop();
-        timeouts.forEach(Timeout::cancel);
+        if (ownsTimer) {
+            Set<Timeout> timeouts = timer.stop();
+            timeouts.forEach(Timeout::cancel);
+        } else {
+            pendingTimeouts.forEach(Timeout::cancel);
+            pendingTimeouts.clear();
+        }
     }
 
     static class TimeoutCompletionCallback<T> implements CompletionCallback<T> {
 
         private final Timeout timeout;
+        private final Set<Timeout> pendingTimeouts;
 
-        TimeoutCompletionCallback(Timeout timeout) {
+        TimeoutCompletionCallback(Timeout timeout, Set<Timeout> pendingTimeouts) {
             this.timeout = timeout;
+            this.pendingTimeouts = pendingTimeouts;
         }
 
         @Override
         public void complete() {
             timeout.cancel();
+            pendingTimeouts.remove(timeout);
         }
     }
 }
@@ -27,16 +27,24 @@ import org.apache.plc4x.java.spi.messages.DefaultPlcReadResponse;
 import org.apache.plc4x.java.spi.messages.DefaultPlcWriteResponse;
 import org.apache.plc4x.java.spi.messages.utils.DefaultPlcResponseItem;
 import org.apache.plc4x.java.spi.messages.utils.PlcResponseItem;
+import org.apache.plc4x.java.spi.runtime.DriverRuntime;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 public abstract class BaseOptimizer {
 
+    // Optimizers are created per connection, so this paces the sub-requests of one connection.
+    private final RequestPacer requestPacer = new RequestPacer();
+
     protected List<PlcReadRequest> processReadRequest(PlcReadRequest readRequest, DriverContext driverContext) {
         return Collections.singletonList(readRequest);
     }
@@ -109,24 +117,47 @@ public abstract class BaseOptimizer {
 
     public CompletableFuture<PlcReadResponse> optimizedRead(PlcReadRequest readRequest, Plc4xProtocolBase<?> reader) {
         List<PlcReadRequest> subRequests = processReadRequest(readRequest, reader.getDriverContext());
-        return send(readRequest, subRequests, reader::read, response -> processReadResponses(readRequest, response, reader.getDriverContext()));
+        return send(readRequest, subRequests, reader, reader::read, response -> processReadResponses(readRequest, response, reader.getDriverContext()));
+    }
+
+    /**
+     * Splits up a request, which is going to be read repeatedly, only once.
+     *
+     * @param readRequest request being prepared.
+     * @param reader      protocol the request will be read with.
+     * @return sub-requests to pass to {@link #optimizedRead(PlcReadRequest, List, Plc4xProtocolBase)}.
+     */
+    public List<PlcReadRequest> prepareRead(PlcReadRequest readRequest, Plc4xProtocolBase<?> reader) {
+        return processReadRequest(readRequest, reader.getDriverContext());
+    }
+
+    /**
+     * Reads a request, which has already been split up by {@link #prepareRead(PlcReadRequest, Plc4xProtocolBase)}.
+     *
+     * @param readRequest request being read.
+     * @param subRequests sub-requests prepared for it (possibly replaced by prepared ones of the protocol).
+     * @param reader      protocol to read the sub-requests with.
+     * @return future for the merged response.
+     */
+    public CompletableFuture<PlcReadResponse> optimizedRead(PlcReadRequest readRequest, List<PlcReadRequest> subRequests, Plc4xProtocolBase<?> reader) {
+        return send(readRequest, subRequests, reader, reader::read, response -> processReadResponses(readRequest, response, reader.getDriverContext()));
     }
 
     public CompletableFuture<PlcWriteResponse> optimizedWrite(PlcWriteRequest writeRequest, Plc4xProtocolBase<?> writer) {
         List<PlcWriteRequest> subRequests = processWriteRequest(writeRequest, writer.getDriverContext());
-        return send(writeRequest, subRequests, writer::write, response -> processWriteResponses(writeRequest, response, writer.getDriverContext()));
+        return send(writeRequest, subRequests, writer, writer::write, response -> processWriteResponses(writeRequest, response, writer.getDriverContext()));
     }
 
     public CompletableFuture<PlcSubscriptionResponse> optimizedSubscribe(
         PlcSubscriptionRequest subscriptionRequest, Plc4xProtocolBase<?> subscriber) {
         List<PlcSubscriptionRequest> subRequests = processSubscriptionRequest(subscriptionRequest, subscriber.getDriverContext());
-        return send(subscriptionRequest, subRequests, subscriber::subscribe, response -> processSubscriptionResponses(subscriptionRequest, response, subscriber.getDriverContext()));
+        return send(subscriptionRequest, subRequests, subscriber, subscriber::subscribe, response -> processSubscriptionResponses(subscriptionRequest, response, subscriber.getDriverContext()));
     }
 
     public CompletableFuture<PlcUnsubscriptionResponse> optimizedUnsubscribe(
         PlcUnsubscriptionRequest unsubscriptionRequest, Plc4xProtocolBase<?> subscriber) {
         List<PlcUnsubscriptionRequest> subRequests = processUnsubscriptionRequest(unsubscriptionRequest, subscriber.getDriverContext());
-        return send(unsubscriptionRequest, subRequests, subscriber::unsubscribe, response -> processUnsubscriptionResponses(unsubscriptionRequest, response, subscriber.getDriverContext()));
+        return send(unsubscriptionRequest, subRequests, subscriber, subscriber::unsubscribe, response -> processUnsubscriptionResponses(unsubscriptionRequest, response, subscriber.getDriverContext()));
     }
 
     /**
@@ -149,9 +180,40 @@ public abstract class BaseOptimizer {
         return 0;
     }
 
+    /**
+     * Maximum rate at which the sub-requests of a split up request are sent out. The requests are paced
+     * asynchronously, so the calling thread is never blocked.
+     * Per default the rate is derived from {@link #getMillisDelay()} and {@link #getNanosDelay()}.
+     *
+     * @param driverContext context of the connection.
+     * @return number of requests per second or 0, if the rate isn't limited.
+     */
+    protected double getRequestsPerSecond(DriverContext driverContext) {
+        long delayInNanos = TimeUnit.MILLISECONDS.toNanos(getMillisDelay()) + getNanosDelay();
+        return (delayInNanos > 0) ? (double) TimeUnit.SECONDS.toNanos(1) / delayInNanos : 0;
+    }
+
+    /**
+     * @param driverContext context of the connection.
+     * @return number of sub-requests which may be sent out at once without respecting the rate, after the
+     * connection was idle for a while.
+     */
+    protected int getBurstSize(DriverContext driverContext) {
+        return 1;
+    }
+
+    /**
+     * @param driverContext context of the connection.
+     * @return number of sub-requests which may be outstanding at the same time or 0, if this isn't limited.
+     */
+    protected int getMaxConcurrentRequests(DriverContext driverContext) {
+        return 0;
+    }
+
     private <REQ extends PlcRequest, RES extends PlcResponse> CompletableFuture<RES> send(
         REQ originalRequest,
         List<REQ> requests,
+        Plc4xProtocolBase<?> protocol,
         Function<REQ, CompletableFuture<RES>> sender,
         Function<Map<REQ, SubResponse<RES>>, RES> responseProcessor) {
         // If this send has only one sub-request and this matches the original one, don't do any special handling
@@ -169,46 +231,48 @@ public abstract class BaseOptimizer {
         // Create a new future which will be used to return the aggregated response back to the application.
         CompletableFuture<RES> parentFuture = new CompletableFuture<>();
 
-        // Create one sub-request for every single tag and store the futures in a map.
-        Map<REQ, CompletableFuture<RES>> subFutures = new HashMap<>();
+        // Hand every sub-request to the pacer, which sends them out as soon as the limits of the connection
+        // allow it, and store the futures in a map.
+        DriverContext driverContext = protocol.getDriverContext();
+        DriverRuntime driverRuntime = protocol.getDriverRuntime();
+        requestPacer.configure(getRequestsPerSecond(driverContext), getBurstSize(driverContext),
+            getMaxConcurrentRequests(driverContext), (driverRuntime != null) ? driverRuntime.getWorkerExecutor() : null);
+        Map<REQ, CompletableFuture<RES>> subFutures = new LinkedHashMap<>();
         for (REQ subRequest : requests) {
-            subFutures.put(subRequest, sender.apply(subRequest));
-            // Potentially add a delay between sending messages.
-            if((getMillisDelay() > 0) || (getNanosDelay() > 0)) {
-                try {
-                    Thread.sleep(getMillisDelay(), getNanosDelay());
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            }
+            subFutures.put(subRequest, requestPacer.submit(() -> sender.apply(subRequest)));
         }
 
         // As soon as all sub-futures are done, merge the individual responses back to one big response.
-        CompletableFuture.allOf(subFutures.values().toArray(new CompletableFuture[0])).handle((aVoid, t) -> {
-            if (t != null) {
-                parentFuture.completeExceptionally(t);
-            }
+        // Failed sub-requests are passed on to the response processor, only if all of them failed, the
+        // whole request fails.
+        CompletableFuture.allOf(subFutures.values().toArray(new CompletableFuture[0])).whenComplete((aVoid, t) -> {
             Map<REQ, SubResponse<RES>> results = new HashMap<>();
+            Throwable firstFailure = null;
+            boolean anySucceeded = false;
             for (Map.Entry<REQ, CompletableFuture<RES>> subFutureEntry : subFutures.entrySet()) {
                 REQ subRequest = subFutureEntry.getKey();
                 CompletableFuture<RES> subFuture = subFutureEntry.getValue();
                 try {
-                    final RES subResponse = subFuture.get();
-                    results.put(subRequest, new SubResponse<>(subResponse));
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    results.put(subRequest, new SubResponse<>(new Exception("Something went wrong")));
-                } catch (Exception e) {
-                    results.put(subRequest, new SubResponse<>(new Exception("Something went wrong")));
+                    results.put(subRequest, new SubResponse<>(subFuture.join()));
+                    anySucceeded = true;
+                } catch (CompletionException e) {
+                    Throwable cause = (e.getCause() != null) ? e.getCause() : e;
+                    results.put(subRequest, new SubResponse<>(cause));
+                    firstFailure = (firstFailure != null) ? firstFailure : cause;
+                } catch (CancellationException e) {
+                    results.put(subRequest, new SubResponse<>(e));
+                    firstFailure = (firstFailure != null) ? firstFailure : e;
                 }
             }
-            RES response = responseProcessor.apply(results);
-            parentFuture.complete(response);
-            return Void.TYPE;
-        }).exceptionally(throwable -> {
-            // TODO: If would be cool if we could still process all of the successful ones ...
-            parentFuture.completeExceptionally(throwable);
-            return null;
+            if (!anySucceeded) {
+                parentFuture.completeExceptionally(firstFailure);
+                return;
+            }
+            try {
+                parentFuture.complete(responseProcessor.apply(results));
+            } catch (RuntimeException e) {
+                parentFuture.completeExceptionally(e);
+            }
         });
         return parentFuture;
     }
@@ -0,0 +1,388 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.optimizer;
+
+import org.apache.plc4x.java.api.messages.PlcReadRequest;
+import org.apache.plc4x.java.api.messages.PlcReadResponse;
+import org.apache.plc4x.java.api.model.PlcTag;
+import org.apache.plc4x.java.api.types.PlcResponseCode;
+import org.apache.plc4x.java.api.value.PlcValue;
+import org.apache.plc4x.java.spi.context.DriverContext;
+import org.apache.plc4x.java.spi.generation.ParseException;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadRequest;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadResponse;
+import org.apache.plc4x.java.spi.messages.PlcReader;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcResponseItem;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcResponseItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcTagItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Optimizer, which reads tags living close to each other in the memory of the PLC with a single block read and
+ * slices the values of the individual tags out of the block afterwards.
+ * <p>
+ * The tags of every address space are sorted by address and merged into blocks as long as the block fits into the
+ * payload of a request. Two tags are also merged if there is a gap in between them, as long as reading the gap is
+ * cheaper than an additional request (or an additional item, if the protocol supports multiple items per request)
+ * and the gap doesn't exceed the maximum gap of the address space. The blocks are then packed into as few requests
+ * as possible. Tags, which can't be coalesced, are read with requests of their own.
+ * <p>
+ * All knowledge about the protocol comes from the {@link CoalescingSupport} of the driver.
+ */
+public class CoalescingOptimizer extends BaseOptimizer {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoalescingOptimizer.class);
+
+    private final CoalescingSupport coalescingSupport;
+
+    public CoalescingOptimizer(CoalescingSupport coalescingSupport) {
+        this.coalescingSupport = coalescingSupport;
+    }
+
+    @Override
+    protected List<PlcReadRequest> processReadRequest(PlcReadRequest readRequest, DriverContext driverContext) {
+        if (readRequest.getNumberOfTags() <= 1) {
+            return Collections.singletonList(readRequest);
+        }
+        PlcReader reader = ((DefaultPlcReadRequest) readRequest).getReader();
+        int maxPayloadSize = coalescingSupport.getMaxPayloadSize(driverContext);
+        int maxItemsPerRequest = Math.max(1, coalescingSupport.getMaxItemsPerRequest(driverContext));
+        int itemOverhead = coalescingSupport.getItemOverhead(driverContext);
+
+        Map<String, PlcTag> tags = new LinkedHashMap<>();
+        for (String tagName : readRequest.getTagNames()) {
+            tags.put(tagName, readRequest.getTag(tagName));
+        }
+        List<String> individualTagNames = new ArrayList<>();
+        List<Block> blocks = planBlocks(coalescingSupport, driverContext, tags, individualTagNames);
+
+        // Pack the blocks into requests.
+        List<PlcReadRequest> subRequests = new ArrayList<>();
+        LinkedHashMap<String, PlcTagItem<PlcTag>> subTags = new LinkedHashMap<>();
+        Map<String, Block> subBlocks = new HashMap<>();
+        int payloadSize = 0;
+        for (Block block : blocks) {
+            int blockSize = toBytes(block.endAddress - block.startAddress, block.elementSizeInBits) + itemOverhead;
+            if (!subTags.isEmpty() && ((subTags.size() >= maxItemsPerRequest) || (payloadSize + blockSize > maxPayloadSize))) {
+                subRequests.add(new BlockReadRequest(reader, subTags, subBlocks));
+                subTags = new LinkedHashMap<>();
+                subBlocks = new HashMap<>();
+                payloadSize = 0;
+            }
+            String blockName = "block" + subBlocks.size();
+            PlcTag blockTag = coalescingSupport.createBlockTag(
+                block.addressSpace, block.startAddress, block.endAddress - block.startAddress);
+            subTags.put(blockName, new DefaultPlcTagItem<>(blockTag));
+            subBlocks.put(blockName, block);
+            payloadSize += blockSize;
+        }
+        if (!subTags.isEmpty()) {
+            subRequests.add(new BlockReadRequest(reader, subTags, subBlocks));
+        }
+
+        // All others are read on their own.
+        for (String tagName : individualTagNames) {
+            subRequests.add(new DefaultPlcReadRequest(reader, new LinkedHashMap<>(
+                Collections.singletonMap(tagName, new DefaultPlcTagItem<>(readRequest.getTag(tagName))))));
+        }
+        return subRequests;
+    }
+
+    /**
+     * Merges the tags into blocks, without packing the blocks into requests. This allows drivers with their own
+     * rules for packing requests to share the rules for merging tags.
+     *
+     * @param coalescingSupport  memory model of the driver.
+     * @param driverContext      context of the connection.
+     * @param tags               tags by their names.
+     * @param individualTagNames names of the tags, which can't be read as part of a block, are added to this list.
+     * @return blocks of all address spaces.
+     */
+    public static List<Block> planBlocks(CoalescingSupport coalescingSupport, DriverContext driverContext,
+                                         Map<String, PlcTag> tags, List<String> individualTagNames) {
+        int maxPayloadSize = coalescingSupport.getMaxPayloadSize(driverContext);
+        int maxItemsPerRequest = Math.max(1, coalescingSupport.getMaxItemsPerRequest(driverContext));
+        int itemOverhead = coalescingSupport.getItemOverhead(driverContext);
+        // Instead of reading a gap, a new block could be started, which costs an item or a whole request.
+        int costOfNewBlock = (maxItemsPerRequest > 1) ? itemOverhead : coalescingSupport.getRequestOverhead(driverContext);
+
+        // Sort the tags into their address spaces.
+        Map<Object, List<TagRange>> addressSpaces = new LinkedHashMap<>();
+        for (Map.Entry<String, PlcTag> tagEntry : tags.entrySet()) {
+            PlcTag tag = tagEntry.getValue();
+            Object addressSpace = coalescingSupport.getAddressSpace(tag);
+            if (addressSpace == null) {
+                individualTagNames.add(tagEntry.getKey());
+                continue;
+            }
+            long startAddress = coalescingSupport.getStartAddress(tag);
+            long endAddress = startAddress + coalescingSupport.getNumberOfElements(tag);
+            addressSpaces.computeIfAbsent(addressSpace, key -> new ArrayList<>())
+                .add(new TagRange(tagEntry.getKey(), startAddress, endAddress));
+        }
+
+        // Plan the blocks of every address space.
+        List<Block> blocks = new ArrayList<>();
+        for (Map.Entry<Object, List<TagRange>> addressSpaceEntry : addressSpaces.entrySet()) {
+            Object addressSpace = addressSpaceEntry.getKey();
+            List<TagRange> tagRanges = addressSpaceEntry.getValue();
+            tagRanges.sort(Comparator.comparingLong(TagRange::getStartAddress)
+                .thenComparing(Comparator.comparingLong(TagRange::getEndAddress).reversed()));
+            int elementSizeInBits = coalescingSupport.getElementSizeInBits(addressSpace);
+            long maxElementsPerBlock = ((long) (maxPayloadSize - itemOverhead) * 8) / elementSizeInBits;
+            long maxGap = coalescingSupport.getMaxGap(addressSpace);
+
+            Block block = null;
+            for (TagRange tagRange : tagRanges) {
+                if (tagRange.getEndAddress() - tagRange.getStartAddress() > maxElementsPerBlock) {
+                    // Doesn't fit into any block, so it's up to the driver to handle it.
+                    individualTagNames.add(tagRange.getTagName());
+                    continue;
+                }
+                if (block != null) {
+                    long gap = tagRange.getStartAddress() - block.endAddress;
+                    long endAddress = Math.max(block.endAddress, tagRange.getEndAddress());
+                    boolean fits = (endAddress - block.startAddress) <= maxElementsPerBlock;
+                    boolean bridgeGap = (gap <= 0) ||
+                        ((gap <= maxGap) && (toBytes(gap, elementSizeInBits) < costOfNewBlock));
+                    if (fits && bridgeGap) {
+                        block.endAddress = endAddress;
+                        block.tagNames.add(tagRange.getTagName());
+                        continue;
+                    }
+                }
+                block = new Block(addressSpace, elementSizeInBits, tagRange.getStartAddress(), tagRange.getEndAddress());
+                block.tagNames.add(tagRange.getTagName());
+                blocks.add(block);
+            }
+        }
+        return blocks;
+    }
+
+    @Override
+    protected PlcReadResponse processReadResponses(PlcReadRequest readRequest, Map<PlcReadRequest, SubResponse<PlcReadResponse>> readResponses, DriverContext driverContext) {
+        Map<String, PlcResponseItem<PlcValue>> values = new HashMap<>();
+        Map<Object, List<Block>> addressSpaces = new HashMap<>();
+        Map<Block, BlockResult> blockResults = new IdentityHashMap<>();
+        for (Map.Entry<PlcReadRequest, SubResponse<PlcReadResponse>> readResponseEntry : readResponses.entrySet()) {
+            PlcReadRequest subRequest = readResponseEntry.getKey();
+            SubResponse<PlcReadResponse> subResponse = readResponseEntry.getValue();
+            if (subRequest instanceof BlockReadRequest) {
+                for (Map.Entry<String, Block> blockEntry : ((BlockReadRequest) subRequest).getBlocks().entrySet()) {
+                    String blockName = blockEntry.getKey();
+                    Block block = blockEntry.getValue();
+                    addressSpaces.computeIfAbsent(block.addressSpace, key -> new ArrayList<>()).add(block);
+                    blockResults.put(block, getBlockResult(subRequest, subResponse, blockName));
+                }
+            } else {
+                // Tag read on its own.
+                for (String tagName : subRequest.getTagNames()) {
+                    if (subResponse.isSuccess()) {
+                        PlcReadResponse response = subResponse.getResponse();
+                        values.put(tagName, new DefaultPlcResponseItem<>(
+                            response.getResponseCode(tagName), response.getPlcValue(tagName)));
+                    } else {
+                        values.put(tagName, new DefaultPlcResponseItem<>(PlcResponseCode.INTERNAL_ERROR, null));
+                    }
+                }
+            }
+        }
+        for (List<Block> blocks : addressSpaces.values()) {
+            blocks.sort(Comparator.comparingLong(block -> block.startAddress));
+        }
+
+        // Slice the values of the original tags out of the blocks.
+        for (String tagName : readRequest.getTagNames()) {
+            if (values.containsKey(tagName)) {
+                continue;
+            }
+            PlcTag tag = readRequest.getTag(tagName);
+            long startAddress = coalescingSupport.getStartAddress(tag);
+            long endAddress = startAddress + coalescingSupport.getNumberOfElements(tag);
+            Block block = findBlock(addressSpaces.get(coalescingSupport.getAddressSpace(tag)), startAddress, endAddress);
+            if (block == null) {
+                values.put(tagName, new DefaultPlcResponseItem<>(PlcResponseCode.INTERNAL_ERROR, null));
+                continue;
+            }
+            BlockResult blockResult = blockResults.get(block);
+            if (blockResult.responseCode != PlcResponseCode.OK) {
+                values.put(tagName, new DefaultPlcResponseItem<>(blockResult.responseCode, null));
+                continue;
+            }
+            long offsetInBits = (startAddress - block.startAddress) * block.elementSizeInBits;
+            try {
+                PlcValue value = coalescingSupport.parseTagValue(tag, blockResult.data, offsetInBits);
+                values.put(tagName, new DefaultPlcResponseItem<>(PlcResponseCode.OK, value));
+            } catch (ParseException | RuntimeException e) {
+                logger.debug("Error parsing tag {} out of block at {}", tagName, block.startAddress, e);
+                values.put(tagName, new DefaultPlcResponseItem<>(PlcResponseCode.INTERNAL_ERROR, null));
+            }
+        }
+        return new DefaultPlcReadResponse(readRequest, values);
+    }
+
+    private BlockResult getBlockResult(PlcReadRequest subRequest, SubResponse<PlcReadResponse> subResponse, String blockName) {
+        if (!subResponse.isSuccess()) {
+            return new BlockResult(PlcResponseCode.INTERNAL_ERROR, null);
+        }
+        PlcReadResponse response = subResponse.getResponse();
+        PlcResponseCode responseCode = response.getResponseCode(blockName);
+        if (responseCode != PlcResponseCode.OK) {
+            return new BlockResult(responseCode, null);
+        }
+        byte[] data = coalescingSupport.getBlockData(subRequest.getTag(blockName), response, blockName);
+        if (data == null) {
+            return new BlockResult(PlcResponseCode.INTERNAL_ERROR, null);
+        }
+        return new BlockResult(PlcResponseCode.OK, data);
+    }
+
+    /**
+     * @return the block containing the given range, blocks must be sorted by their start address.
+     */
+    private static Block findBlock(List<Block> blocks, long startAddress, long endAddress) {
+        if (blocks == null) {
+            return null;
+        }
+        // Find the last block starting before the tag and go back from there, blocks may overlap.
+        int low = 0;
+        int high = blocks.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (blocks.get(middle).startAddress <= startAddress) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        for (int i = high; i >= 0; i--) {
+            Block block = blocks.get(i);
+            if (block.endAddress >= endAddress) {
+                return block;
+            }
+        }
+        return null;
+    }
+
+    private static int toBytes(long numberOfElements, int elementSizeInBits) {
+        return (int) ((numberOfElements * elementSizeInBits + 7) / 8);
+    }
+
+    private static class TagRange {
+        private final String tagName;
+        private final long startAddress;
+        private final long endAddress;
+
+        TagRange(String tagName, long startAddress, long endAddress) {
+            this.tagName = tagName;
+            this.startAddress = startAddress;
+            this.endAddress = endAddress;
+        }
+
+        String getTagName() {
+            return tagName;
+        }
+
+        long getStartAddress() {
+            return startAddress;
+        }
+
+        long getEndAddress() {
+            return endAddress;
+        }
+    }
+
+    /**
+     * Range of an address space read at once, instead of the tags located in it.
+     */
+    public static final class Block {
+        private final Object addressSpace;
+        private final int elementSizeInBits;
+        private final long startAddress;
+        private long endAddress;
+        private final List<String> tagNames = new ArrayList<>();
+
+        Block(Object addressSpace, int elementSizeInBits, long startAddress, long endAddress) {
+            this.addressSpace = addressSpace;
+            this.elementSizeInBits = elementSizeInBits;
+            this.startAddress = startAddress;
+            this.endAddress = endAddress;
+        }
+
+        /**
+         * @return address space as returned by {@link CoalescingSupport#getAddressSpace(PlcTag)}.
+         */
+        public Object getAddressSpace() {
+            return addressSpace;
+        }
+
+        public long getStartAddress() {
+            return startAddress;
+        }
+
+        public long getNumberOfElements() {
+            return endAddress - startAddress;
+        }
+
+        /**
+         * @return names of the tags located in the block, ordered by their address.
+         */
+        public List<String> getTagNames() {
+            return tagNames;
+        }
+    }
+
+    private static class BlockResult {
+        private final PlcResponseCode responseCode;
+        private final byte[] data;
+
+        BlockResult(PlcResponseCode responseCode, byte[] data) {
+            this.responseCode = responseCode;
+            this.data = data;
+        }
+    }
+
+    /**
+     * Sub-request reading blocks, remembers which block every item reads.
+     */
+    private static class BlockReadRequest extends DefaultPlcReadRequest {
+        private final Map<String, Block> blocks;
+
+        BlockReadRequest(PlcReader reader, LinkedHashMap<String, PlcTagItem<PlcTag>> tags, Map<String, Block> blocks) {
+            super(reader, tags);
+            this.blocks = blocks;
+        }
+
+        Map<String, Block> getBlocks() {
+            return blocks;
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.optimizer;
+
+import org.apache.plc4x.java.api.messages.PlcReadResponse;
+import org.apache.plc4x.java.api.model.PlcTag;
+import org.apache.plc4x.java.api.value.PlcValue;
+import org.apache.plc4x.java.spi.context.DriverContext;
+import org.apache.plc4x.java.spi.generation.ParseException;
+
+/**
+ * Describes the memory model of a driver to the {@link CoalescingOptimizer}.
+ * <p>
+ * Every tag that can be coalesced lives in an address space (e.g. a data block, a Modbus register type or an ADS
+ * index group) and covers a contiguous range of elements in it. Addresses and sizes are counted in elements of the
+ * address space (bytes, registers, coils, ...), the payload limits and overheads are counted in bytes.
+ */
+public interface CoalescingSupport {
+
+    /**
+     * @param tag tag of the original request.
+     * @return identifier of the address space the tag lives in (must implement equals and hashCode), or null if
+     * the tag can't be read as part of a block (it is then read on its own).
+     */
+    Object getAddressSpace(PlcTag tag);
+
+    /**
+     * @param tag tag of the original request.
+     * @return address of the first element of the tag.
+     */
+    long getStartAddress(PlcTag tag);
+
+    /**
+     * @param tag tag of the original request.
+     * @return number of elements the tag covers.
+     */
+    long getNumberOfElements(PlcTag tag);
+
+    /**
+     * @param addressSpace address space as returned by {@link #getAddressSpace(PlcTag)}.
+     * @return size of one element of the address space in bits.
+     */
+    int getElementSizeInBits(Object addressSpace);
+
+    /**
+     * @param driverContext context of the connection.
+     * @return maximum number of bytes the data of one request (all items of it) may add up to.
+     */
+    int getMaxPayloadSize(DriverContext driverContext);
+
+    /**
+     * @param driverContext context of the connection.
+     * @return maximum number of blocks, which can be read by a single request.
+     */
+    default int getMaxItemsPerRequest(DriverContext driverContext) {
+        return 1;
+    }
+
+    /**
+     * @param driverContext context of the connection.
+     * @return cost of an additional request (headers plus the round-trip) expressed in bytes of payload.
+     */
+    int getRequestOverhead(DriverContext driverContext);
+
+    /**
+     * @param driverContext context of the connection.
+     * @return bytes every additional item in a request costs (item header, alignment, ...).
+     */
+    default int getItemOverhead(DriverContext driverContext) {
+        return 0;
+    }
+
+    /**
+     * Some devices fail reading addresses no tag was requested for, so this limits how many unrequested elements
+     * may be read in between two tags, even if reading them would be cheaper than an additional request or item.
+     *
+     * @param addressSpace address space as returned by {@link #getAddressSpace(PlcTag)}.
+     * @return maximum number of elements a block may contain between two requested tags.
+     */
+    long getMaxGap(Object addressSpace);
+
+    /**
+     * @param addressSpace     address space of the block.
+     * @param startAddress     address of the first element of the block.
+     * @param numberOfElements number of elements of the block.
+     * @return tag reading the given block as raw data.
+     */
+    PlcTag createBlockTag(Object addressSpace, long startAddress, long numberOfElements);
+
+    /**
+     * @param blockTag tag created by {@link #createBlockTag(Object, long, long)}.
+     * @param response response of the request the block was read with.
+     * @param tagName  name of the block in the response.
+     * @return data of the block.
+     */
+    default byte[] getBlockData(PlcTag blockTag, PlcReadResponse response, String tagName) {
+        return response.getPlcValue(tagName).getRaw();
+    }
+
+    /**
+     * @param tag          tag of the original request.
+     * @param blockData    data of the block containing the tag.
+     * @param offsetInBits position of the first element of the tag in the block data.
+     * @return value of the tag.
+     * @throws ParseException if the data can't be parsed.
+     */
+    PlcValue parseTagValue(PlcTag tag, byte[] blockData, long offsetInBits) throws ParseException;
+
+}
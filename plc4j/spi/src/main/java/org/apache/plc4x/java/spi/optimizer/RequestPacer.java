@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.optimizer;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Paces the sub-requests an optimizer splits a request into without blocking the calling thread.
+ * <p>
+ * A request is released as soon as a slot of the window of concurrently outstanding requests is free
+ * and the token-bucket grants a token. Tokens are refilled at the configured rate and up to the burst
+ * size can be accumulated. If a request has to wait for a token, its release is scheduled on the
+ * scheduler, if it has to wait for a slot, it is released by the completion of an outstanding one.
+ * <p>
+ * One instance is used per connection.
+ */
+public class RequestPacer {
+
+    private static ScheduledExecutorService defaultScheduler;
+
+    private final Deque<PendingRequest<?>> pendingRequests = new ArrayDeque<>();
+
+    private ScheduledExecutorService scheduler;
+    // 0 means the rate isn't limited.
+    private double tokensPerNano;
+    private int burstSize = 1;
+    // 0 means the number of outstanding requests isn't limited.
+    private int maxConcurrentRequests;
+
+    // Starts with a full bucket, configure() limits it to the burst size.
+    private double tokens = Double.MAX_VALUE;
+    private long lastRefill = System.nanoTime();
+    private int outstandingRequests;
+    private boolean releaseScheduled;
+    private boolean draining;
+    private boolean drainAgain;
+
+    /**
+     * Updates the limits, is cheap enough to be called before every batch of requests, as some limits are
+     * only known after connecting.
+     *
+     * @param requestsPerSecond     number of requests released per second (0 for no limit).
+     * @param burstSize             number of requests which can be released at once after being idle.
+     * @param maxConcurrentRequests number of requests being outstanding at the same time (0 for no limit).
+     * @param scheduler             scheduler used to release requests waiting for a token, if null a
+     *                              scheduler shared by all connections is used.
+     */
+    public synchronized void configure(double requestsPerSecond, int burstSize, int maxConcurrentRequests,
+                                       ScheduledExecutorService scheduler) {
+        refill(System.nanoTime());
+        this.tokensPerNano = (requestsPerSecond > 0) ? requestsPerSecond / TimeUnit.SECONDS.toNanos(1) : 0;
+        this.burstSize = Math.max(1, burstSize);
+        this.maxConcurrentRequests = Math.max(0, maxConcurrentRequests);
+        this.scheduler = scheduler;
+        this.tokens = Math.min(tokens, this.burstSize);
+    }
+
+    /**
+     * Queues a request to be sent, as soon as the limits allow it.
+     *
+     * @param sender function actually sending the request.
+     * @param <T>    type of the response.
+     * @return future completed with the response of the request.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> sender) {
+        PendingRequest<T> pendingRequest = new PendingRequest<>(sender);
+        synchronized (this) {
+            pendingRequests.add(pendingRequest);
+        }
+        drain();
+        return pendingRequest.future;
+    }
+
+    /**
+     * @return number of requests waiting to be released.
+     */
+    public synchronized int getNumberOfPendingRequests() {
+        return pendingRequests.size();
+    }
+
+    /**
+     * @return number of released requests which haven't been completed yet.
+     */
+    public synchronized int getNumberOfOutstandingRequests() {
+        return outstandingRequests;
+    }
+
+    private void drain() {
+        synchronized (this) {
+            // Sending a request might complete another one on this thread, which drains again. Let the outer
+            // loop do that instead of recursing.
+            if (draining) {
+                drainAgain = true;
+                return;
+            }
+            draining = true;
+        }
+        boolean stopped = false;
+        try {
+            while (!stopped) {
+                List<PendingRequest<?>> releasedRequests = takeReleasableRequests();
+                for (PendingRequest<?> releasedRequest : releasedRequests) {
+                    releasedRequest.send();
+                }
+                if (releasedRequests.isEmpty()) {
+                    synchronized (this) {
+                        // Only stop, if nobody asked for draining since the requests were taken.
+                        stopped = !drainAgain;
+                        draining = drainAgain;
+                    }
+                }
+            }
+        } finally {
+            if (!stopped) {
+                synchronized (this) {
+                    draining = false;
+                }
+            }
+        }
+    }
+
+    private synchronized List<PendingRequest<?>> takeReleasableRequests() {
+        List<PendingRequest<?>> releasedRequests = new ArrayList<>();
+        drainAgain = false;
+        long now = System.nanoTime();
+        refill(now);
+        while (!pendingRequests.isEmpty()) {
+            if ((maxConcurrentRequests > 0) && (outstandingRequests >= maxConcurrentRequests)) {
+                // Completing an outstanding request will drain again.
+                break;
+            }
+            if ((tokensPerNano > 0) && (tokens < 1)) {
+                scheduleRelease((long) Math.ceil((1 - tokens) / tokensPerNano));
+                break;
+            }
+            if (tokensPerNano > 0) {
+                tokens -= 1;
+            }
+            outstandingRequests++;
+            releasedRequests.add(pendingRequests.poll());
+        }
+        return releasedRequests;
+    }
+
+    private void refill(long now) {
+        if (tokensPerNano > 0) {
+            tokens = Math.min(burstSize, tokens + ((now - lastRefill) * tokensPerNano));
+        }
+        lastRefill = now;
+    }
+
+    private void scheduleRelease(long delayInNanos) {
+        if (releaseScheduled) {
+            return;
+        }
+        releaseScheduled = true;
+        Runnable release = () -> {
+            synchronized (this) {
+                releaseScheduled = false;
+            }
+            drain();
+        };
+        try {
+            ScheduledExecutorService releaseScheduler = (scheduler != null) ? scheduler : getDefaultScheduler();
+            releaseScheduler.schedule(release, delayInNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // The scheduler of the connection has already been shut down.
+            getDefaultScheduler().schedule(release, delayInNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void onCompleted() {
+        synchronized (this) {
+            outstandingRequests--;
+        }
+        drain();
+    }
+
+    private static synchronized ScheduledExecutorService getDefaultScheduler() {
+        if (defaultScheduler == null) {
+            defaultScheduler = Executors.newSingleThreadScheduledExecutor(new BasicThreadFactory.Builder()
+                .namingPattern("plc4x-request-pacer-%d")
+                .daemon(true)
+                .build());
+        }
+        return defaultScheduler;
+    }
+
+    private class PendingRequest<T> {
+        private final Supplier<CompletableFuture<T>> sender;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private PendingRequest(Supplier<CompletableFuture<T>> sender) {
+            this.sender = sender;
+        }
+
+        private void send() {
+            CompletableFuture<T> sentFuture;
+            try {
+                sentFuture = sender.get();
+            } catch (RuntimeException e) {
+                sentFuture = new CompletableFuture<>();
+                sentFuture.completeExceptionally(e);
+            }
+            sentFuture.whenComplete((response, throwable) -> {
+                onCompleted();
+                if (throwable != null) {
+                    future.completeExceptionally(throwable);
+                } else {
+                    future.complete(response);
+                }
+            });
+        }
+    }
+
+}
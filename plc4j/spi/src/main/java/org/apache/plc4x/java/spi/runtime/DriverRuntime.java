@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.runtime;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.plc4x.java.spi.TimeoutManager;
+import org.apache.plc4x.java.spi.netty.HierarchicalWheelTimer;
+import org.apache.plc4x.java.spi.netty.NettyHashTimerTimeoutManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bundles the threads a driver needs to run its connections: one Netty event-loop group,
+ * one timer wheel for request timeouts and one worker executor for work that has to leave
+ * the event loop.
+ * <p>
+ * Per default all connections created by {@link org.apache.plc4x.java.spi.connection.GeneratedDriverBase}
+ * share the instance returned by {@link #getShared()}, so the number of threads no longer grows with
+ * the number of connections. Connections opened with {@code shared-runtime=false} fall back to
+ * creating these resources per connection.
+ * <p>
+ * Connections selecting a different timer via {@code timeout-timer} and {@code timeout-timer-tick} get a view
+ * of the runtime from {@link #withTimeoutTimer(TimerType, long)}, which shares all resources, except that the
+ * timeouts are scheduled on a timer of the given type and tick. It is also shared by all connections asking
+ * for the same type and tick.
+ */
+public class DriverRuntime {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverRuntime.class);
+
+    public static final long DEFAULT_TICK_IN_MILLISECONDS = 100L;
+
+    private static DriverRuntime shared;
+
+    private final EventLoopGroup eventLoopGroup;
+    private final TimerType timerType;
+    private final long tickInMilliseconds;
+    private final Timer timer;
+    private final ScheduledExecutorService workerExecutor;
+    // The runtime owning the shared resources, this for the runtime itself and for its views the one they were created from.
+    private final DriverRuntime root;
+    private final ConcurrentMap<String, DriverRuntime> views;
+
+    /**
+     * @return the runtime shared by all connections of this class-loader. It is created lazily
+     * (and re-created if it was shut down) with one event-loop thread per core and one worker thread per core,
+     * but at least four.
+     */
+    public static synchronized DriverRuntime getShared() {
+        if ((shared == null) || shared.isShutdown()) {
+            int cores = Runtime.getRuntime().availableProcessors();
+            shared = new DriverRuntime(cores, DEFAULT_TICK_IN_MILLISECONDS, Math.max(4, cores));
+            logger.info("Created shared driver runtime with {} event-loop threads", cores);
+        }
+        return shared;
+    }
+
+    public DriverRuntime(int numberOfEventLoopThreads, long tickInMilliseconds, int numberOfWorkerThreads) {
+        this.eventLoopGroup = new NioEventLoopGroup(numberOfEventLoopThreads,
+            new DefaultThreadFactory("plc4x-runtime-io", true));
+        HashedWheelTimer wheelTimer = new HashedWheelTimer(new DefaultThreadFactory("plc4x-runtime-timer", true),
+            tickInMilliseconds, TimeUnit.MILLISECONDS);
+        wheelTimer.start();
+        this.timerType = TimerType.HASHED_WHEEL;
+        this.tickInMilliseconds = tickInMilliseconds;
+        this.timer = wheelTimer;
+        this.workerExecutor = Executors.newScheduledThreadPool(numberOfWorkerThreads, new BasicThreadFactory.Builder()
+            .namingPattern("plc4x-runtime-worker-%d")
+            .daemon(true)
+            .build());
+        this.root = this;
+        this.views = new ConcurrentHashMap<>();
+    }
+
+    private DriverRuntime(DriverRuntime runtime, TimerType timerType, long tickInMilliseconds) {
+        this.eventLoopGroup = runtime.eventLoopGroup;
+        this.timerType = timerType;
+        this.tickInMilliseconds = tickInMilliseconds;
+        this.timer = createTimer(timerType, tickInMilliseconds);
+        this.workerExecutor = runtime.workerExecutor;
+        this.root = runtime;
+        this.views = runtime.views;
+    }
+
+    private static Timer createTimer(TimerType timerType, long tickInMilliseconds) {
+        DefaultThreadFactory threadFactory = new DefaultThreadFactory(
+            "plc4x-runtime-timer-" + timerType.name().toLowerCase() + "-" + tickInMilliseconds + "ms", true);
+        switch (timerType) {
+            case HIERARCHICAL_WHEEL: {
+                HierarchicalWheelTimer wheelTimer = new HierarchicalWheelTimer(threadFactory, tickInMilliseconds);
+                wheelTimer.start();
+                return wheelTimer;
+            }
+            case HASHED_WHEEL: {
+                HashedWheelTimer wheelTimer = new HashedWheelTimer(threadFactory, tickInMilliseconds, TimeUnit.MILLISECONDS);
+                wheelTimer.start();
+                return wheelTimer;
+            }
+            default:
+                throw new IllegalArgumentException("Unsupported timer type " + timerType);
+        }
+    }
+
+    /**
+     * Returns a runtime sharing the event-loop group and worker executor with this one, but scheduling the
+     * request timeouts on a timer of the given type and tick. The timer is created with the first request for
+     * a combination and stopped together with the rest of the runtime.
+     *
+     * @param timerType          type of timer to use.
+     * @param tickInMilliseconds tick of the timer.
+     * @return this runtime, if it already uses a timer of that type and tick, otherwise the view using it.
+     */
+    public DriverRuntime withTimeoutTimer(TimerType timerType, long tickInMilliseconds) {
+        if ((this.timerType == timerType) && (this.tickInMilliseconds == tickInMilliseconds)) {
+            return this;
+        }
+        if (root != this) {
+            return root.withTimeoutTimer(timerType, tickInMilliseconds);
+        }
+        if (isShutdown()) {
+            throw new IllegalStateException("Driver runtime is already shut down");
+        }
+        return views.computeIfAbsent(timerType.name() + ":" + tickInMilliseconds,
+            key -> new DriverRuntime(this, timerType, tickInMilliseconds));
+    }
+
+    /**
+     * @return event-loop group the channels of all connections using this runtime are registered with.
+     */
+    public EventLoopGroup getEventLoopGroup() {
+        return eventLoopGroup;
+    }
+
+    /**
+     * @return timer wheel shared by the timeout managers created via {@link #createTimeoutManager()}.
+     */
+    public Timer getTimer() {
+        return timer;
+    }
+
+    /**
+     * @return executor for (periodic) work that must not block the event loop.
+     */
+    public ScheduledExecutorService getWorkerExecutor() {
+        return workerExecutor;
+    }
+
+    /**
+     * Creates a timeout manager for a single connection. It schedules on the shared timer wheel,
+     * stopping it only cancels the timeouts of this connection.
+     *
+     * @return new timeout manager backed by the shared timer.
+     */
+    public TimeoutManager createTimeoutManager() {
+        return new NettyHashTimerTimeoutManager(timer, false);
+    }
+
+    public boolean isShutdown() {
+        return eventLoopGroup.isShuttingDown() || workerExecutor.isShutdown();
+    }
+
+    /**
+     * Stops all threads of this runtime (including those of its views). Connections still using it will stop
+     * working.
+     */
+    public void shutdown() {
+        if (root != this) {
+            root.shutdown();
+            return;
+        }
+        eventLoopGroup.shutdownGracefully();
+        Set<Timeout> timeouts = timer.stop();
+        timeouts.forEach(Timeout::cancel);
+        for (DriverRuntime view : views.values()) {
+            view.timer.stop().forEach(Timeout::cancel);
+        }
+        views.clear();
+        workerExecutor.shutdown();
+    }
+
+}
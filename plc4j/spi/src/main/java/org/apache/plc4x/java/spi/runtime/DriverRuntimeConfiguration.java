@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.runtime;
+
+import org.apache.plc4x.java.spi.configuration.PlcConnectionConfiguration;
+import org.apache.plc4x.java.spi.configuration.annotations.ConfigurationParameter;
+import org.apache.plc4x.java.spi.configuration.annotations.Description;
+import org.apache.plc4x.java.spi.configuration.annotations.defaults.BooleanDefaultValue;
+import org.apache.plc4x.java.spi.configuration.annotations.defaults.LongDefaultValue;
+import org.apache.plc4x.java.spi.configuration.annotations.defaults.StringDefaultValue;
+
+/**
+ * Driver independent connection-string parameters controlling which {@link DriverRuntime} a connection uses.
+ */
+public class DriverRuntimeConfiguration implements PlcConnectionConfiguration {
+
+    @ConfigurationParameter("shared-runtime")
+    @BooleanDefaultValue(true)
+    @Description("If set to false, the connection creates its own event-loop, timer and worker threads instead of using the ones shared by all connections.")
+    private boolean sharedRuntime = true;
+
+    @ConfigurationParameter("timeout-timer")
+    @StringDefaultValue("HASHED_WHEEL")
+    @Description("Timer checking the request timeouts: HASHED_WHEEL or HIERARCHICAL_WHEEL. The latter is better suited for small values of 'timeout-timer-tick'. Connections using the same timer and tick share one timer thread. Only applies to connections using the shared runtime.")
+    private TimerType timeoutTimer = TimerType.HASHED_WHEEL;
+
+    @ConfigurationParameter("timeout-timer-tick")
+    @LongDefaultValue(DriverRuntime.DEFAULT_TICK_IN_MILLISECONDS)
+    @Description("Interval in milliseconds in which the timer checks for request timeouts. A request fails at the first tick after its timeout.")
+    private long timeoutTimerTick = DriverRuntime.DEFAULT_TICK_IN_MILLISECONDS;
+
+    public boolean isSharedRuntime() {
+        return sharedRuntime;
+    }
+
+    public void setSharedRuntime(boolean sharedRuntime) {
+        this.sharedRuntime = sharedRuntime;
+    }
+
+    public TimerType getTimeoutTimer() {
+        return timeoutTimer;
+    }
+
+    public void setTimeoutTimer(TimerType timeoutTimer) {
+        this.timeoutTimer = timeoutTimer;
+    }
+
+    public long getTimeoutTimerTick() {
+        return timeoutTimerTick;
+    }
+
+    public void setTimeoutTimerTick(long timeoutTimerTick) {
+        this.timeoutTimerTick = timeoutTimerTick;
+    }
+
+}
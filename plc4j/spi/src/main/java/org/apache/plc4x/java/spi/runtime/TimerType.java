@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.runtime;
+
+/**
+ * Timer implementations a {@link DriverRuntime} can schedule request timeouts on.
+ */
+public enum TimerType {
+
+    /**
+     * Netty's {@link io.netty.util.HashedWheelTimer}, every tick iterates all timeouts of the current bucket.
+     */
+    HASHED_WHEEL,
+
+    /**
+     * {@link org.apache.plc4x.java.spi.netty.HierarchicalWheelTimer}, suited for ticks of a few milliseconds.
+     */
+    HIERARCHICAL_WHEEL
+
+}
@@ -18,20 +18,23 @@
  */
 package org.apache.plc4x.java.spi.transaction;
 
+import io.netty.util.concurrent.EventExecutor;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Objects;
 import java.util.Queue;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
-import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 
 /**
  * This is a limited Queue of Requests, a Protocol can use.
@@ -42,32 +45,81 @@ import org.apache.commons.lang3.concurrent.BasicThreadFactory;
  *     <li>Pass Runnable</li>
  *     <li>On Request or Response unregister Slot</li>
  * </ul>
+ * Slots are handed out lock-free, so never more than {@link #getNumberOfConcurrentRequests()} transactions
+ * are running at the same time. If the executor is the event loop of the channel (see {@link #setExecutor(Executor)}),
+ * transactions started from within the event loop are kicked off inline instead of being handed to another thread.
+ * <p>
+ * Optionally the work-log can be bounded with {@link #setMaxQueueSize(int, OverflowPolicy)}, so a stalled PLC
+ * doesn't let the queue of pending transactions grow without limit. Transactions of a bounded manager have to be
+ * submitted with an {@code onRejected} handler (see {@link RequestTransaction#submit(Runnable, Consumer)}), which
+ * completes the request of the caller, if the transaction is rejected.
  */
 public class RequestTransactionManager {
 
     private static final Logger logger = LoggerFactory.getLogger(RequestTransactionManager.class);
 
+    /**
+     * What to do with a new transaction, if the work-log is full.
+     */
+    public enum OverflowPolicy {
+        /** The new transaction is rejected */
+        REJECT,
+        /** The oldest queued transaction is rejected to make room for the new one */
+        SHED_OLDEST
+    }
+
+    private static final int QUEUED = 0;
+    private static final int RUNNING = 1;
+    private static final int ENDED = 2;
+
     /** Executor that performs all operations */
-    //static final ExecutorService executor = Executors.newScheduledThreadPool(4);
+    private volatile Executor executor;
+    /** Thread created by this manager, if no executor was given */
+    private ExecutorService ownExecutor;
 
-    final ExecutorService executor = Executors.newFixedThreadPool(4, new BasicThreadFactory.Builder()
-                                                    .namingPattern("plc4x-tm-thread-%d")
-                                                    .daemon(true)
-                                                    .priority(Thread.MAX_PRIORITY)
-                                                    .build());    
-    
-    private final Set<RequestTransaction> runningRequests;
     /** How many Transactions are allowed to run at the same time? */
-    private int numberOfConcurrentRequests;
+    private volatile int numberOfConcurrentRequests;
+    /** Number of slots currently taken by running transactions */
+    private final AtomicInteger runningRequests = new AtomicInteger(0);
     /** Assigns each request a Unique Transaction Id, especially important for failure handling */
     private final AtomicInteger transactionId = new AtomicInteger(0);
     /** Important, this is a FIFO Queue for Fairness! */
     private final Queue<RequestTransaction> workLog = new ConcurrentLinkedQueue<>();
-
+    /** Size of the work-log, as ConcurrentLinkedQueue.size() has to traverse the queue */
+    private final AtomicInteger queuedRequests = new AtomicInteger(0);
+    private volatile int maxQueueSize = Integer.MAX_VALUE;
+    private volatile OverflowPolicy overflowPolicy = OverflowPolicy.REJECT;
+    /** Once shut down, no new transactions are accepted */
+    private volatile boolean shutdown = false;
+
+    private final AtomicLong numberOfStartedRequests = new AtomicLong(0);
+    private final AtomicLong numberOfRejectedRequests = new AtomicLong(0);
+    private final AtomicLong totalWaitTimeNanos = new AtomicLong(0);
+    private volatile long lastWaitTimeNanos = 0;
+    /** Highest number of transactions that were in flight at the same time */
+    private final AtomicInteger peakRunningRequests = new AtomicInteger(0);
+    /** Sum of the transactions in flight at the moment each transaction was started, itself included */
+    private final AtomicLong totalRunningRequests = new AtomicLong(0);
+
+    /**
+     * Creates a manager starting its transactions on a thread of its own, unless another executor is set
+     * with {@link #setExecutor(Executor)} before the first transaction is started.
+     *
+     * @param numberOfConcurrentRequests how many transactions are allowed to run at the same time.
+     */
     public RequestTransactionManager(int numberOfConcurrentRequests) {
+        this(numberOfConcurrentRequests, null);
+    }
+
+    /**
+     * @param numberOfConcurrentRequests how many transactions are allowed to run at the same time.
+     * @param executor executor the transactions are started on. It is not owned by this manager,
+     *                 so it's the callers responsibility to shut it down. If null, the manager creates a
+     *                 thread of its own.
+     */
+    public RequestTransactionManager(int numberOfConcurrentRequests, Executor executor) {
         this.numberOfConcurrentRequests = numberOfConcurrentRequests;
-        // Immutable Map
-        runningRequests = ConcurrentHashMap.newKeySet();
+        this.executor = executor;
     }
 
     public RequestTransactionManager() {
@@ -81,7 +133,7 @@ public class RequestTransactionManager {
     public void setNumberOfConcurrentRequests(int numberOfConcurrentRequests) {
         // If we reduced the number of concurrent requests and more requests are in-flight
         // than should be, at least log a warning.
-        if(numberOfConcurrentRequests < runningRequests.size()) {
+        if(numberOfConcurrentRequests < runningRequests.get()) {
             logger.warn("The number of concurrent requests was reduced and currently more requests are in flight.");
         }
 
@@ -90,13 +142,79 @@ public class RequestTransactionManager {
         // As we might have increased the number, try to send some more requests.
         processWorkLog();
     }
+
+    /**
+     * Sets the executor transactions are kicked off on. Usually this is the event loop of the channel,
+     * as the operations only write to the channel.
+     *
+     * @param executor executor to start the transactions on.
+     */
+    public synchronized void setExecutor(Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+        if (ownExecutor != null) {
+            // Transactions already handed to it are still started.
+            ownExecutor.shutdown();
+            ownExecutor = null;
+        }
+    }
+
+    private Executor getExecutor() {
+        Executor currentExecutor = executor;
+        if (currentExecutor != null) {
+            return currentExecutor;
+        }
+        synchronized (this) {
+            if (executor == null) {
+                ownExecutor = Executors.newSingleThreadExecutor(new BasicThreadFactory.Builder()
+                    .namingPattern("plc4x-tm-thread-%d")
+                    .daemon(true)
+                    .build());
+                executor = ownExecutor;
+            }
+            return executor;
+        }
+    }
+
+    /**
+     * Limits the number of transactions waiting for a free slot. From then on, every transaction has to be submitted
+     * with an {@code onRejected} handler, otherwise the caller's request would never complete.
+     *
+     * @param maxQueueSize   maximum number of queued transactions.
+     * @param overflowPolicy what to do with new transactions if the limit is reached.
+     */
+    public void setMaxQueueSize(int maxQueueSize, OverflowPolicy overflowPolicy) {
+        if (maxQueueSize < 1) {
+            throw new IllegalArgumentException("The queue needs to be able to hold at least one transaction");
+        }
+        this.maxQueueSize = maxQueueSize;
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
     
     /*
     * It allows the sequential shutdown of the associated driver.
+    * The pending work is discarded, an executor given to the manager is left running.
     */
     public void shutdown(){
-        executor.shutdown();
-    }    
+        shutdown = true;
+        RequestTransaction queued;
+        while ((queued = workLog.poll()) != null) {
+            queuedRequests.decrementAndGet();
+            reject(queued, "Transaction manager was shut down");
+        }
+        synchronized (this) {
+            if (ownExecutor != null) {
+                ownExecutor.shutdown();
+            }
+        }
+    }
 
     public void submit(Consumer<RequestTransaction> context) {
         RequestTransaction transaction = startRequest();
@@ -105,7 +223,30 @@ public class RequestTransactionManager {
 
     void submit(RequestTransaction handle) {
         assert handle.operation != null;
-        // Add this Request with this handle i the work-log
+        if (shutdown) {
+            reject(handle, "Transaction manager was shut down");
+            return;
+        }
+        if ((maxQueueSize != Integer.MAX_VALUE) && (handle.onRejected == null)) {
+            throw new IllegalStateException("Transactions of a manager with a bounded work-log need an onRejected handler");
+        }
+        handle.queuedAtNanos = System.nanoTime();
+        if (queuedRequests.incrementAndGet() > maxQueueSize) {
+            if (overflowPolicy == OverflowPolicy.REJECT) {
+                queuedRequests.decrementAndGet();
+                reject(handle, "The work-log is full (" + maxQueueSize + " transactions)");
+                return;
+            }
+            // Make room by rejecting the oldest transaction, it has most likely become useless by now anyway.
+            // Transactions that were failed while waiting in the work-log don't count, they are dropped anyway.
+            RequestTransaction oldest;
+            while ((oldest = workLog.poll()) != null) {
+                queuedRequests.decrementAndGet();
+                if (reject(oldest, "Shed from the full work-log (" + maxQueueSize + " transactions)")) {
+                    break;
+                }
+            }
+        }
         // Put Transaction into work-log
         workLog.add(handle);
         // Try to Process the work-log
@@ -113,36 +254,173 @@ public class RequestTransactionManager {
     }
 
     private void processWorkLog() {
-        while (runningRequests.size() < getNumberOfConcurrentRequests() && !workLog.isEmpty()) {
+        // A slot released by another thread after our isEmpty() check is picked up by that thread's own loop.
+        while (!workLog.isEmpty() && tryAcquireSlot()) {
             RequestTransaction next = workLog.poll();
-            if (next != null) {
-                runningRequests.add(next);
-                Future<?> completionFuture = executor.submit(next.operation);
-                next.setCompletionFuture(completionFuture);
+            if (next == null) {
+                // Someone else was faster, give back the slot and check again.
+                runningRequests.decrementAndGet();
+                continue;
             }
+            queuedRequests.decrementAndGet();
+            if (!next.state.compareAndSet(QUEUED, RUNNING)) {
+                // Failed while waiting in the work-log
+                runningRequests.decrementAndGet();
+                continue;
+            }
+            long waitTimeNanos = System.nanoTime() - next.queuedAtNanos;
+            lastWaitTimeNanos = waitTimeNanos;
+            totalWaitTimeNanos.addAndGet(waitTimeNanos);
+            totalRunningRequests.addAndGet(runningRequests.get());
+            numberOfStartedRequests.incrementAndGet();
+            kickOff(next);
         }
     }
 
+    private boolean tryAcquireSlot() {
+        while (true) {
+            int running = runningRequests.get();
+            if (running >= numberOfConcurrentRequests) {
+                return false;
+            }
+            if (runningRequests.compareAndSet(running, running + 1)) {
+                peakRunningRequests.accumulateAndGet(running + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    private void kickOff(RequestTransaction transaction) {
+        Executor currentExecutor = getExecutor();
+        if ((currentExecutor instanceof EventExecutor) && ((EventExecutor) currentExecutor).inEventLoop()) {
+            runOperation(transaction);
+            return;
+        }
+        try {
+            currentExecutor.execute(() -> runOperation(transaction));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Unable to start transaction {}", transaction.transactionId, e);
+            abort(transaction, e);
+        }
+    }
+
+    private void runOperation(RequestTransaction transaction) {
+        try {
+            transaction.operation.run();
+        } catch (Exception e) {
+            // The request was most likely never sent, so there will be no response ending the transaction.
+            logger.warn("Error starting transaction {}", transaction.transactionId, e);
+            abort(transaction, e);
+            return;
+        }
+        transaction.completionFuture.complete(null);
+    }
+
+    private void abort(RequestTransaction transaction, Exception e) {
+        transaction.completionFuture.completeExceptionally(e);
+        if (transaction.state.compareAndSet(RUNNING, ENDED)) {
+            releaseSlot();
+        }
+    }
+
+    /**
+     * @return false, if the transaction had already been started or failed.
+     */
+    private boolean reject(RequestTransaction transaction, String reason) {
+        if (!transaction.state.compareAndSet(QUEUED, ENDED)) {
+            return false;
+        }
+        numberOfRejectedRequests.incrementAndGet();
+        RejectedExecutionException exception = new RejectedExecutionException(reason);
+        transaction.completionFuture.completeExceptionally(exception);
+        if (transaction.onRejected != null) {
+            transaction.onRejected.accept(exception);
+        } else {
+            logger.warn("Rejected transaction {}: {}", transaction.transactionId, reason);
+        }
+        return true;
+    }
+
     public RequestTransaction startRequest() {
         return new RequestTransaction(this, transactionId.getAndIncrement());
     }
 
+    /**
+     * @return number of transactions currently in flight.
+     */
     public int getNumberOfActiveRequests() {
-        return runningRequests.size();
+        return runningRequests.get();
+    }
+
+    /**
+     * @return number of transactions waiting in the work-log for a free slot.
+     */
+    public int getQueueDepth() {
+        return queuedRequests.get();
+    }
+
+    /**
+     * @return time the most recently started transaction waited in the work-log in nanoseconds.
+     */
+    public long getLastWaitTimeNanos() {
+        return lastWaitTimeNanos;
+    }
+
+    /**
+     * @return average time transactions waited in the work-log in nanoseconds.
+     */
+    public long getAverageWaitTimeNanos() {
+        long started = numberOfStartedRequests.get();
+        return (started == 0) ? 0 : totalWaitTimeNanos.get() / started;
+    }
+
+    /**
+     * @return highest number of transactions that were in flight at the same time, so how much of the
+     * window given by {@link #getNumberOfConcurrentRequests()} was actually used.
+     */
+    public int getPeakNumberOfActiveRequests() {
+        return peakRunningRequests.get();
+    }
+
+    /**
+     * @return average number of transactions in flight at the moment a transaction was started, itself included.
+     * A value of 1 means requests were never pipelined.
+     */
+    public double getAverageNumberOfActiveRequests() {
+        long started = numberOfStartedRequests.get();
+        return (started == 0) ? 0 : (double) totalRunningRequests.get() / started;
+    }
+
+    public long getNumberOfStartedRequests() {
+        return numberOfStartedRequests.get();
+    }
+
+    public long getNumberOfRejectedRequests() {
+        return numberOfRejectedRequests.get();
     }
 
     private void failRequest(RequestTransaction transaction) {
-        // Try to fail it!
-        transaction.getCompletionFuture().cancel(true);
-        // End it
-        endRequest(transaction);
+        if (transaction.state.compareAndSet(QUEUED, ENDED)) {
+            // Not started yet, processWorkLog() will drop it.
+            transaction.completionFuture.cancel(false);
+            return;
+        }
+        // Only try to fail it, if it didn't finish already.
+        if (transaction.state.compareAndSet(RUNNING, ENDED)) {
+            transaction.completionFuture.cancel(false);
+            releaseSlot();
+        }
     }
 
     private void endRequest(RequestTransaction transaction) {
-        if (!runningRequests.contains(transaction)) {
+        if (!transaction.state.compareAndSet(RUNNING, ENDED)) {
             throw new IllegalArgumentException("Unknown Transaction or Transaction already finished!");
         }
-        runningRequests.remove(transaction);
+        releaseSlot();
+    }
+
+    private void releaseSlot() {
+        runningRequests.decrementAndGet();
         // Process the work-log, a slot should be free now
         processWorkLog();
     }
@@ -151,10 +429,16 @@ public class RequestTransactionManager {
 
         private final RequestTransactionManager parent;
         private final int transactionId;
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+        /** Completed as soon as the operation was kicked off */
+        private final CompletableFuture<Void> completionFuture = new CompletableFuture<>();
+        /** Future returned by {@link #getCompletionFuture()}, if one was set explicitly */
+        private volatile Future<?> externalCompletionFuture;
 
         /** The initial operation to perform to kick off the request */
         private Runnable operation;
-        private Future<?> completionFuture;
+        private Consumer<RejectedExecutionException> onRejected;
+        private long queuedAtNanos;
 
         public RequestTransaction(RequestTransactionManager parent, int transactionId) {
             this.parent = parent;
@@ -178,17 +462,37 @@ public class RequestTransactionManager {
             this.operation = operation;
         }
 
+        /**
+         * @return future completed as soon as the operation was kicked off, unless another one was set with
+         * {@link #setCompletionFuture(Future)}.
+         */
         public Future<?> getCompletionFuture() {
-            return completionFuture;
+            Future<?> future = externalCompletionFuture;
+            return (future != null) ? future : completionFuture;
         }
 
+        /**
+         * Replaces the future returned by {@link #getCompletionFuture()}. The manager doesn't complete or cancel
+         * a future set this way.
+         */
         public void setCompletionFuture(Future<?> completionFuture) {
-            this.completionFuture = completionFuture;
+            this.externalCompletionFuture = completionFuture;
         }
 
         public void submit(Runnable operation) {
+            submit(operation, null);
+        }
+
+        /**
+         * @param operation  operation kicking off the request.
+         * @param onRejected called if the transaction is never started, because the work-log is full, it was shed
+         *                   from the work-log or the manager was shut down. Required, if the work-log is bounded.
+         * @throws IllegalStateException if the work-log is bounded and no onRejected handler was given.
+         */
+        public void submit(Runnable operation, Consumer<RejectedExecutionException> onRejected) {
             logger.trace("Submission of transaction {}", transactionId);
             setOperation(new TransactionOperation(transactionId, operation));
+            this.onRejected = onRejected;
             parent.submit(this);
         }
 
@@ -220,13 +524,10 @@ public class RequestTransactionManager {
         @Override
         public void run() {
             //try (final MDC.MDCCloseable closeable = MDC.putCloseable("plc4x.transactionId", Integer.toString(transactionId))) {
-            try{    
-                logger.trace("Start execution of transaction {}", transactionId);
-                delegate.run();
-                logger.trace("Completed execution of transaction {}", transactionId);
-            }  catch (Exception e) {
-                logger.info("Got an error executing transaction", e);
-            }
+            // Errors are handled by the transaction manager, which releases the slot of the transaction.
+            logger.trace("Start execution of transaction {}", transactionId);
+            delegate.run();
+            logger.trace("Completed execution of transaction {}", transactionId);
         }
     }
 }
@@ -78,13 +78,26 @@ public class PlcList extends PlcValueAdapter {
 
     @Override
     public String toString() {
-        return "[" + listItems.stream().map(PlcValue::toString).collect(Collectors.joining(",")) + "]";
+        return "[" + getList().stream().map(PlcValue::toString).collect(Collectors.joining(",")) + "]";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        // Array-backed lists are equal to lists of the same elements.
+        if (this == o) return true;
+        if (!(o instanceof PlcList)) return false;
+        return getList().equals(((PlcList) o).getList());
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
     }
 
     @Override
     public void serialize(WriteBuffer writeBuffer) throws SerializationException {
         writeBuffer.pushContext("PlcList");
-        for (PlcValue listItem : listItems) {
+        for (PlcValue listItem : getList()) {
             if (!(listItem instanceof Serializable)) {
                 throw new PlcRuntimeException("Error serializing. List item doesn't implement XmlSerializable");
             }
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.values;
+
+import org.apache.plc4x.java.api.types.PlcValueType;
+import org.apache.plc4x.java.api.value.PlcValue;
+import org.apache.plc4x.java.spi.generation.ParseException;
+import org.apache.plc4x.java.spi.generation.ReadBuffer;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * List of numbers backed by an array of primitives instead of one {@link PlcValue} per element.
+ * The elements are only created when accessing them as {@link PlcValue}.
+ */
+public abstract class PlcPrimitiveArray extends PlcList {
+
+    /**
+     * Reads the given number of elements into a primitive array, if there is one for the element type.
+     *
+     * @param readBuffer       buffer to read the elements from (in its byte order).
+     * @param elementType      type of the elements.
+     * @param numberOfElements number of elements to read.
+     * @return array-backed list or null, if the elements have to be parsed one by one.
+     * @throws ParseException if the buffer doesn't contain enough data.
+     */
+    public static PlcPrimitiveArray parse(ReadBuffer readBuffer, PlcValueType elementType, int numberOfElements) throws ParseException {
+        switch (elementType) {
+            case INT: {
+                short[] values = new short[numberOfElements];
+                for (int i = 0; i < numberOfElements; i++) {
+                    values[i] = readBuffer.readShort(16);
+                }
+                return new PlcIntArray(values);
+            }
+            case DINT: {
+                int[] values = new int[numberOfElements];
+                for (int i = 0; i < numberOfElements; i++) {
+                    values[i] = readBuffer.readInt(32);
+                }
+                return new PlcDintArray(values);
+            }
+            case LINT: {
+                long[] values = new long[numberOfElements];
+                for (int i = 0; i < numberOfElements; i++) {
+                    values[i] = readBuffer.readLong(64);
+                }
+                return new PlcLintArray(values);
+            }
+            case REAL: {
+                float[] values = new float[numberOfElements];
+                for (int i = 0; i < numberOfElements; i++) {
+                    values[i] = readBuffer.readFloat(32);
+                }
+                return new PlcRealArray(values);
+            }
+            case LREAL: {
+                double[] values = new double[numberOfElements];
+                for (int i = 0; i < numberOfElements; i++) {
+                    values[i] = readBuffer.readDouble(64);
+                }
+                return new PlcLrealArray(values);
+            }
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return type of the elements.
+     */
+    public abstract PlcValueType getElementType();
+
+    @Override
+    public abstract int getLength();
+
+    @Override
+    public abstract PlcValue getIndex(int i);
+
+    @Override
+    public void add(PlcValue value) {
+        throw new UnsupportedOperationException("Array-backed lists can't be modified");
+    }
+
+    @Override
+    public List<PlcValue> getList() {
+        return new AbstractList<>() {
+            @Override
+            public PlcValue get(int index) {
+                return getIndex(index);
+            }
+
+            @Override
+            public int size() {
+                return getLength();
+            }
+        };
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.values;
+
+import org.apache.plc4x.java.api.types.PlcValueType;
+import org.apache.plc4x.java.api.value.PlcValue;
+
+/**
+ * List of REAL values backed by a float[].
+ */
+public class PlcRealArray extends PlcPrimitiveArray {
+
+    private final float[] values;
+
+    public PlcRealArray(float[] values) {
+        this.values = values;
+    }
+
+    @Override
+    public PlcValueType getElementType() {
+        return PlcValueType.REAL;
+    }
+
+    /**
+     * @return the backing array (not a copy, so it must not be modified).
+     */
+    public float[] getValues() {
+        return values;
+    }
+
+    @Override
+    public int getLength() {
+        return values.length;
+    }
+
+    @Override
+    public PlcValue getIndex(int i) {
+        return new PlcREAL(values[i]);
+    }
+
+}
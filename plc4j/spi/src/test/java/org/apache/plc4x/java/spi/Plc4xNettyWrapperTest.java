@@ -35,7 +35,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToLongFunction;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -151,6 +153,111 @@ class Plc4xNettyWrapperTest {
         verify(false, true, false);
     }
 
+    @Test
+    void conversationWithCorrelationKey() throws Exception {
+        AtomicBoolean otherHandled = new AtomicBoolean(false);
+        ContextHandler other = conversationContext.sendRequest(new Date(1))
+            .expectResponse(Date.class, Duration.ofMillis(500))
+            .correlateBy(Date::getTime)
+            .handle(answer -> otherHandled.set(true));
+        ContextHandler handler = wrap(conversationContext.sendRequest(new Date(2))
+            .expectResponse(Date.class, Duration.ofMillis(500))
+            .correlateBy(Date::getTime));
+
+        wrapper.decode(channelHandlerContext, new Date(2), new ArrayList<>());
+        handler.await();
+        verify(false, false, true);
+        assertThat(otherHandled.get()).isFalse();
+        assertThat(other.isDone()).isFalse();
+
+        // The response isn't matched a second time.
+        wrapper.decode(channelHandlerContext, new Date(2), new ArrayList<>());
+        assertThat(otherHandled.get()).isFalse();
+        other.cancel();
+    }
+
+    @Test
+    void conversationWithCorrelationKeyAndPredicateFallback() throws Exception {
+        ContextHandler handler = wrap(conversationContext.sendRequest(new Date(3))
+            .expectResponse(Date.class, Duration.ofMillis(500))
+            .check(date -> date.getTime() == 3));
+        AtomicBoolean correlatedHandled = new AtomicBoolean(false);
+        ContextHandler correlated = conversationContext.sendRequest(new Date(4))
+            .expectResponse(Date.class, Duration.ofMillis(500))
+            .correlateBy(Date::getTime)
+            .handle(answer -> correlatedHandled.set(true));
+
+        wrapper.decode(channelHandlerContext, new Date(3), new ArrayList<>());
+        handler.await();
+        verify(false, false, true);
+        assertThat(correlatedHandled.get()).isFalse();
+
+        wrapper.decode(channelHandlerContext, new Date(4), new ArrayList<>());
+        correlated.await();
+        assertThat(correlatedHandled.get()).isTrue();
+    }
+
+    @Test
+    void cancelledCorrelatedRegistrationIsRemoved() throws Exception {
+        ContextHandler handler = wrap(conversationContext.sendRequest(new Date(5))
+            .expectResponse(Date.class, Duration.ofMillis(5000))
+            .correlateBy(Date::getTime));
+        assertThat(wrapper.getNumberOfPendingHandlers()).isEqualTo(1);
+
+        handler.cancel();
+        assertThat(wrapper.getNumberOfPendingHandlers()).isZero();
+        verify(false, false, false);
+    }
+
+    @Test
+    void timedOutCorrelatedRegistrationIsRemoved() throws Exception {
+        ContextHandler handler = wrap(conversationContext.sendRequest(new Date(6))
+            .expectResponse(Date.class, Duration.ofMillis(200))
+            .correlateBy(Date::getTime));
+        assertThat(wrapper.getNumberOfPendingHandlers()).isEqualTo(1);
+
+        handler.await();
+        verify(true, false, false);
+        assertThat(wrapper.getNumberOfPendingHandlers()).isZero();
+    }
+
+    @Test
+    void correlationTablesAreDroppedOnceEmpty() throws Exception {
+        // Each request brings an extractor of its own, so each one gets a table of its own.
+        List<ContextHandler> handlers = new ArrayList<>();
+        for (long key = 7; key < 10; key++) {
+            handlers.add(wrap(conversationContext.sendRequest(new Date(key))
+                .expectResponse(Date.class, Duration.ofMillis(5000))
+                .correlateBy(newExtractor())));
+        }
+        assertThat(wrapper.getNumberOfCorrelationTables()).isEqualTo(3);
+
+        // Answered, cancelled and timed out registrations all release their table.
+        wrapper.decode(channelHandlerContext, new Date(7), new ArrayList<>());
+        handlers.get(0).await();
+        assertThat(wrapper.getNumberOfCorrelationTables()).isEqualTo(2);
+        handlers.get(1).cancel();
+        assertThat(wrapper.getNumberOfCorrelationTables()).isEqualTo(1);
+        ContextHandler timingOut = wrap(conversationContext.sendRequest(new Date(10))
+            .expectResponse(Date.class, Duration.ofMillis(200))
+            .correlateBy(newExtractor()));
+        assertThat(wrapper.getNumberOfCorrelationTables()).isEqualTo(2);
+        timingOut.await();
+        assertThat(wrapper.getNumberOfCorrelationTables()).isEqualTo(1);
+        handlers.get(2).cancel();
+        assertThat(wrapper.getNumberOfCorrelationTables()).isZero();
+        assertThat(wrapper.getNumberOfPendingHandlers()).isZero();
+    }
+
+    private static ToLongFunction<Date> newExtractor() {
+        return new ToLongFunction<Date>() {
+            @Override
+            public long applyAsLong(Date date) {
+                return date.getTime();
+            }
+        };
+    }
+
     void verify(boolean isTimeout, boolean isError, boolean isHandled) {
         assertThat(timeout.get()).describedAs("Expected timeout state %b", isTimeout)
             .isEqualTo(isTimeout);
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.codegen.fields;
+
+import org.apache.plc4x.java.spi.generation.ParseException;
+import org.apache.plc4x.java.spi.generation.ReadBuffer;
+import org.apache.plc4x.java.spi.generation.ReadBufferByteBased;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.plc4x.java.spi.codegen.fields.FieldReaderFactory.*;
+import static org.apache.plc4x.java.spi.codegen.io.DataReaderFactory.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldReaderFactoryTest {
+
+    // S7 message header: protocolId, messageType, reserved, tpduReference, parameterLength and payloadLength
+    private static final byte[] S7_HEADER = new byte[]{0x32, 0x03, 0x00, 0x00, 0x00, 0x0B, 0x00, 0x02, 0x00, 0x17};
+
+    /**
+     * The direct reads emitted with the option "generate-direct-field-reads" have to give the same results as the
+     * generic field readers.
+     */
+    @Test
+    void directReadsMatchFieldReaders() throws ParseException {
+        ReadBuffer generic = new ReadBufferByteBased(S7_HEADER);
+        ReadBuffer direct = new ReadBufferByteBased(S7_HEADER);
+
+        assertEquals((short) readConstField("protocolId", readUnsignedShort(generic, 8), (short) 0x32),
+            checkConstField("protocolId", direct.readUnsignedShort("protocolId", 8), (short) 0x32, direct));
+        assertEquals((short) readDiscriminatorField("messageType", readUnsignedShort(generic, 8)),
+            direct.readUnsignedShort("messageType", 8));
+        assertEquals(readReservedField("reserved", readUnsignedInt(generic, 16), (int) 0x0000),
+            checkReservedField("reserved", direct.readUnsignedInt("reserved", 16), (int) 0x0000));
+        assertEquals((int) readSimpleField("tpduReference", readUnsignedInt(generic, 16)),
+            direct.readUnsignedInt("tpduReference", 16));
+        assertEquals((int) readImplicitField("parameterLength", readUnsignedInt(generic, 16)),
+            direct.readUnsignedInt("parameterLength", 16));
+        assertEquals((int) readImplicitField("payloadLength", readUnsignedInt(generic, 16)),
+            direct.readUnsignedInt("payloadLength", 16));
+        assertEquals(generic.getPos(), direct.getPos());
+    }
+
+    @Test
+    void checkConstFieldMismatch() {
+        ReadBuffer readBuffer = new ReadBufferByteBased(S7_HEADER);
+        ParseException exception = assertThrows(ParseException.class,
+            () -> checkConstField("protocolId", readBuffer.readUnsignedShort("protocolId", 8), (short) 0x72, readBuffer));
+        assertEquals("Actual value 50 doesn't match expected 114. Byte position: 1", exception.getMessage());
+    }
+
+    @Test
+    void checkReservedFieldMismatch() throws ParseException {
+        ReadBuffer readBuffer = new ReadBufferByteBased(new byte[]{0x00, 0x01});
+        assertNull(checkReservedField("reserved", readBuffer.readUnsignedShort("reserved", 8), (short) 0x00));
+        assertEquals((short) 0x01, checkReservedField("reserved", readBuffer.readUnsignedShort("reserved", 8), (short) 0x00));
+        assertEquals(0.5f, checkReservedField("reserved", 0.5f, 0.0f));
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.connection;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.apache.plc4x.java.spi.runtime.DriverRuntime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NettyChannelFactoryTest {
+
+    // Connections are accepted by the backlog, nobody has to answer.
+    private ServerSocket serverSocket;
+    private InetSocketAddress serverAddress;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverSocket = new ServerSocket(0, 10, InetAddress.getLoopbackAddress());
+        serverAddress = new InetSocketAddress(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        serverSocket.close();
+    }
+
+    @Test
+    void closingAChannelKeepsTheSharedEventLoopGroup() throws Exception {
+        DriverRuntime driverRuntime = new DriverRuntime(1, 10, 1);
+        try {
+            TcpChannelFactory channelFactory = new TcpChannelFactory(serverAddress);
+            channelFactory.setDriverRuntime(driverRuntime);
+
+            Channel channel = channelFactory.createChannel(new ChannelInboundHandlerAdapter());
+            assertSame(driverRuntime.getEventLoopGroup(), channel.eventLoop().parent());
+            channel.close().syncUninterruptibly();
+            channelFactory.closeEventLoopForChannel(channel);
+
+            assertFalse(driverRuntime.getEventLoopGroup().isShuttingDown());
+            assertFalse(driverRuntime.isShutdown());
+        } finally {
+            driverRuntime.shutdown();
+        }
+    }
+
+    @Test
+    void closingAChannelShutsDownItsOwnEventLoopGroup() throws Exception {
+        TcpChannelFactory channelFactory = new TcpChannelFactory(serverAddress);
+
+        Channel channel = channelFactory.createChannel(new ChannelInboundHandlerAdapter());
+        EventLoopGroup group = (EventLoopGroup) channel.eventLoop().parent();
+        channel.close().syncUninterruptibly();
+        channelFactory.closeEventLoopForChannel(channel);
+
+        assertTrue(group.isShuttingDown());
+    }
+
+    @Test
+    void everyChannelWithoutRuntimeGetsItsOwnEventLoopGroup() throws Exception {
+        TcpChannelFactory channelFactory = new TcpChannelFactory(serverAddress);
+
+        Channel channel1 = channelFactory.createChannel(new ChannelInboundHandlerAdapter());
+        Channel channel2 = channelFactory.createChannel(new ChannelInboundHandlerAdapter());
+        try {
+            assertNotSame(channel1.eventLoop().parent(), channel2.eventLoop().parent());
+        } finally {
+            channel1.close().syncUninterruptibly();
+            channel2.close().syncUninterruptibly();
+            channelFactory.closeEventLoopForChannel(channel1);
+            channelFactory.closeEventLoopForChannel(channel2);
+        }
+    }
+
+    private static class TcpChannelFactory extends NettyChannelFactory {
+
+        private TcpChannelFactory(InetSocketAddress remoteAddress) {
+            super(remoteAddress);
+        }
+
+        @Override
+        public Class<? extends Channel> getChannel() {
+            return NioSocketChannel.class;
+        }
+
+        @Override
+        public void configureBootstrap(Bootstrap bootstrap) {
+        }
+
+        @Override
+        public boolean isPassive() {
+            return false;
+        }
+    }
+
+}
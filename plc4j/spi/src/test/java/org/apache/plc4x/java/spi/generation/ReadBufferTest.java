@@ -22,9 +22,11 @@ import org.apache.commons.codec.binary.Hex;
 import org.apache.plc4x.java.spi.codegen.WithOption;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ReadBufferTest {
 
@@ -53,4 +55,75 @@ class ReadBufferTest {
         assertEquals(value, answer);
     }
 
-}
\ No newline at end of file
+    /**
+     * Test which makes sure that a direct buffer (e.g. the memory of a pooled Netty buffer) can be read without
+     * copying, starting at its current position.
+     */
+    @Test
+    void readFromDirectBuffer() throws ParseException {
+        ByteBuffer direct = ByteBuffer.allocateDirect(8);
+        direct.put(new byte[]{(byte) 0xFF, 0x12, 0x34, (byte) 0xA0, 0x00, 0x00, 0x00, 0x01});
+        direct.position(1);
+        final ReadBufferByteBased buffer = new ReadBufferByteBased(direct, ByteOrder.BIG_ENDIAN);
+
+        assertEquals(7, buffer.getTotalBytes());
+        assertEquals(0x1234, buffer.readUnsignedInt("", 16));
+        assertEquals(true, buffer.readBit(""));
+        assertEquals(0x20, buffer.readUnsignedByte("", 7));
+        assertEquals(1, buffer.readInt("", 32));
+        assertEquals("1234", Hex.encodeHexString(buffer.getBytes(0, 2)));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> buffer.readByte(""));
+    }
+
+    @Test
+    void writeToDirectBuffer() throws Exception {
+        ByteBuffer direct = ByteBuffer.allocateDirect(4);
+        final WriteBufferByteBased buffer = new WriteBufferByteBased(direct, ByteOrder.BIG_ENDIAN);
+        buffer.writeUnsignedInt("", 16, 0x1234);
+        buffer.writeBit("", true);
+        buffer.writeUnsignedByte("", 7, (byte) 0x20);
+
+        assertEquals(3, buffer.getPos());
+        assertEquals("1234a0", Hex.encodeHexString(buffer.getBytes()));
+        assertEquals((byte) 0xA0, direct.get(2));
+    }
+
+    /**
+     * Whole bytes are read directly from the buffer, which must give the same results as the bit reader,
+     * also if aligned and unaligned fields are mixed.
+     */
+    @Test
+    void readMixedAlignment() throws ParseException {
+        byte[] data = new byte[]{0x12, 0x34, (byte) 0xF1, 0x23, 0x40, (byte) 0x78, 0x56, 0x34, 0x12, (byte) 0xFF, (byte) 0xFE, 0x01, 0x02};
+        final ReadBufferByteBased buffer = new ReadBufferByteBased(data, ByteOrder.BIG_ENDIAN);
+
+        assertEquals(0x1234, buffer.readUnsignedInt("", 16));
+        assertEquals(0xF, buffer.readUnsignedByte("", 4));
+        // Not aligned, so this one still goes through the bit reader.
+        assertEquals(0x1234, buffer.readUnsignedInt("", 16));
+        assertEquals(0, buffer.readUnsignedByte("", 4));
+        buffer.setByteOrder(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(0x12345678L, buffer.readUnsignedLong("", 32));
+        buffer.setByteOrder(ByteOrder.BIG_ENDIAN);
+        assertEquals(-2, buffer.readShort("", 16));
+        assertEquals("0102", Hex.encodeHexString(buffer.readByteArray("", 2)));
+        assertEquals(13, buffer.getPos());
+    }
+
+    @Test
+    void writeMixedAlignment() throws Exception {
+        final WriteBufferByteBased buffer = new WriteBufferByteBased(13, ByteOrder.BIG_ENDIAN);
+        buffer.writeUnsignedInt("", 16, 0x1234);
+        buffer.writeUnsignedByte("", 4, (byte) 0xF);
+        buffer.writeUnsignedInt("", 16, 0x1234);
+        buffer.writeUnsignedByte("", 4, (byte) 0);
+        buffer.setByteOrder(ByteOrder.LITTLE_ENDIAN);
+        buffer.writeUnsignedLong("", 32, 0x12345678L);
+        buffer.setByteOrder(ByteOrder.BIG_ENDIAN);
+        buffer.writeShort("", 16, (short) -2);
+        buffer.writeByteArray("", new byte[]{0x01, 0x02});
+
+        assertEquals("1234f1234078563412fffe0102", Hex.encodeHexString(buffer.getBytes()));
+    }
+
+}
@@ -107,6 +107,21 @@ class DefaultSendRequestContextTest {
         assertThat(SUT.onTimeoutConsumer, notNullValue());
     }
 
+    @Test
+    void correlateBy() {
+        SUT.expectResponse(Object.class, Duration.ZERO);
+        SUT.correlateBy(Object::hashCode);
+        assertThat(SUT.correlationKeyExtractor, notNullValue());
+        assertThrows(ConversationContext.PlcWiringException.class, () -> SUT.correlateBy(Object::hashCode));
+    }
+
+    @Test
+    void correlateByAfterUnwrap() {
+        SUT.expectResponse(Object.class, Duration.ZERO);
+        SUT.unwrap(Object::toString);
+        assertThrows(ConversationContext.PlcWiringException.class, () -> SUT.correlateBy(Object::hashCode));
+    }
+
     @Test
     void finish() {
         SUT.handle(o -> {
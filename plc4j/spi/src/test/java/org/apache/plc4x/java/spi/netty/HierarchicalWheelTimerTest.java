@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.netty;
+
+import io.netty.util.Timeout;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.apache.plc4x.java.spi.TimedOperation;
+import org.apache.plc4x.java.spi.TimeoutManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalWheelTimerTest {
+
+    private static final long TICK_IN_MILLISECONDS = 5;
+
+    private final AtomicLong now = new AtomicLong();
+    private HierarchicalWheelTimer timer;
+    private volatile Thread workerThread;
+
+    @BeforeEach
+    void setUp() {
+        timer = new HierarchicalWheelTimer(new DefaultThreadFactory("test-timer", true), TICK_IN_MILLISECONDS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    void expiresNotBeforeDeadline() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        long[] expiredAfter = new long[1];
+        Timeout timeout = timer.newTimeout(t -> {
+            expiredAfter[0] = System.nanoTime() - start;
+            latch.countDown();
+        }, 20, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertTrue(timeout.isExpired());
+        assertTrue(expiredAfter[0] >= TimeUnit.MILLISECONDS.toNanos(20));
+        assertEquals(0, timer.pendingTimeouts());
+    }
+
+    @Test
+    void cancelledTimeoutDoesNotExpire() throws InterruptedException {
+        AtomicInteger expired = new AtomicInteger();
+        Timeout timeout = timer.newTimeout(t -> expired.incrementAndGet(), 10, TimeUnit.MILLISECONDS);
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+
+        Thread.sleep(50);
+        assertEquals(0, expired.get());
+        assertEquals(0, timer.pendingTimeouts());
+    }
+
+    /**
+     * Long timeouts end up in the outer wheels and have to be moved inwards whenever an inner wheel completes a
+     * rotation, 64 and 64 * 64 ticks are the boundaries of the first two wheels. The timer runs on a manual clock,
+     * so each timeout is checked one tick before and at its deadline without waiting for it.
+     */
+    @Test
+    void expiresTimeoutsOfOuterWheelsInOrder() throws InterruptedException {
+        useManualClock();
+        long[] delays = {8, 64 * 5 - 10, 64 * 5, 64 * 5 + 10, 1000, 64 * 64 * 5 + 5};
+        List<Long> expired = Collections.synchronizedList(new ArrayList<>());
+        List<Timeout> timeouts = new ArrayList<>();
+        for (long delay : delays) {
+            timeouts.add(timer.newTimeout(t -> expired.add(delay), delay, TimeUnit.MILLISECONDS));
+        }
+
+        for (int i = 0; i < delays.length; i++) {
+            // Timeouts fire at the first tick at or after their deadline.
+            long deadlineTick = (delays[i] + TICK_IN_MILLISECONDS - 1) / TICK_IN_MILLISECONDS;
+            advanceTo((deadlineTick - 1) * TICK_IN_MILLISECONDS);
+            assertFalse(timeouts.get(i).isExpired(), "Timeout " + delays[i] + " expired a tick early");
+            advanceTo(deadlineTick * TICK_IN_MILLISECONDS);
+            assertTrue(timeouts.get(i).isExpired(), "Timeout " + delays[i] + " didn't expire at its deadline");
+        }
+        assertEquals(Arrays.stream(delays).boxed().collect(Collectors.toList()), expired);
+        assertEquals(0, timer.pendingTimeouts());
+    }
+
+    @Test
+    void stopReturnsUnexpiredTimeouts() {
+        List<Timeout> timeouts = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            timeouts.add(timer.newTimeout(t -> {}, 10, TimeUnit.SECONDS));
+        }
+        for (int i = 0; i < 5; i++) {
+            timeouts.get(i).cancel();
+        }
+
+        Set<Timeout> unexpired = timer.stop();
+
+        assertEquals(5, unexpired.size());
+        assertTrue(unexpired.containsAll(timeouts.subList(5, 10)));
+        assertThrows(IllegalStateException.class, () -> timer.newTimeout(t -> {}, 1, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Registers 100k timed operations as a shared runtime with many connections would and completes half of them.
+     * The manual clock is then advanced tick by tick, checking that exactly the others time out, each one at the
+     * tick of its deadline. Afterwards no timeout must be left behind.
+     */
+    @Test
+    void manyConcurrentTimeouts() throws InterruptedException {
+        useManualClock();
+        int numberOfOperations = 100_000;
+        int maxTimeoutInMilliseconds = 2000;
+        TimeoutManager timeoutManager = new NettyHashTimerTimeoutManager(timer, false);
+        Random random = new Random(42);
+        long[] deadlineTicks = new long[numberOfOperations];
+        int[] expectedExpiriesPerTick = new int[maxTimeoutInMilliseconds / (int) TICK_IN_MILLISECONDS + 2];
+        AtomicLongArray expiredAt = new AtomicLongArray(numberOfOperations);
+        AtomicInteger expiredOperations = new AtomicInteger();
+        AtomicInteger expiredCompleted = new AtomicInteger();
+
+        for (int i = 0; i < numberOfOperations; i++) {
+            int index = i;
+            Duration timeout = Duration.ofMillis(20 + random.nextInt(maxTimeoutInMilliseconds - 20));
+            deadlineTicks[i] = (timeout.toMillis() + TICK_IN_MILLISECONDS - 1) / TICK_IN_MILLISECONDS;
+            TimeoutManager.CompletionCallback<?> callback = timeoutManager.register(new TimedOperation() {
+                @Override
+                public Consumer<TimeoutException> getOnTimeoutConsumer() {
+                    return e -> {
+                        expiredAt.set(index, now.get());
+                        if (index % 2 == 0) {
+                            expiredCompleted.incrementAndGet();
+                        }
+                        expiredOperations.incrementAndGet();
+                    };
+                }
+
+                @Override
+                public Duration getTimeout() {
+                    return timeout;
+                }
+            });
+            // Every second request gets its response in time.
+            if (index % 2 == 0) {
+                callback.complete();
+            } else {
+                expectedExpiriesPerTick[(int) deadlineTicks[i]]++;
+            }
+        }
+
+        int expectedExpiries = 0;
+        for (int tick = 1; tick < expectedExpiriesPerTick.length; tick++) {
+            advanceTo(tick * TICK_IN_MILLISECONDS);
+            expectedExpiries += expectedExpiriesPerTick[tick];
+            assertEquals(expectedExpiries, expiredOperations.get(), "Expired operations at tick " + tick);
+        }
+        assertEquals(numberOfOperations / 2, expiredOperations.get());
+        assertEquals(0, expiredCompleted.get());
+        for (int i = 1; i < numberOfOperations; i += 2) {
+            assertEquals(TimeUnit.MILLISECONDS.toNanos(deadlineTicks[i] * TICK_IN_MILLISECONDS), expiredAt.get(i),
+                "Operation " + i + " expired at the wrong tick");
+        }
+        assertEquals(0, timer.pendingTimeouts());
+
+        // All completed and expired timeouts are released, so stopping leaves nothing to cancel.
+        assertTrue(timer.stop().isEmpty());
+    }
+
+    /**
+     * Replaces the timer by one running on {@link #now}, which only moves in {@link #advanceTo(long)}.
+     */
+    private void useManualClock() {
+        timer.stop();
+        ThreadFactory threadFactory = new DefaultThreadFactory("test-timer", true);
+        timer = new HierarchicalWheelTimer(runnable -> workerThread = threadFactory.newThread(runnable),
+            TICK_IN_MILLISECONDS, now::get);
+    }
+
+    /**
+     * Moves the manual clock forward and waits until the timer has processed all ticks up to it. The probe is
+     * scheduled before the clock moves, so the worker thread picks it up no later than the ticks it is due with. It
+     * may fire before other timeouts of its tick, so this also waits for the worker thread to park again, which it
+     * only does once it has caught up.
+     */
+    private void advanceTo(long millis) throws InterruptedException {
+        long nanos = TimeUnit.MILLISECONDS.toNanos(millis);
+        CountDownLatch latch = new CountDownLatch(1);
+        timer.newTimeout(t -> latch.countDown(), nanos - now.get(), TimeUnit.NANOSECONDS);
+        now.set(nanos);
+        assertTrue(latch.await(1, TimeUnit.SECONDS), "Timer didn't reach " + millis + "ms");
+        while (LockSupport.getBlocker(workerThread) != timer) {
+            Thread.yield();
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.netty;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.apache.plc4x.java.spi.TimedOperation;
+import org.apache.plc4x.java.spi.TimeoutManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NettyHashTimerTimeoutManagerTest {
+
+    private final HashedWheelTimer timer = new HashedWheelTimer(new DefaultThreadFactory("test-timer", true),
+        10, TimeUnit.MILLISECONDS);
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    void stoppingKeepsASharedTimerRunning() throws InterruptedException {
+        TimeoutManager stopped = new NettyHashTimerTimeoutManager(timer, false);
+        CountDownLatch stoppedTimedOut = new CountDownLatch(1);
+        stopped.register(operation(e -> stoppedTimedOut.countDown()));
+        stopped.stop();
+
+        // Other connections keep getting their timeouts.
+        CountDownLatch timedOut = new CountDownLatch(1);
+        new NettyHashTimerTimeoutManager(timer, false).register(operation(e -> timedOut.countDown()));
+        assertTrue(timedOut.await(5, TimeUnit.SECONDS));
+        // Only the timeouts of the stopped manager were cancelled.
+        assertFalse(stoppedTimedOut.await(100, TimeUnit.MILLISECONDS));
+        Timeout timeout = timer.newTimeout(t -> { }, 1, TimeUnit.SECONDS);
+        assertFalse(timeout.isCancelled());
+        timeout.cancel();
+    }
+
+    @Test
+    void stoppingStopsAnOwnedTimer() {
+        TimeoutManager timeoutManager = new NettyHashTimerTimeoutManager(timer, true);
+        timeoutManager.register(operation(e -> { }));
+
+        timeoutManager.stop();
+        assertThrows(IllegalStateException.class, () -> timer.newTimeout(t -> { }, 1, TimeUnit.SECONDS));
+    }
+
+    private static TimedOperation operation(Consumer<TimeoutException> onTimeout) {
+        return new TimedOperation() {
+            @Override
+            public Consumer<TimeoutException> getOnTimeoutConsumer() {
+                return onTimeout;
+            }
+
+            @Override
+            public Duration getTimeout() {
+                return Duration.ofMillis(50);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.optimizer;
+
+import org.apache.plc4x.java.api.exceptions.PlcRuntimeException;
+import org.apache.plc4x.java.api.messages.PlcReadRequest;
+import org.apache.plc4x.java.api.messages.PlcReadResponse;
+import org.apache.plc4x.java.api.model.PlcTag;
+import org.apache.plc4x.java.api.types.PlcResponseCode;
+import org.apache.plc4x.java.api.value.PlcValue;
+import org.apache.plc4x.java.spi.ConversationContext;
+import org.apache.plc4x.java.spi.Plc4xProtocolBase;
+import org.apache.plc4x.java.spi.connection.PlcTagHandler;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadRequest;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadResponse;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcResponseItem;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcResponseItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcTagItem;
+import org.apache.plc4x.java.spi.values.PlcDINT;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BaseOptimizerTest {
+
+    @Test
+    void mergesTheSuccessfulSubResponsesIfSomeFail() {
+        PlcReadResponse readResponse = new SingleTagOptimizer()
+            .optimizedRead(readRequest("a", "b", "c"), new TestProtocol(Collections.singleton("b"))).join();
+
+        assertEquals(PlcResponseCode.OK, readResponse.getResponseCode("a"));
+        assertEquals(1, readResponse.getInteger("a"));
+        assertEquals(PlcResponseCode.INTERNAL_ERROR, readResponse.getResponseCode("b"));
+        assertEquals(PlcResponseCode.OK, readResponse.getResponseCode("c"));
+        assertEquals(1, readResponse.getInteger("c"));
+    }
+
+    @Test
+    void failsIfAllSubRequestsFail() {
+        CompletableFuture<PlcReadResponse> readResponse = new SingleTagOptimizer()
+            .optimizedRead(readRequest("a", "b"), new TestProtocol(Set.of("a", "b")));
+
+        CompletionException exception = assertThrows(CompletionException.class, readResponse::join);
+        assertSame(PlcRuntimeException.class, exception.getCause().getClass());
+    }
+
+    @Test
+    void readsThePreparedSubRequestsWithoutSplittingAgain() {
+        PlcReadRequest readRequest = readRequest("a", "b");
+        TestProtocol protocol = new TestProtocol(Collections.emptySet());
+        SingleTagOptimizer optimizer = new SingleTagOptimizer();
+        List<PlcReadRequest> subRequests = optimizer.prepareRead(readRequest, protocol);
+
+        PlcReadResponse readResponse = optimizer.optimizedRead(readRequest, subRequests, protocol).join();
+
+        assertEquals(1, readResponse.getInteger("a"));
+        assertEquals(1, readResponse.getInteger("b"));
+        assertEquals(subRequests, protocol.readRequests);
+    }
+
+    private static PlcReadRequest readRequest(String... tagNames) {
+        LinkedHashMap<String, PlcTagItem<PlcTag>> tags = new LinkedHashMap<>();
+        for (String tagName : tagNames) {
+            tags.put(tagName, new DefaultPlcTagItem<>(() -> tagName));
+        }
+        return new DefaultPlcReadRequest(null, tags);
+    }
+
+    /**
+     * Reads the value 1 for every tag, except for the failing ones.
+     */
+    private static class TestProtocol extends Plc4xProtocolBase<Object> {
+        private final Set<String> failingTags;
+        private final List<PlcReadRequest> readRequests = new ArrayList<>();
+
+        TestProtocol(Set<String> failingTags) {
+            this.failingTags = failingTags;
+        }
+
+        @Override
+        public CompletableFuture<PlcReadResponse> read(PlcReadRequest readRequest) {
+            readRequests.add(readRequest);
+            String tagName = readRequest.getTagNames().iterator().next();
+            if (failingTags.contains(tagName)) {
+                CompletableFuture<PlcReadResponse> future = new CompletableFuture<>();
+                future.completeExceptionally(new PlcRuntimeException("Lost " + tagName));
+                return future;
+            }
+            LinkedHashMap<String, PlcResponseItem<PlcValue>> values = new LinkedHashMap<>();
+            values.put(tagName, new DefaultPlcResponseItem<>(PlcResponseCode.OK, new PlcDINT(1)));
+            return CompletableFuture.completedFuture(new DefaultPlcReadResponse(readRequest, values));
+        }
+
+        @Override
+        public PlcTagHandler getTagHandler() {
+            return null;
+        }
+
+        @Override
+        public void close(ConversationContext<Object> context) {
+        }
+    }
+
+}
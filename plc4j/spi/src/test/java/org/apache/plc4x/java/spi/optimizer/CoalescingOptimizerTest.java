@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.optimizer;
+
+import org.apache.plc4x.java.api.messages.PlcReadRequest;
+import org.apache.plc4x.java.api.messages.PlcReadResponse;
+import org.apache.plc4x.java.api.model.PlcTag;
+import org.apache.plc4x.java.api.types.PlcResponseCode;
+import org.apache.plc4x.java.api.value.PlcValue;
+import org.apache.plc4x.java.spi.context.DriverContext;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadRequest;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadResponse;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcResponseItem;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcResponseItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcTagItem;
+import org.apache.plc4x.java.spi.values.PlcRawByteArray;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CoalescingOptimizerTest {
+
+    @Test
+    void mergesCloseTagsIntoOneBlock() {
+        CoalescingOptimizer optimizer = new CoalescingOptimizer(new TestCoalescingSupport(1, 0));
+        PlcReadRequest readRequest = readRequest(
+            "a", new TestTag("DB1", 0, 2),
+            "b", new TestTag("DB1", 2, 2),
+            // Gap of 2 bytes is cheaper than another request.
+            "c", new TestTag("DB1", 6, 2),
+            // Gap exceeds the max gap.
+            "d", new TestTag("DB1", 40, 2),
+            // Other address space.
+            "e", new TestTag("DB2", 8, 4));
+
+        List<PlcReadRequest> subRequests = optimizer.processReadRequest(readRequest, null);
+
+        assertEquals(Arrays.asList(
+            new TestTag("DB1", 0, 8), new TestTag("DB1", 40, 2), new TestTag("DB2", 8, 4)), blockTags(subRequests));
+    }
+
+    @Test
+    void splitsBlocksExceedingThePayload() {
+        CoalescingOptimizer optimizer = new CoalescingOptimizer(new TestCoalescingSupport(1, 0));
+        PlcReadRequest readRequest = readRequest(
+            "a", new TestTag("DB1", 0, 10),
+            "b", new TestTag("DB1", 5, 4),
+            "c", new TestTag("DB1", 12, 10));
+
+        List<PlcReadRequest> subRequests = optimizer.processReadRequest(readRequest, null);
+
+        assertEquals(Arrays.asList(new TestTag("DB1", 0, 10), new TestTag("DB1", 12, 10)), blockTags(subRequests));
+    }
+
+    @Test
+    void packsBlocksIntoMultiItemRequests() {
+        CoalescingOptimizer optimizer = new CoalescingOptimizer(new TestCoalescingSupport(2, 4));
+        PlcReadRequest readRequest = readRequest(
+            "a", new TestTag("DB1", 0, 2),
+            // Gap of 4 bytes isn't cheaper than another item.
+            "b", new TestTag("DB1", 6, 2),
+            "c", new TestTag("DB1", 9, 2),
+            "d", new TestTag("DB2", 0, 2));
+
+        List<PlcReadRequest> subRequests = optimizer.processReadRequest(readRequest, null);
+
+        assertEquals(2, subRequests.size());
+        assertEquals(2, subRequests.get(0).getNumberOfTags());
+        assertEquals(1, subRequests.get(1).getNumberOfTags());
+        assertEquals(Arrays.asList(
+            new TestTag("DB1", 0, 2), new TestTag("DB1", 6, 5), new TestTag("DB2", 0, 2)), blockTags(subRequests));
+    }
+
+    @Test
+    void slicesValuesOutOfTheBlocks() {
+        CoalescingOptimizer optimizer = new CoalescingOptimizer(new TestCoalescingSupport(1, 0));
+        TestTag notCoalescable = new TestTag(null, 0, 1);
+        PlcReadRequest readRequest = readRequest(
+            "a", new TestTag("DB1", 0, 2),
+            "b", new TestTag("DB1", 1, 2),
+            "c", new TestTag("DB1", 6, 2),
+            "d", new TestTag("DB1", 40, 2),
+            "e", notCoalescable);
+
+        List<PlcReadRequest> subRequests = optimizer.processReadRequest(readRequest, null);
+        assertEquals(3, subRequests.size());
+        assertSame(notCoalescable, subRequests.get(2).getTag("e"));
+
+        Map<PlcReadRequest, BaseOptimizer.SubResponse<PlcReadResponse>> subResponses = new HashMap<>();
+        subResponses.put(subRequests.get(0), new BaseOptimizer.SubResponse<>(respond(subRequests.get(0))));
+        subResponses.put(subRequests.get(1), new BaseOptimizer.SubResponse<>(new RuntimeException("lost")));
+        subResponses.put(subRequests.get(2), new BaseOptimizer.SubResponse<>(respond(subRequests.get(2))));
+        PlcReadResponse readResponse = optimizer.processReadResponses(readRequest, subResponses, null);
+
+        assertEquals(PlcResponseCode.OK, readResponse.getResponseCode("a"));
+        assertArrayEquals(new byte[]{0, 1}, readResponse.getPlcValue("a").getRaw());
+        assertArrayEquals(new byte[]{1, 2}, readResponse.getPlcValue("b").getRaw());
+        assertArrayEquals(new byte[]{6, 7}, readResponse.getPlcValue("c").getRaw());
+        assertEquals(PlcResponseCode.INTERNAL_ERROR, readResponse.getResponseCode("d"));
+        assertEquals(PlcResponseCode.OK, readResponse.getResponseCode("e"));
+        assertArrayEquals(new byte[]{0}, readResponse.getPlcValue("e").getRaw());
+    }
+
+    @Test
+    void reportsErrorsOfTheBlockForAllItsTags() {
+        CoalescingOptimizer optimizer = new CoalescingOptimizer(new TestCoalescingSupport(1, 0));
+        PlcReadRequest readRequest = readRequest(
+            "a", new TestTag("DB1", 0, 2),
+            "b", new TestTag("DB1", 4, 2));
+
+        List<PlcReadRequest> subRequests = optimizer.processReadRequest(readRequest, null);
+        assertEquals(1, subRequests.size());
+        Map<String, PlcResponseItem<PlcValue>> values = new HashMap<>();
+        values.put("block0", new DefaultPlcResponseItem<>(PlcResponseCode.ACCESS_DENIED, null));
+        Map<PlcReadRequest, BaseOptimizer.SubResponse<PlcReadResponse>> subResponses = new HashMap<>();
+        subResponses.put(subRequests.get(0),
+            new BaseOptimizer.SubResponse<>(new DefaultPlcReadResponse(subRequests.get(0), values)));
+        PlcReadResponse readResponse = optimizer.processReadResponses(readRequest, subResponses, null);
+
+        assertEquals(PlcResponseCode.ACCESS_DENIED, readResponse.getResponseCode("a"));
+        assertEquals(PlcResponseCode.ACCESS_DENIED, readResponse.getResponseCode("b"));
+    }
+
+    private static PlcReadRequest readRequest(Object... namesAndTags) {
+        LinkedHashMap<String, PlcTagItem<PlcTag>> tags = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndTags.length; i += 2) {
+            tags.put((String) namesAndTags[i], new DefaultPlcTagItem<>((PlcTag) namesAndTags[i + 1]));
+        }
+        return new DefaultPlcReadRequest(null, tags);
+    }
+
+    private static List<PlcTag> blockTags(List<PlcReadRequest> subRequests) {
+        List<PlcTag> blockTags = new ArrayList<>();
+        for (PlcReadRequest subRequest : subRequests) {
+            blockTags.addAll(subRequest.getTags());
+        }
+        return blockTags;
+    }
+
+    /**
+     * Every byte of the simulated memory contains the lowest byte of its address.
+     */
+    private static PlcReadResponse respond(PlcReadRequest subRequest) {
+        Map<String, PlcResponseItem<PlcValue>> values = new HashMap<>();
+        for (String tagName : subRequest.getTagNames()) {
+            TestTag tag = (TestTag) subRequest.getTag(tagName);
+            byte[] data = new byte[tag.size];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = (byte) (tag.start + i);
+            }
+            values.put(tagName, new DefaultPlcResponseItem<>(PlcResponseCode.OK, new PlcRawByteArray(data)));
+        }
+        return new DefaultPlcReadResponse(subRequest, values);
+    }
+
+    private static class TestTag implements PlcTag {
+        private final String area;
+        private final int start;
+        private final int size;
+
+        TestTag(String area, int start, int size) {
+            this.area = area;
+            this.start = start;
+            this.size = size;
+        }
+
+        @Override
+        public String getAddressString() {
+            return area + ":" + start + "[" + size + "]";
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof TestTag)) {
+                return false;
+            }
+            TestTag that = (TestTag) o;
+            return getAddressString().equals(that.getAddressString());
+        }
+
+        @Override
+        public int hashCode() {
+            return getAddressString().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return getAddressString();
+        }
+    }
+
+    /**
+     * Byte addressed memory with 20 bytes of payload per request and reading up to 8 unrequested bytes.
+     */
+    private static class TestCoalescingSupport implements CoalescingSupport {
+        private final int maxItemsPerRequest;
+        private final int itemOverhead;
+
+        TestCoalescingSupport(int maxItemsPerRequest, int itemOverhead) {
+            this.maxItemsPerRequest = maxItemsPerRequest;
+            this.itemOverhead = itemOverhead;
+        }
+
+        @Override
+        public Object getAddressSpace(PlcTag tag) {
+            return ((TestTag) tag).area;
+        }
+
+        @Override
+        public long getStartAddress(PlcTag tag) {
+            return ((TestTag) tag).start;
+        }
+
+        @Override
+        public long getNumberOfElements(PlcTag tag) {
+            return ((TestTag) tag).size;
+        }
+
+        @Override
+        public int getElementSizeInBits(Object addressSpace) {
+            return 8;
+        }
+
+        @Override
+        public int getMaxPayloadSize(DriverContext driverContext) {
+            return 20 + maxItemsPerRequest * itemOverhead;
+        }
+
+        @Override
+        public int getMaxItemsPerRequest(DriverContext driverContext) {
+            return maxItemsPerRequest;
+        }
+
+        @Override
+        public int getRequestOverhead(DriverContext driverContext) {
+            return 10;
+        }
+
+        @Override
+        public int getItemOverhead(DriverContext driverContext) {
+            return itemOverhead;
+        }
+
+        @Override
+        public long getMaxGap(Object addressSpace) {
+            return 8;
+        }
+
+        @Override
+        public PlcTag createBlockTag(Object addressSpace, long startAddress, long numberOfElements) {
+            return new TestTag((String) addressSpace, (int) startAddress, (int) numberOfElements);
+        }
+
+        @Override
+        public PlcValue parseTagValue(PlcTag tag, byte[] blockData, long offsetInBits) {
+            int offset = (int) (offsetInBits / 8);
+            return new PlcRawByteArray(Arrays.copyOfRange(blockData, offset, offset + ((TestTag) tag).size));
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.optimizer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestPacerTest {
+
+    @Test
+    void limitsTheOutstandingRequestsToTheWindow() {
+        RequestPacer pacer = new RequestPacer();
+        pacer.configure(0, 1, 2, null);
+        List<CompletableFuture<Integer>> sentRequests = new ArrayList<>();
+        List<CompletableFuture<Integer>> responses = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            responses.add(pacer.submit(() -> {
+                CompletableFuture<Integer> sentRequest = new CompletableFuture<>();
+                sentRequests.add(sentRequest);
+                return sentRequest;
+            }));
+        }
+        assertEquals(2, sentRequests.size());
+        assertEquals(3, pacer.getNumberOfPendingRequests());
+
+        // Completing a request releases the next one.
+        sentRequests.get(0).complete(0);
+        assertEquals(3, sentRequests.size());
+        assertEquals(0, responses.get(0).join());
+
+        // Requests completing right away while being sent don't exceed the window either.
+        for (int i = 1; i < sentRequests.size(); i++) {
+            sentRequests.get(i).complete(i);
+        }
+        for (int i = 3; i < 5; i++) {
+            sentRequests.get(i).complete(i);
+        }
+        assertEquals(5, sentRequests.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, responses.get(i).join());
+        }
+        assertEquals(0, pacer.getNumberOfOutstandingRequests());
+    }
+
+    @Test
+    void pacesRequestsWithoutBlockingTheCaller() {
+        RequestPacer pacer = new RequestPacer();
+        pacer.configure(50, 1, 0, null);
+        List<Long> sendTimes = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<Long>> responses = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            responses.add(pacer.submit(() -> {
+                long sendTime = System.nanoTime();
+                sendTimes.add(sendTime);
+                return CompletableFuture.completedFuture(sendTime);
+            }));
+        }
+        // Only the first request could be sent right away, the others are released by the scheduler.
+        // Sending them from the calling thread would have taken at least 80ms.
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(60));
+        assertTrue(sendTimes.size() < 5);
+
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).join();
+        for (int i = 1; i < sendTimes.size(); i++) {
+            // One request every 20ms (allowing for a bit of imprecision of the scheduler).
+            assertTrue(sendTimes.get(i) - sendTimes.get(i - 1) >= TimeUnit.MILLISECONDS.toNanos(18));
+        }
+    }
+
+}
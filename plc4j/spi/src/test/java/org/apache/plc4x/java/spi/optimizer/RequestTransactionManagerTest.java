@@ -25,9 +25,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class RequestTransactionManagerTest {
@@ -158,6 +166,222 @@ public class RequestTransactionManagerTest {
         assertTrue(handle.getCompletionFuture().isCancelled());
     }
 
+    @Test
+    public void boundedWorkLogRejectsNewRequests() throws ExecutionException, InterruptedException {
+        RequestTransactionManager tm = new RequestTransactionManager();
+        tm.setMaxQueueSize(1, RequestTransactionManager.OverflowPolicy.REJECT);
+
+        CompletableFuture<Void> sendRequest1 = new CompletableFuture<>();
+        CompletableFuture<Void> endRequest1 = new CompletableFuture<>();
+        CompletableFuture<Void> requestIsEnded1 = new CompletableFuture<>();
+        sendRequest(tm, sendRequest1, endRequest1, requestIsEnded1);
+        sendRequest1.get();
+
+        // The first one is running, the second one is queued, the third one doesn't fit anymore.
+        CompletableFuture<Throwable> rejected2 = new CompletableFuture<>();
+        CompletableFuture<Throwable> rejected3 = new CompletableFuture<>();
+        tm.startRequest().submit(() -> {}, rejected2::complete);
+        tm.startRequest().submit(() -> {}, rejected3::complete);
+        assertEquals(1, tm.getQueueDepth());
+        assertTrue(rejected3.isDone());
+        assertFalse(rejected2.isDone());
+        assertEquals(1, tm.getNumberOfRejectedRequests());
+
+        endRequest1.complete(null);
+        requestIsEnded1.get();
+    }
+
+    @Test
+    public void boundedWorkLogShedsOldestRequests() throws ExecutionException, InterruptedException {
+        RequestTransactionManager tm = new RequestTransactionManager();
+        tm.setMaxQueueSize(1, RequestTransactionManager.OverflowPolicy.SHED_OLDEST);
+
+        CompletableFuture<Void> sendRequest1 = new CompletableFuture<>();
+        CompletableFuture<Void> endRequest1 = new CompletableFuture<>();
+        CompletableFuture<Void> requestIsEnded1 = new CompletableFuture<>();
+        sendRequest(tm, sendRequest1, endRequest1, requestIsEnded1);
+        sendRequest1.get();
+
+        CompletableFuture<Throwable> rejected2 = new CompletableFuture<>();
+        CompletableFuture<Void> sendRequest3 = new CompletableFuture<>();
+        tm.startRequest().submit(() -> {}, rejected2::complete);
+        RequestTransactionManager.RequestTransaction handle3 = tm.startRequest();
+        handle3.submit(() -> sendRequest3.complete(null), sendRequest3::completeExceptionally);
+        assertTrue(rejected2.isDone());
+        assertEquals(1, tm.getQueueDepth());
+
+        // Once the first one is finished, the newest one is started.
+        endRequest1.complete(null);
+        requestIsEnded1.get();
+        sendRequest3.get();
+        handle3.endRequest();
+        assertEquals(0, tm.getNumberOfActiveRequests());
+        assertEquals(2, tm.getNumberOfStartedRequests());
+    }
+
+    @Test
+    public void boundedWorkLogDoesntShedFailedRequests() throws ExecutionException, InterruptedException {
+        RequestTransactionManager tm = new RequestTransactionManager();
+        tm.setMaxQueueSize(2, RequestTransactionManager.OverflowPolicy.SHED_OLDEST);
+
+        CompletableFuture<Void> sendRequest1 = new CompletableFuture<>();
+        CompletableFuture<Void> endRequest1 = new CompletableFuture<>();
+        CompletableFuture<Void> requestIsEnded1 = new CompletableFuture<>();
+        sendRequest(tm, sendRequest1, endRequest1, requestIsEnded1);
+        sendRequest1.get();
+
+        // The second one is failed while waiting, so the third one is shed to make room for the fourth one.
+        CompletableFuture<Throwable> rejected2 = new CompletableFuture<>();
+        CompletableFuture<Throwable> rejected3 = new CompletableFuture<>();
+        RequestTransactionManager.RequestTransaction handle2 = tm.startRequest();
+        handle2.submit(() -> {}, rejected2::complete);
+        tm.startRequest().submit(() -> {}, rejected3::complete);
+        handle2.failRequest(new RuntimeException());
+        tm.startRequest().submit(() -> {}, e -> {});
+        assertFalse(rejected2.isDone());
+        assertTrue(rejected3.isDone());
+        assertEquals(1, tm.getNumberOfRejectedRequests());
+        assertEquals(1, tm.getQueueDepth());
+
+        endRequest1.complete(null);
+        requestIsEnded1.get();
+    }
+
+    @Test
+    public void boundedWorkLogRequiresRejectionHandler() {
+        RequestTransactionManager tm = new RequestTransactionManager();
+        tm.setMaxQueueSize(1, RequestTransactionManager.OverflowPolicy.REJECT);
+
+        // Without a handler, the caller would never learn about its request being rejected.
+        assertThrows(IllegalStateException.class, () -> tm.startRequest().submit(() -> {}));
+        assertEquals(0, tm.getQueueDepth());
+    }
+
+    @Test
+    public void completionFutureCanBeReplaced() {
+        RequestTransactionManager.RequestTransaction handle = new RequestTransactionManager().startRequest();
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        handle.setCompletionFuture(future);
+        assertSame(future, handle.getCompletionFuture());
+    }
+
+    @Test
+    public void failingOperationReleasesItsSlot() throws ExecutionException, InterruptedException {
+        RequestTransactionManager tm = new RequestTransactionManager();
+        RequestTransactionManager.RequestTransaction handle1 = tm.startRequest();
+        handle1.submit(() -> {
+            throw new IllegalStateException("Channel closed");
+        });
+
+        CompletableFuture<Void> sendRequest2 = new CompletableFuture<>();
+        CompletableFuture<Void> endRequest2 = new CompletableFuture<>();
+        CompletableFuture<Void> requestIsEnded2 = new CompletableFuture<>();
+        sendRequest(tm, sendRequest2, endRequest2, requestIsEnded2);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> handle1.getCompletionFuture().get());
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+        sendRequest2.get();
+        endRequest2.complete(null);
+        requestIsEnded2.get();
+        assertEquals(0, tm.getNumberOfActiveRequests());
+    }
+
+    @Test
+    public void startsTransactionsOnTheExecutorOfTheConnection() throws ExecutionException, InterruptedException {
+        // Without an executor the manager uses a thread of its own.
+        RequestTransactionManager tm = new RequestTransactionManager(1);
+        CompletableFuture<String> thread = new CompletableFuture<>();
+        RequestTransactionManager.RequestTransaction handle1 = tm.startRequest();
+        handle1.submit(() -> {
+            thread.complete(Thread.currentThread().getName());
+            handle1.endRequest();
+        });
+        assertTrue(thread.get().startsWith("plc4x-tm-thread-"));
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor(r -> new Thread(r, "connection-thread"));
+        try {
+            tm.setExecutor(executorService);
+            CompletableFuture<String> connectionThread = new CompletableFuture<>();
+            RequestTransactionManager.RequestTransaction handle2 = tm.startRequest();
+            handle2.submit(() -> {
+                connectionThread.complete(Thread.currentThread().getName());
+                handle2.endRequest();
+            });
+            assertEquals("connection-thread", connectionThread.get());
+            tm.shutdown();
+            assertFalse(executorService.isShutdown());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void failRequestIsIdempotent() throws ExecutionException, InterruptedException {
+        CompletableFuture<Void> sendRequest = new CompletableFuture<>();
+        RequestTransactionManager tm = new RequestTransactionManager();
+        RequestTransactionManager.RequestTransaction handle = tm.startRequest();
+        handle.submit(() -> sendRequest.complete(null));
+        sendRequest.get();
+        handle.failRequest(new RuntimeException());
+        handle.failRequest(new RuntimeException());
+        assertEquals(0, tm.getNumberOfActiveRequests());
+        assertThrows(IllegalArgumentException.class, handle::endRequest);
+    }
+
+    @Test
+    public void neverMoreThanTheAllowedNumberOfRequestsInFlight() throws Exception {
+        RequestTransactionManager tm = new RequestTransactionManager(2);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        int numRequests = 1000;
+        CountDownLatch done = new CountDownLatch(numRequests);
+        ExecutorService submitters = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < numRequests; i++) {
+                submitters.execute(() -> tm.submit(handle -> handle.submit(() -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    inFlight.decrementAndGet();
+                    handle.endRequest();
+                    done.countDown();
+                })));
+            }
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        } finally {
+            submitters.shutdown();
+        }
+        assertTrue(maxInFlight.get() <= 2);
+        assertEquals(0, tm.getNumberOfActiveRequests());
+        assertEquals(0, tm.getQueueDepth());
+        assertTrue(tm.getPeakNumberOfActiveRequests() <= 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void reportsHowMuchOfTheWindowIsUsed() throws ExecutionException, InterruptedException {
+        RequestTransactionManager tm = new RequestTransactionManager(3);
+        CompletableFuture<Void> endRequests = new CompletableFuture<>();
+        CompletableFuture<Void>[] sent = new CompletableFuture[4];
+        CompletableFuture<Void>[] ended = new CompletableFuture[4];
+        for (int i = 0; i < 4; i++) {
+            sent[i] = new CompletableFuture<>();
+            ended[i] = new CompletableFuture<>();
+            sendRequest(tm, sent[i], endRequests, ended[i]);
+        }
+        sent[0].get();
+        sent[1].get();
+        sent[2].get();
+        assertEquals(3, tm.getNumberOfActiveRequests());
+        assertEquals(1, tm.getQueueDepth());
+
+        endRequests.complete(null);
+        CompletableFuture.allOf(ended).get();
+        assertEquals(0, tm.getNumberOfActiveRequests());
+        assertEquals(3, tm.getPeakNumberOfActiveRequests());
+        // The first three were started with 1, 2 and 3 requests in flight, the last one is started alone or with others.
+        assertTrue(tm.getAverageNumberOfActiveRequests() >= 7.0 / 4);
+        assertTrue(tm.getAverageNumberOfActiveRequests() <= 9.0 / 4);
+    }
+
     private void sendRequest(RequestTransactionManager tm, CompletableFuture<Void> sendRequest, CompletableFuture<Void> endRequest, CompletableFuture<Void> requestIsEnded) {
         tm.submit(handle -> handle.submit(() -> {
             // Wait till the Request is sent
@@ -167,7 +391,7 @@ public class RequestTransactionManagerTest {
                 handle.endRequest();
                 requestIsEnded.complete(null);
             });
-        }));
+        }, requestIsEnded::completeExceptionally));
     }
 
 }
\ No newline at end of file
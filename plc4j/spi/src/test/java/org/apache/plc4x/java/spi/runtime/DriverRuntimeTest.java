@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.runtime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DriverRuntimeTest {
+
+    private final DriverRuntime runtime = new DriverRuntime(1, 10, 1);
+
+    @AfterEach
+    void tearDown() {
+        runtime.shutdown();
+    }
+
+    @Test
+    void sharedRuntimeIsReusedUntilShutDown() {
+        DriverRuntime shared = DriverRuntime.getShared();
+        assertSame(shared, DriverRuntime.getShared());
+
+        shared.shutdown();
+        assertTrue(shared.isShutdown());
+        DriverRuntime recreated = DriverRuntime.getShared();
+        assertNotSame(shared, recreated);
+        assertFalse(recreated.isShutdown());
+    }
+
+    @Test
+    void viewsShareAllButTheTimer() {
+        assertSame(runtime, runtime.withTimeoutTimer(TimerType.HASHED_WHEEL, 10));
+
+        DriverRuntime view = runtime.withTimeoutTimer(TimerType.HIERARCHICAL_WHEEL, 5);
+        assertSame(view, runtime.withTimeoutTimer(TimerType.HIERARCHICAL_WHEEL, 5));
+        // Asking a view for another timer gives the view of the runtime it was created from.
+        assertSame(view, runtime.withTimeoutTimer(TimerType.HASHED_WHEEL, 20)
+            .withTimeoutTimer(TimerType.HIERARCHICAL_WHEEL, 5));
+        assertSame(runtime.getEventLoopGroup(), view.getEventLoopGroup());
+        assertSame(runtime.getWorkerExecutor(), view.getWorkerExecutor());
+        assertNotSame(runtime.getTimer(), view.getTimer());
+    }
+
+    @Test
+    void shuttingDownAViewShutsDownTheRuntime() {
+        DriverRuntime view = runtime.withTimeoutTimer(TimerType.HIERARCHICAL_WHEEL, 5);
+
+        view.shutdown();
+        assertTrue(runtime.isShutdown());
+        assertTrue(view.isShutdown());
+        assertThrows(IllegalStateException.class, () -> runtime.withTimeoutTimer(TimerType.HIERARCHICAL_WHEEL, 5));
+        // Stopped timers don't take new timeouts.
+        assertThrows(IllegalStateException.class, () -> view.getTimer().newTimeout(timeout -> { }, 1, TimeUnit.SECONDS));
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.values;
+
+import org.apache.plc4x.java.api.model.PlcTag;
+import org.apache.plc4x.java.api.types.PlcResponseCode;
+import org.apache.plc4x.java.api.types.PlcValueType;
+import org.apache.plc4x.java.api.value.PlcValue;
+import org.apache.plc4x.java.spi.generation.ReadBufferByteBased;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadRequest;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadResponse;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcResponseItem;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcResponseItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcTagItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlcPrimitiveArrayTest {
+
+    @Test
+    void parsesNumbersIntoPrimitiveArrays() throws Exception {
+        PlcValue plcValue = PlcPrimitiveArray.parse(
+            new ReadBufferByteBased(new byte[]{0x3F, (byte) 0x80, 0x00, 0x00, (byte) 0xC0, 0x00, 0x00, 0x00}),
+            PlcValueType.REAL, 2);
+
+        assertInstanceOf(PlcRealArray.class, plcValue);
+        assertArrayEquals(new float[]{1.0f, -2.0f}, ((PlcRealArray) plcValue).getValues());
+        assertNull(PlcPrimitiveArray.parse(new ReadBufferByteBased(new byte[2]), PlcValueType.WORD, 1));
+    }
+
+    @Test
+    void looksLikeAListOfPlcValues() {
+        PlcIntArray plcValue = new PlcIntArray(new short[]{1, -2, 3});
+
+        assertTrue(plcValue.isList());
+        assertEquals(PlcValueType.List, plcValue.getPlcValueType());
+        assertEquals(3, plcValue.getLength());
+        assertEquals(new PlcINT((short) -2), plcValue.getIndex(1));
+        assertEquals(Arrays.asList(new PlcINT((short) 1), new PlcINT((short) -2), new PlcINT((short) 3)), plcValue.getList());
+        assertEquals(new PlcList(plcValue.getList()), plcValue);
+        assertEquals("[1,-2,3]", plcValue.toString());
+        assertThrows(UnsupportedOperationException.class, () -> plcValue.add(new PlcINT((short) 4)));
+    }
+
+    @Test
+    void exposesTheValuesThroughTheResponse() {
+        float[] floats = {1.5f, 2.5f};
+        DefaultPlcReadResponse readResponse = readResponse("floats", new PlcRealArray(floats),
+            "list", new PlcList(Arrays.asList(new PlcREAL(3.5f), new PlcREAL(4.5f))));
+
+        assertSame(floats, readResponse.getFloatArray("floats"));
+        assertArrayEquals(new double[]{1.5, 2.5}, readResponse.getDoubleArray("floats"));
+        assertArrayEquals(new float[]{3.5f, 4.5f}, readResponse.getFloatArray("list"));
+        float[] destination = new float[3];
+        assertEquals(2, readResponse.copyInto("floats", destination));
+        assertArrayEquals(new float[]{1.5f, 2.5f, 0.0f}, destination);
+        assertEquals(Arrays.asList(1.5f, 2.5f), readResponse.getAllFloats("floats"));
+    }
+
+    private static DefaultPlcReadResponse readResponse(Object... namesAndValues) {
+        LinkedHashMap<String, PlcTagItem<PlcTag>> tags = new LinkedHashMap<>();
+        Map<String, PlcResponseItem<PlcValue>> values = new HashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            String tagName = (String) namesAndValues[i];
+            tags.put(tagName, new DefaultPlcTagItem<>(() -> tagName));
+            values.put(tagName, new DefaultPlcResponseItem<>(PlcResponseCode.OK, (PlcValue) namesAndValues[i + 1]));
+        }
+        return new DefaultPlcReadResponse(new DefaultPlcReadRequest(null, tags), values);
+    }
+
+}
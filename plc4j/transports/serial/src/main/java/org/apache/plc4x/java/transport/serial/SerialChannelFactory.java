@@ -45,6 +45,10 @@ public class SerialChannelFactory extends NettyChannelFactory implements HasConf
         this.configuration = configuration;
     }
 
+    public SerialTransportConfiguration getConfiguration() {
+        return configuration;
+    }
+
     @Override
     public Class<? extends Channel> getChannel() {
         return SerialChannel.class;
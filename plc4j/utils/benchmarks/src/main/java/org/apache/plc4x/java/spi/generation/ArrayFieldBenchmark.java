@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.generation;
+
+import org.apache.commons.codec.DecoderException;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.plc4x.java.bacnetip.readwrite.BVLC;
+import org.apache.plc4x.java.s7.readwrite.TPKTPacket;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses and serializes captured packets consisting mostly of array fields, which is where the generated code
+ * has to tell every element whether it is the last one.
+ */
+public class ArrayFieldBenchmark {
+
+    public enum Capture {
+        // BACnet Complex-ACK readProperty analog-output,101 priority-array (16 elements)
+        BACNET_PRIORITY_ARRAY("810a00260108000d013d30010c0c0040006519573e000000000000000000000000000000003f") {
+            @Override
+            Message parse(ReadBuffer readBuffer) throws ParseException {
+                return BVLC.staticParse(readBuffer);
+            }
+        },
+        // BACnet Unconfirmed-REQ unconfirmedCOVNotification device,2 binary-input,4 present-value
+        BACNET_COV_NOTIFICATION("810a00250120ffff00ff100209011c020000022c00c0000439054e09552e4442c800002f4f") {
+            @Override
+            Message parse(ReadBuffer readBuffer) throws ParseException {
+                return BVLC.staticParse(readBuffer);
+            }
+        },
+        // S7 Read Response (4 items, every item but the last one is padded)
+        S7_READ_RESPONSE("0300002c02f08032030000000b0002001700000404ff0300010100ff0300010100ff0300010100ff03000101") {
+            @Override
+            Message parse(ReadBuffer readBuffer) throws ParseException {
+                return TPKTPacket.staticParse(readBuffer);
+            }
+        };
+
+        private final String hex;
+
+        Capture(String hex) {
+            this.hex = hex;
+        }
+
+        abstract Message parse(ReadBuffer readBuffer) throws ParseException;
+    }
+
+    @State(Scope.Benchmark)
+    public static class MyState {
+        @Param({"BACNET_PRIORITY_ARRAY", "BACNET_COV_NOTIFICATION", "S7_READ_RESPONSE"})
+        Capture capture;
+
+        byte[] bytes;
+        Message message;
+
+        @Setup(Level.Trial)
+        public void doSetup() throws DecoderException, ParseException {
+            bytes = Hex.decodeHex(capture.hex);
+            message = capture.parse(new ReadBufferByteBased(bytes));
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(3)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void parse(Blackhole blackhole, MyState myState) throws ParseException {
+        blackhole.consume(myState.capture.parse(new ReadBufferByteBased(myState.bytes)));
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(3)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void serialize(Blackhole blackhole, MyState myState) throws SerializationException {
+        WriteBufferByteBased writeBuffer = new WriteBufferByteBased(myState.message.getLengthInBytes());
+        myState.message.serialize(writeBuffer);
+        blackhole.consume(writeBuffer.getBytes());
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.generation;
+
+import org.apache.commons.codec.DecoderException;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.plc4x.java.ads.readwrite.AmsTCPPacket;
+import org.apache.plc4x.java.modbus.readwrite.DriverType;
+import org.apache.plc4x.java.modbus.readwrite.ModbusADU;
+import org.apache.plc4x.java.s7.readwrite.TPKTPacket;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses captured S7, Modbus and ADS packets with {@link ReadBufferByteBased}.
+ * <p>
+ * As all fields of these packets are byte aligned, {@link #parseAligned} reads them directly from the buffer.
+ * {@link #parseBitShifted} parses the same packets shifted by one bit, which forces every field through the bit
+ * reader, so the difference of both shows the speedup of the byte-aligned fast path.
+ */
+public class ByteAlignedParsingBenchmark {
+
+    public enum Capture {
+        // S7 Read Response (4 items)
+        S7("0300002c02f08032030000000b0002001700000404ff0300010100ff0300010100ff0300010100ff03000101",
+            ByteOrder.BIG_ENDIAN) {
+            @Override
+            Object parse(ReadBuffer readBuffer) throws ParseException {
+                return TPKTPacket.staticParse(readBuffer);
+            }
+        },
+        // Modbus TCP Read Extended Registers Response
+        MODBUS("000a0000001b011418050600000000110600000000000000000000000000000000",
+            ByteOrder.BIG_ENDIAN) {
+            @Override
+            Object parse(ReadBuffer readBuffer) throws ParseException {
+                return ModbusADU.staticParse(readBuffer, DriverType.MODBUS_TCP, true);
+            }
+        },
+        // ADS Single Item Read Response
+        ADS("000029000000c0a817c801015303c0a817140101530302000500090000000000000002000000000000000100000001",
+            ByteOrder.LITTLE_ENDIAN) {
+            @Override
+            Object parse(ReadBuffer readBuffer) throws ParseException {
+                return AmsTCPPacket.staticParse(readBuffer);
+            }
+        };
+
+        private final String hex;
+        private final ByteOrder byteOrder;
+
+        Capture(String hex, ByteOrder byteOrder) {
+            this.hex = hex;
+            this.byteOrder = byteOrder;
+        }
+
+        abstract Object parse(ReadBuffer readBuffer) throws ParseException;
+    }
+
+    @State(Scope.Benchmark)
+    public static class MyState {
+        @Param({"S7", "MODBUS", "ADS"})
+        Capture capture;
+
+        byte[] aligned;
+        byte[] bitShifted;
+
+        @Setup(Level.Trial)
+        public void doSetup() throws DecoderException {
+            aligned = Hex.decodeHex(capture.hex);
+            // Prepend one bit, which makes every following field start in the middle of a byte.
+            bitShifted = new byte[aligned.length + 1];
+            for (int i = 0; i < aligned.length; i++) {
+                bitShifted[i] |= (byte) ((aligned[i] & 0xFF) >>> 1);
+                bitShifted[i + 1] = (byte) (aligned[i] << 7);
+            }
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(3)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void parseAligned(Blackhole blackhole, MyState myState) throws ParseException {
+        ReadBuffer readBuffer = new ReadBufferByteBased(myState.aligned, myState.capture.byteOrder);
+        blackhole.consume(myState.capture.parse(readBuffer));
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(3)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void parseBitShifted(Blackhole blackhole, MyState myState) throws ParseException {
+        ReadBuffer readBuffer = new ReadBufferByteBased(myState.bitShifted, myState.capture.byteOrder);
+        readBuffer.readBit("padding");
+        blackhole.consume(myState.capture.parse(readBuffer));
+    }
+
+}
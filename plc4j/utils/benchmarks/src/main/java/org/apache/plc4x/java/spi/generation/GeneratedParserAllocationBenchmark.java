@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.generation;
+
+import org.apache.commons.codec.DecoderException;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.plc4x.java.ads.readwrite.AmsPacket;
+import org.apache.plc4x.java.ads.readwrite.CommandId;
+import org.apache.plc4x.java.s7.readwrite.S7Message;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.plc4x.java.spi.codegen.fields.FieldReaderFactory.*;
+import static org.apache.plc4x.java.spi.codegen.io.DataReaderFactory.*;
+
+/**
+ * Compares the allocations of the code generated with and without the option "generate-direct-field-reads".
+ * <p>
+ * {@link #fieldReaders} contains the fields of the S7, Modbus and ADS headers as they are currently generated,
+ * {@link #directReads} the same fields as they are generated with the option enabled. The allocation rate is reported
+ * by running the benchmark with the GC profiler: {@code -prof gc}.
+ */
+public class GeneratedParserAllocationBenchmark {
+
+    public enum Header {
+        // S7Message: protocolId, messageType, reserved, tpduReference, parameterLength, payloadLength
+        S7("32030000000b00020017", ByteOrder.BIG_ENDIAN) {
+            @Override
+            long parseFieldReaders(ReadBuffer readBuffer) throws ParseException {
+                short protocolId = readConstField("protocolId", readUnsignedShort(readBuffer, 8), S7Message.PROTOCOLID);
+                short messageType = readDiscriminatorField("messageType", readUnsignedShort(readBuffer, 8));
+                Integer reservedField0 = readReservedField("reserved", readUnsignedInt(readBuffer, 16), (int) 0x0000);
+                int tpduReference = readSimpleField("tpduReference", readUnsignedInt(readBuffer, 16));
+                int parameterLength = readImplicitField("parameterLength", readUnsignedInt(readBuffer, 16));
+                int payloadLength = readImplicitField("payloadLength", readUnsignedInt(readBuffer, 16));
+                return protocolId + messageType + (reservedField0 == null ? 0 : 1) + tpduReference + parameterLength + payloadLength;
+            }
+
+            @Override
+            long parseDirectReads(ReadBuffer readBuffer) throws ParseException {
+                short protocolId = checkConstField("protocolId", readBuffer.readUnsignedShort("protocolId", 8), S7Message.PROTOCOLID, readBuffer);
+                short messageType = readBuffer.readUnsignedShort("messageType", 8);
+                Integer reservedField0 = checkReservedField("reserved", readBuffer.readUnsignedInt("reserved", 16), (int) 0x0000);
+                int tpduReference = readBuffer.readUnsignedInt("tpduReference", 16);
+                int parameterLength = readBuffer.readUnsignedInt("parameterLength", 16);
+                int payloadLength = readBuffer.readUnsignedInt("payloadLength", 16);
+                return protocolId + messageType + (reservedField0 == null ? 0 : 1) + tpduReference + parameterLength + payloadLength;
+            }
+        },
+        // ModbusPDU and ModbusPDUReadHoldingRegistersResponse: errorFlag, functionFlag, byteCount
+        MODBUS("0304", ByteOrder.BIG_ENDIAN) {
+            @Override
+            long parseFieldReaders(ReadBuffer readBuffer) throws ParseException {
+                boolean errorFlag = readDiscriminatorField("errorFlag", readBoolean(readBuffer));
+                byte functionFlag = readDiscriminatorField("functionFlag", readUnsignedByte(readBuffer, 7));
+                short byteCount = readImplicitField("byteCount", readUnsignedShort(readBuffer, 8));
+                return (errorFlag ? 1 : 0) + functionFlag + byteCount;
+            }
+
+            @Override
+            long parseDirectReads(ReadBuffer readBuffer) throws ParseException {
+                boolean errorFlag = readBuffer.readBit("errorFlag");
+                byte functionFlag = readBuffer.readUnsignedByte("functionFlag", 7);
+                short byteCount = readBuffer.readUnsignedShort("byteCount", 8);
+                return (errorFlag ? 1 : 0) + functionFlag + byteCount;
+            }
+        },
+        // AmsPacket starting with the commandId: flags, length, errorCode, invokeId
+        ADS("02000500090000000000000002000000", ByteOrder.LITTLE_ENDIAN) {
+            @Override
+            long parseFieldReaders(ReadBuffer readBuffer) throws ParseException {
+                CommandId commandId = readDiscriminatorEnumField("commandId", "CommandId", readEnum(CommandId::enumForValue, readUnsignedInt(readBuffer, 16)));
+                boolean initCommand = readConstField("initCommand", readBoolean(readBuffer), AmsPacket.INITCOMMAND);
+                boolean updCommand = readConstField("updCommand", readBoolean(readBuffer), AmsPacket.UPDCOMMAND);
+                boolean timestampAdded = readConstField("timestampAdded", readBoolean(readBuffer), AmsPacket.TIMESTAMPADDED);
+                boolean highPriorityCommand = readConstField("highPriorityCommand", readBoolean(readBuffer), AmsPacket.HIGHPRIORITYCOMMAND);
+                boolean systemCommand = readConstField("systemCommand", readBoolean(readBuffer), AmsPacket.SYSTEMCOMMAND);
+                boolean adsCommand = readConstField("adsCommand", readBoolean(readBuffer), AmsPacket.ADSCOMMAND);
+                boolean noReturn = readConstField("noReturn", readBoolean(readBuffer), AmsPacket.NORETURN);
+                boolean response = readDiscriminatorField("response", readBoolean(readBuffer));
+                boolean broadcast = readConstField("broadcast", readBoolean(readBuffer), AmsPacket.BROADCAST);
+                Byte reservedField0 = readReservedField("reserved", readSignedByte(readBuffer, 7), (byte) 0x0);
+                long length = readImplicitField("length", readUnsignedLong(readBuffer, 32));
+                long errorCode = readSimpleField("errorCode", readUnsignedLong(readBuffer, 32));
+                long invokeId = readSimpleField("invokeId", readUnsignedLong(readBuffer, 32));
+                return commandId.getValue() + (initCommand | updCommand | timestampAdded | highPriorityCommand | systemCommand | noReturn | broadcast ? 1 : 0)
+                    + (adsCommand && response ? 1 : 0) + (reservedField0 == null ? 0 : 1) + length + errorCode + invokeId;
+            }
+
+            @Override
+            long parseDirectReads(ReadBuffer readBuffer) throws ParseException {
+                CommandId commandId = readDiscriminatorEnumField("commandId", "CommandId", readEnum(CommandId::enumForValue, readUnsignedInt(readBuffer, 16)));
+                boolean initCommand = checkConstField("initCommand", readBuffer.readBit("initCommand"), AmsPacket.INITCOMMAND, readBuffer);
+                boolean updCommand = checkConstField("updCommand", readBuffer.readBit("updCommand"), AmsPacket.UPDCOMMAND, readBuffer);
+                boolean timestampAdded = checkConstField("timestampAdded", readBuffer.readBit("timestampAdded"), AmsPacket.TIMESTAMPADDED, readBuffer);
+                boolean highPriorityCommand = checkConstField("highPriorityCommand", readBuffer.readBit("highPriorityCommand"), AmsPacket.HIGHPRIORITYCOMMAND, readBuffer);
+                boolean systemCommand = checkConstField("systemCommand", readBuffer.readBit("systemCommand"), AmsPacket.SYSTEMCOMMAND, readBuffer);
+                boolean adsCommand = checkConstField("adsCommand", readBuffer.readBit("adsCommand"), AmsPacket.ADSCOMMAND, readBuffer);
+                boolean noReturn = checkConstField("noReturn", readBuffer.readBit("noReturn"), AmsPacket.NORETURN, readBuffer);
+                boolean response = readBuffer.readBit("response");
+                boolean broadcast = checkConstField("broadcast", readBuffer.readBit("broadcast"), AmsPacket.BROADCAST, readBuffer);
+                Byte reservedField0 = checkReservedField("reserved", readBuffer.readSignedByte("reserved", 7), (byte) 0x0);
+                long length = readBuffer.readUnsignedLong("length", 32);
+                long errorCode = readBuffer.readUnsignedLong("errorCode", 32);
+                long invokeId = readBuffer.readUnsignedLong("invokeId", 32);
+                return commandId.getValue() + (initCommand | updCommand | timestampAdded | highPriorityCommand | systemCommand | noReturn | broadcast ? 1 : 0)
+                    + (adsCommand && response ? 1 : 0) + (reservedField0 == null ? 0 : 1) + length + errorCode + invokeId;
+            }
+        };
+
+        private final String hex;
+        private final ByteOrder byteOrder;
+
+        Header(String hex, ByteOrder byteOrder) {
+            this.hex = hex;
+            this.byteOrder = byteOrder;
+        }
+
+        abstract long parseFieldReaders(ReadBuffer readBuffer) throws ParseException;
+
+        abstract long parseDirectReads(ReadBuffer readBuffer) throws ParseException;
+    }
+
+    @State(Scope.Benchmark)
+    public static class MyState {
+        @Param({"S7", "MODBUS", "ADS"})
+        Header header;
+
+        byte[] bytes;
+
+        @Setup(Level.Trial)
+        public void doSetup() throws DecoderException {
+            bytes = Hex.decodeHex(header.hex);
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(3)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void fieldReaders(Blackhole blackhole, MyState myState) throws ParseException {
+        ReadBuffer readBuffer = new ReadBufferByteBased(myState.bytes, myState.header.byteOrder);
+        blackhole.consume(myState.header.parseFieldReaders(readBuffer));
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(3)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void directReads(Blackhole blackhole, MyState myState) throws ParseException {
+        ReadBuffer readBuffer = new ReadBufferByteBased(myState.bytes, myState.header.byteOrder);
+        blackhole.consume(myState.header.parseDirectReads(readBuffer));
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.netty;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the memory use of the {@link HierarchicalWheelTimer} with the {@link HashedWheelTimer} it replaces, both
+ * with a tick of 5ms.
+ * <p>
+ * {@link #pendingTimeouts} schedules timeouts far in the future, as a shared runtime with many connections waiting for
+ * responses does, and reports the heap retained per pending timeout as the counter "retainedBytesPerTimeout". Its
+ * time isn't meaningful, as it includes the garbage collections needed for measuring the heap.
+ * {@link #newTimeoutAndCancel} is the usual life of a request timeout, its allocations per operation are reported by
+ * running the benchmark with the GC profiler: {@code -prof gc}.
+ */
+public class TimerMemoryBenchmark {
+
+    private static final TimerTask NOOP = timeout -> {};
+
+    public enum TimerType {
+        HASHED {
+            @Override
+            Timer create() {
+                return new HashedWheelTimer(new DefaultThreadFactory("benchmark-timer", true), 5, TimeUnit.MILLISECONDS);
+            }
+        },
+        HIERARCHICAL {
+            @Override
+            Timer create() {
+                return new HierarchicalWheelTimer(new DefaultThreadFactory("benchmark-timer", true), 5);
+            }
+        };
+
+        abstract Timer create();
+    }
+
+    @State(Scope.Benchmark)
+    public static class MyState {
+        @Param({"HASHED", "HIERARCHICAL"})
+        TimerType timerType;
+
+        @Param({"100000"})
+        int numberOfTimeouts;
+
+        Timer timer;
+
+        @Setup(Level.Iteration)
+        public void doSetup() {
+            timer = timerType.create();
+            // Start the worker thread, so it isn't counted as part of the timeouts.
+            timer.newTimeout(NOOP, 0, TimeUnit.MILLISECONDS);
+        }
+
+        @TearDown(Level.Iteration)
+        public void doTearDown() {
+            timer.stop();
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class MemoryCounters {
+        public long retainedBytesPerTimeout;
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    @Fork(1)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void pendingTimeouts(MyState myState, MemoryCounters memoryCounters) {
+        long usedBefore = usedHeap();
+        for (int i = 0; i < myState.numberOfTimeouts; i++) {
+            myState.timer.newTimeout(NOOP, 1, TimeUnit.HOURS);
+        }
+        // Give the worker thread a few ticks to move the timeouts from its queue into the wheel.
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        memoryCounters.retainedBytesPerTimeout = (usedHeap() - usedBefore) / myState.numberOfTimeouts;
+    }
+
+    @Benchmark
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(3)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void newTimeoutAndCancel(Blackhole blackhole, MyState myState) {
+        blackhole.consume(myState.timer.newTimeout(NOOP, 10, TimeUnit.SECONDS).cancel());
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
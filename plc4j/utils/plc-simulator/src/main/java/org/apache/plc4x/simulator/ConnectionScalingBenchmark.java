@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.simulator;
+
+import org.apache.commons.cli.*;
+import org.apache.plc4x.java.DefaultPlcDriverManager;
+import org.apache.plc4x.java.api.PlcConnection;
+import org.apache.plc4x.java.api.PlcConnectionManager;
+import org.apache.plc4x.java.api.messages.PlcReadRequest;
+import org.apache.plc4x.simulator.server.s7.S7ServerModule;
+import org.apache.plc4x.simulator.simulation.watertank.WaterTankSimulationModule;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens a configurable number of S7 connections against the simulated S7 server and reports
+ * how many threads and how much memory they need, as well as the latency of reads issued
+ * concurrently over all of them.
+ * <p>
+ * Run it once with {@code -shared true} and once with {@code -shared false} to compare the
+ * shared driver runtime with the per-connection resources.
+ */
+public class ConnectionScalingBenchmark {
+
+    public static void main(String... args) throws Exception {
+        Options options = new Options();
+        options.addOption("connections", true, "number of connections to open (default 100)");
+        options.addOption("rounds", true, "number of read rounds over all connections (default 100)");
+        options.addOption("shared", true, "use the shared driver runtime (default true)");
+        options.addOption("s7Port", true, "port the simulated S7 server listens on (default 10102)");
+        CommandLine cmd = new DefaultParser().parse(options, args);
+        int numConnections = Integer.parseInt(cmd.getOptionValue("connections", "100"));
+        int numRounds = Integer.parseInt(cmd.getOptionValue("rounds", "100"));
+        boolean shared = Boolean.parseBoolean(cmd.getOptionValue("shared", "true"));
+
+        PlcSimulatorConfig config = new PlcSimulatorConfig();
+        config.host = "localhost";
+        config.s7Port = cmd.getOptionValue("s7Port", "10102");
+        S7ServerModule server = new S7ServerModule();
+        server.setConfig(config);
+        server.setContext(new WaterTankSimulationModule().getContext());
+        server.start();
+
+        int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+        List<PlcConnection> connections = new ArrayList<>(numConnections);
+        try {
+            PlcConnectionManager connectionManager = new DefaultPlcDriverManager().getConnectionManager();
+            String connectionString = "s7://" + config.host + ":" + config.s7Port +
+                "?controller-type=S7_1500&shared-runtime=" + shared;
+            for (int i = 0; i < numConnections; i++) {
+                connections.add(connectionManager.getConnection(connectionString));
+            }
+            int threadsConnected = ManagementFactory.getThreadMXBean().getThreadCount();
+
+            long[] latencies = new long[numConnections * numRounds];
+            int numLatencies = 0;
+            for (int round = 0; round < numRounds; round++) {
+                List<CompletableFuture<Long>> futures = new ArrayList<>(numConnections);
+                for (PlcConnection connection : connections) {
+                    PlcReadRequest readRequest = connection.readRequestBuilder()
+                        .addTagAddress("level", "%DB1.DBW0:INT").build();
+                    long start = System.nanoTime();
+                    futures.add(readRequest.execute().thenApply(response -> System.nanoTime() - start));
+                }
+                for (CompletableFuture<Long> future : futures) {
+                    latencies[numLatencies++] = future.get(10, TimeUnit.SECONDS);
+                }
+            }
+            Arrays.sort(latencies, 0, numLatencies);
+
+            System.out.printf("Connections:               %d (shared runtime: %b)%n", numConnections, shared);
+            System.out.printf("Threads before connecting: %d%n", threadsBefore);
+            System.out.printf("Threads when connected:    %d%n", threadsConnected);
+            System.out.printf("Resident set size:         %s%n", getResidentSetSize().orElse("unknown"));
+            System.out.printf("Read latency p50:          %d us%n", percentile(latencies, numLatencies, 50) / 1000);
+            System.out.printf("Read latency p99:          %d us%n", percentile(latencies, numLatencies, 99) / 1000);
+            System.out.printf("Read latency max:          %d us%n", latencies[numLatencies - 1] / 1000);
+        } finally {
+            for (PlcConnection connection : connections) {
+                connection.close();
+            }
+            server.stop();
+        }
+    }
+
+    private static long percentile(long[] sortedValues, int length, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * length) - 1;
+        return sortedValues[Math.max(0, Math.min(length - 1, index))];
+    }
+
+    /**
+     * The resident set size is only available on Linux (and other systems providing /proc).
+     */
+    private static Optional<String> getResidentSetSize() {
+        try {
+            return Files.readAllLines(Path.of("/proc/self/status")).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> line.substring("VmRSS:".length()).trim())
+                .findFirst();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+}
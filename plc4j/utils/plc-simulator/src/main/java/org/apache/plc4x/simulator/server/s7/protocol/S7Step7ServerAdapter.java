@@ -54,8 +54,8 @@ public class S7Step7ServerAdapter extends ChannelInboundHandlerAdapter {
     // Set this to 1 as we don't want to handle stuff in parallel
     private static final int maxAmqCaller = 1;
     private int amqCaller;
-    // Set this to 1 as we don't want to handle stuff in parallel
-    private static final int maxAmqCallee = 1;
+    // Requests are still handled one after another, but clients may pipeline a few of them
+    private static final int maxAmqCallee = 8;
     private int amqCallee;
     private static final int maxPduLength = 240;
     private int pduLength;
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.simulator;
+
+import org.apache.plc4x.java.DefaultPlcDriverManager;
+import org.apache.plc4x.java.api.PlcConnection;
+import org.apache.plc4x.java.api.messages.PlcReadResponse;
+import org.apache.plc4x.java.api.types.PlcResponseCode;
+import org.apache.plc4x.java.s7.readwrite.protocol.S7HPlcConnection;
+import org.apache.plc4x.simulator.model.Context;
+import org.apache.plc4x.simulator.server.s7.S7ServerModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Switches a "hot-standby" S7H connection from one simulator instance to
+ * another one.
+ */
+public class S7HotStandbyTest {
+
+    private S7ServerModule primary;
+    private S7ServerModule secondary;
+
+    @AfterEach
+    public void tearDown() {
+        if (primary != null) {
+            primary.stop();
+        }
+        if (secondary != null) {
+            secondary.stop();
+        }
+    }
+
+    @Test
+    public void switchesOverToTheStandbySimulator() throws Exception {
+        int primaryPort = freePort();
+        int secondaryPort = freePort();
+        primary = startSimulator(primaryPort, 42);
+        secondary = startSimulator(secondaryPort, 43);
+
+        try (PlcConnection connection = new DefaultPlcDriverManager().getConnection(
+            "s7://127.0.0.1:" + primaryPort + "/127.0.0.1:" + secondaryPort +
+                "?controller-type=S7_1200&hot-standby=true&heartbeat-time=100&retry-time=1")) {
+            S7HPlcConnection s7hConnection = assertInstanceOf(S7HPlcConnection.class, connection);
+            awaitStandby(s7hConnection);
+            assertEquals(42, read(connection));
+
+            primary.stop();
+            primary = null;
+            long timeout = System.currentTimeMillis() + 5000;
+            while ((s7hConnection.getFailoverTime() == null) && (System.currentTimeMillis() < timeout)) {
+                Thread.sleep(10);
+            }
+            Duration failoverTime = s7hConnection.getFailoverTime();
+            assertNotNull(failoverTime);
+            assertTrue(failoverTime.compareTo(Duration.ofSeconds(1)) < 0, "Failover took " + failoverTime);
+
+            // The session wasn't negotiated again, the requests are just sent to the secondary simulator.
+            assertTrue(connection.isConnected());
+            assertEquals(43, read(connection));
+        }
+    }
+
+    private static int read(PlcConnection connection) throws Exception {
+        PlcReadResponse response = connection.readRequestBuilder()
+            .addTagAddress("value", "%DB1:0:INT")
+            .build()
+            .execute()
+            .get(10, TimeUnit.SECONDS);
+        assertEquals(PlcResponseCode.OK, response.getResponseCode("value"));
+        return response.getInteger("value");
+    }
+
+    private static void awaitStandby(S7HPlcConnection connection) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + 5000;
+        while (!connection.isStandbyReady() && (System.currentTimeMillis() < timeout)) {
+            Thread.sleep(10);
+        }
+        assertTrue(connection.isStandbyReady());
+    }
+
+    private static S7ServerModule startSimulator(int port, int value) throws Exception {
+        PlcSimulatorConfig config = new PlcSimulatorConfig();
+        config.host = "127.0.0.1";
+        config.s7Port = Integer.toString(port);
+        S7ServerModule serverModule = new S7ServerModule();
+        serverModule.setConfig(config);
+        serverModule.setContext(new Context.ContextBuilder().addMemoryVariable("value", (short) value).build());
+        serverModule.start();
+        return serverModule;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+
+}
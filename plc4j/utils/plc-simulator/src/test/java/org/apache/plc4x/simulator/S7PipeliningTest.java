@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.simulator;
+
+import org.apache.plc4x.java.DefaultPlcDriverManager;
+import org.apache.plc4x.java.api.PlcConnection;
+import org.apache.plc4x.java.api.messages.PlcReadRequest;
+import org.apache.plc4x.java.api.messages.PlcReadResponse;
+import org.apache.plc4x.java.api.types.PlcResponseCode;
+import org.apache.plc4x.java.s7.readwrite.protocol.S7HPlcConnection;
+import org.apache.plc4x.simulator.model.Context;
+import org.apache.plc4x.simulator.server.s7.S7ServerModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Reads more tags than fit into one PDU, so the request is split up and the parts are pipelined.
+ */
+public class S7PipeliningTest {
+
+    private S7ServerModule simulator;
+
+    @AfterEach
+    public void tearDown() {
+        if (simulator != null) {
+            simulator.stop();
+        }
+    }
+
+    @Test
+    public void pipelinesTheSplitUpRequest() throws Exception {
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            port = serverSocket.getLocalPort();
+        }
+        PlcSimulatorConfig config = new PlcSimulatorConfig();
+        config.host = "127.0.0.1";
+        config.s7Port = Integer.toString(port);
+        simulator = new S7ServerModule();
+        simulator.setConfig(config);
+        simulator.setContext(new Context.ContextBuilder().addMemoryVariable("value", (short) 42).build());
+        simulator.start();
+
+        try (PlcConnection connection = new DefaultPlcDriverManager().getConnection(
+            "s7://127.0.0.1:" + port + "?controller-type=S7_1200")) {
+            S7HPlcConnection s7Connection = assertInstanceOf(S7HPlcConnection.class, connection);
+            assertEquals(8, s7Connection.getMaxOutstandingRequests());
+
+            PlcReadRequest.Builder builder = connection.readRequestBuilder();
+            for (int i = 0; i < 100; i++) {
+                builder.addTagAddress("value" + i, "%DB1:0:INT");
+            }
+            PlcReadResponse response = builder.build().execute().get(10, TimeUnit.SECONDS);
+            for (int i = 0; i < 100; i++) {
+                assertEquals(PlcResponseCode.OK, response.getResponseCode("value" + i));
+                assertEquals(42, response.getInteger("value" + i));
+            }
+
+            assertTrue(s7Connection.getPeakOutstandingRequests() > 1,
+                "Peak of outstanding requests " + s7Connection.getPeakOutstandingRequests());
+        }
+    }
+
+}